@@ -1,6 +1,25 @@
 'use strict';
 
 const {execSync} = require('child_process');
+const fs = require('fs');
+const path = require('path');
+
+/**
+ * Copies the generated JavaScript models and their declarations (codegen option "jsModels"), which are not emitted
+ * by tsc, to the compiled sources.
+ */
+function copyGeneratedModels(source, target) {
+    for (const entry of fs.readdirSync(source, {withFileTypes: true})) {
+        let sourcePath = path.join(source, entry.name);
+        let targetPath = path.join(target, entry.name);
+        if (entry.isDirectory()) {
+            copyGeneratedModels(sourcePath, targetPath);
+        } else if (entry.name.endsWith('.js') || entry.name.endsWith('.d.ts')) {
+            fs.mkdirSync(target, {recursive: true});
+            fs.copyFileSync(sourcePath, targetPath);
+        }
+    }
+}
 
 (async () => {
     try {
@@ -21,6 +40,12 @@ const {execSync} = require('child_process');
 
         console.log('-- compile sources --');
         execSync('yarn run compile', {stdio: "inherit"});
+
+        console.log('-- copy generated models --');
+        copyGeneratedModels(
+            path.join(__dirname, 'src', 'main', 'typescript', 'generated-sources'),
+            path.join(__dirname, 'lib', 'generated-sources')
+        );
     } catch (err) {
         if (typeof err.stderr !== 'undefined' && err.stderr !== null && err.stderr.toString() !== '') {
             console.error(err.stderr.toString());
@@ -0,0 +1,16 @@
+import * as assert from "assert";
+import {Blank, Corner, Marker, Outline, Point, Shape} from "./models";
+
+// the enum alias is usable as type, value and namespace of its members
+let outline: Outline.Circle = Outline.Circle;
+assert.strictEqual(outline, Shape.Circle);
+let shape: Shape = Outline.Square;
+assert.strictEqual(shape, "square");
+
+let corner: Corner = Corner.fromJson({x: 1, y: 2});
+assert.ok(corner instanceof Point, "Corner has not been emitted as alias of Point.");
+assert.ok(corner.equals(Point.fromJson({x: 1, y: 2})));
+
+// objects without properties have no structure to compare and are kept apart
+assert.notStrictEqual(Marker, Blank, "Different objects without properties have been deduplicated.");
+assert.ok(!(Marker.fromJson({}) instanceof Blank));
@@ -0,0 +1,17 @@
+import * as assert from "assert";
+import {Drawing, Figure, Polygon} from "./models";
+
+let figure: Figure = Figure.fromJson({name: "defaults"});
+assert.strictEqual(figure.quality, 75, "The default of the figure has not been applied.");
+assert.strictEqual(figure.visible, true);
+
+// the defaults of a composed schema are resolved from its own and its inherited properties
+let polygon: Polygon = Polygon.fromJson({name: "defaults"});
+assert.strictEqual(polygon.corners, 3, "The default of the polygon has not been applied.");
+assert.strictEqual(polygon.quality, 75, "The inherited default has not been applied.");
+assert.strictEqual(polygon.visible, true);
+assert.strictEqual(Polygon.fromJson({name: "set", quality: 10}).quality, 10, "A set value has been replaced.");
+
+let drawing: Drawing = Drawing.fromJson({figures: [{name: "nested"}], background: {name: "nested"}});
+assert.strictEqual(drawing.figures![0].quality, 75, "The default of a nested model has not been applied.");
+assert.strictEqual(drawing.background!.corners, 3, "The default of a nested polygon has not been applied.");
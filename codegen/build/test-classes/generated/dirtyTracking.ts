@@ -0,0 +1,53 @@
+import * as assert from "assert";
+import {Drawing, Figure, Point, Polygon} from "./models";
+import {drawingJson, figureJson} from "./fixtures";
+
+let figure: Figure = Figure.fromJson(figureJson);
+assert.deepStrictEqual(figure.changedFields(), [], "The decoded properties have been marked as changed.");
+figure.quality = 10;
+figure.quality = 20;
+figure.tags = ["changed"];
+assert.deepStrictEqual(figure.changedFields(), ["quality", "tags"]);
+figure.markUnchanged();
+assert.deepStrictEqual(figure.changedFields(), []);
+
+// changes of nested models propagate to the properties containing them
+let drawing: Drawing = Drawing.fromJson(drawingJson);
+let background: Polygon = drawing.background!;
+background.corners = 6;
+assert.deepStrictEqual(background.changedFields(), ["corners"]);
+assert.deepStrictEqual(drawing.changedFields(), ["background"], "The change of the nested model has not propagated.");
+drawing.figures![1].origin = Point.fromJson({x: 1, y: 1});
+assert.deepStrictEqual(drawing.changedFields(), ["background", "figures"],
+    "The change of the array item has not propagated.");
+drawing.figures![1].origin!.x = 2;
+assert.deepStrictEqual(drawing.figures![1].changedFields(), ["origin"]);
+
+drawing.markUnchanged();
+assert.deepStrictEqual(drawing.changedFields(), []);
+assert.deepStrictEqual(background.changedFields(), [], "The nested model has not been reset.");
+assert.deepStrictEqual(drawing.figures![1].origin!.changedFields(), [], "The array item has not been reset.");
+
+// a replaced model is detached from the model, that contained it
+drawing.background = Polygon.fromJson({name: "replaced"});
+drawing.markUnchanged();
+background.corners = 7;
+assert.deepStrictEqual(drawing.changedFields(), [], "The change of a replaced model has propagated.");
+drawing.background!.closed = true;
+assert.deepStrictEqual(drawing.changedFields(), ["background"], "The assigned model has not been attached.");
+
+// in place modifications of arrays are not tracked
+drawing.markUnchanged();
+drawing.figures!.push(Figure.fromJson({name: "pushed"}));
+assert.deepStrictEqual(drawing.changedFields(), []);
+
+let base: Drawing = Drawing.fromJson(drawingJson);
+let changed: Drawing = Drawing.fromJson(drawingJson);
+assert.strictEqual(changed.diff(base), undefined, "Equal models differ.");
+changed.background!.corners = 6;
+changed.title = undefined;
+assert.deepStrictEqual(changed.diff(base), {title: null, background: {corners: 6}},
+    "The diff does not contain the changed and removed properties only.");
+changed.figures![1].name = "renamed";
+assert.deepStrictEqual(changed.diff(base).figures, changed.toJson().figures, "Arrays are not returned as a whole.");
+assert.deepStrictEqual(Figure.fromJson({name: "new"}).diff(undefined), Figure.fromJson({name: "new"}).toJson());
@@ -0,0 +1,34 @@
+/**
+ * The JSON representations of the models declared by openapi.json, which are shared by all checks. The figure and
+ * the polygon set every property to a value differing from its default.
+ */
+export const figureJson: any = {
+    name: "figure",
+    shape: "square",
+    quality: 90,
+    visible: false,
+    revision: 3,
+    created: "2024-01-02T03:04:05.000Z",
+    origin: {x: 1, y: 2},
+    points: [{x: 3, y: 4}, {x: 5, y: 6}],
+    tags: ["first", "second"],
+    weights: [0.5, 1.5],
+    offsets: [7, -8],
+    labels: {first: "one", second: "two"},
+    anchors: {top: {x: 9, y: 10}}
+};
+
+export const polygonJson: any = {...figureJson, name: "polygon", corners: 5, closed: true};
+
+export const drawingJson: any = {
+    title: "drawing",
+    figures: [figureJson, {name: "second"}],
+    background: polygonJson
+};
+
+/**
+ * Encodes the given model as it is sent to the server, including the properties equal to their defaults.
+ */
+export function wireJson(model: any): any {
+    return JSON.parse(JSON.stringify(model.toJson(false)));
+}
@@ -0,0 +1,23 @@
+import * as assert from "assert";
+import {Drawing, Figure, Polygon} from "./models";
+import {drawingJson, figureJson, polygonJson, wireJson} from "./fixtures";
+
+assert.strictEqual(Object.getPrototypeOf(Polygon.prototype), Object.prototype,
+    "The polygon still extends the figure.");
+
+let polygon: Polygon = Polygon.fromJson(polygonJson);
+assert.ok(polygon instanceof Polygon);
+assert.ok(polygon instanceof Figure, "The polygon is no longer an instance of its super type.");
+assert.ok(!(Figure.fromJson(figureJson) instanceof Polygon), "The figure is an instance of its sub type.");
+assert.ok(!({name: "plain"} instanceof Figure), "A plain object is an instance of the figure.");
+assert.deepStrictEqual(wireJson(polygon), polygonJson);
+
+let defaults: Polygon = Polygon.fromJson({name: "defaults"});
+assert.strictEqual(defaults.quality, 75, "The inherited default has not been applied.");
+assert.strictEqual(defaults.corners, 3);
+assert.deepStrictEqual(Object.keys(defaults), Object.keys(Polygon.fromJson({name: "other", corners: 4})),
+    "The properties of polygons are not initialized in the same order.");
+
+let drawing: Drawing = Drawing.fromJson(drawingJson);
+assert.ok(drawing.background instanceof Polygon);
+assert.ok(drawing.figures!.every((figure: Figure) => figure instanceof Figure));
@@ -0,0 +1,42 @@
+import * as assert from "assert";
+import {Drawing, Figure, ParameterEvent, ParameterHooks, Polygon} from "./models";
+import {drawingJson, figureJson, polygonJson} from "./fixtures";
+
+let events: Array<ParameterEvent> = [];
+ParameterHooks.register({record: (event: ParameterEvent) => events.push(event)});
+try {
+    let drawing: Drawing = Drawing.fromJson(drawingJson);
+    let decoded: Array<string> = events.map((event: ParameterEvent) => event.typeName + "." + event.operation);
+    assert.strictEqual(decoded[decoded.length - 1], "Drawing.fromJson", "The outermost decoding is reported last.");
+    assert.deepStrictEqual(decoded.filter((name: string) => name === "Figure.fromJson").length, 2);
+    assert.ok(decoded.includes("Polygon.fromJson") && decoded.includes("Point.fromJson"),
+        "The nested models have not been reported.");
+
+    let outer: ParameterEvent = events[events.length - 1];
+    assert.strictEqual(outer.fieldCount, Object.keys(drawingJson).length);
+    assert.ok(outer.duration >= 0 && outer.selfDuration >= 0 && outer.selfDuration <= outer.duration,
+        "The duration of the nested models has not been subtracted.");
+
+    events.length = 0;
+    let polygon: Polygon = Polygon.fromJson(polygonJson);
+    events.length = 0;
+    let json: any = polygon.toJson();
+    let encoded: Array<ParameterEvent> = events.filter((event: ParameterEvent) => event.operation === "toJson" &&
+        (event.typeName === "Polygon" || event.typeName === "Figure"));
+    assert.deepStrictEqual(encoded.map((event: ParameterEvent) => event.typeName), ["Polygon"],
+        "The encoding of the super type has been reported separately.");
+    assert.strictEqual(encoded[0].fieldCount, Object.keys(json).length);
+
+    let expected: Figure = Figure.fromJson(figureJson);
+    events.length = 0;
+    let clone: Figure = drawing.figures![0].clone();
+    assert.ok(clone.equals(expected), "The measured clone differs.");
+    assert.strictEqual(events[events.length - 1].typeName + "." + events[events.length - 1].operation,
+        "Figure.clone");
+} finally {
+    ParameterHooks.register(null);
+}
+
+events.length = 0;
+Drawing.fromJson(drawingJson).clone();
+assert.strictEqual(events.length, 0, "Events have been reported after the hook has been removed.");
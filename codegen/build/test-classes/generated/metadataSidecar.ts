@@ -0,0 +1,17 @@
+import * as assert from "assert";
+import {ParameterMetadata} from "./models";
+
+async function main(): Promise<void> {
+    assert.strictEqual((await ParameterMetadata.getType("Figure"))?.description, "A named figure.");
+    assert.deepStrictEqual(await ParameterMetadata.getProperty("Figure", "quality"),
+        {description: "The quality.", min: 0, max: 100}, "The property metadata has not been loaded.");
+    assert.deepStrictEqual(await ParameterMetadata.getProperty("Polygon", "quality"),
+        {description: "The quality.", min: 0, max: 100}, "The metadata of an inherited property has not been found.");
+    assert.strictEqual(await ParameterMetadata.getProperty("Figure", "unknown"), undefined);
+    assert.strictEqual(await ParameterMetadata.getType("Unknown"), undefined);
+}
+
+main().catch((error: any) => {
+    console.error(error);
+    process.exitCode = 1;
+});
@@ -0,0 +1,25 @@
+import * as assert from "assert";
+import {Figure, Point} from "./models";
+import {figureJson, wireJson} from "./fixtures";
+
+let figure: Figure = Figure.fromJson(figureJson);
+assert.ok(figure.labels instanceof Map, "The labels have not been decoded to a Map.");
+assert.strictEqual(figure.labels.get("first"), "one");
+assert.ok(figure.anchors instanceof Map);
+let top: Point | undefined = figure.anchors.get("top");
+assert.ok(top instanceof Point, "The map values have not been decoded.");
+assert.strictEqual(top.y, 10);
+
+assert.deepStrictEqual(wireJson(figure).labels, figureJson.labels);
+assert.deepStrictEqual(wireJson(figure).anchors, figureJson.anchors, "The map values have not been encoded.");
+assert.strictEqual(Figure.fromJson({name: "empty"}).labels!.size, 0, "The default is not an empty Map.");
+
+let reordered: Figure = Figure.fromJson({...figureJson, labels: {second: "two", first: "one"}});
+assert.ok(reordered.equals(figure), "The order of the map entries changed the equality.");
+assert.strictEqual(reordered.hashCode(), figure.hashCode());
+assert.strictEqual(reordered.fingerprint(), figure.fingerprint());
+assert.ok(!Figure.fromJson({...figureJson, labels: {first: "one"}}).equals(figure), "A missing entry is ignored.");
+
+assert.strictEqual(figure.assignFrom(figureJson), false, "Equal maps have been reported as changed.");
+assert.strictEqual(figure.assignFrom({...figureJson, anchors: {top: {x: 9, y: 11}}}), true);
+assert.strictEqual(figure.anchors!.get("top")!.y, 11);
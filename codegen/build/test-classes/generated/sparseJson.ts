@@ -0,0 +1,25 @@
+import * as assert from "assert";
+import {Drawing, Figure, Polygon} from "./models";
+import {figureJson} from "./fixtures";
+
+let figure: Figure = Figure.fromJson({name: "sparse", quality: 75, visible: true, revision: 3, tags: [], labels: {}});
+assert.deepStrictEqual(figure.toJson(), {name: "sparse"},
+    "Undefined, default, empty and read only values have not been omitted.");
+let full: any = figure.toJson(false);
+assert.deepStrictEqual(Object.keys(full), Object.keys(figureJson), "The full representation is incomplete.");
+assert.strictEqual(full.quality, 75);
+assert.strictEqual(full.revision, 3);
+assert.strictEqual(figure.clone().revision, 3, "The read only property has not been cloned.");
+
+assert.deepStrictEqual(Figure.fromJson({name: "changed", quality: 10, visible: false, tags: ["a"]}).toJson(),
+    {name: "changed", quality: 10, visible: false, tags: ["a"]}, "Values differing from the defaults are missing.");
+assert.deepStrictEqual(Polygon.fromJson({name: "polygon", corners: 3, closed: false}).toJson(),
+    {name: "polygon", closed: false}, "The inherited or own defaults have not been omitted.");
+assert.deepStrictEqual(Drawing.fromJson({figures: [{name: "nested", quality: 75}]}).toJson(),
+    {figures: [{name: "nested"}]}, "The nested models have not been encoded sparsely.");
+
+// the sparse representation decodes to an equal model, as the omitted values are restored as defaults
+let decoded: Figure = Figure.fromJson(JSON.parse(JSON.stringify(figure.toJson())));
+assert.strictEqual(decoded.revision, undefined);
+decoded.revision = 3;
+assert.ok(decoded.equals(figure), "The sparse representation does not decode to an equal model.");
@@ -0,0 +1,38 @@
+import * as assert from "assert";
+import {Figure} from "./models";
+import {figureJson} from "./fixtures";
+
+async function* chunks(document: string, size: number, encode: boolean): AsyncGenerator<string | Uint8Array> {
+    let bytes: Uint8Array = new TextEncoder().encode(document);
+    for (let i = 0; i < (encode ? bytes.length : document.length); i += size) {
+        yield encode ? bytes.subarray(i, i + size) : document.substring(i, i + size);
+    }
+}
+
+async function main(): Promise<void> {
+    let document: string = JSON.stringify({total: 2, figures: [figureJson, {name: "zweite, mit \"[\" und { ä€"}]});
+    for (let size of [1, 7, document.length]) {
+        for (let encode of [false, true]) {
+            let figures: Array<Figure> = [];
+            for await (let figure of Figure.fromJsonStream(chunks(document, size, encode), ["figures"])) {
+                figures.push(figure);
+            }
+            assert.strictEqual(figures.length, 2, "The figures in chunks of " + size + " have not been decoded.");
+            assert.ok(figures[0] instanceof Figure);
+            assert.ok(figures[0].equals(Figure.fromJson(figureJson)), "The streamed figure differs.");
+            assert.strictEqual(figures[1].name, "zweite, mit \"[\" und { ä€");
+            assert.strictEqual(figures[1].quality, 75, "The defaults have not been applied to the streamed figure.");
+        }
+    }
+
+    await assert.rejects(async () => {
+        for await (let figure of Figure.fromJsonStream(chunks("[{\"name\": \"open\"}", 4, false))) {
+            assert.strictEqual(figure.name, "open");
+        }
+    }, "A truncated document has been accepted.");
+}
+
+main().catch((error: any) => {
+    console.error(error);
+    process.exitCode = 1;
+});
@@ -0,0 +1,24 @@
+import * as assert from "assert";
+import {Figure} from "./models";
+import {figureJson, wireJson} from "./fixtures";
+
+let figure: Figure = Figure.fromJson(figureJson);
+assert.ok(figure.weights instanceof Float64Array, "The number array has not been decoded to a Float64Array.");
+assert.deepStrictEqual(Array.from(figure.weights), [0.5, 1.5]);
+assert.ok(figure.offsets instanceof Int32Array, "The int32 array has not been decoded to an Int32Array.");
+assert.deepStrictEqual(Array.from(figure.offsets), [7, -8]);
+assert.ok(Array.isArray(figure.tags), "The string array has been converted.");
+
+let json: any = figure.toJson();
+assert.ok(Array.isArray(json.weights), "The typed array has not been encoded as array.");
+assert.strictEqual(JSON.stringify(json.offsets), "[7,-8]");
+assert.deepStrictEqual(wireJson(figure), figureJson);
+
+let empty: Figure = Figure.fromJson({name: "empty"});
+assert.ok(empty.weights instanceof Float64Array && empty.weights.length === 0, "The default is not empty.");
+
+assert.ok(Figure.fromJson(figureJson).equals(figure), "Equal typed arrays are not equal.");
+assert.ok(!Figure.fromJson({...figureJson, offsets: [7, 8]}).equals(figure), "Different typed arrays are equal.");
+assert.strictEqual(figure.assignFrom(figureJson), false, "Equal typed arrays have been reported as changed.");
+assert.strictEqual(figure.assignFrom({...figureJson, weights: [2.5]}), true);
+assert.deepStrictEqual(Array.from(figure.weights!), [2.5]);
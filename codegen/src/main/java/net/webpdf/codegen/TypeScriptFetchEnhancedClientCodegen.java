@@ -2,14 +2,37 @@ package net.webpdf.codegen;
 
 import io.swagger.codegen.v3.*;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.templates.TemplateEngine;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.*;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
+import net.webpdf.codegen.benchmark.BenchmarkFixtures;
+import net.webpdf.codegen.deduplication.StructuralDeduplication;
 import net.webpdf.codegen.extension.WebPDFExtension;
+import net.webpdf.codegen.extension.cache.CacheableResource;
 import net.webpdf.codegen.extension.index.Index;
 import net.webpdf.codegen.extension.index.IndexEntry;
+import net.webpdf.codegen.hierarchy.FlattenedHierarchy;
+import net.webpdf.codegen.lint.SchemaFinding;
+import net.webpdf.codegen.lint.SchemaLint;
+import net.webpdf.codegen.metadata.MetadataSidecar;
 import net.webpdf.codegen.names.ModelName;
 import net.webpdf.codegen.names.TypeName;
+import net.webpdf.codegen.options.CodegenOption;
+import net.webpdf.codegen.projects.GeneratedProject;
+import net.webpdf.codegen.projects.ProjectReferences;
+import net.webpdf.codegen.projects.ProjectTemplateEngine;
+import net.webpdf.codegen.resolution.ResolutionCache;
+import net.webpdf.codegen.serialization.BinaryEncoding;
+import net.webpdf.codegen.serialization.FieldProjection;
+import net.webpdf.codegen.serialization.InPlaceAssignment;
+import net.webpdf.codegen.serialization.NativeMaps;
+import net.webpdf.codegen.serialization.SparseSerialization;
+import net.webpdf.codegen.serialization.TableCodec;
+import net.webpdf.codegen.serialization.TypedArrays;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
 
@@ -23,11 +46,38 @@ import static net.webpdf.codegen.extension.WebPDFExtensionKey.PARENT_CLASS_NAME;
 public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
 
     private static final String UNDEFINED_VALUE = "undefined";
+    private static final String BUILDER_SUFFIX = "Builder";
+    private static final String BENCHMARK_FOLDER = ".." + File.separator + "generated-benchmarks";
+    private static final String PROJECT_OUT_DIR = "projectOutDir";
+    // The generated sources are located in "src/main/typescript/generated-sources" and compiled to "lib".
+    private static final String DEFAULT_PROJECT_OUT_DIR = "../../../lib/generated-sources";
+    // Findings of the schema lint reaching this estimated cost fail the generation, 0 only reports them.
+    private static final String SCHEMA_LINT_THRESHOLD = "schemaLintThreshold";
+    // The types retained by the single file output (comma separated), all types are emitted, if it is not set.
+    private static final String SINGLE_FILE_TYPES = "singleFileTypes";
+    private static final String METADATA_SUPPORT_FILE = "ModelMetadata";
+    // The options, that are not supported in combination with an option replacing the generated model code or files.
+    private static final Map<CodegenOption, List<CodegenOption>> UNSUPPORTED_OPTIONS = Map.of(
+            CodegenOption.JS_MODELS, Arrays.asList(CodegenOption.SPARSE_JSON, CodegenOption.FLATTEN_HIERARCHY,
+                    CodegenOption.NATIVE_MAPS, CodegenOption.TYPED_ARRAYS, CodegenOption.BINARY_CODEC,
+                    CodegenOption.INSTRUMENTATION, CodegenOption.FLUENT_BUILDERS, CodegenOption.DIRTY_TRACKING,
+                    CodegenOption.PROJECT_REFERENCES, CodegenOption.TABLE_CODEC),
+            CodegenOption.TABLE_CODEC, Arrays.asList(CodegenOption.SPARSE_JSON, CodegenOption.FLATTEN_HIERARCHY,
+                    CodegenOption.NATIVE_MAPS, CodegenOption.TYPED_ARRAYS, CodegenOption.BINARY_CODEC,
+                    CodegenOption.INSTRUMENTATION, CodegenOption.DIRTY_TRACKING),
+            CodegenOption.SINGLE_FILE, Arrays.asList(CodegenOption.JS_MODELS, CodegenOption.PROJECT_REFERENCES,
+                    CodegenOption.METADATA_SIDECAR),
+            CodegenOption.PROJECTIONS, Arrays.asList(CodegenOption.JS_MODELS, CodegenOption.TABLE_CODEC,
+                    CodegenOption.NATIVE_MAPS, CodegenOption.TYPED_ARRAYS));
 
     protected String modelPropertyNaming = "camelCase";
     protected Boolean supportsES6 = true;
     protected HashSet<String> languageGenericTypes;
 
+    private final ResolutionCache<String> schemaTypes = new ResolutionCache<>("schema type");
+    private final ResolutionCache<String> typeDeclarations = new ResolutionCache<>("type declaration");
+    private List<GeneratedProject> projects = Collections.emptyList();
+
     public TypeScriptFetchEnhancedClientCodegen() {
         super();
 
@@ -105,6 +155,13 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
                 CodegenConstants.MODEL_PROPERTY_NAMING_DESC).defaultValue("camelCase"));
         cliOptions.add(new CliOption(CodegenConstants.SUPPORTS_ES6,
                 CodegenConstants.SUPPORTS_ES6_DESC).defaultValue("false"));
+        for (CodegenOption option : CodegenOption.values()) {
+            cliOptions.add(CliOption.newBoolean(option.getValue(), option.getDescription()));
+        }
+        cliOptions.add(new CliOption(SCHEMA_LINT_THRESHOLD, "Fails the generation, if a performance relevant " +
+                "schema pattern reaches this estimated cost (0 only reports the patterns).").defaultValue("0"));
+        cliOptions.add(new CliOption(SINGLE_FILE_TYPES, "Restricts the output of '" +
+                CodegenOption.SINGLE_FILE.getValue() + "' to the given types (comma separated) and their dependencies."));
 
         this.outputFolder = "generated-code" + File.separator + "typescript-fetch";
     }
@@ -122,10 +179,200 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
             additionalProperties.put("supportsES6", getSupportsES6());
         }
 
-        modelTemplateFiles.put("model.mustache", ".ts");
+        for (CodegenOption option : CodegenOption.values()) {
+            additionalProperties.put(option.getValue(), isEnabled(option));
+        }
+
+        for (Map.Entry<CodegenOption, List<CodegenOption>> unsupported : UNSUPPORTED_OPTIONS.entrySet()) {
+            if (!isEnabled(unsupported.getKey())) {
+                continue;
+            }
+            for (CodegenOption option : unsupported.getValue()) {
+                if (isEnabled(option)) {
+                    throw new IllegalArgumentException("The option '" + option.getValue() +
+                            "' is not supported in combination with '" + unsupported.getKey().getValue() + "'.");
+                }
+            }
+        }
+
+        if (isEnabled(CodegenOption.SINGLE_FILE)) {
+            // The support files and all models are hoisted into the index, which is the only module emitted.
+            supportingFiles.add(new SupportingFile("index_single.mustache", "", "index.ts"));
+        } else {
+            addModules();
+        }
+        if (isEnabled(CodegenOption.GENERATE_BENCHMARKS)) {
+            supportingFiles.add(new SupportingFile("benchmark_runner.mustache", BENCHMARK_FOLDER,
+                    "ModelBenchmark.ts"));
+            supportingFiles.add(new SupportingFile("benchmark_index.mustache", BENCHMARK_FOLDER, "index.ts"));
+        }
+        if (isEnabled(CodegenOption.PROJECT_REFERENCES)) {
+            additionalProperties.putIfAbsent(PROJECT_OUT_DIR, DEFAULT_PROJECT_OUT_DIR);
+            supportingFiles.add(new SupportingFile("project_base.mustache", "", "tsconfig.base.json"));
+            supportingFiles.add(new SupportingFile("project_solution.mustache", "", "tsconfig.json"));
+        }
+    }
 
+    /**
+     * Adds the templates of the models and the support files, which are emitted as modules of their own.
+     */
+    private void addModules() {
         supportingFiles.add(new SupportingFile("parameter.mustache", "", "Parameter.ts"));
-        supportingFiles.add(new SupportingFile("index.mustache", "", "index.ts"));
+        supportingFiles.add(new SupportingFile("model_equality.mustache", "", "ModelEquality.ts"));
+        supportingFiles.add(new SupportingFile("model_assignment.mustache", "", "ModelAssignment.ts"));
+        supportingFiles.add(new SupportingFile("model_stream.mustache", "", "ModelStream.ts"));
+        supportingFiles.add(new SupportingFile("cacheable_resources.mustache", "", "CacheableResources.ts"));
+
+        if (isEnabled(CodegenOption.JS_MODELS)) {
+            // The support files remain TypeScript, only the models (whose count grows with the spec) skip tsc.
+            modelTemplateFiles.put("model_js.mustache", ".js");
+            modelTemplateFiles.put("model_declaration.mustache", ".d.ts");
+            supportingFiles.add(new SupportingFile("index_js.mustache", "", "index.js"));
+            supportingFiles.add(new SupportingFile("index.mustache", "", "index.d.ts"));
+        } else {
+            modelTemplateFiles.put("model.mustache", ".ts");
+            supportingFiles.add(new SupportingFile("index.mustache", "", "index.ts"));
+        }
+
+        if (isEnabled(CodegenOption.NATIVE_MAPS)) {
+            supportingFiles.add(new SupportingFile("model_maps.mustache", "", "ModelMaps.ts"));
+        }
+        if (isEnabled(CodegenOption.BINARY_CODEC)) {
+            supportingFiles.add(new SupportingFile("model_binary.mustache", "", "ModelBinary.ts"));
+        }
+        if (isEnabled(CodegenOption.METADATA_SIDECAR)) {
+            supportingFiles.add(new SupportingFile("model_metadata.mustache", "", "ModelMetadata.ts"));
+        }
+        if (isEnabled(CodegenOption.TABLE_CODEC)) {
+            supportingFiles.add(new SupportingFile("model_codec.mustache", "", "ModelCodec.ts"));
+        }
+        if (isEnabled(CodegenOption.DIRTY_TRACKING)) {
+            supportingFiles.add(new SupportingFile("model_changes.mustache", "", "ModelChanges.ts"));
+        }
+        if (isEnabled(CodegenOption.PROJECTIONS)) {
+            supportingFiles.add(new SupportingFile("model_projection.mustache", "", "ModelProjection.ts"));
+        }
+    }
+
+    @Override
+    public TemplateEngine getTemplateEngine() {
+        TemplateEngine templateEngine = super.getTemplateEngine();
+        if (templateEngine == null || !isEnabled(CodegenOption.PROJECT_REFERENCES)) {
+            return templateEngine;
+        }
+        return new ProjectTemplateEngine(templateEngine, () -> projects);
+    }
+
+    @Override
+    public void preprocessOpenAPI(OpenAPI openAPI) {
+        super.preprocessOpenAPI(openAPI);
+        lintSchemas(openAPI);
+        List<CacheableResource> cacheableResources = collectCacheableResources(openAPI);
+        additionalProperties.put(CACHEABLE_RESOURCES.getValue(), cacheableResources);
+        additionalProperties.put(INVALIDATING_OPERATIONS.getValue(), cacheableResources.stream()
+                .flatMap(resource -> resource.getInvalidatedBy().stream())
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Reports the schema patterns causing expensive generated code, as detected by the {@link SchemaLint}.
+     *
+     * @param openAPI The {@link OpenAPI} specification to analyze.
+     * @throws IllegalArgumentException Shall be thrown, if a finding reaches the configured threshold.
+     */
+    private void lintSchemas(OpenAPI openAPI) {
+        int threshold = getSchemaLintThreshold();
+        List<SchemaFinding> fatal = new ArrayList<>();
+        for (SchemaFinding finding : new SchemaLint(openAPI).analyze()) {
+            LOGGER.warn("Schema performance: " + finding);
+            if (threshold > 0 && finding.getCost() >= threshold) {
+                fatal.add(finding);
+            }
+        }
+        if (!fatal.isEmpty()) {
+            throw new IllegalArgumentException("The schema lint threshold of " + threshold + " has been reached:\n" +
+                    fatal.stream().map(SchemaFinding::toString).collect(Collectors.joining("\n")));
+        }
+    }
+
+    private String getSingleFileTypes() {
+        Object types = additionalProperties.get(SINGLE_FILE_TYPES);
+        return types != null ? types.toString() : null;
+    }
+
+    private int getSchemaLintThreshold() {
+        Object threshold = additionalProperties.get(SCHEMA_LINT_THRESHOLD);
+        if (threshold == null || threshold.toString().trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(threshold.toString().trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("The option '" + SCHEMA_LINT_THRESHOLD + "' must be a number: " +
+                    threshold, ex);
+        }
+    }
+
+    /**
+     * Collects all GET operations, that have been marked as "cacheable" by the x-webpdf-codegen extension.
+     *
+     * @param openAPI The {@link OpenAPI} specification to search.
+     * @return The {@link CacheableResource}s sorted by their operation ID.
+     * @throws IllegalArgumentException Shall be thrown, if a resource lacks its operation ID or cache TTL, or is
+     *                                  invalidated by an operation, that is not declared by the specification.
+     */
+    private List<CacheableResource> collectCacheableResources(OpenAPI openAPI) {
+        List<CacheableResource> resources = new ArrayList<>();
+        if (openAPI.getPaths() == null) {
+            return resources;
+        }
+        Set<String> operationIds = new HashSet<>();
+        for (PathItem path : openAPI.getPaths().values()) {
+            for (Operation operation : path.readOperations()) {
+                operationIds.add(operation.getOperationId());
+            }
+        }
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            Operation operation = path.getValue().getGet();
+            if (operation == null || operation.getExtensions() == null) {
+                continue;
+            }
+            WebPDFExtension extension = WebPDFExtension.determineExtension(operation.getExtensions());
+            if (!extension.isCacheable()) {
+                continue;
+            }
+            if (operation.getOperationId() == null || extension.getCacheTtl() == null) {
+                throw new IllegalArgumentException(
+                        "A cacheable resource requires an operation ID and a cache TTL: " + path.getKey());
+            }
+            CacheableResource resource = new CacheableResource(
+                    operation.getOperationId(), path.getKey(), extension.getCacheTtl());
+            if (extension.getInvalidatedBy() != null) {
+                for (String invalidatedBy : extension.getInvalidatedBy()) {
+                    // a misspelled or renamed operation would silently keep the cached responses
+                    if (!operationIds.contains(invalidatedBy)) {
+                        throw new IllegalArgumentException("The cacheable resource '" + operation.getOperationId() +
+                                "' is invalidated by the unknown operation '" + invalidatedBy + "'.");
+                    }
+                    resource.addInvalidatedBy(invalidatedBy);
+                }
+            }
+            resources.add(resource);
+        }
+        resources.sort(Comparator.comparing(CacheableResource::getOperationId));
+        return resources;
+    }
+
+    /**
+     * Checks whether the given {@link CodegenOption} has been enabled for this generator run.
+     *
+     * @param option The {@link CodegenOption} to check.
+     * @return true, if the option is enabled.
+     */
+    public boolean isEnabled(CodegenOption option) {
+        return option.isEnabled(additionalProperties);
     }
 
     @Override
@@ -327,6 +574,9 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
         if (isObjectSchema(schema) || schema instanceof MapSchema) {
             codegenModel.getVendorExtensions().put(CodegenConstants.IS_OBJECT_EXT_NAME, Boolean.TRUE);
         }
+        if (Boolean.TRUE.equals(schema.getReadOnly())) {
+            WebPDFExtension.determineExtension(codegenModel, modelPackage()).setIsReadOnly(true);
+        }
         return codegenModel;
     }
 
@@ -371,6 +621,15 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
     @Override
     protected void postProcessAllCodegenModels(Map<String, CodegenModel> allModels) {
         Index index = getIndex();
+        if (isEnabled(CodegenOption.DEDUPLICATE_SCHEMAS)) {
+            new StructuralDeduplication(allModels, modelPackage(),
+                    isEnabled(CodegenOption.FLUENT_BUILDERS) ? BUILDER_SUFFIX : null).apply();
+        }
+        FlattenedHierarchy hierarchy = null;
+        if (isEnabled(CodegenOption.FLATTEN_HIERARCHY)) {
+            hierarchy = new FlattenedHierarchy(allModels, modelPackage());
+            hierarchy.flattenVars();
+        }
         for (CodegenModel model : allModels.values()) {
             TypeName type = new TypeName(model.getClassname());
             WebPDFExtension modelExtensions = WebPDFExtension.determineExtension(model, modelPackage());
@@ -380,10 +639,14 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
                 modelExtensions.setDescription(description);
             }
             if (!model.getIsEnum()) {
-                index.add(new IndexEntry(type.getRootFileLocation(),
+                IndexEntry modelEntry = new IndexEntry(type.getRootFileLocation(),
                         type.getPackageLocation(modelPackage()), model)
                         .addExportedTypeName(type.getName())
-                        .addExportedTypeName(type.getName() + "Interface"));
+                        .addExportedTypeName(type.getName() + "Interface");
+                if (isEnabled(CodegenOption.FLUENT_BUILDERS) && Boolean.TRUE.equals(model.getIsObject())) {
+                    modelEntry.addExportedTypeName(type.getName() + BUILDER_SUFFIX);
+                }
+                index.add(modelEntry);
             } else {
                 index.add(new IndexEntry(type.getRootFileLocation(),
                         type.getPackageLocation(modelPackage()), model)
@@ -425,14 +688,24 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
                         refModelExtensions.setTypeRootLocation(refType.getRootFileLocation());
                         refModelExtensions.setIsEnumType(true);
                     }
-                } else if (property.getIsEnum()) {
+                } else if (property.getIsEnum() &&
+                        !WebPDFExtension.determineExtension(property.getVendorExtensions()).isInherited()) {
                     entry.addExportedTypeName(property.getEnumName());
                 }
             }
             Set<String> imports = new HashSet<>();
             if (!model.getIsEnum()) {
-                // Always import "Parameter".
+                // Always import "Parameter" and the model support classes.
                 imports.add("Parameter");
+                imports.add("ModelEquality");
+                imports.add("ModelAssignment");
+                imports.add("ModelStream");
+                if (isEnabled(CodegenOption.INSTRUMENTATION)) {
+                    imports.add("ParameterHooks");
+                }
+                if (isEnabled(CodegenOption.DIRTY_TRACKING)) {
+                    imports.add("ModelChanges");
+                }
 
                 for (CodegenProperty property : model.getVars()) {
                     WebPDFExtension propertyExtensions = WebPDFExtension.determineExtension(property, modelPackage());
@@ -442,6 +715,11 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
                         TypeName name = new TypeName(propertyPackage + "." + propertyTypeName);
                         imports.add(name.getName());
                     }
+                    // Inline enums of flattened properties are declared by the super type.
+                    if (property.getIsEnum() &&
+                            WebPDFExtension.determineExtension(property.getVendorExtensions()).isInherited()) {
+                        imports.add(property.getEnumName());
+                    }
                 }
                 if (modelExtensions.contains(EXTENDS)) {
                     String extendName = modelExtensions.getExtends();
@@ -449,6 +727,9 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
                     TypeName name = new TypeName(extendPackage + "." + extendName);
                     imports.add(name.getName());
                     imports.add(name.getName() + "Interface");
+                    if (isEnabled(CodegenOption.FLUENT_BUILDERS)) {
+                        imports.add(name.getName() + BUILDER_SUFFIX);
+                    }
                 }
                 if (modelExtensions.contains(PARENT_CLASS_NAME)) {
                     String extendName = modelExtensions.getParentClassName();
@@ -456,6 +737,9 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
                     TypeName name = new TypeName(extendPackage + "." + extendName);
                     imports.add(name.getName());
                     imports.add(name.getName() + "Interface");
+                    if (isEnabled(CodegenOption.FLUENT_BUILDERS)) {
+                        imports.add(name.getName() + BUILDER_SUFFIX);
+                    }
                 }
                 if (modelExtensions.contains(EXTENDED_BY)) {
                     for (String extension : modelExtensions.getExtendedBy().values()) {
@@ -473,10 +757,78 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
                 modelExtensions.setImports(new ArrayList<>(imports));
             }
         }
+        if (hierarchy != null) {
+            hierarchy.detachClasses();
+        }
         index.sort();
+        if (isEnabled(CodegenOption.SINGLE_FILE) && StringUtils.isNotBlank(getSingleFileTypes())) {
+            index.retain(Arrays.asList(StringUtils.split(getSingleFileTypes().replace(" ", ""), ",")));
+        }
+        new InPlaceAssignment(allModels, modelPackage()).apply();
+
+        if (isEnabled(CodegenOption.SPARSE_JSON)) {
+            new SparseSerialization(allModels, modelPackage()).apply();
+        }
+        if (isEnabled(CodegenOption.TYPED_ARRAYS)) {
+            new TypedArrays(allModels, modelPackage()).apply();
+        }
+        if (isEnabled(CodegenOption.NATIVE_MAPS)) {
+            new NativeMaps(allModels, modelPackage(), isEnabled(CodegenOption.SPARSE_JSON)).apply();
+        }
+        if (isEnabled(CodegenOption.BINARY_CODEC)) {
+            new BinaryEncoding(allModels, modelPackage()).apply();
+        }
+        if (isEnabled(CodegenOption.TABLE_CODEC)) {
+            new TableCodec(allModels, modelPackage()).apply();
+        }
+        if (isEnabled(CodegenOption.PROJECTIONS)) {
+            new FieldProjection(allModels, modelPackage()).apply();
+        }
+        if (isEnabled(CodegenOption.METADATA_SIDECAR)) {
+            new MetadataSidecar(allModels, modelPackage()).apply();
+        }
+        if (isEnabled(CodegenOption.GENERATE_BENCHMARKS)) {
+            BenchmarkFixtures fixtures = new BenchmarkFixtures(allModels, modelPackage());
+            for (CodegenModel model : allModels.values()) {
+                if (!model.getIsEnum() && Boolean.TRUE.equals(model.getIsObject())) {
+                    WebPDFExtension.determineExtension(model, modelPackage())
+                            .setBenchmarkFixture(fixtures.createFixture(model));
+                }
+            }
+        }
+        if (isEnabled(CodegenOption.PROJECT_REFERENCES)) {
+            addProjects(index);
+        }
         super.postProcessAllCodegenModels(allModels);
     }
 
+    /**
+     * Splits the generated sources into composite TypeScript projects and emits a tsconfig.json and an index per
+     * project.
+     *
+     * @param index The sorted {@link Index} of all generated models.
+     */
+    private void addProjects(Index index) {
+        List<String> supportFiles = new ArrayList<>();
+        for (SupportingFile supportingFile : supportingFiles) {
+            if (supportingFile.folder.isEmpty() && supportingFile.destinationFilename.endsWith(".ts") &&
+                    !supportingFile.destinationFilename.equals("index.ts")) {
+                supportFiles.add(StringUtils.removeEnd(supportingFile.destinationFilename, ".ts"));
+            }
+        }
+        projects = new ProjectReferences(index, modelPackage(), supportFiles,
+                Collections.singleton(METADATA_SUPPORT_FILE)).apply();
+        additionalProperties.put(PROJECTS.getValue(), projects);
+        for (int i = 0; i < projects.size(); i++) {
+            GeneratedProject project = projects.get(i);
+            String folder = project.getDirectory().replace('/', File.separatorChar);
+            supportingFiles.add(new SupportingFile(ProjectTemplateEngine.getTemplateFile(i, "project_config.mustache"),
+                    folder, project.getConfigName()));
+            supportingFiles.add(new SupportingFile(ProjectTemplateEngine.getTemplateFile(i, "project_index.mustache"),
+                    folder, project.getIndexFileName()));
+        }
+    }
+
     @Override
     public String apiFileFolder() {
         return outputFolder + File.separator + apiPackage().replace('.', File.separatorChar);
@@ -514,6 +866,13 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
 
     @Override
     public String getSchemaType(Schema schema) {
+        if (schema == null) {
+            return resolveSchemaType(null);
+        }
+        return schemaTypes.resolve(schema, this::resolveSchemaType);
+    }
+
+    private String resolveSchemaType(Schema<?> schema) {
         String swaggerType = super.getSchemaType(schema);
         if (schema instanceof ComposedSchema) {
             ComposedSchema composedSchema = (ComposedSchema) schema;
@@ -553,6 +912,13 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
 
     @Override
     public String getTypeDeclaration(Schema propertySchema) {
+        if (propertySchema == null) {
+            return resolveTypeDeclaration(null);
+        }
+        return typeDeclarations.resolve(propertySchema, this::resolveTypeDeclaration);
+    }
+
+    private String resolveTypeDeclaration(Schema<?> propertySchema) {
         Schema<?> inner;
         if (propertySchema instanceof ArraySchema) {
             ArraySchema arraySchema = (ArraySchema) propertySchema;
@@ -560,10 +926,10 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
             return this.getSchemaType(propertySchema) + "<" + this.getTypeDeclaration(inner) + ">";
         } else if (propertySchema instanceof MapSchema && hasSchemaProperties(propertySchema)) {
             inner = (Schema<?>) propertySchema.getAdditionalProperties();
-            return "{ [key: string]: " + this.getTypeDeclaration(inner) + "; }";
+            return getMapDeclaration(this.getTypeDeclaration(inner));
         } else if (propertySchema instanceof MapSchema && hasTrueAdditionalProperties(propertySchema)) {
             inner = new ObjectSchema();
-            return "{ [key: string]: " + this.getTypeDeclaration(inner) + "; }";
+            return getMapDeclaration(this.getTypeDeclaration(inner));
         } else if (propertySchema instanceof FileSchema || propertySchema instanceof BinarySchema) {
             return "Blob";
         } else if (propertySchema instanceof ObjectSchema) {
@@ -573,6 +939,13 @@ public class TypeScriptFetchEnhancedClientCodegen extends DefaultCodegenConfig {
         }
     }
 
+    private String getMapDeclaration(String valueType) {
+        if (isEnabled(CodegenOption.NATIVE_MAPS)) {
+            return "Map<string, " + valueType + ">";
+        }
+        return "{ [key: string]: " + valueType + "; }";
+    }
+
     public String getSimpleTypeName(Schema<?> propertySchema) {
         String schemaType = getSchemaType(propertySchema);
         if (typeMapping.containsKey(schemaType)) {
@@ -12,6 +12,7 @@ import net.webpdf.codegen.extension.WebPDFExtension;
 import net.webpdf.codegen.extension.enumeration.EnumerationDefinition;
 import net.webpdf.codegen.names.ModelName;
 import net.webpdf.codegen.names.TypeName;
+import net.webpdf.codegen.resolution.ResolutionCache;
 
 import java.util.*;
 
@@ -20,6 +21,7 @@ import static net.webpdf.codegen.extension.WebPDFExtensionKey.*;
 public class TypeScriptSchemaHandler extends SchemaHandler {
     private final TypeScriptFetchEnhancedClientCodegen codegenConfig;
     private final Map<String, CodegenModel> enumerationModels = new HashMap<>();
+    private final ResolutionCache<Map<String, Object>> propertyDefaults = new ResolutionCache<>("property defaults");
 
     public TypeScriptSchemaHandler(DefaultCodegenConfig codegenConfig) {
         super(codegenConfig);
@@ -101,28 +103,7 @@ public class TypeScriptSchemaHandler extends SchemaHandler {
                 varName = var.getBaseName();
             }
 
-            defaultValue = null;
-            List<ObjectSchema> objectSchemas = new ArrayList<>();
-            if (schema instanceof ComposedSchema && ((ComposedSchema)schema).getAllOf() != null) {
-                for (Schema<?> allOfSchema : ((ComposedSchema)schema).getAllOf()) {
-                    if (allOfSchema instanceof ObjectSchema) {
-                        objectSchemas.add((ObjectSchema) allOfSchema);
-                        break;
-                    }
-                }
-            }
-            if (!objectSchemas.isEmpty()) {
-                for (ObjectSchema objectSchema : objectSchemas) {
-                    Schema<?> propertySchema = objectSchema.getProperties().get(varName);
-                    defaultValue = propertySchema.getDefault();
-                    break;
-                }
-            }
-            if (defaultValue == null && (schema.getProperties() != null && schema.getProperties().containsKey(varName))) {
-                Schema<?> propertySchema = schema.getProperties().get(varName);
-                defaultValue = propertySchema.getDefault();
-            }
-
+            defaultValue = propertyDefaults.resolve(schema, this::resolvePropertyDefaults).get(varName);
             if (defaultValue != null) {
                 if (var.getIsByteArray()) {
                     propertyExtension.setDefaultValue("\"\"");
@@ -141,6 +122,40 @@ public class TypeScriptSchemaHandler extends SchemaHandler {
         }
     }
 
+    /**
+     * Collects the default values of the properties of the given schema. The defaults declared by the first object
+     * schema of an "allOf" composition take precedence over the defaults of the schema´s own properties.
+     *
+     * @param schema The {@link Schema} to collect the property defaults of.
+     * @return The default values mapped to the property names.
+     */
+    private Map<String, Object> resolvePropertyDefaults(Schema<?> schema) {
+        Map<String, Object> defaults = new HashMap<>();
+        putPropertyDefaults(defaults, schema);
+        if (schema instanceof ComposedSchema && ((ComposedSchema) schema).getAllOf() != null) {
+            for (Schema<?> allOfSchema : ((ComposedSchema) schema).getAllOf()) {
+                if (allOfSchema instanceof ObjectSchema) {
+                    putPropertyDefaults(defaults, allOfSchema);
+                    break;
+                }
+            }
+        }
+        return defaults;
+    }
+
+    // TODO: library is using raw types in Schema - which is a bad practice. Fix as soon as the library is cleaned.
+    @SuppressWarnings("rawtypes")
+    private void putPropertyDefaults(Map<String, Object> defaults, Schema<?> schema) {
+        if (schema.getProperties() == null) {
+            return;
+        }
+        for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
+            if (property.getValue() != null && property.getValue().getDefault() != null) {
+                defaults.put(property.getKey(), property.getValue().getDefault());
+            }
+        }
+    }
+
     private void extractInnerEnums(CodegenModel codegenModel, Map<String, CodegenModel> allModels) {
         for (CodegenProperty property : codegenModel.getVars()) {
             WebPDFExtension propertyExtensions =
@@ -0,0 +1,211 @@
+package net.webpdf.codegen.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import net.webpdf.codegen.extension.WebPDFExtension;
+import net.webpdf.codegen.names.TypeName;
+
+import java.util.*;
+
+/**
+ * Builds the JSON fixtures for the generated benchmark suite. A fixture is derived from the schema defaults, enum values
+ * and minimum/maximum constraints of a model and its nested models.
+ */
+public class BenchmarkFixtures {
+
+    private static final int MAX_DEPTH = 4;
+    private static final int ARRAY_LENGTH = 2;
+    private static final String SAMPLE_TEXT = "text";
+    private static final String SAMPLE_DATE = "2022-01-01T00:00:00Z";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonNodeFactory nodes = JsonNodeFactory.instance;
+    private final Map<String, CodegenModel> allModels;
+    private final String modelPackage;
+
+    public BenchmarkFixtures(Map<String, CodegenModel> allModels, String modelPackage) {
+        this.allModels = allModels;
+        this.modelPackage = modelPackage;
+    }
+
+    /**
+     * Creates the fixture for the given model.
+     *
+     * @param model The {@link CodegenModel} to create the fixture for.
+     * @return The fixture as JSON.
+     */
+    public String createFixture(CodegenModel model) {
+        try {
+            return mapper.writeValueAsString(objectFixture(model, new HashSet<>(), 0));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize the fixture of " + model.getClassname(), ex);
+        }
+    }
+
+    private ObjectNode objectFixture(CodegenModel model, Set<String> visiting, int depth) {
+        ObjectNode fixture = nodes.objectNode();
+        if (!visiting.add(model.getClassname())) {
+            return fixture;
+        }
+        for (CodegenProperty property : collectVars(model)) {
+            JsonNode value = propertyFixture(property, visiting, depth + 1);
+            if (value != null) {
+                fixture.set(property.getBaseName(), value);
+            }
+        }
+        applyDiscriminatorValue(model, fixture);
+        visiting.remove(model.getClassname());
+        return fixture;
+    }
+
+    private JsonNode propertyFixture(CodegenProperty property, Set<String> visiting, int depth) {
+        if (depth > MAX_DEPTH) {
+            return null;
+        }
+        if (Boolean.TRUE.equals(property.getIsListContainer())) {
+            ArrayNode array = nodes.arrayNode();
+            if (property.getItems() != null) {
+                for (int i = 0; i < ARRAY_LENGTH; i++) {
+                    JsonNode item = propertyFixture(property.getItems(), visiting, depth + 1);
+                    if (item == null) {
+                        break;
+                    }
+                    array.add(item);
+                }
+            }
+            return array;
+        }
+        if (Boolean.TRUE.equals(property.getIsMapContainer())) {
+            ObjectNode map = nodes.objectNode();
+            if (property.getItems() != null) {
+                JsonNode item = propertyFixture(property.getItems(), visiting, depth + 1);
+                if (item != null) {
+                    map.set("key", item);
+                }
+            }
+            return map;
+        }
+
+        JsonNode enumValue = firstValue(property.getAllowableValues());
+        if (enumValue != null) {
+            return enumValue;
+        }
+        CodegenModel refModel = findModel(property);
+        if (refModel != null && Boolean.TRUE.equals(refModel.getIsEnum())) {
+            enumValue = firstValue(refModel.getAllowableValues());
+            return enumValue != null ? enumValue : nodes.textNode(SAMPLE_TEXT);
+        }
+        if (refModel != null) {
+            return objectFixture(resolveConcreteModel(refModel), visiting, depth);
+        }
+
+        JsonNode defaultValue = parseDefault(property);
+        if (Boolean.TRUE.equals(property.getIsNumeric()) || Boolean.TRUE.equals(property.getIsInteger()) ||
+                Boolean.TRUE.equals(property.getIsNumber()) || "number".equals(property.getDatatype())) {
+            double value = defaultValue != null && defaultValue.isNumber() ? defaultValue.asDouble() : 1;
+            if (property.getMinimum() != null) {
+                value = Math.max(value, Double.parseDouble(property.getMinimum()));
+            }
+            if (property.getMaximum() != null) {
+                value = Math.min(value, Double.parseDouble(property.getMaximum()));
+            }
+            return value == Math.rint(value) ? nodes.numberNode((long) value) : nodes.numberNode(value);
+        }
+        if (Boolean.TRUE.equals(property.getIsBoolean()) || "boolean".equals(property.getDatatype())) {
+            return defaultValue != null && defaultValue.isBoolean() ? defaultValue : nodes.booleanNode(true);
+        }
+        if (Boolean.TRUE.equals(property.getIsDateTime()) || Boolean.TRUE.equals(property.getIsDate())) {
+            return nodes.textNode(SAMPLE_DATE);
+        }
+        if (defaultValue != null && defaultValue.isTextual()) {
+            return defaultValue;
+        }
+        if ("any".equals(property.getDatatype())) {
+            return nodes.objectNode();
+        }
+        return nodes.textNode(SAMPLE_TEXT);
+    }
+
+    private List<CodegenProperty> collectVars(CodegenModel model) {
+        if (model.getAllVars() != null && !model.getAllVars().isEmpty()) {
+            return model.getAllVars();
+        }
+        return model.getVars() != null ? model.getVars() : Collections.emptyList();
+    }
+
+    private CodegenModel findModel(CodegenProperty property) {
+        if (property.getComplexType() != null && allModels.containsKey(property.getComplexType())) {
+            return allModels.get(property.getComplexType());
+        }
+        if (property.getBaseType() != null && allModels.containsKey(property.getBaseType())) {
+            return allModels.get(property.getBaseType());
+        }
+        return null;
+    }
+
+    /**
+     * Polymorphic base types would only create an empty instance of the base type, therefore the fixture of the
+     * first sub type is used instead.
+     */
+    private CodegenModel resolveConcreteModel(CodegenModel model) {
+        Collection<String> subTypes = Collections.emptyList();
+        WebPDFExtension extension = WebPDFExtension.determineExtension(model, modelPackage);
+        if (model.getDiscriminator() != null && model.getDiscriminator().getMapping() != null) {
+            subTypes = model.getDiscriminator().getMapping().values();
+        } else if (extension.getExtendedBy() != null) {
+            subTypes = extension.getExtendedBy().values();
+        }
+        for (String subType : subTypes) {
+            for (CodegenModel candidate : allModels.values()) {
+                if (new TypeName(candidate.getClassname()).getName().equals(subType)) {
+                    return candidate;
+                }
+            }
+        }
+        return model;
+    }
+
+    /**
+     * Selects the discriminator value mapped to the given model, so that the fixture is decoded as the model itself.
+     */
+    private void applyDiscriminatorValue(CodegenModel model, ObjectNode fixture) {
+        CodegenModel parent = model.getParent() != null ? allModels.get(model.getParent()) : null;
+        if (parent == null || parent.getDiscriminator() == null || parent.getDiscriminator().getMapping() == null) {
+            return;
+        }
+        String typeName = new TypeName(model.getClassname()).getName();
+        for (Map.Entry<String, String> mapping : parent.getDiscriminator().getMapping().entrySet()) {
+            if (mapping.getValue().equals(typeName)) {
+                fixture.put(parent.getDiscriminator().getPropertyName(), mapping.getKey());
+                return;
+            }
+        }
+    }
+
+    private JsonNode parseDefault(CodegenProperty property) {
+        String defaultValue = WebPDFExtension.determineExtension(property, modelPackage).getDefaultValue();
+        if (defaultValue == null) {
+            return null;
+        }
+        try {
+            return mapper.readTree(defaultValue);
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    private JsonNode firstValue(Map<String, Object> allowableValues) {
+        Object values = allowableValues != null ? allowableValues.get("values") : null;
+        if (values instanceof List && !((List<?>) values).isEmpty()) {
+            return mapper.valueToTree(((List<?>) values).get(0));
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,208 @@
+package net.webpdf.codegen.deduplication;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import net.webpdf.codegen.extension.WebPDFExtension;
+import net.webpdf.codegen.extension.enumeration.EnumerationDefinition;
+import net.webpdf.codegen.names.TypeName;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static net.webpdf.codegen.extension.WebPDFExtensionKey.*;
+
+/**
+ * Emits structurally identical enums and object schemas only once. Enums are identical, if they declare the same
+ * names and values, object schemas are identical, if they share their description, readOnly flag and type of
+ * additional properties and declare the same properties (including their types, defaults, descriptions and
+ * constraints). The model with the shortest name of each group is emitted as it is, all other models are emitted
+ * as aliases of it, which are exported under their own names.
+ * <p>
+ * Object schemas are only deduplicated, if they declare properties, but neither take part in a class hierarchy,
+ * nor declare inline enums. Schemas without properties (like empty objects and maps) carry no structure to compare.
+ * The types of the properties are compared after their enums and objects have been deduplicated, so that schemas
+ * only differing in the names of identical nested types are deduplicated as well.
+ */
+public class StructuralDeduplication {
+
+    private static final Pattern TYPE_NAME = Pattern.compile("\\w+");
+    private static final String INTERFACE_SUFFIX = "Interface";
+
+    private final Map<String, CodegenModel> allModels;
+    private final String modelPackage;
+    private final String builderSuffix;
+    private final Map<String, String> aliases = new HashMap<>();
+
+    /**
+     * @param allModels     All generated models.
+     * @param modelPackage  The package of the generated models.
+     * @param builderSuffix The suffix of the generated builders or null, if no builders are generated.
+     */
+    public StructuralDeduplication(Map<String, CodegenModel> allModels, String modelPackage, String builderSuffix) {
+        this.allModels = allModels;
+        this.modelPackage = modelPackage;
+        this.builderSuffix = builderSuffix;
+    }
+
+    /**
+     * Marks all duplicate models as aliases of their canonical model.
+     *
+     * @return The names of the canonical types mapped by the names of their aliases.
+     */
+    public Map<String, String> apply() {
+        Map<String, List<CodegenModel>> enums = new HashMap<>();
+        for (CodegenModel model : allModels.values()) {
+            if (model.getIsEnum()) {
+                enums.computeIfAbsent(enumKey(model), key -> new ArrayList<>()).add(model);
+            }
+        }
+        deduplicate(enums.values(), false);
+
+        Set<String> hierarchyTypes = collectHierarchyTypes();
+        boolean changed = true;
+        while (changed) {
+            Map<String, List<CodegenModel>> objects = new HashMap<>();
+            for (CodegenModel model : allModels.values()) {
+                if (isDeduplicable(model, hierarchyTypes)) {
+                    objects.computeIfAbsent(objectKey(model), key -> new ArrayList<>()).add(model);
+                }
+            }
+            changed = deduplicate(objects.values(), true);
+        }
+        return Collections.unmodifiableMap(aliases);
+    }
+
+    private boolean deduplicate(Collection<List<CodegenModel>> groups, boolean isObject) {
+        boolean changed = false;
+        for (List<CodegenModel> group : groups) {
+            if (group.size() < 2) {
+                continue;
+            }
+            group.sort(Comparator.comparing((CodegenModel model) -> typeName(model).length())
+                    .thenComparing(CodegenModel::getClassname));
+            CodegenModel canonical = group.get(0);
+            String canonicalName = typeName(canonical);
+            String canonicalLocation = new TypeName(canonical.getClassname()).getRootFileLocation();
+            List<String> imports = new ArrayList<>();
+            imports.add(canonicalName);
+            if (isObject) {
+                imports.add(canonicalName + INTERFACE_SUFFIX);
+                if (builderSuffix != null) {
+                    imports.add(canonicalName + builderSuffix);
+                }
+            }
+            for (CodegenModel alias : group.subList(1, group.size())) {
+                WebPDFExtension aliasExtensions = WebPDFExtension.determineExtension(alias, modelPackage);
+                String indexLocation = aliasExtensions.getRelativeIndexLocation();
+                aliasExtensions.setAliasOf(canonicalName);
+                aliasExtensions.setAliasLocation(indexLocation.substring(0, indexLocation.lastIndexOf('/') + 1) +
+                        canonicalLocation.substring(2));
+                aliasExtensions.setAliasImports(imports);
+                aliases.put(typeName(alias), canonicalName);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private String enumKey(CodegenModel model) {
+        Map<String, String> values = new TreeMap<>();
+        EnumerationDefinition definition = WebPDFExtension.determineExtension(model, modelPackage).getEnumDefinition();
+        if (definition != null) {
+            values.putAll(definition.getEnumValues());
+        } else if (model.getAllowableValues() != null &&
+                model.getAllowableValues().get("enumVars") instanceof List) {
+            for (Object value : (List<?>) model.getAllowableValues().get("enumVars")) {
+                if (value instanceof Map) {
+                    Map<?, ?> enumValue = (Map<?, ?>) value;
+                    values.put(String.valueOf(enumValue.get("name")), String.valueOf(enumValue.get("value")));
+                }
+            }
+        }
+        return values.toString();
+    }
+
+    private String objectKey(CodegenModel model) {
+        StringBuilder key = new StringBuilder();
+        key.append(Arrays.asList(model.getUnescapedDescription(),
+                WebPDFExtension.determineExtension(model, modelPackage).isReadOnly(),
+                canonicalTypes(model.getAdditionalPropertiesType())));
+        key.append(';');
+        for (CodegenProperty property : model.getVars()) {
+            WebPDFExtension propertyExtensions = WebPDFExtension.determineExtension(property, modelPackage);
+            String complexType = property.getComplexType() != null ?
+                    new TypeName(property.getComplexType()).getName() : null;
+            key.append(Arrays.asList(property.getName(), property.getBaseName(),
+                    canonicalTypes(property.getDatatypeWithEnum()), canonicalTypes(complexType),
+                    property.getRequired(), property.getIsReadOnly(), property.getIsListContainer(),
+                    property.getIsMapContainer(), property.getIsPrimitiveType(), property.getDataFormat(),
+                    propertyExtensions.getDefaultValue(), property.getDefaultValue(),
+                    property.getUnescapedDescription(), property.getMinimum(), property.getMaximum()));
+            key.append(';');
+        }
+        return key.toString();
+    }
+
+    private String canonicalTypes(String type) {
+        if (type == null) {
+            return null;
+        }
+        Matcher matcher = TYPE_NAME.matcher(type);
+        StringBuilder canonical = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group();
+            matcher.appendReplacement(canonical, aliases.getOrDefault(name, name));
+        }
+        matcher.appendTail(canonical);
+        return canonical.toString();
+    }
+
+    private boolean isDeduplicable(CodegenModel model, Set<String> hierarchyTypes) {
+        if (model.getIsEnum() || !Boolean.TRUE.equals(model.getIsObject()) || model.getDiscriminator() != null ||
+                model.getVars() == null || model.getVars().isEmpty() || aliases.containsKey(typeName(model)) ||
+                hierarchyTypes.contains(typeName(model))) {
+            return false;
+        }
+        WebPDFExtension modelExtensions = WebPDFExtension.determineExtension(model, modelPackage);
+        if (modelExtensions.contains(EXTENDS) || modelExtensions.contains(PARENT_CLASS_NAME) ||
+                modelExtensions.contains(EXTENDED_BY)) {
+            return false;
+        }
+        for (CodegenProperty property : model.getVars()) {
+            if (property.getIsEnum()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Set<String> collectHierarchyTypes() {
+        Set<String> hierarchyTypes = new HashSet<>();
+        for (CodegenModel model : allModels.values()) {
+            WebPDFExtension modelExtensions = WebPDFExtension.determineExtension(model, modelPackage);
+            if (modelExtensions.contains(EXTENDS)) {
+                hierarchyTypes.add(new TypeName(modelExtensions.getExtends()).getName());
+            }
+            if (modelExtensions.contains(PARENT_CLASS_NAME)) {
+                hierarchyTypes.add(modelExtensions.getParentClassName());
+            }
+            if (modelExtensions.contains(EXTENDED_BY)) {
+                for (String subType : modelExtensions.getExtendedBy().values()) {
+                    hierarchyTypes.add(new TypeName(subType).getName());
+                }
+            }
+            if (model.getDiscriminator() != null && model.getDiscriminator().getMapping() != null) {
+                for (String subType : model.getDiscriminator().getMapping().values()) {
+                    hierarchyTypes.add(new TypeName(subType).getName());
+                }
+            }
+        }
+        return hierarchyTypes;
+    }
+
+    private String typeName(CodegenModel model) {
+        return WebPDFExtension.determineExtension(model, modelPackage).getTypeClassName();
+    }
+
+}
@@ -0,0 +1,203 @@
+package net.webpdf.codegen.embedded;
+
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.ClientOpts;
+import io.swagger.codegen.v3.DefaultGenerator;
+import io.swagger.codegen.v3.ignore.CodegenIgnoreProcessor;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import net.webpdf.codegen.TypeScriptFetchEnhancedClientCodegen;
+import net.webpdf.codegen.options.CodegenOption;
+import org.apache.commons.io.IOUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * Runs the {@link TypeScriptFetchEnhancedClientCodegen} within the calling process and hands the generated files to
+ * the caller, instead of writing them to the file system. The specification may be given as a string, as a stream or
+ * as an already parsed {@link OpenAPI} document.
+ * </p>
+ * <p>
+ * Each call to one of the generate() methods uses its own generator instance, so that an {@link EmbeddedGenerator}
+ * may be used to generate many specifications concurrently, once it has been configured.
+ * </p>
+ * <p>
+ * <b>Be Aware:</b> {@link CodegenOption#GENERATE_BENCHMARKS} is not supported, as the benchmark suite is placed
+ * outside the generated sources.
+ * </p>
+ */
+public class EmbeddedGenerator {
+
+    private static final String OUTPUT_FOLDER = ".";
+    private static final String IGNORE_FILE = ".swagger-codegen-ignore";
+
+    private final Map<String, Object> properties = new HashMap<>();
+
+    /**
+     * Enables or disables the given {@link CodegenOption}.
+     *
+     * @param option  The {@link CodegenOption} to set.
+     * @param enabled true, if the option shall be enabled.
+     * @return This {@link EmbeddedGenerator}.
+     * @throws IllegalArgumentException Shall be thrown, if the option can not be used for in memory generation.
+     */
+    public EmbeddedGenerator setOption(CodegenOption option, boolean enabled) {
+        return setProperty(option.getValue(), enabled);
+    }
+
+    /**
+     * Sets an additional generator property, as it would be set by the "configOptions" of the Maven plugin.
+     *
+     * @param key   The name of the property.
+     * @param value The value of the property.
+     * @return This {@link EmbeddedGenerator}.
+     * @throws IllegalArgumentException Shall be thrown, if the property can not be used for in memory generation.
+     */
+    public EmbeddedGenerator setProperty(String key, Object value) {
+        Map<String, Object> properties = new HashMap<>(this.properties);
+        properties.put(key, value);
+        if (CodegenOption.GENERATE_BENCHMARKS.isEnabled(properties)) {
+            throw new IllegalArgumentException("The option '" + CodegenOption.GENERATE_BENCHMARKS.getValue() +
+                    "' writes outside the generated sources and is not supported in memory.");
+        }
+        this.properties.put(key, value);
+        return this;
+    }
+
+    /**
+     * Generates the client for the given OpenAPI document.
+     *
+     * @param specification The OpenAPI document in JSON or YAML format.
+     * @return The generated files mapped by their paths, sorted by path.
+     * @throws IllegalArgumentException Shall be thrown, if the document could not be parsed.
+     */
+    public Map<String, String> generate(String specification) {
+        return generate(parse(specification));
+    }
+
+    /**
+     * Generates the client for the OpenAPI document read from the given stream. The stream is not closed.
+     *
+     * @param specification The stream providing the UTF-8 encoded OpenAPI document in JSON or YAML format.
+     * @return The generated files mapped by their paths, sorted by path.
+     * @throws IOException              Shall be thrown, if reading the stream failed.
+     * @throws IllegalArgumentException Shall be thrown, if the document could not be parsed.
+     */
+    public Map<String, String> generate(InputStream specification) throws IOException {
+        return generate(IOUtils.toString(specification, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Generates the client for the given parsed OpenAPI document.
+     *
+     * @param openAPI The {@link OpenAPI} document, as returned by {@link #parse(String)}.
+     * @return The generated files mapped by their paths, sorted by path.
+     */
+    public Map<String, String> generate(OpenAPI openAPI) {
+        Map<String, String> files = new TreeMap<>();
+        try {
+            generate(openAPI, files::put);
+        } catch (IOException ex) {
+            // the map does not fail to accept files
+            throw new IllegalStateException(ex);
+        }
+        return files;
+    }
+
+    /**
+     * Generates the client for the given parsed OpenAPI document and hands each generated file to the given
+     * {@link GeneratedFileSink}.
+     *
+     * @param openAPI The {@link OpenAPI} document, as returned by {@link #parse(String)}.
+     * @param sink    The {@link GeneratedFileSink} receiving the generated files.
+     * @throws IOException Shall be thrown, if the {@link GeneratedFileSink} failed to accept a file.
+     */
+    public void generate(OpenAPI openAPI, GeneratedFileSink sink) throws IOException {
+        TypeScriptFetchEnhancedClientCodegen config = new TypeScriptFetchEnhancedClientCodegen();
+        config.setOutputDir(OUTPUT_FOLDER);
+        config.additionalProperties().putAll(properties);
+
+        InMemoryGenerator generator = new InMemoryGenerator(sink);
+        generator.opts(new ClientOptInput().opts(new ClientOpts()).openAPI(openAPI).config(config));
+        generator.setGenerateSwaggerMetadata(false);
+        generator.disableIgnoreFile();
+        try {
+            generator.generate();
+        } catch (RuntimeException ex) {
+            if (generator.failure != null) {
+                throw generator.failure;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Parses the given OpenAPI (or Swagger) document as the Maven plugin does, so that it may be generated repeatedly
+     * (e.g. using different options) without being parsed again. References are resolved and inline schemas are
+     * extracted to named models.
+     *
+     * @param specification The OpenAPI document in JSON or YAML format.
+     * @return The parsed {@link OpenAPI} document.
+     * @throws IllegalArgumentException Shall be thrown, if the document could not be parsed.
+     */
+    public static OpenAPI parse(String specification) {
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setFlatten(true);
+        SwaggerParseResult result = new OpenAPIParser().readContents(specification, null, parseOptions);
+        if (result == null || result.getOpenAPI() == null) {
+            throw new IllegalArgumentException("Unable to parse the specification: " +
+                    (result != null ? result.getMessages() : "[]"));
+        }
+        return result.getOpenAPI();
+    }
+
+    /**
+     * A {@link DefaultGenerator} passing the generated files to a {@link GeneratedFileSink}.
+     */
+    private static class InMemoryGenerator extends DefaultGenerator {
+
+        private final GeneratedFileSink sink;
+        private IOException failure;
+
+        private InMemoryGenerator(GeneratedFileSink sink) {
+            this.sink = sink;
+        }
+
+        /**
+         * Replaces the ignore file of the output folder by a file, that does not exist, so that the generated files
+         * do not depend on the working directory.
+         */
+        private void disableIgnoreFile() {
+            ignoreProcessor = new CodegenIgnoreProcessor(new File(OUTPUT_FOLDER, IGNORE_FILE + ".embedded"));
+        }
+
+        @Override
+        public File writeToFile(String filename, String contents) throws IOException {
+            Path path = Paths.get(filename).normalize();
+            if (path.startsWith("..") || path.isAbsolute()) {
+                throw new IllegalStateException("The file '" + filename + "' is placed outside the generated sources.");
+            }
+            try {
+                sink.accept(path.toString().replace(File.separatorChar, '/'), contents);
+            } catch (IOException ex) {
+                failure = ex;
+                throw ex;
+            }
+            return new File(filename);
+        }
+
+    }
+
+}
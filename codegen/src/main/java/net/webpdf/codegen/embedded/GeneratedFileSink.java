@@ -0,0 +1,21 @@
+package net.webpdf.codegen.embedded;
+
+import java.io.IOException;
+
+/**
+ * Receives the files produced by an {@link EmbeddedGenerator} run, one at a time and in the order they are generated.
+ */
+@FunctionalInterface
+public interface GeneratedFileSink {
+
+    /**
+     * Accepts a generated file.
+     *
+     * @param path    The path of the file relative to the generated sources, using "/" as separator
+     *                (e.g. "document/DocumentFile.ts").
+     * @param content The content of the file.
+     * @throws IOException Shall be thrown, if the file could not be accepted. Aborts the generator run.
+     */
+    void accept(String path, String content) throws IOException;
+
+}
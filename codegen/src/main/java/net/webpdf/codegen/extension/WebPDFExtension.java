@@ -192,6 +192,208 @@ public class WebPDFExtension {
         return this;
     }
 
+    public String getBenchmarkFixture() {
+        return getString(BENCHMARK_FIXTURE);
+    }
+
+    public WebPDFExtension setBenchmarkFixture(String value) {
+        set(BENCHMARK_FIXTURE, value);
+        return this;
+    }
+
+    public boolean isReadOnly() {
+        return getBool(IS_READ_ONLY);
+    }
+
+    public WebPDFExtension setIsReadOnly(boolean value) {
+        set(IS_READ_ONLY, value);
+        return this;
+    }
+
+    public boolean isSkipDefault() {
+        return getBool(SKIP_DEFAULT);
+    }
+
+    public WebPDFExtension setSkipDefault(boolean value) {
+        set(SKIP_DEFAULT, value);
+        return this;
+    }
+
+    public boolean isSkipEmpty() {
+        return getBool(SKIP_EMPTY);
+    }
+
+    public WebPDFExtension setSkipEmpty(boolean value) {
+        set(SKIP_EMPTY, value);
+        return this;
+    }
+
+    public boolean isCacheable() {
+        return getBool(CACHEABLE);
+    }
+
+    public Integer getCacheTtl() {
+        Number value = get(CACHE_TTL, Number.class);
+        return value != null ? value.intValue() : null;
+    }
+
+    public List<String> getInvalidatedBy() {
+        return getList(String.class, INVALIDATED_BY);
+    }
+
+    public boolean isInherited() {
+        return getBool(IS_INHERITED);
+    }
+
+    public WebPDFExtension setIsInherited(boolean value) {
+        set(IS_INHERITED, value);
+        return this;
+    }
+
+    public List<String> getTypeHierarchy() {
+        return getList(String.class, TYPE_HIERARCHY);
+    }
+
+    public WebPDFExtension setTypeHierarchy(List<String> value) {
+        set(TYPE_HIERARCHY, value);
+        return this;
+    }
+
+    public boolean hasSubTypes() {
+        return getBool(HAS_SUB_TYPES);
+    }
+
+    public WebPDFExtension setHasSubTypes(boolean value) {
+        set(HAS_SUB_TYPES, value);
+        return this;
+    }
+
+    public String getInterfaceExtends() {
+        return getString(INTERFACE_EXTENDS);
+    }
+
+    public WebPDFExtension setInterfaceExtends(String value) {
+        set(INTERFACE_EXTENDS, value);
+        return this;
+    }
+
+    public String getMapValueDecoder() {
+        return getString(MAP_VALUE_DECODER);
+    }
+
+    public WebPDFExtension setMapValueDecoder(String value) {
+        set(MAP_VALUE_DECODER, value);
+        return this;
+    }
+
+    public String getMapValueEncoder() {
+        return getString(MAP_VALUE_ENCODER);
+    }
+
+    public WebPDFExtension setMapValueEncoder(String value) {
+        set(MAP_VALUE_ENCODER, value);
+        return this;
+    }
+
+    public String getTypedArray() {
+        return getString(TYPED_ARRAY);
+    }
+
+    public String getTypedArrayType() {
+        return getString(TYPED_ARRAY_TYPE);
+    }
+
+    public WebPDFExtension setTypedArrayType(String value) {
+        set(TYPED_ARRAY_TYPE, value);
+        return this;
+    }
+
+    public boolean isAssignInPlace() {
+        return getBool(ASSIGN_IN_PLACE);
+    }
+
+    public WebPDFExtension setAssignInPlace(boolean value) {
+        set(ASSIGN_IN_PLACE, value);
+        return this;
+    }
+
+    public String getBinaryField() {
+        return getString(BINARY_FIELD);
+    }
+
+    public WebPDFExtension setBinaryField(String value) {
+        set(BINARY_FIELD, value);
+        return this;
+    }
+
+    public WebPDFExtension setBinarySubTypes(List<Map<String, String>> value) {
+        set(BINARY_SUB_TYPES, value);
+        return this;
+    }
+
+    public String getCodecField() {
+        return getString(CODEC_FIELD);
+    }
+
+    public WebPDFExtension setCodecField(String value) {
+        set(CODEC_FIELD, value);
+        return this;
+    }
+
+    public String getProjectionDecoder() {
+        return getString(PROJECTION_DECODER);
+    }
+
+    public WebPDFExtension setProjectionDecoder(String value) {
+        set(PROJECTION_DECODER, value);
+        return this;
+    }
+
+    public String getModelMetadata() {
+        return getString(MODEL_METADATA);
+    }
+
+    public WebPDFExtension setModelMetadata(String value) {
+        set(MODEL_METADATA, value);
+        return this;
+    }
+
+    public String getAliasOf() {
+        return getString(ALIAS_OF);
+    }
+
+    public WebPDFExtension setAliasOf(String value) {
+        set(ALIAS_OF, value);
+        return this;
+    }
+
+    public String getAliasLocation() {
+        return getString(ALIAS_LOCATION);
+    }
+
+    public WebPDFExtension setAliasLocation(String value) {
+        set(ALIAS_LOCATION, value);
+        return this;
+    }
+
+    public List<String> getAliasImports() {
+        return getList(String.class, ALIAS_IMPORTS);
+    }
+
+    public WebPDFExtension setAliasImports(List<String> value) {
+        set(ALIAS_IMPORTS, value);
+        return this;
+    }
+
+    public WebPDFExtension setImportModules(List<Map<String, Object>> value) {
+        set(IMPORT_MODULES, value);
+        return this;
+    }
+
+    public void remove(WebPDFExtensionKey key) {
+        this.values.remove(key.getValue());
+    }
+
     public boolean contains(WebPDFExtensionKey key) {
         return this.values.containsKey(key.getValue());
     }
@@ -250,7 +452,18 @@ public class WebPDFExtension {
     }
 
     private static WebPDFExtension determineExtension(CodegenObject object) {
-        Object curExt = object.getVendorExtensions().get(EXTENSION_NAME);
+        return determineExtension(object.getVendorExtensions());
+    }
+
+    /**
+     * Determines the extension contained in the given vendor extensions of a specification element, that is not
+     * represented by a {@link CodegenObject} (such as an operation).
+     *
+     * @param vendorExtensions The vendor extensions to read the extension from.
+     * @return The {@link WebPDFExtension}.
+     */
+    public static WebPDFExtension determineExtension(Map<String, Object> vendorExtensions) {
+        Object curExt = vendorExtensions.get(EXTENSION_NAME);
         Map<String, Object> map = new HashMap<>();
         if (curExt instanceof Map) {
             for (Map.Entry<?, ?> entry : ((Map<?, ?>) curExt).entrySet()) {
@@ -259,10 +472,8 @@ public class WebPDFExtension {
                     map.put((String) entryKey, entry.getValue());
                 }
             }
-            object.getVendorExtensions().put(EXTENSION_NAME, map);
-            return new WebPDFExtension(map);
         }
-        object.getVendorExtensions().put(EXTENSION_NAME, map);
+        vendorExtensions.put(EXTENSION_NAME, map);
         return new WebPDFExtension(map);
     }
 
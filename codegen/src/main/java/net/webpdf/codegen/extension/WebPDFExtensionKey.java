@@ -22,7 +22,35 @@ public enum WebPDFExtensionKey {
     RELATIVE_INDEX_LOCATION("relativeIndexLocation"),
 
     ORDERED_INDEX("orderedIndex"),
-    DESCRIPTION("description");
+    DESCRIPTION("description"),
+    BENCHMARK_FIXTURE("benchmarkFixture"),
+    IS_READ_ONLY("isReadOnly"),
+    SKIP_DEFAULT("skipDefault"),
+    SKIP_EMPTY("skipEmpty"),
+    CACHEABLE("cacheable"),
+    CACHE_TTL("cacheTtl"),
+    INVALIDATED_BY("invalidatedBy"),
+    CACHEABLE_RESOURCES("cacheableResources"),
+    INVALIDATING_OPERATIONS("invalidatingOperations"),
+    IS_INHERITED("isInherited"),
+    TYPE_HIERARCHY("typeHierarchy"),
+    HAS_SUB_TYPES("hasSubTypes"),
+    INTERFACE_EXTENDS("interfaceExtends"),
+    MAP_VALUE_DECODER("mapValueDecoder"),
+    MAP_VALUE_ENCODER("mapValueEncoder"),
+    TYPED_ARRAY("typedArray"),
+    TYPED_ARRAY_TYPE("typedArrayType"),
+    ASSIGN_IN_PLACE("assignInPlace"),
+    BINARY_FIELD("binaryField"),
+    BINARY_SUB_TYPES("binarySubTypes"),
+    CODEC_FIELD("codecField"),
+    PROJECTION_DECODER("projectionDecoder"),
+    MODEL_METADATA("modelMetadata"),
+    ALIAS_OF("aliasOf"),
+    ALIAS_LOCATION("aliasLocation"),
+    ALIAS_IMPORTS("aliasImports"),
+    IMPORT_MODULES("importModules"),
+    PROJECTS("projects");
 
     private final String value;
 
@@ -0,0 +1,41 @@
+package net.webpdf.codegen.extension.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@SuppressWarnings("unused")
+public class CacheableResource {
+
+    private final String operationId;
+    private final String path;
+    private final int ttl;
+    private final List<String> invalidatedBy = new ArrayList<>();
+
+    public CacheableResource(String operationId, String path, int ttl) {
+        this.operationId = operationId;
+        this.path = path;
+        this.ttl = ttl;
+    }
+
+    public String getOperationId() {
+        return operationId;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getTtl() {
+        return ttl;
+    }
+
+    public List<String> getInvalidatedBy() {
+        return invalidatedBy;
+    }
+
+    public CacheableResource addInvalidatedBy(String operationId) {
+        this.invalidatedBy.add(operationId);
+        return this;
+    }
+
+}
@@ -65,16 +65,62 @@ public class Index implements Iterable<IndexEntry> {
         WebPDFExtension extensions = WebPDFExtension.determineExtension(entry.getModel(), modelPackage);
         String parentName = extensions.getParentClassName();
         String extendsName = extensions.getExtends();
+        String aliasName = extensions.getAliasOf();
         if (names.containsKey(parentName)) {
             addOrdered(orderedList, names.get(parentName), modelPackage);
         }
         if (names.containsKey(extendsName)) {
             addOrdered(orderedList, names.get(extendsName), modelPackage);
         }
+        // an alias is initialized from the type it refers to
+        if (names.containsKey(aliasName)) {
+            addOrdered(orderedList, names.get(aliasName), modelPackage);
+        }
 
         orderedList.add(entry);
     }
 
+    /**
+     * Removes all entries, that are neither exporting one of the given names, nor imported by a retained entry
+     * (directly or indirectly).
+     *
+     * @param exportedNames The names of the types to retain.
+     * @return This {@link Index}.
+     * @throws IllegalArgumentException Shall be thrown, if a name is not exported by this {@link Index}.
+     */
+    public Index retain(Collection<String> exportedNames) {
+        Set<IndexEntry> retained = new HashSet<>();
+        Deque<IndexEntry> pending = new ArrayDeque<>();
+        for (String exportedName : exportedNames) {
+            if (!names.containsKey(exportedName)) {
+                throw new IllegalArgumentException("The type " + exportedName + " is not part of the index.");
+            }
+            pending.add(names.get(exportedName));
+        }
+        while (!pending.isEmpty()) {
+            IndexEntry entry = pending.poll();
+            if (!retained.add(entry)) {
+                continue;
+            }
+            WebPDFExtension extensions = WebPDFExtension.determineExtension(entry.getModel(), modelPackage);
+            List<String> imports = new ArrayList<>();
+            if (extensions.getImports() != null) {
+                imports.addAll(extensions.getImports());
+            }
+            if (extensions.getAliasImports() != null) {
+                imports.addAll(extensions.getAliasImports());
+            }
+            for (String importName : imports) {
+                if (names.containsKey(importName)) {
+                    pending.add(names.get(importName));
+                }
+            }
+        }
+        orderedEntries.retainAll(retained);
+        names.values().retainAll(retained);
+        return this;
+    }
+
     public List<IndexEntry> getOrderedEntries() {
         return orderedEntries;
     }
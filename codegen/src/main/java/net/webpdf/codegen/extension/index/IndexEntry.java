@@ -10,6 +10,8 @@ import java.util.List;
 @SuppressWarnings("unused")
 public class IndexEntry implements Iterable<String> {
 
+    private static final String INTERFACE_SUFFIX = "Interface";
+
     private final List<String> exportedTypeNames = new ArrayList<>();
     private final String fileLocation;
     private final String packageLocation;
@@ -45,6 +47,23 @@ public class IndexEntry implements Iterable<String> {
         return names.toString();
     }
 
+    /**
+     * @return The exported names, that are present at runtime (omitting interfaces and type aliases).
+     */
+    public List<String> getExportedValueNames() {
+        List<String> names = new ArrayList<>();
+        if (!model.getIsEnum() && !Boolean.TRUE.equals(model.getIsObject())) {
+            return names;
+        }
+        for (String name : exportedTypeNames) {
+            if (!name.endsWith(INTERFACE_SUFFIX) ||
+                    !exportedTypeNames.contains(name.substring(0, name.length() - INTERFACE_SUFFIX.length()))) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
     public WebPDFExtension getWebPDFExtensions(String modelPackage) {
         return WebPDFExtension.determineExtension(model, modelPackage);
     }
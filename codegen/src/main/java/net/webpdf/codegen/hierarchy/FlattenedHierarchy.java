@@ -0,0 +1,126 @@
+package net.webpdf.codegen.hierarchy;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import net.webpdf.codegen.extension.WebPDFExtension;
+import net.webpdf.codegen.names.TypeName;
+
+import java.util.*;
+
+import static net.webpdf.codegen.extension.WebPDFExtensionKey.*;
+
+/**
+ * Flattens the "extends" and "parentClassName" hierarchies of the generated models, so that every class declares
+ * and initializes all of its properties itself. The hierarchy is kept for the emitted interfaces and is
+ * reproduced for "instanceof" checks via the "typeHierarchy" of each class.
+ */
+public class FlattenedHierarchy {
+
+    private final Map<String, CodegenModel> allModels;
+    private final String modelPackage;
+    private final Map<String, CodegenModel> modelsByTypeName = new HashMap<>();
+    private final Map<CodegenModel, List<CodegenModel>> ancestors = new IdentityHashMap<>();
+
+    public FlattenedHierarchy(Map<String, CodegenModel> allModels, String modelPackage) {
+        this.allModels = allModels;
+        this.modelPackage = modelPackage;
+        for (CodegenModel model : allModels.values()) {
+            modelsByTypeName.put(new TypeName(model.getClassname()).getName(), model);
+        }
+    }
+
+    /**
+     * Copies the inherited properties into every model, ancestors first and in declaration order. A property
+     * redeclared by a sub type keeps the position of the inherited property.
+     */
+    public void flattenVars() {
+        Map<CodegenModel, List<CodegenProperty>> ownVars = new IdentityHashMap<>();
+        for (CodegenModel model : allModels.values()) {
+            if (!model.getIsEnum()) {
+                ownVars.put(model, new ArrayList<>(model.getVars()));
+                ancestors.put(model, collectAncestors(model));
+            }
+        }
+
+        for (Map.Entry<CodegenModel, List<CodegenModel>> entry : ancestors.entrySet()) {
+            CodegenModel model = entry.getKey();
+            List<CodegenModel> modelAncestors = entry.getValue();
+            if (modelAncestors.isEmpty()) {
+                continue;
+            }
+
+            Map<String, CodegenProperty> vars = new LinkedHashMap<>();
+            for (int i = modelAncestors.size() - 1; i >= 0; i--) {
+                for (CodegenProperty property : ownVars.get(modelAncestors.get(i))) {
+                    vars.put(property.getBaseName(), inheritedCopy(property));
+                }
+            }
+            for (CodegenProperty property : ownVars.get(model)) {
+                vars.put(property.getBaseName(), property);
+            }
+            model.setVars(new ArrayList<>(vars.values()));
+
+            for (CodegenModel ancestor : modelAncestors) {
+                WebPDFExtension.determineExtension(ancestor, modelPackage).setHasSubTypes(true);
+            }
+        }
+    }
+
+    /**
+     * Removes the class inheritance from all models. The super type is kept as "interfaceExtends" for the emitted
+     * interface and the names of all super types are provided as "typeHierarchy".
+     */
+    public void detachClasses() {
+        for (Map.Entry<CodegenModel, List<CodegenModel>> entry : ancestors.entrySet()) {
+            CodegenModel model = entry.getKey();
+            WebPDFExtension extension = WebPDFExtension.determineExtension(model, modelPackage);
+            if (entry.getValue().isEmpty() && !extension.hasSubTypes()) {
+                continue;
+            }
+
+            List<String> typeHierarchy = new ArrayList<>();
+            typeHierarchy.add(extension.getTypeClassName());
+            for (CodegenModel ancestor : entry.getValue()) {
+                typeHierarchy.add(WebPDFExtension.determineExtension(ancestor, modelPackage).getTypeClassName());
+            }
+            extension.setTypeHierarchy(typeHierarchy);
+
+            String superType = superTypeName(extension);
+            if (superType != null) {
+                extension.setInterfaceExtends(superType);
+                extension.remove(EXTENDS);
+                extension.remove(EXTENDS_PACKAGE);
+                extension.remove(PARENT_CLASS_NAME);
+                extension.remove(PARENT_PACKAGE_NAME);
+            }
+        }
+    }
+
+    private List<CodegenModel> collectAncestors(CodegenModel model) {
+        List<CodegenModel> result = new ArrayList<>();
+        Set<CodegenModel> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        visited.add(model);
+        CodegenModel current = model;
+        String superType;
+        while ((superType = superTypeName(WebPDFExtension.determineExtension(current, modelPackage))) != null) {
+            current = modelsByTypeName.get(superType);
+            if (current == null || !visited.add(current)) {
+                break;
+            }
+            result.add(current);
+        }
+        return result;
+    }
+
+    private static String superTypeName(WebPDFExtension extension) {
+        return extension.getExtends() != null ? extension.getExtends() : extension.getParentClassName();
+    }
+
+    private static CodegenProperty inheritedCopy(CodegenProperty property) {
+        CodegenProperty copy = property.clone();
+        copy.setVendorExtensions(new HashMap<>(property.getVendorExtensions()));
+        WebPDFExtension.determineExtension(copy.getVendorExtensions()).setIsInherited(true);
+        return copy;
+    }
+
+}
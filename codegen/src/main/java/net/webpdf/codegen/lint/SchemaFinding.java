@@ -0,0 +1,40 @@
+package net.webpdf.codegen.lint;
+
+/**
+ * A specification pattern detected by the {@link SchemaLint}.
+ */
+public class SchemaFinding {
+
+    private final SchemaRule rule;
+    private final String path;
+    private final int cost;
+
+    /**
+     * @param rule The {@link SchemaRule} that has been violated.
+     * @param path The JSON pointer of the offending schema (such as "#/components/schemas/Name/properties/value").
+     * @param cost The estimated cost, as defined by the {@link SchemaRule}.
+     */
+    public SchemaFinding(SchemaRule rule, String path, int cost) {
+        this.rule = rule;
+        this.path = path;
+        this.cost = cost;
+    }
+
+    public SchemaRule getRule() {
+        return rule;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String toString() {
+        return rule.getDescription() + " at " + path + " (estimated cost " + cost + "): " + rule.getRemedy();
+    }
+
+}
@@ -0,0 +1,166 @@
+package net.webpdf.codegen.lint;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import net.webpdf.codegen.extension.WebPDFExtension;
+
+import java.util.*;
+
+/**
+ * Detects the patterns of a specification, that cause expensive generated code (see {@link SchemaRule}), so that
+ * they may be fixed in the specification, before they reach the hot paths of a client. The schemas are analyzed
+ * as they have been parsed, before any model is generated, so that the findings refer to the specification itself.
+ */
+public class SchemaLint {
+
+    private static final String SCHEMA_PATH = "#/components/schemas/";
+    // A class and its parent are common, starting with a grandparent the spreads of toJson() add up.
+    private static final int MIN_CHAIN_DEPTH = 2;
+    private static final int MIN_ENUM_VALUES = 16;
+    // An untyped value is copied and compared generically, which is estimated as expensive as this many fields.
+    private static final int UNTYPED_VALUE_COST = 8;
+
+    private final Map<String, Schema> schemas;
+
+    @SuppressWarnings("rawtypes")
+    public SchemaLint(OpenAPI openAPI) {
+        this.schemas = openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null ?
+                openAPI.getComponents().getSchemas() : Collections.<String, Schema>emptyMap();
+    }
+
+    /**
+     * Analyzes all schemas of the specification.
+     *
+     * @return The {@link SchemaFinding}s, the most expensive first.
+     */
+    @SuppressWarnings("rawtypes")
+    public List<SchemaFinding> analyze() {
+        List<SchemaFinding> findings = new ArrayList<>();
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            String path = SCHEMA_PATH + schema.getKey();
+            analyzeOneOf(findings, path, schema.getValue());
+            analyzeChain(findings, path, schema.getKey());
+            analyzeSchema(findings, path, schema.getValue(), false);
+        }
+        findings.sort(Comparator.comparingInt(SchemaFinding::getCost).reversed()
+                .thenComparing(SchemaFinding::getPath));
+        return findings;
+    }
+
+    private void analyzeOneOf(List<SchemaFinding> findings, String path, Schema<?> schema) {
+        if (!(schema instanceof ComposedSchema) || schema.getDiscriminator() != null) {
+            return;
+        }
+        List<Schema> oneOf = ((ComposedSchema) schema).getOneOf();
+        if (oneOf != null && oneOf.size() > 1) {
+            findings.add(new SchemaFinding(SchemaRule.UNDISCRIMINATED_ONE_OF, path + "/oneOf", oneOf.size()));
+        }
+    }
+
+    /**
+     * The properties of the n-th ancestor of a class are copied n times by a single toJson() call, as each level
+     * spreads the result of its super class.
+     */
+    private void analyzeChain(List<SchemaFinding> findings, String path, String name) {
+        List<String> ancestors = new ArrayList<>();
+        String parent = parentName(schemas.get(name));
+        while (parent != null && schemas.containsKey(parent) && !parent.equals(name) && !ancestors.contains(parent)) {
+            ancestors.add(parent);
+            parent = parentName(schemas.get(parent));
+        }
+        if (ancestors.size() < MIN_CHAIN_DEPTH) {
+            return;
+        }
+        int cost = 0;
+        for (int level = 0; level < ancestors.size(); level++) {
+            cost += (level + 1) * propertyCount(schemas.get(ancestors.get(level)));
+        }
+        findings.add(new SchemaFinding(SchemaRule.DEEP_ALL_OF_CHAIN, path, cost));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void analyzeSchema(List<SchemaFinding> findings, String path, Schema<?> schema, boolean inline) {
+        if (schema == null || schema.get$ref() != null) {
+            return;
+        }
+        if (inline && schema.getEnum() != null && schema.getEnum().size() >= MIN_ENUM_VALUES &&
+                (schema.getExtensions() == null ||
+                        WebPDFExtension.determineExtension(schema.getExtensions()).getEnumName() == null)) {
+            findings.add(new SchemaFinding(SchemaRule.LARGE_INLINE_ENUM, path, schema.getEnum().size()));
+        }
+        if (isUntyped(schema.getAdditionalProperties())) {
+            findings.add(new SchemaFinding(SchemaRule.UNTYPED_ADDITIONAL_PROPERTIES, path + "/additionalProperties",
+                    UNTYPED_VALUE_COST));
+        }
+        if (schema.getProperties() != null) {
+            for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
+                analyzeSchema(findings, path + "/properties/" + property.getKey(), property.getValue(), true);
+            }
+        }
+        if (schema instanceof ArraySchema) {
+            analyzeSchema(findings, path + "/items", ((ArraySchema) schema).getItems(), true);
+        }
+        if (schema instanceof ComposedSchema && ((ComposedSchema) schema).getAllOf() != null) {
+            List<Schema> allOf = ((ComposedSchema) schema).getAllOf();
+            for (int i = 0; i < allOf.size(); i++) {
+                analyzeSchema(findings, path + "/allOf/" + i, allOf.get(i), inline);
+            }
+        }
+    }
+
+    /**
+     * Additional properties are emitted as "any", if they are allowed without a schema or by a schema, that does not
+     * declare any structure.
+     */
+    private boolean isUntyped(Object additionalProperties) {
+        if (additionalProperties instanceof Boolean) {
+            return (Boolean) additionalProperties;
+        }
+        if (!(additionalProperties instanceof Schema)) {
+            return false;
+        }
+        Schema<?> schema = (Schema<?>) additionalProperties;
+        return schema.get$ref() == null && schema.getProperties() == null && schema.getAdditionalProperties() == null &&
+                !(schema instanceof ComposedSchema) && (schema.getType() == null || "object".equals(schema.getType()));
+    }
+
+    /**
+     * The parent of a schema is either referenced by its "allOf" composition or set by the "extends" extension.
+     */
+    @SuppressWarnings("rawtypes")
+    private String parentName(Schema<?> schema) {
+        if (schema == null) {
+            return null;
+        }
+        if (schema.getExtensions() != null) {
+            String parent = WebPDFExtension.determineExtension(schema.getExtensions()).getExtends();
+            if (parent != null) {
+                return parent;
+            }
+        }
+        if (schema instanceof ComposedSchema && ((ComposedSchema) schema).getAllOf() != null) {
+            for (Schema allOf : ((ComposedSchema) schema).getAllOf()) {
+                if (allOf.get$ref() != null) {
+                    return allOf.get$ref().substring(allOf.get$ref().lastIndexOf('/') + 1);
+                }
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private int propertyCount(Schema<?> schema) {
+        int count = schema.getProperties() != null ? schema.getProperties().size() : 0;
+        if (schema instanceof ComposedSchema && ((ComposedSchema) schema).getAllOf() != null) {
+            for (Schema allOf : ((ComposedSchema) schema).getAllOf()) {
+                if (allOf.get$ref() == null && allOf.getProperties() != null) {
+                    count += allOf.getProperties().size();
+                }
+            }
+        }
+        return count;
+    }
+
+}
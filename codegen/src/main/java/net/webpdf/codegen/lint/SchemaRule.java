@@ -0,0 +1,49 @@
+package net.webpdf.codegen.lint;
+
+/**
+ * The specification patterns reported by the {@link SchemaLint}, each of which causes expensive generated code.
+ */
+public enum SchemaRule {
+
+    /**
+     * A "oneOf" schema without a discriminator, whose sub type is selected by probing the first property of each
+     * alternative in fromJson(). The cost is the number of probed alternatives.
+     */
+    UNDISCRIMINATED_ONE_OF("oneOf without discriminator",
+            "add a discriminator, so that the sub type is selected by a single lookup"),
+    /**
+     * A class extending further classes via "allOf" or the "extends" extension. Each level spreads the result of
+     * its super class in toJson(), the cost is the number of properties copied by these spreads.
+     */
+    DEEP_ALL_OF_CHAIN("deep allOf chain",
+            "flatten the chain, so that toJson() does not copy the inherited properties per level"),
+    /**
+     * An enum declared inline by a property, which is emitted as union type into every model using it. The cost is
+     * the number of enum values.
+     */
+    LARGE_INLINE_ENUM("large inline enum",
+            "declare the enum as schema of its own or extract it via the \"enumName\" extension"),
+    /**
+     * An object accepting arbitrary additional properties, which is emitted as "any" and therefore copied and
+     * compared by walking its values generically. The cost is a fixed estimate.
+     */
+    UNTYPED_ADDITIONAL_PROPERTIES("untyped additionalProperties",
+            "declare a schema for the additional properties");
+
+    private final String description;
+    private final String remedy;
+
+    SchemaRule(String description, String remedy) {
+        this.description = description;
+        this.remedy = remedy;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getRemedy() {
+        return remedy;
+    }
+
+}
@@ -0,0 +1,107 @@
+package net.webpdf.codegen.metadata;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import net.webpdf.codegen.extension.WebPDFExtension;
+import net.webpdf.codegen.names.TypeName;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static net.webpdf.codegen.extension.WebPDFExtensionKey.EXTENDS;
+import static net.webpdf.codegen.extension.WebPDFExtensionKey.PARENT_CLASS_NAME;
+
+/**
+ * Collects the descriptions and the min/max constraints of the generated models, which are emitted to the lazily
+ * loaded "ModelMetadata" module instead of the static getters of the generated classes. Properties inherited from
+ * a parent class are looked up via the "parent" of a model, as it has been the case for the static getters.
+ */
+public class MetadataSidecar {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, CodegenModel> allModels;
+    private final String modelPackage;
+
+    public MetadataSidecar(Map<String, CodegenModel> allModels, String modelPackage) {
+        this.allModels = allModels;
+        this.modelPackage = modelPackage;
+    }
+
+    /**
+     * Sets the metadata of all models, that provide a description, a parent or described properties.
+     */
+    public void apply() {
+        for (CodegenModel model : allModels.values()) {
+            WebPDFExtension modelExtensions = WebPDFExtension.determineExtension(model, modelPackage);
+            Map<String, Object> metadata = new LinkedHashMap<>();
+            if (model.getUnescapedDescription() != null) {
+                metadata.put("description", model.getUnescapedDescription());
+            }
+            if (!model.getIsEnum()) {
+                String parent = parentName(modelExtensions);
+                if (parent != null) {
+                    metadata.put("parent", parent);
+                }
+                Map<String, Object> properties = new LinkedHashMap<>();
+                for (CodegenProperty property : model.getVars()) {
+                    Map<String, Object> propertyMetadata = propertyMetadata(property);
+                    if (!propertyMetadata.isEmpty()) {
+                        properties.put(property.getName(), propertyMetadata);
+                    }
+                }
+                if (!properties.isEmpty()) {
+                    metadata.put("properties", properties);
+                }
+            }
+            if (!metadata.isEmpty()) {
+                modelExtensions.setModelMetadata(toJson(metadata));
+            }
+        }
+    }
+
+    private Map<String, Object> propertyMetadata(CodegenProperty property) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        if (property.getUnescapedDescription() != null) {
+            metadata.put("description", property.getUnescapedDescription());
+        }
+        if (Boolean.TRUE.equals(property.getIsNumeric())) {
+            putNumber(metadata, "min", property.getMinimum());
+            putNumber(metadata, "max", property.getMaximum());
+        }
+        return metadata;
+    }
+
+    private void putNumber(Map<String, Object> metadata, String key, String value) {
+        if (value == null) {
+            return;
+        }
+        try {
+            metadata.put(key, new BigDecimal(value));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("The " + key + " constraint '" + value + "' is not a number.", ex);
+        }
+    }
+
+    private String parentName(WebPDFExtension modelExtensions) {
+        if (modelExtensions.contains(EXTENDS)) {
+            return new TypeName(modelExtensions.getExtendsPackage() + "." + modelExtensions.getExtends()).getName();
+        }
+        if (modelExtensions.contains(PARENT_CLASS_NAME)) {
+            return new TypeName(modelExtensions.getParentPackageName() + "." +
+                    modelExtensions.getParentClassName()).getName();
+        }
+        return null;
+    }
+
+    private String toJson(Map<String, Object> metadata) {
+        try {
+            return mapper.writeValueAsString(metadata);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize the metadata " + metadata, ex);
+        }
+    }
+
+}
@@ -10,13 +10,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class ModelName {
 
     private static final String GENERATOR_CONFIG = "/generator_config.json";
 
-    private static final List<PackagePrefix> packagePrefixes = new ArrayList<>();
+    private static final List<PackagePrefix> packagePrefixes = Collections.unmodifiableList(initPackageInfo());
 
     private final String className;
     private String packageName = "";
@@ -24,7 +25,7 @@ public class ModelName {
 
     public ModelName(String path) {
         String className = path;
-        for (PackagePrefix prefix : initPackageInfo()) {
+        for (PackagePrefix prefix : packagePrefixes) {
             if (path.startsWith(prefix.getAPIPrefix())) {
                 className = prefix.shallPreservePrefix(className) ?
                         className :
@@ -41,32 +42,35 @@ public class ModelName {
         this.className = classNameBuilder.toString();
     }
 
+    /**
+     * Reads the package prefixes from the generator configuration. The prefixes are read once, when the class is
+     * initialized, so that models may be named concurrently by generators running in parallel.
+     */
     private static List<PackagePrefix> initPackageInfo() {
-        if (packagePrefixes.isEmpty()) {
-            try (InputStream config = Model.class.getResourceAsStream(GENERATOR_CONFIG)) {
-                if (config != null) {
-                    ObjectMapper mapper = new ObjectMapper();
-                    JsonNode configNode = mapper.readTree(
-                            IOUtils.toString(config, StandardCharsets.UTF_8));
-                    JsonNode prefixes = configNode.at("/packages");
-                    for (JsonNode prefix : prefixes) {
-                        JsonNode preserve = prefix.get("preservePrefix");
-                        List<String> preserveTypes = new ArrayList<>();
-                        if (preserve != null) {
-                            for (JsonNode node : preserve) {
-                                preserveTypes.add(node.asText());
-                            }
+        List<PackagePrefix> packagePrefixes = new ArrayList<>();
+        try (InputStream config = Model.class.getResourceAsStream(GENERATOR_CONFIG)) {
+            if (config != null) {
+                ObjectMapper mapper = new ObjectMapper();
+                JsonNode configNode = mapper.readTree(
+                        IOUtils.toString(config, StandardCharsets.UTF_8));
+                JsonNode prefixes = configNode.at("/packages");
+                for (JsonNode prefix : prefixes) {
+                    JsonNode preserve = prefix.get("preservePrefix");
+                    List<String> preserveTypes = new ArrayList<>();
+                    if (preserve != null) {
+                        for (JsonNode node : preserve) {
+                            preserveTypes.add(node.asText());
                         }
-                        packagePrefixes.add(new PackagePrefix(
-                                prefix.get("prefix").asText(""),
-                                prefix.get("location").asText(""),
-                                preserveTypes
-                        ));
                     }
+                    packagePrefixes.add(new PackagePrefix(
+                            prefix.get("prefix").asText(""),
+                            prefix.get("location").asText(""),
+                            preserveTypes
+                    ));
                 }
-            } catch (IOException ex) {
-                // IGNORE
             }
+        } catch (IOException ex) {
+            // IGNORE
         }
         return packagePrefixes;
     }
@@ -0,0 +1,71 @@
+package net.webpdf.codegen.options;
+
+import java.util.Map;
+
+public enum CodegenOption {
+
+    GENERATE_BENCHMARKS("generateBenchmarks",
+            "Emits a Node benchmark suite for all generated models next to the generated sources."),
+    SPARSE_JSON("sparseJson",
+            "Omits undefined values, values equal to the schema default and read only properties in toJson()."),
+    FLATTEN_HIERARCHY("flattenHierarchy",
+            "Flattens inherited properties into each generated class instead of emitting class hierarchies."),
+    NATIVE_MAPS("nativeMaps",
+            "Emits additionalProperties containers as ES Map instances instead of plain objects."),
+    TYPED_ARRAYS("typedArrays",
+            "Emits numeric arrays as typed arrays (Float64Array, or Int32Array for int32 items), converted at the JSON boundary."),
+    BINARY_CODEC("binaryCodec",
+            "Emits toBinary() and fromBinary() methods encoding the JSON representation of models as MessagePack."),
+    INSTRUMENTATION("instrumentation",
+            "Reports the duration of fromJson(), toJson() and clone() to a hook registered via ParameterHooks."),
+    METADATA_SIDECAR("metadataSidecar",
+            "Moves property descriptions and min/max constraints to a lazily loaded ModelMetadata module."),
+    FLUENT_BUILDERS("fluentBuilders",
+            "Emits a typed builder per model, which sets the fields of the model without decoding a JSON literal."),
+    DIRTY_TRACKING("dirtyTracking",
+            "Emits setters tracking the changed fields of models and changedFields(), markUnchanged() and diff()."),
+    DEDUPLICATE_SCHEMAS("deduplicateSchemas",
+            "Emits structurally identical enums and object schemas once and exports the duplicates as aliases."),
+    PROJECT_REFERENCES("projectReferences",
+            "Emits a composite tsconfig.json per generated package, so that \"tsc --build\" rebuilds changed packages only."),
+    JS_MODELS("jsModels",
+            "Emits the models as JavaScript (CommonJS) with matching .d.ts declarations, which need no compilation by tsc."),
+    TABLE_CODEC("tableCodec",
+            "Emits a descriptor table per model, interpreted by a shared ModelCodec instead of generating code per model."),
+    SINGLE_FILE("singleFile",
+            "Emits the support code and all models (or the \"singleFileTypes\") into a single index.ts without imports."),
+    PROJECTIONS("projections",
+            "Emits projectFields() per model, which decodes only the fields selected via ModelProjection.project().");
+
+    private final String value;
+    private final String description;
+
+    CodegenOption(String value, String description) {
+        this.value = value;
+        this.description = description;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Checks whether this option has been enabled in the given generator properties. Options may either be set as
+     * {@link Boolean} or as {@link String} (as it is the case for Maven "configOptions").
+     *
+     * @param additionalProperties The generator properties to check.
+     * @return true, if the option is enabled.
+     */
+    public boolean isEnabled(Map<String, Object> additionalProperties) {
+        Object option = additionalProperties.get(value);
+        if (option instanceof Boolean) {
+            return (Boolean) option;
+        }
+        return option != null && Boolean.parseBoolean(option.toString().trim());
+    }
+
+}
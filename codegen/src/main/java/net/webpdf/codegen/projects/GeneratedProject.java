@@ -0,0 +1,102 @@
+package net.webpdf.codegen.projects;
+
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * A composite TypeScript project, that is emitted as a tsconfig.json listing the files of the project and referencing
+ * the projects it depends on, as well as an index exporting all types of the project.
+ */
+@SuppressWarnings("unused")
+public class GeneratedProject {
+
+    private final String directory;
+    private final String configName;
+    private final String indexName;
+    private final List<String> files = new ArrayList<>();
+    private final List<Map<String, String>> exports = new ArrayList<>();
+    private final Set<GeneratedProject> references = new LinkedHashSet<>();
+
+    /**
+     * @param directory  The directory of the project, relative to the generated sources.
+     * @param configName The file name of the project's tsconfig.json.
+     * @param indexName  The file name of the project's index (without extension).
+     */
+    GeneratedProject(String directory, String configName, String indexName) {
+        this.directory = directory;
+        this.configName = configName;
+        this.indexName = indexName;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    public String getIndexFileName() {
+        return indexName + ".ts";
+    }
+
+    /**
+     * @return The location of the project's index relative to the generated sources, as it is used by imports.
+     */
+    public String getIndexLocation() {
+        return directory.isEmpty() ? indexName : directory + "/" + indexName;
+    }
+
+    /**
+     * @return The relative path leading from the project's directory to the generated sources.
+     */
+    public String getRootLocation() {
+        return directory.isEmpty() ? "./" : directory.replaceAll("[^/]+", "..") + "/";
+    }
+
+    public List<String> getFiles() {
+        return files;
+    }
+
+    public List<Map<String, String>> getExports() {
+        return exports;
+    }
+
+    public List<String> getReferences() {
+        List<String> paths = new ArrayList<>();
+        for (GeneratedProject reference : references) {
+            paths.add(relativize(reference.getDirectory().isEmpty() ? reference.getConfigName() :
+                    reference.getDirectory() + "/" + reference.getConfigName()));
+        }
+        return paths;
+    }
+
+    /**
+     * Adds the given file (relative to the generated sources) to this project and exports the given names from it.
+     *
+     * @param file  The file to add (without extension).
+     * @param names The names to export or "*" to export all names of the file.
+     */
+    void addFile(String file, String names) {
+        String location = relativize(file);
+        files.add((location.startsWith("./") ? location.substring(2) : location) + ".ts");
+        if (names != null) {
+            Map<String, String> export = new HashMap<>();
+            export.put("names", names);
+            export.put("location", location);
+            exports.add(export);
+        }
+    }
+
+    void addReference(GeneratedProject project) {
+        if (project != this) {
+            references.add(project);
+        }
+    }
+
+    private String relativize(String file) {
+        String path = Path.of(directory).relativize(Path.of(file)).toString().replace('\\', '/');
+        return path.startsWith(".") ? path : "./" + path;
+    }
+
+}
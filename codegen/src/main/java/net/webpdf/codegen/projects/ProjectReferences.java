@@ -0,0 +1,145 @@
+package net.webpdf.codegen.projects;
+
+import io.swagger.codegen.v3.CodegenModel;
+import net.webpdf.codegen.extension.WebPDFExtension;
+import net.webpdf.codegen.extension.index.Index;
+import net.webpdf.codegen.extension.index.IndexEntry;
+
+import java.util.*;
+
+/**
+ * Splits the generated sources into composite TypeScript projects, so that "tsc --build" only rebuilds the packages,
+ * that have been changed, and the packages depending on them. Each package becomes a project referencing the projects
+ * of the packages it imports from. As project references must not be cyclic, packages importing from each other are
+ * merged into a single project. The support files (such as Parameter.ts) form a project of their own.
+ * <p>
+ * The root index.ts is not part of any project, the models therefore import the types of a project from the index of
+ * that project instead. The root index.ts exports the indices of all projects in the order of their dependencies.
+ */
+public class ProjectReferences {
+
+    private static final String CONFIG_NAME = "tsconfig.json";
+    private static final String INDEX_NAME = "index";
+    private static final String ROOT_CONFIG_NAME = "tsconfig.models.json";
+    private static final String ROOT_INDEX_NAME = "Models";
+    private static final String SUPPORT_CONFIG_NAME = "tsconfig.support.json";
+    private static final String SUPPORT_INDEX_NAME = "ModelSupport";
+
+    private final Index index;
+    private final String modelPackage;
+    private final List<String> supportFiles;
+    private final Set<String> internalSupportFiles;
+
+    /**
+     * @param index                The sorted index of all generated models.
+     * @param modelPackage         The package of the generated models.
+     * @param supportFiles         The support files (without extension) generated next to the root index.ts.
+     * @param internalSupportFiles The support files, that shall not be exported by the index of the support project.
+     */
+    public ProjectReferences(Index index, String modelPackage, List<String> supportFiles,
+            Set<String> internalSupportFiles) {
+        this.index = index;
+        this.modelPackage = modelPackage;
+        this.supportFiles = supportFiles;
+        this.internalSupportFiles = internalSupportFiles;
+    }
+
+    /**
+     * Assigns the generated models to their projects and groups the imports of each model by the index of the project
+     * declaring the imported types.
+     *
+     * @return The support project followed by the model projects, each project following the projects it depends on.
+     */
+    public List<GeneratedProject> apply() {
+        Map<String, Set<String>> dependencies = new TreeMap<>();
+        for (IndexEntry entry : index) {
+            Set<String> packageDependencies =
+                    dependencies.computeIfAbsent(packageOf(entry), name -> new TreeSet<>());
+            for (String name : importedNames(entry.getModel())) {
+                IndexEntry imported = index.get(name);
+                if (imported != null) {
+                    packageDependencies.add(packageOf(imported));
+                }
+            }
+        }
+
+        GeneratedProject support = new GeneratedProject("", SUPPORT_CONFIG_NAME, SUPPORT_INDEX_NAME);
+        for (String file : supportFiles) {
+            support.addFile(file, internalSupportFiles.contains(file) ? null : "*");
+        }
+        support.addFile(SUPPORT_INDEX_NAME, null);
+        List<GeneratedProject> projects = new ArrayList<>();
+        projects.add(support);
+
+        Map<String, GeneratedProject> packageProjects = new HashMap<>();
+        for (List<String> packages : new StronglyConnectedPackages(dependencies).determineComponents()) {
+            // The packages are sorted, the first one is therefore the outermost package of the project.
+            String directory = packages.get(0);
+            GeneratedProject project = directory.isEmpty() ?
+                    new GeneratedProject(directory, ROOT_CONFIG_NAME, ROOT_INDEX_NAME) :
+                    new GeneratedProject(directory, CONFIG_NAME, INDEX_NAME);
+            for (String packageName : packages) {
+                packageProjects.put(packageName, project);
+            }
+            projects.add(project);
+        }
+
+        for (IndexEntry entry : index) {
+            GeneratedProject project = packageProjects.get(packageOf(entry));
+            String file = fileOf(entry);
+            if (file.equals(project.getIndexLocation())) {
+                throw new IllegalArgumentException(
+                        "The model " + file + " collides with the index of its TypeScript project.");
+            }
+            project.addFile(file, "{ " + entry.getExportedNames() + " }");
+            project.addReference(support);
+
+            Map<String, List<String>> modules = new TreeMap<>();
+            for (String name : importedNames(entry.getModel())) {
+                IndexEntry imported = index.get(name);
+                GeneratedProject importedProject = imported != null ?
+                        packageProjects.get(packageOf(imported)) : support;
+                project.addReference(importedProject);
+                modules.computeIfAbsent(importedProject.getIndexLocation(), location -> new ArrayList<>())
+                        .add(name);
+            }
+            WebPDFExtension modelExtensions = entry.getWebPDFExtensions(modelPackage);
+            if (modelExtensions.getImports() != null && modelExtensions.getRelativeIndexLocation() != null) {
+                String indexLocation = modelExtensions.getRelativeIndexLocation();
+                String rootLocation = indexLocation.substring(0, indexLocation.lastIndexOf('/') + 1);
+                List<Map<String, Object>> importModules = new ArrayList<>();
+                for (Map.Entry<String, List<String>> module : modules.entrySet()) {
+                    Map<String, Object> importModule = new HashMap<>();
+                    importModule.put("location", rootLocation + module.getKey());
+                    importModule.put("names", module.getValue());
+                    importModules.add(importModule);
+                }
+                modelExtensions.setImportModules(importModules);
+            }
+        }
+        for (GeneratedProject project : projects.subList(1, projects.size())) {
+            project.addFile(project.getIndexLocation(), null);
+        }
+        return projects;
+    }
+
+    /**
+     * Aliases import their canonical type from its file, all other models import their types from the root index.
+     */
+    private List<String> importedNames(CodegenModel model) {
+        WebPDFExtension modelExtensions = WebPDFExtension.determineExtension(model, modelPackage);
+        List<String> names = modelExtensions.getAliasOf() != null ?
+                modelExtensions.getAliasImports() : modelExtensions.getImports();
+        return names != null ? names : Collections.emptyList();
+    }
+
+    private String packageOf(IndexEntry entry) {
+        String file = fileOf(entry);
+        return file.contains("/") ? file.substring(0, file.lastIndexOf('/')) : "";
+    }
+
+    private String fileOf(IndexEntry entry) {
+        return entry.getFileLocation().replaceAll("/+", "/").replaceFirst("^\\./", "");
+    }
+
+}
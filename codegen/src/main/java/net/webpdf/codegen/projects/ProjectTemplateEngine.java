@@ -0,0 +1,60 @@
+package net.webpdf.codegen.projects;
+
+import io.swagger.codegen.v3.templates.TemplateEngine;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renders the templates, that are emitted once per {@link GeneratedProject}. All supporting files are rendered from
+ * the same data, the project is therefore selected by the template path "projects/[index]/[template]", which is
+ * rendered as [template] with the selected project available as "project". All other templates are passed to the
+ * wrapped {@link TemplateEngine} as they are.
+ */
+public class ProjectTemplateEngine implements TemplateEngine {
+
+    private static final Pattern PROJECT_TEMPLATE = Pattern.compile("^(.*?)projects[/\\\\](\\d+)[/\\\\]([^/\\\\]+)$");
+
+    private final TemplateEngine templateEngine;
+    private final Supplier<List<GeneratedProject>> projects;
+
+    /**
+     * @param templateEngine The {@link TemplateEngine} rendering the templates.
+     * @param projects       Provides the {@link GeneratedProject}s, once the models have been processed.
+     */
+    public ProjectTemplateEngine(TemplateEngine templateEngine, Supplier<List<GeneratedProject>> projects) {
+        this.templateEngine = templateEngine;
+        this.projects = projects;
+    }
+
+    /**
+     * @param project      The index of the {@link GeneratedProject}.
+     * @param templateFile The template to render for the project.
+     * @return The template path selecting the project.
+     */
+    public static String getTemplateFile(int project, String templateFile) {
+        return "projects/" + project + "/" + templateFile;
+    }
+
+    @Override
+    public String getRendered(String templateFile, Map<String, Object> templateData) throws IOException {
+        Matcher matcher = PROJECT_TEMPLATE.matcher(templateFile);
+        if (!matcher.matches()) {
+            return templateEngine.getRendered(templateFile, templateData);
+        }
+        Map<String, Object> projectData = new HashMap<>(templateData);
+        projectData.put("project", projects.get().get(Integer.parseInt(matcher.group(2))));
+        return templateEngine.getRendered(matcher.group(1) + matcher.group(3), projectData);
+    }
+
+    @Override
+    public String getName() {
+        return templateEngine.getName();
+    }
+
+}
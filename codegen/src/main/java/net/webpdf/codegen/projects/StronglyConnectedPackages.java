@@ -0,0 +1,66 @@
+package net.webpdf.codegen.projects;
+
+import java.util.*;
+
+/**
+ * Determines the strongly connected components of a package dependency graph (using Tarjan's algorithm), which are
+ * the groups of packages, that (transitively) import from each other.
+ */
+class StronglyConnectedPackages {
+
+    private final Map<String, Set<String>> dependencies;
+    private final Map<String, Integer> indices = new HashMap<>();
+    private final Map<String, Integer> lowLinks = new HashMap<>();
+    private final Deque<String> stack = new ArrayDeque<>();
+    private final Set<String> onStack = new HashSet<>();
+    private final List<List<String>> components = new ArrayList<>();
+
+    /**
+     * @param dependencies The packages mapped to the packages they import from.
+     */
+    StronglyConnectedPackages(Map<String, Set<String>> dependencies) {
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * @return The sorted packages of each component, each component following the components it depends on.
+     */
+    List<List<String>> determineComponents() {
+        for (String packageName : new TreeSet<>(dependencies.keySet())) {
+            if (!indices.containsKey(packageName)) {
+                connect(packageName);
+            }
+        }
+        return components;
+    }
+
+    private void connect(String packageName) {
+        indices.put(packageName, indices.size());
+        lowLinks.put(packageName, indices.get(packageName));
+        stack.push(packageName);
+        onStack.add(packageName);
+
+        for (String dependency : dependencies.getOrDefault(packageName, Collections.emptySet())) {
+            if (!indices.containsKey(dependency)) {
+                connect(dependency);
+                lowLinks.put(packageName, Math.min(lowLinks.get(packageName), lowLinks.get(dependency)));
+            } else if (onStack.contains(dependency)) {
+                lowLinks.put(packageName, Math.min(lowLinks.get(packageName), indices.get(dependency)));
+            }
+        }
+
+        if (lowLinks.get(packageName).equals(indices.get(packageName))) {
+            List<String> component = new ArrayList<>();
+            String member;
+            do {
+                member = stack.pop();
+                onStack.remove(member);
+                component.add(member);
+            } while (!member.equals(packageName));
+            component.sort(Comparator.comparing((String name) -> name.isEmpty() ? 0 : name.split("/").length)
+                    .thenComparing(Comparator.naturalOrder()));
+            components.add(component);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package net.webpdf.codegen.resolution;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Caches a value resolved for a {@link Schema}, so that each schema instance is resolved only once, no matter how many
+ * properties or composed schemas reference it. Schemas are compared by identity, as the parsed specification shares
+ * the instances of referenced schemas and equal, but distinct schemas may still be resolved differently (e.g. by
+ * their position in a composition).
+ *
+ * @param <T> The type of the resolved value.
+ */
+public class ResolutionCache<T> {
+
+    private final Map<Schema<?>, T> resolved = new IdentityHashMap<>();
+    private final Set<Schema<?>> resolving = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final String description;
+
+    /**
+     * Creates a {@link ResolutionCache} for the given kind of resolved values.
+     *
+     * @param description Describes the resolved values in error messages (e.g. "type declaration").
+     */
+    public ResolutionCache(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Returns the value resolved for the given schema, resolving it using the given resolver, if it has not been
+     * resolved before.
+     *
+     * @param schema   The {@link Schema} to resolve the value for.
+     * @param resolver Resolves the value, may resolve the values of nested schemas using this cache.
+     * @return The resolved value.
+     * @throws IllegalArgumentException Shall be thrown, if resolving the schema requires resolving itself.
+     */
+    public T resolve(Schema<?> schema, Function<Schema<?>, T> resolver) {
+        T value = resolved.get(schema);
+        if (value != null) {
+            return value;
+        }
+        if (!resolving.add(schema)) {
+            throw new IllegalArgumentException("The " + description + " of the schema " +
+                    (schema.getName() != null ? "'" + schema.getName() + "' " : "") + "references itself.");
+        }
+        try {
+            value = resolver.apply(schema);
+        } finally {
+            resolving.remove(schema);
+        }
+        if (value != null) {
+            resolved.put(schema, value);
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,145 @@
+package net.webpdf.codegen.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import net.webpdf.codegen.extension.WebPDFExtension;
+import net.webpdf.codegen.names.TypeName;
+
+import java.util.*;
+
+/**
+ * Prepares the binary schemas of the generated models, which are used by "ModelBinary" to encode the JSON
+ * representation of a model using field indices instead of property names and enum indices instead of enum values.
+ * The sub types of a model are selected in the same order as by the generated fromJson() methods.
+ */
+public class BinaryEncoding {
+
+    private static final String IMPORT = "ModelBinary";
+    private static final String SCHEMA_IMPORT = "BinarySchema";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, CodegenModel> allModels;
+    private final String modelPackage;
+
+    public BinaryEncoding(Map<String, CodegenModel> allModels, String modelPackage) {
+        this.allModels = allModels;
+        this.modelPackage = modelPackage;
+    }
+
+    /**
+     * Sets the binary fields of all properties and the sub types of all polymorphic models.
+     */
+    public void apply() {
+        for (CodegenModel model : allModels.values()) {
+            if (model.getIsEnum()) {
+                continue;
+            }
+            for (CodegenProperty property : model.getVars()) {
+                WebPDFExtension.determineExtension(property, modelPackage).setBinaryField(binaryField(property));
+            }
+            WebPDFExtension modelExtensions = WebPDFExtension.determineExtension(model, modelPackage);
+            List<Map<String, String>> subTypes = subTypes(model, modelExtensions);
+            if (!subTypes.isEmpty()) {
+                modelExtensions.setBinarySubTypes(subTypes);
+            }
+            List<String> imports = modelExtensions.getImports() != null ?
+                    modelExtensions.getImports() : new ArrayList<>();
+            for (String name : List.of(IMPORT, SCHEMA_IMPORT)) {
+                if (!imports.contains(name)) {
+                    imports.add(name);
+                }
+            }
+            modelExtensions.setImports(imports);
+        }
+    }
+
+    private String binaryField(CodegenProperty property) {
+        String binaryType = binaryType(property);
+        return "{key: " + quote(property.getBaseName()) + (binaryType != null ? ", type: " + binaryType : "") + "}";
+    }
+
+    /**
+     * Creates the binary type of the given property.
+     *
+     * @return The binary type or null, if the JSON value is encoded as is.
+     */
+    private String binaryType(CodegenProperty property) {
+        if (property.getIsMapContainer() && property.getItems() != null) {
+            String itemType = binaryType(property.getItems());
+            return itemType != null ? "{map: " + itemType + "}" : null;
+        }
+        if (property.getIsListContainer() && property.getItems() != null) {
+            String itemType = binaryType(property.getItems());
+            return itemType != null ? "{array: " + itemType + "}" : null;
+        }
+        CodegenModel refModel = findModel(property);
+        if (refModel != null && refModel.getIsEnum()) {
+            return enumType(refModel.getAllowableValues());
+        }
+        if (refModel != null) {
+            return "{model: () => " + new TypeName(refModel.getClassname()).getName() + ".binarySchema}";
+        }
+        return property.getIsEnum() ? enumType(property.getAllowableValues()) : null;
+    }
+
+    private String enumType(Map<String, Object> allowableValues) {
+        Object values = allowableValues != null ? allowableValues.get("values") : null;
+        if (!(values instanceof List) || ((List<?>) values).isEmpty()) {
+            return null;
+        }
+        List<String> literals = new ArrayList<>();
+        for (Object value : (List<?>) values) {
+            literals.add(quote(value));
+        }
+        return "{values: [" + String.join(", ", literals) + "]}";
+    }
+
+    private String quote(Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize the value " + value, ex);
+        }
+    }
+
+    /**
+     * Collects the sub types of the given model in the order they are checked by the generated fromJson() method.
+     */
+    private List<Map<String, String>> subTypes(CodegenModel model, WebPDFExtension modelExtensions) {
+        List<Map<String, String>> subTypes = new ArrayList<>();
+        if (model.getDiscriminator() != null && model.getDiscriminator().getMapping() != null) {
+            String propertyName = model.getDiscriminator().getPropertyName();
+            for (Map.Entry<String, String> mapping : model.getDiscriminator().getMapping().entrySet()) {
+                subTypes.add(subType("data." + propertyName + " === '" + mapping.getKey() + "'",
+                        mapping.getValue()));
+            }
+        }
+        if (modelExtensions.getExtendedBy() != null) {
+            for (Map.Entry<String, String> extension : modelExtensions.getExtendedBy().entrySet()) {
+                subTypes.add(subType("typeof data." + extension.getKey() + " !== \"undefined\"",
+                        new TypeName(extension.getValue()).getName()));
+            }
+        }
+        return subTypes;
+    }
+
+    private Map<String, String> subType(String condition, String typeName) {
+        Map<String, String> subType = new LinkedHashMap<>();
+        subType.put("condition", condition);
+        subType.put("typeName", typeName);
+        return subType;
+    }
+
+    private CodegenModel findModel(CodegenProperty property) {
+        if (property.getComplexType() != null && allModels.containsKey(property.getComplexType())) {
+            return allModels.get(property.getComplexType());
+        }
+        if (property.getBaseType() != null && allModels.containsKey(property.getBaseType())) {
+            return allModels.get(property.getBaseType());
+        }
+        return null;
+    }
+
+}
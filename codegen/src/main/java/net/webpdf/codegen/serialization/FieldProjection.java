@@ -0,0 +1,76 @@
+package net.webpdf.codegen.serialization;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import net.webpdf.codegen.extension.WebPDFExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prepares the decoders of the generated projectFields() methods, which decode the selected fields of a model only.
+ * A selected value is decoded exactly as by the generated constructor, nested models and arrays of models are either
+ * decoded completely via fromJson() (if selected by "true") or projected to the nested selection.
+ */
+public class FieldProjection {
+
+    private static final String IMPORT = "ModelProjection";
+
+    private final Map<String, CodegenModel> allModels;
+    private final String modelPackage;
+
+    public FieldProjection(Map<String, CodegenModel> allModels, String modelPackage) {
+        this.allModels = allModels;
+        this.modelPackage = modelPackage;
+    }
+
+    /**
+     * Sets the projection decoders of all properties.
+     */
+    public void apply() {
+        for (CodegenModel model : allModels.values()) {
+            if (model.getIsEnum()) {
+                continue;
+            }
+            for (CodegenProperty property : model.getVars()) {
+                WebPDFExtension propertyExtensions = WebPDFExtension.determineExtension(property, modelPackage);
+                propertyExtensions.setProjectionDecoder(decoder(property, propertyExtensions));
+            }
+            WebPDFExtension modelExtensions = WebPDFExtension.determineExtension(model, modelPackage);
+            List<String> imports = modelExtensions.getImports() != null ?
+                    modelExtensions.getImports() : new ArrayList<>();
+            if (!imports.contains(IMPORT)) {
+                imports.add(IMPORT);
+            }
+            modelExtensions.setImports(imports);
+        }
+    }
+
+    private String decoder(CodegenProperty property, WebPDFExtension propertyExtensions) {
+        String value = "data." + property.getBaseName();
+        String selection = "selection." + property.getName();
+        String defaultValue = propertyExtensions.getDefaultValue();
+        if (!Boolean.TRUE.equals(property.getIsPrimitiveType())) {
+            if (Boolean.TRUE.equals(property.getIsListContainer())) {
+                if (property.getItems() != null && Boolean.TRUE.equals(property.getItems().getIsObject())) {
+                    return "ModelProjection.decodeArray(" + value + ", " + selection + ", " +
+                            property.getItems().getDatatypeWithEnum() + ")";
+                }
+                // The generated constructors never apply the defaults of arrays.
+                return value;
+            } else if (Boolean.TRUE.equals(property.getIsObject())) {
+                if (!Boolean.TRUE.equals(property.getIsEnum())) {
+                    return "ModelProjection.decodeModel(" + value + ", " + selection + ", " +
+                            property.getDatatypeWithEnum() + ")";
+                }
+                return value;
+            }
+        }
+        if (defaultValue != null) {
+            return "typeof " + value + " !== \"undefined\" ? " + value + " : " + defaultValue;
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,54 @@
+package net.webpdf.codegen.serialization;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import net.webpdf.codegen.extension.WebPDFExtension;
+
+import java.util.Map;
+
+/**
+ * Decides which nested models may be updated in place by the generated assignFrom() methods. A nested model is only
+ * reused, if its type has no sub types, that the JSON data could be decoded to instead.
+ */
+public class InPlaceAssignment {
+
+    private final Map<String, CodegenModel> allModels;
+    private final String modelPackage;
+
+    public InPlaceAssignment(Map<String, CodegenModel> allModels, String modelPackage) {
+        this.allModels = allModels;
+        this.modelPackage = modelPackage;
+    }
+
+    /**
+     * Marks the model and model array properties, whose values may be updated in place.
+     */
+    public void apply() {
+        for (CodegenModel model : allModels.values()) {
+            if (model.getIsEnum()) {
+                continue;
+            }
+            for (CodegenProperty property : model.getVars()) {
+                CodegenProperty actual = property.getIsListContainer() ? property.getItems() : property;
+                if (actual == null || property.getIsMapContainer()) {
+                    continue;
+                }
+                CodegenModel refModel = actual.getComplexType() != null ?
+                        allModels.get(actual.getComplexType()) : null;
+                if (refModel != null && !refModel.getIsEnum() && !isPolymorphic(refModel)) {
+                    WebPDFExtension.determineExtension(property, modelPackage).setAssignInPlace(true);
+                }
+            }
+        }
+    }
+
+    private boolean isPolymorphic(CodegenModel model) {
+        if (model.getDiscriminator() != null && model.getDiscriminator().getMapping() != null &&
+                !model.getDiscriminator().getMapping().isEmpty()) {
+            return true;
+        }
+        Map<String, String> extendedBy = WebPDFExtension.determineExtension(model, modelPackage).getExtendedBy();
+        return extendedBy != null && !extendedBy.isEmpty();
+    }
+
+}
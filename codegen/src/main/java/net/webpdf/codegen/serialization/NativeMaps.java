@@ -0,0 +1,116 @@
+package net.webpdf.codegen.serialization;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import net.webpdf.codegen.extension.WebPDFExtension;
+import net.webpdf.codegen.names.TypeName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prepares the "additionalProperties" containers of the generated models to be emitted as ES Map instances. Every map
+ * property is given the converters of its values, which are passed to "ModelMaps" by the generated fromJson() and
+ * toJson() methods.
+ */
+public class NativeMaps {
+
+    private static final String EMPTY_OBJECT = "{}";
+    private static final String EMPTY_MAP = "new Map()";
+    private static final String IDENTITY = "ModelMaps.identity";
+    private static final String IMPORT = "ModelMaps";
+
+    private final Map<String, CodegenModel> allModels;
+    private final String modelPackage;
+    private final boolean sparse;
+
+    public NativeMaps(Map<String, CodegenModel> allModels, String modelPackage, boolean sparse) {
+        this.allModels = allModels;
+        this.modelPackage = modelPackage;
+        this.sparse = sparse;
+    }
+
+    /**
+     * Sets the value converters and the defaults of all map properties and imports "ModelMaps", where needed.
+     */
+    public void apply() {
+        for (CodegenModel model : allModels.values()) {
+            if (model.getIsEnum()) {
+                continue;
+            }
+            boolean hasMaps = false;
+            for (CodegenProperty property : model.getVars()) {
+                if (!property.getIsMapContainer() || property.getItems() == null) {
+                    continue;
+                }
+                hasMaps = true;
+                WebPDFExtension propertyExtensions = WebPDFExtension.determineExtension(property, modelPackage);
+                String decoder = decoder(property.getItems());
+                String encoder = encoder(property.getItems());
+                propertyExtensions.setMapValueDecoder(decoder != null ? decoder : IDENTITY);
+                propertyExtensions.setMapValueEncoder(encoder != null ? encoder : IDENTITY);
+                if (EMPTY_OBJECT.equals(propertyExtensions.getDefaultValue())) {
+                    propertyExtensions.setDefaultValue(EMPTY_MAP);
+                }
+            }
+            if (hasMaps) {
+                WebPDFExtension modelExtensions = WebPDFExtension.determineExtension(model, modelPackage);
+                List<String> imports = modelExtensions.getImports() != null ?
+                        modelExtensions.getImports() : new ArrayList<>();
+                if (!imports.contains(IMPORT)) {
+                    imports.add(IMPORT);
+                }
+                modelExtensions.setImports(imports);
+            }
+        }
+    }
+
+    /**
+     * Creates the expression decoding a JSON value of the given type.
+     *
+     * @return The decoder or null, if the JSON value can be used as is.
+     */
+    private String decoder(CodegenProperty property) {
+        if (property.getIsMapContainer() && property.getItems() != null) {
+            String decoder = decoder(property.getItems());
+            return "(value: any) => ModelMaps.fromJson(value, " + (decoder != null ? decoder : IDENTITY) + ")";
+        }
+        if (property.getIsListContainer() && property.getItems() != null) {
+            String decoder = decoder(property.getItems());
+            return decoder != null ? "(value: any) => value?.map(" + decoder + ")" : null;
+        }
+        String typeName = modelTypeName(property);
+        return typeName != null ? typeName + ".fromJson" : null;
+    }
+
+    /**
+     * Creates the expression encoding a value of the given type to JSON.
+     *
+     * @return The encoder or null, if the value can be used as is.
+     */
+    private String encoder(CodegenProperty property) {
+        if (property.getIsMapContainer() && property.getItems() != null) {
+            String encoder = encoder(property.getItems());
+            return "(value: any) => ModelMaps.toJson(value, " + (encoder != null ? encoder : IDENTITY) + ")";
+        }
+        if (property.getIsListContainer() && property.getItems() != null) {
+            String encoder = encoder(property.getItems());
+            return encoder != null ? "(value: any) => value?.map(" + encoder + ")" : null;
+        }
+        return modelTypeName(property) != null ?
+                "(value: any) => value?.toJson(" + (sparse ? "sparse" : "") + ")" : null;
+    }
+
+    private String modelTypeName(CodegenProperty property) {
+        CodegenModel refModel = property.getComplexType() != null ? allModels.get(property.getComplexType()) : null;
+        if (refModel == null && property.getBaseType() != null) {
+            refModel = allModels.get(property.getBaseType());
+        }
+        if (refModel == null || refModel.getIsEnum()) {
+            return null;
+        }
+        return new TypeName(refModel.getClassname()).getName();
+    }
+
+}
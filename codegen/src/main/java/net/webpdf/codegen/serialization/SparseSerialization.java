@@ -0,0 +1,92 @@
+package net.webpdf.codegen.serialization;
+
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import net.webpdf.codegen.extension.WebPDFExtension;
+import net.webpdf.codegen.names.TypeName;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decides which properties may be omitted by the sparse toJson() of the generated models. Read only properties are
+ * never sent, properties holding their schema default are only sent, if the server could not restore them otherwise.
+ */
+public class SparseSerialization {
+
+    private static final String EMPTY_ARRAY = "[]";
+    private static final String EMPTY_OBJECT = "{}";
+
+    private final Map<String, CodegenModel> allModels;
+    private final String modelPackage;
+
+    public SparseSerialization(Map<String, CodegenModel> allModels, String modelPackage) {
+        this.allModels = allModels;
+        this.modelPackage = modelPackage;
+    }
+
+    /**
+     * Marks the read only properties and the properties, that may be skipped when holding their default value.
+     */
+    public void apply() {
+        Set<String> typeKeys = collectTypeKeys();
+        for (CodegenModel model : allModels.values()) {
+            if (model.getIsEnum()) {
+                continue;
+            }
+            String typeName = new TypeName(model.getClassname()).getName();
+            for (CodegenProperty property : model.getVars()) {
+                WebPDFExtension propertyExtensions = WebPDFExtension.determineExtension(property, modelPackage);
+                propertyExtensions.setIsReadOnly(isReadOnly(property));
+
+                // Discriminators and the keys used to select a sub type must always be written.
+                String defaultValue = propertyExtensions.getDefaultValue();
+                if (defaultValue == null || property.getRequired() ||
+                        typeKeys.contains(property.getBaseName()) ||
+                        typeKeys.contains(typeName + "." + property.getBaseName())) {
+                    continue;
+                }
+                if (property.getIsListContainer()) {
+                    propertyExtensions.setSkipEmpty(EMPTY_ARRAY.equals(defaultValue));
+                } else if (property.getIsMapContainer()) {
+                    propertyExtensions.setSkipEmpty(EMPTY_OBJECT.equals(defaultValue));
+                } else if (!Boolean.TRUE.equals(property.getIsObject()) || propertyExtensions.isEnumReference()) {
+                    propertyExtensions.setSkipDefault(true);
+                }
+            }
+        }
+    }
+
+    private boolean isReadOnly(CodegenProperty property) {
+        if (Boolean.TRUE.equals(property.getVendorExtensions().get(CodegenConstants.IS_READ_ONLY_EXT_NAME))) {
+            return true;
+        }
+        CodegenModel refModel = property.getComplexType() != null ? allModels.get(property.getComplexType()) : null;
+        if (refModel == null && property.getBaseType() != null) {
+            refModel = allModels.get(property.getBaseType());
+        }
+        return refModel != null && WebPDFExtension.determineExtension(refModel, modelPackage).isReadOnly();
+    }
+
+    /**
+     * Collects the discriminator property names and the "extendedBy" keys (as "Type.key") of all models.
+     */
+    private Set<String> collectTypeKeys() {
+        Set<String> typeKeys = new HashSet<>();
+        for (CodegenModel model : allModels.values()) {
+            if (model.getDiscriminator() != null && model.getDiscriminator().getPropertyName() != null) {
+                typeKeys.add(model.getDiscriminator().getPropertyName());
+            }
+            Map<String, String> extendedBy = WebPDFExtension.determineExtension(model, modelPackage).getExtendedBy();
+            if (extendedBy != null) {
+                for (Map.Entry<String, String> entry : extendedBy.entrySet()) {
+                    typeKeys.add(entry.getValue() + "." + entry.getKey());
+                }
+            }
+        }
+        return typeKeys;
+    }
+
+}
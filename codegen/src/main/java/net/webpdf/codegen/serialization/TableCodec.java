@@ -0,0 +1,90 @@
+package net.webpdf.codegen.serialization;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import net.webpdf.codegen.extension.WebPDFExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prepares the field descriptors of the generated models, which are interpreted by "ModelCodec" instead of the
+ * generated constructor, toJson(), assignFrom() and equals() methods. Each field is decoded exactly as by the
+ * generated constructor: nested models and arrays of models are decoded via fromJson(), all other values are taken
+ * as they are, falling back to the schema default (if any).
+ */
+public class TableCodec {
+
+    private static final List<String> IMPORTS = List.of("ModelCodec", "ModelDescriptor");
+
+    private final Map<String, CodegenModel> allModels;
+    private final String modelPackage;
+
+    public TableCodec(Map<String, CodegenModel> allModels, String modelPackage) {
+        this.allModels = allModels;
+        this.modelPackage = modelPackage;
+    }
+
+    /**
+     * Sets the codec fields of all properties.
+     */
+    public void apply() {
+        for (CodegenModel model : allModels.values()) {
+            if (model.getIsEnum()) {
+                continue;
+            }
+            for (CodegenProperty property : model.getVars()) {
+                WebPDFExtension propertyExtensions = WebPDFExtension.determineExtension(property, modelPackage);
+                propertyExtensions.setCodecField(codecField(property, propertyExtensions));
+            }
+            WebPDFExtension modelExtensions = WebPDFExtension.determineExtension(model, modelPackage);
+            List<String> imports = modelExtensions.getImports() != null ?
+                    modelExtensions.getImports() : new ArrayList<>();
+            for (String name : IMPORTS) {
+                if (!imports.contains(name)) {
+                    imports.add(name);
+                }
+            }
+            modelExtensions.setImports(imports);
+        }
+    }
+
+    private String codecField(CodegenProperty property, WebPDFExtension propertyExtensions) {
+        StringBuilder field = new StringBuilder("{name: \"").append(property.getName()).append("\"");
+        if (!property.getName().equals(property.getBaseName())) {
+            field.append(", key: \"").append(property.getBaseName()).append("\"");
+        }
+
+        String defaultValue = propertyExtensions.getDefaultValue();
+        String modelType = null;
+        String arrayType = null;
+        if (!Boolean.TRUE.equals(property.getIsPrimitiveType())) {
+            if (Boolean.TRUE.equals(property.getIsListContainer())) {
+                // The generated constructors never apply the defaults of arrays.
+                defaultValue = null;
+                if (property.getItems() != null && Boolean.TRUE.equals(property.getItems().getIsObject())) {
+                    arrayType = property.getItems().getDatatypeWithEnum();
+                }
+            } else if (Boolean.TRUE.equals(property.getIsObject())) {
+                defaultValue = null;
+                if (!Boolean.TRUE.equals(property.getIsEnum())) {
+                    modelType = property.getDatatypeWithEnum();
+                }
+            }
+        }
+
+        if (modelType != null) {
+            field.append(", model: () => ").append(modelType);
+        } else if (arrayType != null) {
+            field.append(", array: () => ").append(arrayType);
+        } else if (defaultValue != null) {
+            field.append(", defaultValue: ").append(defaultValue);
+        }
+        if ((modelType != null || arrayType != null) && propertyExtensions.isAssignInPlace()) {
+            field.append(", inPlace: true");
+        }
+        return field.append("}").toString();
+    }
+
+}
@@ -0,0 +1,90 @@
+package net.webpdf.codegen.serialization;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import net.webpdf.codegen.extension.WebPDFExtension;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Emits numeric arrays of the generated models as ES typed arrays. The typed array is selected by the "typedArray"
+ * hint of the property or, if no hint is given, by the type and format of the array items: integers explicitly
+ * declared with the format "int32" become "Int32Array" and floating point numbers become "Float64Array". Integers
+ * without that format may exceed 32 bits and are only converted, if a hint explicitly requests it, the hint "Array"
+ * keeps a plain array. The generated fromJson() and toJson() methods convert the arrays at the JSON boundary only.
+ */
+public class TypedArrays {
+
+    private static final String PLAIN_ARRAY = "Array";
+    private static final String INT_32_ARRAY = "Int32Array";
+    private static final String INT_32_FORMAT = "int32";
+    private static final String FLOAT_64_ARRAY = "Float64Array";
+    private static final String EMPTY_ARRAY = "[]";
+    private static final Set<String> TYPED_ARRAYS = new HashSet<>(Arrays.asList(
+            "Int8Array", "Uint8Array", "Int16Array", "Uint16Array", INT_32_ARRAY, "Uint32Array",
+            "Float32Array", FLOAT_64_ARRAY));
+
+    private final Map<String, CodegenModel> allModels;
+    private final String modelPackage;
+
+    public TypedArrays(Map<String, CodegenModel> allModels, String modelPackage) {
+        this.allModels = allModels;
+        this.modelPackage = modelPackage;
+    }
+
+    /**
+     * Replaces the data type of all numeric array properties by the selected typed array.
+     */
+    public void apply() {
+        for (CodegenModel model : allModels.values()) {
+            if (model.getIsEnum()) {
+                continue;
+            }
+            for (CodegenProperty property : model.getVars()) {
+                if (!property.getIsListContainer() || property.getItems() == null) {
+                    continue;
+                }
+                WebPDFExtension propertyExtensions = WebPDFExtension.determineExtension(property, modelPackage);
+                String typedArray = selectTypedArray(property, propertyExtensions.getTypedArray());
+                if (typedArray == null) {
+                    continue;
+                }
+                propertyExtensions.setTypedArrayType(typedArray);
+                property.setDatatype(typedArray);
+                property.setDatatypeWithEnum(typedArray);
+                if (EMPTY_ARRAY.equals(propertyExtensions.getDefaultValue())) {
+                    propertyExtensions.setDefaultValue("new " + typedArray + "()");
+                }
+            }
+        }
+    }
+
+    private String selectTypedArray(CodegenProperty property, String hint) {
+        if (PLAIN_ARRAY.equals(hint)) {
+            return null;
+        }
+        if (hint != null) {
+            if (!TYPED_ARRAYS.contains(hint)) {
+                throw new IllegalArgumentException(
+                        "Unknown typed array \"" + hint + "\" requested for property: " + property.getBaseName());
+            }
+            return hint;
+        }
+        CodegenProperty items = property.getItems();
+        if (items.getIsListContainer() || items.getIsMapContainer() || items.getIsEnum()) {
+            return null;
+        }
+        if (Boolean.TRUE.equals(items.getIsInteger())) {
+            return INT_32_FORMAT.equals(items.getDataFormat()) ? INT_32_ARRAY : null;
+        }
+        if (Boolean.TRUE.equals(items.getIsFloat()) || Boolean.TRUE.equals(items.getIsDouble()) ||
+                Boolean.TRUE.equals(items.getIsNumber())) {
+            return FLOAT_64_ARRAY;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,32 @@
+package net.webpdf.codegen;
+
+import net.webpdf.codegen.embedded.EmbeddedGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TypeScriptSchemaHandlerTest {
+
+    @Test
+    public void testAllOfDefaults() throws IOException {
+        String spec = "{\"openapi\": \"3.0.1\", \"info\": {\"title\": \"defaults\", \"version\": \"1.0\"}, " +
+                "\"paths\": {}, \"components\": {\"schemas\": {" +
+                "\"Base\": {\"type\": \"object\", \"properties\": {\"mode\": {\"type\": \"string\", " +
+                "\"default\": \"base\"}}}, " +
+                "\"Derived\": {\"allOf\": [{\"type\": \"object\", \"properties\": {" +
+                "\"quality\": {\"type\": \"integer\", \"default\": 75}, \"name\": {\"type\": \"string\"}}}, " +
+                "{\"$ref\": \"#/components/schemas/Base\"}], " +
+                "\"properties\": {\"quality\": {\"type\": \"integer\", \"default\": 50}, " +
+                "\"level\": {\"type\": \"string\", \"default\": \"own\"}}}}}}";
+
+        String derived = new EmbeddedGenerator().generate(spec).get("Derived.ts");
+        assertTrue(derived.contains("let qualityDefault: any = 75;"),
+                "The default of the first allOf object schema does not take precedence.");
+        // "level" is missing from the allOf object schema, which used to fail with a NullPointerException
+        assertTrue(derived.contains("let levelDefault: any = \"own\";"),
+                "The default of a property missing from the allOf object schema has not been taken from the schema.");
+    }
+
+}
@@ -0,0 +1,320 @@
+package net.webpdf.codegen.embedded;
+
+import net.webpdf.codegen.options.CodegenOption;
+import net.webpdf.codegen.scaling.SyntheticSpec;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmbeddedGeneratorTest {
+
+    private static final Pattern ROOT_INDEX_IMPORT = Pattern.compile("from \"\\./(\\.\\./)*index\"");
+
+    @Test
+    public void testBundledSpec() throws IOException {
+        Map<String, String> files;
+        try (InputStream spec = EmbeddedGeneratorTest.class.getResourceAsStream("/schema/openapi.json")) {
+            assertNotNull(spec, "The bundled specification is missing.");
+            files = new EmbeddedGenerator().generate(spec);
+        }
+        assertTrue(files.containsKey("Parameter.ts"), "Parameter.ts is missing.");
+        assertTrue(files.containsKey("index.ts"), "index.ts is missing.");
+        assertFalse(files.containsKey("ModelBinary.ts"), "ModelBinary.ts has not been requested.");
+        for (String path : files.keySet()) {
+            assertFalse(path.startsWith(".") || path.contains("\\"), "Unexpected path: " + path);
+        }
+        assertTrue(files.get("CacheableResources.ts").contains(
+                        "public static readonly updateConfiguration: string = \"updateConfiguration\";"),
+                "The ID of an operation invalidating cached responses has not been emitted.");
+    }
+
+    @Test
+    public void testOptions() throws IOException {
+        String spec = new SyntheticSpec().setSchemaCount(8).toJson();
+        Map<String, String> files = new EmbeddedGenerator()
+                .setOption(CodegenOption.BINARY_CODEC, true)
+                .generate(spec);
+        assertTrue(files.containsKey("ModelBinary.ts"), "ModelBinary.ts is missing.");
+        assertFalse(files.containsKey("ModelMetadata.ts"), "ModelMetadata.ts has not been requested.");
+
+        files = new EmbeddedGenerator()
+                .setOption(CodegenOption.METADATA_SIDECAR, true)
+                .generate(spec);
+        assertTrue(files.containsKey("ModelMetadata.ts"), "ModelMetadata.ts is missing.");
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            assertFalse(file.getValue().contains("Description(): string"),
+                    "Descriptions have not been removed from " + file.getKey());
+        }
+
+        files = new EmbeddedGenerator()
+                .setOption(CodegenOption.DIRTY_TRACKING, true)
+                .generate(spec);
+        assertTrue(files.containsKey("ModelChanges.ts"), "ModelChanges.ts is missing.");
+        assertTrue(files.get("index.ts").contains("\"./ModelChanges\""), "ModelChanges is not exported.");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new EmbeddedGenerator().setOption(CodegenOption.GENERATE_BENCHMARKS, true));
+        assertThrows(IllegalArgumentException.class,
+                () -> new EmbeddedGenerator().setProperty(CodegenOption.GENERATE_BENCHMARKS.getValue(), "true"));
+    }
+
+    @Test
+    public void testSchemaDeduplication() throws IOException {
+        String spec = "{\"openapi\": \"3.0.1\", \"info\": {\"title\": \"duplicates\", \"version\": \"1.0\"}, " +
+                "\"paths\": {}, \"components\": {\"schemas\": {" +
+                "\"Direction\": {\"type\": \"string\", \"enum\": [\"up\", \"down\"]}, " +
+                "\"OtherDirection\": {\"type\": \"string\", \"enum\": [\"up\", \"down\"]}, " +
+                "\"Point\": {\"type\": \"object\", \"properties\": {\"x\": {\"type\": \"integer\"}, " +
+                "\"direction\": {\"$ref\": \"#/components/schemas/Direction\"}}}, " +
+                "\"OtherPoint\": {\"type\": \"object\", \"properties\": {\"x\": {\"type\": \"integer\"}, " +
+                "\"direction\": {\"$ref\": \"#/components/schemas/OtherDirection\"}}}, " +
+                "\"Size\": {\"type\": \"object\", \"properties\": {\"x\": {\"type\": \"number\"}}}}}}";
+
+        Map<String, String> files = new EmbeddedGenerator()
+                .setOption(CodegenOption.DEDUPLICATE_SCHEMAS, true)
+                .generate(spec);
+        // the re-export keeps the enum usable as namespace, e.g. "OtherDirection.UP" as type
+        assertTrue(files.get("OtherDirection.ts").contains("export { Direction as OtherDirection } from "),
+                "OtherDirection has not been emitted as alias.");
+        assertTrue(files.get("OtherPoint.ts").contains("export const OtherPoint = Point;"),
+                "OtherPoint has not been emitted as alias of its structurally identical type.");
+        assertTrue(files.get("Size.ts").contains("export class Size "), "Size has been emitted as alias.");
+        assertTrue(files.get("index.ts").contains("OtherPoint,OtherPointInterface"), "OtherPoint is not exported.");
+    }
+
+    @Test
+    public void testSchemaDeduplicationWithoutProperties() throws IOException {
+        String spec = "{\"openapi\": \"3.0.1\", \"info\": {\"title\": \"duplicates\", \"version\": \"1.0\"}, " +
+                "\"paths\": {}, \"components\": {\"schemas\": {" +
+                "\"Clear\": {\"type\": \"object\", \"description\": \"Removes the outline.\"}, " +
+                "\"Appearance\": {\"type\": \"object\", \"description\": \"The appearance.\"}, " +
+                "\"Labels\": {\"type\": \"object\", \"additionalProperties\": {\"type\": \"string\"}}, " +
+                "\"Counts\": {\"type\": \"object\", \"additionalProperties\": {\"type\": \"integer\"}}, " +
+                "\"Point\": {\"type\": \"object\", \"description\": \"A point.\", " +
+                "\"properties\": {\"x\": {\"type\": \"integer\"}}}, " +
+                "\"Offset\": {\"type\": \"object\", \"description\": \"An offset.\", " +
+                "\"properties\": {\"x\": {\"type\": \"integer\"}}}}}}";
+
+        Map<String, String> files = new EmbeddedGenerator()
+                .setOption(CodegenOption.DEDUPLICATE_SCHEMAS, true)
+                .generate(spec);
+        for (String name : Arrays.asList("Clear", "Appearance", "Labels", "Counts", "Point", "Offset")) {
+            assertTrue(files.get(name + ".ts").contains("export class " + name + " "),
+                    name + " has been emitted as alias.");
+        }
+    }
+
+    @Test
+    public void testProjectReferences() throws IOException {
+        Map<String, String> files;
+        try (InputStream spec = EmbeddedGeneratorTest.class.getResourceAsStream("/schema/openapi.json")) {
+            assertNotNull(spec, "The bundled specification is missing.");
+            files = new EmbeddedGenerator()
+                    .setOption(CodegenOption.PROJECT_REFERENCES, true)
+                    .generate(spec);
+        }
+        assertTrue(files.get("tsconfig.base.json").contains("\"composite\": true"), "The projects are not composite.");
+        assertTrue(files.get("tsconfig.json").contains("{\"path\": \"./auth/tsconfig.json\"}"),
+                "The root tsconfig.json does not reference the auth project.");
+        assertTrue(files.get("auth/tsconfig.json").contains("{\"path\": \"./keystore/tsconfig.json\"}"),
+                "The auth project does not reference the projects it imports from.");
+        assertTrue(files.get("portal/index.ts").contains("from \"./PortalSettings\";"),
+                "The portal project does not export its models.");
+        // The root and admin packages import from each other and are therefore merged into a single project.
+        assertFalse(files.containsKey("admin/tsconfig.json"), "The cyclic admin package has its own project.");
+        assertTrue(files.get("tsconfig.models.json").contains("\"admin/Configuration.ts\""),
+                "The admin package is not part of the root project.");
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            assertFalse(ROOT_INDEX_IMPORT.matcher(file.getValue()).find(),
+                    "The root index is imported by " + file.getKey());
+        }
+    }
+
+    @Test
+    public void testJsModels() throws IOException {
+        String spec = new SyntheticSpec().setSchemaCount(8).setInheritanceDepth(2).setInlineEnumCount(2).toJson();
+        Map<String, String> files = new EmbeddedGenerator()
+                .setOption(CodegenOption.JS_MODELS, true)
+                .generate(spec);
+        assertTrue(files.containsKey("index.js"), "index.js is missing.");
+        assertTrue(files.containsKey("index.d.ts"), "index.d.ts is missing.");
+        assertFalse(files.containsKey("index.ts"), "index.ts has not been requested.");
+        assertTrue(files.containsKey("Parameter.ts"), "The support files are no longer emitted as TypeScript.");
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            String path = file.getKey();
+            if (path.endsWith(".js")) {
+                assertTrue(files.containsKey(path.replaceFirst("\\.js$", ".d.ts")),
+                        "The declarations of " + path + " are missing.");
+                assertFalse(file.getValue().contains(": any"), "Type annotations have been emitted to " + path);
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new EmbeddedGenerator()
+                .setOption(CodegenOption.JS_MODELS, true)
+                .setOption(CodegenOption.SPARSE_JSON, true)
+                .generate(spec));
+    }
+
+    @Test
+    public void testTableCodec() throws IOException {
+        String spec = new SyntheticSpec().setSchemaCount(8).setInheritanceDepth(2).setInlineEnumCount(2).toJson();
+        Map<String, String> files = new EmbeddedGenerator()
+                .setOption(CodegenOption.TABLE_CODEC, true)
+                .generate(spec);
+        assertTrue(files.containsKey("ModelCodec.ts"), "ModelCodec.ts is missing.");
+        assertTrue(files.get("index.ts").contains("\"./ModelCodec\""), "ModelCodec is not exported.");
+        assertTrue(files.values().stream()
+                        .anyMatch(content -> content.contains("public static readonly descriptor: ModelDescriptor")),
+                "No model descriptors have been emitted.");
+
+        assertThrows(IllegalArgumentException.class, () -> new EmbeddedGenerator()
+                .setOption(CodegenOption.TABLE_CODEC, true)
+                .setOption(CodegenOption.SPARSE_JSON, true)
+                .generate(spec));
+    }
+
+    @Test
+    public void testSingleFile() throws IOException {
+        String spec = "{\"openapi\": \"3.0.1\", \"info\": {\"title\": \"single\", \"version\": \"1.0\"}, " +
+                "\"paths\": {}, \"components\": {\"schemas\": {" +
+                "\"Direction\": {\"type\": \"string\", \"enum\": [\"up\", \"down\"]}, " +
+                "\"Point\": {\"type\": \"object\", \"properties\": {\"x\": {\"type\": \"integer\"}, " +
+                "\"direction\": {\"$ref\": \"#/components/schemas/Direction\"}}}, " +
+                "\"Line\": {\"type\": \"object\", \"properties\": {\"start\": {\"$ref\": \"#/components/schemas/Point\"}}}, " +
+                "\"Size\": {\"type\": \"object\", \"properties\": {\"x\": {\"type\": \"number\"}}}}}}";
+
+        Map<String, String> files = new EmbeddedGenerator()
+                .setOption(CodegenOption.SINGLE_FILE, true)
+                .generate(spec);
+        assertEquals(List.of("index.ts"), new ArrayList<>(files.keySet()));
+        String index = files.get("index.ts");
+        assertFalse(index.contains("import "), "The single file imports another module.");
+        assertTrue(index.contains("export interface Parameter "), "The support code has not been hoisted.");
+        assertTrue(index.contains("export class Size "), "Size is missing.");
+
+        index = new EmbeddedGenerator()
+                .setOption(CodegenOption.SINGLE_FILE, true)
+                .setProperty("singleFileTypes", "Line")
+                .generate(spec).get("index.ts");
+        assertTrue(index.contains("export class Line "), "Line is missing.");
+        assertTrue(index.contains("export class Point "), "Point has been pruned, though it is used by Line.");
+        assertTrue(index.contains("export enum Direction "), "Direction has been pruned, though it is used by Point.");
+        assertFalse(index.contains("export class Size "), "Size has not been pruned.");
+
+        assertThrows(IllegalArgumentException.class, () -> new EmbeddedGenerator()
+                .setOption(CodegenOption.SINGLE_FILE, true)
+                .setProperty("singleFileTypes", "Unknown")
+                .generate(spec));
+        assertThrows(IllegalArgumentException.class, () -> new EmbeddedGenerator()
+                .setOption(CodegenOption.SINGLE_FILE, true)
+                .setOption(CodegenOption.JS_MODELS, true)
+                .generate(spec));
+    }
+
+    @Test
+    public void testProjections() throws IOException {
+        String spec = new SyntheticSpec().setSchemaCount(8).setInheritanceDepth(2).toJson();
+        Map<String, String> files = new EmbeddedGenerator()
+                .setOption(CodegenOption.PROJECTIONS, true)
+                .generate(spec);
+        assertTrue(files.containsKey("ModelProjection.ts"), "ModelProjection.ts is missing.");
+        assertTrue(files.get("index.ts").contains("\"./ModelProjection\""), "ModelProjection is not exported.");
+        assertTrue(files.values().stream()
+                        .anyMatch(content -> content.contains("let projection: any = {};")),
+                "No projection has been emitted.");
+        assertTrue(files.values().stream()
+                        .anyMatch(content -> content.contains("super.projectFields(data, selection)")),
+                "The projections do not decode the inherited fields.");
+
+        assertThrows(IllegalArgumentException.class, () -> new EmbeddedGenerator()
+                .setOption(CodegenOption.PROJECTIONS, true)
+                .setOption(CodegenOption.TABLE_CODEC, true)
+                .generate(spec));
+    }
+
+    @Test
+    public void testTypedArrays() throws IOException {
+        String spec = "{\"openapi\": \"3.0.1\", \"info\": {\"title\": \"arrays\", \"version\": \"1.0\"}, " +
+                "\"paths\": {}, \"components\": {\"schemas\": {\"Samples\": {\"type\": \"object\", \"properties\": {" +
+                "\"counts\": {\"type\": \"array\", \"items\": {\"type\": \"integer\"}}, " +
+                "\"offsets\": {\"type\": \"array\", \"items\": {\"type\": \"integer\", \"format\": \"int32\"}}, " +
+                "\"sizes\": {\"type\": \"array\", \"items\": {\"type\": \"integer\", \"format\": \"int64\"}}, " +
+                "\"pages\": {\"type\": \"array\", \"items\": {\"type\": \"integer\"}, " +
+                "\"x-webpdf-codegen\": {\"typedArray\": \"Uint16Array\"}}, " +
+                "\"weights\": {\"type\": \"array\", \"items\": {\"type\": \"number\"}}}}}}}";
+
+        String samples = new EmbeddedGenerator()
+                .setOption(CodegenOption.TYPED_ARRAYS, true)
+                .generate(spec).get("Samples.ts");
+        assertTrue(samples.contains("counts?: Array<number>"), "An integer without format has been narrowed.");
+        assertTrue(samples.contains("offsets?: Int32Array"), "The int32 array has not been converted.");
+        assertTrue(samples.contains("sizes?: Array<number>"), "The int64 array has been narrowed.");
+        assertTrue(samples.contains("pages?: Uint16Array"), "The typedArray hint has been ignored.");
+        assertTrue(samples.contains("weights?: Float64Array"), "The number array has not been converted.");
+    }
+
+    @Test
+    public void testConcurrentGeneration() throws Exception {
+        String spec = new SyntheticSpec().setSchemaCount(16).setInheritanceDepth(2).setOneOfCount(2)
+                .setInlineEnumCount(2).toJson();
+        EmbeddedGenerator generator = new EmbeddedGenerator();
+        Map<String, String> expected = generator.generate(spec);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<String, String>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> generator.generate(spec)));
+            }
+            for (Future<Map<String, String>> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSinkFailure() throws IOException {
+        String spec = new SyntheticSpec().setSchemaCount(4).toJson();
+        IOException failure = new IOException("rejected");
+        IOException thrown = assertThrows(IOException.class, () -> new EmbeddedGenerator().generate(
+                EmbeddedGenerator.parse(spec), (path, content) -> {
+                    throw failure;
+                }));
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    public void testUnknownInvalidatingOperation() {
+        String spec = "{\"openapi\": \"3.0.1\", \"info\": {\"title\": \"cache\", \"version\": \"1.0\"}, " +
+                "\"paths\": {\"/status\": {" +
+                "\"get\": {\"operationId\": \"readStatus\", \"responses\": {\"200\": {\"description\": \"OK\"}}, " +
+                "\"x-webpdf-codegen\": {\"cacheable\": true, \"cacheTtl\": 1000, " +
+                "\"invalidatedBy\": [\"updateStatus\", \"restartServer\"]}}, " +
+                "\"put\": {\"operationId\": \"updateStatus\", \"responses\": {\"200\": {\"description\": \"OK\"}}}" +
+                "}}}";
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new EmbeddedGenerator().generate(spec));
+        assertTrue(String.valueOf(exception.getMessage()).contains("unknown operation 'restartServer'"),
+                "Unexpected message: " + exception.getMessage());
+    }
+
+    @Test
+    public void testInvalidSpec() {
+        assertThrows(IllegalArgumentException.class, () -> new EmbeddedGenerator().generate("no specification"));
+    }
+
+}
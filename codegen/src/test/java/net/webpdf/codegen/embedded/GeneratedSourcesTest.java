@@ -0,0 +1,246 @@
+package net.webpdf.codegen.embedded;
+
+import net.webpdf.codegen.options.CodegenOption;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * <p>
+ * Compiles the sources generated for the specification "generated/openapi.json" using tsc and runs the checks found
+ * next to it, which import the generated models from "./models" and fail by throwing. Each test enables an option
+ * (or an allowed combination of options) and runs the checks of the features it affects, the round trip check is
+ * run for all of them.
+ * </p>
+ * <p>
+ * tsc is taken from the node_modules of the client ("yarn install"), the tests are skipped, if it or node are not
+ * available. Another installation may be given using {@code -Dcodegen.typescript=<path to bin/tsc>}, in which case
+ * the tests fail instead (as in the CI build, see .github/workflows/codegen.yml).
+ * </p>
+ */
+public class GeneratedSourcesTest {
+
+    private static final String TYPESCRIPT_PROPERTY = "codegen.typescript";
+    private static final boolean TYPESCRIPT_REQUIRED = System.getProperty(TYPESCRIPT_PROPERTY) != null;
+    private static final Path TYPESCRIPT = Paths.get(System.getProperty(TYPESCRIPT_PROPERTY,
+            "../node_modules/typescript/bin/tsc")).toAbsolutePath().normalize();
+    private static final String MODELS_FOLDER = "models";
+    private static final String RESOURCES = "/generated/";
+    private static final long TIMEOUT_SECONDS = 300;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testDefaultOptions() throws Exception {
+        check(List.of(), "roundTrip", "assignFrom", "streaming", "defaults");
+    }
+
+    @Test
+    public void testSparseJson() throws Exception {
+        check(List.of(CodegenOption.SPARSE_JSON), "roundTrip", "assignFrom", "sparseJson");
+    }
+
+    @Test
+    public void testFlattenHierarchy() throws Exception {
+        check(List.of(CodegenOption.FLATTEN_HIERARCHY), "roundTrip", "assignFrom", "defaults",
+                "flattenHierarchy");
+    }
+
+    @Test
+    public void testNativeMaps() throws Exception {
+        check(List.of(CodegenOption.NATIVE_MAPS), "roundTrip", "assignFrom", "nativeMaps");
+    }
+
+    @Test
+    public void testTypedArrays() throws Exception {
+        check(List.of(CodegenOption.TYPED_ARRAYS), "roundTrip", "assignFrom", "typedArrays");
+    }
+
+    @Test
+    public void testBinaryCodec() throws Exception {
+        check(List.of(CodegenOption.BINARY_CODEC), "roundTrip", "assignFrom", "streaming", "binaryCodec");
+    }
+
+    @Test
+    public void testInstrumentation() throws Exception {
+        check(List.of(CodegenOption.INSTRUMENTATION), "roundTrip", "instrumentation");
+    }
+
+    @Test
+    public void testMetadataSidecar() throws Exception {
+        check(List.of(CodegenOption.METADATA_SIDECAR), "roundTrip", "assignFrom", "streaming", "metadataSidecar");
+    }
+
+    @Test
+    public void testFluentBuilders() throws Exception {
+        check(List.of(CodegenOption.FLUENT_BUILDERS), "roundTrip", "fluentBuilders");
+    }
+
+    @Test
+    public void testDirtyTracking() throws Exception {
+        check(List.of(CodegenOption.DIRTY_TRACKING), "roundTrip", "assignFrom", "dirtyTracking");
+    }
+
+    @Test
+    public void testDeduplicateSchemas() throws Exception {
+        check(List.of(CodegenOption.DEDUPLICATE_SCHEMAS), "roundTrip", "assignFrom", "streaming",
+                "deduplicateSchemas");
+        check(List.of(CodegenOption.DEDUPLICATE_SCHEMAS, CodegenOption.SINGLE_FILE), "roundTrip",
+                "deduplicateSchemas");
+        check(List.of(CodegenOption.DEDUPLICATE_SCHEMAS, CodegenOption.JS_MODELS), "roundTrip",
+                "deduplicateSchemas");
+    }
+
+    @Test
+    public void testJsModels() throws Exception {
+        check(List.of(CodegenOption.JS_MODELS), "roundTrip", "assignFrom", "streaming", "defaults");
+    }
+
+    @Test
+    public void testTableCodec() throws Exception {
+        check(List.of(CodegenOption.TABLE_CODEC), "roundTrip", "assignFrom", "streaming", "defaults");
+    }
+
+    @Test
+    public void testSingleFile() throws Exception {
+        check(List.of(CodegenOption.SINGLE_FILE), "roundTrip", "assignFrom", "streaming", "defaults");
+    }
+
+    @Test
+    public void testProjections() throws Exception {
+        check(List.of(CodegenOption.PROJECTIONS), "roundTrip", "projections");
+    }
+
+    @Test
+    public void testCombinedOptions() throws Exception {
+        check(List.of(CodegenOption.SPARSE_JSON, CodegenOption.FLATTEN_HIERARCHY, CodegenOption.NATIVE_MAPS,
+                        CodegenOption.TYPED_ARRAYS, CodegenOption.BINARY_CODEC, CodegenOption.INSTRUMENTATION,
+                        CodegenOption.FLUENT_BUILDERS, CodegenOption.DIRTY_TRACKING, CodegenOption.METADATA_SIDECAR,
+                        CodegenOption.DEDUPLICATE_SCHEMAS),
+                "roundTrip", "assignFrom", "streaming", "defaults", "sparseJson", "flattenHierarchy", "nativeMaps",
+                "typedArrays", "binaryCodec", "instrumentation", "metadataSidecar", "fluentBuilders",
+                "dirtyTracking", "deduplicateSchemas");
+        check(List.of(CodegenOption.TABLE_CODEC, CodegenOption.FLUENT_BUILDERS, CodegenOption.METADATA_SIDECAR),
+                "roundTrip", "assignFrom", "streaming", "defaults", "metadataSidecar", "fluentBuilders");
+        check(List.of(CodegenOption.PROJECTIONS, CodegenOption.SINGLE_FILE, CodegenOption.SPARSE_JSON,
+                        CodegenOption.FLATTEN_HIERARCHY, CodegenOption.INSTRUMENTATION, CodegenOption.FLUENT_BUILDERS),
+                "roundTrip", "assignFrom", "streaming", "defaults", "sparseJson", "flattenHierarchy",
+                "instrumentation", "fluentBuilders", "projections");
+    }
+
+    /**
+     * Generates the models using the given options, compiles them together with the given checks and runs each
+     * check using node.
+     */
+    private void check(List<CodegenOption> options, String... checks) throws IOException, InterruptedException {
+        if (TYPESCRIPT_REQUIRED) {
+            assertTrue(Files.isRegularFile(TYPESCRIPT), "tsc is not available at " + TYPESCRIPT);
+            assertTrue(isNodeAvailable(), "node is not available");
+        } else {
+            assumeTrue(Files.isRegularFile(TYPESCRIPT), "tsc is not available at " + TYPESCRIPT);
+            assumeTrue(isNodeAvailable(), "node is not available");
+        }
+
+        Path project = Files.createTempDirectory(directory, "project");
+        EmbeddedGenerator generator = new EmbeddedGenerator();
+        for (CodegenOption option : options) {
+            generator.setOption(option, true);
+        }
+        Map<String, String> files = generator.generate(readResource("openapi.json"));
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            write(project.resolve(MODELS_FOLDER).resolve(file.getKey()), file.getValue());
+        }
+
+        List<String> sources = new ArrayList<>(Arrays.asList(checks));
+        sources.add("fixtures");
+        for (String source : sources) {
+            write(project.resolve(source + ".ts"), readResource(source + ".ts"));
+        }
+        write(project.resolve("tsconfig.json"), createTsConfig(sources));
+
+        String description = options.stream().map(CodegenOption::getValue).collect(Collectors.joining(", "));
+        execute(project, "The sources generated using [" + description + "] do not compile",
+                TYPESCRIPT.toString(), "-p", project.resolve("tsconfig.json").toString());
+        for (String check : checks) {
+            execute(project, "The check '" + check + "' failed using [" + description + "]",
+                    project.resolve(check + ".js").toString());
+        }
+    }
+
+    /**
+     * Creates the compiler options of the client (see tsconfig.json of the client), the compiled files are placed
+     * next to the sources, so that the models emitted as JavaScript are found at runtime.
+     */
+    private static String createTsConfig(List<String> sources) {
+        Path typeRoots = TYPESCRIPT.getParent().getParent().resolveSibling("@types");
+        return "{\n" +
+                "  \"compilerOptions\": {\n" +
+                "    \"target\": \"ES6\",\n" +
+                "    \"module\": \"CommonJS\",\n" +
+                "    \"moduleResolution\": \"Node\",\n" +
+                "    \"esModuleInterop\": true,\n" +
+                "    \"downlevelIteration\": true,\n" +
+                "    \"lib\": [\"DOM\", \"ES2020\"],\n" +
+                "    \"strict\": true,\n" +
+                "    \"typeRoots\": [\"" + typeRoots.toString().replace('\\', '/') + "\"],\n" +
+                "    \"types\": [\"node\"]\n" +
+                "  },\n" +
+                "  \"files\": [" + sources.stream().map(source -> "\"" + source + ".ts\"")
+                .collect(Collectors.joining(", ")) + "]\n" +
+                "}\n";
+    }
+
+    private static void execute(Path workingDirectory, String message, String... arguments)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add("node");
+        command.addAll(Arrays.asList(arguments));
+        Process process = new ProcessBuilder(command)
+                .directory(workingDirectory.toFile())
+                .redirectErrorStream(true)
+                .start();
+        String output = IOUtils.toString(process.getInputStream(), StandardCharsets.UTF_8);
+        assertTrue(process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS), message + ": timed out");
+        assertEquals(0, process.exitValue(), () -> message + ":\n" + output);
+    }
+
+    private static boolean isNodeAvailable() throws InterruptedException {
+        try {
+            Process process = new ProcessBuilder("node", "--version").redirectErrorStream(true).start();
+            IOUtils.toString(process.getInputStream(), StandardCharsets.UTF_8);
+            return process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS) && process.exitValue() == 0;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream resource = GeneratedSourcesTest.class.getResourceAsStream(RESOURCES + name)) {
+            assertNotNull(resource, "The resource " + name + " is missing.");
+            return IOUtils.toString(resource, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
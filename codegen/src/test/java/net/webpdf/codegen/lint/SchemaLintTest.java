@@ -0,0 +1,72 @@
+package net.webpdf.codegen.lint;
+
+import net.webpdf.codegen.embedded.EmbeddedGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchemaLintTest {
+
+    private static final String SPEC = "{\"openapi\": \"3.0.1\", \"info\": {\"title\": \"lint\", \"version\": \"1.0\"}, " +
+            "\"paths\": {}, \"components\": {\"schemas\": {" +
+            "\"Base\": {\"type\": \"object\", \"properties\": {\"a\": {\"type\": \"string\"}, " +
+            "\"b\": {\"type\": \"string\"}}}, " +
+            "\"Middle\": {\"allOf\": [{\"$ref\": \"#/components/schemas/Base\"}, " +
+            "{\"type\": \"object\", \"properties\": {\"c\": {\"type\": \"string\"}}}]}, " +
+            "\"Leaf\": {\"allOf\": [{\"$ref\": \"#/components/schemas/Middle\"}, " +
+            "{\"type\": \"object\", \"properties\": {\"d\": {\"type\": \"string\"}}}]}, " +
+            "\"Variant\": {\"oneOf\": [{\"$ref\": \"#/components/schemas/Base\"}, " +
+            "{\"$ref\": \"#/components/schemas/Middle\"}, {\"$ref\": \"#/components/schemas/Leaf\"}]}, " +
+            "\"Options\": {\"type\": \"object\", \"additionalProperties\": true, \"properties\": {" +
+            "\"level\": {\"type\": \"string\", \"enum\": [" + enumValues(20) + "]}, " +
+            "\"mode\": {\"type\": \"string\", \"enum\": [" + enumValues(3) + "]}}}}}}";
+
+    private static String enumValues(int count) {
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            values.append(i > 0 ? ", " : "").append("\"value").append(i).append("\"");
+        }
+        return values.toString();
+    }
+
+    @Test
+    public void testFindings() {
+        List<SchemaFinding> findings = new SchemaLint(EmbeddedGenerator.parse(SPEC)).analyze();
+        Map<String, SchemaFinding> paths = findings.stream()
+                .collect(Collectors.toMap(SchemaFinding::getPath, finding -> finding));
+        assertEquals(4, findings.size(), "Unexpected findings: " + findings);
+
+        SchemaFinding enumeration = paths.get("#/components/schemas/Options/properties/level");
+        assertEquals(SchemaRule.LARGE_INLINE_ENUM, enumeration.getRule());
+        assertEquals(20, enumeration.getCost());
+        assertSame(findings.get(0), enumeration, "The findings are not sorted by their cost.");
+
+        SchemaFinding untyped = paths.get("#/components/schemas/Options/additionalProperties");
+        assertEquals(SchemaRule.UNTYPED_ADDITIONAL_PROPERTIES, untyped.getRule());
+
+        SchemaFinding oneOf = paths.get("#/components/schemas/Variant/oneOf");
+        assertEquals(SchemaRule.UNDISCRIMINATED_ONE_OF, oneOf.getRule());
+        assertEquals(3, oneOf.getCost());
+
+        // the property of Middle is copied once, the properties of Base are copied twice
+        SchemaFinding chain = paths.get("#/components/schemas/Leaf");
+        assertEquals(SchemaRule.DEEP_ALL_OF_CHAIN, chain.getRule());
+        assertEquals(5, chain.getCost());
+    }
+
+    @Test
+    public void testThreshold() {
+        assertDoesNotThrow(() -> new EmbeddedGenerator().setProperty("schemaLintThreshold", "21").generate(SPEC));
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> new EmbeddedGenerator().setProperty("schemaLintThreshold", "20").generate(SPEC));
+        assertTrue(thrown.getMessage().contains("#/components/schemas/Options/properties/level"),
+                "The offending schema is not named: " + thrown.getMessage());
+        assertFalse(thrown.getMessage().contains("#/components/schemas/Variant"),
+                "A finding below the threshold has been reported as fatal: " + thrown.getMessage());
+    }
+
+}
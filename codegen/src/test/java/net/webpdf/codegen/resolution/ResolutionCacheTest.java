@@ -0,0 +1,74 @@
+package net.webpdf.codegen.resolution;
+
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResolutionCacheTest {
+
+    @Test
+    public void testResolvesOnce() {
+        ResolutionCache<String> cache = new ResolutionCache<>("schema type");
+        AtomicInteger calls = new AtomicInteger();
+        Schema<?> schema = new StringSchema();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("string", cache.resolve(schema, (resolved) -> {
+                calls.incrementAndGet();
+                return "string";
+            }));
+        }
+        assertEquals(1, calls.get(), "The cached value has been resolved again.");
+
+        // schemas are compared by identity, an equal schema may still be resolved differently
+        assertEquals("other", cache.resolve(new StringSchema(), (resolved) -> "other"));
+    }
+
+    @Test
+    public void testNullIsNotCached() {
+        ResolutionCache<String> cache = new ResolutionCache<>("schema type");
+        AtomicInteger calls = new AtomicInteger();
+        Schema<?> schema = new StringSchema();
+
+        assertNull(cache.resolve(schema, (resolved) -> {
+            calls.incrementAndGet();
+            return null;
+        }));
+        assertEquals("string", cache.resolve(schema, (resolved) -> {
+            calls.incrementAndGet();
+            return "string";
+        }));
+        assertEquals(2, calls.get(), "An unresolved schema has not been resolved again.");
+    }
+
+    @Test
+    public void testNestedResolution() {
+        ResolutionCache<String> cache = new ResolutionCache<>("type declaration");
+        ArraySchema array = new ArraySchema().items(new StringSchema());
+        String declaration = cache.resolve(array, (outer) ->
+                "Array<" + cache.resolve(((ArraySchema) outer).getItems(), (inner) -> "string") + ">");
+        assertEquals("Array<string>", declaration);
+        assertEquals("string", cache.resolve(array.getItems(), (inner) -> "unexpected"),
+                "The nested schema has not been cached.");
+    }
+
+    @Test
+    public void testSelfReference() {
+        ResolutionCache<String> cache = new ResolutionCache<>("type declaration");
+        Schema<?> schema = new ObjectSchema().name("Node");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> cache.resolve(schema, (outer) -> cache.resolve(outer, (inner) -> "Node")));
+        assertEquals("The type declaration of the schema 'Node' references itself.", exception.getMessage());
+
+        // a failed resolution must not leave the schema marked as being resolved
+        assertEquals("Node", cache.resolve(schema, (resolved) -> "Node"));
+    }
+
+}
@@ -0,0 +1,122 @@
+package net.webpdf.codegen.scaling;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Measures how the generator scales with the shape of the specification. Each knob of {@link SyntheticSpec} is grown
+ * step by step, while the remaining knobs stay fixed. The growth of wall time and allocated heap between the
+ * smallest and the largest step must stay within a near-linear bound.
+ * </p>
+ * <p>
+ * The harness is expensive and therefore only runs, when requested explicitly:
+ * {@code mvn test -Dcodegen.scaling=true}. The bound may be adjusted using {@code -Dcodegen.scaling.maxExponent}
+ * and the step sizes using {@code -Dcodegen.scaling.factor}.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = "codegen.scaling", matches = "true")
+public class CodegenScalingTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodegenScalingTest.class);
+
+    private static final double MAX_EXPONENT =
+            Double.parseDouble(System.getProperty("codegen.scaling.maxExponent", "1.5"));
+    private static final int FACTOR = Integer.getInteger("codegen.scaling.factor", 1);
+    private static final int STEPS = 3;
+
+    private final GenerationProbe probe = new GenerationProbe();
+
+    @Test
+    public void testSchemaCount() throws IOException {
+        measureKnob("schemaCount", 100 * FACTOR,
+                size -> new SyntheticSpec().setSchemaCount(size));
+    }
+
+    @Test
+    public void testInheritanceDepth() throws IOException {
+        measureKnob("inheritanceDepth", 4 * FACTOR,
+                size -> new SyntheticSpec().setSchemaCount(64 * FACTOR).setInheritanceDepth(size));
+    }
+
+    @Test
+    public void testOneOfWidth() throws IOException {
+        measureKnob("oneOfWidth", 8 * FACTOR,
+                size -> new SyntheticSpec().setOneOfCount(4).setOneOfWidth(size));
+    }
+
+    @Test
+    public void testDiscriminatedOneOfWidth() throws IOException {
+        measureKnob("discriminatedOneOfWidth", 8 * FACTOR,
+                size -> new SyntheticSpec().setOneOfCount(4).setOneOfWidth(size).setDiscriminated(true));
+    }
+
+    @Test
+    public void testInlineEnumCount() throws IOException {
+        measureKnob("inlineEnumCount", 2 * FACTOR,
+                size -> new SyntheticSpec().setInlineEnumCount(size));
+    }
+
+    @Test
+    public void testPrefixCount() throws IOException {
+        // the bundled configuration limits the number of distinct prefixes
+        measureKnob("prefixCount", 3,
+                size -> new SyntheticSpec().setSchemaCount(120 * FACTOR).setPrefixCount(size));
+    }
+
+    @Test
+    public void testBundledSpec() throws IOException {
+        String specContent;
+        try (InputStream spec = CodegenScalingTest.class.getResourceAsStream("/schema/openapi.json")) {
+            assertNotNull(spec, "The bundled specification is missing.");
+            specContent = IOUtils.toString(spec, StandardCharsets.UTF_8);
+        }
+        GenerationProbe.Measurement measurement = probe.measure("bundled openapi.json", specContent);
+        LOGGER.info("{}", measurement);
+        assertTrue(measurement.getFileCount() > 0, "The bundled specification did not produce any files.");
+    }
+
+    private void measureKnob(String knob, int initialSize, IntFunction<SyntheticSpec> shape) throws IOException {
+        // warm up the JIT and the template cache, so that the first step is not penalized
+        probe.measure(shape.apply(initialSize));
+
+        List<Integer> sizes = new ArrayList<>();
+        List<GenerationProbe.Measurement> measurements = new ArrayList<>();
+        for (int step = 0, size = initialSize; step < STEPS; step++, size *= 2) {
+            GenerationProbe.Measurement measurement = probe.measure(shape.apply(size));
+            sizes.add(size);
+            measurements.add(measurement);
+            LOGGER.info("{}: {}", knob, measurement);
+        }
+
+        GenerationProbe.Measurement first = measurements.get(0);
+        GenerationProbe.Measurement last = measurements.get(measurements.size() - 1);
+        double sizeRatio = (double) sizes.get(sizes.size() - 1) / sizes.get(0);
+        double timeExponent = exponent(first.getWallTimeMillis(), last.getWallTimeMillis(), sizeRatio);
+        double heapExponent = exponent(first.getAllocatedBytes(), last.getAllocatedBytes(), sizeRatio);
+        LOGGER.info(String.format("%s: time exponent %.2f, heap exponent %.2f", knob, timeExponent, heapExponent));
+
+        assertTrue(timeExponent <= MAX_EXPONENT, String.format(
+                "Wall time grows superlinearly with %s (exponent %.2f > %.2f).", knob, timeExponent, MAX_EXPONENT));
+        assertTrue(heapExponent <= MAX_EXPONENT, String.format(
+                "Allocated heap grows superlinearly with %s (exponent %.2f > %.2f).", knob, heapExponent, MAX_EXPONENT));
+    }
+
+    private static double exponent(long first, long last, double sizeRatio) {
+        return Math.log((double) Math.max(last, 1) / Math.max(first, 1)) / Math.log(sizeRatio);
+    }
+
+}
@@ -0,0 +1,124 @@
+package net.webpdf.codegen.scaling;
+
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.ClientOpts;
+import io.swagger.codegen.v3.DefaultGenerator;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import net.webpdf.codegen.TypeScriptFetchEnhancedClientCodegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Runs the complete {@link TypeScriptFetchEnhancedClientCodegen} pipeline for a specification and records the wall
+ * time and the heap allocated by that run. The generator runs on the calling thread, the allocated bytes are
+ * therefore read from the {@link com.sun.management.ThreadMXBean} of that thread. Unlike the peak usage of the heap
+ * pools, they do not depend on when the garbage collector happens to run.
+ */
+public class GenerationProbe {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * The result of a single generator run.
+     */
+    public static class Measurement {
+
+        private final String label;
+        private final long wallTimeMillis;
+        private final long allocatedBytes;
+        private final int fileCount;
+
+        Measurement(String label, long wallTimeMillis, long allocatedBytes, int fileCount) {
+            this.label = label;
+            this.wallTimeMillis = wallTimeMillis;
+            this.allocatedBytes = allocatedBytes;
+            this.fileCount = fileCount;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getWallTimeMillis() {
+            return wallTimeMillis;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public int getFileCount() {
+            return fileCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-80s %8d ms %10d KiB allocated %6d files",
+                    label, wallTimeMillis, allocatedBytes / 1024, fileCount);
+        }
+
+    }
+
+    /**
+     * Generates the client for the given synthesized specification.
+     *
+     * @param spec The {@link SyntheticSpec} to generate.
+     * @return The resulting {@link Measurement}.
+     */
+    public Measurement measure(SyntheticSpec spec) throws IOException {
+        return measure(spec.describe(), spec.toJson());
+    }
+
+    /**
+     * Generates the client for the given specification.
+     *
+     * @param label       The label of the resulting {@link Measurement}.
+     * @param specContent The OpenAPI document.
+     * @return The resulting {@link Measurement}.
+     */
+    public Measurement measure(String label, String specContent) throws IOException {
+        Path outputDir = Files.createTempDirectory("codegen-scaling");
+        try {
+            long threadId = Thread.currentThread().getId();
+            long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            ParseOptions parseOptions = new ParseOptions();
+            parseOptions.setResolve(true);
+            SwaggerParseResult result = new OpenAPIV3Parser().readContents(specContent, null, parseOptions);
+            OpenAPI openAPI = result.getOpenAPI();
+            if (openAPI == null) {
+                throw new IOException("Unable to parse specification: " + result.getMessages());
+            }
+            TypeScriptFetchEnhancedClientCodegen config = new TypeScriptFetchEnhancedClientCodegen();
+            config.setOutputDir(outputDir.toString());
+            List<File> files = new DefaultGenerator()
+                    .opts(new ClientOptInput().opts(new ClientOpts()).openAPI(openAPI).config(config))
+                    .generate();
+            long wallTime = (System.nanoTime() - start) / 1_000_000;
+            long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            return new Measurement(label, wallTime, allocated, files.size());
+        } finally {
+            delete(outputDir);
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+}
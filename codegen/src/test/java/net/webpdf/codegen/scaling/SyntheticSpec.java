@@ -0,0 +1,216 @@
+package net.webpdf.codegen.scaling;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthesizes OpenAPI specifications of a configurable shape, that are used to measure how the generator scales.
+ */
+@SuppressWarnings({"UnusedReturnValue", "unused"})
+public class SyntheticSpec {
+
+    private static final String GENERATOR_CONFIG = "/generator_config.json";
+    private static final String SCHEMA_REFERENCE = "#/components/schemas/";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private int schemaCount = 50;
+    private int inheritanceDepth = 1;
+    private int oneOfCount = 0;
+    private int oneOfWidth = 0;
+    private boolean discriminated = false;
+    private int inlineEnumCount = 0;
+    private int prefixCount = 1;
+
+    public int getSchemaCount() {
+        return schemaCount;
+    }
+
+    public SyntheticSpec setSchemaCount(int value) {
+        this.schemaCount = value;
+        return this;
+    }
+
+    public int getInheritanceDepth() {
+        return inheritanceDepth;
+    }
+
+    public SyntheticSpec setInheritanceDepth(int value) {
+        this.inheritanceDepth = Math.max(1, value);
+        return this;
+    }
+
+    public int getOneOfCount() {
+        return oneOfCount;
+    }
+
+    public SyntheticSpec setOneOfCount(int value) {
+        this.oneOfCount = value;
+        return this;
+    }
+
+    public int getOneOfWidth() {
+        return oneOfWidth;
+    }
+
+    public SyntheticSpec setOneOfWidth(int value) {
+        this.oneOfWidth = value;
+        return this;
+    }
+
+    public boolean isDiscriminated() {
+        return discriminated;
+    }
+
+    public SyntheticSpec setDiscriminated(boolean value) {
+        this.discriminated = value;
+        return this;
+    }
+
+    public int getInlineEnumCount() {
+        return inlineEnumCount;
+    }
+
+    public SyntheticSpec setInlineEnumCount(int value) {
+        this.inlineEnumCount = value;
+        return this;
+    }
+
+    public int getPrefixCount() {
+        return prefixCount;
+    }
+
+    public SyntheticSpec setPrefixCount(int value) {
+        this.prefixCount = Math.max(1, value);
+        return this;
+    }
+
+    /**
+     * Returns a short summary of all knobs, that is used to label measurements.
+     *
+     * @return The summary of this shape.
+     */
+    public String describe() {
+        return "schemas=" + schemaCount + " depth=" + inheritanceDepth + " oneOf=" + oneOfCount + "x" + oneOfWidth +
+                (discriminated ? "(discriminated)" : "") + " enums=" + inlineEnumCount + " prefixes=" + prefixCount;
+    }
+
+    /**
+     * Serializes the synthesized specification.
+     *
+     * @return The OpenAPI document as JSON.
+     */
+    public String toJson() throws IOException {
+        List<String> prefixes = readPrefixes();
+        ObjectNode spec = MAPPER.createObjectNode();
+        spec.put("openapi", "3.0.1");
+        spec.putObject("info").put("title", "synthetic").put("version", "1.0");
+        spec.putObject("paths");
+        ObjectNode schemas = spec.putObject("components").putObject("schemas");
+
+        for (int i = 0; i < schemaCount; i++) {
+            String prefix = prefixes.get(i % Math.min(prefixCount, prefixes.size()));
+            ObjectNode schema = schemas.putObject(prefix + "Synthetic" + i);
+            schema.put("type", "object");
+            schema.put("description", "Synthetic schema " + i + ".");
+            if (i % inheritanceDepth != 0) {
+                String parentPrefix = prefixes.get((i - 1) % Math.min(prefixCount, prefixes.size()));
+                schema.putArray("allOf").addObject()
+                        .put("$ref", SCHEMA_REFERENCE + parentPrefix + "Synthetic" + (i - 1));
+            }
+            ObjectNode properties = schema.putObject("properties");
+            properties.putObject("label" + i)
+                    .put("type", "string")
+                    .put("default", "label")
+                    .put("description", "A label.");
+            properties.putObject("count" + i)
+                    .put("type", "integer")
+                    .put("format", "int32")
+                    .put("default", 1)
+                    .put("minimum", 0)
+                    .put("maximum", 100);
+            properties.putObject("enabled" + i)
+                    .put("type", "boolean")
+                    .put("default", false);
+            properties.putObject("tags" + i)
+                    .put("type", "array")
+                    .putObject("items").put("type", "string");
+            if (i + 1 < schemaCount) {
+                String referencePrefix = prefixes.get((i + 1) % Math.min(prefixCount, prefixes.size()));
+                properties.putObject("next" + i)
+                        .put("$ref", SCHEMA_REFERENCE + referencePrefix + "Synthetic" + (i + 1));
+            }
+            for (int e = 0; e < inlineEnumCount; e++) {
+                ObjectNode enumProperty = properties.putObject("mode" + i + "x" + e);
+                enumProperty.put("type", "string");
+                enumProperty.put("default", "FIRST");
+                enumProperty.putArray("enum").add("FIRST").add("SECOND").add("THIRD");
+                // every other enum is extracted to a type of its own, the remaining ones stay inline
+                if (e % 2 == 0) {
+                    enumProperty.putObject("x-webpdf-codegen")
+                            .put("enumName", prefix + "SyntheticMode" + i + "x" + e);
+                }
+            }
+        }
+
+        for (int g = 0; g < oneOfCount; g++) {
+            String prefix = prefixes.get(g % Math.min(prefixCount, prefixes.size()));
+            String baseName = prefix + "SyntheticBase" + g;
+            ObjectNode base = schemas.putObject(baseName);
+            base.put("type", "object");
+            if (discriminated) {
+                ObjectNode discriminator = base.putObject("discriminator");
+                discriminator.put("propertyName", "kind");
+                ObjectNode mapping = discriminator.putObject("mapping");
+                base.putObject("properties").putObject("kind").put("type", "string");
+                base.putArray("required").add("kind");
+                for (int v = 0; v < oneOfWidth; v++) {
+                    String variantName = prefix + "SyntheticVariant" + g + "x" + v;
+                    mapping.put("kind" + v, SCHEMA_REFERENCE + variantName);
+                    ObjectNode variant = schemas.putObject(variantName);
+                    variant.put("type", "object");
+                    variant.putArray("allOf").addObject().put("$ref", SCHEMA_REFERENCE + baseName);
+                    variant.putObject("properties").putObject("value" + v).put("type", "string");
+                    variant.putArray("required").add("kind");
+                }
+            } else {
+                ArrayNode oneOf = base.putArray("oneOf");
+                for (int v = 0; v < oneOfWidth; v++) {
+                    String variantName = prefix + "SyntheticVariant" + g + "x" + v;
+                    oneOf.addObject().put("$ref", SCHEMA_REFERENCE + variantName);
+                    ObjectNode variant = schemas.putObject(variantName);
+                    variant.put("type", "object");
+                    ObjectNode content = variant.putObject("properties").putObject("variant" + g + "x" + v);
+                    content.put("type", "object");
+                    content.putObject("properties").putObject("value").put("type", "string");
+                    variant.putObject("x-webpdf-codegen").put("extends", baseName);
+                }
+            }
+        }
+
+        return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(spec);
+    }
+
+    private static List<String> readPrefixes() throws IOException {
+        List<String> prefixes = new ArrayList<>();
+        try (InputStream config = SyntheticSpec.class.getResourceAsStream(GENERATOR_CONFIG)) {
+            if (config == null) {
+                throw new IOException("Missing generator configuration " + GENERATOR_CONFIG);
+            }
+            for (JsonNode prefix : MAPPER.readTree(config).at("/packages")) {
+                prefixes.add(prefix.get("prefix").asText(""));
+            }
+        }
+        if (prefixes.isEmpty()) {
+            prefixes.add("");
+        }
+        return prefixes;
+    }
+
+}
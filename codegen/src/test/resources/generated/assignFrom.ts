@@ -0,0 +1,36 @@
+import * as assert from "assert";
+import {Drawing, Figure, Point} from "./models";
+import {drawingJson, figureJson, wireJson} from "./fixtures";
+
+let figure: Figure = Figure.fromJson(figureJson);
+let origin: Point = figure.origin!;
+let points: Array<Point> = figure.points!;
+let first: Point = points[0];
+
+assert.strictEqual(figure.assignFrom(figureJson), false, "Assigning the same data has changed the figure.");
+assert.strictEqual(figure.assignFrom(JSON.parse(JSON.stringify(figureJson))), false,
+    "Assigning equal data has changed the figure.");
+
+assert.strictEqual(figure.assignFrom({...figureJson, quality: 10, origin: {x: 1, y: 20}, points: [{x: 30, y: 4}]}),
+    true, "The changes have not been reported.");
+assert.strictEqual(figure.quality, 10);
+assert.strictEqual(figure.origin, origin, "The nested model has not been reused.");
+assert.strictEqual(origin.y, 20);
+assert.strictEqual(figure.points, points, "The array of models has not been reused.");
+assert.strictEqual(points.length, 1);
+assert.strictEqual(points[0], first, "The array item has not been reused.");
+assert.strictEqual(first.x, 30);
+
+// properties missing from the data are reset to their defaults, as they would be by fromJson()
+assert.strictEqual(figure.assignFrom({name: "reset"}), true);
+assert.ok(figure.equals(Figure.fromJson({name: "reset"})), "The figure has not been reset.");
+assert.strictEqual(figure.quality, 75);
+assert.strictEqual(figure.origin, undefined);
+assert.strictEqual(figure.points!.length, 0);
+
+let drawing: Drawing = Drawing.fromJson(drawingJson);
+assert.strictEqual(drawing.assignFrom(drawingJson), false, "Assigning the same data has changed the drawing.");
+let changed: any = {...drawingJson, title: "changed", background: {...drawingJson.background, corners: 6}};
+assert.strictEqual(drawing.assignFrom(changed), true);
+assert.deepStrictEqual(wireJson(drawing), wireJson(Drawing.fromJson(changed)),
+    "The drawing differs from the decoded data.");
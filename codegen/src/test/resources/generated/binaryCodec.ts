@@ -0,0 +1,42 @@
+import * as assert from "assert";
+import {Drawing, Figure, Polygon} from "./models";
+import {drawingJson, figureJson, polygonJson} from "./fixtures";
+
+interface BinaryModel {
+    equals(other: any): boolean;
+    toJson(): any;
+    toBinary(): Uint8Array;
+}
+
+/**
+ * Checks, that decoding the binary encoding of the model results in the same model as decoding its JSON encoding
+ * (see the conformance check of the benchmarks).
+ */
+function checkConformance(model: BinaryModel, fromJson: (data: any) => BinaryModel,
+                          fromBinary: (data: Uint8Array) => BinaryModel): void {
+    let viaJson: BinaryModel = fromJson(JSON.parse(JSON.stringify(model.toJson())));
+    let viaBinary: BinaryModel = fromBinary(model.toBinary());
+    assert.ok(viaBinary.equals(viaJson), "The binary encoding does not conform to the JSON encoding.");
+    assert.deepStrictEqual(fromBinary(viaBinary.toBinary()).toJson(), viaJson.toJson(),
+        "The binary encoding of a decoded model does not conform to the JSON encoding.");
+}
+
+checkConformance(Figure.fromJson(figureJson), Figure.fromJson, Figure.fromBinary);
+checkConformance(Figure.fromJson({name: "empty"}), Figure.fromJson, Figure.fromBinary);
+checkConformance(Polygon.fromJson(polygonJson), Polygon.fromJson, Polygon.fromBinary);
+checkConformance(Drawing.fromJson(drawingJson), Drawing.fromJson, Drawing.fromBinary);
+
+// values unknown to the enumeration are kept as they are
+let unknown: Figure = Figure.fromJson({name: "unknown", shape: "hexagon"});
+assert.strictEqual(Figure.fromBinary(unknown.toBinary()).toJson().shape, "hexagon");
+
+// {0: "x", 1: <shape index>}, where the index 1 is "square"
+let encoded: Array<number> = [0x82, 0x00, 0xa1, 0x78, 0x01, 0x01];
+assert.strictEqual(Figure.fromBinary(new Uint8Array(encoded)).shape, "square");
+// indices beyond the enumeration, negative indices and fractions are rejected
+for (let index of [[0x03], [0x7f], [0xff], [0xcb, 0x3f, 0xe0, 0, 0, 0, 0, 0, 0]]) {
+    let corrupted: Uint8Array = new Uint8Array([...encoded.slice(0, 5), ...index]);
+    assert.throws(() => Figure.fromBinary(corrupted), /Unknown binary enum value/,
+        "The enum index " + index + " has not been rejected.");
+}
+assert.throws(() => Figure.fromBinary(new Uint8Array([...encoded, 0x00])), /trailing binary data/);
@@ -0,0 +1,30 @@
+import * as assert from "assert";
+import {Drawing, Figure, Point, Polygon, Shape} from "./models";
+import {figureJson} from "./fixtures";
+
+let figure: Figure = Figure.builder()
+    .name("built")
+    .shape(Shape.Circle)
+    .quality(10)
+    .origin(Point.builder().x(1).y(2).build())
+    .tags(["tag"])
+    .build();
+assert.ok(figure instanceof Figure);
+assert.ok(figure.equals(Figure.fromJson({name: "built", shape: "circle", quality: 10, origin: {x: 1, y: 2},
+    tags: ["tag"]})), "The built figure differs from the decoded one.");
+assert.strictEqual(figure.visible, true, "The defaults have not been applied to the built figure.");
+
+// the setters of the super type return the builder of the sub type
+let polygon: Polygon = Polygon.builder().name("polygon").corners(5).quality(20).closed(true).build();
+assert.ok(polygon instanceof Polygon);
+assert.strictEqual(polygon.corners, 5);
+assert.strictEqual(polygon.quality, 20);
+assert.strictEqual(polygon.closed, true);
+
+let drawing: Drawing = Drawing.builder().title("built").figures([figure]).background(polygon).build();
+assert.strictEqual(drawing.background, polygon, "The built model has not been assigned.");
+assert.ok(Drawing.fromJson(JSON.parse(JSON.stringify(drawing.toJson()))).equals(drawing),
+    "The built drawing does not survive a round trip.");
+
+assert.notStrictEqual(Figure.builder().build(), Figure.builder().build(), "The builders share an instance.");
+assert.ok(Figure.builder().name(figureJson.name).build().equals(Figure.fromJson({name: figureJson.name})));
@@ -0,0 +1,22 @@
+import * as assert from "assert";
+import {Drawing, Figure, ModelProjection, Point, Polygon} from "./models";
+import {drawingJson, figureJson, polygonJson} from "./fixtures";
+
+let projection = ModelProjection.project(Figure, figureJson, {name: true, origin: {x: true}, points: true});
+assert.deepStrictEqual(Object.keys(projection), ["name", "origin", "points"], "Unselected fields have been decoded.");
+let name: string = projection.name;
+assert.strictEqual(name, "figure");
+assert.deepStrictEqual(projection.origin, {x: 1}, "The nested selection has not been applied.");
+assert.ok(projection.points![0] instanceof Point, "The selected models have not been decoded completely.");
+assert.ok(projection.points![1].equals(Point.fromJson({x: 5, y: 6})));
+
+assert.deepStrictEqual(ModelProjection.project(Figure, {name: "defaults"}, {quality: true, tags: true}),
+    {quality: 75, tags: []}, "The defaults have not been applied to the selected fields.");
+assert.deepStrictEqual(ModelProjection.project(Polygon, polygonJson, {name: true, corners: true}),
+    {name: "polygon", corners: 5}, "The inherited fields have not been projected.");
+assert.deepStrictEqual(ModelProjection.projectArray(Figure, [figureJson, {name: "second"}], {name: true}),
+    [{name: "figure"}, {name: "second"}]);
+
+let drawing = ModelProjection.project(Drawing, drawingJson, {figures: {name: true}, background: {corners: true}});
+assert.deepStrictEqual(drawing, {figures: [{name: "figure"}, {name: "second"}], background: {corners: 5}});
+assert.strictEqual(ModelProjection.project(Figure, undefined, {name: true}), undefined);
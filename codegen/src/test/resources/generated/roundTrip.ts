@@ -0,0 +1,37 @@
+import * as assert from "assert";
+import {Drawing, Figure, Parameter, Polygon} from "./models";
+import {drawingJson, figureJson, polygonJson, wireJson} from "./fixtures";
+
+function checkRoundTrip(model: Parameter, decode: (data: any) => Parameter): void {
+    let decoded: Parameter = decode(wireJson(model));
+    assert.ok(decoded.equals(model), "The decoded model differs from the encoded one.");
+    assert.ok(model.equals(decoded), "The comparison is not symmetric.");
+    assert.strictEqual(decoded.hashCode(), model.hashCode(), "Equal models have different hash codes.");
+    assert.strictEqual(decoded.fingerprint(), model.fingerprint(), "Equal models have different fingerprints.");
+
+    let clone: Parameter = model.clone();
+    assert.notStrictEqual(clone, model, "The clone is the same instance.");
+    assert.ok(clone.equals(model), "The clone differs from the model.");
+}
+
+let figure: Figure = Figure.fromJson(figureJson);
+assert.ok(figure instanceof Figure);
+assert.deepStrictEqual(wireJson(figure), figureJson, "The figure has not been encoded as it has been decoded.");
+checkRoundTrip(figure, Figure.fromJson);
+
+let polygon: Polygon = Polygon.fromJson(polygonJson);
+assert.deepStrictEqual(wireJson(polygon), polygonJson, "The polygon has not been encoded as it has been decoded.");
+checkRoundTrip(polygon, Polygon.fromJson);
+assert.ok(!polygon.equals(Figure.fromJson(polygonJson)), "Models of different types are equal.");
+
+let drawing: Drawing = Drawing.fromJson(drawingJson);
+checkRoundTrip(drawing, Drawing.fromJson);
+assert.strictEqual(drawing.figures![1].quality, 75, "The default of a nested model has not been applied.");
+assert.strictEqual(drawing.background!.corners, 5);
+
+let changed: Drawing = Drawing.fromJson({...drawingJson, figures: [figureJson, {name: "other"}]});
+assert.ok(!changed.equals(drawing), "A changed nested model has not been detected.");
+assert.notStrictEqual(changed.fingerprint(), drawing.fingerprint(), "A changed nested model shares the fingerprint.");
+
+assert.strictEqual(Figure.fromJson(undefined), undefined);
+assert.strictEqual(Figure.fromJson(null), null);
@@ -188,6 +188,11 @@ export const WsclientErrors = {
      */
     XML_OR_JSON_CONVERSION_FAILURE: new WsclientError(-37, "Unable to convert to XML/JSON"),
 
+    /**
+     * A setting of the {@link SessionContext} is out of range - please check the value passed to the setter.
+     */
+    INVALID_SESSION_CONTEXT: new WsclientError(-38, "Invalid session context setting."),
+
     /**
      * The provided authentication/authorization material is invalid and a session may not be established.
      */
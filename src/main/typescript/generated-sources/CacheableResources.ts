@@ -0,0 +1,72 @@
+/**
+ * Describes a GET resource, whose responses may be cached by the client. A cached response is reused for "ttl"
+ * milliseconds and shall be discarded as soon as one of the "invalidatedBy" operations is issued.
+ */
+export interface CacheableResource {
+
+    operationId: string;
+    path: string;
+    ttl: number;
+    invalidatedBy: Array<string>;
+
+}
+
+export class CacheableResources {
+
+    public static readonly readClusterStatus: CacheableResource = {
+        operationId: "readClusterStatus",
+        path: "/admin/cluster/status",
+        ttl: 5000,
+        invalidatedBy: ["restartServer"]
+    };
+
+    public static readonly readConfiguration: CacheableResource = {
+        operationId: "readConfiguration",
+        path: "/admin/configuration/{type}",
+        ttl: 60000,
+        invalidatedBy: ["updateConfiguration", "restartServer"]
+    };
+
+    public static readonly readDataStoreFile: CacheableResource = {
+        operationId: "readDataStoreFile",
+        path: "/admin/datastore/{group}",
+        ttl: 60000,
+        invalidatedBy: ["updateDataStoreFile", "deleteDataStoreFile"]
+    };
+
+    public static readonly readServerStatistic: CacheableResource = {
+        operationId: "readServerStatistic",
+        path: "/admin/statistic/{dataSource}/{aggregation}",
+        ttl: 5000,
+        invalidatedBy: []
+    };
+
+    public static readonly readServerStatus: CacheableResource = {
+        operationId: "readServerStatus",
+        path: "/admin/server/status",
+        ttl: 5000,
+        invalidatedBy: ["restartServer"]
+    };
+
+    public static readonly readSessionTable: CacheableResource = {
+        operationId: "readSessionTable",
+        path: "/admin/session/table",
+        ttl: 5000,
+        invalidatedBy: ["closeSession"]
+    };
+
+}
+
+/**
+ * The IDs of the operations invalidating cached responses (see {@link CacheableResource#invalidatedBy}), which
+ * shall be referenced instead of literal IDs, so that a renamed operation fails the compilation.
+ */
+export class InvalidatingOperations {
+
+    public static readonly closeSession: string = "closeSession";
+    public static readonly deleteDataStoreFile: string = "deleteDataStoreFile";
+    public static readonly restartServer: string = "restartServer";
+    public static readonly updateConfiguration: string = "updateConfiguration";
+    public static readonly updateDataStoreFile: string = "updateDataStoreFile";
+
+}
@@ -0,0 +1,6 @@
+export enum ClusterMode {
+
+    Single = 'single',
+    Cluster = 'cluster'
+
+}
\ No newline at end of file
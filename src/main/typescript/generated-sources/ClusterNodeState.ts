@@ -0,0 +1,12 @@
+export enum ClusterNodeState {
+
+    Unknown = 'unknown',
+    Init = 'init',
+    Connect = 'connect',
+    Wait = 'wait',
+    Boot = 'boot',
+    Locked = 'locked',
+    Up = 'up',
+    Down = 'down'
+
+}
\ No newline at end of file
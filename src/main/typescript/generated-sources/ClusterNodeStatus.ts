@@ -0,0 +1,157 @@
+import {
+    ModelAssignment,
+    WebserviceResult,
+    ClusterNodeState,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface ClusterNodeStatusInterface  {
+
+    error?: WebserviceResult;
+    isCoordinator?: boolean;
+    localAddress?: string;
+    name?: string;
+    state?: ClusterNodeState;
+
+}
+export class ClusterNodeStatus implements ClusterNodeStatusInterface, Parameter {
+    error?: WebserviceResult;
+    isCoordinator?: boolean;
+    localAddress?: string;
+    name?: string;
+    state?: ClusterNodeState;
+
+    constructor(data: any) {
+        this.error = WebserviceResult.fromJson(data?.error);
+        let isCoordinatorDefault: any = false;
+        this.isCoordinator = typeof data?.isCoordinator !== "undefined" ? data?.isCoordinator : isCoordinatorDefault;
+        let localAddressDefault: any = "";
+        this.localAddress = typeof data?.localAddress !== "undefined" ? data?.localAddress : localAddressDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let stateDefault: any = "init";
+        this.state = typeof data?.state !== "undefined" ? data?.state : stateDefault;
+    }
+
+    public static getErrorDescription(): string {
+        return "";
+    }
+
+    public static getIsCoordinatorDefault(): boolean {
+        return false;
+    }
+
+    public static getIsCoordinatorDescription(): string {
+        return "";
+    }
+
+    public static getLocalAddressDefault(): string {
+        return "";
+    }
+
+    public static getLocalAddressDescription(): string {
+        return "";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "";
+    }
+
+    public static getStateDefault(): ClusterNodeState {
+        return "init" as ClusterNodeState;
+    }
+
+    public static getStateDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ClusterNodeStatus {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ClusterNodeStatus(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ClusterNodeStatus> {
+        return ModelStream.decodeArray(source, ClusterNodeStatus.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'error': this.error?.toJson(),
+            'isCoordinator': this.isCoordinator,
+            'localAddress': this.localAddress,
+            'name': this.name,
+            'state': this.state,
+        };
+    }
+
+    public clone(): ClusterNodeStatus {
+        return ClusterNodeStatus.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "error", data?.error, WebserviceResult.fromJson, WebserviceResult) || changed;
+        changed = ModelAssignment.assignValue(this, "isCoordinator", typeof data?.isCoordinator !== "undefined" ? data?.isCoordinator : false) || changed;
+        changed = ModelAssignment.assignValue(this, "localAddress", typeof data?.localAddress !== "undefined" ? data?.localAddress : "") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "state", typeof data?.state !== "undefined" ? data?.state : "init") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.error, other.error)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isCoordinator, other.isCoordinator)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.localAddress, other.localAddress)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.state, other.state)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.error);
+        hash = ModelEquality.hash(hash, this.isCoordinator);
+        hash = ModelEquality.hash(hash, this.localAddress);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.state);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ClusterNodeStatus(";
+        fingerprint += ModelEquality.fingerprint(this.error) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isCoordinator) + ",";
+        fingerprint += ModelEquality.fingerprint(this.localAddress) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.state) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum ClusterRole {
+
+    Coordinator = 'coordinator',
+    Member = 'member'
+
+}
\ No newline at end of file
@@ -0,0 +1,230 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ClusterMode,
+    Parameter,
+    ModelEquality,
+    ClusterRole,
+} from "./index";
+
+export interface ClusterSettingsInterface  {
+
+    /**
+    * Defines the number of milliseconds that a server node waits when it joins the cluster (e.g. when waiting for a coordinator server node)
+    */
+    connectTimeout?: number;
+    mode?: ClusterMode;
+    /**
+    * Defines the name of the cluster. If the server node has a coordinator role, the cluster is created under this name. If the server node has the role of a member, the node attempts to join the cluster with this name.
+    */
+    name?: string;
+    /**
+    * Defines the name for the node. If it is empty, the host name of the machine is used.
+    */
+    nodeName?: string;
+    role?: ClusterRole;
+    /**
+    * The encryption key used for communication in the cluster between the nodes. All nodes must use the same 64-digit hexadecimal encryption key. The encryption key is created when the cluster is initialized.
+    */
+    secretKey?: string;
+    /**
+    * If 'true', the server node is also started if an error has occurred (e.g. when joining the cluster).
+    */
+    stopOnError?: boolean;
+
+}
+export class ClusterSettings implements ClusterSettingsInterface, Parameter {
+    /**
+    * Defines the number of milliseconds that a server node waits when it joins the cluster (e.g. when waiting for a coordinator server node)
+    */
+    connectTimeout?: number;
+    mode?: ClusterMode;
+    /**
+    * Defines the name of the cluster. If the server node has a coordinator role, the cluster is created under this name. If the server node has the role of a member, the node attempts to join the cluster with this name.
+    */
+    name?: string;
+    /**
+    * Defines the name for the node. If it is empty, the host name of the machine is used.
+    */
+    nodeName?: string;
+    role?: ClusterRole;
+    /**
+    * The encryption key used for communication in the cluster between the nodes. All nodes must use the same 64-digit hexadecimal encryption key. The encryption key is created when the cluster is initialized.
+    */
+    secretKey?: string;
+    /**
+    * If 'true', the server node is also started if an error has occurred (e.g. when joining the cluster).
+    */
+    stopOnError?: boolean;
+
+    constructor(data: any) {
+        let connectTimeoutDefault: any = 0;
+        this.connectTimeout = typeof data?.connectTimeout !== "undefined" ? data?.connectTimeout : connectTimeoutDefault;
+        let modeDefault: any = "single";
+        this.mode = typeof data?.mode !== "undefined" ? data?.mode : modeDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let nodeNameDefault: any = "";
+        this.nodeName = typeof data?.nodeName !== "undefined" ? data?.nodeName : nodeNameDefault;
+        let roleDefault: any = "member";
+        this.role = typeof data?.role !== "undefined" ? data?.role : roleDefault;
+        let secretKeyDefault: any = "";
+        this.secretKey = typeof data?.secretKey !== "undefined" ? data?.secretKey : secretKeyDefault;
+        let stopOnErrorDefault: any = false;
+        this.stopOnError = typeof data?.stopOnError !== "undefined" ? data?.stopOnError : stopOnErrorDefault;
+    }
+
+    public static getConnectTimeoutDefault(): number {
+        return 0;
+    }
+
+    public static getConnectTimeoutDescription(): string {
+        return "Defines the number of milliseconds that a server node waits when it joins the cluster (e.g. when waiting for a coordinator server node)";
+    }
+
+    public static getModeDefault(): ClusterMode {
+        return "single" as ClusterMode;
+    }
+
+    public static getModeDescription(): string {
+        return "";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "Defines the name of the cluster. If the server node has a coordinator role, the cluster is created under this name. If the server node has the role of a member, the node attempts to join the cluster with this name.";
+    }
+
+    public static getNodeNameDefault(): string {
+        return "";
+    }
+
+    public static getNodeNameDescription(): string {
+        return "Defines the name for the node. If it is empty, the host name of the machine is used.";
+    }
+
+    public static getRoleDefault(): ClusterRole {
+        return "member" as ClusterRole;
+    }
+
+    public static getRoleDescription(): string {
+        return "";
+    }
+
+    public static getSecretKeyDefault(): string {
+        return "";
+    }
+
+    public static getSecretKeyDescription(): string {
+        return "The encryption key used for communication in the cluster between the nodes. All nodes must use the same 64-digit hexadecimal encryption key. The encryption key is created when the cluster is initialized.";
+    }
+
+    public static getStopOnErrorDefault(): boolean {
+        return false;
+    }
+
+    public static getStopOnErrorDescription(): string {
+        return "If 'true', the server node is also started if an error has occurred (e.g. when joining the cluster).";
+    }
+
+    public static fromJson(data: any): ClusterSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ClusterSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ClusterSettings> {
+        return ModelStream.decodeArray(source, ClusterSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'connectTimeout': this.connectTimeout,
+            'mode': this.mode,
+            'name': this.name,
+            'nodeName': this.nodeName,
+            'role': this.role,
+            'secretKey': this.secretKey,
+            'stopOnError': this.stopOnError,
+        };
+    }
+
+    public clone(): ClusterSettings {
+        return ClusterSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "connectTimeout", typeof data?.connectTimeout !== "undefined" ? data?.connectTimeout : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "mode", typeof data?.mode !== "undefined" ? data?.mode : "single") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "nodeName", typeof data?.nodeName !== "undefined" ? data?.nodeName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "role", typeof data?.role !== "undefined" ? data?.role : "member") || changed;
+        changed = ModelAssignment.assignValue(this, "secretKey", typeof data?.secretKey !== "undefined" ? data?.secretKey : "") || changed;
+        changed = ModelAssignment.assignValue(this, "stopOnError", typeof data?.stopOnError !== "undefined" ? data?.stopOnError : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.connectTimeout, other.connectTimeout)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mode, other.mode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.nodeName, other.nodeName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.role, other.role)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.secretKey, other.secretKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.stopOnError, other.stopOnError)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.connectTimeout);
+        hash = ModelEquality.hash(hash, this.mode);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.nodeName);
+        hash = ModelEquality.hash(hash, this.role);
+        hash = ModelEquality.hash(hash, this.secretKey);
+        hash = ModelEquality.hash(hash, this.stopOnError);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ClusterSettings(";
+        fingerprint += ModelEquality.fingerprint(this.connectTimeout) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.nodeName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.role) + ",";
+        fingerprint += ModelEquality.fingerprint(this.secretKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.stopOnError) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
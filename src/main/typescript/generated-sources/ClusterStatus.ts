@@ -0,0 +1,211 @@
+import {
+    ModelAssignment,
+    ClusterNodeStatus,
+    WebserviceResult,
+    ClusterSettings,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface ClusterStatusInterface  {
+
+    error?: WebserviceResult;
+    id?: string;
+    isDemoMode?: boolean;
+    localAddress?: string;
+    maximumAllowedNodes?: number;
+    namespace?: string;
+    nodes?: Array<ClusterNodeStatus>;
+    settings?: ClusterSettings;
+
+}
+export class ClusterStatus implements ClusterStatusInterface, Parameter {
+    error?: WebserviceResult;
+    id?: string;
+    isDemoMode?: boolean;
+    localAddress?: string;
+    maximumAllowedNodes?: number;
+    namespace?: string;
+    nodes?: Array<ClusterNodeStatus>;
+    settings?: ClusterSettings;
+
+    constructor(data: any) {
+        this.error = WebserviceResult.fromJson(data?.error);
+        let idDefault: any = "";
+        this.id = typeof data?.id !== "undefined" ? data?.id : idDefault;
+        let isDemoModeDefault: any = false;
+        this.isDemoMode = typeof data?.isDemoMode !== "undefined" ? data?.isDemoMode : isDemoModeDefault;
+        let localAddressDefault: any = "";
+        this.localAddress = typeof data?.localAddress !== "undefined" ? data?.localAddress : localAddressDefault;
+        let maximumAllowedNodesDefault: any = 0;
+        this.maximumAllowedNodes = typeof data?.maximumAllowedNodes !== "undefined" ? data?.maximumAllowedNodes : maximumAllowedNodesDefault;
+        let namespaceDefault: any = "";
+        this.namespace = typeof data?.namespace !== "undefined" ? data?.namespace : namespaceDefault;
+        this.nodes = (data?.nodes || []).map(
+            ClusterNodeStatus.fromJson
+        );
+        this.settings = ClusterSettings.fromJson(data?.settings);
+    }
+
+    public static getErrorDescription(): string {
+        return "";
+    }
+
+    public static getIdDefault(): string {
+        return "";
+    }
+
+    public static getIdDescription(): string {
+        return "";
+    }
+
+    public static getIsDemoModeDefault(): boolean {
+        return false;
+    }
+
+    public static getIsDemoModeDescription(): string {
+        return "";
+    }
+
+    public static getLocalAddressDefault(): string {
+        return "";
+    }
+
+    public static getLocalAddressDescription(): string {
+        return "";
+    }
+
+    public static getMaximumAllowedNodesDefault(): number {
+        return 0;
+    }
+
+    public static getMaximumAllowedNodesDescription(): string {
+        return "";
+    }
+
+    public static getNamespaceDefault(): string {
+        return "";
+    }
+
+    public static getNamespaceDescription(): string {
+        return "";
+    }
+
+    public static getNodesDefault(): Array<ClusterNodeStatus> {
+        return [];
+    }
+
+    public static getNodesDescription(): string {
+        return "";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ClusterStatus {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ClusterStatus(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ClusterStatus> {
+        return ModelStream.decodeArray(source, ClusterStatus.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'error': this.error?.toJson(),
+            'id': this.id,
+            'isDemoMode': this.isDemoMode,
+            'localAddress': this.localAddress,
+            'maximumAllowedNodes': this.maximumAllowedNodes,
+            'namespace': this.namespace,
+            'nodes': this.nodes?.map((data) => data.toJson()),
+            'settings': this.settings?.toJson(),
+        };
+    }
+
+    public clone(): ClusterStatus {
+        return ClusterStatus.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "error", data?.error, WebserviceResult.fromJson, WebserviceResult) || changed;
+        changed = ModelAssignment.assignValue(this, "id", typeof data?.id !== "undefined" ? data?.id : "") || changed;
+        changed = ModelAssignment.assignValue(this, "isDemoMode", typeof data?.isDemoMode !== "undefined" ? data?.isDemoMode : false) || changed;
+        changed = ModelAssignment.assignValue(this, "localAddress", typeof data?.localAddress !== "undefined" ? data?.localAddress : "") || changed;
+        changed = ModelAssignment.assignValue(this, "maximumAllowedNodes", typeof data?.maximumAllowedNodes !== "undefined" ? data?.maximumAllowedNodes : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "namespace", typeof data?.namespace !== "undefined" ? data?.namespace : "") || changed;
+        changed = ModelAssignment.assignArray(this, "nodes", data?.nodes, ClusterNodeStatus.fromJson, ClusterNodeStatus) || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, ClusterSettings.fromJson, ClusterSettings) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.error, other.error)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.id, other.id)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isDemoMode, other.isDemoMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.localAddress, other.localAddress)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maximumAllowedNodes, other.maximumAllowedNodes)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.namespace, other.namespace)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.nodes, other.nodes)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.error);
+        hash = ModelEquality.hash(hash, this.id);
+        hash = ModelEquality.hash(hash, this.isDemoMode);
+        hash = ModelEquality.hash(hash, this.localAddress);
+        hash = ModelEquality.hash(hash, this.maximumAllowedNodes);
+        hash = ModelEquality.hash(hash, this.namespace);
+        hash = ModelEquality.hash(hash, this.nodes);
+        hash = ModelEquality.hash(hash, this.settings);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ClusterStatus(";
+        fingerprint += ModelEquality.fingerprint(this.error) + ",";
+        fingerprint += ModelEquality.fingerprint(this.id) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isDemoMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.localAddress) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maximumAllowedNodes) + ",";
+        fingerprint += ModelEquality.fingerprint(this.namespace) + ",";
+        fingerprint += ModelEquality.fingerprint(this.nodes) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface DocumentsBodyInterface  {
+
+    /**
+    * The document to upload, as binary data bytes.
+    */
+    filedata?: Blob;
+
+}
+export class DocumentsBody implements DocumentsBodyInterface, Parameter {
+    /**
+    * The document to upload, as binary data bytes.
+    */
+    filedata?: Blob;
+
+    constructor(data: any) {
+        this.filedata = data?.filedata;
+    }
+
+    public static getFiledataDescription(): string {
+        return "The document to upload, as binary data bytes.";
+    }
+
+    public static fromJson(data: any): DocumentsBody {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new DocumentsBody(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<DocumentsBody> {
+        return ModelStream.decodeArray(source, DocumentsBody.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'filedata': this.filedata,
+        };
+    }
+
+    public clone(): DocumentsBody {
+        return DocumentsBody.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "filedata", data?.filedata) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.filedata, other.filedata)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.filedata);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "DocumentsBody(";
+        fingerprint += ModelEquality.fingerprint(this.filedata) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
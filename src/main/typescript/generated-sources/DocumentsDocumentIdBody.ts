@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface DocumentsDocumentIdBodyInterface  {
+
+    /**
+    * The document to upload, as binary data bytes.
+    */
+    filedata?: Blob;
+
+}
+export class DocumentsDocumentIdBody implements DocumentsDocumentIdBodyInterface, Parameter {
+    /**
+    * The document to upload, as binary data bytes.
+    */
+    filedata?: Blob;
+
+    constructor(data: any) {
+        this.filedata = data?.filedata;
+    }
+
+    public static getFiledataDescription(): string {
+        return "The document to upload, as binary data bytes.";
+    }
+
+    public static fromJson(data: any): DocumentsDocumentIdBody {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new DocumentsDocumentIdBody(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<DocumentsDocumentIdBody> {
+        return ModelStream.decodeArray(source, DocumentsDocumentIdBody.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'filedata': this.filedata,
+        };
+    }
+
+    public clone(): DocumentsDocumentIdBody {
+        return DocumentsDocumentIdBody.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "filedata", data?.filedata) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.filedata, other.filedata)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.filedata);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "DocumentsDocumentIdBody(";
+        fingerprint += ModelEquality.fingerprint(this.filedata) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+import {ModelEquality} from "./ModelEquality";
+
+/**
+ * Assigns JSON data to the properties of existing model instances, as it is done by the generated assignFrom()
+ * methods. Nested models and arrays of models are updated in place, if their type matches, all other values are only
+ * replaced, if they are not structurally equal to the current value. Each method returns whether the property changed.
+ */
+export class ModelAssignment {
+
+    public static assignValue(target: any, key: string, value: any): boolean {
+        if (ModelEquality.equals(target[key], value)) {
+            return false;
+        }
+        target[key] = value;
+        return true;
+    }
+
+    /**
+     * Assigns a nested model. The current instance is reused, if it is an instance of exactly the given type, which
+     * shall only be given for types without sub types, as the data might otherwise be decoded to a different type.
+     */
+    public static assignModel(
+        target: any, key: string, data: any, decode: (data: any) => any, reusableType?: Function
+    ): boolean {
+        let current: any = target[key];
+        if (ModelAssignment.isReusable(current, data, reusableType)) {
+            return current.assignFrom(data);
+        }
+        return ModelAssignment.assignValue(target, key, decode(data));
+    }
+
+    /**
+     * Assigns an array of models. The current array and its items are reused, as long as the items are instances of
+     * exactly the given type.
+     */
+    public static assignArray(
+        target: any, key: string, data: any, decode: (data: any) => any, reusableType?: Function
+    ): boolean {
+        let items: Array<any> = data || [];
+        let current: any = target[key];
+        if (typeof reusableType === "undefined" || !Array.isArray(current)) {
+            return ModelAssignment.assignValue(target, key, items.map((item: any) => decode(item)));
+        }
+
+        let changed: boolean = current.length !== items.length;
+        for (let i = 0; i < items.length; i++) {
+            changed = ModelAssignment.assignModel(current, String(i), items[i], decode, reusableType) || changed;
+        }
+        current.length = items.length;
+        return changed;
+    }
+
+    private static isReusable(current: any, data: any, reusableType?: Function): boolean {
+        return typeof reusableType !== "undefined" && data !== undefined && data !== null &&
+            current !== undefined && current !== null && current.constructor === reusableType;
+    }
+
+}
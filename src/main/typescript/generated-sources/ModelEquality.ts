@@ -0,0 +1,186 @@
+/**
+ * Structural comparison, hashing and fingerprinting of model values. Model instances are compared and hashed using
+ * their own equals(), hashCode() and fingerprint() methods, arrays (and typed arrays) are compared element wise and
+ * maps (plain objects or Map instances) are compared by their entries, regardless of the key order. Dates are compared
+ * by their time value, ArrayBuffers and DataViews by their bytes.
+ * Blobs can only be read asynchronously: they are compared by identity, share a single hash code and can not be
+ * fingerprinted at all, fingerprint() rejects them instead of mapping different contents to the same key.
+ */
+export class ModelEquality {
+
+    public static equals(value: any, other: any): boolean {
+        if (value === other) {
+            return true;
+        }
+        if (value === undefined || value === null || other === undefined || other === null ||
+            typeof value !== "object" || typeof other !== "object") {
+            return value !== value && other !== other;
+        }
+        if (typeof value.equals === "function") {
+            return value.equals(other);
+        }
+        if (value instanceof Date || other instanceof Date) {
+            return value instanceof Date && other instanceof Date &&
+                ModelEquality.equals(value.getTime(), other.getTime());
+        }
+        if (ModelEquality.isBlob(value) || ModelEquality.isBlob(other)) {
+            return false;
+        }
+        value = ModelEquality.bytesOf(value);
+        other = ModelEquality.bytesOf(other);
+        if (ModelEquality.isArray(value)) {
+            if (!ModelEquality.isArray(other) || value.length !== other.length) {
+                return false;
+            }
+            for (let i = 0; i < value.length; i++) {
+                if (!ModelEquality.equals(value[i], other[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (ModelEquality.isArray(other)) {
+            return false;
+        }
+        if (value instanceof Map || other instanceof Map) {
+            return ModelEquality.equals(ModelEquality.entriesOf(value), ModelEquality.entriesOf(other));
+        }
+        let keys: Array<string> = Object.keys(value);
+        if (keys.length !== Object.keys(other).length) {
+            return false;
+        }
+        for (let key of keys) {
+            if (!Object.prototype.hasOwnProperty.call(other, key) || !ModelEquality.equals(value[key], other[key])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static hash(hash: number, value: any): number {
+        return (Math.imul(hash, 31) + ModelEquality.hashOf(value)) | 0;
+    }
+
+    public static hashOf(value: any): number {
+        switch (typeof value) {
+            case "undefined":
+                return 0;
+            case "boolean":
+                return value ? 1231 : 1237;
+            case "number":
+                return (value | 0) === value ? value : ModelEquality.hashString(String(value));
+            case "string":
+                return ModelEquality.hashString(value);
+        }
+        if (value === null) {
+            return 1;
+        }
+        if (typeof value.hashCode === "function") {
+            return value.hashCode();
+        }
+        if (value instanceof Date) {
+            return ModelEquality.hashOf(value.getTime());
+        }
+        if (ModelEquality.isBlob(value)) {
+            return 7;
+        }
+        value = ModelEquality.bytesOf(value);
+        let hash: number = 0;
+        if (ModelEquality.isArray(value)) {
+            hash = 1;
+            for (let item of value) {
+                hash = ModelEquality.hash(hash, item);
+            }
+            return hash;
+        }
+        if (value instanceof Map) {
+            value = ModelEquality.entriesOf(value);
+        }
+        // The entries of a map are summed up, so that the key order does not change the hash.
+        for (let key of Object.keys(value)) {
+            hash = (hash + (ModelEquality.hashString(key) ^ ModelEquality.hashOf(value[key]))) | 0;
+        }
+        return hash;
+    }
+
+    /**
+     * Creates a canonical representation of the given value. Strings are length prefixed and map entries are sorted,
+     * therefore two values share a fingerprint, if and only if they are structurally equal.
+     */
+    public static fingerprint(value: any): string {
+        switch (typeof value) {
+            case "undefined":
+                return "u";
+            case "boolean":
+                return value ? "t" : "f";
+            case "number":
+                return "d" + value + ";";
+            case "string":
+                return "s" + value.length + ":" + value;
+        }
+        if (value === null) {
+            return "n";
+        }
+        if (typeof value.fingerprint === "function") {
+            return value.fingerprint();
+        }
+        if (value instanceof Date) {
+            return "D" + value.getTime() + ";";
+        }
+        if (ModelEquality.isBlob(value)) {
+            throw new TypeError("A Blob can not be fingerprinted, its content is only available asynchronously.");
+        }
+        value = ModelEquality.bytesOf(value);
+        if (ModelEquality.isArray(value)) {
+            return "[" + Array.from(value, ModelEquality.fingerprint).join(",") + "]";
+        }
+        if (value instanceof Map) {
+            value = ModelEquality.entriesOf(value);
+        }
+        return "{" + Object.keys(value).sort().map(
+            (key: string) => ModelEquality.fingerprint(key) + "=" + ModelEquality.fingerprint(value[key])
+        ).join(",") + "}";
+    }
+
+    private static isArray(value: any): boolean {
+        return Array.isArray(value) || (ArrayBuffer.isView(value) && !(value instanceof DataView));
+    }
+
+    private static isBlob(value: any): boolean {
+        return typeof Blob !== "undefined" && value instanceof Blob;
+    }
+
+    /**
+     * Views ArrayBuffers and DataViews as byte arrays, which have no enumerable keys of their own.
+     */
+    private static bytesOf(value: any): any {
+        if (value instanceof ArrayBuffer) {
+            return new Uint8Array(value);
+        }
+        if (value instanceof DataView) {
+            return new Uint8Array(value.buffer, value.byteOffset, value.byteLength);
+        }
+        return value;
+    }
+
+    /**
+     * Copies the entries of a Map instance to a plain object, so that both map representations are treated alike.
+     */
+    private static entriesOf(value: any): any {
+        if (!(value instanceof Map)) {
+            return value;
+        }
+        let entries: any = {};
+        value.forEach((entry: any, key: any) => entries[String(key)] = entry);
+        return entries;
+    }
+
+    private static hashString(value: string): number {
+        let hash: number = 0;
+        for (let i = 0; i < value.length; i++) {
+            hash = (Math.imul(hash, 31) + value.charCodeAt(i)) | 0;
+        }
+        return hash;
+    }
+
+}
@@ -0,0 +1,197 @@
+interface JsonFrame {
+
+    array: boolean;
+    target: boolean;
+    expectKey: boolean;
+    key?: string;
+
+}
+
+/**
+ * <p>
+ * Incrementally decodes the elements of a JSON array, while the JSON document is still being received. The array may
+ * either be the document itself or it may be selected by the property names leading to it (e.g. ["documents"]). Each
+ * element is parsed and decoded to a model instance as soon as it is complete, therefore only the current element is
+ * buffered, regardless of the size of the document.
+ * </p>
+ * <p>
+ * Chunks are written via {@link JsonArrayDecoder#write}, which makes the decoder usable in any stream implementation,
+ * such as the transform() method of a Node.js Transform stream.
+ * </p>
+ */
+export class JsonArrayDecoder<T> {
+
+    private readonly decode: (data: any) => T;
+    private readonly path: Array<string>;
+    private readonly textDecoder: TextDecoder = new TextDecoder();
+    private readonly stack: Array<JsonFrame> = [];
+    private inString: boolean = false;
+    private escaped: boolean = false;
+    private capturingKey: boolean = false;
+    private key: string = "";
+    private capturing: boolean = false;
+    private containerElement: boolean = false;
+    private element: string = "";
+
+    constructor(decode: (data: any) => T, path: Array<string> = []) {
+        this.decode = decode;
+        this.path = path;
+    }
+
+    /**
+     * Consumes the next chunk of the JSON document.
+     *
+     * @param chunk The next chunk, either as text or as UTF-8 encoded bytes.
+     * @return The array elements completed by this chunk.
+     */
+    public write(chunk: string | Uint8Array): Array<T> {
+        let text: string = typeof chunk === "string" ? chunk : this.textDecoder.decode(chunk, {stream: true});
+        let results: Array<T> = [];
+        let start: number = 0;
+        let keyStart: number = 0;
+        for (let i = 0; i < text.length; i++) {
+            let char: string = text[i];
+            if (this.inString) {
+                if (this.escaped) {
+                    this.escaped = false;
+                } else if (char === "\\") {
+                    this.escaped = true;
+                } else if (char === "\"") {
+                    this.inString = false;
+                    if (this.capturingKey) {
+                        this.key += text.substring(keyStart, i);
+                        this.capturingKey = false;
+                    }
+                }
+                continue;
+            }
+
+            let top: JsonFrame | undefined = this.stack[this.stack.length - 1];
+            switch (char) {
+                case " ":
+                case "\t":
+                case "\r":
+                case "\n":
+                    continue;
+                case "\"":
+                    this.inString = true;
+                    if (!this.capturing && top !== undefined && !top.array && top.expectKey &&
+                        this.stack.length <= this.path.length) {
+                        this.capturingKey = true;
+                        this.key = "";
+                        keyStart = i + 1;
+                    }
+                    break;
+                case ":":
+                    if (!this.capturing && top !== undefined && !top.array && top.expectKey) {
+                        top.key = this.stack.length <= this.path.length ? JSON.parse("\"" + this.key + "\"") : undefined;
+                        top.expectKey = false;
+                    }
+                    continue;
+                case ",":
+                    if (this.capturing && !this.containerElement && top?.target) {
+                        results.push(this.complete(this.element + text.substring(start, i)));
+                    } else if (!this.capturing && top !== undefined && !top.array) {
+                        top.expectKey = true;
+                    }
+                    continue;
+                case "{":
+                case "[":
+                    if (!this.capturing && top?.target) {
+                        this.capturing = true;
+                        this.containerElement = true;
+                        start = i;
+                    }
+                    this.stack.push({
+                        array: char === "[",
+                        target: !this.capturing && char === "[" && this.isTargetPath(),
+                        expectKey: char === "{"
+                    });
+                    continue;
+                case "}":
+                case "]":
+                    if (this.capturing && !this.containerElement && top?.target) {
+                        results.push(this.complete(this.element + text.substring(start, i)));
+                    }
+                    this.stack.pop();
+                    if (this.capturing && this.containerElement && this.stack[this.stack.length - 1]?.target) {
+                        results.push(this.complete(this.element + text.substring(start, i + 1)));
+                    }
+                    continue;
+            }
+
+            // the first character of a string, number or literal element
+            if (!this.capturing && top?.target) {
+                this.capturing = true;
+                this.containerElement = false;
+                start = i;
+            }
+        }
+
+        if (this.capturing) {
+            this.element += text.substring(start);
+        }
+        if (this.capturingKey) {
+            this.key += text.substring(keyStart);
+        }
+        return results;
+    }
+
+    /**
+     * Completes the JSON document.
+     *
+     * @return The array elements completed by the end of the document.
+     * @throws Error Shall be thrown, if the JSON document is incomplete.
+     */
+    public end(): Array<T> {
+        let results: Array<T> = this.write(this.textDecoder.decode());
+        if (this.inString || this.stack.length > 0) {
+            throw new Error("Unexpected end of the JSON document.");
+        }
+        return results;
+    }
+
+    private complete(element: string): T {
+        this.capturing = false;
+        this.element = "";
+        return this.decode(JSON.parse(element));
+    }
+
+    private isTargetPath(): boolean {
+        if (this.stack.length !== this.path.length) {
+            return false;
+        }
+        for (let i = 0; i < this.stack.length; i++) {
+            if (this.stack[i].array || this.stack[i].key !== this.path[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
+
+/**
+ * Provides the incremental decoding of JSON arrays, as used by the generated fromJsonStream() methods.
+ */
+export class ModelStream {
+
+    /**
+     * Decodes the elements of a JSON array from the given chunks, yielding each element as soon as it is complete.
+     *
+     * @param source The chunks of the JSON document (e.g. a Node.js Readable stream).
+     * @param decode Decodes a parsed array element.
+     * @param path   The property names leading to the array, or none, if the document itself is the array.
+     */
+    public static async* decodeArray<T>(
+        source: AsyncIterable<string | Uint8Array> | Iterable<string | Uint8Array>,
+        decode: (data: any) => T, path: Array<string> = []
+    ): AsyncGenerator<T> {
+        let decoder: JsonArrayDecoder<T> = new JsonArrayDecoder(decode, path);
+        for await (let chunk of source) {
+            yield* decoder.write(chunk);
+        }
+        yield* decoder.end();
+    }
+
+}
@@ -0,0 +1,10 @@
+export interface Parameter {
+
+	toJson(): any;
+	clone(): any;
+	assignFrom(data: any): boolean;
+	equals(other: any): boolean;
+	hashCode(): number;
+	fingerprint(): string;
+
+}
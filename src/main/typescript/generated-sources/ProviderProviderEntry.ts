@@ -0,0 +1,137 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ProviderConfigurationFormat,
+    ModelEquality,
+} from "./index";
+
+export interface ProviderProviderEntryInterface  {
+
+    configurationContent?: string;
+    configurationFileName?: string;
+    configurationFileType?: ProviderConfigurationFormat;
+    name?: string;
+
+}
+export class ProviderProviderEntry implements ProviderProviderEntryInterface, Parameter {
+    configurationContent?: string;
+    configurationFileName?: string;
+    configurationFileType?: ProviderConfigurationFormat;
+    name?: string;
+
+    constructor(data: any) {
+        this.configurationContent = data?.configurationContent;
+        let configurationFileNameDefault: any = "";
+        this.configurationFileName = typeof data?.configurationFileName !== "undefined" ? data?.configurationFileName : configurationFileNameDefault;
+        let configurationFileTypeDefault: any = "json";
+        this.configurationFileType = typeof data?.configurationFileType !== "undefined" ? data?.configurationFileType : configurationFileTypeDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+    }
+
+    public static getConfigurationContentDescription(): string {
+        return "";
+    }
+
+    public static getConfigurationFileNameDefault(): string {
+        return "";
+    }
+
+    public static getConfigurationFileNameDescription(): string {
+        return "";
+    }
+
+    public static getConfigurationFileTypeDefault(): ProviderConfigurationFormat {
+        return "json" as ProviderConfigurationFormat;
+    }
+
+    public static getConfigurationFileTypeDescription(): string {
+        return "";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ProviderProviderEntry {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ProviderProviderEntry(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ProviderProviderEntry> {
+        return ModelStream.decodeArray(source, ProviderProviderEntry.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'configurationContent': this.configurationContent,
+            'configurationFileName': this.configurationFileName,
+            'configurationFileType': this.configurationFileType,
+            'name': this.name,
+        };
+    }
+
+    public clone(): ProviderProviderEntry {
+        return ProviderProviderEntry.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "configurationContent", data?.configurationContent) || changed;
+        changed = ModelAssignment.assignValue(this, "configurationFileName", typeof data?.configurationFileName !== "undefined" ? data?.configurationFileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "configurationFileType", typeof data?.configurationFileType !== "undefined" ? data?.configurationFileType : "json") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configurationContent, other.configurationContent)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configurationFileName, other.configurationFileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configurationFileType, other.configurationFileType)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.configurationContent);
+        hash = ModelEquality.hash(hash, this.configurationFileName);
+        hash = ModelEquality.hash(hash, this.configurationFileType);
+        hash = ModelEquality.hash(hash, this.name);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ProviderProviderEntry(";
+        fingerprint += ModelEquality.fingerprint(this.configurationContent) + ",";
+        fingerprint += ModelEquality.fingerprint(this.configurationFileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.configurationFileType) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ProviderProviderEntry,
+} from "./index";
+
+export interface ProviderSettingsInterface  {
+
+    documentStorage?: ProviderProviderEntry;
+    fileStorage?: ProviderProviderEntry;
+    sessionStorage?: ProviderProviderEntry;
+
+}
+export class ProviderSettings implements ProviderSettingsInterface, Parameter {
+    documentStorage?: ProviderProviderEntry;
+    fileStorage?: ProviderProviderEntry;
+    sessionStorage?: ProviderProviderEntry;
+
+    constructor(data: any) {
+        this.documentStorage = ProviderProviderEntry.fromJson(data?.documentStorage);
+        this.fileStorage = ProviderProviderEntry.fromJson(data?.fileStorage);
+        this.sessionStorage = ProviderProviderEntry.fromJson(data?.sessionStorage);
+    }
+
+    public static getDocumentStorageDescription(): string {
+        return "";
+    }
+
+    public static getFileStorageDescription(): string {
+        return "";
+    }
+
+    public static getSessionStorageDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ProviderSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ProviderSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ProviderSettings> {
+        return ModelStream.decodeArray(source, ProviderSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'documentStorage': this.documentStorage?.toJson(),
+            'fileStorage': this.fileStorage?.toJson(),
+            'sessionStorage': this.sessionStorage?.toJson(),
+        };
+    }
+
+    public clone(): ProviderSettings {
+        return ProviderSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "documentStorage", data?.documentStorage, ProviderProviderEntry.fromJson, ProviderProviderEntry) || changed;
+        changed = ModelAssignment.assignModel(this, "fileStorage", data?.fileStorage, ProviderProviderEntry.fromJson, ProviderProviderEntry) || changed;
+        changed = ModelAssignment.assignModel(this, "sessionStorage", data?.sessionStorage, ProviderProviderEntry.fromJson, ProviderProviderEntry) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.documentStorage, other.documentStorage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileStorage, other.fileStorage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sessionStorage, other.sessionStorage)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.documentStorage);
+        hash = ModelEquality.hash(hash, this.fileStorage);
+        hash = ModelEquality.hash(hash, this.sessionStorage);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ProviderSettings(";
+        fingerprint += ModelEquality.fingerprint(this.documentStorage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileStorage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sessionStorage) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum SessionState {
+
+    Unknown = 'unknown',
+    Ok = 'ok',
+    Expired = 'expired'
+
+}
\ No newline at end of file
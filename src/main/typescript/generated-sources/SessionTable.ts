@@ -0,0 +1,267 @@
+import {
+    ModelAssignment,
+    SessionTableEntry,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface SessionTableInterface  {
+
+    /**
+    * Total number of active sessions.
+    */
+    activeSessions?: number;
+    /**
+    * Total number of expired sessions.
+    */
+    expiredSessions?: number;
+    /**
+    * Total number of sessions.
+    */
+    sessionCount?: number;
+    /**
+    * Total size in bytes required by all sessions together on the hard disk in the base folder.
+    */
+    sessionDiskUsage?: number;
+    /**
+    * Session ID of the session that requested the session table.
+    */
+    sessionId?: string;
+    /**
+    * List of all sessions and detailed information about each session.
+    */
+    sessionList?: Array<SessionTableEntry>;
+    /**
+    * UTC time when the query was executed.
+    */
+    timestamp?: number;
+    /**
+    * Total number of sessions that have not yet been initialized or are currently expiring.
+    */
+    unstableSessions?: number;
+
+}
+export class SessionTable implements SessionTableInterface, Parameter {
+    /**
+    * Total number of active sessions.
+    */
+    activeSessions?: number;
+    /**
+    * Total number of expired sessions.
+    */
+    expiredSessions?: number;
+    /**
+    * Total number of sessions.
+    */
+    sessionCount?: number;
+    /**
+    * Total size in bytes required by all sessions together on the hard disk in the base folder.
+    */
+    sessionDiskUsage?: number;
+    /**
+    * Session ID of the session that requested the session table.
+    */
+    sessionId?: string;
+    /**
+    * List of all sessions and detailed information about each session.
+    */
+    sessionList?: Array<SessionTableEntry>;
+    /**
+    * UTC time when the query was executed.
+    */
+    timestamp?: number;
+    /**
+    * Total number of sessions that have not yet been initialized or are currently expiring.
+    */
+    unstableSessions?: number;
+
+    constructor(data: any) {
+        let activeSessionsDefault: any = 0;
+        this.activeSessions = typeof data?.activeSessions !== "undefined" ? data?.activeSessions : activeSessionsDefault;
+        let expiredSessionsDefault: any = 0;
+        this.expiredSessions = typeof data?.expiredSessions !== "undefined" ? data?.expiredSessions : expiredSessionsDefault;
+        let sessionCountDefault: any = 0;
+        this.sessionCount = typeof data?.sessionCount !== "undefined" ? data?.sessionCount : sessionCountDefault;
+        let sessionDiskUsageDefault: any = 0;
+        this.sessionDiskUsage = typeof data?.sessionDiskUsage !== "undefined" ? data?.sessionDiskUsage : sessionDiskUsageDefault;
+        let sessionIdDefault: any = "";
+        this.sessionId = typeof data?.sessionId !== "undefined" ? data?.sessionId : sessionIdDefault;
+        this.sessionList = (data?.sessionList || []).map(
+            SessionTableEntry.fromJson
+        );
+        let timestampDefault: any = 0;
+        this.timestamp = typeof data?.timestamp !== "undefined" ? data?.timestamp : timestampDefault;
+        let unstableSessionsDefault: any = 0;
+        this.unstableSessions = typeof data?.unstableSessions !== "undefined" ? data?.unstableSessions : unstableSessionsDefault;
+    }
+
+    public static getActiveSessionsDefault(): number {
+        return 0;
+    }
+
+    public static getActiveSessionsDescription(): string {
+        return "Total number of active sessions.";
+    }
+
+    public static getExpiredSessionsDefault(): number {
+        return 0;
+    }
+
+    public static getExpiredSessionsDescription(): string {
+        return "Total number of expired sessions.";
+    }
+
+    public static getSessionCountDefault(): number {
+        return 0;
+    }
+
+    public static getSessionCountDescription(): string {
+        return "Total number of sessions.";
+    }
+
+    public static getSessionDiskUsageDefault(): number {
+        return 0;
+    }
+
+    public static getSessionDiskUsageDescription(): string {
+        return "Total size in bytes required by all sessions together on the hard disk in the base folder.";
+    }
+
+    public static getSessionIdDefault(): string {
+        return "";
+    }
+
+    public static getSessionIdDescription(): string {
+        return "Session ID of the session that requested the session table.";
+    }
+
+    public static getSessionListDefault(): Array<SessionTableEntry> {
+        return [];
+    }
+
+    public static getSessionListDescription(): string {
+        return "List of all sessions and detailed information about each session.";
+    }
+
+    public static getTimestampDefault(): number {
+        return 0;
+    }
+
+    public static getTimestampDescription(): string {
+        return "UTC time when the query was executed.";
+    }
+
+    public static getUnstableSessionsDefault(): number {
+        return 0;
+    }
+
+    public static getUnstableSessionsDescription(): string {
+        return "Total number of sessions that have not yet been initialized or are currently expiring.";
+    }
+
+    public static fromJson(data: any): SessionTable {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SessionTable(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SessionTable> {
+        return ModelStream.decodeArray(source, SessionTable.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'activeSessions': this.activeSessions,
+            'expiredSessions': this.expiredSessions,
+            'sessionCount': this.sessionCount,
+            'sessionDiskUsage': this.sessionDiskUsage,
+            'sessionId': this.sessionId,
+            'sessionList': this.sessionList?.map((data) => data.toJson()),
+            'timestamp': this.timestamp,
+            'unstableSessions': this.unstableSessions,
+        };
+    }
+
+    public clone(): SessionTable {
+        return SessionTable.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "activeSessions", typeof data?.activeSessions !== "undefined" ? data?.activeSessions : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "expiredSessions", typeof data?.expiredSessions !== "undefined" ? data?.expiredSessions : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "sessionCount", typeof data?.sessionCount !== "undefined" ? data?.sessionCount : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "sessionDiskUsage", typeof data?.sessionDiskUsage !== "undefined" ? data?.sessionDiskUsage : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "sessionId", typeof data?.sessionId !== "undefined" ? data?.sessionId : "") || changed;
+        changed = ModelAssignment.assignArray(this, "sessionList", data?.sessionList, SessionTableEntry.fromJson, SessionTableEntry) || changed;
+        changed = ModelAssignment.assignValue(this, "timestamp", typeof data?.timestamp !== "undefined" ? data?.timestamp : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "unstableSessions", typeof data?.unstableSessions !== "undefined" ? data?.unstableSessions : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.activeSessions, other.activeSessions)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.expiredSessions, other.expiredSessions)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sessionCount, other.sessionCount)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sessionDiskUsage, other.sessionDiskUsage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sessionId, other.sessionId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sessionList, other.sessionList)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.timestamp, other.timestamp)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.unstableSessions, other.unstableSessions)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.activeSessions);
+        hash = ModelEquality.hash(hash, this.expiredSessions);
+        hash = ModelEquality.hash(hash, this.sessionCount);
+        hash = ModelEquality.hash(hash, this.sessionDiskUsage);
+        hash = ModelEquality.hash(hash, this.sessionId);
+        hash = ModelEquality.hash(hash, this.sessionList);
+        hash = ModelEquality.hash(hash, this.timestamp);
+        hash = ModelEquality.hash(hash, this.unstableSessions);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SessionTable(";
+        fingerprint += ModelEquality.fingerprint(this.activeSessions) + ",";
+        fingerprint += ModelEquality.fingerprint(this.expiredSessions) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sessionCount) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sessionDiskUsage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sessionId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sessionList) + ",";
+        fingerprint += ModelEquality.fingerprint(this.timestamp) + ",";
+        fingerprint += ModelEquality.fingerprint(this.unstableSessions) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,329 @@
+import {
+    ModelAssignment,
+    SessionState,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface SessionTableEntryInterface  {
+
+    admin?: boolean;
+    /**
+    * Number of files saved in the session.
+    */
+    fileCount?: number;
+    /**
+    * Total size in bytes of all files saved in the session, excluding history entries.
+    */
+    fileSize?: number;
+    /**
+    * Total size in bytes of all history files stored in the session, except the active file entry.
+    */
+    fileSizeHistory?: number;
+    /**
+    * Set if the user has administrator rights.
+    */
+    isAdmin?: boolean;
+    /**
+    * UTC time of the last access to the session.
+    */
+    lastAccess?: number;
+    /**
+    * The ID of the external credential provider used to create the session. Empty if local provider was used.
+    */
+    providerId?: string;
+    /**
+    * Time in seconds when the session will expire.
+    */
+    sessionExpiration?: number;
+    /**
+    * Unique id of the session.
+    */
+    sessionId?: string;
+    sessionState?: SessionState;
+    /**
+    * Username of the authenticated user or empty if unknown or it is an anonymous session.
+    */
+    userName?: string;
+
+}
+export class SessionTableEntry implements SessionTableEntryInterface, Parameter {
+    admin?: boolean;
+    /**
+    * Number of files saved in the session.
+    */
+    fileCount?: number;
+    /**
+    * Total size in bytes of all files saved in the session, excluding history entries.
+    */
+    fileSize?: number;
+    /**
+    * Total size in bytes of all history files stored in the session, except the active file entry.
+    */
+    fileSizeHistory?: number;
+    /**
+    * Set if the user has administrator rights.
+    */
+    isAdmin?: boolean;
+    /**
+    * UTC time of the last access to the session.
+    */
+    lastAccess?: number;
+    /**
+    * The ID of the external credential provider used to create the session. Empty if local provider was used.
+    */
+    providerId?: string;
+    /**
+    * Time in seconds when the session will expire.
+    */
+    sessionExpiration?: number;
+    /**
+    * Unique id of the session.
+    */
+    sessionId?: string;
+    sessionState?: SessionState;
+    /**
+    * Username of the authenticated user or empty if unknown or it is an anonymous session.
+    */
+    userName?: string;
+
+    constructor(data: any) {
+        let adminDefault: any = false;
+        this.admin = typeof data?.admin !== "undefined" ? data?.admin : adminDefault;
+        let fileCountDefault: any = 0;
+        this.fileCount = typeof data?.fileCount !== "undefined" ? data?.fileCount : fileCountDefault;
+        let fileSizeDefault: any = 0;
+        this.fileSize = typeof data?.fileSize !== "undefined" ? data?.fileSize : fileSizeDefault;
+        let fileSizeHistoryDefault: any = 0;
+        this.fileSizeHistory = typeof data?.fileSizeHistory !== "undefined" ? data?.fileSizeHistory : fileSizeHistoryDefault;
+        let isAdminDefault: any = false;
+        this.isAdmin = typeof data?.isAdmin !== "undefined" ? data?.isAdmin : isAdminDefault;
+        let lastAccessDefault: any = 0;
+        this.lastAccess = typeof data?.lastAccess !== "undefined" ? data?.lastAccess : lastAccessDefault;
+        let providerIdDefault: any = "";
+        this.providerId = typeof data?.providerId !== "undefined" ? data?.providerId : providerIdDefault;
+        let sessionExpirationDefault: any = 0;
+        this.sessionExpiration = typeof data?.sessionExpiration !== "undefined" ? data?.sessionExpiration : sessionExpirationDefault;
+        let sessionIdDefault: any = "";
+        this.sessionId = typeof data?.sessionId !== "undefined" ? data?.sessionId : sessionIdDefault;
+        let sessionStateDefault: any = "unknown";
+        this.sessionState = typeof data?.sessionState !== "undefined" ? data?.sessionState : sessionStateDefault;
+        let userNameDefault: any = "";
+        this.userName = typeof data?.userName !== "undefined" ? data?.userName : userNameDefault;
+    }
+
+    public static getAdminDefault(): boolean {
+        return false;
+    }
+
+    public static getAdminDescription(): string {
+        return "";
+    }
+
+    public static getFileCountDefault(): number {
+        return 0;
+    }
+
+    public static getFileCountDescription(): string {
+        return "Number of files saved in the session.";
+    }
+
+    public static getFileSizeDefault(): number {
+        return 0;
+    }
+
+    public static getFileSizeDescription(): string {
+        return "Total size in bytes of all files saved in the session, excluding history entries.";
+    }
+
+    public static getFileSizeHistoryDefault(): number {
+        return 0;
+    }
+
+    public static getFileSizeHistoryDescription(): string {
+        return "Total size in bytes of all history files stored in the session, except the active file entry.";
+    }
+
+    public static getIsAdminDefault(): boolean {
+        return false;
+    }
+
+    public static getIsAdminDescription(): string {
+        return "Set if the user has administrator rights.";
+    }
+
+    public static getLastAccessDefault(): number {
+        return 0;
+    }
+
+    public static getLastAccessDescription(): string {
+        return "UTC time of the last access to the session.";
+    }
+
+    public static getProviderIdDefault(): string {
+        return "";
+    }
+
+    public static getProviderIdDescription(): string {
+        return "The ID of the external credential provider used to create the session. Empty if local provider was used.";
+    }
+
+    public static getSessionExpirationDefault(): number {
+        return 0;
+    }
+
+    public static getSessionExpirationDescription(): string {
+        return "Time in seconds when the session will expire.";
+    }
+
+    public static getSessionIdDefault(): string {
+        return "";
+    }
+
+    public static getSessionIdDescription(): string {
+        return "Unique id of the session.";
+    }
+
+    public static getSessionStateDefault(): SessionState {
+        return "unknown" as SessionState;
+    }
+
+    public static getSessionStateDescription(): string {
+        return "";
+    }
+
+    public static getUserNameDefault(): string {
+        return "";
+    }
+
+    public static getUserNameDescription(): string {
+        return "Username of the authenticated user or empty if unknown or it is an anonymous session.";
+    }
+
+    public static fromJson(data: any): SessionTableEntry {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SessionTableEntry(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SessionTableEntry> {
+        return ModelStream.decodeArray(source, SessionTableEntry.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'admin': this.admin,
+            'fileCount': this.fileCount,
+            'fileSize': this.fileSize,
+            'fileSizeHistory': this.fileSizeHistory,
+            'isAdmin': this.isAdmin,
+            'lastAccess': this.lastAccess,
+            'providerId': this.providerId,
+            'sessionExpiration': this.sessionExpiration,
+            'sessionId': this.sessionId,
+            'sessionState': this.sessionState,
+            'userName': this.userName,
+        };
+    }
+
+    public clone(): SessionTableEntry {
+        return SessionTableEntry.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "admin", typeof data?.admin !== "undefined" ? data?.admin : false) || changed;
+        changed = ModelAssignment.assignValue(this, "fileCount", typeof data?.fileCount !== "undefined" ? data?.fileCount : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "fileSize", typeof data?.fileSize !== "undefined" ? data?.fileSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "fileSizeHistory", typeof data?.fileSizeHistory !== "undefined" ? data?.fileSizeHistory : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "isAdmin", typeof data?.isAdmin !== "undefined" ? data?.isAdmin : false) || changed;
+        changed = ModelAssignment.assignValue(this, "lastAccess", typeof data?.lastAccess !== "undefined" ? data?.lastAccess : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "providerId", typeof data?.providerId !== "undefined" ? data?.providerId : "") || changed;
+        changed = ModelAssignment.assignValue(this, "sessionExpiration", typeof data?.sessionExpiration !== "undefined" ? data?.sessionExpiration : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "sessionId", typeof data?.sessionId !== "undefined" ? data?.sessionId : "") || changed;
+        changed = ModelAssignment.assignValue(this, "sessionState", typeof data?.sessionState !== "undefined" ? data?.sessionState : "unknown") || changed;
+        changed = ModelAssignment.assignValue(this, "userName", typeof data?.userName !== "undefined" ? data?.userName : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.admin, other.admin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileCount, other.fileCount)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileSize, other.fileSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileSizeHistory, other.fileSizeHistory)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isAdmin, other.isAdmin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.lastAccess, other.lastAccess)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.providerId, other.providerId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sessionExpiration, other.sessionExpiration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sessionId, other.sessionId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sessionState, other.sessionState)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userName, other.userName)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.admin);
+        hash = ModelEquality.hash(hash, this.fileCount);
+        hash = ModelEquality.hash(hash, this.fileSize);
+        hash = ModelEquality.hash(hash, this.fileSizeHistory);
+        hash = ModelEquality.hash(hash, this.isAdmin);
+        hash = ModelEquality.hash(hash, this.lastAccess);
+        hash = ModelEquality.hash(hash, this.providerId);
+        hash = ModelEquality.hash(hash, this.sessionExpiration);
+        hash = ModelEquality.hash(hash, this.sessionId);
+        hash = ModelEquality.hash(hash, this.sessionState);
+        hash = ModelEquality.hash(hash, this.userName);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SessionTableEntry(";
+        fingerprint += ModelEquality.fingerprint(this.admin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileCount) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileSizeHistory) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isAdmin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.lastAccess) + ",";
+        fingerprint += ModelEquality.fingerprint(this.providerId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sessionExpiration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sessionId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sessionState) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userName) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+export enum Webservice {
+
+    Signature = 'signature',
+    Pdfa = 'pdfa',
+    Toolbox = 'toolbox',
+    Converter = 'converter',
+    Urlconverter = 'urlconverter',
+    Ocr = 'ocr',
+    Barcode = 'barcode'
+
+}
\ No newline at end of file
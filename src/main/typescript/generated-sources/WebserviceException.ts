@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface WebserviceExceptionInterface  {
+
+    /**
+    * The error code (use this error code to find further information in the user manual).
+    */
+    errorCode: number;
+    /**
+    * The descriptive error message indicating why the operation failed or cannot be executed. This may also contain further hints to solve the problem.
+    */
+    errorMessage: string;
+    /**
+    * The Java stack trace relevant to the exception analysis.
+    */
+    stackTrace?: string;
+
+}
+export class WebserviceException implements WebserviceExceptionInterface, Parameter {
+    /**
+    * The error code (use this error code to find further information in the user manual).
+    */
+    errorCode: number;
+    /**
+    * The descriptive error message indicating why the operation failed or cannot be executed. This may also contain further hints to solve the problem.
+    */
+    errorMessage: string;
+    /**
+    * The Java stack trace relevant to the exception analysis.
+    */
+    stackTrace?: string;
+
+    constructor(data: any) {
+        let errorCodeDefault: any = 0;
+        this.errorCode = typeof data.errorCode !== "undefined" ? data.errorCode : errorCodeDefault;
+        let errorMessageDefault: any = "";
+        this.errorMessage = typeof data.errorMessage !== "undefined" ? data.errorMessage : errorMessageDefault;
+        let stackTraceDefault: any = "";
+        this.stackTrace = typeof data?.stackTrace !== "undefined" ? data?.stackTrace : stackTraceDefault;
+    }
+
+    public static getErrorCodeDefault(): number {
+        return 0;
+    }
+
+    public static getErrorCodeDescription(): string {
+        return "The error code (use this error code to find further information in the user manual).";
+    }
+
+    public static getErrorMessageDefault(): string {
+        return "";
+    }
+
+    public static getErrorMessageDescription(): string {
+        return "The descriptive error message indicating why the operation failed or cannot be executed. This may also contain further hints to solve the problem.";
+    }
+
+    public static getStackTraceDefault(): string {
+        return "";
+    }
+
+    public static getStackTraceDescription(): string {
+        return "The Java stack trace relevant to the exception analysis.";
+    }
+
+    public static fromJson(data: any): WebserviceException {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WebserviceException(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WebserviceException> {
+        return ModelStream.decodeArray(source, WebserviceException.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'errorCode': this.errorCode,
+            'errorMessage': this.errorMessage,
+            'stackTrace': this.stackTrace,
+        };
+    }
+
+    public clone(): WebserviceException {
+        return WebserviceException.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "errorCode", typeof data.errorCode !== "undefined" ? data.errorCode : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "errorMessage", typeof data.errorMessage !== "undefined" ? data.errorMessage : "") || changed;
+        changed = ModelAssignment.assignValue(this, "stackTrace", typeof data?.stackTrace !== "undefined" ? data?.stackTrace : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.errorCode, other.errorCode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.errorMessage, other.errorMessage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.stackTrace, other.stackTrace)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.errorCode);
+        hash = ModelEquality.hash(hash, this.errorMessage);
+        hash = ModelEquality.hash(hash, this.stackTrace);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WebserviceException(";
+        fingerprint += ModelEquality.fingerprint(this.errorCode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.errorMessage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.stackTrace) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,174 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    WebserviceResultStackTrace,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface WebserviceResultInterface  {
+
+    /**
+    * The error code of the operation. For a successful operation, this value must be zero. If you get any other negative value, the execution has failed.
+    */
+    code?: number;
+    /**
+    * A description of the operation´s result.
+    */
+    description?: string;
+    /**
+    * The exit code of an external application, if such an application was used for the operation.
+    */
+    exitCode?: number;
+    hideException?: boolean;
+    stackTrace?: WebserviceResultStackTrace;
+
+}
+export class WebserviceResult implements WebserviceResultInterface, Parameter {
+    /**
+    * The error code of the operation. For a successful operation, this value must be zero. If you get any other negative value, the execution has failed.
+    */
+    code?: number;
+    /**
+    * A description of the operation´s result.
+    */
+    description?: string;
+    /**
+    * The exit code of an external application, if such an application was used for the operation.
+    */
+    exitCode?: number;
+    hideException?: boolean;
+    stackTrace?: WebserviceResultStackTrace;
+
+    constructor(data: any) {
+        let codeDefault: any = 0;
+        this.code = typeof data?.code !== "undefined" ? data?.code : codeDefault;
+        let descriptionDefault: any = "";
+        this.description = typeof data?.description !== "undefined" ? data?.description : descriptionDefault;
+        let exitCodeDefault: any = 0;
+        this.exitCode = typeof data?.exitCode !== "undefined" ? data?.exitCode : exitCodeDefault;
+        let hideExceptionDefault: any = false;
+        this.hideException = typeof data?.hideException !== "undefined" ? data?.hideException : hideExceptionDefault;
+        this.stackTrace = WebserviceResultStackTrace.fromJson(data?.stackTrace);
+    }
+
+    public static getCodeDefault(): number {
+        return 0;
+    }
+
+    public static getCodeDescription(): string {
+        return "The error code of the operation. For a successful operation, this value must be zero. If you get any other negative value, the execution has failed.";
+    }
+
+    public static getDescriptionDefault(): string {
+        return "";
+    }
+
+    public static getDescriptionDescription(): string {
+        return "A description of the operation\u00B4s result.";
+    }
+
+    public static getExitCodeDefault(): number {
+        return 0;
+    }
+
+    public static getExitCodeDescription(): string {
+        return "The exit code of an external application, if such an application was used for the operation.";
+    }
+
+    public static getHideExceptionDefault(): boolean {
+        return false;
+    }
+
+    public static getHideExceptionDescription(): string {
+        return "";
+    }
+
+    public static getStackTraceDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): WebserviceResult {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WebserviceResult(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WebserviceResult> {
+        return ModelStream.decodeArray(source, WebserviceResult.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'code': this.code,
+            'description': this.description,
+            'exitCode': this.exitCode,
+            'hideException': this.hideException,
+            'stackTrace': this.stackTrace?.toJson(),
+        };
+    }
+
+    public clone(): WebserviceResult {
+        return WebserviceResult.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "code", typeof data?.code !== "undefined" ? data?.code : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "description", typeof data?.description !== "undefined" ? data?.description : "") || changed;
+        changed = ModelAssignment.assignValue(this, "exitCode", typeof data?.exitCode !== "undefined" ? data?.exitCode : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "hideException", typeof data?.hideException !== "undefined" ? data?.hideException : false) || changed;
+        changed = ModelAssignment.assignModel(this, "stackTrace", data?.stackTrace, WebserviceResultStackTrace.fromJson, WebserviceResultStackTrace) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.code, other.code)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.description, other.description)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.exitCode, other.exitCode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hideException, other.hideException)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.stackTrace, other.stackTrace)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.code);
+        hash = ModelEquality.hash(hash, this.description);
+        hash = ModelEquality.hash(hash, this.exitCode);
+        hash = ModelEquality.hash(hash, this.hideException);
+        hash = ModelEquality.hash(hash, this.stackTrace);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WebserviceResult(";
+        fingerprint += ModelEquality.fingerprint(this.code) + ",";
+        fingerprint += ModelEquality.fingerprint(this.description) + ",";
+        fingerprint += ModelEquality.fingerprint(this.exitCode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hideException) + ",";
+        fingerprint += ModelEquality.fingerprint(this.stackTrace) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
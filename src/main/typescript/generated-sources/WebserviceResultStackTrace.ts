@@ -0,0 +1,160 @@
+import {
+    ModelAssignment,
+    WebserviceResultStackTraceCauseStackTrace,
+    ModelStream,
+    WebserviceResultStackTraceCause,
+    WebserviceResultStackTraceSuppressed,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface WebserviceResultStackTraceInterface  {
+
+    cause?: WebserviceResultStackTraceCause;
+    localizedMessage?: string;
+    message?: string;
+    stackTrace?: Array<WebserviceResultStackTraceCauseStackTrace>;
+    suppressed?: Array<WebserviceResultStackTraceSuppressed>;
+
+}
+export class WebserviceResultStackTrace implements WebserviceResultStackTraceInterface, Parameter {
+    cause?: WebserviceResultStackTraceCause;
+    localizedMessage?: string;
+    message?: string;
+    stackTrace?: Array<WebserviceResultStackTraceCauseStackTrace>;
+    suppressed?: Array<WebserviceResultStackTraceSuppressed>;
+
+    constructor(data: any) {
+        this.cause = WebserviceResultStackTraceCause.fromJson(data?.cause);
+        let localizedMessageDefault: any = "";
+        this.localizedMessage = typeof data?.localizedMessage !== "undefined" ? data?.localizedMessage : localizedMessageDefault;
+        let messageDefault: any = "";
+        this.message = typeof data?.message !== "undefined" ? data?.message : messageDefault;
+        this.stackTrace = (data?.stackTrace || []).map(
+            WebserviceResultStackTraceCauseStackTrace.fromJson
+        );
+        this.suppressed = (data?.suppressed || []).map(
+            WebserviceResultStackTraceSuppressed.fromJson
+        );
+    }
+
+    public static getCauseDescription(): string {
+        return "";
+    }
+
+    public static getLocalizedMessageDefault(): string {
+        return "";
+    }
+
+    public static getLocalizedMessageDescription(): string {
+        return "";
+    }
+
+    public static getMessageDefault(): string {
+        return "";
+    }
+
+    public static getMessageDescription(): string {
+        return "";
+    }
+
+    public static getStackTraceDefault(): Array<WebserviceResultStackTraceCauseStackTrace> {
+        return [];
+    }
+
+    public static getStackTraceDescription(): string {
+        return "";
+    }
+
+    public static getSuppressedDefault(): Array<WebserviceResultStackTraceSuppressed> {
+        return [];
+    }
+
+    public static getSuppressedDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): WebserviceResultStackTrace {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WebserviceResultStackTrace(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WebserviceResultStackTrace> {
+        return ModelStream.decodeArray(source, WebserviceResultStackTrace.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'cause': this.cause?.toJson(),
+            'localizedMessage': this.localizedMessage,
+            'message': this.message,
+            'stackTrace': this.stackTrace?.map((data) => data.toJson()),
+            'suppressed': this.suppressed?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): WebserviceResultStackTrace {
+        return WebserviceResultStackTrace.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "cause", data?.cause, WebserviceResultStackTraceCause.fromJson, WebserviceResultStackTraceCause) || changed;
+        changed = ModelAssignment.assignValue(this, "localizedMessage", typeof data?.localizedMessage !== "undefined" ? data?.localizedMessage : "") || changed;
+        changed = ModelAssignment.assignValue(this, "message", typeof data?.message !== "undefined" ? data?.message : "") || changed;
+        changed = ModelAssignment.assignArray(this, "stackTrace", data?.stackTrace, WebserviceResultStackTraceCauseStackTrace.fromJson, WebserviceResultStackTraceCauseStackTrace) || changed;
+        changed = ModelAssignment.assignArray(this, "suppressed", data?.suppressed, WebserviceResultStackTraceSuppressed.fromJson, WebserviceResultStackTraceSuppressed) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.cause, other.cause)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.localizedMessage, other.localizedMessage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.message, other.message)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.stackTrace, other.stackTrace)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.suppressed, other.suppressed)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.cause);
+        hash = ModelEquality.hash(hash, this.localizedMessage);
+        hash = ModelEquality.hash(hash, this.message);
+        hash = ModelEquality.hash(hash, this.stackTrace);
+        hash = ModelEquality.hash(hash, this.suppressed);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WebserviceResultStackTrace(";
+        fingerprint += ModelEquality.fingerprint(this.cause) + ",";
+        fingerprint += ModelEquality.fingerprint(this.localizedMessage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.message) + ",";
+        fingerprint += ModelEquality.fingerprint(this.stackTrace) + ",";
+        fingerprint += ModelEquality.fingerprint(this.suppressed) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
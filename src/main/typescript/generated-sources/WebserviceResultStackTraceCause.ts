@@ -0,0 +1,124 @@
+import {
+    ModelAssignment,
+    WebserviceResultStackTraceCauseStackTrace,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface WebserviceResultStackTraceCauseInterface  {
+
+    localizedMessage?: string;
+    message?: string;
+    stackTrace?: Array<WebserviceResultStackTraceCauseStackTrace>;
+
+}
+export class WebserviceResultStackTraceCause implements WebserviceResultStackTraceCauseInterface, Parameter {
+    localizedMessage?: string;
+    message?: string;
+    stackTrace?: Array<WebserviceResultStackTraceCauseStackTrace>;
+
+    constructor(data: any) {
+        let localizedMessageDefault: any = "";
+        this.localizedMessage = typeof data?.localizedMessage !== "undefined" ? data?.localizedMessage : localizedMessageDefault;
+        let messageDefault: any = "";
+        this.message = typeof data?.message !== "undefined" ? data?.message : messageDefault;
+        this.stackTrace = (data?.stackTrace || []).map(
+            WebserviceResultStackTraceCauseStackTrace.fromJson
+        );
+    }
+
+    public static getLocalizedMessageDefault(): string {
+        return "";
+    }
+
+    public static getLocalizedMessageDescription(): string {
+        return "";
+    }
+
+    public static getMessageDefault(): string {
+        return "";
+    }
+
+    public static getMessageDescription(): string {
+        return "";
+    }
+
+    public static getStackTraceDefault(): Array<WebserviceResultStackTraceCauseStackTrace> {
+        return [];
+    }
+
+    public static getStackTraceDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): WebserviceResultStackTraceCause {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WebserviceResultStackTraceCause(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WebserviceResultStackTraceCause> {
+        return ModelStream.decodeArray(source, WebserviceResultStackTraceCause.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'localizedMessage': this.localizedMessage,
+            'message': this.message,
+            'stackTrace': this.stackTrace?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): WebserviceResultStackTraceCause {
+        return WebserviceResultStackTraceCause.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "localizedMessage", typeof data?.localizedMessage !== "undefined" ? data?.localizedMessage : "") || changed;
+        changed = ModelAssignment.assignValue(this, "message", typeof data?.message !== "undefined" ? data?.message : "") || changed;
+        changed = ModelAssignment.assignArray(this, "stackTrace", data?.stackTrace, WebserviceResultStackTraceCauseStackTrace.fromJson, WebserviceResultStackTraceCauseStackTrace) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.localizedMessage, other.localizedMessage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.message, other.message)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.stackTrace, other.stackTrace)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.localizedMessage);
+        hash = ModelEquality.hash(hash, this.message);
+        hash = ModelEquality.hash(hash, this.stackTrace);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WebserviceResultStackTraceCause(";
+        fingerprint += ModelEquality.fingerprint(this.localizedMessage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.message) + ",";
+        fingerprint += ModelEquality.fingerprint(this.stackTrace) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
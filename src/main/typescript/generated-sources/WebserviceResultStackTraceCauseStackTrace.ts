@@ -0,0 +1,177 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface WebserviceResultStackTraceCauseStackTraceInterface  {
+
+    classLoaderName?: string;
+    className?: string;
+    fileName?: string;
+    lineNumber?: number;
+    methodName?: string;
+    moduleName?: string;
+    moduleVersion?: string;
+    nativeMethod?: boolean;
+
+}
+export class WebserviceResultStackTraceCauseStackTrace implements WebserviceResultStackTraceCauseStackTraceInterface, Parameter {
+    classLoaderName?: string;
+    className?: string;
+    fileName?: string;
+    lineNumber?: number;
+    methodName?: string;
+    moduleName?: string;
+    moduleVersion?: string;
+    nativeMethod?: boolean;
+
+    constructor(data: any) {
+        this.classLoaderName = data?.classLoaderName;
+        this.className = data?.className;
+        this.fileName = data?.fileName;
+        this.lineNumber = data?.lineNumber;
+        this.methodName = data?.methodName;
+        this.moduleName = data?.moduleName;
+        this.moduleVersion = data?.moduleVersion;
+        this.nativeMethod = data?.nativeMethod;
+    }
+
+    public static getClassLoaderNameDescription(): string {
+        return "";
+    }
+
+    public static getClassNameDescription(): string {
+        return "";
+    }
+
+    public static getFileNameDescription(): string {
+        return "";
+    }
+
+    public static getLineNumberDescription(): string {
+        return "";
+    }
+
+    public static getMethodNameDescription(): string {
+        return "";
+    }
+
+    public static getModuleNameDescription(): string {
+        return "";
+    }
+
+    public static getModuleVersionDescription(): string {
+        return "";
+    }
+
+    public static getNativeMethodDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): WebserviceResultStackTraceCauseStackTrace {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WebserviceResultStackTraceCauseStackTrace(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WebserviceResultStackTraceCauseStackTrace> {
+        return ModelStream.decodeArray(source, WebserviceResultStackTraceCauseStackTrace.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'classLoaderName': this.classLoaderName,
+            'className': this.className,
+            'fileName': this.fileName,
+            'lineNumber': this.lineNumber,
+            'methodName': this.methodName,
+            'moduleName': this.moduleName,
+            'moduleVersion': this.moduleVersion,
+            'nativeMethod': this.nativeMethod,
+        };
+    }
+
+    public clone(): WebserviceResultStackTraceCauseStackTrace {
+        return WebserviceResultStackTraceCauseStackTrace.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "classLoaderName", data?.classLoaderName) || changed;
+        changed = ModelAssignment.assignValue(this, "className", data?.className) || changed;
+        changed = ModelAssignment.assignValue(this, "fileName", data?.fileName) || changed;
+        changed = ModelAssignment.assignValue(this, "lineNumber", data?.lineNumber) || changed;
+        changed = ModelAssignment.assignValue(this, "methodName", data?.methodName) || changed;
+        changed = ModelAssignment.assignValue(this, "moduleName", data?.moduleName) || changed;
+        changed = ModelAssignment.assignValue(this, "moduleVersion", data?.moduleVersion) || changed;
+        changed = ModelAssignment.assignValue(this, "nativeMethod", data?.nativeMethod) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.classLoaderName, other.classLoaderName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.className, other.className)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileName, other.fileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.lineNumber, other.lineNumber)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.methodName, other.methodName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.moduleName, other.moduleName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.moduleVersion, other.moduleVersion)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.nativeMethod, other.nativeMethod)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.classLoaderName);
+        hash = ModelEquality.hash(hash, this.className);
+        hash = ModelEquality.hash(hash, this.fileName);
+        hash = ModelEquality.hash(hash, this.lineNumber);
+        hash = ModelEquality.hash(hash, this.methodName);
+        hash = ModelEquality.hash(hash, this.moduleName);
+        hash = ModelEquality.hash(hash, this.moduleVersion);
+        hash = ModelEquality.hash(hash, this.nativeMethod);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WebserviceResultStackTraceCauseStackTrace(";
+        fingerprint += ModelEquality.fingerprint(this.classLoaderName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.className) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.lineNumber) + ",";
+        fingerprint += ModelEquality.fingerprint(this.methodName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.moduleName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.moduleVersion) + ",";
+        fingerprint += ModelEquality.fingerprint(this.nativeMethod) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+import {
+    ModelAssignment,
+    WebserviceResultStackTraceCauseStackTrace,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./index";
+
+export interface WebserviceResultStackTraceSuppressedInterface  {
+
+    localizedMessage?: string;
+    message?: string;
+    stackTrace?: Array<WebserviceResultStackTraceCauseStackTrace>;
+
+}
+export class WebserviceResultStackTraceSuppressed implements WebserviceResultStackTraceSuppressedInterface, Parameter {
+    localizedMessage?: string;
+    message?: string;
+    stackTrace?: Array<WebserviceResultStackTraceCauseStackTrace>;
+
+    constructor(data: any) {
+        this.localizedMessage = data?.localizedMessage;
+        this.message = data?.message;
+        this.stackTrace = (data?.stackTrace || []).map(
+            WebserviceResultStackTraceCauseStackTrace.fromJson
+        );
+    }
+
+    public static getLocalizedMessageDescription(): string {
+        return "";
+    }
+
+    public static getMessageDescription(): string {
+        return "";
+    }
+
+    public static getStackTraceDefault(): Array<WebserviceResultStackTraceCauseStackTrace> {
+        return [];
+    }
+
+    public static getStackTraceDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): WebserviceResultStackTraceSuppressed {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WebserviceResultStackTraceSuppressed(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WebserviceResultStackTraceSuppressed> {
+        return ModelStream.decodeArray(source, WebserviceResultStackTraceSuppressed.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'localizedMessage': this.localizedMessage,
+            'message': this.message,
+            'stackTrace': this.stackTrace?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): WebserviceResultStackTraceSuppressed {
+        return WebserviceResultStackTraceSuppressed.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "localizedMessage", data?.localizedMessage) || changed;
+        changed = ModelAssignment.assignValue(this, "message", data?.message) || changed;
+        changed = ModelAssignment.assignArray(this, "stackTrace", data?.stackTrace, WebserviceResultStackTraceCauseStackTrace.fromJson, WebserviceResultStackTraceCauseStackTrace) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.localizedMessage, other.localizedMessage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.message, other.message)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.stackTrace, other.stackTrace)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.localizedMessage);
+        hash = ModelEquality.hash(hash, this.message);
+        hash = ModelEquality.hash(hash, this.stackTrace);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WebserviceResultStackTraceSuppressed(";
+        fingerprint += ModelEquality.fingerprint(this.localizedMessage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.message) + ",";
+        fingerprint += ModelEquality.fingerprint(this.stackTrace) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
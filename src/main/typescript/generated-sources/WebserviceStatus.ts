@@ -0,0 +1,9 @@
+export enum WebserviceStatus {
+
+    Unknown = 'unknown',
+    Ok = 'ok',
+    Disabled = 'disabled',
+    Error = 'error',
+    NotLicensed = 'notLicensed'
+
+}
\ No newline at end of file
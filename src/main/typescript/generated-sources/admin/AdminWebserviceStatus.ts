@@ -0,0 +1,145 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ServerState,
+    Parameter,
+    ExecutableStatus,
+    ModelEquality,
+    WebserviceStatus,
+} from "./../index";
+
+export interface AdminWebserviceStatusInterface  {
+
+    /**
+    * When set to true, the webservice is enabled and may be used.
+    */
+    enabled?: boolean;
+    executables?: { [key: string]: ExecutableStatus; };
+    state?: ServerState;
+    status?: WebserviceStatus;
+
+}
+export class AdminWebserviceStatus implements AdminWebserviceStatusInterface, Parameter {
+    /**
+    * When set to true, the webservice is enabled and may be used.
+    */
+    enabled?: boolean;
+    executables?: { [key: string]: ExecutableStatus; };
+    state?: ServerState;
+    status?: WebserviceStatus;
+
+    constructor(data: any) {
+        let enabledDefault: any = false;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        let executablesDefault: any = {};
+        this.executables = typeof data?.executables !== "undefined" ? data?.executables : executablesDefault;
+        this.state = ServerState.fromJson(data?.state);
+        let statusDefault: any = "unknown";
+        this.status = typeof data?.status !== "undefined" ? data?.status : statusDefault;
+    }
+
+    public static getEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getEnabledDescription(): string {
+        return "When set to true, the webservice is enabled and may be used.";
+    }
+
+    public static getExecutablesDefault(): { [key: string]: ExecutableStatus; } {
+        return {};
+    }
+
+    public static getExecutablesDescription(): string {
+        return "";
+    }
+
+    public static getStateDescription(): string {
+        return "";
+    }
+
+    public static getStatusDefault(): WebserviceStatus {
+        return "unknown" as WebserviceStatus;
+    }
+
+    public static getStatusDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AdminWebserviceStatus {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AdminWebserviceStatus(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AdminWebserviceStatus> {
+        return ModelStream.decodeArray(source, AdminWebserviceStatus.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'enabled': this.enabled,
+            'executables': this.executables,
+            'state': this.state?.toJson(),
+            'status': this.status,
+        };
+    }
+
+    public clone(): AdminWebserviceStatus {
+        return AdminWebserviceStatus.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : false) || changed;
+        changed = ModelAssignment.assignValue(this, "executables", typeof data?.executables !== "undefined" ? data?.executables : {}) || changed;
+        changed = ModelAssignment.assignModel(this, "state", data?.state, ServerState.fromJson, ServerState) || changed;
+        changed = ModelAssignment.assignValue(this, "status", typeof data?.status !== "undefined" ? data?.status : "unknown") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.executables, other.executables)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.state, other.state)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.status, other.status)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.executables);
+        hash = ModelEquality.hash(hash, this.state);
+        hash = ModelEquality.hash(hash, this.status);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AdminWebserviceStatus(";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.executables) + ",";
+        fingerprint += ModelEquality.fingerprint(this.state) + ",";
+        fingerprint += ModelEquality.fingerprint(this.status) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+export enum AggregationServerState {
+
+    Minute = 'minute',
+    Hour = 'hour',
+    Day = 'day',
+    Month = 'month',
+    Year = 'year'
+
+}
\ No newline at end of file
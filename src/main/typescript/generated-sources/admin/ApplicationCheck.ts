@@ -0,0 +1,100 @@
+import {
+    ModelAssignment,
+    ApplicationCheckMode,
+    ModelStream,
+    TsaApplicationCheck,
+    Parameter,
+    SignatureApplicationCheck,
+    ModelEquality,
+    ExecutableApplicationCheck,
+    LicenseApplicationCheck,
+} from "./../index";
+
+export interface ApplicationCheckInterface  {
+
+    checkType: ApplicationCheckMode;
+
+}
+export class ApplicationCheck implements ApplicationCheckInterface, Parameter {
+    checkType: ApplicationCheckMode;
+
+    constructor(data: any) {
+        let checkTypeDefault: any = "tsa";
+        this.checkType = typeof data.checkType !== "undefined" ? data.checkType : checkTypeDefault;
+    }
+
+    public static getCheckTypeDefault(): ApplicationCheckMode {
+        return "tsa" as ApplicationCheckMode;
+    }
+
+    public static getCheckTypeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ApplicationCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        switch(data.checkType) {
+            case 'executable':
+                return ExecutableApplicationCheck.fromJson(data);
+            case 'license':
+                return LicenseApplicationCheck.fromJson(data);
+            case 'signature':
+                return SignatureApplicationCheck.fromJson(data);
+            case 'tsa':
+                return TsaApplicationCheck.fromJson(data);
+        }
+
+        return new ApplicationCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ApplicationCheck> {
+        return ModelStream.decodeArray(source, ApplicationCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'checkType': this.checkType,
+        };
+    }
+
+    public clone(): ApplicationCheck {
+        return ApplicationCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "checkType", typeof data.checkType !== "undefined" ? data.checkType : "tsa") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.checkType, other.checkType)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.checkType);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ApplicationCheck(";
+        fingerprint += ModelEquality.fingerprint(this.checkType) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum ApplicationCheckMode {
+
+    License = 'license',
+    Tsa = 'tsa',
+    Executable = 'executable',
+    Signature = 'signature'
+
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+import {
+    ModelAssignment,
+    ConfigurationInterface,
+    Configuration,
+    ModelStream,
+    ApplicationCheck,
+    Parameter,
+    GlobalKeyStore,
+    ModelEquality,
+    Application,
+} from "./../index";
+
+export interface ApplicationConfigurationInterface extends ConfigurationInterface  {
+
+    configuration: Application;
+    configurationChecks: Array<ApplicationCheck>;
+    globalKeyStore?: GlobalKeyStore;
+
+}
+export class ApplicationConfiguration extends Configuration implements ApplicationConfigurationInterface, Parameter {
+    configuration: Application;
+    configurationChecks: Array<ApplicationCheck>;
+    globalKeyStore?: GlobalKeyStore;
+
+    constructor(data: any) {
+        super(data);
+
+        this.configuration = Application.fromJson(data.configuration);
+        this.configurationChecks = (data.configurationChecks || []).map(
+            ApplicationCheck.fromJson
+        );
+        this.globalKeyStore = GlobalKeyStore.fromJson(data?.globalKeyStore);
+    }
+
+    public static getConfigurationDescription(): string {
+        return "";
+    }
+
+    public static getConfigurationChecksDefault(): Array<ApplicationCheck> {
+        return [];
+    }
+
+    public static getConfigurationChecksDescription(): string {
+        return "";
+    }
+
+    public static getGlobalKeyStoreDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ApplicationConfiguration {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ApplicationConfiguration(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ApplicationConfiguration> {
+        return ModelStream.decodeArray(source, ApplicationConfiguration.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'configuration': this.configuration?.toJson(),
+            'configurationChecks': this.configurationChecks?.map((data) => data.toJson()),
+            'globalKeyStore': this.globalKeyStore?.toJson(),
+        };
+    }
+
+    public clone(): ApplicationConfiguration {
+        return ApplicationConfiguration.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "configuration", data.configuration, Application.fromJson, Application) || changed;
+        changed = ModelAssignment.assignArray(this, "configurationChecks", data.configurationChecks, ApplicationCheck.fromJson) || changed;
+        changed = ModelAssignment.assignModel(this, "globalKeyStore", data?.globalKeyStore, GlobalKeyStore.fromJson, GlobalKeyStore) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configuration, other.configuration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configurationChecks, other.configurationChecks)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.globalKeyStore, other.globalKeyStore)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.configuration);
+        hash = ModelEquality.hash(hash, this.configurationChecks);
+        hash = ModelEquality.hash(hash, this.globalKeyStore);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ApplicationConfiguration(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.configuration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.configurationChecks) + ",";
+        fingerprint += ModelEquality.fingerprint(this.globalKeyStore) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+import {
+    ModelAssignment,
+    ClusterCheckMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ConnectClusterCheck,
+} from "./../index";
+
+export interface ClusterCheckInterface  {
+
+    checkType: ClusterCheckMode;
+
+}
+export class ClusterCheck implements ClusterCheckInterface, Parameter {
+    checkType: ClusterCheckMode;
+
+    constructor(data: any) {
+        let checkTypeDefault: any = "connect";
+        this.checkType = typeof data.checkType !== "undefined" ? data.checkType : checkTypeDefault;
+    }
+
+    public static getCheckTypeDefault(): ClusterCheckMode {
+        return "connect" as ClusterCheckMode;
+    }
+
+    public static getCheckTypeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ClusterCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        switch(data.checkType) {
+            case 'connect':
+                return ConnectClusterCheck.fromJson(data);
+        }
+
+        return new ClusterCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ClusterCheck> {
+        return ModelStream.decodeArray(source, ClusterCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'checkType': this.checkType,
+        };
+    }
+
+    public clone(): ClusterCheck {
+        return ClusterCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "checkType", typeof data.checkType !== "undefined" ? data.checkType : "connect") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.checkType, other.checkType)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.checkType);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ClusterCheck(";
+        fingerprint += ModelEquality.fingerprint(this.checkType) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
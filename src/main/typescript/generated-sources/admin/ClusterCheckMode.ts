@@ -0,0 +1,5 @@
+export enum ClusterCheckMode {
+
+    Connect = 'connect'
+
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+import {
+    ModelAssignment,
+    ClusterCheck,
+    ConfigurationInterface,
+    ClusterSettings,
+    Configuration,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ClusterConfigurationInterface extends ConfigurationInterface  {
+
+    configuration: ClusterSettings;
+    configurationChecks: Array<ClusterCheck>;
+
+}
+export class ClusterConfiguration extends Configuration implements ClusterConfigurationInterface, Parameter {
+    configuration: ClusterSettings;
+    configurationChecks: Array<ClusterCheck>;
+
+    constructor(data: any) {
+        super(data);
+
+        this.configuration = ClusterSettings.fromJson(data.configuration);
+        this.configurationChecks = (data.configurationChecks || []).map(
+            ClusterCheck.fromJson
+        );
+    }
+
+    public static getConfigurationDescription(): string {
+        return "";
+    }
+
+    public static getConfigurationChecksDefault(): Array<ClusterCheck> {
+        return [];
+    }
+
+    public static getConfigurationChecksDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ClusterConfiguration {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ClusterConfiguration(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ClusterConfiguration> {
+        return ModelStream.decodeArray(source, ClusterConfiguration.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'configuration': this.configuration?.toJson(),
+            'configurationChecks': this.configurationChecks?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): ClusterConfiguration {
+        return ClusterConfiguration.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "configuration", data.configuration, ClusterSettings.fromJson, ClusterSettings) || changed;
+        changed = ModelAssignment.assignArray(this, "configurationChecks", data.configurationChecks, ClusterCheck.fromJson) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configuration, other.configuration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configurationChecks, other.configurationChecks)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.configuration);
+        hash = ModelEquality.hash(hash, this.configurationChecks);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ClusterConfiguration(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.configuration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.configurationChecks) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+import {
+    ModelAssignment,
+    ConfigurationType,
+    ConfigurationMode,
+    ModelStream,
+    ServerConfiguration,
+    Parameter,
+    ClusterConfiguration,
+    ModelEquality,
+    ApplicationConfiguration,
+    LogConfiguration,
+    ProviderConfiguration,
+    UserConfiguration,
+} from "./../index";
+
+export interface ConfigurationInterface  {
+
+    configurationMode: ConfigurationMode;
+    configurationType: ConfigurationType;
+
+}
+export class Configuration implements ConfigurationInterface, Parameter {
+    configurationMode: ConfigurationMode;
+    configurationType: ConfigurationType;
+
+    constructor(data: any) {
+        let configurationModeDefault: any = "validate";
+        this.configurationMode = typeof data.configurationMode !== "undefined" ? data.configurationMode : configurationModeDefault;
+        let configurationTypeDefault: any = "application";
+        this.configurationType = typeof data.configurationType !== "undefined" ? data.configurationType : configurationTypeDefault;
+    }
+
+    public static getConfigurationModeDefault(): ConfigurationMode {
+        return "validate" as ConfigurationMode;
+    }
+
+    public static getConfigurationModeDescription(): string {
+        return "";
+    }
+
+    public static getConfigurationTypeDefault(): ConfigurationType {
+        return "application" as ConfigurationType;
+    }
+
+    public static getConfigurationTypeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Configuration {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        switch(data.configurationType) {
+            case 'application':
+                return ApplicationConfiguration.fromJson(data);
+            case 'cluster':
+                return ClusterConfiguration.fromJson(data);
+            case 'log':
+                return LogConfiguration.fromJson(data);
+            case 'provider':
+                return ProviderConfiguration.fromJson(data);
+            case 'server':
+                return ServerConfiguration.fromJson(data);
+            case 'user':
+                return UserConfiguration.fromJson(data);
+        }
+
+        return new Configuration(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Configuration> {
+        return ModelStream.decodeArray(source, Configuration.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'configurationMode': this.configurationMode,
+            'configurationType': this.configurationType,
+        };
+    }
+
+    public clone(): Configuration {
+        return Configuration.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "configurationMode", typeof data.configurationMode !== "undefined" ? data.configurationMode : "validate") || changed;
+        changed = ModelAssignment.assignValue(this, "configurationType", typeof data.configurationType !== "undefined" ? data.configurationType : "application") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configurationMode, other.configurationMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configurationType, other.configurationType)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.configurationMode);
+        hash = ModelEquality.hash(hash, this.configurationType);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Configuration(";
+        fingerprint += ModelEquality.fingerprint(this.configurationMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.configurationType) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum ConfigurationMode {
+
+    Validate = 'validate',
+    Write = 'write'
+
+}
\ No newline at end of file
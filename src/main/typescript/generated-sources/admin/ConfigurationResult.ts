@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    WebserviceResult,
+    ExecutableResult,
+    ConfigurationMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ConfigurationResultInterface  {
+
+    error?: WebserviceResult;
+    executableError?: ExecutableResult;
+    operation?: ConfigurationMode;
+
+}
+export class ConfigurationResult implements ConfigurationResultInterface, Parameter {
+    error?: WebserviceResult;
+    executableError?: ExecutableResult;
+    operation?: ConfigurationMode;
+
+    constructor(data: any) {
+        this.error = WebserviceResult.fromJson(data?.error);
+        this.executableError = ExecutableResult.fromJson(data?.executableError);
+        let operationDefault: any = "validate";
+        this.operation = typeof data?.operation !== "undefined" ? data?.operation : operationDefault;
+    }
+
+    public static getErrorDescription(): string {
+        return "";
+    }
+
+    public static getExecutableErrorDescription(): string {
+        return "";
+    }
+
+    public static getOperationDefault(): ConfigurationMode {
+        return "validate" as ConfigurationMode;
+    }
+
+    public static getOperationDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ConfigurationResult {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConfigurationResult(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConfigurationResult> {
+        return ModelStream.decodeArray(source, ConfigurationResult.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'error': this.error?.toJson(),
+            'executableError': this.executableError?.toJson(),
+            'operation': this.operation,
+        };
+    }
+
+    public clone(): ConfigurationResult {
+        return ConfigurationResult.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "error", data?.error, WebserviceResult.fromJson, WebserviceResult) || changed;
+        changed = ModelAssignment.assignModel(this, "executableError", data?.executableError, ExecutableResult.fromJson, ExecutableResult) || changed;
+        changed = ModelAssignment.assignValue(this, "operation", typeof data?.operation !== "undefined" ? data?.operation : "validate") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.error, other.error)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.executableError, other.executableError)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.operation, other.operation)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.error);
+        hash = ModelEquality.hash(hash, this.executableError);
+        hash = ModelEquality.hash(hash, this.operation);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConfigurationResult(";
+        fingerprint += ModelEquality.fingerprint(this.error) + ",";
+        fingerprint += ModelEquality.fingerprint(this.executableError) + ",";
+        fingerprint += ModelEquality.fingerprint(this.operation) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
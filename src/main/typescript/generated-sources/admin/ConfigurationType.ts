@@ -0,0 +1,10 @@
+export enum ConfigurationType {
+
+    Application = 'application',
+    Server = 'server',
+    User = 'user',
+    Log = 'log',
+    Cluster = 'cluster',
+    Provider = 'provider'
+
+}
\ No newline at end of file
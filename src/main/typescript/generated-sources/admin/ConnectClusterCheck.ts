@@ -0,0 +1,70 @@
+import {
+    ModelAssignment,
+    ClusterCheck,
+    ClusterCheckInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ConnectClusterCheckInterface extends ClusterCheckInterface  {
+
+
+}
+export class ConnectClusterCheck extends ClusterCheck implements ConnectClusterCheckInterface, Parameter {
+
+    constructor(data: any) {
+        super(data);
+
+    }
+
+    public static fromJson(data: any): ConnectClusterCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConnectClusterCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConnectClusterCheck> {
+        return ModelStream.decodeArray(source, ConnectClusterCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+        };
+    }
+
+    public clone(): ConnectClusterCheck {
+        return ConnectClusterCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConnectClusterCheck(" + super.fingerprint();
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum DataSourceServerState {
+
+    Realtime = 'realtime',
+    Persistent = 'persistent'
+
+}
\ No newline at end of file
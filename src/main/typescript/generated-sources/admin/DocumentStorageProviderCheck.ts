@@ -0,0 +1,70 @@
+import {
+    ModelAssignment,
+    ProviderCheck,
+    ProviderCheckInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface DocumentStorageProviderCheckInterface extends ProviderCheckInterface  {
+
+
+}
+export class DocumentStorageProviderCheck extends ProviderCheck implements DocumentStorageProviderCheckInterface, Parameter {
+
+    constructor(data: any) {
+        super(data);
+
+    }
+
+    public static fromJson(data: any): DocumentStorageProviderCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new DocumentStorageProviderCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<DocumentStorageProviderCheck> {
+        return ModelStream.decodeArray(source, DocumentStorageProviderCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+        };
+    }
+
+    public clone(): DocumentStorageProviderCheck {
+        return DocumentStorageProviderCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "DocumentStorageProviderCheck(" + super.fingerprint();
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ErrorCountServerStateInterface  {
+
+    code?: number;
+    count?: number;
+    description?: string;
+
+}
+export class ErrorCountServerState implements ErrorCountServerStateInterface, Parameter {
+    code?: number;
+    count?: number;
+    description?: string;
+
+    constructor(data: any) {
+        let codeDefault: any = 0;
+        this.code = typeof data?.code !== "undefined" ? data?.code : codeDefault;
+        let countDefault: any = 1;
+        this.count = typeof data?.count !== "undefined" ? data?.count : countDefault;
+        let descriptionDefault: any = "";
+        this.description = typeof data?.description !== "undefined" ? data?.description : descriptionDefault;
+    }
+
+    public static getCodeDefault(): number {
+        return 0;
+    }
+
+    public static getCodeDescription(): string {
+        return "";
+    }
+
+    public static getCountDefault(): number {
+        return 1;
+    }
+
+    public static getCountDescription(): string {
+        return "";
+    }
+
+    public static getDescriptionDefault(): string {
+        return "";
+    }
+
+    public static getDescriptionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ErrorCountServerState {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ErrorCountServerState(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ErrorCountServerState> {
+        return ModelStream.decodeArray(source, ErrorCountServerState.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'code': this.code,
+            'count': this.count,
+            'description': this.description,
+        };
+    }
+
+    public clone(): ErrorCountServerState {
+        return ErrorCountServerState.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "code", typeof data?.code !== "undefined" ? data?.code : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "count", typeof data?.count !== "undefined" ? data?.count : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "description", typeof data?.description !== "undefined" ? data?.description : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.code, other.code)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.count, other.count)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.description, other.description)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.code);
+        hash = ModelEquality.hash(hash, this.count);
+        hash = ModelEquality.hash(hash, this.description);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ErrorCountServerState(";
+        fingerprint += ModelEquality.fingerprint(this.code) + ",";
+        fingerprint += ModelEquality.fingerprint(this.count) + ",";
+        fingerprint += ModelEquality.fingerprint(this.description) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
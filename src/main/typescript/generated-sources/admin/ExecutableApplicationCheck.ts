@@ -0,0 +1,89 @@
+import {
+    ModelAssignment,
+    ExecutableName,
+    ModelStream,
+    ApplicationCheckInterface,
+    ApplicationCheck,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ExecutableApplicationCheckInterface extends ApplicationCheckInterface  {
+
+    executables?: Array<ExecutableName>;
+
+}
+export class ExecutableApplicationCheck extends ApplicationCheck implements ExecutableApplicationCheckInterface, Parameter {
+    executables?: Array<ExecutableName>;
+
+    constructor(data: any) {
+        super(data);
+
+        this.executables = data?.executables;
+    }
+
+    public static getExecutablesDefault(): Array<ExecutableName> {
+        return [] as Array<ExecutableName>;
+    }
+
+    public static getExecutablesDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ExecutableApplicationCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ExecutableApplicationCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ExecutableApplicationCheck> {
+        return ModelStream.decodeArray(source, ExecutableApplicationCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'executables': this.executables,
+        };
+    }
+
+    public clone(): ExecutableApplicationCheck {
+        return ExecutableApplicationCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignValue(this, "executables", data?.executables) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.executables, other.executables)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.executables);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ExecutableApplicationCheck(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.executables) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
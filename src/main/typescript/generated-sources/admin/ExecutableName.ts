@@ -0,0 +1,12 @@
+export enum ExecutableName {
+
+    OutsideIn = 'outsideIn',
+    Fisimple = 'fisimple',
+    Tesseract = 'tesseract',
+    Pdftools = 'pdftools',
+    OfficeBridge = 'officeBridge',
+    SharePointBridge = 'sharePointBridge',
+    Chromium = 'chromium',
+    ImageMagick = 'imageMagick'
+
+}
\ No newline at end of file
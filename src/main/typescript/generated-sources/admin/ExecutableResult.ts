@@ -0,0 +1,215 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ExecutableResultInterface  {
+
+    /**
+    * The name of the executed application.
+    */
+    applicationName?: string;
+    /**
+    * The commandline output created by the executed application.
+    */
+    commandLine?: Array<string>;
+    /**
+    * The console output created by the executed application.
+    */
+    consoleOutput?: Array<string>;
+    /**
+    * The application specific exit code. This is not a webPDF error code and is defined by the called application itself.
+    */
+    exitCode?: number;
+    /**
+    * When set to true, the execution has been successful.
+    */
+    isSuccessful?: boolean;
+    /**
+    * A message summarizing the execution result.
+    */
+    message?: string;
+
+}
+export class ExecutableResult implements ExecutableResultInterface, Parameter {
+    /**
+    * The name of the executed application.
+    */
+    applicationName?: string;
+    /**
+    * The commandline output created by the executed application.
+    */
+    commandLine?: Array<string>;
+    /**
+    * The console output created by the executed application.
+    */
+    consoleOutput?: Array<string>;
+    /**
+    * The application specific exit code. This is not a webPDF error code and is defined by the called application itself.
+    */
+    exitCode?: number;
+    /**
+    * When set to true, the execution has been successful.
+    */
+    isSuccessful?: boolean;
+    /**
+    * A message summarizing the execution result.
+    */
+    message?: string;
+
+    constructor(data: any) {
+        let applicationNameDefault: any = "";
+        this.applicationName = typeof data?.applicationName !== "undefined" ? data?.applicationName : applicationNameDefault;
+        let commandLineDefault: any = [];
+        this.commandLine = typeof data?.commandLine !== "undefined" ? data?.commandLine : commandLineDefault;
+        let consoleOutputDefault: any = [];
+        this.consoleOutput = typeof data?.consoleOutput !== "undefined" ? data?.consoleOutput : consoleOutputDefault;
+        let exitCodeDefault: any = 0;
+        this.exitCode = typeof data?.exitCode !== "undefined" ? data?.exitCode : exitCodeDefault;
+        let isSuccessfulDefault: any = false;
+        this.isSuccessful = typeof data?.isSuccessful !== "undefined" ? data?.isSuccessful : isSuccessfulDefault;
+        let messageDefault: any = "";
+        this.message = typeof data?.message !== "undefined" ? data?.message : messageDefault;
+    }
+
+    public static getApplicationNameDefault(): string {
+        return "";
+    }
+
+    public static getApplicationNameDescription(): string {
+        return "The name of the executed application.";
+    }
+
+    public static getCommandLineDefault(): Array<string> {
+        return [];
+    }
+
+    public static getCommandLineDescription(): string {
+        return "The commandline output created by the executed application.";
+    }
+
+    public static getConsoleOutputDefault(): Array<string> {
+        return [];
+    }
+
+    public static getConsoleOutputDescription(): string {
+        return "The console output created by the executed application.";
+    }
+
+    public static getExitCodeDefault(): number {
+        return 0;
+    }
+
+    public static getExitCodeDescription(): string {
+        return "The application specific exit code. This is not a webPDF error code and is defined by the called application itself.";
+    }
+
+    public static getIsSuccessfulDefault(): boolean {
+        return false;
+    }
+
+    public static getIsSuccessfulDescription(): string {
+        return "When set to true, the execution has been successful.";
+    }
+
+    public static getMessageDefault(): string {
+        return "";
+    }
+
+    public static getMessageDescription(): string {
+        return "A message summarizing the execution result.";
+    }
+
+    public static fromJson(data: any): ExecutableResult {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ExecutableResult(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ExecutableResult> {
+        return ModelStream.decodeArray(source, ExecutableResult.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'applicationName': this.applicationName,
+            'commandLine': this.commandLine,
+            'consoleOutput': this.consoleOutput,
+            'exitCode': this.exitCode,
+            'isSuccessful': this.isSuccessful,
+            'message': this.message,
+        };
+    }
+
+    public clone(): ExecutableResult {
+        return ExecutableResult.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "applicationName", typeof data?.applicationName !== "undefined" ? data?.applicationName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "commandLine", typeof data?.commandLine !== "undefined" ? data?.commandLine : []) || changed;
+        changed = ModelAssignment.assignValue(this, "consoleOutput", typeof data?.consoleOutput !== "undefined" ? data?.consoleOutput : []) || changed;
+        changed = ModelAssignment.assignValue(this, "exitCode", typeof data?.exitCode !== "undefined" ? data?.exitCode : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "isSuccessful", typeof data?.isSuccessful !== "undefined" ? data?.isSuccessful : false) || changed;
+        changed = ModelAssignment.assignValue(this, "message", typeof data?.message !== "undefined" ? data?.message : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.applicationName, other.applicationName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.commandLine, other.commandLine)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.consoleOutput, other.consoleOutput)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.exitCode, other.exitCode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isSuccessful, other.isSuccessful)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.message, other.message)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.applicationName);
+        hash = ModelEquality.hash(hash, this.commandLine);
+        hash = ModelEquality.hash(hash, this.consoleOutput);
+        hash = ModelEquality.hash(hash, this.exitCode);
+        hash = ModelEquality.hash(hash, this.isSuccessful);
+        hash = ModelEquality.hash(hash, this.message);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ExecutableResult(";
+        fingerprint += ModelEquality.fingerprint(this.applicationName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.commandLine) + ",";
+        fingerprint += ModelEquality.fingerprint(this.consoleOutput) + ",";
+        fingerprint += ModelEquality.fingerprint(this.exitCode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isSuccessful) + ",";
+        fingerprint += ModelEquality.fingerprint(this.message) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ExecutableStatusState,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ExecutableStatusInterface  {
+
+    /**
+    * When set to true usage of external executables is enabled.
+    */
+    enabled?: boolean;
+    status?: ExecutableStatusState;
+
+}
+export class ExecutableStatus implements ExecutableStatusInterface, Parameter {
+    /**
+    * When set to true usage of external executables is enabled.
+    */
+    enabled?: boolean;
+    status?: ExecutableStatusState;
+
+    constructor(data: any) {
+        let enabledDefault: any = false;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        let statusDefault: any = "unknown";
+        this.status = typeof data?.status !== "undefined" ? data?.status : statusDefault;
+    }
+
+    public static getEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getEnabledDescription(): string {
+        return "When set to true usage of external executables is enabled.";
+    }
+
+    public static getStatusDefault(): ExecutableStatusState {
+        return "unknown" as ExecutableStatusState;
+    }
+
+    public static getStatusDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ExecutableStatus {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ExecutableStatus(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ExecutableStatus> {
+        return ModelStream.decodeArray(source, ExecutableStatus.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'enabled': this.enabled,
+            'status': this.status,
+        };
+    }
+
+    public clone(): ExecutableStatus {
+        return ExecutableStatus.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : false) || changed;
+        changed = ModelAssignment.assignValue(this, "status", typeof data?.status !== "undefined" ? data?.status : "unknown") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.status, other.status)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.status);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ExecutableStatus(";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.status) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
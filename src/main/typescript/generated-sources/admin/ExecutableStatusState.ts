@@ -0,0 +1,8 @@
+export enum ExecutableStatusState {
+
+    Unknown = 'unknown',
+    Ok = 'ok',
+    Disabled = 'disabled',
+    Error = 'error'
+
+}
\ No newline at end of file
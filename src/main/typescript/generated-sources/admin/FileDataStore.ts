@@ -0,0 +1,100 @@
+import {
+    ModelAssignment,
+    FileGroupDataStore,
+    LogoFileDataStore,
+    ModelStream,
+    Parameter,
+    GenericFileDataStore,
+    BackgroundFileDataStore,
+    ModelEquality,
+    ThemeFileDataStore,
+} from "./../index";
+
+export interface FileDataStoreInterface  {
+
+    fileGroup: FileGroupDataStore;
+
+}
+export class FileDataStore implements FileDataStoreInterface, Parameter {
+    fileGroup: FileGroupDataStore;
+
+    constructor(data: any) {
+        let fileGroupDefault: any = "generic";
+        this.fileGroup = typeof data.fileGroup !== "undefined" ? data.fileGroup : fileGroupDefault;
+    }
+
+    public static getFileGroupDefault(): FileGroupDataStore {
+        return "generic" as FileGroupDataStore;
+    }
+
+    public static getFileGroupDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): FileDataStore {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        switch(data.fileGroup) {
+            case 'background':
+                return BackgroundFileDataStore.fromJson(data);
+            case 'generic':
+                return GenericFileDataStore.fromJson(data);
+            case 'logo':
+                return LogoFileDataStore.fromJson(data);
+            case 'theme':
+                return ThemeFileDataStore.fromJson(data);
+        }
+
+        return new FileDataStore(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FileDataStore> {
+        return ModelStream.decodeArray(source, FileDataStore.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'fileGroup': this.fileGroup,
+        };
+    }
+
+    public clone(): FileDataStore {
+        return FileDataStore.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "fileGroup", typeof data.fileGroup !== "undefined" ? data.fileGroup : "generic") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileGroup, other.fileGroup)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.fileGroup);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FileDataStore(";
+        fingerprint += ModelEquality.fingerprint(this.fileGroup) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
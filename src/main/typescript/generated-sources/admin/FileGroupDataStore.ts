@@ -0,0 +1,8 @@
+export enum FileGroupDataStore {
+
+    Generic = 'generic',
+    Theme = 'theme',
+    Logo = 'logo',
+    Background = 'background'
+
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+import {
+    ModelAssignment,
+    FileDataStoreInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    FileDataStore,
+} from "./../index";
+
+export interface GenericFileDataStoreInterface extends FileDataStoreInterface  {
+
+    /**
+    * The actual content of the data storage file
+    */
+    fileContent?: string;
+    /**
+    * The name of the generic data storage file.
+    */
+    fileName?: string;
+
+}
+export class GenericFileDataStore extends FileDataStore implements GenericFileDataStoreInterface, Parameter {
+    /**
+    * The actual content of the data storage file
+    */
+    fileContent?: string;
+    /**
+    * The name of the generic data storage file.
+    */
+    fileName?: string;
+
+    constructor(data: any) {
+        super(data);
+
+        let fileContentDefault: any = "";
+        this.fileContent = typeof data?.fileContent !== "undefined" ? data?.fileContent : fileContentDefault;
+        let fileNameDefault: any = "unknown.txt";
+        this.fileName = typeof data?.fileName !== "undefined" ? data?.fileName : fileNameDefault;
+    }
+
+    public static getFileContentDefault(): string {
+        return "";
+    }
+
+    public static getFileContentDescription(): string {
+        return "The actual content of the data storage file";
+    }
+
+    public static getFileNameDefault(): string {
+        return "unknown.txt";
+    }
+
+    public static getFileNameDescription(): string {
+        return "The name of the generic data storage file.";
+    }
+
+    public static fromJson(data: any): GenericFileDataStore {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new GenericFileDataStore(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<GenericFileDataStore> {
+        return ModelStream.decodeArray(source, GenericFileDataStore.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'fileContent': this.fileContent,
+            'fileName': this.fileName,
+        };
+    }
+
+    public clone(): GenericFileDataStore {
+        return GenericFileDataStore.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignValue(this, "fileContent", typeof data?.fileContent !== "undefined" ? data?.fileContent : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fileName", typeof data?.fileName !== "undefined" ? data?.fileName : "unknown.txt") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileContent, other.fileContent)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileName, other.fileName)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.fileContent);
+        hash = ModelEquality.hash(hash, this.fileName);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "GenericFileDataStore(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.fileContent) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileName) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
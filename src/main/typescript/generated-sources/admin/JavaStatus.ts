@@ -0,0 +1,292 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    JavaStatusGC,
+} from "./../index";
+
+export interface JavaStatusInterface  {
+
+    /**
+    * The list of GC used and their execution values.
+    */
+    gc?: Array<JavaStatusGC>;
+    /**
+    * The name of the running JVM.
+    */
+    javaName?: string;
+    /**
+    * The vendor of the running JVM.
+    */
+    javaVendor?: string;
+    /**
+    * The java version of the running JVM.
+    */
+    javaVersion?: string;
+    /**
+    * The byte size of the memory currently allocated for the running JVM.
+    */
+    memoryAllocated?: number;
+    /**
+    * The byte size of free memory, that currently is available for further object allocations.
+    */
+    memoryFree?: number;
+    /**
+    * The byte size of the maximum memory, that could be allocated by the JVM, if required.
+    */
+    memoryMax?: number;
+    /**
+    * The byte size of the free memory, that would currently be available for further object allocations, if the JVM would allocate the maximum allowed memory size.
+    */
+    memoryTotalFree?: number;
+    /**
+    * The byte size of the allocated memory, that is actually used by the JVM at the moment.
+    */
+    memoryUsed?: number;
+
+}
+export class JavaStatus implements JavaStatusInterface, Parameter {
+    /**
+    * The list of GC used and their execution values.
+    */
+    gc?: Array<JavaStatusGC>;
+    /**
+    * The name of the running JVM.
+    */
+    javaName?: string;
+    /**
+    * The vendor of the running JVM.
+    */
+    javaVendor?: string;
+    /**
+    * The java version of the running JVM.
+    */
+    javaVersion?: string;
+    /**
+    * The byte size of the memory currently allocated for the running JVM.
+    */
+    memoryAllocated?: number;
+    /**
+    * The byte size of free memory, that currently is available for further object allocations.
+    */
+    memoryFree?: number;
+    /**
+    * The byte size of the maximum memory, that could be allocated by the JVM, if required.
+    */
+    memoryMax?: number;
+    /**
+    * The byte size of the free memory, that would currently be available for further object allocations, if the JVM would allocate the maximum allowed memory size.
+    */
+    memoryTotalFree?: number;
+    /**
+    * The byte size of the allocated memory, that is actually used by the JVM at the moment.
+    */
+    memoryUsed?: number;
+
+    constructor(data: any) {
+        this.gc = (data?.gc || []).map(
+            JavaStatusGC.fromJson
+        );
+        let javaNameDefault: any = "";
+        this.javaName = typeof data?.javaName !== "undefined" ? data?.javaName : javaNameDefault;
+        let javaVendorDefault: any = "";
+        this.javaVendor = typeof data?.javaVendor !== "undefined" ? data?.javaVendor : javaVendorDefault;
+        let javaVersionDefault: any = "";
+        this.javaVersion = typeof data?.javaVersion !== "undefined" ? data?.javaVersion : javaVersionDefault;
+        let memoryAllocatedDefault: any = 0;
+        this.memoryAllocated = typeof data?.memoryAllocated !== "undefined" ? data?.memoryAllocated : memoryAllocatedDefault;
+        let memoryFreeDefault: any = 0;
+        this.memoryFree = typeof data?.memoryFree !== "undefined" ? data?.memoryFree : memoryFreeDefault;
+        let memoryMaxDefault: any = 0;
+        this.memoryMax = typeof data?.memoryMax !== "undefined" ? data?.memoryMax : memoryMaxDefault;
+        let memoryTotalFreeDefault: any = 0;
+        this.memoryTotalFree = typeof data?.memoryTotalFree !== "undefined" ? data?.memoryTotalFree : memoryTotalFreeDefault;
+        let memoryUsedDefault: any = 0;
+        this.memoryUsed = typeof data?.memoryUsed !== "undefined" ? data?.memoryUsed : memoryUsedDefault;
+    }
+
+    public static getGcDefault(): Array<JavaStatusGC> {
+        return [];
+    }
+
+    public static getGcDescription(): string {
+        return "The list of GC used and their execution values.";
+    }
+
+    public static getJavaNameDefault(): string {
+        return "";
+    }
+
+    public static getJavaNameDescription(): string {
+        return "The name of the running JVM.";
+    }
+
+    public static getJavaVendorDefault(): string {
+        return "";
+    }
+
+    public static getJavaVendorDescription(): string {
+        return "The vendor of the running JVM.";
+    }
+
+    public static getJavaVersionDefault(): string {
+        return "";
+    }
+
+    public static getJavaVersionDescription(): string {
+        return "The java version of the running JVM.";
+    }
+
+    public static getMemoryAllocatedDefault(): number {
+        return 0;
+    }
+
+    public static getMemoryAllocatedDescription(): string {
+        return "The byte size of the memory currently allocated for the running JVM.";
+    }
+
+    public static getMemoryFreeDefault(): number {
+        return 0;
+    }
+
+    public static getMemoryFreeDescription(): string {
+        return "The byte size of free memory, that currently is available for further object allocations.";
+    }
+
+    public static getMemoryMaxDefault(): number {
+        return 0;
+    }
+
+    public static getMemoryMaxDescription(): string {
+        return "The byte size of the maximum memory, that could be allocated by the JVM, if required.";
+    }
+
+    public static getMemoryTotalFreeDefault(): number {
+        return 0;
+    }
+
+    public static getMemoryTotalFreeDescription(): string {
+        return "The byte size of the free memory, that would currently be available for further object allocations, if the JVM would allocate the maximum allowed memory size.";
+    }
+
+    public static getMemoryUsedDefault(): number {
+        return 0;
+    }
+
+    public static getMemoryUsedDescription(): string {
+        return "The byte size of the allocated memory, that is actually used by the JVM at the moment.";
+    }
+
+    public static fromJson(data: any): JavaStatus {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new JavaStatus(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<JavaStatus> {
+        return ModelStream.decodeArray(source, JavaStatus.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'gc': this.gc?.map((data) => data.toJson()),
+            'javaName': this.javaName,
+            'javaVendor': this.javaVendor,
+            'javaVersion': this.javaVersion,
+            'memoryAllocated': this.memoryAllocated,
+            'memoryFree': this.memoryFree,
+            'memoryMax': this.memoryMax,
+            'memoryTotalFree': this.memoryTotalFree,
+            'memoryUsed': this.memoryUsed,
+        };
+    }
+
+    public clone(): JavaStatus {
+        return JavaStatus.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "gc", data?.gc, JavaStatusGC.fromJson, JavaStatusGC) || changed;
+        changed = ModelAssignment.assignValue(this, "javaName", typeof data?.javaName !== "undefined" ? data?.javaName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "javaVendor", typeof data?.javaVendor !== "undefined" ? data?.javaVendor : "") || changed;
+        changed = ModelAssignment.assignValue(this, "javaVersion", typeof data?.javaVersion !== "undefined" ? data?.javaVersion : "") || changed;
+        changed = ModelAssignment.assignValue(this, "memoryAllocated", typeof data?.memoryAllocated !== "undefined" ? data?.memoryAllocated : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "memoryFree", typeof data?.memoryFree !== "undefined" ? data?.memoryFree : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "memoryMax", typeof data?.memoryMax !== "undefined" ? data?.memoryMax : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "memoryTotalFree", typeof data?.memoryTotalFree !== "undefined" ? data?.memoryTotalFree : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "memoryUsed", typeof data?.memoryUsed !== "undefined" ? data?.memoryUsed : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.gc, other.gc)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.javaName, other.javaName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.javaVendor, other.javaVendor)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.javaVersion, other.javaVersion)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.memoryAllocated, other.memoryAllocated)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.memoryFree, other.memoryFree)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.memoryMax, other.memoryMax)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.memoryTotalFree, other.memoryTotalFree)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.memoryUsed, other.memoryUsed)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.gc);
+        hash = ModelEquality.hash(hash, this.javaName);
+        hash = ModelEquality.hash(hash, this.javaVendor);
+        hash = ModelEquality.hash(hash, this.javaVersion);
+        hash = ModelEquality.hash(hash, this.memoryAllocated);
+        hash = ModelEquality.hash(hash, this.memoryFree);
+        hash = ModelEquality.hash(hash, this.memoryMax);
+        hash = ModelEquality.hash(hash, this.memoryTotalFree);
+        hash = ModelEquality.hash(hash, this.memoryUsed);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "JavaStatus(";
+        fingerprint += ModelEquality.fingerprint(this.gc) + ",";
+        fingerprint += ModelEquality.fingerprint(this.javaName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.javaVendor) + ",";
+        fingerprint += ModelEquality.fingerprint(this.javaVersion) + ",";
+        fingerprint += ModelEquality.fingerprint(this.memoryAllocated) + ",";
+        fingerprint += ModelEquality.fingerprint(this.memoryFree) + ",";
+        fingerprint += ModelEquality.fingerprint(this.memoryMax) + ",";
+        fingerprint += ModelEquality.fingerprint(this.memoryTotalFree) + ",";
+        fingerprint += ModelEquality.fingerprint(this.memoryUsed) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
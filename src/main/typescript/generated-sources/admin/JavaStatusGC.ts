@@ -0,0 +1,122 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface JavaStatusGCInterface  {
+
+    collectionCount?: number;
+    collectionTime?: number;
+    name?: string;
+
+}
+export class JavaStatusGC implements JavaStatusGCInterface, Parameter {
+    collectionCount?: number;
+    collectionTime?: number;
+    name?: string;
+
+    constructor(data: any) {
+        let collectionCountDefault: any = 0;
+        this.collectionCount = typeof data?.collectionCount !== "undefined" ? data?.collectionCount : collectionCountDefault;
+        let collectionTimeDefault: any = 0;
+        this.collectionTime = typeof data?.collectionTime !== "undefined" ? data?.collectionTime : collectionTimeDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+    }
+
+    public static getCollectionCountDefault(): number {
+        return 0;
+    }
+
+    public static getCollectionCountDescription(): string {
+        return "";
+    }
+
+    public static getCollectionTimeDefault(): number {
+        return 0;
+    }
+
+    public static getCollectionTimeDescription(): string {
+        return "";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): JavaStatusGC {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new JavaStatusGC(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<JavaStatusGC> {
+        return ModelStream.decodeArray(source, JavaStatusGC.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'collectionCount': this.collectionCount,
+            'collectionTime': this.collectionTime,
+            'name': this.name,
+        };
+    }
+
+    public clone(): JavaStatusGC {
+        return JavaStatusGC.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "collectionCount", typeof data?.collectionCount !== "undefined" ? data?.collectionCount : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "collectionTime", typeof data?.collectionTime !== "undefined" ? data?.collectionTime : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.collectionCount, other.collectionCount)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.collectionTime, other.collectionTime)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.collectionCount);
+        hash = ModelEquality.hash(hash, this.collectionTime);
+        hash = ModelEquality.hash(hash, this.name);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "JavaStatusGC(";
+        fingerprint += ModelEquality.fingerprint(this.collectionCount) + ",";
+        fingerprint += ModelEquality.fingerprint(this.collectionTime) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
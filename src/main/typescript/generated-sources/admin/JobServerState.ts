@@ -0,0 +1,180 @@
+import {
+    ModelAssignment,
+    ErrorCountServerState,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface JobServerStateInterface  {
+
+    errorDetails?: { [key: string]: ErrorCountServerState; };
+    executionTimeMs?: number;
+    lastJobId?: number;
+    numberOfErrorJobs?: number;
+    numberOfJobs?: number;
+    numberOfSuccessfulJobs?: number;
+
+}
+export class JobServerState implements JobServerStateInterface, Parameter {
+    errorDetails?: { [key: string]: ErrorCountServerState; };
+    executionTimeMs?: number;
+    lastJobId?: number;
+    numberOfErrorJobs?: number;
+    numberOfJobs?: number;
+    numberOfSuccessfulJobs?: number;
+
+    constructor(data: any) {
+        let errorDetailsDefault: any = {};
+        this.errorDetails = typeof data?.errorDetails !== "undefined" ? data?.errorDetails : errorDetailsDefault;
+        let executionTimeMsDefault: any = 0;
+        this.executionTimeMs = typeof data?.executionTimeMs !== "undefined" ? data?.executionTimeMs : executionTimeMsDefault;
+        let lastJobIdDefault: any = -1;
+        this.lastJobId = typeof data?.lastJobId !== "undefined" ? data?.lastJobId : lastJobIdDefault;
+        let numberOfErrorJobsDefault: any = 0;
+        this.numberOfErrorJobs = typeof data?.numberOfErrorJobs !== "undefined" ? data?.numberOfErrorJobs : numberOfErrorJobsDefault;
+        let numberOfJobsDefault: any = 0;
+        this.numberOfJobs = typeof data?.numberOfJobs !== "undefined" ? data?.numberOfJobs : numberOfJobsDefault;
+        let numberOfSuccessfulJobsDefault: any = 0;
+        this.numberOfSuccessfulJobs = typeof data?.numberOfSuccessfulJobs !== "undefined" ? data?.numberOfSuccessfulJobs : numberOfSuccessfulJobsDefault;
+    }
+
+    public static getErrorDetailsDefault(): { [key: string]: ErrorCountServerState; } {
+        return {};
+    }
+
+    public static getErrorDetailsDescription(): string {
+        return "";
+    }
+
+    public static getExecutionTimeMsDefault(): number {
+        return 0;
+    }
+
+    public static getExecutionTimeMsDescription(): string {
+        return "";
+    }
+
+    public static getLastJobIdDefault(): number {
+        return -1;
+    }
+
+    public static getLastJobIdDescription(): string {
+        return "";
+    }
+
+    public static getNumberOfErrorJobsDefault(): number {
+        return 0;
+    }
+
+    public static getNumberOfErrorJobsDescription(): string {
+        return "";
+    }
+
+    public static getNumberOfJobsDefault(): number {
+        return 0;
+    }
+
+    public static getNumberOfJobsDescription(): string {
+        return "";
+    }
+
+    public static getNumberOfSuccessfulJobsDefault(): number {
+        return 0;
+    }
+
+    public static getNumberOfSuccessfulJobsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): JobServerState {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new JobServerState(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<JobServerState> {
+        return ModelStream.decodeArray(source, JobServerState.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'errorDetails': this.errorDetails,
+            'executionTimeMs': this.executionTimeMs,
+            'lastJobId': this.lastJobId,
+            'numberOfErrorJobs': this.numberOfErrorJobs,
+            'numberOfJobs': this.numberOfJobs,
+            'numberOfSuccessfulJobs': this.numberOfSuccessfulJobs,
+        };
+    }
+
+    public clone(): JobServerState {
+        return JobServerState.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "errorDetails", typeof data?.errorDetails !== "undefined" ? data?.errorDetails : {}) || changed;
+        changed = ModelAssignment.assignValue(this, "executionTimeMs", typeof data?.executionTimeMs !== "undefined" ? data?.executionTimeMs : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "lastJobId", typeof data?.lastJobId !== "undefined" ? data?.lastJobId : -1) || changed;
+        changed = ModelAssignment.assignValue(this, "numberOfErrorJobs", typeof data?.numberOfErrorJobs !== "undefined" ? data?.numberOfErrorJobs : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "numberOfJobs", typeof data?.numberOfJobs !== "undefined" ? data?.numberOfJobs : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "numberOfSuccessfulJobs", typeof data?.numberOfSuccessfulJobs !== "undefined" ? data?.numberOfSuccessfulJobs : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.errorDetails, other.errorDetails)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.executionTimeMs, other.executionTimeMs)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.lastJobId, other.lastJobId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.numberOfErrorJobs, other.numberOfErrorJobs)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.numberOfJobs, other.numberOfJobs)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.numberOfSuccessfulJobs, other.numberOfSuccessfulJobs)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.errorDetails);
+        hash = ModelEquality.hash(hash, this.executionTimeMs);
+        hash = ModelEquality.hash(hash, this.lastJobId);
+        hash = ModelEquality.hash(hash, this.numberOfErrorJobs);
+        hash = ModelEquality.hash(hash, this.numberOfJobs);
+        hash = ModelEquality.hash(hash, this.numberOfSuccessfulJobs);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "JobServerState(";
+        fingerprint += ModelEquality.fingerprint(this.errorDetails) + ",";
+        fingerprint += ModelEquality.fingerprint(this.executionTimeMs) + ",";
+        fingerprint += ModelEquality.fingerprint(this.lastJobId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.numberOfErrorJobs) + ",";
+        fingerprint += ModelEquality.fingerprint(this.numberOfJobs) + ",";
+        fingerprint += ModelEquality.fingerprint(this.numberOfSuccessfulJobs) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
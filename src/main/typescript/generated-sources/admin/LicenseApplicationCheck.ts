@@ -0,0 +1,70 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ApplicationCheckInterface,
+    ApplicationCheck,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface LicenseApplicationCheckInterface extends ApplicationCheckInterface  {
+
+
+}
+export class LicenseApplicationCheck extends ApplicationCheck implements LicenseApplicationCheckInterface, Parameter {
+
+    constructor(data: any) {
+        super(data);
+
+    }
+
+    public static fromJson(data: any): LicenseApplicationCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LicenseApplicationCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LicenseApplicationCheck> {
+        return ModelStream.decodeArray(source, LicenseApplicationCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+        };
+    }
+
+    public clone(): LicenseApplicationCheck {
+        return LicenseApplicationCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LicenseApplicationCheck(" + super.fingerprint();
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
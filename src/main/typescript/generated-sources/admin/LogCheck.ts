@@ -0,0 +1,87 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface LogCheckInterface  {
+
+    checkType: string;
+
+}
+export class LogCheck implements LogCheckInterface, Parameter {
+    checkType: string;
+
+    constructor(data: any) {
+        let checkTypeDefault: any = "";
+        this.checkType = typeof data.checkType !== "undefined" ? data.checkType : checkTypeDefault;
+    }
+
+    public static getCheckTypeDefault(): string {
+        return "";
+    }
+
+    public static getCheckTypeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): LogCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        switch(data.checkType) {
+        }
+
+        return new LogCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LogCheck> {
+        return ModelStream.decodeArray(source, LogCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'checkType': this.checkType,
+        };
+    }
+
+    public clone(): LogCheck {
+        return LogCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "checkType", typeof data.checkType !== "undefined" ? data.checkType : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.checkType, other.checkType)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.checkType);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LogCheck(";
+        fingerprint += ModelEquality.fingerprint(this.checkType) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+import {
+    ModelAssignment,
+    ConfigurationInterface,
+    Configuration,
+    LogCheck,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    LogFileConfiguration,
+} from "./../index";
+
+export interface LogConfigurationInterface extends ConfigurationInterface  {
+
+    configuration: LogFileConfiguration;
+    configurationChecks: Array<LogCheck>;
+
+}
+export class LogConfiguration extends Configuration implements LogConfigurationInterface, Parameter {
+    configuration: LogFileConfiguration;
+    configurationChecks: Array<LogCheck>;
+
+    constructor(data: any) {
+        super(data);
+
+        this.configuration = LogFileConfiguration.fromJson(data.configuration);
+        this.configurationChecks = (data.configurationChecks || []).map(
+            LogCheck.fromJson
+        );
+    }
+
+    public static getConfigurationDescription(): string {
+        return "";
+    }
+
+    public static getConfigurationChecksDefault(): Array<LogCheck> {
+        return [];
+    }
+
+    public static getConfigurationChecksDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): LogConfiguration {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LogConfiguration(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LogConfiguration> {
+        return ModelStream.decodeArray(source, LogConfiguration.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'configuration': this.configuration?.toJson(),
+            'configurationChecks': this.configurationChecks?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): LogConfiguration {
+        return LogConfiguration.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "configuration", data.configuration, LogFileConfiguration.fromJson, LogFileConfiguration) || changed;
+        changed = ModelAssignment.assignArray(this, "configurationChecks", data.configurationChecks, LogCheck.fromJson, LogCheck) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configuration, other.configuration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configurationChecks, other.configurationChecks)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.configuration);
+        hash = ModelEquality.hash(hash, this.configurationChecks);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LogConfiguration(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.configuration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.configurationChecks) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum LogConfigurationMode {
+
+    None = 'none',
+    Debug = 'debug',
+    DebugRequest = 'debugRequest',
+    DebugRequestPayload = 'debugRequestPayload'
+
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    LogConfigurationMode,
+} from "./../index";
+
+export interface LogFileConfigurationInterface  {
+
+    debugMode?: LogConfigurationMode;
+    /**
+    * Current content or content to be written to the server's log4j2.xml configuration file.
+    */
+    log4j2Xml?: string;
+    /**
+    * If true, then the content specified in the `log4j2Xml` attribute is written to the server's \"log4j2.xml\" configuration file.
+    */
+    updateXml?: boolean;
+
+}
+export class LogFileConfiguration implements LogFileConfigurationInterface, Parameter {
+    debugMode?: LogConfigurationMode;
+    /**
+    * Current content or content to be written to the server's log4j2.xml configuration file.
+    */
+    log4j2Xml?: string;
+    /**
+    * If true, then the content specified in the `log4j2Xml` attribute is written to the server's \"log4j2.xml\" configuration file.
+    */
+    updateXml?: boolean;
+
+    constructor(data: any) {
+        let debugModeDefault: any = "none";
+        this.debugMode = typeof data?.debugMode !== "undefined" ? data?.debugMode : debugModeDefault;
+        let log4j2XmlDefault: any = "";
+        this.log4j2Xml = typeof data?.log4j2Xml !== "undefined" ? data?.log4j2Xml : log4j2XmlDefault;
+        let updateXmlDefault: any = false;
+        this.updateXml = typeof data?.updateXml !== "undefined" ? data?.updateXml : updateXmlDefault;
+    }
+
+    public static getDebugModeDefault(): LogConfigurationMode {
+        return "none" as LogConfigurationMode;
+    }
+
+    public static getDebugModeDescription(): string {
+        return "";
+    }
+
+    public static getLog4j2XmlDefault(): string {
+        return "";
+    }
+
+    public static getLog4j2XmlDescription(): string {
+        return "Current content or content to be written to the server's log4j2.xml configuration file.";
+    }
+
+    public static getUpdateXmlDefault(): boolean {
+        return false;
+    }
+
+    public static getUpdateXmlDescription(): string {
+        return "If true, then the content specified in the `log4j2Xml` attribute is written to the server's \"log4j2.xml\" configuration file.";
+    }
+
+    public static fromJson(data: any): LogFileConfiguration {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LogFileConfiguration(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LogFileConfiguration> {
+        return ModelStream.decodeArray(source, LogFileConfiguration.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'debugMode': this.debugMode,
+            'log4j2Xml': this.log4j2Xml,
+            'updateXml': this.updateXml,
+        };
+    }
+
+    public clone(): LogFileConfiguration {
+        return LogFileConfiguration.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "debugMode", typeof data?.debugMode !== "undefined" ? data?.debugMode : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "log4j2Xml", typeof data?.log4j2Xml !== "undefined" ? data?.log4j2Xml : "") || changed;
+        changed = ModelAssignment.assignValue(this, "updateXml", typeof data?.updateXml !== "undefined" ? data?.updateXml : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.debugMode, other.debugMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.log4j2Xml, other.log4j2Xml)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.updateXml, other.updateXml)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.debugMode);
+        hash = ModelEquality.hash(hash, this.log4j2Xml);
+        hash = ModelEquality.hash(hash, this.updateXml);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LogFileConfiguration(";
+        fingerprint += ModelEquality.fingerprint(this.debugMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.log4j2Xml) + ",";
+        fingerprint += ModelEquality.fingerprint(this.updateXml) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    FileDataStoreInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    FileDataStore,
+} from "./../index";
+
+export interface LogoFileDataStoreInterface extends FileDataStoreInterface  {
+
+    /**
+    * The actual content of the data storage file
+    */
+    fileContent?: string;
+
+}
+export class LogoFileDataStore extends FileDataStore implements LogoFileDataStoreInterface, Parameter {
+    /**
+    * The actual content of the data storage file
+    */
+    fileContent?: string;
+
+    constructor(data: any) {
+        super(data);
+
+        let fileContentDefault: any = "";
+        this.fileContent = typeof data?.fileContent !== "undefined" ? data?.fileContent : fileContentDefault;
+    }
+
+    public static getFileContentDefault(): string {
+        return "";
+    }
+
+    public static getFileContentDescription(): string {
+        return "The actual content of the data storage file";
+    }
+
+    public static fromJson(data: any): LogoFileDataStore {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LogoFileDataStore(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LogoFileDataStore> {
+        return ModelStream.decodeArray(source, LogoFileDataStore.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'fileContent': this.fileContent,
+        };
+    }
+
+    public clone(): LogoFileDataStore {
+        return LogoFileDataStore.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignValue(this, "fileContent", typeof data?.fileContent !== "undefined" ? data?.fileContent : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileContent, other.fileContent)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.fileContent);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LogoFileDataStore(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.fileContent) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,355 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    OsStatusContainer,
+    ModelEquality,
+} from "./../index";
+
+export interface OsStatusInterface  {
+
+    container?: OsStatusContainer;
+    /**
+    * The number of logical processors available to the application
+    */
+    cpuLogicalProcessors?: number;
+    /**
+    * The amount of virtual memory that is guaranteed to be available to the application in bytes
+    */
+    memoryCommittedVirtualSize?: number;
+    /**
+    * The amount of free memory in bytes
+    */
+    memoryFree?: number;
+    /**
+    * The amount of free swap space in bytes
+    */
+    memoryFreeSwapSize?: number;
+    /**
+    * The total amount of memory in bytes
+    */
+    memoryTotal?: number;
+    /**
+    * The total amount of swap space in bytes
+    */
+    memoryTotalSwapSize?: number;
+    /**
+    * The operating system´s architecture
+    */
+    osArchitecture?: string;
+    /**
+    * The name of the operating system, the server is running on
+    */
+    osName?: string;
+    /**
+    * The operating system´s version number
+    */
+    osVersion?: string;
+    /**
+    * The recent CPU usage of the JVM with a value between 0.0 and 1.0 (a value of 1.0 means that threads were actively executed on all CPUs)
+    */
+    processCpuLoad?: number;
+    /**
+    * The system load average for the last minute (or a negative value if not available)
+    */
+    systemLoadAverage?: number;
+
+}
+export class OsStatus implements OsStatusInterface, Parameter {
+    container?: OsStatusContainer;
+    /**
+    * The number of logical processors available to the application
+    */
+    cpuLogicalProcessors?: number;
+    /**
+    * The amount of virtual memory that is guaranteed to be available to the application in bytes
+    */
+    memoryCommittedVirtualSize?: number;
+    /**
+    * The amount of free memory in bytes
+    */
+    memoryFree?: number;
+    /**
+    * The amount of free swap space in bytes
+    */
+    memoryFreeSwapSize?: number;
+    /**
+    * The total amount of memory in bytes
+    */
+    memoryTotal?: number;
+    /**
+    * The total amount of swap space in bytes
+    */
+    memoryTotalSwapSize?: number;
+    /**
+    * The operating system´s architecture
+    */
+    osArchitecture?: string;
+    /**
+    * The name of the operating system, the server is running on
+    */
+    osName?: string;
+    /**
+    * The operating system´s version number
+    */
+    osVersion?: string;
+    /**
+    * The recent CPU usage of the JVM with a value between 0.0 and 1.0 (a value of 1.0 means that threads were actively executed on all CPUs)
+    */
+    processCpuLoad?: number;
+    /**
+    * The system load average for the last minute (or a negative value if not available)
+    */
+    systemLoadAverage?: number;
+
+    constructor(data: any) {
+        this.container = OsStatusContainer.fromJson(data?.container);
+        let cpuLogicalProcessorsDefault: any = 0;
+        this.cpuLogicalProcessors = typeof data?.cpuLogicalProcessors !== "undefined" ? data?.cpuLogicalProcessors : cpuLogicalProcessorsDefault;
+        let memoryCommittedVirtualSizeDefault: any = 0;
+        this.memoryCommittedVirtualSize = typeof data?.memoryCommittedVirtualSize !== "undefined" ? data?.memoryCommittedVirtualSize : memoryCommittedVirtualSizeDefault;
+        let memoryFreeDefault: any = 0;
+        this.memoryFree = typeof data?.memoryFree !== "undefined" ? data?.memoryFree : memoryFreeDefault;
+        let memoryFreeSwapSizeDefault: any = 0;
+        this.memoryFreeSwapSize = typeof data?.memoryFreeSwapSize !== "undefined" ? data?.memoryFreeSwapSize : memoryFreeSwapSizeDefault;
+        let memoryTotalDefault: any = 0;
+        this.memoryTotal = typeof data?.memoryTotal !== "undefined" ? data?.memoryTotal : memoryTotalDefault;
+        let memoryTotalSwapSizeDefault: any = 0;
+        this.memoryTotalSwapSize = typeof data?.memoryTotalSwapSize !== "undefined" ? data?.memoryTotalSwapSize : memoryTotalSwapSizeDefault;
+        let osArchitectureDefault: any = "";
+        this.osArchitecture = typeof data?.osArchitecture !== "undefined" ? data?.osArchitecture : osArchitectureDefault;
+        let osNameDefault: any = "";
+        this.osName = typeof data?.osName !== "undefined" ? data?.osName : osNameDefault;
+        let osVersionDefault: any = "";
+        this.osVersion = typeof data?.osVersion !== "undefined" ? data?.osVersion : osVersionDefault;
+        let processCpuLoadDefault: any = 0;
+        this.processCpuLoad = typeof data?.processCpuLoad !== "undefined" ? data?.processCpuLoad : processCpuLoadDefault;
+        let systemLoadAverageDefault: any = 0;
+        this.systemLoadAverage = typeof data?.systemLoadAverage !== "undefined" ? data?.systemLoadAverage : systemLoadAverageDefault;
+    }
+
+    public static getContainerDescription(): string {
+        return "";
+    }
+
+    public static getCpuLogicalProcessorsDefault(): number {
+        return 0;
+    }
+
+    public static getCpuLogicalProcessorsDescription(): string {
+        return "The number of logical processors available to the application";
+    }
+
+    public static getMemoryCommittedVirtualSizeDefault(): number {
+        return 0;
+    }
+
+    public static getMemoryCommittedVirtualSizeDescription(): string {
+        return "The amount of virtual memory that is guaranteed to be available to the application in bytes";
+    }
+
+    public static getMemoryFreeDefault(): number {
+        return 0;
+    }
+
+    public static getMemoryFreeDescription(): string {
+        return "The amount of free memory in bytes";
+    }
+
+    public static getMemoryFreeSwapSizeDefault(): number {
+        return 0;
+    }
+
+    public static getMemoryFreeSwapSizeDescription(): string {
+        return "The amount of free swap space in bytes";
+    }
+
+    public static getMemoryTotalDefault(): number {
+        return 0;
+    }
+
+    public static getMemoryTotalDescription(): string {
+        return "The total amount of memory in bytes";
+    }
+
+    public static getMemoryTotalSwapSizeDefault(): number {
+        return 0;
+    }
+
+    public static getMemoryTotalSwapSizeDescription(): string {
+        return "The total amount of swap space in bytes";
+    }
+
+    public static getOsArchitectureDefault(): string {
+        return "";
+    }
+
+    public static getOsArchitectureDescription(): string {
+        return "The operating system\u00B4s architecture";
+    }
+
+    public static getOsNameDefault(): string {
+        return "";
+    }
+
+    public static getOsNameDescription(): string {
+        return "The name of the operating system, the server is running on";
+    }
+
+    public static getOsVersionDefault(): string {
+        return "";
+    }
+
+    public static getOsVersionDescription(): string {
+        return "The operating system\u00B4s version number";
+    }
+
+    public static getProcessCpuLoadDefault(): number {
+        return 0;
+    }
+
+    public static getProcessCpuLoadDescription(): string {
+        return "The recent CPU usage of the JVM with a value between 0.0 and 1.0 (a value of 1.0 means that threads were actively executed on all CPUs)";
+    }
+
+    public static getSystemLoadAverageDefault(): number {
+        return 0;
+    }
+
+    public static getSystemLoadAverageDescription(): string {
+        return "The system load average for the last minute (or a negative value if not available)";
+    }
+
+    public static fromJson(data: any): OsStatus {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OsStatus(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OsStatus> {
+        return ModelStream.decodeArray(source, OsStatus.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'container': this.container?.toJson(),
+            'cpuLogicalProcessors': this.cpuLogicalProcessors,
+            'memoryCommittedVirtualSize': this.memoryCommittedVirtualSize,
+            'memoryFree': this.memoryFree,
+            'memoryFreeSwapSize': this.memoryFreeSwapSize,
+            'memoryTotal': this.memoryTotal,
+            'memoryTotalSwapSize': this.memoryTotalSwapSize,
+            'osArchitecture': this.osArchitecture,
+            'osName': this.osName,
+            'osVersion': this.osVersion,
+            'processCpuLoad': this.processCpuLoad,
+            'systemLoadAverage': this.systemLoadAverage,
+        };
+    }
+
+    public clone(): OsStatus {
+        return OsStatus.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "container", data?.container, OsStatusContainer.fromJson, OsStatusContainer) || changed;
+        changed = ModelAssignment.assignValue(this, "cpuLogicalProcessors", typeof data?.cpuLogicalProcessors !== "undefined" ? data?.cpuLogicalProcessors : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "memoryCommittedVirtualSize", typeof data?.memoryCommittedVirtualSize !== "undefined" ? data?.memoryCommittedVirtualSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "memoryFree", typeof data?.memoryFree !== "undefined" ? data?.memoryFree : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "memoryFreeSwapSize", typeof data?.memoryFreeSwapSize !== "undefined" ? data?.memoryFreeSwapSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "memoryTotal", typeof data?.memoryTotal !== "undefined" ? data?.memoryTotal : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "memoryTotalSwapSize", typeof data?.memoryTotalSwapSize !== "undefined" ? data?.memoryTotalSwapSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "osArchitecture", typeof data?.osArchitecture !== "undefined" ? data?.osArchitecture : "") || changed;
+        changed = ModelAssignment.assignValue(this, "osName", typeof data?.osName !== "undefined" ? data?.osName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "osVersion", typeof data?.osVersion !== "undefined" ? data?.osVersion : "") || changed;
+        changed = ModelAssignment.assignValue(this, "processCpuLoad", typeof data?.processCpuLoad !== "undefined" ? data?.processCpuLoad : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "systemLoadAverage", typeof data?.systemLoadAverage !== "undefined" ? data?.systemLoadAverage : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.container, other.container)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.cpuLogicalProcessors, other.cpuLogicalProcessors)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.memoryCommittedVirtualSize, other.memoryCommittedVirtualSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.memoryFree, other.memoryFree)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.memoryFreeSwapSize, other.memoryFreeSwapSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.memoryTotal, other.memoryTotal)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.memoryTotalSwapSize, other.memoryTotalSwapSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.osArchitecture, other.osArchitecture)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.osName, other.osName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.osVersion, other.osVersion)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.processCpuLoad, other.processCpuLoad)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.systemLoadAverage, other.systemLoadAverage)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.container);
+        hash = ModelEquality.hash(hash, this.cpuLogicalProcessors);
+        hash = ModelEquality.hash(hash, this.memoryCommittedVirtualSize);
+        hash = ModelEquality.hash(hash, this.memoryFree);
+        hash = ModelEquality.hash(hash, this.memoryFreeSwapSize);
+        hash = ModelEquality.hash(hash, this.memoryTotal);
+        hash = ModelEquality.hash(hash, this.memoryTotalSwapSize);
+        hash = ModelEquality.hash(hash, this.osArchitecture);
+        hash = ModelEquality.hash(hash, this.osName);
+        hash = ModelEquality.hash(hash, this.osVersion);
+        hash = ModelEquality.hash(hash, this.processCpuLoad);
+        hash = ModelEquality.hash(hash, this.systemLoadAverage);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OsStatus(";
+        fingerprint += ModelEquality.fingerprint(this.container) + ",";
+        fingerprint += ModelEquality.fingerprint(this.cpuLogicalProcessors) + ",";
+        fingerprint += ModelEquality.fingerprint(this.memoryCommittedVirtualSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.memoryFree) + ",";
+        fingerprint += ModelEquality.fingerprint(this.memoryFreeSwapSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.memoryTotal) + ",";
+        fingerprint += ModelEquality.fingerprint(this.memoryTotalSwapSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.osArchitecture) + ",";
+        fingerprint += ModelEquality.fingerprint(this.osName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.osVersion) + ",";
+        fingerprint += ModelEquality.fingerprint(this.processCpuLoad) + ",";
+        fingerprint += ModelEquality.fingerprint(this.systemLoadAverage) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface OsStatusContainerInterface  {
+
+    name?: string;
+
+}
+export class OsStatusContainer implements OsStatusContainerInterface, Parameter {
+    name?: string;
+
+    constructor(data: any) {
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): OsStatusContainer {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OsStatusContainer(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OsStatusContainer> {
+        return ModelStream.decodeArray(source, OsStatusContainer.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'name': this.name,
+        };
+    }
+
+    public clone(): OsStatusContainer {
+        return OsStatusContainer.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.name);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OsStatusContainer(";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PoolEntryServerStateInterface  {
+
+    count?: number;
+    poolSize?: number;
+    queueSize?: number;
+
+}
+export class PoolEntryServerState implements PoolEntryServerStateInterface, Parameter {
+    count?: number;
+    poolSize?: number;
+    queueSize?: number;
+
+    constructor(data: any) {
+        let countDefault: any = 0;
+        this.count = typeof data?.count !== "undefined" ? data?.count : countDefault;
+        let poolSizeDefault: any = 0;
+        this.poolSize = typeof data?.poolSize !== "undefined" ? data?.poolSize : poolSizeDefault;
+        let queueSizeDefault: any = 0;
+        this.queueSize = typeof data?.queueSize !== "undefined" ? data?.queueSize : queueSizeDefault;
+    }
+
+    public static getCountDefault(): number {
+        return 0;
+    }
+
+    public static getCountDescription(): string {
+        return "";
+    }
+
+    public static getPoolSizeDefault(): number {
+        return 0;
+    }
+
+    public static getPoolSizeDescription(): string {
+        return "";
+    }
+
+    public static getQueueSizeDefault(): number {
+        return 0;
+    }
+
+    public static getQueueSizeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PoolEntryServerState {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PoolEntryServerState(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PoolEntryServerState> {
+        return ModelStream.decodeArray(source, PoolEntryServerState.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'count': this.count,
+            'poolSize': this.poolSize,
+            'queueSize': this.queueSize,
+        };
+    }
+
+    public clone(): PoolEntryServerState {
+        return PoolEntryServerState.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "count", typeof data?.count !== "undefined" ? data?.count : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "poolSize", typeof data?.poolSize !== "undefined" ? data?.poolSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "queueSize", typeof data?.queueSize !== "undefined" ? data?.queueSize : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.count, other.count)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.poolSize, other.poolSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.queueSize, other.queueSize)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.count);
+        hash = ModelEquality.hash(hash, this.poolSize);
+        hash = ModelEquality.hash(hash, this.queueSize);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PoolEntryServerState(";
+        fingerprint += ModelEquality.fingerprint(this.count) + ",";
+        fingerprint += ModelEquality.fingerprint(this.poolSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.queueSize) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PoolServerStateInterface  {
+
+    maxPoolSize?: number;
+    maxQueueSize?: number;
+    maxUsedPoolSize?: number;
+    maxUsedQueueSize?: number;
+    poolSize?: number;
+    queueSize?: number;
+
+}
+export class PoolServerState implements PoolServerStateInterface, Parameter {
+    maxPoolSize?: number;
+    maxQueueSize?: number;
+    maxUsedPoolSize?: number;
+    maxUsedQueueSize?: number;
+    poolSize?: number;
+    queueSize?: number;
+
+    constructor(data: any) {
+        let maxPoolSizeDefault: any = 0;
+        this.maxPoolSize = typeof data?.maxPoolSize !== "undefined" ? data?.maxPoolSize : maxPoolSizeDefault;
+        let maxQueueSizeDefault: any = 0;
+        this.maxQueueSize = typeof data?.maxQueueSize !== "undefined" ? data?.maxQueueSize : maxQueueSizeDefault;
+        let maxUsedPoolSizeDefault: any = 0;
+        this.maxUsedPoolSize = typeof data?.maxUsedPoolSize !== "undefined" ? data?.maxUsedPoolSize : maxUsedPoolSizeDefault;
+        let maxUsedQueueSizeDefault: any = 0;
+        this.maxUsedQueueSize = typeof data?.maxUsedQueueSize !== "undefined" ? data?.maxUsedQueueSize : maxUsedQueueSizeDefault;
+        let poolSizeDefault: any = 0;
+        this.poolSize = typeof data?.poolSize !== "undefined" ? data?.poolSize : poolSizeDefault;
+        let queueSizeDefault: any = 0;
+        this.queueSize = typeof data?.queueSize !== "undefined" ? data?.queueSize : queueSizeDefault;
+    }
+
+    public static getMaxPoolSizeDefault(): number {
+        return 0;
+    }
+
+    public static getMaxPoolSizeDescription(): string {
+        return "";
+    }
+
+    public static getMaxQueueSizeDefault(): number {
+        return 0;
+    }
+
+    public static getMaxQueueSizeDescription(): string {
+        return "";
+    }
+
+    public static getMaxUsedPoolSizeDefault(): number {
+        return 0;
+    }
+
+    public static getMaxUsedPoolSizeDescription(): string {
+        return "";
+    }
+
+    public static getMaxUsedQueueSizeDefault(): number {
+        return 0;
+    }
+
+    public static getMaxUsedQueueSizeDescription(): string {
+        return "";
+    }
+
+    public static getPoolSizeDefault(): number {
+        return 0;
+    }
+
+    public static getPoolSizeDescription(): string {
+        return "";
+    }
+
+    public static getQueueSizeDefault(): number {
+        return 0;
+    }
+
+    public static getQueueSizeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PoolServerState {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PoolServerState(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PoolServerState> {
+        return ModelStream.decodeArray(source, PoolServerState.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'maxPoolSize': this.maxPoolSize,
+            'maxQueueSize': this.maxQueueSize,
+            'maxUsedPoolSize': this.maxUsedPoolSize,
+            'maxUsedQueueSize': this.maxUsedQueueSize,
+            'poolSize': this.poolSize,
+            'queueSize': this.queueSize,
+        };
+    }
+
+    public clone(): PoolServerState {
+        return PoolServerState.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "maxPoolSize", typeof data?.maxPoolSize !== "undefined" ? data?.maxPoolSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "maxQueueSize", typeof data?.maxQueueSize !== "undefined" ? data?.maxQueueSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "maxUsedPoolSize", typeof data?.maxUsedPoolSize !== "undefined" ? data?.maxUsedPoolSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "maxUsedQueueSize", typeof data?.maxUsedQueueSize !== "undefined" ? data?.maxUsedQueueSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "poolSize", typeof data?.poolSize !== "undefined" ? data?.poolSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "queueSize", typeof data?.queueSize !== "undefined" ? data?.queueSize : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxPoolSize, other.maxPoolSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxQueueSize, other.maxQueueSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxUsedPoolSize, other.maxUsedPoolSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxUsedQueueSize, other.maxUsedQueueSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.poolSize, other.poolSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.queueSize, other.queueSize)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.maxPoolSize);
+        hash = ModelEquality.hash(hash, this.maxQueueSize);
+        hash = ModelEquality.hash(hash, this.maxUsedPoolSize);
+        hash = ModelEquality.hash(hash, this.maxUsedQueueSize);
+        hash = ModelEquality.hash(hash, this.poolSize);
+        hash = ModelEquality.hash(hash, this.queueSize);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PoolServerState(";
+        fingerprint += ModelEquality.fingerprint(this.maxPoolSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxQueueSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxUsedPoolSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxUsedQueueSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.poolSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.queueSize) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
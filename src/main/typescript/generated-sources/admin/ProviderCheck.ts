@@ -0,0 +1,97 @@
+import {
+    ModelAssignment,
+    ProviderCheckMode,
+    SessionStorageProviderCheck,
+    DocumentStorageProviderCheck,
+    ModelStream,
+    FileStorageProviderCheck,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ProviderCheckInterface  {
+
+    checkType: ProviderCheckMode;
+
+}
+export class ProviderCheck implements ProviderCheckInterface, Parameter {
+    checkType: ProviderCheckMode;
+
+    constructor(data: any) {
+        let checkTypeDefault: any = "documentStorage";
+        this.checkType = typeof data.checkType !== "undefined" ? data.checkType : checkTypeDefault;
+    }
+
+    public static getCheckTypeDefault(): ProviderCheckMode {
+        return "documentStorage" as ProviderCheckMode;
+    }
+
+    public static getCheckTypeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ProviderCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        switch(data.checkType) {
+            case 'documentStorage':
+                return DocumentStorageProviderCheck.fromJson(data);
+            case 'fileStorage':
+                return FileStorageProviderCheck.fromJson(data);
+            case 'sessionStorage':
+                return SessionStorageProviderCheck.fromJson(data);
+        }
+
+        return new ProviderCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ProviderCheck> {
+        return ModelStream.decodeArray(source, ProviderCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'checkType': this.checkType,
+        };
+    }
+
+    public clone(): ProviderCheck {
+        return ProviderCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "checkType", typeof data.checkType !== "undefined" ? data.checkType : "documentStorage") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.checkType, other.checkType)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.checkType);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ProviderCheck(";
+        fingerprint += ModelEquality.fingerprint(this.checkType) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum ProviderCheckMode {
+
+    DocumentStorage = 'documentStorage',
+    FileStorage = 'fileStorage',
+    SessionStorage = 'sessionStorage'
+
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+import {
+    ModelAssignment,
+    ProviderCheck,
+    ConfigurationInterface,
+    Configuration,
+    ModelStream,
+    ProviderSettings,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ProviderConfigurationInterface extends ConfigurationInterface  {
+
+    configuration: ProviderSettings;
+    configurationChecks: Array<ProviderCheck>;
+
+}
+export class ProviderConfiguration extends Configuration implements ProviderConfigurationInterface, Parameter {
+    configuration: ProviderSettings;
+    configurationChecks: Array<ProviderCheck>;
+
+    constructor(data: any) {
+        super(data);
+
+        this.configuration = ProviderSettings.fromJson(data.configuration);
+        this.configurationChecks = (data.configurationChecks || []).map(
+            ProviderCheck.fromJson
+        );
+    }
+
+    public static getConfigurationDescription(): string {
+        return "";
+    }
+
+    public static getConfigurationChecksDefault(): Array<ProviderCheck> {
+        return [];
+    }
+
+    public static getConfigurationChecksDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ProviderConfiguration {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ProviderConfiguration(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ProviderConfiguration> {
+        return ModelStream.decodeArray(source, ProviderConfiguration.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'configuration': this.configuration?.toJson(),
+            'configurationChecks': this.configurationChecks?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): ProviderConfiguration {
+        return ProviderConfiguration.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "configuration", data.configuration, ProviderSettings.fromJson, ProviderSettings) || changed;
+        changed = ModelAssignment.assignArray(this, "configurationChecks", data.configurationChecks, ProviderCheck.fromJson) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configuration, other.configuration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configurationChecks, other.configurationChecks)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.configuration);
+        hash = ModelEquality.hash(hash, this.configurationChecks);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ProviderConfiguration(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.configuration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.configurationChecks) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
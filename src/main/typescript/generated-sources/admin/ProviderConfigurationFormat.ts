@@ -0,0 +1,8 @@
+export enum ProviderConfigurationFormat {
+
+    Plain = 'plain',
+    Json = 'json',
+    Yaml = 'yaml',
+    Xml = 'xml'
+
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ProviderConfigurationFormat,
+    ModelEquality,
+} from "./../index";
+
+export interface ProviderEntryInterface  {
+
+    fileName?: string;
+    format?: ProviderConfigurationFormat;
+    name?: string;
+
+}
+export class ProviderEntry implements ProviderEntryInterface, Parameter {
+    fileName?: string;
+    format?: ProviderConfigurationFormat;
+    name?: string;
+
+    constructor(data: any) {
+        let fileNameDefault: any = "";
+        this.fileName = typeof data?.fileName !== "undefined" ? data?.fileName : fileNameDefault;
+        let formatDefault: any = "json";
+        this.format = typeof data?.format !== "undefined" ? data?.format : formatDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+    }
+
+    public static getFileNameDefault(): string {
+        return "";
+    }
+
+    public static getFileNameDescription(): string {
+        return "";
+    }
+
+    public static getFormatDefault(): ProviderConfigurationFormat {
+        return "json" as ProviderConfigurationFormat;
+    }
+
+    public static getFormatDescription(): string {
+        return "";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ProviderEntry {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ProviderEntry(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ProviderEntry> {
+        return ModelStream.decodeArray(source, ProviderEntry.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'fileName': this.fileName,
+            'format': this.format,
+            'name': this.name,
+        };
+    }
+
+    public clone(): ProviderEntry {
+        return ProviderEntry.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "fileName", typeof data?.fileName !== "undefined" ? data?.fileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "format", typeof data?.format !== "undefined" ? data?.format : "json") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileName, other.fileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.format, other.format)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.fileName);
+        hash = ModelEquality.hash(hash, this.format);
+        hash = ModelEquality.hash(hash, this.name);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ProviderEntry(";
+        fingerprint += ModelEquality.fingerprint(this.fileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.format) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ProviderEntry,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ProvidersInterface  {
+
+    documentStorage?: Array<ProviderEntry>;
+    fileStorage?: Array<ProviderEntry>;
+    sessionStorage?: Array<ProviderEntry>;
+
+}
+export class Providers implements ProvidersInterface, Parameter {
+    documentStorage?: Array<ProviderEntry>;
+    fileStorage?: Array<ProviderEntry>;
+    sessionStorage?: Array<ProviderEntry>;
+
+    constructor(data: any) {
+        this.documentStorage = (data?.documentStorage || []).map(
+            ProviderEntry.fromJson
+        );
+        this.fileStorage = (data?.fileStorage || []).map(
+            ProviderEntry.fromJson
+        );
+        this.sessionStorage = (data?.sessionStorage || []).map(
+            ProviderEntry.fromJson
+        );
+    }
+
+    public static getDocumentStorageDefault(): Array<ProviderEntry> {
+        return [];
+    }
+
+    public static getDocumentStorageDescription(): string {
+        return "";
+    }
+
+    public static getFileStorageDefault(): Array<ProviderEntry> {
+        return [];
+    }
+
+    public static getFileStorageDescription(): string {
+        return "";
+    }
+
+    public static getSessionStorageDefault(): Array<ProviderEntry> {
+        return [];
+    }
+
+    public static getSessionStorageDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Providers {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Providers(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Providers> {
+        return ModelStream.decodeArray(source, Providers.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'documentStorage': this.documentStorage?.map((data) => data.toJson()),
+            'fileStorage': this.fileStorage?.map((data) => data.toJson()),
+            'sessionStorage': this.sessionStorage?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): Providers {
+        return Providers.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "documentStorage", data?.documentStorage, ProviderEntry.fromJson, ProviderEntry) || changed;
+        changed = ModelAssignment.assignArray(this, "fileStorage", data?.fileStorage, ProviderEntry.fromJson, ProviderEntry) || changed;
+        changed = ModelAssignment.assignArray(this, "sessionStorage", data?.sessionStorage, ProviderEntry.fromJson, ProviderEntry) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.documentStorage, other.documentStorage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileStorage, other.fileStorage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sessionStorage, other.sessionStorage)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.documentStorage);
+        hash = ModelEquality.hash(hash, this.fileStorage);
+        hash = ModelEquality.hash(hash, this.sessionStorage);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Providers(";
+        fingerprint += ModelEquality.fingerprint(this.documentStorage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileStorage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sessionStorage) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+import {
+    ModelAssignment,
+    UserServerCheck,
+    ConnectorServerCheck,
+    ModelStream,
+    ServerCheckMode,
+    Parameter,
+    TrustStoreServerCheck,
+    ModelEquality,
+} from "./../index";
+
+export interface ServerCheckInterface  {
+
+    checkType: ServerCheckMode;
+
+}
+export class ServerCheck implements ServerCheckInterface, Parameter {
+    checkType: ServerCheckMode;
+
+    constructor(data: any) {
+        let checkTypeDefault: any = "user";
+        this.checkType = typeof data.checkType !== "undefined" ? data.checkType : checkTypeDefault;
+    }
+
+    public static getCheckTypeDefault(): ServerCheckMode {
+        return "user" as ServerCheckMode;
+    }
+
+    public static getCheckTypeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ServerCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        switch(data.checkType) {
+            case 'connector':
+                return ConnectorServerCheck.fromJson(data);
+            case 'truststore':
+                return TrustStoreServerCheck.fromJson(data);
+            case 'user':
+                return UserServerCheck.fromJson(data);
+        }
+
+        return new ServerCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ServerCheck> {
+        return ModelStream.decodeArray(source, ServerCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'checkType': this.checkType,
+        };
+    }
+
+    public clone(): ServerCheck {
+        return ServerCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "checkType", typeof data.checkType !== "undefined" ? data.checkType : "user") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.checkType, other.checkType)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.checkType);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ServerCheck(";
+        fingerprint += ModelEquality.fingerprint(this.checkType) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum ServerCheckMode {
+
+    User = 'user',
+    Truststore = 'truststore',
+    Connector = 'connector'
+
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+import {
+    ModelAssignment,
+    ConnectorKeyStore,
+    ConfigurationInterface,
+    Server,
+    Configuration,
+    ModelStream,
+    ServerCheck,
+    Parameter,
+    ModelEquality,
+    TrustStoreKeyStore,
+} from "./../index";
+
+export interface ServerConfigurationInterface extends ConfigurationInterface  {
+
+    configuration: Server;
+    configurationChecks: Array<ServerCheck>;
+    /**
+    * Lists all contents of the keystore (e.g. it´s certificates and raw data), that shall be used by theserver´s secured SSL connectors.
+    */
+    connectorKeyStore?: { [key: string]: ConnectorKeyStore; };
+    trustStoreKeyStore?: TrustStoreKeyStore;
+
+}
+export class ServerConfiguration extends Configuration implements ServerConfigurationInterface, Parameter {
+    configuration: Server;
+    configurationChecks: Array<ServerCheck>;
+    /**
+    * Lists all contents of the keystore (e.g. it´s certificates and raw data), that shall be used by theserver´s secured SSL connectors.
+    */
+    connectorKeyStore?: { [key: string]: ConnectorKeyStore; };
+    trustStoreKeyStore?: TrustStoreKeyStore;
+
+    constructor(data: any) {
+        super(data);
+
+        this.configuration = Server.fromJson(data.configuration);
+        this.configurationChecks = (data.configurationChecks || []).map(
+            ServerCheck.fromJson
+        );
+        let connectorKeyStoreDefault: any = {};
+        this.connectorKeyStore = typeof data?.connectorKeyStore !== "undefined" ? data?.connectorKeyStore : connectorKeyStoreDefault;
+        this.trustStoreKeyStore = TrustStoreKeyStore.fromJson(data?.trustStoreKeyStore);
+    }
+
+    public static getConfigurationDescription(): string {
+        return "";
+    }
+
+    public static getConfigurationChecksDefault(): Array<ServerCheck> {
+        return [];
+    }
+
+    public static getConfigurationChecksDescription(): string {
+        return "";
+    }
+
+    public static getConnectorKeyStoreDefault(): { [key: string]: ConnectorKeyStore; } {
+        return {};
+    }
+
+    public static getConnectorKeyStoreDescription(): string {
+        return "Lists all contents of the keystore (e.g. it\u00B4s certificates and raw data), that shall be used by theserver\u00B4s secured SSL connectors.";
+    }
+
+    public static getTrustStoreKeyStoreDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ServerConfiguration {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ServerConfiguration(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ServerConfiguration> {
+        return ModelStream.decodeArray(source, ServerConfiguration.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'configuration': this.configuration?.toJson(),
+            'configurationChecks': this.configurationChecks?.map((data) => data.toJson()),
+            'connectorKeyStore': this.connectorKeyStore,
+            'trustStoreKeyStore': this.trustStoreKeyStore?.toJson(),
+        };
+    }
+
+    public clone(): ServerConfiguration {
+        return ServerConfiguration.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "configuration", data.configuration, Server.fromJson, Server) || changed;
+        changed = ModelAssignment.assignArray(this, "configurationChecks", data.configurationChecks, ServerCheck.fromJson) || changed;
+        changed = ModelAssignment.assignValue(this, "connectorKeyStore", typeof data?.connectorKeyStore !== "undefined" ? data?.connectorKeyStore : {}) || changed;
+        changed = ModelAssignment.assignModel(this, "trustStoreKeyStore", data?.trustStoreKeyStore, TrustStoreKeyStore.fromJson, TrustStoreKeyStore) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configuration, other.configuration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configurationChecks, other.configurationChecks)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.connectorKeyStore, other.connectorKeyStore)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.trustStoreKeyStore, other.trustStoreKeyStore)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.configuration);
+        hash = ModelEquality.hash(hash, this.configurationChecks);
+        hash = ModelEquality.hash(hash, this.connectorKeyStore);
+        hash = ModelEquality.hash(hash, this.trustStoreKeyStore);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ServerConfiguration(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.configuration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.configurationChecks) + ",";
+        fingerprint += ModelEquality.fingerprint(this.connectorKeyStore) + ",";
+        fingerprint += ModelEquality.fingerprint(this.trustStoreKeyStore) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum ServerOS {
+
+    Windows = 'windows',
+    Linux = 'linux'
+
+}
\ No newline at end of file
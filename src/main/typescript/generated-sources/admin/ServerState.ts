@@ -0,0 +1,120 @@
+import {
+    ModelAssignment,
+    PoolServerState,
+    ModelStream,
+    JobServerState,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ServerStateInterface  {
+
+    instances?: PoolServerState;
+    jobs?: JobServerState;
+    /**
+    * UTC datetime of last update
+    */
+    lastUpdate?: number;
+
+}
+export class ServerState implements ServerStateInterface, Parameter {
+    instances?: PoolServerState;
+    jobs?: JobServerState;
+    /**
+    * UTC datetime of last update
+    */
+    lastUpdate?: number;
+
+    constructor(data: any) {
+        this.instances = PoolServerState.fromJson(data?.instances);
+        this.jobs = JobServerState.fromJson(data?.jobs);
+        let lastUpdateDefault: any = 0;
+        this.lastUpdate = typeof data?.lastUpdate !== "undefined" ? data?.lastUpdate : lastUpdateDefault;
+    }
+
+    public static getInstancesDescription(): string {
+        return "";
+    }
+
+    public static getJobsDescription(): string {
+        return "";
+    }
+
+    public static getLastUpdateDefault(): number {
+        return 0;
+    }
+
+    public static getLastUpdateDescription(): string {
+        return "UTC datetime of last update";
+    }
+
+    public static fromJson(data: any): ServerState {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ServerState(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ServerState> {
+        return ModelStream.decodeArray(source, ServerState.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'instances': this.instances?.toJson(),
+            'jobs': this.jobs?.toJson(),
+            'lastUpdate': this.lastUpdate,
+        };
+    }
+
+    public clone(): ServerState {
+        return ServerState.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "instances", data?.instances, PoolServerState.fromJson, PoolServerState) || changed;
+        changed = ModelAssignment.assignModel(this, "jobs", data?.jobs, JobServerState.fromJson, JobServerState) || changed;
+        changed = ModelAssignment.assignValue(this, "lastUpdate", typeof data?.lastUpdate !== "undefined" ? data?.lastUpdate : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.instances, other.instances)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.jobs, other.jobs)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.lastUpdate, other.lastUpdate)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.instances);
+        hash = ModelEquality.hash(hash, this.jobs);
+        hash = ModelEquality.hash(hash, this.lastUpdate);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ServerState(";
+        fingerprint += ModelEquality.fingerprint(this.instances) + ",";
+        fingerprint += ModelEquality.fingerprint(this.jobs) + ",";
+        fingerprint += ModelEquality.fingerprint(this.lastUpdate) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    JavaStatus,
+    ServerVersionInfo,
+    Parameter,
+    OsStatus,
+    AdminWebserviceStatus,
+    ModelEquality,
+} from "./../index";
+
+export interface ServerStatusInterface  {
+
+    java?: JavaStatus;
+    os?: OsStatus;
+    server?: ServerVersionInfo;
+    webservices?: { [key: string]: AdminWebserviceStatus; };
+
+}
+export class ServerStatus implements ServerStatusInterface, Parameter {
+    java?: JavaStatus;
+    os?: OsStatus;
+    server?: ServerVersionInfo;
+    webservices?: { [key: string]: AdminWebserviceStatus; };
+
+    constructor(data: any) {
+        this.java = JavaStatus.fromJson(data?.java);
+        this.os = OsStatus.fromJson(data?.os);
+        this.server = ServerVersionInfo.fromJson(data?.server);
+        let webservicesDefault: any = {};
+        this.webservices = typeof data?.webservices !== "undefined" ? data?.webservices : webservicesDefault;
+    }
+
+    public static getJavaDescription(): string {
+        return "";
+    }
+
+    public static getOsDescription(): string {
+        return "";
+    }
+
+    public static getServerDescription(): string {
+        return "";
+    }
+
+    public static getWebservicesDefault(): { [key: string]: AdminWebserviceStatus; } {
+        return {};
+    }
+
+    public static getWebservicesDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ServerStatus {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ServerStatus(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ServerStatus> {
+        return ModelStream.decodeArray(source, ServerStatus.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'java': this.java?.toJson(),
+            'os': this.os?.toJson(),
+            'server': this.server?.toJson(),
+            'webservices': this.webservices,
+        };
+    }
+
+    public clone(): ServerStatus {
+        return ServerStatus.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "java", data?.java, JavaStatus.fromJson, JavaStatus) || changed;
+        changed = ModelAssignment.assignModel(this, "os", data?.os, OsStatus.fromJson, OsStatus) || changed;
+        changed = ModelAssignment.assignModel(this, "server", data?.server, ServerVersionInfo.fromJson, ServerVersionInfo) || changed;
+        changed = ModelAssignment.assignValue(this, "webservices", typeof data?.webservices !== "undefined" ? data?.webservices : {}) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.java, other.java)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.os, other.os)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.server, other.server)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.webservices, other.webservices)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.java);
+        hash = ModelEquality.hash(hash, this.os);
+        hash = ModelEquality.hash(hash, this.server);
+        hash = ModelEquality.hash(hash, this.webservices);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ServerStatus(";
+        fingerprint += ModelEquality.fingerprint(this.java) + ",";
+        fingerprint += ModelEquality.fingerprint(this.os) + ",";
+        fingerprint += ModelEquality.fingerprint(this.server) + ",";
+        fingerprint += ModelEquality.fingerprint(this.webservices) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,275 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ServerOS,
+    ModelEquality,
+    Providers,
+} from "./../index";
+
+export interface ServerVersionInfoInterface  {
+
+    /**
+    * Indicates whether the configuration is currently changed and a restart of the server is necessary to apply the changes.
+    */
+    hasChangedConfiguration?: boolean;
+    /**
+    * Indicates whether the license can be used for a cluster coordinator or member.
+    */
+    licenseIsClusterUsage?: boolean;
+    /**
+    * A string summarizing the server´s current license.
+    */
+    licenseText?: string;
+    /**
+    * The numeric major version of the server.
+    */
+    mainVersion?: number;
+    /**
+    * The numeric minor version of the server.
+    */
+    minorVersion?: number;
+    providers?: Providers;
+    serverPlatform?: ServerOS;
+    /**
+    * The server start data and time (UTC) as Epoch Unix Timestamp.
+    */
+    serverStart?: number;
+    /**
+    * A formatted string containing the server´s name and version.
+    */
+    serverVersion?: string;
+
+}
+export class ServerVersionInfo implements ServerVersionInfoInterface, Parameter {
+    /**
+    * Indicates whether the configuration is currently changed and a restart of the server is necessary to apply the changes.
+    */
+    hasChangedConfiguration?: boolean;
+    /**
+    * Indicates whether the license can be used for a cluster coordinator or member.
+    */
+    licenseIsClusterUsage?: boolean;
+    /**
+    * A string summarizing the server´s current license.
+    */
+    licenseText?: string;
+    /**
+    * The numeric major version of the server.
+    */
+    mainVersion?: number;
+    /**
+    * The numeric minor version of the server.
+    */
+    minorVersion?: number;
+    providers?: Providers;
+    serverPlatform?: ServerOS;
+    /**
+    * The server start data and time (UTC) as Epoch Unix Timestamp.
+    */
+    serverStart?: number;
+    /**
+    * A formatted string containing the server´s name and version.
+    */
+    serverVersion?: string;
+
+    constructor(data: any) {
+        let hasChangedConfigurationDefault: any = false;
+        this.hasChangedConfiguration = typeof data?.hasChangedConfiguration !== "undefined" ? data?.hasChangedConfiguration : hasChangedConfigurationDefault;
+        let licenseIsClusterUsageDefault: any = false;
+        this.licenseIsClusterUsage = typeof data?.licenseIsClusterUsage !== "undefined" ? data?.licenseIsClusterUsage : licenseIsClusterUsageDefault;
+        let licenseTextDefault: any = "";
+        this.licenseText = typeof data?.licenseText !== "undefined" ? data?.licenseText : licenseTextDefault;
+        let mainVersionDefault: any = 0;
+        this.mainVersion = typeof data?.mainVersion !== "undefined" ? data?.mainVersion : mainVersionDefault;
+        let minorVersionDefault: any = 0;
+        this.minorVersion = typeof data?.minorVersion !== "undefined" ? data?.minorVersion : minorVersionDefault;
+        this.providers = Providers.fromJson(data?.providers);
+        let serverPlatformDefault: any = "windows";
+        this.serverPlatform = typeof data?.serverPlatform !== "undefined" ? data?.serverPlatform : serverPlatformDefault;
+        let serverStartDefault: any = 0;
+        this.serverStart = typeof data?.serverStart !== "undefined" ? data?.serverStart : serverStartDefault;
+        let serverVersionDefault: any = "";
+        this.serverVersion = typeof data?.serverVersion !== "undefined" ? data?.serverVersion : serverVersionDefault;
+    }
+
+    public static getHasChangedConfigurationDefault(): boolean {
+        return false;
+    }
+
+    public static getHasChangedConfigurationDescription(): string {
+        return "Indicates whether the configuration is currently changed and a restart of the server is necessary to apply the changes.";
+    }
+
+    public static getLicenseIsClusterUsageDefault(): boolean {
+        return false;
+    }
+
+    public static getLicenseIsClusterUsageDescription(): string {
+        return "Indicates whether the license can be used for a cluster coordinator or member.";
+    }
+
+    public static getLicenseTextDefault(): string {
+        return "";
+    }
+
+    public static getLicenseTextDescription(): string {
+        return "A string summarizing the server\u00B4s current license.";
+    }
+
+    public static getMainVersionDefault(): number {
+        return 0;
+    }
+
+    public static getMainVersionDescription(): string {
+        return "The numeric major version of the server.";
+    }
+
+    public static getMinorVersionDefault(): number {
+        return 0;
+    }
+
+    public static getMinorVersionDescription(): string {
+        return "The numeric minor version of the server.";
+    }
+
+    public static getProvidersDescription(): string {
+        return "";
+    }
+
+    public static getServerPlatformDefault(): ServerOS {
+        return "windows" as ServerOS;
+    }
+
+    public static getServerPlatformDescription(): string {
+        return "";
+    }
+
+    public static getServerStartDefault(): number {
+        return 0;
+    }
+
+    public static getServerStartDescription(): string {
+        return "The server start data and time (UTC) as Epoch Unix Timestamp.";
+    }
+
+    public static getServerVersionDefault(): string {
+        return "";
+    }
+
+    public static getServerVersionDescription(): string {
+        return "A formatted string containing the server\u00B4s name and version.";
+    }
+
+    public static fromJson(data: any): ServerVersionInfo {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ServerVersionInfo(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ServerVersionInfo> {
+        return ModelStream.decodeArray(source, ServerVersionInfo.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'hasChangedConfiguration': this.hasChangedConfiguration,
+            'licenseIsClusterUsage': this.licenseIsClusterUsage,
+            'licenseText': this.licenseText,
+            'mainVersion': this.mainVersion,
+            'minorVersion': this.minorVersion,
+            'providers': this.providers?.toJson(),
+            'serverPlatform': this.serverPlatform,
+            'serverStart': this.serverStart,
+            'serverVersion': this.serverVersion,
+        };
+    }
+
+    public clone(): ServerVersionInfo {
+        return ServerVersionInfo.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "hasChangedConfiguration", typeof data?.hasChangedConfiguration !== "undefined" ? data?.hasChangedConfiguration : false) || changed;
+        changed = ModelAssignment.assignValue(this, "licenseIsClusterUsage", typeof data?.licenseIsClusterUsage !== "undefined" ? data?.licenseIsClusterUsage : false) || changed;
+        changed = ModelAssignment.assignValue(this, "licenseText", typeof data?.licenseText !== "undefined" ? data?.licenseText : "") || changed;
+        changed = ModelAssignment.assignValue(this, "mainVersion", typeof data?.mainVersion !== "undefined" ? data?.mainVersion : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "minorVersion", typeof data?.minorVersion !== "undefined" ? data?.minorVersion : 0) || changed;
+        changed = ModelAssignment.assignModel(this, "providers", data?.providers, Providers.fromJson, Providers) || changed;
+        changed = ModelAssignment.assignValue(this, "serverPlatform", typeof data?.serverPlatform !== "undefined" ? data?.serverPlatform : "windows") || changed;
+        changed = ModelAssignment.assignValue(this, "serverStart", typeof data?.serverStart !== "undefined" ? data?.serverStart : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "serverVersion", typeof data?.serverVersion !== "undefined" ? data?.serverVersion : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hasChangedConfiguration, other.hasChangedConfiguration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.licenseIsClusterUsage, other.licenseIsClusterUsage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.licenseText, other.licenseText)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mainVersion, other.mainVersion)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.minorVersion, other.minorVersion)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.providers, other.providers)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.serverPlatform, other.serverPlatform)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.serverStart, other.serverStart)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.serverVersion, other.serverVersion)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.hasChangedConfiguration);
+        hash = ModelEquality.hash(hash, this.licenseIsClusterUsage);
+        hash = ModelEquality.hash(hash, this.licenseText);
+        hash = ModelEquality.hash(hash, this.mainVersion);
+        hash = ModelEquality.hash(hash, this.minorVersion);
+        hash = ModelEquality.hash(hash, this.providers);
+        hash = ModelEquality.hash(hash, this.serverPlatform);
+        hash = ModelEquality.hash(hash, this.serverStart);
+        hash = ModelEquality.hash(hash, this.serverVersion);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ServerVersionInfo(";
+        fingerprint += ModelEquality.fingerprint(this.hasChangedConfiguration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.licenseIsClusterUsage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.licenseText) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mainVersion) + ",";
+        fingerprint += ModelEquality.fingerprint(this.minorVersion) + ",";
+        fingerprint += ModelEquality.fingerprint(this.providers) + ",";
+        fingerprint += ModelEquality.fingerprint(this.serverPlatform) + ",";
+        fingerprint += ModelEquality.fingerprint(this.serverStart) + ",";
+        fingerprint += ModelEquality.fingerprint(this.serverVersion) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
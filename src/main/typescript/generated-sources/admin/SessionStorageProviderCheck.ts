@@ -0,0 +1,70 @@
+import {
+    ModelAssignment,
+    ProviderCheck,
+    ProviderCheckInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SessionStorageProviderCheckInterface extends ProviderCheckInterface  {
+
+
+}
+export class SessionStorageProviderCheck extends ProviderCheck implements SessionStorageProviderCheckInterface, Parameter {
+
+    constructor(data: any) {
+        super(data);
+
+    }
+
+    public static fromJson(data: any): SessionStorageProviderCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SessionStorageProviderCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SessionStorageProviderCheck> {
+        return ModelStream.decodeArray(source, SessionStorageProviderCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+        };
+    }
+
+    public clone(): SessionStorageProviderCheck {
+        return SessionStorageProviderCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SessionStorageProviderCheck(" + super.fingerprint();
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ApplicationCheckInterface,
+    ApplicationCheck,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SignatureApplicationCheckInterface extends ApplicationCheckInterface  {
+
+
+}
+export class SignatureApplicationCheck extends ApplicationCheck implements SignatureApplicationCheckInterface, Parameter {
+
+    constructor(data: any) {
+        super(data);
+
+    }
+
+    public static fromJson(data: any): SignatureApplicationCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SignatureApplicationCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SignatureApplicationCheck> {
+        return ModelStream.decodeArray(source, SignatureApplicationCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+        };
+    }
+
+    public clone(): SignatureApplicationCheck {
+        return SignatureApplicationCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SignatureApplicationCheck(" + super.fingerprint();
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
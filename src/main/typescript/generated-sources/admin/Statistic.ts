@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    TimeFrameServerState,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface StatisticInterface  {
+
+    data?: { [key: string]: { [key: string]: TimeFrameServerState; }; };
+
+}
+export class Statistic implements StatisticInterface, Parameter {
+    data?: { [key: string]: { [key: string]: TimeFrameServerState; }; };
+
+    constructor(data: any) {
+        let dataDefault: any = {};
+        this.data = typeof data?.data !== "undefined" ? data?.data : dataDefault;
+    }
+
+    public static getDataDefault(): { [key: string]: { [key: string]: TimeFrameServerState; }; } {
+        return {};
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Statistic {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Statistic(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Statistic> {
+        return ModelStream.decodeArray(source, Statistic.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'data': this.data,
+        };
+    }
+
+    public clone(): Statistic {
+        return Statistic.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "data", typeof data?.data !== "undefined" ? data?.data : {}) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.data);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Statistic(";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
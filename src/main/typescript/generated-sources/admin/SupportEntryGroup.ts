@@ -0,0 +1,7 @@
+export enum SupportEntryGroup {
+
+    Config = 'config',
+    Init = 'init',
+    Logs = 'logs'
+
+}
\ No newline at end of file
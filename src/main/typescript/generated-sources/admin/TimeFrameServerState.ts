@@ -0,0 +1,157 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    TimeEntryServerState,
+    PoolEntryServerState,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface TimeFrameServerStateInterface  {
+
+    executionTimeMs?: number;
+    formats?: { [key: string]: TimeEntryServerState; };
+    instances?: PoolEntryServerState;
+    numberOfErrors?: number;
+    numberOfJobs?: number;
+
+}
+export class TimeFrameServerState implements TimeFrameServerStateInterface, Parameter {
+    executionTimeMs?: number;
+    formats?: { [key: string]: TimeEntryServerState; };
+    instances?: PoolEntryServerState;
+    numberOfErrors?: number;
+    numberOfJobs?: number;
+
+    constructor(data: any) {
+        let executionTimeMsDefault: any = 0;
+        this.executionTimeMs = typeof data?.executionTimeMs !== "undefined" ? data?.executionTimeMs : executionTimeMsDefault;
+        let formatsDefault: any = {};
+        this.formats = typeof data?.formats !== "undefined" ? data?.formats : formatsDefault;
+        this.instances = PoolEntryServerState.fromJson(data?.instances);
+        let numberOfErrorsDefault: any = 0;
+        this.numberOfErrors = typeof data?.numberOfErrors !== "undefined" ? data?.numberOfErrors : numberOfErrorsDefault;
+        let numberOfJobsDefault: any = 0;
+        this.numberOfJobs = typeof data?.numberOfJobs !== "undefined" ? data?.numberOfJobs : numberOfJobsDefault;
+    }
+
+    public static getExecutionTimeMsDefault(): number {
+        return 0;
+    }
+
+    public static getExecutionTimeMsDescription(): string {
+        return "";
+    }
+
+    public static getFormatsDefault(): { [key: string]: TimeEntryServerState; } {
+        return {};
+    }
+
+    public static getFormatsDescription(): string {
+        return "";
+    }
+
+    public static getInstancesDescription(): string {
+        return "";
+    }
+
+    public static getNumberOfErrorsDefault(): number {
+        return 0;
+    }
+
+    public static getNumberOfErrorsDescription(): string {
+        return "";
+    }
+
+    public static getNumberOfJobsDefault(): number {
+        return 0;
+    }
+
+    public static getNumberOfJobsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): TimeFrameServerState {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new TimeFrameServerState(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<TimeFrameServerState> {
+        return ModelStream.decodeArray(source, TimeFrameServerState.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'executionTimeMs': this.executionTimeMs,
+            'formats': this.formats,
+            'instances': this.instances?.toJson(),
+            'numberOfErrors': this.numberOfErrors,
+            'numberOfJobs': this.numberOfJobs,
+        };
+    }
+
+    public clone(): TimeFrameServerState {
+        return TimeFrameServerState.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "executionTimeMs", typeof data?.executionTimeMs !== "undefined" ? data?.executionTimeMs : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "formats", typeof data?.formats !== "undefined" ? data?.formats : {}) || changed;
+        changed = ModelAssignment.assignModel(this, "instances", data?.instances, PoolEntryServerState.fromJson, PoolEntryServerState) || changed;
+        changed = ModelAssignment.assignValue(this, "numberOfErrors", typeof data?.numberOfErrors !== "undefined" ? data?.numberOfErrors : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "numberOfJobs", typeof data?.numberOfJobs !== "undefined" ? data?.numberOfJobs : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.executionTimeMs, other.executionTimeMs)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.formats, other.formats)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.instances, other.instances)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.numberOfErrors, other.numberOfErrors)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.numberOfJobs, other.numberOfJobs)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.executionTimeMs);
+        hash = ModelEquality.hash(hash, this.formats);
+        hash = ModelEquality.hash(hash, this.instances);
+        hash = ModelEquality.hash(hash, this.numberOfErrors);
+        hash = ModelEquality.hash(hash, this.numberOfJobs);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "TimeFrameServerState(";
+        fingerprint += ModelEquality.fingerprint(this.executionTimeMs) + ",";
+        fingerprint += ModelEquality.fingerprint(this.formats) + ",";
+        fingerprint += ModelEquality.fingerprint(this.instances) + ",";
+        fingerprint += ModelEquality.fingerprint(this.numberOfErrors) + ",";
+        fingerprint += ModelEquality.fingerprint(this.numberOfJobs) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
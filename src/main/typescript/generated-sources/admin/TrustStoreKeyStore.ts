@@ -0,0 +1,117 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    CertificateEntry,
+    ModelEquality,
+} from "./../index";
+
+export interface TrustStoreKeyStoreInterface  {
+
+    /**
+    * Defines the certificates contained in the keystore.
+    */
+    certificates?: Array<CertificateEntry>;
+    /**
+    * The raw BASE64 encoded contents of a keystore file.
+    */
+    keyStoreContent?: string;
+
+}
+export class TrustStoreKeyStore implements TrustStoreKeyStoreInterface, Parameter {
+    /**
+    * Defines the certificates contained in the keystore.
+    */
+    certificates?: Array<CertificateEntry>;
+    /**
+    * The raw BASE64 encoded contents of a keystore file.
+    */
+    keyStoreContent?: string;
+
+    constructor(data: any) {
+        this.certificates = (data?.certificates || []).map(
+            CertificateEntry.fromJson
+        );
+        let keyStoreContentDefault: any = "";
+        this.keyStoreContent = typeof data?.keyStoreContent !== "undefined" ? data?.keyStoreContent : keyStoreContentDefault;
+    }
+
+    public static getCertificatesDefault(): Array<CertificateEntry> {
+        return [];
+    }
+
+    public static getCertificatesDescription(): string {
+        return "Defines the certificates contained in the keystore.";
+    }
+
+    public static getKeyStoreContentDefault(): string {
+        return "";
+    }
+
+    public static getKeyStoreContentDescription(): string {
+        return "The raw BASE64 encoded contents of a keystore file.";
+    }
+
+    public static fromJson(data: any): TrustStoreKeyStore {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new TrustStoreKeyStore(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<TrustStoreKeyStore> {
+        return ModelStream.decodeArray(source, TrustStoreKeyStore.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'certificates': this.certificates?.map((data) => data.toJson()),
+            'keyStoreContent': this.keyStoreContent,
+        };
+    }
+
+    public clone(): TrustStoreKeyStore {
+        return TrustStoreKeyStore.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "certificates", data?.certificates, CertificateEntry.fromJson, CertificateEntry) || changed;
+        changed = ModelAssignment.assignValue(this, "keyStoreContent", typeof data?.keyStoreContent !== "undefined" ? data?.keyStoreContent : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.certificates, other.certificates)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyStoreContent, other.keyStoreContent)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.certificates);
+        hash = ModelEquality.hash(hash, this.keyStoreContent);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "TrustStoreKeyStore(";
+        fingerprint += ModelEquality.fingerprint(this.certificates) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keyStoreContent) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
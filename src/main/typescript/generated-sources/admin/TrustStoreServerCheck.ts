@@ -0,0 +1,70 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ServerCheck,
+    Parameter,
+    ServerCheckInterface,
+    ModelEquality,
+} from "./../index";
+
+export interface TrustStoreServerCheckInterface extends ServerCheckInterface  {
+
+
+}
+export class TrustStoreServerCheck extends ServerCheck implements TrustStoreServerCheckInterface, Parameter {
+
+    constructor(data: any) {
+        super(data);
+
+    }
+
+    public static fromJson(data: any): TrustStoreServerCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new TrustStoreServerCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<TrustStoreServerCheck> {
+        return ModelStream.decodeArray(source, TrustStoreServerCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+        };
+    }
+
+    public clone(): TrustStoreServerCheck {
+        return TrustStoreServerCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "TrustStoreServerCheck(" + super.fingerprint();
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
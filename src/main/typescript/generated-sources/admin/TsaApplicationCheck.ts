@@ -0,0 +1,70 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ApplicationCheckInterface,
+    ApplicationCheck,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface TsaApplicationCheckInterface extends ApplicationCheckInterface  {
+
+
+}
+export class TsaApplicationCheck extends ApplicationCheck implements TsaApplicationCheckInterface, Parameter {
+
+    constructor(data: any) {
+        super(data);
+
+    }
+
+    public static fromJson(data: any): TsaApplicationCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new TsaApplicationCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<TsaApplicationCheck> {
+        return ModelStream.decodeArray(source, TsaApplicationCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+        };
+    }
+
+    public clone(): TsaApplicationCheck {
+        return TsaApplicationCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "TsaApplicationCheck(" + super.fingerprint();
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+import {
+    ModelAssignment,
+    ConfigurationInterface,
+    UserCheck,
+    Configuration,
+    ModelStream,
+    Parameter,
+    Users,
+    ModelEquality,
+} from "./../index";
+
+export interface UserConfigurationInterface extends ConfigurationInterface  {
+
+    configuration: Users;
+    configurationChecks: Array<UserCheck>;
+
+}
+export class UserConfiguration extends Configuration implements UserConfigurationInterface, Parameter {
+    configuration: Users;
+    configurationChecks: Array<UserCheck>;
+
+    constructor(data: any) {
+        super(data);
+
+        this.configuration = Users.fromJson(data.configuration);
+        this.configurationChecks = (data.configurationChecks || []).map(
+            UserCheck.fromJson
+        );
+    }
+
+    public static getConfigurationDescription(): string {
+        return "";
+    }
+
+    public static getConfigurationChecksDefault(): Array<UserCheck> {
+        return [];
+    }
+
+    public static getConfigurationChecksDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): UserConfiguration {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserConfiguration(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserConfiguration> {
+        return ModelStream.decodeArray(source, UserConfiguration.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'configuration': this.configuration?.toJson(),
+            'configurationChecks': this.configurationChecks?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): UserConfiguration {
+        return UserConfiguration.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "configuration", data.configuration, Users.fromJson, Users) || changed;
+        changed = ModelAssignment.assignArray(this, "configurationChecks", data.configurationChecks, UserCheck.fromJson, UserCheck) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configuration, other.configuration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configurationChecks, other.configurationChecks)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.configuration);
+        hash = ModelEquality.hash(hash, this.configurationChecks);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserConfiguration(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.configuration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.configurationChecks) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ServerCheck,
+    Parameter,
+    ServerCheckInterface,
+    ModelEquality,
+} from "./../index";
+
+export interface UserServerCheckInterface extends ServerCheckInterface  {
+
+    /**
+    * The name required to access the user storage.
+    */
+    name?: string;
+    /**
+    * The password required to access the user storage.
+    */
+    password?: string;
+
+}
+export class UserServerCheck extends ServerCheck implements UserServerCheckInterface, Parameter {
+    /**
+    * The name required to access the user storage.
+    */
+    name?: string;
+    /**
+    * The password required to access the user storage.
+    */
+    password?: string;
+
+    constructor(data: any) {
+        super(data);
+
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let passwordDefault: any = "";
+        this.password = typeof data?.password !== "undefined" ? data?.password : passwordDefault;
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The name required to access the user storage.";
+    }
+
+    public static getPasswordDefault(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "The password required to access the user storage.";
+    }
+
+    public static fromJson(data: any): UserServerCheck {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserServerCheck(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserServerCheck> {
+        return ModelStream.decodeArray(source, UserServerCheck.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'name': this.name,
+            'password': this.password,
+        };
+    }
+
+    public clone(): UserServerCheck {
+        return UserServerCheck.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "password", typeof data?.password !== "undefined" ? data?.password : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.password);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserServerCheck(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
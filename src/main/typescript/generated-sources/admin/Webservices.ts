@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    AdminWebserviceStatus,
+    ModelEquality,
+} from "./../index";
+
+export interface WebservicesInterface  {
+
+    webservices?: { [key: string]: AdminWebserviceStatus; };
+
+}
+export class Webservices implements WebservicesInterface, Parameter {
+    webservices?: { [key: string]: AdminWebserviceStatus; };
+
+    constructor(data: any) {
+        let webservicesDefault: any = {};
+        this.webservices = typeof data?.webservices !== "undefined" ? data?.webservices : webservicesDefault;
+    }
+
+    public static getWebservicesDefault(): { [key: string]: AdminWebserviceStatus; } {
+        return {};
+    }
+
+    public static getWebservicesDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Webservices {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Webservices(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Webservices> {
+        return ModelStream.decodeArray(source, Webservices.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'webservices': this.webservices,
+        };
+    }
+
+    public clone(): Webservices {
+        return Webservices.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "webservices", typeof data?.webservices !== "undefined" ? data?.webservices : {}) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.webservices, other.webservices)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.webservices);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Webservices(";
+        fingerprint += ModelEquality.fingerprint(this.webservices) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+import {
+    ModelAssignment,
+    Tsa,
+    BridgesApplication,
+    ModelStream,
+    WebservicesApplication,
+    License,
+    Parameter,
+    Portal,
+    ModelEquality,
+    ProxiesApplication,
+    ApplicationConfigKeystore,
+} from "./../../../index";
+
+export interface ApplicationInterface  {
+
+    bridges: BridgesApplication;
+    keystore?: ApplicationConfigKeystore;
+    license?: License;
+    portal: Portal;
+    proxies?: ProxiesApplication;
+    tsa?: Tsa;
+    webservices: WebservicesApplication;
+
+}
+export class Application implements ApplicationInterface, Parameter {
+    bridges: BridgesApplication;
+    keystore?: ApplicationConfigKeystore;
+    license?: License;
+    portal: Portal;
+    proxies?: ProxiesApplication;
+    tsa?: Tsa;
+    webservices: WebservicesApplication;
+
+    constructor(data: any) {
+        this.bridges = BridgesApplication.fromJson(data.bridges);
+        this.keystore = ApplicationConfigKeystore.fromJson(data?.keystore);
+        this.license = License.fromJson(data?.license);
+        this.portal = Portal.fromJson(data.portal);
+        this.proxies = ProxiesApplication.fromJson(data?.proxies);
+        this.tsa = Tsa.fromJson(data?.tsa);
+        this.webservices = WebservicesApplication.fromJson(data.webservices);
+    }
+
+    public static getBridgesDescription(): string {
+        return "";
+    }
+
+    public static getKeystoreDescription(): string {
+        return "";
+    }
+
+    public static getLicenseDescription(): string {
+        return "";
+    }
+
+    public static getPortalDescription(): string {
+        return "";
+    }
+
+    public static getProxiesDescription(): string {
+        return "";
+    }
+
+    public static getTsaDescription(): string {
+        return "";
+    }
+
+    public static getWebservicesDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Application {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Application(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Application> {
+        return ModelStream.decodeArray(source, Application.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'bridges': this.bridges?.toJson(),
+            'keystore': this.keystore?.toJson(),
+            'license': this.license?.toJson(),
+            'portal': this.portal?.toJson(),
+            'proxies': this.proxies?.toJson(),
+            'tsa': this.tsa?.toJson(),
+            'webservices': this.webservices?.toJson(),
+        };
+    }
+
+    public clone(): Application {
+        return Application.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "bridges", data.bridges, BridgesApplication.fromJson, BridgesApplication) || changed;
+        changed = ModelAssignment.assignModel(this, "keystore", data?.keystore, ApplicationConfigKeystore.fromJson, ApplicationConfigKeystore) || changed;
+        changed = ModelAssignment.assignModel(this, "license", data?.license, License.fromJson, License) || changed;
+        changed = ModelAssignment.assignModel(this, "portal", data.portal, Portal.fromJson, Portal) || changed;
+        changed = ModelAssignment.assignModel(this, "proxies", data?.proxies, ProxiesApplication.fromJson, ProxiesApplication) || changed;
+        changed = ModelAssignment.assignModel(this, "tsa", data?.tsa, Tsa.fromJson, Tsa) || changed;
+        changed = ModelAssignment.assignModel(this, "webservices", data.webservices, WebservicesApplication.fromJson, WebservicesApplication) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bridges, other.bridges)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keystore, other.keystore)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.license, other.license)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.portal, other.portal)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.proxies, other.proxies)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.tsa, other.tsa)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.webservices, other.webservices)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.bridges);
+        hash = ModelEquality.hash(hash, this.keystore);
+        hash = ModelEquality.hash(hash, this.license);
+        hash = ModelEquality.hash(hash, this.portal);
+        hash = ModelEquality.hash(hash, this.proxies);
+        hash = ModelEquality.hash(hash, this.tsa);
+        hash = ModelEquality.hash(hash, this.webservices);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Application(";
+        fingerprint += ModelEquality.fingerprint(this.bridges) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keystore) + ",";
+        fingerprint += ModelEquality.fingerprint(this.license) + ",";
+        fingerprint += ModelEquality.fingerprint(this.portal) + ",";
+        fingerprint += ModelEquality.fingerprint(this.proxies) + ",";
+        fingerprint += ModelEquality.fingerprint(this.tsa) + ",";
+        fingerprint += ModelEquality.fingerprint(this.webservices) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
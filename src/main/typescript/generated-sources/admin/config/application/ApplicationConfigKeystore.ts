@@ -0,0 +1,158 @@
+import {
+    ModelAssignment,
+    KeystoreFilter,
+    KeystoreEntry,
+    ModelStream,
+    GlobalKeystoreFormat,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface ApplicationConfigKeystoreInterface  {
+
+    entry?: Array<KeystoreEntry>;
+    filter?: Array<KeystoreFilter>;
+    /**
+    * The password required to access the keystore.
+    */
+    password?: string;
+    /**
+    * The format of the keystore file.  *   NONE = Keystore not defined. *   JKS = A Java keystore (file based with an extension like \".jks\"). *   PKCS11 = A PKCS11 keystore (Smart cards, USB keys/token and hardware security modules (HSMs)). *   PKCS12 = A PKCS12 keystore (file based with the extensions like \".p12\" or \".pfx\").
+    */
+    type?: GlobalKeystoreFormat;
+
+}
+export class ApplicationConfigKeystore implements ApplicationConfigKeystoreInterface, Parameter {
+    entry?: Array<KeystoreEntry>;
+    filter?: Array<KeystoreFilter>;
+    /**
+    * The password required to access the keystore.
+    */
+    password?: string;
+    /**
+    * The format of the keystore file.  *   NONE = Keystore not defined. *   JKS = A Java keystore (file based with an extension like \".jks\"). *   PKCS11 = A PKCS11 keystore (Smart cards, USB keys/token and hardware security modules (HSMs)). *   PKCS12 = A PKCS12 keystore (file based with the extensions like \".p12\" or \".pfx\").
+    */
+    type?: GlobalKeystoreFormat;
+
+    constructor(data: any) {
+        this.entry = (data?.entry || []).map(
+            KeystoreEntry.fromJson
+        );
+        this.filter = (data?.filter || []).map(
+            KeystoreFilter.fromJson
+        );
+        let passwordDefault: any = "";
+        this.password = typeof data?.password !== "undefined" ? data?.password : passwordDefault;
+        let typeDefault: any = "NONE";
+        this.type = typeof data?.type !== "undefined" ? data?.type : typeDefault;
+    }
+
+    public static getEntryDefault(): Array<KeystoreEntry> {
+        return [];
+    }
+
+    public static getEntryDescription(): string {
+        return "";
+    }
+
+    public static getFilterDefault(): Array<KeystoreFilter> {
+        return [];
+    }
+
+    public static getFilterDescription(): string {
+        return "";
+    }
+
+    public static getPasswordDefault(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "The password required to access the keystore.";
+    }
+
+    public static getTypeDefault(): GlobalKeystoreFormat {
+        return "NONE" as GlobalKeystoreFormat;
+    }
+
+    public static getTypeDescription(): string {
+        return "The format of the keystore file.\n\n*   NONE = Keystore not defined.\n*   JKS = A Java keystore (file based with an extension like \".jks\").\n*   PKCS11 = A PKCS11 keystore (Smart cards, USB keys\/token and hardware security modules (HSMs)).\n*   PKCS12 = A PKCS12 keystore (file based with the extensions like \".p12\" or \".pfx\").";
+    }
+
+    public static fromJson(data: any): ApplicationConfigKeystore {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ApplicationConfigKeystore(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ApplicationConfigKeystore> {
+        return ModelStream.decodeArray(source, ApplicationConfigKeystore.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'entry': this.entry?.map((data) => data.toJson()),
+            'filter': this.filter?.map((data) => data.toJson()),
+            'password': this.password,
+            'type': this.type,
+        };
+    }
+
+    public clone(): ApplicationConfigKeystore {
+        return ApplicationConfigKeystore.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "entry", data?.entry, KeystoreEntry.fromJson, KeystoreEntry) || changed;
+        changed = ModelAssignment.assignArray(this, "filter", data?.filter, KeystoreFilter.fromJson, KeystoreFilter) || changed;
+        changed = ModelAssignment.assignValue(this, "password", typeof data?.password !== "undefined" ? data?.password : "") || changed;
+        changed = ModelAssignment.assignValue(this, "type", typeof data?.type !== "undefined" ? data?.type : "NONE") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.entry, other.entry)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.filter, other.filter)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.type, other.type)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.entry);
+        hash = ModelEquality.hash(hash, this.filter);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.type);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ApplicationConfigKeystore(";
+        fingerprint += ModelEquality.fingerprint(this.entry) + ",";
+        fingerprint += ModelEquality.fingerprint(this.filter) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.type) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
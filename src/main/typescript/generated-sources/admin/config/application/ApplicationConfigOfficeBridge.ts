@@ -0,0 +1,272 @@
+import {
+    ModelAssignment,
+    OfficeBridgeApp,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface ApplicationConfigOfficeBridgeInterface  {
+
+    /**
+    * If enabled, then the MS Office bridge is activated.
+    */
+    enabled?: boolean;
+    excel?: OfficeBridgeApp;
+    powerPoint?: OfficeBridgeApp;
+    /**
+    * If enabled, then all debug messages of the Office Bridge will be visible in the Windows application [\"SysInternals DebugView\"](https://docs.microsoft.com/en-us/sysinternals/downloads/debugview)
+    */
+    showMessagesOnDebugView?: boolean;
+    /**
+    * If enabled, then MS Excel is usable via the Office bridge.
+    */
+    useExcel?: boolean;
+    /**
+    * If enabled, then MS PowerPoint is usable via the Office bridge.
+    */
+    usePowerPoint?: boolean;
+    /**
+    * If enabled, then MS Visio is usable via the Office bridge.
+    */
+    useVisio?: boolean;
+    /**
+    * If enabled, then MS Word is usable via the Office bridge.
+    */
+    useWord?: boolean;
+    visio?: OfficeBridgeApp;
+    word?: OfficeBridgeApp;
+
+}
+export class ApplicationConfigOfficeBridge implements ApplicationConfigOfficeBridgeInterface, Parameter {
+    /**
+    * If enabled, then the MS Office bridge is activated.
+    */
+    enabled?: boolean;
+    excel?: OfficeBridgeApp;
+    powerPoint?: OfficeBridgeApp;
+    /**
+    * If enabled, then all debug messages of the Office Bridge will be visible in the Windows application [\"SysInternals DebugView\"](https://docs.microsoft.com/en-us/sysinternals/downloads/debugview)
+    */
+    showMessagesOnDebugView?: boolean;
+    /**
+    * If enabled, then MS Excel is usable via the Office bridge.
+    */
+    useExcel?: boolean;
+    /**
+    * If enabled, then MS PowerPoint is usable via the Office bridge.
+    */
+    usePowerPoint?: boolean;
+    /**
+    * If enabled, then MS Visio is usable via the Office bridge.
+    */
+    useVisio?: boolean;
+    /**
+    * If enabled, then MS Word is usable via the Office bridge.
+    */
+    useWord?: boolean;
+    visio?: OfficeBridgeApp;
+    word?: OfficeBridgeApp;
+
+    constructor(data: any) {
+        let enabledDefault: any = false;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        this.excel = OfficeBridgeApp.fromJson(data?.excel);
+        this.powerPoint = OfficeBridgeApp.fromJson(data?.powerPoint);
+        let showMessagesOnDebugViewDefault: any = false;
+        this.showMessagesOnDebugView = typeof data?.showMessagesOnDebugView !== "undefined" ? data?.showMessagesOnDebugView : showMessagesOnDebugViewDefault;
+        let useExcelDefault: any = true;
+        this.useExcel = typeof data?.useExcel !== "undefined" ? data?.useExcel : useExcelDefault;
+        let usePowerPointDefault: any = true;
+        this.usePowerPoint = typeof data?.usePowerPoint !== "undefined" ? data?.usePowerPoint : usePowerPointDefault;
+        let useVisioDefault: any = false;
+        this.useVisio = typeof data?.useVisio !== "undefined" ? data?.useVisio : useVisioDefault;
+        let useWordDefault: any = true;
+        this.useWord = typeof data?.useWord !== "undefined" ? data?.useWord : useWordDefault;
+        this.visio = OfficeBridgeApp.fromJson(data?.visio);
+        this.word = OfficeBridgeApp.fromJson(data?.word);
+    }
+
+    public static getEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getEnabledDescription(): string {
+        return "If enabled, then the MS Office bridge is activated.";
+    }
+
+    public static getExcelDescription(): string {
+        return "";
+    }
+
+    public static getPowerPointDescription(): string {
+        return "";
+    }
+
+    public static getShowMessagesOnDebugViewDefault(): boolean {
+        return false;
+    }
+
+    public static getShowMessagesOnDebugViewDescription(): string {
+        return "If enabled, then all debug messages of the Office Bridge will be visible in the Windows application [\"SysInternals DebugView\"](https:\/\/docs.microsoft.com\/en-us\/sysinternals\/downloads\/debugview)";
+    }
+
+    public static getUseExcelDefault(): boolean {
+        return true;
+    }
+
+    public static getUseExcelDescription(): string {
+        return "If enabled, then MS Excel is usable via the Office bridge.";
+    }
+
+    public static getUsePowerPointDefault(): boolean {
+        return true;
+    }
+
+    public static getUsePowerPointDescription(): string {
+        return "If enabled, then MS PowerPoint is usable via the Office bridge.";
+    }
+
+    public static getUseVisioDefault(): boolean {
+        return false;
+    }
+
+    public static getUseVisioDescription(): string {
+        return "If enabled, then MS Visio is usable via the Office bridge.";
+    }
+
+    public static getUseWordDefault(): boolean {
+        return true;
+    }
+
+    public static getUseWordDescription(): string {
+        return "If enabled, then MS Word is usable via the Office bridge.";
+    }
+
+    public static getVisioDescription(): string {
+        return "";
+    }
+
+    public static getWordDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ApplicationConfigOfficeBridge {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ApplicationConfigOfficeBridge(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ApplicationConfigOfficeBridge> {
+        return ModelStream.decodeArray(source, ApplicationConfigOfficeBridge.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'enabled': this.enabled,
+            'excel': this.excel?.toJson(),
+            'powerPoint': this.powerPoint?.toJson(),
+            'showMessagesOnDebugView': this.showMessagesOnDebugView,
+            'useExcel': this.useExcel,
+            'usePowerPoint': this.usePowerPoint,
+            'useVisio': this.useVisio,
+            'useWord': this.useWord,
+            'visio': this.visio?.toJson(),
+            'word': this.word?.toJson(),
+        };
+    }
+
+    public clone(): ApplicationConfigOfficeBridge {
+        return ApplicationConfigOfficeBridge.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : false) || changed;
+        changed = ModelAssignment.assignModel(this, "excel", data?.excel, OfficeBridgeApp.fromJson, OfficeBridgeApp) || changed;
+        changed = ModelAssignment.assignModel(this, "powerPoint", data?.powerPoint, OfficeBridgeApp.fromJson, OfficeBridgeApp) || changed;
+        changed = ModelAssignment.assignValue(this, "showMessagesOnDebugView", typeof data?.showMessagesOnDebugView !== "undefined" ? data?.showMessagesOnDebugView : false) || changed;
+        changed = ModelAssignment.assignValue(this, "useExcel", typeof data?.useExcel !== "undefined" ? data?.useExcel : true) || changed;
+        changed = ModelAssignment.assignValue(this, "usePowerPoint", typeof data?.usePowerPoint !== "undefined" ? data?.usePowerPoint : true) || changed;
+        changed = ModelAssignment.assignValue(this, "useVisio", typeof data?.useVisio !== "undefined" ? data?.useVisio : false) || changed;
+        changed = ModelAssignment.assignValue(this, "useWord", typeof data?.useWord !== "undefined" ? data?.useWord : true) || changed;
+        changed = ModelAssignment.assignModel(this, "visio", data?.visio, OfficeBridgeApp.fromJson, OfficeBridgeApp) || changed;
+        changed = ModelAssignment.assignModel(this, "word", data?.word, OfficeBridgeApp.fromJson, OfficeBridgeApp) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.excel, other.excel)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.powerPoint, other.powerPoint)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showMessagesOnDebugView, other.showMessagesOnDebugView)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.useExcel, other.useExcel)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.usePowerPoint, other.usePowerPoint)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.useVisio, other.useVisio)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.useWord, other.useWord)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.visio, other.visio)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.word, other.word)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.excel);
+        hash = ModelEquality.hash(hash, this.powerPoint);
+        hash = ModelEquality.hash(hash, this.showMessagesOnDebugView);
+        hash = ModelEquality.hash(hash, this.useExcel);
+        hash = ModelEquality.hash(hash, this.usePowerPoint);
+        hash = ModelEquality.hash(hash, this.useVisio);
+        hash = ModelEquality.hash(hash, this.useWord);
+        hash = ModelEquality.hash(hash, this.visio);
+        hash = ModelEquality.hash(hash, this.word);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ApplicationConfigOfficeBridge(";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.excel) + ",";
+        fingerprint += ModelEquality.fingerprint(this.powerPoint) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showMessagesOnDebugView) + ",";
+        fingerprint += ModelEquality.fingerprint(this.useExcel) + ",";
+        fingerprint += ModelEquality.fingerprint(this.usePowerPoint) + ",";
+        fingerprint += ModelEquality.fingerprint(this.useVisio) + ",";
+        fingerprint += ModelEquality.fingerprint(this.useWord) + ",";
+        fingerprint += ModelEquality.fingerprint(this.visio) + ",";
+        fingerprint += ModelEquality.fingerprint(this.word) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
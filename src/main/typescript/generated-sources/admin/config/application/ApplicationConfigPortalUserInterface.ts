@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    PortalUserInterfaceTooltips,
+    ModelEquality,
+    PortalUserInterfaceLimits,
+} from "./../../../index";
+
+export interface ApplicationConfigPortalUserInterfaceInterface  {
+
+    limits?: PortalUserInterfaceLimits;
+    tooltips?: PortalUserInterfaceTooltips;
+
+}
+export class ApplicationConfigPortalUserInterface implements ApplicationConfigPortalUserInterfaceInterface, Parameter {
+    limits?: PortalUserInterfaceLimits;
+    tooltips?: PortalUserInterfaceTooltips;
+
+    constructor(data: any) {
+        this.limits = PortalUserInterfaceLimits.fromJson(data?.limits);
+        this.tooltips = PortalUserInterfaceTooltips.fromJson(data?.tooltips);
+    }
+
+    public static getLimitsDescription(): string {
+        return "";
+    }
+
+    public static getTooltipsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ApplicationConfigPortalUserInterface {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ApplicationConfigPortalUserInterface(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ApplicationConfigPortalUserInterface> {
+        return ModelStream.decodeArray(source, ApplicationConfigPortalUserInterface.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'limits': this.limits?.toJson(),
+            'tooltips': this.tooltips?.toJson(),
+        };
+    }
+
+    public clone(): ApplicationConfigPortalUserInterface {
+        return ApplicationConfigPortalUserInterface.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "limits", data?.limits, PortalUserInterfaceLimits.fromJson, PortalUserInterfaceLimits) || changed;
+        changed = ModelAssignment.assignModel(this, "tooltips", data?.tooltips, PortalUserInterfaceTooltips.fromJson, PortalUserInterfaceTooltips) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.limits, other.limits)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.tooltips, other.tooltips)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.limits);
+        hash = ModelEquality.hash(hash, this.tooltips);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ApplicationConfigPortalUserInterface(";
+        fingerprint += ModelEquality.fingerprint(this.limits) + ",";
+        fingerprint += ModelEquality.fingerprint(this.tooltips) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,215 @@
+import {
+    ModelAssignment,
+    ProxyNonHost,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface ApplicationConfigProxyInterface  {
+
+    /**
+    * The address of the proxy server.
+    */
+    host?: string;
+    nonProxyHost?: Array<ProxyNonHost>;
+    /**
+    * The password of the user required to authenticate with the proxy server.
+    */
+    password?: string;
+    /**
+    * The port on which the proxy listens.
+    */
+    port?: number;
+    /**
+    * The scheme to access the proxy server (currently only \"http\" or \"https\" are allowed).
+    */
+    scheme?: string;
+    /**
+    * The name of the user required to authenticate with the proxy server.
+    */
+    userName?: string;
+
+}
+export class ApplicationConfigProxy implements ApplicationConfigProxyInterface, Parameter {
+    /**
+    * The address of the proxy server.
+    */
+    host?: string;
+    nonProxyHost?: Array<ProxyNonHost>;
+    /**
+    * The password of the user required to authenticate with the proxy server.
+    */
+    password?: string;
+    /**
+    * The port on which the proxy listens.
+    */
+    port?: number;
+    /**
+    * The scheme to access the proxy server (currently only \"http\" or \"https\" are allowed).
+    */
+    scheme?: string;
+    /**
+    * The name of the user required to authenticate with the proxy server.
+    */
+    userName?: string;
+
+    constructor(data: any) {
+        let hostDefault: any = "";
+        this.host = typeof data?.host !== "undefined" ? data?.host : hostDefault;
+        this.nonProxyHost = (data?.nonProxyHost || []).map(
+            ProxyNonHost.fromJson
+        );
+        let passwordDefault: any = "";
+        this.password = typeof data?.password !== "undefined" ? data?.password : passwordDefault;
+        let portDefault: any = 8080;
+        this.port = typeof data?.port !== "undefined" ? data?.port : portDefault;
+        let schemeDefault: any = "http";
+        this.scheme = typeof data?.scheme !== "undefined" ? data?.scheme : schemeDefault;
+        let userNameDefault: any = "";
+        this.userName = typeof data?.userName !== "undefined" ? data?.userName : userNameDefault;
+    }
+
+    public static getHostDefault(): string {
+        return "";
+    }
+
+    public static getHostDescription(): string {
+        return "The address of the proxy server.";
+    }
+
+    public static getNonProxyHostDefault(): Array<ProxyNonHost> {
+        return [];
+    }
+
+    public static getNonProxyHostDescription(): string {
+        return "";
+    }
+
+    public static getPasswordDefault(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "The password of the user required to authenticate with the proxy server.";
+    }
+
+    public static getPortDefault(): number {
+        return 8080;
+    }
+
+    public static getPortDescription(): string {
+        return "The port on which the proxy listens.";
+    }
+
+    public static getPortMin(): number {
+        return 0;
+    }
+
+    public static getSchemeDefault(): string {
+        return "http";
+    }
+
+    public static getSchemeDescription(): string {
+        return "The scheme to access the proxy server (currently only \"http\" or \"https\" are allowed).";
+    }
+
+    public static getUserNameDefault(): string {
+        return "";
+    }
+
+    public static getUserNameDescription(): string {
+        return "The name of the user required to authenticate with the proxy server.";
+    }
+
+    public static fromJson(data: any): ApplicationConfigProxy {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ApplicationConfigProxy(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ApplicationConfigProxy> {
+        return ModelStream.decodeArray(source, ApplicationConfigProxy.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'host': this.host,
+            'nonProxyHost': this.nonProxyHost?.map((data) => data.toJson()),
+            'password': this.password,
+            'port': this.port,
+            'scheme': this.scheme,
+            'userName': this.userName,
+        };
+    }
+
+    public clone(): ApplicationConfigProxy {
+        return ApplicationConfigProxy.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "host", typeof data?.host !== "undefined" ? data?.host : "") || changed;
+        changed = ModelAssignment.assignArray(this, "nonProxyHost", data?.nonProxyHost, ProxyNonHost.fromJson, ProxyNonHost) || changed;
+        changed = ModelAssignment.assignValue(this, "password", typeof data?.password !== "undefined" ? data?.password : "") || changed;
+        changed = ModelAssignment.assignValue(this, "port", typeof data?.port !== "undefined" ? data?.port : 8080) || changed;
+        changed = ModelAssignment.assignValue(this, "scheme", typeof data?.scheme !== "undefined" ? data?.scheme : "http") || changed;
+        changed = ModelAssignment.assignValue(this, "userName", typeof data?.userName !== "undefined" ? data?.userName : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.host, other.host)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.nonProxyHost, other.nonProxyHost)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.port, other.port)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scheme, other.scheme)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userName, other.userName)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.host);
+        hash = ModelEquality.hash(hash, this.nonProxyHost);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.port);
+        hash = ModelEquality.hash(hash, this.scheme);
+        hash = ModelEquality.hash(hash, this.userName);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ApplicationConfigProxy(";
+        fingerprint += ModelEquality.fingerprint(this.host) + ",";
+        fingerprint += ModelEquality.fingerprint(this.nonProxyHost) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.port) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scheme) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userName) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+import {
+    ModelAssignment,
+    SharePointBridgeApp,
+    SharePointBridgeSite,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface ApplicationConfigSharePointBridgeInterface  {
+
+    app?: SharePointBridgeApp;
+    /**
+    * When set to true the SharePoint Online bridge shall be enabled.
+    */
+    enabled?: boolean;
+    site?: SharePointBridgeSite;
+
+}
+export class ApplicationConfigSharePointBridge implements ApplicationConfigSharePointBridgeInterface, Parameter {
+    app?: SharePointBridgeApp;
+    /**
+    * When set to true the SharePoint Online bridge shall be enabled.
+    */
+    enabled?: boolean;
+    site?: SharePointBridgeSite;
+
+    constructor(data: any) {
+        this.app = SharePointBridgeApp.fromJson(data?.app);
+        let enabledDefault: any = false;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        this.site = SharePointBridgeSite.fromJson(data?.site);
+    }
+
+    public static getAppDescription(): string {
+        return "";
+    }
+
+    public static getEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getEnabledDescription(): string {
+        return "When set to true the SharePoint Online bridge shall be enabled.";
+    }
+
+    public static getSiteDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ApplicationConfigSharePointBridge {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ApplicationConfigSharePointBridge(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ApplicationConfigSharePointBridge> {
+        return ModelStream.decodeArray(source, ApplicationConfigSharePointBridge.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'app': this.app?.toJson(),
+            'enabled': this.enabled,
+            'site': this.site?.toJson(),
+        };
+    }
+
+    public clone(): ApplicationConfigSharePointBridge {
+        return ApplicationConfigSharePointBridge.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "app", data?.app, SharePointBridgeApp.fromJson, SharePointBridgeApp) || changed;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : false) || changed;
+        changed = ModelAssignment.assignModel(this, "site", data?.site, SharePointBridgeSite.fromJson, SharePointBridgeSite) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.app, other.app)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.site, other.site)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.app);
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.site);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ApplicationConfigSharePointBridge(";
+        fingerprint += ModelEquality.fingerprint(this.app) + ",";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.site) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+import {
+    ModelAssignment,
+    ApplicationConfigOfficeBridge,
+    ChromiumBridge,
+    ModelStream,
+    ApplicationConfigSharePointBridge,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface BridgesApplicationInterface  {
+
+    chromium?: ChromiumBridge;
+    office?: ApplicationConfigOfficeBridge;
+    sharePoint?: ApplicationConfigSharePointBridge;
+
+}
+export class BridgesApplication implements BridgesApplicationInterface, Parameter {
+    chromium?: ChromiumBridge;
+    office?: ApplicationConfigOfficeBridge;
+    sharePoint?: ApplicationConfigSharePointBridge;
+
+    constructor(data: any) {
+        this.chromium = ChromiumBridge.fromJson(data?.chromium);
+        this.office = ApplicationConfigOfficeBridge.fromJson(data?.office);
+        this.sharePoint = ApplicationConfigSharePointBridge.fromJson(data?.sharePoint);
+    }
+
+    public static getChromiumDescription(): string {
+        return "";
+    }
+
+    public static getOfficeDescription(): string {
+        return "";
+    }
+
+    public static getSharePointDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): BridgesApplication {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new BridgesApplication(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<BridgesApplication> {
+        return ModelStream.decodeArray(source, BridgesApplication.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'chromium': this.chromium?.toJson(),
+            'office': this.office?.toJson(),
+            'sharePoint': this.sharePoint?.toJson(),
+        };
+    }
+
+    public clone(): BridgesApplication {
+        return BridgesApplication.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "chromium", data?.chromium, ChromiumBridge.fromJson, ChromiumBridge) || changed;
+        changed = ModelAssignment.assignModel(this, "office", data?.office, ApplicationConfigOfficeBridge.fromJson, ApplicationConfigOfficeBridge) || changed;
+        changed = ModelAssignment.assignModel(this, "sharePoint", data?.sharePoint, ApplicationConfigSharePointBridge.fromJson, ApplicationConfigSharePointBridge) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.chromium, other.chromium)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.office, other.office)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sharePoint, other.sharePoint)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.chromium);
+        hash = ModelEquality.hash(hash, this.office);
+        hash = ModelEquality.hash(hash, this.sharePoint);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "BridgesApplication(";
+        fingerprint += ModelEquality.fingerprint(this.chromium) + ",";
+        fingerprint += ModelEquality.fingerprint(this.office) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sharePoint) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,231 @@
+import {
+    ModelAssignment,
+    ChromiumBridgeCommandLine,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ChromiumBridgeHeadlessMode,
+} from "./../../../index";
+
+export interface ChromiumBridgeInterface  {
+
+    commandLine?: ChromiumBridgeCommandLine;
+    /**
+    * If enabled, then the Chromium bridge is activated.
+    */
+    enabled?: boolean;
+    /**
+    * Defines the different headless modes of the Chromium instance.  *   NEW = Uses the same code base for the Chromium headless instance as the normal non-headless browser. *   OLD = Uses the old code base for the Chromium headless instance, which is different from the non-headless browser
+    */
+    headlessMode?: ChromiumBridgeHeadlessMode;
+    /**
+    * The IP address on which Chromium should be reachable.
+    */
+    hostAddress?: string;
+    /**
+    * Sets this option whether the Chromium process should run in a sandbox or not.  **Important:** Be aware that running Chromium outside a sandbox can be a security risk. Proceed with caution!
+    */
+    noSandbox?: boolean;
+    /**
+    * Sets a custom base path for the Chromium application.
+    */
+    path?: string;
+    /**
+    * The port on which Chromium should listen for requests.
+    */
+    port?: number;
+
+}
+export class ChromiumBridge implements ChromiumBridgeInterface, Parameter {
+    commandLine?: ChromiumBridgeCommandLine;
+    /**
+    * If enabled, then the Chromium bridge is activated.
+    */
+    enabled?: boolean;
+    /**
+    * Defines the different headless modes of the Chromium instance.  *   NEW = Uses the same code base for the Chromium headless instance as the normal non-headless browser. *   OLD = Uses the old code base for the Chromium headless instance, which is different from the non-headless browser
+    */
+    headlessMode?: ChromiumBridgeHeadlessMode;
+    /**
+    * The IP address on which Chromium should be reachable.
+    */
+    hostAddress?: string;
+    /**
+    * Sets this option whether the Chromium process should run in a sandbox or not.  **Important:** Be aware that running Chromium outside a sandbox can be a security risk. Proceed with caution!
+    */
+    noSandbox?: boolean;
+    /**
+    * Sets a custom base path for the Chromium application.
+    */
+    path?: string;
+    /**
+    * The port on which Chromium should listen for requests.
+    */
+    port?: number;
+
+    constructor(data: any) {
+        this.commandLine = ChromiumBridgeCommandLine.fromJson(data?.commandLine);
+        let enabledDefault: any = true;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        let headlessModeDefault: any = "new";
+        this.headlessMode = typeof data?.headlessMode !== "undefined" ? data?.headlessMode : headlessModeDefault;
+        let hostAddressDefault: any = "localhost";
+        this.hostAddress = typeof data?.hostAddress !== "undefined" ? data?.hostAddress : hostAddressDefault;
+        let noSandboxDefault: any = false;
+        this.noSandbox = typeof data?.noSandbox !== "undefined" ? data?.noSandbox : noSandboxDefault;
+        let pathDefault: any = "";
+        this.path = typeof data?.path !== "undefined" ? data?.path : pathDefault;
+        let portDefault: any = 0;
+        this.port = typeof data?.port !== "undefined" ? data?.port : portDefault;
+    }
+
+    public static getCommandLineDescription(): string {
+        return "";
+    }
+
+    public static getEnabledDefault(): boolean {
+        return true;
+    }
+
+    public static getEnabledDescription(): string {
+        return "If enabled, then the Chromium bridge is activated.";
+    }
+
+    public static getHeadlessModeDefault(): ChromiumBridgeHeadlessMode {
+        return "new" as ChromiumBridgeHeadlessMode;
+    }
+
+    public static getHeadlessModeDescription(): string {
+        return "Defines the different headless modes of the Chromium instance.\n\n*   NEW = Uses the same code base for the Chromium headless instance as the normal non-headless browser.\n*   OLD = Uses the old code base for the Chromium headless instance, which is different from the non-headless browser";
+    }
+
+    public static getHostAddressDefault(): string {
+        return "localhost";
+    }
+
+    public static getHostAddressDescription(): string {
+        return "The IP address on which Chromium should be reachable.";
+    }
+
+    public static getNoSandboxDefault(): boolean {
+        return false;
+    }
+
+    public static getNoSandboxDescription(): string {
+        return "Sets this option whether the Chromium process should run in a sandbox or not.\n\n**Important:** Be aware that running Chromium outside a sandbox can be a security risk. Proceed with caution!";
+    }
+
+    public static getPathDefault(): string {
+        return "";
+    }
+
+    public static getPathDescription(): string {
+        return "Sets a custom base path for the Chromium application.";
+    }
+
+    public static getPortDefault(): number {
+        return 0;
+    }
+
+    public static getPortDescription(): string {
+        return "The port on which Chromium should listen for requests.";
+    }
+
+    public static fromJson(data: any): ChromiumBridge {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ChromiumBridge(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ChromiumBridge> {
+        return ModelStream.decodeArray(source, ChromiumBridge.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'commandLine': this.commandLine?.toJson(),
+            'enabled': this.enabled,
+            'headlessMode': this.headlessMode,
+            'hostAddress': this.hostAddress,
+            'noSandbox': this.noSandbox,
+            'path': this.path,
+            'port': this.port,
+        };
+    }
+
+    public clone(): ChromiumBridge {
+        return ChromiumBridge.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "commandLine", data?.commandLine, ChromiumBridgeCommandLine.fromJson, ChromiumBridgeCommandLine) || changed;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : true) || changed;
+        changed = ModelAssignment.assignValue(this, "headlessMode", typeof data?.headlessMode !== "undefined" ? data?.headlessMode : "new") || changed;
+        changed = ModelAssignment.assignValue(this, "hostAddress", typeof data?.hostAddress !== "undefined" ? data?.hostAddress : "localhost") || changed;
+        changed = ModelAssignment.assignValue(this, "noSandbox", typeof data?.noSandbox !== "undefined" ? data?.noSandbox : false) || changed;
+        changed = ModelAssignment.assignValue(this, "path", typeof data?.path !== "undefined" ? data?.path : "") || changed;
+        changed = ModelAssignment.assignValue(this, "port", typeof data?.port !== "undefined" ? data?.port : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.commandLine, other.commandLine)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.headlessMode, other.headlessMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hostAddress, other.hostAddress)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.noSandbox, other.noSandbox)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.path, other.path)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.port, other.port)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.commandLine);
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.headlessMode);
+        hash = ModelEquality.hash(hash, this.hostAddress);
+        hash = ModelEquality.hash(hash, this.noSandbox);
+        hash = ModelEquality.hash(hash, this.path);
+        hash = ModelEquality.hash(hash, this.port);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ChromiumBridge(";
+        fingerprint += ModelEquality.fingerprint(this.commandLine) + ",";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.headlessMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hostAddress) + ",";
+        fingerprint += ModelEquality.fingerprint(this.noSandbox) + ",";
+        fingerprint += ModelEquality.fingerprint(this.path) + ",";
+        fingerprint += ModelEquality.fingerprint(this.port) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
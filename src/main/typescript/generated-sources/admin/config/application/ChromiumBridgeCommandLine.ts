@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ChromiumBridgeCommandLineSwitch,
+} from "./../../../index";
+
+export interface ChromiumBridgeCommandLineInterface  {
+
+    _switch?: Array<ChromiumBridgeCommandLineSwitch>;
+
+}
+export class ChromiumBridgeCommandLine implements ChromiumBridgeCommandLineInterface, Parameter {
+    _switch?: Array<ChromiumBridgeCommandLineSwitch>;
+
+    constructor(data: any) {
+        this._switch = (data?.switch || []).map(
+            ChromiumBridgeCommandLineSwitch.fromJson
+        );
+    }
+
+    public static getSwitchDefault(): Array<ChromiumBridgeCommandLineSwitch> {
+        return [];
+    }
+
+    public static getSwitchDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ChromiumBridgeCommandLine {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ChromiumBridgeCommandLine(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ChromiumBridgeCommandLine> {
+        return ModelStream.decodeArray(source, ChromiumBridgeCommandLine.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'switch': this._switch?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): ChromiumBridgeCommandLine {
+        return ChromiumBridgeCommandLine.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "_switch", data?.switch, ChromiumBridgeCommandLineSwitch.fromJson, ChromiumBridgeCommandLineSwitch) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this._switch, other._switch)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this._switch);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ChromiumBridgeCommandLine(";
+        fingerprint += ModelEquality.fingerprint(this._switch) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
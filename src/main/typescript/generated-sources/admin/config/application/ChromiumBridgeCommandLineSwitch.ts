@@ -0,0 +1,141 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ChromiumBridgeCommandlineSwitchMode,
+} from "./../../../index";
+
+export interface ChromiumBridgeCommandLineSwitchInterface  {
+
+    /**
+    * Defines the operation mode for the command line switch.  *   ADD = add the command line switch *   REMOVE = remove the command line switch
+    */
+    mode?: ChromiumBridgeCommandlineSwitchMode;
+    /**
+    * Sets the name of the Chromium command line switch. The name must be spelled correctly (without \"--\" and in correct upper/lower case), because it will be used unchanged.
+    */
+    name?: string;
+    /**
+    * Defines the value of the Chromium command line switch. The value for the switch is used unchanged and must be escaped properly.
+    */
+    value?: string;
+
+}
+export class ChromiumBridgeCommandLineSwitch implements ChromiumBridgeCommandLineSwitchInterface, Parameter {
+    /**
+    * Defines the operation mode for the command line switch.  *   ADD = add the command line switch *   REMOVE = remove the command line switch
+    */
+    mode?: ChromiumBridgeCommandlineSwitchMode;
+    /**
+    * Sets the name of the Chromium command line switch. The name must be spelled correctly (without \"--\" and in correct upper/lower case), because it will be used unchanged.
+    */
+    name?: string;
+    /**
+    * Defines the value of the Chromium command line switch. The value for the switch is used unchanged and must be escaped properly.
+    */
+    value?: string;
+
+    constructor(data: any) {
+        let modeDefault: any = "add";
+        this.mode = typeof data?.mode !== "undefined" ? data?.mode : modeDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let valueDefault: any = "";
+        this.value = typeof data?.value !== "undefined" ? data?.value : valueDefault;
+    }
+
+    public static getModeDefault(): ChromiumBridgeCommandlineSwitchMode {
+        return "add" as ChromiumBridgeCommandlineSwitchMode;
+    }
+
+    public static getModeDescription(): string {
+        return "Defines the operation mode for the command line switch.\n\n*   ADD = add the command line switch\n*   REMOVE = remove the command line switch";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "Sets the name of the Chromium command line switch. The name must be spelled correctly (without \"--\" and in correct upper\/lower case), because it will be used unchanged.";
+    }
+
+    public static getValueDefault(): string {
+        return "";
+    }
+
+    public static getValueDescription(): string {
+        return "Defines the value of the Chromium command line switch. The value for the switch is used unchanged and must be escaped properly.";
+    }
+
+    public static fromJson(data: any): ChromiumBridgeCommandLineSwitch {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ChromiumBridgeCommandLineSwitch(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ChromiumBridgeCommandLineSwitch> {
+        return ModelStream.decodeArray(source, ChromiumBridgeCommandLineSwitch.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'mode': this.mode,
+            'name': this.name,
+            'value': this.value,
+        };
+    }
+
+    public clone(): ChromiumBridgeCommandLineSwitch {
+        return ChromiumBridgeCommandLineSwitch.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "mode", typeof data?.mode !== "undefined" ? data?.mode : "add") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "value", typeof data?.value !== "undefined" ? data?.value : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mode, other.mode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.value, other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.mode);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.value);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ChromiumBridgeCommandLineSwitch(";
+        fingerprint += ModelEquality.fingerprint(this.mode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.value) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
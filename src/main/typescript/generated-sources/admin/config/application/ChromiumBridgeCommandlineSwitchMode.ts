@@ -0,0 +1,6 @@
+export enum ChromiumBridgeCommandlineSwitchMode {
+
+    Add = 'add',
+    Remove = 'remove'
+
+}
\ No newline at end of file
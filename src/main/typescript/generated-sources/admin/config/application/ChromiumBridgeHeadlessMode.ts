@@ -0,0 +1,6 @@
+export enum ChromiumBridgeHeadlessMode {
+
+    New = 'new',
+    Old = 'old'
+
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    PortalCompressProfile,
+    ModelEquality,
+} from "./../../../index";
+
+export interface CompressPortalSettingsInterface  {
+
+    /**
+    * Sets the profile for automatic document compression and thus defines whether compression should be applied when saving.  *   always = PDF documents should always be compressed when saved. *   never = PDF documents should not be automatically compressed. *   recompress = PDF documents should only be compressed automatically if they were already compressed previously.
+    */
+    compressProfile?: PortalCompressProfile;
+
+}
+export class CompressPortalSettings implements CompressPortalSettingsInterface, Parameter {
+    /**
+    * Sets the profile for automatic document compression and thus defines whether compression should be applied when saving.  *   always = PDF documents should always be compressed when saved. *   never = PDF documents should not be automatically compressed. *   recompress = PDF documents should only be compressed automatically if they were already compressed previously.
+    */
+    compressProfile?: PortalCompressProfile;
+
+    constructor(data: any) {
+        let compressProfileDefault: any = "never";
+        this.compressProfile = typeof data?.compressProfile !== "undefined" ? data?.compressProfile : compressProfileDefault;
+    }
+
+    public static getCompressProfileDefault(): PortalCompressProfile {
+        return "never" as PortalCompressProfile;
+    }
+
+    public static getCompressProfileDescription(): string {
+        return "Sets the profile for automatic document compression and thus defines whether compression should be applied when saving.\n\n*   always = PDF documents should always be compressed when saved.\n*   never = PDF documents should not be automatically compressed.\n*   recompress = PDF documents should only be compressed automatically if they were already compressed previously.";
+    }
+
+    public static fromJson(data: any): CompressPortalSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new CompressPortalSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<CompressPortalSettings> {
+        return ModelStream.decodeArray(source, CompressPortalSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'compressProfile': this.compressProfile,
+        };
+    }
+
+    public clone(): CompressPortalSettings {
+        return CompressPortalSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "compressProfile", typeof data?.compressProfile !== "undefined" ? data?.compressProfile : "never") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compressProfile, other.compressProfile)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.compressProfile);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "CompressPortalSettings(";
+        fingerprint += ModelEquality.fingerprint(this.compressProfile) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
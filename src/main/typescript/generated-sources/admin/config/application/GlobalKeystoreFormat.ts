@@ -0,0 +1,10 @@
+export enum GlobalKeystoreFormat {
+
+    WINDOWSUSER = 'WINDOWS_USER',
+    WINDOWSMACHINE = 'WINDOWS_MACHINE',
+    JKS = 'JKS',
+    PKCS12 = 'PKCS12',
+    NONE = 'NONE',
+    PKCS11 = 'PKCS11'
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface KeystoreEntryInterface  {
+
+    /**
+    * The alias under which the keystore entry was saved.
+    */
+    alias?: string;
+    /**
+    * The password of the keystore entry.
+    */
+    password?: string;
+
+}
+export class KeystoreEntry implements KeystoreEntryInterface, Parameter {
+    /**
+    * The alias under which the keystore entry was saved.
+    */
+    alias?: string;
+    /**
+    * The password of the keystore entry.
+    */
+    password?: string;
+
+    constructor(data: any) {
+        let aliasDefault: any = "";
+        this.alias = typeof data?.alias !== "undefined" ? data?.alias : aliasDefault;
+        let passwordDefault: any = "";
+        this.password = typeof data?.password !== "undefined" ? data?.password : passwordDefault;
+    }
+
+    public static getAliasDefault(): string {
+        return "";
+    }
+
+    public static getAliasDescription(): string {
+        return "The alias under which the keystore entry was saved.";
+    }
+
+    public static getPasswordDefault(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "The password of the keystore entry.";
+    }
+
+    public static fromJson(data: any): KeystoreEntry {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new KeystoreEntry(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<KeystoreEntry> {
+        return ModelStream.decodeArray(source, KeystoreEntry.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'alias': this.alias,
+            'password': this.password,
+        };
+    }
+
+    public clone(): KeystoreEntry {
+        return KeystoreEntry.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "alias", typeof data?.alias !== "undefined" ? data?.alias : "") || changed;
+        changed = ModelAssignment.assignValue(this, "password", typeof data?.password !== "undefined" ? data?.password : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.alias, other.alias)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.alias);
+        hash = ModelEquality.hash(hash, this.password);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "KeystoreEntry(";
+        fingerprint += ModelEquality.fingerprint(this.alias) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
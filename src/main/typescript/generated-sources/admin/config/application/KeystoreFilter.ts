@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface KeystoreFilterInterface  {
+
+    /**
+    * Defines a filter pattern that allows the use of '\\*' and '?' wildcards.
+    */
+    pattern?: string;
+
+}
+export class KeystoreFilter implements KeystoreFilterInterface, Parameter {
+    /**
+    * Defines a filter pattern that allows the use of '\\*' and '?' wildcards.
+    */
+    pattern?: string;
+
+    constructor(data: any) {
+        let patternDefault: any = "";
+        this.pattern = typeof data?.pattern !== "undefined" ? data?.pattern : patternDefault;
+    }
+
+    public static getPatternDefault(): string {
+        return "";
+    }
+
+    public static getPatternDescription(): string {
+        return "Defines a filter pattern that allows the use of '\\*' and '?' wildcards.";
+    }
+
+    public static fromJson(data: any): KeystoreFilter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new KeystoreFilter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<KeystoreFilter> {
+        return ModelStream.decodeArray(source, KeystoreFilter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'pattern': this.pattern,
+        };
+    }
+
+    public clone(): KeystoreFilter {
+        return KeystoreFilter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "pattern", typeof data?.pattern !== "undefined" ? data?.pattern : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pattern, other.pattern)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.pattern);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "KeystoreFilter(";
+        fingerprint += ModelEquality.fingerprint(this.pattern) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
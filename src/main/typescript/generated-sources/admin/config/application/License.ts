@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface LicenseInterface  {
+
+    /**
+    * License key. Divided into five parts, each part delimited by a minus sign. Each part has six characters.
+    */
+    key?: string;
+    /**
+    * Name of the licensee. Is used in conjunction with the license key. Notation is important.
+    */
+    licensee?: string;
+
+}
+export class License implements LicenseInterface, Parameter {
+    /**
+    * License key. Divided into five parts, each part delimited by a minus sign. Each part has six characters.
+    */
+    key?: string;
+    /**
+    * Name of the licensee. Is used in conjunction with the license key. Notation is important.
+    */
+    licensee?: string;
+
+    constructor(data: any) {
+        let keyDefault: any = "";
+        this.key = typeof data?.key !== "undefined" ? data?.key : keyDefault;
+        let licenseeDefault: any = "";
+        this.licensee = typeof data?.licensee !== "undefined" ? data?.licensee : licenseeDefault;
+    }
+
+    public static getKeyDefault(): string {
+        return "";
+    }
+
+    public static getKeyDescription(): string {
+        return "License key. Divided into five parts, each part delimited by a minus sign. Each part has six characters.";
+    }
+
+    public static getLicenseeDefault(): string {
+        return "";
+    }
+
+    public static getLicenseeDescription(): string {
+        return "Name of the licensee. Is used in conjunction with the license key. Notation is important.";
+    }
+
+    public static fromJson(data: any): License {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new License(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<License> {
+        return ModelStream.decodeArray(source, License.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'key': this.key,
+            'licensee': this.licensee,
+        };
+    }
+
+    public clone(): License {
+        return License.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "key", typeof data?.key !== "undefined" ? data?.key : "") || changed;
+        changed = ModelAssignment.assignValue(this, "licensee", typeof data?.licensee !== "undefined" ? data?.licensee : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.key, other.key)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.licensee, other.licensee)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.key);
+        hash = ModelEquality.hash(hash, this.licensee);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "License(";
+        fingerprint += ModelEquality.fingerprint(this.key) + ",";
+        fingerprint += ModelEquality.fingerprint(this.licensee) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
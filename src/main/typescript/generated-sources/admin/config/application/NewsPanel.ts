@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    NewsPanelEntry,
+    ModelEquality,
+} from "./../../../index";
+
+export interface NewsPanelInterface  {
+
+    /**
+    * Interval in seconds at which the content should be reloaded.
+    */
+    contentRefreshInterval?: number;
+    entry?: Array<NewsPanelEntry>;
+
+}
+export class NewsPanel implements NewsPanelInterface, Parameter {
+    /**
+    * Interval in seconds at which the content should be reloaded.
+    */
+    contentRefreshInterval?: number;
+    entry?: Array<NewsPanelEntry>;
+
+    constructor(data: any) {
+        let contentRefreshIntervalDefault: any = 3600;
+        this.contentRefreshInterval = typeof data?.contentRefreshInterval !== "undefined" ? data?.contentRefreshInterval : contentRefreshIntervalDefault;
+        this.entry = (data?.entry || []).map(
+            NewsPanelEntry.fromJson
+        );
+    }
+
+    public static getContentRefreshIntervalDefault(): number {
+        return 3600;
+    }
+
+    public static getContentRefreshIntervalDescription(): string {
+        return "Interval in seconds at which the content should be reloaded.";
+    }
+
+    public static getContentRefreshIntervalMin(): number {
+        return 0;
+    }
+
+    public static getEntryDefault(): Array<NewsPanelEntry> {
+        return [];
+    }
+
+    public static getEntryDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): NewsPanel {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new NewsPanel(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<NewsPanel> {
+        return ModelStream.decodeArray(source, NewsPanel.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'contentRefreshInterval': this.contentRefreshInterval,
+            'entry': this.entry?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): NewsPanel {
+        return NewsPanel.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "contentRefreshInterval", typeof data?.contentRefreshInterval !== "undefined" ? data?.contentRefreshInterval : 3600) || changed;
+        changed = ModelAssignment.assignArray(this, "entry", data?.entry, NewsPanelEntry.fromJson, NewsPanelEntry) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.contentRefreshInterval, other.contentRefreshInterval)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.entry, other.entry)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.contentRefreshInterval);
+        hash = ModelEquality.hash(hash, this.entry);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "NewsPanel(";
+        fingerprint += ModelEquality.fingerprint(this.contentRefreshInterval) + ",";
+        fingerprint += ModelEquality.fingerprint(this.entry) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface NewsPanelEntryInterface  {
+
+    /**
+    * URL from which to load the content for the \"news panel\".
+    */
+    url?: string;
+
+}
+export class NewsPanelEntry implements NewsPanelEntryInterface, Parameter {
+    /**
+    * URL from which to load the content for the \"news panel\".
+    */
+    url?: string;
+
+    constructor(data: any) {
+        let urlDefault: any = "";
+        this.url = typeof data?.url !== "undefined" ? data?.url : urlDefault;
+    }
+
+    public static getUrlDefault(): string {
+        return "";
+    }
+
+    public static getUrlDescription(): string {
+        return "URL from which to load the content for the \"news panel\".";
+    }
+
+    public static fromJson(data: any): NewsPanelEntry {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new NewsPanelEntry(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<NewsPanelEntry> {
+        return ModelStream.decodeArray(source, NewsPanelEntry.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'url': this.url,
+        };
+    }
+
+    public clone(): NewsPanelEntry {
+        return NewsPanelEntry.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "url", typeof data?.url !== "undefined" ? data?.url : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.url, other.url)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.url);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "NewsPanelEntry(";
+        fingerprint += ModelEquality.fingerprint(this.url) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
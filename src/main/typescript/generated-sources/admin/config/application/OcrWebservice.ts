@@ -0,0 +1,199 @@
+import {
+    ModelAssignment,
+    QueueMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface OcrWebserviceInterface  {
+
+    /**
+    * If enabled, then the web service is activated.
+    */
+    enabled?: boolean;
+    /**
+    * Number of parallel instances (threads) for the web service. Defines the number of requests that can be executed in parallel before requests are queued.
+    */
+    instances?: number;
+    /**
+    * Maximum allowed time in seconds for the execution of a web service request (job) before the request is canceled. If the time has expired, the execution is aborted and an error code is returned.
+    */
+    maxLatency?: number;
+    /**
+    * Defines how the size of the queue is determined.  With `AUTO`, it is calculated automatically by the server based on the number of configured instances.
+    */
+    queueMode?: QueueMode;
+    /**
+    * Maximum number of waiting requests, before new requests are rejected. If there are more requests than free instances, they are placed in the queue. If this maximum value is reached, further requests are rejected directly. This setting only applies if `queueMode` is set to `MANUAL`.
+    */
+    queueSize?: number;
+
+}
+export class OcrWebservice implements OcrWebserviceInterface, Parameter {
+    /**
+    * If enabled, then the web service is activated.
+    */
+    enabled?: boolean;
+    /**
+    * Number of parallel instances (threads) for the web service. Defines the number of requests that can be executed in parallel before requests are queued.
+    */
+    instances?: number;
+    /**
+    * Maximum allowed time in seconds for the execution of a web service request (job) before the request is canceled. If the time has expired, the execution is aborted and an error code is returned.
+    */
+    maxLatency?: number;
+    /**
+    * Defines how the size of the queue is determined.  With `AUTO`, it is calculated automatically by the server based on the number of configured instances.
+    */
+    queueMode?: QueueMode;
+    /**
+    * Maximum number of waiting requests, before new requests are rejected. If there are more requests than free instances, they are placed in the queue. If this maximum value is reached, further requests are rejected directly. This setting only applies if `queueMode` is set to `MANUAL`.
+    */
+    queueSize?: number;
+
+    constructor(data: any) {
+        let enabledDefault: any = true;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        let instancesDefault: any = 2;
+        this.instances = typeof data?.instances !== "undefined" ? data?.instances : instancesDefault;
+        let maxLatencyDefault: any = 180;
+        this.maxLatency = typeof data?.maxLatency !== "undefined" ? data?.maxLatency : maxLatencyDefault;
+        let queueModeDefault: any = "AUTO";
+        this.queueMode = typeof data?.queueMode !== "undefined" ? data?.queueMode : queueModeDefault;
+        let queueSizeDefault: any = 100;
+        this.queueSize = typeof data?.queueSize !== "undefined" ? data?.queueSize : queueSizeDefault;
+    }
+
+    public static getEnabledDefault(): boolean {
+        return true;
+    }
+
+    public static getEnabledDescription(): string {
+        return "If enabled, then the web service is activated.";
+    }
+
+    public static getInstancesDefault(): number {
+        return 2;
+    }
+
+    public static getInstancesDescription(): string {
+        return "Number of parallel instances (threads) for the web service. Defines the number of requests that can be executed in parallel before requests are queued.";
+    }
+
+    public static getInstancesMin(): number {
+        return 1;
+    }
+
+    public static getMaxLatencyDefault(): number {
+        return 180;
+    }
+
+    public static getMaxLatencyDescription(): string {
+        return "Maximum allowed time in seconds for the execution of a web service request (job) before the request is canceled. If the time has expired, the execution is aborted and an error code is returned.";
+    }
+
+    public static getMaxLatencyMin(): number {
+        return 0;
+    }
+
+    public static getQueueModeDefault(): QueueMode {
+        return "AUTO" as QueueMode;
+    }
+
+    public static getQueueModeDescription(): string {
+        return "Defines how the size of the queue is determined.\n\nWith `AUTO`, it is calculated automatically by the server based on the number of configured instances.";
+    }
+
+    public static getQueueSizeDefault(): number {
+        return 100;
+    }
+
+    public static getQueueSizeDescription(): string {
+        return "Maximum number of waiting requests, before new requests are rejected. If there are more requests than free instances, they are placed in the queue. If this maximum value is reached, further requests are rejected directly. This setting only applies if `queueMode` is set to `MANUAL`.";
+    }
+
+    public static fromJson(data: any): OcrWebservice {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OcrWebservice(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OcrWebservice> {
+        return ModelStream.decodeArray(source, OcrWebservice.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'enabled': this.enabled,
+            'instances': this.instances,
+            'maxLatency': this.maxLatency,
+            'queueMode': this.queueMode,
+            'queueSize': this.queueSize,
+        };
+    }
+
+    public clone(): OcrWebservice {
+        return OcrWebservice.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : true) || changed;
+        changed = ModelAssignment.assignValue(this, "instances", typeof data?.instances !== "undefined" ? data?.instances : 2) || changed;
+        changed = ModelAssignment.assignValue(this, "maxLatency", typeof data?.maxLatency !== "undefined" ? data?.maxLatency : 180) || changed;
+        changed = ModelAssignment.assignValue(this, "queueMode", typeof data?.queueMode !== "undefined" ? data?.queueMode : "AUTO") || changed;
+        changed = ModelAssignment.assignValue(this, "queueSize", typeof data?.queueSize !== "undefined" ? data?.queueSize : 100) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.instances, other.instances)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxLatency, other.maxLatency)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.queueMode, other.queueMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.queueSize, other.queueSize)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.instances);
+        hash = ModelEquality.hash(hash, this.maxLatency);
+        hash = ModelEquality.hash(hash, this.queueMode);
+        hash = ModelEquality.hash(hash, this.queueSize);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OcrWebservice(";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.instances) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxLatency) + ",";
+        fingerprint += ModelEquality.fingerprint(this.queueMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.queueSize) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
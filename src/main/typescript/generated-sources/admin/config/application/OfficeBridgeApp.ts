@@ -0,0 +1,177 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface OfficeBridgeAppInterface  {
+
+    /**
+    * The minimum time frame provided for the execution of an operation with the Office bridge.
+    */
+    minExecutionTime?: number;
+    /**
+    * The time in seconds to wait for the OLE server to start during initialization.
+    */
+    oleStartWaitTime?: number;
+    /**
+    * The time in seconds to wait for the OLE server to terminate at shutdown.
+    */
+    oleTerminationTimeout?: number;
+    /**
+    * If this option is enabled, the Office Bridge application is started in test mode when the server is initialized, which provides advanced debugging information.
+    */
+    useExecutionTest?: boolean;
+
+}
+export class OfficeBridgeApp implements OfficeBridgeAppInterface, Parameter {
+    /**
+    * The minimum time frame provided for the execution of an operation with the Office bridge.
+    */
+    minExecutionTime?: number;
+    /**
+    * The time in seconds to wait for the OLE server to start during initialization.
+    */
+    oleStartWaitTime?: number;
+    /**
+    * The time in seconds to wait for the OLE server to terminate at shutdown.
+    */
+    oleTerminationTimeout?: number;
+    /**
+    * If this option is enabled, the Office Bridge application is started in test mode when the server is initialized, which provides advanced debugging information.
+    */
+    useExecutionTest?: boolean;
+
+    constructor(data: any) {
+        let minExecutionTimeDefault: any = 5000;
+        this.minExecutionTime = typeof data?.minExecutionTime !== "undefined" ? data?.minExecutionTime : minExecutionTimeDefault;
+        let oleStartWaitTimeDefault: any = 0;
+        this.oleStartWaitTime = typeof data?.oleStartWaitTime !== "undefined" ? data?.oleStartWaitTime : oleStartWaitTimeDefault;
+        let oleTerminationTimeoutDefault: any = 0;
+        this.oleTerminationTimeout = typeof data?.oleTerminationTimeout !== "undefined" ? data?.oleTerminationTimeout : oleTerminationTimeoutDefault;
+        let useExecutionTestDefault: any = true;
+        this.useExecutionTest = typeof data?.useExecutionTest !== "undefined" ? data?.useExecutionTest : useExecutionTestDefault;
+    }
+
+    public static getMinExecutionTimeDefault(): number {
+        return 5000;
+    }
+
+    public static getMinExecutionTimeDescription(): string {
+        return "The minimum time frame provided for the execution of an operation with the Office bridge.";
+    }
+
+    public static getMinExecutionTimeMin(): number {
+        return 0;
+    }
+
+    public static getOleStartWaitTimeDefault(): number {
+        return 0;
+    }
+
+    public static getOleStartWaitTimeDescription(): string {
+        return "The time in seconds to wait for the OLE server to start during initialization.";
+    }
+
+    public static getOleStartWaitTimeMin(): number {
+        return 0;
+    }
+
+    public static getOleTerminationTimeoutDefault(): number {
+        return 0;
+    }
+
+    public static getOleTerminationTimeoutDescription(): string {
+        return "The time in seconds to wait for the OLE server to terminate at shutdown.";
+    }
+
+    public static getOleTerminationTimeoutMin(): number {
+        return 0;
+    }
+
+    public static getUseExecutionTestDefault(): boolean {
+        return true;
+    }
+
+    public static getUseExecutionTestDescription(): string {
+        return "If this option is enabled, the Office Bridge application is started in test mode when the server is initialized, which provides advanced debugging information.";
+    }
+
+    public static fromJson(data: any): OfficeBridgeApp {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OfficeBridgeApp(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OfficeBridgeApp> {
+        return ModelStream.decodeArray(source, OfficeBridgeApp.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'minExecutionTime': this.minExecutionTime,
+            'oleStartWaitTime': this.oleStartWaitTime,
+            'oleTerminationTimeout': this.oleTerminationTimeout,
+            'useExecutionTest': this.useExecutionTest,
+        };
+    }
+
+    public clone(): OfficeBridgeApp {
+        return OfficeBridgeApp.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "minExecutionTime", typeof data?.minExecutionTime !== "undefined" ? data?.minExecutionTime : 5000) || changed;
+        changed = ModelAssignment.assignValue(this, "oleStartWaitTime", typeof data?.oleStartWaitTime !== "undefined" ? data?.oleStartWaitTime : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "oleTerminationTimeout", typeof data?.oleTerminationTimeout !== "undefined" ? data?.oleTerminationTimeout : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "useExecutionTest", typeof data?.useExecutionTest !== "undefined" ? data?.useExecutionTest : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.minExecutionTime, other.minExecutionTime)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.oleStartWaitTime, other.oleStartWaitTime)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.oleTerminationTimeout, other.oleTerminationTimeout)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.useExecutionTest, other.useExecutionTest)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.minExecutionTime);
+        hash = ModelEquality.hash(hash, this.oleStartWaitTime);
+        hash = ModelEquality.hash(hash, this.oleTerminationTimeout);
+        hash = ModelEquality.hash(hash, this.useExecutionTest);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OfficeBridgeApp(";
+        fingerprint += ModelEquality.fingerprint(this.minExecutionTime) + ",";
+        fingerprint += ModelEquality.fingerprint(this.oleStartWaitTime) + ",";
+        fingerprint += ModelEquality.fingerprint(this.oleTerminationTimeout) + ",";
+        fingerprint += ModelEquality.fingerprint(this.useExecutionTest) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
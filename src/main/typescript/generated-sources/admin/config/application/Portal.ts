@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ApplicationConfigPortalSettings,
+    ModelStream,
+    PortalFunctions,
+    ApplicationConfigPortalUserInterface,
+    Parameter,
+    NewsPanel,
+    PortalAuth,
+    ModelEquality,
+} from "./../../../index";
+
+export interface PortalInterface  {
+
+    auth?: PortalAuth;
+    functions?: PortalFunctions;
+    newsPanel?: NewsPanel;
+    settings?: ApplicationConfigPortalSettings;
+    userInterface?: ApplicationConfigPortalUserInterface;
+
+}
+export class Portal implements PortalInterface, Parameter {
+    auth?: PortalAuth;
+    functions?: PortalFunctions;
+    newsPanel?: NewsPanel;
+    settings?: ApplicationConfigPortalSettings;
+    userInterface?: ApplicationConfigPortalUserInterface;
+
+    constructor(data: any) {
+        this.auth = PortalAuth.fromJson(data?.auth);
+        this.functions = PortalFunctions.fromJson(data?.functions);
+        this.newsPanel = NewsPanel.fromJson(data?.newsPanel);
+        this.settings = ApplicationConfigPortalSettings.fromJson(data?.settings);
+        this.userInterface = ApplicationConfigPortalUserInterface.fromJson(data?.userInterface);
+    }
+
+    public static getAuthDescription(): string {
+        return "";
+    }
+
+    public static getFunctionsDescription(): string {
+        return "";
+    }
+
+    public static getNewsPanelDescription(): string {
+        return "";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static getUserInterfaceDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Portal {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Portal(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Portal> {
+        return ModelStream.decodeArray(source, Portal.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'auth': this.auth?.toJson(),
+            'functions': this.functions?.toJson(),
+            'newsPanel': this.newsPanel?.toJson(),
+            'settings': this.settings?.toJson(),
+            'userInterface': this.userInterface?.toJson(),
+        };
+    }
+
+    public clone(): Portal {
+        return Portal.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "auth", data?.auth, PortalAuth.fromJson, PortalAuth) || changed;
+        changed = ModelAssignment.assignModel(this, "functions", data?.functions, PortalFunctions.fromJson, PortalFunctions) || changed;
+        changed = ModelAssignment.assignModel(this, "newsPanel", data?.newsPanel, NewsPanel.fromJson, NewsPanel) || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, ApplicationConfigPortalSettings.fromJson, ApplicationConfigPortalSettings) || changed;
+        changed = ModelAssignment.assignModel(this, "userInterface", data?.userInterface, ApplicationConfigPortalUserInterface.fromJson, ApplicationConfigPortalUserInterface) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.auth, other.auth)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.functions, other.functions)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.newsPanel, other.newsPanel)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userInterface, other.userInterface)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.auth);
+        hash = ModelEquality.hash(hash, this.functions);
+        hash = ModelEquality.hash(hash, this.newsPanel);
+        hash = ModelEquality.hash(hash, this.settings);
+        hash = ModelEquality.hash(hash, this.userInterface);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Portal(";
+        fingerprint += ModelEquality.fingerprint(this.auth) + ",";
+        fingerprint += ModelEquality.fingerprint(this.functions) + ",";
+        fingerprint += ModelEquality.fingerprint(this.newsPanel) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userInterface) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    PortalAuthTimeout,
+    ModelEquality,
+} from "./../../../index";
+
+export interface PortalAuthInterface  {
+
+    /**
+    * If enabled, then anonymous login (without username and password) are allowed on the front end portal page. This has no effect on the admin page, which always denies anonymous access.
+    */
+    allowAnonymous?: boolean;
+    /**
+    * Defines whether the login for the front end portal page is available or not. This has no effect on the admin page, which is always available.
+    */
+    enabled?: boolean;
+    timeout?: PortalAuthTimeout;
+
+}
+export class PortalAuth implements PortalAuthInterface, Parameter {
+    /**
+    * If enabled, then anonymous login (without username and password) are allowed on the front end portal page. This has no effect on the admin page, which always denies anonymous access.
+    */
+    allowAnonymous?: boolean;
+    /**
+    * Defines whether the login for the front end portal page is available or not. This has no effect on the admin page, which is always available.
+    */
+    enabled?: boolean;
+    timeout?: PortalAuthTimeout;
+
+    constructor(data: any) {
+        let allowAnonymousDefault: any = true;
+        this.allowAnonymous = typeof data?.allowAnonymous !== "undefined" ? data?.allowAnonymous : allowAnonymousDefault;
+        let enabledDefault: any = true;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        this.timeout = PortalAuthTimeout.fromJson(data?.timeout);
+    }
+
+    public static getAllowAnonymousDefault(): boolean {
+        return true;
+    }
+
+    public static getAllowAnonymousDescription(): string {
+        return "If enabled, then anonymous login (without username and password) are allowed on the front end portal page. This has no effect on the admin page, which always denies anonymous access.";
+    }
+
+    public static getEnabledDefault(): boolean {
+        return true;
+    }
+
+    public static getEnabledDescription(): string {
+        return "Defines whether the login for the front end portal page is available or not. This has no effect on the admin page, which is always available.";
+    }
+
+    public static getTimeoutDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PortalAuth {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortalAuth(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortalAuth> {
+        return ModelStream.decodeArray(source, PortalAuth.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'allowAnonymous': this.allowAnonymous,
+            'enabled': this.enabled,
+            'timeout': this.timeout?.toJson(),
+        };
+    }
+
+    public clone(): PortalAuth {
+        return PortalAuth.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "allowAnonymous", typeof data?.allowAnonymous !== "undefined" ? data?.allowAnonymous : true) || changed;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : true) || changed;
+        changed = ModelAssignment.assignModel(this, "timeout", data?.timeout, PortalAuthTimeout.fromJson, PortalAuthTimeout) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.allowAnonymous, other.allowAnonymous)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.timeout, other.timeout)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.allowAnonymous);
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.timeout);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortalAuth(";
+        fingerprint += ModelEquality.fingerprint(this.allowAnonymous) + ",";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.timeout) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
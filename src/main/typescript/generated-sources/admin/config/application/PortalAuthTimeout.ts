@@ -0,0 +1,123 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface PortalAuthTimeoutInterface  {
+
+    /**
+    * Defines the time in seconds before the access token expires at which an auto-refresh is performed. The auto-refresh prevents the session from expiring and the access token from becoming unusable. If the user is considered inactive, then a dialog is displayed before the auto-refresh is executed. If the value is '0', then the auto-refresh is disabled, i.e. the session ends when the access token expires.
+    */
+    autoRefresh?: number;
+    /**
+    * Defines the time in seconds after which a user should be considered inactive if no activity is detected in the portal. If the value is '0', then the detection is disabled, i.e. the user is never inactive.
+    */
+    inactivity?: number;
+
+}
+export class PortalAuthTimeout implements PortalAuthTimeoutInterface, Parameter {
+    /**
+    * Defines the time in seconds before the access token expires at which an auto-refresh is performed. The auto-refresh prevents the session from expiring and the access token from becoming unusable. If the user is considered inactive, then a dialog is displayed before the auto-refresh is executed. If the value is '0', then the auto-refresh is disabled, i.e. the session ends when the access token expires.
+    */
+    autoRefresh?: number;
+    /**
+    * Defines the time in seconds after which a user should be considered inactive if no activity is detected in the portal. If the value is '0', then the detection is disabled, i.e. the user is never inactive.
+    */
+    inactivity?: number;
+
+    constructor(data: any) {
+        let autoRefreshDefault: any = 300;
+        this.autoRefresh = typeof data?.autoRefresh !== "undefined" ? data?.autoRefresh : autoRefreshDefault;
+        let inactivityDefault: any = 60;
+        this.inactivity = typeof data?.inactivity !== "undefined" ? data?.inactivity : inactivityDefault;
+    }
+
+    public static getAutoRefreshDefault(): number {
+        return 300;
+    }
+
+    public static getAutoRefreshDescription(): string {
+        return "Defines the time in seconds before the access token expires at which an auto-refresh is performed. The auto-refresh prevents the session from expiring and the access token from becoming unusable. If the user is considered inactive, then a dialog is displayed before the auto-refresh is executed. If the value is '0', then the auto-refresh is disabled, i.e. the session ends when the access token expires.";
+    }
+
+    public static getAutoRefreshMin(): number {
+        return 0;
+    }
+
+    public static getInactivityDefault(): number {
+        return 60;
+    }
+
+    public static getInactivityDescription(): string {
+        return "Defines the time in seconds after which a user should be considered inactive if no activity is detected in the portal. If the value is '0', then the detection is disabled, i.e. the user is never inactive.";
+    }
+
+    public static getInactivityMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): PortalAuthTimeout {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortalAuthTimeout(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortalAuthTimeout> {
+        return ModelStream.decodeArray(source, PortalAuthTimeout.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'autoRefresh': this.autoRefresh,
+            'inactivity': this.inactivity,
+        };
+    }
+
+    public clone(): PortalAuthTimeout {
+        return PortalAuthTimeout.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "autoRefresh", typeof data?.autoRefresh !== "undefined" ? data?.autoRefresh : 300) || changed;
+        changed = ModelAssignment.assignValue(this, "inactivity", typeof data?.inactivity !== "undefined" ? data?.inactivity : 60) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.autoRefresh, other.autoRefresh)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.inactivity, other.inactivity)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.autoRefresh);
+        hash = ModelEquality.hash(hash, this.inactivity);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortalAuthTimeout(";
+        fingerprint += ModelEquality.fingerprint(this.autoRefresh) + ",";
+        fingerprint += ModelEquality.fingerprint(this.inactivity) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
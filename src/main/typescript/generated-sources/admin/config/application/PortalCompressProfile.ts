@@ -0,0 +1,7 @@
+export enum PortalCompressProfile {
+
+    Never = 'never',
+    Recompress = 'recompress',
+    Always = 'always'
+
+}
\ No newline at end of file
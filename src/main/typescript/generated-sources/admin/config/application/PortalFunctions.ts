@@ -0,0 +1,990 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface PortalFunctionsInterface  {
+
+    /**
+    * If disabled, then the \"add watermark\" dialog is deactivated.
+    */
+    addWatermark?: boolean;
+    /**
+    * If disabled, then the \"change document settings\" dialog is deactivated.
+    */
+    changeDocumentSettings?: boolean;
+    /**
+    * If disabled, the \"change document view\" dialog is deactivated.
+    */
+    changeDocumentView?: boolean;
+    /**
+    * If disabled, then the \"compress\" dialog is deactivated.
+    */
+    compress?: boolean;
+    /**
+    * If deactivated, then the \"convert document\" dialog is deactivated.
+    */
+    convertDocument?: boolean;
+    /**
+    * If disabled, then the \"create Barcode\" dialog is deactivated.
+    */
+    createBarcode?: boolean;
+    /**
+    * If disabled, then the \"delete pages\" dialog is deactivated.
+    */
+    deletePages?: boolean;
+    /**
+    * If disabled, then the \"detect Barcode\" dialog is deactivated.
+    */
+    detectBarcode?: boolean;
+    /**
+    * If disabled, then the \"edit annotation\" dialog is deactivated.
+    */
+    editAnnotation?: boolean;
+    /**
+    * If disabled, then the \"edit attachment\" dialog is deactivated.
+    */
+    editAttachment?: boolean;
+    /**
+    * If disabled, then the \"edit background\" dialog is deactivated.
+    */
+    editBackground?: boolean;
+    /**
+    * If disabled, then the \"edit boxes\" dialog is deactivated.
+    */
+    editBoxes?: boolean;
+    /**
+    * If disabled, then the \"edit forms\" dialog is deactivated.
+    */
+    editForms?: boolean;
+    /**
+    * If disabled, then the \"edit header/footer\" dialog is deactivated.
+    */
+    editHeaderFooter?: boolean;
+    /**
+    * If disabled, then the \"edit transitions\" dialog is deactivated.
+    */
+    editTransitions?: boolean;
+    /**
+    * If disabled, then the \"encrypt document\" dialog is deactivated.
+    */
+    encryptDocument?: boolean;
+    /**
+    * If disabled, then the \"export as image\" dialog is deactivated.
+    */
+    exportAsImage?: boolean;
+    /**
+    * If disabled, then the \"extract content\" dialog is deactivated.
+    */
+    extractContent?: boolean;
+    /**
+    * If disabled, then the \"extract pages\" dialog is deactivated.
+    */
+    extractPages?: boolean;
+    /**
+    * If disabled, then the \"merge document\" dialog is deactivated.
+    */
+    mergeDocument?: boolean;
+    /**
+    * If disabled, then the \"move pages\" dialog is deactivated.
+    */
+    movePages?: boolean;
+    /**
+    * If disabled, then the \"OCR conversion\" dialog is deactivated.
+    */
+    ocrConversion?: boolean;
+    /**
+    * If disabled, then the \"edit outline\" dialog is deactivated.
+    */
+    outline?: boolean;
+    /**
+    * If disabled, then the \"PDF/A conversion\" dialog is deactivated.
+    */
+    pdfaConversion?: boolean;
+    /**
+    * If disabled, then the \"portfolio\" dialog is deactivated.
+    */
+    portfolio?: boolean;
+    /**
+    * If disabled, then the \"print document\" dialog is deactivated.
+    */
+    printDocument?: boolean;
+    /**
+    * If disabled, then the \"redact\" dialog is deactivated.
+    */
+    redact?: boolean;
+    /**
+    * If disabled, then the \"rename document\" dialog is deactivated.
+    */
+    renameDocument?: boolean;
+    /**
+    * If disabled, then the \"rotate pages\" dialog is deactivated.
+    */
+    rotatePages?: boolean;
+    /**
+    * If disabled, then the \"sanitize\" dialog is deactivated.
+    */
+    sanitize?: boolean;
+    /**
+    * If disabled, then the \"scale pages\" dialog is deactivated.
+    */
+    scalePages?: boolean;
+    /**
+    * When set to true the portal page shall display help and info messages.
+    */
+    showHelp?: boolean;
+    /**
+    * If disabled, then the \"sign document\" dialog is deactivated.
+    */
+    signDocument?: boolean;
+    /**
+    * If disabled, then the \"split document\" dialog is deactivated.
+    */
+    splitDocument?: boolean;
+    /**
+    * If disabled, then the \"transcribe document\" dialog is deactivated.
+    */
+    transcribeDocument?: boolean;
+    /**
+    * If disabled, then the \"upload file\" dialog is deactivated.
+    */
+    uploadFile?: boolean;
+    /**
+    * If disabled, then the URL to PDF conversion is deactivated.
+    */
+    uploadUrl?: boolean;
+
+}
+export class PortalFunctions implements PortalFunctionsInterface, Parameter {
+    /**
+    * If disabled, then the \"add watermark\" dialog is deactivated.
+    */
+    addWatermark?: boolean;
+    /**
+    * If disabled, then the \"change document settings\" dialog is deactivated.
+    */
+    changeDocumentSettings?: boolean;
+    /**
+    * If disabled, the \"change document view\" dialog is deactivated.
+    */
+    changeDocumentView?: boolean;
+    /**
+    * If disabled, then the \"compress\" dialog is deactivated.
+    */
+    compress?: boolean;
+    /**
+    * If deactivated, then the \"convert document\" dialog is deactivated.
+    */
+    convertDocument?: boolean;
+    /**
+    * If disabled, then the \"create Barcode\" dialog is deactivated.
+    */
+    createBarcode?: boolean;
+    /**
+    * If disabled, then the \"delete pages\" dialog is deactivated.
+    */
+    deletePages?: boolean;
+    /**
+    * If disabled, then the \"detect Barcode\" dialog is deactivated.
+    */
+    detectBarcode?: boolean;
+    /**
+    * If disabled, then the \"edit annotation\" dialog is deactivated.
+    */
+    editAnnotation?: boolean;
+    /**
+    * If disabled, then the \"edit attachment\" dialog is deactivated.
+    */
+    editAttachment?: boolean;
+    /**
+    * If disabled, then the \"edit background\" dialog is deactivated.
+    */
+    editBackground?: boolean;
+    /**
+    * If disabled, then the \"edit boxes\" dialog is deactivated.
+    */
+    editBoxes?: boolean;
+    /**
+    * If disabled, then the \"edit forms\" dialog is deactivated.
+    */
+    editForms?: boolean;
+    /**
+    * If disabled, then the \"edit header/footer\" dialog is deactivated.
+    */
+    editHeaderFooter?: boolean;
+    /**
+    * If disabled, then the \"edit transitions\" dialog is deactivated.
+    */
+    editTransitions?: boolean;
+    /**
+    * If disabled, then the \"encrypt document\" dialog is deactivated.
+    */
+    encryptDocument?: boolean;
+    /**
+    * If disabled, then the \"export as image\" dialog is deactivated.
+    */
+    exportAsImage?: boolean;
+    /**
+    * If disabled, then the \"extract content\" dialog is deactivated.
+    */
+    extractContent?: boolean;
+    /**
+    * If disabled, then the \"extract pages\" dialog is deactivated.
+    */
+    extractPages?: boolean;
+    /**
+    * If disabled, then the \"merge document\" dialog is deactivated.
+    */
+    mergeDocument?: boolean;
+    /**
+    * If disabled, then the \"move pages\" dialog is deactivated.
+    */
+    movePages?: boolean;
+    /**
+    * If disabled, then the \"OCR conversion\" dialog is deactivated.
+    */
+    ocrConversion?: boolean;
+    /**
+    * If disabled, then the \"edit outline\" dialog is deactivated.
+    */
+    outline?: boolean;
+    /**
+    * If disabled, then the \"PDF/A conversion\" dialog is deactivated.
+    */
+    pdfaConversion?: boolean;
+    /**
+    * If disabled, then the \"portfolio\" dialog is deactivated.
+    */
+    portfolio?: boolean;
+    /**
+    * If disabled, then the \"print document\" dialog is deactivated.
+    */
+    printDocument?: boolean;
+    /**
+    * If disabled, then the \"redact\" dialog is deactivated.
+    */
+    redact?: boolean;
+    /**
+    * If disabled, then the \"rename document\" dialog is deactivated.
+    */
+    renameDocument?: boolean;
+    /**
+    * If disabled, then the \"rotate pages\" dialog is deactivated.
+    */
+    rotatePages?: boolean;
+    /**
+    * If disabled, then the \"sanitize\" dialog is deactivated.
+    */
+    sanitize?: boolean;
+    /**
+    * If disabled, then the \"scale pages\" dialog is deactivated.
+    */
+    scalePages?: boolean;
+    /**
+    * When set to true the portal page shall display help and info messages.
+    */
+    showHelp?: boolean;
+    /**
+    * If disabled, then the \"sign document\" dialog is deactivated.
+    */
+    signDocument?: boolean;
+    /**
+    * If disabled, then the \"split document\" dialog is deactivated.
+    */
+    splitDocument?: boolean;
+    /**
+    * If disabled, then the \"transcribe document\" dialog is deactivated.
+    */
+    transcribeDocument?: boolean;
+    /**
+    * If disabled, then the \"upload file\" dialog is deactivated.
+    */
+    uploadFile?: boolean;
+    /**
+    * If disabled, then the URL to PDF conversion is deactivated.
+    */
+    uploadUrl?: boolean;
+
+    constructor(data: any) {
+        let addWatermarkDefault: any = true;
+        this.addWatermark = typeof data?.addWatermark !== "undefined" ? data?.addWatermark : addWatermarkDefault;
+        let changeDocumentSettingsDefault: any = true;
+        this.changeDocumentSettings = typeof data?.changeDocumentSettings !== "undefined" ? data?.changeDocumentSettings : changeDocumentSettingsDefault;
+        let changeDocumentViewDefault: any = true;
+        this.changeDocumentView = typeof data?.changeDocumentView !== "undefined" ? data?.changeDocumentView : changeDocumentViewDefault;
+        let compressDefault: any = true;
+        this.compress = typeof data?.compress !== "undefined" ? data?.compress : compressDefault;
+        let convertDocumentDefault: any = true;
+        this.convertDocument = typeof data?.convertDocument !== "undefined" ? data?.convertDocument : convertDocumentDefault;
+        let createBarcodeDefault: any = true;
+        this.createBarcode = typeof data?.createBarcode !== "undefined" ? data?.createBarcode : createBarcodeDefault;
+        let deletePagesDefault: any = true;
+        this.deletePages = typeof data?.deletePages !== "undefined" ? data?.deletePages : deletePagesDefault;
+        let detectBarcodeDefault: any = true;
+        this.detectBarcode = typeof data?.detectBarcode !== "undefined" ? data?.detectBarcode : detectBarcodeDefault;
+        let editAnnotationDefault: any = true;
+        this.editAnnotation = typeof data?.editAnnotation !== "undefined" ? data?.editAnnotation : editAnnotationDefault;
+        let editAttachmentDefault: any = true;
+        this.editAttachment = typeof data?.editAttachment !== "undefined" ? data?.editAttachment : editAttachmentDefault;
+        let editBackgroundDefault: any = true;
+        this.editBackground = typeof data?.editBackground !== "undefined" ? data?.editBackground : editBackgroundDefault;
+        let editBoxesDefault: any = true;
+        this.editBoxes = typeof data?.editBoxes !== "undefined" ? data?.editBoxes : editBoxesDefault;
+        let editFormsDefault: any = true;
+        this.editForms = typeof data?.editForms !== "undefined" ? data?.editForms : editFormsDefault;
+        let editHeaderFooterDefault: any = true;
+        this.editHeaderFooter = typeof data?.editHeaderFooter !== "undefined" ? data?.editHeaderFooter : editHeaderFooterDefault;
+        let editTransitionsDefault: any = true;
+        this.editTransitions = typeof data?.editTransitions !== "undefined" ? data?.editTransitions : editTransitionsDefault;
+        let encryptDocumentDefault: any = true;
+        this.encryptDocument = typeof data?.encryptDocument !== "undefined" ? data?.encryptDocument : encryptDocumentDefault;
+        let exportAsImageDefault: any = true;
+        this.exportAsImage = typeof data?.exportAsImage !== "undefined" ? data?.exportAsImage : exportAsImageDefault;
+        let extractContentDefault: any = true;
+        this.extractContent = typeof data?.extractContent !== "undefined" ? data?.extractContent : extractContentDefault;
+        let extractPagesDefault: any = true;
+        this.extractPages = typeof data?.extractPages !== "undefined" ? data?.extractPages : extractPagesDefault;
+        let mergeDocumentDefault: any = true;
+        this.mergeDocument = typeof data?.mergeDocument !== "undefined" ? data?.mergeDocument : mergeDocumentDefault;
+        let movePagesDefault: any = true;
+        this.movePages = typeof data?.movePages !== "undefined" ? data?.movePages : movePagesDefault;
+        let ocrConversionDefault: any = true;
+        this.ocrConversion = typeof data?.ocrConversion !== "undefined" ? data?.ocrConversion : ocrConversionDefault;
+        let outlineDefault: any = true;
+        this.outline = typeof data?.outline !== "undefined" ? data?.outline : outlineDefault;
+        let pdfaConversionDefault: any = true;
+        this.pdfaConversion = typeof data?.pdfaConversion !== "undefined" ? data?.pdfaConversion : pdfaConversionDefault;
+        let portfolioDefault: any = true;
+        this.portfolio = typeof data?.portfolio !== "undefined" ? data?.portfolio : portfolioDefault;
+        let printDocumentDefault: any = true;
+        this.printDocument = typeof data?.printDocument !== "undefined" ? data?.printDocument : printDocumentDefault;
+        let redactDefault: any = true;
+        this.redact = typeof data?.redact !== "undefined" ? data?.redact : redactDefault;
+        let renameDocumentDefault: any = true;
+        this.renameDocument = typeof data?.renameDocument !== "undefined" ? data?.renameDocument : renameDocumentDefault;
+        let rotatePagesDefault: any = true;
+        this.rotatePages = typeof data?.rotatePages !== "undefined" ? data?.rotatePages : rotatePagesDefault;
+        let sanitizeDefault: any = true;
+        this.sanitize = typeof data?.sanitize !== "undefined" ? data?.sanitize : sanitizeDefault;
+        let scalePagesDefault: any = true;
+        this.scalePages = typeof data?.scalePages !== "undefined" ? data?.scalePages : scalePagesDefault;
+        let showHelpDefault: any = true;
+        this.showHelp = typeof data?.showHelp !== "undefined" ? data?.showHelp : showHelpDefault;
+        let signDocumentDefault: any = true;
+        this.signDocument = typeof data?.signDocument !== "undefined" ? data?.signDocument : signDocumentDefault;
+        let splitDocumentDefault: any = true;
+        this.splitDocument = typeof data?.splitDocument !== "undefined" ? data?.splitDocument : splitDocumentDefault;
+        let transcribeDocumentDefault: any = true;
+        this.transcribeDocument = typeof data?.transcribeDocument !== "undefined" ? data?.transcribeDocument : transcribeDocumentDefault;
+        let uploadFileDefault: any = true;
+        this.uploadFile = typeof data?.uploadFile !== "undefined" ? data?.uploadFile : uploadFileDefault;
+        let uploadUrlDefault: any = true;
+        this.uploadUrl = typeof data?.uploadUrl !== "undefined" ? data?.uploadUrl : uploadUrlDefault;
+    }
+
+    public static getAddWatermarkDefault(): boolean {
+        return true;
+    }
+
+    public static getAddWatermarkDescription(): string {
+        return "If disabled, then the \"add watermark\" dialog is deactivated.";
+    }
+
+    public static getChangeDocumentSettingsDefault(): boolean {
+        return true;
+    }
+
+    public static getChangeDocumentSettingsDescription(): string {
+        return "If disabled, then the \"change document settings\" dialog is deactivated.";
+    }
+
+    public static getChangeDocumentViewDefault(): boolean {
+        return true;
+    }
+
+    public static getChangeDocumentViewDescription(): string {
+        return "If disabled, the \"change document view\" dialog is deactivated.";
+    }
+
+    public static getCompressDefault(): boolean {
+        return true;
+    }
+
+    public static getCompressDescription(): string {
+        return "If disabled, then the \"compress\" dialog is deactivated.";
+    }
+
+    public static getConvertDocumentDefault(): boolean {
+        return true;
+    }
+
+    public static getConvertDocumentDescription(): string {
+        return "If deactivated, then the \"convert document\" dialog is deactivated.";
+    }
+
+    public static getCreateBarcodeDefault(): boolean {
+        return true;
+    }
+
+    public static getCreateBarcodeDescription(): string {
+        return "If disabled, then the \"create Barcode\" dialog is deactivated.";
+    }
+
+    public static getDeletePagesDefault(): boolean {
+        return true;
+    }
+
+    public static getDeletePagesDescription(): string {
+        return "If disabled, then the \"delete pages\" dialog is deactivated.";
+    }
+
+    public static getDetectBarcodeDefault(): boolean {
+        return true;
+    }
+
+    public static getDetectBarcodeDescription(): string {
+        return "If disabled, then the \"detect Barcode\" dialog is deactivated.";
+    }
+
+    public static getEditAnnotationDefault(): boolean {
+        return true;
+    }
+
+    public static getEditAnnotationDescription(): string {
+        return "If disabled, then the \"edit annotation\" dialog is deactivated.";
+    }
+
+    public static getEditAttachmentDefault(): boolean {
+        return true;
+    }
+
+    public static getEditAttachmentDescription(): string {
+        return "If disabled, then the \"edit attachment\" dialog is deactivated.";
+    }
+
+    public static getEditBackgroundDefault(): boolean {
+        return true;
+    }
+
+    public static getEditBackgroundDescription(): string {
+        return "If disabled, then the \"edit background\" dialog is deactivated.";
+    }
+
+    public static getEditBoxesDefault(): boolean {
+        return true;
+    }
+
+    public static getEditBoxesDescription(): string {
+        return "If disabled, then the \"edit boxes\" dialog is deactivated.";
+    }
+
+    public static getEditFormsDefault(): boolean {
+        return true;
+    }
+
+    public static getEditFormsDescription(): string {
+        return "If disabled, then the \"edit forms\" dialog is deactivated.";
+    }
+
+    public static getEditHeaderFooterDefault(): boolean {
+        return true;
+    }
+
+    public static getEditHeaderFooterDescription(): string {
+        return "If disabled, then the \"edit header\/footer\" dialog is deactivated.";
+    }
+
+    public static getEditTransitionsDefault(): boolean {
+        return true;
+    }
+
+    public static getEditTransitionsDescription(): string {
+        return "If disabled, then the \"edit transitions\" dialog is deactivated.";
+    }
+
+    public static getEncryptDocumentDefault(): boolean {
+        return true;
+    }
+
+    public static getEncryptDocumentDescription(): string {
+        return "If disabled, then the \"encrypt document\" dialog is deactivated.";
+    }
+
+    public static getExportAsImageDefault(): boolean {
+        return true;
+    }
+
+    public static getExportAsImageDescription(): string {
+        return "If disabled, then the \"export as image\" dialog is deactivated.";
+    }
+
+    public static getExtractContentDefault(): boolean {
+        return true;
+    }
+
+    public static getExtractContentDescription(): string {
+        return "If disabled, then the \"extract content\" dialog is deactivated.";
+    }
+
+    public static getExtractPagesDefault(): boolean {
+        return true;
+    }
+
+    public static getExtractPagesDescription(): string {
+        return "If disabled, then the \"extract pages\" dialog is deactivated.";
+    }
+
+    public static getMergeDocumentDefault(): boolean {
+        return true;
+    }
+
+    public static getMergeDocumentDescription(): string {
+        return "If disabled, then the \"merge document\" dialog is deactivated.";
+    }
+
+    public static getMovePagesDefault(): boolean {
+        return true;
+    }
+
+    public static getMovePagesDescription(): string {
+        return "If disabled, then the \"move pages\" dialog is deactivated.";
+    }
+
+    public static getOcrConversionDefault(): boolean {
+        return true;
+    }
+
+    public static getOcrConversionDescription(): string {
+        return "If disabled, then the \"OCR conversion\" dialog is deactivated.";
+    }
+
+    public static getOutlineDefault(): boolean {
+        return true;
+    }
+
+    public static getOutlineDescription(): string {
+        return "If disabled, then the \"edit outline\" dialog is deactivated.";
+    }
+
+    public static getPdfaConversionDefault(): boolean {
+        return true;
+    }
+
+    public static getPdfaConversionDescription(): string {
+        return "If disabled, then the \"PDF\/A conversion\" dialog is deactivated.";
+    }
+
+    public static getPortfolioDefault(): boolean {
+        return true;
+    }
+
+    public static getPortfolioDescription(): string {
+        return "If disabled, then the \"portfolio\" dialog is deactivated.";
+    }
+
+    public static getPrintDocumentDefault(): boolean {
+        return true;
+    }
+
+    public static getPrintDocumentDescription(): string {
+        return "If disabled, then the \"print document\" dialog is deactivated.";
+    }
+
+    public static getRedactDefault(): boolean {
+        return true;
+    }
+
+    public static getRedactDescription(): string {
+        return "If disabled, then the \"redact\" dialog is deactivated.";
+    }
+
+    public static getRenameDocumentDefault(): boolean {
+        return true;
+    }
+
+    public static getRenameDocumentDescription(): string {
+        return "If disabled, then the \"rename document\" dialog is deactivated.";
+    }
+
+    public static getRotatePagesDefault(): boolean {
+        return true;
+    }
+
+    public static getRotatePagesDescription(): string {
+        return "If disabled, then the \"rotate pages\" dialog is deactivated.";
+    }
+
+    public static getSanitizeDefault(): boolean {
+        return true;
+    }
+
+    public static getSanitizeDescription(): string {
+        return "If disabled, then the \"sanitize\" dialog is deactivated.";
+    }
+
+    public static getScalePagesDefault(): boolean {
+        return true;
+    }
+
+    public static getScalePagesDescription(): string {
+        return "If disabled, then the \"scale pages\" dialog is deactivated.";
+    }
+
+    public static getShowHelpDefault(): boolean {
+        return true;
+    }
+
+    public static getShowHelpDescription(): string {
+        return "When set to true the portal page shall display help and info messages.";
+    }
+
+    public static getSignDocumentDefault(): boolean {
+        return true;
+    }
+
+    public static getSignDocumentDescription(): string {
+        return "If disabled, then the \"sign document\" dialog is deactivated.";
+    }
+
+    public static getSplitDocumentDefault(): boolean {
+        return true;
+    }
+
+    public static getSplitDocumentDescription(): string {
+        return "If disabled, then the \"split document\" dialog is deactivated.";
+    }
+
+    public static getTranscribeDocumentDefault(): boolean {
+        return true;
+    }
+
+    public static getTranscribeDocumentDescription(): string {
+        return "If disabled, then the \"transcribe document\" dialog is deactivated.";
+    }
+
+    public static getUploadFileDefault(): boolean {
+        return true;
+    }
+
+    public static getUploadFileDescription(): string {
+        return "If disabled, then the \"upload file\" dialog is deactivated.";
+    }
+
+    public static getUploadUrlDefault(): boolean {
+        return true;
+    }
+
+    public static getUploadUrlDescription(): string {
+        return "If disabled, then the URL to PDF conversion is deactivated.";
+    }
+
+    public static fromJson(data: any): PortalFunctions {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortalFunctions(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortalFunctions> {
+        return ModelStream.decodeArray(source, PortalFunctions.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'addWatermark': this.addWatermark,
+            'changeDocumentSettings': this.changeDocumentSettings,
+            'changeDocumentView': this.changeDocumentView,
+            'compress': this.compress,
+            'convertDocument': this.convertDocument,
+            'createBarcode': this.createBarcode,
+            'deletePages': this.deletePages,
+            'detectBarcode': this.detectBarcode,
+            'editAnnotation': this.editAnnotation,
+            'editAttachment': this.editAttachment,
+            'editBackground': this.editBackground,
+            'editBoxes': this.editBoxes,
+            'editForms': this.editForms,
+            'editHeaderFooter': this.editHeaderFooter,
+            'editTransitions': this.editTransitions,
+            'encryptDocument': this.encryptDocument,
+            'exportAsImage': this.exportAsImage,
+            'extractContent': this.extractContent,
+            'extractPages': this.extractPages,
+            'mergeDocument': this.mergeDocument,
+            'movePages': this.movePages,
+            'ocrConversion': this.ocrConversion,
+            'outline': this.outline,
+            'pdfaConversion': this.pdfaConversion,
+            'portfolio': this.portfolio,
+            'printDocument': this.printDocument,
+            'redact': this.redact,
+            'renameDocument': this.renameDocument,
+            'rotatePages': this.rotatePages,
+            'sanitize': this.sanitize,
+            'scalePages': this.scalePages,
+            'showHelp': this.showHelp,
+            'signDocument': this.signDocument,
+            'splitDocument': this.splitDocument,
+            'transcribeDocument': this.transcribeDocument,
+            'uploadFile': this.uploadFile,
+            'uploadUrl': this.uploadUrl,
+        };
+    }
+
+    public clone(): PortalFunctions {
+        return PortalFunctions.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "addWatermark", typeof data?.addWatermark !== "undefined" ? data?.addWatermark : true) || changed;
+        changed = ModelAssignment.assignValue(this, "changeDocumentSettings", typeof data?.changeDocumentSettings !== "undefined" ? data?.changeDocumentSettings : true) || changed;
+        changed = ModelAssignment.assignValue(this, "changeDocumentView", typeof data?.changeDocumentView !== "undefined" ? data?.changeDocumentView : true) || changed;
+        changed = ModelAssignment.assignValue(this, "compress", typeof data?.compress !== "undefined" ? data?.compress : true) || changed;
+        changed = ModelAssignment.assignValue(this, "convertDocument", typeof data?.convertDocument !== "undefined" ? data?.convertDocument : true) || changed;
+        changed = ModelAssignment.assignValue(this, "createBarcode", typeof data?.createBarcode !== "undefined" ? data?.createBarcode : true) || changed;
+        changed = ModelAssignment.assignValue(this, "deletePages", typeof data?.deletePages !== "undefined" ? data?.deletePages : true) || changed;
+        changed = ModelAssignment.assignValue(this, "detectBarcode", typeof data?.detectBarcode !== "undefined" ? data?.detectBarcode : true) || changed;
+        changed = ModelAssignment.assignValue(this, "editAnnotation", typeof data?.editAnnotation !== "undefined" ? data?.editAnnotation : true) || changed;
+        changed = ModelAssignment.assignValue(this, "editAttachment", typeof data?.editAttachment !== "undefined" ? data?.editAttachment : true) || changed;
+        changed = ModelAssignment.assignValue(this, "editBackground", typeof data?.editBackground !== "undefined" ? data?.editBackground : true) || changed;
+        changed = ModelAssignment.assignValue(this, "editBoxes", typeof data?.editBoxes !== "undefined" ? data?.editBoxes : true) || changed;
+        changed = ModelAssignment.assignValue(this, "editForms", typeof data?.editForms !== "undefined" ? data?.editForms : true) || changed;
+        changed = ModelAssignment.assignValue(this, "editHeaderFooter", typeof data?.editHeaderFooter !== "undefined" ? data?.editHeaderFooter : true) || changed;
+        changed = ModelAssignment.assignValue(this, "editTransitions", typeof data?.editTransitions !== "undefined" ? data?.editTransitions : true) || changed;
+        changed = ModelAssignment.assignValue(this, "encryptDocument", typeof data?.encryptDocument !== "undefined" ? data?.encryptDocument : true) || changed;
+        changed = ModelAssignment.assignValue(this, "exportAsImage", typeof data?.exportAsImage !== "undefined" ? data?.exportAsImage : true) || changed;
+        changed = ModelAssignment.assignValue(this, "extractContent", typeof data?.extractContent !== "undefined" ? data?.extractContent : true) || changed;
+        changed = ModelAssignment.assignValue(this, "extractPages", typeof data?.extractPages !== "undefined" ? data?.extractPages : true) || changed;
+        changed = ModelAssignment.assignValue(this, "mergeDocument", typeof data?.mergeDocument !== "undefined" ? data?.mergeDocument : true) || changed;
+        changed = ModelAssignment.assignValue(this, "movePages", typeof data?.movePages !== "undefined" ? data?.movePages : true) || changed;
+        changed = ModelAssignment.assignValue(this, "ocrConversion", typeof data?.ocrConversion !== "undefined" ? data?.ocrConversion : true) || changed;
+        changed = ModelAssignment.assignValue(this, "outline", typeof data?.outline !== "undefined" ? data?.outline : true) || changed;
+        changed = ModelAssignment.assignValue(this, "pdfaConversion", typeof data?.pdfaConversion !== "undefined" ? data?.pdfaConversion : true) || changed;
+        changed = ModelAssignment.assignValue(this, "portfolio", typeof data?.portfolio !== "undefined" ? data?.portfolio : true) || changed;
+        changed = ModelAssignment.assignValue(this, "printDocument", typeof data?.printDocument !== "undefined" ? data?.printDocument : true) || changed;
+        changed = ModelAssignment.assignValue(this, "redact", typeof data?.redact !== "undefined" ? data?.redact : true) || changed;
+        changed = ModelAssignment.assignValue(this, "renameDocument", typeof data?.renameDocument !== "undefined" ? data?.renameDocument : true) || changed;
+        changed = ModelAssignment.assignValue(this, "rotatePages", typeof data?.rotatePages !== "undefined" ? data?.rotatePages : true) || changed;
+        changed = ModelAssignment.assignValue(this, "sanitize", typeof data?.sanitize !== "undefined" ? data?.sanitize : true) || changed;
+        changed = ModelAssignment.assignValue(this, "scalePages", typeof data?.scalePages !== "undefined" ? data?.scalePages : true) || changed;
+        changed = ModelAssignment.assignValue(this, "showHelp", typeof data?.showHelp !== "undefined" ? data?.showHelp : true) || changed;
+        changed = ModelAssignment.assignValue(this, "signDocument", typeof data?.signDocument !== "undefined" ? data?.signDocument : true) || changed;
+        changed = ModelAssignment.assignValue(this, "splitDocument", typeof data?.splitDocument !== "undefined" ? data?.splitDocument : true) || changed;
+        changed = ModelAssignment.assignValue(this, "transcribeDocument", typeof data?.transcribeDocument !== "undefined" ? data?.transcribeDocument : true) || changed;
+        changed = ModelAssignment.assignValue(this, "uploadFile", typeof data?.uploadFile !== "undefined" ? data?.uploadFile : true) || changed;
+        changed = ModelAssignment.assignValue(this, "uploadUrl", typeof data?.uploadUrl !== "undefined" ? data?.uploadUrl : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.addWatermark, other.addWatermark)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.changeDocumentSettings, other.changeDocumentSettings)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.changeDocumentView, other.changeDocumentView)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compress, other.compress)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.convertDocument, other.convertDocument)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.createBarcode, other.createBarcode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.deletePages, other.deletePages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.detectBarcode, other.detectBarcode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.editAnnotation, other.editAnnotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.editAttachment, other.editAttachment)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.editBackground, other.editBackground)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.editBoxes, other.editBoxes)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.editForms, other.editForms)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.editHeaderFooter, other.editHeaderFooter)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.editTransitions, other.editTransitions)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.encryptDocument, other.encryptDocument)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.exportAsImage, other.exportAsImage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.extractContent, other.extractContent)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.extractPages, other.extractPages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mergeDocument, other.mergeDocument)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.movePages, other.movePages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ocrConversion, other.ocrConversion)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.outline, other.outline)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pdfaConversion, other.pdfaConversion)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.portfolio, other.portfolio)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printDocument, other.printDocument)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.redact, other.redact)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.renameDocument, other.renameDocument)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rotatePages, other.rotatePages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sanitize, other.sanitize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scalePages, other.scalePages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showHelp, other.showHelp)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signDocument, other.signDocument)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.splitDocument, other.splitDocument)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.transcribeDocument, other.transcribeDocument)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.uploadFile, other.uploadFile)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.uploadUrl, other.uploadUrl)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.addWatermark);
+        hash = ModelEquality.hash(hash, this.changeDocumentSettings);
+        hash = ModelEquality.hash(hash, this.changeDocumentView);
+        hash = ModelEquality.hash(hash, this.compress);
+        hash = ModelEquality.hash(hash, this.convertDocument);
+        hash = ModelEquality.hash(hash, this.createBarcode);
+        hash = ModelEquality.hash(hash, this.deletePages);
+        hash = ModelEquality.hash(hash, this.detectBarcode);
+        hash = ModelEquality.hash(hash, this.editAnnotation);
+        hash = ModelEquality.hash(hash, this.editAttachment);
+        hash = ModelEquality.hash(hash, this.editBackground);
+        hash = ModelEquality.hash(hash, this.editBoxes);
+        hash = ModelEquality.hash(hash, this.editForms);
+        hash = ModelEquality.hash(hash, this.editHeaderFooter);
+        hash = ModelEquality.hash(hash, this.editTransitions);
+        hash = ModelEquality.hash(hash, this.encryptDocument);
+        hash = ModelEquality.hash(hash, this.exportAsImage);
+        hash = ModelEquality.hash(hash, this.extractContent);
+        hash = ModelEquality.hash(hash, this.extractPages);
+        hash = ModelEquality.hash(hash, this.mergeDocument);
+        hash = ModelEquality.hash(hash, this.movePages);
+        hash = ModelEquality.hash(hash, this.ocrConversion);
+        hash = ModelEquality.hash(hash, this.outline);
+        hash = ModelEquality.hash(hash, this.pdfaConversion);
+        hash = ModelEquality.hash(hash, this.portfolio);
+        hash = ModelEquality.hash(hash, this.printDocument);
+        hash = ModelEquality.hash(hash, this.redact);
+        hash = ModelEquality.hash(hash, this.renameDocument);
+        hash = ModelEquality.hash(hash, this.rotatePages);
+        hash = ModelEquality.hash(hash, this.sanitize);
+        hash = ModelEquality.hash(hash, this.scalePages);
+        hash = ModelEquality.hash(hash, this.showHelp);
+        hash = ModelEquality.hash(hash, this.signDocument);
+        hash = ModelEquality.hash(hash, this.splitDocument);
+        hash = ModelEquality.hash(hash, this.transcribeDocument);
+        hash = ModelEquality.hash(hash, this.uploadFile);
+        hash = ModelEquality.hash(hash, this.uploadUrl);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortalFunctions(";
+        fingerprint += ModelEquality.fingerprint(this.addWatermark) + ",";
+        fingerprint += ModelEquality.fingerprint(this.changeDocumentSettings) + ",";
+        fingerprint += ModelEquality.fingerprint(this.changeDocumentView) + ",";
+        fingerprint += ModelEquality.fingerprint(this.compress) + ",";
+        fingerprint += ModelEquality.fingerprint(this.convertDocument) + ",";
+        fingerprint += ModelEquality.fingerprint(this.createBarcode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.deletePages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.detectBarcode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.editAnnotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.editAttachment) + ",";
+        fingerprint += ModelEquality.fingerprint(this.editBackground) + ",";
+        fingerprint += ModelEquality.fingerprint(this.editBoxes) + ",";
+        fingerprint += ModelEquality.fingerprint(this.editForms) + ",";
+        fingerprint += ModelEquality.fingerprint(this.editHeaderFooter) + ",";
+        fingerprint += ModelEquality.fingerprint(this.editTransitions) + ",";
+        fingerprint += ModelEquality.fingerprint(this.encryptDocument) + ",";
+        fingerprint += ModelEquality.fingerprint(this.exportAsImage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.extractContent) + ",";
+        fingerprint += ModelEquality.fingerprint(this.extractPages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mergeDocument) + ",";
+        fingerprint += ModelEquality.fingerprint(this.movePages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.ocrConversion) + ",";
+        fingerprint += ModelEquality.fingerprint(this.outline) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pdfaConversion) + ",";
+        fingerprint += ModelEquality.fingerprint(this.portfolio) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printDocument) + ",";
+        fingerprint += ModelEquality.fingerprint(this.redact) + ",";
+        fingerprint += ModelEquality.fingerprint(this.renameDocument) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rotatePages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sanitize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scalePages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showHelp) + ",";
+        fingerprint += ModelEquality.fingerprint(this.signDocument) + ",";
+        fingerprint += ModelEquality.fingerprint(this.splitDocument) + ",";
+        fingerprint += ModelEquality.fingerprint(this.transcribeDocument) + ",";
+        fingerprint += ModelEquality.fingerprint(this.uploadFile) + ",";
+        fingerprint += ModelEquality.fingerprint(this.uploadUrl) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
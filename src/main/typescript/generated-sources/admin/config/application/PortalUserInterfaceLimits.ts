@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface PortalUserInterfaceLimitsInterface  {
+
+    /**
+    * Defines whether the portal page should display the maximum available disk space on the screen.
+    */
+    displayDiskSpace?: boolean;
+    /**
+    * Specifies whether the portal page should display the maximum number of up-loadable files on the screen.
+    */
+    displayMaxFiles?: boolean;
+
+}
+export class PortalUserInterfaceLimits implements PortalUserInterfaceLimitsInterface, Parameter {
+    /**
+    * Defines whether the portal page should display the maximum available disk space on the screen.
+    */
+    displayDiskSpace?: boolean;
+    /**
+    * Specifies whether the portal page should display the maximum number of up-loadable files on the screen.
+    */
+    displayMaxFiles?: boolean;
+
+    constructor(data: any) {
+        let displayDiskSpaceDefault: any = false;
+        this.displayDiskSpace = typeof data?.displayDiskSpace !== "undefined" ? data?.displayDiskSpace : displayDiskSpaceDefault;
+        let displayMaxFilesDefault: any = false;
+        this.displayMaxFiles = typeof data?.displayMaxFiles !== "undefined" ? data?.displayMaxFiles : displayMaxFilesDefault;
+    }
+
+    public static getDisplayDiskSpaceDefault(): boolean {
+        return false;
+    }
+
+    public static getDisplayDiskSpaceDescription(): string {
+        return "Defines whether the portal page should display the maximum available disk space on the screen.";
+    }
+
+    public static getDisplayMaxFilesDefault(): boolean {
+        return false;
+    }
+
+    public static getDisplayMaxFilesDescription(): string {
+        return "Specifies whether the portal page should display the maximum number of up-loadable files on the screen.";
+    }
+
+    public static fromJson(data: any): PortalUserInterfaceLimits {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortalUserInterfaceLimits(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortalUserInterfaceLimits> {
+        return ModelStream.decodeArray(source, PortalUserInterfaceLimits.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'displayDiskSpace': this.displayDiskSpace,
+            'displayMaxFiles': this.displayMaxFiles,
+        };
+    }
+
+    public clone(): PortalUserInterfaceLimits {
+        return PortalUserInterfaceLimits.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "displayDiskSpace", typeof data?.displayDiskSpace !== "undefined" ? data?.displayDiskSpace : false) || changed;
+        changed = ModelAssignment.assignValue(this, "displayMaxFiles", typeof data?.displayMaxFiles !== "undefined" ? data?.displayMaxFiles : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.displayDiskSpace, other.displayDiskSpace)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.displayMaxFiles, other.displayMaxFiles)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.displayDiskSpace);
+        hash = ModelEquality.hash(hash, this.displayMaxFiles);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortalUserInterfaceLimits(";
+        fingerprint += ModelEquality.fingerprint(this.displayDiskSpace) + ",";
+        fingerprint += ModelEquality.fingerprint(this.displayMaxFiles) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface PortalUserInterfaceTooltipsInterface  {
+
+    showDelay?: number;
+
+}
+export class PortalUserInterfaceTooltips implements PortalUserInterfaceTooltipsInterface, Parameter {
+    showDelay?: number;
+
+    constructor(data: any) {
+        let showDelayDefault: any = 5;
+        this.showDelay = typeof data?.showDelay !== "undefined" ? data?.showDelay : showDelayDefault;
+    }
+
+    public static getShowDelayDefault(): number {
+        return 5;
+    }
+
+    public static getShowDelayDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PortalUserInterfaceTooltips {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortalUserInterfaceTooltips(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortalUserInterfaceTooltips> {
+        return ModelStream.decodeArray(source, PortalUserInterfaceTooltips.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'showDelay': this.showDelay,
+        };
+    }
+
+    public clone(): PortalUserInterfaceTooltips {
+        return PortalUserInterfaceTooltips.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "showDelay", typeof data?.showDelay !== "undefined" ? data?.showDelay : 5) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showDelay, other.showDelay)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.showDelay);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortalUserInterfaceTooltips(";
+        fingerprint += ModelEquality.fingerprint(this.showDelay) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
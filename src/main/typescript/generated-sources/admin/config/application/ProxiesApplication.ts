@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ApplicationConfigProxy,
+} from "./../../../index";
+
+export interface ProxiesApplicationInterface  {
+
+    proxy?: Array<ApplicationConfigProxy>;
+
+}
+export class ProxiesApplication implements ProxiesApplicationInterface, Parameter {
+    proxy?: Array<ApplicationConfigProxy>;
+
+    constructor(data: any) {
+        this.proxy = (data?.proxy || []).map(
+            ApplicationConfigProxy.fromJson
+        );
+    }
+
+    public static getProxyDefault(): Array<ApplicationConfigProxy> {
+        return [];
+    }
+
+    public static getProxyDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ProxiesApplication {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ProxiesApplication(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ProxiesApplication> {
+        return ModelStream.decodeArray(source, ProxiesApplication.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'proxy': this.proxy?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): ProxiesApplication {
+        return ProxiesApplication.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "proxy", data?.proxy, ApplicationConfigProxy.fromJson, ApplicationConfigProxy) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.proxy, other.proxy)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.proxy);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ProxiesApplication(";
+        fingerprint += ModelEquality.fingerprint(this.proxy) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
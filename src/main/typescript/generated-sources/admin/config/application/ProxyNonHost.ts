@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface ProxyNonHostInterface  {
+
+    /**
+    * This setting is currently unused.
+    */
+    host?: string;
+
+}
+export class ProxyNonHost implements ProxyNonHostInterface, Parameter {
+    /**
+    * This setting is currently unused.
+    */
+    host?: string;
+
+    constructor(data: any) {
+        let hostDefault: any = "";
+        this.host = typeof data?.host !== "undefined" ? data?.host : hostDefault;
+    }
+
+    public static getHostDefault(): string {
+        return "";
+    }
+
+    public static getHostDescription(): string {
+        return "This setting is currently unused.";
+    }
+
+    public static fromJson(data: any): ProxyNonHost {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ProxyNonHost(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ProxyNonHost> {
+        return ModelStream.decodeArray(source, ProxyNonHost.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'host': this.host,
+        };
+    }
+
+    public clone(): ProxyNonHost {
+        return ProxyNonHost.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "host", typeof data?.host !== "undefined" ? data?.host : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.host, other.host)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.host);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ProxyNonHost(";
+        fingerprint += ModelEquality.fingerprint(this.host) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
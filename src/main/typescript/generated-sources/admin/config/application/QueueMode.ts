@@ -0,0 +1,6 @@
+export enum QueueMode {
+
+    AUTO = 'AUTO',
+    MANUAL = 'MANUAL'
+
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface SharePointBridgeAppInterface  {
+
+    /**
+    * The ID of the application that was assigned during creation
+    */
+    applicationId?: string;
+    /**
+    * The secret that was generated for the application
+    */
+    clientSecret?: string;
+    /**
+    * The id of the tenant to which the application belongs
+    */
+    tenantId?: string;
+
+}
+export class SharePointBridgeApp implements SharePointBridgeAppInterface, Parameter {
+    /**
+    * The ID of the application that was assigned during creation
+    */
+    applicationId?: string;
+    /**
+    * The secret that was generated for the application
+    */
+    clientSecret?: string;
+    /**
+    * The id of the tenant to which the application belongs
+    */
+    tenantId?: string;
+
+    constructor(data: any) {
+        let applicationIdDefault: any = "";
+        this.applicationId = typeof data?.applicationId !== "undefined" ? data?.applicationId : applicationIdDefault;
+        let clientSecretDefault: any = "";
+        this.clientSecret = typeof data?.clientSecret !== "undefined" ? data?.clientSecret : clientSecretDefault;
+        let tenantIdDefault: any = "";
+        this.tenantId = typeof data?.tenantId !== "undefined" ? data?.tenantId : tenantIdDefault;
+    }
+
+    public static getApplicationIdDefault(): string {
+        return "";
+    }
+
+    public static getApplicationIdDescription(): string {
+        return "The ID of the application that was assigned during creation";
+    }
+
+    public static getClientSecretDefault(): string {
+        return "";
+    }
+
+    public static getClientSecretDescription(): string {
+        return "The secret that was generated for the application";
+    }
+
+    public static getTenantIdDefault(): string {
+        return "";
+    }
+
+    public static getTenantIdDescription(): string {
+        return "The id of the tenant to which the application belongs";
+    }
+
+    public static fromJson(data: any): SharePointBridgeApp {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SharePointBridgeApp(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SharePointBridgeApp> {
+        return ModelStream.decodeArray(source, SharePointBridgeApp.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'applicationId': this.applicationId,
+            'clientSecret': this.clientSecret,
+            'tenantId': this.tenantId,
+        };
+    }
+
+    public clone(): SharePointBridgeApp {
+        return SharePointBridgeApp.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "applicationId", typeof data?.applicationId !== "undefined" ? data?.applicationId : "") || changed;
+        changed = ModelAssignment.assignValue(this, "clientSecret", typeof data?.clientSecret !== "undefined" ? data?.clientSecret : "") || changed;
+        changed = ModelAssignment.assignValue(this, "tenantId", typeof data?.tenantId !== "undefined" ? data?.tenantId : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.applicationId, other.applicationId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.clientSecret, other.clientSecret)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.tenantId, other.tenantId)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.applicationId);
+        hash = ModelEquality.hash(hash, this.clientSecret);
+        hash = ModelEquality.hash(hash, this.tenantId);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SharePointBridgeApp(";
+        fingerprint += ModelEquality.fingerprint(this.applicationId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.clientSecret) + ",";
+        fingerprint += ModelEquality.fingerprint(this.tenantId) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
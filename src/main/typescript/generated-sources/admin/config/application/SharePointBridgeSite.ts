@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface SharePointBridgeSiteInterface  {
+
+    /**
+    * The name of the site to be used for converting the documents
+    */
+    siteName?: string;
+
+}
+export class SharePointBridgeSite implements SharePointBridgeSiteInterface, Parameter {
+    /**
+    * The name of the site to be used for converting the documents
+    */
+    siteName?: string;
+
+    constructor(data: any) {
+        let siteNameDefault: any = "";
+        this.siteName = typeof data?.siteName !== "undefined" ? data?.siteName : siteNameDefault;
+    }
+
+    public static getSiteNameDefault(): string {
+        return "";
+    }
+
+    public static getSiteNameDescription(): string {
+        return "The name of the site to be used for converting the documents";
+    }
+
+    public static fromJson(data: any): SharePointBridgeSite {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SharePointBridgeSite(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SharePointBridgeSite> {
+        return ModelStream.decodeArray(source, SharePointBridgeSite.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'siteName': this.siteName,
+        };
+    }
+
+    public clone(): SharePointBridgeSite {
+        return SharePointBridgeSite.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "siteName", typeof data?.siteName !== "undefined" ? data?.siteName : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.siteName, other.siteName)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.siteName);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SharePointBridgeSite(";
+        fingerprint += ModelEquality.fingerprint(this.siteName) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+import {
+    ModelAssignment,
+    PortalSignatureEditProfile,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface SignaturePortalSettingsInterface  {
+
+    /**
+    * Defines the profile whose rules web services have to check before they can come to execution. These profiles define a set of rules concerning the validity of signatures. A web service whose execution for a given signed document would violate the rule set selected here should instead abort with an appropriate error code.  *   adobeRestrictions = Only those changes are allowed that are enabled by the included signatures. This follows the specifications given by Adobe. *   generalEditRestrictions = All changes to signed documents are prohibited, even those that might be allowed according to the included signatures. *   noEditRestrictions = Editing of signed documents is not restricted and all changes are allowed. (By doing this, you accept the possible invalidation of included signatures.)  **Important:** You can find further explanations of these profiles in the chapter \"Signature Validation\".
+    */
+    signatureEditProfile?: PortalSignatureEditProfile;
+
+}
+export class SignaturePortalSettings implements SignaturePortalSettingsInterface, Parameter {
+    /**
+    * Defines the profile whose rules web services have to check before they can come to execution. These profiles define a set of rules concerning the validity of signatures. A web service whose execution for a given signed document would violate the rule set selected here should instead abort with an appropriate error code.  *   adobeRestrictions = Only those changes are allowed that are enabled by the included signatures. This follows the specifications given by Adobe. *   generalEditRestrictions = All changes to signed documents are prohibited, even those that might be allowed according to the included signatures. *   noEditRestrictions = Editing of signed documents is not restricted and all changes are allowed. (By doing this, you accept the possible invalidation of included signatures.)  **Important:** You can find further explanations of these profiles in the chapter \"Signature Validation\".
+    */
+    signatureEditProfile?: PortalSignatureEditProfile;
+
+    constructor(data: any) {
+        let signatureEditProfileDefault: any = "adobeRestrictions";
+        this.signatureEditProfile = typeof data?.signatureEditProfile !== "undefined" ? data?.signatureEditProfile : signatureEditProfileDefault;
+    }
+
+    public static getSignatureEditProfileDefault(): PortalSignatureEditProfile {
+        return "adobeRestrictions" as PortalSignatureEditProfile;
+    }
+
+    public static getSignatureEditProfileDescription(): string {
+        return "Defines the profile whose rules web services have to check before they can come to execution. These profiles define a set of rules concerning the validity of signatures. A web service whose execution for a given signed document would violate the rule set selected here should instead abort with an appropriate error code.\n\n*   adobeRestrictions = Only those changes are allowed that are enabled by the included signatures. This follows the specifications given by Adobe.\n*   generalEditRestrictions = All changes to signed documents are prohibited, even those that might be allowed according to the included signatures.\n*   noEditRestrictions = Editing of signed documents is not restricted and all changes are allowed. (By doing this, you accept the possible invalidation of included signatures.)\n\n**Important:** You can find further explanations of these profiles in the chapter \"Signature Validation\".";
+    }
+
+    public static fromJson(data: any): SignaturePortalSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SignaturePortalSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SignaturePortalSettings> {
+        return ModelStream.decodeArray(source, SignaturePortalSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'signatureEditProfile': this.signatureEditProfile,
+        };
+    }
+
+    public clone(): SignaturePortalSettings {
+        return SignaturePortalSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "signatureEditProfile", typeof data?.signatureEditProfile !== "undefined" ? data?.signatureEditProfile : "adobeRestrictions") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signatureEditProfile, other.signatureEditProfile)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.signatureEditProfile);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SignaturePortalSettings(";
+        fingerprint += ModelEquality.fingerprint(this.signatureEditProfile) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
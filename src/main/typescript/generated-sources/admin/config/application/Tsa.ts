@@ -0,0 +1,166 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    TsaHashAlgorithm,
+    ModelEquality,
+} from "./../../../index";
+
+export interface TsaInterface  {
+
+    /**
+    * The hashing algorithm used to check the validity of the timestamp.
+    */
+    hashAlgorithm?: TsaHashAlgorithm;
+    /**
+    * The password required for authentication with the TSA.
+    */
+    password?: string;
+    /**
+    * The URL where the TSA can be reached.
+    */
+    url?: string;
+    /**
+    * The username required for authentication with the TSA.
+    */
+    user?: string;
+
+}
+export class Tsa implements TsaInterface, Parameter {
+    /**
+    * The hashing algorithm used to check the validity of the timestamp.
+    */
+    hashAlgorithm?: TsaHashAlgorithm;
+    /**
+    * The password required for authentication with the TSA.
+    */
+    password?: string;
+    /**
+    * The URL where the TSA can be reached.
+    */
+    url?: string;
+    /**
+    * The username required for authentication with the TSA.
+    */
+    user?: string;
+
+    constructor(data: any) {
+        let hashAlgorithmDefault: any = "SHA-1";
+        this.hashAlgorithm = typeof data?.hashAlgorithm !== "undefined" ? data?.hashAlgorithm : hashAlgorithmDefault;
+        let passwordDefault: any = "";
+        this.password = typeof data?.password !== "undefined" ? data?.password : passwordDefault;
+        let urlDefault: any = "";
+        this.url = typeof data?.url !== "undefined" ? data?.url : urlDefault;
+        let userDefault: any = "";
+        this.user = typeof data?.user !== "undefined" ? data?.user : userDefault;
+    }
+
+    public static getHashAlgorithmDefault(): TsaHashAlgorithm {
+        return "SHA-1" as TsaHashAlgorithm;
+    }
+
+    public static getHashAlgorithmDescription(): string {
+        return "The hashing algorithm used to check the validity of the timestamp.";
+    }
+
+    public static getPasswordDefault(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "The password required for authentication with the TSA.";
+    }
+
+    public static getUrlDefault(): string {
+        return "";
+    }
+
+    public static getUrlDescription(): string {
+        return "The URL where the TSA can be reached.";
+    }
+
+    public static getUserDefault(): string {
+        return "";
+    }
+
+    public static getUserDescription(): string {
+        return "The username required for authentication with the TSA.";
+    }
+
+    public static fromJson(data: any): Tsa {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Tsa(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Tsa> {
+        return ModelStream.decodeArray(source, Tsa.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'hashAlgorithm': this.hashAlgorithm,
+            'password': this.password,
+            'url': this.url,
+            'user': this.user,
+        };
+    }
+
+    public clone(): Tsa {
+        return Tsa.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "hashAlgorithm", typeof data?.hashAlgorithm !== "undefined" ? data?.hashAlgorithm : "SHA-1") || changed;
+        changed = ModelAssignment.assignValue(this, "password", typeof data?.password !== "undefined" ? data?.password : "") || changed;
+        changed = ModelAssignment.assignValue(this, "url", typeof data?.url !== "undefined" ? data?.url : "") || changed;
+        changed = ModelAssignment.assignValue(this, "user", typeof data?.user !== "undefined" ? data?.user : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hashAlgorithm, other.hashAlgorithm)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.url, other.url)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.user, other.user)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.hashAlgorithm);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.url);
+        hash = ModelEquality.hash(hash, this.user);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Tsa(";
+        fingerprint += ModelEquality.fingerprint(this.hashAlgorithm) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.url) + ",";
+        fingerprint += ModelEquality.fingerprint(this.user) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
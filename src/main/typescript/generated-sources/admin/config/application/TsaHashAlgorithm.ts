@@ -0,0 +1,10 @@
+export enum TsaHashAlgorithm {
+
+    SHA256 = 'SHA-256',
+    SHA1 = 'SHA-1',
+    SHA384 = 'SHA-384',
+    SHA512 = 'SHA-512',
+    MD5 = 'MD5',
+    SHA224 = 'SHA-224'
+
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+import {
+    ModelAssignment,
+    BarcodeWebservice,
+    ModelStream,
+    UrlConverterWebservice,
+    Parameter,
+    PdfaWebservice,
+    SignatureWebservice,
+    OcrWebservice,
+    ToolboxWebservice,
+    ModelEquality,
+    ConverterWebservice,
+} from "./../../../index";
+
+export interface WebservicesApplicationInterface  {
+
+    barcode?: BarcodeWebservice;
+    converter?: ConverterWebservice;
+    ocr?: OcrWebservice;
+    pdfa?: PdfaWebservice;
+    signature?: SignatureWebservice;
+    toolbox?: ToolboxWebservice;
+    urlconverter?: UrlConverterWebservice;
+
+}
+export class WebservicesApplication implements WebservicesApplicationInterface, Parameter {
+    barcode?: BarcodeWebservice;
+    converter?: ConverterWebservice;
+    ocr?: OcrWebservice;
+    pdfa?: PdfaWebservice;
+    signature?: SignatureWebservice;
+    toolbox?: ToolboxWebservice;
+    urlconverter?: UrlConverterWebservice;
+
+    constructor(data: any) {
+        this.barcode = BarcodeWebservice.fromJson(data?.barcode);
+        this.converter = ConverterWebservice.fromJson(data?.converter);
+        this.ocr = OcrWebservice.fromJson(data?.ocr);
+        this.pdfa = PdfaWebservice.fromJson(data?.pdfa);
+        this.signature = SignatureWebservice.fromJson(data?.signature);
+        this.toolbox = ToolboxWebservice.fromJson(data?.toolbox);
+        this.urlconverter = UrlConverterWebservice.fromJson(data?.urlconverter);
+    }
+
+    public static getBarcodeDescription(): string {
+        return "";
+    }
+
+    public static getConverterDescription(): string {
+        return "";
+    }
+
+    public static getOcrDescription(): string {
+        return "";
+    }
+
+    public static getPdfaDescription(): string {
+        return "";
+    }
+
+    public static getSignatureDescription(): string {
+        return "";
+    }
+
+    public static getToolboxDescription(): string {
+        return "";
+    }
+
+    public static getUrlconverterDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): WebservicesApplication {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WebservicesApplication(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WebservicesApplication> {
+        return ModelStream.decodeArray(source, WebservicesApplication.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'barcode': this.barcode?.toJson(),
+            'converter': this.converter?.toJson(),
+            'ocr': this.ocr?.toJson(),
+            'pdfa': this.pdfa?.toJson(),
+            'signature': this.signature?.toJson(),
+            'toolbox': this.toolbox?.toJson(),
+            'urlconverter': this.urlconverter?.toJson(),
+        };
+    }
+
+    public clone(): WebservicesApplication {
+        return WebservicesApplication.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "barcode", data?.barcode, BarcodeWebservice.fromJson, BarcodeWebservice) || changed;
+        changed = ModelAssignment.assignModel(this, "converter", data?.converter, ConverterWebservice.fromJson, ConverterWebservice) || changed;
+        changed = ModelAssignment.assignModel(this, "ocr", data?.ocr, OcrWebservice.fromJson, OcrWebservice) || changed;
+        changed = ModelAssignment.assignModel(this, "pdfa", data?.pdfa, PdfaWebservice.fromJson, PdfaWebservice) || changed;
+        changed = ModelAssignment.assignModel(this, "signature", data?.signature, SignatureWebservice.fromJson, SignatureWebservice) || changed;
+        changed = ModelAssignment.assignModel(this, "toolbox", data?.toolbox, ToolboxWebservice.fromJson, ToolboxWebservice) || changed;
+        changed = ModelAssignment.assignModel(this, "urlconverter", data?.urlconverter, UrlConverterWebservice.fromJson, UrlConverterWebservice) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.barcode, other.barcode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.converter, other.converter)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ocr, other.ocr)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pdfa, other.pdfa)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signature, other.signature)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.toolbox, other.toolbox)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.urlconverter, other.urlconverter)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.barcode);
+        hash = ModelEquality.hash(hash, this.converter);
+        hash = ModelEquality.hash(hash, this.ocr);
+        hash = ModelEquality.hash(hash, this.pdfa);
+        hash = ModelEquality.hash(hash, this.signature);
+        hash = ModelEquality.hash(hash, this.toolbox);
+        hash = ModelEquality.hash(hash, this.urlconverter);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WebservicesApplication(";
+        fingerprint += ModelEquality.fingerprint(this.barcode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.converter) + ",";
+        fingerprint += ModelEquality.fingerprint(this.ocr) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pdfa) + ",";
+        fingerprint += ModelEquality.fingerprint(this.signature) + ",";
+        fingerprint += ModelEquality.fingerprint(this.toolbox) + ",";
+        fingerprint += ModelEquality.fingerprint(this.urlconverter) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,215 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface AprInterface  {
+
+    /**
+    * When set to true, the APR Lifecycle Listener shall be activated.
+    */
+    enabled?: boolean;
+    /**
+    * Set this to \"on\" to request SSL to operate in FIPS (Federal Information Processing Standards) mode.  *   \"enter\" to force OpenSSL to enter FIPS mode. *   \"require\" to require that OpenSSL already operates in FIPS mode. *   \"off\" to disable the FIPS mode.  For this to take effect \"useOpenSSL\" must be set to true. (It is highly recommended to refer to https://tomcat.apache.org/tomcat-10.0-doc/config/listeners.html)
+    */
+    fipsMode?: string;
+    /**
+    * Selects the [SSL](https://www.openssl.org/) engine to use, possible values are \"off\" (do not use SSL) \"on\" (use SSL without specifying the engine).
+    */
+    sslEngine?: string;
+    /**
+    * An entropy source to seed the SSL engine's random number generation with. To allow for quicker start time, set this to \"/dev/urandom\".
+    */
+    sslRandomSeed?: string;
+    /**
+    * This field currently is unused.
+    */
+    useAprConnector?: boolean;
+    /**
+    * When set to true this activates the usage of OpenSSL for NIO and NIO2 connectors.
+    */
+    useOpenSSL?: boolean;
+
+}
+export class Apr implements AprInterface, Parameter {
+    /**
+    * When set to true, the APR Lifecycle Listener shall be activated.
+    */
+    enabled?: boolean;
+    /**
+    * Set this to \"on\" to request SSL to operate in FIPS (Federal Information Processing Standards) mode.  *   \"enter\" to force OpenSSL to enter FIPS mode. *   \"require\" to require that OpenSSL already operates in FIPS mode. *   \"off\" to disable the FIPS mode.  For this to take effect \"useOpenSSL\" must be set to true. (It is highly recommended to refer to https://tomcat.apache.org/tomcat-10.0-doc/config/listeners.html)
+    */
+    fipsMode?: string;
+    /**
+    * Selects the [SSL](https://www.openssl.org/) engine to use, possible values are \"off\" (do not use SSL) \"on\" (use SSL without specifying the engine).
+    */
+    sslEngine?: string;
+    /**
+    * An entropy source to seed the SSL engine's random number generation with. To allow for quicker start time, set this to \"/dev/urandom\".
+    */
+    sslRandomSeed?: string;
+    /**
+    * This field currently is unused.
+    */
+    useAprConnector?: boolean;
+    /**
+    * When set to true this activates the usage of OpenSSL for NIO and NIO2 connectors.
+    */
+    useOpenSSL?: boolean;
+
+    constructor(data: any) {
+        let enabledDefault: any = false;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        let fipsModeDefault: any = "off";
+        this.fipsMode = typeof data?.fipsMode !== "undefined" ? data?.fipsMode : fipsModeDefault;
+        let sslEngineDefault: any = "on";
+        this.sslEngine = typeof data?.sslEngine !== "undefined" ? data?.sslEngine : sslEngineDefault;
+        let sslRandomSeedDefault: any = "builtin";
+        this.sslRandomSeed = typeof data?.sslRandomSeed !== "undefined" ? data?.sslRandomSeed : sslRandomSeedDefault;
+        let useAprConnectorDefault: any = false;
+        this.useAprConnector = typeof data?.useAprConnector !== "undefined" ? data?.useAprConnector : useAprConnectorDefault;
+        let useOpenSSLDefault: any = true;
+        this.useOpenSSL = typeof data?.useOpenSSL !== "undefined" ? data?.useOpenSSL : useOpenSSLDefault;
+    }
+
+    public static getEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getEnabledDescription(): string {
+        return "When set to true, the APR Lifecycle Listener shall be activated.";
+    }
+
+    public static getFipsModeDefault(): string {
+        return "off";
+    }
+
+    public static getFipsModeDescription(): string {
+        return "Set this to \"on\" to request SSL to operate in FIPS (Federal Information Processing Standards) mode.\n\n*   \"enter\" to force OpenSSL to enter FIPS mode.\n*   \"require\" to require that OpenSSL already operates in FIPS mode.\n*   \"off\" to disable the FIPS mode.\n\nFor this to take effect \"useOpenSSL\" must be set to true. (It is highly recommended to refer to https:\/\/tomcat.apache.org\/tomcat-10.0-doc\/config\/listeners.html)";
+    }
+
+    public static getSslEngineDefault(): string {
+        return "on";
+    }
+
+    public static getSslEngineDescription(): string {
+        return "Selects the [SSL](https:\/\/www.openssl.org\/) engine to use, possible values are \"off\" (do not use SSL) \"on\" (use SSL without specifying the engine).";
+    }
+
+    public static getSslRandomSeedDefault(): string {
+        return "builtin";
+    }
+
+    public static getSslRandomSeedDescription(): string {
+        return "An entropy source to seed the SSL engine's random number generation with. To allow for quicker start time, set this to \"\/dev\/urandom\".";
+    }
+
+    public static getUseAprConnectorDefault(): boolean {
+        return false;
+    }
+
+    public static getUseAprConnectorDescription(): string {
+        return "This field currently is unused.";
+    }
+
+    public static getUseOpenSSLDefault(): boolean {
+        return true;
+    }
+
+    public static getUseOpenSSLDescription(): string {
+        return "When set to true this activates the usage of OpenSSL for NIO and NIO2 connectors.";
+    }
+
+    public static fromJson(data: any): Apr {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Apr(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Apr> {
+        return ModelStream.decodeArray(source, Apr.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'enabled': this.enabled,
+            'fipsMode': this.fipsMode,
+            'sslEngine': this.sslEngine,
+            'sslRandomSeed': this.sslRandomSeed,
+            'useAprConnector': this.useAprConnector,
+            'useOpenSSL': this.useOpenSSL,
+        };
+    }
+
+    public clone(): Apr {
+        return Apr.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : false) || changed;
+        changed = ModelAssignment.assignValue(this, "fipsMode", typeof data?.fipsMode !== "undefined" ? data?.fipsMode : "off") || changed;
+        changed = ModelAssignment.assignValue(this, "sslEngine", typeof data?.sslEngine !== "undefined" ? data?.sslEngine : "on") || changed;
+        changed = ModelAssignment.assignValue(this, "sslRandomSeed", typeof data?.sslRandomSeed !== "undefined" ? data?.sslRandomSeed : "builtin") || changed;
+        changed = ModelAssignment.assignValue(this, "useAprConnector", typeof data?.useAprConnector !== "undefined" ? data?.useAprConnector : false) || changed;
+        changed = ModelAssignment.assignValue(this, "useOpenSSL", typeof data?.useOpenSSL !== "undefined" ? data?.useOpenSSL : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fipsMode, other.fipsMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sslEngine, other.sslEngine)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sslRandomSeed, other.sslRandomSeed)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.useAprConnector, other.useAprConnector)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.useOpenSSL, other.useOpenSSL)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.fipsMode);
+        hash = ModelEquality.hash(hash, this.sslEngine);
+        hash = ModelEquality.hash(hash, this.sslRandomSeed);
+        hash = ModelEquality.hash(hash, this.useAprConnector);
+        hash = ModelEquality.hash(hash, this.useOpenSSL);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Apr(";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fipsMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sslEngine) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sslRandomSeed) + ",";
+        fingerprint += ModelEquality.fingerprint(this.useAprConnector) + ",";
+        fingerprint += ModelEquality.fingerprint(this.useOpenSSL) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
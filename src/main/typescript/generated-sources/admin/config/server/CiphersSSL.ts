@@ -0,0 +1,109 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface CiphersSSLInterface  {
+
+    cipher?: Array<string>;
+    /**
+    * When set to true, this forces the client to honor the TLS connector's cipher preference order. Otherwise, the client can select any cipher from the list itself.
+    */
+    forceOrder?: boolean;
+
+}
+export class CiphersSSL implements CiphersSSLInterface, Parameter {
+    cipher?: Array<string>;
+    /**
+    * When set to true, this forces the client to honor the TLS connector's cipher preference order. Otherwise, the client can select any cipher from the list itself.
+    */
+    forceOrder?: boolean;
+
+    constructor(data: any) {
+        let cipherDefault: any = [];
+        this.cipher = typeof data?.cipher !== "undefined" ? data?.cipher : cipherDefault;
+        let forceOrderDefault: any = false;
+        this.forceOrder = typeof data?.forceOrder !== "undefined" ? data?.forceOrder : forceOrderDefault;
+    }
+
+    public static getCipherDefault(): Array<string> {
+        return [];
+    }
+
+    public static getCipherDescription(): string {
+        return "";
+    }
+
+    public static getForceOrderDefault(): boolean {
+        return false;
+    }
+
+    public static getForceOrderDescription(): string {
+        return "When set to true, this forces the client to honor the TLS connector's cipher preference order. Otherwise, the client can select any cipher from the list itself.";
+    }
+
+    public static fromJson(data: any): CiphersSSL {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new CiphersSSL(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<CiphersSSL> {
+        return ModelStream.decodeArray(source, CiphersSSL.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'cipher': this.cipher,
+            'forceOrder': this.forceOrder,
+        };
+    }
+
+    public clone(): CiphersSSL {
+        return CiphersSSL.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "cipher", typeof data?.cipher !== "undefined" ? data?.cipher : []) || changed;
+        changed = ModelAssignment.assignValue(this, "forceOrder", typeof data?.forceOrder !== "undefined" ? data?.forceOrder : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.cipher, other.cipher)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.forceOrder, other.forceOrder)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.cipher);
+        hash = ModelEquality.hash(hash, this.forceOrder);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "CiphersSSL(";
+        fingerprint += ModelEquality.fingerprint(this.cipher) + ",";
+        fingerprint += ModelEquality.fingerprint(this.forceOrder) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
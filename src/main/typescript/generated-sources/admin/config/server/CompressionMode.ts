@@ -0,0 +1,7 @@
+export enum CompressionMode {
+
+    Force = 'force',
+    Off = 'off',
+    On = 'on'
+
+}
\ No newline at end of file
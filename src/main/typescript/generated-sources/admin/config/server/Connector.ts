@@ -0,0 +1,291 @@
+import {
+    ModelAssignment,
+    ConnectorProtocol,
+    CompressionMode,
+    ServerConfigProxy,
+    ModelStream,
+    Parameter,
+    ConnectorConfiguration,
+    ModelEquality,
+    SSL,
+} from "./../../../index";
+
+export interface ConnectorInterface  {
+
+    /**
+    * The IP address to which the connector should bind. If not defined, all IP addresses are used.
+    */
+    address?: string;
+    /**
+    * Selects the MIME Types of message contents, that may be compressed via GZIP compression.
+    */
+    compressibleMimeType?: string;
+    /**
+    * Specifies whether to apply GZIP compression to the message to save bandwidth.  *   off = disable compression. *   on = allow compression, which causes text data to be compressed. *   force = forces compression in all cases.
+    */
+    compression?: CompressionMode;
+    /**
+    * Sets the minimum number of bytes a message must reach before GZIP compression shall be applied.
+    */
+    compressionMinSize?: number;
+    configuration?: ConnectorConfiguration;
+    /**
+    * When set to true this connector is active and may be used to connect to the server.
+    */
+    enabled?: boolean;
+    /**
+    * The port the connector is listening to.
+    */
+    port?: number;
+    /**
+    * The protocol to use for the connector.  *   HTTP/1.1 = Non blocking java NIO connector. *   HTTP/2.0 = Non blocking java NIO2 connector. *   AJP/1.3 = The APR/native connector.
+    */
+    protocol?: ConnectorProtocol;
+    proxy?: ServerConfigProxy;
+    ssl?: SSL;
+
+}
+export class Connector implements ConnectorInterface, Parameter {
+    /**
+    * The IP address to which the connector should bind. If not defined, all IP addresses are used.
+    */
+    address?: string;
+    /**
+    * Selects the MIME Types of message contents, that may be compressed via GZIP compression.
+    */
+    compressibleMimeType?: string;
+    /**
+    * Specifies whether to apply GZIP compression to the message to save bandwidth.  *   off = disable compression. *   on = allow compression, which causes text data to be compressed. *   force = forces compression in all cases.
+    */
+    compression?: CompressionMode;
+    /**
+    * Sets the minimum number of bytes a message must reach before GZIP compression shall be applied.
+    */
+    compressionMinSize?: number;
+    configuration?: ConnectorConfiguration;
+    /**
+    * When set to true this connector is active and may be used to connect to the server.
+    */
+    enabled?: boolean;
+    /**
+    * The port the connector is listening to.
+    */
+    port?: number;
+    /**
+    * The protocol to use for the connector.  *   HTTP/1.1 = Non blocking java NIO connector. *   HTTP/2.0 = Non blocking java NIO2 connector. *   AJP/1.3 = The APR/native connector.
+    */
+    protocol?: ConnectorProtocol;
+    proxy?: ServerConfigProxy;
+    ssl?: SSL;
+
+    constructor(data: any) {
+        let addressDefault: any = "";
+        this.address = typeof data?.address !== "undefined" ? data?.address : addressDefault;
+        let compressibleMimeTypeDefault: any = "text/html,text/xml,text/css,application/json,application/javascript";
+        this.compressibleMimeType = typeof data?.compressibleMimeType !== "undefined" ? data?.compressibleMimeType : compressibleMimeTypeDefault;
+        let compressionDefault: any = "on";
+        this.compression = typeof data?.compression !== "undefined" ? data?.compression : compressionDefault;
+        let compressionMinSizeDefault: any = 2048;
+        this.compressionMinSize = typeof data?.compressionMinSize !== "undefined" ? data?.compressionMinSize : compressionMinSizeDefault;
+        this.configuration = ConnectorConfiguration.fromJson(data?.configuration);
+        let enabledDefault: any = true;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        let portDefault: any = 8080;
+        this.port = typeof data?.port !== "undefined" ? data?.port : portDefault;
+        let protocolDefault: any = "HTTP/1.1";
+        this.protocol = typeof data?.protocol !== "undefined" ? data?.protocol : protocolDefault;
+        this.proxy = ServerConfigProxy.fromJson(data?.proxy);
+        this.ssl = SSL.fromJson(data?.ssl);
+    }
+
+    public static getAddressDefault(): string {
+        return "";
+    }
+
+    public static getAddressDescription(): string {
+        return "The IP address to which the connector should bind. If not defined, all IP addresses are used.";
+    }
+
+    public static getCompressibleMimeTypeDefault(): string {
+        return "text/html,text/xml,text/css,application/json,application/javascript";
+    }
+
+    public static getCompressibleMimeTypeDescription(): string {
+        return "Selects the MIME Types of message contents, that may be compressed via GZIP compression.";
+    }
+
+    public static getCompressionDefault(): CompressionMode {
+        return "on" as CompressionMode;
+    }
+
+    public static getCompressionDescription(): string {
+        return "Specifies whether to apply GZIP compression to the message to save bandwidth.\n\n*   off = disable compression.\n*   on = allow compression, which causes text data to be compressed.\n*   force = forces compression in all cases.";
+    }
+
+    public static getCompressionMinSizeDefault(): number {
+        return 2048;
+    }
+
+    public static getCompressionMinSizeDescription(): string {
+        return "Sets the minimum number of bytes a message must reach before GZIP compression shall be applied.";
+    }
+
+    public static getConfigurationDescription(): string {
+        return "";
+    }
+
+    public static getEnabledDefault(): boolean {
+        return true;
+    }
+
+    public static getEnabledDescription(): string {
+        return "When set to true this connector is active and may be used to connect to the server.";
+    }
+
+    public static getPortDefault(): number {
+        return 8080;
+    }
+
+    public static getPortDescription(): string {
+        return "The port the connector is listening to.";
+    }
+
+    public static getPortMin(): number {
+        return 1;
+    }
+
+    public static getProtocolDefault(): ConnectorProtocol {
+        return "HTTP/1.1" as ConnectorProtocol;
+    }
+
+    public static getProtocolDescription(): string {
+        return "The protocol to use for the connector.\n\n*   HTTP\/1.1 = Non blocking java NIO connector.\n*   HTTP\/2.0 = Non blocking java NIO2 connector.\n*   AJP\/1.3 = The APR\/native connector.";
+    }
+
+    public static getProxyDescription(): string {
+        return "";
+    }
+
+    public static getSslDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Connector {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Connector(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Connector> {
+        return ModelStream.decodeArray(source, Connector.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'address': this.address,
+            'compressibleMimeType': this.compressibleMimeType,
+            'compression': this.compression,
+            'compressionMinSize': this.compressionMinSize,
+            'configuration': this.configuration?.toJson(),
+            'enabled': this.enabled,
+            'port': this.port,
+            'protocol': this.protocol,
+            'proxy': this.proxy?.toJson(),
+            'ssl': this.ssl?.toJson(),
+        };
+    }
+
+    public clone(): Connector {
+        return Connector.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "address", typeof data?.address !== "undefined" ? data?.address : "") || changed;
+        changed = ModelAssignment.assignValue(this, "compressibleMimeType", typeof data?.compressibleMimeType !== "undefined" ? data?.compressibleMimeType : "text/html,text/xml,text/css,application/json,application/javascript") || changed;
+        changed = ModelAssignment.assignValue(this, "compression", typeof data?.compression !== "undefined" ? data?.compression : "on") || changed;
+        changed = ModelAssignment.assignValue(this, "compressionMinSize", typeof data?.compressionMinSize !== "undefined" ? data?.compressionMinSize : 2048) || changed;
+        changed = ModelAssignment.assignModel(this, "configuration", data?.configuration, ConnectorConfiguration.fromJson, ConnectorConfiguration) || changed;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : true) || changed;
+        changed = ModelAssignment.assignValue(this, "port", typeof data?.port !== "undefined" ? data?.port : 8080) || changed;
+        changed = ModelAssignment.assignValue(this, "protocol", typeof data?.protocol !== "undefined" ? data?.protocol : "HTTP/1.1") || changed;
+        changed = ModelAssignment.assignModel(this, "proxy", data?.proxy, ServerConfigProxy.fromJson, ServerConfigProxy) || changed;
+        changed = ModelAssignment.assignModel(this, "ssl", data?.ssl, SSL.fromJson, SSL) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.address, other.address)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compressibleMimeType, other.compressibleMimeType)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compression, other.compression)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compressionMinSize, other.compressionMinSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configuration, other.configuration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.port, other.port)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.protocol, other.protocol)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.proxy, other.proxy)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ssl, other.ssl)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.address);
+        hash = ModelEquality.hash(hash, this.compressibleMimeType);
+        hash = ModelEquality.hash(hash, this.compression);
+        hash = ModelEquality.hash(hash, this.compressionMinSize);
+        hash = ModelEquality.hash(hash, this.configuration);
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.port);
+        hash = ModelEquality.hash(hash, this.protocol);
+        hash = ModelEquality.hash(hash, this.proxy);
+        hash = ModelEquality.hash(hash, this.ssl);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Connector(";
+        fingerprint += ModelEquality.fingerprint(this.address) + ",";
+        fingerprint += ModelEquality.fingerprint(this.compressibleMimeType) + ",";
+        fingerprint += ModelEquality.fingerprint(this.compression) + ",";
+        fingerprint += ModelEquality.fingerprint(this.compressionMinSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.configuration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.port) + ",";
+        fingerprint += ModelEquality.fingerprint(this.protocol) + ",";
+        fingerprint += ModelEquality.fingerprint(this.proxy) + ",";
+        fingerprint += ModelEquality.fingerprint(this.ssl) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
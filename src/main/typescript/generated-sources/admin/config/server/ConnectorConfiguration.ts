@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ConnectorAttribute,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface ConnectorConfigurationInterface  {
+
+    attribute?: Array<ConnectorAttribute>;
+
+}
+export class ConnectorConfiguration implements ConnectorConfigurationInterface, Parameter {
+    attribute?: Array<ConnectorAttribute>;
+
+    constructor(data: any) {
+        this.attribute = (data?.attribute || []).map(
+            ConnectorAttribute.fromJson
+        );
+    }
+
+    public static getAttributeDefault(): Array<ConnectorAttribute> {
+        return [];
+    }
+
+    public static getAttributeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ConnectorConfiguration {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConnectorConfiguration(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConnectorConfiguration> {
+        return ModelStream.decodeArray(source, ConnectorConfiguration.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'attribute': this.attribute?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): ConnectorConfiguration {
+        return ConnectorConfiguration.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "attribute", data?.attribute, ConnectorAttribute.fromJson, ConnectorAttribute) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.attribute, other.attribute)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.attribute);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConnectorConfiguration(";
+        fingerprint += ModelEquality.fingerprint(this.attribute) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum ConnectorProtocol {
+
+    HTTP20 = 'HTTP/2.0',
+    HTTP11 = 'HTTP/1.1',
+    AJP13 = 'AJP/1.3'
+
+}
\ No newline at end of file
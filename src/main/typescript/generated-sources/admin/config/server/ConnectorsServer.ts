@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    Connector,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface ConnectorsServerInterface  {
+
+    connector?: Array<Connector>;
+
+}
+export class ConnectorsServer implements ConnectorsServerInterface, Parameter {
+    connector?: Array<Connector>;
+
+    constructor(data: any) {
+        this.connector = (data?.connector || []).map(
+            Connector.fromJson
+        );
+    }
+
+    public static getConnectorDefault(): Array<Connector> {
+        return [];
+    }
+
+    public static getConnectorDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ConnectorsServer {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConnectorsServer(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConnectorsServer> {
+        return ModelStream.decodeArray(source, ConnectorsServer.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'connector': this.connector?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): ConnectorsServer {
+        return ConnectorsServer.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "connector", data?.connector, Connector.fromJson, Connector) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.connector, other.connector)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.connector);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConnectorsServer(";
+        fingerprint += ModelEquality.fingerprint(this.connector) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
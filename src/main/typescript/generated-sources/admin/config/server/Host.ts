@@ -0,0 +1,184 @@
+import {
+    ModelAssignment,
+    HostValve,
+    ModelStream,
+    Parameter,
+    HostFilter,
+    ModelEquality,
+    HostCsp,
+} from "./../../../index";
+
+export interface HostInterface  {
+
+    /**
+    * Sets the context path of the server address for the portal and the web services (e.g., http://localhost/webPDF).
+    */
+    contextPath?: string;
+    csp?: HostCsp;
+    /**
+    * A `filter` element represents a component to insert into the request processing pipeline of the underlying Tomcat server. (See: https://tomcat.apache.org/tomcat-10.1-doc/config/filter.html for further information.)
+    */
+    filter?: Array<HostFilter>;
+    /**
+    * Sets the host name part of the server address (e.g. http://localhost).
+    */
+    name?: string;
+    /**
+    * A `valve` element represents a component to insert into the request processing pipeline of the underlying Tomcat server. (See: https://tomcat.apache.org/tomcat-10.1-doc/config/valve.html for further information.)
+    */
+    valve?: Array<HostValve>;
+
+}
+export class Host implements HostInterface, Parameter {
+    /**
+    * Sets the context path of the server address for the portal and the web services (e.g., http://localhost/webPDF).
+    */
+    contextPath?: string;
+    csp?: HostCsp;
+    /**
+    * A `filter` element represents a component to insert into the request processing pipeline of the underlying Tomcat server. (See: https://tomcat.apache.org/tomcat-10.1-doc/config/filter.html for further information.)
+    */
+    filter?: Array<HostFilter>;
+    /**
+    * Sets the host name part of the server address (e.g. http://localhost).
+    */
+    name?: string;
+    /**
+    * A `valve` element represents a component to insert into the request processing pipeline of the underlying Tomcat server. (See: https://tomcat.apache.org/tomcat-10.1-doc/config/valve.html for further information.)
+    */
+    valve?: Array<HostValve>;
+
+    constructor(data: any) {
+        let contextPathDefault: any = "webPDF";
+        this.contextPath = typeof data?.contextPath !== "undefined" ? data?.contextPath : contextPathDefault;
+        this.csp = HostCsp.fromJson(data?.csp);
+        this.filter = (data?.filter || []).map(
+            HostFilter.fromJson
+        );
+        let nameDefault: any = "localhost";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        this.valve = (data?.valve || []).map(
+            HostValve.fromJson
+        );
+    }
+
+    public static getContextPathDefault(): string {
+        return "webPDF";
+    }
+
+    public static getContextPathDescription(): string {
+        return "Sets the context path of the server address for the portal and the web services (e.g., http:\/\/localhost\/webPDF).";
+    }
+
+    public static getCspDescription(): string {
+        return "";
+    }
+
+    public static getFilterDefault(): Array<HostFilter> {
+        return [];
+    }
+
+    public static getFilterDescription(): string {
+        return "A `filter` element represents a component to insert into the request processing pipeline of the underlying Tomcat server. (See: https:\/\/tomcat.apache.org\/tomcat-10.1-doc\/config\/filter.html for further information.)";
+    }
+
+    public static getNameDefault(): string {
+        return "localhost";
+    }
+
+    public static getNameDescription(): string {
+        return "Sets the host name part of the server address (e.g. http:\/\/localhost).";
+    }
+
+    public static getValveDefault(): Array<HostValve> {
+        return [];
+    }
+
+    public static getValveDescription(): string {
+        return "A `valve` element represents a component to insert into the request processing pipeline of the underlying Tomcat server. (See: https:\/\/tomcat.apache.org\/tomcat-10.1-doc\/config\/valve.html for further information.)";
+    }
+
+    public static fromJson(data: any): Host {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Host(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Host> {
+        return ModelStream.decodeArray(source, Host.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'contextPath': this.contextPath,
+            'csp': this.csp?.toJson(),
+            'filter': this.filter?.map((data) => data.toJson()),
+            'name': this.name,
+            'valve': this.valve?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): Host {
+        return Host.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "contextPath", typeof data?.contextPath !== "undefined" ? data?.contextPath : "webPDF") || changed;
+        changed = ModelAssignment.assignModel(this, "csp", data?.csp, HostCsp.fromJson, HostCsp) || changed;
+        changed = ModelAssignment.assignArray(this, "filter", data?.filter, HostFilter.fromJson, HostFilter) || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "localhost") || changed;
+        changed = ModelAssignment.assignArray(this, "valve", data?.valve, HostValve.fromJson, HostValve) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.contextPath, other.contextPath)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.csp, other.csp)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.filter, other.filter)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.valve, other.valve)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.contextPath);
+        hash = ModelEquality.hash(hash, this.csp);
+        hash = ModelEquality.hash(hash, this.filter);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.valve);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Host(";
+        fingerprint += ModelEquality.fingerprint(this.contextPath) + ",";
+        fingerprint += ModelEquality.fingerprint(this.csp) + ",";
+        fingerprint += ModelEquality.fingerprint(this.filter) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.valve) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface HostCspInterface  {
+
+    /**
+    * When set to true, the CSP is activated. The HTTP header \"Content-Security-Policy\" is added, and a \"nonce\" is added to the required resources.
+    */
+    enabled?: boolean;
+    /**
+    * Defines the value for the HTTP header `Content-Security-Policy`. Use `${nonce}` to insert a nonce value from the server for the entry `'nonce-...'`.
+    */
+    headerValue?: string;
+
+}
+export class HostCsp implements HostCspInterface, Parameter {
+    /**
+    * When set to true, the CSP is activated. The HTTP header \"Content-Security-Policy\" is added, and a \"nonce\" is added to the required resources.
+    */
+    enabled?: boolean;
+    /**
+    * Defines the value for the HTTP header `Content-Security-Policy`. Use `${nonce}` to insert a nonce value from the server for the entry `'nonce-...'`.
+    */
+    headerValue?: string;
+
+    constructor(data: any) {
+        let enabledDefault: any = false;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        let headerValueDefault: any = "";
+        this.headerValue = typeof data?.headerValue !== "undefined" ? data?.headerValue : headerValueDefault;
+    }
+
+    public static getEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getEnabledDescription(): string {
+        return "When set to true, the CSP is activated. The HTTP header \"Content-Security-Policy\" is added, and a \"nonce\" is added to the required resources.";
+    }
+
+    public static getHeaderValueDefault(): string {
+        return "";
+    }
+
+    public static getHeaderValueDescription(): string {
+        return "Defines the value for the HTTP header `Content-Security-Policy`. Use `${nonce}` to insert a nonce value from the server for the entry `'nonce-...'`.";
+    }
+
+    public static fromJson(data: any): HostCsp {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HostCsp(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HostCsp> {
+        return ModelStream.decodeArray(source, HostCsp.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'enabled': this.enabled,
+            'headerValue': this.headerValue,
+        };
+    }
+
+    public clone(): HostCsp {
+        return HostCsp.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : false) || changed;
+        changed = ModelAssignment.assignValue(this, "headerValue", typeof data?.headerValue !== "undefined" ? data?.headerValue : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.headerValue, other.headerValue)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.headerValue);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HostCsp(";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.headerValue) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
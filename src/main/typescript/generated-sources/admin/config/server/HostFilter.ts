@@ -0,0 +1,132 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    HostFilterParameter,
+    Parameter,
+    ModelEquality,
+    HostFilterMapping,
+} from "./../../../index";
+
+export interface HostFilterInterface  {
+
+    /**
+    * The Java class name of the filter implementation to use.
+    */
+    className?: string;
+    mapping?: Array<HostFilterMapping>;
+    parameter?: Array<HostFilterParameter>;
+
+}
+export class HostFilter implements HostFilterInterface, Parameter {
+    /**
+    * The Java class name of the filter implementation to use.
+    */
+    className?: string;
+    mapping?: Array<HostFilterMapping>;
+    parameter?: Array<HostFilterParameter>;
+
+    constructor(data: any) {
+        let classNameDefault: any = "";
+        this.className = typeof data?.className !== "undefined" ? data?.className : classNameDefault;
+        this.mapping = (data?.mapping || []).map(
+            HostFilterMapping.fromJson
+        );
+        this.parameter = (data?.parameter || []).map(
+            HostFilterParameter.fromJson
+        );
+    }
+
+    public static getClassNameDefault(): string {
+        return "";
+    }
+
+    public static getClassNameDescription(): string {
+        return "The Java class name of the filter implementation to use.";
+    }
+
+    public static getMappingDefault(): Array<HostFilterMapping> {
+        return [];
+    }
+
+    public static getMappingDescription(): string {
+        return "";
+    }
+
+    public static getParameterDefault(): Array<HostFilterParameter> {
+        return [];
+    }
+
+    public static getParameterDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): HostFilter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HostFilter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HostFilter> {
+        return ModelStream.decodeArray(source, HostFilter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'className': this.className,
+            'mapping': this.mapping?.map((data) => data.toJson()),
+            'parameter': this.parameter?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): HostFilter {
+        return HostFilter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "className", typeof data?.className !== "undefined" ? data?.className : "") || changed;
+        changed = ModelAssignment.assignArray(this, "mapping", data?.mapping, HostFilterMapping.fromJson, HostFilterMapping) || changed;
+        changed = ModelAssignment.assignArray(this, "parameter", data?.parameter, HostFilterParameter.fromJson, HostFilterParameter) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.className, other.className)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mapping, other.mapping)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.parameter, other.parameter)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.className);
+        hash = ModelEquality.hash(hash, this.mapping);
+        hash = ModelEquality.hash(hash, this.parameter);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HostFilter(";
+        fingerprint += ModelEquality.fingerprint(this.className) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mapping) + ",";
+        fingerprint += ModelEquality.fingerprint(this.parameter) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
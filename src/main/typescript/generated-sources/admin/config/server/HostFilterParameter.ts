@@ -0,0 +1,103 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface HostFilterParameterInterface  {
+
+    name: string;
+    value: string;
+
+}
+export class HostFilterParameter implements HostFilterParameterInterface, Parameter {
+    name: string;
+    value: string;
+
+    constructor(data: any) {
+        let nameDefault: any = "";
+        this.name = typeof data.name !== "undefined" ? data.name : nameDefault;
+        let valueDefault: any = "";
+        this.value = typeof data.value !== "undefined" ? data.value : valueDefault;
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "";
+    }
+
+    public static getValueDefault(): string {
+        return "";
+    }
+
+    public static getValueDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): HostFilterParameter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HostFilterParameter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HostFilterParameter> {
+        return ModelStream.decodeArray(source, HostFilterParameter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'name': this.name,
+            'value': this.value,
+        };
+    }
+
+    public clone(): HostFilterParameter {
+        return HostFilterParameter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "name", typeof data.name !== "undefined" ? data.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "value", typeof data.value !== "undefined" ? data.value : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.value, other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.value);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HostFilterParameter(";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.value) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
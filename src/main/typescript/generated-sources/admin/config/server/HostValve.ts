@@ -0,0 +1,109 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface HostValveInterface  {
+
+    /**
+    * The Java class name of the valve implementation to use.
+    */
+    className?: string;
+    otherAttributes?: { [key: string]: string; };
+
+}
+export class HostValve implements HostValveInterface, Parameter {
+    /**
+    * The Java class name of the valve implementation to use.
+    */
+    className?: string;
+    otherAttributes?: { [key: string]: string; };
+
+    constructor(data: any) {
+        let classNameDefault: any = "";
+        this.className = typeof data?.className !== "undefined" ? data?.className : classNameDefault;
+        let otherAttributesDefault: any = {};
+        this.otherAttributes = typeof data?.otherAttributes !== "undefined" ? data?.otherAttributes : otherAttributesDefault;
+    }
+
+    public static getClassNameDefault(): string {
+        return "";
+    }
+
+    public static getClassNameDescription(): string {
+        return "The Java class name of the valve implementation to use.";
+    }
+
+    public static getOtherAttributesDefault(): { [key: string]: string; } {
+        return {};
+    }
+
+    public static getOtherAttributesDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): HostValve {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HostValve(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HostValve> {
+        return ModelStream.decodeArray(source, HostValve.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'className': this.className,
+            'otherAttributes': this.otherAttributes,
+        };
+    }
+
+    public clone(): HostValve {
+        return HostValve.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "className", typeof data?.className !== "undefined" ? data?.className : "") || changed;
+        changed = ModelAssignment.assignValue(this, "otherAttributes", typeof data?.otherAttributes !== "undefined" ? data?.otherAttributes : {}) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.className, other.className)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.otherAttributes, other.otherAttributes)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.className);
+        hash = ModelEquality.hash(hash, this.otherAttributes);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HostValve(";
+        fingerprint += ModelEquality.fingerprint(this.className) + ",";
+        fingerprint += ModelEquality.fingerprint(this.otherAttributes) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
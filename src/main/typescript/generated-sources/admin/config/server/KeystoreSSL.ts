@@ -0,0 +1,166 @@
+import {
+    ModelAssignment,
+    SSLKeystoreFormat,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface KeystoreSSLInterface  {
+
+    /**
+    * The alias used for the private server key and certificate in the keystore. Can be empty if the keystore only contains a single certificate.
+    */
+    alias?: string;
+    /**
+    * The name of the keystore file to use.
+    */
+    file?: string;
+    /**
+    * The password required to access the keystore.
+    */
+    password?: string;
+    /**
+    * The format of the keystore file containing the certificate (or certificate chain) and private key (optionally encrypted) to be used for SSL encryption.  *   JKS = A Java keystore (file based with an extension like \".jks\"). *   PKCS12 = A PKCS12 keystore (file based with the extensions like \".p12\" or \".pfx\"). *   PEM = A PEM-encoded keystore (file based with extensions like \".pem\" or \".cabundle\"). *   WINDOWS\\_MACHINE = The Windows certificate store of the machine on which the server is running. *   WINDOWS\\_USER = The Windows certificate store of the user account under which the server is running.
+    */
+    type?: SSLKeystoreFormat;
+
+}
+export class KeystoreSSL implements KeystoreSSLInterface, Parameter {
+    /**
+    * The alias used for the private server key and certificate in the keystore. Can be empty if the keystore only contains a single certificate.
+    */
+    alias?: string;
+    /**
+    * The name of the keystore file to use.
+    */
+    file?: string;
+    /**
+    * The password required to access the keystore.
+    */
+    password?: string;
+    /**
+    * The format of the keystore file containing the certificate (or certificate chain) and private key (optionally encrypted) to be used for SSL encryption.  *   JKS = A Java keystore (file based with an extension like \".jks\"). *   PKCS12 = A PKCS12 keystore (file based with the extensions like \".p12\" or \".pfx\"). *   PEM = A PEM-encoded keystore (file based with extensions like \".pem\" or \".cabundle\"). *   WINDOWS\\_MACHINE = The Windows certificate store of the machine on which the server is running. *   WINDOWS\\_USER = The Windows certificate store of the user account under which the server is running.
+    */
+    type?: SSLKeystoreFormat;
+
+    constructor(data: any) {
+        let aliasDefault: any = "";
+        this.alias = typeof data?.alias !== "undefined" ? data?.alias : aliasDefault;
+        let fileDefault: any = "ssl.jks";
+        this.file = typeof data?.file !== "undefined" ? data?.file : fileDefault;
+        let passwordDefault: any = "webpdf";
+        this.password = typeof data?.password !== "undefined" ? data?.password : passwordDefault;
+        let typeDefault: any = "JKS";
+        this.type = typeof data?.type !== "undefined" ? data?.type : typeDefault;
+    }
+
+    public static getAliasDefault(): string {
+        return "";
+    }
+
+    public static getAliasDescription(): string {
+        return "The alias used for the private server key and certificate in the keystore. Can be empty if the keystore only contains a single certificate.";
+    }
+
+    public static getFileDefault(): string {
+        return "ssl.jks";
+    }
+
+    public static getFileDescription(): string {
+        return "The name of the keystore file to use.";
+    }
+
+    public static getPasswordDefault(): string {
+        return "webpdf";
+    }
+
+    public static getPasswordDescription(): string {
+        return "The password required to access the keystore.";
+    }
+
+    public static getTypeDefault(): SSLKeystoreFormat {
+        return "JKS" as SSLKeystoreFormat;
+    }
+
+    public static getTypeDescription(): string {
+        return "The format of the keystore file containing the certificate (or certificate chain) and private key (optionally encrypted) to be used for SSL encryption.\n\n*   JKS = A Java keystore (file based with an extension like \".jks\").\n*   PKCS12 = A PKCS12 keystore (file based with the extensions like \".p12\" or \".pfx\").\n*   PEM = A PEM-encoded keystore (file based with extensions like \".pem\" or \".cabundle\").\n*   WINDOWS\\_MACHINE = The Windows certificate store of the machine on which the server is running.\n*   WINDOWS\\_USER = The Windows certificate store of the user account under which the server is running.";
+    }
+
+    public static fromJson(data: any): KeystoreSSL {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new KeystoreSSL(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<KeystoreSSL> {
+        return ModelStream.decodeArray(source, KeystoreSSL.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'alias': this.alias,
+            'file': this.file,
+            'password': this.password,
+            'type': this.type,
+        };
+    }
+
+    public clone(): KeystoreSSL {
+        return KeystoreSSL.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "alias", typeof data?.alias !== "undefined" ? data?.alias : "") || changed;
+        changed = ModelAssignment.assignValue(this, "file", typeof data?.file !== "undefined" ? data?.file : "ssl.jks") || changed;
+        changed = ModelAssignment.assignValue(this, "password", typeof data?.password !== "undefined" ? data?.password : "webpdf") || changed;
+        changed = ModelAssignment.assignValue(this, "type", typeof data?.type !== "undefined" ? data?.type : "JKS") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.alias, other.alias)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.file, other.file)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.type, other.type)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.alias);
+        hash = ModelEquality.hash(hash, this.file);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.type);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "KeystoreSSL(";
+        fingerprint += ModelEquality.fingerprint(this.alias) + ",";
+        fingerprint += ModelEquality.fingerprint(this.file) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.type) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
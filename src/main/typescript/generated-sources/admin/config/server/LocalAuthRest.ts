@@ -0,0 +1,185 @@
+import {
+    ModelAssignment,
+    SessionRefreshToken,
+    ModelStream,
+    SessionLimits,
+    SessionAccessToken,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface LocalAuthRestInterface  {
+
+    accessToken?: SessionAccessToken;
+    /**
+    * If enabled, then anonymous logins (without a username and password) are allowed.
+    */
+    allowAnonymous?: boolean;
+    /**
+    * If enabled, then the REST API is available.
+    */
+    enabled?: boolean;
+    limits?: SessionLimits;
+    /**
+    * The maximum time skew that may occur between the local time of the client and the local time of the token issuer (the local server).
+    */
+    maxTimeSkew?: number;
+    refreshToken?: SessionRefreshToken;
+
+}
+export class LocalAuthRest implements LocalAuthRestInterface, Parameter {
+    accessToken?: SessionAccessToken;
+    /**
+    * If enabled, then anonymous logins (without a username and password) are allowed.
+    */
+    allowAnonymous?: boolean;
+    /**
+    * If enabled, then the REST API is available.
+    */
+    enabled?: boolean;
+    limits?: SessionLimits;
+    /**
+    * The maximum time skew that may occur between the local time of the client and the local time of the token issuer (the local server).
+    */
+    maxTimeSkew?: number;
+    refreshToken?: SessionRefreshToken;
+
+    constructor(data: any) {
+        this.accessToken = SessionAccessToken.fromJson(data?.accessToken);
+        let allowAnonymousDefault: any = true;
+        this.allowAnonymous = typeof data?.allowAnonymous !== "undefined" ? data?.allowAnonymous : allowAnonymousDefault;
+        let enabledDefault: any = true;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        this.limits = SessionLimits.fromJson(data?.limits);
+        let maxTimeSkewDefault: any = 0;
+        this.maxTimeSkew = typeof data?.maxTimeSkew !== "undefined" ? data?.maxTimeSkew : maxTimeSkewDefault;
+        this.refreshToken = SessionRefreshToken.fromJson(data?.refreshToken);
+    }
+
+    public static getAccessTokenDescription(): string {
+        return "";
+    }
+
+    public static getAllowAnonymousDefault(): boolean {
+        return true;
+    }
+
+    public static getAllowAnonymousDescription(): string {
+        return "If enabled, then anonymous logins (without a username and password) are allowed.";
+    }
+
+    public static getEnabledDefault(): boolean {
+        return true;
+    }
+
+    public static getEnabledDescription(): string {
+        return "If enabled, then the REST API is available.";
+    }
+
+    public static getLimitsDescription(): string {
+        return "";
+    }
+
+    public static getMaxTimeSkewDefault(): number {
+        return 0;
+    }
+
+    public static getMaxTimeSkewDescription(): string {
+        return "The maximum time skew that may occur between the local time of the client and the local time of the token issuer (the local server).";
+    }
+
+    public static getRefreshTokenDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): LocalAuthRest {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LocalAuthRest(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LocalAuthRest> {
+        return ModelStream.decodeArray(source, LocalAuthRest.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'accessToken': this.accessToken?.toJson(),
+            'allowAnonymous': this.allowAnonymous,
+            'enabled': this.enabled,
+            'limits': this.limits?.toJson(),
+            'maxTimeSkew': this.maxTimeSkew,
+            'refreshToken': this.refreshToken?.toJson(),
+        };
+    }
+
+    public clone(): LocalAuthRest {
+        return LocalAuthRest.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "accessToken", data?.accessToken, SessionAccessToken.fromJson, SessionAccessToken) || changed;
+        changed = ModelAssignment.assignValue(this, "allowAnonymous", typeof data?.allowAnonymous !== "undefined" ? data?.allowAnonymous : true) || changed;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : true) || changed;
+        changed = ModelAssignment.assignModel(this, "limits", data?.limits, SessionLimits.fromJson, SessionLimits) || changed;
+        changed = ModelAssignment.assignValue(this, "maxTimeSkew", typeof data?.maxTimeSkew !== "undefined" ? data?.maxTimeSkew : 0) || changed;
+        changed = ModelAssignment.assignModel(this, "refreshToken", data?.refreshToken, SessionRefreshToken.fromJson, SessionRefreshToken) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.accessToken, other.accessToken)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.allowAnonymous, other.allowAnonymous)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.limits, other.limits)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxTimeSkew, other.maxTimeSkew)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.refreshToken, other.refreshToken)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.accessToken);
+        hash = ModelEquality.hash(hash, this.allowAnonymous);
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.limits);
+        hash = ModelEquality.hash(hash, this.maxTimeSkew);
+        hash = ModelEquality.hash(hash, this.refreshToken);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LocalAuthRest(";
+        fingerprint += ModelEquality.fingerprint(this.accessToken) + ",";
+        fingerprint += ModelEquality.fingerprint(this.allowAnonymous) + ",";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.limits) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxTimeSkew) + ",";
+        fingerprint += ModelEquality.fingerprint(this.refreshToken) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface LocalAuthSoapInterface  {
+
+    /**
+    * If enabled, then anonymous logins (without a username and password) are allowed.
+    */
+    allowAnonymous?: boolean;
+    /**
+    * If enabled, then the SOAP API is available.
+    */
+    enabled?: boolean;
+
+}
+export class LocalAuthSoap implements LocalAuthSoapInterface, Parameter {
+    /**
+    * If enabled, then anonymous logins (without a username and password) are allowed.
+    */
+    allowAnonymous?: boolean;
+    /**
+    * If enabled, then the SOAP API is available.
+    */
+    enabled?: boolean;
+
+    constructor(data: any) {
+        let allowAnonymousDefault: any = true;
+        this.allowAnonymous = typeof data?.allowAnonymous !== "undefined" ? data?.allowAnonymous : allowAnonymousDefault;
+        let enabledDefault: any = true;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+    }
+
+    public static getAllowAnonymousDefault(): boolean {
+        return true;
+    }
+
+    public static getAllowAnonymousDescription(): string {
+        return "If enabled, then anonymous logins (without a username and password) are allowed.";
+    }
+
+    public static getEnabledDefault(): boolean {
+        return true;
+    }
+
+    public static getEnabledDescription(): string {
+        return "If enabled, then the SOAP API is available.";
+    }
+
+    public static fromJson(data: any): LocalAuthSoap {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LocalAuthSoap(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LocalAuthSoap> {
+        return ModelStream.decodeArray(source, LocalAuthSoap.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'allowAnonymous': this.allowAnonymous,
+            'enabled': this.enabled,
+        };
+    }
+
+    public clone(): LocalAuthSoap {
+        return LocalAuthSoap.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "allowAnonymous", typeof data?.allowAnonymous !== "undefined" ? data?.allowAnonymous : true) || changed;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.allowAnonymous, other.allowAnonymous)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.allowAnonymous);
+        hash = ModelEquality.hash(hash, this.enabled);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LocalAuthSoap(";
+        fingerprint += ModelEquality.fingerprint(this.allowAnonymous) + ",";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
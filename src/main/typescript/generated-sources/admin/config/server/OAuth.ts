@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    OAuthProviders,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface OAuthInterface  {
+
+    providers?: OAuthProviders;
+
+}
+export class OAuth implements OAuthInterface, Parameter {
+    providers?: OAuthProviders;
+
+    constructor(data: any) {
+        this.providers = OAuthProviders.fromJson(data?.providers);
+    }
+
+    public static getProvidersDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): OAuth {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OAuth(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OAuth> {
+        return ModelStream.decodeArray(source, OAuth.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'providers': this.providers?.toJson(),
+        };
+    }
+
+    public clone(): OAuth {
+        return OAuth.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "providers", data?.providers, OAuthProviders.fromJson, OAuthProviders) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.providers, other.providers)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.providers);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OAuth(";
+        fingerprint += ModelEquality.fingerprint(this.providers) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,457 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    OAuthProviderFlow,
+    OAuthProviderName,
+    OAuthProviderLogout,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface OAuthProviderInterface  {
+
+    /**
+    * Sets the application identifier that uniquely identifies the application (the API of this server). This ID is also defined as the audience for the token to verify that the token was issued for the API dServer.
+    */
+    applicationId?: string;
+    /**
+    * Sets the name of the claim (in most cases \"azp\") that contains the client ID in the token.
+    */
+    claimClientId?: string;
+    /**
+    * Sets the name of the claim (in most cases \"roles\") that contains the roles in the token.
+    */
+    claimRoles?: string;
+    /**
+    * Specifies the name of the claim (in most cases \"sub\") that contains the session ID in the token. This must be a unique identifier that uniquely identifies the authenticated client (or user).
+    */
+    claimSessionId?: string;
+    /**
+    * Sets the [OAuth2 client identifier](https://datatracker.ietf.org/doc/html/rfc6749#section-2.2).
+    */
+    clientId?: string;
+    /**
+    * Sets the [discovery URL](https://datatracker.ietf.org/doc/html/rfc8414) for the OAuth2 process, where the server can find, for example, the required public signature keys for token validation.
+    */
+    discoveryUrl?: string;
+    /**
+    * The displayed name for the provider (e.g., in the portal).
+    */
+    displayName?: string;
+    /**
+    * Selects the [OAuth2 flow](https://datatracker.ietf.org/doc/html/rfc6749#section-1.2) used. Depending on the flow, different settings are necessary for the provider.
+    */
+    flow?: OAuthProviderFlow;
+    /**
+    * Sets a unique ID that uniquely identifies this provider configuration.
+    */
+    id?: string;
+    logout?: OAuthProviderLogout;
+    /**
+    * The maximum time skew that may occur between the local time on the server and the local time of the issuer of the token.
+    */
+    maxTimeSkew?: number;
+    /**
+    * Selects the OAuth2 provider or \"generic\" when not available in the list.
+    */
+    name?: OAuthProviderName;
+    /**
+    * Sets the name of the role that grants administrative rights. This allows changing the default \"admin\" value to a custom role name. This must match the content of the claim defined via \"claimRoles\".
+    */
+    roleNameAdmin?: string;
+    /**
+    * Sets the name of the role that grants normal user rights. This allows changing the default \"user\" value to a custom role name. This must match the content of the claim defined via \"claimRoles\".
+    */
+    roleNameUser?: string;
+    /**
+    * Specifies the [scope](https://datatracker.ietf.org/doc/html/rfc6749#page-23) for the OAuth2 token. Each separated by a space.
+    */
+    scope?: string;
+    /**
+    * Sets a tenant identifier for the OAuth2 request. Not all providers require a tenant id.
+    */
+    tenantId?: string;
+
+}
+export class OAuthProvider implements OAuthProviderInterface, Parameter {
+    /**
+    * Sets the application identifier that uniquely identifies the application (the API of this server). This ID is also defined as the audience for the token to verify that the token was issued for the API dServer.
+    */
+    applicationId?: string;
+    /**
+    * Sets the name of the claim (in most cases \"azp\") that contains the client ID in the token.
+    */
+    claimClientId?: string;
+    /**
+    * Sets the name of the claim (in most cases \"roles\") that contains the roles in the token.
+    */
+    claimRoles?: string;
+    /**
+    * Specifies the name of the claim (in most cases \"sub\") that contains the session ID in the token. This must be a unique identifier that uniquely identifies the authenticated client (or user).
+    */
+    claimSessionId?: string;
+    /**
+    * Sets the [OAuth2 client identifier](https://datatracker.ietf.org/doc/html/rfc6749#section-2.2).
+    */
+    clientId?: string;
+    /**
+    * Sets the [discovery URL](https://datatracker.ietf.org/doc/html/rfc8414) for the OAuth2 process, where the server can find, for example, the required public signature keys for token validation.
+    */
+    discoveryUrl?: string;
+    /**
+    * The displayed name for the provider (e.g., in the portal).
+    */
+    displayName?: string;
+    /**
+    * Selects the [OAuth2 flow](https://datatracker.ietf.org/doc/html/rfc6749#section-1.2) used. Depending on the flow, different settings are necessary for the provider.
+    */
+    flow?: OAuthProviderFlow;
+    /**
+    * Sets a unique ID that uniquely identifies this provider configuration.
+    */
+    id?: string;
+    logout?: OAuthProviderLogout;
+    /**
+    * The maximum time skew that may occur between the local time on the server and the local time of the issuer of the token.
+    */
+    maxTimeSkew?: number;
+    /**
+    * Selects the OAuth2 provider or \"generic\" when not available in the list.
+    */
+    name?: OAuthProviderName;
+    /**
+    * Sets the name of the role that grants administrative rights. This allows changing the default \"admin\" value to a custom role name. This must match the content of the claim defined via \"claimRoles\".
+    */
+    roleNameAdmin?: string;
+    /**
+    * Sets the name of the role that grants normal user rights. This allows changing the default \"user\" value to a custom role name. This must match the content of the claim defined via \"claimRoles\".
+    */
+    roleNameUser?: string;
+    /**
+    * Specifies the [scope](https://datatracker.ietf.org/doc/html/rfc6749#page-23) for the OAuth2 token. Each separated by a space.
+    */
+    scope?: string;
+    /**
+    * Sets a tenant identifier for the OAuth2 request. Not all providers require a tenant id.
+    */
+    tenantId?: string;
+
+    constructor(data: any) {
+        let applicationIdDefault: any = "";
+        this.applicationId = typeof data?.applicationId !== "undefined" ? data?.applicationId : applicationIdDefault;
+        let claimClientIdDefault: any = "";
+        this.claimClientId = typeof data?.claimClientId !== "undefined" ? data?.claimClientId : claimClientIdDefault;
+        let claimRolesDefault: any = "";
+        this.claimRoles = typeof data?.claimRoles !== "undefined" ? data?.claimRoles : claimRolesDefault;
+        let claimSessionIdDefault: any = "";
+        this.claimSessionId = typeof data?.claimSessionId !== "undefined" ? data?.claimSessionId : claimSessionIdDefault;
+        let clientIdDefault: any = "";
+        this.clientId = typeof data?.clientId !== "undefined" ? data?.clientId : clientIdDefault;
+        let discoveryUrlDefault: any = "";
+        this.discoveryUrl = typeof data?.discoveryUrl !== "undefined" ? data?.discoveryUrl : discoveryUrlDefault;
+        let displayNameDefault: any = "";
+        this.displayName = typeof data?.displayName !== "undefined" ? data?.displayName : displayNameDefault;
+        let flowDefault: any = "clientCredentials";
+        this.flow = typeof data?.flow !== "undefined" ? data?.flow : flowDefault;
+        let idDefault: any = "";
+        this.id = typeof data?.id !== "undefined" ? data?.id : idDefault;
+        this.logout = OAuthProviderLogout.fromJson(data?.logout);
+        let maxTimeSkewDefault: any = 0;
+        this.maxTimeSkew = typeof data?.maxTimeSkew !== "undefined" ? data?.maxTimeSkew : maxTimeSkewDefault;
+        let nameDefault: any = "generic";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let roleNameAdminDefault: any = "";
+        this.roleNameAdmin = typeof data?.roleNameAdmin !== "undefined" ? data?.roleNameAdmin : roleNameAdminDefault;
+        let roleNameUserDefault: any = "";
+        this.roleNameUser = typeof data?.roleNameUser !== "undefined" ? data?.roleNameUser : roleNameUserDefault;
+        let scopeDefault: any = "";
+        this.scope = typeof data?.scope !== "undefined" ? data?.scope : scopeDefault;
+        let tenantIdDefault: any = "";
+        this.tenantId = typeof data?.tenantId !== "undefined" ? data?.tenantId : tenantIdDefault;
+    }
+
+    public static getApplicationIdDefault(): string {
+        return "";
+    }
+
+    public static getApplicationIdDescription(): string {
+        return "Sets the application identifier that uniquely identifies the application (the API of this server). This ID is also defined as the audience for the token to verify that the token was issued for the API dServer.";
+    }
+
+    public static getClaimClientIdDefault(): string {
+        return "";
+    }
+
+    public static getClaimClientIdDescription(): string {
+        return "Sets the name of the claim (in most cases \"azp\") that contains the client ID in the token.";
+    }
+
+    public static getClaimRolesDefault(): string {
+        return "";
+    }
+
+    public static getClaimRolesDescription(): string {
+        return "Sets the name of the claim (in most cases \"roles\") that contains the roles in the token.";
+    }
+
+    public static getClaimSessionIdDefault(): string {
+        return "";
+    }
+
+    public static getClaimSessionIdDescription(): string {
+        return "Specifies the name of the claim (in most cases \"sub\") that contains the session ID in the token. This must be a unique identifier that uniquely identifies the authenticated client (or user).";
+    }
+
+    public static getClientIdDefault(): string {
+        return "";
+    }
+
+    public static getClientIdDescription(): string {
+        return "Sets the [OAuth2 client identifier](https:\/\/datatracker.ietf.org\/doc\/html\/rfc6749#section-2.2).";
+    }
+
+    public static getDiscoveryUrlDefault(): string {
+        return "";
+    }
+
+    public static getDiscoveryUrlDescription(): string {
+        return "Sets the [discovery URL](https:\/\/datatracker.ietf.org\/doc\/html\/rfc8414) for the OAuth2 process, where the server can find, for example, the required public signature keys for token validation.";
+    }
+
+    public static getDisplayNameDefault(): string {
+        return "";
+    }
+
+    public static getDisplayNameDescription(): string {
+        return "The displayed name for the provider (e.g., in the portal).";
+    }
+
+    public static getFlowDefault(): OAuthProviderFlow {
+        return "clientCredentials" as OAuthProviderFlow;
+    }
+
+    public static getFlowDescription(): string {
+        return "Selects the [OAuth2 flow](https:\/\/datatracker.ietf.org\/doc\/html\/rfc6749#section-1.2) used. Depending on the flow, different settings are necessary for the provider.";
+    }
+
+    public static getIdDefault(): string {
+        return "";
+    }
+
+    public static getIdDescription(): string {
+        return "Sets a unique ID that uniquely identifies this provider configuration.";
+    }
+
+    public static getLogoutDescription(): string {
+        return "";
+    }
+
+    public static getMaxTimeSkewDefault(): number {
+        return 0;
+    }
+
+    public static getMaxTimeSkewDescription(): string {
+        return "The maximum time skew that may occur between the local time on the server and the local time of the issuer of the token.";
+    }
+
+    public static getNameDefault(): OAuthProviderName {
+        return "generic" as OAuthProviderName;
+    }
+
+    public static getNameDescription(): string {
+        return "Selects the OAuth2 provider or \"generic\" when not available in the list.";
+    }
+
+    public static getRoleNameAdminDefault(): string {
+        return "";
+    }
+
+    public static getRoleNameAdminDescription(): string {
+        return "Sets the name of the role that grants administrative rights. This allows changing the default \"admin\" value to a custom role name. This must match the content of the claim defined via \"claimRoles\".";
+    }
+
+    public static getRoleNameUserDefault(): string {
+        return "";
+    }
+
+    public static getRoleNameUserDescription(): string {
+        return "Sets the name of the role that grants normal user rights. This allows changing the default \"user\" value to a custom role name. This must match the content of the claim defined via \"claimRoles\".";
+    }
+
+    public static getScopeDefault(): string {
+        return "";
+    }
+
+    public static getScopeDescription(): string {
+        return "Specifies the [scope](https:\/\/datatracker.ietf.org\/doc\/html\/rfc6749#page-23) for the OAuth2 token. Each separated by a space.";
+    }
+
+    public static getTenantIdDefault(): string {
+        return "";
+    }
+
+    public static getTenantIdDescription(): string {
+        return "Sets a tenant identifier for the OAuth2 request. Not all providers require a tenant id.";
+    }
+
+    public static fromJson(data: any): OAuthProvider {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OAuthProvider(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OAuthProvider> {
+        return ModelStream.decodeArray(source, OAuthProvider.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'applicationId': this.applicationId,
+            'claimClientId': this.claimClientId,
+            'claimRoles': this.claimRoles,
+            'claimSessionId': this.claimSessionId,
+            'clientId': this.clientId,
+            'discoveryUrl': this.discoveryUrl,
+            'displayName': this.displayName,
+            'flow': this.flow,
+            'id': this.id,
+            'logout': this.logout?.toJson(),
+            'maxTimeSkew': this.maxTimeSkew,
+            'name': this.name,
+            'roleNameAdmin': this.roleNameAdmin,
+            'roleNameUser': this.roleNameUser,
+            'scope': this.scope,
+            'tenantId': this.tenantId,
+        };
+    }
+
+    public clone(): OAuthProvider {
+        return OAuthProvider.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "applicationId", typeof data?.applicationId !== "undefined" ? data?.applicationId : "") || changed;
+        changed = ModelAssignment.assignValue(this, "claimClientId", typeof data?.claimClientId !== "undefined" ? data?.claimClientId : "") || changed;
+        changed = ModelAssignment.assignValue(this, "claimRoles", typeof data?.claimRoles !== "undefined" ? data?.claimRoles : "") || changed;
+        changed = ModelAssignment.assignValue(this, "claimSessionId", typeof data?.claimSessionId !== "undefined" ? data?.claimSessionId : "") || changed;
+        changed = ModelAssignment.assignValue(this, "clientId", typeof data?.clientId !== "undefined" ? data?.clientId : "") || changed;
+        changed = ModelAssignment.assignValue(this, "discoveryUrl", typeof data?.discoveryUrl !== "undefined" ? data?.discoveryUrl : "") || changed;
+        changed = ModelAssignment.assignValue(this, "displayName", typeof data?.displayName !== "undefined" ? data?.displayName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "flow", typeof data?.flow !== "undefined" ? data?.flow : "clientCredentials") || changed;
+        changed = ModelAssignment.assignValue(this, "id", typeof data?.id !== "undefined" ? data?.id : "") || changed;
+        changed = ModelAssignment.assignModel(this, "logout", data?.logout, OAuthProviderLogout.fromJson, OAuthProviderLogout) || changed;
+        changed = ModelAssignment.assignValue(this, "maxTimeSkew", typeof data?.maxTimeSkew !== "undefined" ? data?.maxTimeSkew : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "generic") || changed;
+        changed = ModelAssignment.assignValue(this, "roleNameAdmin", typeof data?.roleNameAdmin !== "undefined" ? data?.roleNameAdmin : "") || changed;
+        changed = ModelAssignment.assignValue(this, "roleNameUser", typeof data?.roleNameUser !== "undefined" ? data?.roleNameUser : "") || changed;
+        changed = ModelAssignment.assignValue(this, "scope", typeof data?.scope !== "undefined" ? data?.scope : "") || changed;
+        changed = ModelAssignment.assignValue(this, "tenantId", typeof data?.tenantId !== "undefined" ? data?.tenantId : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.applicationId, other.applicationId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.claimClientId, other.claimClientId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.claimRoles, other.claimRoles)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.claimSessionId, other.claimSessionId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.clientId, other.clientId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.discoveryUrl, other.discoveryUrl)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.displayName, other.displayName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.flow, other.flow)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.id, other.id)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.logout, other.logout)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxTimeSkew, other.maxTimeSkew)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.roleNameAdmin, other.roleNameAdmin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.roleNameUser, other.roleNameUser)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scope, other.scope)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.tenantId, other.tenantId)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.applicationId);
+        hash = ModelEquality.hash(hash, this.claimClientId);
+        hash = ModelEquality.hash(hash, this.claimRoles);
+        hash = ModelEquality.hash(hash, this.claimSessionId);
+        hash = ModelEquality.hash(hash, this.clientId);
+        hash = ModelEquality.hash(hash, this.discoveryUrl);
+        hash = ModelEquality.hash(hash, this.displayName);
+        hash = ModelEquality.hash(hash, this.flow);
+        hash = ModelEquality.hash(hash, this.id);
+        hash = ModelEquality.hash(hash, this.logout);
+        hash = ModelEquality.hash(hash, this.maxTimeSkew);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.roleNameAdmin);
+        hash = ModelEquality.hash(hash, this.roleNameUser);
+        hash = ModelEquality.hash(hash, this.scope);
+        hash = ModelEquality.hash(hash, this.tenantId);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OAuthProvider(";
+        fingerprint += ModelEquality.fingerprint(this.applicationId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.claimClientId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.claimRoles) + ",";
+        fingerprint += ModelEquality.fingerprint(this.claimSessionId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.clientId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.discoveryUrl) + ",";
+        fingerprint += ModelEquality.fingerprint(this.displayName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.flow) + ",";
+        fingerprint += ModelEquality.fingerprint(this.id) + ",";
+        fingerprint += ModelEquality.fingerprint(this.logout) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxTimeSkew) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.roleNameAdmin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.roleNameUser) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scope) + ",";
+        fingerprint += ModelEquality.fingerprint(this.tenantId) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
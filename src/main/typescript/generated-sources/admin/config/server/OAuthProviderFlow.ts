@@ -0,0 +1,6 @@
+export enum OAuthProviderFlow {
+
+    AuthorizationCodeWithPkce = 'authorizationCodeWithPkce',
+    ClientCredentials = 'clientCredentials'
+
+}
\ No newline at end of file
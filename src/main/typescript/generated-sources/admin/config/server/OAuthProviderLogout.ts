@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface OAuthProviderLogoutInterface  {
+
+    /**
+    * Sets the URL that will be called when an OAuth2 is executed. This URL can contain the variables `{redirectUrl}` and `{clientId}`, whose values are automatically inserted by the server.
+    */
+    url?: string;
+
+}
+export class OAuthProviderLogout implements OAuthProviderLogoutInterface, Parameter {
+    /**
+    * Sets the URL that will be called when an OAuth2 is executed. This URL can contain the variables `{redirectUrl}` and `{clientId}`, whose values are automatically inserted by the server.
+    */
+    url?: string;
+
+    constructor(data: any) {
+        let urlDefault: any = "";
+        this.url = typeof data?.url !== "undefined" ? data?.url : urlDefault;
+    }
+
+    public static getUrlDefault(): string {
+        return "";
+    }
+
+    public static getUrlDescription(): string {
+        return "Sets the URL that will be called when an OAuth2 is executed. This URL can contain the variables `{redirectUrl}` and `{clientId}`, whose values are automatically inserted by the server.";
+    }
+
+    public static fromJson(data: any): OAuthProviderLogout {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OAuthProviderLogout(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OAuthProviderLogout> {
+        return ModelStream.decodeArray(source, OAuthProviderLogout.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'url': this.url,
+        };
+    }
+
+    public clone(): OAuthProviderLogout {
+        return OAuthProviderLogout.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "url", typeof data?.url !== "undefined" ? data?.url : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.url, other.url)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.url);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OAuthProviderLogout(";
+        fingerprint += ModelEquality.fingerprint(this.url) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
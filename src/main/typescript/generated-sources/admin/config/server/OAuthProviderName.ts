@@ -0,0 +1,7 @@
+export enum OAuthProviderName {
+
+    Auth0 = 'auth0',
+    Generic = 'generic',
+    AzureAd = 'azureAd'
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    OAuthProvider,
+    ModelEquality,
+} from "./../../../index";
+
+export interface OAuthProvidersInterface  {
+
+    provider?: Array<OAuthProvider>;
+
+}
+export class OAuthProviders implements OAuthProvidersInterface, Parameter {
+    provider?: Array<OAuthProvider>;
+
+    constructor(data: any) {
+        this.provider = (data?.provider || []).map(
+            OAuthProvider.fromJson
+        );
+    }
+
+    public static getProviderDefault(): Array<OAuthProvider> {
+        return [];
+    }
+
+    public static getProviderDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): OAuthProviders {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OAuthProviders(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OAuthProviders> {
+        return ModelStream.decodeArray(source, OAuthProviders.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'provider': this.provider?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): OAuthProviders {
+        return OAuthProviders.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "provider", data?.provider, OAuthProvider.fromJson, OAuthProvider) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.provider, other.provider)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.provider);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OAuthProviders(";
+        fingerprint += ModelEquality.fingerprint(this.provider) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    SSLProtocol,
+} from "./../../../index";
+
+export interface ProtocolsSSLInterface  {
+
+    /**
+    * Selects the TLS protocols for the connector.
+    */
+    protocol: Array<SSLProtocol>;
+
+}
+export class ProtocolsSSL implements ProtocolsSSLInterface, Parameter {
+    /**
+    * Selects the TLS protocols for the connector.
+    */
+    protocol: Array<SSLProtocol>;
+
+    constructor(data: any) {
+        this.protocol = data.protocol;
+    }
+
+    public static getProtocolDescription(): string {
+        return "Selects the TLS protocols for the connector.";
+    }
+
+    public static fromJson(data: any): ProtocolsSSL {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ProtocolsSSL(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ProtocolsSSL> {
+        return ModelStream.decodeArray(source, ProtocolsSSL.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'protocol': this.protocol,
+        };
+    }
+
+    public clone(): ProtocolsSSL {
+        return ProtocolsSSL.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "protocol", data.protocol) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.protocol, other.protocol)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.protocol);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ProtocolsSSL(";
+        fingerprint += ModelEquality.fingerprint(this.protocol) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
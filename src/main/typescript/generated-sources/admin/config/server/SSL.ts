@@ -0,0 +1,277 @@
+import {
+    ModelAssignment,
+    ProtocolsSSL,
+    ModelStream,
+    KeystoreSSL,
+    ServerConfigKeystore,
+    Parameter,
+    ConnectorConfiguration,
+    ModelEquality,
+    CiphersSSL,
+} from "./../../../index";
+
+export interface SSLInterface  {
+
+    ciphers?: CiphersSSL;
+    /**
+    * Whether a client must provide a valid certificate before being accepted by the connector.
+    */
+    clientAuth?: boolean;
+    configuration?: ConnectorConfiguration;
+    keystore: KeystoreSSL;
+    /**
+    * The maximum number of request processing threads created by this connector.
+    */
+    maxThreads?: number;
+    protocols: ProtocolsSSL;
+    /**
+    * The TLS connection scheme. (e.g. \"https\")
+    */
+    scheme?: string;
+    /**
+    * The number of SSL sessions to maintain in the session cache.
+    */
+    sessionCacheSize?: number;
+    /**
+    * The time in seconds before a session is encountering its timeout.
+    */
+    sessionTimeout?: number;
+    truststore?: ServerConfigKeystore;
+
+}
+export class SSL implements SSLInterface, Parameter {
+    ciphers?: CiphersSSL;
+    /**
+    * Whether a client must provide a valid certificate before being accepted by the connector.
+    */
+    clientAuth?: boolean;
+    configuration?: ConnectorConfiguration;
+    keystore: KeystoreSSL;
+    /**
+    * The maximum number of request processing threads created by this connector.
+    */
+    maxThreads?: number;
+    protocols: ProtocolsSSL;
+    /**
+    * The TLS connection scheme. (e.g. \"https\")
+    */
+    scheme?: string;
+    /**
+    * The number of SSL sessions to maintain in the session cache.
+    */
+    sessionCacheSize?: number;
+    /**
+    * The time in seconds before a session is encountering its timeout.
+    */
+    sessionTimeout?: number;
+    truststore?: ServerConfigKeystore;
+
+    constructor(data: any) {
+        this.ciphers = CiphersSSL.fromJson(data?.ciphers);
+        let clientAuthDefault: any = false;
+        this.clientAuth = typeof data?.clientAuth !== "undefined" ? data?.clientAuth : clientAuthDefault;
+        this.configuration = ConnectorConfiguration.fromJson(data?.configuration);
+        this.keystore = KeystoreSSL.fromJson(data.keystore);
+        let maxThreadsDefault: any = 150;
+        this.maxThreads = typeof data?.maxThreads !== "undefined" ? data?.maxThreads : maxThreadsDefault;
+        this.protocols = ProtocolsSSL.fromJson(data.protocols);
+        let schemeDefault: any = "https";
+        this.scheme = typeof data?.scheme !== "undefined" ? data?.scheme : schemeDefault;
+        let sessionCacheSizeDefault: any = 0;
+        this.sessionCacheSize = typeof data?.sessionCacheSize !== "undefined" ? data?.sessionCacheSize : sessionCacheSizeDefault;
+        let sessionTimeoutDefault: any = 86400;
+        this.sessionTimeout = typeof data?.sessionTimeout !== "undefined" ? data?.sessionTimeout : sessionTimeoutDefault;
+        this.truststore = ServerConfigKeystore.fromJson(data?.truststore);
+    }
+
+    public static getCiphersDescription(): string {
+        return "";
+    }
+
+    public static getClientAuthDefault(): boolean {
+        return false;
+    }
+
+    public static getClientAuthDescription(): string {
+        return "Whether a client must provide a valid certificate before being accepted by the connector.";
+    }
+
+    public static getConfigurationDescription(): string {
+        return "";
+    }
+
+    public static getKeystoreDescription(): string {
+        return "";
+    }
+
+    public static getMaxThreadsDefault(): number {
+        return 150;
+    }
+
+    public static getMaxThreadsDescription(): string {
+        return "The maximum number of request processing threads created by this connector.";
+    }
+
+    public static getMaxThreadsMin(): number {
+        return 1;
+    }
+
+    public static getProtocolsDescription(): string {
+        return "";
+    }
+
+    public static getSchemeDefault(): string {
+        return "https";
+    }
+
+    public static getSchemeDescription(): string {
+        return "The TLS connection scheme. (e.g. \"https\")";
+    }
+
+    public static getSessionCacheSizeDefault(): number {
+        return 0;
+    }
+
+    public static getSessionCacheSizeDescription(): string {
+        return "The number of SSL sessions to maintain in the session cache.";
+    }
+
+    public static getSessionCacheSizeMin(): number {
+        return 0;
+    }
+
+    public static getSessionTimeoutDefault(): number {
+        return 86400;
+    }
+
+    public static getSessionTimeoutDescription(): string {
+        return "The time in seconds before a session is encountering its timeout.";
+    }
+
+    public static getSessionTimeoutMin(): number {
+        return 0;
+    }
+
+    public static getTruststoreDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): SSL {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SSL(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SSL> {
+        return ModelStream.decodeArray(source, SSL.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'ciphers': this.ciphers?.toJson(),
+            'clientAuth': this.clientAuth,
+            'configuration': this.configuration?.toJson(),
+            'keystore': this.keystore?.toJson(),
+            'maxThreads': this.maxThreads,
+            'protocols': this.protocols?.toJson(),
+            'scheme': this.scheme,
+            'sessionCacheSize': this.sessionCacheSize,
+            'sessionTimeout': this.sessionTimeout,
+            'truststore': this.truststore?.toJson(),
+        };
+    }
+
+    public clone(): SSL {
+        return SSL.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "ciphers", data?.ciphers, CiphersSSL.fromJson, CiphersSSL) || changed;
+        changed = ModelAssignment.assignValue(this, "clientAuth", typeof data?.clientAuth !== "undefined" ? data?.clientAuth : false) || changed;
+        changed = ModelAssignment.assignModel(this, "configuration", data?.configuration, ConnectorConfiguration.fromJson, ConnectorConfiguration) || changed;
+        changed = ModelAssignment.assignModel(this, "keystore", data.keystore, KeystoreSSL.fromJson, KeystoreSSL) || changed;
+        changed = ModelAssignment.assignValue(this, "maxThreads", typeof data?.maxThreads !== "undefined" ? data?.maxThreads : 150) || changed;
+        changed = ModelAssignment.assignModel(this, "protocols", data.protocols, ProtocolsSSL.fromJson, ProtocolsSSL) || changed;
+        changed = ModelAssignment.assignValue(this, "scheme", typeof data?.scheme !== "undefined" ? data?.scheme : "https") || changed;
+        changed = ModelAssignment.assignValue(this, "sessionCacheSize", typeof data?.sessionCacheSize !== "undefined" ? data?.sessionCacheSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "sessionTimeout", typeof data?.sessionTimeout !== "undefined" ? data?.sessionTimeout : 86400) || changed;
+        changed = ModelAssignment.assignModel(this, "truststore", data?.truststore, ServerConfigKeystore.fromJson, ServerConfigKeystore) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ciphers, other.ciphers)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.clientAuth, other.clientAuth)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.configuration, other.configuration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keystore, other.keystore)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxThreads, other.maxThreads)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.protocols, other.protocols)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scheme, other.scheme)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sessionCacheSize, other.sessionCacheSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sessionTimeout, other.sessionTimeout)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.truststore, other.truststore)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.ciphers);
+        hash = ModelEquality.hash(hash, this.clientAuth);
+        hash = ModelEquality.hash(hash, this.configuration);
+        hash = ModelEquality.hash(hash, this.keystore);
+        hash = ModelEquality.hash(hash, this.maxThreads);
+        hash = ModelEquality.hash(hash, this.protocols);
+        hash = ModelEquality.hash(hash, this.scheme);
+        hash = ModelEquality.hash(hash, this.sessionCacheSize);
+        hash = ModelEquality.hash(hash, this.sessionTimeout);
+        hash = ModelEquality.hash(hash, this.truststore);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SSL(";
+        fingerprint += ModelEquality.fingerprint(this.ciphers) + ",";
+        fingerprint += ModelEquality.fingerprint(this.clientAuth) + ",";
+        fingerprint += ModelEquality.fingerprint(this.configuration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keystore) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxThreads) + ",";
+        fingerprint += ModelEquality.fingerprint(this.protocols) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scheme) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sessionCacheSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sessionTimeout) + ",";
+        fingerprint += ModelEquality.fingerprint(this.truststore) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+export enum SSLKeystoreFormat {
+
+    WINDOWSUSER = 'WINDOWS_USER',
+    WINDOWSMACHINE = 'WINDOWS_MACHINE',
+    JKS = 'JKS',
+    PKCS12 = 'PKCS12',
+    PEM = 'PEM'
+
+}
\ No newline at end of file
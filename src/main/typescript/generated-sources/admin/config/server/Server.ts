@@ -0,0 +1,185 @@
+import {
+    ModelAssignment,
+    TruststoreServer,
+    ServerConfigUserStorage,
+    Apr,
+    Shutdown,
+    ModelStream,
+    ConnectorsServer,
+    Parameter,
+    Host,
+    ModelEquality,
+    ServerConfigLocalAuth,
+    OAuth,
+} from "./../../../index";
+
+export interface ServerInterface  {
+
+    apr?: Apr;
+    connectors: ConnectorsServer;
+    host: Host;
+    localAuth?: ServerConfigLocalAuth;
+    oauth?: OAuth;
+    shutdown: Shutdown;
+    truststore?: TruststoreServer;
+    user: ServerConfigUserStorage;
+
+}
+export class Server implements ServerInterface, Parameter {
+    apr?: Apr;
+    connectors: ConnectorsServer;
+    host: Host;
+    localAuth?: ServerConfigLocalAuth;
+    oauth?: OAuth;
+    shutdown: Shutdown;
+    truststore?: TruststoreServer;
+    user: ServerConfigUserStorage;
+
+    constructor(data: any) {
+        this.apr = Apr.fromJson(data?.apr);
+        this.connectors = ConnectorsServer.fromJson(data.connectors);
+        this.host = Host.fromJson(data.host);
+        this.localAuth = ServerConfigLocalAuth.fromJson(data?.localAuth);
+        this.oauth = OAuth.fromJson(data?.oauth);
+        this.shutdown = Shutdown.fromJson(data.shutdown);
+        this.truststore = TruststoreServer.fromJson(data?.truststore);
+        this.user = ServerConfigUserStorage.fromJson(data.user);
+    }
+
+    public static getAprDescription(): string {
+        return "";
+    }
+
+    public static getConnectorsDescription(): string {
+        return "";
+    }
+
+    public static getHostDescription(): string {
+        return "";
+    }
+
+    public static getLocalAuthDescription(): string {
+        return "";
+    }
+
+    public static getOauthDescription(): string {
+        return "";
+    }
+
+    public static getShutdownDescription(): string {
+        return "";
+    }
+
+    public static getTruststoreDescription(): string {
+        return "";
+    }
+
+    public static getUserDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Server {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Server(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Server> {
+        return ModelStream.decodeArray(source, Server.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'apr': this.apr?.toJson(),
+            'connectors': this.connectors?.toJson(),
+            'host': this.host?.toJson(),
+            'localAuth': this.localAuth?.toJson(),
+            'oauth': this.oauth?.toJson(),
+            'shutdown': this.shutdown?.toJson(),
+            'truststore': this.truststore?.toJson(),
+            'user': this.user?.toJson(),
+        };
+    }
+
+    public clone(): Server {
+        return Server.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "apr", data?.apr, Apr.fromJson, Apr) || changed;
+        changed = ModelAssignment.assignModel(this, "connectors", data.connectors, ConnectorsServer.fromJson, ConnectorsServer) || changed;
+        changed = ModelAssignment.assignModel(this, "host", data.host, Host.fromJson, Host) || changed;
+        changed = ModelAssignment.assignModel(this, "localAuth", data?.localAuth, ServerConfigLocalAuth.fromJson, ServerConfigLocalAuth) || changed;
+        changed = ModelAssignment.assignModel(this, "oauth", data?.oauth, OAuth.fromJson, OAuth) || changed;
+        changed = ModelAssignment.assignModel(this, "shutdown", data.shutdown, Shutdown.fromJson, Shutdown) || changed;
+        changed = ModelAssignment.assignModel(this, "truststore", data?.truststore, TruststoreServer.fromJson, TruststoreServer) || changed;
+        changed = ModelAssignment.assignModel(this, "user", data.user, ServerConfigUserStorage.fromJson, ServerConfigUserStorage) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.apr, other.apr)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.connectors, other.connectors)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.host, other.host)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.localAuth, other.localAuth)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.oauth, other.oauth)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.shutdown, other.shutdown)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.truststore, other.truststore)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.user, other.user)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.apr);
+        hash = ModelEquality.hash(hash, this.connectors);
+        hash = ModelEquality.hash(hash, this.host);
+        hash = ModelEquality.hash(hash, this.localAuth);
+        hash = ModelEquality.hash(hash, this.oauth);
+        hash = ModelEquality.hash(hash, this.shutdown);
+        hash = ModelEquality.hash(hash, this.truststore);
+        hash = ModelEquality.hash(hash, this.user);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Server(";
+        fingerprint += ModelEquality.fingerprint(this.apr) + ",";
+        fingerprint += ModelEquality.fingerprint(this.connectors) + ",";
+        fingerprint += ModelEquality.fingerprint(this.host) + ",";
+        fingerprint += ModelEquality.fingerprint(this.localAuth) + ",";
+        fingerprint += ModelEquality.fingerprint(this.oauth) + ",";
+        fingerprint += ModelEquality.fingerprint(this.shutdown) + ",";
+        fingerprint += ModelEquality.fingerprint(this.truststore) + ",";
+        fingerprint += ModelEquality.fingerprint(this.user) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    LocalAuthSoap,
+    Parameter,
+    ModelEquality,
+    LocalAuthRest,
+} from "./../../../index";
+
+export interface ServerConfigLocalAuthInterface  {
+
+    /**
+    * If enabled, the local authorization provider is available to authenticate the user login and provide tokens for accessing the server API. If disabled, only external (e.g., OAuth) access tokens are allowed for API calls.
+    */
+    enabled?: boolean;
+    rest: LocalAuthRest;
+    soap: LocalAuthSoap;
+
+}
+export class ServerConfigLocalAuth implements ServerConfigLocalAuthInterface, Parameter {
+    /**
+    * If enabled, the local authorization provider is available to authenticate the user login and provide tokens for accessing the server API. If disabled, only external (e.g., OAuth) access tokens are allowed for API calls.
+    */
+    enabled?: boolean;
+    rest: LocalAuthRest;
+    soap: LocalAuthSoap;
+
+    constructor(data: any) {
+        let enabledDefault: any = true;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        this.rest = LocalAuthRest.fromJson(data.rest);
+        this.soap = LocalAuthSoap.fromJson(data.soap);
+    }
+
+    public static getEnabledDefault(): boolean {
+        return true;
+    }
+
+    public static getEnabledDescription(): string {
+        return "If enabled, the local authorization provider is available to authenticate the user login and provide tokens for accessing the server API. If disabled, only external (e.g., OAuth) access tokens are allowed for API calls.";
+    }
+
+    public static getRestDescription(): string {
+        return "";
+    }
+
+    public static getSoapDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ServerConfigLocalAuth {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ServerConfigLocalAuth(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ServerConfigLocalAuth> {
+        return ModelStream.decodeArray(source, ServerConfigLocalAuth.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'enabled': this.enabled,
+            'rest': this.rest?.toJson(),
+            'soap': this.soap?.toJson(),
+        };
+    }
+
+    public clone(): ServerConfigLocalAuth {
+        return ServerConfigLocalAuth.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : true) || changed;
+        changed = ModelAssignment.assignModel(this, "rest", data.rest, LocalAuthRest.fromJson, LocalAuthRest) || changed;
+        changed = ModelAssignment.assignModel(this, "soap", data.soap, LocalAuthSoap.fromJson, LocalAuthSoap) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rest, other.rest)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.soap, other.soap)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.rest);
+        hash = ModelEquality.hash(hash, this.soap);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ServerConfigLocalAuth(";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rest) + ",";
+        fingerprint += ModelEquality.fingerprint(this.soap) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
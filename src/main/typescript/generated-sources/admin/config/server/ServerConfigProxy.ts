@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface ServerConfigProxyInterface  {
+
+    /**
+    * The proxy host's name.
+    */
+    host?: string;
+    /**
+    * The port on which the proxy listens.\".
+    */
+    port?: number;
+    /**
+    * The protocol scheme for the proxy (e.g. \"http\" or \"https\").
+    */
+    scheme?: string;
+
+}
+export class ServerConfigProxy implements ServerConfigProxyInterface, Parameter {
+    /**
+    * The proxy host's name.
+    */
+    host?: string;
+    /**
+    * The port on which the proxy listens.\".
+    */
+    port?: number;
+    /**
+    * The protocol scheme for the proxy (e.g. \"http\" or \"https\").
+    */
+    scheme?: string;
+
+    constructor(data: any) {
+        let hostDefault: any = "";
+        this.host = typeof data?.host !== "undefined" ? data?.host : hostDefault;
+        let portDefault: any = 0;
+        this.port = typeof data?.port !== "undefined" ? data?.port : portDefault;
+        let schemeDefault: any = "http";
+        this.scheme = typeof data?.scheme !== "undefined" ? data?.scheme : schemeDefault;
+    }
+
+    public static getHostDefault(): string {
+        return "";
+    }
+
+    public static getHostDescription(): string {
+        return "The proxy host's name.";
+    }
+
+    public static getPortDefault(): number {
+        return 0;
+    }
+
+    public static getPortDescription(): string {
+        return "The port on which the proxy listens.\".";
+    }
+
+    public static getSchemeDefault(): string {
+        return "http";
+    }
+
+    public static getSchemeDescription(): string {
+        return "The protocol scheme for the proxy (e.g. \"http\" or \"https\").";
+    }
+
+    public static fromJson(data: any): ServerConfigProxy {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ServerConfigProxy(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ServerConfigProxy> {
+        return ModelStream.decodeArray(source, ServerConfigProxy.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'host': this.host,
+            'port': this.port,
+            'scheme': this.scheme,
+        };
+    }
+
+    public clone(): ServerConfigProxy {
+        return ServerConfigProxy.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "host", typeof data?.host !== "undefined" ? data?.host : "") || changed;
+        changed = ModelAssignment.assignValue(this, "port", typeof data?.port !== "undefined" ? data?.port : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "scheme", typeof data?.scheme !== "undefined" ? data?.scheme : "http") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.host, other.host)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.port, other.port)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scheme, other.scheme)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.host);
+        hash = ModelEquality.hash(hash, this.port);
+        hash = ModelEquality.hash(hash, this.scheme);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ServerConfigProxy(";
+        fingerprint += ModelEquality.fingerprint(this.host) + ",";
+        fingerprint += ModelEquality.fingerprint(this.port) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scheme) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    UserLdap,
+    Parameter,
+    UserDb,
+    UserAzureAd,
+    ModelEquality,
+    UserXml,
+} from "./../../../index";
+
+export interface ServerConfigUserStorageInterface  {
+
+    azureAd?: UserAzureAd;
+    db?: UserDb;
+    ldap?: UserLdap;
+    /**
+    * Sets the name of the group that grants administrative rights to users. This allows replacing the default value \"admin\" with a user-defined group name. A user must be a member of the group to be granted administrative rights.
+    */
+    roleAdminGroup?: string;
+    /**
+    * Sets the name of the group that grants normal user rights to users. This allows replacing the default \"user\" value with a custom group name. A user must be a member of the group to be granted normal user rights.
+    */
+    roleUserGroup?: string;
+    xml?: UserXml;
+
+}
+export class ServerConfigUserStorage implements ServerConfigUserStorageInterface, Parameter {
+    azureAd?: UserAzureAd;
+    db?: UserDb;
+    ldap?: UserLdap;
+    /**
+    * Sets the name of the group that grants administrative rights to users. This allows replacing the default value \"admin\" with a user-defined group name. A user must be a member of the group to be granted administrative rights.
+    */
+    roleAdminGroup?: string;
+    /**
+    * Sets the name of the group that grants normal user rights to users. This allows replacing the default \"user\" value with a custom group name. A user must be a member of the group to be granted normal user rights.
+    */
+    roleUserGroup?: string;
+    xml?: UserXml;
+
+    constructor(data: any) {
+        this.azureAd = UserAzureAd.fromJson(data?.azureAd);
+        this.db = UserDb.fromJson(data?.db);
+        this.ldap = UserLdap.fromJson(data?.ldap);
+        let roleAdminGroupDefault: any = "admin";
+        this.roleAdminGroup = typeof data?.roleAdminGroup !== "undefined" ? data?.roleAdminGroup : roleAdminGroupDefault;
+        let roleUserGroupDefault: any = "user";
+        this.roleUserGroup = typeof data?.roleUserGroup !== "undefined" ? data?.roleUserGroup : roleUserGroupDefault;
+        this.xml = UserXml.fromJson(data?.xml);
+    }
+
+    public static getAzureAdDescription(): string {
+        return "";
+    }
+
+    public static getDbDescription(): string {
+        return "";
+    }
+
+    public static getLdapDescription(): string {
+        return "";
+    }
+
+    public static getRoleAdminGroupDefault(): string {
+        return "admin";
+    }
+
+    public static getRoleAdminGroupDescription(): string {
+        return "Sets the name of the group that grants administrative rights to users. This allows replacing the default value \"admin\" with a user-defined group name. A user must be a member of the group to be granted administrative rights.";
+    }
+
+    public static getRoleUserGroupDefault(): string {
+        return "user";
+    }
+
+    public static getRoleUserGroupDescription(): string {
+        return "Sets the name of the group that grants normal user rights to users. This allows replacing the default \"user\" value with a custom group name. A user must be a member of the group to be granted normal user rights.";
+    }
+
+    public static getXmlDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ServerConfigUserStorage {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ServerConfigUserStorage(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ServerConfigUserStorage> {
+        return ModelStream.decodeArray(source, ServerConfigUserStorage.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'azureAd': this.azureAd?.toJson(),
+            'db': this.db?.toJson(),
+            'ldap': this.ldap?.toJson(),
+            'roleAdminGroup': this.roleAdminGroup,
+            'roleUserGroup': this.roleUserGroup,
+            'xml': this.xml?.toJson(),
+        };
+    }
+
+    public clone(): ServerConfigUserStorage {
+        return ServerConfigUserStorage.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "azureAd", data?.azureAd, UserAzureAd.fromJson, UserAzureAd) || changed;
+        changed = ModelAssignment.assignModel(this, "db", data?.db, UserDb.fromJson, UserDb) || changed;
+        changed = ModelAssignment.assignModel(this, "ldap", data?.ldap, UserLdap.fromJson, UserLdap) || changed;
+        changed = ModelAssignment.assignValue(this, "roleAdminGroup", typeof data?.roleAdminGroup !== "undefined" ? data?.roleAdminGroup : "admin") || changed;
+        changed = ModelAssignment.assignValue(this, "roleUserGroup", typeof data?.roleUserGroup !== "undefined" ? data?.roleUserGroup : "user") || changed;
+        changed = ModelAssignment.assignModel(this, "xml", data?.xml, UserXml.fromJson, UserXml) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.azureAd, other.azureAd)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.db, other.db)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ldap, other.ldap)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.roleAdminGroup, other.roleAdminGroup)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.roleUserGroup, other.roleUserGroup)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.xml, other.xml)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.azureAd);
+        hash = ModelEquality.hash(hash, this.db);
+        hash = ModelEquality.hash(hash, this.ldap);
+        hash = ModelEquality.hash(hash, this.roleAdminGroup);
+        hash = ModelEquality.hash(hash, this.roleUserGroup);
+        hash = ModelEquality.hash(hash, this.xml);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ServerConfigUserStorage(";
+        fingerprint += ModelEquality.fingerprint(this.azureAd) + ",";
+        fingerprint += ModelEquality.fingerprint(this.db) + ",";
+        fingerprint += ModelEquality.fingerprint(this.ldap) + ",";
+        fingerprint += ModelEquality.fingerprint(this.roleAdminGroup) + ",";
+        fingerprint += ModelEquality.fingerprint(this.roleUserGroup) + ",";
+        fingerprint += ModelEquality.fingerprint(this.xml) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,239 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface SessionLimitsInterface  {
+
+    /**
+    * Sets the overall global disk space (in bytes) the server may use (set to 0 to disable this limitation).
+    */
+    diskSpaceLimit?: number;
+    /**
+    * Sets the maximum disk space (in bytes) a single user may use (set to 0 to disable this limitation).
+    */
+    diskSpaceLimitUser?: number;
+    /**
+    * Sets the maximum number of files that may be uploaded to the server (set to 0 to disable this limitation).
+    */
+    maxFiles?: number;
+    /**
+    * Sets the maximum number of files a single user may upload to the server (set to 0 to disable this limitation).
+    */
+    maxFilesUser?: number;
+    /**
+    * Sets the maximum size (in bytes) a file uploaded to the server may have (set to 0 to disable this limitation).
+    */
+    uploadLimit?: number;
+    /**
+    * Sets the maximum size (in bytes) a file uploaded by a single user may have (set to 0 to disable this limitation).
+    */
+    uploadLimitUser?: number;
+
+}
+export class SessionLimits implements SessionLimitsInterface, Parameter {
+    /**
+    * Sets the overall global disk space (in bytes) the server may use (set to 0 to disable this limitation).
+    */
+    diskSpaceLimit?: number;
+    /**
+    * Sets the maximum disk space (in bytes) a single user may use (set to 0 to disable this limitation).
+    */
+    diskSpaceLimitUser?: number;
+    /**
+    * Sets the maximum number of files that may be uploaded to the server (set to 0 to disable this limitation).
+    */
+    maxFiles?: number;
+    /**
+    * Sets the maximum number of files a single user may upload to the server (set to 0 to disable this limitation).
+    */
+    maxFilesUser?: number;
+    /**
+    * Sets the maximum size (in bytes) a file uploaded to the server may have (set to 0 to disable this limitation).
+    */
+    uploadLimit?: number;
+    /**
+    * Sets the maximum size (in bytes) a file uploaded by a single user may have (set to 0 to disable this limitation).
+    */
+    uploadLimitUser?: number;
+
+    constructor(data: any) {
+        let diskSpaceLimitDefault: any = 0;
+        this.diskSpaceLimit = typeof data?.diskSpaceLimit !== "undefined" ? data?.diskSpaceLimit : diskSpaceLimitDefault;
+        let diskSpaceLimitUserDefault: any = 0;
+        this.diskSpaceLimitUser = typeof data?.diskSpaceLimitUser !== "undefined" ? data?.diskSpaceLimitUser : diskSpaceLimitUserDefault;
+        let maxFilesDefault: any = 0;
+        this.maxFiles = typeof data?.maxFiles !== "undefined" ? data?.maxFiles : maxFilesDefault;
+        let maxFilesUserDefault: any = 0;
+        this.maxFilesUser = typeof data?.maxFilesUser !== "undefined" ? data?.maxFilesUser : maxFilesUserDefault;
+        let uploadLimitDefault: any = 0;
+        this.uploadLimit = typeof data?.uploadLimit !== "undefined" ? data?.uploadLimit : uploadLimitDefault;
+        let uploadLimitUserDefault: any = 0;
+        this.uploadLimitUser = typeof data?.uploadLimitUser !== "undefined" ? data?.uploadLimitUser : uploadLimitUserDefault;
+    }
+
+    public static getDiskSpaceLimitDefault(): number {
+        return 0;
+    }
+
+    public static getDiskSpaceLimitDescription(): string {
+        return "Sets the overall global disk space (in bytes) the server may use (set to 0 to disable this limitation).";
+    }
+
+    public static getDiskSpaceLimitMin(): number {
+        return 0;
+    }
+
+    public static getDiskSpaceLimitUserDefault(): number {
+        return 0;
+    }
+
+    public static getDiskSpaceLimitUserDescription(): string {
+        return "Sets the maximum disk space (in bytes) a single user may use (set to 0 to disable this limitation).";
+    }
+
+    public static getDiskSpaceLimitUserMin(): number {
+        return 0;
+    }
+
+    public static getMaxFilesDefault(): number {
+        return 0;
+    }
+
+    public static getMaxFilesDescription(): string {
+        return "Sets the maximum number of files that may be uploaded to the server (set to 0 to disable this limitation).";
+    }
+
+    public static getMaxFilesMin(): number {
+        return 0;
+    }
+
+    public static getMaxFilesUserDefault(): number {
+        return 0;
+    }
+
+    public static getMaxFilesUserDescription(): string {
+        return "Sets the maximum number of files a single user may upload to the server (set to 0 to disable this limitation).";
+    }
+
+    public static getMaxFilesUserMin(): number {
+        return 0;
+    }
+
+    public static getUploadLimitDefault(): number {
+        return 0;
+    }
+
+    public static getUploadLimitDescription(): string {
+        return "Sets the maximum size (in bytes) a file uploaded to the server may have (set to 0 to disable this limitation).";
+    }
+
+    public static getUploadLimitMin(): number {
+        return 0;
+    }
+
+    public static getUploadLimitUserDefault(): number {
+        return 0;
+    }
+
+    public static getUploadLimitUserDescription(): string {
+        return "Sets the maximum size (in bytes) a file uploaded by a single user may have (set to 0 to disable this limitation).";
+    }
+
+    public static getUploadLimitUserMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): SessionLimits {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SessionLimits(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SessionLimits> {
+        return ModelStream.decodeArray(source, SessionLimits.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'diskSpaceLimit': this.diskSpaceLimit,
+            'diskSpaceLimitUser': this.diskSpaceLimitUser,
+            'maxFiles': this.maxFiles,
+            'maxFilesUser': this.maxFilesUser,
+            'uploadLimit': this.uploadLimit,
+            'uploadLimitUser': this.uploadLimitUser,
+        };
+    }
+
+    public clone(): SessionLimits {
+        return SessionLimits.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "diskSpaceLimit", typeof data?.diskSpaceLimit !== "undefined" ? data?.diskSpaceLimit : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "diskSpaceLimitUser", typeof data?.diskSpaceLimitUser !== "undefined" ? data?.diskSpaceLimitUser : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "maxFiles", typeof data?.maxFiles !== "undefined" ? data?.maxFiles : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "maxFilesUser", typeof data?.maxFilesUser !== "undefined" ? data?.maxFilesUser : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "uploadLimit", typeof data?.uploadLimit !== "undefined" ? data?.uploadLimit : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "uploadLimitUser", typeof data?.uploadLimitUser !== "undefined" ? data?.uploadLimitUser : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.diskSpaceLimit, other.diskSpaceLimit)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.diskSpaceLimitUser, other.diskSpaceLimitUser)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxFiles, other.maxFiles)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxFilesUser, other.maxFilesUser)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.uploadLimit, other.uploadLimit)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.uploadLimitUser, other.uploadLimitUser)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.diskSpaceLimit);
+        hash = ModelEquality.hash(hash, this.diskSpaceLimitUser);
+        hash = ModelEquality.hash(hash, this.maxFiles);
+        hash = ModelEquality.hash(hash, this.maxFilesUser);
+        hash = ModelEquality.hash(hash, this.uploadLimit);
+        hash = ModelEquality.hash(hash, this.uploadLimitUser);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SessionLimits(";
+        fingerprint += ModelEquality.fingerprint(this.diskSpaceLimit) + ",";
+        fingerprint += ModelEquality.fingerprint(this.diskSpaceLimitUser) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxFiles) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxFilesUser) + ",";
+        fingerprint += ModelEquality.fingerprint(this.uploadLimit) + ",";
+        fingerprint += ModelEquality.fingerprint(this.uploadLimitUser) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
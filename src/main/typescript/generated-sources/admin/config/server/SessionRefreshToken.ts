@@ -0,0 +1,94 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface SessionRefreshTokenInterface  {
+
+    /**
+    * Number of seconds, before the token expires.
+    */
+    expiration?: number;
+
+}
+export class SessionRefreshToken implements SessionRefreshTokenInterface, Parameter {
+    /**
+    * Number of seconds, before the token expires.
+    */
+    expiration?: number;
+
+    constructor(data: any) {
+        let expirationDefault: any = 43200;
+        this.expiration = typeof data?.expiration !== "undefined" ? data?.expiration : expirationDefault;
+    }
+
+    public static getExpirationDefault(): number {
+        return 43200;
+    }
+
+    public static getExpirationDescription(): string {
+        return "Number of seconds, before the token expires.";
+    }
+
+    public static getExpirationMin(): number {
+        return 10;
+    }
+
+    public static fromJson(data: any): SessionRefreshToken {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SessionRefreshToken(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SessionRefreshToken> {
+        return ModelStream.decodeArray(source, SessionRefreshToken.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'expiration': this.expiration,
+        };
+    }
+
+    public clone(): SessionRefreshToken {
+        return SessionRefreshToken.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "expiration", typeof data?.expiration !== "undefined" ? data?.expiration : 43200) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.expiration, other.expiration)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.expiration);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SessionRefreshToken(";
+        fingerprint += ModelEquality.fingerprint(this.expiration) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface ShutdownInterface  {
+
+    /**
+    * The command that shall be listened for.
+    */
+    command?: string;
+    /**
+    * The port that shall listen for shutdown commands.
+    */
+    port?: number;
+    /**
+    * When set to true, the server will restart upon the shutdown's completion. Otherwise, the server will be stopped after the command.
+    */
+    restart?: boolean;
+
+}
+export class Shutdown implements ShutdownInterface, Parameter {
+    /**
+    * The command that shall be listened for.
+    */
+    command?: string;
+    /**
+    * The port that shall listen for shutdown commands.
+    */
+    port?: number;
+    /**
+    * When set to true, the server will restart upon the shutdown's completion. Otherwise, the server will be stopped after the command.
+    */
+    restart?: boolean;
+
+    constructor(data: any) {
+        let commandDefault: any = "SHUTDOWN";
+        this.command = typeof data?.command !== "undefined" ? data?.command : commandDefault;
+        let portDefault: any = 8005;
+        this.port = typeof data?.port !== "undefined" ? data?.port : portDefault;
+        let restartDefault: any = true;
+        this.restart = typeof data?.restart !== "undefined" ? data?.restart : restartDefault;
+    }
+
+    public static getCommandDefault(): string {
+        return "SHUTDOWN";
+    }
+
+    public static getCommandDescription(): string {
+        return "The command that shall be listened for.";
+    }
+
+    public static getPortDefault(): number {
+        return 8005;
+    }
+
+    public static getPortDescription(): string {
+        return "The port that shall listen for shutdown commands.";
+    }
+
+    public static getRestartDefault(): boolean {
+        return true;
+    }
+
+    public static getRestartDescription(): string {
+        return "When set to true, the server will restart upon the shutdown's completion. Otherwise, the server will be stopped after the command.";
+    }
+
+    public static fromJson(data: any): Shutdown {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Shutdown(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Shutdown> {
+        return ModelStream.decodeArray(source, Shutdown.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'command': this.command,
+            'port': this.port,
+            'restart': this.restart,
+        };
+    }
+
+    public clone(): Shutdown {
+        return Shutdown.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "command", typeof data?.command !== "undefined" ? data?.command : "SHUTDOWN") || changed;
+        changed = ModelAssignment.assignValue(this, "port", typeof data?.port !== "undefined" ? data?.port : 8005) || changed;
+        changed = ModelAssignment.assignValue(this, "restart", typeof data?.restart !== "undefined" ? data?.restart : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.command, other.command)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.port, other.port)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.restart, other.restart)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.command);
+        hash = ModelEquality.hash(hash, this.port);
+        hash = ModelEquality.hash(hash, this.restart);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Shutdown(";
+        fingerprint += ModelEquality.fingerprint(this.command) + ",";
+        fingerprint += ModelEquality.fingerprint(this.port) + ",";
+        fingerprint += ModelEquality.fingerprint(this.restart) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
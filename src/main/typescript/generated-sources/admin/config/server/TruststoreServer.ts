@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface TruststoreServerInterface  {
+
+    /**
+    * The name (without path) of the JKS keystore file (in the \"keystore/\" folder) that is to serve as the server's truststore.
+    */
+    file?: string;
+    /**
+    * The password required to access the truststore.
+    */
+    password?: string;
+
+}
+export class TruststoreServer implements TruststoreServerInterface, Parameter {
+    /**
+    * The name (without path) of the JKS keystore file (in the \"keystore/\" folder) that is to serve as the server's truststore.
+    */
+    file?: string;
+    /**
+    * The password required to access the truststore.
+    */
+    password?: string;
+
+    constructor(data: any) {
+        let fileDefault: any = "";
+        this.file = typeof data?.file !== "undefined" ? data?.file : fileDefault;
+        let passwordDefault: any = "";
+        this.password = typeof data?.password !== "undefined" ? data?.password : passwordDefault;
+    }
+
+    public static getFileDefault(): string {
+        return "";
+    }
+
+    public static getFileDescription(): string {
+        return "The name (without path) of the JKS keystore file (in the \"keystore\/\" folder) that is to serve as the server's truststore.";
+    }
+
+    public static getPasswordDefault(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "The password required to access the truststore.";
+    }
+
+    public static fromJson(data: any): TruststoreServer {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new TruststoreServer(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<TruststoreServer> {
+        return ModelStream.decodeArray(source, TruststoreServer.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'file': this.file,
+            'password': this.password,
+        };
+    }
+
+    public clone(): TruststoreServer {
+        return TruststoreServer.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "file", typeof data?.file !== "undefined" ? data?.file : "") || changed;
+        changed = ModelAssignment.assignValue(this, "password", typeof data?.password !== "undefined" ? data?.password : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.file, other.file)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.file);
+        hash = ModelEquality.hash(hash, this.password);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "TruststoreServer(";
+        fingerprint += ModelEquality.fingerprint(this.file) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
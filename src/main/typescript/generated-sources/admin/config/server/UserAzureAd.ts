@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface UserAzureAdInterface  {
+
+    /**
+    * Defines the URL to be used for logging in to Azure AD.
+    */
+    authority?: string;
+    /**
+    * Defines the client (application) ID that is stored in the Azure AD in the application registration.
+    */
+    clientId?: string;
+    /**
+    * Defines the scope to be used when logging in to Anzure AD.
+    */
+    scope?: string;
+
+}
+export class UserAzureAd implements UserAzureAdInterface, Parameter {
+    /**
+    * Defines the URL to be used for logging in to Azure AD.
+    */
+    authority?: string;
+    /**
+    * Defines the client (application) ID that is stored in the Azure AD in the application registration.
+    */
+    clientId?: string;
+    /**
+    * Defines the scope to be used when logging in to Anzure AD.
+    */
+    scope?: string;
+
+    constructor(data: any) {
+        let authorityDefault: any = "https://login.microsoftonline.com/organizations/";
+        this.authority = typeof data?.authority !== "undefined" ? data?.authority : authorityDefault;
+        let clientIdDefault: any = "";
+        this.clientId = typeof data?.clientId !== "undefined" ? data?.clientId : clientIdDefault;
+        let scopeDefault: any = "user.read";
+        this.scope = typeof data?.scope !== "undefined" ? data?.scope : scopeDefault;
+    }
+
+    public static getAuthorityDefault(): string {
+        return "https://login.microsoftonline.com/organizations/";
+    }
+
+    public static getAuthorityDescription(): string {
+        return "Defines the URL to be used for logging in to Azure AD.";
+    }
+
+    public static getClientIdDefault(): string {
+        return "";
+    }
+
+    public static getClientIdDescription(): string {
+        return "Defines the client (application) ID that is stored in the Azure AD in the application registration.";
+    }
+
+    public static getScopeDefault(): string {
+        return "user.read";
+    }
+
+    public static getScopeDescription(): string {
+        return "Defines the scope to be used when logging in to Anzure AD.";
+    }
+
+    public static fromJson(data: any): UserAzureAd {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserAzureAd(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserAzureAd> {
+        return ModelStream.decodeArray(source, UserAzureAd.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'authority': this.authority,
+            'clientId': this.clientId,
+            'scope': this.scope,
+        };
+    }
+
+    public clone(): UserAzureAd {
+        return UserAzureAd.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "authority", typeof data?.authority !== "undefined" ? data?.authority : "https://login.microsoftonline.com/organizations/") || changed;
+        changed = ModelAssignment.assignValue(this, "clientId", typeof data?.clientId !== "undefined" ? data?.clientId : "") || changed;
+        changed = ModelAssignment.assignValue(this, "scope", typeof data?.scope !== "undefined" ? data?.scope : "user.read") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.authority, other.authority)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.clientId, other.clientId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scope, other.scope)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.authority);
+        hash = ModelEquality.hash(hash, this.clientId);
+        hash = ModelEquality.hash(hash, this.scope);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserAzureAd(";
+        fingerprint += ModelEquality.fingerprint(this.authority) + ",";
+        fingerprint += ModelEquality.fingerprint(this.clientId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scope) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface UserCertificateLdapInterface  {
+
+    /**
+    * The name of the attribute selecting the user's certificate.
+    */
+    attributeName?: string;
+    /**
+    * When set to true a user certificate can be found in the Active Directory.
+    */
+    enabled?: boolean;
+
+}
+export class UserCertificateLdap implements UserCertificateLdapInterface, Parameter {
+    /**
+    * The name of the attribute selecting the user's certificate.
+    */
+    attributeName?: string;
+    /**
+    * When set to true a user certificate can be found in the Active Directory.
+    */
+    enabled?: boolean;
+
+    constructor(data: any) {
+        let attributeNameDefault: any = "userCertificate";
+        this.attributeName = typeof data?.attributeName !== "undefined" ? data?.attributeName : attributeNameDefault;
+        let enabledDefault: any = false;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+    }
+
+    public static getAttributeNameDefault(): string {
+        return "userCertificate";
+    }
+
+    public static getAttributeNameDescription(): string {
+        return "The name of the attribute selecting the user's certificate.";
+    }
+
+    public static getEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getEnabledDescription(): string {
+        return "When set to true a user certificate can be found in the Active Directory.";
+    }
+
+    public static fromJson(data: any): UserCertificateLdap {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserCertificateLdap(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserCertificateLdap> {
+        return ModelStream.decodeArray(source, UserCertificateLdap.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'attributeName': this.attributeName,
+            'enabled': this.enabled,
+        };
+    }
+
+    public clone(): UserCertificateLdap {
+        return UserCertificateLdap.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "attributeName", typeof data?.attributeName !== "undefined" ? data?.attributeName : "userCertificate") || changed;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.attributeName, other.attributeName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.attributeName);
+        hash = ModelEquality.hash(hash, this.enabled);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserCertificateLdap(";
+        fingerprint += ModelEquality.fingerprint(this.attributeName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,315 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface UserDbInterface  {
+
+    /**
+    * The name of the database user to access the database for.
+    */
+    connectionName?: string;
+    /**
+    * The password of the database user to access the database with.
+    */
+    connectionPassword?: string;
+    /**
+    * The URL of the database. (e.g. \"jdbc:mysql://localhost:3306/webpdf\".)
+    */
+    connectionURL?: string;
+    /**
+    * This field currently is unused.
+    */
+    digest?: string;
+    /**
+    * The name of the driver (path of the java class) to use for database access. (e.g. \"com.mysql.jdbc.Driver\".)
+    */
+    driverName?: string;
+    /**
+    * The name of the column containing the user's role.
+    */
+    roleNameCol?: string;
+    /**
+    * The name of the column containing the user's credentials.
+    */
+    userCredCol?: string;
+    /**
+    * The name of the column containing the user's name.
+    */
+    userNameCol?: string;
+    /**
+    * The name of the table that defines the available user roles.
+    */
+    userRoleTable?: string;
+    /**
+    * The name of the database table, that lists the server's users.
+    */
+    userTable?: string;
+
+}
+export class UserDb implements UserDbInterface, Parameter {
+    /**
+    * The name of the database user to access the database for.
+    */
+    connectionName?: string;
+    /**
+    * The password of the database user to access the database with.
+    */
+    connectionPassword?: string;
+    /**
+    * The URL of the database. (e.g. \"jdbc:mysql://localhost:3306/webpdf\".)
+    */
+    connectionURL?: string;
+    /**
+    * This field currently is unused.
+    */
+    digest?: string;
+    /**
+    * The name of the driver (path of the java class) to use for database access. (e.g. \"com.mysql.jdbc.Driver\".)
+    */
+    driverName?: string;
+    /**
+    * The name of the column containing the user's role.
+    */
+    roleNameCol?: string;
+    /**
+    * The name of the column containing the user's credentials.
+    */
+    userCredCol?: string;
+    /**
+    * The name of the column containing the user's name.
+    */
+    userNameCol?: string;
+    /**
+    * The name of the table that defines the available user roles.
+    */
+    userRoleTable?: string;
+    /**
+    * The name of the database table, that lists the server's users.
+    */
+    userTable?: string;
+
+    constructor(data: any) {
+        let connectionNameDefault: any = "";
+        this.connectionName = typeof data?.connectionName !== "undefined" ? data?.connectionName : connectionNameDefault;
+        let connectionPasswordDefault: any = "";
+        this.connectionPassword = typeof data?.connectionPassword !== "undefined" ? data?.connectionPassword : connectionPasswordDefault;
+        let connectionURLDefault: any = "";
+        this.connectionURL = typeof data?.connectionURL !== "undefined" ? data?.connectionURL : connectionURLDefault;
+        let digestDefault: any = "";
+        this.digest = typeof data?.digest !== "undefined" ? data?.digest : digestDefault;
+        let driverNameDefault: any = "";
+        this.driverName = typeof data?.driverName !== "undefined" ? data?.driverName : driverNameDefault;
+        let roleNameColDefault: any = "role_name";
+        this.roleNameCol = typeof data?.roleNameCol !== "undefined" ? data?.roleNameCol : roleNameColDefault;
+        let userCredColDefault: any = "user_pass";
+        this.userCredCol = typeof data?.userCredCol !== "undefined" ? data?.userCredCol : userCredColDefault;
+        let userNameColDefault: any = "user_name";
+        this.userNameCol = typeof data?.userNameCol !== "undefined" ? data?.userNameCol : userNameColDefault;
+        let userRoleTableDefault: any = "user_roles";
+        this.userRoleTable = typeof data?.userRoleTable !== "undefined" ? data?.userRoleTable : userRoleTableDefault;
+        let userTableDefault: any = "users";
+        this.userTable = typeof data?.userTable !== "undefined" ? data?.userTable : userTableDefault;
+    }
+
+    public static getConnectionNameDefault(): string {
+        return "";
+    }
+
+    public static getConnectionNameDescription(): string {
+        return "The name of the database user to access the database for.";
+    }
+
+    public static getConnectionPasswordDefault(): string {
+        return "";
+    }
+
+    public static getConnectionPasswordDescription(): string {
+        return "The password of the database user to access the database with.";
+    }
+
+    public static getConnectionURLDefault(): string {
+        return "";
+    }
+
+    public static getConnectionURLDescription(): string {
+        return "The URL of the database. (e.g. \"jdbc:mysql:\/\/localhost:3306\/webpdf\".)";
+    }
+
+    public static getDigestDefault(): string {
+        return "";
+    }
+
+    public static getDigestDescription(): string {
+        return "This field currently is unused.";
+    }
+
+    public static getDriverNameDefault(): string {
+        return "";
+    }
+
+    public static getDriverNameDescription(): string {
+        return "The name of the driver (path of the java class) to use for database access. (e.g. \"com.mysql.jdbc.Driver\".)";
+    }
+
+    public static getRoleNameColDefault(): string {
+        return "role_name";
+    }
+
+    public static getRoleNameColDescription(): string {
+        return "The name of the column containing the user's role.";
+    }
+
+    public static getUserCredColDefault(): string {
+        return "user_pass";
+    }
+
+    public static getUserCredColDescription(): string {
+        return "The name of the column containing the user's credentials.";
+    }
+
+    public static getUserNameColDefault(): string {
+        return "user_name";
+    }
+
+    public static getUserNameColDescription(): string {
+        return "The name of the column containing the user's name.";
+    }
+
+    public static getUserRoleTableDefault(): string {
+        return "user_roles";
+    }
+
+    public static getUserRoleTableDescription(): string {
+        return "The name of the table that defines the available user roles.";
+    }
+
+    public static getUserTableDefault(): string {
+        return "users";
+    }
+
+    public static getUserTableDescription(): string {
+        return "The name of the database table, that lists the server's users.";
+    }
+
+    public static fromJson(data: any): UserDb {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserDb(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserDb> {
+        return ModelStream.decodeArray(source, UserDb.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'connectionName': this.connectionName,
+            'connectionPassword': this.connectionPassword,
+            'connectionURL': this.connectionURL,
+            'digest': this.digest,
+            'driverName': this.driverName,
+            'roleNameCol': this.roleNameCol,
+            'userCredCol': this.userCredCol,
+            'userNameCol': this.userNameCol,
+            'userRoleTable': this.userRoleTable,
+            'userTable': this.userTable,
+        };
+    }
+
+    public clone(): UserDb {
+        return UserDb.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "connectionName", typeof data?.connectionName !== "undefined" ? data?.connectionName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "connectionPassword", typeof data?.connectionPassword !== "undefined" ? data?.connectionPassword : "") || changed;
+        changed = ModelAssignment.assignValue(this, "connectionURL", typeof data?.connectionURL !== "undefined" ? data?.connectionURL : "") || changed;
+        changed = ModelAssignment.assignValue(this, "digest", typeof data?.digest !== "undefined" ? data?.digest : "") || changed;
+        changed = ModelAssignment.assignValue(this, "driverName", typeof data?.driverName !== "undefined" ? data?.driverName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "roleNameCol", typeof data?.roleNameCol !== "undefined" ? data?.roleNameCol : "role_name") || changed;
+        changed = ModelAssignment.assignValue(this, "userCredCol", typeof data?.userCredCol !== "undefined" ? data?.userCredCol : "user_pass") || changed;
+        changed = ModelAssignment.assignValue(this, "userNameCol", typeof data?.userNameCol !== "undefined" ? data?.userNameCol : "user_name") || changed;
+        changed = ModelAssignment.assignValue(this, "userRoleTable", typeof data?.userRoleTable !== "undefined" ? data?.userRoleTable : "user_roles") || changed;
+        changed = ModelAssignment.assignValue(this, "userTable", typeof data?.userTable !== "undefined" ? data?.userTable : "users") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.connectionName, other.connectionName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.connectionPassword, other.connectionPassword)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.connectionURL, other.connectionURL)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.digest, other.digest)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.driverName, other.driverName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.roleNameCol, other.roleNameCol)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userCredCol, other.userCredCol)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userNameCol, other.userNameCol)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userRoleTable, other.userRoleTable)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userTable, other.userTable)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.connectionName);
+        hash = ModelEquality.hash(hash, this.connectionPassword);
+        hash = ModelEquality.hash(hash, this.connectionURL);
+        hash = ModelEquality.hash(hash, this.digest);
+        hash = ModelEquality.hash(hash, this.driverName);
+        hash = ModelEquality.hash(hash, this.roleNameCol);
+        hash = ModelEquality.hash(hash, this.userCredCol);
+        hash = ModelEquality.hash(hash, this.userNameCol);
+        hash = ModelEquality.hash(hash, this.userRoleTable);
+        hash = ModelEquality.hash(hash, this.userTable);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserDb(";
+        fingerprint += ModelEquality.fingerprint(this.connectionName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.connectionPassword) + ",";
+        fingerprint += ModelEquality.fingerprint(this.connectionURL) + ",";
+        fingerprint += ModelEquality.fingerprint(this.digest) + ",";
+        fingerprint += ModelEquality.fingerprint(this.driverName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.roleNameCol) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userCredCol) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userNameCol) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userRoleTable) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userTable) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface UserKeepAliveLdapInterface  {
+
+    /**
+    * When set to true the server sends a ping to the configured LDAP server to keep the connection alive.
+    */
+    enabled?: boolean;
+    /**
+    * The sending interval in seconds at which the ping is sent.
+    */
+    sendInterval?: number;
+
+}
+export class UserKeepAliveLdap implements UserKeepAliveLdapInterface, Parameter {
+    /**
+    * When set to true the server sends a ping to the configured LDAP server to keep the connection alive.
+    */
+    enabled?: boolean;
+    /**
+    * The sending interval in seconds at which the ping is sent.
+    */
+    sendInterval?: number;
+
+    constructor(data: any) {
+        let enabledDefault: any = false;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        let sendIntervalDefault: any = 300;
+        this.sendInterval = typeof data?.sendInterval !== "undefined" ? data?.sendInterval : sendIntervalDefault;
+    }
+
+    public static getEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getEnabledDescription(): string {
+        return "When set to true the server sends a ping to the configured LDAP server to keep the connection alive.";
+    }
+
+    public static getSendIntervalDefault(): number {
+        return 300;
+    }
+
+    public static getSendIntervalDescription(): string {
+        return "The sending interval in seconds at which the ping is sent.";
+    }
+
+    public static fromJson(data: any): UserKeepAliveLdap {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserKeepAliveLdap(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserKeepAliveLdap> {
+        return ModelStream.decodeArray(source, UserKeepAliveLdap.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'enabled': this.enabled,
+            'sendInterval': this.sendInterval,
+        };
+    }
+
+    public clone(): UserKeepAliveLdap {
+        return UserKeepAliveLdap.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : false) || changed;
+        changed = ModelAssignment.assignValue(this, "sendInterval", typeof data?.sendInterval !== "undefined" ? data?.sendInterval : 300) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sendInterval, other.sendInterval)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.sendInterval);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserKeepAliveLdap(";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sendInterval) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
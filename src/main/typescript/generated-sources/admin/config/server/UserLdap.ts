@@ -0,0 +1,361 @@
+import {
+    ModelAssignment,
+    UserLdapCertificatesTrustMode,
+    UserCertificateLdap,
+    ModelStream,
+    UserPKCS12,
+    UserKeepAliveLdap,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface UserLdapInterface  {
+
+    /**
+    * Specifies the mode for handling the certificates presented by the LDAP server when establishing a connection.  *   validate = Only certificates that can be verified as publicly valid are classified as trusted. It may be necessary to place the certificate or the issuer's certificate in the server's truststore. Self-signed certificates (e.g., from an own certificate authority) are excluded if they cannot be verified via a configured truststore. *   acceptAll = All certificates are classified as trusted, including expired, unverifiable, invalid or self-signed certificates.
+    */
+    certificatesTrustMode?: UserLdapCertificatesTrustMode;
+    /**
+    * The name of the user used to access the LDAP server. (e.g. \"cn=ldapuser,cn=Users,dc=example,dc=local\".)
+    */
+    connectionName?: string;
+    /**
+    * The password used to access the LDAP server.
+    */
+    connectionPassword?: string;
+    /**
+    * The URL used to connect to the LDAP server. (e.g. \"ldap://server.example.com:389/\".)
+    */
+    connectionURL?: string;
+    /**
+    * When set to true, all LDAP requests that respond with references are followed. The same schema and credentials are used for the referred request.
+    */
+    followReferral?: boolean;
+    keepAlive?: UserKeepAliveLdap;
+    /**
+    * The Base for the LDAP user's role determination. (e.g. \"CN=Users,DC=example,DC=local\".)
+    */
+    roleBase?: string;
+    /**
+    * The field that indicates that a user is part of a group. (e.g. \"cn\".)
+    */
+    roleField?: string;
+    /**
+    * The LDAP request used to find the user's role with. (e.g. \"(member={0})\".)
+    */
+    roleSearch?: string;
+    /**
+    * The Base for the LDAP user search. (e.g. \"CN=Users,DC=example,DC=local\".)
+    */
+    userBase?: string;
+    userCertificates?: UserCertificateLdap;
+    userPKCS12?: UserPKCS12;
+    /**
+    * The LDAP request used to find the user's login name with. (e.g. \"(sAMAccountName={0})\".)
+    */
+    userSearch?: string;
+
+}
+export class UserLdap implements UserLdapInterface, Parameter {
+    /**
+    * Specifies the mode for handling the certificates presented by the LDAP server when establishing a connection.  *   validate = Only certificates that can be verified as publicly valid are classified as trusted. It may be necessary to place the certificate or the issuer's certificate in the server's truststore. Self-signed certificates (e.g., from an own certificate authority) are excluded if they cannot be verified via a configured truststore. *   acceptAll = All certificates are classified as trusted, including expired, unverifiable, invalid or self-signed certificates.
+    */
+    certificatesTrustMode?: UserLdapCertificatesTrustMode;
+    /**
+    * The name of the user used to access the LDAP server. (e.g. \"cn=ldapuser,cn=Users,dc=example,dc=local\".)
+    */
+    connectionName?: string;
+    /**
+    * The password used to access the LDAP server.
+    */
+    connectionPassword?: string;
+    /**
+    * The URL used to connect to the LDAP server. (e.g. \"ldap://server.example.com:389/\".)
+    */
+    connectionURL?: string;
+    /**
+    * When set to true, all LDAP requests that respond with references are followed. The same schema and credentials are used for the referred request.
+    */
+    followReferral?: boolean;
+    keepAlive?: UserKeepAliveLdap;
+    /**
+    * The Base for the LDAP user's role determination. (e.g. \"CN=Users,DC=example,DC=local\".)
+    */
+    roleBase?: string;
+    /**
+    * The field that indicates that a user is part of a group. (e.g. \"cn\".)
+    */
+    roleField?: string;
+    /**
+    * The LDAP request used to find the user's role with. (e.g. \"(member={0})\".)
+    */
+    roleSearch?: string;
+    /**
+    * The Base for the LDAP user search. (e.g. \"CN=Users,DC=example,DC=local\".)
+    */
+    userBase?: string;
+    userCertificates?: UserCertificateLdap;
+    userPKCS12?: UserPKCS12;
+    /**
+    * The LDAP request used to find the user's login name with. (e.g. \"(sAMAccountName={0})\".)
+    */
+    userSearch?: string;
+
+    constructor(data: any) {
+        let certificatesTrustModeDefault: any = "validate";
+        this.certificatesTrustMode = typeof data?.certificatesTrustMode !== "undefined" ? data?.certificatesTrustMode : certificatesTrustModeDefault;
+        let connectionNameDefault: any = "";
+        this.connectionName = typeof data?.connectionName !== "undefined" ? data?.connectionName : connectionNameDefault;
+        let connectionPasswordDefault: any = "";
+        this.connectionPassword = typeof data?.connectionPassword !== "undefined" ? data?.connectionPassword : connectionPasswordDefault;
+        let connectionURLDefault: any = "";
+        this.connectionURL = typeof data?.connectionURL !== "undefined" ? data?.connectionURL : connectionURLDefault;
+        let followReferralDefault: any = false;
+        this.followReferral = typeof data?.followReferral !== "undefined" ? data?.followReferral : followReferralDefault;
+        this.keepAlive = UserKeepAliveLdap.fromJson(data?.keepAlive);
+        let roleBaseDefault: any = "";
+        this.roleBase = typeof data?.roleBase !== "undefined" ? data?.roleBase : roleBaseDefault;
+        let roleFieldDefault: any = "";
+        this.roleField = typeof data?.roleField !== "undefined" ? data?.roleField : roleFieldDefault;
+        let roleSearchDefault: any = "";
+        this.roleSearch = typeof data?.roleSearch !== "undefined" ? data?.roleSearch : roleSearchDefault;
+        let userBaseDefault: any = "";
+        this.userBase = typeof data?.userBase !== "undefined" ? data?.userBase : userBaseDefault;
+        this.userCertificates = UserCertificateLdap.fromJson(data?.userCertificates);
+        this.userPKCS12 = UserPKCS12.fromJson(data?.userPKCS12);
+        let userSearchDefault: any = "";
+        this.userSearch = typeof data?.userSearch !== "undefined" ? data?.userSearch : userSearchDefault;
+    }
+
+    public static getCertificatesTrustModeDefault(): UserLdapCertificatesTrustMode {
+        return "validate" as UserLdapCertificatesTrustMode;
+    }
+
+    public static getCertificatesTrustModeDescription(): string {
+        return "Specifies the mode for handling the certificates presented by the LDAP server when establishing a connection.\n\n*   validate = Only certificates that can be verified as publicly valid are classified as trusted. It may be necessary to place the certificate or the issuer's certificate in the server's truststore. Self-signed certificates (e.g., from an own certificate authority) are excluded if they cannot be verified via a configured truststore.\n*   acceptAll = All certificates are classified as trusted, including expired, unverifiable, invalid or self-signed certificates.";
+    }
+
+    public static getConnectionNameDefault(): string {
+        return "";
+    }
+
+    public static getConnectionNameDescription(): string {
+        return "The name of the user used to access the LDAP server. (e.g. \"cn=ldapuser,cn=Users,dc=example,dc=local\".)";
+    }
+
+    public static getConnectionPasswordDefault(): string {
+        return "";
+    }
+
+    public static getConnectionPasswordDescription(): string {
+        return "The password used to access the LDAP server.";
+    }
+
+    public static getConnectionURLDefault(): string {
+        return "";
+    }
+
+    public static getConnectionURLDescription(): string {
+        return "The URL used to connect to the LDAP server. (e.g. \"ldap:\/\/server.example.com:389\/\".)";
+    }
+
+    public static getFollowReferralDefault(): boolean {
+        return false;
+    }
+
+    public static getFollowReferralDescription(): string {
+        return "When set to true, all LDAP requests that respond with references are followed. The same schema and credentials are used for the referred request.";
+    }
+
+    public static getKeepAliveDescription(): string {
+        return "";
+    }
+
+    public static getRoleBaseDefault(): string {
+        return "";
+    }
+
+    public static getRoleBaseDescription(): string {
+        return "The Base for the LDAP user's role determination. (e.g. \"CN=Users,DC=example,DC=local\".)";
+    }
+
+    public static getRoleFieldDefault(): string {
+        return "";
+    }
+
+    public static getRoleFieldDescription(): string {
+        return "The field that indicates that a user is part of a group. (e.g. \"cn\".)";
+    }
+
+    public static getRoleSearchDefault(): string {
+        return "";
+    }
+
+    public static getRoleSearchDescription(): string {
+        return "The LDAP request used to find the user's role with. (e.g. \"(member={0})\".)";
+    }
+
+    public static getUserBaseDefault(): string {
+        return "";
+    }
+
+    public static getUserBaseDescription(): string {
+        return "The Base for the LDAP user search. (e.g. \"CN=Users,DC=example,DC=local\".)";
+    }
+
+    public static getUserCertificatesDescription(): string {
+        return "";
+    }
+
+    public static getUserPKCS12Description(): string {
+        return "";
+    }
+
+    public static getUserSearchDefault(): string {
+        return "";
+    }
+
+    public static getUserSearchDescription(): string {
+        return "The LDAP request used to find the user's login name with. (e.g. \"(sAMAccountName={0})\".)";
+    }
+
+    public static fromJson(data: any): UserLdap {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserLdap(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserLdap> {
+        return ModelStream.decodeArray(source, UserLdap.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'certificatesTrustMode': this.certificatesTrustMode,
+            'connectionName': this.connectionName,
+            'connectionPassword': this.connectionPassword,
+            'connectionURL': this.connectionURL,
+            'followReferral': this.followReferral,
+            'keepAlive': this.keepAlive?.toJson(),
+            'roleBase': this.roleBase,
+            'roleField': this.roleField,
+            'roleSearch': this.roleSearch,
+            'userBase': this.userBase,
+            'userCertificates': this.userCertificates?.toJson(),
+            'userPKCS12': this.userPKCS12?.toJson(),
+            'userSearch': this.userSearch,
+        };
+    }
+
+    public clone(): UserLdap {
+        return UserLdap.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "certificatesTrustMode", typeof data?.certificatesTrustMode !== "undefined" ? data?.certificatesTrustMode : "validate") || changed;
+        changed = ModelAssignment.assignValue(this, "connectionName", typeof data?.connectionName !== "undefined" ? data?.connectionName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "connectionPassword", typeof data?.connectionPassword !== "undefined" ? data?.connectionPassword : "") || changed;
+        changed = ModelAssignment.assignValue(this, "connectionURL", typeof data?.connectionURL !== "undefined" ? data?.connectionURL : "") || changed;
+        changed = ModelAssignment.assignValue(this, "followReferral", typeof data?.followReferral !== "undefined" ? data?.followReferral : false) || changed;
+        changed = ModelAssignment.assignModel(this, "keepAlive", data?.keepAlive, UserKeepAliveLdap.fromJson, UserKeepAliveLdap) || changed;
+        changed = ModelAssignment.assignValue(this, "roleBase", typeof data?.roleBase !== "undefined" ? data?.roleBase : "") || changed;
+        changed = ModelAssignment.assignValue(this, "roleField", typeof data?.roleField !== "undefined" ? data?.roleField : "") || changed;
+        changed = ModelAssignment.assignValue(this, "roleSearch", typeof data?.roleSearch !== "undefined" ? data?.roleSearch : "") || changed;
+        changed = ModelAssignment.assignValue(this, "userBase", typeof data?.userBase !== "undefined" ? data?.userBase : "") || changed;
+        changed = ModelAssignment.assignModel(this, "userCertificates", data?.userCertificates, UserCertificateLdap.fromJson, UserCertificateLdap) || changed;
+        changed = ModelAssignment.assignModel(this, "userPKCS12", data?.userPKCS12, UserPKCS12.fromJson, UserPKCS12) || changed;
+        changed = ModelAssignment.assignValue(this, "userSearch", typeof data?.userSearch !== "undefined" ? data?.userSearch : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.certificatesTrustMode, other.certificatesTrustMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.connectionName, other.connectionName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.connectionPassword, other.connectionPassword)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.connectionURL, other.connectionURL)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.followReferral, other.followReferral)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keepAlive, other.keepAlive)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.roleBase, other.roleBase)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.roleField, other.roleField)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.roleSearch, other.roleSearch)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userBase, other.userBase)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userCertificates, other.userCertificates)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userPKCS12, other.userPKCS12)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userSearch, other.userSearch)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.certificatesTrustMode);
+        hash = ModelEquality.hash(hash, this.connectionName);
+        hash = ModelEquality.hash(hash, this.connectionPassword);
+        hash = ModelEquality.hash(hash, this.connectionURL);
+        hash = ModelEquality.hash(hash, this.followReferral);
+        hash = ModelEquality.hash(hash, this.keepAlive);
+        hash = ModelEquality.hash(hash, this.roleBase);
+        hash = ModelEquality.hash(hash, this.roleField);
+        hash = ModelEquality.hash(hash, this.roleSearch);
+        hash = ModelEquality.hash(hash, this.userBase);
+        hash = ModelEquality.hash(hash, this.userCertificates);
+        hash = ModelEquality.hash(hash, this.userPKCS12);
+        hash = ModelEquality.hash(hash, this.userSearch);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserLdap(";
+        fingerprint += ModelEquality.fingerprint(this.certificatesTrustMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.connectionName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.connectionPassword) + ",";
+        fingerprint += ModelEquality.fingerprint(this.connectionURL) + ",";
+        fingerprint += ModelEquality.fingerprint(this.followReferral) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keepAlive) + ",";
+        fingerprint += ModelEquality.fingerprint(this.roleBase) + ",";
+        fingerprint += ModelEquality.fingerprint(this.roleField) + ",";
+        fingerprint += ModelEquality.fingerprint(this.roleSearch) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userBase) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userCertificates) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userPKCS12) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userSearch) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
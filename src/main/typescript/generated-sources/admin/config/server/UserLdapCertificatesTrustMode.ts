@@ -0,0 +1,6 @@
+export enum UserLdapCertificatesTrustMode {
+
+    Validate = 'validate',
+    AcceptAll = 'acceptAll'
+
+}
\ No newline at end of file
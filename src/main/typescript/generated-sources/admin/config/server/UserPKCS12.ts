@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface UserPKCS12Interface  {
+
+    /**
+    * The name of the attribute selecting the user's keystore.
+    */
+    attributeName?: string;
+    /**
+    * When set to true a user keystore can be found in the Active Directory.
+    */
+    enabled?: boolean;
+
+}
+export class UserPKCS12 implements UserPKCS12Interface, Parameter {
+    /**
+    * The name of the attribute selecting the user's keystore.
+    */
+    attributeName?: string;
+    /**
+    * When set to true a user keystore can be found in the Active Directory.
+    */
+    enabled?: boolean;
+
+    constructor(data: any) {
+        let attributeNameDefault: any = "userPKCS12";
+        this.attributeName = typeof data?.attributeName !== "undefined" ? data?.attributeName : attributeNameDefault;
+        let enabledDefault: any = false;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+    }
+
+    public static getAttributeNameDefault(): string {
+        return "userPKCS12";
+    }
+
+    public static getAttributeNameDescription(): string {
+        return "The name of the attribute selecting the user's keystore.";
+    }
+
+    public static getEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getEnabledDescription(): string {
+        return "When set to true a user keystore can be found in the Active Directory.";
+    }
+
+    public static fromJson(data: any): UserPKCS12 {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserPKCS12(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserPKCS12> {
+        return ModelStream.decodeArray(source, UserPKCS12.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'attributeName': this.attributeName,
+            'enabled': this.enabled,
+        };
+    }
+
+    public clone(): UserPKCS12 {
+        return UserPKCS12.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "attributeName", typeof data?.attributeName !== "undefined" ? data?.attributeName : "userPKCS12") || changed;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.attributeName, other.attributeName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.attributeName);
+        hash = ModelEquality.hash(hash, this.enabled);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserPKCS12(";
+        fingerprint += ModelEquality.fingerprint(this.attributeName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
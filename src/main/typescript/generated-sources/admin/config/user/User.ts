@@ -0,0 +1,165 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface UserInterface  {
+
+    /**
+    * The password of the user.
+    */
+    password?: string;
+    /**
+    * The roles of the user.
+    */
+    roles?: string;
+    /**
+    * The unique ID associated with the user.
+    */
+    uniqueId?: string;
+    /**
+    * The name of the user.
+    */
+    username?: string;
+
+}
+export class User implements UserInterface, Parameter {
+    /**
+    * The password of the user.
+    */
+    password?: string;
+    /**
+    * The roles of the user.
+    */
+    roles?: string;
+    /**
+    * The unique ID associated with the user.
+    */
+    uniqueId?: string;
+    /**
+    * The name of the user.
+    */
+    username?: string;
+
+    constructor(data: any) {
+        let passwordDefault: any = "";
+        this.password = typeof data?.password !== "undefined" ? data?.password : passwordDefault;
+        let rolesDefault: any = "";
+        this.roles = typeof data?.roles !== "undefined" ? data?.roles : rolesDefault;
+        let uniqueIdDefault: any = "";
+        this.uniqueId = typeof data?.uniqueId !== "undefined" ? data?.uniqueId : uniqueIdDefault;
+        let usernameDefault: any = "";
+        this.username = typeof data?.username !== "undefined" ? data?.username : usernameDefault;
+    }
+
+    public static getPasswordDefault(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "The password of the user.";
+    }
+
+    public static getRolesDefault(): string {
+        return "";
+    }
+
+    public static getRolesDescription(): string {
+        return "The roles of the user.";
+    }
+
+    public static getUniqueIdDefault(): string {
+        return "";
+    }
+
+    public static getUniqueIdDescription(): string {
+        return "The unique ID associated with the user.";
+    }
+
+    public static getUsernameDefault(): string {
+        return "";
+    }
+
+    public static getUsernameDescription(): string {
+        return "The name of the user.";
+    }
+
+    public static fromJson(data: any): User {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new User(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<User> {
+        return ModelStream.decodeArray(source, User.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'password': this.password,
+            'roles': this.roles,
+            'uniqueId': this.uniqueId,
+            'username': this.username,
+        };
+    }
+
+    public clone(): User {
+        return User.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "password", typeof data?.password !== "undefined" ? data?.password : "") || changed;
+        changed = ModelAssignment.assignValue(this, "roles", typeof data?.roles !== "undefined" ? data?.roles : "") || changed;
+        changed = ModelAssignment.assignValue(this, "uniqueId", typeof data?.uniqueId !== "undefined" ? data?.uniqueId : "") || changed;
+        changed = ModelAssignment.assignValue(this, "username", typeof data?.username !== "undefined" ? data?.username : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.roles, other.roles)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.uniqueId, other.uniqueId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.username, other.username)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.roles);
+        hash = ModelEquality.hash(hash, this.uniqueId);
+        hash = ModelEquality.hash(hash, this.username);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "User(";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.roles) + ",";
+        fingerprint += ModelEquality.fingerprint(this.uniqueId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.username) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    User,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../../index";
+
+export interface UsersInterface  {
+
+    user?: Array<User>;
+
+}
+export class Users implements UsersInterface, Parameter {
+    user?: Array<User>;
+
+    constructor(data: any) {
+        this.user = (data?.user || []).map(
+            User.fromJson
+        );
+    }
+
+    public static getUserDefault(): Array<User> {
+        return [];
+    }
+
+    public static getUserDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Users {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Users(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Users> {
+        return ModelStream.decodeArray(source, Users.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'user': this.user?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): Users {
+        return Users.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "user", data?.user, User.fromJson, User) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.user, other.user)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.user);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Users(";
+        fingerprint += ModelEquality.fingerprint(this.user) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,210 @@
+import {
+    ModelAssignment,
+    OIDCMetadata,
+    ModelStream,
+    OAuthProviderName,
+    OAuthProviderLogout,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface AuthProviderInterface  {
+
+    applicationId?: string;
+    clientId?: string;
+    displayName?: string;
+    id?: string;
+    logout?: OAuthProviderLogout;
+    name?: OAuthProviderName;
+    oidc?: OIDCMetadata;
+    scope?: string;
+
+}
+export class AuthProvider implements AuthProviderInterface, Parameter {
+    applicationId?: string;
+    clientId?: string;
+    displayName?: string;
+    id?: string;
+    logout?: OAuthProviderLogout;
+    name?: OAuthProviderName;
+    oidc?: OIDCMetadata;
+    scope?: string;
+
+    constructor(data: any) {
+        let applicationIdDefault: any = "";
+        this.applicationId = typeof data?.applicationId !== "undefined" ? data?.applicationId : applicationIdDefault;
+        let clientIdDefault: any = "";
+        this.clientId = typeof data?.clientId !== "undefined" ? data?.clientId : clientIdDefault;
+        let displayNameDefault: any = "";
+        this.displayName = typeof data?.displayName !== "undefined" ? data?.displayName : displayNameDefault;
+        let idDefault: any = "";
+        this.id = typeof data?.id !== "undefined" ? data?.id : idDefault;
+        this.logout = OAuthProviderLogout.fromJson(data?.logout);
+        let nameDefault: any = "generic";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        this.oidc = OIDCMetadata.fromJson(data?.oidc);
+        let scopeDefault: any = "";
+        this.scope = typeof data?.scope !== "undefined" ? data?.scope : scopeDefault;
+    }
+
+    public static getApplicationIdDefault(): string {
+        return "";
+    }
+
+    public static getApplicationIdDescription(): string {
+        return "";
+    }
+
+    public static getClientIdDefault(): string {
+        return "";
+    }
+
+    public static getClientIdDescription(): string {
+        return "";
+    }
+
+    public static getDisplayNameDefault(): string {
+        return "";
+    }
+
+    public static getDisplayNameDescription(): string {
+        return "";
+    }
+
+    public static getIdDefault(): string {
+        return "";
+    }
+
+    public static getIdDescription(): string {
+        return "";
+    }
+
+    public static getLogoutDescription(): string {
+        return "";
+    }
+
+    public static getNameDefault(): OAuthProviderName {
+        return "generic" as OAuthProviderName;
+    }
+
+    public static getNameDescription(): string {
+        return "";
+    }
+
+    public static getOidcDescription(): string {
+        return "";
+    }
+
+    public static getScopeDefault(): string {
+        return "";
+    }
+
+    public static getScopeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AuthProvider {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AuthProvider(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AuthProvider> {
+        return ModelStream.decodeArray(source, AuthProvider.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'applicationId': this.applicationId,
+            'clientId': this.clientId,
+            'displayName': this.displayName,
+            'id': this.id,
+            'logout': this.logout?.toJson(),
+            'name': this.name,
+            'oidc': this.oidc?.toJson(),
+            'scope': this.scope,
+        };
+    }
+
+    public clone(): AuthProvider {
+        return AuthProvider.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "applicationId", typeof data?.applicationId !== "undefined" ? data?.applicationId : "") || changed;
+        changed = ModelAssignment.assignValue(this, "clientId", typeof data?.clientId !== "undefined" ? data?.clientId : "") || changed;
+        changed = ModelAssignment.assignValue(this, "displayName", typeof data?.displayName !== "undefined" ? data?.displayName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "id", typeof data?.id !== "undefined" ? data?.id : "") || changed;
+        changed = ModelAssignment.assignModel(this, "logout", data?.logout, OAuthProviderLogout.fromJson, OAuthProviderLogout) || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "generic") || changed;
+        changed = ModelAssignment.assignModel(this, "oidc", data?.oidc, OIDCMetadata.fromJson, OIDCMetadata) || changed;
+        changed = ModelAssignment.assignValue(this, "scope", typeof data?.scope !== "undefined" ? data?.scope : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.applicationId, other.applicationId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.clientId, other.clientId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.displayName, other.displayName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.id, other.id)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.logout, other.logout)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.oidc, other.oidc)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scope, other.scope)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.applicationId);
+        hash = ModelEquality.hash(hash, this.clientId);
+        hash = ModelEquality.hash(hash, this.displayName);
+        hash = ModelEquality.hash(hash, this.id);
+        hash = ModelEquality.hash(hash, this.logout);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.oidc);
+        hash = ModelEquality.hash(hash, this.scope);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AuthProvider(";
+        fingerprint += ModelEquality.fingerprint(this.applicationId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.clientId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.displayName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.id) + ",";
+        fingerprint += ModelEquality.fingerprint(this.logout) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.oidc) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scope) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    AnonymousLimits,
+    Parameter,
+    UserLimits,
+    ModelEquality,
+} from "./../index";
+
+export interface LimitsInterface  {
+
+    /**
+    * Maximum size for all uploaded files (in mega byte); 0 = disabled
+    */
+    diskSpaceLimit?: number;
+    /**
+    * Maximum number of uploaded files; 0 = disabled
+    */
+    maxFiles?: number;
+    type: string;
+    /**
+    * Maximum file size for uploads (in mega byte); 0 = disabled
+    */
+    uploadLimit?: number;
+
+}
+export class Limits implements LimitsInterface, Parameter {
+    /**
+    * Maximum size for all uploaded files (in mega byte); 0 = disabled
+    */
+    diskSpaceLimit?: number;
+    /**
+    * Maximum number of uploaded files; 0 = disabled
+    */
+    maxFiles?: number;
+    type: string;
+    /**
+    * Maximum file size for uploads (in mega byte); 0 = disabled
+    */
+    uploadLimit?: number;
+
+    constructor(data: any) {
+        let diskSpaceLimitDefault: any = 0;
+        this.diskSpaceLimit = typeof data?.diskSpaceLimit !== "undefined" ? data?.diskSpaceLimit : diskSpaceLimitDefault;
+        let maxFilesDefault: any = 0;
+        this.maxFiles = typeof data?.maxFiles !== "undefined" ? data?.maxFiles : maxFilesDefault;
+        let typeDefault: any = "";
+        this.type = typeof data.type !== "undefined" ? data.type : typeDefault;
+        let uploadLimitDefault: any = 0;
+        this.uploadLimit = typeof data?.uploadLimit !== "undefined" ? data?.uploadLimit : uploadLimitDefault;
+    }
+
+    public static getDiskSpaceLimitDefault(): number {
+        return 0;
+    }
+
+    public static getDiskSpaceLimitDescription(): string {
+        return "Maximum size for all uploaded files (in mega byte); 0 = disabled";
+    }
+
+    public static getDiskSpaceLimitMin(): number {
+        return 0;
+    }
+
+    public static getMaxFilesDefault(): number {
+        return 0;
+    }
+
+    public static getMaxFilesDescription(): string {
+        return "Maximum number of uploaded files; 0 = disabled";
+    }
+
+    public static getMaxFilesMin(): number {
+        return 0;
+    }
+
+    public static getTypeDefault(): string {
+        return "";
+    }
+
+    public static getTypeDescription(): string {
+        return "";
+    }
+
+    public static getUploadLimitDefault(): number {
+        return 0;
+    }
+
+    public static getUploadLimitDescription(): string {
+        return "Maximum file size for uploads (in mega byte); 0 = disabled";
+    }
+
+    public static getUploadLimitMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): Limits {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        switch(data.type) {
+            case 'anonymous':
+                return AnonymousLimits.fromJson(data);
+            case 'user':
+                return UserLimits.fromJson(data);
+        }
+
+        return new Limits(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Limits> {
+        return ModelStream.decodeArray(source, Limits.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'diskSpaceLimit': this.diskSpaceLimit,
+            'maxFiles': this.maxFiles,
+            'type': this.type,
+            'uploadLimit': this.uploadLimit,
+        };
+    }
+
+    public clone(): Limits {
+        return Limits.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "diskSpaceLimit", typeof data?.diskSpaceLimit !== "undefined" ? data?.diskSpaceLimit : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "maxFiles", typeof data?.maxFiles !== "undefined" ? data?.maxFiles : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "type", typeof data.type !== "undefined" ? data.type : "") || changed;
+        changed = ModelAssignment.assignValue(this, "uploadLimit", typeof data?.uploadLimit !== "undefined" ? data?.uploadLimit : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.diskSpaceLimit, other.diskSpaceLimit)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxFiles, other.maxFiles)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.type, other.type)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.uploadLimit, other.uploadLimit)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.diskSpaceLimit);
+        hash = ModelEquality.hash(hash, this.maxFiles);
+        hash = ModelEquality.hash(hash, this.type);
+        hash = ModelEquality.hash(hash, this.uploadLimit);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Limits(";
+        fingerprint += ModelEquality.fingerprint(this.diskSpaceLimit) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxFiles) + ",";
+        fingerprint += ModelEquality.fingerprint(this.type) + ",";
+        fingerprint += ModelEquality.fingerprint(this.uploadLimit) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
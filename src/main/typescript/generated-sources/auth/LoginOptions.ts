@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface LoginOptionsInterface  {
+
+    /**
+    * If enabled (true), a refresh token is also created.
+    */
+    createRefreshToken?: boolean;
+
+}
+export class LoginOptions implements LoginOptionsInterface, Parameter {
+    /**
+    * If enabled (true), a refresh token is also created.
+    */
+    createRefreshToken?: boolean;
+
+    constructor(data: any) {
+        let createRefreshTokenDefault: any = false;
+        this.createRefreshToken = typeof data?.createRefreshToken !== "undefined" ? data?.createRefreshToken : createRefreshTokenDefault;
+    }
+
+    public static getCreateRefreshTokenDefault(): boolean {
+        return false;
+    }
+
+    public static getCreateRefreshTokenDescription(): string {
+        return "If enabled (true), a refresh token is also created.";
+    }
+
+    public static fromJson(data: any): LoginOptions {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LoginOptions(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LoginOptions> {
+        return ModelStream.decodeArray(source, LoginOptions.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'createRefreshToken': this.createRefreshToken,
+        };
+    }
+
+    public clone(): LoginOptions {
+        return LoginOptions.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "createRefreshToken", typeof data?.createRefreshToken !== "undefined" ? data?.createRefreshToken : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.createRefreshToken, other.createRefreshToken)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.createRefreshToken);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LoginOptions(";
+        fingerprint += ModelEquality.fingerprint(this.createRefreshToken) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SessionTokenInterface  {
+
+    /**
+    * If the access token expires, the duration of time in seconds the access token is granted for.
+    */
+    expiresIn?: number;
+    /**
+    * The refresh token string as issued by the server. When the access token expires, this token can be used to request a new access token.
+    */
+    refreshToken?: string;
+    /**
+    * The access token string as issued by the server.
+    */
+    token: string;
+
+}
+export class SessionToken implements SessionTokenInterface, Parameter {
+    /**
+    * If the access token expires, the duration of time in seconds the access token is granted for.
+    */
+    expiresIn?: number;
+    /**
+    * The refresh token string as issued by the server. When the access token expires, this token can be used to request a new access token.
+    */
+    refreshToken?: string;
+    /**
+    * The access token string as issued by the server.
+    */
+    token: string;
+
+    constructor(data: any) {
+        let expiresInDefault: any = 0;
+        this.expiresIn = typeof data?.expiresIn !== "undefined" ? data?.expiresIn : expiresInDefault;
+        let refreshTokenDefault: any = "";
+        this.refreshToken = typeof data?.refreshToken !== "undefined" ? data?.refreshToken : refreshTokenDefault;
+        let tokenDefault: any = "";
+        this.token = typeof data.token !== "undefined" ? data.token : tokenDefault;
+    }
+
+    public static getExpiresInDefault(): number {
+        return 0;
+    }
+
+    public static getExpiresInDescription(): string {
+        return "If the access token expires, the duration of time in seconds the access token is granted for.";
+    }
+
+    public static getRefreshTokenDefault(): string {
+        return "";
+    }
+
+    public static getRefreshTokenDescription(): string {
+        return "The refresh token string as issued by the server. When the access token expires, this token can be used to request a new access token.";
+    }
+
+    public static getTokenDefault(): string {
+        return "";
+    }
+
+    public static getTokenDescription(): string {
+        return "The access token string as issued by the server.";
+    }
+
+    public static fromJson(data: any): SessionToken {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SessionToken(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SessionToken> {
+        return ModelStream.decodeArray(source, SessionToken.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'expiresIn': this.expiresIn,
+            'refreshToken': this.refreshToken,
+            'token': this.token,
+        };
+    }
+
+    public clone(): SessionToken {
+        return SessionToken.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "expiresIn", typeof data?.expiresIn !== "undefined" ? data?.expiresIn : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "refreshToken", typeof data?.refreshToken !== "undefined" ? data?.refreshToken : "") || changed;
+        changed = ModelAssignment.assignValue(this, "token", typeof data.token !== "undefined" ? data.token : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.expiresIn, other.expiresIn)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.refreshToken, other.refreshToken)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.token, other.token)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.expiresIn);
+        hash = ModelEquality.hash(hash, this.refreshToken);
+        hash = ModelEquality.hash(hash, this.token);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SessionToken(";
+        fingerprint += ModelEquality.fingerprint(this.expiresIn) + ",";
+        fingerprint += ModelEquality.fingerprint(this.refreshToken) + ",";
+        fingerprint += ModelEquality.fingerprint(this.token) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    KeyStoreEntry,
+    Parameter,
+    CertificateEntry,
+    ModelEquality,
+} from "./../index";
+
+export interface UserCertificatesInterface  {
+
+    /**
+    * List of certificates
+    */
+    certificates: Array<CertificateEntry>;
+    /**
+    * List of keystores
+    */
+    keyStores: Array<KeyStoreEntry>;
+
+}
+export class UserCertificates implements UserCertificatesInterface, Parameter {
+    /**
+    * List of certificates
+    */
+    certificates: Array<CertificateEntry>;
+    /**
+    * List of keystores
+    */
+    keyStores: Array<KeyStoreEntry>;
+
+    constructor(data: any) {
+        this.certificates = (data.certificates || []).map(
+            CertificateEntry.fromJson
+        );
+        this.keyStores = (data.keyStores || []).map(
+            KeyStoreEntry.fromJson
+        );
+    }
+
+    public static getCertificatesDefault(): Array<CertificateEntry> {
+        return [];
+    }
+
+    public static getCertificatesDescription(): string {
+        return "List of certificates";
+    }
+
+    public static getKeyStoresDefault(): Array<KeyStoreEntry> {
+        return [];
+    }
+
+    public static getKeyStoresDescription(): string {
+        return "List of keystores";
+    }
+
+    public static fromJson(data: any): UserCertificates {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserCertificates(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserCertificates> {
+        return ModelStream.decodeArray(source, UserCertificates.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'certificates': this.certificates?.map((data) => data.toJson()),
+            'keyStores': this.keyStores?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): UserCertificates {
+        return UserCertificates.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "certificates", data.certificates, CertificateEntry.fromJson, CertificateEntry) || changed;
+        changed = ModelAssignment.assignArray(this, "keyStores", data.keyStores, KeyStoreEntry.fromJson, KeyStoreEntry) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.certificates, other.certificates)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyStores, other.keyStores)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.certificates);
+        hash = ModelEquality.hash(hash, this.keyStores);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserCertificates(";
+        fingerprint += ModelEquality.fingerprint(this.certificates) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keyStores) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+import {
+    ModelAssignment,
+    Limits,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface UserCredentialsInterface  {
+
+    /**
+    * true = An administration user
+    */
+    isAdmin: boolean;
+    /**
+    * true = A standard user
+    */
+    isUser: boolean;
+    /**
+    * Roles assigned to the user
+    */
+    roles: Array<string>;
+    /**
+    * Unique ID for the user
+    */
+    uniqueId: string;
+    userLimits: Limits;
+    /**
+    * Name of the user
+    */
+    userName: string;
+
+}
+export class UserCredentials implements UserCredentialsInterface, Parameter {
+    /**
+    * true = An administration user
+    */
+    isAdmin: boolean;
+    /**
+    * true = A standard user
+    */
+    isUser: boolean;
+    /**
+    * Roles assigned to the user
+    */
+    roles: Array<string>;
+    /**
+    * Unique ID for the user
+    */
+    uniqueId: string;
+    userLimits: Limits;
+    /**
+    * Name of the user
+    */
+    userName: string;
+
+    constructor(data: any) {
+        let isAdminDefault: any = false;
+        this.isAdmin = typeof data.isAdmin !== "undefined" ? data.isAdmin : isAdminDefault;
+        let isUserDefault: any = true;
+        this.isUser = typeof data.isUser !== "undefined" ? data.isUser : isUserDefault;
+        let rolesDefault: any = [];
+        this.roles = typeof data.roles !== "undefined" ? data.roles : rolesDefault;
+        let uniqueIdDefault: any = "";
+        this.uniqueId = typeof data.uniqueId !== "undefined" ? data.uniqueId : uniqueIdDefault;
+        this.userLimits = Limits.fromJson(data.userLimits);
+        let userNameDefault: any = "";
+        this.userName = typeof data.userName !== "undefined" ? data.userName : userNameDefault;
+    }
+
+    public static getIsAdminDefault(): boolean {
+        return false;
+    }
+
+    public static getIsAdminDescription(): string {
+        return "true = An administration user";
+    }
+
+    public static getIsUserDefault(): boolean {
+        return true;
+    }
+
+    public static getIsUserDescription(): string {
+        return "true = A standard user";
+    }
+
+    public static getRolesDefault(): Array<string> {
+        return [];
+    }
+
+    public static getRolesDescription(): string {
+        return "Roles assigned to the user";
+    }
+
+    public static getUniqueIdDefault(): string {
+        return "";
+    }
+
+    public static getUniqueIdDescription(): string {
+        return "Unique ID for the user";
+    }
+
+    public static getUserLimitsDescription(): string {
+        return "";
+    }
+
+    public static getUserNameDefault(): string {
+        return "";
+    }
+
+    public static getUserNameDescription(): string {
+        return "Name of the user";
+    }
+
+    public static fromJson(data: any): UserCredentials {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserCredentials(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserCredentials> {
+        return ModelStream.decodeArray(source, UserCredentials.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'isAdmin': this.isAdmin,
+            'isUser': this.isUser,
+            'roles': this.roles,
+            'uniqueId': this.uniqueId,
+            'userLimits': this.userLimits?.toJson(),
+            'userName': this.userName,
+        };
+    }
+
+    public clone(): UserCredentials {
+        return UserCredentials.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "isAdmin", typeof data.isAdmin !== "undefined" ? data.isAdmin : false) || changed;
+        changed = ModelAssignment.assignValue(this, "isUser", typeof data.isUser !== "undefined" ? data.isUser : true) || changed;
+        changed = ModelAssignment.assignValue(this, "roles", typeof data.roles !== "undefined" ? data.roles : []) || changed;
+        changed = ModelAssignment.assignValue(this, "uniqueId", typeof data.uniqueId !== "undefined" ? data.uniqueId : "") || changed;
+        changed = ModelAssignment.assignModel(this, "userLimits", data.userLimits, Limits.fromJson) || changed;
+        changed = ModelAssignment.assignValue(this, "userName", typeof data.userName !== "undefined" ? data.userName : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isAdmin, other.isAdmin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isUser, other.isUser)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.roles, other.roles)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.uniqueId, other.uniqueId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userLimits, other.userLimits)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userName, other.userName)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.isAdmin);
+        hash = ModelEquality.hash(hash, this.isUser);
+        hash = ModelEquality.hash(hash, this.roles);
+        hash = ModelEquality.hash(hash, this.uniqueId);
+        hash = ModelEquality.hash(hash, this.userLimits);
+        hash = ModelEquality.hash(hash, this.userName);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserCredentials(";
+        fingerprint += ModelEquality.fingerprint(this.isAdmin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isUser) + ",";
+        fingerprint += ModelEquality.fingerprint(this.roles) + ",";
+        fingerprint += ModelEquality.fingerprint(this.uniqueId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userLimits) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userName) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
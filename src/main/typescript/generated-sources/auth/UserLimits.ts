@@ -0,0 +1,70 @@
+import {
+    ModelAssignment,
+    Limits,
+    ModelStream,
+    Parameter,
+    LimitsInterface,
+    ModelEquality,
+} from "./../index";
+
+export interface UserLimitsInterface extends LimitsInterface  {
+
+
+}
+export class UserLimits extends Limits implements UserLimitsInterface, Parameter {
+
+    constructor(data: any) {
+        super(data);
+
+    }
+
+    public static fromJson(data: any): UserLimits {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserLimits(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserLimits> {
+        return ModelStream.decodeArray(source, UserLimits.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+        };
+    }
+
+    public clone(): UserLimits {
+        return UserLimits.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserLimits(" + super.fingerprint();
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
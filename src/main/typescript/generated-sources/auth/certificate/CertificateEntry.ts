@@ -0,0 +1,210 @@
+import {
+    ModelAssignment,
+    Origin,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../index";
+
+export interface CertificateEntryInterface  {
+
+    /**
+    * Alias name for the certificate
+    */
+    aliasName?: string;
+    /**
+    * PEM encoded certificate
+    */
+    certificate?: string;
+    /**
+    * true = private key is available for the certificate
+    */
+    hasPrivateKey?: boolean;
+    /**
+    * true = private key is available and readable
+    */
+    isPrivateKeyReadable?: boolean;
+    /**
+    * Name of the keystore from which the certificate was originally obtained.
+    */
+    keyStoreName?: string;
+    keyStoreOrigin?: Origin;
+
+}
+export class CertificateEntry implements CertificateEntryInterface, Parameter {
+    /**
+    * Alias name for the certificate
+    */
+    aliasName?: string;
+    /**
+    * PEM encoded certificate
+    */
+    certificate?: string;
+    /**
+    * true = private key is available for the certificate
+    */
+    hasPrivateKey?: boolean;
+    /**
+    * true = private key is available and readable
+    */
+    isPrivateKeyReadable?: boolean;
+    /**
+    * Name of the keystore from which the certificate was originally obtained.
+    */
+    keyStoreName?: string;
+    keyStoreOrigin?: Origin;
+
+    constructor(data: any) {
+        let aliasNameDefault: any = "";
+        this.aliasName = typeof data?.aliasName !== "undefined" ? data?.aliasName : aliasNameDefault;
+        let certificateDefault: any = "";
+        this.certificate = typeof data?.certificate !== "undefined" ? data?.certificate : certificateDefault;
+        let hasPrivateKeyDefault: any = false;
+        this.hasPrivateKey = typeof data?.hasPrivateKey !== "undefined" ? data?.hasPrivateKey : hasPrivateKeyDefault;
+        let isPrivateKeyReadableDefault: any = false;
+        this.isPrivateKeyReadable = typeof data?.isPrivateKeyReadable !== "undefined" ? data?.isPrivateKeyReadable : isPrivateKeyReadableDefault;
+        let keyStoreNameDefault: any = "";
+        this.keyStoreName = typeof data?.keyStoreName !== "undefined" ? data?.keyStoreName : keyStoreNameDefault;
+        let keyStoreOriginDefault: any = "global";
+        this.keyStoreOrigin = typeof data?.keyStoreOrigin !== "undefined" ? data?.keyStoreOrigin : keyStoreOriginDefault;
+    }
+
+    public static getAliasNameDefault(): string {
+        return "";
+    }
+
+    public static getAliasNameDescription(): string {
+        return "Alias name for the certificate";
+    }
+
+    public static getCertificateDefault(): string {
+        return "";
+    }
+
+    public static getCertificateDescription(): string {
+        return "PEM encoded certificate";
+    }
+
+    public static getHasPrivateKeyDefault(): boolean {
+        return false;
+    }
+
+    public static getHasPrivateKeyDescription(): string {
+        return "true = private key is available for the certificate";
+    }
+
+    public static getIsPrivateKeyReadableDefault(): boolean {
+        return false;
+    }
+
+    public static getIsPrivateKeyReadableDescription(): string {
+        return "true = private key is available and readable";
+    }
+
+    public static getKeyStoreNameDefault(): string {
+        return "";
+    }
+
+    public static getKeyStoreNameDescription(): string {
+        return "Name of the keystore from which the certificate was originally obtained.";
+    }
+
+    public static getKeyStoreOriginDefault(): Origin {
+        return "global" as Origin;
+    }
+
+    public static getKeyStoreOriginDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): CertificateEntry {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new CertificateEntry(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<CertificateEntry> {
+        return ModelStream.decodeArray(source, CertificateEntry.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'aliasName': this.aliasName,
+            'certificate': this.certificate,
+            'hasPrivateKey': this.hasPrivateKey,
+            'isPrivateKeyReadable': this.isPrivateKeyReadable,
+            'keyStoreName': this.keyStoreName,
+            'keyStoreOrigin': this.keyStoreOrigin,
+        };
+    }
+
+    public clone(): CertificateEntry {
+        return CertificateEntry.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "aliasName", typeof data?.aliasName !== "undefined" ? data?.aliasName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "certificate", typeof data?.certificate !== "undefined" ? data?.certificate : "") || changed;
+        changed = ModelAssignment.assignValue(this, "hasPrivateKey", typeof data?.hasPrivateKey !== "undefined" ? data?.hasPrivateKey : false) || changed;
+        changed = ModelAssignment.assignValue(this, "isPrivateKeyReadable", typeof data?.isPrivateKeyReadable !== "undefined" ? data?.isPrivateKeyReadable : false) || changed;
+        changed = ModelAssignment.assignValue(this, "keyStoreName", typeof data?.keyStoreName !== "undefined" ? data?.keyStoreName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "keyStoreOrigin", typeof data?.keyStoreOrigin !== "undefined" ? data?.keyStoreOrigin : "global") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.aliasName, other.aliasName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.certificate, other.certificate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hasPrivateKey, other.hasPrivateKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isPrivateKeyReadable, other.isPrivateKeyReadable)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyStoreName, other.keyStoreName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyStoreOrigin, other.keyStoreOrigin)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.aliasName);
+        hash = ModelEquality.hash(hash, this.certificate);
+        hash = ModelEquality.hash(hash, this.hasPrivateKey);
+        hash = ModelEquality.hash(hash, this.isPrivateKeyReadable);
+        hash = ModelEquality.hash(hash, this.keyStoreName);
+        hash = ModelEquality.hash(hash, this.keyStoreOrigin);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "CertificateEntry(";
+        fingerprint += ModelEquality.fingerprint(this.aliasName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.certificate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hasPrivateKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isPrivateKeyReadable) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keyStoreName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keyStoreOrigin) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
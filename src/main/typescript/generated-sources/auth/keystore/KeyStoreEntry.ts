@@ -0,0 +1,135 @@
+import {
+    ModelAssignment,
+    Origin,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../index";
+
+export interface KeyStoreEntryInterface  {
+
+    /**
+    * true = Keystore is accessible and the content is readable
+    */
+    isKeyStoreAccessible?: boolean;
+    /**
+    * Name of the keystore
+    */
+    keyStoreName?: string;
+    keyStoreOrigin?: Origin;
+
+}
+export class KeyStoreEntry implements KeyStoreEntryInterface, Parameter {
+    /**
+    * true = Keystore is accessible and the content is readable
+    */
+    isKeyStoreAccessible?: boolean;
+    /**
+    * Name of the keystore
+    */
+    keyStoreName?: string;
+    keyStoreOrigin?: Origin;
+
+    constructor(data: any) {
+        let isKeyStoreAccessibleDefault: any = false;
+        this.isKeyStoreAccessible = typeof data?.isKeyStoreAccessible !== "undefined" ? data?.isKeyStoreAccessible : isKeyStoreAccessibleDefault;
+        let keyStoreNameDefault: any = "";
+        this.keyStoreName = typeof data?.keyStoreName !== "undefined" ? data?.keyStoreName : keyStoreNameDefault;
+        let keyStoreOriginDefault: any = "global";
+        this.keyStoreOrigin = typeof data?.keyStoreOrigin !== "undefined" ? data?.keyStoreOrigin : keyStoreOriginDefault;
+    }
+
+    public static getIsKeyStoreAccessibleDefault(): boolean {
+        return false;
+    }
+
+    public static getIsKeyStoreAccessibleDescription(): string {
+        return "true = Keystore is accessible and the content is readable";
+    }
+
+    public static getKeyStoreNameDefault(): string {
+        return "";
+    }
+
+    public static getKeyStoreNameDescription(): string {
+        return "Name of the keystore";
+    }
+
+    public static getKeyStoreOriginDefault(): Origin {
+        return "global" as Origin;
+    }
+
+    public static getKeyStoreOriginDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): KeyStoreEntry {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new KeyStoreEntry(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<KeyStoreEntry> {
+        return ModelStream.decodeArray(source, KeyStoreEntry.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'isKeyStoreAccessible': this.isKeyStoreAccessible,
+            'keyStoreName': this.keyStoreName,
+            'keyStoreOrigin': this.keyStoreOrigin,
+        };
+    }
+
+    public clone(): KeyStoreEntry {
+        return KeyStoreEntry.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "isKeyStoreAccessible", typeof data?.isKeyStoreAccessible !== "undefined" ? data?.isKeyStoreAccessible : false) || changed;
+        changed = ModelAssignment.assignValue(this, "keyStoreName", typeof data?.keyStoreName !== "undefined" ? data?.keyStoreName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "keyStoreOrigin", typeof data?.keyStoreOrigin !== "undefined" ? data?.keyStoreOrigin : "global") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isKeyStoreAccessible, other.isKeyStoreAccessible)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyStoreName, other.keyStoreName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyStoreOrigin, other.keyStoreOrigin)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.isKeyStoreAccessible);
+        hash = ModelEquality.hash(hash, this.keyStoreName);
+        hash = ModelEquality.hash(hash, this.keyStoreOrigin);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "KeyStoreEntry(";
+        fingerprint += ModelEquality.fingerprint(this.isKeyStoreAccessible) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keyStoreName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keyStoreOrigin) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../index";
+
+export interface KeyStorePasswordInterface  {
+
+    aliases?: { [key: string]: string; };
+    keyStorePassword?: string;
+
+}
+export class KeyStorePassword implements KeyStorePasswordInterface, Parameter {
+    aliases?: { [key: string]: string; };
+    keyStorePassword?: string;
+
+    constructor(data: any) {
+        let aliasesDefault: any = {};
+        this.aliases = typeof data?.aliases !== "undefined" ? data?.aliases : aliasesDefault;
+        let keyStorePasswordDefault: any = "";
+        this.keyStorePassword = typeof data?.keyStorePassword !== "undefined" ? data?.keyStorePassword : keyStorePasswordDefault;
+    }
+
+    public static getAliasesDefault(): { [key: string]: string; } {
+        return {};
+    }
+
+    public static getAliasesDescription(): string {
+        return "";
+    }
+
+    public static getKeyStorePasswordDefault(): string {
+        return "";
+    }
+
+    public static getKeyStorePasswordDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): KeyStorePassword {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new KeyStorePassword(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<KeyStorePassword> {
+        return ModelStream.decodeArray(source, KeyStorePassword.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'aliases': this.aliases,
+            'keyStorePassword': this.keyStorePassword,
+        };
+    }
+
+    public clone(): KeyStorePassword {
+        return KeyStorePassword.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "aliases", typeof data?.aliases !== "undefined" ? data?.aliases : {}) || changed;
+        changed = ModelAssignment.assignValue(this, "keyStorePassword", typeof data?.keyStorePassword !== "undefined" ? data?.keyStorePassword : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.aliases, other.aliases)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyStorePassword, other.keyStorePassword)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.aliases);
+        hash = ModelEquality.hash(hash, this.keyStorePassword);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "KeyStorePassword(";
+        fingerprint += ModelEquality.fingerprint(this.aliases) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keyStorePassword) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum Origin {
+
+    Global = 'global',
+    Local = 'local',
+    Principal = 'principal',
+    Call = 'call'
+
+}
\ No newline at end of file
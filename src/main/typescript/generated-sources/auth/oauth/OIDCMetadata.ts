@@ -0,0 +1,274 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../../index";
+
+export interface OIDCMetadataInterface  {
+
+    authorizationEndpoint: string;
+    claimsSupported?: Array<string>;
+    grantTypesSupported?: Array<string>;
+    idTokenSigningAlgValuesSupported: Array<string>;
+    issuer: string;
+    jwksUri: string;
+    responseTypesSupported: Array<string>;
+    scopesSupported?: Array<string>;
+    subjectTypesSupported: Array<string>;
+    tokenEndpoint: string;
+    userinfoEndpoint?: string;
+
+}
+export class OIDCMetadata implements OIDCMetadataInterface, Parameter {
+    authorizationEndpoint: string;
+    claimsSupported?: Array<string>;
+    grantTypesSupported?: Array<string>;
+    idTokenSigningAlgValuesSupported: Array<string>;
+    issuer: string;
+    jwksUri: string;
+    responseTypesSupported: Array<string>;
+    scopesSupported?: Array<string>;
+    subjectTypesSupported: Array<string>;
+    tokenEndpoint: string;
+    userinfoEndpoint?: string;
+
+    constructor(data: any) {
+        let authorization_endpointDefault: any = "";
+        this.authorizationEndpoint = typeof data.authorization_endpoint !== "undefined" ? data.authorization_endpoint : authorization_endpointDefault;
+        let claims_supportedDefault: any = [];
+        this.claimsSupported = typeof data?.claims_supported !== "undefined" ? data?.claims_supported : claims_supportedDefault;
+        let grant_types_supportedDefault: any = [];
+        this.grantTypesSupported = typeof data?.grant_types_supported !== "undefined" ? data?.grant_types_supported : grant_types_supportedDefault;
+        let id_token_signing_alg_values_supportedDefault: any = [];
+        this.idTokenSigningAlgValuesSupported = typeof data.id_token_signing_alg_values_supported !== "undefined" ? data.id_token_signing_alg_values_supported : id_token_signing_alg_values_supportedDefault;
+        let issuerDefault: any = "";
+        this.issuer = typeof data.issuer !== "undefined" ? data.issuer : issuerDefault;
+        let jwks_uriDefault: any = "";
+        this.jwksUri = typeof data.jwks_uri !== "undefined" ? data.jwks_uri : jwks_uriDefault;
+        let response_types_supportedDefault: any = [];
+        this.responseTypesSupported = typeof data.response_types_supported !== "undefined" ? data.response_types_supported : response_types_supportedDefault;
+        let scopes_supportedDefault: any = [];
+        this.scopesSupported = typeof data?.scopes_supported !== "undefined" ? data?.scopes_supported : scopes_supportedDefault;
+        let subject_types_supportedDefault: any = [];
+        this.subjectTypesSupported = typeof data.subject_types_supported !== "undefined" ? data.subject_types_supported : subject_types_supportedDefault;
+        let token_endpointDefault: any = "";
+        this.tokenEndpoint = typeof data.token_endpoint !== "undefined" ? data.token_endpoint : token_endpointDefault;
+        let userinfo_endpointDefault: any = "";
+        this.userinfoEndpoint = typeof data?.userinfo_endpoint !== "undefined" ? data?.userinfo_endpoint : userinfo_endpointDefault;
+    }
+
+    public static getAuthorizationEndpointDefault(): string {
+        return "";
+    }
+
+    public static getAuthorizationEndpointDescription(): string {
+        return "";
+    }
+
+    public static getClaimsSupportedDefault(): Array<string> {
+        return [];
+    }
+
+    public static getClaimsSupportedDescription(): string {
+        return "";
+    }
+
+    public static getGrantTypesSupportedDefault(): Array<string> {
+        return [];
+    }
+
+    public static getGrantTypesSupportedDescription(): string {
+        return "";
+    }
+
+    public static getIdTokenSigningAlgValuesSupportedDefault(): Array<string> {
+        return [];
+    }
+
+    public static getIdTokenSigningAlgValuesSupportedDescription(): string {
+        return "";
+    }
+
+    public static getIssuerDefault(): string {
+        return "";
+    }
+
+    public static getIssuerDescription(): string {
+        return "";
+    }
+
+    public static getJwksUriDefault(): string {
+        return "";
+    }
+
+    public static getJwksUriDescription(): string {
+        return "";
+    }
+
+    public static getResponseTypesSupportedDefault(): Array<string> {
+        return [];
+    }
+
+    public static getResponseTypesSupportedDescription(): string {
+        return "";
+    }
+
+    public static getScopesSupportedDefault(): Array<string> {
+        return [];
+    }
+
+    public static getScopesSupportedDescription(): string {
+        return "";
+    }
+
+    public static getSubjectTypesSupportedDefault(): Array<string> {
+        return [];
+    }
+
+    public static getSubjectTypesSupportedDescription(): string {
+        return "";
+    }
+
+    public static getTokenEndpointDefault(): string {
+        return "";
+    }
+
+    public static getTokenEndpointDescription(): string {
+        return "";
+    }
+
+    public static getUserinfoEndpointDefault(): string {
+        return "";
+    }
+
+    public static getUserinfoEndpointDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): OIDCMetadata {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OIDCMetadata(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OIDCMetadata> {
+        return ModelStream.decodeArray(source, OIDCMetadata.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'authorization_endpoint': this.authorizationEndpoint,
+            'claims_supported': this.claimsSupported,
+            'grant_types_supported': this.grantTypesSupported,
+            'id_token_signing_alg_values_supported': this.idTokenSigningAlgValuesSupported,
+            'issuer': this.issuer,
+            'jwks_uri': this.jwksUri,
+            'response_types_supported': this.responseTypesSupported,
+            'scopes_supported': this.scopesSupported,
+            'subject_types_supported': this.subjectTypesSupported,
+            'token_endpoint': this.tokenEndpoint,
+            'userinfo_endpoint': this.userinfoEndpoint,
+        };
+    }
+
+    public clone(): OIDCMetadata {
+        return OIDCMetadata.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "authorizationEndpoint", typeof data.authorization_endpoint !== "undefined" ? data.authorization_endpoint : "") || changed;
+        changed = ModelAssignment.assignValue(this, "claimsSupported", typeof data?.claims_supported !== "undefined" ? data?.claims_supported : []) || changed;
+        changed = ModelAssignment.assignValue(this, "grantTypesSupported", typeof data?.grant_types_supported !== "undefined" ? data?.grant_types_supported : []) || changed;
+        changed = ModelAssignment.assignValue(this, "idTokenSigningAlgValuesSupported", typeof data.id_token_signing_alg_values_supported !== "undefined" ? data.id_token_signing_alg_values_supported : []) || changed;
+        changed = ModelAssignment.assignValue(this, "issuer", typeof data.issuer !== "undefined" ? data.issuer : "") || changed;
+        changed = ModelAssignment.assignValue(this, "jwksUri", typeof data.jwks_uri !== "undefined" ? data.jwks_uri : "") || changed;
+        changed = ModelAssignment.assignValue(this, "responseTypesSupported", typeof data.response_types_supported !== "undefined" ? data.response_types_supported : []) || changed;
+        changed = ModelAssignment.assignValue(this, "scopesSupported", typeof data?.scopes_supported !== "undefined" ? data?.scopes_supported : []) || changed;
+        changed = ModelAssignment.assignValue(this, "subjectTypesSupported", typeof data.subject_types_supported !== "undefined" ? data.subject_types_supported : []) || changed;
+        changed = ModelAssignment.assignValue(this, "tokenEndpoint", typeof data.token_endpoint !== "undefined" ? data.token_endpoint : "") || changed;
+        changed = ModelAssignment.assignValue(this, "userinfoEndpoint", typeof data?.userinfo_endpoint !== "undefined" ? data?.userinfo_endpoint : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.authorizationEndpoint, other.authorizationEndpoint)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.claimsSupported, other.claimsSupported)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.grantTypesSupported, other.grantTypesSupported)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.idTokenSigningAlgValuesSupported, other.idTokenSigningAlgValuesSupported)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.issuer, other.issuer)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.jwksUri, other.jwksUri)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.responseTypesSupported, other.responseTypesSupported)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scopesSupported, other.scopesSupported)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.subjectTypesSupported, other.subjectTypesSupported)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.tokenEndpoint, other.tokenEndpoint)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userinfoEndpoint, other.userinfoEndpoint)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.authorizationEndpoint);
+        hash = ModelEquality.hash(hash, this.claimsSupported);
+        hash = ModelEquality.hash(hash, this.grantTypesSupported);
+        hash = ModelEquality.hash(hash, this.idTokenSigningAlgValuesSupported);
+        hash = ModelEquality.hash(hash, this.issuer);
+        hash = ModelEquality.hash(hash, this.jwksUri);
+        hash = ModelEquality.hash(hash, this.responseTypesSupported);
+        hash = ModelEquality.hash(hash, this.scopesSupported);
+        hash = ModelEquality.hash(hash, this.subjectTypesSupported);
+        hash = ModelEquality.hash(hash, this.tokenEndpoint);
+        hash = ModelEquality.hash(hash, this.userinfoEndpoint);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OIDCMetadata(";
+        fingerprint += ModelEquality.fingerprint(this.authorizationEndpoint) + ",";
+        fingerprint += ModelEquality.fingerprint(this.claimsSupported) + ",";
+        fingerprint += ModelEquality.fingerprint(this.grantTypesSupported) + ",";
+        fingerprint += ModelEquality.fingerprint(this.idTokenSigningAlgValuesSupported) + ",";
+        fingerprint += ModelEquality.fingerprint(this.issuer) + ",";
+        fingerprint += ModelEquality.fingerprint(this.jwksUri) + ",";
+        fingerprint += ModelEquality.fingerprint(this.responseTypesSupported) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scopesSupported) + ",";
+        fingerprint += ModelEquality.fingerprint(this.subjectTypesSupported) + ",";
+        fingerprint += ModelEquality.fingerprint(this.tokenEndpoint) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userinfoEndpoint) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
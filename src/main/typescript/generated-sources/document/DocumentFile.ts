@@ -0,0 +1,410 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    WebserviceException,
+    Metadata,
+    Parameter,
+    ModelEquality,
+    DocumentPassword,
+} from "./../index";
+
+export interface DocumentFileInterface  {
+
+    /**
+    * Unique document id, which is required to access this document
+    */
+    documentId: string;
+    error?: WebserviceException;
+    /**
+    * File extension (without dot)
+    */
+    fileExtension?: string;
+    /**
+    * Date of the last file modification
+    */
+    fileLastModified?: string;
+    /**
+    * File name for the document (without extension)
+    */
+    fileName?: string;
+    /**
+    * File path for the document
+    */
+    filePath?: string;
+    /**
+    * File size of the document (in bytes)
+    */
+    fileSize?: number;
+    /**
+    * An internal unique text that describes the group to which the file belongs
+    */
+    fileTypeGroups?: string;
+    /**
+    * An internal unique id for the file type
+    */
+    fileTypeId?: number;
+    /**
+    * History id of the file entry
+    */
+    historyId?: number;
+    /**
+    * If set the document is currently locked
+    */
+    isFileLocked?: boolean;
+    metadata?: Metadata;
+    /**
+    * Mime type of the document
+    */
+    mimeType?: string;
+    /**
+    * If available, the id of the parent document
+    */
+    parentDocumentId?: string;
+    password?: DocumentPassword;
+
+}
+export class DocumentFile implements DocumentFileInterface, Parameter {
+    /**
+    * Unique document id, which is required to access this document
+    */
+    documentId: string;
+    error?: WebserviceException;
+    /**
+    * File extension (without dot)
+    */
+    fileExtension?: string;
+    /**
+    * Date of the last file modification
+    */
+    fileLastModified?: string;
+    /**
+    * File name for the document (without extension)
+    */
+    fileName?: string;
+    /**
+    * File path for the document
+    */
+    filePath?: string;
+    /**
+    * File size of the document (in bytes)
+    */
+    fileSize?: number;
+    /**
+    * An internal unique text that describes the group to which the file belongs
+    */
+    fileTypeGroups?: string;
+    /**
+    * An internal unique id for the file type
+    */
+    fileTypeId?: number;
+    /**
+    * History id of the file entry
+    */
+    historyId?: number;
+    /**
+    * If set the document is currently locked
+    */
+    isFileLocked?: boolean;
+    metadata?: Metadata;
+    /**
+    * Mime type of the document
+    */
+    mimeType?: string;
+    /**
+    * If available, the id of the parent document
+    */
+    parentDocumentId?: string;
+    password?: DocumentPassword;
+
+    constructor(data: any) {
+        let documentIdDefault: any = "";
+        this.documentId = typeof data.documentId !== "undefined" ? data.documentId : documentIdDefault;
+        this.error = WebserviceException.fromJson(data?.error);
+        let fileExtensionDefault: any = "";
+        this.fileExtension = typeof data?.fileExtension !== "undefined" ? data?.fileExtension : fileExtensionDefault;
+        let fileLastModifiedDefault: any = "";
+        this.fileLastModified = typeof data?.fileLastModified !== "undefined" ? data?.fileLastModified : fileLastModifiedDefault;
+        let fileNameDefault: any = "";
+        this.fileName = typeof data?.fileName !== "undefined" ? data?.fileName : fileNameDefault;
+        let filePathDefault: any = "";
+        this.filePath = typeof data?.filePath !== "undefined" ? data?.filePath : filePathDefault;
+        let fileSizeDefault: any = 0;
+        this.fileSize = typeof data?.fileSize !== "undefined" ? data?.fileSize : fileSizeDefault;
+        let fileTypeGroupsDefault: any = "";
+        this.fileTypeGroups = typeof data?.fileTypeGroups !== "undefined" ? data?.fileTypeGroups : fileTypeGroupsDefault;
+        let fileTypeIdDefault: any = 0;
+        this.fileTypeId = typeof data?.fileTypeId !== "undefined" ? data?.fileTypeId : fileTypeIdDefault;
+        let historyIdDefault: any = 0;
+        this.historyId = typeof data?.historyId !== "undefined" ? data?.historyId : historyIdDefault;
+        let isFileLockedDefault: any = false;
+        this.isFileLocked = typeof data?.isFileLocked !== "undefined" ? data?.isFileLocked : isFileLockedDefault;
+        this.metadata = Metadata.fromJson(data?.metadata);
+        let mimeTypeDefault: any = "";
+        this.mimeType = typeof data?.mimeType !== "undefined" ? data?.mimeType : mimeTypeDefault;
+        let parentDocumentIdDefault: any = "";
+        this.parentDocumentId = typeof data?.parentDocumentId !== "undefined" ? data?.parentDocumentId : parentDocumentIdDefault;
+        this.password = DocumentPassword.fromJson(data?.password);
+    }
+
+    public static getDocumentIdDefault(): string {
+        return "";
+    }
+
+    public static getDocumentIdDescription(): string {
+        return "Unique document id, which is required to access this document";
+    }
+
+    public static getErrorDescription(): string {
+        return "";
+    }
+
+    public static getFileExtensionDefault(): string {
+        return "";
+    }
+
+    public static getFileExtensionDescription(): string {
+        return "File extension (without dot)";
+    }
+
+    public static getFileLastModifiedDefault(): string {
+        return "";
+    }
+
+    public static getFileLastModifiedDescription(): string {
+        return "Date of the last file modification";
+    }
+
+    public static getFileNameDefault(): string {
+        return "";
+    }
+
+    public static getFileNameDescription(): string {
+        return "File name for the document (without extension)";
+    }
+
+    public static getFilePathDefault(): string {
+        return "";
+    }
+
+    public static getFilePathDescription(): string {
+        return "File path for the document";
+    }
+
+    public static getFileSizeDefault(): number {
+        return 0;
+    }
+
+    public static getFileSizeDescription(): string {
+        return "File size of the document (in bytes)";
+    }
+
+    public static getFileTypeGroupsDefault(): string {
+        return "";
+    }
+
+    public static getFileTypeGroupsDescription(): string {
+        return "An internal unique text that describes the group to which the file belongs";
+    }
+
+    public static getFileTypeIdDefault(): number {
+        return 0;
+    }
+
+    public static getFileTypeIdDescription(): string {
+        return "An internal unique id for the file type";
+    }
+
+    public static getHistoryIdDefault(): number {
+        return 0;
+    }
+
+    public static getHistoryIdDescription(): string {
+        return "History id of the file entry";
+    }
+
+    public static getIsFileLockedDefault(): boolean {
+        return false;
+    }
+
+    public static getIsFileLockedDescription(): string {
+        return "If set the document is currently locked";
+    }
+
+    public static getMetadataDescription(): string {
+        return "";
+    }
+
+    public static getMimeTypeDefault(): string {
+        return "";
+    }
+
+    public static getMimeTypeDescription(): string {
+        return "Mime type of the document";
+    }
+
+    public static getParentDocumentIdDefault(): string {
+        return "";
+    }
+
+    public static getParentDocumentIdDescription(): string {
+        return "If available, the id of the parent document";
+    }
+
+    public static getPasswordDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): DocumentFile {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new DocumentFile(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<DocumentFile> {
+        return ModelStream.decodeArray(source, DocumentFile.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'documentId': this.documentId,
+            'error': this.error?.toJson(),
+            'fileExtension': this.fileExtension,
+            'fileLastModified': this.fileLastModified,
+            'fileName': this.fileName,
+            'filePath': this.filePath,
+            'fileSize': this.fileSize,
+            'fileTypeGroups': this.fileTypeGroups,
+            'fileTypeId': this.fileTypeId,
+            'historyId': this.historyId,
+            'isFileLocked': this.isFileLocked,
+            'metadata': this.metadata?.toJson(),
+            'mimeType': this.mimeType,
+            'parentDocumentId': this.parentDocumentId,
+            'password': this.password?.toJson(),
+        };
+    }
+
+    public clone(): DocumentFile {
+        return DocumentFile.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "documentId", typeof data.documentId !== "undefined" ? data.documentId : "") || changed;
+        changed = ModelAssignment.assignModel(this, "error", data?.error, WebserviceException.fromJson, WebserviceException) || changed;
+        changed = ModelAssignment.assignValue(this, "fileExtension", typeof data?.fileExtension !== "undefined" ? data?.fileExtension : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fileLastModified", typeof data?.fileLastModified !== "undefined" ? data?.fileLastModified : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fileName", typeof data?.fileName !== "undefined" ? data?.fileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "filePath", typeof data?.filePath !== "undefined" ? data?.filePath : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fileSize", typeof data?.fileSize !== "undefined" ? data?.fileSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "fileTypeGroups", typeof data?.fileTypeGroups !== "undefined" ? data?.fileTypeGroups : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fileTypeId", typeof data?.fileTypeId !== "undefined" ? data?.fileTypeId : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "historyId", typeof data?.historyId !== "undefined" ? data?.historyId : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "isFileLocked", typeof data?.isFileLocked !== "undefined" ? data?.isFileLocked : false) || changed;
+        changed = ModelAssignment.assignModel(this, "metadata", data?.metadata, Metadata.fromJson) || changed;
+        changed = ModelAssignment.assignValue(this, "mimeType", typeof data?.mimeType !== "undefined" ? data?.mimeType : "") || changed;
+        changed = ModelAssignment.assignValue(this, "parentDocumentId", typeof data?.parentDocumentId !== "undefined" ? data?.parentDocumentId : "") || changed;
+        changed = ModelAssignment.assignModel(this, "password", data?.password, DocumentPassword.fromJson, DocumentPassword) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.documentId, other.documentId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.error, other.error)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileExtension, other.fileExtension)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileLastModified, other.fileLastModified)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileName, other.fileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.filePath, other.filePath)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileSize, other.fileSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileTypeGroups, other.fileTypeGroups)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileTypeId, other.fileTypeId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.historyId, other.historyId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isFileLocked, other.isFileLocked)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metadata, other.metadata)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mimeType, other.mimeType)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.parentDocumentId, other.parentDocumentId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.documentId);
+        hash = ModelEquality.hash(hash, this.error);
+        hash = ModelEquality.hash(hash, this.fileExtension);
+        hash = ModelEquality.hash(hash, this.fileLastModified);
+        hash = ModelEquality.hash(hash, this.fileName);
+        hash = ModelEquality.hash(hash, this.filePath);
+        hash = ModelEquality.hash(hash, this.fileSize);
+        hash = ModelEquality.hash(hash, this.fileTypeGroups);
+        hash = ModelEquality.hash(hash, this.fileTypeId);
+        hash = ModelEquality.hash(hash, this.historyId);
+        hash = ModelEquality.hash(hash, this.isFileLocked);
+        hash = ModelEquality.hash(hash, this.metadata);
+        hash = ModelEquality.hash(hash, this.mimeType);
+        hash = ModelEquality.hash(hash, this.parentDocumentId);
+        hash = ModelEquality.hash(hash, this.password);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "DocumentFile(";
+        fingerprint += ModelEquality.fingerprint(this.documentId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.error) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileExtension) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileLastModified) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.filePath) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileTypeGroups) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileTypeId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.historyId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isFileLocked) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metadata) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mimeType) + ",";
+        fingerprint += ModelEquality.fingerprint(this.parentDocumentId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    DocumentRecipient,
+    ModelEquality,
+} from "./../index";
+
+export interface DocumentPasswordInterface  {
+
+    /**
+    * True, if an certificate is set
+    */
+    isCertificateSet?: boolean;
+    /**
+    * True, if an open password is set
+    */
+    isOpenSet?: boolean;
+    /**
+    * True, if an permission password is set
+    */
+    isPermissionSet?: boolean;
+    /**
+    * List of recipients which are allowed to open the document
+    */
+    recipients?: Array<DocumentRecipient>;
+
+}
+export class DocumentPassword implements DocumentPasswordInterface, Parameter {
+    /**
+    * True, if an certificate is set
+    */
+    isCertificateSet?: boolean;
+    /**
+    * True, if an open password is set
+    */
+    isOpenSet?: boolean;
+    /**
+    * True, if an permission password is set
+    */
+    isPermissionSet?: boolean;
+    /**
+    * List of recipients which are allowed to open the document
+    */
+    recipients?: Array<DocumentRecipient>;
+
+    constructor(data: any) {
+        let isCertificateSetDefault: any = false;
+        this.isCertificateSet = typeof data?.isCertificateSet !== "undefined" ? data?.isCertificateSet : isCertificateSetDefault;
+        let isOpenSetDefault: any = false;
+        this.isOpenSet = typeof data?.isOpenSet !== "undefined" ? data?.isOpenSet : isOpenSetDefault;
+        let isPermissionSetDefault: any = false;
+        this.isPermissionSet = typeof data?.isPermissionSet !== "undefined" ? data?.isPermissionSet : isPermissionSetDefault;
+        this.recipients = (data?.recipients || []).map(
+            DocumentRecipient.fromJson
+        );
+    }
+
+    public static getIsCertificateSetDefault(): boolean {
+        return false;
+    }
+
+    public static getIsCertificateSetDescription(): string {
+        return "True, if an certificate is set";
+    }
+
+    public static getIsOpenSetDefault(): boolean {
+        return false;
+    }
+
+    public static getIsOpenSetDescription(): string {
+        return "True, if an open password is set";
+    }
+
+    public static getIsPermissionSetDefault(): boolean {
+        return false;
+    }
+
+    public static getIsPermissionSetDescription(): string {
+        return "True, if an permission password is set";
+    }
+
+    public static getRecipientsDefault(): Array<DocumentRecipient> {
+        return [];
+    }
+
+    public static getRecipientsDescription(): string {
+        return "List of recipients which are allowed to open the document";
+    }
+
+    public static fromJson(data: any): DocumentPassword {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new DocumentPassword(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<DocumentPassword> {
+        return ModelStream.decodeArray(source, DocumentPassword.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'isCertificateSet': this.isCertificateSet,
+            'isOpenSet': this.isOpenSet,
+            'isPermissionSet': this.isPermissionSet,
+            'recipients': this.recipients?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): DocumentPassword {
+        return DocumentPassword.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "isCertificateSet", typeof data?.isCertificateSet !== "undefined" ? data?.isCertificateSet : false) || changed;
+        changed = ModelAssignment.assignValue(this, "isOpenSet", typeof data?.isOpenSet !== "undefined" ? data?.isOpenSet : false) || changed;
+        changed = ModelAssignment.assignValue(this, "isPermissionSet", typeof data?.isPermissionSet !== "undefined" ? data?.isPermissionSet : false) || changed;
+        changed = ModelAssignment.assignArray(this, "recipients", data?.recipients, DocumentRecipient.fromJson, DocumentRecipient) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isCertificateSet, other.isCertificateSet)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isOpenSet, other.isOpenSet)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isPermissionSet, other.isPermissionSet)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.recipients, other.recipients)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.isCertificateSet);
+        hash = ModelEquality.hash(hash, this.isOpenSet);
+        hash = ModelEquality.hash(hash, this.isPermissionSet);
+        hash = ModelEquality.hash(hash, this.recipients);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "DocumentPassword(";
+        fingerprint += ModelEquality.fingerprint(this.isCertificateSet) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isOpenSet) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isPermissionSet) + ",";
+        fingerprint += ModelEquality.fingerprint(this.recipients) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface DocumentRecipientInterface  {
+
+    /**
+    * The X.500 name of the recipient
+    */
+    issuer?: string;
+    /**
+    * The serial number of the recipient's X.500 certificate
+    */
+    serialNumber?: string;
+
+}
+export class DocumentRecipient implements DocumentRecipientInterface, Parameter {
+    /**
+    * The X.500 name of the recipient
+    */
+    issuer?: string;
+    /**
+    * The serial number of the recipient's X.500 certificate
+    */
+    serialNumber?: string;
+
+    constructor(data: any) {
+        let issuerDefault: any = "";
+        this.issuer = typeof data?.issuer !== "undefined" ? data?.issuer : issuerDefault;
+        let serialNumberDefault: any = "";
+        this.serialNumber = typeof data?.serialNumber !== "undefined" ? data?.serialNumber : serialNumberDefault;
+    }
+
+    public static getIssuerDefault(): string {
+        return "";
+    }
+
+    public static getIssuerDescription(): string {
+        return "The X.500 name of the recipient";
+    }
+
+    public static getSerialNumberDefault(): string {
+        return "";
+    }
+
+    public static getSerialNumberDescription(): string {
+        return "The serial number of the recipient's X.500 certificate";
+    }
+
+    public static fromJson(data: any): DocumentRecipient {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new DocumentRecipient(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<DocumentRecipient> {
+        return ModelStream.decodeArray(source, DocumentRecipient.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'issuer': this.issuer,
+            'serialNumber': this.serialNumber,
+        };
+    }
+
+    public clone(): DocumentRecipient {
+        return DocumentRecipient.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "issuer", typeof data?.issuer !== "undefined" ? data?.issuer : "") || changed;
+        changed = ModelAssignment.assignValue(this, "serialNumber", typeof data?.serialNumber !== "undefined" ? data?.serialNumber : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.issuer, other.issuer)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.serialNumber, other.serialNumber)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.issuer);
+        hash = ModelEquality.hash(hash, this.serialNumber);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "DocumentRecipient(";
+        fingerprint += ModelEquality.fingerprint(this.issuer) + ",";
+        fingerprint += ModelEquality.fingerprint(this.serialNumber) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    FileFilter,
+} from "./../index";
+
+export interface FileCompressInterface  {
+
+    /**
+    * Sets the file name for the archive document.
+    */
+    archiveFileName?: string;
+    /**
+    * Sets the list of `documentId`s to be added to the archive document.
+    */
+    documentIdList?: Array<string>;
+    fileFilter?: FileFilter;
+    /**
+    * Defines whether the archive is saved in the document storage or only created temporarily.
+    */
+    storeArchive?: boolean;
+
+}
+export class FileCompress implements FileCompressInterface, Parameter {
+    /**
+    * Sets the file name for the archive document.
+    */
+    archiveFileName?: string;
+    /**
+    * Sets the list of `documentId`s to be added to the archive document.
+    */
+    documentIdList?: Array<string>;
+    fileFilter?: FileFilter;
+    /**
+    * Defines whether the archive is saved in the document storage or only created temporarily.
+    */
+    storeArchive?: boolean;
+
+    constructor(data: any) {
+        let archiveFileNameDefault: any = "archive.zip";
+        this.archiveFileName = typeof data?.archiveFileName !== "undefined" ? data?.archiveFileName : archiveFileNameDefault;
+        let documentIdListDefault: any = [];
+        this.documentIdList = typeof data?.documentIdList !== "undefined" ? data?.documentIdList : documentIdListDefault;
+        this.fileFilter = FileFilter.fromJson(data?.fileFilter);
+        let storeArchiveDefault: any = false;
+        this.storeArchive = typeof data?.storeArchive !== "undefined" ? data?.storeArchive : storeArchiveDefault;
+    }
+
+    public static getArchiveFileNameDefault(): string {
+        return "archive.zip";
+    }
+
+    public static getArchiveFileNameDescription(): string {
+        return "Sets the file name for the archive document.";
+    }
+
+    public static getDocumentIdListDefault(): Array<string> {
+        return [];
+    }
+
+    public static getDocumentIdListDescription(): string {
+        return "Sets the list of `documentId`s to be added to the archive document.";
+    }
+
+    public static getFileFilterDescription(): string {
+        return "";
+    }
+
+    public static getStoreArchiveDefault(): boolean {
+        return false;
+    }
+
+    public static getStoreArchiveDescription(): string {
+        return "Defines whether the archive is saved in the document storage or only created temporarily.";
+    }
+
+    public static fromJson(data: any): FileCompress {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FileCompress(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FileCompress> {
+        return ModelStream.decodeArray(source, FileCompress.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'archiveFileName': this.archiveFileName,
+            'documentIdList': this.documentIdList,
+            'fileFilter': this.fileFilter?.toJson(),
+            'storeArchive': this.storeArchive,
+        };
+    }
+
+    public clone(): FileCompress {
+        return FileCompress.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "archiveFileName", typeof data?.archiveFileName !== "undefined" ? data?.archiveFileName : "archive.zip") || changed;
+        changed = ModelAssignment.assignValue(this, "documentIdList", typeof data?.documentIdList !== "undefined" ? data?.documentIdList : []) || changed;
+        changed = ModelAssignment.assignModel(this, "fileFilter", data?.fileFilter, FileFilter.fromJson, FileFilter) || changed;
+        changed = ModelAssignment.assignValue(this, "storeArchive", typeof data?.storeArchive !== "undefined" ? data?.storeArchive : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.archiveFileName, other.archiveFileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.documentIdList, other.documentIdList)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileFilter, other.fileFilter)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.storeArchive, other.storeArchive)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.archiveFileName);
+        hash = ModelEquality.hash(hash, this.documentIdList);
+        hash = ModelEquality.hash(hash, this.fileFilter);
+        hash = ModelEquality.hash(hash, this.storeArchive);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FileCompress(";
+        fingerprint += ModelEquality.fingerprint(this.archiveFileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.documentIdList) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileFilter) + ",";
+        fingerprint += ModelEquality.fingerprint(this.storeArchive) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
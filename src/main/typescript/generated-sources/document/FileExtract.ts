@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    FileFilter,
+} from "./../index";
+
+export interface FileExtractInterface  {
+
+    fileFilter?: FileFilter;
+
+}
+export class FileExtract implements FileExtractInterface, Parameter {
+    fileFilter?: FileFilter;
+
+    constructor(data: any) {
+        this.fileFilter = FileFilter.fromJson(data?.fileFilter);
+    }
+
+    public static getFileFilterDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): FileExtract {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FileExtract(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FileExtract> {
+        return ModelStream.decodeArray(source, FileExtract.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'fileFilter': this.fileFilter?.toJson(),
+        };
+    }
+
+    public clone(): FileExtract {
+        return FileExtract.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "fileFilter", data?.fileFilter, FileFilter.fromJson, FileFilter) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileFilter, other.fileFilter)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.fileFilter);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FileExtract(";
+        fingerprint += ModelEquality.fingerprint(this.fileFilter) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
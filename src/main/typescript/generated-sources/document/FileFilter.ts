@@ -0,0 +1,118 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    FileFilterRule,
+} from "./../index";
+
+export interface FileFilterInterface  {
+
+    /**
+    * Sets the list of rules for files to be excluded (black list)
+    */
+    excludeRules?: Array<FileFilterRule>;
+    /**
+    * Sets the list of rules for files to be included (white list)
+    */
+    includeRules?: Array<FileFilterRule>;
+
+}
+export class FileFilter implements FileFilterInterface, Parameter {
+    /**
+    * Sets the list of rules for files to be excluded (black list)
+    */
+    excludeRules?: Array<FileFilterRule>;
+    /**
+    * Sets the list of rules for files to be included (white list)
+    */
+    includeRules?: Array<FileFilterRule>;
+
+    constructor(data: any) {
+        this.excludeRules = (data?.excludeRules || []).map(
+            FileFilterRule.fromJson
+        );
+        this.includeRules = (data?.includeRules || []).map(
+            FileFilterRule.fromJson
+        );
+    }
+
+    public static getExcludeRulesDefault(): Array<FileFilterRule> {
+        return [];
+    }
+
+    public static getExcludeRulesDescription(): string {
+        return "Sets the list of rules for files to be excluded (black list)";
+    }
+
+    public static getIncludeRulesDefault(): Array<FileFilterRule> {
+        return [];
+    }
+
+    public static getIncludeRulesDescription(): string {
+        return "Sets the list of rules for files to be included (white list)";
+    }
+
+    public static fromJson(data: any): FileFilter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FileFilter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FileFilter> {
+        return ModelStream.decodeArray(source, FileFilter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'excludeRules': this.excludeRules?.map((data) => data.toJson()),
+            'includeRules': this.includeRules?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): FileFilter {
+        return FileFilter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "excludeRules", data?.excludeRules, FileFilterRule.fromJson, FileFilterRule) || changed;
+        changed = ModelAssignment.assignArray(this, "includeRules", data?.includeRules, FileFilterRule.fromJson, FileFilterRule) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.excludeRules, other.excludeRules)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.includeRules, other.includeRules)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.excludeRules);
+        hash = ModelEquality.hash(hash, this.includeRules);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FileFilter(";
+        fingerprint += ModelEquality.fingerprint(this.excludeRules) + ",";
+        fingerprint += ModelEquality.fingerprint(this.includeRules) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+import {
+    ModelAssignment,
+    FileFilterType,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FileFilterRuleInterface  {
+
+    /**
+    * Defines the pattern of this rule. The syntax depends on the selected `ruleType`.
+    */
+    rulePattern?: string;
+    ruleType?: FileFilterType;
+
+}
+export class FileFilterRule implements FileFilterRuleInterface, Parameter {
+    /**
+    * Defines the pattern of this rule. The syntax depends on the selected `ruleType`.
+    */
+    rulePattern?: string;
+    ruleType?: FileFilterType;
+
+    constructor(data: any) {
+        let rulePatternDefault: any = "";
+        this.rulePattern = typeof data?.rulePattern !== "undefined" ? data?.rulePattern : rulePatternDefault;
+        let ruleTypeDefault: any = "suffix";
+        this.ruleType = typeof data?.ruleType !== "undefined" ? data?.ruleType : ruleTypeDefault;
+    }
+
+    public static getRulePatternDefault(): string {
+        return "";
+    }
+
+    public static getRulePatternDescription(): string {
+        return "Defines the pattern of this rule. The syntax depends on the selected `ruleType`.";
+    }
+
+    public static getRuleTypeDefault(): FileFilterType {
+        return "suffix" as FileFilterType;
+    }
+
+    public static getRuleTypeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): FileFilterRule {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FileFilterRule(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FileFilterRule> {
+        return ModelStream.decodeArray(source, FileFilterRule.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'rulePattern': this.rulePattern,
+            'ruleType': this.ruleType,
+        };
+    }
+
+    public clone(): FileFilterRule {
+        return FileFilterRule.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "rulePattern", typeof data?.rulePattern !== "undefined" ? data?.rulePattern : "") || changed;
+        changed = ModelAssignment.assignValue(this, "ruleType", typeof data?.ruleType !== "undefined" ? data?.ruleType : "suffix") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rulePattern, other.rulePattern)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ruleType, other.ruleType)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.rulePattern);
+        hash = ModelEquality.hash(hash, this.ruleType);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FileFilterRule(";
+        fingerprint += ModelEquality.fingerprint(this.rulePattern) + ",";
+        fingerprint += ModelEquality.fingerprint(this.ruleType) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
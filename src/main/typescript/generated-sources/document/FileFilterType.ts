@@ -0,0 +1,7 @@
+export enum FileFilterType {
+
+    Suffix = 'suffix',
+    Regex = 'regex',
+    Glob = 'glob'
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FileUpdateInterface  {
+
+    /**
+    * File name for the document (without extension)
+    */
+    fileName?: string;
+    /**
+    * The id of the parent document
+    */
+    parentDocumentId?: string;
+
+}
+export class FileUpdate implements FileUpdateInterface, Parameter {
+    /**
+    * File name for the document (without extension)
+    */
+    fileName?: string;
+    /**
+    * The id of the parent document
+    */
+    parentDocumentId?: string;
+
+    constructor(data: any) {
+        let fileNameDefault: any = "";
+        this.fileName = typeof data?.fileName !== "undefined" ? data?.fileName : fileNameDefault;
+        let parentDocumentIdDefault: any = "";
+        this.parentDocumentId = typeof data?.parentDocumentId !== "undefined" ? data?.parentDocumentId : parentDocumentIdDefault;
+    }
+
+    public static getFileNameDefault(): string {
+        return "";
+    }
+
+    public static getFileNameDescription(): string {
+        return "File name for the document (without extension)";
+    }
+
+    public static getParentDocumentIdDefault(): string {
+        return "";
+    }
+
+    public static getParentDocumentIdDescription(): string {
+        return "The id of the parent document";
+    }
+
+    public static fromJson(data: any): FileUpdate {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FileUpdate(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FileUpdate> {
+        return ModelStream.decodeArray(source, FileUpdate.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'fileName': this.fileName,
+            'parentDocumentId': this.parentDocumentId,
+        };
+    }
+
+    public clone(): FileUpdate {
+        return FileUpdate.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "fileName", typeof data?.fileName !== "undefined" ? data?.fileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "parentDocumentId", typeof data?.parentDocumentId !== "undefined" ? data?.parentDocumentId : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileName, other.fileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.parentDocumentId, other.parentDocumentId)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.fileName);
+        hash = ModelEquality.hash(hash, this.parentDocumentId);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FileUpdate(";
+        fingerprint += ModelEquality.fingerprint(this.fileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.parentDocumentId) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
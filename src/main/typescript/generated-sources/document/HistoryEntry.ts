@@ -0,0 +1,190 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface HistoryEntryInterface  {
+
+    /**
+    * When this is set to **true** the entry is still active and may be reverted to.
+    */
+    active?: boolean;
+    /**
+    * The creation time of the entry.
+    */
+    dateTime?: string;
+    /**
+    * The file name used for this entry.
+    */
+    fileName?: string;
+    /**
+    * The unique history id in the server´s **document storage**.
+    */
+    id: number;
+    /**
+    * The name of the operation executed for the entry. (The name of the webservice - optionally followed by ':' and the name of the executed operation.)
+    */
+    operation?: string;
+
+}
+export class HistoryEntry implements HistoryEntryInterface, Parameter {
+    /**
+    * When this is set to **true** the entry is still active and may be reverted to.
+    */
+    active?: boolean;
+    /**
+    * The creation time of the entry.
+    */
+    dateTime?: string;
+    /**
+    * The file name used for this entry.
+    */
+    fileName?: string;
+    /**
+    * The unique history id in the server´s **document storage**.
+    */
+    id: number;
+    /**
+    * The name of the operation executed for the entry. (The name of the webservice - optionally followed by ':' and the name of the executed operation.)
+    */
+    operation?: string;
+
+    constructor(data: any) {
+        let activeDefault: any = false;
+        this.active = typeof data?.active !== "undefined" ? data?.active : activeDefault;
+        let dateTimeDefault: any = "";
+        this.dateTime = typeof data?.dateTime !== "undefined" ? data?.dateTime : dateTimeDefault;
+        let fileNameDefault: any = "";
+        this.fileName = typeof data?.fileName !== "undefined" ? data?.fileName : fileNameDefault;
+        let idDefault: any = 0;
+        this.id = typeof data.id !== "undefined" ? data.id : idDefault;
+        let operationDefault: any = "";
+        this.operation = typeof data?.operation !== "undefined" ? data?.operation : operationDefault;
+    }
+
+    public static getActiveDefault(): boolean {
+        return false;
+    }
+
+    public static getActiveDescription(): string {
+        return "When this is set to **true** the entry is still active and may be reverted to.";
+    }
+
+    public static getDateTimeDefault(): string {
+        return "";
+    }
+
+    public static getDateTimeDescription(): string {
+        return "The creation time of the entry.";
+    }
+
+    public static getFileNameDefault(): string {
+        return "";
+    }
+
+    public static getFileNameDescription(): string {
+        return "The file name used for this entry.";
+    }
+
+    public static getIdDefault(): number {
+        return 0;
+    }
+
+    public static getIdDescription(): string {
+        return "The unique history id in the server\u00B4s **document storage**.";
+    }
+
+    public static getOperationDefault(): string {
+        return "";
+    }
+
+    public static getOperationDescription(): string {
+        return "The name of the operation executed for the entry. (The name of the webservice - optionally followed by ':' and the name of the executed operation.)";
+    }
+
+    public static fromJson(data: any): HistoryEntry {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HistoryEntry(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HistoryEntry> {
+        return ModelStream.decodeArray(source, HistoryEntry.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'active': this.active,
+            'dateTime': this.dateTime,
+            'fileName': this.fileName,
+            'id': this.id,
+            'operation': this.operation,
+        };
+    }
+
+    public clone(): HistoryEntry {
+        return HistoryEntry.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "active", typeof data?.active !== "undefined" ? data?.active : false) || changed;
+        changed = ModelAssignment.assignValue(this, "dateTime", typeof data?.dateTime !== "undefined" ? data?.dateTime : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fileName", typeof data?.fileName !== "undefined" ? data?.fileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "id", typeof data.id !== "undefined" ? data.id : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "operation", typeof data?.operation !== "undefined" ? data?.operation : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.active, other.active)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dateTime, other.dateTime)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileName, other.fileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.id, other.id)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.operation, other.operation)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.active);
+        hash = ModelEquality.hash(hash, this.dateTime);
+        hash = ModelEquality.hash(hash, this.fileName);
+        hash = ModelEquality.hash(hash, this.id);
+        hash = ModelEquality.hash(hash, this.operation);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HistoryEntry(";
+        fingerprint += ModelEquality.fingerprint(this.active) + ",";
+        fingerprint += ModelEquality.fingerprint(this.dateTime) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.id) + ",";
+        fingerprint += ModelEquality.fingerprint(this.operation) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    InfoType,
+    InfoForm,
+} from "./../index";
+
+export interface InfoInterface  {
+
+    infoType: InfoType;
+
+}
+export class Info implements InfoInterface, Parameter {
+    infoType: InfoType;
+
+    constructor(data: any) {
+        let infoTypeDefault: any = "form";
+        this.infoType = typeof data.infoType !== "undefined" ? data.infoType : infoTypeDefault;
+    }
+
+    public static getInfoTypeDefault(): InfoType {
+        return "form" as InfoType;
+    }
+
+    public static getInfoTypeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Info {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        switch(data.infoType) {
+            case 'form':
+                return InfoForm.fromJson(data);
+        }
+
+        return new Info(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Info> {
+        return ModelStream.decodeArray(source, Info.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'infoType': this.infoType,
+        };
+    }
+
+    public clone(): Info {
+        return Info.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "infoType", typeof data.infoType !== "undefined" ? data.infoType : "form") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.infoType, other.infoType)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.infoType);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Info(";
+        fingerprint += ModelEquality.fingerprint(this.infoType) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    WebserviceException,
+    Parameter,
+    InfoInterface,
+    ModelEquality,
+    InfoFormField,
+    Info,
+} from "./../index";
+
+export interface InfoFormInterface extends InfoInterface  {
+
+    /**
+    * All AcroForms fields with fully qualified name and, if XFA form, mapping to XFA template and XFA data.
+    */
+    acroFormFields?: Array<InfoFormField>;
+    error?: WebserviceException;
+    /**
+    * Requested content (BASE64 encoded)
+    */
+    value?: string;
+
+}
+export class InfoForm extends Info implements InfoFormInterface, Parameter {
+    /**
+    * All AcroForms fields with fully qualified name and, if XFA form, mapping to XFA template and XFA data.
+    */
+    acroFormFields?: Array<InfoFormField>;
+    error?: WebserviceException;
+    /**
+    * Requested content (BASE64 encoded)
+    */
+    value?: string;
+
+    constructor(data: any) {
+        super(data);
+
+        this.acroFormFields = (data?.acroFormFields || []).map(
+            InfoFormField.fromJson
+        );
+        this.error = WebserviceException.fromJson(data?.error);
+        this.value = data?.value;
+    }
+
+    public static getAcroFormFieldsDefault(): Array<InfoFormField> {
+        return [];
+    }
+
+    public static getAcroFormFieldsDescription(): string {
+        return "All AcroForms fields with fully qualified name and, if XFA form, mapping to XFA template and XFA data.";
+    }
+
+    public static getErrorDescription(): string {
+        return "";
+    }
+
+    public static getValueDescription(): string {
+        return "Requested content (BASE64 encoded)";
+    }
+
+    public static fromJson(data: any): InfoForm {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new InfoForm(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<InfoForm> {
+        return ModelStream.decodeArray(source, InfoForm.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'acroFormFields': this.acroFormFields?.map((data) => data.toJson()),
+            'error': this.error?.toJson(),
+            'value': this.value,
+        };
+    }
+
+    public clone(): InfoForm {
+        return InfoForm.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignArray(this, "acroFormFields", data?.acroFormFields, InfoFormField.fromJson, InfoFormField) || changed;
+        changed = ModelAssignment.assignModel(this, "error", data?.error, WebserviceException.fromJson, WebserviceException) || changed;
+        changed = ModelAssignment.assignValue(this, "value", data?.value) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.acroFormFields, other.acroFormFields)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.error, other.error)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.value, other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.acroFormFields);
+        hash = ModelEquality.hash(hash, this.error);
+        hash = ModelEquality.hash(hash, this.value);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "InfoForm(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.acroFormFields) + ",";
+        fingerprint += ModelEquality.fingerprint(this.error) + ",";
+        fingerprint += ModelEquality.fingerprint(this.value) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
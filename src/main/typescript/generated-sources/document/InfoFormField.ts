@@ -0,0 +1,130 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    InfoFormXfaField,
+} from "./../index";
+
+export interface InfoFormFieldInterface  {
+
+    /**
+    * XPath to the entry in the XML data structure used for importing and exporting data to the form.
+    */
+    dataXPath?: string;
+    /**
+    * Fully qualified field name
+    */
+    fullyQualifiedName?: string;
+    xfaField?: InfoFormXfaField;
+
+}
+export class InfoFormField implements InfoFormFieldInterface, Parameter {
+    /**
+    * XPath to the entry in the XML data structure used for importing and exporting data to the form.
+    */
+    dataXPath?: string;
+    /**
+    * Fully qualified field name
+    */
+    fullyQualifiedName?: string;
+    xfaField?: InfoFormXfaField;
+
+    constructor(data: any) {
+        let dataXPathDefault: any = "";
+        this.dataXPath = typeof data?.dataXPath !== "undefined" ? data?.dataXPath : dataXPathDefault;
+        let fullyQualifiedNameDefault: any = "";
+        this.fullyQualifiedName = typeof data?.fullyQualifiedName !== "undefined" ? data?.fullyQualifiedName : fullyQualifiedNameDefault;
+        this.xfaField = InfoFormXfaField.fromJson(data?.xfaField);
+    }
+
+    public static getDataXPathDefault(): string {
+        return "";
+    }
+
+    public static getDataXPathDescription(): string {
+        return "XPath to the entry in the XML data structure used for importing and exporting data to the form.";
+    }
+
+    public static getFullyQualifiedNameDefault(): string {
+        return "";
+    }
+
+    public static getFullyQualifiedNameDescription(): string {
+        return "Fully qualified field name";
+    }
+
+    public static getXfaFieldDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): InfoFormField {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new InfoFormField(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<InfoFormField> {
+        return ModelStream.decodeArray(source, InfoFormField.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'dataXPath': this.dataXPath,
+            'fullyQualifiedName': this.fullyQualifiedName,
+            'xfaField': this.xfaField?.toJson(),
+        };
+    }
+
+    public clone(): InfoFormField {
+        return InfoFormField.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "dataXPath", typeof data?.dataXPath !== "undefined" ? data?.dataXPath : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fullyQualifiedName", typeof data?.fullyQualifiedName !== "undefined" ? data?.fullyQualifiedName : "") || changed;
+        changed = ModelAssignment.assignModel(this, "xfaField", data?.xfaField, InfoFormXfaField.fromJson, InfoFormXfaField) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dataXPath, other.dataXPath)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fullyQualifiedName, other.fullyQualifiedName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.xfaField, other.xfaField)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.dataXPath);
+        hash = ModelEquality.hash(hash, this.fullyQualifiedName);
+        hash = ModelEquality.hash(hash, this.xfaField);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "InfoFormField(";
+        fingerprint += ModelEquality.fingerprint(this.dataXPath) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fullyQualifiedName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.xfaField) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
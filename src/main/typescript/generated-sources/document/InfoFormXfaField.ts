@@ -0,0 +1,110 @@
+import {
+    ModelAssignment,
+    InfoFormXfaMatch,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface InfoFormXfaFieldInterface  {
+
+    match?: InfoFormXfaMatch;
+    /**
+    * Name of the field in the XML data structure for the XFA field.
+    */
+    name?: string;
+
+}
+export class InfoFormXfaField implements InfoFormXfaFieldInterface, Parameter {
+    match?: InfoFormXfaMatch;
+    /**
+    * Name of the field in the XML data structure for the XFA field.
+    */
+    name?: string;
+
+    constructor(data: any) {
+        let matchDefault: any = "once";
+        this.match = typeof data?.match !== "undefined" ? data?.match : matchDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+    }
+
+    public static getMatchDefault(): InfoFormXfaMatch {
+        return "once" as InfoFormXfaMatch;
+    }
+
+    public static getMatchDescription(): string {
+        return "";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "Name of the field in the XML data structure for the XFA field.";
+    }
+
+    public static fromJson(data: any): InfoFormXfaField {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new InfoFormXfaField(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<InfoFormXfaField> {
+        return ModelStream.decodeArray(source, InfoFormXfaField.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'match': this.match,
+            'name': this.name,
+        };
+    }
+
+    public clone(): InfoFormXfaField {
+        return InfoFormXfaField.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "match", typeof data?.match !== "undefined" ? data?.match : "once") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.match, other.match)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.match);
+        hash = ModelEquality.hash(hash, this.name);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "InfoFormXfaField(";
+        fingerprint += ModelEquality.fingerprint(this.match) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum InfoFormXfaMatch {
+
+    Once = 'once',
+    Global = 'global',
+    Reference = 'reference'
+
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+export enum InfoType {
+
+    Form = 'form'
+
+}
\ No newline at end of file
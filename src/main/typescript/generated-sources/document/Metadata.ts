@@ -0,0 +1,97 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    MetadataType,
+    Parameter,
+    ModelEquality,
+    MetadataArchive,
+    MetadataImage,
+    MetadataPdf,
+} from "./../index";
+
+export interface MetadataInterface  {
+
+    metadataType: MetadataType;
+
+}
+export class Metadata implements MetadataInterface, Parameter {
+    metadataType: MetadataType;
+
+    constructor(data: any) {
+        let metadataTypeDefault: any = "pdf";
+        this.metadataType = typeof data.metadataType !== "undefined" ? data.metadataType : metadataTypeDefault;
+    }
+
+    public static getMetadataTypeDefault(): MetadataType {
+        return "pdf" as MetadataType;
+    }
+
+    public static getMetadataTypeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Metadata {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        switch(data.metadataType) {
+            case 'archive':
+                return MetadataArchive.fromJson(data);
+            case 'image':
+                return MetadataImage.fromJson(data);
+            case 'pdf':
+                return MetadataPdf.fromJson(data);
+        }
+
+        return new Metadata(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Metadata> {
+        return ModelStream.decodeArray(source, Metadata.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'metadataType': this.metadataType,
+        };
+    }
+
+    public clone(): Metadata {
+        return Metadata.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "metadataType", typeof data.metadataType !== "undefined" ? data.metadataType : "pdf") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metadataType, other.metadataType)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.metadataType);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Metadata(";
+        fingerprint += ModelEquality.fingerprint(this.metadataType) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
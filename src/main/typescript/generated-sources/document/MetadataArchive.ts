@@ -0,0 +1,91 @@
+import {
+    ModelAssignment,
+    MetadataArchiveEntry,
+    ModelStream,
+    Metadata,
+    Parameter,
+    ModelEquality,
+    MetadataInterface,
+} from "./../index";
+
+export interface MetadataArchiveInterface extends MetadataInterface  {
+
+    files?: Array<MetadataArchiveEntry>;
+
+}
+export class MetadataArchive extends Metadata implements MetadataArchiveInterface, Parameter {
+    files?: Array<MetadataArchiveEntry>;
+
+    constructor(data: any) {
+        super(data);
+
+        this.files = (data?.files || []).map(
+            MetadataArchiveEntry.fromJson
+        );
+    }
+
+    public static getFilesDefault(): Array<MetadataArchiveEntry> {
+        return [];
+    }
+
+    public static getFilesDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): MetadataArchive {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataArchive(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataArchive> {
+        return ModelStream.decodeArray(source, MetadataArchive.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'files': this.files?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): MetadataArchive {
+        return MetadataArchive.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignArray(this, "files", data?.files, MetadataArchiveEntry.fromJson, MetadataArchiveEntry) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.files, other.files)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.files);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataArchive(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.files) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
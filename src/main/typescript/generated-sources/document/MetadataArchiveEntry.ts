@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface MetadataArchiveEntryInterface  {
+
+    /**
+    * Time at which the file was last changed
+    */
+    lastModifiedDate?: number;
+    /**
+    * File name and path within the archive
+    */
+    path?: string;
+    /**
+    * File size in bytes
+    */
+    size?: number;
+
+}
+export class MetadataArchiveEntry implements MetadataArchiveEntryInterface, Parameter {
+    /**
+    * Time at which the file was last changed
+    */
+    lastModifiedDate?: number;
+    /**
+    * File name and path within the archive
+    */
+    path?: string;
+    /**
+    * File size in bytes
+    */
+    size?: number;
+
+    constructor(data: any) {
+        let lastModifiedDateDefault: any = 0;
+        this.lastModifiedDate = typeof data?.lastModifiedDate !== "undefined" ? data?.lastModifiedDate : lastModifiedDateDefault;
+        let pathDefault: any = "";
+        this.path = typeof data?.path !== "undefined" ? data?.path : pathDefault;
+        let sizeDefault: any = 0;
+        this.size = typeof data?.size !== "undefined" ? data?.size : sizeDefault;
+    }
+
+    public static getLastModifiedDateDefault(): number {
+        return 0;
+    }
+
+    public static getLastModifiedDateDescription(): string {
+        return "Time at which the file was last changed";
+    }
+
+    public static getPathDefault(): string {
+        return "";
+    }
+
+    public static getPathDescription(): string {
+        return "File name and path within the archive";
+    }
+
+    public static getSizeDefault(): number {
+        return 0;
+    }
+
+    public static getSizeDescription(): string {
+        return "File size in bytes";
+    }
+
+    public static fromJson(data: any): MetadataArchiveEntry {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataArchiveEntry(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataArchiveEntry> {
+        return ModelStream.decodeArray(source, MetadataArchiveEntry.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'lastModifiedDate': this.lastModifiedDate,
+            'path': this.path,
+            'size': this.size,
+        };
+    }
+
+    public clone(): MetadataArchiveEntry {
+        return MetadataArchiveEntry.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "lastModifiedDate", typeof data?.lastModifiedDate !== "undefined" ? data?.lastModifiedDate : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "path", typeof data?.path !== "undefined" ? data?.path : "") || changed;
+        changed = ModelAssignment.assignValue(this, "size", typeof data?.size !== "undefined" ? data?.size : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.lastModifiedDate, other.lastModifiedDate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.path, other.path)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.size, other.size)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.lastModifiedDate);
+        hash = ModelEquality.hash(hash, this.path);
+        hash = ModelEquality.hash(hash, this.size);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataArchiveEntry(";
+        fingerprint += ModelEquality.fingerprint(this.lastModifiedDate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.path) + ",";
+        fingerprint += ModelEquality.fingerprint(this.size) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+import {
+    ModelAssignment,
+    MetadataImageEntry,
+    ModelStream,
+    Metadata,
+    Parameter,
+    ModelEquality,
+    MetadataInterface,
+} from "./../index";
+
+export interface MetadataImageInterface extends MetadataInterface  {
+
+    /**
+    * A list of metadata directories, where each directory contains a key-value map with the respective entries of the directory.
+    */
+    images?: Array<MetadataImageEntry>;
+
+}
+export class MetadataImage extends Metadata implements MetadataImageInterface, Parameter {
+    /**
+    * A list of metadata directories, where each directory contains a key-value map with the respective entries of the directory.
+    */
+    images?: Array<MetadataImageEntry>;
+
+    constructor(data: any) {
+        super(data);
+
+        this.images = (data?.images || []).map(
+            MetadataImageEntry.fromJson
+        );
+    }
+
+    public static getImagesDefault(): Array<MetadataImageEntry> {
+        return [];
+    }
+
+    public static getImagesDescription(): string {
+        return "A list of metadata directories, where each directory contains a key-value map with the respective entries of the directory.";
+    }
+
+    public static fromJson(data: any): MetadataImage {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataImage(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataImage> {
+        return ModelStream.decodeArray(source, MetadataImage.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'images': this.images?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): MetadataImage {
+        return MetadataImage.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignArray(this, "images", data?.images, MetadataImageEntry.fromJson, MetadataImageEntry) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.images, other.images)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.images);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataImage(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.images) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
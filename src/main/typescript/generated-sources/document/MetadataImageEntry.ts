@@ -0,0 +1,280 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    MetadataImageResolutionUnit,
+    Parameter,
+    MetadataImageOrientation,
+    ModelEquality,
+} from "./../index";
+
+export interface MetadataImageEntryInterface  {
+
+    /**
+    * Color depth in bits
+    */
+    colorDepth?: number;
+    /**
+    * Image height
+    */
+    height?: number;
+    /**
+    * True if it is an animated image
+    */
+    isAnimated?: boolean;
+    /**
+    * Metadata dictionary of the image file format
+    */
+    metadata?: { [key: string]: { [key: string]: string; }; };
+    orientation?: MetadataImageOrientation;
+    unit?: MetadataImageResolutionUnit;
+    /**
+    * Image width
+    */
+    width?: number;
+    /**
+    * Horizontal resolution
+    */
+    xRes?: number;
+    /**
+    * Vertical resolution
+    */
+    yRes?: number;
+
+}
+export class MetadataImageEntry implements MetadataImageEntryInterface, Parameter {
+    /**
+    * Color depth in bits
+    */
+    colorDepth?: number;
+    /**
+    * Image height
+    */
+    height?: number;
+    /**
+    * True if it is an animated image
+    */
+    isAnimated?: boolean;
+    /**
+    * Metadata dictionary of the image file format
+    */
+    metadata?: { [key: string]: { [key: string]: string; }; };
+    orientation?: MetadataImageOrientation;
+    unit?: MetadataImageResolutionUnit;
+    /**
+    * Image width
+    */
+    width?: number;
+    /**
+    * Horizontal resolution
+    */
+    xRes?: number;
+    /**
+    * Vertical resolution
+    */
+    yRes?: number;
+
+    constructor(data: any) {
+        let colorDepthDefault: any = 0;
+        this.colorDepth = typeof data?.colorDepth !== "undefined" ? data?.colorDepth : colorDepthDefault;
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let isAnimatedDefault: any = false;
+        this.isAnimated = typeof data?.isAnimated !== "undefined" ? data?.isAnimated : isAnimatedDefault;
+        let metadataDefault: any = {};
+        this.metadata = typeof data?.metadata !== "undefined" ? data?.metadata : metadataDefault;
+        let orientationDefault: any = "topLeft";
+        this.orientation = typeof data?.orientation !== "undefined" ? data?.orientation : orientationDefault;
+        let unitDefault: any = "inch";
+        this.unit = typeof data?.unit !== "undefined" ? data?.unit : unitDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+        let xResDefault: any = 0;
+        this.xRes = typeof data?.xRes !== "undefined" ? data?.xRes : xResDefault;
+        let yResDefault: any = 0;
+        this.yRes = typeof data?.yRes !== "undefined" ? data?.yRes : yResDefault;
+    }
+
+    public static getColorDepthDefault(): number {
+        return 0;
+    }
+
+    public static getColorDepthDescription(): string {
+        return "Color depth in bits";
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "Image height";
+    }
+
+    public static getIsAnimatedDefault(): boolean {
+        return false;
+    }
+
+    public static getIsAnimatedDescription(): string {
+        return "True if it is an animated image";
+    }
+
+    public static getMetadataDefault(): { [key: string]: { [key: string]: string; }; } {
+        return {};
+    }
+
+    public static getMetadataDescription(): string {
+        return "Metadata dictionary of the image file format";
+    }
+
+    public static getOrientationDefault(): MetadataImageOrientation {
+        return "topLeft" as MetadataImageOrientation;
+    }
+
+    public static getOrientationDescription(): string {
+        return "";
+    }
+
+    public static getUnitDefault(): MetadataImageResolutionUnit {
+        return "inch" as MetadataImageResolutionUnit;
+    }
+
+    public static getUnitDescription(): string {
+        return "";
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "Image width";
+    }
+
+    public static getXResDefault(): number {
+        return 0;
+    }
+
+    public static getXResDescription(): string {
+        return "Horizontal resolution";
+    }
+
+    public static getYResDefault(): number {
+        return 0;
+    }
+
+    public static getYResDescription(): string {
+        return "Vertical resolution";
+    }
+
+    public static fromJson(data: any): MetadataImageEntry {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataImageEntry(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataImageEntry> {
+        return ModelStream.decodeArray(source, MetadataImageEntry.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'colorDepth': this.colorDepth,
+            'height': this.height,
+            'isAnimated': this.isAnimated,
+            'metadata': this.metadata,
+            'orientation': this.orientation,
+            'unit': this.unit,
+            'width': this.width,
+            'xRes': this.xRes,
+            'yRes': this.yRes,
+        };
+    }
+
+    public clone(): MetadataImageEntry {
+        return MetadataImageEntry.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "colorDepth", typeof data?.colorDepth !== "undefined" ? data?.colorDepth : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "isAnimated", typeof data?.isAnimated !== "undefined" ? data?.isAnimated : false) || changed;
+        changed = ModelAssignment.assignValue(this, "metadata", typeof data?.metadata !== "undefined" ? data?.metadata : {}) || changed;
+        changed = ModelAssignment.assignValue(this, "orientation", typeof data?.orientation !== "undefined" ? data?.orientation : "topLeft") || changed;
+        changed = ModelAssignment.assignValue(this, "unit", typeof data?.unit !== "undefined" ? data?.unit : "inch") || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "xRes", typeof data?.xRes !== "undefined" ? data?.xRes : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "yRes", typeof data?.yRes !== "undefined" ? data?.yRes : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.colorDepth, other.colorDepth)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isAnimated, other.isAnimated)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metadata, other.metadata)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.orientation, other.orientation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.unit, other.unit)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.xRes, other.xRes)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.yRes, other.yRes)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.colorDepth);
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.isAnimated);
+        hash = ModelEquality.hash(hash, this.metadata);
+        hash = ModelEquality.hash(hash, this.orientation);
+        hash = ModelEquality.hash(hash, this.unit);
+        hash = ModelEquality.hash(hash, this.width);
+        hash = ModelEquality.hash(hash, this.xRes);
+        hash = ModelEquality.hash(hash, this.yRes);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataImageEntry(";
+        fingerprint += ModelEquality.fingerprint(this.colorDepth) + ",";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isAnimated) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metadata) + ",";
+        fingerprint += ModelEquality.fingerprint(this.orientation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.unit) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        fingerprint += ModelEquality.fingerprint(this.xRes) + ",";
+        fingerprint += ModelEquality.fingerprint(this.yRes) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+export enum MetadataImageOrientation {
+
+    TopLeft = 'topLeft',
+    TopRight = 'topRight',
+    BottomRight = 'bottomRight',
+    BottomLeft = 'bottomLeft',
+    LeftTop = 'leftTop',
+    RightTop = 'rightTop',
+    RightBottom = 'rightBottom',
+    LeftBottom = 'leftBottom'
+
+}
\ No newline at end of file
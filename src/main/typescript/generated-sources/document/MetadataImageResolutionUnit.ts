@@ -0,0 +1,7 @@
+export enum MetadataImageResolutionUnit {
+
+    None = 'none',
+    Inch = 'inch',
+    Centimeter = 'centimeter'
+
+}
\ No newline at end of file
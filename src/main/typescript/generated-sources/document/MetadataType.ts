@@ -0,0 +1,7 @@
+export enum MetadataType {
+
+    Pdf = 'pdf',
+    Archive = 'archive',
+    Image = 'image'
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum StreamingFormat {
+
+    Default = 'default',
+    Html = 'html'
+
+}
\ No newline at end of file
@@ -0,0 +1,725 @@
+export * from "./Parameter";
+export * from "./ModelEquality";
+export * from "./ModelAssignment";
+export * from "./ModelStream";
+export * from "./CacheableResources";
+export { FileDataFormat } from "./operation/FileDataFormat";
+export { RelativeThreeDViewOperation } from "./operation/RelativeThreeDViewOperation";
+export { QueueMode } from "./admin/config/application/QueueMode";
+export { OcrOperation,OcrOperationInterface } from "./operation/OcrOperation";
+export { PositionBackgroundBaseSettings,PositionBackgroundBaseSettingsInterface } from "./operation/PositionBackgroundBaseSettings";
+export { Metrics } from "./operation/Metrics";
+export { BackgroundPositionMode } from "./operation/BackgroundPositionMode";
+export { ClusterNodeState } from ".//ClusterNodeState";
+export { PasswordEncrypt,PasswordEncryptInterface } from "./operation/PasswordEncrypt";
+export { PdfEncryptionKey } from "./operation/PdfEncryptionKey";
+export { ToolboxMergeMerge,ToolboxMergeMergeInterface } from "./operation/ToolboxMergeMerge";
+export { MergeMode } from "./operation/MergeMode";
+export { RemoveBackground,RemoveBackgroundInterface } from "./operation/RemoveBackground";
+export { FitHeightDestinationFitHeight,FitHeightDestinationFitHeightInterface } from "./operation/FitHeightDestinationFitHeight";
+export { OsStatusContainer,OsStatusContainerInterface } from "./admin/OsStatusContainer";
+export { WindowsLaunchParameter,WindowsLaunchParameterInterface } from "./operation/WindowsLaunchParameter";
+export { ApplicationOperation } from "./operation/ApplicationOperation";
+export { XmpDataFormat } from "./operation/XmpDataFormat";
+export { ToolboxRotateRotate,ToolboxRotateRotateInterface } from "./operation/ToolboxRotateRotate";
+export { OrientationDetection } from "./operation/OrientationDetection";
+export { PageGroup } from "./operation/PageGroup";
+export { PageOrientation } from "./operation/PageOrientation";
+export { Barcode,BarcodeInterface } from "./operation/Barcode";
+export { ErrorCountServerState,ErrorCountServerStateInterface } from "./admin/ErrorCountServerState";
+export { OutlineTransitionDirection } from "./operation/OutlineTransitionDirection";
+export { ApplicationCheck,ApplicationCheckInterface } from "./admin/ApplicationCheck";
+export { SignatureApplicationCheck,SignatureApplicationCheckInterface } from "./admin/SignatureApplicationCheck";
+export { CertificationLevel } from "./operation/CertificationLevel";
+export { Folder,FolderInterface } from "./metadata/Folder";
+export { ConnectorProtocol } from "./admin/config/server/ConnectorProtocol";
+export { Configuration,ConfigurationInterface } from "./admin/Configuration";
+export { LogConfiguration,LogConfigurationInterface } from "./admin/LogConfiguration";
+export { ConverterHtmlImageMode } from "./operation/ConverterHtmlImageMode";
+export { BarcodeOperation,BarcodeOperationInterface } from "./operation/BarcodeOperation";
+export { PositionMarkupAnnotation,PositionMarkupAnnotationInterface } from "./operation/PositionMarkupAnnotation";
+export { JavaStatus,JavaStatusInterface } from "./admin/JavaStatus";
+export { Axis } from "./operation/Axis";
+export { PdfaEditProfile } from "./operation/PdfaEditProfile";
+export { ConvertPdfa,ConvertPdfaInterface } from "./operation/ConvertPdfa";
+export { PdfaErrorReport } from "./operation/PdfaErrorReport";
+export { PdfaLevel } from "./operation/PdfaLevel";
+export { PdfaSuccessReport } from "./operation/PdfaSuccessReport";
+export { FreeTextAnnotation,FreeTextAnnotationInterface } from "./operation/FreeTextAnnotation";
+export { Justification } from "./operation/Justification";
+export { TextHighlight,TextHighlightInterface } from "./operation/TextHighlight";
+export { FontOriginMode } from "./operation/FontOriginMode";
+export { TextWrapMode } from "./operation/TextWrapMode";
+export { CommentToolboxAnnotation,CommentToolboxAnnotationInterface } from "./operation/CommentToolboxAnnotation";
+export { RelationMarkup,RelationMarkupInterface } from "./metadata/RelationMarkup";
+export { SessionLimits,SessionLimitsInterface } from "./admin/config/server/SessionLimits";
+export { HeaderHeaderFooter,HeaderHeaderFooterInterface } from "./metadata/HeaderHeaderFooter";
+export { ActionEvent,ActionEventInterface } from "./operation/ActionEvent";
+export { TransitionAction,TransitionActionInterface } from "./operation/TransitionAction";
+export { MergeFileData,MergeFileDataInterface } from "./operation/MergeFileData";
+export { FileDataSource } from "./operation/FileDataSource";
+export { ChromiumBridgeCommandlineSwitchMode } from "./admin/config/application/ChromiumBridgeCommandlineSwitchMode";
+export { NewsPanel,NewsPanelInterface } from "./admin/config/application/NewsPanel";
+export { AttachmentsDocument,AttachmentsDocumentInterface } from "./metadata/AttachmentsDocument";
+export { PositionRedactAnnotation,PositionRedactAnnotationInterface } from "./operation/PositionRedactAnnotation";
+export { FitBoundingBoxWidthDestinationFitBoundingBoxWidth,FitBoundingBoxWidthDestinationFitBoundingBoxWidthInterface } from "./operation/FitBoundingBoxWidthDestinationFitBoundingBoxWidth";
+export { WatermarkPosition,WatermarkPositionInterface } from "./operation/WatermarkPosition";
+export { WatermarkPositionMode } from "./operation/WatermarkPositionMode";
+export { HeadersFootersDocument,HeadersFootersDocumentInterface } from "./metadata/HeadersFootersDocument";
+export { ClusterStatus,ClusterStatusInterface } from ".//ClusterStatus";
+export { MetadataPageLayout } from "./metadata/MetadataPageLayout";
+export { WatermarkImage,WatermarkImageInterface } from "./operation/WatermarkImage";
+export { MetadataPassword,MetadataPasswordInterface } from "./metadata/MetadataPassword";
+export { KeyAlgorithm } from "./metadata/KeyAlgorithm";
+export { WebservicesApplication,WebservicesApplicationInterface } from "./admin/config/application/WebservicesApplication";
+export { BaseToolbox,BaseToolboxInterface } from "./operation/BaseToolbox";
+export { ToolboxRotate,ToolboxRotateInterface } from "./operation/ToolboxRotate";
+export { OsStatus,OsStatusInterface } from "./admin/OsStatus";
+export { Positions,PositionsInterface } from "./metadata/Positions";
+export { AnnotationPoint,AnnotationPointInterface } from "./metadata/AnnotationPoint";
+export { PagesBackgroundBaseSettings,PagesBackgroundBaseSettingsInterface } from "./operation/PagesBackgroundBaseSettings";
+export { HeaderFooterPositions,HeaderFooterPositionsInterface } from "./operation/HeaderFooterPositions";
+export { Metadata,MetadataInterface } from "./document/Metadata";
+export { MetadataType } from "./document/MetadataType";
+export { Svg,SvgInterface } from "./operation/Svg";
+export { SvgGraphicsStateMode } from "./operation/SvgGraphicsStateMode";
+export { SvgPathDrawMode } from "./operation/SvgPathDrawMode";
+export { MetadataPdf,MetadataPdfInterface } from "./document/MetadataPdf";
+export { GoTo3DViewAction,GoTo3DViewActionInterface } from "./operation/GoTo3DViewAction";
+export { OutlineTransitionStyle } from "./operation/OutlineTransitionStyle";
+export { Information,InformationInterface } from "./portal/Information";
+export { ClusterMode } from ".//ClusterMode";
+export { ConnectorsServer,ConnectorsServerInterface } from "./admin/config/server/ConnectorsServer";
+export { ImageBackground,ImageBackgroundInterface } from "./operation/ImageBackground";
+export { ToolboxSplitSplit,ToolboxSplitSplitInterface } from "./operation/ToolboxSplitSplit";
+export { SplitMode } from "./operation/SplitMode";
+export { PortfolioAdd,PortfolioAddInterface } from "./operation/PortfolioAdd";
+export { DrawMode } from "./operation/DrawMode";
+export { ExtractionParagraphs,ExtractionParagraphsInterface } from "./operation/ExtractionParagraphs";
+export { ExtractionFileFormat } from "./operation/ExtractionFileFormat";
+export { ReplyToAnnotationEdit,ReplyToAnnotationEditInterface } from "./operation/ReplyToAnnotationEdit";
+export { PortfolioSelection,PortfolioSelectionInterface } from "./operation/PortfolioSelection";
+export { AnnotationPointPoint,AnnotationPointPointInterface } from "./metadata/AnnotationPointPoint";
+export { Png,PngInterface } from "./operation/Png";
+export { CompressSettings,CompressSettingsInterface } from "./operation/CompressSettings";
+export { CompressProfile } from "./operation/CompressProfile";
+export { MetadataBorderStyle,MetadataBorderStyleInterface } from "./metadata/MetadataBorderStyle";
+export { ToolboxRedactRedact,ToolboxRedactRedactInterface } from "./operation/ToolboxRedactRedact";
+export { UserLdap,UserLdapInterface } from "./admin/config/server/UserLdap";
+export { UserLdapCertificatesTrustMode } from "./admin/config/server/UserLdapCertificatesTrustMode";
+export { ExtractionText,ExtractionTextInterface } from "./operation/ExtractionText";
+export { PortalUserInterfaceTooltips,PortalUserInterfaceTooltipsInterface } from "./admin/config/application/PortalUserInterfaceTooltips";
+export { GroupRelation,GroupRelationInterface } from "./metadata/GroupRelation";
+export { LayerStateSetOCGStateAction,LayerStateSetOCGStateActionInterface } from "./operation/LayerStateSetOCGStateAction";
+export { OCGState } from "./operation/OCGState";
+export { DescriptionCustom,DescriptionCustomInterface } from "./operation/DescriptionCustom";
+export { ProviderCheckMode } from "./admin/ProviderCheckMode";
+export { MetadataTextDirection } from "./metadata/MetadataTextDirection";
+export { PortfolioFileData,PortfolioFileDataInterface } from "./operation/PortfolioFileData";
+export { ToolboxMove,ToolboxMoveInterface } from "./operation/ToolboxMove";
+export { ToolboxPortfolioPortfolio,ToolboxPortfolioPortfolioInterface } from "./operation/ToolboxPortfolioPortfolio";
+export { SelectionBackground,SelectionBackgroundInterface } from "./operation/SelectionBackground";
+export { Limits,LimitsInterface } from "./auth/Limits";
+export { Transition,TransitionInterface } from "./operation/Transition";
+export { TransitionDirection } from "./operation/TransitionDirection";
+export { TransitionStyle } from "./operation/TransitionStyle";
+export { SanitizeAnnotations,SanitizeAnnotationsInterface } from "./operation/SanitizeAnnotations";
+export { BridgesApplication,BridgesApplicationInterface } from "./admin/config/application/BridgesApplication";
+export { FormValueStyle,FormValueStyleInterface } from "./metadata/FormValueStyle";
+export { ZugferdVersion } from "./operation/ZugferdVersion";
+export { ThreadActionGoToThread,ThreadActionGoToThreadInterface } from "./operation/ThreadActionGoToThread";
+export { XRechnungResources,XRechnungResourcesInterface } from "./operation/XRechnungResources";
+export { CompressPortalSettings,CompressPortalSettingsInterface } from "./admin/config/application/CompressPortalSettings";
+export { PortalCompressProfile } from "./admin/config/application/PortalCompressProfile";
+export { XslTransformation,XslTransformationInterface } from "./operation/XslTransformation";
+export { Item,ItemInterface } from "./operation/Item";
+export { AddPosition } from "./operation/AddPosition";
+export { Point,PointInterface } from "./operation/Point";
+export { Coordinates } from "./operation/Coordinates";
+export { ApplicationConfigOfficeBridge,ApplicationConfigOfficeBridgeInterface } from "./admin/config/application/ApplicationConfigOfficeBridge";
+export { ClusterCheck,ClusterCheckInterface } from "./admin/ClusterCheck";
+export { ConnectClusterCheck,ConnectClusterCheckInterface } from "./admin/ConnectClusterCheck";
+export { Annotation,AnnotationInterface } from "./metadata/Annotation";
+export { Settings,SettingsInterface } from "./operation/Settings";
+export { HostFilterParameter,HostFilterParameterInterface } from "./admin/config/server/HostFilterParameter";
+export { ReplyToAnnotation,ReplyToAnnotationInterface } from "./operation/ReplyToAnnotation";
+export { XmpNamespace,XmpNamespaceInterface } from "./operation/XmpNamespace";
+export { ConverterWebservice,ConverterWebserviceInterface } from "./admin/config/application/ConverterWebservice";
+export { MetadataImage,MetadataImageInterface } from "./document/MetadataImage";
+export { SignatureImage,SignatureImageInterface } from "./operation/SignatureImage";
+export { SignatureImagePosition } from "./operation/SignatureImagePosition";
+export { CiphersSSL,CiphersSSLInterface } from "./admin/config/server/CiphersSSL";
+export { BackgroundContent,BackgroundContentInterface } from "./metadata/BackgroundContent";
+export { TrustStoreKeyStore,TrustStoreKeyStoreInterface } from "./admin/TrustStoreKeyStore";
+export { QrSwissPaymentSeparator } from "./operation/QrSwissPaymentSeparator";
+export { AnalyzePdfa,AnalyzePdfaInterface } from "./operation/AnalyzePdfa";
+export { LogConfigurationMode } from "./admin/LogConfigurationMode";
+export { SetOCGStateAction,SetOCGStateActionInterface } from "./operation/SetOCGStateAction";
+export { FieldAnnotation,FieldAnnotationInterface } from "./metadata/FieldAnnotation";
+export { DocumentRecipient,DocumentRecipientInterface } from "./document/DocumentRecipient";
+export { FileDataStore,FileDataStoreInterface } from "./admin/FileDataStore";
+export { FileGroupDataStore } from "./admin/FileGroupDataStore";
+export { SizeOptimization,SizeOptimizationInterface } from "./operation/SizeOptimization";
+export { SignatureWebservice,SignatureWebserviceInterface } from "./admin/config/application/SignatureWebservice";
+export { UserDb,UserDbInterface } from "./admin/config/server/UserDb";
+export { PoolEntryServerState,PoolEntryServerStateInterface } from "./admin/PoolEntryServerState";
+export { ServerVersionInfo,ServerVersionInfoInterface } from "./admin/ServerVersionInfo";
+export { ServerOS } from "./admin/ServerOS";
+export { TextDirection } from "./operation/TextDirection";
+export { UpcaBarcode,UpcaBarcodeInterface } from "./operation/UpcaBarcode";
+export { URIActionResolveURI,URIActionResolveURIInterface } from "./operation/URIActionResolveURI";
+export { PdfaWebservice,PdfaWebserviceInterface } from "./admin/config/application/PdfaWebservice";
+export { MetadataPrintTraySelection } from "./metadata/MetadataPrintTraySelection";
+export { ConnectorConfiguration,ConnectorConfigurationInterface } from "./admin/config/server/ConnectorConfiguration";
+export { FileExtract,FileExtractInterface } from "./document/FileExtract";
+export { ToolboxSecurity,ToolboxSecurityInterface } from "./operation/ToolboxSecurity";
+export { GlobalKeyStore,GlobalKeyStoreInterface } from "./admin/GlobalKeyStore";
+export { AnnotationRectangleRectangle,AnnotationRectangleRectangleInterface } from "./metadata/AnnotationRectangleRectangle";
+export { ServerCheckMode } from "./admin/ServerCheckMode";
+export { BoxesToolboxOptions,BoxesToolboxOptionsInterface } from "./operation/BoxesToolboxOptions";
+export { ToolboxFormsForms,ToolboxFormsFormsInterface } from "./operation/ToolboxFormsForms";
+export { Ean8Barcode,Ean8BarcodeInterface } from "./operation/Ean8Barcode";
+export { EditToolboxAnnotation,EditToolboxAnnotationInterface } from "./operation/EditToolboxAnnotation";
+export { FormsFormat } from "./operation/FormsFormat";
+export { ConfigurationMode } from "./admin/ConfigurationMode";
+export { ConfigurationType } from "./admin/ConfigurationType";
+export { OcrWebservice,OcrWebserviceInterface } from "./admin/config/application/OcrWebservice";
+export { CompressObjects,CompressObjectsInterface } from "./operation/CompressObjects";
+export { DataSourceServerState } from "./admin/DataSourceServerState";
+export { KeystoreEntry,KeystoreEntryInterface } from "./admin/config/application/KeystoreEntry";
+export { HeaderFooterToolboxOptions,HeaderFooterToolboxOptionsInterface } from "./operation/HeaderFooterToolboxOptions";
+export { PositionRubberStampAnnotation,PositionRubberStampAnnotationInterface } from "./operation/PositionRubberStampAnnotation";
+export { DestinationEvent,DestinationEventInterface } from "./operation/DestinationEvent";
+export { ZoomDestination,ZoomDestinationInterface } from "./operation/ZoomDestination";
+export { ToolboxTranscribe,ToolboxTranscribeInterface } from "./operation/ToolboxTranscribe";
+export { HideActionHideAnnotation,HideActionHideAnnotationInterface } from "./operation/HideActionHideAnnotation";
+export { UrlConverterPage,UrlConverterPageInterface } from "./operation/UrlConverterPage";
+export { AppearanceSource,AppearanceSourceInterface } from "./operation/AppearanceSource";
+export { UserConfiguration,UserConfigurationInterface } from "./admin/UserConfiguration";
+export { DocumentFile,DocumentFileInterface } from "./document/DocumentFile";
+export { PositionFreeTextAnnotation,PositionFreeTextAnnotationInterface } from "./operation/PositionFreeTextAnnotation";
+export { FileAttachment,FileAttachmentInterface } from "./operation/FileAttachment";
+export { ReplyState } from "./operation/ReplyState";
+export { GenericFileDataStore,GenericFileDataStoreInterface } from "./admin/GenericFileDataStore";
+export { StreamingFormat } from "./document/StreamingFormat";
+export { Billing,BillingInterface } from "./operation/Billing";
+export { QrBarcode,QrBarcodeInterface } from "./operation/QrBarcode";
+export { QrCodeErrorCorrection } from "./operation/QrCodeErrorCorrection";
+export { AddPageTransitions,AddPageTransitionsInterface } from "./operation/AddPageTransitions";
+export { SanitizeAttachments,SanitizeAttachmentsInterface } from "./operation/SanitizeAttachments";
+export { SubmitFormAction,SubmitFormActionInterface } from "./operation/SubmitFormAction";
+export { Magnification } from "./operation/Magnification";
+export { NonFullScreenPageMode } from "./operation/NonFullScreenPageMode";
+export { SignerAdd,SignerAddInterface } from "./operation/SignerAdd";
+export { ClusterSettings,ClusterSettingsInterface } from ".//ClusterSettings";
+export { ClusterRole } from ".//ClusterRole";
+export { MarkedStateAnnotation,MarkedStateAnnotationInterface } from "./operation/MarkedStateAnnotation";
+export { KeystoreSSL,KeystoreSSLInterface } from "./admin/config/server/KeystoreSSL";
+export { SSLKeystoreFormat } from "./admin/config/server/SSLKeystoreFormat";
+export { AppearanceFileData,AppearanceFileDataInterface } from "./operation/AppearanceFileData";
+export { ChromiumBridgeCommandLine,ChromiumBridgeCommandLineInterface } from "./admin/config/application/ChromiumBridgeCommandLine";
+export { TextAnnotationIcons } from "./operation/TextAnnotationIcons";
+export { AnnotationRectangle,AnnotationRectangleInterface } from "./metadata/AnnotationRectangle";
+export { SanitizeForms,SanitizeFormsInterface } from "./operation/SanitizeForms";
+export { ExecutableName } from "./admin/ExecutableName";
+export { PagesHeaderFooter,PagesHeaderFooterInterface } from "./operation/PagesHeaderFooter";
+export { NamedDestination,NamedDestinationInterface } from "./operation/NamedDestination";
+export { TsaHashAlgorithm } from "./admin/config/application/TsaHashAlgorithm";
+export { ToolboxDeleteDelete,ToolboxDeleteDeleteInterface } from "./operation/ToolboxDeleteDelete";
+export { TemplateFile,TemplateFileInterface } from "./operation/TemplateFile";
+export { ExecutableStatus,ExecutableStatusInterface } from "./admin/ExecutableStatus";
+export { ExecutableStatusState } from "./admin/ExecutableStatusState";
+export { ConverterHtmlErrorReportFormat } from "./operation/ConverterHtmlErrorReportFormat";
+export { ToolboxSecuritySecurity,ToolboxSecuritySecurityInterface } from "./operation/ToolboxSecuritySecurity";
+export { ChromiumBridge,ChromiumBridgeInterface } from "./admin/config/application/ChromiumBridge";
+export { ChromiumBridgeHeadlessMode } from "./admin/config/application/ChromiumBridgeHeadlessMode";
+export { ToolboxDescriptionDescription,ToolboxDescriptionDescriptionInterface } from "./operation/ToolboxDescriptionDescription";
+export { WebserviceResultStackTraceCauseStackTrace,WebserviceResultStackTraceCauseStackTraceInterface } from ".//WebserviceResultStackTraceCauseStackTrace";
+export { Ean13Barcode,Ean13BarcodeInterface } from "./operation/Ean13Barcode";
+export { WebserviceResult,WebserviceResultInterface } from ".//WebserviceResult";
+export { FitWidthDestination,FitWidthDestinationInterface } from "./operation/FitWidthDestination";
+export { BoxSelection } from "./metadata/BoxSelection";
+export { ExtractionImageFormat } from "./operation/ExtractionImageFormat";
+export { OAuthProvider,OAuthProviderInterface } from "./admin/config/server/OAuthProvider";
+export { OAuthProviderFlow } from "./admin/config/server/OAuthProviderFlow";
+export { OAuthProviderName } from "./admin/config/server/OAuthProviderName";
+export { ProviderCheck,ProviderCheckInterface } from "./admin/ProviderCheck";
+export { FileStorageProviderCheck,FileStorageProviderCheckInterface } from "./admin/FileStorageProviderCheck";
+export { XslTransformationFile,XslTransformationFileInterface } from "./operation/XslTransformationFile";
+export { XslTransformationFileFormat } from "./operation/XslTransformationFileFormat";
+export { ProviderConfigurationFormat } from "./admin/ProviderConfigurationFormat";
+export { LaunchApplicationActionLaunchApplication,LaunchApplicationActionLaunchApplicationInterface } from "./operation/LaunchApplicationActionLaunchApplication";
+export { OpenMode } from "./operation/OpenMode";
+export { PdfaSettings,PdfaSettingsInterface } from "./operation/PdfaSettings";
+export { ClusterNodeStatus,ClusterNodeStatusInterface } from ".//ClusterNodeStatus";
+export { SelectionAnnotation,SelectionAnnotationInterface } from "./operation/SelectionAnnotation";
+export { OAuthProviders,OAuthProvidersInterface } from "./admin/config/server/OAuthProviders";
+export { ObjectKeyReplyToAnnotationEdit,ObjectKeyReplyToAnnotationEditInterface } from "./operation/ObjectKeyReplyToAnnotationEdit";
+export { ConnectorAttribute,ConnectorAttributeInterface } from "./admin/config/server/ConnectorAttribute";
+export { LocalAuth,LocalAuthInterface } from "./portal/LocalAuth";
+export { UserStorage } from "./portal/UserStorage";
+export { Bmp,BmpInterface } from "./operation/Bmp";
+export { BarcodeCreateOutputFormat } from "./operation/BarcodeCreateOutputFormat";
+export { Keyword,KeywordInterface } from "./metadata/Keyword";
+export { Author,AuthorInterface } from "./metadata/Author";
+export { HeaderFooter,HeaderFooterInterface } from "./operation/HeaderFooter";
+export { ToolboxAttachment,ToolboxAttachmentInterface } from "./operation/ToolboxAttachment";
+export { UrlConverterOperation,UrlConverterOperationInterface } from "./operation/UrlConverterOperation";
+export { ServerStatus,ServerStatusInterface } from "./admin/ServerStatus";
+export { URIAction,URIActionInterface } from "./operation/URIAction";
+export { OIDCMetadata,OIDCMetadataInterface } from "./auth/oauth/OIDCMetadata";
+export { CertificateFileData,CertificateFileDataInterface } from "./operation/CertificateFileData";
+export { PdfaErrorCorrection,PdfaErrorCorrectionInterface } from "./operation/PdfaErrorCorrection";
+export { SanitizeActions,SanitizeActionsInterface } from "./operation/SanitizeActions";
+export { OptionsMargin,OptionsMarginInterface } from "./operation/OptionsMargin";
+export { ToolboxScaleScale,ToolboxScaleScaleInterface } from "./operation/ToolboxScaleScale";
+export { QrSwissPaymentContent,QrSwissPaymentContentInterface } from "./operation/QrSwissPaymentContent";
+export { QrSwissPaymentContentFormat } from "./operation/QrSwissPaymentContentFormat";
+export { ClearToolboxAnnotation,ClearToolboxAnnotationInterface } from "./operation/ClearToolboxAnnotation";
+export { FileAnnotation,FileAnnotationInterface } from "./operation/FileAnnotation";
+export { Icons } from "./operation/Icons";
+export { Functions,FunctionsInterface } from "./portal/Functions";
+export { UrlConverterWebservice,UrlConverterWebserviceInterface } from "./admin/config/application/UrlConverterWebservice";
+export { ConverterOfficeForm,ConverterOfficeFormInterface } from "./operation/ConverterOfficeForm";
+export { MoveMode } from "./operation/MoveMode";
+export { ServerCheck,ServerCheckInterface } from "./admin/ServerCheck";
+export { TrustStoreServerCheck,TrustStoreServerCheckInterface } from "./admin/TrustStoreServerCheck";
+export { FileUpdate,FileUpdateInterface } from "./document/FileUpdate";
+export { SignaturesDocument,SignaturesDocumentInterface } from "./metadata/SignaturesDocument";
+export { AddToolboxAttachment,AddToolboxAttachmentInterface } from "./operation/AddToolboxAttachment";
+export { ConverterTransform,ConverterTransformInterface } from "./operation/ConverterTransform";
+export { KeyStoreEntry,KeyStoreEntryInterface } from "./auth/keystore/KeyStoreEntry";
+export { Origin } from "./auth/keystore/Origin";
+export { ToolboxTranscribeTranscribe,ToolboxTranscribeTranscribeInterface } from "./operation/ToolboxTranscribeTranscribe";
+export { TranscribeErrorReport } from "./operation/TranscribeErrorReport";
+export { Failure } from "./operation/Failure";
+export { TranscribeSuccessReport } from "./operation/TranscribeSuccessReport";
+export { Order } from "./operation/Order";
+export { HtmlTranscribe,HtmlTranscribeInterface } from "./operation/HtmlTranscribe";
+export { PortalAuth,PortalAuthInterface } from "./admin/config/application/PortalAuth";
+export { FitPageDestinationFitPage,FitPageDestinationFitPageInterface } from "./operation/FitPageDestinationFitPage";
+export { RemoveToolboxOutline,RemoveToolboxOutlineInterface } from "./operation/RemoveToolboxOutline";
+export { LaunchApplicationAction,LaunchApplicationActionInterface } from "./operation/LaunchApplicationAction";
+export { AppearancePdf,AppearancePdfInterface } from "./operation/AppearancePdf";
+export { Decrypt,DecryptInterface } from "./operation/Decrypt";
+export { SvgFormat,SvgFormatInterface } from "./operation/SvgFormat";
+export { ZugferdFileData,ZugferdFileDataInterface } from "./operation/ZugferdFileData";
+export { JavaScriptActionExecuteJavaScript,JavaScriptActionExecuteJavaScriptInterface } from "./operation/JavaScriptActionExecuteJavaScript";
+export { ThemeFileDataStore,ThemeFileDataStoreInterface } from "./admin/ThemeFileDataStore";
+export { MetadataNonFullScreenPageMode } from "./metadata/MetadataNonFullScreenPageMode";
+export { ZoomDestinationZoomPage,ZoomDestinationZoomPageInterface } from "./operation/ZoomDestinationZoomPage";
+export { UserXml,UserXmlInterface } from "./admin/config/server/UserXml";
+export { PortalAuthTimeout,PortalAuthTimeoutInterface } from "./admin/config/application/PortalAuthTimeout";
+export { FileFilter,FileFilterInterface } from "./document/FileFilter";
+export { ToolboxSplit,ToolboxSplitInterface } from "./operation/ToolboxSplit";
+export { SelectionBox,SelectionBoxInterface } from "./operation/SelectionBox";
+export { PageBox } from "./operation/PageBox";
+export { WebserviceException,WebserviceExceptionInterface } from ".//WebserviceException";
+export { UserKeepAliveLdap,UserKeepAliveLdapInterface } from "./admin/config/server/UserKeepAliveLdap";
+export { SessionStorageProviderCheck,SessionStorageProviderCheckInterface } from "./admin/SessionStorageProviderCheck";
+export { CertificateEntry,CertificateEntryInterface } from "./auth/certificate/CertificateEntry";
+export { DimensionsBoxesResize,DimensionsBoxesResizeInterface } from "./operation/DimensionsBoxesResize";
+export { DetectBarcode,DetectBarcodeInterface } from "./operation/DetectBarcode";
+export { BarcodeDetectInputFormat } from "./operation/BarcodeDetectInputFormat";
+export { BarcodeDetectOutputFormat } from "./operation/BarcodeDetectOutputFormat";
+export { ToolboxCompressCompress,ToolboxCompressCompressInterface } from "./operation/ToolboxCompressCompress";
+export { ToolboxMoveMove,ToolboxMoveMoveInterface } from "./operation/ToolboxMoveMove";
+export { ReplyStateRelation,ReplyStateRelationInterface } from "./metadata/ReplyStateRelation";
+export { MetadataReplyState } from "./metadata/MetadataReplyState";
+export { ServerConfigLocalAuth,ServerConfigLocalAuthInterface } from "./admin/config/server/ServerConfigLocalAuth";
+export { AuthProvider,AuthProviderInterface } from "./auth/AuthProvider";
+export { ProxiesApplication,ProxiesApplicationInterface } from "./admin/config/application/ProxiesApplication";
+export { PortfolioFolder,PortfolioFolderInterface } from "./operation/PortfolioFolder";
+export { QrSwissPaymentPdf,QrSwissPaymentPdfInterface } from "./operation/QrSwissPaymentPdf";
+export { QrSwissPaymentPdfMode } from "./operation/QrSwissPaymentPdfMode";
+export { FormsImport,FormsImportInterface } from "./operation/FormsImport";
+export { ServerConfigProxy,ServerConfigProxyInterface } from "./admin/config/server/ServerConfigProxy";
+export { DataMatrixBarcode,DataMatrixBarcodeInterface } from "./operation/DataMatrixBarcode";
+export { DataMatrixShape } from "./operation/DataMatrixShape";
+export { KeyStorePassword,KeyStorePasswordInterface } from "./auth/keystore/KeyStorePassword";
+export { ToolboxPrintPrint,ToolboxPrintPrintInterface } from "./operation/ToolboxPrintPrint";
+export { PrintMode } from "./operation/PrintMode";
+export { ApplicationConfigSharePointBridge,ApplicationConfigSharePointBridgeInterface } from "./admin/config/application/ApplicationConfigSharePointBridge";
+export { HeaderFooterDate,HeaderFooterDateInterface } from "./operation/HeaderFooterDate";
+export { News,NewsInterface } from "./portal/News";
+export { Connector,ConnectorInterface } from "./admin/config/server/Connector";
+export { CompressionMode } from "./admin/config/server/CompressionMode";
+export { PagesDocument,PagesDocumentInterface } from "./metadata/PagesDocument";
+export { ServerState,ServerStateInterface } from "./admin/ServerState";
+export { SelectionTransition,SelectionTransitionInterface } from "./operation/SelectionTransition";
+export { PortalSignatureEditProfile } from "./admin/config/application/PortalSignatureEditProfile";
+export { WebserviceResultStackTraceCause,WebserviceResultStackTraceCauseInterface } from ".//WebserviceResultStackTraceCause";
+export { SessionRefreshToken,SessionRefreshTokenInterface } from "./admin/config/server/SessionRefreshToken";
+export { Users,UsersInterface } from "./admin/config/user/Users";
+export { RemoveHeaderFooter,RemoveHeaderFooterInterface } from "./operation/RemoveHeaderFooter";
+export { ItfBarcode,ItfBarcodeInterface } from "./operation/ItfBarcode";
+export { SignatureFileData,SignatureFileDataInterface } from "./operation/SignatureFileData";
+export { ToolboxPrint,ToolboxPrintInterface } from "./operation/ToolboxPrint";
+export { AppearanceAdd,AppearanceAddInterface } from "./operation/AppearanceAdd";
+export { UrlConverterFooter,UrlConverterFooterInterface } from "./operation/UrlConverterFooter";
+export { ApplicationConfiguration,ApplicationConfigurationInterface } from "./admin/ApplicationConfiguration";
+export { InfoFormXfaMatch } from "./document/InfoFormXfaMatch";
+export { MetadataInitialView } from "./metadata/MetadataInitialView";
+export { AnonymousLimits,AnonymousLimitsInterface } from "./auth/AnonymousLimits";
+export { ColorBackground,ColorBackgroundInterface } from "./operation/ColorBackground";
+export { Apr,AprInterface } from "./admin/config/server/Apr";
+export { OptionsFont,OptionsFontInterface } from "./operation/OptionsFont";
+export { XslTransformationResources,XslTransformationResourcesInterface } from "./operation/XslTransformationResources";
+export { ServerConfigUserStorage,ServerConfigUserStorageInterface } from "./admin/config/server/ServerConfigUserStorage";
+export { SessionTableEntry,SessionTableEntryInterface } from ".//SessionTableEntry";
+export { SessionState } from ".//SessionState";
+export { RemoveToolboxAnnotation,RemoveToolboxAnnotationInterface } from "./operation/RemoveToolboxAnnotation";
+export { SelectionHeaderFooter,SelectionHeaderFooterInterface } from "./operation/SelectionHeaderFooter";
+export { UserCertificates,UserCertificatesInterface } from "./auth/UserCertificates";
+export { Info,InfoInterface } from "./document/Info";
+export { InfoForm,InfoFormInterface } from "./document/InfoForm";
+export { SignatureEditProfile } from "./operation/SignatureEditProfile";
+export { ImportDataActionImportSchema,ImportDataActionImportSchemaInterface } from "./operation/ImportDataActionImportSchema";
+export { PortfolioRemove,PortfolioRemoveInterface } from "./operation/PortfolioRemove";
+export { AddHeaderFooter,AddHeaderFooterInterface } from "./operation/AddHeaderFooter";
+export { Tiff,TiffInterface } from "./operation/Tiff";
+export { TiffBlackAndWhiteQuality } from "./operation/TiffBlackAndWhiteQuality";
+export { TiffCompression } from "./operation/TiffCompression";
+export { VisibilityBackgroundBaseSettings,VisibilityBackgroundBaseSettingsInterface } from "./operation/VisibilityBackgroundBaseSettings";
+export { HostValve,HostValveInterface } from "./admin/config/server/HostValve";
+export { DocMdp } from "./metadata/DocMdp";
+export { ConverterHtml,ConverterHtmlInterface } from "./operation/ConverterHtml";
+export { PdfaOperation,PdfaOperationInterface } from "./operation/PdfaOperation";
+export { UrlConverterHeader,UrlConverterHeaderInterface } from "./operation/UrlConverterHeader";
+export { Zugferd,ZugferdInterface } from "./operation/Zugferd";
+export { ApplicationConfigPortalUserInterface,ApplicationConfigPortalUserInterfaceInterface } from "./admin/config/application/ApplicationConfigPortalUserInterface";
+export { HideAction,HideActionInterface } from "./operation/HideAction";
+export { ToolboxOptions,ToolboxOptionsInterface } from "./operation/ToolboxOptions";
+export { PortalUserInterfaceLimits,PortalUserInterfaceLimitsInterface } from "./admin/config/application/PortalUserInterfaceLimits";
+export { SSL,SSLInterface } from "./admin/config/server/SSL";
+export { Description,DescriptionInterface } from "./metadata/Description";
+export { PageInterval,PageIntervalInterface } from "./operation/PageInterval";
+export { UserCheck,UserCheckInterface } from "./admin/UserCheck";
+export { SupportEntryGroup } from "./admin/SupportEntryGroup";
+export { HostFilterMapping,HostFilterMappingInterface } from "./admin/config/server/HostFilterMapping";
+export { ExtractionInfo,ExtractionInfoInterface } from "./operation/ExtractionInfo";
+export { FitBoundingBoxDestination,FitBoundingBoxDestinationInterface } from "./operation/FitBoundingBoxDestination";
+export { FitRectangleDestinationFitRectangle,FitRectangleDestinationFitRectangleInterface } from "./operation/FitRectangleDestinationFitRectangle";
+export { MetadataArchiveEntry,MetadataArchiveEntryInterface } from "./document/MetadataArchiveEntry";
+export { JavaScriptAction,JavaScriptActionInterface } from "./operation/JavaScriptAction";
+export { ToolboxOutline,ToolboxOutlineInterface } from "./operation/ToolboxOutline";
+export { Margin,MarginInterface } from "./metadata/Margin";
+export { NamedDestinationGoToNamed,NamedDestinationGoToNamedInterface } from "./operation/NamedDestinationGoToNamed";
+export { GoToDestinationActionGoTo,GoToDestinationActionGoToInterface } from "./operation/GoToDestinationActionGoTo";
+export { AppearanceSvg,AppearanceSvgInterface } from "./operation/AppearanceSvg";
+export { LogoFileDataStore,LogoFileDataStoreInterface } from "./admin/LogoFileDataStore";
+export { ServerConfigKeystore,ServerConfigKeystoreInterface } from "./admin/config/server/ServerConfigKeystore";
+export { PortalUserInterface,PortalUserInterfaceInterface } from "./portal/PortalUserInterface";
+export { Providers,ProvidersInterface } from "./admin/Providers";
+export { ImageOptimization,ImageOptimizationInterface } from "./operation/ImageOptimization";
+export { OptimizationIntensity } from "./operation/OptimizationIntensity";
+export { SetOCGStateActionSetLayerState,SetOCGStateActionSetLayerStateInterface } from "./operation/SetOCGStateActionSetLayerState";
+export { SignatureIdentifier,SignatureIdentifierInterface } from "./operation/SignatureIdentifier";
+export { RemoveBoxes,RemoveBoxesInterface } from "./operation/RemoveBoxes";
+export { Statistic,StatisticInterface } from "./admin/Statistic";
+export { PortalFunctions,PortalFunctionsInterface } from "./admin/config/application/PortalFunctions";
+export { TextAnnotation,TextAnnotationInterface } from "./operation/TextAnnotation";
+export { AppearanceGeneration } from "./operation/AppearanceGeneration";
+export { MarkRelation,MarkRelationInterface } from "./metadata/MarkRelation";
+export { ExtractionLinks,ExtractionLinksInterface } from "./operation/ExtractionLinks";
+export { KeyPair,KeyPairInterface } from "./operation/KeyPair";
+export { RemoveToolboxAttachment,RemoveToolboxAttachmentInterface } from "./operation/RemoveToolboxAttachment";
+export { SanitizePages,SanitizePagesInterface } from "./operation/SanitizePages";
+export { FileFilterType } from "./document/FileFilterType";
+export { Pdfa,PdfaInterface } from "./operation/Pdfa";
+export { OcrLanguage } from "./operation/OcrLanguage";
+export { Font,FontInterface } from "./metadata/Font";
+export { ConverterImage,ConverterImageInterface } from "./operation/ConverterImage";
+export { FormsFlatten,FormsFlattenInterface } from "./operation/FormsFlatten";
+export { ToolboxOperation,ToolboxOperationInterface } from "./operation/ToolboxOperation";
+export { FitWidthDestinationFitWidth,FitWidthDestinationFitWidthInterface } from "./operation/FitWidthDestinationFitWidth";
+export { RubberStampAnnotation,RubberStampAnnotationInterface } from "./operation/RubberStampAnnotation";
+export { RubberStampIcon } from "./operation/RubberStampIcon";
+export { HttpSettingsSSLProtocol } from "./operation/HttpSettingsSSLProtocol";
+export { SignatureOperation,SignatureOperationInterface } from "./operation/SignatureOperation";
+export { Portal,PortalInterface } from "./admin/config/application/Portal";
+export { BackgroundToolboxOptions,BackgroundToolboxOptionsInterface } from "./operation/BackgroundToolboxOptions";
+export { AztecBarcode,AztecBarcodeInterface } from "./operation/AztecBarcode";
+export { BorderStyle } from "./operation/BorderStyle";
+export { QrSwissPaymentBarcode,QrSwissPaymentBarcodeInterface } from "./operation/QrSwissPaymentBarcode";
+export { QrSwissPaymentFormat } from "./operation/QrSwissPaymentFormat";
+export { QrSwissPaymentLanguage } from "./operation/QrSwissPaymentLanguage";
+export { JavaStatusGC,JavaStatusGCInterface } from "./admin/JavaStatusGC";
+export { Security,SecurityInterface } from "./metadata/Security";
+export { HttpSettingsSSL,HttpSettingsSSLInterface } from "./operation/HttpSettingsSSL";
+export { License,LicenseInterface } from "./admin/config/application/License";
+export { SubmitFormActionSubmitForm,SubmitFormActionSubmitFormInterface } from "./operation/SubmitFormActionSubmitForm";
+export { FormsExport,FormsExportInterface } from "./operation/FormsExport";
+export { Popup,PopupInterface } from "./metadata/Popup";
+export { FitRectangleDestination,FitRectangleDestinationInterface } from "./operation/FitRectangleDestination";
+export { OfficeBridgeApp,OfficeBridgeAppInterface } from "./admin/config/application/OfficeBridgeApp";
+export { FitPageDestination,FitPageDestinationInterface } from "./operation/FitPageDestination";
+export { KeystoreFilter,KeystoreFilterInterface } from "./admin/config/application/KeystoreFilter";
+export { SoundAction,SoundActionInterface } from "./operation/SoundAction";
+export { UserAzureAd,UserAzureAdInterface } from "./admin/config/server/UserAzureAd";
+export { MarkupAnnotation,MarkupAnnotationInterface } from "./operation/MarkupAnnotation";
+export { MarkupsAnnotation } from "./operation/MarkupsAnnotation";
+export { ToolboxExtractionExtraction,ToolboxExtractionExtractionInterface } from "./operation/ToolboxExtractionExtraction";
+export { PoolServerState,PoolServerStateInterface } from "./admin/PoolServerState";
+export { SharePointBridge,SharePointBridgeInterface } from "./operation/SharePointBridge";
+export { UserServerCheck,UserServerCheckInterface } from "./admin/UserServerCheck";
+export { ResizeBoxes,ResizeBoxesInterface } from "./operation/ResizeBoxes";
+export { Encrypt,EncryptInterface } from "./operation/Encrypt";
+export { PdfContentEncryption } from "./operation/PdfContentEncryption";
+export { OcrOutput } from "./operation/OcrOutput";
+export { EncryptCertificate,EncryptCertificateInterface } from "./operation/EncryptCertificate";
+export { Boxes,BoxesInterface } from "./metadata/Boxes";
+export { WebserviceResultStackTraceSuppressed,WebserviceResultStackTraceSuppressedInterface } from ".//WebserviceResultStackTraceSuppressed";
+export { FileFilterRule,FileFilterRuleInterface } from "./document/FileFilterRule";
+export { OAuth,OAuthInterface } from "./admin/config/server/OAuth";
+export { MetadataPdfa,MetadataPdfaInterface } from "./metadata/MetadataPdfa";
+export { ConfigurationResult,ConfigurationResultInterface } from "./admin/ConfigurationResult";
+export { DocumentPassword,DocumentPasswordInterface } from "./document/DocumentPassword";
+export { WatermarkFileData,WatermarkFileDataInterface } from "./operation/WatermarkFileData";
+export { ConverterText,ConverterTextInterface } from "./operation/ConverterText";
+export { PieceInfoBackgroundContent,PieceInfoBackgroundContentInterface } from "./metadata/PieceInfoBackgroundContent";
+export { Alignment } from "./metadata/Alignment";
+export { BarcodeWebservice,BarcodeWebserviceInterface } from "./admin/config/application/BarcodeWebservice";
+export { AudioEncoding } from "./operation/AudioEncoding";
+export { HostFilter,HostFilterInterface } from "./admin/config/server/HostFilter";
+export { InfoType } from "./document/InfoType";
+export { ToolboxScale,ToolboxScaleInterface } from "./operation/ToolboxScale";
+export { Webservices,WebservicesInterface } from "./admin/Webservices";
+export { PageTransitionsToolboxOptions,PageTransitionsToolboxOptionsInterface } from "./operation/PageTransitionsToolboxOptions";
+export { ResetFormAction,ResetFormActionInterface } from "./operation/ResetFormAction";
+export { ToolboxDescription,ToolboxDescriptionInterface } from "./operation/ToolboxDescription";
+export { MetadataTransition,MetadataTransitionInterface } from "./metadata/MetadataTransition";
+export { MetadataTransitionDirection } from "./metadata/MetadataTransitionDirection";
+export { MetadataTransitionStyle } from "./metadata/MetadataTransitionStyle";
+export { PortfolioExtract,PortfolioExtractInterface } from "./operation/PortfolioExtract";
+export { JobServerState,JobServerStateInterface } from "./admin/JobServerState";
+export { CircleAnnotation,CircleAnnotationInterface } from "./operation/CircleAnnotation";
+export { ViewerPreferences,ViewerPreferencesInterface } from "./operation/ViewerPreferences";
+export { Duplex } from "./operation/Duplex";
+export { PrintScale } from "./operation/PrintScale";
+export { PrintTraySelection } from "./operation/PrintTraySelection";
+export { Markup,MarkupInterface } from "./metadata/Markup";
+export { NamedAction,NamedActionInterface } from "./operation/NamedAction";
+export { SSLProtocol } from "./admin/config/server/SSLProtocol";
+export { SignaturePortalSettings,SignaturePortalSettingsInterface } from "./admin/config/application/SignaturePortalSettings";
+export { Line,LineInterface } from "./metadata/Line";
+export { ConverterOperation,ConverterOperationInterface } from "./operation/ConverterOperation";
+export { ObjectKeySelectionAnnotation,ObjectKeySelectionAnnotationInterface } from "./operation/ObjectKeySelectionAnnotation";
+export { Converter,ConverterInterface } from "./operation/Converter";
+export { NamedActionExecuteNamed,NamedActionExecuteNamedInterface } from "./operation/NamedActionExecuteNamed";
+export { SharePointBridgeSite,SharePointBridgeSiteInterface } from "./admin/config/application/SharePointBridgeSite";
+export { Ocr,OcrInterface } from "./operation/Ocr";
+export { OcrMode } from "./operation/OcrMode";
+export { Code128Barcode,Code128BarcodeInterface } from "./operation/Code128Barcode";
+export { ProxyNonHost,ProxyNonHostInterface } from "./admin/config/application/ProxyNonHost";
+export { Server,ServerInterface } from "./admin/config/server/Server";
+export { Pdf417CompactionMode } from "./operation/Pdf417CompactionMode";
+export { BackgroundFileData,BackgroundFileDataInterface } from "./operation/BackgroundFileData";
+export { PaddedRectangle,PaddedRectangleInterface } from "./operation/PaddedRectangle";
+export { ImportDataAction,ImportDataActionInterface } from "./operation/ImportDataAction";
+export { HttpSettingsTimeout,HttpSettingsTimeoutInterface } from "./operation/HttpSettingsTimeout";
+export { XmpFileData,XmpFileDataInterface } from "./operation/XmpFileData";
+export { MetadataImageOrientation } from "./document/MetadataImageOrientation";
+export { TimeEntryServerState,TimeEntryServerStateInterface } from "./admin/TimeEntryServerState";
+export { ConverterTemplate,ConverterTemplateInterface } from "./operation/ConverterTemplate";
+export { AttachmentMode } from "./operation/AttachmentMode";
+export { HttpSettingsHeaderEntry,HttpSettingsHeaderEntryInterface } from "./operation/HttpSettingsHeaderEntry";
+export { ServerConfiguration,ServerConfigurationInterface } from "./admin/ServerConfiguration";
+export { ToolboxForms,ToolboxFormsInterface } from "./operation/ToolboxForms";
+export { ToolboxRedact,ToolboxRedactInterface } from "./operation/ToolboxRedact";
+export { SessionTable,SessionTableInterface } from ".//SessionTable";
+export { ToolboxOutlineOutline,ToolboxOutlineOutlineInterface } from "./operation/ToolboxOutlineOutline";
+export { TransitionsDocument,TransitionsDocumentInterface } from "./metadata/TransitionsDocument";
+export { RedactAnnotation,RedactAnnotationInterface } from "./operation/RedactAnnotation";
+export { ToolboxXmpXmp,ToolboxXmpXmpInterface } from "./operation/ToolboxXmpXmp";
+export { PortalSettings,PortalSettingsInterface } from "./portal/PortalSettings";
+export { Attachment,AttachmentInterface } from "./metadata/Attachment";
+export { MetadataFormsFormat } from "./metadata/MetadataFormsFormat";
+export { ProviderEntry,ProviderEntryInterface } from "./admin/ProviderEntry";
+export { NewsPanelEntry,NewsPanelEntryInterface } from "./admin/config/application/NewsPanelEntry";
+export { ClusterCheckMode } from "./admin/ClusterCheckMode";
+export { PortfolioFile,PortfolioFileInterface } from "./operation/PortfolioFile";
+export { Document,DocumentInterface } from "./metadata/Document";
+export { WatermarkFont,WatermarkFontInterface } from "./operation/WatermarkFont";
+export { LogCheck,LogCheckInterface } from "./admin/LogCheck";
+export { UserPKCS12,UserPKCS12Interface } from "./admin/config/server/UserPKCS12";
+export { AddBarcode,AddBarcodeInterface } from "./operation/AddBarcode";
+export { ApplicationCheckMode } from "./admin/ApplicationCheckMode";
+export { ItemReference,ItemReferenceInterface } from "./operation/ItemReference";
+export { ClearSignature,ClearSignatureInterface } from "./operation/ClearSignature";
+export { MetadataImageResolutionUnit } from "./document/MetadataImageResolutionUnit";
+export { FormFieldSelection,FormFieldSelectionInterface } from "./operation/FormFieldSelection";
+export { CiphersHttpSettingsSSL,CiphersHttpSettingsSSLInterface } from "./operation/CiphersHttpSettingsSSL";
+export { ToolboxCompress,ToolboxCompressInterface } from "./operation/ToolboxCompress";
+export { Recipient,RecipientInterface } from "./operation/Recipient";
+export { CodabarBarcode,CodabarBarcodeInterface } from "./operation/CodabarBarcode";
+export { PrivateKeyFileData,PrivateKeyFileDataInterface } from "./operation/PrivateKeyFileData";
+export { FooterHeaderFooter,FooterHeaderFooterInterface } from "./metadata/FooterHeaderFooter";
+export { MetadataSignature,MetadataSignatureInterface } from "./metadata/MetadataSignature";
+export { SessionToken,SessionTokenInterface } from "./auth/SessionToken";
+export { ToolboxWatermarkWatermark,ToolboxWatermarkWatermarkInterface } from "./operation/ToolboxWatermarkWatermark";
+export { ToolboxExtraction,ToolboxExtractionInterface } from "./operation/ToolboxExtraction";
+export { OcrPage,OcrPageInterface } from "./operation/OcrPage";
+export { FreeTextFont,FreeTextFontInterface } from "./operation/FreeTextFont";
+export { MetadataHeaderFooter,MetadataHeaderFooterInterface } from "./metadata/MetadataHeaderFooter";
+export { PageLayout } from "./operation/PageLayout";
+export { SelectionEdit,SelectionEditInterface } from "./operation/SelectionEdit";
+export { ConverterHtmlErrorReport,ConverterHtmlErrorReportInterface } from "./operation/ConverterHtmlErrorReport";
+export { ConverterHtmlErrorReportMode } from "./operation/ConverterHtmlErrorReportMode";
+export { OAuthProviderLogout,OAuthProviderLogoutInterface } from "./admin/config/server/OAuthProviderLogout";
+export { ExtractToolboxAttachment,ExtractToolboxAttachmentInterface } from "./operation/ExtractToolboxAttachment";
+export { ToolboxXmp,ToolboxXmpInterface } from "./operation/ToolboxXmp";
+export { LicenseApplicationCheck,LicenseApplicationCheckInterface } from "./admin/LicenseApplicationCheck";
+export { UserCertificateLdap,UserCertificateLdapInterface } from "./admin/config/server/UserCertificateLdap";
+export { CustomDescription,CustomDescriptionInterface } from "./metadata/CustomDescription";
+export { Clear,ClearInterface } from "./operation/Clear";
+export { ToolboxImageImage,ToolboxImageImageInterface } from "./operation/ToolboxImageImage";
+export { BackgroundFileDataStore,BackgroundFileDataStoreInterface } from "./admin/BackgroundFileDataStore";
+export { Environment,EnvironmentInterface } from "./portal/Environment";
+export { ConverterOfficeWord,ConverterOfficeWordInterface } from "./operation/ConverterOfficeWord";
+export { ScalePagesToolboxScale,ScalePagesToolboxScaleInterface } from "./operation/ScalePagesToolboxScale";
+export { PagePages,PagePagesInterface } from "./metadata/PagePages";
+export { MetadataInformation,MetadataInformationInterface } from "./metadata/MetadataInformation";
+export { MetadataMagnification } from "./metadata/MetadataMagnification";
+export { ConverterPage,ConverterPageInterface } from "./operation/ConverterPage";
+export { ApplicationConfigProxy,ApplicationConfigProxyInterface } from "./admin/config/application/ApplicationConfigProxy";
+export { ProviderProviderEntry,ProviderProviderEntryInterface } from ".//ProviderProviderEntry";
+export { ToolboxMerge,ToolboxMergeInterface } from "./operation/ToolboxMerge";
+export { GlobalKeystoreFormat } from "./admin/config/application/GlobalKeystoreFormat";
+export { Application,ApplicationInterface } from "./admin/config/application/Application";
+export { DrawStyle,DrawStyleInterface } from "./metadata/DrawStyle";
+export { MetadataDrawMode } from "./metadata/MetadataDrawMode";
+export { ApplicationConfigPortalSettings,ApplicationConfigPortalSettingsInterface } from "./admin/config/application/ApplicationConfigPortalSettings";
+export { HostCsp,HostCspInterface } from "./admin/config/server/HostCsp";
+export { Signature,SignatureInterface } from "./operation/Signature";
+export { UrlConverter,UrlConverterInterface } from "./operation/UrlConverter";
+export { SanitizeMetadata,SanitizeMetadataInterface } from "./operation/SanitizeMetadata";
+export { InfoFormXfaField,InfoFormXfaFieldInterface } from "./document/InfoFormXfaField";
+export { ToolboxAnnotation,ToolboxAnnotationInterface } from "./operation/ToolboxAnnotation";
+export { SharePointBridgeApp,SharePointBridgeAppInterface } from "./admin/config/application/SharePointBridgeApp";
+export { AnnotationSelection,AnnotationSelectionInterface } from "./operation/AnnotationSelection";
+export { WebserviceResultStackTrace,WebserviceResultStackTraceInterface } from ".//WebserviceResultStackTrace";
+export { GoTo3DViewActionGoTo3DView,GoTo3DViewActionGoTo3DViewInterface } from "./operation/GoTo3DViewActionGoTo3DView";
+export { LocalAuthRest,LocalAuthRestInterface } from "./admin/config/server/LocalAuthRest";
+export { FileCompress,FileCompressInterface } from "./document/FileCompress";
+export { ImagesDocument,ImagesDocumentInterface } from "./metadata/ImagesDocument";
+export { Sanitize,SanitizeInterface } from "./operation/Sanitize";
+export { TransitionActionSetTransition,TransitionActionSetTransitionInterface } from "./operation/TransitionActionSetTransition";
+export { HttpProxy,HttpProxyInterface } from "./operation/HttpProxy";
+export { HistoryEntry,HistoryEntryInterface } from "./document/HistoryEntry";
+export { User,UserInterface } from "./admin/config/user/User";
+export { CommentRelation,CommentRelationInterface } from "./metadata/CommentRelation";
+export { ChromiumBridgeCommandLineSwitch,ChromiumBridgeCommandLineSwitchInterface } from "./admin/config/application/ChromiumBridgeCommandLineSwitch";
+export { ThreadAction,ThreadActionInterface } from "./operation/ThreadAction";
+export { AdminWebserviceStatus,AdminWebserviceStatusInterface } from "./admin/AdminWebserviceStatus";
+export { WebserviceStatus } from ".//WebserviceStatus";
+export { DocumentStorageProviderCheck,DocumentStorageProviderCheckInterface } from "./admin/DocumentStorageProviderCheck";
+export { Border,BorderInterface } from "./operation/Border";
+export { AnnotationsDocument,AnnotationsDocumentInterface } from "./metadata/AnnotationsDocument";
+export { BoxesResize,BoxesResizeInterface } from "./operation/BoxesResize";
+export { MetadataRectangle,MetadataRectangleInterface } from "./metadata/MetadataRectangle";
+export { OfficeBridge,OfficeBridgeInterface } from "./operation/OfficeBridge";
+export { SanitizeLayers,SanitizeLayersInterface } from "./operation/SanitizeLayers";
+export { Rectangle,RectangleInterface } from "./operation/Rectangle";
+export { Image,ImageInterface } from "./metadata/Image";
+export { AddSignature,AddSignatureInterface } from "./operation/AddSignature";
+export { SyntaxHighlight,SyntaxHighlightInterface } from "./operation/SyntaxHighlight";
+export { ToolboxAttachmentAttachment,ToolboxAttachmentAttachmentInterface } from "./operation/ToolboxAttachmentAttachment";
+export { Appearance,AppearanceInterface } from "./metadata/Appearance";
+export { Code39Barcode,Code39BarcodeInterface } from "./operation/Code39Barcode";
+export { ConverterReport,ConverterReportInterface } from "./operation/ConverterReport";
+export { Context } from "./operation/Context";
+export { Webservice } from ".//Webservice";
+export { LineAnnotation,LineAnnotationInterface } from "./operation/LineAnnotation";
+export { PdfPassword,PdfPasswordInterface } from "./operation/PdfPassword";
+export { Host,HostInterface } from "./admin/config/server/Host";
+export { ToolboxWebservice,ToolboxWebserviceInterface } from "./admin/config/application/ToolboxWebservice";
+export { LaunchParameter,LaunchParameterInterface } from "./operation/LaunchParameter";
+export { InfoFormField,InfoFormFieldInterface } from "./document/InfoFormField";
+export { Shutdown,ShutdownInterface } from "./admin/config/server/Shutdown";
+export { ToolboxWatermark,ToolboxWatermarkInterface } from "./operation/ToolboxWatermark";
+export { DocumentsBody,DocumentsBodyInterface } from ".//DocumentsBody";
+export { ProtocolsSSL,ProtocolsSSLInterface } from "./admin/config/server/ProtocolsSSL";
+export { Jpeg,JpegInterface } from "./operation/Jpeg";
+export { BackgroundsDocument,BackgroundsDocumentInterface } from "./metadata/BackgroundsDocument";
+export { AddComment,AddCommentInterface } from "./operation/AddComment";
+export { SanitizeTags,SanitizeTagsInterface } from "./operation/SanitizeTags";
+export { BarcodeSelection,BarcodeSelectionInterface } from "./operation/BarcodeSelection";
+export { ConverterFooter,ConverterFooterInterface } from "./operation/ConverterFooter";
+export { SelectionAttachment,SelectionAttachmentInterface } from "./operation/SelectionAttachment";
+export { Pdf417Barcode,Pdf417BarcodeInterface } from "./operation/Pdf417Barcode";
+export { LoginOptions,LoginOptionsInterface } from "./auth/LoginOptions";
+export { HttpBasicAuth,HttpBasicAuthInterface } from "./operation/HttpBasicAuth";
+export { TsaApplicationCheck,TsaApplicationCheckInterface } from "./admin/TsaApplicationCheck";
+export { ProviderSettings,ProviderSettingsInterface } from ".//ProviderSettings";
+export { HttpSettingsHeader,HttpSettingsHeaderInterface } from "./operation/HttpSettingsHeader";
+export { ToolboxDelete,ToolboxDeleteInterface } from "./operation/ToolboxDelete";
+export { ExecutableApplicationCheck,ExecutableApplicationCheckInterface } from "./admin/ExecutableApplicationCheck";
+export { DocumentsDocumentIdBody,DocumentsDocumentIdBodyInterface } from ".//DocumentsDocumentIdBody";
+export { ConnectorKeyStore,ConnectorKeyStoreInterface } from "./admin/ConnectorKeyStore";
+export { MetadataPrintScale } from "./metadata/MetadataPrintScale";
+export { AddToolboxOutline,AddToolboxOutlineInterface } from "./operation/AddToolboxOutline";
+export { FileSpecification,FileSpecificationInterface } from "./operation/FileSpecification";
+export { BackgroundBaseSettings,BackgroundBaseSettingsInterface } from "./operation/BackgroundBaseSettings";
+export { AppearanceImage,AppearanceImageInterface } from "./operation/AppearanceImage";
+export { FormDocument,FormDocumentInterface } from "./metadata/FormDocument";
+export { PositionSimpleShapeAnnotation,PositionSimpleShapeAnnotationInterface } from "./operation/PositionSimpleShapeAnnotation";
+export { ApplicationConfigKeystore,ApplicationConfigKeystoreInterface } from "./admin/config/application/ApplicationConfigKeystore";
+export { UserLimits,UserLimitsInterface } from "./auth/UserLimits";
+export { FitBoundingBoxWidthDestination,FitBoundingBoxWidthDestinationInterface } from "./operation/FitBoundingBoxWidthDestination";
+export { UserCredentials,UserCredentialsInterface } from "./auth/UserCredentials";
+export { LogFileConfiguration,LogFileConfigurationInterface } from "./admin/LogFileConfiguration";
+export { MetadataArchive,MetadataArchiveInterface } from "./document/MetadataArchive";
+export { XRechnung,XRechnungInterface } from "./operation/XRechnung";
+export { ConverterHeader,ConverterHeaderInterface } from "./operation/ConverterHeader";
+export { MetadataDuplex } from "./metadata/MetadataDuplex";
+export { EditComment,EditCommentInterface } from "./operation/EditComment";
+export { ExtractionWords,ExtractionWordsInterface } from "./operation/ExtractionWords";
+export { RemovePageTransitions,RemovePageTransitionsInterface } from "./operation/RemovePageTransitions";
+export { AddBackground,AddBackgroundInterface } from "./operation/AddBackground";
+export { ToolboxPortfolio,ToolboxPortfolioInterface } from "./operation/ToolboxPortfolio";
+export { ExecutableResult,ExecutableResultInterface } from "./admin/ExecutableResult";
+export { HttpSettings,HttpSettingsInterface } from "./operation/HttpSettings";
+export { SessionAccessToken,SessionAccessTokenInterface } from "./admin/config/server/SessionAccessToken";
+export { ReplyStateAnnotation,ReplyStateAnnotationInterface } from "./operation/ReplyStateAnnotation";
+export { TemplateData,TemplateDataInterface } from "./operation/TemplateData";
+export { SanitizeOutlines,SanitizeOutlinesInterface } from "./operation/SanitizeOutlines";
+export { ConnectorServerCheck,ConnectorServerCheckInterface } from "./admin/ConnectorServerCheck";
+export { SquareAnnotation,SquareAnnotationInterface } from "./operation/SquareAnnotation";
+export { FoldersDocument,FoldersDocumentInterface } from "./metadata/FoldersDocument";
+export { FitBoundingBoxDestinationFitBoundingBox,FitBoundingBoxDestinationFitBoundingBoxInterface } from "./operation/FitBoundingBoxDestinationFitBoundingBox";
+export { ClusterConfiguration,ClusterConfigurationInterface } from "./admin/ClusterConfiguration";
+export { ConverterOffice,ConverterOfficeInterface } from "./operation/ConverterOffice";
+export { SoundActionPlaySound,SoundActionPlaySoundInterface } from "./operation/SoundActionPlaySound";
+export { SelectionRemove,SelectionRemoveInterface } from "./operation/SelectionRemove";
+export { SignaturePosition,SignaturePositionInterface } from "./operation/SignaturePosition";
+export { Blacken,BlackenInterface } from "./operation/Blacken";
+export { ConverterMail,ConverterMailInterface } from "./operation/ConverterMail";
+export { ResetFormActionResetForm,ResetFormActionResetFormInterface } from "./operation/ResetFormActionResetForm";
+export { OCGSelection,OCGSelectionInterface } from "./operation/OCGSelection";
+export { AddToolboxAnnotation,AddToolboxAnnotationInterface } from "./operation/AddToolboxAnnotation";
+export { MetadataViewerPreferences,MetadataViewerPreferencesInterface } from "./metadata/MetadataViewerPreferences";
+export { TextExtractionLinks,TextExtractionLinksInterface } from "./operation/TextExtractionLinks";
+export { UserInterfaceResources,UserInterfaceResourcesInterface } from "./portal/UserInterfaceResources";
+export { ProtocolsHttpSettingsSSL,ProtocolsHttpSettingsSSLInterface } from "./operation/ProtocolsHttpSettingsSSL";
+export { Tsa,TsaInterface } from "./admin/config/application/Tsa";
+export { ExtractionImages,ExtractionImagesInterface } from "./operation/ExtractionImages";
+export { AggregationServerState } from "./admin/AggregationServerState";
+export { TruststoreServer,TruststoreServerInterface } from "./admin/config/server/TruststoreServer";
+export { Field,FieldInterface } from "./metadata/Field";
+export { MetadataImageEntry,MetadataImageEntryInterface } from "./document/MetadataImageEntry";
+export { ToolboxImage,ToolboxImageInterface } from "./operation/ToolboxImage";
+export { ProviderConfiguration,ProviderConfigurationInterface } from "./admin/ProviderConfiguration";
+export { LocalAuthSoap,LocalAuthSoapInterface } from "./admin/config/server/LocalAuthSoap";
+export { Gif,GifInterface } from "./operation/Gif";
+export { WatermarkText,WatermarkTextInterface } from "./operation/WatermarkText";
+export { AttachmentFileData,AttachmentFileDataInterface } from "./operation/AttachmentFileData";
+export { FitHeightDestination,FitHeightDestinationInterface } from "./operation/FitHeightDestination";
+export { GoToDestinationAction,GoToDestinationActionInterface } from "./operation/GoToDestinationAction";
+export { InitialView } from "./operation/InitialView";
+export { FormsFileData,FormsFileDataInterface } from "./operation/FormsFileData";
+export { ToolboxAnnotationAnnotation,ToolboxAnnotationAnnotationInterface } from "./operation/ToolboxAnnotationAnnotation";
+export { ToolboxOptionsOptions,ToolboxOptionsOptionsInterface } from "./operation/ToolboxOptionsOptions";
+export { Quadrilateral,QuadrilateralInterface } from "./operation/Quadrilateral";
+export { TimeFrameServerState,TimeFrameServerStateInterface } from "./admin/TimeFrameServerState";
+export { SignatureSettings,SignatureSettingsInterface } from "./operation/SignatureSettings";
@@ -0,0 +1,13 @@
+export enum Alignment {
+
+    CenterRight = 'center_right',
+    BottomRight = 'bottom_right',
+    BottomCenter = 'bottom_center',
+    TopCenter = 'top_center',
+    CenterCenter = 'center_center',
+    BottomLeft = 'bottom_left',
+    CenterLeft = 'center_left',
+    TopRight = 'top_right',
+    TopLeft = 'top_left'
+
+}
\ No newline at end of file
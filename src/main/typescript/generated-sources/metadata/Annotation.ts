@@ -0,0 +1,595 @@
+import {
+    ModelAssignment,
+    Line,
+    DrawStyle,
+    ModelStream,
+    Popup,
+    FieldAnnotation,
+    Positions,
+    Parameter,
+    Markup,
+    ModelEquality,
+    Appearance,
+    MetadataBorderStyle,
+} from "./../index";
+
+export interface AnnotationInterface  {
+
+    appearance?: Appearance;
+    border?: MetadataBorderStyle;
+    /**
+    * The main color of visible annotations. The color will be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * The annotation's textual contents or (should an annotation of this type not have such contents) it's description.
+    */
+    contents?: string;
+    drawStyle?: DrawStyle;
+    field?: FieldAnnotation;
+    /**
+    * If this value is set to true, the annotation will not be shown on the page and will not be printed either.
+    */
+    hidden?: boolean;
+    /**
+    * If the annotation selects an icon (Text annotations), this is the name of that icon.
+    */
+    iconName?: string;
+    /**
+    * If this value is set to true, the annotation will be visible on the page only when printed, and provided it is a PDF standard annotation.
+    */
+    invisible?: boolean;
+    line?: Line;
+    /**
+    * If this value is set to true, the annotation will be locked so that no changes can be made to it.
+    */
+    locked?: boolean;
+    markup?: Markup;
+    /**
+    * The annotation's name.  **Important:** This name is optional and in the best case unique in the annotation's page context only. Don't use the name to select an annotation, always prefer selecting objects by object ID, when possible.
+    */
+    name?: string;
+    /**
+    * The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The number of the page the annotation is placed on.
+    */
+    page?: number;
+    popup?: Popup;
+    positions?: Array<Positions>;
+    /**
+    * If this value is set to true, the annotation will be included when the page is printed out.
+    */
+    printable?: boolean;
+    /**
+    * If this value is set to true, the annotation shall be rotatable according to the displayed page rotation.
+    */
+    rotatable?: boolean;
+    /**
+    * The annotation's rotation.
+    */
+    rotation?: number;
+    /**
+    * The type of an annotation is always \"Annot\", this is the sub type of the annotation determining the actual behavior and function of the annotation. (i.e. Text, Link, Widget etc.)
+    */
+    subType?: string;
+    /**
+    * If this value is set to true, the annotation will be shown on the document's page.
+    */
+    viewable?: boolean;
+    /**
+    * If this value is set to true, it will be possible to change the annotation's contents later on.
+    */
+    writable?: boolean;
+    /**
+    * If this value is set to true, the annotation will adjust its own zoom factor as required for the page in order to always be clearly readable / recognizable.
+    */
+    zoomable?: boolean;
+
+}
+export class Annotation implements AnnotationInterface, Parameter {
+    appearance?: Appearance;
+    border?: MetadataBorderStyle;
+    /**
+    * The main color of visible annotations. The color will be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * The annotation's textual contents or (should an annotation of this type not have such contents) it's description.
+    */
+    contents?: string;
+    drawStyle?: DrawStyle;
+    field?: FieldAnnotation;
+    /**
+    * If this value is set to true, the annotation will not be shown on the page and will not be printed either.
+    */
+    hidden?: boolean;
+    /**
+    * If the annotation selects an icon (Text annotations), this is the name of that icon.
+    */
+    iconName?: string;
+    /**
+    * If this value is set to true, the annotation will be visible on the page only when printed, and provided it is a PDF standard annotation.
+    */
+    invisible?: boolean;
+    line?: Line;
+    /**
+    * If this value is set to true, the annotation will be locked so that no changes can be made to it.
+    */
+    locked?: boolean;
+    markup?: Markup;
+    /**
+    * The annotation's name.  **Important:** This name is optional and in the best case unique in the annotation's page context only. Don't use the name to select an annotation, always prefer selecting objects by object ID, when possible.
+    */
+    name?: string;
+    /**
+    * The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The number of the page the annotation is placed on.
+    */
+    page?: number;
+    popup?: Popup;
+    positions?: Array<Positions>;
+    /**
+    * If this value is set to true, the annotation will be included when the page is printed out.
+    */
+    printable?: boolean;
+    /**
+    * If this value is set to true, the annotation shall be rotatable according to the displayed page rotation.
+    */
+    rotatable?: boolean;
+    /**
+    * The annotation's rotation.
+    */
+    rotation?: number;
+    /**
+    * The type of an annotation is always \"Annot\", this is the sub type of the annotation determining the actual behavior and function of the annotation. (i.e. Text, Link, Widget etc.)
+    */
+    subType?: string;
+    /**
+    * If this value is set to true, the annotation will be shown on the document's page.
+    */
+    viewable?: boolean;
+    /**
+    * If this value is set to true, it will be possible to change the annotation's contents later on.
+    */
+    writable?: boolean;
+    /**
+    * If this value is set to true, the annotation will adjust its own zoom factor as required for the page in order to always be clearly readable / recognizable.
+    */
+    zoomable?: boolean;
+
+    constructor(data: any) {
+        this.appearance = Appearance.fromJson(data?.appearance);
+        this.border = MetadataBorderStyle.fromJson(data?.border);
+        let colorDefault: any = "#4800FF";
+        this.color = typeof data?.color !== "undefined" ? data?.color : colorDefault;
+        let contentsDefault: any = "";
+        this.contents = typeof data?.contents !== "undefined" ? data?.contents : contentsDefault;
+        this.drawStyle = DrawStyle.fromJson(data?.drawStyle);
+        this.field = FieldAnnotation.fromJson(data?.field);
+        let hiddenDefault: any = false;
+        this.hidden = typeof data?.hidden !== "undefined" ? data?.hidden : hiddenDefault;
+        let iconNameDefault: any = "";
+        this.iconName = typeof data?.iconName !== "undefined" ? data?.iconName : iconNameDefault;
+        let invisibleDefault: any = false;
+        this.invisible = typeof data?.invisible !== "undefined" ? data?.invisible : invisibleDefault;
+        this.line = Line.fromJson(data?.line);
+        let lockedDefault: any = true;
+        this.locked = typeof data?.locked !== "undefined" ? data?.locked : lockedDefault;
+        this.markup = Markup.fromJson(data?.markup);
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let objectKeyDefault: any = "";
+        this.objectKey = typeof data?.objectKey !== "undefined" ? data?.objectKey : objectKeyDefault;
+        let pageDefault: any = 0;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        this.popup = Popup.fromJson(data?.popup);
+        this.positions = (data?.positions || []).map(
+            Positions.fromJson
+        );
+        let printableDefault: any = false;
+        this.printable = typeof data?.printable !== "undefined" ? data?.printable : printableDefault;
+        let rotatableDefault: any = true;
+        this.rotatable = typeof data?.rotatable !== "undefined" ? data?.rotatable : rotatableDefault;
+        let rotationDefault: any = 0;
+        this.rotation = typeof data?.rotation !== "undefined" ? data?.rotation : rotationDefault;
+        let subTypeDefault: any = "";
+        this.subType = typeof data?.subType !== "undefined" ? data?.subType : subTypeDefault;
+        let viewableDefault: any = true;
+        this.viewable = typeof data?.viewable !== "undefined" ? data?.viewable : viewableDefault;
+        let writableDefault: any = true;
+        this.writable = typeof data?.writable !== "undefined" ? data?.writable : writableDefault;
+        let zoomableDefault: any = true;
+        this.zoomable = typeof data?.zoomable !== "undefined" ? data?.zoomable : zoomableDefault;
+    }
+
+    public static getAppearanceDescription(): string {
+        return "";
+    }
+
+    public static getBorderDescription(): string {
+        return "";
+    }
+
+    public static getColorDefault(): string {
+        return "#4800FF";
+    }
+
+    public static getColorDescription(): string {
+        return "The main color of visible annotations. The color will be specified as a hexadecimal RGB value with a number sign before it.";
+    }
+
+    public static getContentsDefault(): string {
+        return "";
+    }
+
+    public static getContentsDescription(): string {
+        return "The annotation's textual contents or (should an annotation of this type not have such contents) it's description.";
+    }
+
+    public static getDrawStyleDescription(): string {
+        return "";
+    }
+
+    public static getFieldDescription(): string {
+        return "";
+    }
+
+    public static getHiddenDefault(): boolean {
+        return false;
+    }
+
+    public static getHiddenDescription(): string {
+        return "If this value is set to true, the annotation will not be shown on the page and will not be printed either.";
+    }
+
+    public static getIconNameDefault(): string {
+        return "";
+    }
+
+    public static getIconNameDescription(): string {
+        return "If the annotation selects an icon (Text annotations), this is the name of that icon.";
+    }
+
+    public static getInvisibleDefault(): boolean {
+        return false;
+    }
+
+    public static getInvisibleDescription(): string {
+        return "If this value is set to true, the annotation will be visible on the page only when printed, and provided it is a PDF standard annotation.";
+    }
+
+    public static getLineDescription(): string {
+        return "";
+    }
+
+    public static getLockedDefault(): boolean {
+        return true;
+    }
+
+    public static getLockedDescription(): string {
+        return "If this value is set to true, the annotation will be locked so that no changes can be made to it.";
+    }
+
+    public static getMarkupDescription(): string {
+        return "";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The annotation's name.\n\n**Important:** This name is optional and in the best case unique in the annotation's page context only. Don't use the name to select an annotation, always prefer selecting objects by object ID, when possible.";
+    }
+
+    public static getObjectKeyDefault(): string {
+        return "";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static getPageDefault(): number {
+        return 0;
+    }
+
+    public static getPageDescription(): string {
+        return "The number of the page the annotation is placed on.";
+    }
+
+    public static getPageMin(): number {
+        return 0;
+    }
+
+    public static getPopupDescription(): string {
+        return "";
+    }
+
+    public static getPositionsDefault(): Array<Positions> {
+        return [];
+    }
+
+    public static getPositionsDescription(): string {
+        return "";
+    }
+
+    public static getPrintableDefault(): boolean {
+        return false;
+    }
+
+    public static getPrintableDescription(): string {
+        return "If this value is set to true, the annotation will be included when the page is printed out.";
+    }
+
+    public static getRotatableDefault(): boolean {
+        return true;
+    }
+
+    public static getRotatableDescription(): string {
+        return "If this value is set to true, the annotation shall be rotatable according to the displayed page rotation.";
+    }
+
+    public static getRotationDefault(): number {
+        return 0;
+    }
+
+    public static getRotationDescription(): string {
+        return "The annotation's rotation.";
+    }
+
+    public static getSubTypeDefault(): string {
+        return "";
+    }
+
+    public static getSubTypeDescription(): string {
+        return "The type of an annotation is always \"Annot\", this is the sub type of the annotation determining the actual behavior and function of the annotation. (i.e. Text, Link, Widget etc.)";
+    }
+
+    public static getViewableDefault(): boolean {
+        return true;
+    }
+
+    public static getViewableDescription(): string {
+        return "If this value is set to true, the annotation will be shown on the document's page.";
+    }
+
+    public static getWritableDefault(): boolean {
+        return true;
+    }
+
+    public static getWritableDescription(): string {
+        return "If this value is set to true, it will be possible to change the annotation's contents later on.";
+    }
+
+    public static getZoomableDefault(): boolean {
+        return true;
+    }
+
+    public static getZoomableDescription(): string {
+        return "If this value is set to true, the annotation will adjust its own zoom factor as required for the page in order to always be clearly readable \/ recognizable.";
+    }
+
+    public static fromJson(data: any): Annotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Annotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Annotation> {
+        return ModelStream.decodeArray(source, Annotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'appearance': this.appearance?.toJson(),
+            'border': this.border?.toJson(),
+            'color': this.color,
+            'contents': this.contents,
+            'drawStyle': this.drawStyle?.toJson(),
+            'field': this.field?.toJson(),
+            'hidden': this.hidden,
+            'iconName': this.iconName,
+            'invisible': this.invisible,
+            'line': this.line?.toJson(),
+            'locked': this.locked,
+            'markup': this.markup?.toJson(),
+            'name': this.name,
+            'objectKey': this.objectKey,
+            'page': this.page,
+            'popup': this.popup?.toJson(),
+            'positions': this.positions?.map((data) => data.toJson()),
+            'printable': this.printable,
+            'rotatable': this.rotatable,
+            'rotation': this.rotation,
+            'subType': this.subType,
+            'viewable': this.viewable,
+            'writable': this.writable,
+            'zoomable': this.zoomable,
+        };
+    }
+
+    public clone(): Annotation {
+        return Annotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "appearance", data?.appearance, Appearance.fromJson, Appearance) || changed;
+        changed = ModelAssignment.assignModel(this, "border", data?.border, MetadataBorderStyle.fromJson, MetadataBorderStyle) || changed;
+        changed = ModelAssignment.assignValue(this, "color", typeof data?.color !== "undefined" ? data?.color : "#4800FF") || changed;
+        changed = ModelAssignment.assignValue(this, "contents", typeof data?.contents !== "undefined" ? data?.contents : "") || changed;
+        changed = ModelAssignment.assignModel(this, "drawStyle", data?.drawStyle, DrawStyle.fromJson, DrawStyle) || changed;
+        changed = ModelAssignment.assignModel(this, "field", data?.field, FieldAnnotation.fromJson, FieldAnnotation) || changed;
+        changed = ModelAssignment.assignValue(this, "hidden", typeof data?.hidden !== "undefined" ? data?.hidden : false) || changed;
+        changed = ModelAssignment.assignValue(this, "iconName", typeof data?.iconName !== "undefined" ? data?.iconName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "invisible", typeof data?.invisible !== "undefined" ? data?.invisible : false) || changed;
+        changed = ModelAssignment.assignModel(this, "line", data?.line, Line.fromJson, Line) || changed;
+        changed = ModelAssignment.assignValue(this, "locked", typeof data?.locked !== "undefined" ? data?.locked : true) || changed;
+        changed = ModelAssignment.assignModel(this, "markup", data?.markup, Markup.fromJson, Markup) || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "objectKey", typeof data?.objectKey !== "undefined" ? data?.objectKey : "") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 0) || changed;
+        changed = ModelAssignment.assignModel(this, "popup", data?.popup, Popup.fromJson, Popup) || changed;
+        changed = ModelAssignment.assignArray(this, "positions", data?.positions, Positions.fromJson) || changed;
+        changed = ModelAssignment.assignValue(this, "printable", typeof data?.printable !== "undefined" ? data?.printable : false) || changed;
+        changed = ModelAssignment.assignValue(this, "rotatable", typeof data?.rotatable !== "undefined" ? data?.rotatable : true) || changed;
+        changed = ModelAssignment.assignValue(this, "rotation", typeof data?.rotation !== "undefined" ? data?.rotation : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "subType", typeof data?.subType !== "undefined" ? data?.subType : "") || changed;
+        changed = ModelAssignment.assignValue(this, "viewable", typeof data?.viewable !== "undefined" ? data?.viewable : true) || changed;
+        changed = ModelAssignment.assignValue(this, "writable", typeof data?.writable !== "undefined" ? data?.writable : true) || changed;
+        changed = ModelAssignment.assignValue(this, "zoomable", typeof data?.zoomable !== "undefined" ? data?.zoomable : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.appearance, other.appearance)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.border, other.border)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.color, other.color)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.contents, other.contents)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.drawStyle, other.drawStyle)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.field, other.field)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hidden, other.hidden)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.iconName, other.iconName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.invisible, other.invisible)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.line, other.line)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.locked, other.locked)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.markup, other.markup)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.popup, other.popup)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.positions, other.positions)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printable, other.printable)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rotatable, other.rotatable)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rotation, other.rotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.subType, other.subType)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.viewable, other.viewable)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.writable, other.writable)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.zoomable, other.zoomable)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.appearance);
+        hash = ModelEquality.hash(hash, this.border);
+        hash = ModelEquality.hash(hash, this.color);
+        hash = ModelEquality.hash(hash, this.contents);
+        hash = ModelEquality.hash(hash, this.drawStyle);
+        hash = ModelEquality.hash(hash, this.field);
+        hash = ModelEquality.hash(hash, this.hidden);
+        hash = ModelEquality.hash(hash, this.iconName);
+        hash = ModelEquality.hash(hash, this.invisible);
+        hash = ModelEquality.hash(hash, this.line);
+        hash = ModelEquality.hash(hash, this.locked);
+        hash = ModelEquality.hash(hash, this.markup);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.popup);
+        hash = ModelEquality.hash(hash, this.positions);
+        hash = ModelEquality.hash(hash, this.printable);
+        hash = ModelEquality.hash(hash, this.rotatable);
+        hash = ModelEquality.hash(hash, this.rotation);
+        hash = ModelEquality.hash(hash, this.subType);
+        hash = ModelEquality.hash(hash, this.viewable);
+        hash = ModelEquality.hash(hash, this.writable);
+        hash = ModelEquality.hash(hash, this.zoomable);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Annotation(";
+        fingerprint += ModelEquality.fingerprint(this.appearance) + ",";
+        fingerprint += ModelEquality.fingerprint(this.border) + ",";
+        fingerprint += ModelEquality.fingerprint(this.color) + ",";
+        fingerprint += ModelEquality.fingerprint(this.contents) + ",";
+        fingerprint += ModelEquality.fingerprint(this.drawStyle) + ",";
+        fingerprint += ModelEquality.fingerprint(this.field) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hidden) + ",";
+        fingerprint += ModelEquality.fingerprint(this.iconName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.invisible) + ",";
+        fingerprint += ModelEquality.fingerprint(this.line) + ",";
+        fingerprint += ModelEquality.fingerprint(this.locked) + ",";
+        fingerprint += ModelEquality.fingerprint(this.markup) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.popup) + ",";
+        fingerprint += ModelEquality.fingerprint(this.positions) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printable) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rotatable) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.subType) + ",";
+        fingerprint += ModelEquality.fingerprint(this.viewable) + ",";
+        fingerprint += ModelEquality.fingerprint(this.writable) + ",";
+        fingerprint += ModelEquality.fingerprint(this.zoomable) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    AnnotationPointPoint,
+    ModelStream,
+    Positions,
+    Parameter,
+    ModelEquality,
+    PositionsInterface,
+} from "./../index";
+
+export interface AnnotationPointInterface extends PositionsInterface {
+
+    point?: AnnotationPointPoint;
+
+}
+export class AnnotationPoint extends Positions implements AnnotationPointInterface, Parameter {
+    point?: AnnotationPointPoint;
+
+    constructor(data: any) {
+        super(data);
+
+        this.point = AnnotationPointPoint.fromJson(data?.point);
+    }
+
+    public static getPointDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AnnotationPoint {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AnnotationPoint(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AnnotationPoint> {
+        return ModelStream.decodeArray(source, AnnotationPoint.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'point': this.point?.toJson(),
+        };
+    }
+
+    public clone(): AnnotationPoint {
+        return AnnotationPoint.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "point", data?.point, AnnotationPointPoint.fromJson, AnnotationPointPoint) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.point, other.point)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.point);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AnnotationPoint(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.point) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface AnnotationPointPointInterface  {
+
+    /**
+    * The x coordinate in points.
+    */
+    x?: number;
+    /**
+    * The y coordinate in points.
+    */
+    y?: number;
+
+}
+export class AnnotationPointPoint implements AnnotationPointPointInterface, Parameter {
+    /**
+    * The x coordinate in points.
+    */
+    x?: number;
+    /**
+    * The y coordinate in points.
+    */
+    y?: number;
+
+    constructor(data: any) {
+        let xDefault: any = 0;
+        this.x = typeof data?.x !== "undefined" ? data?.x : xDefault;
+        let yDefault: any = 0;
+        this.y = typeof data?.y !== "undefined" ? data?.y : yDefault;
+    }
+
+    public static getXDefault(): number {
+        return 0;
+    }
+
+    public static getXDescription(): string {
+        return "The x coordinate in points.";
+    }
+
+    public static getYDefault(): number {
+        return 0;
+    }
+
+    public static getYDescription(): string {
+        return "The y coordinate in points.";
+    }
+
+    public static fromJson(data: any): AnnotationPointPoint {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AnnotationPointPoint(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AnnotationPointPoint> {
+        return ModelStream.decodeArray(source, AnnotationPointPoint.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'x': this.x,
+            'y': this.y,
+        };
+    }
+
+    public clone(): AnnotationPointPoint {
+        return AnnotationPointPoint.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "x", typeof data?.x !== "undefined" ? data?.x : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "y", typeof data?.y !== "undefined" ? data?.y : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.x, other.x)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.y, other.y)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.x);
+        hash = ModelEquality.hash(hash, this.y);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AnnotationPointPoint(";
+        fingerprint += ModelEquality.fingerprint(this.x) + ",";
+        fingerprint += ModelEquality.fingerprint(this.y) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Positions,
+    Parameter,
+    ModelEquality,
+    AnnotationRectangleRectangle,
+    PositionsInterface,
+} from "./../index";
+
+export interface AnnotationRectangleInterface extends PositionsInterface {
+
+    rectangle?: AnnotationRectangleRectangle;
+
+}
+export class AnnotationRectangle extends Positions implements AnnotationRectangleInterface, Parameter {
+    rectangle?: AnnotationRectangleRectangle;
+
+    constructor(data: any) {
+        super(data);
+
+        this.rectangle = AnnotationRectangleRectangle.fromJson(data?.rectangle);
+    }
+
+    public static getRectangleDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AnnotationRectangle {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AnnotationRectangle(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AnnotationRectangle> {
+        return ModelStream.decodeArray(source, AnnotationRectangle.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'rectangle': this.rectangle?.toJson(),
+        };
+    }
+
+    public clone(): AnnotationRectangle {
+        return AnnotationRectangle.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "rectangle", data?.rectangle, AnnotationRectangleRectangle.fromJson, AnnotationRectangleRectangle) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rectangle, other.rectangle)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.rectangle);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AnnotationRectangle(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.rectangle) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
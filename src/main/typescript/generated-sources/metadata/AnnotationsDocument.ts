@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    Annotation,
+} from "./../index";
+
+export interface AnnotationsDocumentInterface  {
+
+    annotation?: Array<Annotation>;
+
+}
+export class AnnotationsDocument implements AnnotationsDocumentInterface, Parameter {
+    annotation?: Array<Annotation>;
+
+    constructor(data: any) {
+        this.annotation = (data?.annotation || []).map(
+            Annotation.fromJson
+        );
+    }
+
+    public static getAnnotationDefault(): Array<Annotation> {
+        return [];
+    }
+
+    public static getAnnotationDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AnnotationsDocument {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AnnotationsDocument(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AnnotationsDocument> {
+        return ModelStream.decodeArray(source, AnnotationsDocument.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'annotation': this.annotation?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): AnnotationsDocument {
+        return AnnotationsDocument.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "annotation", data?.annotation, Annotation.fromJson, Annotation) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.annotation, other.annotation)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.annotation);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AnnotationsDocument(";
+        fingerprint += ModelEquality.fingerprint(this.annotation) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
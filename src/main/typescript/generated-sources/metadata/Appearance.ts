@@ -0,0 +1,65 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface AppearanceInterface  {
+
+
+}
+export class Appearance implements AppearanceInterface, Parameter {
+
+    constructor(data: any) {
+    }
+
+    public static fromJson(data: any): Appearance {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Appearance(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Appearance> {
+        return ModelStream.decodeArray(source, Appearance.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+        };
+    }
+
+    public clone(): Appearance {
+        return Appearance.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Appearance(";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,292 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    Document,
+} from "./../index";
+
+export interface AttachmentInterface  {
+
+    /**
+    * The file description of the attachment.
+    */
+    description?: string;
+    documentType?: Document;
+    /**
+    * The numeric ID of the folder containing the attachment. (This is only relevant for PDF Collections/Portfolios - otherwise attachments may not be arranged in a folder tree.)
+    */
+    folderId?: number;
+    /**
+    * The attachment's MIME type.
+    */
+    mimeType?: string;
+    /**
+    * The file name of the attachment.
+    */
+    name?: string;
+    /**
+    * The position number of the attachment in the embedded files of the document.
+    */
+    number?: number;
+    /**
+    * The object ID of the attachment. **Info:** A PDF objects ID consists of two number, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The page (if any), the attachment is placed on.
+    */
+    page?: number;
+    /**
+    * The byte size of the attachment.
+    */
+    size?: number;
+
+}
+export class Attachment implements AttachmentInterface, Parameter {
+    /**
+    * The file description of the attachment.
+    */
+    description?: string;
+    documentType?: Document;
+    /**
+    * The numeric ID of the folder containing the attachment. (This is only relevant for PDF Collections/Portfolios - otherwise attachments may not be arranged in a folder tree.)
+    */
+    folderId?: number;
+    /**
+    * The attachment's MIME type.
+    */
+    mimeType?: string;
+    /**
+    * The file name of the attachment.
+    */
+    name?: string;
+    /**
+    * The position number of the attachment in the embedded files of the document.
+    */
+    number?: number;
+    /**
+    * The object ID of the attachment. **Info:** A PDF objects ID consists of two number, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The page (if any), the attachment is placed on.
+    */
+    page?: number;
+    /**
+    * The byte size of the attachment.
+    */
+    size?: number;
+
+    constructor(data: any) {
+        let descriptionDefault: any = "";
+        this.description = typeof data?.description !== "undefined" ? data?.description : descriptionDefault;
+        this.documentType = Document.fromJson(data?.documentType);
+        let folderIdDefault: any = 0;
+        this.folderId = typeof data?.folderId !== "undefined" ? data?.folderId : folderIdDefault;
+        let mimeTypeDefault: any = "";
+        this.mimeType = typeof data?.mimeType !== "undefined" ? data?.mimeType : mimeTypeDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let numberDefault: any = 0;
+        this.number = typeof data?.number !== "undefined" ? data?.number : numberDefault;
+        let objectKeyDefault: any = "";
+        this.objectKey = typeof data?.objectKey !== "undefined" ? data?.objectKey : objectKeyDefault;
+        let pageDefault: any = 0;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        let sizeDefault: any = 0;
+        this.size = typeof data?.size !== "undefined" ? data?.size : sizeDefault;
+    }
+
+    public static getDescriptionDefault(): string {
+        return "";
+    }
+
+    public static getDescriptionDescription(): string {
+        return "The file description of the attachment.";
+    }
+
+    public static getDocumentTypeDescription(): string {
+        return "";
+    }
+
+    public static getFolderIdDefault(): number {
+        return 0;
+    }
+
+    public static getFolderIdDescription(): string {
+        return "The numeric ID of the folder containing the attachment. (This is only relevant for PDF Collections\/Portfolios - otherwise attachments may not be arranged in a folder tree.)";
+    }
+
+    public static getMimeTypeDefault(): string {
+        return "";
+    }
+
+    public static getMimeTypeDescription(): string {
+        return "The attachment's MIME type.";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The file name of the attachment.";
+    }
+
+    public static getNumberDefault(): number {
+        return 0;
+    }
+
+    public static getNumberDescription(): string {
+        return "The position number of the attachment in the embedded files of the document.";
+    }
+
+    public static getNumberMin(): number {
+        return 1;
+    }
+
+    public static getObjectKeyDefault(): string {
+        return "";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "The object ID of the attachment. **Info:** A PDF objects ID consists of two number, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static getPageDefault(): number {
+        return 0;
+    }
+
+    public static getPageDescription(): string {
+        return "The page (if any), the attachment is placed on.";
+    }
+
+    public static getPageMin(): number {
+        return 0;
+    }
+
+    public static getSizeDefault(): number {
+        return 0;
+    }
+
+    public static getSizeDescription(): string {
+        return "The byte size of the attachment.";
+    }
+
+    public static getSizeMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): Attachment {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Attachment(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Attachment> {
+        return ModelStream.decodeArray(source, Attachment.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'description': this.description,
+            'documentType': this.documentType?.toJson(),
+            'folderId': this.folderId,
+            'mimeType': this.mimeType,
+            'name': this.name,
+            'number': this.number,
+            'objectKey': this.objectKey,
+            'page': this.page,
+            'size': this.size,
+        };
+    }
+
+    public clone(): Attachment {
+        return Attachment.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "description", typeof data?.description !== "undefined" ? data?.description : "") || changed;
+        changed = ModelAssignment.assignModel(this, "documentType", data?.documentType, Document.fromJson, Document) || changed;
+        changed = ModelAssignment.assignValue(this, "folderId", typeof data?.folderId !== "undefined" ? data?.folderId : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "mimeType", typeof data?.mimeType !== "undefined" ? data?.mimeType : "") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "number", typeof data?.number !== "undefined" ? data?.number : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "objectKey", typeof data?.objectKey !== "undefined" ? data?.objectKey : "") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "size", typeof data?.size !== "undefined" ? data?.size : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.description, other.description)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.documentType, other.documentType)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.folderId, other.folderId)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mimeType, other.mimeType)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.number, other.number)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.size, other.size)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.description);
+        hash = ModelEquality.hash(hash, this.documentType);
+        hash = ModelEquality.hash(hash, this.folderId);
+        hash = ModelEquality.hash(hash, this.mimeType);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.number);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.size);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Attachment(";
+        fingerprint += ModelEquality.fingerprint(this.description) + ",";
+        fingerprint += ModelEquality.fingerprint(this.documentType) + ",";
+        fingerprint += ModelEquality.fingerprint(this.folderId) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mimeType) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.number) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.size) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    Attachment,
+    ModelEquality,
+} from "./../index";
+
+export interface AttachmentsDocumentInterface  {
+
+    attachment?: Array<Attachment>;
+
+}
+export class AttachmentsDocument implements AttachmentsDocumentInterface, Parameter {
+    attachment?: Array<Attachment>;
+
+    constructor(data: any) {
+        this.attachment = (data?.attachment || []).map(
+            Attachment.fromJson
+        );
+    }
+
+    public static getAttachmentDefault(): Array<Attachment> {
+        return [];
+    }
+
+    public static getAttachmentDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AttachmentsDocument {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AttachmentsDocument(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AttachmentsDocument> {
+        return ModelStream.decodeArray(source, AttachmentsDocument.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'attachment': this.attachment?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): AttachmentsDocument {
+        return AttachmentsDocument.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "attachment", data?.attachment, Attachment.fromJson, Attachment) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.attachment, other.attachment)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.attachment);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AttachmentsDocument(";
+        fingerprint += ModelEquality.fingerprint(this.attachment) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
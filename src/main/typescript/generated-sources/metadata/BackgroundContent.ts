@@ -0,0 +1,224 @@
+import {
+    ModelAssignment,
+    PieceInfoBackgroundContent,
+    MetadataRectangle,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface BackgroundContentInterface  {
+
+    bounds: MetadataRectangle;
+    /**
+    * When set to true, the background is using an image resource. (Otherwise it is unicolor)
+    */
+    isImage?: boolean;
+    /**
+    * The object ID of the background. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * Whether the background shall be visible in printouts of the document.
+    */
+    onprint?: boolean;
+    /**
+    * Whether the background shall be visible in Readers.
+    */
+    onscreen?: boolean;
+    /**
+    * The page the background shall be set for.
+    */
+    page?: number;
+    pieceInfo?: PieceInfoBackgroundContent;
+
+}
+export class BackgroundContent implements BackgroundContentInterface, Parameter {
+    bounds: MetadataRectangle;
+    /**
+    * When set to true, the background is using an image resource. (Otherwise it is unicolor)
+    */
+    isImage?: boolean;
+    /**
+    * The object ID of the background. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * Whether the background shall be visible in printouts of the document.
+    */
+    onprint?: boolean;
+    /**
+    * Whether the background shall be visible in Readers.
+    */
+    onscreen?: boolean;
+    /**
+    * The page the background shall be set for.
+    */
+    page?: number;
+    pieceInfo?: PieceInfoBackgroundContent;
+
+    constructor(data: any) {
+        this.bounds = MetadataRectangle.fromJson(data.bounds);
+        let isImageDefault: any = false;
+        this.isImage = typeof data?.isImage !== "undefined" ? data?.isImage : isImageDefault;
+        let objectKeyDefault: any = "";
+        this.objectKey = typeof data?.objectKey !== "undefined" ? data?.objectKey : objectKeyDefault;
+        let onprintDefault: any = true;
+        this.onprint = typeof data?.onprint !== "undefined" ? data?.onprint : onprintDefault;
+        let onscreenDefault: any = true;
+        this.onscreen = typeof data?.onscreen !== "undefined" ? data?.onscreen : onscreenDefault;
+        let pageDefault: any = 0;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        this.pieceInfo = PieceInfoBackgroundContent.fromJson(data?.pieceInfo);
+    }
+
+    public static getBoundsDescription(): string {
+        return "";
+    }
+
+    public static getIsImageDefault(): boolean {
+        return false;
+    }
+
+    public static getIsImageDescription(): string {
+        return "When set to true, the background is using an image resource. (Otherwise it is unicolor)";
+    }
+
+    public static getObjectKeyDefault(): string {
+        return "";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "The object ID of the background. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static getOnprintDefault(): boolean {
+        return true;
+    }
+
+    public static getOnprintDescription(): string {
+        return "Whether the background shall be visible in printouts of the document.";
+    }
+
+    public static getOnscreenDefault(): boolean {
+        return true;
+    }
+
+    public static getOnscreenDescription(): string {
+        return "Whether the background shall be visible in Readers.";
+    }
+
+    public static getPageDefault(): number {
+        return 0;
+    }
+
+    public static getPageDescription(): string {
+        return "The page the background shall be set for.";
+    }
+
+    public static getPageMin(): number {
+        return 0;
+    }
+
+    public static getPieceInfoDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): BackgroundContent {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new BackgroundContent(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<BackgroundContent> {
+        return ModelStream.decodeArray(source, BackgroundContent.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'bounds': this.bounds?.toJson(),
+            'isImage': this.isImage,
+            'objectKey': this.objectKey,
+            'onprint': this.onprint,
+            'onscreen': this.onscreen,
+            'page': this.page,
+            'pieceInfo': this.pieceInfo?.toJson(),
+        };
+    }
+
+    public clone(): BackgroundContent {
+        return BackgroundContent.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "bounds", data.bounds, MetadataRectangle.fromJson, MetadataRectangle) || changed;
+        changed = ModelAssignment.assignValue(this, "isImage", typeof data?.isImage !== "undefined" ? data?.isImage : false) || changed;
+        changed = ModelAssignment.assignValue(this, "objectKey", typeof data?.objectKey !== "undefined" ? data?.objectKey : "") || changed;
+        changed = ModelAssignment.assignValue(this, "onprint", typeof data?.onprint !== "undefined" ? data?.onprint : true) || changed;
+        changed = ModelAssignment.assignValue(this, "onscreen", typeof data?.onscreen !== "undefined" ? data?.onscreen : true) || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 0) || changed;
+        changed = ModelAssignment.assignModel(this, "pieceInfo", data?.pieceInfo, PieceInfoBackgroundContent.fromJson, PieceInfoBackgroundContent) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bounds, other.bounds)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isImage, other.isImage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.onprint, other.onprint)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.onscreen, other.onscreen)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pieceInfo, other.pieceInfo)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.bounds);
+        hash = ModelEquality.hash(hash, this.isImage);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.onprint);
+        hash = ModelEquality.hash(hash, this.onscreen);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.pieceInfo);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "BackgroundContent(";
+        fingerprint += ModelEquality.fingerprint(this.bounds) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isImage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.onprint) + ",";
+        fingerprint += ModelEquality.fingerprint(this.onscreen) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pieceInfo) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    BackgroundContent,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface BackgroundsDocumentInterface  {
+
+    background?: Array<BackgroundContent>;
+
+}
+export class BackgroundsDocument implements BackgroundsDocumentInterface, Parameter {
+    background?: Array<BackgroundContent>;
+
+    constructor(data: any) {
+        this.background = (data?.background || []).map(
+            BackgroundContent.fromJson
+        );
+    }
+
+    public static getBackgroundDefault(): Array<BackgroundContent> {
+        return [];
+    }
+
+    public static getBackgroundDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): BackgroundsDocument {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new BackgroundsDocument(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<BackgroundsDocument> {
+        return ModelStream.decodeArray(source, BackgroundsDocument.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'background': this.background?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): BackgroundsDocument {
+        return BackgroundsDocument.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "background", data?.background, BackgroundContent.fromJson, BackgroundContent) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.background, other.background)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.background);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "BackgroundsDocument(";
+        fingerprint += ModelEquality.fingerprint(this.background) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+export enum BoxSelection {
+
+    CropBox = 'cropBox',
+    BleedBox = 'bleedBox',
+    TrimBox = 'trimBox',
+    MediaBox = 'mediaBox',
+    ArtBox = 'artBox'
+
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+import {
+    ModelAssignment,
+    MetadataRectangle,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface BoxesInterface  {
+
+    artBox?: MetadataRectangle;
+    bleedBox?: MetadataRectangle;
+    cropBox?: MetadataRectangle;
+    mediaBox: MetadataRectangle;
+    trimBox?: MetadataRectangle;
+
+}
+export class Boxes implements BoxesInterface, Parameter {
+    artBox?: MetadataRectangle;
+    bleedBox?: MetadataRectangle;
+    cropBox?: MetadataRectangle;
+    mediaBox: MetadataRectangle;
+    trimBox?: MetadataRectangle;
+
+    constructor(data: any) {
+        this.artBox = MetadataRectangle.fromJson(data?.artBox);
+        this.bleedBox = MetadataRectangle.fromJson(data?.bleedBox);
+        this.cropBox = MetadataRectangle.fromJson(data?.cropBox);
+        this.mediaBox = MetadataRectangle.fromJson(data.mediaBox);
+        this.trimBox = MetadataRectangle.fromJson(data?.trimBox);
+    }
+
+    public static getArtBoxDescription(): string {
+        return "";
+    }
+
+    public static getBleedBoxDescription(): string {
+        return "";
+    }
+
+    public static getCropBoxDescription(): string {
+        return "";
+    }
+
+    public static getMediaBoxDescription(): string {
+        return "";
+    }
+
+    public static getTrimBoxDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Boxes {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Boxes(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Boxes> {
+        return ModelStream.decodeArray(source, Boxes.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'artBox': this.artBox?.toJson(),
+            'bleedBox': this.bleedBox?.toJson(),
+            'cropBox': this.cropBox?.toJson(),
+            'mediaBox': this.mediaBox?.toJson(),
+            'trimBox': this.trimBox?.toJson(),
+        };
+    }
+
+    public clone(): Boxes {
+        return Boxes.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "artBox", data?.artBox, MetadataRectangle.fromJson, MetadataRectangle) || changed;
+        changed = ModelAssignment.assignModel(this, "bleedBox", data?.bleedBox, MetadataRectangle.fromJson, MetadataRectangle) || changed;
+        changed = ModelAssignment.assignModel(this, "cropBox", data?.cropBox, MetadataRectangle.fromJson, MetadataRectangle) || changed;
+        changed = ModelAssignment.assignModel(this, "mediaBox", data.mediaBox, MetadataRectangle.fromJson, MetadataRectangle) || changed;
+        changed = ModelAssignment.assignModel(this, "trimBox", data?.trimBox, MetadataRectangle.fromJson, MetadataRectangle) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.artBox, other.artBox)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bleedBox, other.bleedBox)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.cropBox, other.cropBox)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mediaBox, other.mediaBox)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.trimBox, other.trimBox)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.artBox);
+        hash = ModelEquality.hash(hash, this.bleedBox);
+        hash = ModelEquality.hash(hash, this.cropBox);
+        hash = ModelEquality.hash(hash, this.mediaBox);
+        hash = ModelEquality.hash(hash, this.trimBox);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Boxes(";
+        fingerprint += ModelEquality.fingerprint(this.artBox) + ",";
+        fingerprint += ModelEquality.fingerprint(this.bleedBox) + ",";
+        fingerprint += ModelEquality.fingerprint(this.cropBox) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mediaBox) + ",";
+        fingerprint += ModelEquality.fingerprint(this.trimBox) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface CommentRelationInterface  {
+
+    /**
+    * The textual comment to add.
+    */
+    comment?: string;
+    /**
+    * The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectID?: string;
+
+}
+export class CommentRelation implements CommentRelationInterface, Parameter {
+    /**
+    * The textual comment to add.
+    */
+    comment?: string;
+    /**
+    * The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectID?: string;
+
+    constructor(data: any) {
+        let commentDefault: any = "";
+        this.comment = typeof data?.comment !== "undefined" ? data?.comment : commentDefault;
+        let objectIDDefault: any = "";
+        this.objectID = typeof data?.objectID !== "undefined" ? data?.objectID : objectIDDefault;
+    }
+
+    public static getCommentDefault(): string {
+        return "";
+    }
+
+    public static getCommentDescription(): string {
+        return "The textual comment to add.";
+    }
+
+    public static getObjectIDDefault(): string {
+        return "";
+    }
+
+    public static getObjectIDDescription(): string {
+        return "The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static fromJson(data: any): CommentRelation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new CommentRelation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<CommentRelation> {
+        return ModelStream.decodeArray(source, CommentRelation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'comment': this.comment,
+            'objectID': this.objectID,
+        };
+    }
+
+    public clone(): CommentRelation {
+        return CommentRelation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "comment", typeof data?.comment !== "undefined" ? data?.comment : "") || changed;
+        changed = ModelAssignment.assignValue(this, "objectID", typeof data?.objectID !== "undefined" ? data?.objectID : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.comment, other.comment)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectID, other.objectID)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.comment);
+        hash = ModelEquality.hash(hash, this.objectID);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "CommentRelation(";
+        fingerprint += ModelEquality.fingerprint(this.comment) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectID) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
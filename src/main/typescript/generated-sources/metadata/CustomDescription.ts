@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface CustomDescriptionInterface  {
+
+    /**
+    * The name of the custom attribute.
+    */
+    key?: string;
+    /**
+    * The value of the custom attribute.
+    */
+    value?: string;
+
+}
+export class CustomDescription implements CustomDescriptionInterface, Parameter {
+    /**
+    * The name of the custom attribute.
+    */
+    key?: string;
+    /**
+    * The value of the custom attribute.
+    */
+    value?: string;
+
+    constructor(data: any) {
+        let keyDefault: any = "";
+        this.key = typeof data?.key !== "undefined" ? data?.key : keyDefault;
+        let valueDefault: any = "";
+        this.value = typeof data?.value !== "undefined" ? data?.value : valueDefault;
+    }
+
+    public static getKeyDefault(): string {
+        return "";
+    }
+
+    public static getKeyDescription(): string {
+        return "The name of the custom attribute.";
+    }
+
+    public static getValueDefault(): string {
+        return "";
+    }
+
+    public static getValueDescription(): string {
+        return "The value of the custom attribute.";
+    }
+
+    public static fromJson(data: any): CustomDescription {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new CustomDescription(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<CustomDescription> {
+        return ModelStream.decodeArray(source, CustomDescription.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'key': this.key,
+            'value': this.value,
+        };
+    }
+
+    public clone(): CustomDescription {
+        return CustomDescription.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "key", typeof data?.key !== "undefined" ? data?.key : "") || changed;
+        changed = ModelAssignment.assignValue(this, "value", typeof data?.value !== "undefined" ? data?.value : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.key, other.key)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.value, other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.key);
+        hash = ModelEquality.hash(hash, this.value);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "CustomDescription(";
+        fingerprint += ModelEquality.fingerprint(this.key) + ",";
+        fingerprint += ModelEquality.fingerprint(this.value) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,303 @@
+import {
+    ModelAssignment,
+    Keyword,
+    ModelStream,
+    Parameter,
+    Author,
+    CustomDescription,
+    ModelEquality,
+} from "./../index";
+
+export interface DescriptionInterface  {
+
+    /**
+    * The application used to create the document.
+    */
+    application?: string;
+    author?: Array<Author>;
+    /**
+    * The date of the document's creation.
+    */
+    creationDate?: string;
+    /**
+    * If the document has been converted to a PDF from another format, this is the name of the application, that created the original document.
+    */
+    creator?: string;
+    custom?: Array<CustomDescription>;
+    keywords?: Array<Keyword>;
+    /**
+    * The date of the most recent modification of the document.
+    */
+    modificationDate?: string;
+    /**
+    * If the document has been converted to a PDF from another format, this is the name of the application, that converted it.
+    */
+    producer?: string;
+    /**
+    * The document's subject.
+    */
+    subject?: string;
+    /**
+    * The document's title.
+    */
+    title?: string;
+
+}
+export class Description implements DescriptionInterface, Parameter {
+    /**
+    * The application used to create the document.
+    */
+    application?: string;
+    author?: Array<Author>;
+    /**
+    * The date of the document's creation.
+    */
+    creationDate?: string;
+    /**
+    * If the document has been converted to a PDF from another format, this is the name of the application, that created the original document.
+    */
+    creator?: string;
+    custom?: Array<CustomDescription>;
+    keywords?: Array<Keyword>;
+    /**
+    * The date of the most recent modification of the document.
+    */
+    modificationDate?: string;
+    /**
+    * If the document has been converted to a PDF from another format, this is the name of the application, that converted it.
+    */
+    producer?: string;
+    /**
+    * The document's subject.
+    */
+    subject?: string;
+    /**
+    * The document's title.
+    */
+    title?: string;
+
+    constructor(data: any) {
+        let applicationDefault: any = "";
+        this.application = typeof data?.application !== "undefined" ? data?.application : applicationDefault;
+        this.author = (data?.author || []).map(
+            Author.fromJson
+        );
+        let creationDateDefault: any = "";
+        this.creationDate = typeof data?.creationDate !== "undefined" ? data?.creationDate : creationDateDefault;
+        let creatorDefault: any = "";
+        this.creator = typeof data?.creator !== "undefined" ? data?.creator : creatorDefault;
+        this.custom = (data?.custom || []).map(
+            CustomDescription.fromJson
+        );
+        this.keywords = (data?.keywords || []).map(
+            Keyword.fromJson
+        );
+        let modificationDateDefault: any = "";
+        this.modificationDate = typeof data?.modificationDate !== "undefined" ? data?.modificationDate : modificationDateDefault;
+        let producerDefault: any = "";
+        this.producer = typeof data?.producer !== "undefined" ? data?.producer : producerDefault;
+        let subjectDefault: any = "";
+        this.subject = typeof data?.subject !== "undefined" ? data?.subject : subjectDefault;
+        let titleDefault: any = "";
+        this.title = typeof data?.title !== "undefined" ? data?.title : titleDefault;
+    }
+
+    public static getApplicationDefault(): string {
+        return "";
+    }
+
+    public static getApplicationDescription(): string {
+        return "The application used to create the document.";
+    }
+
+    public static getAuthorDefault(): Array<Author> {
+        return [];
+    }
+
+    public static getAuthorDescription(): string {
+        return "";
+    }
+
+    public static getCreationDateDefault(): string {
+        return "";
+    }
+
+    public static getCreationDateDescription(): string {
+        return "The date of the document's creation.";
+    }
+
+    public static getCreatorDefault(): string {
+        return "";
+    }
+
+    public static getCreatorDescription(): string {
+        return "If the document has been converted to a PDF from another format, this is the name of the application, that created the original document.";
+    }
+
+    public static getCustomDefault(): Array<CustomDescription> {
+        return [];
+    }
+
+    public static getCustomDescription(): string {
+        return "";
+    }
+
+    public static getKeywordsDefault(): Array<Keyword> {
+        return [];
+    }
+
+    public static getKeywordsDescription(): string {
+        return "";
+    }
+
+    public static getModificationDateDefault(): string {
+        return "";
+    }
+
+    public static getModificationDateDescription(): string {
+        return "The date of the most recent modification of the document.";
+    }
+
+    public static getProducerDefault(): string {
+        return "";
+    }
+
+    public static getProducerDescription(): string {
+        return "If the document has been converted to a PDF from another format, this is the name of the application, that converted it.";
+    }
+
+    public static getSubjectDefault(): string {
+        return "";
+    }
+
+    public static getSubjectDescription(): string {
+        return "The document's subject.";
+    }
+
+    public static getTitleDefault(): string {
+        return "";
+    }
+
+    public static getTitleDescription(): string {
+        return "The document's title.";
+    }
+
+    public static fromJson(data: any): Description {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Description(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Description> {
+        return ModelStream.decodeArray(source, Description.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'application': this.application,
+            'author': this.author?.map((data) => data.toJson()),
+            'creationDate': this.creationDate,
+            'creator': this.creator,
+            'custom': this.custom?.map((data) => data.toJson()),
+            'keywords': this.keywords?.map((data) => data.toJson()),
+            'modificationDate': this.modificationDate,
+            'producer': this.producer,
+            'subject': this.subject,
+            'title': this.title,
+        };
+    }
+
+    public clone(): Description {
+        return Description.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "application", typeof data?.application !== "undefined" ? data?.application : "") || changed;
+        changed = ModelAssignment.assignArray(this, "author", data?.author, Author.fromJson, Author) || changed;
+        changed = ModelAssignment.assignValue(this, "creationDate", typeof data?.creationDate !== "undefined" ? data?.creationDate : "") || changed;
+        changed = ModelAssignment.assignValue(this, "creator", typeof data?.creator !== "undefined" ? data?.creator : "") || changed;
+        changed = ModelAssignment.assignArray(this, "custom", data?.custom, CustomDescription.fromJson, CustomDescription) || changed;
+        changed = ModelAssignment.assignArray(this, "keywords", data?.keywords, Keyword.fromJson, Keyword) || changed;
+        changed = ModelAssignment.assignValue(this, "modificationDate", typeof data?.modificationDate !== "undefined" ? data?.modificationDate : "") || changed;
+        changed = ModelAssignment.assignValue(this, "producer", typeof data?.producer !== "undefined" ? data?.producer : "") || changed;
+        changed = ModelAssignment.assignValue(this, "subject", typeof data?.subject !== "undefined" ? data?.subject : "") || changed;
+        changed = ModelAssignment.assignValue(this, "title", typeof data?.title !== "undefined" ? data?.title : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.application, other.application)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.author, other.author)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.creationDate, other.creationDate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.creator, other.creator)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.custom, other.custom)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keywords, other.keywords)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.modificationDate, other.modificationDate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.producer, other.producer)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.subject, other.subject)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.title, other.title)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.application);
+        hash = ModelEquality.hash(hash, this.author);
+        hash = ModelEquality.hash(hash, this.creationDate);
+        hash = ModelEquality.hash(hash, this.creator);
+        hash = ModelEquality.hash(hash, this.custom);
+        hash = ModelEquality.hash(hash, this.keywords);
+        hash = ModelEquality.hash(hash, this.modificationDate);
+        hash = ModelEquality.hash(hash, this.producer);
+        hash = ModelEquality.hash(hash, this.subject);
+        hash = ModelEquality.hash(hash, this.title);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Description(";
+        fingerprint += ModelEquality.fingerprint(this.application) + ",";
+        fingerprint += ModelEquality.fingerprint(this.author) + ",";
+        fingerprint += ModelEquality.fingerprint(this.creationDate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.creator) + ",";
+        fingerprint += ModelEquality.fingerprint(this.custom) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keywords) + ",";
+        fingerprint += ModelEquality.fingerprint(this.modificationDate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.producer) + ",";
+        fingerprint += ModelEquality.fingerprint(this.subject) + ",";
+        fingerprint += ModelEquality.fingerprint(this.title) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum DocMdp {
+
+    FormFillingSignaturesAnnotations = 'formFillingSignaturesAnnotations',
+    FormFillingSignatures = 'formFillingSignatures',
+    None = 'none',
+    NoChangesAllowed = 'noChangesAllowed'
+
+}
\ No newline at end of file
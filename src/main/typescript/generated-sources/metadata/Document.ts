@@ -0,0 +1,245 @@
+import {
+    TransitionsDocument,
+    MetadataInformation,
+    ModelStream,
+    HeadersFootersDocument,
+    PagesDocument,
+    Security,
+    ModelAssignment,
+    AnnotationsDocument,
+    BackgroundsDocument,
+    FormDocument,
+    FoldersDocument,
+    Parameter,
+    ImagesDocument,
+    SignaturesDocument,
+    AttachmentsDocument,
+    ModelEquality,
+} from "./../index";
+
+export interface DocumentInterface  {
+
+    annotations?: AnnotationsDocument;
+    attachments?: AttachmentsDocument;
+    backgrounds?: BackgroundsDocument;
+    folders?: FoldersDocument;
+    form?: FormDocument;
+    headersFooters?: HeadersFootersDocument;
+    images?: ImagesDocument;
+    information: MetadataInformation;
+    pages?: PagesDocument;
+    security: Security;
+    signatures?: SignaturesDocument;
+    transitions?: TransitionsDocument;
+
+}
+export class Document implements DocumentInterface, Parameter {
+    annotations?: AnnotationsDocument;
+    attachments?: AttachmentsDocument;
+    backgrounds?: BackgroundsDocument;
+    folders?: FoldersDocument;
+    form?: FormDocument;
+    headersFooters?: HeadersFootersDocument;
+    images?: ImagesDocument;
+    information: MetadataInformation;
+    pages?: PagesDocument;
+    security: Security;
+    signatures?: SignaturesDocument;
+    transitions?: TransitionsDocument;
+
+    constructor(data: any) {
+        this.annotations = AnnotationsDocument.fromJson(data?.annotations);
+        this.attachments = AttachmentsDocument.fromJson(data?.attachments);
+        this.backgrounds = BackgroundsDocument.fromJson(data?.backgrounds);
+        this.folders = FoldersDocument.fromJson(data?.folders);
+        this.form = FormDocument.fromJson(data?.form);
+        this.headersFooters = HeadersFootersDocument.fromJson(data?.headersFooters);
+        this.images = ImagesDocument.fromJson(data?.images);
+        this.information = MetadataInformation.fromJson(data.information);
+        this.pages = PagesDocument.fromJson(data?.pages);
+        this.security = Security.fromJson(data.security);
+        this.signatures = SignaturesDocument.fromJson(data?.signatures);
+        this.transitions = TransitionsDocument.fromJson(data?.transitions);
+    }
+
+    public static getAnnotationsDescription(): string {
+        return "";
+    }
+
+    public static getAttachmentsDescription(): string {
+        return "";
+    }
+
+    public static getBackgroundsDescription(): string {
+        return "";
+    }
+
+    public static getFoldersDescription(): string {
+        return "";
+    }
+
+    public static getFormDescription(): string {
+        return "";
+    }
+
+    public static getHeadersFootersDescription(): string {
+        return "";
+    }
+
+    public static getImagesDescription(): string {
+        return "";
+    }
+
+    public static getInformationDescription(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "";
+    }
+
+    public static getSecurityDescription(): string {
+        return "";
+    }
+
+    public static getSignaturesDescription(): string {
+        return "";
+    }
+
+    public static getTransitionsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Document {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Document(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Document> {
+        return ModelStream.decodeArray(source, Document.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'annotations': this.annotations?.toJson(),
+            'attachments': this.attachments?.toJson(),
+            'backgrounds': this.backgrounds?.toJson(),
+            'folders': this.folders?.toJson(),
+            'form': this.form?.toJson(),
+            'headersFooters': this.headersFooters?.toJson(),
+            'images': this.images?.toJson(),
+            'information': this.information?.toJson(),
+            'pages': this.pages?.toJson(),
+            'security': this.security?.toJson(),
+            'signatures': this.signatures?.toJson(),
+            'transitions': this.transitions?.toJson(),
+        };
+    }
+
+    public clone(): Document {
+        return Document.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "annotations", data?.annotations, AnnotationsDocument.fromJson, AnnotationsDocument) || changed;
+        changed = ModelAssignment.assignModel(this, "attachments", data?.attachments, AttachmentsDocument.fromJson, AttachmentsDocument) || changed;
+        changed = ModelAssignment.assignModel(this, "backgrounds", data?.backgrounds, BackgroundsDocument.fromJson, BackgroundsDocument) || changed;
+        changed = ModelAssignment.assignModel(this, "folders", data?.folders, FoldersDocument.fromJson, FoldersDocument) || changed;
+        changed = ModelAssignment.assignModel(this, "form", data?.form, FormDocument.fromJson, FormDocument) || changed;
+        changed = ModelAssignment.assignModel(this, "headersFooters", data?.headersFooters, HeadersFootersDocument.fromJson, HeadersFootersDocument) || changed;
+        changed = ModelAssignment.assignModel(this, "images", data?.images, ImagesDocument.fromJson, ImagesDocument) || changed;
+        changed = ModelAssignment.assignModel(this, "information", data.information, MetadataInformation.fromJson, MetadataInformation) || changed;
+        changed = ModelAssignment.assignModel(this, "pages", data?.pages, PagesDocument.fromJson, PagesDocument) || changed;
+        changed = ModelAssignment.assignModel(this, "security", data.security, Security.fromJson, Security) || changed;
+        changed = ModelAssignment.assignModel(this, "signatures", data?.signatures, SignaturesDocument.fromJson, SignaturesDocument) || changed;
+        changed = ModelAssignment.assignModel(this, "transitions", data?.transitions, TransitionsDocument.fromJson, TransitionsDocument) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.annotations, other.annotations)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.attachments, other.attachments)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.backgrounds, other.backgrounds)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.folders, other.folders)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.form, other.form)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.headersFooters, other.headersFooters)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.images, other.images)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.information, other.information)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.security, other.security)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signatures, other.signatures)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.transitions, other.transitions)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.annotations);
+        hash = ModelEquality.hash(hash, this.attachments);
+        hash = ModelEquality.hash(hash, this.backgrounds);
+        hash = ModelEquality.hash(hash, this.folders);
+        hash = ModelEquality.hash(hash, this.form);
+        hash = ModelEquality.hash(hash, this.headersFooters);
+        hash = ModelEquality.hash(hash, this.images);
+        hash = ModelEquality.hash(hash, this.information);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.security);
+        hash = ModelEquality.hash(hash, this.signatures);
+        hash = ModelEquality.hash(hash, this.transitions);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Document(";
+        fingerprint += ModelEquality.fingerprint(this.annotations) + ",";
+        fingerprint += ModelEquality.fingerprint(this.attachments) + ",";
+        fingerprint += ModelEquality.fingerprint(this.backgrounds) + ",";
+        fingerprint += ModelEquality.fingerprint(this.folders) + ",";
+        fingerprint += ModelEquality.fingerprint(this.form) + ",";
+        fingerprint += ModelEquality.fingerprint(this.headersFooters) + ",";
+        fingerprint += ModelEquality.fingerprint(this.images) + ",";
+        fingerprint += ModelEquality.fingerprint(this.information) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.security) + ",";
+        fingerprint += ModelEquality.fingerprint(this.signatures) + ",";
+        fingerprint += ModelEquality.fingerprint(this.transitions) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
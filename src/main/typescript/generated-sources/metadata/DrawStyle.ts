@@ -0,0 +1,91 @@
+import {
+    ModelAssignment,
+    MetadataDrawMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface DrawStyleInterface  {
+
+    /**
+    * Selects the draw style of an drawable shape.  *   fill = fill the shape *   stroke = draw the outlines of the shape *   fillAndStroke = draw the outlines and fill the shape
+    */
+    drawMode?: MetadataDrawMode;
+
+}
+export class DrawStyle implements DrawStyleInterface, Parameter {
+    /**
+    * Selects the draw style of an drawable shape.  *   fill = fill the shape *   stroke = draw the outlines of the shape *   fillAndStroke = draw the outlines and fill the shape
+    */
+    drawMode?: MetadataDrawMode;
+
+    constructor(data: any) {
+        let drawModeDefault: any = "stroke";
+        this.drawMode = typeof data?.drawMode !== "undefined" ? data?.drawMode : drawModeDefault;
+    }
+
+    public static getDrawModeDefault(): MetadataDrawMode {
+        return "stroke" as MetadataDrawMode;
+    }
+
+    public static getDrawModeDescription(): string {
+        return "Selects the draw style of an drawable shape.\n\n*   fill = fill the shape\n*   stroke = draw the outlines of the shape\n*   fillAndStroke = draw the outlines and fill the shape";
+    }
+
+    public static fromJson(data: any): DrawStyle {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new DrawStyle(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<DrawStyle> {
+        return ModelStream.decodeArray(source, DrawStyle.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'drawMode': this.drawMode,
+        };
+    }
+
+    public clone(): DrawStyle {
+        return DrawStyle.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "drawMode", typeof data?.drawMode !== "undefined" ? data?.drawMode : "stroke") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.drawMode, other.drawMode)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.drawMode);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "DrawStyle(";
+        fingerprint += ModelEquality.fingerprint(this.drawMode) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,453 @@
+import {
+    ModelAssignment,
+    FormValueStyle,
+    MetadataSignature,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    Annotation,
+} from "./../index";
+
+export interface FieldInterface  {
+
+    /**
+    * The alternate name of the form field.
+    */
+    alternateName?: string;
+    /**
+    * Selects the visible representation (widget annotation) for the form field.
+    */
+    annotation?: Array<Annotation>;
+    /**
+    * The textual content of the form field. A single string or a comma-separated list of string values for list types.
+    */
+    content?: string;
+    /**
+    * The fully qualified name of the form field.
+    */
+    fullyQualifiedName?: string;
+    /**
+    * When set to true, the field contains rich text formatted content.
+    */
+    isRichText?: boolean;
+    /**
+    * The mapping name of the form field.
+    */
+    mappingName?: string;
+    /**
+    * When set to true, the form field allows multiple items to be seleted.
+    */
+    multiSelect?: boolean;
+    /**
+    * The partial name of the form field.
+    */
+    name?: string;
+    /**
+    * When set to true, the form field shall not be included in exports of the document's form data.
+    */
+    noExport?: boolean;
+    /**
+    * The object ID of the form field. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * When set to true, the form field's contents may be displayed but not altered.
+    */
+    readOnly?: boolean;
+    /**
+    * When set to true, the form field must be filled in.
+    */
+    required?: boolean;
+    signature?: MetadataSignature;
+    /**
+    * The implementation name of the the form field.
+    */
+    subType?: string;
+    /**
+    * Indicates the type of the form field.  *   Btn = Button *   Tx = Textfield *   Ch = Choicefield *   Sig = Signaturefield
+    */
+    type?: string;
+    value?: Array<FormValueStyle>;
+
+}
+export class Field implements FieldInterface, Parameter {
+    /**
+    * The alternate name of the form field.
+    */
+    alternateName?: string;
+    /**
+    * Selects the visible representation (widget annotation) for the form field.
+    */
+    annotation?: Array<Annotation>;
+    /**
+    * The textual content of the form field. A single string or a comma-separated list of string values for list types.
+    */
+    content?: string;
+    /**
+    * The fully qualified name of the form field.
+    */
+    fullyQualifiedName?: string;
+    /**
+    * When set to true, the field contains rich text formatted content.
+    */
+    isRichText?: boolean;
+    /**
+    * The mapping name of the form field.
+    */
+    mappingName?: string;
+    /**
+    * When set to true, the form field allows multiple items to be seleted.
+    */
+    multiSelect?: boolean;
+    /**
+    * The partial name of the form field.
+    */
+    name?: string;
+    /**
+    * When set to true, the form field shall not be included in exports of the document's form data.
+    */
+    noExport?: boolean;
+    /**
+    * The object ID of the form field. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * When set to true, the form field's contents may be displayed but not altered.
+    */
+    readOnly?: boolean;
+    /**
+    * When set to true, the form field must be filled in.
+    */
+    required?: boolean;
+    signature?: MetadataSignature;
+    /**
+    * The implementation name of the the form field.
+    */
+    subType?: string;
+    /**
+    * Indicates the type of the form field.  *   Btn = Button *   Tx = Textfield *   Ch = Choicefield *   Sig = Signaturefield
+    */
+    type?: string;
+    value?: Array<FormValueStyle>;
+
+    constructor(data: any) {
+        let alternateNameDefault: any = "";
+        this.alternateName = typeof data?.alternateName !== "undefined" ? data?.alternateName : alternateNameDefault;
+        this.annotation = (data?.annotation || []).map(
+            Annotation.fromJson
+        );
+        let contentDefault: any = "";
+        this.content = typeof data?.content !== "undefined" ? data?.content : contentDefault;
+        let fullyQualifiedNameDefault: any = "";
+        this.fullyQualifiedName = typeof data?.fullyQualifiedName !== "undefined" ? data?.fullyQualifiedName : fullyQualifiedNameDefault;
+        let isRichTextDefault: any = false;
+        this.isRichText = typeof data?.isRichText !== "undefined" ? data?.isRichText : isRichTextDefault;
+        let mappingNameDefault: any = "";
+        this.mappingName = typeof data?.mappingName !== "undefined" ? data?.mappingName : mappingNameDefault;
+        let multiSelectDefault: any = false;
+        this.multiSelect = typeof data?.multiSelect !== "undefined" ? data?.multiSelect : multiSelectDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let noExportDefault: any = false;
+        this.noExport = typeof data?.noExport !== "undefined" ? data?.noExport : noExportDefault;
+        let objectKeyDefault: any = "";
+        this.objectKey = typeof data?.objectKey !== "undefined" ? data?.objectKey : objectKeyDefault;
+        let readOnlyDefault: any = false;
+        this.readOnly = typeof data?.readOnly !== "undefined" ? data?.readOnly : readOnlyDefault;
+        let requiredDefault: any = false;
+        this.required = typeof data?.required !== "undefined" ? data?.required : requiredDefault;
+        this.signature = MetadataSignature.fromJson(data?.signature);
+        let subTypeDefault: any = "";
+        this.subType = typeof data?.subType !== "undefined" ? data?.subType : subTypeDefault;
+        let typeDefault: any = "";
+        this.type = typeof data?.type !== "undefined" ? data?.type : typeDefault;
+        this.value = (data?.value || []).map(
+            FormValueStyle.fromJson
+        );
+    }
+
+    public static getAlternateNameDefault(): string {
+        return "";
+    }
+
+    public static getAlternateNameDescription(): string {
+        return "The alternate name of the form field.";
+    }
+
+    public static getAnnotationDefault(): Array<Annotation> {
+        return [];
+    }
+
+    public static getAnnotationDescription(): string {
+        return "Selects the visible representation (widget annotation) for the form field.";
+    }
+
+    public static getContentDefault(): string {
+        return "";
+    }
+
+    public static getContentDescription(): string {
+        return "The textual content of the form field. A single string or a comma-separated list of string values for list types.";
+    }
+
+    public static getFullyQualifiedNameDefault(): string {
+        return "";
+    }
+
+    public static getFullyQualifiedNameDescription(): string {
+        return "The fully qualified name of the form field.";
+    }
+
+    public static getIsRichTextDefault(): boolean {
+        return false;
+    }
+
+    public static getIsRichTextDescription(): string {
+        return "When set to true, the field contains rich text formatted content.";
+    }
+
+    public static getMappingNameDefault(): string {
+        return "";
+    }
+
+    public static getMappingNameDescription(): string {
+        return "The mapping name of the form field.";
+    }
+
+    public static getMultiSelectDefault(): boolean {
+        return false;
+    }
+
+    public static getMultiSelectDescription(): string {
+        return "When set to true, the form field allows multiple items to be seleted.";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The partial name of the form field.";
+    }
+
+    public static getNoExportDefault(): boolean {
+        return false;
+    }
+
+    public static getNoExportDescription(): string {
+        return "When set to true, the form field shall not be included in exports of the document's form data.";
+    }
+
+    public static getObjectKeyDefault(): string {
+        return "";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "The object ID of the form field. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static getReadOnlyDefault(): boolean {
+        return false;
+    }
+
+    public static getReadOnlyDescription(): string {
+        return "When set to true, the form field's contents may be displayed but not altered.";
+    }
+
+    public static getRequiredDefault(): boolean {
+        return false;
+    }
+
+    public static getRequiredDescription(): string {
+        return "When set to true, the form field must be filled in.";
+    }
+
+    public static getSignatureDescription(): string {
+        return "";
+    }
+
+    public static getSubTypeDefault(): string {
+        return "";
+    }
+
+    public static getSubTypeDescription(): string {
+        return "The implementation name of the the form field.";
+    }
+
+    public static getTypeDefault(): string {
+        return "";
+    }
+
+    public static getTypeDescription(): string {
+        return "Indicates the type of the form field.\n\n*   Btn = Button\n*   Tx = Textfield\n*   Ch = Choicefield\n*   Sig = Signaturefield";
+    }
+
+    public static getValueDefault(): Array<FormValueStyle> {
+        return [];
+    }
+
+    public static getValueDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Field {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Field(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Field> {
+        return ModelStream.decodeArray(source, Field.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'alternateName': this.alternateName,
+            'annotation': this.annotation?.map((data) => data.toJson()),
+            'content': this.content,
+            'fullyQualifiedName': this.fullyQualifiedName,
+            'isRichText': this.isRichText,
+            'mappingName': this.mappingName,
+            'multiSelect': this.multiSelect,
+            'name': this.name,
+            'noExport': this.noExport,
+            'objectKey': this.objectKey,
+            'readOnly': this.readOnly,
+            'required': this.required,
+            'signature': this.signature?.toJson(),
+            'subType': this.subType,
+            'type': this.type,
+            'value': this.value?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): Field {
+        return Field.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "alternateName", typeof data?.alternateName !== "undefined" ? data?.alternateName : "") || changed;
+        changed = ModelAssignment.assignArray(this, "annotation", data?.annotation, Annotation.fromJson, Annotation) || changed;
+        changed = ModelAssignment.assignValue(this, "content", typeof data?.content !== "undefined" ? data?.content : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fullyQualifiedName", typeof data?.fullyQualifiedName !== "undefined" ? data?.fullyQualifiedName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "isRichText", typeof data?.isRichText !== "undefined" ? data?.isRichText : false) || changed;
+        changed = ModelAssignment.assignValue(this, "mappingName", typeof data?.mappingName !== "undefined" ? data?.mappingName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "multiSelect", typeof data?.multiSelect !== "undefined" ? data?.multiSelect : false) || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "noExport", typeof data?.noExport !== "undefined" ? data?.noExport : false) || changed;
+        changed = ModelAssignment.assignValue(this, "objectKey", typeof data?.objectKey !== "undefined" ? data?.objectKey : "") || changed;
+        changed = ModelAssignment.assignValue(this, "readOnly", typeof data?.readOnly !== "undefined" ? data?.readOnly : false) || changed;
+        changed = ModelAssignment.assignValue(this, "required", typeof data?.required !== "undefined" ? data?.required : false) || changed;
+        changed = ModelAssignment.assignModel(this, "signature", data?.signature, MetadataSignature.fromJson, MetadataSignature) || changed;
+        changed = ModelAssignment.assignValue(this, "subType", typeof data?.subType !== "undefined" ? data?.subType : "") || changed;
+        changed = ModelAssignment.assignValue(this, "type", typeof data?.type !== "undefined" ? data?.type : "") || changed;
+        changed = ModelAssignment.assignArray(this, "value", data?.value, FormValueStyle.fromJson, FormValueStyle) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.alternateName, other.alternateName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.annotation, other.annotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.content, other.content)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fullyQualifiedName, other.fullyQualifiedName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isRichText, other.isRichText)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mappingName, other.mappingName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.multiSelect, other.multiSelect)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.noExport, other.noExport)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.readOnly, other.readOnly)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.required, other.required)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signature, other.signature)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.subType, other.subType)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.type, other.type)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.value, other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.alternateName);
+        hash = ModelEquality.hash(hash, this.annotation);
+        hash = ModelEquality.hash(hash, this.content);
+        hash = ModelEquality.hash(hash, this.fullyQualifiedName);
+        hash = ModelEquality.hash(hash, this.isRichText);
+        hash = ModelEquality.hash(hash, this.mappingName);
+        hash = ModelEquality.hash(hash, this.multiSelect);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.noExport);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.readOnly);
+        hash = ModelEquality.hash(hash, this.required);
+        hash = ModelEquality.hash(hash, this.signature);
+        hash = ModelEquality.hash(hash, this.subType);
+        hash = ModelEquality.hash(hash, this.type);
+        hash = ModelEquality.hash(hash, this.value);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Field(";
+        fingerprint += ModelEquality.fingerprint(this.alternateName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.annotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.content) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fullyQualifiedName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isRichText) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mappingName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.multiSelect) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.noExport) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.readOnly) + ",";
+        fingerprint += ModelEquality.fingerprint(this.required) + ",";
+        fingerprint += ModelEquality.fingerprint(this.signature) + ",";
+        fingerprint += ModelEquality.fingerprint(this.subType) + ",";
+        fingerprint += ModelEquality.fingerprint(this.type) + ",";
+        fingerprint += ModelEquality.fingerprint(this.value) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
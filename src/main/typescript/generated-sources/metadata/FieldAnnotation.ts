@@ -0,0 +1,180 @@
+import {
+    ModelAssignment,
+    MetadataSignature,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FieldAnnotationInterface  {
+
+    /**
+    * The alternate name of the annotation´s field.
+    */
+    alternateName?: string;
+    /**
+    * The mapping name of the annotation´s field.
+    */
+    mappingName?: string;
+    /**
+    * The partial name of the annotation´s field.
+    */
+    name?: string;
+    signature?: MetadataSignature;
+    /**
+    * Indicates the type of the annotation´s field.  *   Btn = Button *   Tx = Textfield *   Ch = Choicefield *   Sig = Signaturefield
+    */
+    type?: string;
+
+}
+export class FieldAnnotation implements FieldAnnotationInterface, Parameter {
+    /**
+    * The alternate name of the annotation´s field.
+    */
+    alternateName?: string;
+    /**
+    * The mapping name of the annotation´s field.
+    */
+    mappingName?: string;
+    /**
+    * The partial name of the annotation´s field.
+    */
+    name?: string;
+    signature?: MetadataSignature;
+    /**
+    * Indicates the type of the annotation´s field.  *   Btn = Button *   Tx = Textfield *   Ch = Choicefield *   Sig = Signaturefield
+    */
+    type?: string;
+
+    constructor(data: any) {
+        let alternateNameDefault: any = "";
+        this.alternateName = typeof data?.alternateName !== "undefined" ? data?.alternateName : alternateNameDefault;
+        let mappingNameDefault: any = "";
+        this.mappingName = typeof data?.mappingName !== "undefined" ? data?.mappingName : mappingNameDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        this.signature = MetadataSignature.fromJson(data?.signature);
+        let typeDefault: any = "";
+        this.type = typeof data?.type !== "undefined" ? data?.type : typeDefault;
+    }
+
+    public static getAlternateNameDefault(): string {
+        return "";
+    }
+
+    public static getAlternateNameDescription(): string {
+        return "The alternate name of the annotation\u00B4s field.";
+    }
+
+    public static getMappingNameDefault(): string {
+        return "";
+    }
+
+    public static getMappingNameDescription(): string {
+        return "The mapping name of the annotation\u00B4s field.";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The partial name of the annotation\u00B4s field.";
+    }
+
+    public static getSignatureDescription(): string {
+        return "";
+    }
+
+    public static getTypeDefault(): string {
+        return "";
+    }
+
+    public static getTypeDescription(): string {
+        return "Indicates the type of the annotation\u00B4s field.\n\n*   Btn = Button\n*   Tx = Textfield\n*   Ch = Choicefield\n*   Sig = Signaturefield";
+    }
+
+    public static fromJson(data: any): FieldAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FieldAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FieldAnnotation> {
+        return ModelStream.decodeArray(source, FieldAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'alternateName': this.alternateName,
+            'mappingName': this.mappingName,
+            'name': this.name,
+            'signature': this.signature?.toJson(),
+            'type': this.type,
+        };
+    }
+
+    public clone(): FieldAnnotation {
+        return FieldAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "alternateName", typeof data?.alternateName !== "undefined" ? data?.alternateName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "mappingName", typeof data?.mappingName !== "undefined" ? data?.mappingName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignModel(this, "signature", data?.signature, MetadataSignature.fromJson, MetadataSignature) || changed;
+        changed = ModelAssignment.assignValue(this, "type", typeof data?.type !== "undefined" ? data?.type : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.alternateName, other.alternateName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mappingName, other.mappingName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signature, other.signature)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.type, other.type)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.alternateName);
+        hash = ModelEquality.hash(hash, this.mappingName);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.signature);
+        hash = ModelEquality.hash(hash, this.type);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FieldAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.alternateName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mappingName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.signature) + ",";
+        fingerprint += ModelEquality.fingerprint(this.type) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FolderInterface  {
+
+    /**
+    * The date of the folder's creation.
+    */
+    creationDate?: string;
+    /**
+    * The numeric folder ID of the portfolio folder.
+    */
+    id?: number;
+    /**
+    * The date of the last modification of the folder.
+    */
+    modificationDate?: string;
+    /**
+    * The name of the folder.
+    */
+    name?: string;
+    /**
+    * The path the folder is positioned at.
+    */
+    path?: string;
+
+}
+export class Folder implements FolderInterface, Parameter {
+    /**
+    * The date of the folder's creation.
+    */
+    creationDate?: string;
+    /**
+    * The numeric folder ID of the portfolio folder.
+    */
+    id?: number;
+    /**
+    * The date of the last modification of the folder.
+    */
+    modificationDate?: string;
+    /**
+    * The name of the folder.
+    */
+    name?: string;
+    /**
+    * The path the folder is positioned at.
+    */
+    path?: string;
+
+    constructor(data: any) {
+        let creationDateDefault: any = "";
+        this.creationDate = typeof data?.creationDate !== "undefined" ? data?.creationDate : creationDateDefault;
+        let idDefault: any = 0;
+        this.id = typeof data?.id !== "undefined" ? data?.id : idDefault;
+        let modificationDateDefault: any = "";
+        this.modificationDate = typeof data?.modificationDate !== "undefined" ? data?.modificationDate : modificationDateDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let pathDefault: any = "";
+        this.path = typeof data?.path !== "undefined" ? data?.path : pathDefault;
+    }
+
+    public static getCreationDateDefault(): string {
+        return "";
+    }
+
+    public static getCreationDateDescription(): string {
+        return "The date of the folder's creation.";
+    }
+
+    public static getIdDefault(): number {
+        return 0;
+    }
+
+    public static getIdDescription(): string {
+        return "The numeric folder ID of the portfolio folder.";
+    }
+
+    public static getModificationDateDefault(): string {
+        return "";
+    }
+
+    public static getModificationDateDescription(): string {
+        return "The date of the last modification of the folder.";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The name of the folder.";
+    }
+
+    public static getPathDefault(): string {
+        return "";
+    }
+
+    public static getPathDescription(): string {
+        return "The path the folder is positioned at.";
+    }
+
+    public static fromJson(data: any): Folder {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Folder(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Folder> {
+        return ModelStream.decodeArray(source, Folder.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'creationDate': this.creationDate,
+            'id': this.id,
+            'modificationDate': this.modificationDate,
+            'name': this.name,
+            'path': this.path,
+        };
+    }
+
+    public clone(): Folder {
+        return Folder.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "creationDate", typeof data?.creationDate !== "undefined" ? data?.creationDate : "") || changed;
+        changed = ModelAssignment.assignValue(this, "id", typeof data?.id !== "undefined" ? data?.id : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "modificationDate", typeof data?.modificationDate !== "undefined" ? data?.modificationDate : "") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "path", typeof data?.path !== "undefined" ? data?.path : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.creationDate, other.creationDate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.id, other.id)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.modificationDate, other.modificationDate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.path, other.path)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.creationDate);
+        hash = ModelEquality.hash(hash, this.id);
+        hash = ModelEquality.hash(hash, this.modificationDate);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.path);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Folder(";
+        fingerprint += ModelEquality.fingerprint(this.creationDate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.id) + ",";
+        fingerprint += ModelEquality.fingerprint(this.modificationDate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.path) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
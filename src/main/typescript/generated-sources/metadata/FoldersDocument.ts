@@ -0,0 +1,111 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    Folder,
+} from "./../index";
+
+export interface FoldersDocumentInterface  {
+
+    folder?: Array<Folder>;
+    /**
+    * The object ID of the initially visible attachment.  **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    initialFile?: string;
+
+}
+export class FoldersDocument implements FoldersDocumentInterface, Parameter {
+    folder?: Array<Folder>;
+    /**
+    * The object ID of the initially visible attachment.  **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    initialFile?: string;
+
+    constructor(data: any) {
+        this.folder = (data?.folder || []).map(
+            Folder.fromJson
+        );
+        let initialFileDefault: any = "";
+        this.initialFile = typeof data?.initialFile !== "undefined" ? data?.initialFile : initialFileDefault;
+    }
+
+    public static getFolderDefault(): Array<Folder> {
+        return [];
+    }
+
+    public static getFolderDescription(): string {
+        return "";
+    }
+
+    public static getInitialFileDefault(): string {
+        return "";
+    }
+
+    public static getInitialFileDescription(): string {
+        return "The object ID of the initially visible attachment.\n\n**Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static fromJson(data: any): FoldersDocument {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FoldersDocument(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FoldersDocument> {
+        return ModelStream.decodeArray(source, FoldersDocument.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'folder': this.folder?.map((data) => data.toJson()),
+            'initialFile': this.initialFile,
+        };
+    }
+
+    public clone(): FoldersDocument {
+        return FoldersDocument.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "folder", data?.folder, Folder.fromJson, Folder) || changed;
+        changed = ModelAssignment.assignValue(this, "initialFile", typeof data?.initialFile !== "undefined" ? data?.initialFile : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.folder, other.folder)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.initialFile, other.initialFile)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.folder);
+        hash = ModelEquality.hash(hash, this.initialFile);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FoldersDocument(";
+        fingerprint += ModelEquality.fingerprint(this.folder) + ",";
+        fingerprint += ModelEquality.fingerprint(this.initialFile) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
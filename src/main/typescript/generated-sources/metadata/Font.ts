@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FontInterface  {
+
+    /**
+    * The name of the used font.
+    */
+    name?: string;
+    /**
+    * The size of the font.
+    */
+    size?: number;
+    /**
+    * When set to true, the text shall be underlined.
+    */
+    underline?: boolean;
+
+}
+export class Font implements FontInterface, Parameter {
+    /**
+    * The name of the used font.
+    */
+    name?: string;
+    /**
+    * The size of the font.
+    */
+    size?: number;
+    /**
+    * When set to true, the text shall be underlined.
+    */
+    underline?: boolean;
+
+    constructor(data: any) {
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let sizeDefault: any = 10;
+        this.size = typeof data?.size !== "undefined" ? data?.size : sizeDefault;
+        let underlineDefault: any = false;
+        this.underline = typeof data?.underline !== "undefined" ? data?.underline : underlineDefault;
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The name of the used font.";
+    }
+
+    public static getSizeDefault(): number {
+        return 10;
+    }
+
+    public static getSizeDescription(): string {
+        return "The size of the font.";
+    }
+
+    public static getUnderlineDefault(): boolean {
+        return false;
+    }
+
+    public static getUnderlineDescription(): string {
+        return "When set to true, the text shall be underlined.";
+    }
+
+    public static fromJson(data: any): Font {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Font(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Font> {
+        return ModelStream.decodeArray(source, Font.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'name': this.name,
+            'size': this.size,
+            'underline': this.underline,
+        };
+    }
+
+    public clone(): Font {
+        return Font.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "size", typeof data?.size !== "undefined" ? data?.size : 10) || changed;
+        changed = ModelAssignment.assignValue(this, "underline", typeof data?.underline !== "undefined" ? data?.underline : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.size, other.size)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.underline, other.underline)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.size);
+        hash = ModelEquality.hash(hash, this.underline);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Font(";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.size) + ",";
+        fingerprint += ModelEquality.fingerprint(this.underline) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+import {
+    ModelAssignment,
+    Field,
+    MetadataFormsFormat,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FormDocumentInterface  {
+
+    /**
+    * If present, this contains the default appearance of the form's fields. This shall be a string containing graphics and text state operators for example defining text colors, sizes etc.
+    */
+    defaultAppearance?: string;
+    field?: Array<Field>;
+    /**
+    * When set to another value than \"none\", the document does contain a PDF form in the hereby given format.  *   none = The document does not contain a form. *   acroForm = The document contains a standard PDF Acroform. *   staticXFA = The document contains a \"XML Forms Architecture\" form with a fixed layout (static). *   dynamicXFA = The document contains a \"XML Forms Architecture\" form with an adaptable/interactive layout (dynamic).
+    */
+    formType?: MetadataFormsFormat;
+    /**
+    * When set to \"true\" the displaying Application shall generate appearances for all widgets defining the document's form.
+    */
+    needAppearances?: boolean;
+    /**
+    * The object ID of the form.  **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+
+}
+export class FormDocument implements FormDocumentInterface, Parameter {
+    /**
+    * If present, this contains the default appearance of the form's fields. This shall be a string containing graphics and text state operators for example defining text colors, sizes etc.
+    */
+    defaultAppearance?: string;
+    field?: Array<Field>;
+    /**
+    * When set to another value than \"none\", the document does contain a PDF form in the hereby given format.  *   none = The document does not contain a form. *   acroForm = The document contains a standard PDF Acroform. *   staticXFA = The document contains a \"XML Forms Architecture\" form with a fixed layout (static). *   dynamicXFA = The document contains a \"XML Forms Architecture\" form with an adaptable/interactive layout (dynamic).
+    */
+    formType?: MetadataFormsFormat;
+    /**
+    * When set to \"true\" the displaying Application shall generate appearances for all widgets defining the document's form.
+    */
+    needAppearances?: boolean;
+    /**
+    * The object ID of the form.  **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+
+    constructor(data: any) {
+        let defaultAppearanceDefault: any = "";
+        this.defaultAppearance = typeof data?.defaultAppearance !== "undefined" ? data?.defaultAppearance : defaultAppearanceDefault;
+        this.field = (data?.field || []).map(
+            Field.fromJson
+        );
+        let formTypeDefault: any = "none";
+        this.formType = typeof data?.formType !== "undefined" ? data?.formType : formTypeDefault;
+        let needAppearancesDefault: any = false;
+        this.needAppearances = typeof data?.needAppearances !== "undefined" ? data?.needAppearances : needAppearancesDefault;
+        let objectKeyDefault: any = "";
+        this.objectKey = typeof data?.objectKey !== "undefined" ? data?.objectKey : objectKeyDefault;
+    }
+
+    public static getDefaultAppearanceDefault(): string {
+        return "";
+    }
+
+    public static getDefaultAppearanceDescription(): string {
+        return "If present, this contains the default appearance of the form's fields. This shall be a string containing graphics and text state operators for example defining text colors, sizes etc.";
+    }
+
+    public static getFieldDefault(): Array<Field> {
+        return [];
+    }
+
+    public static getFieldDescription(): string {
+        return "";
+    }
+
+    public static getFormTypeDefault(): MetadataFormsFormat {
+        return "none" as MetadataFormsFormat;
+    }
+
+    public static getFormTypeDescription(): string {
+        return "When set to another value than \"none\", the document does contain a PDF form in the hereby given format.\n\n*   none = The document does not contain a form.\n*   acroForm = The document contains a standard PDF Acroform.\n*   staticXFA = The document contains a \"XML Forms Architecture\" form with a fixed layout (static).\n*   dynamicXFA = The document contains a \"XML Forms Architecture\" form with an adaptable\/interactive layout (dynamic).";
+    }
+
+    public static getNeedAppearancesDefault(): boolean {
+        return false;
+    }
+
+    public static getNeedAppearancesDescription(): string {
+        return "When set to \"true\" the displaying Application shall generate appearances for all widgets defining the document's form.";
+    }
+
+    public static getObjectKeyDefault(): string {
+        return "";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "The object ID of the form.\n\n**Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static fromJson(data: any): FormDocument {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FormDocument(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FormDocument> {
+        return ModelStream.decodeArray(source, FormDocument.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'defaultAppearance': this.defaultAppearance,
+            'field': this.field?.map((data) => data.toJson()),
+            'formType': this.formType,
+            'needAppearances': this.needAppearances,
+            'objectKey': this.objectKey,
+        };
+    }
+
+    public clone(): FormDocument {
+        return FormDocument.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "defaultAppearance", typeof data?.defaultAppearance !== "undefined" ? data?.defaultAppearance : "") || changed;
+        changed = ModelAssignment.assignArray(this, "field", data?.field, Field.fromJson, Field) || changed;
+        changed = ModelAssignment.assignValue(this, "formType", typeof data?.formType !== "undefined" ? data?.formType : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "needAppearances", typeof data?.needAppearances !== "undefined" ? data?.needAppearances : false) || changed;
+        changed = ModelAssignment.assignValue(this, "objectKey", typeof data?.objectKey !== "undefined" ? data?.objectKey : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.defaultAppearance, other.defaultAppearance)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.field, other.field)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.formType, other.formType)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.needAppearances, other.needAppearances)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.defaultAppearance);
+        hash = ModelEquality.hash(hash, this.field);
+        hash = ModelEquality.hash(hash, this.formType);
+        hash = ModelEquality.hash(hash, this.needAppearances);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FormDocument(";
+        fingerprint += ModelEquality.fingerprint(this.defaultAppearance) + ",";
+        fingerprint += ModelEquality.fingerprint(this.field) + ",";
+        fingerprint += ModelEquality.fingerprint(this.formType) + ",";
+        fingerprint += ModelEquality.fingerprint(this.needAppearances) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
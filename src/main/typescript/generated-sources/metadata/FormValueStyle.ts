@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FormValueStyleInterface  {
+
+    /**
+    * The displayable value.
+    */
+    display?: string;
+    /**
+    * The exportable value.
+    */
+    _export?: string;
+    /**
+    * True, if the given value is the default of the connected form field.
+    */
+    isDefault?: boolean;
+
+}
+export class FormValueStyle implements FormValueStyleInterface, Parameter {
+    /**
+    * The displayable value.
+    */
+    display?: string;
+    /**
+    * The exportable value.
+    */
+    _export?: string;
+    /**
+    * True, if the given value is the default of the connected form field.
+    */
+    isDefault?: boolean;
+
+    constructor(data: any) {
+        let displayDefault: any = "";
+        this.display = typeof data?.display !== "undefined" ? data?.display : displayDefault;
+        let exportDefault: any = "";
+        this._export = typeof data?.export !== "undefined" ? data?.export : exportDefault;
+        let isDefaultDefault: any = false;
+        this.isDefault = typeof data?.isDefault !== "undefined" ? data?.isDefault : isDefaultDefault;
+    }
+
+    public static getDisplayDefault(): string {
+        return "";
+    }
+
+    public static getDisplayDescription(): string {
+        return "The displayable value.";
+    }
+
+    public static getExportDefault(): string {
+        return "";
+    }
+
+    public static getExportDescription(): string {
+        return "The exportable value.";
+    }
+
+    public static getIsDefaultDefault(): boolean {
+        return false;
+    }
+
+    public static getIsDefaultDescription(): string {
+        return "True, if the given value is the default of the connected form field.";
+    }
+
+    public static fromJson(data: any): FormValueStyle {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FormValueStyle(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FormValueStyle> {
+        return ModelStream.decodeArray(source, FormValueStyle.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'display': this.display,
+            'export': this._export,
+            'isDefault': this.isDefault,
+        };
+    }
+
+    public clone(): FormValueStyle {
+        return FormValueStyle.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "display", typeof data?.display !== "undefined" ? data?.display : "") || changed;
+        changed = ModelAssignment.assignValue(this, "_export", typeof data?.export !== "undefined" ? data?.export : "") || changed;
+        changed = ModelAssignment.assignValue(this, "isDefault", typeof data?.isDefault !== "undefined" ? data?.isDefault : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.display, other.display)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this._export, other._export)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isDefault, other.isDefault)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.display);
+        hash = ModelEquality.hash(hash, this._export);
+        hash = ModelEquality.hash(hash, this.isDefault);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FormValueStyle(";
+        fingerprint += ModelEquality.fingerprint(this.display) + ",";
+        fingerprint += ModelEquality.fingerprint(this._export) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isDefault) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface GroupRelationInterface  {
+
+    /**
+    * The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectID?: string;
+
+}
+export class GroupRelation implements GroupRelationInterface, Parameter {
+    /**
+    * The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectID?: string;
+
+    constructor(data: any) {
+        let objectIDDefault: any = "";
+        this.objectID = typeof data?.objectID !== "undefined" ? data?.objectID : objectIDDefault;
+    }
+
+    public static getObjectIDDefault(): string {
+        return "";
+    }
+
+    public static getObjectIDDescription(): string {
+        return "The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static fromJson(data: any): GroupRelation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new GroupRelation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<GroupRelation> {
+        return ModelStream.decodeArray(source, GroupRelation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'objectID': this.objectID,
+        };
+    }
+
+    public clone(): GroupRelation {
+        return GroupRelation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "objectID", typeof data?.objectID !== "undefined" ? data?.objectID : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectID, other.objectID)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.objectID);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "GroupRelation(";
+        fingerprint += ModelEquality.fingerprint(this.objectID) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface HeaderHeaderFooterInterface  {
+
+    /**
+    * The value displayed at the center of the header.
+    */
+    center?: string;
+    /**
+    * The value displayed at the left of the header.
+    */
+    left?: string;
+    /**
+    * The value displayed at the right of the header.
+    */
+    right?: string;
+
+}
+export class HeaderHeaderFooter implements HeaderHeaderFooterInterface, Parameter {
+    /**
+    * The value displayed at the center of the header.
+    */
+    center?: string;
+    /**
+    * The value displayed at the left of the header.
+    */
+    left?: string;
+    /**
+    * The value displayed at the right of the header.
+    */
+    right?: string;
+
+    constructor(data: any) {
+        let centerDefault: any = "";
+        this.center = typeof data?.center !== "undefined" ? data?.center : centerDefault;
+        let leftDefault: any = "";
+        this.left = typeof data?.left !== "undefined" ? data?.left : leftDefault;
+        let rightDefault: any = "";
+        this.right = typeof data?.right !== "undefined" ? data?.right : rightDefault;
+    }
+
+    public static getCenterDefault(): string {
+        return "";
+    }
+
+    public static getCenterDescription(): string {
+        return "The value displayed at the center of the header.";
+    }
+
+    public static getLeftDefault(): string {
+        return "";
+    }
+
+    public static getLeftDescription(): string {
+        return "The value displayed at the left of the header.";
+    }
+
+    public static getRightDefault(): string {
+        return "";
+    }
+
+    public static getRightDescription(): string {
+        return "The value displayed at the right of the header.";
+    }
+
+    public static fromJson(data: any): HeaderHeaderFooter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HeaderHeaderFooter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HeaderHeaderFooter> {
+        return ModelStream.decodeArray(source, HeaderHeaderFooter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'center': this.center,
+            'left': this.left,
+            'right': this.right,
+        };
+    }
+
+    public clone(): HeaderHeaderFooter {
+        return HeaderHeaderFooter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "center", typeof data?.center !== "undefined" ? data?.center : "") || changed;
+        changed = ModelAssignment.assignValue(this, "left", typeof data?.left !== "undefined" ? data?.left : "") || changed;
+        changed = ModelAssignment.assignValue(this, "right", typeof data?.right !== "undefined" ? data?.right : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.center, other.center)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.left, other.left)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.right, other.right)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.center);
+        hash = ModelEquality.hash(hash, this.left);
+        hash = ModelEquality.hash(hash, this.right);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HeaderHeaderFooter(";
+        fingerprint += ModelEquality.fingerprint(this.center) + ",";
+        fingerprint += ModelEquality.fingerprint(this.left) + ",";
+        fingerprint += ModelEquality.fingerprint(this.right) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
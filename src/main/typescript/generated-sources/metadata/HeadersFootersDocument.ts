@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    MetadataHeaderFooter,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface HeadersFootersDocumentInterface  {
+
+    headerFooter?: Array<MetadataHeaderFooter>;
+
+}
+export class HeadersFootersDocument implements HeadersFootersDocumentInterface, Parameter {
+    headerFooter?: Array<MetadataHeaderFooter>;
+
+    constructor(data: any) {
+        this.headerFooter = (data?.headerFooter || []).map(
+            MetadataHeaderFooter.fromJson
+        );
+    }
+
+    public static getHeaderFooterDefault(): Array<MetadataHeaderFooter> {
+        return [];
+    }
+
+    public static getHeaderFooterDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): HeadersFootersDocument {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HeadersFootersDocument(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HeadersFootersDocument> {
+        return ModelStream.decodeArray(source, HeadersFootersDocument.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'headerFooter': this.headerFooter?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): HeadersFootersDocument {
+        return HeadersFootersDocument.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "headerFooter", data?.headerFooter, MetadataHeaderFooter.fromJson, MetadataHeaderFooter) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.headerFooter, other.headerFooter)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.headerFooter);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HeadersFootersDocument(";
+        fingerprint += ModelEquality.fingerprint(this.headerFooter) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
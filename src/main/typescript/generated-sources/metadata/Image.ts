@@ -0,0 +1,223 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ImageInterface  {
+
+    /**
+    * The number of bits used to encode one color component.
+    */
+    bitsPerComponent?: number;
+    /**
+    * The height of the image in points.
+    */
+    height?: number;
+    /**
+    * The object ID of the image resource definition. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The number of the page containing the image resource.
+    */
+    page?: number;
+    /**
+    * Returns the file type suffix of the image. (This suffix depends on the used image encoding and therefore is highly reliable.)
+    */
+    suffix?: string;
+    /**
+    * The width of the image in points.
+    */
+    width?: number;
+
+}
+export class Image implements ImageInterface, Parameter {
+    /**
+    * The number of bits used to encode one color component.
+    */
+    bitsPerComponent?: number;
+    /**
+    * The height of the image in points.
+    */
+    height?: number;
+    /**
+    * The object ID of the image resource definition. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The number of the page containing the image resource.
+    */
+    page?: number;
+    /**
+    * Returns the file type suffix of the image. (This suffix depends on the used image encoding and therefore is highly reliable.)
+    */
+    suffix?: string;
+    /**
+    * The width of the image in points.
+    */
+    width?: number;
+
+    constructor(data: any) {
+        let bitsPerComponentDefault: any = 0;
+        this.bitsPerComponent = typeof data?.bitsPerComponent !== "undefined" ? data?.bitsPerComponent : bitsPerComponentDefault;
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let objectKeyDefault: any = "";
+        this.objectKey = typeof data?.objectKey !== "undefined" ? data?.objectKey : objectKeyDefault;
+        let pageDefault: any = 0;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        let suffixDefault: any = "";
+        this.suffix = typeof data?.suffix !== "undefined" ? data?.suffix : suffixDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+    }
+
+    public static getBitsPerComponentDefault(): number {
+        return 0;
+    }
+
+    public static getBitsPerComponentDescription(): string {
+        return "The number of bits used to encode one color component.";
+    }
+
+    public static getBitsPerComponentMin(): number {
+        return 0;
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "The height of the image in points.";
+    }
+
+    public static getObjectKeyDefault(): string {
+        return "";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "The object ID of the image resource definition. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static getPageDefault(): number {
+        return 0;
+    }
+
+    public static getPageDescription(): string {
+        return "The number of the page containing the image resource.";
+    }
+
+    public static getPageMin(): number {
+        return 0;
+    }
+
+    public static getSuffixDefault(): string {
+        return "";
+    }
+
+    public static getSuffixDescription(): string {
+        return "Returns the file type suffix of the image. (This suffix depends on the used image encoding and therefore is highly reliable.)";
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "The width of the image in points.";
+    }
+
+    public static fromJson(data: any): Image {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Image(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Image> {
+        return ModelStream.decodeArray(source, Image.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'bitsPerComponent': this.bitsPerComponent,
+            'height': this.height,
+            'objectKey': this.objectKey,
+            'page': this.page,
+            'suffix': this.suffix,
+            'width': this.width,
+        };
+    }
+
+    public clone(): Image {
+        return Image.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "bitsPerComponent", typeof data?.bitsPerComponent !== "undefined" ? data?.bitsPerComponent : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "objectKey", typeof data?.objectKey !== "undefined" ? data?.objectKey : "") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "suffix", typeof data?.suffix !== "undefined" ? data?.suffix : "") || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bitsPerComponent, other.bitsPerComponent)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.suffix, other.suffix)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.bitsPerComponent);
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.suffix);
+        hash = ModelEquality.hash(hash, this.width);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Image(";
+        fingerprint += ModelEquality.fingerprint(this.bitsPerComponent) + ",";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.suffix) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    Image,
+} from "./../index";
+
+export interface ImagesDocumentInterface  {
+
+    image?: Array<Image>;
+
+}
+export class ImagesDocument implements ImagesDocumentInterface, Parameter {
+    image?: Array<Image>;
+
+    constructor(data: any) {
+        this.image = (data?.image || []).map(
+            Image.fromJson
+        );
+    }
+
+    public static getImageDefault(): Array<Image> {
+        return [];
+    }
+
+    public static getImageDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ImagesDocument {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ImagesDocument(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ImagesDocument> {
+        return ModelStream.decodeArray(source, ImagesDocument.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'image': this.image?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): ImagesDocument {
+        return ImagesDocument.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "image", data?.image, Image.fromJson, Image) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.image, other.image)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.image);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ImagesDocument(";
+        fingerprint += ModelEquality.fingerprint(this.image) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
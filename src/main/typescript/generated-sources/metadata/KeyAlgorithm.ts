@@ -0,0 +1,7 @@
+export enum KeyAlgorithm {
+
+    Rc4 = 'rc4',
+    None = 'none',
+    Aes = 'aes'
+
+}
\ No newline at end of file
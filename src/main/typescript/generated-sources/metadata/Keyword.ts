@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface KeywordInterface  {
+
+    /**
+    * A keyword the document can be associated with.
+    */
+    keyword?: string;
+
+}
+export class Keyword implements KeywordInterface, Parameter {
+    /**
+    * A keyword the document can be associated with.
+    */
+    keyword?: string;
+
+    constructor(data: any) {
+        let keywordDefault: any = "";
+        this.keyword = typeof data?.keyword !== "undefined" ? data?.keyword : keywordDefault;
+    }
+
+    public static getKeywordDefault(): string {
+        return "";
+    }
+
+    public static getKeywordDescription(): string {
+        return "A keyword the document can be associated with.";
+    }
+
+    public static fromJson(data: any): Keyword {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Keyword(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Keyword> {
+        return ModelStream.decodeArray(source, Keyword.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'keyword': this.keyword,
+        };
+    }
+
+    public clone(): Keyword {
+        return Keyword.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "keyword", typeof data?.keyword !== "undefined" ? data?.keyword : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyword, other.keyword)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.keyword);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Keyword(";
+        fingerprint += ModelEquality.fingerprint(this.keyword) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,290 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface LineInterface  {
+
+    /**
+    * The horizontal offset of the caption's leading letter in relation to it's normal position.
+    */
+    captionHorizontalOffset?: number;
+    /**
+    * The positioning method for the caption of the line. Possible values are \"Inline\" (superimposed) and \"Top\" (above the line).
+    */
+    captionPositioning?: string;
+    /**
+    * The vertical offset of the caption's leading letter in relation to it's normal position.
+    */
+    captionVerticalOffset?: number;
+    /**
+    * Selects the Line ending style at the end of the line. Possible values are: Square, Circle, Diamond, OpenArrow, ClosedArrow, None, Butt, ROpenArrow, RClosedArrow, Slash
+    */
+    endStyle?: string;
+    /**
+    * A non-negative number that shall represent the length of leader line extensions that extend from the line proper 180 degrees from the leader lines. (0 = no leader line extensions)
+    */
+    leaderLineExtensionLength?: number;
+    /**
+    * The length of leader lines that extend from each endpoint of the line perpendicular to the line itself. A positive value shall mean that the leader lines appear in the direction that is clockwise when traversing the line from its starting point to its ending point; a negative value shall indicate the opposite direction.(0 = no leader lines)
+    */
+    leaderLineLength?: number;
+    /**
+    * A non-negative number that shall represent the length of the leader line offset, which is the amount of empty space between the endpoints of the annotation and the beginning of the leader lines.
+    */
+    leaderLineOffsetLength?: number;
+    /**
+    * When set to true the line shall display a textual caption.
+    */
+    showCaption?: boolean;
+    /**
+    * Selects the Line ending style at the start of the line.
+    */
+    startStyle?: string;
+
+}
+export class Line implements LineInterface, Parameter {
+    /**
+    * The horizontal offset of the caption's leading letter in relation to it's normal position.
+    */
+    captionHorizontalOffset?: number;
+    /**
+    * The positioning method for the caption of the line. Possible values are \"Inline\" (superimposed) and \"Top\" (above the line).
+    */
+    captionPositioning?: string;
+    /**
+    * The vertical offset of the caption's leading letter in relation to it's normal position.
+    */
+    captionVerticalOffset?: number;
+    /**
+    * Selects the Line ending style at the end of the line. Possible values are: Square, Circle, Diamond, OpenArrow, ClosedArrow, None, Butt, ROpenArrow, RClosedArrow, Slash
+    */
+    endStyle?: string;
+    /**
+    * A non-negative number that shall represent the length of leader line extensions that extend from the line proper 180 degrees from the leader lines. (0 = no leader line extensions)
+    */
+    leaderLineExtensionLength?: number;
+    /**
+    * The length of leader lines that extend from each endpoint of the line perpendicular to the line itself. A positive value shall mean that the leader lines appear in the direction that is clockwise when traversing the line from its starting point to its ending point; a negative value shall indicate the opposite direction.(0 = no leader lines)
+    */
+    leaderLineLength?: number;
+    /**
+    * A non-negative number that shall represent the length of the leader line offset, which is the amount of empty space between the endpoints of the annotation and the beginning of the leader lines.
+    */
+    leaderLineOffsetLength?: number;
+    /**
+    * When set to true the line shall display a textual caption.
+    */
+    showCaption?: boolean;
+    /**
+    * Selects the Line ending style at the start of the line.
+    */
+    startStyle?: string;
+
+    constructor(data: any) {
+        let captionHorizontalOffsetDefault: any = 0;
+        this.captionHorizontalOffset = typeof data?.captionHorizontalOffset !== "undefined" ? data?.captionHorizontalOffset : captionHorizontalOffsetDefault;
+        let captionPositioningDefault: any = "";
+        this.captionPositioning = typeof data?.captionPositioning !== "undefined" ? data?.captionPositioning : captionPositioningDefault;
+        let captionVerticalOffsetDefault: any = 0;
+        this.captionVerticalOffset = typeof data?.captionVerticalOffset !== "undefined" ? data?.captionVerticalOffset : captionVerticalOffsetDefault;
+        let endStyleDefault: any = "";
+        this.endStyle = typeof data?.endStyle !== "undefined" ? data?.endStyle : endStyleDefault;
+        let leaderLineExtensionLengthDefault: any = 0;
+        this.leaderLineExtensionLength = typeof data?.leaderLineExtensionLength !== "undefined" ? data?.leaderLineExtensionLength : leaderLineExtensionLengthDefault;
+        let leaderLineLengthDefault: any = 0;
+        this.leaderLineLength = typeof data?.leaderLineLength !== "undefined" ? data?.leaderLineLength : leaderLineLengthDefault;
+        let leaderLineOffsetLengthDefault: any = 0;
+        this.leaderLineOffsetLength = typeof data?.leaderLineOffsetLength !== "undefined" ? data?.leaderLineOffsetLength : leaderLineOffsetLengthDefault;
+        let showCaptionDefault: any = false;
+        this.showCaption = typeof data?.showCaption !== "undefined" ? data?.showCaption : showCaptionDefault;
+        let startStyleDefault: any = "";
+        this.startStyle = typeof data?.startStyle !== "undefined" ? data?.startStyle : startStyleDefault;
+    }
+
+    public static getCaptionHorizontalOffsetDefault(): number {
+        return 0;
+    }
+
+    public static getCaptionHorizontalOffsetDescription(): string {
+        return "The horizontal offset of the caption's leading letter in relation to it's normal position.";
+    }
+
+    public static getCaptionPositioningDefault(): string {
+        return "";
+    }
+
+    public static getCaptionPositioningDescription(): string {
+        return "The positioning method for the caption of the line. Possible values are \"Inline\" (superimposed) and \"Top\" (above the line).";
+    }
+
+    public static getCaptionVerticalOffsetDefault(): number {
+        return 0;
+    }
+
+    public static getCaptionVerticalOffsetDescription(): string {
+        return "The vertical offset of the caption's leading letter in relation to it's normal position.";
+    }
+
+    public static getEndStyleDefault(): string {
+        return "";
+    }
+
+    public static getEndStyleDescription(): string {
+        return "Selects the Line ending style at the end of the line. Possible values are: Square, Circle, Diamond, OpenArrow, ClosedArrow, None, Butt, ROpenArrow, RClosedArrow, Slash";
+    }
+
+    public static getLeaderLineExtensionLengthDefault(): number {
+        return 0;
+    }
+
+    public static getLeaderLineExtensionLengthDescription(): string {
+        return "A non-negative number that shall represent the length of leader line extensions that extend from the line proper 180 degrees from the leader lines. (0 = no leader line extensions)";
+    }
+
+    public static getLeaderLineLengthDefault(): number {
+        return 0;
+    }
+
+    public static getLeaderLineLengthDescription(): string {
+        return "The length of leader lines that extend from each endpoint of the line perpendicular to the line itself. A positive value shall mean that the leader lines appear in the direction that is clockwise when traversing the line from its starting point to its ending point; a negative value shall indicate the opposite direction.(0 = no leader lines)";
+    }
+
+    public static getLeaderLineOffsetLengthDefault(): number {
+        return 0;
+    }
+
+    public static getLeaderLineOffsetLengthDescription(): string {
+        return "A non-negative number that shall represent the length of the leader line offset, which is the amount of empty space between the endpoints of the annotation and the beginning of the leader lines.";
+    }
+
+    public static getShowCaptionDefault(): boolean {
+        return false;
+    }
+
+    public static getShowCaptionDescription(): string {
+        return "When set to true the line shall display a textual caption.";
+    }
+
+    public static getStartStyleDefault(): string {
+        return "";
+    }
+
+    public static getStartStyleDescription(): string {
+        return "Selects the Line ending style at the start of the line.";
+    }
+
+    public static fromJson(data: any): Line {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Line(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Line> {
+        return ModelStream.decodeArray(source, Line.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'captionHorizontalOffset': this.captionHorizontalOffset,
+            'captionPositioning': this.captionPositioning,
+            'captionVerticalOffset': this.captionVerticalOffset,
+            'endStyle': this.endStyle,
+            'leaderLineExtensionLength': this.leaderLineExtensionLength,
+            'leaderLineLength': this.leaderLineLength,
+            'leaderLineOffsetLength': this.leaderLineOffsetLength,
+            'showCaption': this.showCaption,
+            'startStyle': this.startStyle,
+        };
+    }
+
+    public clone(): Line {
+        return Line.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "captionHorizontalOffset", typeof data?.captionHorizontalOffset !== "undefined" ? data?.captionHorizontalOffset : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "captionPositioning", typeof data?.captionPositioning !== "undefined" ? data?.captionPositioning : "") || changed;
+        changed = ModelAssignment.assignValue(this, "captionVerticalOffset", typeof data?.captionVerticalOffset !== "undefined" ? data?.captionVerticalOffset : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "endStyle", typeof data?.endStyle !== "undefined" ? data?.endStyle : "") || changed;
+        changed = ModelAssignment.assignValue(this, "leaderLineExtensionLength", typeof data?.leaderLineExtensionLength !== "undefined" ? data?.leaderLineExtensionLength : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "leaderLineLength", typeof data?.leaderLineLength !== "undefined" ? data?.leaderLineLength : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "leaderLineOffsetLength", typeof data?.leaderLineOffsetLength !== "undefined" ? data?.leaderLineOffsetLength : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "showCaption", typeof data?.showCaption !== "undefined" ? data?.showCaption : false) || changed;
+        changed = ModelAssignment.assignValue(this, "startStyle", typeof data?.startStyle !== "undefined" ? data?.startStyle : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.captionHorizontalOffset, other.captionHorizontalOffset)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.captionPositioning, other.captionPositioning)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.captionVerticalOffset, other.captionVerticalOffset)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.endStyle, other.endStyle)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.leaderLineExtensionLength, other.leaderLineExtensionLength)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.leaderLineLength, other.leaderLineLength)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.leaderLineOffsetLength, other.leaderLineOffsetLength)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showCaption, other.showCaption)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.startStyle, other.startStyle)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.captionHorizontalOffset);
+        hash = ModelEquality.hash(hash, this.captionPositioning);
+        hash = ModelEquality.hash(hash, this.captionVerticalOffset);
+        hash = ModelEquality.hash(hash, this.endStyle);
+        hash = ModelEquality.hash(hash, this.leaderLineExtensionLength);
+        hash = ModelEquality.hash(hash, this.leaderLineLength);
+        hash = ModelEquality.hash(hash, this.leaderLineOffsetLength);
+        hash = ModelEquality.hash(hash, this.showCaption);
+        hash = ModelEquality.hash(hash, this.startStyle);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Line(";
+        fingerprint += ModelEquality.fingerprint(this.captionHorizontalOffset) + ",";
+        fingerprint += ModelEquality.fingerprint(this.captionPositioning) + ",";
+        fingerprint += ModelEquality.fingerprint(this.captionVerticalOffset) + ",";
+        fingerprint += ModelEquality.fingerprint(this.endStyle) + ",";
+        fingerprint += ModelEquality.fingerprint(this.leaderLineExtensionLength) + ",";
+        fingerprint += ModelEquality.fingerprint(this.leaderLineLength) + ",";
+        fingerprint += ModelEquality.fingerprint(this.leaderLineOffsetLength) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showCaption) + ",";
+        fingerprint += ModelEquality.fingerprint(this.startStyle) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
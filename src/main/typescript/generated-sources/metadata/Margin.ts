@@ -0,0 +1,165 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface MarginInterface  {
+
+    /**
+    * The bottom margin in points.
+    */
+    bottom?: number;
+    /**
+    * The left margin in points.
+    */
+    left?: number;
+    /**
+    * The right margin in points.
+    */
+    right?: number;
+    /**
+    * The top margin in points.
+    */
+    top?: number;
+
+}
+export class Margin implements MarginInterface, Parameter {
+    /**
+    * The bottom margin in points.
+    */
+    bottom?: number;
+    /**
+    * The left margin in points.
+    */
+    left?: number;
+    /**
+    * The right margin in points.
+    */
+    right?: number;
+    /**
+    * The top margin in points.
+    */
+    top?: number;
+
+    constructor(data: any) {
+        let bottomDefault: any = 0;
+        this.bottom = typeof data?.bottom !== "undefined" ? data?.bottom : bottomDefault;
+        let leftDefault: any = 0;
+        this.left = typeof data?.left !== "undefined" ? data?.left : leftDefault;
+        let rightDefault: any = 0;
+        this.right = typeof data?.right !== "undefined" ? data?.right : rightDefault;
+        let topDefault: any = 0;
+        this.top = typeof data?.top !== "undefined" ? data?.top : topDefault;
+    }
+
+    public static getBottomDefault(): number {
+        return 0;
+    }
+
+    public static getBottomDescription(): string {
+        return "The bottom margin in points.";
+    }
+
+    public static getLeftDefault(): number {
+        return 0;
+    }
+
+    public static getLeftDescription(): string {
+        return "The left margin in points.";
+    }
+
+    public static getRightDefault(): number {
+        return 0;
+    }
+
+    public static getRightDescription(): string {
+        return "The right margin in points.";
+    }
+
+    public static getTopDefault(): number {
+        return 0;
+    }
+
+    public static getTopDescription(): string {
+        return "The top margin in points.";
+    }
+
+    public static fromJson(data: any): Margin {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Margin(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Margin> {
+        return ModelStream.decodeArray(source, Margin.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'bottom': this.bottom,
+            'left': this.left,
+            'right': this.right,
+            'top': this.top,
+        };
+    }
+
+    public clone(): Margin {
+        return Margin.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "bottom", typeof data?.bottom !== "undefined" ? data?.bottom : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "left", typeof data?.left !== "undefined" ? data?.left : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "right", typeof data?.right !== "undefined" ? data?.right : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "top", typeof data?.top !== "undefined" ? data?.top : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bottom, other.bottom)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.left, other.left)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.right, other.right)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.top, other.top)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.bottom);
+        hash = ModelEquality.hash(hash, this.left);
+        hash = ModelEquality.hash(hash, this.right);
+        hash = ModelEquality.hash(hash, this.top);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Margin(";
+        fingerprint += ModelEquality.fingerprint(this.bottom) + ",";
+        fingerprint += ModelEquality.fingerprint(this.left) + ",";
+        fingerprint += ModelEquality.fingerprint(this.right) + ",";
+        fingerprint += ModelEquality.fingerprint(this.top) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface MarkRelationInterface  {
+
+    /**
+    * If this is set to true, the selected annotation has been marked, otherwise it has been unmarked.
+    */
+    marked?: boolean;
+    /**
+    * The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectID?: string;
+
+}
+export class MarkRelation implements MarkRelationInterface, Parameter {
+    /**
+    * If this is set to true, the selected annotation has been marked, otherwise it has been unmarked.
+    */
+    marked?: boolean;
+    /**
+    * The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectID?: string;
+
+    constructor(data: any) {
+        let markedDefault: any = false;
+        this.marked = typeof data?.marked !== "undefined" ? data?.marked : markedDefault;
+        let objectIDDefault: any = "";
+        this.objectID = typeof data?.objectID !== "undefined" ? data?.objectID : objectIDDefault;
+    }
+
+    public static getMarkedDefault(): boolean {
+        return false;
+    }
+
+    public static getMarkedDescription(): string {
+        return "If this is set to true, the selected annotation has been marked, otherwise it has been unmarked.";
+    }
+
+    public static getObjectIDDefault(): string {
+        return "";
+    }
+
+    public static getObjectIDDescription(): string {
+        return "The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static fromJson(data: any): MarkRelation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MarkRelation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MarkRelation> {
+        return ModelStream.decodeArray(source, MarkRelation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'marked': this.marked,
+            'objectID': this.objectID,
+        };
+    }
+
+    public clone(): MarkRelation {
+        return MarkRelation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "marked", typeof data?.marked !== "undefined" ? data?.marked : false) || changed;
+        changed = ModelAssignment.assignValue(this, "objectID", typeof data?.objectID !== "undefined" ? data?.objectID : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.marked, other.marked)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectID, other.objectID)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.marked);
+        hash = ModelEquality.hash(hash, this.objectID);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MarkRelation(";
+        fingerprint += ModelEquality.fingerprint(this.marked) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectID) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,238 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    RelationMarkup,
+    ModelEquality,
+} from "./../index";
+
+export interface MarkupInterface  {
+
+    /**
+    * The date of the annotation's creation. This string will contain the date in ASN.1 standard format. (D:YYYYMMDDHHmmSSOHH'mm)
+    */
+    creationDate?: string;
+    /**
+    * The name of the annotation's author.
+    */
+    creator?: string;
+    /**
+    * The annotation's intents. Depending on the annotation sub type the intents value shall serve further purposes.
+    */
+    intents?: string;
+    /**
+    * The annotations opacity as a percentage, where 100 is fully oqaque and 0 is fully transparent.
+    */
+    opacity?: number;
+    relation?: RelationMarkup;
+    /**
+    * A richtext string containing defining style and contents of the annotation. (This String shall conform to the richtext conventions of the XML Forms Specification (XFA)).
+    */
+    richContents?: string;
+    /**
+    * The annotation's subject.
+    */
+    subject?: string;
+
+}
+export class Markup implements MarkupInterface, Parameter {
+    /**
+    * The date of the annotation's creation. This string will contain the date in ASN.1 standard format. (D:YYYYMMDDHHmmSSOHH'mm)
+    */
+    creationDate?: string;
+    /**
+    * The name of the annotation's author.
+    */
+    creator?: string;
+    /**
+    * The annotation's intents. Depending on the annotation sub type the intents value shall serve further purposes.
+    */
+    intents?: string;
+    /**
+    * The annotations opacity as a percentage, where 100 is fully oqaque and 0 is fully transparent.
+    */
+    opacity?: number;
+    relation?: RelationMarkup;
+    /**
+    * A richtext string containing defining style and contents of the annotation. (This String shall conform to the richtext conventions of the XML Forms Specification (XFA)).
+    */
+    richContents?: string;
+    /**
+    * The annotation's subject.
+    */
+    subject?: string;
+
+    constructor(data: any) {
+        let creationDateDefault: any = "";
+        this.creationDate = typeof data?.creationDate !== "undefined" ? data?.creationDate : creationDateDefault;
+        let creatorDefault: any = "";
+        this.creator = typeof data?.creator !== "undefined" ? data?.creator : creatorDefault;
+        let intentsDefault: any = "";
+        this.intents = typeof data?.intents !== "undefined" ? data?.intents : intentsDefault;
+        let opacityDefault: any = 100;
+        this.opacity = typeof data?.opacity !== "undefined" ? data?.opacity : opacityDefault;
+        this.relation = RelationMarkup.fromJson(data?.relation);
+        let richContentsDefault: any = "";
+        this.richContents = typeof data?.richContents !== "undefined" ? data?.richContents : richContentsDefault;
+        let subjectDefault: any = "";
+        this.subject = typeof data?.subject !== "undefined" ? data?.subject : subjectDefault;
+    }
+
+    public static getCreationDateDefault(): string {
+        return "";
+    }
+
+    public static getCreationDateDescription(): string {
+        return "The date of the annotation's creation. This string will contain the date in ASN.1 standard format. (D:YYYYMMDDHHmmSSOHH'mm)";
+    }
+
+    public static getCreatorDefault(): string {
+        return "";
+    }
+
+    public static getCreatorDescription(): string {
+        return "The name of the annotation's author.";
+    }
+
+    public static getIntentsDefault(): string {
+        return "";
+    }
+
+    public static getIntentsDescription(): string {
+        return "The annotation's intents. Depending on the annotation sub type the intents value shall serve further purposes.";
+    }
+
+    public static getOpacityDefault(): number {
+        return 100;
+    }
+
+    public static getOpacityDescription(): string {
+        return "The annotations opacity as a percentage, where 100 is fully oqaque and 0 is fully transparent.";
+    }
+
+    public static getOpacityMin(): number {
+        return 0;
+    }
+
+    public static getOpacityMax(): number {
+        return 100;
+    }
+
+    public static getRelationDescription(): string {
+        return "";
+    }
+
+    public static getRichContentsDefault(): string {
+        return "";
+    }
+
+    public static getRichContentsDescription(): string {
+        return "A richtext string containing defining style and contents of the annotation. (This String shall conform to the richtext conventions of the XML Forms Specification (XFA)).";
+    }
+
+    public static getSubjectDefault(): string {
+        return "";
+    }
+
+    public static getSubjectDescription(): string {
+        return "The annotation's subject.";
+    }
+
+    public static fromJson(data: any): Markup {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Markup(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Markup> {
+        return ModelStream.decodeArray(source, Markup.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'creationDate': this.creationDate,
+            'creator': this.creator,
+            'intents': this.intents,
+            'opacity': this.opacity,
+            'relation': this.relation?.toJson(),
+            'richContents': this.richContents,
+            'subject': this.subject,
+        };
+    }
+
+    public clone(): Markup {
+        return Markup.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "creationDate", typeof data?.creationDate !== "undefined" ? data?.creationDate : "") || changed;
+        changed = ModelAssignment.assignValue(this, "creator", typeof data?.creator !== "undefined" ? data?.creator : "") || changed;
+        changed = ModelAssignment.assignValue(this, "intents", typeof data?.intents !== "undefined" ? data?.intents : "") || changed;
+        changed = ModelAssignment.assignValue(this, "opacity", typeof data?.opacity !== "undefined" ? data?.opacity : 100) || changed;
+        changed = ModelAssignment.assignModel(this, "relation", data?.relation, RelationMarkup.fromJson, RelationMarkup) || changed;
+        changed = ModelAssignment.assignValue(this, "richContents", typeof data?.richContents !== "undefined" ? data?.richContents : "") || changed;
+        changed = ModelAssignment.assignValue(this, "subject", typeof data?.subject !== "undefined" ? data?.subject : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.creationDate, other.creationDate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.creator, other.creator)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.intents, other.intents)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.opacity, other.opacity)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.relation, other.relation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.richContents, other.richContents)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.subject, other.subject)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.creationDate);
+        hash = ModelEquality.hash(hash, this.creator);
+        hash = ModelEquality.hash(hash, this.intents);
+        hash = ModelEquality.hash(hash, this.opacity);
+        hash = ModelEquality.hash(hash, this.relation);
+        hash = ModelEquality.hash(hash, this.richContents);
+        hash = ModelEquality.hash(hash, this.subject);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Markup(";
+        fingerprint += ModelEquality.fingerprint(this.creationDate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.creator) + ",";
+        fingerprint += ModelEquality.fingerprint(this.intents) + ",";
+        fingerprint += ModelEquality.fingerprint(this.opacity) + ",";
+        fingerprint += ModelEquality.fingerprint(this.relation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.richContents) + ",";
+        fingerprint += ModelEquality.fingerprint(this.subject) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
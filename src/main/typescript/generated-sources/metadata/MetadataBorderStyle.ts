@@ -0,0 +1,244 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface MetadataBorderStyleInterface  {
+
+    /**
+    * The dash pattern (array) of a dashed border. The dash array contains the unit lengths of alternating dashes and gaps, that shall be cycled through along the length of the border.
+    */
+    dashPattern?: string;
+    /**
+    * The phase of the dash pattern.
+    */
+    dashPhase?: number;
+    /**
+    * The intensity of a possibly set cloud effect, in a range from 0 to 2.
+    */
+    effectIntensity?: number;
+    /**
+    * The border effect to apply to the border shape.  *   S = Apply no border effects. *   C = Apply a cloud pattern to the border shape.
+    */
+    effectStyle?: string;
+    /**
+    * The interior (fill) color for the shape.
+    */
+    interiorColor?: string;
+    /**
+    * The style of the shapes border.  *   S = Solid *   D = Dashed *   B = Beveled *   I = Inset *   U = Underline  **Important:** Further custom styles may be contained and shall default to a solid border if unknown.
+    */
+    style?: string;
+    /**
+    * The border width/line thickness in points.
+    */
+    width?: number;
+
+}
+export class MetadataBorderStyle implements MetadataBorderStyleInterface, Parameter {
+    /**
+    * The dash pattern (array) of a dashed border. The dash array contains the unit lengths of alternating dashes and gaps, that shall be cycled through along the length of the border.
+    */
+    dashPattern?: string;
+    /**
+    * The phase of the dash pattern.
+    */
+    dashPhase?: number;
+    /**
+    * The intensity of a possibly set cloud effect, in a range from 0 to 2.
+    */
+    effectIntensity?: number;
+    /**
+    * The border effect to apply to the border shape.  *   S = Apply no border effects. *   C = Apply a cloud pattern to the border shape.
+    */
+    effectStyle?: string;
+    /**
+    * The interior (fill) color for the shape.
+    */
+    interiorColor?: string;
+    /**
+    * The style of the shapes border.  *   S = Solid *   D = Dashed *   B = Beveled *   I = Inset *   U = Underline  **Important:** Further custom styles may be contained and shall default to a solid border if unknown.
+    */
+    style?: string;
+    /**
+    * The border width/line thickness in points.
+    */
+    width?: number;
+
+    constructor(data: any) {
+        let dashPatternDefault: any = "";
+        this.dashPattern = typeof data?.dashPattern !== "undefined" ? data?.dashPattern : dashPatternDefault;
+        let dashPhaseDefault: any = 0;
+        this.dashPhase = typeof data?.dashPhase !== "undefined" ? data?.dashPhase : dashPhaseDefault;
+        let effectIntensityDefault: any = 0;
+        this.effectIntensity = typeof data?.effectIntensity !== "undefined" ? data?.effectIntensity : effectIntensityDefault;
+        let effectStyleDefault: any = "";
+        this.effectStyle = typeof data?.effectStyle !== "undefined" ? data?.effectStyle : effectStyleDefault;
+        let interiorColorDefault: any = "#4800FF";
+        this.interiorColor = typeof data?.interiorColor !== "undefined" ? data?.interiorColor : interiorColorDefault;
+        let styleDefault: any = "S";
+        this.style = typeof data?.style !== "undefined" ? data?.style : styleDefault;
+        let widthDefault: any = 1;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+    }
+
+    public static getDashPatternDefault(): string {
+        return "";
+    }
+
+    public static getDashPatternDescription(): string {
+        return "The dash pattern (array) of a dashed border. The dash array contains the unit lengths of alternating dashes and gaps, that shall be cycled through along the length of the border.";
+    }
+
+    public static getDashPhaseDefault(): number {
+        return 0;
+    }
+
+    public static getDashPhaseDescription(): string {
+        return "The phase of the dash pattern.";
+    }
+
+    public static getEffectIntensityDefault(): number {
+        return 0;
+    }
+
+    public static getEffectIntensityDescription(): string {
+        return "The intensity of a possibly set cloud effect, in a range from 0 to 2.";
+    }
+
+    public static getEffectStyleDefault(): string {
+        return "";
+    }
+
+    public static getEffectStyleDescription(): string {
+        return "The border effect to apply to the border shape.\n\n*   S = Apply no border effects.\n*   C = Apply a cloud pattern to the border shape.";
+    }
+
+    public static getInteriorColorDefault(): string {
+        return "#4800FF";
+    }
+
+    public static getInteriorColorDescription(): string {
+        return "The interior (fill) color for the shape.";
+    }
+
+    public static getStyleDefault(): string {
+        return "S";
+    }
+
+    public static getStyleDescription(): string {
+        return "The style of the shapes border.\n\n*   S = Solid\n*   D = Dashed\n*   B = Beveled\n*   I = Inset\n*   U = Underline\n\n**Important:** Further custom styles may be contained and shall default to a solid border if unknown.";
+    }
+
+    public static getWidthDefault(): number {
+        return 1;
+    }
+
+    public static getWidthDescription(): string {
+        return "The border width\/line thickness in points.";
+    }
+
+    public static getWidthMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): MetadataBorderStyle {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataBorderStyle(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataBorderStyle> {
+        return ModelStream.decodeArray(source, MetadataBorderStyle.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'dashPattern': this.dashPattern,
+            'dashPhase': this.dashPhase,
+            'effectIntensity': this.effectIntensity,
+            'effectStyle': this.effectStyle,
+            'interiorColor': this.interiorColor,
+            'style': this.style,
+            'width': this.width,
+        };
+    }
+
+    public clone(): MetadataBorderStyle {
+        return MetadataBorderStyle.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "dashPattern", typeof data?.dashPattern !== "undefined" ? data?.dashPattern : "") || changed;
+        changed = ModelAssignment.assignValue(this, "dashPhase", typeof data?.dashPhase !== "undefined" ? data?.dashPhase : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "effectIntensity", typeof data?.effectIntensity !== "undefined" ? data?.effectIntensity : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "effectStyle", typeof data?.effectStyle !== "undefined" ? data?.effectStyle : "") || changed;
+        changed = ModelAssignment.assignValue(this, "interiorColor", typeof data?.interiorColor !== "undefined" ? data?.interiorColor : "#4800FF") || changed;
+        changed = ModelAssignment.assignValue(this, "style", typeof data?.style !== "undefined" ? data?.style : "S") || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 1) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dashPattern, other.dashPattern)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dashPhase, other.dashPhase)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.effectIntensity, other.effectIntensity)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.effectStyle, other.effectStyle)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.interiorColor, other.interiorColor)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.style, other.style)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.dashPattern);
+        hash = ModelEquality.hash(hash, this.dashPhase);
+        hash = ModelEquality.hash(hash, this.effectIntensity);
+        hash = ModelEquality.hash(hash, this.effectStyle);
+        hash = ModelEquality.hash(hash, this.interiorColor);
+        hash = ModelEquality.hash(hash, this.style);
+        hash = ModelEquality.hash(hash, this.width);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataBorderStyle(";
+        fingerprint += ModelEquality.fingerprint(this.dashPattern) + ",";
+        fingerprint += ModelEquality.fingerprint(this.dashPhase) + ",";
+        fingerprint += ModelEquality.fingerprint(this.effectIntensity) + ",";
+        fingerprint += ModelEquality.fingerprint(this.effectStyle) + ",";
+        fingerprint += ModelEquality.fingerprint(this.interiorColor) + ",";
+        fingerprint += ModelEquality.fingerprint(this.style) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
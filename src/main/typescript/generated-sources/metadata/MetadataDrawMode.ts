@@ -0,0 +1,7 @@
+export enum MetadataDrawMode {
+
+    Fill = 'fill',
+    Stroke = 'stroke',
+    FillAndStroke = 'fillAndStroke'
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum MetadataFormsFormat {
+
+    AcroForm = 'acroForm',
+    StaticXFA = 'staticXFA',
+    DynamicXFA = 'dynamicXFA',
+    None = 'none'
+
+}
\ No newline at end of file
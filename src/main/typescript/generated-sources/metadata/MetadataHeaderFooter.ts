@@ -0,0 +1,204 @@
+import {
+    ModelAssignment,
+    FooterHeaderFooter,
+    HeaderHeaderFooter,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    Font,
+    Margin,
+} from "./../index";
+
+export interface MetadataHeaderFooterInterface  {
+
+    /**
+    * The text of headers and footers color.
+    */
+    color?: string;
+    font: Font;
+    footer?: FooterHeaderFooter;
+    header?: HeaderHeaderFooter;
+    margin: Margin;
+    /**
+    * The object ID of the header/footer definition. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The page headers/footers shall be defined for.
+    */
+    page?: number;
+
+}
+export class MetadataHeaderFooter implements MetadataHeaderFooterInterface, Parameter {
+    /**
+    * The text of headers and footers color.
+    */
+    color?: string;
+    font: Font;
+    footer?: FooterHeaderFooter;
+    header?: HeaderHeaderFooter;
+    margin: Margin;
+    /**
+    * The object ID of the header/footer definition. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The page headers/footers shall be defined for.
+    */
+    page?: number;
+
+    constructor(data: any) {
+        let colorDefault: any = "";
+        this.color = typeof data?.color !== "undefined" ? data?.color : colorDefault;
+        this.font = Font.fromJson(data.font);
+        this.footer = FooterHeaderFooter.fromJson(data?.footer);
+        this.header = HeaderHeaderFooter.fromJson(data?.header);
+        this.margin = Margin.fromJson(data.margin);
+        let objectKeyDefault: any = "";
+        this.objectKey = typeof data?.objectKey !== "undefined" ? data?.objectKey : objectKeyDefault;
+        let pageDefault: any = 0;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+    }
+
+    public static getColorDefault(): string {
+        return "";
+    }
+
+    public static getColorDescription(): string {
+        return "The text of headers and footers color.";
+    }
+
+    public static getFontDescription(): string {
+        return "";
+    }
+
+    public static getFooterDescription(): string {
+        return "";
+    }
+
+    public static getHeaderDescription(): string {
+        return "";
+    }
+
+    public static getMarginDescription(): string {
+        return "";
+    }
+
+    public static getObjectKeyDefault(): string {
+        return "";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "The object ID of the header\/footer definition. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static getPageDefault(): number {
+        return 0;
+    }
+
+    public static getPageDescription(): string {
+        return "The page headers\/footers shall be defined for.";
+    }
+
+    public static getPageMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): MetadataHeaderFooter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataHeaderFooter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataHeaderFooter> {
+        return ModelStream.decodeArray(source, MetadataHeaderFooter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'color': this.color,
+            'font': this.font?.toJson(),
+            'footer': this.footer?.toJson(),
+            'header': this.header?.toJson(),
+            'margin': this.margin?.toJson(),
+            'objectKey': this.objectKey,
+            'page': this.page,
+        };
+    }
+
+    public clone(): MetadataHeaderFooter {
+        return MetadataHeaderFooter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "color", typeof data?.color !== "undefined" ? data?.color : "") || changed;
+        changed = ModelAssignment.assignModel(this, "font", data.font, Font.fromJson, Font) || changed;
+        changed = ModelAssignment.assignModel(this, "footer", data?.footer, FooterHeaderFooter.fromJson, FooterHeaderFooter) || changed;
+        changed = ModelAssignment.assignModel(this, "header", data?.header, HeaderHeaderFooter.fromJson, HeaderHeaderFooter) || changed;
+        changed = ModelAssignment.assignModel(this, "margin", data.margin, Margin.fromJson, Margin) || changed;
+        changed = ModelAssignment.assignValue(this, "objectKey", typeof data?.objectKey !== "undefined" ? data?.objectKey : "") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.color, other.color)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.font, other.font)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.footer, other.footer)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.header, other.header)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.margin, other.margin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.color);
+        hash = ModelEquality.hash(hash, this.font);
+        hash = ModelEquality.hash(hash, this.footer);
+        hash = ModelEquality.hash(hash, this.header);
+        hash = ModelEquality.hash(hash, this.margin);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.page);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataHeaderFooter(";
+        fingerprint += ModelEquality.fingerprint(this.color) + ",";
+        fingerprint += ModelEquality.fingerprint(this.font) + ",";
+        fingerprint += ModelEquality.fingerprint(this.footer) + ",";
+        fingerprint += ModelEquality.fingerprint(this.header) + ",";
+        fingerprint += ModelEquality.fingerprint(this.margin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
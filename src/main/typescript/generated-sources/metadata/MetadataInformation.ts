@@ -0,0 +1,535 @@
+import {
+    ModelAssignment,
+    MetadataPdfa,
+    MetadataViewerPreferences,
+    DocMdp,
+    Description,
+    MetadataFormsFormat,
+    ModelStream,
+    MetadataPageLayout,
+    Parameter,
+    ModelEquality,
+    MetadataInitialView,
+    MetadataMagnification,
+} from "./../index";
+
+export interface MetadataInformationInterface  {
+
+    /**
+    * The number of attachments contained in the document.
+    */
+    attachments?: number;
+    description: Description;
+    /**
+    * A document \"Modification Detection and Prevention\" may be set, that defines which modifications of the document are allowed and which modifications would render the signature invalid.  *   none = The document is unprotected - modify it as you please. *   noChangesAllowed = Any modifications of the document would render the signatures invalid. *   formFillingSignatures = You may fill in forms and further sign the document. *   formFillingSignaturesAndAnnotations = Form filling, signing and adding annotations are allowed.
+    */
+    docMDP?: DocMdp;
+    /**
+    * This will be set to \"true\" for a document, that is either password protected or certificate encrypted.
+    */
+    encrypted?: boolean;
+    /**
+    * The byte size of the document.
+    */
+    fileSize?: number;
+    /**
+    * When set to another value than \"none\", the document does contain a PDF form in the hereby given format.  *   none = The document does not contain a form. *   acroForm = The document contains a standard PDF Acroform. *   staticXFA = The document contains a \"XML Forms Architecture\" form with a fixed layout (static). *   dynamicXFA = The document contains a \"XML Forms Architecture\" form with an adaptable/interactive layout (dynamic).
+    */
+    formType?: MetadataFormsFormat;
+    /**
+    * The first page, that shall be displayed when opening the document in a PDF Reader.
+    */
+    initialPage?: number;
+    /**
+    * Defines which sub-windows will be opened when the PDF document is opened.  *   none = No special view *   outlines = Opens the \"Bookmarks\" tab *   thumbnails = Opens the \"Thumbnails\" tab *   fullscreen = Opens the document in full screen mode
+    */
+    initialView?: MetadataInitialView;
+    /**
+    * The natural language of the document. This could either contain the language name or a language tag.
+    */
+    language?: string;
+    /**
+    * The initial page zoom settings of a document. When opening the document in a Reader, this zoom settings shall be used.  *   none = Uses the application's default view. *   fitWidth = Page width. *   fitPage = Page dimensions. *   fitHeight = Page height. *   fitVisible = Page content width. *   fitActual = Uses the original page dimensions (100% zoom factor). *   zoom = Sets an explicit magnification value.
+    */
+    magnification?: MetadataMagnification;
+    /**
+    * If a magnification \"zoom\" is selected for this document, this is the actual percentage the pages of the document shall be zoomed to, when opening the document in a PDF Reader.
+    */
+    magnificationZoom?: number;
+    /**
+    * The object ID of the document's catalog. (root)  **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The set initial page layout of a document. When opening the document in a Reader, this layout shall be selected to display pages.  *   singlePage = One page at a time. *   oneColumn = One continuous column of pages. *   twoColumnLeft = The pages in two columns, with odd-numbered pages on the left. *   twoColumnRight = The pages in two columns, with odd-numbered pages on the right. *   twoPageLeft = Display the pages two at a time, with odd-numbered pages on the left. *   twoPageRight = Display the pages two at a time, with odd-numbered pages on the right.
+    */
+    pageLayout?: MetadataPageLayout;
+    /**
+    * The number of pages contained in the document.
+    */
+    pages?: number;
+    pdfa: MetadataPdfa;
+    /**
+    * Will be set to \"true\" for a \"PDF collection\" (Portfolio), that serves as the container for other documents.
+    */
+    portfolio?: boolean;
+    /**
+    * The number of signatures contained in the document.
+    */
+    signatures?: number;
+    /**
+    * The version name of the PDF standard the document claims compatibility with.
+    */
+    version?: string;
+    viewerPreferences: MetadataViewerPreferences;
+
+}
+export class MetadataInformation implements MetadataInformationInterface, Parameter {
+    /**
+    * The number of attachments contained in the document.
+    */
+    attachments?: number;
+    description: Description;
+    /**
+    * A document \"Modification Detection and Prevention\" may be set, that defines which modifications of the document are allowed and which modifications would render the signature invalid.  *   none = The document is unprotected - modify it as you please. *   noChangesAllowed = Any modifications of the document would render the signatures invalid. *   formFillingSignatures = You may fill in forms and further sign the document. *   formFillingSignaturesAndAnnotations = Form filling, signing and adding annotations are allowed.
+    */
+    docMDP?: DocMdp;
+    /**
+    * This will be set to \"true\" for a document, that is either password protected or certificate encrypted.
+    */
+    encrypted?: boolean;
+    /**
+    * The byte size of the document.
+    */
+    fileSize?: number;
+    /**
+    * When set to another value than \"none\", the document does contain a PDF form in the hereby given format.  *   none = The document does not contain a form. *   acroForm = The document contains a standard PDF Acroform. *   staticXFA = The document contains a \"XML Forms Architecture\" form with a fixed layout (static). *   dynamicXFA = The document contains a \"XML Forms Architecture\" form with an adaptable/interactive layout (dynamic).
+    */
+    formType?: MetadataFormsFormat;
+    /**
+    * The first page, that shall be displayed when opening the document in a PDF Reader.
+    */
+    initialPage?: number;
+    /**
+    * Defines which sub-windows will be opened when the PDF document is opened.  *   none = No special view *   outlines = Opens the \"Bookmarks\" tab *   thumbnails = Opens the \"Thumbnails\" tab *   fullscreen = Opens the document in full screen mode
+    */
+    initialView?: MetadataInitialView;
+    /**
+    * The natural language of the document. This could either contain the language name or a language tag.
+    */
+    language?: string;
+    /**
+    * The initial page zoom settings of a document. When opening the document in a Reader, this zoom settings shall be used.  *   none = Uses the application's default view. *   fitWidth = Page width. *   fitPage = Page dimensions. *   fitHeight = Page height. *   fitVisible = Page content width. *   fitActual = Uses the original page dimensions (100% zoom factor). *   zoom = Sets an explicit magnification value.
+    */
+    magnification?: MetadataMagnification;
+    /**
+    * If a magnification \"zoom\" is selected for this document, this is the actual percentage the pages of the document shall be zoomed to, when opening the document in a PDF Reader.
+    */
+    magnificationZoom?: number;
+    /**
+    * The object ID of the document's catalog. (root)  **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The set initial page layout of a document. When opening the document in a Reader, this layout shall be selected to display pages.  *   singlePage = One page at a time. *   oneColumn = One continuous column of pages. *   twoColumnLeft = The pages in two columns, with odd-numbered pages on the left. *   twoColumnRight = The pages in two columns, with odd-numbered pages on the right. *   twoPageLeft = Display the pages two at a time, with odd-numbered pages on the left. *   twoPageRight = Display the pages two at a time, with odd-numbered pages on the right.
+    */
+    pageLayout?: MetadataPageLayout;
+    /**
+    * The number of pages contained in the document.
+    */
+    pages?: number;
+    pdfa: MetadataPdfa;
+    /**
+    * Will be set to \"true\" for a \"PDF collection\" (Portfolio), that serves as the container for other documents.
+    */
+    portfolio?: boolean;
+    /**
+    * The number of signatures contained in the document.
+    */
+    signatures?: number;
+    /**
+    * The version name of the PDF standard the document claims compatibility with.
+    */
+    version?: string;
+    viewerPreferences: MetadataViewerPreferences;
+
+    constructor(data: any) {
+        let attachmentsDefault: any = 0;
+        this.attachments = typeof data?.attachments !== "undefined" ? data?.attachments : attachmentsDefault;
+        this.description = Description.fromJson(data.description);
+        let docMDPDefault: any = "none";
+        this.docMDP = typeof data?.docMDP !== "undefined" ? data?.docMDP : docMDPDefault;
+        let encryptedDefault: any = false;
+        this.encrypted = typeof data?.encrypted !== "undefined" ? data?.encrypted : encryptedDefault;
+        let fileSizeDefault: any = 0;
+        this.fileSize = typeof data?.fileSize !== "undefined" ? data?.fileSize : fileSizeDefault;
+        let formTypeDefault: any = "none";
+        this.formType = typeof data?.formType !== "undefined" ? data?.formType : formTypeDefault;
+        let initialPageDefault: any = 1;
+        this.initialPage = typeof data?.initialPage !== "undefined" ? data?.initialPage : initialPageDefault;
+        let initialViewDefault: any = "none";
+        this.initialView = typeof data?.initialView !== "undefined" ? data?.initialView : initialViewDefault;
+        let languageDefault: any = "";
+        this.language = typeof data?.language !== "undefined" ? data?.language : languageDefault;
+        let magnificationDefault: any = "fitVisible";
+        this.magnification = typeof data?.magnification !== "undefined" ? data?.magnification : magnificationDefault;
+        let magnificationZoomDefault: any = 100;
+        this.magnificationZoom = typeof data?.magnificationZoom !== "undefined" ? data?.magnificationZoom : magnificationZoomDefault;
+        let objectKeyDefault: any = "";
+        this.objectKey = typeof data?.objectKey !== "undefined" ? data?.objectKey : objectKeyDefault;
+        let pageLayoutDefault: any = "singlePage";
+        this.pageLayout = typeof data?.pageLayout !== "undefined" ? data?.pageLayout : pageLayoutDefault;
+        let pagesDefault: any = 0;
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        this.pdfa = MetadataPdfa.fromJson(data.pdfa);
+        let portfolioDefault: any = false;
+        this.portfolio = typeof data?.portfolio !== "undefined" ? data?.portfolio : portfolioDefault;
+        let signaturesDefault: any = 0;
+        this.signatures = typeof data?.signatures !== "undefined" ? data?.signatures : signaturesDefault;
+        let versionDefault: any = "";
+        this.version = typeof data?.version !== "undefined" ? data?.version : versionDefault;
+        this.viewerPreferences = MetadataViewerPreferences.fromJson(data.viewerPreferences);
+    }
+
+    public static getAttachmentsDefault(): number {
+        return 0;
+    }
+
+    public static getAttachmentsDescription(): string {
+        return "The number of attachments contained in the document.";
+    }
+
+    public static getAttachmentsMin(): number {
+        return 0;
+    }
+
+    public static getDescriptionDescription(): string {
+        return "";
+    }
+
+    public static getDocMDPDefault(): DocMdp {
+        return "none" as DocMdp;
+    }
+
+    public static getDocMDPDescription(): string {
+        return "A document \"Modification Detection and Prevention\" may be set, that defines which modifications of the document are allowed and which modifications would render the signature invalid.\n\n*   none = The document is unprotected - modify it as you please.\n*   noChangesAllowed = Any modifications of the document would render the signatures invalid.\n*   formFillingSignatures = You may fill in forms and further sign the document.\n*   formFillingSignaturesAndAnnotations = Form filling, signing and adding annotations are allowed.";
+    }
+
+    public static getEncryptedDefault(): boolean {
+        return false;
+    }
+
+    public static getEncryptedDescription(): string {
+        return "This will be set to \"true\" for a document, that is either password protected or certificate encrypted.";
+    }
+
+    public static getFileSizeDefault(): number {
+        return 0;
+    }
+
+    public static getFileSizeDescription(): string {
+        return "The byte size of the document.";
+    }
+
+    public static getFileSizeMin(): number {
+        return 0;
+    }
+
+    public static getFileSizeMax(): number {
+        return 9223372036854775807;
+    }
+
+    public static getFormTypeDefault(): MetadataFormsFormat {
+        return "none" as MetadataFormsFormat;
+    }
+
+    public static getFormTypeDescription(): string {
+        return "When set to another value than \"none\", the document does contain a PDF form in the hereby given format.\n\n*   none = The document does not contain a form.\n*   acroForm = The document contains a standard PDF Acroform.\n*   staticXFA = The document contains a \"XML Forms Architecture\" form with a fixed layout (static).\n*   dynamicXFA = The document contains a \"XML Forms Architecture\" form with an adaptable\/interactive layout (dynamic).";
+    }
+
+    public static getInitialPageDefault(): number {
+        return 1;
+    }
+
+    public static getInitialPageDescription(): string {
+        return "The first page, that shall be displayed when opening the document in a PDF Reader.";
+    }
+
+    public static getInitialViewDefault(): MetadataInitialView {
+        return "none" as MetadataInitialView;
+    }
+
+    public static getInitialViewDescription(): string {
+        return "Defines which sub-windows will be opened when the PDF document is opened.\n\n*   none = No special view\n*   outlines = Opens the \"Bookmarks\" tab\n*   thumbnails = Opens the \"Thumbnails\" tab\n*   fullscreen = Opens the document in full screen mode";
+    }
+
+    public static getLanguageDefault(): string {
+        return "";
+    }
+
+    public static getLanguageDescription(): string {
+        return "The natural language of the document. This could either contain the language name or a language tag.";
+    }
+
+    public static getMagnificationDefault(): MetadataMagnification {
+        return "fitVisible" as MetadataMagnification;
+    }
+
+    public static getMagnificationDescription(): string {
+        return "The initial page zoom settings of a document. When opening the document in a Reader, this zoom settings shall be used.\n\n*   none = Uses the application's default view.\n*   fitWidth = Page width.\n*   fitPage = Page dimensions.\n*   fitHeight = Page height.\n*   fitVisible = Page content width.\n*   fitActual = Uses the original page dimensions (100% zoom factor).\n*   zoom = Sets an explicit magnification value.";
+    }
+
+    public static getMagnificationZoomDefault(): number {
+        return 100;
+    }
+
+    public static getMagnificationZoomDescription(): string {
+        return "If a magnification \"zoom\" is selected for this document, this is the actual percentage the pages of the document shall be zoomed to, when opening the document in a PDF Reader.";
+    }
+
+    public static getMagnificationZoomMin(): number {
+        return 0;
+    }
+
+    public static getObjectKeyDefault(): string {
+        return "";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "The object ID of the document's catalog. (root)\n\n**Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static getPageLayoutDefault(): MetadataPageLayout {
+        return "singlePage" as MetadataPageLayout;
+    }
+
+    public static getPageLayoutDescription(): string {
+        return "The set initial page layout of a document. When opening the document in a Reader, this layout shall be selected to display pages.\n\n*   singlePage = One page at a time.\n*   oneColumn = One continuous column of pages.\n*   twoColumnLeft = The pages in two columns, with odd-numbered pages on the left.\n*   twoColumnRight = The pages in two columns, with odd-numbered pages on the right.\n*   twoPageLeft = Display the pages two at a time, with odd-numbered pages on the left.\n*   twoPageRight = Display the pages two at a time, with odd-numbered pages on the right.";
+    }
+
+    public static getPagesDefault(): number {
+        return 0;
+    }
+
+    public static getPagesDescription(): string {
+        return "The number of pages contained in the document.";
+    }
+
+    public static getPagesMin(): number {
+        return 0;
+    }
+
+    public static getPdfaDescription(): string {
+        return "";
+    }
+
+    public static getPortfolioDefault(): boolean {
+        return false;
+    }
+
+    public static getPortfolioDescription(): string {
+        return "Will be set to \"true\" for a \"PDF collection\" (Portfolio), that serves as the container for other documents.";
+    }
+
+    public static getSignaturesDefault(): number {
+        return 0;
+    }
+
+    public static getSignaturesDescription(): string {
+        return "The number of signatures contained in the document.";
+    }
+
+    public static getVersionDefault(): string {
+        return "";
+    }
+
+    public static getVersionDescription(): string {
+        return "The version name of the PDF standard the document claims compatibility with.";
+    }
+
+    public static getViewerPreferencesDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): MetadataInformation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataInformation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataInformation> {
+        return ModelStream.decodeArray(source, MetadataInformation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'attachments': this.attachments,
+            'description': this.description?.toJson(),
+            'docMDP': this.docMDP,
+            'encrypted': this.encrypted,
+            'fileSize': this.fileSize,
+            'formType': this.formType,
+            'initialPage': this.initialPage,
+            'initialView': this.initialView,
+            'language': this.language,
+            'magnification': this.magnification,
+            'magnificationZoom': this.magnificationZoom,
+            'objectKey': this.objectKey,
+            'pageLayout': this.pageLayout,
+            'pages': this.pages,
+            'pdfa': this.pdfa?.toJson(),
+            'portfolio': this.portfolio,
+            'signatures': this.signatures,
+            'version': this.version,
+            'viewerPreferences': this.viewerPreferences?.toJson(),
+        };
+    }
+
+    public clone(): MetadataInformation {
+        return MetadataInformation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "attachments", typeof data?.attachments !== "undefined" ? data?.attachments : 0) || changed;
+        changed = ModelAssignment.assignModel(this, "description", data.description, Description.fromJson, Description) || changed;
+        changed = ModelAssignment.assignValue(this, "docMDP", typeof data?.docMDP !== "undefined" ? data?.docMDP : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "encrypted", typeof data?.encrypted !== "undefined" ? data?.encrypted : false) || changed;
+        changed = ModelAssignment.assignValue(this, "fileSize", typeof data?.fileSize !== "undefined" ? data?.fileSize : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "formType", typeof data?.formType !== "undefined" ? data?.formType : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "initialPage", typeof data?.initialPage !== "undefined" ? data?.initialPage : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "initialView", typeof data?.initialView !== "undefined" ? data?.initialView : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "language", typeof data?.language !== "undefined" ? data?.language : "") || changed;
+        changed = ModelAssignment.assignValue(this, "magnification", typeof data?.magnification !== "undefined" ? data?.magnification : "fitVisible") || changed;
+        changed = ModelAssignment.assignValue(this, "magnificationZoom", typeof data?.magnificationZoom !== "undefined" ? data?.magnificationZoom : 100) || changed;
+        changed = ModelAssignment.assignValue(this, "objectKey", typeof data?.objectKey !== "undefined" ? data?.objectKey : "") || changed;
+        changed = ModelAssignment.assignValue(this, "pageLayout", typeof data?.pageLayout !== "undefined" ? data?.pageLayout : "singlePage") || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : 0) || changed;
+        changed = ModelAssignment.assignModel(this, "pdfa", data.pdfa, MetadataPdfa.fromJson, MetadataPdfa) || changed;
+        changed = ModelAssignment.assignValue(this, "portfolio", typeof data?.portfolio !== "undefined" ? data?.portfolio : false) || changed;
+        changed = ModelAssignment.assignValue(this, "signatures", typeof data?.signatures !== "undefined" ? data?.signatures : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "version", typeof data?.version !== "undefined" ? data?.version : "") || changed;
+        changed = ModelAssignment.assignModel(this, "viewerPreferences", data.viewerPreferences, MetadataViewerPreferences.fromJson, MetadataViewerPreferences) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.attachments, other.attachments)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.description, other.description)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.docMDP, other.docMDP)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.encrypted, other.encrypted)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileSize, other.fileSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.formType, other.formType)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.initialPage, other.initialPage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.initialView, other.initialView)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.language, other.language)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.magnification, other.magnification)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.magnificationZoom, other.magnificationZoom)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pageLayout, other.pageLayout)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pdfa, other.pdfa)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.portfolio, other.portfolio)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signatures, other.signatures)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.version, other.version)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.viewerPreferences, other.viewerPreferences)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.attachments);
+        hash = ModelEquality.hash(hash, this.description);
+        hash = ModelEquality.hash(hash, this.docMDP);
+        hash = ModelEquality.hash(hash, this.encrypted);
+        hash = ModelEquality.hash(hash, this.fileSize);
+        hash = ModelEquality.hash(hash, this.formType);
+        hash = ModelEquality.hash(hash, this.initialPage);
+        hash = ModelEquality.hash(hash, this.initialView);
+        hash = ModelEquality.hash(hash, this.language);
+        hash = ModelEquality.hash(hash, this.magnification);
+        hash = ModelEquality.hash(hash, this.magnificationZoom);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.pageLayout);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.pdfa);
+        hash = ModelEquality.hash(hash, this.portfolio);
+        hash = ModelEquality.hash(hash, this.signatures);
+        hash = ModelEquality.hash(hash, this.version);
+        hash = ModelEquality.hash(hash, this.viewerPreferences);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataInformation(";
+        fingerprint += ModelEquality.fingerprint(this.attachments) + ",";
+        fingerprint += ModelEquality.fingerprint(this.description) + ",";
+        fingerprint += ModelEquality.fingerprint(this.docMDP) + ",";
+        fingerprint += ModelEquality.fingerprint(this.encrypted) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.formType) + ",";
+        fingerprint += ModelEquality.fingerprint(this.initialPage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.initialView) + ",";
+        fingerprint += ModelEquality.fingerprint(this.language) + ",";
+        fingerprint += ModelEquality.fingerprint(this.magnification) + ",";
+        fingerprint += ModelEquality.fingerprint(this.magnificationZoom) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pageLayout) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pdfa) + ",";
+        fingerprint += ModelEquality.fingerprint(this.portfolio) + ",";
+        fingerprint += ModelEquality.fingerprint(this.signatures) + ",";
+        fingerprint += ModelEquality.fingerprint(this.version) + ",";
+        fingerprint += ModelEquality.fingerprint(this.viewerPreferences) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+export enum MetadataInitialView {
+
+    Outlines = 'outlines',
+    Thumbnails = 'thumbnails',
+    Fullscreen = 'fullscreen',
+    None = 'none',
+    Layers = 'layers',
+    Attachments = 'attachments'
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum MetadataNonFullScreenPageMode {
+
+    Outlines = 'outlines',
+    Thumbnails = 'thumbnails',
+    OptionalContents = 'optionalContents',
+    None = 'none'
+
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+export enum MetadataPageLayout {
+
+    SinglePage = 'singlePage',
+    TwoColumnLeft = 'twoColumnLeft',
+    OneColumn = 'oneColumn',
+    TwoPageRight = 'twoPageRight',
+    TwoPageLeft = 'twoPageLeft',
+    TwoColumnRight = 'twoColumnRight'
+
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    KeyAlgorithm,
+} from "./../index";
+
+export interface MetadataPasswordInterface  {
+
+    /**
+    * If this is set to \"true\", the document is asymmetrically encrypted and a matching private key is required to decrypt it. Otherwise the document is symetrically encrypted and requires a password.
+    */
+    hasAsymmetricEncryption?: boolean;
+    /**
+    * If this is set to \"true\", the document is encrypted and requires a password to be opened.
+    */
+    hasOpenPassword?: boolean;
+    /**
+    * If this is set to \"true\", the document has a change protection and a password is required to claim ownership and modify the document.
+    */
+    hasPermissionPassword?: boolean;
+    /**
+    * The algorithm used for encryption.  *   none = The document is not encrypted. *   aes = The document has been encrypted using the Advanced Encryption Standard. *   rc4 = The document has been encrypted using the RC4 cipher.
+    */
+    keyAlgorithm?: KeyAlgorithm;
+    /**
+    * The Bit length of the key used for encryption.
+    */
+    keyLength?: number;
+
+}
+export class MetadataPassword implements MetadataPasswordInterface, Parameter {
+    /**
+    * If this is set to \"true\", the document is asymmetrically encrypted and a matching private key is required to decrypt it. Otherwise the document is symetrically encrypted and requires a password.
+    */
+    hasAsymmetricEncryption?: boolean;
+    /**
+    * If this is set to \"true\", the document is encrypted and requires a password to be opened.
+    */
+    hasOpenPassword?: boolean;
+    /**
+    * If this is set to \"true\", the document has a change protection and a password is required to claim ownership and modify the document.
+    */
+    hasPermissionPassword?: boolean;
+    /**
+    * The algorithm used for encryption.  *   none = The document is not encrypted. *   aes = The document has been encrypted using the Advanced Encryption Standard. *   rc4 = The document has been encrypted using the RC4 cipher.
+    */
+    keyAlgorithm?: KeyAlgorithm;
+    /**
+    * The Bit length of the key used for encryption.
+    */
+    keyLength?: number;
+
+    constructor(data: any) {
+        let hasAsymmetricEncryptionDefault: any = false;
+        this.hasAsymmetricEncryption = typeof data?.hasAsymmetricEncryption !== "undefined" ? data?.hasAsymmetricEncryption : hasAsymmetricEncryptionDefault;
+        let hasOpenPasswordDefault: any = false;
+        this.hasOpenPassword = typeof data?.hasOpenPassword !== "undefined" ? data?.hasOpenPassword : hasOpenPasswordDefault;
+        let hasPermissionPasswordDefault: any = false;
+        this.hasPermissionPassword = typeof data?.hasPermissionPassword !== "undefined" ? data?.hasPermissionPassword : hasPermissionPasswordDefault;
+        let keyAlgorithmDefault: any = "none";
+        this.keyAlgorithm = typeof data?.keyAlgorithm !== "undefined" ? data?.keyAlgorithm : keyAlgorithmDefault;
+        let keyLengthDefault: any = 0;
+        this.keyLength = typeof data?.keyLength !== "undefined" ? data?.keyLength : keyLengthDefault;
+    }
+
+    public static getHasAsymmetricEncryptionDefault(): boolean {
+        return false;
+    }
+
+    public static getHasAsymmetricEncryptionDescription(): string {
+        return "If this is set to \"true\", the document is asymmetrically encrypted and a matching private key is required to decrypt it. Otherwise the document is symetrically encrypted and requires a password.";
+    }
+
+    public static getHasOpenPasswordDefault(): boolean {
+        return false;
+    }
+
+    public static getHasOpenPasswordDescription(): string {
+        return "If this is set to \"true\", the document is encrypted and requires a password to be opened.";
+    }
+
+    public static getHasPermissionPasswordDefault(): boolean {
+        return false;
+    }
+
+    public static getHasPermissionPasswordDescription(): string {
+        return "If this is set to \"true\", the document has a change protection and a password is required to claim ownership and modify the document.";
+    }
+
+    public static getKeyAlgorithmDefault(): KeyAlgorithm {
+        return "none" as KeyAlgorithm;
+    }
+
+    public static getKeyAlgorithmDescription(): string {
+        return "The algorithm used for encryption.\n\n*   none = The document is not encrypted.\n*   aes = The document has been encrypted using the Advanced Encryption Standard.\n*   rc4 = The document has been encrypted using the RC4 cipher.";
+    }
+
+    public static getKeyLengthDefault(): number {
+        return 0;
+    }
+
+    public static getKeyLengthDescription(): string {
+        return "The Bit length of the key used for encryption.";
+    }
+
+    public static getKeyLengthMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): MetadataPassword {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataPassword(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataPassword> {
+        return ModelStream.decodeArray(source, MetadataPassword.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'hasAsymmetricEncryption': this.hasAsymmetricEncryption,
+            'hasOpenPassword': this.hasOpenPassword,
+            'hasPermissionPassword': this.hasPermissionPassword,
+            'keyAlgorithm': this.keyAlgorithm,
+            'keyLength': this.keyLength,
+        };
+    }
+
+    public clone(): MetadataPassword {
+        return MetadataPassword.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "hasAsymmetricEncryption", typeof data?.hasAsymmetricEncryption !== "undefined" ? data?.hasAsymmetricEncryption : false) || changed;
+        changed = ModelAssignment.assignValue(this, "hasOpenPassword", typeof data?.hasOpenPassword !== "undefined" ? data?.hasOpenPassword : false) || changed;
+        changed = ModelAssignment.assignValue(this, "hasPermissionPassword", typeof data?.hasPermissionPassword !== "undefined" ? data?.hasPermissionPassword : false) || changed;
+        changed = ModelAssignment.assignValue(this, "keyAlgorithm", typeof data?.keyAlgorithm !== "undefined" ? data?.keyAlgorithm : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "keyLength", typeof data?.keyLength !== "undefined" ? data?.keyLength : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hasAsymmetricEncryption, other.hasAsymmetricEncryption)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hasOpenPassword, other.hasOpenPassword)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hasPermissionPassword, other.hasPermissionPassword)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyAlgorithm, other.keyAlgorithm)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyLength, other.keyLength)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.hasAsymmetricEncryption);
+        hash = ModelEquality.hash(hash, this.hasOpenPassword);
+        hash = ModelEquality.hash(hash, this.hasPermissionPassword);
+        hash = ModelEquality.hash(hash, this.keyAlgorithm);
+        hash = ModelEquality.hash(hash, this.keyLength);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataPassword(";
+        fingerprint += ModelEquality.fingerprint(this.hasAsymmetricEncryption) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hasOpenPassword) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hasPermissionPassword) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keyAlgorithm) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keyLength) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface MetadataPdfaInterface  {
+
+    /**
+    * The PDF/A conformance level.
+    */
+    conformance?: string;
+    /**
+    * The ISO-19005 part number.
+    */
+    part?: string;
+
+}
+export class MetadataPdfa implements MetadataPdfaInterface, Parameter {
+    /**
+    * The PDF/A conformance level.
+    */
+    conformance?: string;
+    /**
+    * The ISO-19005 part number.
+    */
+    part?: string;
+
+    constructor(data: any) {
+        let conformanceDefault: any = "";
+        this.conformance = typeof data?.conformance !== "undefined" ? data?.conformance : conformanceDefault;
+        let partDefault: any = "";
+        this.part = typeof data?.part !== "undefined" ? data?.part : partDefault;
+    }
+
+    public static getConformanceDefault(): string {
+        return "";
+    }
+
+    public static getConformanceDescription(): string {
+        return "The PDF\/A conformance level.";
+    }
+
+    public static getPartDefault(): string {
+        return "";
+    }
+
+    public static getPartDescription(): string {
+        return "The ISO-19005 part number.";
+    }
+
+    public static fromJson(data: any): MetadataPdfa {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataPdfa(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataPdfa> {
+        return ModelStream.decodeArray(source, MetadataPdfa.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'conformance': this.conformance,
+            'part': this.part,
+        };
+    }
+
+    public clone(): MetadataPdfa {
+        return MetadataPdfa.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "conformance", typeof data?.conformance !== "undefined" ? data?.conformance : "") || changed;
+        changed = ModelAssignment.assignValue(this, "part", typeof data?.part !== "undefined" ? data?.part : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.conformance, other.conformance)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.part, other.part)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.conformance);
+        hash = ModelEquality.hash(hash, this.part);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataPdfa(";
+        fingerprint += ModelEquality.fingerprint(this.conformance) + ",";
+        fingerprint += ModelEquality.fingerprint(this.part) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum MetadataPrintScale {
+
+    ReaderDefault = 'readerDefault',
+    NoPrintScaling = 'noPrintScaling'
+
+}
\ No newline at end of file
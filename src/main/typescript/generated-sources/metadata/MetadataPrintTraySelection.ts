@@ -0,0 +1,6 @@
+export enum MetadataPrintTraySelection {
+
+    ReaderDefault = 'readerDefault',
+    ByPDFSize = 'byPDFSize'
+
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface MetadataRectangleInterface  {
+
+    /**
+    * The height of the rectangle in points.
+    */
+    height?: number;
+    /**
+    * The width of the rectangle in points.
+    */
+    width?: number;
+    /**
+    * The x coordinate in points.
+    */
+    x?: number;
+    /**
+    * The y coordinate in points.
+    */
+    y?: number;
+
+}
+export class MetadataRectangle implements MetadataRectangleInterface, Parameter {
+    /**
+    * The height of the rectangle in points.
+    */
+    height?: number;
+    /**
+    * The width of the rectangle in points.
+    */
+    width?: number;
+    /**
+    * The x coordinate in points.
+    */
+    x?: number;
+    /**
+    * The y coordinate in points.
+    */
+    y?: number;
+
+    constructor(data: any) {
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+        let xDefault: any = 0;
+        this.x = typeof data?.x !== "undefined" ? data?.x : xDefault;
+        let yDefault: any = 0;
+        this.y = typeof data?.y !== "undefined" ? data?.y : yDefault;
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "The height of the rectangle in points.";
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "The width of the rectangle in points.";
+    }
+
+    public static getXDefault(): number {
+        return 0;
+    }
+
+    public static getXDescription(): string {
+        return "The x coordinate in points.";
+    }
+
+    public static getYDefault(): number {
+        return 0;
+    }
+
+    public static getYDescription(): string {
+        return "The y coordinate in points.";
+    }
+
+    public static fromJson(data: any): MetadataRectangle {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataRectangle(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataRectangle> {
+        return ModelStream.decodeArray(source, MetadataRectangle.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'height': this.height,
+            'width': this.width,
+            'x': this.x,
+            'y': this.y,
+        };
+    }
+
+    public clone(): MetadataRectangle {
+        return MetadataRectangle.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "x", typeof data?.x !== "undefined" ? data?.x : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "y", typeof data?.y !== "undefined" ? data?.y : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.x, other.x)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.y, other.y)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.width);
+        hash = ModelEquality.hash(hash, this.x);
+        hash = ModelEquality.hash(hash, this.y);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataRectangle(";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        fingerprint += ModelEquality.fingerprint(this.x) + ",";
+        fingerprint += ModelEquality.fingerprint(this.y) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
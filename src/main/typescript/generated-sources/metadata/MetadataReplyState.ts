@@ -0,0 +1,9 @@
+export enum MetadataReplyState {
+
+    Completed = 'completed',
+    Rejected = 'rejected',
+    Cancelled = 'cancelled',
+    None = 'none',
+    Accepted = 'accepted'
+
+}
\ No newline at end of file
@@ -0,0 +1,265 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface MetadataSignatureInterface  {
+
+    /**
+    * The contact information provided by the signer.
+    */
+    contact?: string;
+    /**
+    * The date the signature has been created.
+    */
+    date?: string;
+    /**
+    * The name of the preferred signature handler used for validation. (Adobe.PPKLite, EntrustPPKEF etc.)
+    */
+    filter?: string;
+    /**
+    * The location the document has been signed at.
+    */
+    location?: string;
+    /**
+    * The name of the person or authority signing the document.
+    */
+    name?: string;
+    /**
+    * The object ID of the signature. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The reason for signing the document.
+    */
+    reason?: string;
+    /**
+    * The encoding of the signature value, that shall also be used for validation. (adbe.x509.rsa\\_sha1, adbe.pkcs7.sha1, etc.)
+    */
+    subFilter?: string;
+
+}
+export class MetadataSignature implements MetadataSignatureInterface, Parameter {
+    /**
+    * The contact information provided by the signer.
+    */
+    contact?: string;
+    /**
+    * The date the signature has been created.
+    */
+    date?: string;
+    /**
+    * The name of the preferred signature handler used for validation. (Adobe.PPKLite, EntrustPPKEF etc.)
+    */
+    filter?: string;
+    /**
+    * The location the document has been signed at.
+    */
+    location?: string;
+    /**
+    * The name of the person or authority signing the document.
+    */
+    name?: string;
+    /**
+    * The object ID of the signature. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The reason for signing the document.
+    */
+    reason?: string;
+    /**
+    * The encoding of the signature value, that shall also be used for validation. (adbe.x509.rsa\\_sha1, adbe.pkcs7.sha1, etc.)
+    */
+    subFilter?: string;
+
+    constructor(data: any) {
+        let contactDefault: any = "";
+        this.contact = typeof data?.contact !== "undefined" ? data?.contact : contactDefault;
+        let dateDefault: any = "";
+        this.date = typeof data?.date !== "undefined" ? data?.date : dateDefault;
+        let filterDefault: any = "";
+        this.filter = typeof data?.filter !== "undefined" ? data?.filter : filterDefault;
+        let locationDefault: any = "";
+        this.location = typeof data?.location !== "undefined" ? data?.location : locationDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let objectKeyDefault: any = "";
+        this.objectKey = typeof data?.objectKey !== "undefined" ? data?.objectKey : objectKeyDefault;
+        let reasonDefault: any = "";
+        this.reason = typeof data?.reason !== "undefined" ? data?.reason : reasonDefault;
+        let subFilterDefault: any = "";
+        this.subFilter = typeof data?.subFilter !== "undefined" ? data?.subFilter : subFilterDefault;
+    }
+
+    public static getContactDefault(): string {
+        return "";
+    }
+
+    public static getContactDescription(): string {
+        return "The contact information provided by the signer.";
+    }
+
+    public static getDateDefault(): string {
+        return "";
+    }
+
+    public static getDateDescription(): string {
+        return "The date the signature has been created.";
+    }
+
+    public static getFilterDefault(): string {
+        return "";
+    }
+
+    public static getFilterDescription(): string {
+        return "The name of the preferred signature handler used for validation. (Adobe.PPKLite, EntrustPPKEF etc.)";
+    }
+
+    public static getLocationDefault(): string {
+        return "";
+    }
+
+    public static getLocationDescription(): string {
+        return "The location the document has been signed at.";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The name of the person or authority signing the document.";
+    }
+
+    public static getObjectKeyDefault(): string {
+        return "";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "The object ID of the signature. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static getReasonDefault(): string {
+        return "";
+    }
+
+    public static getReasonDescription(): string {
+        return "The reason for signing the document.";
+    }
+
+    public static getSubFilterDefault(): string {
+        return "";
+    }
+
+    public static getSubFilterDescription(): string {
+        return "The encoding of the signature value, that shall also be used for validation. (adbe.x509.rsa\\_sha1, adbe.pkcs7.sha1, etc.)";
+    }
+
+    public static fromJson(data: any): MetadataSignature {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataSignature(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataSignature> {
+        return ModelStream.decodeArray(source, MetadataSignature.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'contact': this.contact,
+            'date': this.date,
+            'filter': this.filter,
+            'location': this.location,
+            'name': this.name,
+            'objectKey': this.objectKey,
+            'reason': this.reason,
+            'subFilter': this.subFilter,
+        };
+    }
+
+    public clone(): MetadataSignature {
+        return MetadataSignature.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "contact", typeof data?.contact !== "undefined" ? data?.contact : "") || changed;
+        changed = ModelAssignment.assignValue(this, "date", typeof data?.date !== "undefined" ? data?.date : "") || changed;
+        changed = ModelAssignment.assignValue(this, "filter", typeof data?.filter !== "undefined" ? data?.filter : "") || changed;
+        changed = ModelAssignment.assignValue(this, "location", typeof data?.location !== "undefined" ? data?.location : "") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "objectKey", typeof data?.objectKey !== "undefined" ? data?.objectKey : "") || changed;
+        changed = ModelAssignment.assignValue(this, "reason", typeof data?.reason !== "undefined" ? data?.reason : "") || changed;
+        changed = ModelAssignment.assignValue(this, "subFilter", typeof data?.subFilter !== "undefined" ? data?.subFilter : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.contact, other.contact)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.date, other.date)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.filter, other.filter)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.location, other.location)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.reason, other.reason)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.subFilter, other.subFilter)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.contact);
+        hash = ModelEquality.hash(hash, this.date);
+        hash = ModelEquality.hash(hash, this.filter);
+        hash = ModelEquality.hash(hash, this.location);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.reason);
+        hash = ModelEquality.hash(hash, this.subFilter);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataSignature(";
+        fingerprint += ModelEquality.fingerprint(this.contact) + ",";
+        fingerprint += ModelEquality.fingerprint(this.date) + ",";
+        fingerprint += ModelEquality.fingerprint(this.filter) + ",";
+        fingerprint += ModelEquality.fingerprint(this.location) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.reason) + ",";
+        fingerprint += ModelEquality.fingerprint(this.subFilter) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,275 @@
+import {
+    ModelAssignment,
+    MetadataTransitionStyle,
+    MetadataTransitionDirection,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface MetadataTransitionInterface  {
+
+    /**
+    * Whether or not the page is automatically flipped after a short period.
+    */
+    autoScroll?: boolean;
+    /**
+    * The direction of the transition animation (provided that it can be applied to the animation).  *   leftToRight = From left to right *   bottomToTop = From bottom to top *   rightToLeft = From right to left *   topToBottom = From top to bottom *   topLeftToBottomRight = From top left to bottom right *   none = Use the default value for the animation
+    */
+    direction?: MetadataTransitionDirection;
+    /**
+    * Selects the duration in seconds, that the animation shall be played for.
+    */
+    duration?: number;
+    /**
+    * For a fly animation, this determines whether or not the opacity shall stay constantly opaque during the animation.
+    */
+    flyAreaOpaque?: boolean;
+    /**
+    * For a fly animation, this determines the initial scale of the page, when flying in.
+    */
+    flyScale?: number;
+    /**
+    * The object ID of the transition definition. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The page a transition shall be defined for.
+    */
+    page?: number;
+    /**
+    * The style of transition animation.  *   blinds = Crossfades *   box = Crossfades in a rectangular pattern *   cover = Covers *   dissolve = Dissolves *   fade = Fades *   fly = Page flies in *   glitter = Page dissolves and is replaced *   push = Page is pushed out *   split = Splits page *   uncover = Uncovers page *   wipe = Wipes page *   none = No special effect
+    */
+    style?: MetadataTransitionStyle;
+
+}
+export class MetadataTransition implements MetadataTransitionInterface, Parameter {
+    /**
+    * Whether or not the page is automatically flipped after a short period.
+    */
+    autoScroll?: boolean;
+    /**
+    * The direction of the transition animation (provided that it can be applied to the animation).  *   leftToRight = From left to right *   bottomToTop = From bottom to top *   rightToLeft = From right to left *   topToBottom = From top to bottom *   topLeftToBottomRight = From top left to bottom right *   none = Use the default value for the animation
+    */
+    direction?: MetadataTransitionDirection;
+    /**
+    * Selects the duration in seconds, that the animation shall be played for.
+    */
+    duration?: number;
+    /**
+    * For a fly animation, this determines whether or not the opacity shall stay constantly opaque during the animation.
+    */
+    flyAreaOpaque?: boolean;
+    /**
+    * For a fly animation, this determines the initial scale of the page, when flying in.
+    */
+    flyScale?: number;
+    /**
+    * The object ID of the transition definition. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The page a transition shall be defined for.
+    */
+    page?: number;
+    /**
+    * The style of transition animation.  *   blinds = Crossfades *   box = Crossfades in a rectangular pattern *   cover = Covers *   dissolve = Dissolves *   fade = Fades *   fly = Page flies in *   glitter = Page dissolves and is replaced *   push = Page is pushed out *   split = Splits page *   uncover = Uncovers page *   wipe = Wipes page *   none = No special effect
+    */
+    style?: MetadataTransitionStyle;
+
+    constructor(data: any) {
+        let autoScrollDefault: any = false;
+        this.autoScroll = typeof data?.autoScroll !== "undefined" ? data?.autoScroll : autoScrollDefault;
+        let directionDefault: any = "none";
+        this.direction = typeof data?.direction !== "undefined" ? data?.direction : directionDefault;
+        let durationDefault: any = 1;
+        this.duration = typeof data?.duration !== "undefined" ? data?.duration : durationDefault;
+        let flyAreaOpaqueDefault: any = false;
+        this.flyAreaOpaque = typeof data?.flyAreaOpaque !== "undefined" ? data?.flyAreaOpaque : flyAreaOpaqueDefault;
+        let flyScaleDefault: any = 1;
+        this.flyScale = typeof data?.flyScale !== "undefined" ? data?.flyScale : flyScaleDefault;
+        let objectKeyDefault: any = "";
+        this.objectKey = typeof data?.objectKey !== "undefined" ? data?.objectKey : objectKeyDefault;
+        let pageDefault: any = 0;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        let styleDefault: any = "none";
+        this.style = typeof data?.style !== "undefined" ? data?.style : styleDefault;
+    }
+
+    public static getAutoScrollDefault(): boolean {
+        return false;
+    }
+
+    public static getAutoScrollDescription(): string {
+        return "Whether or not the page is automatically flipped after a short period.";
+    }
+
+    public static getDirectionDefault(): MetadataTransitionDirection {
+        return "none" as MetadataTransitionDirection;
+    }
+
+    public static getDirectionDescription(): string {
+        return "The direction of the transition animation (provided that it can be applied to the animation).\n\n*   leftToRight = From left to right\n*   bottomToTop = From bottom to top\n*   rightToLeft = From right to left\n*   topToBottom = From top to bottom\n*   topLeftToBottomRight = From top left to bottom right\n*   none = Use the default value for the animation";
+    }
+
+    public static getDurationDefault(): number {
+        return 1;
+    }
+
+    public static getDurationDescription(): string {
+        return "Selects the duration in seconds, that the animation shall be played for.";
+    }
+
+    public static getDurationMin(): number {
+        return 0;
+    }
+
+    public static getFlyAreaOpaqueDefault(): boolean {
+        return false;
+    }
+
+    public static getFlyAreaOpaqueDescription(): string {
+        return "For a fly animation, this determines whether or not the opacity shall stay constantly opaque during the animation.";
+    }
+
+    public static getFlyScaleDefault(): number {
+        return 1;
+    }
+
+    public static getFlyScaleDescription(): string {
+        return "For a fly animation, this determines the initial scale of the page, when flying in.";
+    }
+
+    public static getObjectKeyDefault(): string {
+        return "";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "The object ID of the transition definition. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static getPageDefault(): number {
+        return 0;
+    }
+
+    public static getPageDescription(): string {
+        return "The page a transition shall be defined for.";
+    }
+
+    public static getPageMin(): number {
+        return 0;
+    }
+
+    public static getStyleDefault(): MetadataTransitionStyle {
+        return "none" as MetadataTransitionStyle;
+    }
+
+    public static getStyleDescription(): string {
+        return "The style of transition animation.\n\n*   blinds = Crossfades\n*   box = Crossfades in a rectangular pattern\n*   cover = Covers\n*   dissolve = Dissolves\n*   fade = Fades\n*   fly = Page flies in\n*   glitter = Page dissolves and is replaced\n*   push = Page is pushed out\n*   split = Splits page\n*   uncover = Uncovers page\n*   wipe = Wipes page\n*   none = No special effect";
+    }
+
+    public static fromJson(data: any): MetadataTransition {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataTransition(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataTransition> {
+        return ModelStream.decodeArray(source, MetadataTransition.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'autoScroll': this.autoScroll,
+            'direction': this.direction,
+            'duration': this.duration,
+            'flyAreaOpaque': this.flyAreaOpaque,
+            'flyScale': this.flyScale,
+            'objectKey': this.objectKey,
+            'page': this.page,
+            'style': this.style,
+        };
+    }
+
+    public clone(): MetadataTransition {
+        return MetadataTransition.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "autoScroll", typeof data?.autoScroll !== "undefined" ? data?.autoScroll : false) || changed;
+        changed = ModelAssignment.assignValue(this, "direction", typeof data?.direction !== "undefined" ? data?.direction : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "duration", typeof data?.duration !== "undefined" ? data?.duration : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "flyAreaOpaque", typeof data?.flyAreaOpaque !== "undefined" ? data?.flyAreaOpaque : false) || changed;
+        changed = ModelAssignment.assignValue(this, "flyScale", typeof data?.flyScale !== "undefined" ? data?.flyScale : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "objectKey", typeof data?.objectKey !== "undefined" ? data?.objectKey : "") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "style", typeof data?.style !== "undefined" ? data?.style : "none") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.autoScroll, other.autoScroll)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.direction, other.direction)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.duration, other.duration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.flyAreaOpaque, other.flyAreaOpaque)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.flyScale, other.flyScale)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.style, other.style)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.autoScroll);
+        hash = ModelEquality.hash(hash, this.direction);
+        hash = ModelEquality.hash(hash, this.duration);
+        hash = ModelEquality.hash(hash, this.flyAreaOpaque);
+        hash = ModelEquality.hash(hash, this.flyScale);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.style);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataTransition(";
+        fingerprint += ModelEquality.fingerprint(this.autoScroll) + ",";
+        fingerprint += ModelEquality.fingerprint(this.direction) + ",";
+        fingerprint += ModelEquality.fingerprint(this.duration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.flyAreaOpaque) + ",";
+        fingerprint += ModelEquality.fingerprint(this.flyScale) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.style) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+export enum MetadataTransitionDirection {
+
+    TopLeftToBottomRight = 'topLeftToBottomRight',
+    RightToLeft = 'rightToLeft',
+    TopToBottom = 'topToBottom',
+    None = 'none',
+    LeftToRight = 'leftToRight',
+    BottomToTop = 'bottomToTop'
+
+}
\ No newline at end of file
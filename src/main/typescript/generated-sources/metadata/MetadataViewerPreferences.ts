@@ -0,0 +1,500 @@
+import {
+    ModelAssignment,
+    MetadataDuplex,
+    MetadataNonFullScreenPageMode,
+    MetadataPrintTraySelection,
+    MetadataPrintScale,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    BoxSelection,
+    MetadataTextDirection,
+} from "./../index";
+
+export interface MetadataViewerPreferencesInterface  {
+
+    /**
+    * The Reader's window shall be positioned at the center of the screen, when opening the document.
+    */
+    centerWindow?: boolean;
+    /**
+    * Instead of the file name the reader shall display the title of the document in it's title bar.
+    */
+    displayDocTitle?: boolean;
+    /**
+    * The duplex settings initially suggested when opening the Reader's print dialog.  *   none = The Reader shall use it's default suggestion. *   simplex = The Reader shall suggest simplex printing. *   duplexFlipShortEdge = The Reader shall suggest duplex printing, flipping pages over the shorter edge. *   duplexFlipLongEdge = The Reader shall suggest duplex printing, flipping pages over the longer edge.
+    */
+    duplex?: MetadataDuplex;
+    /**
+    * The dimensions of the Reader's window shall adapt to the first displayed page of the document.
+    */
+    fitWindow?: boolean;
+    /**
+    * The Reader's menu bar shall be hidden, when opening the document.
+    */
+    hideMenuBar?: boolean;
+    /**
+    * The Reader's toolbars shall be hidden, when opening the document.
+    */
+    hideToolbar?: boolean;
+    /**
+    * The Reader's navigation controls (such as scrollbars) shall be hidden, when opening the document.
+    */
+    hideWindowUI?: boolean;
+    /**
+    * When displaying a document in windowed mode, the Reader shall show the selected panel.  *   none = No panel shall be opened. *   outlines = The document's outlines shall be displayed. *   thumbnails = The document's page thumbnails shall be shown. *   optionalContents = document's layers (OCGs - Optional Content Groups) shall be displayed.
+    */
+    nonFullScreenPageMode?: MetadataNonFullScreenPageMode;
+    /**
+    * The number of copies initially suggested, when opening the Reader's print dialog.
+    */
+    numCopies?: number;
+    /**
+    * Selects the visible box, when displaying the document.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    printArea?: BoxSelection;
+    /**
+    * Selects the visible box, when displaying the document.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    printClip?: BoxSelection;
+    /**
+    * Selects the page range, that shall initially be suggested for printing, when opening the Reader's print dialog. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").
+    */
+    printPageRange?: string;
+    /**
+    * The print scaling initially suggested when opening the Reader's print dialog.  *   readerDefault = The Reader shall use it's default suggestion. *   byPDFSize = The Reader shall suggest to not scale the document during printing.
+    */
+    printScaling?: MetadataPrintScale;
+    /**
+    * The print tray selection initially suggested when opening the Reader's print dialog.  *   readerDefault = The Reader shall use it's default suggestion. *   byPDFSize = The Reader shall select a print tray, that matches the PDF's page dimensions.
+    */
+    printTraySelection?: MetadataPrintTraySelection;
+    /**
+    * Selects the predominant document's text writing/reading direction.  *   leftToRight or *   rightToLeft
+    */
+    textDirection?: MetadataTextDirection;
+    /**
+    * Selects the visible box, when displaying the document.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    viewArea?: BoxSelection;
+    /**
+    * Selects the visible box, when displaying the document.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    viewClip?: BoxSelection;
+
+}
+export class MetadataViewerPreferences implements MetadataViewerPreferencesInterface, Parameter {
+    /**
+    * The Reader's window shall be positioned at the center of the screen, when opening the document.
+    */
+    centerWindow?: boolean;
+    /**
+    * Instead of the file name the reader shall display the title of the document in it's title bar.
+    */
+    displayDocTitle?: boolean;
+    /**
+    * The duplex settings initially suggested when opening the Reader's print dialog.  *   none = The Reader shall use it's default suggestion. *   simplex = The Reader shall suggest simplex printing. *   duplexFlipShortEdge = The Reader shall suggest duplex printing, flipping pages over the shorter edge. *   duplexFlipLongEdge = The Reader shall suggest duplex printing, flipping pages over the longer edge.
+    */
+    duplex?: MetadataDuplex;
+    /**
+    * The dimensions of the Reader's window shall adapt to the first displayed page of the document.
+    */
+    fitWindow?: boolean;
+    /**
+    * The Reader's menu bar shall be hidden, when opening the document.
+    */
+    hideMenuBar?: boolean;
+    /**
+    * The Reader's toolbars shall be hidden, when opening the document.
+    */
+    hideToolbar?: boolean;
+    /**
+    * The Reader's navigation controls (such as scrollbars) shall be hidden, when opening the document.
+    */
+    hideWindowUI?: boolean;
+    /**
+    * When displaying a document in windowed mode, the Reader shall show the selected panel.  *   none = No panel shall be opened. *   outlines = The document's outlines shall be displayed. *   thumbnails = The document's page thumbnails shall be shown. *   optionalContents = document's layers (OCGs - Optional Content Groups) shall be displayed.
+    */
+    nonFullScreenPageMode?: MetadataNonFullScreenPageMode;
+    /**
+    * The number of copies initially suggested, when opening the Reader's print dialog.
+    */
+    numCopies?: number;
+    /**
+    * Selects the visible box, when displaying the document.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    printArea?: BoxSelection;
+    /**
+    * Selects the visible box, when displaying the document.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    printClip?: BoxSelection;
+    /**
+    * Selects the page range, that shall initially be suggested for printing, when opening the Reader's print dialog. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").
+    */
+    printPageRange?: string;
+    /**
+    * The print scaling initially suggested when opening the Reader's print dialog.  *   readerDefault = The Reader shall use it's default suggestion. *   byPDFSize = The Reader shall suggest to not scale the document during printing.
+    */
+    printScaling?: MetadataPrintScale;
+    /**
+    * The print tray selection initially suggested when opening the Reader's print dialog.  *   readerDefault = The Reader shall use it's default suggestion. *   byPDFSize = The Reader shall select a print tray, that matches the PDF's page dimensions.
+    */
+    printTraySelection?: MetadataPrintTraySelection;
+    /**
+    * Selects the predominant document's text writing/reading direction.  *   leftToRight or *   rightToLeft
+    */
+    textDirection?: MetadataTextDirection;
+    /**
+    * Selects the visible box, when displaying the document.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    viewArea?: BoxSelection;
+    /**
+    * Selects the visible box, when displaying the document.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    viewClip?: BoxSelection;
+
+    constructor(data: any) {
+        let centerWindowDefault: any = false;
+        this.centerWindow = typeof data?.centerWindow !== "undefined" ? data?.centerWindow : centerWindowDefault;
+        let displayDocTitleDefault: any = false;
+        this.displayDocTitle = typeof data?.displayDocTitle !== "undefined" ? data?.displayDocTitle : displayDocTitleDefault;
+        let duplexDefault: any = "none";
+        this.duplex = typeof data?.duplex !== "undefined" ? data?.duplex : duplexDefault;
+        let fitWindowDefault: any = false;
+        this.fitWindow = typeof data?.fitWindow !== "undefined" ? data?.fitWindow : fitWindowDefault;
+        let hideMenuBarDefault: any = false;
+        this.hideMenuBar = typeof data?.hideMenuBar !== "undefined" ? data?.hideMenuBar : hideMenuBarDefault;
+        let hideToolbarDefault: any = false;
+        this.hideToolbar = typeof data?.hideToolbar !== "undefined" ? data?.hideToolbar : hideToolbarDefault;
+        let hideWindowUIDefault: any = false;
+        this.hideWindowUI = typeof data?.hideWindowUI !== "undefined" ? data?.hideWindowUI : hideWindowUIDefault;
+        let nonFullScreenPageModeDefault: any = "none";
+        this.nonFullScreenPageMode = typeof data?.nonFullScreenPageMode !== "undefined" ? data?.nonFullScreenPageMode : nonFullScreenPageModeDefault;
+        let numCopiesDefault: any = 1;
+        this.numCopies = typeof data?.numCopies !== "undefined" ? data?.numCopies : numCopiesDefault;
+        let printAreaDefault: any = "cropBox";
+        this.printArea = typeof data?.printArea !== "undefined" ? data?.printArea : printAreaDefault;
+        let printClipDefault: any = "cropBox";
+        this.printClip = typeof data?.printClip !== "undefined" ? data?.printClip : printClipDefault;
+        let printPageRangeDefault: any = "";
+        this.printPageRange = typeof data?.printPageRange !== "undefined" ? data?.printPageRange : printPageRangeDefault;
+        let printScalingDefault: any = "readerDefault";
+        this.printScaling = typeof data?.printScaling !== "undefined" ? data?.printScaling : printScalingDefault;
+        let printTraySelectionDefault: any = "readerDefault";
+        this.printTraySelection = typeof data?.printTraySelection !== "undefined" ? data?.printTraySelection : printTraySelectionDefault;
+        let textDirectionDefault: any = "leftToRight";
+        this.textDirection = typeof data?.textDirection !== "undefined" ? data?.textDirection : textDirectionDefault;
+        let viewAreaDefault: any = "cropBox";
+        this.viewArea = typeof data?.viewArea !== "undefined" ? data?.viewArea : viewAreaDefault;
+        let viewClipDefault: any = "cropBox";
+        this.viewClip = typeof data?.viewClip !== "undefined" ? data?.viewClip : viewClipDefault;
+    }
+
+    public static getCenterWindowDefault(): boolean {
+        return false;
+    }
+
+    public static getCenterWindowDescription(): string {
+        return "The Reader's window shall be positioned at the center of the screen, when opening the document.";
+    }
+
+    public static getDisplayDocTitleDefault(): boolean {
+        return false;
+    }
+
+    public static getDisplayDocTitleDescription(): string {
+        return "Instead of the file name the reader shall display the title of the document in it's title bar.";
+    }
+
+    public static getDuplexDefault(): MetadataDuplex {
+        return "none" as MetadataDuplex;
+    }
+
+    public static getDuplexDescription(): string {
+        return "The duplex settings initially suggested when opening the Reader's print dialog.\n\n*   none = The Reader shall use it's default suggestion.\n*   simplex = The Reader shall suggest simplex printing.\n*   duplexFlipShortEdge = The Reader shall suggest duplex printing, flipping pages over the shorter edge.\n*   duplexFlipLongEdge = The Reader shall suggest duplex printing, flipping pages over the longer edge.";
+    }
+
+    public static getFitWindowDefault(): boolean {
+        return false;
+    }
+
+    public static getFitWindowDescription(): string {
+        return "The dimensions of the Reader's window shall adapt to the first displayed page of the document.";
+    }
+
+    public static getHideMenuBarDefault(): boolean {
+        return false;
+    }
+
+    public static getHideMenuBarDescription(): string {
+        return "The Reader's menu bar shall be hidden, when opening the document.";
+    }
+
+    public static getHideToolbarDefault(): boolean {
+        return false;
+    }
+
+    public static getHideToolbarDescription(): string {
+        return "The Reader's toolbars shall be hidden, when opening the document.";
+    }
+
+    public static getHideWindowUIDefault(): boolean {
+        return false;
+    }
+
+    public static getHideWindowUIDescription(): string {
+        return "The Reader's navigation controls (such as scrollbars) shall be hidden, when opening the document.";
+    }
+
+    public static getNonFullScreenPageModeDefault(): MetadataNonFullScreenPageMode {
+        return "none" as MetadataNonFullScreenPageMode;
+    }
+
+    public static getNonFullScreenPageModeDescription(): string {
+        return "When displaying a document in windowed mode, the Reader shall show the selected panel.\n\n*   none = No panel shall be opened.\n*   outlines = The document's outlines shall be displayed.\n*   thumbnails = The document's page thumbnails shall be shown.\n*   optionalContents = document's layers (OCGs - Optional Content Groups) shall be displayed.";
+    }
+
+    public static getNumCopiesDefault(): number {
+        return 1;
+    }
+
+    public static getNumCopiesDescription(): string {
+        return "The number of copies initially suggested, when opening the Reader's print dialog.";
+    }
+
+    public static getNumCopiesMin(): number {
+        return 1;
+    }
+
+    public static getPrintAreaDefault(): BoxSelection {
+        return "cropBox" as BoxSelection;
+    }
+
+    public static getPrintAreaDescription(): string {
+        return "Selects the visible box, when displaying the document.\n\n*   media\\_box = The page's physical dimensions.\n*   crop\\_box = The visible (printable) page area.\n*   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box).\n*   trim\\_box = Trimmed content position on the page (final content dimensions).\n*   art\\_box = Position for special page content (images).";
+    }
+
+    public static getPrintClipDefault(): BoxSelection {
+        return "cropBox" as BoxSelection;
+    }
+
+    public static getPrintClipDescription(): string {
+        return "Selects the visible box, when displaying the document.\n\n*   media\\_box = The page's physical dimensions.\n*   crop\\_box = The visible (printable) page area.\n*   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box).\n*   trim\\_box = Trimmed content position on the page (final content dimensions).\n*   art\\_box = Position for special page content (images).";
+    }
+
+    public static getPrintPageRangeDefault(): string {
+        return "";
+    }
+
+    public static getPrintPageRangeDescription(): string {
+        return "Selects the page range, that shall initially be suggested for printing, when opening the Reader's print dialog. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").";
+    }
+
+    public static getPrintScalingDefault(): MetadataPrintScale {
+        return "readerDefault" as MetadataPrintScale;
+    }
+
+    public static getPrintScalingDescription(): string {
+        return "The print scaling initially suggested when opening the Reader's print dialog.\n\n*   readerDefault = The Reader shall use it's default suggestion.\n*   byPDFSize = The Reader shall suggest to not scale the document during printing.";
+    }
+
+    public static getPrintTraySelectionDefault(): MetadataPrintTraySelection {
+        return "readerDefault" as MetadataPrintTraySelection;
+    }
+
+    public static getPrintTraySelectionDescription(): string {
+        return "The print tray selection initially suggested when opening the Reader's print dialog.\n\n*   readerDefault = The Reader shall use it's default suggestion.\n*   byPDFSize = The Reader shall select a print tray, that matches the PDF's page dimensions.";
+    }
+
+    public static getTextDirectionDefault(): MetadataTextDirection {
+        return "leftToRight" as MetadataTextDirection;
+    }
+
+    public static getTextDirectionDescription(): string {
+        return "Selects the predominant document's text writing\/reading direction.\n\n*   leftToRight or\n*   rightToLeft";
+    }
+
+    public static getViewAreaDefault(): BoxSelection {
+        return "cropBox" as BoxSelection;
+    }
+
+    public static getViewAreaDescription(): string {
+        return "Selects the visible box, when displaying the document.\n\n*   media\\_box = The page's physical dimensions.\n*   crop\\_box = The visible (printable) page area.\n*   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box).\n*   trim\\_box = Trimmed content position on the page (final content dimensions).\n*   art\\_box = Position for special page content (images).";
+    }
+
+    public static getViewClipDefault(): BoxSelection {
+        return "cropBox" as BoxSelection;
+    }
+
+    public static getViewClipDescription(): string {
+        return "Selects the visible box, when displaying the document.\n\n*   media\\_box = The page's physical dimensions.\n*   crop\\_box = The visible (printable) page area.\n*   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box).\n*   trim\\_box = Trimmed content position on the page (final content dimensions).\n*   art\\_box = Position for special page content (images).";
+    }
+
+    public static fromJson(data: any): MetadataViewerPreferences {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MetadataViewerPreferences(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MetadataViewerPreferences> {
+        return ModelStream.decodeArray(source, MetadataViewerPreferences.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'centerWindow': this.centerWindow,
+            'displayDocTitle': this.displayDocTitle,
+            'duplex': this.duplex,
+            'fitWindow': this.fitWindow,
+            'hideMenuBar': this.hideMenuBar,
+            'hideToolbar': this.hideToolbar,
+            'hideWindowUI': this.hideWindowUI,
+            'nonFullScreenPageMode': this.nonFullScreenPageMode,
+            'numCopies': this.numCopies,
+            'printArea': this.printArea,
+            'printClip': this.printClip,
+            'printPageRange': this.printPageRange,
+            'printScaling': this.printScaling,
+            'printTraySelection': this.printTraySelection,
+            'textDirection': this.textDirection,
+            'viewArea': this.viewArea,
+            'viewClip': this.viewClip,
+        };
+    }
+
+    public clone(): MetadataViewerPreferences {
+        return MetadataViewerPreferences.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "centerWindow", typeof data?.centerWindow !== "undefined" ? data?.centerWindow : false) || changed;
+        changed = ModelAssignment.assignValue(this, "displayDocTitle", typeof data?.displayDocTitle !== "undefined" ? data?.displayDocTitle : false) || changed;
+        changed = ModelAssignment.assignValue(this, "duplex", typeof data?.duplex !== "undefined" ? data?.duplex : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "fitWindow", typeof data?.fitWindow !== "undefined" ? data?.fitWindow : false) || changed;
+        changed = ModelAssignment.assignValue(this, "hideMenuBar", typeof data?.hideMenuBar !== "undefined" ? data?.hideMenuBar : false) || changed;
+        changed = ModelAssignment.assignValue(this, "hideToolbar", typeof data?.hideToolbar !== "undefined" ? data?.hideToolbar : false) || changed;
+        changed = ModelAssignment.assignValue(this, "hideWindowUI", typeof data?.hideWindowUI !== "undefined" ? data?.hideWindowUI : false) || changed;
+        changed = ModelAssignment.assignValue(this, "nonFullScreenPageMode", typeof data?.nonFullScreenPageMode !== "undefined" ? data?.nonFullScreenPageMode : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "numCopies", typeof data?.numCopies !== "undefined" ? data?.numCopies : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "printArea", typeof data?.printArea !== "undefined" ? data?.printArea : "cropBox") || changed;
+        changed = ModelAssignment.assignValue(this, "printClip", typeof data?.printClip !== "undefined" ? data?.printClip : "cropBox") || changed;
+        changed = ModelAssignment.assignValue(this, "printPageRange", typeof data?.printPageRange !== "undefined" ? data?.printPageRange : "") || changed;
+        changed = ModelAssignment.assignValue(this, "printScaling", typeof data?.printScaling !== "undefined" ? data?.printScaling : "readerDefault") || changed;
+        changed = ModelAssignment.assignValue(this, "printTraySelection", typeof data?.printTraySelection !== "undefined" ? data?.printTraySelection : "readerDefault") || changed;
+        changed = ModelAssignment.assignValue(this, "textDirection", typeof data?.textDirection !== "undefined" ? data?.textDirection : "leftToRight") || changed;
+        changed = ModelAssignment.assignValue(this, "viewArea", typeof data?.viewArea !== "undefined" ? data?.viewArea : "cropBox") || changed;
+        changed = ModelAssignment.assignValue(this, "viewClip", typeof data?.viewClip !== "undefined" ? data?.viewClip : "cropBox") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.centerWindow, other.centerWindow)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.displayDocTitle, other.displayDocTitle)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.duplex, other.duplex)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fitWindow, other.fitWindow)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hideMenuBar, other.hideMenuBar)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hideToolbar, other.hideToolbar)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hideWindowUI, other.hideWindowUI)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.nonFullScreenPageMode, other.nonFullScreenPageMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.numCopies, other.numCopies)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printArea, other.printArea)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printClip, other.printClip)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printPageRange, other.printPageRange)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printScaling, other.printScaling)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printTraySelection, other.printTraySelection)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.textDirection, other.textDirection)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.viewArea, other.viewArea)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.viewClip, other.viewClip)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.centerWindow);
+        hash = ModelEquality.hash(hash, this.displayDocTitle);
+        hash = ModelEquality.hash(hash, this.duplex);
+        hash = ModelEquality.hash(hash, this.fitWindow);
+        hash = ModelEquality.hash(hash, this.hideMenuBar);
+        hash = ModelEquality.hash(hash, this.hideToolbar);
+        hash = ModelEquality.hash(hash, this.hideWindowUI);
+        hash = ModelEquality.hash(hash, this.nonFullScreenPageMode);
+        hash = ModelEquality.hash(hash, this.numCopies);
+        hash = ModelEquality.hash(hash, this.printArea);
+        hash = ModelEquality.hash(hash, this.printClip);
+        hash = ModelEquality.hash(hash, this.printPageRange);
+        hash = ModelEquality.hash(hash, this.printScaling);
+        hash = ModelEquality.hash(hash, this.printTraySelection);
+        hash = ModelEquality.hash(hash, this.textDirection);
+        hash = ModelEquality.hash(hash, this.viewArea);
+        hash = ModelEquality.hash(hash, this.viewClip);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MetadataViewerPreferences(";
+        fingerprint += ModelEquality.fingerprint(this.centerWindow) + ",";
+        fingerprint += ModelEquality.fingerprint(this.displayDocTitle) + ",";
+        fingerprint += ModelEquality.fingerprint(this.duplex) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fitWindow) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hideMenuBar) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hideToolbar) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hideWindowUI) + ",";
+        fingerprint += ModelEquality.fingerprint(this.nonFullScreenPageMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.numCopies) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printArea) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printClip) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printPageRange) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printScaling) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printTraySelection) + ",";
+        fingerprint += ModelEquality.fingerprint(this.textDirection) + ",";
+        fingerprint += ModelEquality.fingerprint(this.viewArea) + ",";
+        fingerprint += ModelEquality.fingerprint(this.viewClip) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,246 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    Boxes,
+} from "./../index";
+
+export interface PagePagesInterface  {
+
+    boxes: Boxes;
+    /**
+    * The height of this page in points.
+    */
+    height?: number;
+    /**
+    * The page label of this page.
+    */
+    label?: string;
+    /**
+    * The page number of this page.
+    */
+    number?: number;
+    /**
+    * The object ID of the page. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The rotation of this page in degrees.
+    */
+    rotation?: number;
+    /**
+    * The width of this page in points.
+    */
+    width?: number;
+
+}
+export class PagePages implements PagePagesInterface, Parameter {
+    boxes: Boxes;
+    /**
+    * The height of this page in points.
+    */
+    height?: number;
+    /**
+    * The page label of this page.
+    */
+    label?: string;
+    /**
+    * The page number of this page.
+    */
+    number?: number;
+    /**
+    * The object ID of the page. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectKey?: string;
+    /**
+    * The rotation of this page in degrees.
+    */
+    rotation?: number;
+    /**
+    * The width of this page in points.
+    */
+    width?: number;
+
+    constructor(data: any) {
+        this.boxes = Boxes.fromJson(data.boxes);
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let labelDefault: any = "";
+        this.label = typeof data?.label !== "undefined" ? data?.label : labelDefault;
+        let numberDefault: any = 0;
+        this.number = typeof data?.number !== "undefined" ? data?.number : numberDefault;
+        let objectKeyDefault: any = "";
+        this.objectKey = typeof data?.objectKey !== "undefined" ? data?.objectKey : objectKeyDefault;
+        let rotationDefault: any = 0;
+        this.rotation = typeof data?.rotation !== "undefined" ? data?.rotation : rotationDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+    }
+
+    public static getBoxesDescription(): string {
+        return "";
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "The height of this page in points.";
+    }
+
+    public static getHeightMin(): number {
+        return 0;
+    }
+
+    public static getLabelDefault(): string {
+        return "";
+    }
+
+    public static getLabelDescription(): string {
+        return "The page label of this page.";
+    }
+
+    public static getNumberDefault(): number {
+        return 0;
+    }
+
+    public static getNumberDescription(): string {
+        return "The page number of this page.";
+    }
+
+    public static getNumberMin(): number {
+        return 0;
+    }
+
+    public static getObjectKeyDefault(): string {
+        return "";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "The object ID of the page. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static getRotationDefault(): number {
+        return 0;
+    }
+
+    public static getRotationDescription(): string {
+        return "The rotation of this page in degrees.";
+    }
+
+    public static getRotationMin(): number {
+        return 0;
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "The width of this page in points.";
+    }
+
+    public static getWidthMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): PagePages {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PagePages(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PagePages> {
+        return ModelStream.decodeArray(source, PagePages.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'boxes': this.boxes?.toJson(),
+            'height': this.height,
+            'label': this.label,
+            'number': this.number,
+            'objectKey': this.objectKey,
+            'rotation': this.rotation,
+            'width': this.width,
+        };
+    }
+
+    public clone(): PagePages {
+        return PagePages.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "boxes", data.boxes, Boxes.fromJson, Boxes) || changed;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "label", typeof data?.label !== "undefined" ? data?.label : "") || changed;
+        changed = ModelAssignment.assignValue(this, "number", typeof data?.number !== "undefined" ? data?.number : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "objectKey", typeof data?.objectKey !== "undefined" ? data?.objectKey : "") || changed;
+        changed = ModelAssignment.assignValue(this, "rotation", typeof data?.rotation !== "undefined" ? data?.rotation : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.boxes, other.boxes)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.label, other.label)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.number, other.number)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rotation, other.rotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.boxes);
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.label);
+        hash = ModelEquality.hash(hash, this.number);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.rotation);
+        hash = ModelEquality.hash(hash, this.width);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PagePages(";
+        fingerprint += ModelEquality.fingerprint(this.boxes) + ",";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.label) + ",";
+        fingerprint += ModelEquality.fingerprint(this.number) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
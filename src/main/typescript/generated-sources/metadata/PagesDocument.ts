@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    PagePages,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PagesDocumentInterface  {
+
+    page?: Array<PagePages>;
+
+}
+export class PagesDocument implements PagesDocumentInterface, Parameter {
+    page?: Array<PagePages>;
+
+    constructor(data: any) {
+        this.page = (data?.page || []).map(
+            PagePages.fromJson
+        );
+    }
+
+    public static getPageDefault(): Array<PagePages> {
+        return [];
+    }
+
+    public static getPageDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PagesDocument {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PagesDocument(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PagesDocument> {
+        return ModelStream.decodeArray(source, PagesDocument.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'page': this.page?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): PagesDocument {
+        return PagesDocument.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "page", data?.page, PagePages.fromJson, PagePages) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.page);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PagesDocument(";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
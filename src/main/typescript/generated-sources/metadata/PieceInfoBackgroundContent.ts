@@ -0,0 +1,311 @@
+import {
+    ModelAssignment,
+    Alignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PieceInfoBackgroundContentInterface  {
+
+    /**
+    * When set to true the page shall be scaled relative to it's own original dimensions, when set to false, it shall be scaled relative to the page dimensions.
+    */
+    absoluteScaling?: boolean;
+    /**
+    * Uses one of multiple preset positions in order to position the background on the page.  *   custom = Disable the use of a preset position. *   top\\_left = Positions the background in the top left corner. *   top\\_center = Positions the background in the centre on the top margin. *   top\\_right = Positions the background in the top right corner. *   center\\_left = Positions the background at the centre of the page, to the left. *   center\\_center = Positions the background at the centre of the page. *   center\\_right = Positions the background at the centre of the page, to the right. *   bottom\\_left = Positions the background in the bottom left corner. *   bottom\\_center = Positions the background in the centre on the bottom margin. *   bottom\\_right = Positions the background in the bottom right corner.
+    */
+    alignment?: Alignment;
+    /**
+    * The color of a unicolor background.
+    */
+    color?: string;
+    /**
+    * The horizontal offset in relation to the backgrounds bas position.
+    */
+    horizOffset?: number;
+    /**
+    * The opacity of the background, as a percentage in the range 0.0 (fully transparent) to 1.0 (fully opaque).
+    */
+    opacity?: number;
+    /**
+    * The rotation of the background.
+    */
+    rotation?: number;
+    /**
+    * The scaling of the background.
+    */
+    scale?: number;
+    /**
+    * The Adobe unit used to display offsets in readers. (millimeters, pica, point etc).
+    */
+    unit?: string;
+    /**
+    * The vertical offset in relation to the backgrounds bas position.
+    */
+    vertOffset?: number;
+
+}
+export class PieceInfoBackgroundContent implements PieceInfoBackgroundContentInterface, Parameter {
+    /**
+    * When set to true the page shall be scaled relative to it's own original dimensions, when set to false, it shall be scaled relative to the page dimensions.
+    */
+    absoluteScaling?: boolean;
+    /**
+    * Uses one of multiple preset positions in order to position the background on the page.  *   custom = Disable the use of a preset position. *   top\\_left = Positions the background in the top left corner. *   top\\_center = Positions the background in the centre on the top margin. *   top\\_right = Positions the background in the top right corner. *   center\\_left = Positions the background at the centre of the page, to the left. *   center\\_center = Positions the background at the centre of the page. *   center\\_right = Positions the background at the centre of the page, to the right. *   bottom\\_left = Positions the background in the bottom left corner. *   bottom\\_center = Positions the background in the centre on the bottom margin. *   bottom\\_right = Positions the background in the bottom right corner.
+    */
+    alignment?: Alignment;
+    /**
+    * The color of a unicolor background.
+    */
+    color?: string;
+    /**
+    * The horizontal offset in relation to the backgrounds bas position.
+    */
+    horizOffset?: number;
+    /**
+    * The opacity of the background, as a percentage in the range 0.0 (fully transparent) to 1.0 (fully opaque).
+    */
+    opacity?: number;
+    /**
+    * The rotation of the background.
+    */
+    rotation?: number;
+    /**
+    * The scaling of the background.
+    */
+    scale?: number;
+    /**
+    * The Adobe unit used to display offsets in readers. (millimeters, pica, point etc).
+    */
+    unit?: string;
+    /**
+    * The vertical offset in relation to the backgrounds bas position.
+    */
+    vertOffset?: number;
+
+    constructor(data: any) {
+        let absoluteScalingDefault: any = true;
+        this.absoluteScaling = typeof data?.absoluteScaling !== "undefined" ? data?.absoluteScaling : absoluteScalingDefault;
+        let alignmentDefault: any = "top_left";
+        this.alignment = typeof data?.alignment !== "undefined" ? data?.alignment : alignmentDefault;
+        let colorDefault: any = "#FFFFFF";
+        this.color = typeof data?.color !== "undefined" ? data?.color : colorDefault;
+        let horizOffsetDefault: any = 0.0;
+        this.horizOffset = typeof data?.horizOffset !== "undefined" ? data?.horizOffset : horizOffsetDefault;
+        let opacityDefault: any = 1.0;
+        this.opacity = typeof data?.opacity !== "undefined" ? data?.opacity : opacityDefault;
+        let rotationDefault: any = 0;
+        this.rotation = typeof data?.rotation !== "undefined" ? data?.rotation : rotationDefault;
+        let scaleDefault: any = 1;
+        this.scale = typeof data?.scale !== "undefined" ? data?.scale : scaleDefault;
+        let unitDefault: any = "";
+        this.unit = typeof data?.unit !== "undefined" ? data?.unit : unitDefault;
+        let vertOffsetDefault: any = 0.0;
+        this.vertOffset = typeof data?.vertOffset !== "undefined" ? data?.vertOffset : vertOffsetDefault;
+    }
+
+    public static getAbsoluteScalingDefault(): boolean {
+        return true;
+    }
+
+    public static getAbsoluteScalingDescription(): string {
+        return "When set to true the page shall be scaled relative to it's own original dimensions, when set to false, it shall be scaled relative to the page dimensions.";
+    }
+
+    public static getAlignmentDefault(): Alignment {
+        return "top_left" as Alignment;
+    }
+
+    public static getAlignmentDescription(): string {
+        return "Uses one of multiple preset positions in order to position the background on the page.\n\n*   custom = Disable the use of a preset position.\n*   top\\_left = Positions the background in the top left corner.\n*   top\\_center = Positions the background in the centre on the top margin.\n*   top\\_right = Positions the background in the top right corner.\n*   center\\_left = Positions the background at the centre of the page, to the left.\n*   center\\_center = Positions the background at the centre of the page.\n*   center\\_right = Positions the background at the centre of the page, to the right.\n*   bottom\\_left = Positions the background in the bottom left corner.\n*   bottom\\_center = Positions the background in the centre on the bottom margin.\n*   bottom\\_right = Positions the background in the bottom right corner.";
+    }
+
+    public static getColorDefault(): string {
+        return "#FFFFFF";
+    }
+
+    public static getColorDescription(): string {
+        return "The color of a unicolor background.";
+    }
+
+    public static getHorizOffsetDefault(): number {
+        return 0.0;
+    }
+
+    public static getHorizOffsetDescription(): string {
+        return "The horizontal offset in relation to the backgrounds bas position.";
+    }
+
+    public static getOpacityDefault(): number {
+        return 1.0;
+    }
+
+    public static getOpacityDescription(): string {
+        return "The opacity of the background, as a percentage in the range 0.0 (fully transparent) to 1.0 (fully opaque).";
+    }
+
+    public static getOpacityMin(): number {
+        return 0;
+    }
+
+    public static getOpacityMax(): number {
+        return 1;
+    }
+
+    public static getRotationDefault(): number {
+        return 0;
+    }
+
+    public static getRotationDescription(): string {
+        return "The rotation of the background.";
+    }
+
+    public static getRotationMin(): number {
+        return 0;
+    }
+
+    public static getRotationMax(): number {
+        return 360;
+    }
+
+    public static getScaleDefault(): number {
+        return 1;
+    }
+
+    public static getScaleDescription(): string {
+        return "The scaling of the background.";
+    }
+
+    public static getScaleMin(): number {
+        return 0;
+    }
+
+    public static getUnitDefault(): string {
+        return "";
+    }
+
+    public static getUnitDescription(): string {
+        return "The Adobe unit used to display offsets in readers. (millimeters, pica, point etc).";
+    }
+
+    public static getVertOffsetDefault(): number {
+        return 0.0;
+    }
+
+    public static getVertOffsetDescription(): string {
+        return "The vertical offset in relation to the backgrounds bas position.";
+    }
+
+    public static fromJson(data: any): PieceInfoBackgroundContent {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PieceInfoBackgroundContent(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PieceInfoBackgroundContent> {
+        return ModelStream.decodeArray(source, PieceInfoBackgroundContent.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'absoluteScaling': this.absoluteScaling,
+            'alignment': this.alignment,
+            'color': this.color,
+            'horizOffset': this.horizOffset,
+            'opacity': this.opacity,
+            'rotation': this.rotation,
+            'scale': this.scale,
+            'unit': this.unit,
+            'vertOffset': this.vertOffset,
+        };
+    }
+
+    public clone(): PieceInfoBackgroundContent {
+        return PieceInfoBackgroundContent.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "absoluteScaling", typeof data?.absoluteScaling !== "undefined" ? data?.absoluteScaling : true) || changed;
+        changed = ModelAssignment.assignValue(this, "alignment", typeof data?.alignment !== "undefined" ? data?.alignment : "top_left") || changed;
+        changed = ModelAssignment.assignValue(this, "color", typeof data?.color !== "undefined" ? data?.color : "#FFFFFF") || changed;
+        changed = ModelAssignment.assignValue(this, "horizOffset", typeof data?.horizOffset !== "undefined" ? data?.horizOffset : 0.0) || changed;
+        changed = ModelAssignment.assignValue(this, "opacity", typeof data?.opacity !== "undefined" ? data?.opacity : 1.0) || changed;
+        changed = ModelAssignment.assignValue(this, "rotation", typeof data?.rotation !== "undefined" ? data?.rotation : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "scale", typeof data?.scale !== "undefined" ? data?.scale : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "unit", typeof data?.unit !== "undefined" ? data?.unit : "") || changed;
+        changed = ModelAssignment.assignValue(this, "vertOffset", typeof data?.vertOffset !== "undefined" ? data?.vertOffset : 0.0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.absoluteScaling, other.absoluteScaling)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.alignment, other.alignment)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.color, other.color)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.horizOffset, other.horizOffset)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.opacity, other.opacity)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rotation, other.rotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scale, other.scale)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.unit, other.unit)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.vertOffset, other.vertOffset)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.absoluteScaling);
+        hash = ModelEquality.hash(hash, this.alignment);
+        hash = ModelEquality.hash(hash, this.color);
+        hash = ModelEquality.hash(hash, this.horizOffset);
+        hash = ModelEquality.hash(hash, this.opacity);
+        hash = ModelEquality.hash(hash, this.rotation);
+        hash = ModelEquality.hash(hash, this.scale);
+        hash = ModelEquality.hash(hash, this.unit);
+        hash = ModelEquality.hash(hash, this.vertOffset);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PieceInfoBackgroundContent(";
+        fingerprint += ModelEquality.fingerprint(this.absoluteScaling) + ",";
+        fingerprint += ModelEquality.fingerprint(this.alignment) + ",";
+        fingerprint += ModelEquality.fingerprint(this.color) + ",";
+        fingerprint += ModelEquality.fingerprint(this.horizOffset) + ",";
+        fingerprint += ModelEquality.fingerprint(this.opacity) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scale) + ",";
+        fingerprint += ModelEquality.fingerprint(this.unit) + ",";
+        fingerprint += ModelEquality.fingerprint(this.vertOffset) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+import {
+    ModelAssignment,
+    MetadataRectangle,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PopupInterface  {
+
+    /**
+    * When set to true, the popup shall be displayed, when opening the document.
+    */
+    isOpen?: boolean;
+    rectangle: MetadataRectangle;
+
+}
+export class Popup implements PopupInterface, Parameter {
+    /**
+    * When set to true, the popup shall be displayed, when opening the document.
+    */
+    isOpen?: boolean;
+    rectangle: MetadataRectangle;
+
+    constructor(data: any) {
+        let isOpenDefault: any = false;
+        this.isOpen = typeof data?.isOpen !== "undefined" ? data?.isOpen : isOpenDefault;
+        this.rectangle = MetadataRectangle.fromJson(data.rectangle);
+    }
+
+    public static getIsOpenDefault(): boolean {
+        return false;
+    }
+
+    public static getIsOpenDescription(): string {
+        return "When set to true, the popup shall be displayed, when opening the document.";
+    }
+
+    public static getRectangleDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Popup {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Popup(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Popup> {
+        return ModelStream.decodeArray(source, Popup.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'isOpen': this.isOpen,
+            'rectangle': this.rectangle?.toJson(),
+        };
+    }
+
+    public clone(): Popup {
+        return Popup.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "isOpen", typeof data?.isOpen !== "undefined" ? data?.isOpen : false) || changed;
+        changed = ModelAssignment.assignModel(this, "rectangle", data.rectangle, MetadataRectangle.fromJson, MetadataRectangle) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isOpen, other.isOpen)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rectangle, other.rectangle)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.isOpen);
+        hash = ModelEquality.hash(hash, this.rectangle);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Popup(";
+        fingerprint += ModelEquality.fingerprint(this.isOpen) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rectangle) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    AnnotationPoint,
+    AnnotationRectangle,
+} from "./../index";
+
+export interface PositionsInterface  {
+
+
+}
+export class Positions implements PositionsInterface, Parameter {
+
+    constructor(data: any) {
+    }
+
+    public static fromJson(data: any): Positions {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        if (typeof data.rectangle !== "undefined") {
+            return AnnotationRectangle.fromJson(data);
+        }
+
+        if (typeof data.point !== "undefined") {
+            return AnnotationPoint.fromJson(data);
+        }
+
+        return new Positions(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Positions> {
+        return ModelStream.decodeArray(source, Positions.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+        };
+    }
+
+    public clone(): Positions {
+        return Positions.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Positions(";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
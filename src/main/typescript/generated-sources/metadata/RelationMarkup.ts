@@ -0,0 +1,125 @@
+import {
+    ModelAssignment,
+    GroupRelation,
+    CommentRelation,
+    ModelStream,
+    Parameter,
+    MarkRelation,
+    ModelEquality,
+    ReplyStateRelation,
+} from "./../index";
+
+export interface RelationMarkupInterface  {
+
+    comment?: CommentRelation;
+    group?: GroupRelation;
+    mark?: MarkRelation;
+    state?: ReplyStateRelation;
+
+}
+export class RelationMarkup implements RelationMarkupInterface, Parameter {
+    comment?: CommentRelation;
+    group?: GroupRelation;
+    mark?: MarkRelation;
+    state?: ReplyStateRelation;
+
+    constructor(data: any) {
+        this.comment = CommentRelation.fromJson(data?.comment);
+        this.group = GroupRelation.fromJson(data?.group);
+        this.mark = MarkRelation.fromJson(data?.mark);
+        this.state = ReplyStateRelation.fromJson(data?.state);
+    }
+
+    public static getCommentDescription(): string {
+        return "";
+    }
+
+    public static getGroupDescription(): string {
+        return "";
+    }
+
+    public static getMarkDescription(): string {
+        return "";
+    }
+
+    public static getStateDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): RelationMarkup {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new RelationMarkup(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<RelationMarkup> {
+        return ModelStream.decodeArray(source, RelationMarkup.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'comment': this.comment?.toJson(),
+            'group': this.group?.toJson(),
+            'mark': this.mark?.toJson(),
+            'state': this.state?.toJson(),
+        };
+    }
+
+    public clone(): RelationMarkup {
+        return RelationMarkup.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "comment", data?.comment, CommentRelation.fromJson, CommentRelation) || changed;
+        changed = ModelAssignment.assignModel(this, "group", data?.group, GroupRelation.fromJson, GroupRelation) || changed;
+        changed = ModelAssignment.assignModel(this, "mark", data?.mark, MarkRelation.fromJson, MarkRelation) || changed;
+        changed = ModelAssignment.assignModel(this, "state", data?.state, ReplyStateRelation.fromJson, ReplyStateRelation) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.comment, other.comment)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.group, other.group)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mark, other.mark)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.state, other.state)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.comment);
+        hash = ModelEquality.hash(hash, this.group);
+        hash = ModelEquality.hash(hash, this.mark);
+        hash = ModelEquality.hash(hash, this.state);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "RelationMarkup(";
+        fingerprint += ModelEquality.fingerprint(this.comment) + ",";
+        fingerprint += ModelEquality.fingerprint(this.group) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mark) + ",";
+        fingerprint += ModelEquality.fingerprint(this.state) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    MetadataReplyState,
+    ModelEquality,
+} from "./../index";
+
+export interface ReplyStateRelationInterface  {
+
+    /**
+    * The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectID?: string;
+    /**
+    * The set reply state of a commented annotation.  *   accepted = The user agrees with the change. *   rejected = The user disagrees with the change. *   cancelled = The change has been cancelled. *   completed = The change has been completed. *   none = The user did not set a state.
+    */
+    state?: MetadataReplyState;
+
+}
+export class ReplyStateRelation implements ReplyStateRelationInterface, Parameter {
+    /**
+    * The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.
+    */
+    objectID?: string;
+    /**
+    * The set reply state of a commented annotation.  *   accepted = The user agrees with the change. *   rejected = The user disagrees with the change. *   cancelled = The change has been cancelled. *   completed = The change has been completed. *   none = The user did not set a state.
+    */
+    state?: MetadataReplyState;
+
+    constructor(data: any) {
+        let objectIDDefault: any = "";
+        this.objectID = typeof data?.objectID !== "undefined" ? data?.objectID : objectIDDefault;
+        let stateDefault: any = "none";
+        this.state = typeof data?.state !== "undefined" ? data?.state : stateDefault;
+    }
+
+    public static getObjectIDDefault(): string {
+        return "";
+    }
+
+    public static getObjectIDDescription(): string {
+        return "The object ID of the annotation. **Info:** A PDF object ID consists of two numbers, where the first number selects the object's number and the second the \"generation\" of the object. The object ID shall always be unique within the context of the document and can be used to select a specific object.";
+    }
+
+    public static getStateDefault(): MetadataReplyState {
+        return "none" as MetadataReplyState;
+    }
+
+    public static getStateDescription(): string {
+        return "The set reply state of a commented annotation.\n\n*   accepted = The user agrees with the change.\n*   rejected = The user disagrees with the change.\n*   cancelled = The change has been cancelled.\n*   completed = The change has been completed.\n*   none = The user did not set a state.";
+    }
+
+    public static fromJson(data: any): ReplyStateRelation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ReplyStateRelation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ReplyStateRelation> {
+        return ModelStream.decodeArray(source, ReplyStateRelation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'objectID': this.objectID,
+            'state': this.state,
+        };
+    }
+
+    public clone(): ReplyStateRelation {
+        return ReplyStateRelation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "objectID", typeof data?.objectID !== "undefined" ? data?.objectID : "") || changed;
+        changed = ModelAssignment.assignValue(this, "state", typeof data?.state !== "undefined" ? data?.state : "none") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectID, other.objectID)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.state, other.state)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.objectID);
+        hash = ModelEquality.hash(hash, this.state);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ReplyStateRelation(";
+        fingerprint += ModelEquality.fingerprint(this.objectID) + ",";
+        fingerprint += ModelEquality.fingerprint(this.state) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,280 @@
+import {
+    ModelAssignment,
+    MetadataPassword,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SecurityInterface  {
+
+    /**
+    * If \"true,\" the document can be rearranged (e.g., pages can be deleted, inserted, and rotated).
+    */
+    canAssemble?: boolean;
+    /**
+    * If \"true,\" content can be extracted (copied) from the document.
+    */
+    canExtractContent?: boolean;
+    /**
+    * If \"true,\" content can be extracted (copied) for accessibility purposes.
+    */
+    canExtractForAccessibility?: boolean;
+    /**
+    * If \"true,\" form fields can be filled out and the document can be signed.
+    */
+    canFillInForm?: boolean;
+    /**
+    * If \"true,\" changes to the document are permitted.
+    */
+    canModify?: boolean;
+    /**
+    * If \"true,\" comments can be added to the document and deleted from the document.
+    */
+    canModifyAnnotations?: boolean;
+    /**
+    * If \"true,\" the document can be printed.
+    */
+    canPrint?: boolean;
+    /**
+    * If \"true,\" the document can be printed at high resolution levels.
+    */
+    canPrintHighRes?: boolean;
+    password?: MetadataPassword;
+
+}
+export class Security implements SecurityInterface, Parameter {
+    /**
+    * If \"true,\" the document can be rearranged (e.g., pages can be deleted, inserted, and rotated).
+    */
+    canAssemble?: boolean;
+    /**
+    * If \"true,\" content can be extracted (copied) from the document.
+    */
+    canExtractContent?: boolean;
+    /**
+    * If \"true,\" content can be extracted (copied) for accessibility purposes.
+    */
+    canExtractForAccessibility?: boolean;
+    /**
+    * If \"true,\" form fields can be filled out and the document can be signed.
+    */
+    canFillInForm?: boolean;
+    /**
+    * If \"true,\" changes to the document are permitted.
+    */
+    canModify?: boolean;
+    /**
+    * If \"true,\" comments can be added to the document and deleted from the document.
+    */
+    canModifyAnnotations?: boolean;
+    /**
+    * If \"true,\" the document can be printed.
+    */
+    canPrint?: boolean;
+    /**
+    * If \"true,\" the document can be printed at high resolution levels.
+    */
+    canPrintHighRes?: boolean;
+    password?: MetadataPassword;
+
+    constructor(data: any) {
+        let canAssembleDefault: any = true;
+        this.canAssemble = typeof data?.canAssemble !== "undefined" ? data?.canAssemble : canAssembleDefault;
+        let canExtractContentDefault: any = true;
+        this.canExtractContent = typeof data?.canExtractContent !== "undefined" ? data?.canExtractContent : canExtractContentDefault;
+        let canExtractForAccessibilityDefault: any = true;
+        this.canExtractForAccessibility = typeof data?.canExtractForAccessibility !== "undefined" ? data?.canExtractForAccessibility : canExtractForAccessibilityDefault;
+        let canFillInFormDefault: any = true;
+        this.canFillInForm = typeof data?.canFillInForm !== "undefined" ? data?.canFillInForm : canFillInFormDefault;
+        let canModifyDefault: any = true;
+        this.canModify = typeof data?.canModify !== "undefined" ? data?.canModify : canModifyDefault;
+        let canModifyAnnotationsDefault: any = true;
+        this.canModifyAnnotations = typeof data?.canModifyAnnotations !== "undefined" ? data?.canModifyAnnotations : canModifyAnnotationsDefault;
+        let canPrintDefault: any = true;
+        this.canPrint = typeof data?.canPrint !== "undefined" ? data?.canPrint : canPrintDefault;
+        let canPrintHighResDefault: any = true;
+        this.canPrintHighRes = typeof data?.canPrintHighRes !== "undefined" ? data?.canPrintHighRes : canPrintHighResDefault;
+        this.password = MetadataPassword.fromJson(data?.password);
+    }
+
+    public static getCanAssembleDefault(): boolean {
+        return true;
+    }
+
+    public static getCanAssembleDescription(): string {
+        return "If \"true,\" the document can be rearranged (e.g., pages can be deleted, inserted, and rotated).";
+    }
+
+    public static getCanExtractContentDefault(): boolean {
+        return true;
+    }
+
+    public static getCanExtractContentDescription(): string {
+        return "If \"true,\" content can be extracted (copied) from the document.";
+    }
+
+    public static getCanExtractForAccessibilityDefault(): boolean {
+        return true;
+    }
+
+    public static getCanExtractForAccessibilityDescription(): string {
+        return "If \"true,\" content can be extracted (copied) for accessibility purposes.";
+    }
+
+    public static getCanFillInFormDefault(): boolean {
+        return true;
+    }
+
+    public static getCanFillInFormDescription(): string {
+        return "If \"true,\" form fields can be filled out and the document can be signed.";
+    }
+
+    public static getCanModifyDefault(): boolean {
+        return true;
+    }
+
+    public static getCanModifyDescription(): string {
+        return "If \"true,\" changes to the document are permitted.";
+    }
+
+    public static getCanModifyAnnotationsDefault(): boolean {
+        return true;
+    }
+
+    public static getCanModifyAnnotationsDescription(): string {
+        return "If \"true,\" comments can be added to the document and deleted from the document.";
+    }
+
+    public static getCanPrintDefault(): boolean {
+        return true;
+    }
+
+    public static getCanPrintDescription(): string {
+        return "If \"true,\" the document can be printed.";
+    }
+
+    public static getCanPrintHighResDefault(): boolean {
+        return true;
+    }
+
+    public static getCanPrintHighResDescription(): string {
+        return "If \"true,\" the document can be printed at high resolution levels.";
+    }
+
+    public static getPasswordDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Security {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Security(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Security> {
+        return ModelStream.decodeArray(source, Security.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'canAssemble': this.canAssemble,
+            'canExtractContent': this.canExtractContent,
+            'canExtractForAccessibility': this.canExtractForAccessibility,
+            'canFillInForm': this.canFillInForm,
+            'canModify': this.canModify,
+            'canModifyAnnotations': this.canModifyAnnotations,
+            'canPrint': this.canPrint,
+            'canPrintHighRes': this.canPrintHighRes,
+            'password': this.password?.toJson(),
+        };
+    }
+
+    public clone(): Security {
+        return Security.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "canAssemble", typeof data?.canAssemble !== "undefined" ? data?.canAssemble : true) || changed;
+        changed = ModelAssignment.assignValue(this, "canExtractContent", typeof data?.canExtractContent !== "undefined" ? data?.canExtractContent : true) || changed;
+        changed = ModelAssignment.assignValue(this, "canExtractForAccessibility", typeof data?.canExtractForAccessibility !== "undefined" ? data?.canExtractForAccessibility : true) || changed;
+        changed = ModelAssignment.assignValue(this, "canFillInForm", typeof data?.canFillInForm !== "undefined" ? data?.canFillInForm : true) || changed;
+        changed = ModelAssignment.assignValue(this, "canModify", typeof data?.canModify !== "undefined" ? data?.canModify : true) || changed;
+        changed = ModelAssignment.assignValue(this, "canModifyAnnotations", typeof data?.canModifyAnnotations !== "undefined" ? data?.canModifyAnnotations : true) || changed;
+        changed = ModelAssignment.assignValue(this, "canPrint", typeof data?.canPrint !== "undefined" ? data?.canPrint : true) || changed;
+        changed = ModelAssignment.assignValue(this, "canPrintHighRes", typeof data?.canPrintHighRes !== "undefined" ? data?.canPrintHighRes : true) || changed;
+        changed = ModelAssignment.assignModel(this, "password", data?.password, MetadataPassword.fromJson, MetadataPassword) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canAssemble, other.canAssemble)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canExtractContent, other.canExtractContent)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canExtractForAccessibility, other.canExtractForAccessibility)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canFillInForm, other.canFillInForm)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canModify, other.canModify)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canModifyAnnotations, other.canModifyAnnotations)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canPrint, other.canPrint)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canPrintHighRes, other.canPrintHighRes)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.canAssemble);
+        hash = ModelEquality.hash(hash, this.canExtractContent);
+        hash = ModelEquality.hash(hash, this.canExtractForAccessibility);
+        hash = ModelEquality.hash(hash, this.canFillInForm);
+        hash = ModelEquality.hash(hash, this.canModify);
+        hash = ModelEquality.hash(hash, this.canModifyAnnotations);
+        hash = ModelEquality.hash(hash, this.canPrint);
+        hash = ModelEquality.hash(hash, this.canPrintHighRes);
+        hash = ModelEquality.hash(hash, this.password);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Security(";
+        fingerprint += ModelEquality.fingerprint(this.canAssemble) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canExtractContent) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canExtractForAccessibility) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canFillInForm) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canModify) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canModifyAnnotations) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canPrint) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canPrintHighRes) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    MetadataSignature,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SignaturesDocumentInterface  {
+
+    signature?: Array<MetadataSignature>;
+
+}
+export class SignaturesDocument implements SignaturesDocumentInterface, Parameter {
+    signature?: Array<MetadataSignature>;
+
+    constructor(data: any) {
+        this.signature = (data?.signature || []).map(
+            MetadataSignature.fromJson
+        );
+    }
+
+    public static getSignatureDefault(): Array<MetadataSignature> {
+        return [];
+    }
+
+    public static getSignatureDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): SignaturesDocument {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SignaturesDocument(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SignaturesDocument> {
+        return ModelStream.decodeArray(source, SignaturesDocument.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'signature': this.signature?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): SignaturesDocument {
+        return SignaturesDocument.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "signature", data?.signature, MetadataSignature.fromJson, MetadataSignature) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signature, other.signature)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.signature);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SignaturesDocument(";
+        fingerprint += ModelEquality.fingerprint(this.signature) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    MetadataTransition,
+    ModelEquality,
+} from "./../index";
+
+export interface TransitionsDocumentInterface  {
+
+    transition?: Array<MetadataTransition>;
+
+}
+export class TransitionsDocument implements TransitionsDocumentInterface, Parameter {
+    transition?: Array<MetadataTransition>;
+
+    constructor(data: any) {
+        this.transition = (data?.transition || []).map(
+            MetadataTransition.fromJson
+        );
+    }
+
+    public static getTransitionDefault(): Array<MetadataTransition> {
+        return [];
+    }
+
+    public static getTransitionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): TransitionsDocument {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new TransitionsDocument(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<TransitionsDocument> {
+        return ModelStream.decodeArray(source, TransitionsDocument.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'transition': this.transition?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): TransitionsDocument {
+        return TransitionsDocument.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "transition", data?.transition, MetadataTransition.fromJson, MetadataTransition) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.transition, other.transition)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.transition);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "TransitionsDocument(";
+        fingerprint += ModelEquality.fingerprint(this.transition) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
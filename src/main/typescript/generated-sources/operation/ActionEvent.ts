@@ -0,0 +1,135 @@
+import {
+    HideAction,
+    LaunchApplicationAction,
+    ModelStream,
+    ImportDataAction,
+    JavaScriptAction,
+    TransitionAction,
+    SoundAction,
+    SetOCGStateAction,
+    ModelAssignment,
+    GoTo3DViewAction,
+    NamedAction,
+    SubmitFormAction,
+    GoToDestinationAction,
+    URIAction,
+    ResetFormAction,
+    Parameter,
+    ModelEquality,
+    ThreadAction,
+} from "./../index";
+
+export interface ActionEventInterface  {
+
+
+}
+export class ActionEvent implements ActionEventInterface, Parameter {
+
+    constructor(data: any) {
+    }
+
+    public static fromJson(data: any): ActionEvent {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        if (typeof data.setLayerState !== "undefined") {
+            return SetOCGStateAction.fromJson(data);
+        }
+
+        if (typeof data.goTo3DView !== "undefined") {
+            return GoTo3DViewAction.fromJson(data);
+        }
+
+        if (typeof data.resolveURI !== "undefined") {
+            return URIAction.fromJson(data);
+        }
+
+        if (typeof data.hideAnnotation !== "undefined") {
+            return HideAction.fromJson(data);
+        }
+
+        if (typeof data.resetForm !== "undefined") {
+            return ResetFormAction.fromJson(data);
+        }
+
+        if (typeof data.executeNamed !== "undefined") {
+            return NamedAction.fromJson(data);
+        }
+
+        if (typeof data.importSchema !== "undefined") {
+            return ImportDataAction.fromJson(data);
+        }
+
+        if (typeof data.executeJavaScript !== "undefined") {
+            return JavaScriptAction.fromJson(data);
+        }
+
+        if (typeof data.goTo !== "undefined") {
+            return GoToDestinationAction.fromJson(data);
+        }
+
+        if (typeof data.submitForm !== "undefined") {
+            return SubmitFormAction.fromJson(data);
+        }
+
+        if (typeof data.playSound !== "undefined") {
+            return SoundAction.fromJson(data);
+        }
+
+        if (typeof data.setTransition !== "undefined") {
+            return TransitionAction.fromJson(data);
+        }
+
+        if (typeof data.goToThread !== "undefined") {
+            return ThreadAction.fromJson(data);
+        }
+
+        if (typeof data.launchApplication !== "undefined") {
+            return LaunchApplicationAction.fromJson(data);
+        }
+
+        return new ActionEvent(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ActionEvent> {
+        return ModelStream.decodeArray(source, ActionEvent.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+        };
+    }
+
+    public clone(): ActionEvent {
+        return ActionEvent.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ActionEvent(";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ColorBackground,
+    Parameter,
+    ImageBackground,
+    ModelEquality,
+} from "./../index";
+
+export interface AddBackgroundInterface  {
+
+    colorBackground?: ColorBackground;
+    imageBackground?: ImageBackground;
+
+}
+export class AddBackground implements AddBackgroundInterface, Parameter {
+    colorBackground?: ColorBackground;
+    imageBackground?: ImageBackground;
+
+    constructor(data: any) {
+        this.colorBackground = ColorBackground.fromJson(data?.colorBackground);
+        this.imageBackground = ImageBackground.fromJson(data?.imageBackground);
+    }
+
+    public static getColorBackgroundDescription(): string {
+        return "";
+    }
+
+    public static getImageBackgroundDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AddBackground {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AddBackground(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AddBackground> {
+        return ModelStream.decodeArray(source, AddBackground.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'colorBackground': this.colorBackground?.toJson(),
+            'imageBackground': this.imageBackground?.toJson(),
+        };
+    }
+
+    public clone(): AddBackground {
+        return AddBackground.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "colorBackground", data?.colorBackground, ColorBackground.fromJson, ColorBackground) || changed;
+        changed = ModelAssignment.assignModel(this, "imageBackground", data?.imageBackground, ImageBackground.fromJson, ImageBackground) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.colorBackground, other.colorBackground)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.imageBackground, other.imageBackground)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.colorBackground);
+        hash = ModelEquality.hash(hash, this.imageBackground);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AddBackground(";
+        fingerprint += ModelEquality.fingerprint(this.colorBackground) + ",";
+        fingerprint += ModelEquality.fingerprint(this.imageBackground) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,343 @@
+import {
+    Ean8Barcode,
+    ItfBarcode,
+    ModelStream,
+    Code128Barcode,
+    DataMatrixBarcode,
+    Pdf417Barcode,
+    QrSwissPaymentBarcode,
+    BarcodeCreateOutputFormat,
+    AztecBarcode,
+    Ean13Barcode,
+    ModelAssignment,
+    Code39Barcode,
+    UpcaBarcode,
+    Parameter,
+    CodabarBarcode,
+    ModelEquality,
+    QrBarcode,
+} from "./../index";
+
+export interface AddBarcodeInterface  {
+
+    aztec?: Array<AztecBarcode>;
+    codabar?: Array<CodabarBarcode>;
+    code128?: Array<Code128Barcode>;
+    code39?: Array<Code39Barcode>;
+    datamatrix?: Array<DataMatrixBarcode>;
+    ean13?: Array<Ean13Barcode>;
+    ean8?: Array<Ean8Barcode>;
+    itf?: Array<ItfBarcode>;
+    /**
+    * Defines the output format for the barcode generation. The resulting document will be created by this webservice, where selected image formats will completly ignore a possibly given PDF source document and will only contain the barcode image.  **Important:** This parameter is for internal use only. Please only set this value to anything other than \"pdf\", if you are really sure that you need to do so.
+    */
+    outputFormat?: BarcodeCreateOutputFormat;
+    pdf417?: Array<Pdf417Barcode>;
+    qrcode?: Array<QrBarcode>;
+    qrswiss?: Array<QrSwissPaymentBarcode>;
+    upca?: Array<UpcaBarcode>;
+
+}
+export class AddBarcode implements AddBarcodeInterface, Parameter {
+    aztec?: Array<AztecBarcode>;
+    codabar?: Array<CodabarBarcode>;
+    code128?: Array<Code128Barcode>;
+    code39?: Array<Code39Barcode>;
+    datamatrix?: Array<DataMatrixBarcode>;
+    ean13?: Array<Ean13Barcode>;
+    ean8?: Array<Ean8Barcode>;
+    itf?: Array<ItfBarcode>;
+    /**
+    * Defines the output format for the barcode generation. The resulting document will be created by this webservice, where selected image formats will completly ignore a possibly given PDF source document and will only contain the barcode image.  **Important:** This parameter is for internal use only. Please only set this value to anything other than \"pdf\", if you are really sure that you need to do so.
+    */
+    outputFormat?: BarcodeCreateOutputFormat;
+    pdf417?: Array<Pdf417Barcode>;
+    qrcode?: Array<QrBarcode>;
+    qrswiss?: Array<QrSwissPaymentBarcode>;
+    upca?: Array<UpcaBarcode>;
+
+    constructor(data: any) {
+        this.aztec = (data?.aztec || []).map(
+            AztecBarcode.fromJson
+        );
+        this.codabar = (data?.codabar || []).map(
+            CodabarBarcode.fromJson
+        );
+        this.code128 = (data?.code128 || []).map(
+            Code128Barcode.fromJson
+        );
+        this.code39 = (data?.code39 || []).map(
+            Code39Barcode.fromJson
+        );
+        this.datamatrix = (data?.datamatrix || []).map(
+            DataMatrixBarcode.fromJson
+        );
+        this.ean13 = (data?.ean13 || []).map(
+            Ean13Barcode.fromJson
+        );
+        this.ean8 = (data?.ean8 || []).map(
+            Ean8Barcode.fromJson
+        );
+        this.itf = (data?.itf || []).map(
+            ItfBarcode.fromJson
+        );
+        let outputFormatDefault: any = "pdf";
+        this.outputFormat = typeof data?.outputFormat !== "undefined" ? data?.outputFormat : outputFormatDefault;
+        this.pdf417 = (data?.pdf417 || []).map(
+            Pdf417Barcode.fromJson
+        );
+        this.qrcode = (data?.qrcode || []).map(
+            QrBarcode.fromJson
+        );
+        this.qrswiss = (data?.qrswiss || []).map(
+            QrSwissPaymentBarcode.fromJson
+        );
+        this.upca = (data?.upca || []).map(
+            UpcaBarcode.fromJson
+        );
+    }
+
+    public static getAztecDefault(): Array<AztecBarcode> {
+        return [];
+    }
+
+    public static getAztecDescription(): string {
+        return "";
+    }
+
+    public static getCodabarDefault(): Array<CodabarBarcode> {
+        return [];
+    }
+
+    public static getCodabarDescription(): string {
+        return "";
+    }
+
+    public static getCode128Default(): Array<Code128Barcode> {
+        return [];
+    }
+
+    public static getCode128Description(): string {
+        return "";
+    }
+
+    public static getCode39Default(): Array<Code39Barcode> {
+        return [];
+    }
+
+    public static getCode39Description(): string {
+        return "";
+    }
+
+    public static getDatamatrixDefault(): Array<DataMatrixBarcode> {
+        return [];
+    }
+
+    public static getDatamatrixDescription(): string {
+        return "";
+    }
+
+    public static getEan13Default(): Array<Ean13Barcode> {
+        return [];
+    }
+
+    public static getEan13Description(): string {
+        return "";
+    }
+
+    public static getEan8Default(): Array<Ean8Barcode> {
+        return [];
+    }
+
+    public static getEan8Description(): string {
+        return "";
+    }
+
+    public static getItfDefault(): Array<ItfBarcode> {
+        return [];
+    }
+
+    public static getItfDescription(): string {
+        return "";
+    }
+
+    public static getOutputFormatDefault(): BarcodeCreateOutputFormat {
+        return "pdf" as BarcodeCreateOutputFormat;
+    }
+
+    public static getOutputFormatDescription(): string {
+        return "Defines the output format for the barcode generation. The resulting document will be created by this webservice, where selected image formats will completly ignore a possibly given PDF source document and will only contain the barcode image.\n\n**Important:** This parameter is for internal use only. Please only set this value to anything other than \"pdf\", if you are really sure that you need to do so.";
+    }
+
+    public static getPdf417Default(): Array<Pdf417Barcode> {
+        return [];
+    }
+
+    public static getPdf417Description(): string {
+        return "";
+    }
+
+    public static getQrcodeDefault(): Array<QrBarcode> {
+        return [];
+    }
+
+    public static getQrcodeDescription(): string {
+        return "";
+    }
+
+    public static getQrswissDefault(): Array<QrSwissPaymentBarcode> {
+        return [];
+    }
+
+    public static getQrswissDescription(): string {
+        return "";
+    }
+
+    public static getUpcaDefault(): Array<UpcaBarcode> {
+        return [];
+    }
+
+    public static getUpcaDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AddBarcode {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AddBarcode(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AddBarcode> {
+        return ModelStream.decodeArray(source, AddBarcode.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'aztec': this.aztec?.map((data) => data.toJson()),
+            'codabar': this.codabar?.map((data) => data.toJson()),
+            'code128': this.code128?.map((data) => data.toJson()),
+            'code39': this.code39?.map((data) => data.toJson()),
+            'datamatrix': this.datamatrix?.map((data) => data.toJson()),
+            'ean13': this.ean13?.map((data) => data.toJson()),
+            'ean8': this.ean8?.map((data) => data.toJson()),
+            'itf': this.itf?.map((data) => data.toJson()),
+            'outputFormat': this.outputFormat,
+            'pdf417': this.pdf417?.map((data) => data.toJson()),
+            'qrcode': this.qrcode?.map((data) => data.toJson()),
+            'qrswiss': this.qrswiss?.map((data) => data.toJson()),
+            'upca': this.upca?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): AddBarcode {
+        return AddBarcode.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "aztec", data?.aztec, AztecBarcode.fromJson, AztecBarcode) || changed;
+        changed = ModelAssignment.assignArray(this, "codabar", data?.codabar, CodabarBarcode.fromJson, CodabarBarcode) || changed;
+        changed = ModelAssignment.assignArray(this, "code128", data?.code128, Code128Barcode.fromJson, Code128Barcode) || changed;
+        changed = ModelAssignment.assignArray(this, "code39", data?.code39, Code39Barcode.fromJson, Code39Barcode) || changed;
+        changed = ModelAssignment.assignArray(this, "datamatrix", data?.datamatrix, DataMatrixBarcode.fromJson, DataMatrixBarcode) || changed;
+        changed = ModelAssignment.assignArray(this, "ean13", data?.ean13, Ean13Barcode.fromJson, Ean13Barcode) || changed;
+        changed = ModelAssignment.assignArray(this, "ean8", data?.ean8, Ean8Barcode.fromJson, Ean8Barcode) || changed;
+        changed = ModelAssignment.assignArray(this, "itf", data?.itf, ItfBarcode.fromJson, ItfBarcode) || changed;
+        changed = ModelAssignment.assignValue(this, "outputFormat", typeof data?.outputFormat !== "undefined" ? data?.outputFormat : "pdf") || changed;
+        changed = ModelAssignment.assignArray(this, "pdf417", data?.pdf417, Pdf417Barcode.fromJson, Pdf417Barcode) || changed;
+        changed = ModelAssignment.assignArray(this, "qrcode", data?.qrcode, QrBarcode.fromJson, QrBarcode) || changed;
+        changed = ModelAssignment.assignArray(this, "qrswiss", data?.qrswiss, QrSwissPaymentBarcode.fromJson, QrSwissPaymentBarcode) || changed;
+        changed = ModelAssignment.assignArray(this, "upca", data?.upca, UpcaBarcode.fromJson, UpcaBarcode) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.aztec, other.aztec)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.codabar, other.codabar)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.code128, other.code128)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.code39, other.code39)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.datamatrix, other.datamatrix)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ean13, other.ean13)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ean8, other.ean8)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.itf, other.itf)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.outputFormat, other.outputFormat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pdf417, other.pdf417)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.qrcode, other.qrcode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.qrswiss, other.qrswiss)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.upca, other.upca)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.aztec);
+        hash = ModelEquality.hash(hash, this.codabar);
+        hash = ModelEquality.hash(hash, this.code128);
+        hash = ModelEquality.hash(hash, this.code39);
+        hash = ModelEquality.hash(hash, this.datamatrix);
+        hash = ModelEquality.hash(hash, this.ean13);
+        hash = ModelEquality.hash(hash, this.ean8);
+        hash = ModelEquality.hash(hash, this.itf);
+        hash = ModelEquality.hash(hash, this.outputFormat);
+        hash = ModelEquality.hash(hash, this.pdf417);
+        hash = ModelEquality.hash(hash, this.qrcode);
+        hash = ModelEquality.hash(hash, this.qrswiss);
+        hash = ModelEquality.hash(hash, this.upca);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AddBarcode(";
+        fingerprint += ModelEquality.fingerprint(this.aztec) + ",";
+        fingerprint += ModelEquality.fingerprint(this.codabar) + ",";
+        fingerprint += ModelEquality.fingerprint(this.code128) + ",";
+        fingerprint += ModelEquality.fingerprint(this.code39) + ",";
+        fingerprint += ModelEquality.fingerprint(this.datamatrix) + ",";
+        fingerprint += ModelEquality.fingerprint(this.ean13) + ",";
+        fingerprint += ModelEquality.fingerprint(this.ean8) + ",";
+        fingerprint += ModelEquality.fingerprint(this.itf) + ",";
+        fingerprint += ModelEquality.fingerprint(this.outputFormat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pdf417) + ",";
+        fingerprint += ModelEquality.fingerprint(this.qrcode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.qrswiss) + ",";
+        fingerprint += ModelEquality.fingerprint(this.upca) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ReplyStateAnnotation,
+    Parameter,
+    MarkedStateAnnotation,
+    ModelEquality,
+    ReplyToAnnotation,
+} from "./../index";
+
+export interface AddCommentInterface  {
+
+    changeAnnotationState?: Array<ReplyStateAnnotation>;
+    markAnnotation?: Array<MarkedStateAnnotation>;
+    replyTo?: Array<ReplyToAnnotation>;
+
+}
+export class AddComment implements AddCommentInterface, Parameter {
+    changeAnnotationState?: Array<ReplyStateAnnotation>;
+    markAnnotation?: Array<MarkedStateAnnotation>;
+    replyTo?: Array<ReplyToAnnotation>;
+
+    constructor(data: any) {
+        this.changeAnnotationState = (data?.changeAnnotationState || []).map(
+            ReplyStateAnnotation.fromJson
+        );
+        this.markAnnotation = (data?.markAnnotation || []).map(
+            MarkedStateAnnotation.fromJson
+        );
+        this.replyTo = (data?.replyTo || []).map(
+            ReplyToAnnotation.fromJson
+        );
+    }
+
+    public static getChangeAnnotationStateDefault(): Array<ReplyStateAnnotation> {
+        return [];
+    }
+
+    public static getChangeAnnotationStateDescription(): string {
+        return "";
+    }
+
+    public static getMarkAnnotationDefault(): Array<MarkedStateAnnotation> {
+        return [];
+    }
+
+    public static getMarkAnnotationDescription(): string {
+        return "";
+    }
+
+    public static getReplyToDefault(): Array<ReplyToAnnotation> {
+        return [];
+    }
+
+    public static getReplyToDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AddComment {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AddComment(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AddComment> {
+        return ModelStream.decodeArray(source, AddComment.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'changeAnnotationState': this.changeAnnotationState?.map((data) => data.toJson()),
+            'markAnnotation': this.markAnnotation?.map((data) => data.toJson()),
+            'replyTo': this.replyTo?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): AddComment {
+        return AddComment.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "changeAnnotationState", data?.changeAnnotationState, ReplyStateAnnotation.fromJson, ReplyStateAnnotation) || changed;
+        changed = ModelAssignment.assignArray(this, "markAnnotation", data?.markAnnotation, MarkedStateAnnotation.fromJson, MarkedStateAnnotation) || changed;
+        changed = ModelAssignment.assignArray(this, "replyTo", data?.replyTo, ReplyToAnnotation.fromJson, ReplyToAnnotation) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.changeAnnotationState, other.changeAnnotationState)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.markAnnotation, other.markAnnotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.replyTo, other.replyTo)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.changeAnnotationState);
+        hash = ModelEquality.hash(hash, this.markAnnotation);
+        hash = ModelEquality.hash(hash, this.replyTo);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AddComment(";
+        fingerprint += ModelEquality.fingerprint(this.changeAnnotationState) + ",";
+        fingerprint += ModelEquality.fingerprint(this.markAnnotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.replyTo) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    HeaderFooter,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface AddHeaderFooterInterface  {
+
+    headerFooterContent?: HeaderFooter;
+
+}
+export class AddHeaderFooter implements AddHeaderFooterInterface, Parameter {
+    headerFooterContent?: HeaderFooter;
+
+    constructor(data: any) {
+        this.headerFooterContent = HeaderFooter.fromJson(data?.headerFooterContent);
+    }
+
+    public static getHeaderFooterContentDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AddHeaderFooter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AddHeaderFooter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AddHeaderFooter> {
+        return ModelStream.decodeArray(source, AddHeaderFooter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'headerFooterContent': this.headerFooterContent?.toJson(),
+        };
+    }
+
+    public clone(): AddHeaderFooter {
+        return AddHeaderFooter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "headerFooterContent", data?.headerFooterContent, HeaderFooter.fromJson, HeaderFooter) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.headerFooterContent, other.headerFooterContent)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.headerFooterContent);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AddHeaderFooter(";
+        fingerprint += ModelEquality.fingerprint(this.headerFooterContent) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Transition,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface AddPageTransitionsInterface  {
+
+    pageTransition?: Transition;
+
+}
+export class AddPageTransitions implements AddPageTransitionsInterface, Parameter {
+    pageTransition?: Transition;
+
+    constructor(data: any) {
+        this.pageTransition = Transition.fromJson(data?.pageTransition);
+    }
+
+    public static getPageTransitionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AddPageTransitions {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AddPageTransitions(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AddPageTransitions> {
+        return ModelStream.decodeArray(source, AddPageTransitions.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'pageTransition': this.pageTransition?.toJson(),
+        };
+    }
+
+    public clone(): AddPageTransitions {
+        return AddPageTransitions.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "pageTransition", data?.pageTransition, Transition.fromJson, Transition) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pageTransition, other.pageTransition)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.pageTransition);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AddPageTransitions(";
+        fingerprint += ModelEquality.fingerprint(this.pageTransition) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum AddPosition {
+
+    Before = 'before',
+    After = 'after',
+    Inplace = 'inplace'
+
+}
\ No newline at end of file
@@ -0,0 +1,296 @@
+import {
+    ModelAssignment,
+    AppearanceAdd,
+    SignerAdd,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    CertificationLevel,
+} from "./../index";
+
+export interface AddSignatureInterface  {
+
+    appearance?: AppearanceAdd;
+    /**
+    * **Deprecated:** Usage of this parameter is discouraged, as it is no longer in use.
+    */
+    appendSignature?: boolean;
+    /**
+    * This parameter defines the level of the signature.  *   none = Sign, but do not certify, the document, i.e., additional signatures and changes will be allowed. *   noChanges = Certify the document and do not allow any additional changes anymore. *   formFillingAndSignatures = Certify the document, but allow for fields to be filled out. *   formFillingAndSignaturesAndAnnotations = Certify the document, but allow for fields to be filled out and annotations to be added.
+    */
+    certificationLevel?: CertificationLevel;
+    /**
+    * Specifies the name of the person signing the document.
+    */
+    contact?: string;
+    /**
+    * Defines the name of the field (in the document) in which the signature will be saved. If a field name that is not unique is declared, then a unique name will be automatically created.
+    */
+    fieldName?: string;
+    /**
+    * Defines the name of the key (alias) that is to be used to sign the document. This option overwrites the server's configuration setting. Additional information can be found in the \"Keystore\" chapter.
+    */
+    keyName?: string;
+    /**
+    * Used to define the password required in order to access the private key with \"keyName.\" This option overwrites the server's configuration setting. Additional information can be found in the \"Keystore\" chapter.
+    */
+    keyPassword?: string;
+    /**
+    * Specifies the location of the signature.
+    */
+    location?: string;
+    /**
+    * Specifies the reason why the document is being signed.
+    */
+    reason?: string;
+    signer?: SignerAdd;
+
+}
+export class AddSignature implements AddSignatureInterface, Parameter {
+    appearance?: AppearanceAdd;
+    /**
+    * **Deprecated:** Usage of this parameter is discouraged, as it is no longer in use.
+    */
+    appendSignature?: boolean;
+    /**
+    * This parameter defines the level of the signature.  *   none = Sign, but do not certify, the document, i.e., additional signatures and changes will be allowed. *   noChanges = Certify the document and do not allow any additional changes anymore. *   formFillingAndSignatures = Certify the document, but allow for fields to be filled out. *   formFillingAndSignaturesAndAnnotations = Certify the document, but allow for fields to be filled out and annotations to be added.
+    */
+    certificationLevel?: CertificationLevel;
+    /**
+    * Specifies the name of the person signing the document.
+    */
+    contact?: string;
+    /**
+    * Defines the name of the field (in the document) in which the signature will be saved. If a field name that is not unique is declared, then a unique name will be automatically created.
+    */
+    fieldName?: string;
+    /**
+    * Defines the name of the key (alias) that is to be used to sign the document. This option overwrites the server's configuration setting. Additional information can be found in the \"Keystore\" chapter.
+    */
+    keyName?: string;
+    /**
+    * Used to define the password required in order to access the private key with \"keyName.\" This option overwrites the server's configuration setting. Additional information can be found in the \"Keystore\" chapter.
+    */
+    keyPassword?: string;
+    /**
+    * Specifies the location of the signature.
+    */
+    location?: string;
+    /**
+    * Specifies the reason why the document is being signed.
+    */
+    reason?: string;
+    signer?: SignerAdd;
+
+    constructor(data: any) {
+        this.appearance = AppearanceAdd.fromJson(data?.appearance);
+        let appendSignatureDefault: any = false;
+        this.appendSignature = typeof data?.appendSignature !== "undefined" ? data?.appendSignature : appendSignatureDefault;
+        let certificationLevelDefault: any = "noChanges";
+        this.certificationLevel = typeof data?.certificationLevel !== "undefined" ? data?.certificationLevel : certificationLevelDefault;
+        let contactDefault: any = "";
+        this.contact = typeof data?.contact !== "undefined" ? data?.contact : contactDefault;
+        let fieldNameDefault: any = "Signature1";
+        this.fieldName = typeof data?.fieldName !== "undefined" ? data?.fieldName : fieldNameDefault;
+        let keyNameDefault: any = "";
+        this.keyName = typeof data?.keyName !== "undefined" ? data?.keyName : keyNameDefault;
+        let keyPasswordDefault: any = "";
+        this.keyPassword = typeof data?.keyPassword !== "undefined" ? data?.keyPassword : keyPasswordDefault;
+        let locationDefault: any = "";
+        this.location = typeof data?.location !== "undefined" ? data?.location : locationDefault;
+        let reasonDefault: any = "";
+        this.reason = typeof data?.reason !== "undefined" ? data?.reason : reasonDefault;
+        this.signer = SignerAdd.fromJson(data?.signer);
+    }
+
+    public static getAppearanceDescription(): string {
+        return "";
+    }
+
+    public static getAppendSignatureDefault(): boolean {
+        return false;
+    }
+
+    public static getAppendSignatureDescription(): string {
+        return "**Deprecated:** Usage of this parameter is discouraged, as it is no longer in use.";
+    }
+
+    public static getCertificationLevelDefault(): CertificationLevel {
+        return "noChanges" as CertificationLevel;
+    }
+
+    public static getCertificationLevelDescription(): string {
+        return "This parameter defines the level of the signature.\n\n*   none = Sign, but do not certify, the document, i.e., additional signatures and changes will be allowed.\n*   noChanges = Certify the document and do not allow any additional changes anymore.\n*   formFillingAndSignatures = Certify the document, but allow for fields to be filled out.\n*   formFillingAndSignaturesAndAnnotations = Certify the document, but allow for fields to be filled out and annotations to be added.";
+    }
+
+    public static getContactDefault(): string {
+        return "";
+    }
+
+    public static getContactDescription(): string {
+        return "Specifies the name of the person signing the document.";
+    }
+
+    public static getFieldNameDefault(): string {
+        return "Signature1";
+    }
+
+    public static getFieldNameDescription(): string {
+        return "Defines the name of the field (in the document) in which the signature will be saved. If a field name that is not unique is declared, then a unique name will be automatically created.";
+    }
+
+    public static getKeyNameDefault(): string {
+        return "";
+    }
+
+    public static getKeyNameDescription(): string {
+        return "Defines the name of the key (alias) that is to be used to sign the document. This option overwrites the server's configuration setting. Additional information can be found in the \"Keystore\" chapter.";
+    }
+
+    public static getKeyPasswordDefault(): string {
+        return "";
+    }
+
+    public static getKeyPasswordDescription(): string {
+        return "Used to define the password required in order to access the private key with \"keyName.\" This option overwrites the server's configuration setting. Additional information can be found in the \"Keystore\" chapter.";
+    }
+
+    public static getLocationDefault(): string {
+        return "";
+    }
+
+    public static getLocationDescription(): string {
+        return "Specifies the location of the signature.";
+    }
+
+    public static getReasonDefault(): string {
+        return "";
+    }
+
+    public static getReasonDescription(): string {
+        return "Specifies the reason why the document is being signed.";
+    }
+
+    public static getSignerDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AddSignature {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AddSignature(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AddSignature> {
+        return ModelStream.decodeArray(source, AddSignature.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'appearance': this.appearance?.toJson(),
+            'appendSignature': this.appendSignature,
+            'certificationLevel': this.certificationLevel,
+            'contact': this.contact,
+            'fieldName': this.fieldName,
+            'keyName': this.keyName,
+            'keyPassword': this.keyPassword,
+            'location': this.location,
+            'reason': this.reason,
+            'signer': this.signer?.toJson(),
+        };
+    }
+
+    public clone(): AddSignature {
+        return AddSignature.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "appearance", data?.appearance, AppearanceAdd.fromJson, AppearanceAdd) || changed;
+        changed = ModelAssignment.assignValue(this, "appendSignature", typeof data?.appendSignature !== "undefined" ? data?.appendSignature : false) || changed;
+        changed = ModelAssignment.assignValue(this, "certificationLevel", typeof data?.certificationLevel !== "undefined" ? data?.certificationLevel : "noChanges") || changed;
+        changed = ModelAssignment.assignValue(this, "contact", typeof data?.contact !== "undefined" ? data?.contact : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fieldName", typeof data?.fieldName !== "undefined" ? data?.fieldName : "Signature1") || changed;
+        changed = ModelAssignment.assignValue(this, "keyName", typeof data?.keyName !== "undefined" ? data?.keyName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "keyPassword", typeof data?.keyPassword !== "undefined" ? data?.keyPassword : "") || changed;
+        changed = ModelAssignment.assignValue(this, "location", typeof data?.location !== "undefined" ? data?.location : "") || changed;
+        changed = ModelAssignment.assignValue(this, "reason", typeof data?.reason !== "undefined" ? data?.reason : "") || changed;
+        changed = ModelAssignment.assignModel(this, "signer", data?.signer, SignerAdd.fromJson, SignerAdd) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.appearance, other.appearance)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.appendSignature, other.appendSignature)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.certificationLevel, other.certificationLevel)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.contact, other.contact)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fieldName, other.fieldName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyName, other.keyName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyPassword, other.keyPassword)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.location, other.location)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.reason, other.reason)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signer, other.signer)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.appearance);
+        hash = ModelEquality.hash(hash, this.appendSignature);
+        hash = ModelEquality.hash(hash, this.certificationLevel);
+        hash = ModelEquality.hash(hash, this.contact);
+        hash = ModelEquality.hash(hash, this.fieldName);
+        hash = ModelEquality.hash(hash, this.keyName);
+        hash = ModelEquality.hash(hash, this.keyPassword);
+        hash = ModelEquality.hash(hash, this.location);
+        hash = ModelEquality.hash(hash, this.reason);
+        hash = ModelEquality.hash(hash, this.signer);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AddSignature(";
+        fingerprint += ModelEquality.fingerprint(this.appearance) + ",";
+        fingerprint += ModelEquality.fingerprint(this.appendSignature) + ",";
+        fingerprint += ModelEquality.fingerprint(this.certificationLevel) + ",";
+        fingerprint += ModelEquality.fingerprint(this.contact) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fieldName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keyName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keyPassword) + ",";
+        fingerprint += ModelEquality.fingerprint(this.location) + ",";
+        fingerprint += ModelEquality.fingerprint(this.reason) + ",";
+        fingerprint += ModelEquality.fingerprint(this.signer) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,233 @@
+import {
+    ModelAssignment,
+    SquareAnnotation,
+    LineAnnotation,
+    ModelStream,
+    CircleAnnotation,
+    RedactAnnotation,
+    Parameter,
+    ModelEquality,
+    MarkupAnnotation,
+    TextAnnotation,
+    FreeTextAnnotation,
+    RubberStampAnnotation,
+} from "./../index";
+
+export interface AddToolboxAnnotationInterface  {
+
+    circle?: Array<CircleAnnotation>;
+    freetext?: Array<FreeTextAnnotation>;
+    line?: Array<LineAnnotation>;
+    markup?: Array<MarkupAnnotation>;
+    redact?: Array<RedactAnnotation>;
+    rubberstamp?: Array<RubberStampAnnotation>;
+    square?: Array<SquareAnnotation>;
+    text?: Array<TextAnnotation>;
+
+}
+export class AddToolboxAnnotation implements AddToolboxAnnotationInterface, Parameter {
+    circle?: Array<CircleAnnotation>;
+    freetext?: Array<FreeTextAnnotation>;
+    line?: Array<LineAnnotation>;
+    markup?: Array<MarkupAnnotation>;
+    redact?: Array<RedactAnnotation>;
+    rubberstamp?: Array<RubberStampAnnotation>;
+    square?: Array<SquareAnnotation>;
+    text?: Array<TextAnnotation>;
+
+    constructor(data: any) {
+        this.circle = (data?.circle || []).map(
+            CircleAnnotation.fromJson
+        );
+        this.freetext = (data?.freetext || []).map(
+            FreeTextAnnotation.fromJson
+        );
+        this.line = (data?.line || []).map(
+            LineAnnotation.fromJson
+        );
+        this.markup = (data?.markup || []).map(
+            MarkupAnnotation.fromJson
+        );
+        this.redact = (data?.redact || []).map(
+            RedactAnnotation.fromJson
+        );
+        this.rubberstamp = (data?.rubberstamp || []).map(
+            RubberStampAnnotation.fromJson
+        );
+        this.square = (data?.square || []).map(
+            SquareAnnotation.fromJson
+        );
+        this.text = (data?.text || []).map(
+            TextAnnotation.fromJson
+        );
+    }
+
+    public static getCircleDefault(): Array<CircleAnnotation> {
+        return [];
+    }
+
+    public static getCircleDescription(): string {
+        return "";
+    }
+
+    public static getFreetextDefault(): Array<FreeTextAnnotation> {
+        return [];
+    }
+
+    public static getFreetextDescription(): string {
+        return "";
+    }
+
+    public static getLineDefault(): Array<LineAnnotation> {
+        return [];
+    }
+
+    public static getLineDescription(): string {
+        return "";
+    }
+
+    public static getMarkupDefault(): Array<MarkupAnnotation> {
+        return [];
+    }
+
+    public static getMarkupDescription(): string {
+        return "";
+    }
+
+    public static getRedactDefault(): Array<RedactAnnotation> {
+        return [];
+    }
+
+    public static getRedactDescription(): string {
+        return "";
+    }
+
+    public static getRubberstampDefault(): Array<RubberStampAnnotation> {
+        return [];
+    }
+
+    public static getRubberstampDescription(): string {
+        return "";
+    }
+
+    public static getSquareDefault(): Array<SquareAnnotation> {
+        return [];
+    }
+
+    public static getSquareDescription(): string {
+        return "";
+    }
+
+    public static getTextDefault(): Array<TextAnnotation> {
+        return [];
+    }
+
+    public static getTextDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AddToolboxAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AddToolboxAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AddToolboxAnnotation> {
+        return ModelStream.decodeArray(source, AddToolboxAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'circle': this.circle?.map((data) => data.toJson()),
+            'freetext': this.freetext?.map((data) => data.toJson()),
+            'line': this.line?.map((data) => data.toJson()),
+            'markup': this.markup?.map((data) => data.toJson()),
+            'redact': this.redact?.map((data) => data.toJson()),
+            'rubberstamp': this.rubberstamp?.map((data) => data.toJson()),
+            'square': this.square?.map((data) => data.toJson()),
+            'text': this.text?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): AddToolboxAnnotation {
+        return AddToolboxAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "circle", data?.circle, CircleAnnotation.fromJson, CircleAnnotation) || changed;
+        changed = ModelAssignment.assignArray(this, "freetext", data?.freetext, FreeTextAnnotation.fromJson, FreeTextAnnotation) || changed;
+        changed = ModelAssignment.assignArray(this, "line", data?.line, LineAnnotation.fromJson, LineAnnotation) || changed;
+        changed = ModelAssignment.assignArray(this, "markup", data?.markup, MarkupAnnotation.fromJson, MarkupAnnotation) || changed;
+        changed = ModelAssignment.assignArray(this, "redact", data?.redact, RedactAnnotation.fromJson, RedactAnnotation) || changed;
+        changed = ModelAssignment.assignArray(this, "rubberstamp", data?.rubberstamp, RubberStampAnnotation.fromJson, RubberStampAnnotation) || changed;
+        changed = ModelAssignment.assignArray(this, "square", data?.square, SquareAnnotation.fromJson, SquareAnnotation) || changed;
+        changed = ModelAssignment.assignArray(this, "text", data?.text, TextAnnotation.fromJson, TextAnnotation) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.circle, other.circle)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.freetext, other.freetext)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.line, other.line)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.markup, other.markup)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.redact, other.redact)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rubberstamp, other.rubberstamp)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.square, other.square)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.text, other.text)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.circle);
+        hash = ModelEquality.hash(hash, this.freetext);
+        hash = ModelEquality.hash(hash, this.line);
+        hash = ModelEquality.hash(hash, this.markup);
+        hash = ModelEquality.hash(hash, this.redact);
+        hash = ModelEquality.hash(hash, this.rubberstamp);
+        hash = ModelEquality.hash(hash, this.square);
+        hash = ModelEquality.hash(hash, this.text);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AddToolboxAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.circle) + ",";
+        fingerprint += ModelEquality.fingerprint(this.freetext) + ",";
+        fingerprint += ModelEquality.fingerprint(this.line) + ",";
+        fingerprint += ModelEquality.fingerprint(this.markup) + ",";
+        fingerprint += ModelEquality.fingerprint(this.redact) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rubberstamp) + ",";
+        fingerprint += ModelEquality.fingerprint(this.square) + ",";
+        fingerprint += ModelEquality.fingerprint(this.text) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
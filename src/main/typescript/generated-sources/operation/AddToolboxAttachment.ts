@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    FileAttachment,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface AddToolboxAttachmentInterface  {
+
+    file?: Array<FileAttachment>;
+
+}
+export class AddToolboxAttachment implements AddToolboxAttachmentInterface, Parameter {
+    file?: Array<FileAttachment>;
+
+    constructor(data: any) {
+        this.file = (data?.file || []).map(
+            FileAttachment.fromJson
+        );
+    }
+
+    public static getFileDefault(): Array<FileAttachment> {
+        return [];
+    }
+
+    public static getFileDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AddToolboxAttachment {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AddToolboxAttachment(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AddToolboxAttachment> {
+        return ModelStream.decodeArray(source, AddToolboxAttachment.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'file': this.file?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): AddToolboxAttachment {
+        return AddToolboxAttachment.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "file", data?.file, FileAttachment.fromJson, FileAttachment) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.file, other.file)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.file);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AddToolboxAttachment(";
+        fingerprint += ModelEquality.fingerprint(this.file) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
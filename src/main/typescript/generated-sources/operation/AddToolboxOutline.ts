@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    Item,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface AddToolboxOutlineInterface  {
+
+    item?: Array<Item>;
+
+}
+export class AddToolboxOutline implements AddToolboxOutlineInterface, Parameter {
+    item?: Array<Item>;
+
+    constructor(data: any) {
+        this.item = (data?.item || []).map(
+            Item.fromJson
+        );
+    }
+
+    public static getItemDefault(): Array<Item> {
+        return [];
+    }
+
+    public static getItemDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AddToolboxOutline {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AddToolboxOutline(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AddToolboxOutline> {
+        return ModelStream.decodeArray(source, AddToolboxOutline.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'item': this.item?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): AddToolboxOutline {
+        return AddToolboxOutline.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "item", data?.item, Item.fromJson, Item) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.item, other.item)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.item);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AddToolboxOutline(";
+        fingerprint += ModelEquality.fingerprint(this.item) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    PdfaLevel,
+} from "./../index";
+
+export interface AnalyzePdfaInterface  {
+
+    /**
+    * Specifies the compliance level when creating or validating PDF/A documents (as specified in ISO 19005).
+    */
+    level?: PdfaLevel;
+
+}
+export class AnalyzePdfa implements AnalyzePdfaInterface, Parameter {
+    /**
+    * Specifies the compliance level when creating or validating PDF/A documents (as specified in ISO 19005).
+    */
+    level?: PdfaLevel;
+
+    constructor(data: any) {
+        let levelDefault: any = "3b";
+        this.level = typeof data?.level !== "undefined" ? data?.level : levelDefault;
+    }
+
+    public static getLevelDefault(): PdfaLevel {
+        return "3b" as PdfaLevel;
+    }
+
+    public static getLevelDescription(): string {
+        return "Specifies the compliance level when creating or validating PDF\/A documents (as specified in ISO 19005).";
+    }
+
+    public static fromJson(data: any): AnalyzePdfa {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AnalyzePdfa(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AnalyzePdfa> {
+        return ModelStream.decodeArray(source, AnalyzePdfa.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'level': this.level,
+        };
+    }
+
+    public clone(): AnalyzePdfa {
+        return AnalyzePdfa.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "level", typeof data?.level !== "undefined" ? data?.level : "3b") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.level, other.level)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.level);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AnalyzePdfa(";
+        fingerprint += ModelEquality.fingerprint(this.level) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface AnnotationSelectionInterface  {
+
+    /**
+    * The index for the annotation in the page's annotation directory. This value is an alternative to the annotation name and does not have to be set if an annotation name is specified.
+    */
+    index?: number;
+    /**
+    * The name of the annotation in the page's annotation directory. This value is an alternative to the annotation index and does not have to be set if an annotation index is specified.
+    */
+    name?: string;
+    /**
+    * The page number of the page where the annotation is found.
+    */
+    page?: number;
+
+}
+export class AnnotationSelection implements AnnotationSelectionInterface, Parameter {
+    /**
+    * The index for the annotation in the page's annotation directory. This value is an alternative to the annotation name and does not have to be set if an annotation name is specified.
+    */
+    index?: number;
+    /**
+    * The name of the annotation in the page's annotation directory. This value is an alternative to the annotation index and does not have to be set if an annotation index is specified.
+    */
+    name?: string;
+    /**
+    * The page number of the page where the annotation is found.
+    */
+    page?: number;
+
+    constructor(data: any) {
+        let indexDefault: any = 0;
+        this.index = typeof data?.index !== "undefined" ? data?.index : indexDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+    }
+
+    public static getIndexDefault(): number {
+        return 0;
+    }
+
+    public static getIndexDescription(): string {
+        return "The index for the annotation in the page's annotation directory. This value is an alternative to the annotation name and does not have to be set if an annotation name is specified.";
+    }
+
+    public static getIndexMin(): number {
+        return 0;
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The name of the annotation in the page's annotation directory. This value is an alternative to the annotation index and does not have to be set if an annotation index is specified.";
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "The page number of the page where the annotation is found.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static fromJson(data: any): AnnotationSelection {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AnnotationSelection(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AnnotationSelection> {
+        return ModelStream.decodeArray(source, AnnotationSelection.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'index': this.index,
+            'name': this.name,
+            'page': this.page,
+        };
+    }
+
+    public clone(): AnnotationSelection {
+        return AnnotationSelection.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "index", typeof data?.index !== "undefined" ? data?.index : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.index, other.index)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.index);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.page);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AnnotationSelection(";
+        fingerprint += ModelEquality.fingerprint(this.index) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
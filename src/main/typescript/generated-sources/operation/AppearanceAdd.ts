@@ -0,0 +1,214 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    SignaturePosition,
+    SignatureImage,
+    Parameter,
+    ModelEquality,
+    SignatureIdentifier,
+} from "./../index";
+
+export interface AppearanceAddInterface  {
+
+    /**
+    * Text that should be displayed in the signature's right-hand side text field. If a value is not specified, the field will display the name of the signatory and the name parts of the certificate (please refer to `<identifierElements>` further below).
+    */
+    identifier?: string;
+    identifierElements?: SignatureIdentifier;
+    image?: SignatureImage;
+    /**
+    * Name that will be displayed in the signature's left-hand side area. If no value is specified, the name of the signer is displayed in this area (CN name part from the certificate) if `showCommonName` is enabled.
+    */
+    name?: string;
+    /**
+    * Defines the page on which the signature is to be displayed.
+    */
+    page?: number;
+    position?: SignaturePosition;
+    /**
+    * Displays or hides the certificate name (CN) of the certificate in the signature's left-hand side area. A set `name` always has priority over the setting of this option.
+    */
+    showCommonName?: boolean;
+
+}
+export class AppearanceAdd implements AppearanceAddInterface, Parameter {
+    /**
+    * Text that should be displayed in the signature's right-hand side text field. If a value is not specified, the field will display the name of the signatory and the name parts of the certificate (please refer to `<identifierElements>` further below).
+    */
+    identifier?: string;
+    identifierElements?: SignatureIdentifier;
+    image?: SignatureImage;
+    /**
+    * Name that will be displayed in the signature's left-hand side area. If no value is specified, the name of the signer is displayed in this area (CN name part from the certificate) if `showCommonName` is enabled.
+    */
+    name?: string;
+    /**
+    * Defines the page on which the signature is to be displayed.
+    */
+    page?: number;
+    position?: SignaturePosition;
+    /**
+    * Displays or hides the certificate name (CN) of the certificate in the signature's left-hand side area. A set `name` always has priority over the setting of this option.
+    */
+    showCommonName?: boolean;
+
+    constructor(data: any) {
+        let identifierDefault: any = "";
+        this.identifier = typeof data?.identifier !== "undefined" ? data?.identifier : identifierDefault;
+        this.identifierElements = SignatureIdentifier.fromJson(data?.identifierElements);
+        this.image = SignatureImage.fromJson(data?.image);
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        this.position = SignaturePosition.fromJson(data?.position);
+        let showCommonNameDefault: any = true;
+        this.showCommonName = typeof data?.showCommonName !== "undefined" ? data?.showCommonName : showCommonNameDefault;
+    }
+
+    public static getIdentifierDefault(): string {
+        return "";
+    }
+
+    public static getIdentifierDescription(): string {
+        return "Text that should be displayed in the signature's right-hand side text field. If a value is not specified, the field will display the name of the signatory and the name parts of the certificate (please refer to `<identifierElements>` further below).";
+    }
+
+    public static getIdentifierElementsDescription(): string {
+        return "";
+    }
+
+    public static getImageDescription(): string {
+        return "";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "Name that will be displayed in the signature's left-hand side area. If no value is specified, the name of the signer is displayed in this area (CN name part from the certificate) if `showCommonName` is enabled.";
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "Defines the page on which the signature is to be displayed.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static getPositionDescription(): string {
+        return "";
+    }
+
+    public static getShowCommonNameDefault(): boolean {
+        return true;
+    }
+
+    public static getShowCommonNameDescription(): string {
+        return "Displays or hides the certificate name (CN) of the certificate in the signature's left-hand side area. A set `name` always has priority over the setting of this option.";
+    }
+
+    public static fromJson(data: any): AppearanceAdd {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AppearanceAdd(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AppearanceAdd> {
+        return ModelStream.decodeArray(source, AppearanceAdd.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'identifier': this.identifier,
+            'identifierElements': this.identifierElements?.toJson(),
+            'image': this.image?.toJson(),
+            'name': this.name,
+            'page': this.page,
+            'position': this.position?.toJson(),
+            'showCommonName': this.showCommonName,
+        };
+    }
+
+    public clone(): AppearanceAdd {
+        return AppearanceAdd.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "identifier", typeof data?.identifier !== "undefined" ? data?.identifier : "") || changed;
+        changed = ModelAssignment.assignModel(this, "identifierElements", data?.identifierElements, SignatureIdentifier.fromJson, SignatureIdentifier) || changed;
+        changed = ModelAssignment.assignModel(this, "image", data?.image, SignatureImage.fromJson, SignatureImage) || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        changed = ModelAssignment.assignModel(this, "position", data?.position, SignaturePosition.fromJson, SignaturePosition) || changed;
+        changed = ModelAssignment.assignValue(this, "showCommonName", typeof data?.showCommonName !== "undefined" ? data?.showCommonName : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.identifier, other.identifier)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.identifierElements, other.identifierElements)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.image, other.image)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showCommonName, other.showCommonName)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.identifier);
+        hash = ModelEquality.hash(hash, this.identifierElements);
+        hash = ModelEquality.hash(hash, this.image);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.position);
+        hash = ModelEquality.hash(hash, this.showCommonName);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AppearanceAdd(";
+        fingerprint += ModelEquality.fingerprint(this.identifier) + ",";
+        fingerprint += ModelEquality.fingerprint(this.identifierElements) + ",";
+        fingerprint += ModelEquality.fingerprint(this.image) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showCommonName) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
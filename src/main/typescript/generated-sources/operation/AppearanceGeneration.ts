@@ -0,0 +1,7 @@
+export enum AppearanceGeneration {
+
+    Never = 'Never',
+    Always = 'Always',
+    NonStandard = 'nonStandard'
+
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    AppearanceFileData,
+} from "./../index";
+
+export interface AppearanceImageInterface  {
+
+    data: AppearanceFileData;
+    /**
+    * Specifies whether the aspect ratio should be maintained when scaling the annotation.
+    */
+    preserveAspectRatio?: boolean;
+
+}
+export class AppearanceImage implements AppearanceImageInterface, Parameter {
+    data: AppearanceFileData;
+    /**
+    * Specifies whether the aspect ratio should be maintained when scaling the annotation.
+    */
+    preserveAspectRatio?: boolean;
+
+    constructor(data: any) {
+        this.data = AppearanceFileData.fromJson(data.data);
+        let preserveAspectRatioDefault: any = false;
+        this.preserveAspectRatio = typeof data?.preserveAspectRatio !== "undefined" ? data?.preserveAspectRatio : preserveAspectRatioDefault;
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static getPreserveAspectRatioDefault(): boolean {
+        return false;
+    }
+
+    public static getPreserveAspectRatioDescription(): string {
+        return "Specifies whether the aspect ratio should be maintained when scaling the annotation.";
+    }
+
+    public static fromJson(data: any): AppearanceImage {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AppearanceImage(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AppearanceImage> {
+        return ModelStream.decodeArray(source, AppearanceImage.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'data': this.data?.toJson(),
+            'preserveAspectRatio': this.preserveAspectRatio,
+        };
+    }
+
+    public clone(): AppearanceImage {
+        return AppearanceImage.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "data", data.data, AppearanceFileData.fromJson, AppearanceFileData) || changed;
+        changed = ModelAssignment.assignValue(this, "preserveAspectRatio", typeof data?.preserveAspectRatio !== "undefined" ? data?.preserveAspectRatio : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.preserveAspectRatio, other.preserveAspectRatio)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.data);
+        hash = ModelEquality.hash(hash, this.preserveAspectRatio);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AppearanceImage(";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        fingerprint += ModelEquality.fingerprint(this.preserveAspectRatio) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
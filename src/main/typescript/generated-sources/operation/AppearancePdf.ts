@@ -0,0 +1,134 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    AppearanceFileData,
+} from "./../index";
+
+export interface AppearancePdfInterface  {
+
+    data: AppearanceFileData;
+    /**
+    * The page that shall be used as a visual representation of the annotation.
+    */
+    page?: number;
+    /**
+    * Specifies whether the aspect ratio should be maintained when scaling the annotation.
+    */
+    preserveAspectRatio?: boolean;
+
+}
+export class AppearancePdf implements AppearancePdfInterface, Parameter {
+    data: AppearanceFileData;
+    /**
+    * The page that shall be used as a visual representation of the annotation.
+    */
+    page?: number;
+    /**
+    * Specifies whether the aspect ratio should be maintained when scaling the annotation.
+    */
+    preserveAspectRatio?: boolean;
+
+    constructor(data: any) {
+        this.data = AppearanceFileData.fromJson(data.data);
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        let preserveAspectRatioDefault: any = false;
+        this.preserveAspectRatio = typeof data?.preserveAspectRatio !== "undefined" ? data?.preserveAspectRatio : preserveAspectRatioDefault;
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "The page that shall be used as a visual representation of the annotation.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static getPreserveAspectRatioDefault(): boolean {
+        return false;
+    }
+
+    public static getPreserveAspectRatioDescription(): string {
+        return "Specifies whether the aspect ratio should be maintained when scaling the annotation.";
+    }
+
+    public static fromJson(data: any): AppearancePdf {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AppearancePdf(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AppearancePdf> {
+        return ModelStream.decodeArray(source, AppearancePdf.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'data': this.data?.toJson(),
+            'page': this.page,
+            'preserveAspectRatio': this.preserveAspectRatio,
+        };
+    }
+
+    public clone(): AppearancePdf {
+        return AppearancePdf.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "data", data.data, AppearanceFileData.fromJson, AppearanceFileData) || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "preserveAspectRatio", typeof data?.preserveAspectRatio !== "undefined" ? data?.preserveAspectRatio : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.preserveAspectRatio, other.preserveAspectRatio)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.data);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.preserveAspectRatio);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AppearancePdf(";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.preserveAspectRatio) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
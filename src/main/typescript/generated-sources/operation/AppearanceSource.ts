@@ -0,0 +1,110 @@
+import {
+    ModelAssignment,
+    AppearancePdf,
+    ModelStream,
+    Parameter,
+    AppearanceImage,
+    ModelEquality,
+    AppearanceSvg,
+} from "./../index";
+
+export interface AppearanceSourceInterface  {
+
+    image?: AppearanceImage;
+    pdf?: AppearancePdf;
+    svg?: AppearanceSvg;
+
+}
+export class AppearanceSource implements AppearanceSourceInterface, Parameter {
+    image?: AppearanceImage;
+    pdf?: AppearancePdf;
+    svg?: AppearanceSvg;
+
+    constructor(data: any) {
+        this.image = AppearanceImage.fromJson(data?.image);
+        this.pdf = AppearancePdf.fromJson(data?.pdf);
+        this.svg = AppearanceSvg.fromJson(data?.svg);
+    }
+
+    public static getImageDescription(): string {
+        return "";
+    }
+
+    public static getPdfDescription(): string {
+        return "";
+    }
+
+    public static getSvgDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AppearanceSource {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AppearanceSource(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AppearanceSource> {
+        return ModelStream.decodeArray(source, AppearanceSource.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'image': this.image?.toJson(),
+            'pdf': this.pdf?.toJson(),
+            'svg': this.svg?.toJson(),
+        };
+    }
+
+    public clone(): AppearanceSource {
+        return AppearanceSource.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "image", data?.image, AppearanceImage.fromJson, AppearanceImage) || changed;
+        changed = ModelAssignment.assignModel(this, "pdf", data?.pdf, AppearancePdf.fromJson, AppearancePdf) || changed;
+        changed = ModelAssignment.assignModel(this, "svg", data?.svg, AppearanceSvg.fromJson, AppearanceSvg) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.image, other.image)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pdf, other.pdf)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.svg, other.svg)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.image);
+        hash = ModelEquality.hash(hash, this.pdf);
+        hash = ModelEquality.hash(hash, this.svg);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AppearanceSource(";
+        fingerprint += ModelEquality.fingerprint(this.image) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pdf) + ",";
+        fingerprint += ModelEquality.fingerprint(this.svg) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    AppearanceFileData,
+    Axis,
+} from "./../index";
+
+export interface AppearanceSvgInterface  {
+
+    /**
+    * Selects a predefined axis for a coordinate system.
+    */
+    aspectRatioAxis?: Axis;
+    data: AppearanceFileData;
+    /**
+    * Specifies whether the aspect ratio should be maintained when scaling the annotation.
+    */
+    preserveAspectRatio?: boolean;
+
+}
+export class AppearanceSvg implements AppearanceSvgInterface, Parameter {
+    /**
+    * Selects a predefined axis for a coordinate system.
+    */
+    aspectRatioAxis?: Axis;
+    data: AppearanceFileData;
+    /**
+    * Specifies whether the aspect ratio should be maintained when scaling the annotation.
+    */
+    preserveAspectRatio?: boolean;
+
+    constructor(data: any) {
+        let aspectRatioAxisDefault: any = "x";
+        this.aspectRatioAxis = typeof data?.aspectRatioAxis !== "undefined" ? data?.aspectRatioAxis : aspectRatioAxisDefault;
+        this.data = AppearanceFileData.fromJson(data.data);
+        let preserveAspectRatioDefault: any = false;
+        this.preserveAspectRatio = typeof data?.preserveAspectRatio !== "undefined" ? data?.preserveAspectRatio : preserveAspectRatioDefault;
+    }
+
+    public static getAspectRatioAxisDefault(): Axis {
+        return "x" as Axis;
+    }
+
+    public static getAspectRatioAxisDescription(): string {
+        return "Selects a predefined axis for a coordinate system.";
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static getPreserveAspectRatioDefault(): boolean {
+        return false;
+    }
+
+    public static getPreserveAspectRatioDescription(): string {
+        return "Specifies whether the aspect ratio should be maintained when scaling the annotation.";
+    }
+
+    public static fromJson(data: any): AppearanceSvg {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AppearanceSvg(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AppearanceSvg> {
+        return ModelStream.decodeArray(source, AppearanceSvg.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'aspectRatioAxis': this.aspectRatioAxis,
+            'data': this.data?.toJson(),
+            'preserveAspectRatio': this.preserveAspectRatio,
+        };
+    }
+
+    public clone(): AppearanceSvg {
+        return AppearanceSvg.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "aspectRatioAxis", typeof data?.aspectRatioAxis !== "undefined" ? data?.aspectRatioAxis : "x") || changed;
+        changed = ModelAssignment.assignModel(this, "data", data.data, AppearanceFileData.fromJson, AppearanceFileData) || changed;
+        changed = ModelAssignment.assignValue(this, "preserveAspectRatio", typeof data?.preserveAspectRatio !== "undefined" ? data?.preserveAspectRatio : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.aspectRatioAxis, other.aspectRatioAxis)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.preserveAspectRatio, other.preserveAspectRatio)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.aspectRatioAxis);
+        hash = ModelEquality.hash(hash, this.data);
+        hash = ModelEquality.hash(hash, this.preserveAspectRatio);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AppearanceSvg(";
+        fingerprint += ModelEquality.fingerprint(this.aspectRatioAxis) + ",";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        fingerprint += ModelEquality.fingerprint(this.preserveAspectRatio) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum ApplicationOperation {
+
+    Print = 'print',
+    Open = 'open'
+
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    FileDataSource,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface AttachmentFileDataInterface  {
+
+    /**
+    * Selects the data source for the hereby expressed resource. Possible values are:  *   value = The element's value shall contain the BASE64 encoded data. *   uri = The data shall be located at the given uri.
+    */
+    source?: FileDataSource;
+    /**
+    * The uri the data shall be located at. (This shall only have effect, if the \"source\" is \"uri\".)
+    */
+    uri?: string;
+    value?: string;
+
+}
+export class AttachmentFileData implements AttachmentFileDataInterface, Parameter {
+    /**
+    * Selects the data source for the hereby expressed resource. Possible values are:  *   value = The element's value shall contain the BASE64 encoded data. *   uri = The data shall be located at the given uri.
+    */
+    source?: FileDataSource;
+    /**
+    * The uri the data shall be located at. (This shall only have effect, if the \"source\" is \"uri\".)
+    */
+    uri?: string;
+    value?: string;
+
+    constructor(data: any) {
+        let sourceDefault: any = "value";
+        this.source = typeof data?.source !== "undefined" ? data?.source : sourceDefault;
+        let uriDefault: any = "";
+        this.uri = typeof data?.uri !== "undefined" ? data?.uri : uriDefault;
+        this.value = data?.value;
+    }
+
+    public static getSourceDefault(): FileDataSource {
+        return "value" as FileDataSource;
+    }
+
+    public static getSourceDescription(): string {
+        return "Selects the data source for the hereby expressed resource. Possible values are:\n\n*   value = The element's value shall contain the BASE64 encoded data.\n*   uri = The data shall be located at the given uri.";
+    }
+
+    public static getUriDefault(): string {
+        return "";
+    }
+
+    public static getUriDescription(): string {
+        return "The uri the data shall be located at. (This shall only have effect, if the \"source\" is \"uri\".)";
+    }
+
+    public static getValueDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): AttachmentFileData {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AttachmentFileData(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AttachmentFileData> {
+        return ModelStream.decodeArray(source, AttachmentFileData.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'source': this.source,
+            'uri': this.uri,
+            'value': this.value,
+        };
+    }
+
+    public clone(): AttachmentFileData {
+        return AttachmentFileData.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "source", typeof data?.source !== "undefined" ? data?.source : "value") || changed;
+        changed = ModelAssignment.assignValue(this, "uri", typeof data?.uri !== "undefined" ? data?.uri : "") || changed;
+        changed = ModelAssignment.assignValue(this, "value", data?.value) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.source, other.source)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.uri, other.uri)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.value, other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.source);
+        hash = ModelEquality.hash(hash, this.uri);
+        hash = ModelEquality.hash(hash, this.value);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AttachmentFileData(";
+        fingerprint += ModelEquality.fingerprint(this.source) + ",";
+        fingerprint += ModelEquality.fingerprint(this.uri) + ",";
+        fingerprint += ModelEquality.fingerprint(this.value) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+export enum AttachmentMode {
+
+    Convert = 'convert',
+    Embed = 'embed',
+    ConvertEmbed = 'convertEmbed',
+    ConvertMerge = 'convertMerge',
+    ConvertMergeEmbed = 'convertMergeEmbed',
+    Remove = 'remove'
+
+}
\ No newline at end of file
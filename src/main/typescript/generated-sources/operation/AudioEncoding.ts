@@ -0,0 +1,8 @@
+export enum AudioEncoding {
+
+    Signed = 'Signed',
+    Raw = 'Raw',
+    MuLaw = 'muLaw',
+    ALaw = 'ALaw'
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum Axis {
+
+    X = 'x',
+    Y = 'y'
+
+}
\ No newline at end of file
@@ -0,0 +1,279 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Rectangle,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface AztecBarcodeInterface  {
+
+    /**
+    * Used to specify the character set in which the barcode contents should be stored.
+    */
+    charset?: string;
+    /**
+    * Used to adjust the error correction level for generated Aztec Codes. The higher the level, the more error-resistant the barcode, ensuring that damaged codes will still be readable. A percentage value of one to one hundred can be entered.
+    */
+    errorCorrection?: number;
+    /**
+    * Used to specify the number of layers that the generated Aztec Code should use. The higher the number, the larger the resulting barcode and its capacity.  *   \"-4\" to \"-1\" = Compact Aztec Code with a minimum capacity of 13 digits or 12 letters and an area of 15 x 15 pixels. *   \"0\" = Standard Aztec Code that will be optimized in order to use the smallest possible of layers for the value that is being encoded. *   \"1\" to \"32\" = Standard Aztec Code with a maximum capacity of 3832 digits or 3067 letters and an area of 151 x 151 pixels.
+    */
+    layers?: number;
+    /**
+    * Used to specify the width of the empty frame that should be generated around the barcode. This shall use the same metrics as the position - if no position is present, the default (mm) shall be assumed.
+    */
+    margin?: number;
+    /**
+    * The page range for generating barcodes. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")
+    */
+    pages?: string;
+    position?: Rectangle;
+    /**
+    * Used to specify the barcode's rotation in 90-degree increments. When there is a value that falls under a full 90-degree increment, the next higher increment will be automatically selected.
+    */
+    rotation?: number;
+    /**
+    * Contains the value that should be encoded in the barcode. Depending on the selected barcode format, there may be specific criteria for the data structure. For a description, please refer to the chapter \"Barcodes\"
+    */
+    value: string;
+
+}
+export class AztecBarcode implements AztecBarcodeInterface, Parameter {
+    /**
+    * Used to specify the character set in which the barcode contents should be stored.
+    */
+    charset?: string;
+    /**
+    * Used to adjust the error correction level for generated Aztec Codes. The higher the level, the more error-resistant the barcode, ensuring that damaged codes will still be readable. A percentage value of one to one hundred can be entered.
+    */
+    errorCorrection?: number;
+    /**
+    * Used to specify the number of layers that the generated Aztec Code should use. The higher the number, the larger the resulting barcode and its capacity.  *   \"-4\" to \"-1\" = Compact Aztec Code with a minimum capacity of 13 digits or 12 letters and an area of 15 x 15 pixels. *   \"0\" = Standard Aztec Code that will be optimized in order to use the smallest possible of layers for the value that is being encoded. *   \"1\" to \"32\" = Standard Aztec Code with a maximum capacity of 3832 digits or 3067 letters and an area of 151 x 151 pixels.
+    */
+    layers?: number;
+    /**
+    * Used to specify the width of the empty frame that should be generated around the barcode. This shall use the same metrics as the position - if no position is present, the default (mm) shall be assumed.
+    */
+    margin?: number;
+    /**
+    * The page range for generating barcodes. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")
+    */
+    pages?: string;
+    position?: Rectangle;
+    /**
+    * Used to specify the barcode's rotation in 90-degree increments. When there is a value that falls under a full 90-degree increment, the next higher increment will be automatically selected.
+    */
+    rotation?: number;
+    /**
+    * Contains the value that should be encoded in the barcode. Depending on the selected barcode format, there may be specific criteria for the data structure. For a description, please refer to the chapter \"Barcodes\"
+    */
+    value: string;
+
+    constructor(data: any) {
+        let charsetDefault: any = "utf-8";
+        this.charset = typeof data?.charset !== "undefined" ? data?.charset : charsetDefault;
+        let errorCorrectionDefault: any = 7;
+        this.errorCorrection = typeof data?.errorCorrection !== "undefined" ? data?.errorCorrection : errorCorrectionDefault;
+        let layersDefault: any = 0;
+        this.layers = typeof data?.layers !== "undefined" ? data?.layers : layersDefault;
+        let marginDefault: any = 0;
+        this.margin = typeof data?.margin !== "undefined" ? data?.margin : marginDefault;
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        this.position = Rectangle.fromJson(data?.position);
+        let rotationDefault: any = 0;
+        this.rotation = typeof data?.rotation !== "undefined" ? data?.rotation : rotationDefault;
+        let valueDefault: any = "";
+        this.value = typeof data.value !== "undefined" ? data.value : valueDefault;
+    }
+
+    public static getCharsetDefault(): string {
+        return "utf-8";
+    }
+
+    public static getCharsetDescription(): string {
+        return "Used to specify the character set in which the barcode contents should be stored.";
+    }
+
+    public static getErrorCorrectionDefault(): number {
+        return 7;
+    }
+
+    public static getErrorCorrectionDescription(): string {
+        return "Used to adjust the error correction level for generated Aztec Codes. The higher the level, the more error-resistant the barcode, ensuring that damaged codes will still be readable. A percentage value of one to one hundred can be entered.";
+    }
+
+    public static getErrorCorrectionMin(): number {
+        return 1;
+    }
+
+    public static getErrorCorrectionMax(): number {
+        return 100;
+    }
+
+    public static getLayersDefault(): number {
+        return 0;
+    }
+
+    public static getLayersDescription(): string {
+        return "Used to specify the number of layers that the generated Aztec Code should use. The higher the number, the larger the resulting barcode and its capacity.\n\n*   \"-4\" to \"-1\" = Compact Aztec Code with a minimum capacity of 13 digits or 12 letters and an area of 15 x 15 pixels.\n*   \"0\" = Standard Aztec Code that will be optimized in order to use the smallest possible of layers for the value that is being encoded.\n*   \"1\" to \"32\" = Standard Aztec Code with a maximum capacity of 3832 digits or 3067 letters and an area of 151 x 151 pixels.";
+    }
+
+    public static getLayersMin(): number {
+        return -4;
+    }
+
+    public static getLayersMax(): number {
+        return 32;
+    }
+
+    public static getMarginDefault(): number {
+        return 0;
+    }
+
+    public static getMarginDescription(): string {
+        return "Used to specify the width of the empty frame that should be generated around the barcode. This shall use the same metrics as the position - if no position is present, the default (mm) shall be assumed.";
+    }
+
+    public static getMarginMin(): number {
+        return 0;
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "The page range for generating barcodes. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")";
+    }
+
+    public static getPositionDescription(): string {
+        return "";
+    }
+
+    public static getRotationDefault(): number {
+        return 0;
+    }
+
+    public static getRotationDescription(): string {
+        return "Used to specify the barcode's rotation in 90-degree increments. When there is a value that falls under a full 90-degree increment, the next higher increment will be automatically selected.";
+    }
+
+    public static getRotationMin(): number {
+        return 0;
+    }
+
+    public static getValueDefault(): string {
+        return "";
+    }
+
+    public static getValueDescription(): string {
+        return "Contains the value that should be encoded in the barcode. Depending on the selected barcode format, there may be specific criteria for the data structure. For a description, please refer to the chapter \"Barcodes\"";
+    }
+
+    public static fromJson(data: any): AztecBarcode {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new AztecBarcode(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<AztecBarcode> {
+        return ModelStream.decodeArray(source, AztecBarcode.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'charset': this.charset,
+            'errorCorrection': this.errorCorrection,
+            'layers': this.layers,
+            'margin': this.margin,
+            'pages': this.pages,
+            'position': this.position?.toJson(),
+            'rotation': this.rotation,
+            'value': this.value,
+        };
+    }
+
+    public clone(): AztecBarcode {
+        return AztecBarcode.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "charset", typeof data?.charset !== "undefined" ? data?.charset : "utf-8") || changed;
+        changed = ModelAssignment.assignValue(this, "errorCorrection", typeof data?.errorCorrection !== "undefined" ? data?.errorCorrection : 7) || changed;
+        changed = ModelAssignment.assignValue(this, "layers", typeof data?.layers !== "undefined" ? data?.layers : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "margin", typeof data?.margin !== "undefined" ? data?.margin : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        changed = ModelAssignment.assignModel(this, "position", data?.position, Rectangle.fromJson, Rectangle) || changed;
+        changed = ModelAssignment.assignValue(this, "rotation", typeof data?.rotation !== "undefined" ? data?.rotation : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "value", typeof data.value !== "undefined" ? data.value : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.charset, other.charset)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.errorCorrection, other.errorCorrection)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.layers, other.layers)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.margin, other.margin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rotation, other.rotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.value, other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.charset);
+        hash = ModelEquality.hash(hash, this.errorCorrection);
+        hash = ModelEquality.hash(hash, this.layers);
+        hash = ModelEquality.hash(hash, this.margin);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.position);
+        hash = ModelEquality.hash(hash, this.rotation);
+        hash = ModelEquality.hash(hash, this.value);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "AztecBarcode(";
+        fingerprint += ModelEquality.fingerprint(this.charset) + ",";
+        fingerprint += ModelEquality.fingerprint(this.errorCorrection) + ",";
+        fingerprint += ModelEquality.fingerprint(this.layers) + ",";
+        fingerprint += ModelEquality.fingerprint(this.margin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.value) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
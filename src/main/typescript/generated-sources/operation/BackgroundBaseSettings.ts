@@ -0,0 +1,255 @@
+import {
+    ModelAssignment,
+    PositionBackgroundBaseSettings,
+    PagesBackgroundBaseSettings,
+    ModelStream,
+    VisibilityBackgroundBaseSettings,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface BackgroundBaseSettingsInterface  {
+
+    /**
+    * A percentage value that is used to specify the background layer's transparency (100 percent means fully visible).
+    */
+    opacity?: number;
+    pages?: PagesBackgroundBaseSettings;
+    position?: PositionBackgroundBaseSettings;
+    /**
+    * If true, the background layer will not be scaled relative to its own original size, but rather to the dimensions of the page containing it.
+    */
+    relativeToPage?: boolean;
+    /**
+    * If true, an existing background layer will be automatically deleted and replaced with the new one. If false, an existing background layer will cause the operation to be aborted.
+    */
+    replaceExisting?: boolean;
+    /**
+    * A value between 0 and 360 degrees that is used to specify the background layer's rotation.
+    */
+    rotation?: number;
+    /**
+    * A percentage value used to specify the scaling for the background layer. This scaling can either be relative to the background layer's original size or to the dimensions of the page containing it (depends on the \"relativeToPage\" parameter)
+    */
+    scale?: number;
+    visibility?: VisibilityBackgroundBaseSettings;
+
+}
+export class BackgroundBaseSettings implements BackgroundBaseSettingsInterface, Parameter {
+    /**
+    * A percentage value that is used to specify the background layer's transparency (100 percent means fully visible).
+    */
+    opacity?: number;
+    pages?: PagesBackgroundBaseSettings;
+    position?: PositionBackgroundBaseSettings;
+    /**
+    * If true, the background layer will not be scaled relative to its own original size, but rather to the dimensions of the page containing it.
+    */
+    relativeToPage?: boolean;
+    /**
+    * If true, an existing background layer will be automatically deleted and replaced with the new one. If false, an existing background layer will cause the operation to be aborted.
+    */
+    replaceExisting?: boolean;
+    /**
+    * A value between 0 and 360 degrees that is used to specify the background layer's rotation.
+    */
+    rotation?: number;
+    /**
+    * A percentage value used to specify the scaling for the background layer. This scaling can either be relative to the background layer's original size or to the dimensions of the page containing it (depends on the \"relativeToPage\" parameter)
+    */
+    scale?: number;
+    visibility?: VisibilityBackgroundBaseSettings;
+
+    constructor(data: any) {
+        let opacityDefault: any = 100;
+        this.opacity = typeof data?.opacity !== "undefined" ? data?.opacity : opacityDefault;
+        this.pages = PagesBackgroundBaseSettings.fromJson(data?.pages);
+        this.position = PositionBackgroundBaseSettings.fromJson(data?.position);
+        let relativeToPageDefault: any = true;
+        this.relativeToPage = typeof data?.relativeToPage !== "undefined" ? data?.relativeToPage : relativeToPageDefault;
+        let replaceExistingDefault: any = false;
+        this.replaceExisting = typeof data?.replaceExisting !== "undefined" ? data?.replaceExisting : replaceExistingDefault;
+        let rotationDefault: any = 0;
+        this.rotation = typeof data?.rotation !== "undefined" ? data?.rotation : rotationDefault;
+        let scaleDefault: any = 100;
+        this.scale = typeof data?.scale !== "undefined" ? data?.scale : scaleDefault;
+        this.visibility = VisibilityBackgroundBaseSettings.fromJson(data?.visibility);
+    }
+
+    public static getOpacityDefault(): number {
+        return 100;
+    }
+
+    public static getOpacityDescription(): string {
+        return "A percentage value that is used to specify the background layer's transparency (100 percent means fully visible).";
+    }
+
+    public static getOpacityMin(): number {
+        return 0;
+    }
+
+    public static getOpacityMax(): number {
+        return 100;
+    }
+
+    public static getPagesDescription(): string {
+        return "";
+    }
+
+    public static getPositionDescription(): string {
+        return "";
+    }
+
+    public static getRelativeToPageDefault(): boolean {
+        return true;
+    }
+
+    public static getRelativeToPageDescription(): string {
+        return "If true, the background layer will not be scaled relative to its own original size, but rather to the dimensions of the page containing it.";
+    }
+
+    public static getReplaceExistingDefault(): boolean {
+        return false;
+    }
+
+    public static getReplaceExistingDescription(): string {
+        return "If true, an existing background layer will be automatically deleted and replaced with the new one. If false, an existing background layer will cause the operation to be aborted.";
+    }
+
+    public static getRotationDefault(): number {
+        return 0;
+    }
+
+    public static getRotationDescription(): string {
+        return "A value between 0 and 360 degrees that is used to specify the background layer's rotation.";
+    }
+
+    public static getRotationMin(): number {
+        return 0;
+    }
+
+    public static getRotationMax(): number {
+        return 360;
+    }
+
+    public static getScaleDefault(): number {
+        return 100;
+    }
+
+    public static getScaleDescription(): string {
+        return "A percentage value used to specify the scaling for the background layer. This scaling can either be relative to the background layer's original size or to the dimensions of the page containing it (depends on the \"relativeToPage\" parameter)";
+    }
+
+    public static getScaleMin(): number {
+        return 0;
+    }
+
+    public static getVisibilityDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): BackgroundBaseSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new BackgroundBaseSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<BackgroundBaseSettings> {
+        return ModelStream.decodeArray(source, BackgroundBaseSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'opacity': this.opacity,
+            'pages': this.pages?.toJson(),
+            'position': this.position?.toJson(),
+            'relativeToPage': this.relativeToPage,
+            'replaceExisting': this.replaceExisting,
+            'rotation': this.rotation,
+            'scale': this.scale,
+            'visibility': this.visibility?.toJson(),
+        };
+    }
+
+    public clone(): BackgroundBaseSettings {
+        return BackgroundBaseSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "opacity", typeof data?.opacity !== "undefined" ? data?.opacity : 100) || changed;
+        changed = ModelAssignment.assignModel(this, "pages", data?.pages, PagesBackgroundBaseSettings.fromJson, PagesBackgroundBaseSettings) || changed;
+        changed = ModelAssignment.assignModel(this, "position", data?.position, PositionBackgroundBaseSettings.fromJson, PositionBackgroundBaseSettings) || changed;
+        changed = ModelAssignment.assignValue(this, "relativeToPage", typeof data?.relativeToPage !== "undefined" ? data?.relativeToPage : true) || changed;
+        changed = ModelAssignment.assignValue(this, "replaceExisting", typeof data?.replaceExisting !== "undefined" ? data?.replaceExisting : false) || changed;
+        changed = ModelAssignment.assignValue(this, "rotation", typeof data?.rotation !== "undefined" ? data?.rotation : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "scale", typeof data?.scale !== "undefined" ? data?.scale : 100) || changed;
+        changed = ModelAssignment.assignModel(this, "visibility", data?.visibility, VisibilityBackgroundBaseSettings.fromJson, VisibilityBackgroundBaseSettings) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.opacity, other.opacity)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.relativeToPage, other.relativeToPage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.replaceExisting, other.replaceExisting)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rotation, other.rotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scale, other.scale)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.visibility, other.visibility)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.opacity);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.position);
+        hash = ModelEquality.hash(hash, this.relativeToPage);
+        hash = ModelEquality.hash(hash, this.replaceExisting);
+        hash = ModelEquality.hash(hash, this.rotation);
+        hash = ModelEquality.hash(hash, this.scale);
+        hash = ModelEquality.hash(hash, this.visibility);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "BackgroundBaseSettings(";
+        fingerprint += ModelEquality.fingerprint(this.opacity) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        fingerprint += ModelEquality.fingerprint(this.relativeToPage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.replaceExisting) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scale) + ",";
+        fingerprint += ModelEquality.fingerprint(this.visibility) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    AddBackground,
+    Parameter,
+    ModelEquality,
+    RemoveBackground,
+} from "./../index";
+
+export interface BackgroundToolboxOptionsInterface  {
+
+    add?: AddBackground;
+    remove?: RemoveBackground;
+
+}
+export class BackgroundToolboxOptions implements BackgroundToolboxOptionsInterface, Parameter {
+    add?: AddBackground;
+    remove?: RemoveBackground;
+
+    constructor(data: any) {
+        this.add = AddBackground.fromJson(data?.add);
+        this.remove = RemoveBackground.fromJson(data?.remove);
+    }
+
+    public static getAddDescription(): string {
+        return "";
+    }
+
+    public static getRemoveDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): BackgroundToolboxOptions {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new BackgroundToolboxOptions(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<BackgroundToolboxOptions> {
+        return ModelStream.decodeArray(source, BackgroundToolboxOptions.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'add': this.add?.toJson(),
+            'remove': this.remove?.toJson(),
+        };
+    }
+
+    public clone(): BackgroundToolboxOptions {
+        return BackgroundToolboxOptions.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "add", data?.add, AddBackground.fromJson, AddBackground) || changed;
+        changed = ModelAssignment.assignModel(this, "remove", data?.remove, RemoveBackground.fromJson, RemoveBackground) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.add, other.add)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.remove, other.remove)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.add);
+        hash = ModelEquality.hash(hash, this.remove);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "BackgroundToolboxOptions(";
+        fingerprint += ModelEquality.fingerprint(this.add) + ",";
+        fingerprint += ModelEquality.fingerprint(this.remove) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    AddBarcode,
+    ModelStream,
+    Parameter,
+    DetectBarcode,
+    ModelEquality,
+} from "./../index";
+
+export interface BarcodeInterface  {
+
+    add?: AddBarcode;
+    detect?: DetectBarcode;
+
+}
+export class Barcode implements BarcodeInterface, Parameter {
+    add?: AddBarcode;
+    detect?: DetectBarcode;
+
+    constructor(data: any) {
+        this.add = AddBarcode.fromJson(data?.add);
+        this.detect = DetectBarcode.fromJson(data?.detect);
+    }
+
+    public static getAddDescription(): string {
+        return "";
+    }
+
+    public static getDetectDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Barcode {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Barcode(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Barcode> {
+        return ModelStream.decodeArray(source, Barcode.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'add': this.add?.toJson(),
+            'detect': this.detect?.toJson(),
+        };
+    }
+
+    public clone(): Barcode {
+        return Barcode.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "add", data?.add, AddBarcode.fromJson, AddBarcode) || changed;
+        changed = ModelAssignment.assignModel(this, "detect", data?.detect, DetectBarcode.fromJson, DetectBarcode) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.add, other.add)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.detect, other.detect)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.add);
+        hash = ModelEquality.hash(hash, this.detect);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Barcode(";
+        fingerprint += ModelEquality.fingerprint(this.add) + ",";
+        fingerprint += ModelEquality.fingerprint(this.detect) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
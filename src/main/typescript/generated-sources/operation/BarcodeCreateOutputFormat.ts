@@ -0,0 +1,9 @@
+export enum BarcodeCreateOutputFormat {
+
+    Jpg = 'jpg',
+    Tif = 'tif',
+    Pdf = 'pdf',
+    Bmp = 'bmp',
+    Png = 'png'
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum BarcodeDetectInputFormat {
+
+    Img = 'img',
+    Pdf = 'pdf'
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum BarcodeDetectOutputFormat {
+
+    Xml = 'xml',
+    Json = 'json'
+
+}
\ No newline at end of file
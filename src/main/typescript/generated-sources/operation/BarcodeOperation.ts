@@ -0,0 +1,125 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Barcode,
+    Billing,
+    Parameter,
+    ModelEquality,
+    PdfPassword,
+    Settings,
+} from "./../index";
+
+export interface BarcodeOperationInterface  {
+
+    barcode: Barcode;
+    billing?: Billing;
+    password?: PdfPassword;
+    settings?: Settings;
+
+}
+export class BarcodeOperation implements BarcodeOperationInterface, Parameter {
+    barcode: Barcode;
+    billing?: Billing;
+    password?: PdfPassword;
+    settings?: Settings;
+
+    constructor(data: any) {
+        this.barcode = Barcode.fromJson(data.barcode);
+        this.billing = Billing.fromJson(data?.billing);
+        this.password = PdfPassword.fromJson(data?.password);
+        this.settings = Settings.fromJson(data?.settings);
+    }
+
+    public static getBarcodeDescription(): string {
+        return "";
+    }
+
+    public static getBillingDescription(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): BarcodeOperation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new BarcodeOperation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<BarcodeOperation> {
+        return ModelStream.decodeArray(source, BarcodeOperation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'barcode': this.barcode?.toJson(),
+            'billing': this.billing?.toJson(),
+            'password': this.password?.toJson(),
+            'settings': this.settings?.toJson(),
+        };
+    }
+
+    public clone(): BarcodeOperation {
+        return BarcodeOperation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "barcode", data.barcode, Barcode.fromJson, Barcode) || changed;
+        changed = ModelAssignment.assignModel(this, "billing", data?.billing, Billing.fromJson, Billing) || changed;
+        changed = ModelAssignment.assignModel(this, "password", data?.password, PdfPassword.fromJson, PdfPassword) || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, Settings.fromJson, Settings) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.barcode, other.barcode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.billing, other.billing)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.barcode);
+        hash = ModelEquality.hash(hash, this.billing);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.settings);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "BarcodeOperation(";
+        fingerprint += ModelEquality.fingerprint(this.barcode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.billing) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
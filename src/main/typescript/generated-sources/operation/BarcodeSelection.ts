@@ -0,0 +1,359 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Rectangle,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface BarcodeSelectionInterface  {
+
+    /**
+    * If this value is set, it will limit the allowed lengths for encoded values. In other words, barcodes with a length that is not listed will be ignored. (Example: \"13,8,25\")
+    */
+    allowedLengths?: string;
+    /**
+    * If this value is set to \"true\", the system will assume that all recognized Code 39 barcodes contain a correct check digit.
+    */
+    barcode39CheckDigit?: boolean;
+    /**
+    * Used to specify the character set in which the barcode contents are stored.
+    */
+    charset?: string;
+    /**
+    * If this value is set to \"true\", the start and stop symbols of recognized Codabar barcodes will be read instead of removed during recognition.
+    */
+    codabarStartEndDigits?: boolean;
+    /**
+    * Used to define the list of barcodes (comma-separated) that should be searched for. There must be at least one barcode format here; otherwise, no search will be run. The names are the same as those used in `<add>`, i.e., the following are the barcode names available:  *   qrcode *   aztec *   codabar *   code128 *   code39 *   datamatrix *   ean13 *   ean8 *   itf *   pdf417 *   upca
+    */
+    formats: string;
+    /**
+    * If this value is set to \"true\", the system will assume that all recognized barcodes are GS1-compliant barcodes, and the way all processes behave and work will be adjusted accordingly (for instance, the way in which the FNC1 character is handled for Code 128)
+    */
+    gs1?: boolean;
+    /**
+    * The page range within which barcodes should be scanned. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")
+    */
+    pages?: string;
+    /**
+    * If this value is set to \"true\", the system will assume that the source document being scanned (limited by `<scanArea>`) does not contain any elements other than the barcode. This option can speed up the recognition process significantly. If, however, this option is enabled and there are elements other than a barcode, recognition may fail completely.
+    */
+    pureBarcode?: boolean;
+    /**
+    * Used to select the resolution for the recognition operation. Depending on the barcode's format and quality, higher or lower values may yield better results (in any case, higher values will slow down processing).
+    */
+    resolution?: number;
+    scanArea?: Rectangle;
+    /**
+    * If this value is set to \"true\", more computing time will be invested in order to guarantee successful recognition. For example, the system will also scan for barcodes along the vertical axis.
+    */
+    tryHarder?: boolean;
+    /**
+    * If this value is set, it will limit the allowed lengths for encoded EAN and UPC Extensions. In other words, barcodes with an Extension length that is not listed will be ignored. (Example: \"2,5\")
+    */
+    upcEanExtensions?: string;
+
+}
+export class BarcodeSelection implements BarcodeSelectionInterface, Parameter {
+    /**
+    * If this value is set, it will limit the allowed lengths for encoded values. In other words, barcodes with a length that is not listed will be ignored. (Example: \"13,8,25\")
+    */
+    allowedLengths?: string;
+    /**
+    * If this value is set to \"true\", the system will assume that all recognized Code 39 barcodes contain a correct check digit.
+    */
+    barcode39CheckDigit?: boolean;
+    /**
+    * Used to specify the character set in which the barcode contents are stored.
+    */
+    charset?: string;
+    /**
+    * If this value is set to \"true\", the start and stop symbols of recognized Codabar barcodes will be read instead of removed during recognition.
+    */
+    codabarStartEndDigits?: boolean;
+    /**
+    * Used to define the list of barcodes (comma-separated) that should be searched for. There must be at least one barcode format here; otherwise, no search will be run. The names are the same as those used in `<add>`, i.e., the following are the barcode names available:  *   qrcode *   aztec *   codabar *   code128 *   code39 *   datamatrix *   ean13 *   ean8 *   itf *   pdf417 *   upca
+    */
+    formats: string;
+    /**
+    * If this value is set to \"true\", the system will assume that all recognized barcodes are GS1-compliant barcodes, and the way all processes behave and work will be adjusted accordingly (for instance, the way in which the FNC1 character is handled for Code 128)
+    */
+    gs1?: boolean;
+    /**
+    * The page range within which barcodes should be scanned. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")
+    */
+    pages?: string;
+    /**
+    * If this value is set to \"true\", the system will assume that the source document being scanned (limited by `<scanArea>`) does not contain any elements other than the barcode. This option can speed up the recognition process significantly. If, however, this option is enabled and there are elements other than a barcode, recognition may fail completely.
+    */
+    pureBarcode?: boolean;
+    /**
+    * Used to select the resolution for the recognition operation. Depending on the barcode's format and quality, higher or lower values may yield better results (in any case, higher values will slow down processing).
+    */
+    resolution?: number;
+    scanArea?: Rectangle;
+    /**
+    * If this value is set to \"true\", more computing time will be invested in order to guarantee successful recognition. For example, the system will also scan for barcodes along the vertical axis.
+    */
+    tryHarder?: boolean;
+    /**
+    * If this value is set, it will limit the allowed lengths for encoded EAN and UPC Extensions. In other words, barcodes with an Extension length that is not listed will be ignored. (Example: \"2,5\")
+    */
+    upcEanExtensions?: string;
+
+    constructor(data: any) {
+        let allowedLengthsDefault: any = "";
+        this.allowedLengths = typeof data?.allowedLengths !== "undefined" ? data?.allowedLengths : allowedLengthsDefault;
+        let barcode39CheckDigitDefault: any = false;
+        this.barcode39CheckDigit = typeof data?.barcode39CheckDigit !== "undefined" ? data?.barcode39CheckDigit : barcode39CheckDigitDefault;
+        let charsetDefault: any = "utf-8";
+        this.charset = typeof data?.charset !== "undefined" ? data?.charset : charsetDefault;
+        let codabarStartEndDigitsDefault: any = false;
+        this.codabarStartEndDigits = typeof data?.codabarStartEndDigits !== "undefined" ? data?.codabarStartEndDigits : codabarStartEndDigitsDefault;
+        let formatsDefault: any = "";
+        this.formats = typeof data.formats !== "undefined" ? data.formats : formatsDefault;
+        let gs1Default: any = false;
+        this.gs1 = typeof data?.gs1 !== "undefined" ? data?.gs1 : gs1Default;
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        let pureBarcodeDefault: any = false;
+        this.pureBarcode = typeof data?.pureBarcode !== "undefined" ? data?.pureBarcode : pureBarcodeDefault;
+        let resolutionDefault: any = 200;
+        this.resolution = typeof data?.resolution !== "undefined" ? data?.resolution : resolutionDefault;
+        this.scanArea = Rectangle.fromJson(data?.scanArea);
+        let tryHarderDefault: any = true;
+        this.tryHarder = typeof data?.tryHarder !== "undefined" ? data?.tryHarder : tryHarderDefault;
+        let upcEanExtensionsDefault: any = "";
+        this.upcEanExtensions = typeof data?.upcEanExtensions !== "undefined" ? data?.upcEanExtensions : upcEanExtensionsDefault;
+    }
+
+    public static getAllowedLengthsDefault(): string {
+        return "";
+    }
+
+    public static getAllowedLengthsDescription(): string {
+        return "If this value is set, it will limit the allowed lengths for encoded values. In other words, barcodes with a length that is not listed will be ignored. (Example: \"13,8,25\")";
+    }
+
+    public static getBarcode39CheckDigitDefault(): boolean {
+        return false;
+    }
+
+    public static getBarcode39CheckDigitDescription(): string {
+        return "If this value is set to \"true\", the system will assume that all recognized Code 39 barcodes contain a correct check digit.";
+    }
+
+    public static getCharsetDefault(): string {
+        return "utf-8";
+    }
+
+    public static getCharsetDescription(): string {
+        return "Used to specify the character set in which the barcode contents are stored.";
+    }
+
+    public static getCodabarStartEndDigitsDefault(): boolean {
+        return false;
+    }
+
+    public static getCodabarStartEndDigitsDescription(): string {
+        return "If this value is set to \"true\", the start and stop symbols of recognized Codabar barcodes will be read instead of removed during recognition.";
+    }
+
+    public static getFormatsDefault(): string {
+        return "";
+    }
+
+    public static getFormatsDescription(): string {
+        return "Used to define the list of barcodes (comma-separated) that should be searched for. There must be at least one barcode format here; otherwise, no search will be run. The names are the same as those used in `<add>`, i.e., the following are the barcode names available:\n\n*   qrcode\n*   aztec\n*   codabar\n*   code128\n*   code39\n*   datamatrix\n*   ean13\n*   ean8\n*   itf\n*   pdf417\n*   upca";
+    }
+
+    public static getGs1Default(): boolean {
+        return false;
+    }
+
+    public static getGs1Description(): string {
+        return "If this value is set to \"true\", the system will assume that all recognized barcodes are GS1-compliant barcodes, and the way all processes behave and work will be adjusted accordingly (for instance, the way in which the FNC1 character is handled for Code 128)";
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "The page range within which barcodes should be scanned. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")";
+    }
+
+    public static getPureBarcodeDefault(): boolean {
+        return false;
+    }
+
+    public static getPureBarcodeDescription(): string {
+        return "If this value is set to \"true\", the system will assume that the source document being scanned (limited by `<scanArea>`) does not contain any elements other than the barcode. This option can speed up the recognition process significantly. If, however, this option is enabled and there are elements other than a barcode, recognition may fail completely.";
+    }
+
+    public static getResolutionDefault(): number {
+        return 200;
+    }
+
+    public static getResolutionDescription(): string {
+        return "Used to select the resolution for the recognition operation. Depending on the barcode's format and quality, higher or lower values may yield better results (in any case, higher values will slow down processing).";
+    }
+
+    public static getResolutionMin(): number {
+        return 1;
+    }
+
+    public static getScanAreaDescription(): string {
+        return "";
+    }
+
+    public static getTryHarderDefault(): boolean {
+        return true;
+    }
+
+    public static getTryHarderDescription(): string {
+        return "If this value is set to \"true\", more computing time will be invested in order to guarantee successful recognition. For example, the system will also scan for barcodes along the vertical axis.";
+    }
+
+    public static getUpcEanExtensionsDefault(): string {
+        return "";
+    }
+
+    public static getUpcEanExtensionsDescription(): string {
+        return "If this value is set, it will limit the allowed lengths for encoded EAN and UPC Extensions. In other words, barcodes with an Extension length that is not listed will be ignored. (Example: \"2,5\")";
+    }
+
+    public static fromJson(data: any): BarcodeSelection {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new BarcodeSelection(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<BarcodeSelection> {
+        return ModelStream.decodeArray(source, BarcodeSelection.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'allowedLengths': this.allowedLengths,
+            'barcode39CheckDigit': this.barcode39CheckDigit,
+            'charset': this.charset,
+            'codabarStartEndDigits': this.codabarStartEndDigits,
+            'formats': this.formats,
+            'gs1': this.gs1,
+            'pages': this.pages,
+            'pureBarcode': this.pureBarcode,
+            'resolution': this.resolution,
+            'scanArea': this.scanArea?.toJson(),
+            'tryHarder': this.tryHarder,
+            'upcEanExtensions': this.upcEanExtensions,
+        };
+    }
+
+    public clone(): BarcodeSelection {
+        return BarcodeSelection.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "allowedLengths", typeof data?.allowedLengths !== "undefined" ? data?.allowedLengths : "") || changed;
+        changed = ModelAssignment.assignValue(this, "barcode39CheckDigit", typeof data?.barcode39CheckDigit !== "undefined" ? data?.barcode39CheckDigit : false) || changed;
+        changed = ModelAssignment.assignValue(this, "charset", typeof data?.charset !== "undefined" ? data?.charset : "utf-8") || changed;
+        changed = ModelAssignment.assignValue(this, "codabarStartEndDigits", typeof data?.codabarStartEndDigits !== "undefined" ? data?.codabarStartEndDigits : false) || changed;
+        changed = ModelAssignment.assignValue(this, "formats", typeof data.formats !== "undefined" ? data.formats : "") || changed;
+        changed = ModelAssignment.assignValue(this, "gs1", typeof data?.gs1 !== "undefined" ? data?.gs1 : false) || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        changed = ModelAssignment.assignValue(this, "pureBarcode", typeof data?.pureBarcode !== "undefined" ? data?.pureBarcode : false) || changed;
+        changed = ModelAssignment.assignValue(this, "resolution", typeof data?.resolution !== "undefined" ? data?.resolution : 200) || changed;
+        changed = ModelAssignment.assignModel(this, "scanArea", data?.scanArea, Rectangle.fromJson, Rectangle) || changed;
+        changed = ModelAssignment.assignValue(this, "tryHarder", typeof data?.tryHarder !== "undefined" ? data?.tryHarder : true) || changed;
+        changed = ModelAssignment.assignValue(this, "upcEanExtensions", typeof data?.upcEanExtensions !== "undefined" ? data?.upcEanExtensions : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.allowedLengths, other.allowedLengths)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.barcode39CheckDigit, other.barcode39CheckDigit)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.charset, other.charset)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.codabarStartEndDigits, other.codabarStartEndDigits)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.formats, other.formats)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.gs1, other.gs1)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pureBarcode, other.pureBarcode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.resolution, other.resolution)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scanArea, other.scanArea)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.tryHarder, other.tryHarder)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.upcEanExtensions, other.upcEanExtensions)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.allowedLengths);
+        hash = ModelEquality.hash(hash, this.barcode39CheckDigit);
+        hash = ModelEquality.hash(hash, this.charset);
+        hash = ModelEquality.hash(hash, this.codabarStartEndDigits);
+        hash = ModelEquality.hash(hash, this.formats);
+        hash = ModelEquality.hash(hash, this.gs1);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.pureBarcode);
+        hash = ModelEquality.hash(hash, this.resolution);
+        hash = ModelEquality.hash(hash, this.scanArea);
+        hash = ModelEquality.hash(hash, this.tryHarder);
+        hash = ModelEquality.hash(hash, this.upcEanExtensions);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "BarcodeSelection(";
+        fingerprint += ModelEquality.fingerprint(this.allowedLengths) + ",";
+        fingerprint += ModelEquality.fingerprint(this.barcode39CheckDigit) + ",";
+        fingerprint += ModelEquality.fingerprint(this.charset) + ",";
+        fingerprint += ModelEquality.fingerprint(this.codabarStartEndDigits) + ",";
+        fingerprint += ModelEquality.fingerprint(this.formats) + ",";
+        fingerprint += ModelEquality.fingerprint(this.gs1) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pureBarcode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.resolution) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scanArea) + ",";
+        fingerprint += ModelEquality.fingerprint(this.tryHarder) + ",";
+        fingerprint += ModelEquality.fingerprint(this.upcEanExtensions) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
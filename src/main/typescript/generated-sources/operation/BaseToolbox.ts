@@ -0,0 +1,175 @@
+import {
+    ToolboxScale,
+    ToolboxRedact,
+    ToolboxMerge,
+    ToolboxPrint,
+    ToolboxAttachment,
+    ModelAssignment,
+    ToolboxCompress,
+    ToolboxWatermark,
+    ToolboxAnnotation,
+    ToolboxDescription,
+    ToolboxOutline,
+    ToolboxForms,
+    ToolboxMove,
+    ToolboxXmp,
+    ToolboxTranscribe,
+    ToolboxSecurity,
+    ToolboxRotate,
+    ModelStream,
+    ToolboxImage,
+    ToolboxOptions,
+    ToolboxDelete,
+    ToolboxExtraction,
+    ToolboxPortfolio,
+    Parameter,
+    ToolboxSplit,
+    ModelEquality,
+} from "./../index";
+
+export interface BaseToolboxInterface  {
+
+
+}
+export class BaseToolbox implements BaseToolboxInterface, Parameter {
+
+    constructor(data: any) {
+    }
+
+    public static fromJson(data: any): BaseToolbox {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        if (typeof data.annotation !== "undefined") {
+            return ToolboxAnnotation.fromJson(data);
+        }
+
+        if (typeof data.image !== "undefined") {
+            return ToolboxImage.fromJson(data);
+        }
+
+        if (typeof data.rotate !== "undefined") {
+            return ToolboxRotate.fromJson(data);
+        }
+
+        if (typeof data.move !== "undefined") {
+            return ToolboxMove.fromJson(data);
+        }
+
+        if (typeof data.watermark !== "undefined") {
+            return ToolboxWatermark.fromJson(data);
+        }
+
+        if (typeof data.compress !== "undefined") {
+            return ToolboxCompress.fromJson(data);
+        }
+
+        if (typeof data.redact !== "undefined") {
+            return ToolboxRedact.fromJson(data);
+        }
+
+        if (typeof data.description !== "undefined") {
+            return ToolboxDescription.fromJson(data);
+        }
+
+        if (typeof data.scale !== "undefined") {
+            return ToolboxScale.fromJson(data);
+        }
+
+        if (typeof data.extraction !== "undefined") {
+            return ToolboxExtraction.fromJson(data);
+        }
+
+        if (typeof data.delete !== "undefined") {
+            return ToolboxDelete.fromJson(data);
+        }
+
+        if (typeof data.transcribe !== "undefined") {
+            return ToolboxTranscribe.fromJson(data);
+        }
+
+        if (typeof data.print !== "undefined") {
+            return ToolboxPrint.fromJson(data);
+        }
+
+        if (typeof data.security !== "undefined") {
+            return ToolboxSecurity.fromJson(data);
+        }
+
+        if (typeof data.outline !== "undefined") {
+            return ToolboxOutline.fromJson(data);
+        }
+
+        if (typeof data.split !== "undefined") {
+            return ToolboxSplit.fromJson(data);
+        }
+
+        if (typeof data.attachment !== "undefined") {
+            return ToolboxAttachment.fromJson(data);
+        }
+
+        if (typeof data.portfolio !== "undefined") {
+            return ToolboxPortfolio.fromJson(data);
+        }
+
+        if (typeof data.merge !== "undefined") {
+            return ToolboxMerge.fromJson(data);
+        }
+
+        if (typeof data.options !== "undefined") {
+            return ToolboxOptions.fromJson(data);
+        }
+
+        if (typeof data.xmp !== "undefined") {
+            return ToolboxXmp.fromJson(data);
+        }
+
+        if (typeof data.forms !== "undefined") {
+            return ToolboxForms.fromJson(data);
+        }
+
+        return new BaseToolbox(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<BaseToolbox> {
+        return ModelStream.decodeArray(source, BaseToolbox.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+        };
+    }
+
+    public clone(): BaseToolbox {
+        return BaseToolbox.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "BaseToolbox(";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface BillingInterface  {
+
+    /**
+    * A free text that specifies the name of the application calling the web service. This attribute makes it possible to analyze the logs with regard to specific applications, for example.  **Important:** If the web service is called by an external application that does not set its own value for \"applicationName\", a value of \"external\" will be entered automatically. If the web service is called from the server's portal, a value of \"portal\" will be entered automatically.
+    */
+    applicationName?: string;
+    /**
+    * A free text that identifies the customer calling the web service. This attribute makes it possible to analyze the logs with regard to specific customers, for example.
+    */
+    customerCode?: string;
+    /**
+    * A free text that specifies the name of the user calling the web service. This attribute makes it possible to analyze the logs with regard to specific users, for example.  **Important:** If the web service is called from the server's portal and a user is logged in, the user's name will be entered automatically.
+    */
+    userName?: string;
+
+}
+export class Billing implements BillingInterface, Parameter {
+    /**
+    * A free text that specifies the name of the application calling the web service. This attribute makes it possible to analyze the logs with regard to specific applications, for example.  **Important:** If the web service is called by an external application that does not set its own value for \"applicationName\", a value of \"external\" will be entered automatically. If the web service is called from the server's portal, a value of \"portal\" will be entered automatically.
+    */
+    applicationName?: string;
+    /**
+    * A free text that identifies the customer calling the web service. This attribute makes it possible to analyze the logs with regard to specific customers, for example.
+    */
+    customerCode?: string;
+    /**
+    * A free text that specifies the name of the user calling the web service. This attribute makes it possible to analyze the logs with regard to specific users, for example.  **Important:** If the web service is called from the server's portal and a user is logged in, the user's name will be entered automatically.
+    */
+    userName?: string;
+
+    constructor(data: any) {
+        let applicationNameDefault: any = "external";
+        this.applicationName = typeof data?.applicationName !== "undefined" ? data?.applicationName : applicationNameDefault;
+        let customerCodeDefault: any = "";
+        this.customerCode = typeof data?.customerCode !== "undefined" ? data?.customerCode : customerCodeDefault;
+        let userNameDefault: any = "";
+        this.userName = typeof data?.userName !== "undefined" ? data?.userName : userNameDefault;
+    }
+
+    public static getApplicationNameDefault(): string {
+        return "external";
+    }
+
+    public static getApplicationNameDescription(): string {
+        return "A free text that specifies the name of the application calling the web service. This attribute makes it possible to analyze the logs with regard to specific applications, for example.\n\n**Important:** If the web service is called by an external application that does not set its own value for \"applicationName\", a value of \"external\" will be entered automatically. If the web service is called from the server's portal, a value of \"portal\" will be entered automatically.";
+    }
+
+    public static getCustomerCodeDefault(): string {
+        return "";
+    }
+
+    public static getCustomerCodeDescription(): string {
+        return "A free text that identifies the customer calling the web service. This attribute makes it possible to analyze the logs with regard to specific customers, for example.";
+    }
+
+    public static getUserNameDefault(): string {
+        return "";
+    }
+
+    public static getUserNameDescription(): string {
+        return "A free text that specifies the name of the user calling the web service. This attribute makes it possible to analyze the logs with regard to specific users, for example.\n\n**Important:** If the web service is called from the server's portal and a user is logged in, the user's name will be entered automatically.";
+    }
+
+    public static fromJson(data: any): Billing {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Billing(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Billing> {
+        return ModelStream.decodeArray(source, Billing.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'applicationName': this.applicationName,
+            'customerCode': this.customerCode,
+            'userName': this.userName,
+        };
+    }
+
+    public clone(): Billing {
+        return Billing.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "applicationName", typeof data?.applicationName !== "undefined" ? data?.applicationName : "external") || changed;
+        changed = ModelAssignment.assignValue(this, "customerCode", typeof data?.customerCode !== "undefined" ? data?.customerCode : "") || changed;
+        changed = ModelAssignment.assignValue(this, "userName", typeof data?.userName !== "undefined" ? data?.userName : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.applicationName, other.applicationName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.customerCode, other.customerCode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userName, other.userName)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.applicationName);
+        hash = ModelEquality.hash(hash, this.customerCode);
+        hash = ModelEquality.hash(hash, this.userName);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Billing(";
+        fingerprint += ModelEquality.fingerprint(this.applicationName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.customerCode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userName) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface BlackenInterface  {
+
+    /**
+    * Specifies a percentage value by which a letter must be obscured at least to be considered blackened and thus removed.
+    */
+    collisionRatio?: number;
+    /**
+    * If this value is set to \"true\", all blackened annotations will be removed. Annotations are removed completely even if they are only truncated.
+    */
+    redactAnnotations?: boolean;
+    /**
+    * If this value is set to true, all blackened image data will be removed. For images, the entire image is not removed, but the obscured area is replaced by the redaction.
+    */
+    redactImages?: boolean;
+    /**
+    * If this value is set to true, all blackened character paths are removed. The paths are adjusted so that the blackened section is removed from the path construction.
+    */
+    redactPaths?: boolean;
+    /**
+    * If this value is set to \"true\", all texts are blackened letter by letter.
+    */
+    redactTexts?: boolean;
+
+}
+export class Blacken implements BlackenInterface, Parameter {
+    /**
+    * Specifies a percentage value by which a letter must be obscured at least to be considered blackened and thus removed.
+    */
+    collisionRatio?: number;
+    /**
+    * If this value is set to \"true\", all blackened annotations will be removed. Annotations are removed completely even if they are only truncated.
+    */
+    redactAnnotations?: boolean;
+    /**
+    * If this value is set to true, all blackened image data will be removed. For images, the entire image is not removed, but the obscured area is replaced by the redaction.
+    */
+    redactImages?: boolean;
+    /**
+    * If this value is set to true, all blackened character paths are removed. The paths are adjusted so that the blackened section is removed from the path construction.
+    */
+    redactPaths?: boolean;
+    /**
+    * If this value is set to \"true\", all texts are blackened letter by letter.
+    */
+    redactTexts?: boolean;
+
+    constructor(data: any) {
+        let collisionRatioDefault: any = 30;
+        this.collisionRatio = typeof data?.collisionRatio !== "undefined" ? data?.collisionRatio : collisionRatioDefault;
+        let redactAnnotationsDefault: any = true;
+        this.redactAnnotations = typeof data?.redactAnnotations !== "undefined" ? data?.redactAnnotations : redactAnnotationsDefault;
+        let redactImagesDefault: any = true;
+        this.redactImages = typeof data?.redactImages !== "undefined" ? data?.redactImages : redactImagesDefault;
+        let redactPathsDefault: any = true;
+        this.redactPaths = typeof data?.redactPaths !== "undefined" ? data?.redactPaths : redactPathsDefault;
+        let redactTextsDefault: any = true;
+        this.redactTexts = typeof data?.redactTexts !== "undefined" ? data?.redactTexts : redactTextsDefault;
+    }
+
+    public static getCollisionRatioDefault(): number {
+        return 30;
+    }
+
+    public static getCollisionRatioDescription(): string {
+        return "Specifies a percentage value by which a letter must be obscured at least to be considered blackened and thus removed.";
+    }
+
+    public static getCollisionRatioMin(): number {
+        return 0;
+    }
+
+    public static getCollisionRatioMax(): number {
+        return 100;
+    }
+
+    public static getRedactAnnotationsDefault(): boolean {
+        return true;
+    }
+
+    public static getRedactAnnotationsDescription(): string {
+        return "If this value is set to \"true\", all blackened annotations will be removed. Annotations are removed completely even if they are only truncated.";
+    }
+
+    public static getRedactImagesDefault(): boolean {
+        return true;
+    }
+
+    public static getRedactImagesDescription(): string {
+        return "If this value is set to true, all blackened image data will be removed. For images, the entire image is not removed, but the obscured area is replaced by the redaction.";
+    }
+
+    public static getRedactPathsDefault(): boolean {
+        return true;
+    }
+
+    public static getRedactPathsDescription(): string {
+        return "If this value is set to true, all blackened character paths are removed. The paths are adjusted so that the blackened section is removed from the path construction.";
+    }
+
+    public static getRedactTextsDefault(): boolean {
+        return true;
+    }
+
+    public static getRedactTextsDescription(): string {
+        return "If this value is set to \"true\", all texts are blackened letter by letter.";
+    }
+
+    public static fromJson(data: any): Blacken {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Blacken(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Blacken> {
+        return ModelStream.decodeArray(source, Blacken.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'collisionRatio': this.collisionRatio,
+            'redactAnnotations': this.redactAnnotations,
+            'redactImages': this.redactImages,
+            'redactPaths': this.redactPaths,
+            'redactTexts': this.redactTexts,
+        };
+    }
+
+    public clone(): Blacken {
+        return Blacken.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "collisionRatio", typeof data?.collisionRatio !== "undefined" ? data?.collisionRatio : 30) || changed;
+        changed = ModelAssignment.assignValue(this, "redactAnnotations", typeof data?.redactAnnotations !== "undefined" ? data?.redactAnnotations : true) || changed;
+        changed = ModelAssignment.assignValue(this, "redactImages", typeof data?.redactImages !== "undefined" ? data?.redactImages : true) || changed;
+        changed = ModelAssignment.assignValue(this, "redactPaths", typeof data?.redactPaths !== "undefined" ? data?.redactPaths : true) || changed;
+        changed = ModelAssignment.assignValue(this, "redactTexts", typeof data?.redactTexts !== "undefined" ? data?.redactTexts : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.collisionRatio, other.collisionRatio)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.redactAnnotations, other.redactAnnotations)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.redactImages, other.redactImages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.redactPaths, other.redactPaths)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.redactTexts, other.redactTexts)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.collisionRatio);
+        hash = ModelEquality.hash(hash, this.redactAnnotations);
+        hash = ModelEquality.hash(hash, this.redactImages);
+        hash = ModelEquality.hash(hash, this.redactPaths);
+        hash = ModelEquality.hash(hash, this.redactTexts);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Blacken(";
+        fingerprint += ModelEquality.fingerprint(this.collisionRatio) + ",";
+        fingerprint += ModelEquality.fingerprint(this.redactAnnotations) + ",";
+        fingerprint += ModelEquality.fingerprint(this.redactImages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.redactPaths) + ",";
+        fingerprint += ModelEquality.fingerprint(this.redactTexts) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
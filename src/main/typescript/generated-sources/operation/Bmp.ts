@@ -0,0 +1,182 @@
+import {
+    ModelAssignment,
+    Metrics,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface BmpInterface  {
+
+    /**
+    * This parameter is used to define the image's DPI resolution. The larger the value, the larger the image's x, y resolution. In addition, the larger the DPI resolution, the larger the size of the image file.
+    */
+    dpi?: number;
+    /**
+    * Used to limit the maximum height of the exported image. 0 = No restriction
+    */
+    height?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Used to limit the maximum width of the exported image. 0 = No restriction
+    */
+    width?: number;
+
+}
+export class Bmp implements BmpInterface, Parameter {
+    /**
+    * This parameter is used to define the image's DPI resolution. The larger the value, the larger the image's x, y resolution. In addition, the larger the DPI resolution, the larger the size of the image file.
+    */
+    dpi?: number;
+    /**
+    * Used to limit the maximum height of the exported image. 0 = No restriction
+    */
+    height?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Used to limit the maximum width of the exported image. 0 = No restriction
+    */
+    width?: number;
+
+    constructor(data: any) {
+        let dpiDefault: any = 72;
+        this.dpi = typeof data?.dpi !== "undefined" ? data?.dpi : dpiDefault;
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let metricsDefault: any = "mm";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+    }
+
+    public static getDpiDefault(): number {
+        return 72;
+    }
+
+    public static getDpiDescription(): string {
+        return "This parameter is used to define the image's DPI resolution. The larger the value, the larger the image's x, y resolution. In addition, the larger the DPI resolution, the larger the size of the image file.";
+    }
+
+    public static getDpiMin(): number {
+        return 0;
+    }
+
+    public static getDpiMax(): number {
+        return 9600;
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "Used to limit the maximum height of the exported image. 0 = No restriction";
+    }
+
+    public static getHeightMin(): number {
+        return 0;
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "mm" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "Used to limit the maximum width of the exported image. 0 = No restriction";
+    }
+
+    public static getWidthMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): Bmp {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Bmp(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Bmp> {
+        return ModelStream.decodeArray(source, Bmp.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'dpi': this.dpi,
+            'height': this.height,
+            'metrics': this.metrics,
+            'width': this.width,
+        };
+    }
+
+    public clone(): Bmp {
+        return Bmp.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "dpi", typeof data?.dpi !== "undefined" ? data?.dpi : 72) || changed;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "mm") || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dpi, other.dpi)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.dpi);
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.width);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Bmp(";
+        fingerprint += ModelEquality.fingerprint(this.dpi) + ",";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    BorderStyle,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface BorderInterface  {
+
+    /**
+    * Defines the border style.  *   solid = A solid line border. *   dashed = A dashed border using the given dash and gap length.
+    */
+    borderStyle?: BorderStyle;
+    /**
+    * Defines the border width/strength/thickness.
+    */
+    borderWidth?: number;
+    /**
+    * The interval length of dashes for a border with a \"dashed\" style.
+    */
+    dashLength?: number;
+    /**
+    * The interval length of gaps for a border with a \"dashed\" style.
+    */
+    gapLength?: number;
+
+}
+export class Border implements BorderInterface, Parameter {
+    /**
+    * Defines the border style.  *   solid = A solid line border. *   dashed = A dashed border using the given dash and gap length.
+    */
+    borderStyle?: BorderStyle;
+    /**
+    * Defines the border width/strength/thickness.
+    */
+    borderWidth?: number;
+    /**
+    * The interval length of dashes for a border with a \"dashed\" style.
+    */
+    dashLength?: number;
+    /**
+    * The interval length of gaps for a border with a \"dashed\" style.
+    */
+    gapLength?: number;
+
+    constructor(data: any) {
+        let borderStyleDefault: any = "solid";
+        this.borderStyle = typeof data?.borderStyle !== "undefined" ? data?.borderStyle : borderStyleDefault;
+        let borderWidthDefault: any = 1;
+        this.borderWidth = typeof data?.borderWidth !== "undefined" ? data?.borderWidth : borderWidthDefault;
+        let dashLengthDefault: any = 3;
+        this.dashLength = typeof data?.dashLength !== "undefined" ? data?.dashLength : dashLengthDefault;
+        let gapLengthDefault: any = 3;
+        this.gapLength = typeof data?.gapLength !== "undefined" ? data?.gapLength : gapLengthDefault;
+    }
+
+    public static getBorderStyleDefault(): BorderStyle {
+        return "solid" as BorderStyle;
+    }
+
+    public static getBorderStyleDescription(): string {
+        return "Defines the border style.\n\n*   solid = A solid line border.\n*   dashed = A dashed border using the given dash and gap length.";
+    }
+
+    public static getBorderWidthDefault(): number {
+        return 1;
+    }
+
+    public static getBorderWidthDescription(): string {
+        return "Defines the border width\/strength\/thickness.";
+    }
+
+    public static getBorderWidthMin(): number {
+        return 0;
+    }
+
+    public static getDashLengthDefault(): number {
+        return 3;
+    }
+
+    public static getDashLengthDescription(): string {
+        return "The interval length of dashes for a border with a \"dashed\" style.";
+    }
+
+    public static getDashLengthMin(): number {
+        return 1;
+    }
+
+    public static getGapLengthDefault(): number {
+        return 3;
+    }
+
+    public static getGapLengthDescription(): string {
+        return "The interval length of gaps for a border with a \"dashed\" style.";
+    }
+
+    public static getGapLengthMin(): number {
+        return 1;
+    }
+
+    public static fromJson(data: any): Border {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Border(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Border> {
+        return ModelStream.decodeArray(source, Border.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'borderStyle': this.borderStyle,
+            'borderWidth': this.borderWidth,
+            'dashLength': this.dashLength,
+            'gapLength': this.gapLength,
+        };
+    }
+
+    public clone(): Border {
+        return Border.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "borderStyle", typeof data?.borderStyle !== "undefined" ? data?.borderStyle : "solid") || changed;
+        changed = ModelAssignment.assignValue(this, "borderWidth", typeof data?.borderWidth !== "undefined" ? data?.borderWidth : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "dashLength", typeof data?.dashLength !== "undefined" ? data?.dashLength : 3) || changed;
+        changed = ModelAssignment.assignValue(this, "gapLength", typeof data?.gapLength !== "undefined" ? data?.gapLength : 3) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.borderStyle, other.borderStyle)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.borderWidth, other.borderWidth)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dashLength, other.dashLength)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.gapLength, other.gapLength)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.borderStyle);
+        hash = ModelEquality.hash(hash, this.borderWidth);
+        hash = ModelEquality.hash(hash, this.dashLength);
+        hash = ModelEquality.hash(hash, this.gapLength);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Border(";
+        fingerprint += ModelEquality.fingerprint(this.borderStyle) + ",";
+        fingerprint += ModelEquality.fingerprint(this.borderWidth) + ",";
+        fingerprint += ModelEquality.fingerprint(this.dashLength) + ",";
+        fingerprint += ModelEquality.fingerprint(this.gapLength) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum BorderStyle {
+
+    Dashed = 'dashed',
+    Solid = 'solid'
+
+}
\ No newline at end of file
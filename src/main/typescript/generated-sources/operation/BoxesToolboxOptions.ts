@@ -0,0 +1,107 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ResizeBoxes,
+    RemoveBoxes,
+    ModelEquality,
+} from "./../index";
+
+export interface BoxesToolboxOptionsInterface  {
+
+    remove?: Array<RemoveBoxes>;
+    resize?: Array<ResizeBoxes>;
+
+}
+export class BoxesToolboxOptions implements BoxesToolboxOptionsInterface, Parameter {
+    remove?: Array<RemoveBoxes>;
+    resize?: Array<ResizeBoxes>;
+
+    constructor(data: any) {
+        this.remove = (data?.remove || []).map(
+            RemoveBoxes.fromJson
+        );
+        this.resize = (data?.resize || []).map(
+            ResizeBoxes.fromJson
+        );
+    }
+
+    public static getRemoveDefault(): Array<RemoveBoxes> {
+        return [];
+    }
+
+    public static getRemoveDescription(): string {
+        return "";
+    }
+
+    public static getResizeDefault(): Array<ResizeBoxes> {
+        return [];
+    }
+
+    public static getResizeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): BoxesToolboxOptions {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new BoxesToolboxOptions(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<BoxesToolboxOptions> {
+        return ModelStream.decodeArray(source, BoxesToolboxOptions.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'remove': this.remove?.map((data) => data.toJson()),
+            'resize': this.resize?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): BoxesToolboxOptions {
+        return BoxesToolboxOptions.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "remove", data?.remove, RemoveBoxes.fromJson, RemoveBoxes) || changed;
+        changed = ModelAssignment.assignArray(this, "resize", data?.resize, ResizeBoxes.fromJson, ResizeBoxes) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.remove, other.remove)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.resize, other.resize)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.remove);
+        hash = ModelEquality.hash(hash, this.resize);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "BoxesToolboxOptions(";
+        fingerprint += ModelEquality.fingerprint(this.remove) + ",";
+        fingerprint += ModelEquality.fingerprint(this.resize) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum CertificationLevel {
+
+    NoChanges = 'noChanges',
+    FormFillingAndSignatures = 'formFillingAndSignatures',
+    None = 'none',
+    FormFillingAndSignaturesAndAnnotations = 'formFillingAndSignaturesAndAnnotations'
+
+}
\ No newline at end of file
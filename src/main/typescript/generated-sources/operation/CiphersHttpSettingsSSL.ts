@@ -0,0 +1,84 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface CiphersHttpSettingsSSLInterface  {
+
+    cipher: Array<string>;
+
+}
+export class CiphersHttpSettingsSSL implements CiphersHttpSettingsSSLInterface, Parameter {
+    cipher: Array<string>;
+
+    constructor(data: any) {
+        let cipherDefault: any = [];
+        this.cipher = typeof data.cipher !== "undefined" ? data.cipher : cipherDefault;
+    }
+
+    public static getCipherDefault(): Array<string> {
+        return [];
+    }
+
+    public static getCipherDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): CiphersHttpSettingsSSL {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new CiphersHttpSettingsSSL(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<CiphersHttpSettingsSSL> {
+        return ModelStream.decodeArray(source, CiphersHttpSettingsSSL.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'cipher': this.cipher,
+        };
+    }
+
+    public clone(): CiphersHttpSettingsSSL {
+        return CiphersHttpSettingsSSL.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "cipher", typeof data.cipher !== "undefined" ? data.cipher : []) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.cipher, other.cipher)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.cipher);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "CiphersHttpSettingsSSL(";
+        fingerprint += ModelEquality.fingerprint(this.cipher) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
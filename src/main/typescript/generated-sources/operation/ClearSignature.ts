@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ClearSignatureInterface  {
+
+    /**
+    * When set to \"true\", this will render all visible signatures to the page content.  **Important:** The actual signatures will still be removed! The hereby generated visual representation is not verifyable or binding and can not serve/does not count as a valid digital signature.
+    */
+    flatten?: boolean;
+
+}
+export class ClearSignature implements ClearSignatureInterface, Parameter {
+    /**
+    * When set to \"true\", this will render all visible signatures to the page content.  **Important:** The actual signatures will still be removed! The hereby generated visual representation is not verifyable or binding and can not serve/does not count as a valid digital signature.
+    */
+    flatten?: boolean;
+
+    constructor(data: any) {
+        let flattenDefault: any = false;
+        this.flatten = typeof data?.flatten !== "undefined" ? data?.flatten : flattenDefault;
+    }
+
+    public static getFlattenDefault(): boolean {
+        return false;
+    }
+
+    public static getFlattenDescription(): string {
+        return "When set to \"true\", this will render all visible signatures to the page content.\n\n**Important:** The actual signatures will still be removed! The hereby generated visual representation is not verifyable or binding and can not serve\/does not count as a valid digital signature.";
+    }
+
+    public static fromJson(data: any): ClearSignature {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ClearSignature(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ClearSignature> {
+        return ModelStream.decodeArray(source, ClearSignature.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'flatten': this.flatten,
+        };
+    }
+
+    public clone(): ClearSignature {
+        return ClearSignature.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "flatten", typeof data?.flatten !== "undefined" ? data?.flatten : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.flatten, other.flatten)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.flatten);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ClearSignature(";
+        fingerprint += ModelEquality.fingerprint(this.flatten) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ClearToolboxAnnotationInterface  {
+
+    /**
+    * Set to true to flatten annotations of the selected pages.  **Important:** flattening means, the interactive annotation objects will be removed and only their visual representation will remain in the page content of the resulting document.
+    */
+    flatten?: boolean;
+    /**
+    * Defines which page(s) annotations shall be removed from. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").
+    */
+    pages?: string;
+
+}
+export class ClearToolboxAnnotation implements ClearToolboxAnnotationInterface, Parameter {
+    /**
+    * Set to true to flatten annotations of the selected pages.  **Important:** flattening means, the interactive annotation objects will be removed and only their visual representation will remain in the page content of the resulting document.
+    */
+    flatten?: boolean;
+    /**
+    * Defines which page(s) annotations shall be removed from. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").
+    */
+    pages?: string;
+
+    constructor(data: any) {
+        let flattenDefault: any = false;
+        this.flatten = typeof data?.flatten !== "undefined" ? data?.flatten : flattenDefault;
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+    }
+
+    public static getFlattenDefault(): boolean {
+        return false;
+    }
+
+    public static getFlattenDescription(): string {
+        return "Set to true to flatten annotations of the selected pages.\n\n**Important:** flattening means, the interactive annotation objects will be removed and only their visual representation will remain in the page content of the resulting document.";
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "Defines which page(s) annotations shall be removed from. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").";
+    }
+
+    public static fromJson(data: any): ClearToolboxAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ClearToolboxAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ClearToolboxAnnotation> {
+        return ModelStream.decodeArray(source, ClearToolboxAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'flatten': this.flatten,
+            'pages': this.pages,
+        };
+    }
+
+    public clone(): ClearToolboxAnnotation {
+        return ClearToolboxAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "flatten", typeof data?.flatten !== "undefined" ? data?.flatten : false) || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.flatten, other.flatten)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.flatten);
+        hash = ModelEquality.hash(hash, this.pages);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ClearToolboxAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.flatten) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+import {
+    ModelAssignment,
+    BackgroundBaseSettings,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ColorBackgroundInterface  {
+
+    /**
+    * Used to set the colour for the background layer. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    settings?: BackgroundBaseSettings;
+
+}
+export class ColorBackground implements ColorBackgroundInterface, Parameter {
+    /**
+    * Used to set the colour for the background layer. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    settings?: BackgroundBaseSettings;
+
+    constructor(data: any) {
+        let colorDefault: any = "#FFFFFF";
+        this.color = typeof data?.color !== "undefined" ? data?.color : colorDefault;
+        this.settings = BackgroundBaseSettings.fromJson(data?.settings);
+    }
+
+    public static getColorDefault(): string {
+        return "#FFFFFF";
+    }
+
+    public static getColorDescription(): string {
+        return "Used to set the colour for the background layer. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ColorBackground {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ColorBackground(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ColorBackground> {
+        return ModelStream.decodeArray(source, ColorBackground.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'color': this.color,
+            'settings': this.settings?.toJson(),
+        };
+    }
+
+    public clone(): ColorBackground {
+        return ColorBackground.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "color", typeof data?.color !== "undefined" ? data?.color : "#FFFFFF") || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, BackgroundBaseSettings.fromJson, BackgroundBaseSettings) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.color, other.color)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.color);
+        hash = ModelEquality.hash(hash, this.settings);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ColorBackground(";
+        fingerprint += ModelEquality.fingerprint(this.color) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
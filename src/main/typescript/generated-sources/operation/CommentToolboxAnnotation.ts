@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    EditComment,
+    AddComment,
+    ModelEquality,
+} from "./../index";
+
+export interface CommentToolboxAnnotationInterface  {
+
+    add?: AddComment;
+    edit?: EditComment;
+
+}
+export class CommentToolboxAnnotation implements CommentToolboxAnnotationInterface, Parameter {
+    add?: AddComment;
+    edit?: EditComment;
+
+    constructor(data: any) {
+        this.add = AddComment.fromJson(data?.add);
+        this.edit = EditComment.fromJson(data?.edit);
+    }
+
+    public static getAddDescription(): string {
+        return "";
+    }
+
+    public static getEditDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): CommentToolboxAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new CommentToolboxAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<CommentToolboxAnnotation> {
+        return ModelStream.decodeArray(source, CommentToolboxAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'add': this.add?.toJson(),
+            'edit': this.edit?.toJson(),
+        };
+    }
+
+    public clone(): CommentToolboxAnnotation {
+        return CommentToolboxAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "add", data?.add, AddComment.fromJson, AddComment) || changed;
+        changed = ModelAssignment.assignModel(this, "edit", data?.edit, EditComment.fromJson, EditComment) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.add, other.add)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.edit, other.edit)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.add);
+        hash = ModelEquality.hash(hash, this.edit);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "CommentToolboxAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.add) + ",";
+        fingerprint += ModelEquality.fingerprint(this.edit) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
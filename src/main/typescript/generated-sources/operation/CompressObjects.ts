@@ -0,0 +1,94 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface CompressObjectsInterface  {
+
+    /**
+    * Specifies the number of objects that may be combined into one stream. The higher the number, the higher the expected effect (assuming that the document contains a large number of objects). On the other hand, very large object streams can have a negative effect on the loading and display speed of the document in readers. For values beyond 500 objects, it is recommended to perform a manual check whether the document can still be displayed without problems.
+    */
+    objectStreamSize?: number;
+
+}
+export class CompressObjects implements CompressObjectsInterface, Parameter {
+    /**
+    * Specifies the number of objects that may be combined into one stream. The higher the number, the higher the expected effect (assuming that the document contains a large number of objects). On the other hand, very large object streams can have a negative effect on the loading and display speed of the document in readers. For values beyond 500 objects, it is recommended to perform a manual check whether the document can still be displayed without problems.
+    */
+    objectStreamSize?: number;
+
+    constructor(data: any) {
+        let objectStreamSizeDefault: any = 200;
+        this.objectStreamSize = typeof data?.objectStreamSize !== "undefined" ? data?.objectStreamSize : objectStreamSizeDefault;
+    }
+
+    public static getObjectStreamSizeDefault(): number {
+        return 200;
+    }
+
+    public static getObjectStreamSizeDescription(): string {
+        return "Specifies the number of objects that may be combined into one stream. The higher the number, the higher the expected effect (assuming that the document contains a large number of objects). On the other hand, very large object streams can have a negative effect on the loading and display speed of the document in readers. For values beyond 500 objects, it is recommended to perform a manual check whether the document can still be displayed without problems.";
+    }
+
+    public static getObjectStreamSizeMin(): number {
+        return 1;
+    }
+
+    public static fromJson(data: any): CompressObjects {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new CompressObjects(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<CompressObjects> {
+        return ModelStream.decodeArray(source, CompressObjects.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'objectStreamSize': this.objectStreamSize,
+        };
+    }
+
+    public clone(): CompressObjects {
+        return CompressObjects.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "objectStreamSize", typeof data?.objectStreamSize !== "undefined" ? data?.objectStreamSize : 200) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectStreamSize, other.objectStreamSize)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.objectStreamSize);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "CompressObjects(";
+        fingerprint += ModelEquality.fingerprint(this.objectStreamSize) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum CompressProfile {
+
+    Never = 'never',
+    Recompress = 'recompress',
+    Always = 'always'
+
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+import {
+    ModelAssignment,
+    CompressProfile,
+    ModelStream,
+    Parameter,
+    CompressObjects,
+    ModelEquality,
+} from "./../index";
+
+export interface CompressSettingsInterface  {
+
+    compressObjects?: CompressObjects;
+    /**
+    * Sets the profile for automatic document compression and thus defines whether compression should be applied when saving.  *   always = PDF documents should always be compressed when saved. *   never = PDF documents should not be automatically compressed. *   recompress = PDF documents should only be compressed automatically if they were already compressed previously.
+    */
+    compressProfile?: CompressProfile;
+
+}
+export class CompressSettings implements CompressSettingsInterface, Parameter {
+    compressObjects?: CompressObjects;
+    /**
+    * Sets the profile for automatic document compression and thus defines whether compression should be applied when saving.  *   always = PDF documents should always be compressed when saved. *   never = PDF documents should not be automatically compressed. *   recompress = PDF documents should only be compressed automatically if they were already compressed previously.
+    */
+    compressProfile?: CompressProfile;
+
+    constructor(data: any) {
+        this.compressObjects = CompressObjects.fromJson(data?.compressObjects);
+        let compressProfileDefault: any = "never";
+        this.compressProfile = typeof data?.compressProfile !== "undefined" ? data?.compressProfile : compressProfileDefault;
+    }
+
+    public static getCompressObjectsDescription(): string {
+        return "";
+    }
+
+    public static getCompressProfileDefault(): CompressProfile {
+        return "never" as CompressProfile;
+    }
+
+    public static getCompressProfileDescription(): string {
+        return "Sets the profile for automatic document compression and thus defines whether compression should be applied when saving.\n\n*   always = PDF documents should always be compressed when saved.\n*   never = PDF documents should not be automatically compressed.\n*   recompress = PDF documents should only be compressed automatically if they were already compressed previously.";
+    }
+
+    public static fromJson(data: any): CompressSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new CompressSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<CompressSettings> {
+        return ModelStream.decodeArray(source, CompressSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'compressObjects': this.compressObjects?.toJson(),
+            'compressProfile': this.compressProfile,
+        };
+    }
+
+    public clone(): CompressSettings {
+        return CompressSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "compressObjects", data?.compressObjects, CompressObjects.fromJson, CompressObjects) || changed;
+        changed = ModelAssignment.assignValue(this, "compressProfile", typeof data?.compressProfile !== "undefined" ? data?.compressProfile : "never") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compressObjects, other.compressObjects)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compressProfile, other.compressProfile)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.compressObjects);
+        hash = ModelEquality.hash(hash, this.compressProfile);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "CompressSettings(";
+        fingerprint += ModelEquality.fingerprint(this.compressObjects) + ",";
+        fingerprint += ModelEquality.fingerprint(this.compressProfile) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum Context {
+
+    All = 'all',
+    Page = 'page',
+    Document = 'document'
+
+}
\ No newline at end of file
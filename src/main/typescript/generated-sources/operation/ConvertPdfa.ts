@@ -0,0 +1,231 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    PdfaErrorCorrection,
+    PdfaSuccessReport,
+    Parameter,
+    PdfaErrorReport,
+    ModelEquality,
+    PdfaLevel,
+    Zugferd,
+} from "./../index";
+
+export interface ConvertPdfaInterface  {
+
+    /**
+    * In order to convert a document to conformity levels PDF/A 1a-3a, the entire document must have appropriate structure information (tags). If auto tagging is enabled, the corresponding structure information (in the form of page tags) will be generated automatically before the actual conversion.
+    */
+    autoTagging?: boolean;
+    errorCorrection?: PdfaErrorCorrection;
+    /**
+    * This parameter is used to define whether and in which format the XML report for a failed conversion will be returned.  *   none = An XML report will not be returned *   message = The XML report will be returned as part of the error message *   file = The XML report will be saved in a file
+    */
+    errorReport?: PdfaErrorReport;
+    /**
+    * The quality for images which must be transformed during the conversion because they use a compression which is not allowed (e.g. JPX is not allowed in PDF/A-1) is defined using this parameter. Values in a range from 1 to 100 are allowed whereby a higher value means better quality, but also larger PDF documents.
+    */
+    imageQuality?: number;
+    /**
+    * Specifies the compliance level when creating or validating PDF/A documents (as specified in ISO 19005).
+    */
+    level?: PdfaLevel;
+    /**
+    * This parameter is used to define whether and in which format the XML report for a successful conversion will be returned.  *   none = An XML report will not be returned *   linked = The XML report will be appended at the end of the PDF/A document. *   zip = The PDF/A document and the XML report will be packaged together in a ZIP archive.  **Tip:** The format of the document generated with \"errorReport\" and \"successReport\" is described by the http://schema.webpdf.de/1.0/report/pdfa.xsd schema.
+    */
+    successReport?: PdfaSuccessReport;
+    zugferd?: Zugferd;
+
+}
+export class ConvertPdfa implements ConvertPdfaInterface, Parameter {
+    /**
+    * In order to convert a document to conformity levels PDF/A 1a-3a, the entire document must have appropriate structure information (tags). If auto tagging is enabled, the corresponding structure information (in the form of page tags) will be generated automatically before the actual conversion.
+    */
+    autoTagging?: boolean;
+    errorCorrection?: PdfaErrorCorrection;
+    /**
+    * This parameter is used to define whether and in which format the XML report for a failed conversion will be returned.  *   none = An XML report will not be returned *   message = The XML report will be returned as part of the error message *   file = The XML report will be saved in a file
+    */
+    errorReport?: PdfaErrorReport;
+    /**
+    * The quality for images which must be transformed during the conversion because they use a compression which is not allowed (e.g. JPX is not allowed in PDF/A-1) is defined using this parameter. Values in a range from 1 to 100 are allowed whereby a higher value means better quality, but also larger PDF documents.
+    */
+    imageQuality?: number;
+    /**
+    * Specifies the compliance level when creating or validating PDF/A documents (as specified in ISO 19005).
+    */
+    level?: PdfaLevel;
+    /**
+    * This parameter is used to define whether and in which format the XML report for a successful conversion will be returned.  *   none = An XML report will not be returned *   linked = The XML report will be appended at the end of the PDF/A document. *   zip = The PDF/A document and the XML report will be packaged together in a ZIP archive.  **Tip:** The format of the document generated with \"errorReport\" and \"successReport\" is described by the http://schema.webpdf.de/1.0/report/pdfa.xsd schema.
+    */
+    successReport?: PdfaSuccessReport;
+    zugferd?: Zugferd;
+
+    constructor(data: any) {
+        let autoTaggingDefault: any = false;
+        this.autoTagging = typeof data?.autoTagging !== "undefined" ? data?.autoTagging : autoTaggingDefault;
+        this.errorCorrection = PdfaErrorCorrection.fromJson(data?.errorCorrection);
+        let errorReportDefault: any = "none";
+        this.errorReport = typeof data?.errorReport !== "undefined" ? data?.errorReport : errorReportDefault;
+        let imageQualityDefault: any = 75;
+        this.imageQuality = typeof data?.imageQuality !== "undefined" ? data?.imageQuality : imageQualityDefault;
+        let levelDefault: any = "3b";
+        this.level = typeof data?.level !== "undefined" ? data?.level : levelDefault;
+        let successReportDefault: any = "none";
+        this.successReport = typeof data?.successReport !== "undefined" ? data?.successReport : successReportDefault;
+        this.zugferd = Zugferd.fromJson(data?.zugferd);
+    }
+
+    public static getAutoTaggingDefault(): boolean {
+        return false;
+    }
+
+    public static getAutoTaggingDescription(): string {
+        return "In order to convert a document to conformity levels PDF\/A 1a-3a, the entire document must have appropriate structure information (tags). If auto tagging is enabled, the corresponding structure information (in the form of page tags) will be generated automatically before the actual conversion.";
+    }
+
+    public static getErrorCorrectionDescription(): string {
+        return "";
+    }
+
+    public static getErrorReportDefault(): PdfaErrorReport {
+        return "none" as PdfaErrorReport;
+    }
+
+    public static getErrorReportDescription(): string {
+        return "This parameter is used to define whether and in which format the XML report for a failed conversion will be returned.\n\n*   none = An XML report will not be returned\n*   message = The XML report will be returned as part of the error message\n*   file = The XML report will be saved in a file";
+    }
+
+    public static getImageQualityDefault(): number {
+        return 75;
+    }
+
+    public static getImageQualityDescription(): string {
+        return "The quality for images which must be transformed during the conversion because they use a compression which is not allowed (e.g. JPX is not allowed in PDF\/A-1) is defined using this parameter. Values in a range from 1 to 100 are allowed whereby a higher value means better quality, but also larger PDF documents.";
+    }
+
+    public static getImageQualityMin(): number {
+        return 0;
+    }
+
+    public static getImageQualityMax(): number {
+        return 100;
+    }
+
+    public static getLevelDefault(): PdfaLevel {
+        return "3b" as PdfaLevel;
+    }
+
+    public static getLevelDescription(): string {
+        return "Specifies the compliance level when creating or validating PDF\/A documents (as specified in ISO 19005).";
+    }
+
+    public static getSuccessReportDefault(): PdfaSuccessReport {
+        return "none" as PdfaSuccessReport;
+    }
+
+    public static getSuccessReportDescription(): string {
+        return "This parameter is used to define whether and in which format the XML report for a successful conversion will be returned.\n\n*   none = An XML report will not be returned\n*   linked = The XML report will be appended at the end of the PDF\/A document.\n*   zip = The PDF\/A document and the XML report will be packaged together in a ZIP archive.\n\n**Tip:** The format of the document generated with \"errorReport\" and \"successReport\" is described by the http:\/\/schema.webpdf.de\/1.0\/report\/pdfa.xsd schema.";
+    }
+
+    public static getZugferdDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ConvertPdfa {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConvertPdfa(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConvertPdfa> {
+        return ModelStream.decodeArray(source, ConvertPdfa.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'autoTagging': this.autoTagging,
+            'errorCorrection': this.errorCorrection?.toJson(),
+            'errorReport': this.errorReport,
+            'imageQuality': this.imageQuality,
+            'level': this.level,
+            'successReport': this.successReport,
+            'zugferd': this.zugferd?.toJson(),
+        };
+    }
+
+    public clone(): ConvertPdfa {
+        return ConvertPdfa.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "autoTagging", typeof data?.autoTagging !== "undefined" ? data?.autoTagging : false) || changed;
+        changed = ModelAssignment.assignModel(this, "errorCorrection", data?.errorCorrection, PdfaErrorCorrection.fromJson, PdfaErrorCorrection) || changed;
+        changed = ModelAssignment.assignValue(this, "errorReport", typeof data?.errorReport !== "undefined" ? data?.errorReport : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "imageQuality", typeof data?.imageQuality !== "undefined" ? data?.imageQuality : 75) || changed;
+        changed = ModelAssignment.assignValue(this, "level", typeof data?.level !== "undefined" ? data?.level : "3b") || changed;
+        changed = ModelAssignment.assignValue(this, "successReport", typeof data?.successReport !== "undefined" ? data?.successReport : "none") || changed;
+        changed = ModelAssignment.assignModel(this, "zugferd", data?.zugferd, Zugferd.fromJson, Zugferd) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.autoTagging, other.autoTagging)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.errorCorrection, other.errorCorrection)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.errorReport, other.errorReport)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.imageQuality, other.imageQuality)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.level, other.level)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.successReport, other.successReport)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.zugferd, other.zugferd)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.autoTagging);
+        hash = ModelEquality.hash(hash, this.errorCorrection);
+        hash = ModelEquality.hash(hash, this.errorReport);
+        hash = ModelEquality.hash(hash, this.imageQuality);
+        hash = ModelEquality.hash(hash, this.level);
+        hash = ModelEquality.hash(hash, this.successReport);
+        hash = ModelEquality.hash(hash, this.zugferd);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConvertPdfa(";
+        fingerprint += ModelEquality.fingerprint(this.autoTagging) + ",";
+        fingerprint += ModelEquality.fingerprint(this.errorCorrection) + ",";
+        fingerprint += ModelEquality.fingerprint(this.errorReport) + ",";
+        fingerprint += ModelEquality.fingerprint(this.imageQuality) + ",";
+        fingerprint += ModelEquality.fingerprint(this.level) + ",";
+        fingerprint += ModelEquality.fingerprint(this.successReport) + ",";
+        fingerprint += ModelEquality.fingerprint(this.zugferd) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
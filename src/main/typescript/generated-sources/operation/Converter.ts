@@ -0,0 +1,505 @@
+import {
+    ConverterHtml,
+    ConverterPage,
+    OfficeBridge,
+    ModelStream,
+    SharePointBridge,
+    Pdfa,
+    ConverterOffice,
+    ModelAssignment,
+    ConverterImage,
+    ConverterReport,
+    ConverterTransform,
+    Signature,
+    ConverterTemplate,
+    Parameter,
+    ConverterMail,
+    ModelEquality,
+    ConverterText,
+} from "./../index";
+
+export interface ConverterInterface  {
+
+    /**
+    * This parameter can be used to declare a password that will be used to open the source document if it is protected.  **Important:** This option is currently only supported for Microsoft Office 97-2003 binary documents and Microsoft Office 2007 documents. Only the default password methods are supported. Encryption based on digital certificates is not supported.
+    */
+    accessPassword?: string;
+    /**
+    * If \"true,\" the data objects in the PDF document will be compressed (ZLib compression), reducing the size of the document.
+    */
+    compression?: boolean;
+    /**
+    * Used to set the DPI solution (pixels per inch) for images.
+    */
+    dpi?: number;
+    /**
+    * If \"true,\" fonts will be embedded in the PDF document that is created.  **Important:**: If the original fonts are not available on the conversion system, substitute fonts may be embedded instead.  **Important:**: If, after the conversion, you want to convert the PDF document to PDF/A, you should not embed any of the fonts, but should instead let the \"Pdfa\" web service do this.
+    */
+    embedFonts?: boolean;
+    /**
+    * If you use this attribute to enter an extension for the file (e.g., \"doc\") that is currently being processed, automatic file format detection will be disabled. Normally, webPDF does not detect file formats based on the corresponding file extension, but on the file contents instead. Accordingly, webPDF will analyze the file and assign the file the appropriate \"mime-type\" so that the appropriate file converter can then be selected.  **Important:**: You should only set a file extension in exceptional cases, as this will completely disable automatic detection. If, for instance, you specify an extension for which webPDF does not have a \"mime-type,\" the conversion will fail.
+    */
+    fileExtension?: string;
+    html?: ConverterHtml;
+    image?: ConverterImage;
+    /**
+    * Used to set the quality (as a percentage) of JPEG images in the PDF document.
+    */
+    jpegQuality?: number;
+    mail?: ConverterMail;
+    /**
+    * Sets the maximum recursions, that may occur when converting a document's attachments.  **Important:** This parameter is intended for internal use only. Please only use this, if you really are sure you need to do so.
+    */
+    maxRecursion?: number;
+    office?: ConverterOffice;
+    officeBridge?: OfficeBridge;
+    page?: ConverterPage;
+    /**
+    * A text that defines the page range for the export. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")
+    */
+    pages?: string;
+    pdfa?: Pdfa;
+    /**
+    * If \"true,\" then the DPI resolution of graphics is reduced. The reduction value is set with \"dpi.\"
+    */
+    reduceResolution?: boolean;
+    report?: ConverterReport;
+    sharePointBridge?: SharePointBridge;
+    signature?: Signature;
+    template?: ConverterTemplate;
+    text?: ConverterText;
+    transform?: ConverterTransform;
+
+}
+export class Converter implements ConverterInterface, Parameter {
+    /**
+    * This parameter can be used to declare a password that will be used to open the source document if it is protected.  **Important:** This option is currently only supported for Microsoft Office 97-2003 binary documents and Microsoft Office 2007 documents. Only the default password methods are supported. Encryption based on digital certificates is not supported.
+    */
+    accessPassword?: string;
+    /**
+    * If \"true,\" the data objects in the PDF document will be compressed (ZLib compression), reducing the size of the document.
+    */
+    compression?: boolean;
+    /**
+    * Used to set the DPI solution (pixels per inch) for images.
+    */
+    dpi?: number;
+    /**
+    * If \"true,\" fonts will be embedded in the PDF document that is created.  **Important:**: If the original fonts are not available on the conversion system, substitute fonts may be embedded instead.  **Important:**: If, after the conversion, you want to convert the PDF document to PDF/A, you should not embed any of the fonts, but should instead let the \"Pdfa\" web service do this.
+    */
+    embedFonts?: boolean;
+    /**
+    * If you use this attribute to enter an extension for the file (e.g., \"doc\") that is currently being processed, automatic file format detection will be disabled. Normally, webPDF does not detect file formats based on the corresponding file extension, but on the file contents instead. Accordingly, webPDF will analyze the file and assign the file the appropriate \"mime-type\" so that the appropriate file converter can then be selected.  **Important:**: You should only set a file extension in exceptional cases, as this will completely disable automatic detection. If, for instance, you specify an extension for which webPDF does not have a \"mime-type,\" the conversion will fail.
+    */
+    fileExtension?: string;
+    html?: ConverterHtml;
+    image?: ConverterImage;
+    /**
+    * Used to set the quality (as a percentage) of JPEG images in the PDF document.
+    */
+    jpegQuality?: number;
+    mail?: ConverterMail;
+    /**
+    * Sets the maximum recursions, that may occur when converting a document's attachments.  **Important:** This parameter is intended for internal use only. Please only use this, if you really are sure you need to do so.
+    */
+    maxRecursion?: number;
+    office?: ConverterOffice;
+    officeBridge?: OfficeBridge;
+    page?: ConverterPage;
+    /**
+    * A text that defines the page range for the export. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")
+    */
+    pages?: string;
+    pdfa?: Pdfa;
+    /**
+    * If \"true,\" then the DPI resolution of graphics is reduced. The reduction value is set with \"dpi.\"
+    */
+    reduceResolution?: boolean;
+    report?: ConverterReport;
+    sharePointBridge?: SharePointBridge;
+    signature?: Signature;
+    template?: ConverterTemplate;
+    text?: ConverterText;
+    transform?: ConverterTransform;
+
+    constructor(data: any) {
+        let accessPasswordDefault: any = "";
+        this.accessPassword = typeof data?.accessPassword !== "undefined" ? data?.accessPassword : accessPasswordDefault;
+        let compressionDefault: any = true;
+        this.compression = typeof data?.compression !== "undefined" ? data?.compression : compressionDefault;
+        let dpiDefault: any = 300;
+        this.dpi = typeof data?.dpi !== "undefined" ? data?.dpi : dpiDefault;
+        let embedFontsDefault: any = false;
+        this.embedFonts = typeof data?.embedFonts !== "undefined" ? data?.embedFonts : embedFontsDefault;
+        let fileExtensionDefault: any = "";
+        this.fileExtension = typeof data?.fileExtension !== "undefined" ? data?.fileExtension : fileExtensionDefault;
+        this.html = ConverterHtml.fromJson(data?.html);
+        this.image = ConverterImage.fromJson(data?.image);
+        let jpegQualityDefault: any = 90;
+        this.jpegQuality = typeof data?.jpegQuality !== "undefined" ? data?.jpegQuality : jpegQualityDefault;
+        this.mail = ConverterMail.fromJson(data?.mail);
+        let maxRecursionDefault: any = 1;
+        this.maxRecursion = typeof data?.maxRecursion !== "undefined" ? data?.maxRecursion : maxRecursionDefault;
+        this.office = ConverterOffice.fromJson(data?.office);
+        this.officeBridge = OfficeBridge.fromJson(data?.officeBridge);
+        this.page = ConverterPage.fromJson(data?.page);
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        this.pdfa = Pdfa.fromJson(data?.pdfa);
+        let reduceResolutionDefault: any = false;
+        this.reduceResolution = typeof data?.reduceResolution !== "undefined" ? data?.reduceResolution : reduceResolutionDefault;
+        this.report = ConverterReport.fromJson(data?.report);
+        this.sharePointBridge = SharePointBridge.fromJson(data?.sharePointBridge);
+        this.signature = Signature.fromJson(data?.signature);
+        this.template = ConverterTemplate.fromJson(data?.template);
+        this.text = ConverterText.fromJson(data?.text);
+        this.transform = ConverterTransform.fromJson(data?.transform);
+    }
+
+    public static getAccessPasswordDefault(): string {
+        return "";
+    }
+
+    public static getAccessPasswordDescription(): string {
+        return "This parameter can be used to declare a password that will be used to open the source document if it is protected.\n\n**Important:** This option is currently only supported for Microsoft Office 97-2003 binary documents and Microsoft Office 2007 documents. Only the default password methods are supported. Encryption based on digital certificates is not supported.";
+    }
+
+    public static getCompressionDefault(): boolean {
+        return true;
+    }
+
+    public static getCompressionDescription(): string {
+        return "If \"true,\" the data objects in the PDF document will be compressed (ZLib compression), reducing the size of the document.";
+    }
+
+    public static getDpiDefault(): number {
+        return 300;
+    }
+
+    public static getDpiDescription(): string {
+        return "Used to set the DPI solution (pixels per inch) for images.";
+    }
+
+    public static getDpiMin(): number {
+        return 0;
+    }
+
+    public static getDpiMax(): number {
+        return 9600;
+    }
+
+    public static getEmbedFontsDefault(): boolean {
+        return false;
+    }
+
+    public static getEmbedFontsDescription(): string {
+        return "If \"true,\" fonts will be embedded in the PDF document that is created.\n\n**Important:**: If the original fonts are not available on the conversion system, substitute fonts may be embedded instead.\n\n**Important:**: If, after the conversion, you want to convert the PDF document to PDF\/A, you should not embed any of the fonts, but should instead let the \"Pdfa\" web service do this.";
+    }
+
+    public static getFileExtensionDefault(): string {
+        return "";
+    }
+
+    public static getFileExtensionDescription(): string {
+        return "If you use this attribute to enter an extension for the file (e.g., \"doc\") that is currently being processed, automatic file format detection will be disabled. Normally, webPDF does not detect file formats based on the corresponding file extension, but on the file contents instead. Accordingly, webPDF will analyze the file and assign the file the appropriate \"mime-type\" so that the appropriate file converter can then be selected.\n\n**Important:**: You should only set a file extension in exceptional cases, as this will completely disable automatic detection. If, for instance, you specify an extension for which webPDF does not have a \"mime-type,\" the conversion will fail.";
+    }
+
+    public static getHtmlDescription(): string {
+        return "";
+    }
+
+    public static getImageDescription(): string {
+        return "";
+    }
+
+    public static getJpegQualityDefault(): number {
+        return 90;
+    }
+
+    public static getJpegQualityDescription(): string {
+        return "Used to set the quality (as a percentage) of JPEG images in the PDF document.";
+    }
+
+    public static getJpegQualityMin(): number {
+        return 0;
+    }
+
+    public static getJpegQualityMax(): number {
+        return 100;
+    }
+
+    public static getMailDescription(): string {
+        return "";
+    }
+
+    public static getMaxRecursionDefault(): number {
+        return 1;
+    }
+
+    public static getMaxRecursionDescription(): string {
+        return "Sets the maximum recursions, that may occur when converting a document's attachments.\n\n**Important:** This parameter is intended for internal use only. Please only use this, if you really are sure you need to do so.";
+    }
+
+    public static getMaxRecursionMin(): number {
+        return 1;
+    }
+
+    public static getOfficeDescription(): string {
+        return "";
+    }
+
+    public static getOfficeBridgeDescription(): string {
+        return "";
+    }
+
+    public static getPageDescription(): string {
+        return "";
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "A text that defines the page range for the export. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")";
+    }
+
+    public static getPdfaDescription(): string {
+        return "";
+    }
+
+    public static getReduceResolutionDefault(): boolean {
+        return false;
+    }
+
+    public static getReduceResolutionDescription(): string {
+        return "If \"true,\" then the DPI resolution of graphics is reduced. The reduction value is set with \"dpi.\"";
+    }
+
+    public static getReportDescription(): string {
+        return "";
+    }
+
+    public static getSharePointBridgeDescription(): string {
+        return "";
+    }
+
+    public static getSignatureDescription(): string {
+        return "";
+    }
+
+    public static getTemplateDescription(): string {
+        return "";
+    }
+
+    public static getTextDescription(): string {
+        return "";
+    }
+
+    public static getTransformDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Converter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Converter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Converter> {
+        return ModelStream.decodeArray(source, Converter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'accessPassword': this.accessPassword,
+            'compression': this.compression,
+            'dpi': this.dpi,
+            'embedFonts': this.embedFonts,
+            'fileExtension': this.fileExtension,
+            'html': this.html?.toJson(),
+            'image': this.image?.toJson(),
+            'jpegQuality': this.jpegQuality,
+            'mail': this.mail?.toJson(),
+            'maxRecursion': this.maxRecursion,
+            'office': this.office?.toJson(),
+            'officeBridge': this.officeBridge?.toJson(),
+            'page': this.page?.toJson(),
+            'pages': this.pages,
+            'pdfa': this.pdfa?.toJson(),
+            'reduceResolution': this.reduceResolution,
+            'report': this.report?.toJson(),
+            'sharePointBridge': this.sharePointBridge?.toJson(),
+            'signature': this.signature?.toJson(),
+            'template': this.template?.toJson(),
+            'text': this.text?.toJson(),
+            'transform': this.transform?.toJson(),
+        };
+    }
+
+    public clone(): Converter {
+        return Converter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "accessPassword", typeof data?.accessPassword !== "undefined" ? data?.accessPassword : "") || changed;
+        changed = ModelAssignment.assignValue(this, "compression", typeof data?.compression !== "undefined" ? data?.compression : true) || changed;
+        changed = ModelAssignment.assignValue(this, "dpi", typeof data?.dpi !== "undefined" ? data?.dpi : 300) || changed;
+        changed = ModelAssignment.assignValue(this, "embedFonts", typeof data?.embedFonts !== "undefined" ? data?.embedFonts : false) || changed;
+        changed = ModelAssignment.assignValue(this, "fileExtension", typeof data?.fileExtension !== "undefined" ? data?.fileExtension : "") || changed;
+        changed = ModelAssignment.assignModel(this, "html", data?.html, ConverterHtml.fromJson, ConverterHtml) || changed;
+        changed = ModelAssignment.assignModel(this, "image", data?.image, ConverterImage.fromJson, ConverterImage) || changed;
+        changed = ModelAssignment.assignValue(this, "jpegQuality", typeof data?.jpegQuality !== "undefined" ? data?.jpegQuality : 90) || changed;
+        changed = ModelAssignment.assignModel(this, "mail", data?.mail, ConverterMail.fromJson, ConverterMail) || changed;
+        changed = ModelAssignment.assignValue(this, "maxRecursion", typeof data?.maxRecursion !== "undefined" ? data?.maxRecursion : 1) || changed;
+        changed = ModelAssignment.assignModel(this, "office", data?.office, ConverterOffice.fromJson, ConverterOffice) || changed;
+        changed = ModelAssignment.assignModel(this, "officeBridge", data?.officeBridge, OfficeBridge.fromJson, OfficeBridge) || changed;
+        changed = ModelAssignment.assignModel(this, "page", data?.page, ConverterPage.fromJson, ConverterPage) || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        changed = ModelAssignment.assignModel(this, "pdfa", data?.pdfa, Pdfa.fromJson, Pdfa) || changed;
+        changed = ModelAssignment.assignValue(this, "reduceResolution", typeof data?.reduceResolution !== "undefined" ? data?.reduceResolution : false) || changed;
+        changed = ModelAssignment.assignModel(this, "report", data?.report, ConverterReport.fromJson, ConverterReport) || changed;
+        changed = ModelAssignment.assignModel(this, "sharePointBridge", data?.sharePointBridge, SharePointBridge.fromJson, SharePointBridge) || changed;
+        changed = ModelAssignment.assignModel(this, "signature", data?.signature, Signature.fromJson, Signature) || changed;
+        changed = ModelAssignment.assignModel(this, "template", data?.template, ConverterTemplate.fromJson, ConverterTemplate) || changed;
+        changed = ModelAssignment.assignModel(this, "text", data?.text, ConverterText.fromJson, ConverterText) || changed;
+        changed = ModelAssignment.assignModel(this, "transform", data?.transform, ConverterTransform.fromJson, ConverterTransform) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.accessPassword, other.accessPassword)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compression, other.compression)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dpi, other.dpi)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.embedFonts, other.embedFonts)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileExtension, other.fileExtension)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.html, other.html)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.image, other.image)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.jpegQuality, other.jpegQuality)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mail, other.mail)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxRecursion, other.maxRecursion)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.office, other.office)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.officeBridge, other.officeBridge)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pdfa, other.pdfa)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.reduceResolution, other.reduceResolution)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.report, other.report)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sharePointBridge, other.sharePointBridge)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signature, other.signature)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.template, other.template)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.text, other.text)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.transform, other.transform)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.accessPassword);
+        hash = ModelEquality.hash(hash, this.compression);
+        hash = ModelEquality.hash(hash, this.dpi);
+        hash = ModelEquality.hash(hash, this.embedFonts);
+        hash = ModelEquality.hash(hash, this.fileExtension);
+        hash = ModelEquality.hash(hash, this.html);
+        hash = ModelEquality.hash(hash, this.image);
+        hash = ModelEquality.hash(hash, this.jpegQuality);
+        hash = ModelEquality.hash(hash, this.mail);
+        hash = ModelEquality.hash(hash, this.maxRecursion);
+        hash = ModelEquality.hash(hash, this.office);
+        hash = ModelEquality.hash(hash, this.officeBridge);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.pdfa);
+        hash = ModelEquality.hash(hash, this.reduceResolution);
+        hash = ModelEquality.hash(hash, this.report);
+        hash = ModelEquality.hash(hash, this.sharePointBridge);
+        hash = ModelEquality.hash(hash, this.signature);
+        hash = ModelEquality.hash(hash, this.template);
+        hash = ModelEquality.hash(hash, this.text);
+        hash = ModelEquality.hash(hash, this.transform);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Converter(";
+        fingerprint += ModelEquality.fingerprint(this.accessPassword) + ",";
+        fingerprint += ModelEquality.fingerprint(this.compression) + ",";
+        fingerprint += ModelEquality.fingerprint(this.dpi) + ",";
+        fingerprint += ModelEquality.fingerprint(this.embedFonts) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileExtension) + ",";
+        fingerprint += ModelEquality.fingerprint(this.html) + ",";
+        fingerprint += ModelEquality.fingerprint(this.image) + ",";
+        fingerprint += ModelEquality.fingerprint(this.jpegQuality) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mail) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxRecursion) + ",";
+        fingerprint += ModelEquality.fingerprint(this.office) + ",";
+        fingerprint += ModelEquality.fingerprint(this.officeBridge) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pdfa) + ",";
+        fingerprint += ModelEquality.fingerprint(this.reduceResolution) + ",";
+        fingerprint += ModelEquality.fingerprint(this.report) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sharePointBridge) + ",";
+        fingerprint += ModelEquality.fingerprint(this.signature) + ",";
+        fingerprint += ModelEquality.fingerprint(this.template) + ",";
+        fingerprint += ModelEquality.fingerprint(this.text) + ",";
+        fingerprint += ModelEquality.fingerprint(this.transform) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
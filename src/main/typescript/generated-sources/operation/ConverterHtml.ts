@@ -0,0 +1,271 @@
+import {
+    ModelAssignment,
+    ConverterHtmlImageMode,
+    TemplateData,
+    ModelStream,
+    Parameter,
+    ConverterHtmlErrorReport,
+    ModelEquality,
+} from "./../index";
+
+export interface ConverterHtmlInterface  {
+
+    /**
+    * If \"true\", then the font specifications \"Arial\", \"Helvetica\" and \"Sans-Serif\" in HTML documents and e-mails (which are based on HTML) are automatically replaced by the \"Arial Unicode MS\" font. The improves the appearance of the typeface in the PDF result.
+    */
+    adjustFonts?: boolean;
+    /**
+    * Used to define the URL that will be the base for all URLs in the HTML document that are not defined as absolute URLs. The URL must be absolute and contain a scheme (e.g. 'http' or 'https'); the scheme 'file' is not allowed.
+    */
+    baseURL?: string;
+    /**
+    * If \"true\", then externally referenced images of the HTML document are downloaded and inserted into the document. If false, the images are not downloaded and the external references to the image are removed, leaving already embedded images intact.
+    */
+    downloadImages?: boolean;
+    errorReport?: ConverterHtmlErrorReport;
+    /**
+    * This defines how downloaded images are inserted into the HTML content (with reference to the `<downloadImages>` parameter). When referencing large images in the HTML content, it is recommended to use `<file>` to reduce the size of the HTML file and speed up the rendering of the HTML.  *   base64 = embed images as BASE64 content *   file = embed images as file links to local temporary files
+    */
+    imageMode?: ConverterHtmlImageMode;
+    /**
+    * If \"true\", then the page size and margins are preferentially used from the CSS. Otherwise, the sizes from the passed page parameter are used. The values can also be only partially overwritten, so that e.g. the page size is determined by the parameter values and the page margins are defined in the CSS.
+    */
+    preferCSSPageSize?: boolean;
+    templateData?: TemplateData;
+    /**
+    * If \"true\", the HTML document will be interpreted as a template, i.e., the system will search for variables in the HTML and replace them with the data passed in \"templateData\". The document will not be converted to HTML format until after this step is completed. This means that by using the HTML document as a template together with passed data, you can obtain a dynamically generated PDF document.
+    */
+    useAsTemplate?: boolean;
+    /**
+    * If \"true\", the background defined in the HTML document will be output in the PDF document as well. If \"false\", the background will be hidden.
+    */
+    useBackground?: boolean;
+
+}
+export class ConverterHtml implements ConverterHtmlInterface, Parameter {
+    /**
+    * If \"true\", then the font specifications \"Arial\", \"Helvetica\" and \"Sans-Serif\" in HTML documents and e-mails (which are based on HTML) are automatically replaced by the \"Arial Unicode MS\" font. The improves the appearance of the typeface in the PDF result.
+    */
+    adjustFonts?: boolean;
+    /**
+    * Used to define the URL that will be the base for all URLs in the HTML document that are not defined as absolute URLs. The URL must be absolute and contain a scheme (e.g. 'http' or 'https'); the scheme 'file' is not allowed.
+    */
+    baseURL?: string;
+    /**
+    * If \"true\", then externally referenced images of the HTML document are downloaded and inserted into the document. If false, the images are not downloaded and the external references to the image are removed, leaving already embedded images intact.
+    */
+    downloadImages?: boolean;
+    errorReport?: ConverterHtmlErrorReport;
+    /**
+    * This defines how downloaded images are inserted into the HTML content (with reference to the `<downloadImages>` parameter). When referencing large images in the HTML content, it is recommended to use `<file>` to reduce the size of the HTML file and speed up the rendering of the HTML.  *   base64 = embed images as BASE64 content *   file = embed images as file links to local temporary files
+    */
+    imageMode?: ConverterHtmlImageMode;
+    /**
+    * If \"true\", then the page size and margins are preferentially used from the CSS. Otherwise, the sizes from the passed page parameter are used. The values can also be only partially overwritten, so that e.g. the page size is determined by the parameter values and the page margins are defined in the CSS.
+    */
+    preferCSSPageSize?: boolean;
+    templateData?: TemplateData;
+    /**
+    * If \"true\", the HTML document will be interpreted as a template, i.e., the system will search for variables in the HTML and replace them with the data passed in \"templateData\". The document will not be converted to HTML format until after this step is completed. This means that by using the HTML document as a template together with passed data, you can obtain a dynamically generated PDF document.
+    */
+    useAsTemplate?: boolean;
+    /**
+    * If \"true\", the background defined in the HTML document will be output in the PDF document as well. If \"false\", the background will be hidden.
+    */
+    useBackground?: boolean;
+
+    constructor(data: any) {
+        let adjustFontsDefault: any = false;
+        this.adjustFonts = typeof data?.adjustFonts !== "undefined" ? data?.adjustFonts : adjustFontsDefault;
+        let baseURLDefault: any = "";
+        this.baseURL = typeof data?.baseURL !== "undefined" ? data?.baseURL : baseURLDefault;
+        let downloadImagesDefault: any = false;
+        this.downloadImages = typeof data?.downloadImages !== "undefined" ? data?.downloadImages : downloadImagesDefault;
+        this.errorReport = ConverterHtmlErrorReport.fromJson(data?.errorReport);
+        let imageModeDefault: any = "base64";
+        this.imageMode = typeof data?.imageMode !== "undefined" ? data?.imageMode : imageModeDefault;
+        let preferCSSPageSizeDefault: any = false;
+        this.preferCSSPageSize = typeof data?.preferCSSPageSize !== "undefined" ? data?.preferCSSPageSize : preferCSSPageSizeDefault;
+        this.templateData = TemplateData.fromJson(data?.templateData);
+        let useAsTemplateDefault: any = false;
+        this.useAsTemplate = typeof data?.useAsTemplate !== "undefined" ? data?.useAsTemplate : useAsTemplateDefault;
+        let useBackgroundDefault: any = true;
+        this.useBackground = typeof data?.useBackground !== "undefined" ? data?.useBackground : useBackgroundDefault;
+    }
+
+    public static getAdjustFontsDefault(): boolean {
+        return false;
+    }
+
+    public static getAdjustFontsDescription(): string {
+        return "If \"true\", then the font specifications \"Arial\", \"Helvetica\" and \"Sans-Serif\" in HTML documents and e-mails (which are based on HTML) are automatically replaced by the \"Arial Unicode MS\" font. The improves the appearance of the typeface in the PDF result.";
+    }
+
+    public static getBaseURLDefault(): string {
+        return "";
+    }
+
+    public static getBaseURLDescription(): string {
+        return "Used to define the URL that will be the base for all URLs in the HTML document that are not defined as absolute URLs. The URL must be absolute and contain a scheme (e.g. 'http' or 'https'); the scheme 'file' is not allowed.";
+    }
+
+    public static getDownloadImagesDefault(): boolean {
+        return false;
+    }
+
+    public static getDownloadImagesDescription(): string {
+        return "If \"true\", then externally referenced images of the HTML document are downloaded and inserted into the document. If false, the images are not downloaded and the external references to the image are removed, leaving already embedded images intact.";
+    }
+
+    public static getErrorReportDescription(): string {
+        return "";
+    }
+
+    public static getImageModeDefault(): ConverterHtmlImageMode {
+        return "base64" as ConverterHtmlImageMode;
+    }
+
+    public static getImageModeDescription(): string {
+        return "This defines how downloaded images are inserted into the HTML content (with reference to the `<downloadImages>` parameter). When referencing large images in the HTML content, it is recommended to use `<file>` to reduce the size of the HTML file and speed up the rendering of the HTML.\n\n*   base64 = embed images as BASE64 content\n*   file = embed images as file links to local temporary files";
+    }
+
+    public static getPreferCSSPageSizeDefault(): boolean {
+        return false;
+    }
+
+    public static getPreferCSSPageSizeDescription(): string {
+        return "If \"true\", then the page size and margins are preferentially used from the CSS. Otherwise, the sizes from the passed page parameter are used. The values can also be only partially overwritten, so that e.g. the page size is determined by the parameter values and the page margins are defined in the CSS.";
+    }
+
+    public static getTemplateDataDescription(): string {
+        return "";
+    }
+
+    public static getUseAsTemplateDefault(): boolean {
+        return false;
+    }
+
+    public static getUseAsTemplateDescription(): string {
+        return "If \"true\", the HTML document will be interpreted as a template, i.e., the system will search for variables in the HTML and replace them with the data passed in \"templateData\". The document will not be converted to HTML format until after this step is completed. This means that by using the HTML document as a template together with passed data, you can obtain a dynamically generated PDF document.";
+    }
+
+    public static getUseBackgroundDefault(): boolean {
+        return true;
+    }
+
+    public static getUseBackgroundDescription(): string {
+        return "If \"true\", the background defined in the HTML document will be output in the PDF document as well. If \"false\", the background will be hidden.";
+    }
+
+    public static fromJson(data: any): ConverterHtml {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterHtml(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterHtml> {
+        return ModelStream.decodeArray(source, ConverterHtml.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'adjustFonts': this.adjustFonts,
+            'baseURL': this.baseURL,
+            'downloadImages': this.downloadImages,
+            'errorReport': this.errorReport?.toJson(),
+            'imageMode': this.imageMode,
+            'preferCSSPageSize': this.preferCSSPageSize,
+            'templateData': this.templateData?.toJson(),
+            'useAsTemplate': this.useAsTemplate,
+            'useBackground': this.useBackground,
+        };
+    }
+
+    public clone(): ConverterHtml {
+        return ConverterHtml.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "adjustFonts", typeof data?.adjustFonts !== "undefined" ? data?.adjustFonts : false) || changed;
+        changed = ModelAssignment.assignValue(this, "baseURL", typeof data?.baseURL !== "undefined" ? data?.baseURL : "") || changed;
+        changed = ModelAssignment.assignValue(this, "downloadImages", typeof data?.downloadImages !== "undefined" ? data?.downloadImages : false) || changed;
+        changed = ModelAssignment.assignModel(this, "errorReport", data?.errorReport, ConverterHtmlErrorReport.fromJson, ConverterHtmlErrorReport) || changed;
+        changed = ModelAssignment.assignValue(this, "imageMode", typeof data?.imageMode !== "undefined" ? data?.imageMode : "base64") || changed;
+        changed = ModelAssignment.assignValue(this, "preferCSSPageSize", typeof data?.preferCSSPageSize !== "undefined" ? data?.preferCSSPageSize : false) || changed;
+        changed = ModelAssignment.assignModel(this, "templateData", data?.templateData, TemplateData.fromJson, TemplateData) || changed;
+        changed = ModelAssignment.assignValue(this, "useAsTemplate", typeof data?.useAsTemplate !== "undefined" ? data?.useAsTemplate : false) || changed;
+        changed = ModelAssignment.assignValue(this, "useBackground", typeof data?.useBackground !== "undefined" ? data?.useBackground : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.adjustFonts, other.adjustFonts)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.baseURL, other.baseURL)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.downloadImages, other.downloadImages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.errorReport, other.errorReport)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.imageMode, other.imageMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.preferCSSPageSize, other.preferCSSPageSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.templateData, other.templateData)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.useAsTemplate, other.useAsTemplate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.useBackground, other.useBackground)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.adjustFonts);
+        hash = ModelEquality.hash(hash, this.baseURL);
+        hash = ModelEquality.hash(hash, this.downloadImages);
+        hash = ModelEquality.hash(hash, this.errorReport);
+        hash = ModelEquality.hash(hash, this.imageMode);
+        hash = ModelEquality.hash(hash, this.preferCSSPageSize);
+        hash = ModelEquality.hash(hash, this.templateData);
+        hash = ModelEquality.hash(hash, this.useAsTemplate);
+        hash = ModelEquality.hash(hash, this.useBackground);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterHtml(";
+        fingerprint += ModelEquality.fingerprint(this.adjustFonts) + ",";
+        fingerprint += ModelEquality.fingerprint(this.baseURL) + ",";
+        fingerprint += ModelEquality.fingerprint(this.downloadImages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.errorReport) + ",";
+        fingerprint += ModelEquality.fingerprint(this.imageMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.preferCSSPageSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.templateData) + ",";
+        fingerprint += ModelEquality.fingerprint(this.useAsTemplate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.useBackground) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+import {
+    ModelAssignment,
+    ConverterHtmlErrorReportMode,
+    ConverterHtmlErrorReportFormat,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ConverterHtmlErrorReportInterface  {
+
+    /**
+    * Defines the output format of the error report.  *   xml = XML document. *   json = JSON document
+    */
+    format?: ConverterHtmlErrorReportFormat;
+    /**
+    * This parameter specifies whether HTML content errors should be detected and, if so, how to provide a report with the errors. A detected error can be a failed download of a resource (for example, an image) or a script or CSS syntax error.  *   none = No content errors are detected and no report is generated and returned. *   message = Content errors are detected and the report is returned as part of the error message
+    */
+    mode?: ConverterHtmlErrorReportMode;
+
+}
+export class ConverterHtmlErrorReport implements ConverterHtmlErrorReportInterface, Parameter {
+    /**
+    * Defines the output format of the error report.  *   xml = XML document. *   json = JSON document
+    */
+    format?: ConverterHtmlErrorReportFormat;
+    /**
+    * This parameter specifies whether HTML content errors should be detected and, if so, how to provide a report with the errors. A detected error can be a failed download of a resource (for example, an image) or a script or CSS syntax error.  *   none = No content errors are detected and no report is generated and returned. *   message = Content errors are detected and the report is returned as part of the error message
+    */
+    mode?: ConverterHtmlErrorReportMode;
+
+    constructor(data: any) {
+        let formatDefault: any = "xml";
+        this.format = typeof data?.format !== "undefined" ? data?.format : formatDefault;
+        let modeDefault: any = "none";
+        this.mode = typeof data?.mode !== "undefined" ? data?.mode : modeDefault;
+    }
+
+    public static getFormatDefault(): ConverterHtmlErrorReportFormat {
+        return "xml" as ConverterHtmlErrorReportFormat;
+    }
+
+    public static getFormatDescription(): string {
+        return "Defines the output format of the error report.\n\n*   xml = XML document.\n*   json = JSON document";
+    }
+
+    public static getModeDefault(): ConverterHtmlErrorReportMode {
+        return "none" as ConverterHtmlErrorReportMode;
+    }
+
+    public static getModeDescription(): string {
+        return "This parameter specifies whether HTML content errors should be detected and, if so, how to provide a report with the errors. A detected error can be a failed download of a resource (for example, an image) or a script or CSS syntax error.\n\n*   none = No content errors are detected and no report is generated and returned.\n*   message = Content errors are detected and the report is returned as part of the error message";
+    }
+
+    public static fromJson(data: any): ConverterHtmlErrorReport {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterHtmlErrorReport(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterHtmlErrorReport> {
+        return ModelStream.decodeArray(source, ConverterHtmlErrorReport.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'format': this.format,
+            'mode': this.mode,
+        };
+    }
+
+    public clone(): ConverterHtmlErrorReport {
+        return ConverterHtmlErrorReport.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "format", typeof data?.format !== "undefined" ? data?.format : "xml") || changed;
+        changed = ModelAssignment.assignValue(this, "mode", typeof data?.mode !== "undefined" ? data?.mode : "none") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.format, other.format)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mode, other.mode)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.format);
+        hash = ModelEquality.hash(hash, this.mode);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterHtmlErrorReport(";
+        fingerprint += ModelEquality.fingerprint(this.format) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mode) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum ConverterHtmlErrorReportFormat {
+
+    Xml = 'xml',
+    Json = 'json'
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum ConverterHtmlErrorReportMode {
+
+    Message = 'message',
+    None = 'none'
+
+}
\ No newline at end of file
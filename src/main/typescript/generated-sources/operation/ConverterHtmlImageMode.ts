@@ -0,0 +1,6 @@
+export enum ConverterHtmlImageMode {
+
+    Base64 = 'base64',
+    File = 'file'
+
+}
\ No newline at end of file
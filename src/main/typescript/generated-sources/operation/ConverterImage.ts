@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ConverterImageInterface  {
+
+    /**
+    * If enabled (\"true\"), then the aspect ratio of the graphic will be maintained when the graphic is converted to a specified page size in the PDF. If no paper size is defined, then the aspect ratio does not matter, because the page in the PDF will then always have the size of the graphic.
+    */
+    maintainAspectRatio?: boolean;
+
+}
+export class ConverterImage implements ConverterImageInterface, Parameter {
+    /**
+    * If enabled (\"true\"), then the aspect ratio of the graphic will be maintained when the graphic is converted to a specified page size in the PDF. If no paper size is defined, then the aspect ratio does not matter, because the page in the PDF will then always have the size of the graphic.
+    */
+    maintainAspectRatio?: boolean;
+
+    constructor(data: any) {
+        let maintainAspectRatioDefault: any = false;
+        this.maintainAspectRatio = typeof data?.maintainAspectRatio !== "undefined" ? data?.maintainAspectRatio : maintainAspectRatioDefault;
+    }
+
+    public static getMaintainAspectRatioDefault(): boolean {
+        return false;
+    }
+
+    public static getMaintainAspectRatioDescription(): string {
+        return "If enabled (\"true\"), then the aspect ratio of the graphic will be maintained when the graphic is converted to a specified page size in the PDF. If no paper size is defined, then the aspect ratio does not matter, because the page in the PDF will then always have the size of the graphic.";
+    }
+
+    public static fromJson(data: any): ConverterImage {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterImage(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterImage> {
+        return ModelStream.decodeArray(source, ConverterImage.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'maintainAspectRatio': this.maintainAspectRatio,
+        };
+    }
+
+    public clone(): ConverterImage {
+        return ConverterImage.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "maintainAspectRatio", typeof data?.maintainAspectRatio !== "undefined" ? data?.maintainAspectRatio : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maintainAspectRatio, other.maintainAspectRatio)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.maintainAspectRatio);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterImage(";
+        fingerprint += ModelEquality.fingerprint(this.maintainAspectRatio) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,266 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    AttachmentMode,
+} from "./../index";
+
+export interface ConverterMailInterface  {
+
+    /**
+    * If \"true\", then the font specifications \"Arial\", \"Helvetica\" and \"Sans-Serif\" in HTML documents and e-mails (which are based on HTML) are automatically replaced by the \"Arial Unicode MS\" font. The improves the appearance of the typeface in the PDF result.
+    */
+    adjustFonts?: boolean;
+    /**
+    * Specifies the manner in which attachments are to be processed in e-mails.  *   embed = Embed in original format *   remove = Remove attachments *   convert = Converts the attachments to PDF format and embeds them as an attachment *   convertMerge = Converts the attachments to PDF format and appends them as additional page(s) at the end  **Important:** If conversion to PDF format is not possible when using \"convert\" or \"convertMerge\", the attachment will be embedded in its original format.
+    */
+    attachmentMode?: AttachmentMode;
+    /**
+    * If \"true\", then externally referenced images in the HTML content of the e-mail are downloaded and inserted into the document. If false, the images are not downloaded and the external references to the image are removed, leaving already embedded images intact. This option can slow down the conversion if many images are included or if, for example, e-mail documents are converted in which the images can no longer be retrieved.
+    */
+    downloadImages?: boolean;
+    /**
+    * If this option is enabled, an error will not be triggered (the conversion will not be aborted) for e-mails if there is no body element in the file structure. However, this should not be confused with an e-mail not having any content.
+    */
+    ignoreMissingBodyChunk?: boolean;
+    /**
+    * If \"true\", then all images are reduced in their pixel size so that they fit into the maximum page width. This only applies to images that have been resized using the `resizeImages` option. These images are reduced to the maximum number of pixels required to fit the page width. Images that are not affected by the `resizeImages` option are not resized.  **Important:** If you activate the `reduceImageSize` option, you must also activate `resizeImages` and only resized images will be affected by this option. This option also leads to a significant reduction in the number of pixels in images, which can lead to an improved document size.
+    */
+    reduceImageSize?: boolean;
+    /**
+    * If true, then an attempt is made to fit all images that are not in a table to the maximum page width in the PDF document. The graphics will be scaled (while maintaining the aspect ratio) to fit the width of the page and not be cut off. Please note that this may cause the original formatting of the email to be lost or to deviate from the original due to the scaling.  **Important:** If the \"resizeImages\" option is enabled, you must expect that the original appearance of the e-mail document will no longer be preserved.
+    */
+    resizeImages?: boolean;
+    /**
+    * If true, then an attempt is made to fit all tables to the maximum page width in the PDF document. An attempt is made to reduce the individual columns of a table so that the table fits completely within the page width. This works only for simple tables originally defined with dynamic sizes and not for nested tables (table-in-table). Please note that this may cause the original formatting of the email to be lost or to deviate from the original due to scaling.  **Important:** If the option \"resizeTables\" is activated, you must expect that the original appearance of the e-mail document is no longer preserved. The recalculation of the table columns may also result in very narrow columns in the output.
+    */
+    resizeTables?: boolean;
+    /**
+    * If \"true\", then a background defined in the e-mail (in the HTML content) is also output in the PDF document. If \"false\", the background will be hidden.
+    */
+    useBackground?: boolean;
+
+}
+export class ConverterMail implements ConverterMailInterface, Parameter {
+    /**
+    * If \"true\", then the font specifications \"Arial\", \"Helvetica\" and \"Sans-Serif\" in HTML documents and e-mails (which are based on HTML) are automatically replaced by the \"Arial Unicode MS\" font. The improves the appearance of the typeface in the PDF result.
+    */
+    adjustFonts?: boolean;
+    /**
+    * Specifies the manner in which attachments are to be processed in e-mails.  *   embed = Embed in original format *   remove = Remove attachments *   convert = Converts the attachments to PDF format and embeds them as an attachment *   convertMerge = Converts the attachments to PDF format and appends them as additional page(s) at the end  **Important:** If conversion to PDF format is not possible when using \"convert\" or \"convertMerge\", the attachment will be embedded in its original format.
+    */
+    attachmentMode?: AttachmentMode;
+    /**
+    * If \"true\", then externally referenced images in the HTML content of the e-mail are downloaded and inserted into the document. If false, the images are not downloaded and the external references to the image are removed, leaving already embedded images intact. This option can slow down the conversion if many images are included or if, for example, e-mail documents are converted in which the images can no longer be retrieved.
+    */
+    downloadImages?: boolean;
+    /**
+    * If this option is enabled, an error will not be triggered (the conversion will not be aborted) for e-mails if there is no body element in the file structure. However, this should not be confused with an e-mail not having any content.
+    */
+    ignoreMissingBodyChunk?: boolean;
+    /**
+    * If \"true\", then all images are reduced in their pixel size so that they fit into the maximum page width. This only applies to images that have been resized using the `resizeImages` option. These images are reduced to the maximum number of pixels required to fit the page width. Images that are not affected by the `resizeImages` option are not resized.  **Important:** If you activate the `reduceImageSize` option, you must also activate `resizeImages` and only resized images will be affected by this option. This option also leads to a significant reduction in the number of pixels in images, which can lead to an improved document size.
+    */
+    reduceImageSize?: boolean;
+    /**
+    * If true, then an attempt is made to fit all images that are not in a table to the maximum page width in the PDF document. The graphics will be scaled (while maintaining the aspect ratio) to fit the width of the page and not be cut off. Please note that this may cause the original formatting of the email to be lost or to deviate from the original due to the scaling.  **Important:** If the \"resizeImages\" option is enabled, you must expect that the original appearance of the e-mail document will no longer be preserved.
+    */
+    resizeImages?: boolean;
+    /**
+    * If true, then an attempt is made to fit all tables to the maximum page width in the PDF document. An attempt is made to reduce the individual columns of a table so that the table fits completely within the page width. This works only for simple tables originally defined with dynamic sizes and not for nested tables (table-in-table). Please note that this may cause the original formatting of the email to be lost or to deviate from the original due to scaling.  **Important:** If the option \"resizeTables\" is activated, you must expect that the original appearance of the e-mail document is no longer preserved. The recalculation of the table columns may also result in very narrow columns in the output.
+    */
+    resizeTables?: boolean;
+    /**
+    * If \"true\", then a background defined in the e-mail (in the HTML content) is also output in the PDF document. If \"false\", the background will be hidden.
+    */
+    useBackground?: boolean;
+
+    constructor(data: any) {
+        let adjustFontsDefault: any = false;
+        this.adjustFonts = typeof data?.adjustFonts !== "undefined" ? data?.adjustFonts : adjustFontsDefault;
+        let attachmentModeDefault: any = "embed";
+        this.attachmentMode = typeof data?.attachmentMode !== "undefined" ? data?.attachmentMode : attachmentModeDefault;
+        let downloadImagesDefault: any = false;
+        this.downloadImages = typeof data?.downloadImages !== "undefined" ? data?.downloadImages : downloadImagesDefault;
+        let ignoreMissingBodyChunkDefault: any = false;
+        this.ignoreMissingBodyChunk = typeof data?.ignoreMissingBodyChunk !== "undefined" ? data?.ignoreMissingBodyChunk : ignoreMissingBodyChunkDefault;
+        let reduceImageSizeDefault: any = false;
+        this.reduceImageSize = typeof data?.reduceImageSize !== "undefined" ? data?.reduceImageSize : reduceImageSizeDefault;
+        let resizeImagesDefault: any = false;
+        this.resizeImages = typeof data?.resizeImages !== "undefined" ? data?.resizeImages : resizeImagesDefault;
+        let resizeTablesDefault: any = false;
+        this.resizeTables = typeof data?.resizeTables !== "undefined" ? data?.resizeTables : resizeTablesDefault;
+        let useBackgroundDefault: any = true;
+        this.useBackground = typeof data?.useBackground !== "undefined" ? data?.useBackground : useBackgroundDefault;
+    }
+
+    public static getAdjustFontsDefault(): boolean {
+        return false;
+    }
+
+    public static getAdjustFontsDescription(): string {
+        return "If \"true\", then the font specifications \"Arial\", \"Helvetica\" and \"Sans-Serif\" in HTML documents and e-mails (which are based on HTML) are automatically replaced by the \"Arial Unicode MS\" font. The improves the appearance of the typeface in the PDF result.";
+    }
+
+    public static getAttachmentModeDefault(): AttachmentMode {
+        return "embed" as AttachmentMode;
+    }
+
+    public static getAttachmentModeDescription(): string {
+        return "Specifies the manner in which attachments are to be processed in e-mails.\n\n*   embed = Embed in original format\n*   remove = Remove attachments\n*   convert = Converts the attachments to PDF format and embeds them as an attachment\n*   convertMerge = Converts the attachments to PDF format and appends them as additional page(s) at the end\n\n**Important:** If conversion to PDF format is not possible when using \"convert\" or \"convertMerge\", the attachment will be embedded in its original format.";
+    }
+
+    public static getDownloadImagesDefault(): boolean {
+        return false;
+    }
+
+    public static getDownloadImagesDescription(): string {
+        return "If \"true\", then externally referenced images in the HTML content of the e-mail are downloaded and inserted into the document. If false, the images are not downloaded and the external references to the image are removed, leaving already embedded images intact. This option can slow down the conversion if many images are included or if, for example, e-mail documents are converted in which the images can no longer be retrieved.";
+    }
+
+    public static getIgnoreMissingBodyChunkDefault(): boolean {
+        return false;
+    }
+
+    public static getIgnoreMissingBodyChunkDescription(): string {
+        return "If this option is enabled, an error will not be triggered (the conversion will not be aborted) for e-mails if there is no body element in the file structure. However, this should not be confused with an e-mail not having any content.";
+    }
+
+    public static getReduceImageSizeDefault(): boolean {
+        return false;
+    }
+
+    public static getReduceImageSizeDescription(): string {
+        return "If \"true\", then all images are reduced in their pixel size so that they fit into the maximum page width. This only applies to images that have been resized using the `resizeImages` option. These images are reduced to the maximum number of pixels required to fit the page width. Images that are not affected by the `resizeImages` option are not resized.\n\n**Important:** If you activate the `reduceImageSize` option, you must also activate `resizeImages` and only resized images will be affected by this option. This option also leads to a significant reduction in the number of pixels in images, which can lead to an improved document size.";
+    }
+
+    public static getResizeImagesDefault(): boolean {
+        return false;
+    }
+
+    public static getResizeImagesDescription(): string {
+        return "If true, then an attempt is made to fit all images that are not in a table to the maximum page width in the PDF document. The graphics will be scaled (while maintaining the aspect ratio) to fit the width of the page and not be cut off. Please note that this may cause the original formatting of the email to be lost or to deviate from the original due to the scaling.\n\n**Important:** If the \"resizeImages\" option is enabled, you must expect that the original appearance of the e-mail document will no longer be preserved.";
+    }
+
+    public static getResizeTablesDefault(): boolean {
+        return false;
+    }
+
+    public static getResizeTablesDescription(): string {
+        return "If true, then an attempt is made to fit all tables to the maximum page width in the PDF document. An attempt is made to reduce the individual columns of a table so that the table fits completely within the page width. This works only for simple tables originally defined with dynamic sizes and not for nested tables (table-in-table). Please note that this may cause the original formatting of the email to be lost or to deviate from the original due to scaling.\n\n**Important:** If the option \"resizeTables\" is activated, you must expect that the original appearance of the e-mail document is no longer preserved. The recalculation of the table columns may also result in very narrow columns in the output.";
+    }
+
+    public static getUseBackgroundDefault(): boolean {
+        return true;
+    }
+
+    public static getUseBackgroundDescription(): string {
+        return "If \"true\", then a background defined in the e-mail (in the HTML content) is also output in the PDF document. If \"false\", the background will be hidden.";
+    }
+
+    public static fromJson(data: any): ConverterMail {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterMail(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterMail> {
+        return ModelStream.decodeArray(source, ConverterMail.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'adjustFonts': this.adjustFonts,
+            'attachmentMode': this.attachmentMode,
+            'downloadImages': this.downloadImages,
+            'ignoreMissingBodyChunk': this.ignoreMissingBodyChunk,
+            'reduceImageSize': this.reduceImageSize,
+            'resizeImages': this.resizeImages,
+            'resizeTables': this.resizeTables,
+            'useBackground': this.useBackground,
+        };
+    }
+
+    public clone(): ConverterMail {
+        return ConverterMail.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "adjustFonts", typeof data?.adjustFonts !== "undefined" ? data?.adjustFonts : false) || changed;
+        changed = ModelAssignment.assignValue(this, "attachmentMode", typeof data?.attachmentMode !== "undefined" ? data?.attachmentMode : "embed") || changed;
+        changed = ModelAssignment.assignValue(this, "downloadImages", typeof data?.downloadImages !== "undefined" ? data?.downloadImages : false) || changed;
+        changed = ModelAssignment.assignValue(this, "ignoreMissingBodyChunk", typeof data?.ignoreMissingBodyChunk !== "undefined" ? data?.ignoreMissingBodyChunk : false) || changed;
+        changed = ModelAssignment.assignValue(this, "reduceImageSize", typeof data?.reduceImageSize !== "undefined" ? data?.reduceImageSize : false) || changed;
+        changed = ModelAssignment.assignValue(this, "resizeImages", typeof data?.resizeImages !== "undefined" ? data?.resizeImages : false) || changed;
+        changed = ModelAssignment.assignValue(this, "resizeTables", typeof data?.resizeTables !== "undefined" ? data?.resizeTables : false) || changed;
+        changed = ModelAssignment.assignValue(this, "useBackground", typeof data?.useBackground !== "undefined" ? data?.useBackground : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.adjustFonts, other.adjustFonts)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.attachmentMode, other.attachmentMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.downloadImages, other.downloadImages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ignoreMissingBodyChunk, other.ignoreMissingBodyChunk)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.reduceImageSize, other.reduceImageSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.resizeImages, other.resizeImages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.resizeTables, other.resizeTables)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.useBackground, other.useBackground)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.adjustFonts);
+        hash = ModelEquality.hash(hash, this.attachmentMode);
+        hash = ModelEquality.hash(hash, this.downloadImages);
+        hash = ModelEquality.hash(hash, this.ignoreMissingBodyChunk);
+        hash = ModelEquality.hash(hash, this.reduceImageSize);
+        hash = ModelEquality.hash(hash, this.resizeImages);
+        hash = ModelEquality.hash(hash, this.resizeTables);
+        hash = ModelEquality.hash(hash, this.useBackground);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterMail(";
+        fingerprint += ModelEquality.fingerprint(this.adjustFonts) + ",";
+        fingerprint += ModelEquality.fingerprint(this.attachmentMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.downloadImages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.ignoreMissingBodyChunk) + ",";
+        fingerprint += ModelEquality.fingerprint(this.reduceImageSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.resizeImages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.resizeTables) + ",";
+        fingerprint += ModelEquality.fingerprint(this.useBackground) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ConverterOfficeWord,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ConverterOfficeInterface  {
+
+    word?: ConverterOfficeWord;
+
+}
+export class ConverterOffice implements ConverterOfficeInterface, Parameter {
+    word?: ConverterOfficeWord;
+
+    constructor(data: any) {
+        this.word = ConverterOfficeWord.fromJson(data?.word);
+    }
+
+    public static getWordDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ConverterOffice {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterOffice(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterOffice> {
+        return ModelStream.decodeArray(source, ConverterOffice.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'word': this.word?.toJson(),
+        };
+    }
+
+    public clone(): ConverterOffice {
+        return ConverterOffice.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "word", data?.word, ConverterOfficeWord.fromJson, ConverterOfficeWord) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.word, other.word)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.word);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterOffice(";
+        fingerprint += ModelEquality.fingerprint(this.word) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
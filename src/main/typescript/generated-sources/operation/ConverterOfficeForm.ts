@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ConverterOfficeFormInterface  {
+
+    /**
+    * If \"true,\" content elements that define forms are converted into an AcroForm. Otherwise, the elements are converted as normal content.
+    */
+    enabled?: boolean;
+
+}
+export class ConverterOfficeForm implements ConverterOfficeFormInterface, Parameter {
+    /**
+    * If \"true,\" content elements that define forms are converted into an AcroForm. Otherwise, the elements are converted as normal content.
+    */
+    enabled?: boolean;
+
+    constructor(data: any) {
+        let enabledDefault: any = true;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+    }
+
+    public static getEnabledDefault(): boolean {
+        return true;
+    }
+
+    public static getEnabledDescription(): string {
+        return "If \"true,\" content elements that define forms are converted into an AcroForm. Otherwise, the elements are converted as normal content.";
+    }
+
+    public static fromJson(data: any): ConverterOfficeForm {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterOfficeForm(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterOfficeForm> {
+        return ModelStream.decodeArray(source, ConverterOfficeForm.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'enabled': this.enabled,
+        };
+    }
+
+    public clone(): ConverterOfficeForm {
+        return ConverterOfficeForm.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.enabled);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterOfficeForm(";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
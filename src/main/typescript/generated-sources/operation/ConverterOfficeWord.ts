@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ConverterOfficeForm,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ConverterOfficeWordInterface  {
+
+    form?: ConverterOfficeForm;
+
+}
+export class ConverterOfficeWord implements ConverterOfficeWordInterface, Parameter {
+    form?: ConverterOfficeForm;
+
+    constructor(data: any) {
+        this.form = ConverterOfficeForm.fromJson(data?.form);
+    }
+
+    public static getFormDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ConverterOfficeWord {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterOfficeWord(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterOfficeWord> {
+        return ModelStream.decodeArray(source, ConverterOfficeWord.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'form': this.form?.toJson(),
+        };
+    }
+
+    public clone(): ConverterOfficeWord {
+        return ConverterOfficeWord.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "form", data?.form, ConverterOfficeForm.fromJson, ConverterOfficeForm) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.form, other.form)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.form);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterOfficeWord(";
+        fingerprint += ModelEquality.fingerprint(this.form) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
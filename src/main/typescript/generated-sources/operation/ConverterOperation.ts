@@ -0,0 +1,125 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Billing,
+    Parameter,
+    Converter,
+    ModelEquality,
+    PdfPassword,
+    Settings,
+} from "./../index";
+
+export interface ConverterOperationInterface  {
+
+    billing?: Billing;
+    converter: Converter;
+    password?: PdfPassword;
+    settings?: Settings;
+
+}
+export class ConverterOperation implements ConverterOperationInterface, Parameter {
+    billing?: Billing;
+    converter: Converter;
+    password?: PdfPassword;
+    settings?: Settings;
+
+    constructor(data: any) {
+        this.billing = Billing.fromJson(data?.billing);
+        this.converter = Converter.fromJson(data.converter);
+        this.password = PdfPassword.fromJson(data?.password);
+        this.settings = Settings.fromJson(data?.settings);
+    }
+
+    public static getBillingDescription(): string {
+        return "";
+    }
+
+    public static getConverterDescription(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ConverterOperation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterOperation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterOperation> {
+        return ModelStream.decodeArray(source, ConverterOperation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'billing': this.billing?.toJson(),
+            'converter': this.converter?.toJson(),
+            'password': this.password?.toJson(),
+            'settings': this.settings?.toJson(),
+        };
+    }
+
+    public clone(): ConverterOperation {
+        return ConverterOperation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "billing", data?.billing, Billing.fromJson, Billing) || changed;
+        changed = ModelAssignment.assignModel(this, "converter", data.converter, Converter.fromJson, Converter) || changed;
+        changed = ModelAssignment.assignModel(this, "password", data?.password, PdfPassword.fromJson, PdfPassword) || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, Settings.fromJson, Settings) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.billing, other.billing)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.converter, other.converter)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.billing);
+        hash = ModelEquality.hash(hash, this.converter);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.settings);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterOperation(";
+        fingerprint += ModelEquality.fingerprint(this.billing) + ",";
+        fingerprint += ModelEquality.fingerprint(this.converter) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
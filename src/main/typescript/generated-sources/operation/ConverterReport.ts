@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ConverterReportInterface  {
+
+    /**
+    * If \"true\", then an error (ERR\\_CONVERTER\\_CONTENT\\_PROBLEMS) is triggered if a problem occurs with a content item during the conversion. The following are among the problems:  *   Unicode resolution of characters is not possible *   Vertical text elements *   Unsupported text effects *   Unsupported graphics compression *   Unsupported colour space *   Non-integrated sub-document that was not converted *   Tables with a \"right-to-left\" alignment in the content *   The document contains mathematical formulas
+    */
+    contentProblems?: boolean;
+    /**
+    * If \"true\", then an error (ERR\\_CONVERTER\\_FONT\\_ALIAS\\_USED) is triggered if a font was not found during conversion and in its place a substitute (alias) font was used.
+    */
+    fontAliasUsage?: boolean;
+    /**
+    * If \"true\", then an error (ERR\\_CONVERTER\\_FONT\\_IS\\_MISSING) is triggered if a font was not found during conversion.
+    */
+    fontIsMissing?: boolean;
+
+}
+export class ConverterReport implements ConverterReportInterface, Parameter {
+    /**
+    * If \"true\", then an error (ERR\\_CONVERTER\\_CONTENT\\_PROBLEMS) is triggered if a problem occurs with a content item during the conversion. The following are among the problems:  *   Unicode resolution of characters is not possible *   Vertical text elements *   Unsupported text effects *   Unsupported graphics compression *   Unsupported colour space *   Non-integrated sub-document that was not converted *   Tables with a \"right-to-left\" alignment in the content *   The document contains mathematical formulas
+    */
+    contentProblems?: boolean;
+    /**
+    * If \"true\", then an error (ERR\\_CONVERTER\\_FONT\\_ALIAS\\_USED) is triggered if a font was not found during conversion and in its place a substitute (alias) font was used.
+    */
+    fontAliasUsage?: boolean;
+    /**
+    * If \"true\", then an error (ERR\\_CONVERTER\\_FONT\\_IS\\_MISSING) is triggered if a font was not found during conversion.
+    */
+    fontIsMissing?: boolean;
+
+    constructor(data: any) {
+        let contentProblemsDefault: any = false;
+        this.contentProblems = typeof data?.contentProblems !== "undefined" ? data?.contentProblems : contentProblemsDefault;
+        let fontAliasUsageDefault: any = false;
+        this.fontAliasUsage = typeof data?.fontAliasUsage !== "undefined" ? data?.fontAliasUsage : fontAliasUsageDefault;
+        let fontIsMissingDefault: any = false;
+        this.fontIsMissing = typeof data?.fontIsMissing !== "undefined" ? data?.fontIsMissing : fontIsMissingDefault;
+    }
+
+    public static getContentProblemsDefault(): boolean {
+        return false;
+    }
+
+    public static getContentProblemsDescription(): string {
+        return "If \"true\", then an error (ERR\\_CONVERTER\\_CONTENT\\_PROBLEMS) is triggered if a problem occurs with a content item during the conversion. The following are among the problems:\n\n*   Unicode resolution of characters is not possible\n*   Vertical text elements\n*   Unsupported text effects\n*   Unsupported graphics compression\n*   Unsupported colour space\n*   Non-integrated sub-document that was not converted\n*   Tables with a \"right-to-left\" alignment in the content\n*   The document contains mathematical formulas";
+    }
+
+    public static getFontAliasUsageDefault(): boolean {
+        return false;
+    }
+
+    public static getFontAliasUsageDescription(): string {
+        return "If \"true\", then an error (ERR\\_CONVERTER\\_FONT\\_ALIAS\\_USED) is triggered if a font was not found during conversion and in its place a substitute (alias) font was used.";
+    }
+
+    public static getFontIsMissingDefault(): boolean {
+        return false;
+    }
+
+    public static getFontIsMissingDescription(): string {
+        return "If \"true\", then an error (ERR\\_CONVERTER\\_FONT\\_IS\\_MISSING) is triggered if a font was not found during conversion.";
+    }
+
+    public static fromJson(data: any): ConverterReport {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterReport(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterReport> {
+        return ModelStream.decodeArray(source, ConverterReport.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'contentProblems': this.contentProblems,
+            'fontAliasUsage': this.fontAliasUsage,
+            'fontIsMissing': this.fontIsMissing,
+        };
+    }
+
+    public clone(): ConverterReport {
+        return ConverterReport.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "contentProblems", typeof data?.contentProblems !== "undefined" ? data?.contentProblems : false) || changed;
+        changed = ModelAssignment.assignValue(this, "fontAliasUsage", typeof data?.fontAliasUsage !== "undefined" ? data?.fontAliasUsage : false) || changed;
+        changed = ModelAssignment.assignValue(this, "fontIsMissing", typeof data?.fontIsMissing !== "undefined" ? data?.fontIsMissing : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.contentProblems, other.contentProblems)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fontAliasUsage, other.fontAliasUsage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fontIsMissing, other.fontIsMissing)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.contentProblems);
+        hash = ModelEquality.hash(hash, this.fontAliasUsage);
+        hash = ModelEquality.hash(hash, this.fontIsMissing);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterReport(";
+        fingerprint += ModelEquality.fingerprint(this.contentProblems) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fontAliasUsage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fontIsMissing) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
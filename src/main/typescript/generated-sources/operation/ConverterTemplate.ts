@@ -0,0 +1,120 @@
+import {
+    ModelAssignment,
+    TemplateData,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    TemplateFile,
+} from "./../index";
+
+export interface ConverterTemplateInterface  {
+
+    data?: TemplateData;
+    file?: TemplateFile;
+    /**
+    * An ISO 639-1-compliant language code consisting of 2 letters. If there is one, a localized template will be selected using the language selected here. If not defined, the language in which webPDF is run will be used.
+    */
+    language?: string;
+
+}
+export class ConverterTemplate implements ConverterTemplateInterface, Parameter {
+    data?: TemplateData;
+    file?: TemplateFile;
+    /**
+    * An ISO 639-1-compliant language code consisting of 2 letters. If there is one, a localized template will be selected using the language selected here. If not defined, the language in which webPDF is run will be used.
+    */
+    language?: string;
+
+    constructor(data: any) {
+        this.data = TemplateData.fromJson(data?.data);
+        this.file = TemplateFile.fromJson(data?.file);
+        let languageDefault: any = "";
+        this.language = typeof data?.language !== "undefined" ? data?.language : languageDefault;
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static getFileDescription(): string {
+        return "";
+    }
+
+    public static getLanguageDefault(): string {
+        return "";
+    }
+
+    public static getLanguageDescription(): string {
+        return "An ISO 639-1-compliant language code consisting of 2 letters. If there is one, a localized template will be selected using the language selected here. If not defined, the language in which webPDF is run will be used.";
+    }
+
+    public static fromJson(data: any): ConverterTemplate {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterTemplate(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterTemplate> {
+        return ModelStream.decodeArray(source, ConverterTemplate.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'data': this.data?.toJson(),
+            'file': this.file?.toJson(),
+            'language': this.language,
+        };
+    }
+
+    public clone(): ConverterTemplate {
+        return ConverterTemplate.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "data", data?.data, TemplateData.fromJson, TemplateData) || changed;
+        changed = ModelAssignment.assignModel(this, "file", data?.file, TemplateFile.fromJson, TemplateFile) || changed;
+        changed = ModelAssignment.assignValue(this, "language", typeof data?.language !== "undefined" ? data?.language : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.file, other.file)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.language, other.language)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.data);
+        hash = ModelEquality.hash(hash, this.file);
+        hash = ModelEquality.hash(hash, this.language);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterTemplate(";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        fingerprint += ModelEquality.fingerprint(this.file) + ",";
+        fingerprint += ModelEquality.fingerprint(this.language) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
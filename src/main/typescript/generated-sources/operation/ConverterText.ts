@@ -0,0 +1,120 @@
+import {
+    ModelAssignment,
+    TextHighlight,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    SyntaxHighlight,
+} from "./../index";
+
+export interface ConverterTextInterface  {
+
+    syntaxHighlight?: SyntaxHighlight;
+    textHighlight?: TextHighlight;
+    /**
+    * If this value is set to \"true\", syntax highlighting and language detection will be enabled.
+    */
+    useSyntaxDetection?: boolean;
+
+}
+export class ConverterText implements ConverterTextInterface, Parameter {
+    syntaxHighlight?: SyntaxHighlight;
+    textHighlight?: TextHighlight;
+    /**
+    * If this value is set to \"true\", syntax highlighting and language detection will be enabled.
+    */
+    useSyntaxDetection?: boolean;
+
+    constructor(data: any) {
+        this.syntaxHighlight = SyntaxHighlight.fromJson(data?.syntaxHighlight);
+        this.textHighlight = TextHighlight.fromJson(data?.textHighlight);
+        let useSyntaxDetectionDefault: any = false;
+        this.useSyntaxDetection = typeof data?.useSyntaxDetection !== "undefined" ? data?.useSyntaxDetection : useSyntaxDetectionDefault;
+    }
+
+    public static getSyntaxHighlightDescription(): string {
+        return "";
+    }
+
+    public static getTextHighlightDescription(): string {
+        return "";
+    }
+
+    public static getUseSyntaxDetectionDefault(): boolean {
+        return false;
+    }
+
+    public static getUseSyntaxDetectionDescription(): string {
+        return "If this value is set to \"true\", syntax highlighting and language detection will be enabled.";
+    }
+
+    public static fromJson(data: any): ConverterText {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterText(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterText> {
+        return ModelStream.decodeArray(source, ConverterText.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'syntaxHighlight': this.syntaxHighlight?.toJson(),
+            'textHighlight': this.textHighlight?.toJson(),
+            'useSyntaxDetection': this.useSyntaxDetection,
+        };
+    }
+
+    public clone(): ConverterText {
+        return ConverterText.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "syntaxHighlight", data?.syntaxHighlight, SyntaxHighlight.fromJson, SyntaxHighlight) || changed;
+        changed = ModelAssignment.assignModel(this, "textHighlight", data?.textHighlight, TextHighlight.fromJson, TextHighlight) || changed;
+        changed = ModelAssignment.assignValue(this, "useSyntaxDetection", typeof data?.useSyntaxDetection !== "undefined" ? data?.useSyntaxDetection : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.syntaxHighlight, other.syntaxHighlight)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.textHighlight, other.textHighlight)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.useSyntaxDetection, other.useSyntaxDetection)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.syntaxHighlight);
+        hash = ModelEquality.hash(hash, this.textHighlight);
+        hash = ModelEquality.hash(hash, this.useSyntaxDetection);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterText(";
+        fingerprint += ModelEquality.fingerprint(this.syntaxHighlight) + ",";
+        fingerprint += ModelEquality.fingerprint(this.textHighlight) + ",";
+        fingerprint += ModelEquality.fingerprint(this.useSyntaxDetection) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    XRechnung,
+    ModelEquality,
+    XslTransformation,
+} from "./../index";
+
+export interface ConverterTransformInterface  {
+
+    xRechnung?: XRechnung;
+    xslTransformation?: XslTransformation;
+
+}
+export class ConverterTransform implements ConverterTransformInterface, Parameter {
+    xRechnung?: XRechnung;
+    xslTransformation?: XslTransformation;
+
+    constructor(data: any) {
+        this.xRechnung = XRechnung.fromJson(data?.xRechnung);
+        this.xslTransformation = XslTransformation.fromJson(data?.xslTransformation);
+    }
+
+    public static getXRechnungDescription(): string {
+        return "";
+    }
+
+    public static getXslTransformationDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ConverterTransform {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ConverterTransform(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ConverterTransform> {
+        return ModelStream.decodeArray(source, ConverterTransform.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'xRechnung': this.xRechnung?.toJson(),
+            'xslTransformation': this.xslTransformation?.toJson(),
+        };
+    }
+
+    public clone(): ConverterTransform {
+        return ConverterTransform.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "xRechnung", data?.xRechnung, XRechnung.fromJson, XRechnung) || changed;
+        changed = ModelAssignment.assignModel(this, "xslTransformation", data?.xslTransformation, XslTransformation.fromJson, XslTransformation) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.xRechnung, other.xRechnung)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.xslTransformation, other.xslTransformation)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.xRechnung);
+        hash = ModelEquality.hash(hash, this.xslTransformation);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ConverterTransform(";
+        fingerprint += ModelEquality.fingerprint(this.xRechnung) + ",";
+        fingerprint += ModelEquality.fingerprint(this.xslTransformation) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
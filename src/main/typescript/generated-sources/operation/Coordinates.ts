@@ -0,0 +1,6 @@
+export enum Coordinates {
+
+    Pdf = 'pdf',
+    User = 'user'
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum DataMatrixShape {
+
+    Rectangle = 'rectangle',
+    Square = 'square',
+    Default = 'default'
+
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface DecryptInterface  {
+
+
+}
+export class Decrypt implements DecryptInterface, Parameter {
+
+    constructor(data: any) {
+    }
+
+    public static fromJson(data: any): Decrypt {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Decrypt(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Decrypt> {
+        return ModelStream.decodeArray(source, Decrypt.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+        };
+    }
+
+    public clone(): Decrypt {
+        return Decrypt.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Decrypt(";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface DescriptionCustomInterface  {
+
+    /**
+    * Describes the name of the field to be added to the PDF description. The value must not be empty, must be unique, and must not conflict with the other (default) field names (e.g. \"Subject\"). If a name conflict occurs, the entry will be skipped and not entered.
+    */
+    key?: string;
+    /**
+    * If \"true\", then the field is not added but removed. In this case \"value\" has no meaning. If the field is not present, then the entry is skipped.
+    */
+    remove?: boolean;
+    /**
+    * Describes the value to be stored in the PDF description.
+    */
+    value?: string;
+
+}
+export class DescriptionCustom implements DescriptionCustomInterface, Parameter {
+    /**
+    * Describes the name of the field to be added to the PDF description. The value must not be empty, must be unique, and must not conflict with the other (default) field names (e.g. \"Subject\"). If a name conflict occurs, the entry will be skipped and not entered.
+    */
+    key?: string;
+    /**
+    * If \"true\", then the field is not added but removed. In this case \"value\" has no meaning. If the field is not present, then the entry is skipped.
+    */
+    remove?: boolean;
+    /**
+    * Describes the value to be stored in the PDF description.
+    */
+    value?: string;
+
+    constructor(data: any) {
+        let keyDefault: any = "";
+        this.key = typeof data?.key !== "undefined" ? data?.key : keyDefault;
+        let removeDefault: any = false;
+        this.remove = typeof data?.remove !== "undefined" ? data?.remove : removeDefault;
+        let valueDefault: any = "";
+        this.value = typeof data?.value !== "undefined" ? data?.value : valueDefault;
+    }
+
+    public static getKeyDefault(): string {
+        return "";
+    }
+
+    public static getKeyDescription(): string {
+        return "Describes the name of the field to be added to the PDF description. The value must not be empty, must be unique, and must not conflict with the other (default) field names (e.g. \"Subject\"). If a name conflict occurs, the entry will be skipped and not entered.";
+    }
+
+    public static getRemoveDefault(): boolean {
+        return false;
+    }
+
+    public static getRemoveDescription(): string {
+        return "If \"true\", then the field is not added but removed. In this case \"value\" has no meaning. If the field is not present, then the entry is skipped.";
+    }
+
+    public static getValueDefault(): string {
+        return "";
+    }
+
+    public static getValueDescription(): string {
+        return "Describes the value to be stored in the PDF description.";
+    }
+
+    public static fromJson(data: any): DescriptionCustom {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new DescriptionCustom(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<DescriptionCustom> {
+        return ModelStream.decodeArray(source, DescriptionCustom.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'key': this.key,
+            'remove': this.remove,
+            'value': this.value,
+        };
+    }
+
+    public clone(): DescriptionCustom {
+        return DescriptionCustom.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "key", typeof data?.key !== "undefined" ? data?.key : "") || changed;
+        changed = ModelAssignment.assignValue(this, "remove", typeof data?.remove !== "undefined" ? data?.remove : false) || changed;
+        changed = ModelAssignment.assignValue(this, "value", typeof data?.value !== "undefined" ? data?.value : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.key, other.key)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.remove, other.remove)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.value, other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.key);
+        hash = ModelEquality.hash(hash, this.remove);
+        hash = ModelEquality.hash(hash, this.value);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "DescriptionCustom(";
+        fingerprint += ModelEquality.fingerprint(this.key) + ",";
+        fingerprint += ModelEquality.fingerprint(this.remove) + ",";
+        fingerprint += ModelEquality.fingerprint(this.value) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+import {
+    ModelAssignment,
+    FitRectangleDestination,
+    FitBoundingBoxWidthDestination,
+    FitHeightDestination,
+    FitBoundingBoxDestination,
+    ModelStream,
+    Parameter,
+    ZoomDestination,
+    FitWidthDestination,
+    ModelEquality,
+    NamedDestination,
+    FitPageDestination,
+} from "./../index";
+
+export interface DestinationEventInterface  {
+
+
+}
+export class DestinationEvent implements DestinationEventInterface, Parameter {
+
+    constructor(data: any) {
+    }
+
+    public static fromJson(data: any): DestinationEvent {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        if (typeof data.zoomPage !== "undefined") {
+            return ZoomDestination.fromJson(data);
+        }
+
+        if (typeof data.fitPage !== "undefined") {
+            return FitPageDestination.fromJson(data);
+        }
+
+        if (typeof data.fitBoundingBoxWidth !== "undefined") {
+            return FitBoundingBoxWidthDestination.fromJson(data);
+        }
+
+        if (typeof data.fitWidth !== "undefined") {
+            return FitWidthDestination.fromJson(data);
+        }
+
+        if (typeof data.fitHeight !== "undefined") {
+            return FitHeightDestination.fromJson(data);
+        }
+
+        if (typeof data.fitRectangle !== "undefined") {
+            return FitRectangleDestination.fromJson(data);
+        }
+
+        if (typeof data.fitBoundingBox !== "undefined") {
+            return FitBoundingBoxDestination.fromJson(data);
+        }
+
+        if (typeof data.goToNamed !== "undefined") {
+            return NamedDestination.fromJson(data);
+        }
+
+        return new DestinationEvent(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<DestinationEvent> {
+        return ModelStream.decodeArray(source, DestinationEvent.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+        };
+    }
+
+    public clone(): DestinationEvent {
+        return DestinationEvent.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "DestinationEvent(";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
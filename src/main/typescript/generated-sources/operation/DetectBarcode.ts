@@ -0,0 +1,138 @@
+import {
+    ModelAssignment,
+    BarcodeSelection,
+    ModelStream,
+    BarcodeDetectInputFormat,
+    BarcodeDetectOutputFormat,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface DetectBarcodeInterface  {
+
+    /**
+    * Used to select the format of the file with the contents that will be scanned for barcodes.  *   pdf = PDF document *   img = Image document (JPG, PNG, TIF)
+    */
+    inputFormat?: BarcodeDetectInputFormat;
+    /**
+    * Used to select the format in which the recognition results should be returned.  *   json = JSON *   xml = XML
+    */
+    outputFormat?: BarcodeDetectOutputFormat;
+    selection?: Array<BarcodeSelection>;
+
+}
+export class DetectBarcode implements DetectBarcodeInterface, Parameter {
+    /**
+    * Used to select the format of the file with the contents that will be scanned for barcodes.  *   pdf = PDF document *   img = Image document (JPG, PNG, TIF)
+    */
+    inputFormat?: BarcodeDetectInputFormat;
+    /**
+    * Used to select the format in which the recognition results should be returned.  *   json = JSON *   xml = XML
+    */
+    outputFormat?: BarcodeDetectOutputFormat;
+    selection?: Array<BarcodeSelection>;
+
+    constructor(data: any) {
+        let inputFormatDefault: any = "pdf";
+        this.inputFormat = typeof data?.inputFormat !== "undefined" ? data?.inputFormat : inputFormatDefault;
+        let outputFormatDefault: any = "json";
+        this.outputFormat = typeof data?.outputFormat !== "undefined" ? data?.outputFormat : outputFormatDefault;
+        this.selection = (data?.selection || []).map(
+            BarcodeSelection.fromJson
+        );
+    }
+
+    public static getInputFormatDefault(): BarcodeDetectInputFormat {
+        return "pdf" as BarcodeDetectInputFormat;
+    }
+
+    public static getInputFormatDescription(): string {
+        return "Used to select the format of the file with the contents that will be scanned for barcodes.\n\n*   pdf = PDF document\n*   img = Image document (JPG, PNG, TIF)";
+    }
+
+    public static getOutputFormatDefault(): BarcodeDetectOutputFormat {
+        return "json" as BarcodeDetectOutputFormat;
+    }
+
+    public static getOutputFormatDescription(): string {
+        return "Used to select the format in which the recognition results should be returned.\n\n*   json = JSON\n*   xml = XML";
+    }
+
+    public static getSelectionDefault(): Array<BarcodeSelection> {
+        return [];
+    }
+
+    public static getSelectionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): DetectBarcode {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new DetectBarcode(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<DetectBarcode> {
+        return ModelStream.decodeArray(source, DetectBarcode.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'inputFormat': this.inputFormat,
+            'outputFormat': this.outputFormat,
+            'selection': this.selection?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): DetectBarcode {
+        return DetectBarcode.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "inputFormat", typeof data?.inputFormat !== "undefined" ? data?.inputFormat : "pdf") || changed;
+        changed = ModelAssignment.assignValue(this, "outputFormat", typeof data?.outputFormat !== "undefined" ? data?.outputFormat : "json") || changed;
+        changed = ModelAssignment.assignArray(this, "selection", data?.selection, BarcodeSelection.fromJson, BarcodeSelection) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.inputFormat, other.inputFormat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.outputFormat, other.outputFormat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.selection, other.selection)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.inputFormat);
+        hash = ModelEquality.hash(hash, this.outputFormat);
+        hash = ModelEquality.hash(hash, this.selection);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "DetectBarcode(";
+        fingerprint += ModelEquality.fingerprint(this.inputFormat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.outputFormat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.selection) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
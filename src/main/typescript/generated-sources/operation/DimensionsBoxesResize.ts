@@ -0,0 +1,207 @@
+import {
+    ModelAssignment,
+    Metrics,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface DimensionsBoxesResizeInterface  {
+
+    /**
+    * The height of the element.
+    */
+    height?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * The width of the element.
+    */
+    width?: number;
+    /**
+    * The horizontal displacement of the element.
+    */
+    x?: number;
+    /**
+    * The vertical displacement of the element.
+    */
+    y?: number;
+
+}
+export class DimensionsBoxesResize implements DimensionsBoxesResizeInterface, Parameter {
+    /**
+    * The height of the element.
+    */
+    height?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * The width of the element.
+    */
+    width?: number;
+    /**
+    * The horizontal displacement of the element.
+    */
+    x?: number;
+    /**
+    * The vertical displacement of the element.
+    */
+    y?: number;
+
+    constructor(data: any) {
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let metricsDefault: any = "mm";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+        let xDefault: any = 0;
+        this.x = typeof data?.x !== "undefined" ? data?.x : xDefault;
+        let yDefault: any = 0;
+        this.y = typeof data?.y !== "undefined" ? data?.y : yDefault;
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "The height of the element.";
+    }
+
+    public static getHeightMin(): number {
+        return 0;
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "mm" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "The width of the element.";
+    }
+
+    public static getWidthMin(): number {
+        return 0;
+    }
+
+    public static getXDefault(): number {
+        return 0;
+    }
+
+    public static getXDescription(): string {
+        return "The horizontal displacement of the element.";
+    }
+
+    public static getXMin(): number {
+        return 0;
+    }
+
+    public static getYDefault(): number {
+        return 0;
+    }
+
+    public static getYDescription(): string {
+        return "The vertical displacement of the element.";
+    }
+
+    public static getYMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): DimensionsBoxesResize {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new DimensionsBoxesResize(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<DimensionsBoxesResize> {
+        return ModelStream.decodeArray(source, DimensionsBoxesResize.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'height': this.height,
+            'metrics': this.metrics,
+            'width': this.width,
+            'x': this.x,
+            'y': this.y,
+        };
+    }
+
+    public clone(): DimensionsBoxesResize {
+        return DimensionsBoxesResize.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "mm") || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "x", typeof data?.x !== "undefined" ? data?.x : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "y", typeof data?.y !== "undefined" ? data?.y : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.x, other.x)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.y, other.y)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.width);
+        hash = ModelEquality.hash(hash, this.x);
+        hash = ModelEquality.hash(hash, this.y);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "DimensionsBoxesResize(";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        fingerprint += ModelEquality.fingerprint(this.x) + ",";
+        fingerprint += ModelEquality.fingerprint(this.y) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum Duplex {
+
+    Simplex = 'simplex',
+    DuplexFlipShortEdge = 'duplexFlipShortEdge',
+    DuplexFlipLongEdge = 'duplexFlipLongEdge',
+    None = 'none'
+
+}
\ No newline at end of file
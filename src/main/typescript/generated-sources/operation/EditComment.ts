@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ReplyToAnnotationEdit,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface EditCommentInterface  {
+
+    replyTo?: Array<ReplyToAnnotationEdit>;
+
+}
+export class EditComment implements EditCommentInterface, Parameter {
+    replyTo?: Array<ReplyToAnnotationEdit>;
+
+    constructor(data: any) {
+        this.replyTo = (data?.replyTo || []).map(
+            ReplyToAnnotationEdit.fromJson
+        );
+    }
+
+    public static getReplyToDefault(): Array<ReplyToAnnotationEdit> {
+        return [];
+    }
+
+    public static getReplyToDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): EditComment {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new EditComment(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<EditComment> {
+        return ModelStream.decodeArray(source, EditComment.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'replyTo': this.replyTo?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): EditComment {
+        return EditComment.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "replyTo", data?.replyTo, ReplyToAnnotationEdit.fromJson, ReplyToAnnotationEdit) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.replyTo, other.replyTo)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.replyTo);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "EditComment(";
+        fingerprint += ModelEquality.fingerprint(this.replyTo) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
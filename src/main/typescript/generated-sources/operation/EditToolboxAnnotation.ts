@@ -0,0 +1,200 @@
+import {
+    LineAnnotation,
+    ModelStream,
+    FreeTextAnnotation,
+    ModelAssignment,
+    SquareAnnotation,
+    CircleAnnotation,
+    RedactAnnotation,
+    Parameter,
+    SelectionEdit,
+    ModelEquality,
+    MarkupAnnotation,
+    TextAnnotation,
+    RubberStampAnnotation,
+} from "./../index";
+
+export interface EditToolboxAnnotationInterface  {
+
+    circle?: CircleAnnotation;
+    freetext?: FreeTextAnnotation;
+    line?: LineAnnotation;
+    markup?: MarkupAnnotation;
+    redact?: RedactAnnotation;
+    rubberstamp?: RubberStampAnnotation;
+    selection: SelectionEdit;
+    square?: SquareAnnotation;
+    text?: TextAnnotation;
+
+}
+export class EditToolboxAnnotation implements EditToolboxAnnotationInterface, Parameter {
+    circle?: CircleAnnotation;
+    freetext?: FreeTextAnnotation;
+    line?: LineAnnotation;
+    markup?: MarkupAnnotation;
+    redact?: RedactAnnotation;
+    rubberstamp?: RubberStampAnnotation;
+    selection: SelectionEdit;
+    square?: SquareAnnotation;
+    text?: TextAnnotation;
+
+    constructor(data: any) {
+        this.circle = CircleAnnotation.fromJson(data?.circle);
+        this.freetext = FreeTextAnnotation.fromJson(data?.freetext);
+        this.line = LineAnnotation.fromJson(data?.line);
+        this.markup = MarkupAnnotation.fromJson(data?.markup);
+        this.redact = RedactAnnotation.fromJson(data?.redact);
+        this.rubberstamp = RubberStampAnnotation.fromJson(data?.rubberstamp);
+        this.selection = SelectionEdit.fromJson(data.selection);
+        this.square = SquareAnnotation.fromJson(data?.square);
+        this.text = TextAnnotation.fromJson(data?.text);
+    }
+
+    public static getCircleDescription(): string {
+        return "";
+    }
+
+    public static getFreetextDescription(): string {
+        return "";
+    }
+
+    public static getLineDescription(): string {
+        return "";
+    }
+
+    public static getMarkupDescription(): string {
+        return "";
+    }
+
+    public static getRedactDescription(): string {
+        return "";
+    }
+
+    public static getRubberstampDescription(): string {
+        return "";
+    }
+
+    public static getSelectionDescription(): string {
+        return "";
+    }
+
+    public static getSquareDescription(): string {
+        return "";
+    }
+
+    public static getTextDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): EditToolboxAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new EditToolboxAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<EditToolboxAnnotation> {
+        return ModelStream.decodeArray(source, EditToolboxAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'circle': this.circle?.toJson(),
+            'freetext': this.freetext?.toJson(),
+            'line': this.line?.toJson(),
+            'markup': this.markup?.toJson(),
+            'redact': this.redact?.toJson(),
+            'rubberstamp': this.rubberstamp?.toJson(),
+            'selection': this.selection?.toJson(),
+            'square': this.square?.toJson(),
+            'text': this.text?.toJson(),
+        };
+    }
+
+    public clone(): EditToolboxAnnotation {
+        return EditToolboxAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "circle", data?.circle, CircleAnnotation.fromJson, CircleAnnotation) || changed;
+        changed = ModelAssignment.assignModel(this, "freetext", data?.freetext, FreeTextAnnotation.fromJson, FreeTextAnnotation) || changed;
+        changed = ModelAssignment.assignModel(this, "line", data?.line, LineAnnotation.fromJson, LineAnnotation) || changed;
+        changed = ModelAssignment.assignModel(this, "markup", data?.markup, MarkupAnnotation.fromJson, MarkupAnnotation) || changed;
+        changed = ModelAssignment.assignModel(this, "redact", data?.redact, RedactAnnotation.fromJson, RedactAnnotation) || changed;
+        changed = ModelAssignment.assignModel(this, "rubberstamp", data?.rubberstamp, RubberStampAnnotation.fromJson, RubberStampAnnotation) || changed;
+        changed = ModelAssignment.assignModel(this, "selection", data.selection, SelectionEdit.fromJson, SelectionEdit) || changed;
+        changed = ModelAssignment.assignModel(this, "square", data?.square, SquareAnnotation.fromJson, SquareAnnotation) || changed;
+        changed = ModelAssignment.assignModel(this, "text", data?.text, TextAnnotation.fromJson, TextAnnotation) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.circle, other.circle)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.freetext, other.freetext)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.line, other.line)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.markup, other.markup)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.redact, other.redact)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rubberstamp, other.rubberstamp)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.selection, other.selection)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.square, other.square)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.text, other.text)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.circle);
+        hash = ModelEquality.hash(hash, this.freetext);
+        hash = ModelEquality.hash(hash, this.line);
+        hash = ModelEquality.hash(hash, this.markup);
+        hash = ModelEquality.hash(hash, this.redact);
+        hash = ModelEquality.hash(hash, this.rubberstamp);
+        hash = ModelEquality.hash(hash, this.selection);
+        hash = ModelEquality.hash(hash, this.square);
+        hash = ModelEquality.hash(hash, this.text);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "EditToolboxAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.circle) + ",";
+        fingerprint += ModelEquality.fingerprint(this.freetext) + ",";
+        fingerprint += ModelEquality.fingerprint(this.line) + ",";
+        fingerprint += ModelEquality.fingerprint(this.markup) + ",";
+        fingerprint += ModelEquality.fingerprint(this.redact) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rubberstamp) + ",";
+        fingerprint += ModelEquality.fingerprint(this.selection) + ",";
+        fingerprint += ModelEquality.fingerprint(this.square) + ",";
+        fingerprint += ModelEquality.fingerprint(this.text) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+import {
+    ModelAssignment,
+    PdfEncryptionKey,
+    ModelStream,
+    PdfContentEncryption,
+    Parameter,
+    Recipient,
+    ModelEquality,
+} from "./../index";
+
+export interface EncryptCertificateInterface  {
+
+    /**
+    * Specifies whether certain contents should be treated differently than others during encryption.  *   encryptEverything = All contents of the document are encrypted without distinction (if provided by the standard). *   exposeMetadata = The document's metadata is left unencrypted to make it discoverable by processing programs. (Has an effect only for 128 bit and 256 bit AES).
+    */
+    contentEncryption?: PdfContentEncryption;
+    /**
+    * Sets the encryption level for the document.  *   RC4\\_40 = 40-bit RC4 *   RC4\\_128 = 128-bit RC4 *   AES\\_128 = 128-bit AES *   AES\\_256 = 256-bit AES  **Important:** Please note that the option \"256-bit AES\" only works if the \"Java Cryptography Extension (JCE)\" has been enabled with \"Unlimited Strength\" in the JVM. You can obtain the modified \"Policy Files\" (along with instructions for installation) from the Oracle website: Java Cryptography Extension (JCE) Unlimited Strength Jurisdiction Policy Files 7 Download: http://www.oracle.com/technetwork/java/javase/downloads/jce-7-download-432124.html
+    */
+    encryptionKey?: PdfEncryptionKey;
+    recipient: Array<Recipient>;
+
+}
+export class EncryptCertificate implements EncryptCertificateInterface, Parameter {
+    /**
+    * Specifies whether certain contents should be treated differently than others during encryption.  *   encryptEverything = All contents of the document are encrypted without distinction (if provided by the standard). *   exposeMetadata = The document's metadata is left unencrypted to make it discoverable by processing programs. (Has an effect only for 128 bit and 256 bit AES).
+    */
+    contentEncryption?: PdfContentEncryption;
+    /**
+    * Sets the encryption level for the document.  *   RC4\\_40 = 40-bit RC4 *   RC4\\_128 = 128-bit RC4 *   AES\\_128 = 128-bit AES *   AES\\_256 = 256-bit AES  **Important:** Please note that the option \"256-bit AES\" only works if the \"Java Cryptography Extension (JCE)\" has been enabled with \"Unlimited Strength\" in the JVM. You can obtain the modified \"Policy Files\" (along with instructions for installation) from the Oracle website: Java Cryptography Extension (JCE) Unlimited Strength Jurisdiction Policy Files 7 Download: http://www.oracle.com/technetwork/java/javase/downloads/jce-7-download-432124.html
+    */
+    encryptionKey?: PdfEncryptionKey;
+    recipient: Array<Recipient>;
+
+    constructor(data: any) {
+        let contentEncryptionDefault: any = "encryptEverything";
+        this.contentEncryption = typeof data?.contentEncryption !== "undefined" ? data?.contentEncryption : contentEncryptionDefault;
+        let encryptionKeyDefault: any = "RC4_128";
+        this.encryptionKey = typeof data?.encryptionKey !== "undefined" ? data?.encryptionKey : encryptionKeyDefault;
+        this.recipient = (data.recipient || []).map(
+            Recipient.fromJson
+        );
+    }
+
+    public static getContentEncryptionDefault(): PdfContentEncryption {
+        return "encryptEverything" as PdfContentEncryption;
+    }
+
+    public static getContentEncryptionDescription(): string {
+        return "Specifies whether certain contents should be treated differently than others during encryption.\n\n*   encryptEverything = All contents of the document are encrypted without distinction (if provided by the standard).\n*   exposeMetadata = The document's metadata is left unencrypted to make it discoverable by processing programs. (Has an effect only for 128 bit and 256 bit AES).";
+    }
+
+    public static getEncryptionKeyDefault(): PdfEncryptionKey {
+        return "RC4_128" as PdfEncryptionKey;
+    }
+
+    public static getEncryptionKeyDescription(): string {
+        return "Sets the encryption level for the document.\n\n*   RC4\\_40 = 40-bit RC4\n*   RC4\\_128 = 128-bit RC4\n*   AES\\_128 = 128-bit AES\n*   AES\\_256 = 256-bit AES\n\n**Important:** Please note that the option \"256-bit AES\" only works if the \"Java Cryptography Extension (JCE)\" has been enabled with \"Unlimited Strength\" in the JVM. You can obtain the modified \"Policy Files\" (along with instructions for installation) from the Oracle website: Java Cryptography Extension (JCE) Unlimited Strength Jurisdiction Policy Files 7 Download: http:\/\/www.oracle.com\/technetwork\/java\/javase\/downloads\/jce-7-download-432124.html";
+    }
+
+    public static getRecipientDefault(): Array<Recipient> {
+        return [];
+    }
+
+    public static getRecipientDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): EncryptCertificate {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new EncryptCertificate(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<EncryptCertificate> {
+        return ModelStream.decodeArray(source, EncryptCertificate.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'contentEncryption': this.contentEncryption,
+            'encryptionKey': this.encryptionKey,
+            'recipient': this.recipient?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): EncryptCertificate {
+        return EncryptCertificate.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "contentEncryption", typeof data?.contentEncryption !== "undefined" ? data?.contentEncryption : "encryptEverything") || changed;
+        changed = ModelAssignment.assignValue(this, "encryptionKey", typeof data?.encryptionKey !== "undefined" ? data?.encryptionKey : "RC4_128") || changed;
+        changed = ModelAssignment.assignArray(this, "recipient", data.recipient, Recipient.fromJson, Recipient) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.contentEncryption, other.contentEncryption)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.encryptionKey, other.encryptionKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.recipient, other.recipient)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.contentEncryption);
+        hash = ModelEquality.hash(hash, this.encryptionKey);
+        hash = ModelEquality.hash(hash, this.recipient);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "EncryptCertificate(";
+        fingerprint += ModelEquality.fingerprint(this.contentEncryption) + ",";
+        fingerprint += ModelEquality.fingerprint(this.encryptionKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.recipient) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
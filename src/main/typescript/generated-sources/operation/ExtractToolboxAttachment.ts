@@ -0,0 +1,136 @@
+import {
+    ModelAssignment,
+    SelectionAttachment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ExtractToolboxAttachmentInterface  {
+
+    /**
+    * Used to set the template for the page folders in the returned ZIP file. \"page\\[%d\\]\", for example, would result in a folder called \"page1\" for page 1, etc.
+    */
+    folderNameTemplate?: string;
+    selection?: Array<SelectionAttachment>;
+    /**
+    * The returned attachments will be combined to a common ZIP file, even if the selection is resulting in a single attachment to be selected. You can change this behaviour by setting this option to \"false\". In that case, this will expect to select a single attachment, that can be returned \"as is\".
+    */
+    singleFileAsZip?: boolean;
+
+}
+export class ExtractToolboxAttachment implements ExtractToolboxAttachmentInterface, Parameter {
+    /**
+    * Used to set the template for the page folders in the returned ZIP file. \"page\\[%d\\]\", for example, would result in a folder called \"page1\" for page 1, etc.
+    */
+    folderNameTemplate?: string;
+    selection?: Array<SelectionAttachment>;
+    /**
+    * The returned attachments will be combined to a common ZIP file, even if the selection is resulting in a single attachment to be selected. You can change this behaviour by setting this option to \"false\". In that case, this will expect to select a single attachment, that can be returned \"as is\".
+    */
+    singleFileAsZip?: boolean;
+
+    constructor(data: any) {
+        let folderNameTemplateDefault: any = "page[%d]";
+        this.folderNameTemplate = typeof data?.folderNameTemplate !== "undefined" ? data?.folderNameTemplate : folderNameTemplateDefault;
+        this.selection = (data?.selection || []).map(
+            SelectionAttachment.fromJson
+        );
+        let singleFileAsZipDefault: any = true;
+        this.singleFileAsZip = typeof data?.singleFileAsZip !== "undefined" ? data?.singleFileAsZip : singleFileAsZipDefault;
+    }
+
+    public static getFolderNameTemplateDefault(): string {
+        return "page[%d]";
+    }
+
+    public static getFolderNameTemplateDescription(): string {
+        return "Used to set the template for the page folders in the returned ZIP file. \"page\\[%d\\]\", for example, would result in a folder called \"page1\" for page 1, etc.";
+    }
+
+    public static getSelectionDefault(): Array<SelectionAttachment> {
+        return [];
+    }
+
+    public static getSelectionDescription(): string {
+        return "";
+    }
+
+    public static getSingleFileAsZipDefault(): boolean {
+        return true;
+    }
+
+    public static getSingleFileAsZipDescription(): string {
+        return "The returned attachments will be combined to a common ZIP file, even if the selection is resulting in a single attachment to be selected. You can change this behaviour by setting this option to \"false\". In that case, this will expect to select a single attachment, that can be returned \"as is\".";
+    }
+
+    public static fromJson(data: any): ExtractToolboxAttachment {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ExtractToolboxAttachment(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ExtractToolboxAttachment> {
+        return ModelStream.decodeArray(source, ExtractToolboxAttachment.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'folderNameTemplate': this.folderNameTemplate,
+            'selection': this.selection?.map((data) => data.toJson()),
+            'singleFileAsZip': this.singleFileAsZip,
+        };
+    }
+
+    public clone(): ExtractToolboxAttachment {
+        return ExtractToolboxAttachment.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "folderNameTemplate", typeof data?.folderNameTemplate !== "undefined" ? data?.folderNameTemplate : "page[%d]") || changed;
+        changed = ModelAssignment.assignArray(this, "selection", data?.selection, SelectionAttachment.fromJson, SelectionAttachment) || changed;
+        changed = ModelAssignment.assignValue(this, "singleFileAsZip", typeof data?.singleFileAsZip !== "undefined" ? data?.singleFileAsZip : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.folderNameTemplate, other.folderNameTemplate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.selection, other.selection)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.singleFileAsZip, other.singleFileAsZip)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.folderNameTemplate);
+        hash = ModelEquality.hash(hash, this.selection);
+        hash = ModelEquality.hash(hash, this.singleFileAsZip);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ExtractToolboxAttachment(";
+        fingerprint += ModelEquality.fingerprint(this.folderNameTemplate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.selection) + ",";
+        fingerprint += ModelEquality.fingerprint(this.singleFileAsZip) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum ExtractionFileFormat {
+
+    Zip = 'zip',
+    Xml = 'xml',
+    Text = 'text',
+    Json = 'json'
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum ExtractionImageFormat {
+
+    Png = 'png',
+    Jpeg = 'jpeg'
+
+}
\ No newline at end of file
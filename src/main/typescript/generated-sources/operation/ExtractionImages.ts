@@ -0,0 +1,192 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ExtractionImageFormat,
+    Parameter,
+    ExtractionFileFormat,
+    ModelEquality,
+} from "./../index";
+
+export interface ExtractionImagesInterface  {
+
+    /**
+    * Used to specify the format that should be used as the fallback format if extracting an image would result in a format that is not supported.  *   png = PNG file *   jpeg = JPEG file
+    */
+    fallbackFormat?: ExtractionImageFormat;
+    /**
+    * Used to define the output format for the PDF document text contents being extracted.  *   text = Text document *   xml = XML document *   json = JSON data structure
+    */
+    fileFormat?: ExtractionFileFormat;
+    /**
+    * Used to set the template for the image files in the returned ZIP file. \"file\\[%d\\]\", for example, would result in a \"file\\[1\\].png\" entry for a PNG image.
+    */
+    fileNameTemplate?: string;
+    /**
+    * Used to set the template for the page folders in the returned ZIP file. \"page\\[%d\\]\", for example, would result in a folder called \"page\\[1\\]\" for page 1, etc.
+    */
+    folderNameTemplate?: string;
+    /**
+    * Used to define which page(s) should be used for the image's mode. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.
+    */
+    pages?: string;
+
+}
+export class ExtractionImages implements ExtractionImagesInterface, Parameter {
+    /**
+    * Used to specify the format that should be used as the fallback format if extracting an image would result in a format that is not supported.  *   png = PNG file *   jpeg = JPEG file
+    */
+    fallbackFormat?: ExtractionImageFormat;
+    /**
+    * Used to define the output format for the PDF document text contents being extracted.  *   text = Text document *   xml = XML document *   json = JSON data structure
+    */
+    fileFormat?: ExtractionFileFormat;
+    /**
+    * Used to set the template for the image files in the returned ZIP file. \"file\\[%d\\]\", for example, would result in a \"file\\[1\\].png\" entry for a PNG image.
+    */
+    fileNameTemplate?: string;
+    /**
+    * Used to set the template for the page folders in the returned ZIP file. \"page\\[%d\\]\", for example, would result in a folder called \"page\\[1\\]\" for page 1, etc.
+    */
+    folderNameTemplate?: string;
+    /**
+    * Used to define which page(s) should be used for the image's mode. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.
+    */
+    pages?: string;
+
+    constructor(data: any) {
+        let fallbackFormatDefault: any = "png";
+        this.fallbackFormat = typeof data?.fallbackFormat !== "undefined" ? data?.fallbackFormat : fallbackFormatDefault;
+        let fileFormatDefault: any = "zip";
+        this.fileFormat = typeof data?.fileFormat !== "undefined" ? data?.fileFormat : fileFormatDefault;
+        let fileNameTemplateDefault: any = "file[%d]";
+        this.fileNameTemplate = typeof data?.fileNameTemplate !== "undefined" ? data?.fileNameTemplate : fileNameTemplateDefault;
+        let folderNameTemplateDefault: any = "page[%d]";
+        this.folderNameTemplate = typeof data?.folderNameTemplate !== "undefined" ? data?.folderNameTemplate : folderNameTemplateDefault;
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+    }
+
+    public static getFallbackFormatDefault(): ExtractionImageFormat {
+        return "png" as ExtractionImageFormat;
+    }
+
+    public static getFallbackFormatDescription(): string {
+        return "Used to specify the format that should be used as the fallback format if extracting an image would result in a format that is not supported.\n\n*   png = PNG file\n*   jpeg = JPEG file";
+    }
+
+    public static getFileFormatDefault(): ExtractionFileFormat {
+        return "zip" as ExtractionFileFormat;
+    }
+
+    public static getFileFormatDescription(): string {
+        return "Used to define the output format for the PDF document text contents being extracted.\n\n*   text = Text document\n*   xml = XML document\n*   json = JSON data structure";
+    }
+
+    public static getFileNameTemplateDefault(): string {
+        return "file[%d]";
+    }
+
+    public static getFileNameTemplateDescription(): string {
+        return "Used to set the template for the image files in the returned ZIP file. \"file\\[%d\\]\", for example, would result in a \"file\\[1\\].png\" entry for a PNG image.";
+    }
+
+    public static getFolderNameTemplateDefault(): string {
+        return "page[%d]";
+    }
+
+    public static getFolderNameTemplateDescription(): string {
+        return "Used to set the template for the page folders in the returned ZIP file. \"page\\[%d\\]\", for example, would result in a folder called \"page\\[1\\]\" for page 1, etc.";
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "Used to define which page(s) should be used for the image's mode. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.";
+    }
+
+    public static fromJson(data: any): ExtractionImages {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ExtractionImages(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ExtractionImages> {
+        return ModelStream.decodeArray(source, ExtractionImages.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'fallbackFormat': this.fallbackFormat,
+            'fileFormat': this.fileFormat,
+            'fileNameTemplate': this.fileNameTemplate,
+            'folderNameTemplate': this.folderNameTemplate,
+            'pages': this.pages,
+        };
+    }
+
+    public clone(): ExtractionImages {
+        return ExtractionImages.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "fallbackFormat", typeof data?.fallbackFormat !== "undefined" ? data?.fallbackFormat : "png") || changed;
+        changed = ModelAssignment.assignValue(this, "fileFormat", typeof data?.fileFormat !== "undefined" ? data?.fileFormat : "zip") || changed;
+        changed = ModelAssignment.assignValue(this, "fileNameTemplate", typeof data?.fileNameTemplate !== "undefined" ? data?.fileNameTemplate : "file[%d]") || changed;
+        changed = ModelAssignment.assignValue(this, "folderNameTemplate", typeof data?.folderNameTemplate !== "undefined" ? data?.folderNameTemplate : "page[%d]") || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fallbackFormat, other.fallbackFormat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileFormat, other.fileFormat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileNameTemplate, other.fileNameTemplate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.folderNameTemplate, other.folderNameTemplate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.fallbackFormat);
+        hash = ModelEquality.hash(hash, this.fileFormat);
+        hash = ModelEquality.hash(hash, this.fileNameTemplate);
+        hash = ModelEquality.hash(hash, this.folderNameTemplate);
+        hash = ModelEquality.hash(hash, this.pages);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ExtractionImages(";
+        fingerprint += ModelEquality.fingerprint(this.fallbackFormat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileFormat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileNameTemplate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.folderNameTemplate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
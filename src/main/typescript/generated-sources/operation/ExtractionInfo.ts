@@ -0,0 +1,116 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ExtractionFileFormat,
+    ModelEquality,
+} from "./../index";
+
+export interface ExtractionInfoInterface  {
+
+    /**
+    * Used to define the output format for the PDF document text contents being extracted.  *   text = Text document *   xml = XML document *   json = JSON data structure
+    */
+    fileFormat?: ExtractionFileFormat;
+    /**
+    * Used to define which page(s) should be used for the extraction mode. The page number can be either an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.
+    */
+    pages?: string;
+
+}
+export class ExtractionInfo implements ExtractionInfoInterface, Parameter {
+    /**
+    * Used to define the output format for the PDF document text contents being extracted.  *   text = Text document *   xml = XML document *   json = JSON data structure
+    */
+    fileFormat?: ExtractionFileFormat;
+    /**
+    * Used to define which page(s) should be used for the extraction mode. The page number can be either an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.
+    */
+    pages?: string;
+
+    constructor(data: any) {
+        let fileFormatDefault: any = "xml";
+        this.fileFormat = typeof data?.fileFormat !== "undefined" ? data?.fileFormat : fileFormatDefault;
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+    }
+
+    public static getFileFormatDefault(): ExtractionFileFormat {
+        return "xml" as ExtractionFileFormat;
+    }
+
+    public static getFileFormatDescription(): string {
+        return "Used to define the output format for the PDF document text contents being extracted.\n\n*   text = Text document\n*   xml = XML document\n*   json = JSON data structure";
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "Used to define which page(s) should be used for the extraction mode. The page number can be either an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.";
+    }
+
+    public static fromJson(data: any): ExtractionInfo {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ExtractionInfo(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ExtractionInfo> {
+        return ModelStream.decodeArray(source, ExtractionInfo.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'fileFormat': this.fileFormat,
+            'pages': this.pages,
+        };
+    }
+
+    public clone(): ExtractionInfo {
+        return ExtractionInfo.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "fileFormat", typeof data?.fileFormat !== "undefined" ? data?.fileFormat : "xml") || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileFormat, other.fileFormat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.fileFormat);
+        hash = ModelEquality.hash(hash, this.pages);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ExtractionInfo(";
+        fingerprint += ModelEquality.fingerprint(this.fileFormat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ExtractionFileFormat,
+    ModelEquality,
+} from "./../index";
+
+export interface ExtractionWordsInterface  {
+
+    /**
+    * If this attribute is set to true, a new word will be started after each punctuation mark.
+    */
+    delimitAfterPunctuation?: boolean;
+    /**
+    * This attribute specifies whether quotation marks and apostrophes should be handled the same way as brackets (such as parentheses and square brackets), i.e., whether they should be placed before the word they enclose.
+    */
+    extendedSequenceCharacters?: boolean;
+    /**
+    * Used to define the output format for the PDF document text contents being extracted.  *   text = Text document *   xml = XML document *   json = JSON data structure
+    */
+    fileFormat?: ExtractionFileFormat;
+    /**
+    * Used to define which page(s) should be used for the extraction mode. The page number can be either an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.
+    */
+    pages?: string;
+    /**
+    * Used to specify whether punctuation marks should be included in the export or whether they should be explicitly removed.
+    */
+    removePunctuation?: boolean;
+
+}
+export class ExtractionWords implements ExtractionWordsInterface, Parameter {
+    /**
+    * If this attribute is set to true, a new word will be started after each punctuation mark.
+    */
+    delimitAfterPunctuation?: boolean;
+    /**
+    * This attribute specifies whether quotation marks and apostrophes should be handled the same way as brackets (such as parentheses and square brackets), i.e., whether they should be placed before the word they enclose.
+    */
+    extendedSequenceCharacters?: boolean;
+    /**
+    * Used to define the output format for the PDF document text contents being extracted.  *   text = Text document *   xml = XML document *   json = JSON data structure
+    */
+    fileFormat?: ExtractionFileFormat;
+    /**
+    * Used to define which page(s) should be used for the extraction mode. The page number can be either an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.
+    */
+    pages?: string;
+    /**
+    * Used to specify whether punctuation marks should be included in the export or whether they should be explicitly removed.
+    */
+    removePunctuation?: boolean;
+
+    constructor(data: any) {
+        let delimitAfterPunctuationDefault: any = true;
+        this.delimitAfterPunctuation = typeof data?.delimitAfterPunctuation !== "undefined" ? data?.delimitAfterPunctuation : delimitAfterPunctuationDefault;
+        let extendedSequenceCharactersDefault: any = false;
+        this.extendedSequenceCharacters = typeof data?.extendedSequenceCharacters !== "undefined" ? data?.extendedSequenceCharacters : extendedSequenceCharactersDefault;
+        let fileFormatDefault: any = "xml";
+        this.fileFormat = typeof data?.fileFormat !== "undefined" ? data?.fileFormat : fileFormatDefault;
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        let removePunctuationDefault: any = false;
+        this.removePunctuation = typeof data?.removePunctuation !== "undefined" ? data?.removePunctuation : removePunctuationDefault;
+    }
+
+    public static getDelimitAfterPunctuationDefault(): boolean {
+        return true;
+    }
+
+    public static getDelimitAfterPunctuationDescription(): string {
+        return "If this attribute is set to true, a new word will be started after each punctuation mark.";
+    }
+
+    public static getExtendedSequenceCharactersDefault(): boolean {
+        return false;
+    }
+
+    public static getExtendedSequenceCharactersDescription(): string {
+        return "This attribute specifies whether quotation marks and apostrophes should be handled the same way as brackets (such as parentheses and square brackets), i.e., whether they should be placed before the word they enclose.";
+    }
+
+    public static getFileFormatDefault(): ExtractionFileFormat {
+        return "xml" as ExtractionFileFormat;
+    }
+
+    public static getFileFormatDescription(): string {
+        return "Used to define the output format for the PDF document text contents being extracted.\n\n*   text = Text document\n*   xml = XML document\n*   json = JSON data structure";
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "Used to define which page(s) should be used for the extraction mode. The page number can be either an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.";
+    }
+
+    public static getRemovePunctuationDefault(): boolean {
+        return false;
+    }
+
+    public static getRemovePunctuationDescription(): string {
+        return "Used to specify whether punctuation marks should be included in the export or whether they should be explicitly removed.";
+    }
+
+    public static fromJson(data: any): ExtractionWords {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ExtractionWords(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ExtractionWords> {
+        return ModelStream.decodeArray(source, ExtractionWords.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'delimitAfterPunctuation': this.delimitAfterPunctuation,
+            'extendedSequenceCharacters': this.extendedSequenceCharacters,
+            'fileFormat': this.fileFormat,
+            'pages': this.pages,
+            'removePunctuation': this.removePunctuation,
+        };
+    }
+
+    public clone(): ExtractionWords {
+        return ExtractionWords.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "delimitAfterPunctuation", typeof data?.delimitAfterPunctuation !== "undefined" ? data?.delimitAfterPunctuation : true) || changed;
+        changed = ModelAssignment.assignValue(this, "extendedSequenceCharacters", typeof data?.extendedSequenceCharacters !== "undefined" ? data?.extendedSequenceCharacters : false) || changed;
+        changed = ModelAssignment.assignValue(this, "fileFormat", typeof data?.fileFormat !== "undefined" ? data?.fileFormat : "xml") || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        changed = ModelAssignment.assignValue(this, "removePunctuation", typeof data?.removePunctuation !== "undefined" ? data?.removePunctuation : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.delimitAfterPunctuation, other.delimitAfterPunctuation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.extendedSequenceCharacters, other.extendedSequenceCharacters)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileFormat, other.fileFormat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.removePunctuation, other.removePunctuation)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.delimitAfterPunctuation);
+        hash = ModelEquality.hash(hash, this.extendedSequenceCharacters);
+        hash = ModelEquality.hash(hash, this.fileFormat);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.removePunctuation);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ExtractionWords(";
+        fingerprint += ModelEquality.fingerprint(this.delimitAfterPunctuation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.extendedSequenceCharacters) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileFormat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.removePunctuation) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
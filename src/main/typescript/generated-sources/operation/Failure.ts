@@ -0,0 +1,7 @@
+export enum Failure {
+
+    Warning = 'warning',
+    Error = 'error',
+    MissingContent = 'missingContent'
+
+}
\ No newline at end of file
@@ -0,0 +1,301 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    Icons,
+    Point,
+    ModelEquality,
+} from "./../index";
+
+export interface FileAnnotationInterface  {
+
+    /**
+    * The annotation colour will change the main colour of the attachment's icon. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * If this value is positive, the annotation will be generated with a fixed height corresponding to the value instead of using the dimensions of the specified icon.
+    */
+    height?: number;
+    /**
+    * If an attachment is embedded at the page level, this option can be used to specify the icon that should be used to show it:  The value you use here will define which icon will be used, as well as the basic dimensions for the annotation generated in the PDF. If you use the \"None\" icon type, a predefined icon will not be used. Instead, this option will only use the dimensions specified in \"width\" and \"height\" to generate an annotation with a transparent selection box at the specified position.  *   graph = Diagram *   paperclip = Paper clip *   pushPin = Thumb tack *   tag = Tag *   none = Rectangular selection box
+    */
+    icon?: Icons;
+    /**
+    * If this value is set to \"true\", the person viewing the document will not be allowed to move the icon for the file attached at the page level.
+    */
+    lockedPosition?: boolean;
+    /**
+    * Used to set the opacity for the attachment's icon. A percent value between 0 and 100 is allowed, whereby 0 equals the minimum opacity. The higher the value, the more the content of the PDF document will be covered over.
+    */
+    opacity?: number;
+    /**
+    * Used to define the page on which the annotation will be generated, i.e., the page where the attachment will be stored.
+    */
+    page?: number;
+    point: Point;
+    /**
+    * The text that should be displayed in the pop-up for the annotation.
+    */
+    popupText?: string;
+    /**
+    * If this value is positive, the annotation will be generated with a fixed width corresponding to the value instead of using the dimensions of the specified icon.
+    */
+    width?: number;
+
+}
+export class FileAnnotation implements FileAnnotationInterface, Parameter {
+    /**
+    * The annotation colour will change the main colour of the attachment's icon. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * If this value is positive, the annotation will be generated with a fixed height corresponding to the value instead of using the dimensions of the specified icon.
+    */
+    height?: number;
+    /**
+    * If an attachment is embedded at the page level, this option can be used to specify the icon that should be used to show it:  The value you use here will define which icon will be used, as well as the basic dimensions for the annotation generated in the PDF. If you use the \"None\" icon type, a predefined icon will not be used. Instead, this option will only use the dimensions specified in \"width\" and \"height\" to generate an annotation with a transparent selection box at the specified position.  *   graph = Diagram *   paperclip = Paper clip *   pushPin = Thumb tack *   tag = Tag *   none = Rectangular selection box
+    */
+    icon?: Icons;
+    /**
+    * If this value is set to \"true\", the person viewing the document will not be allowed to move the icon for the file attached at the page level.
+    */
+    lockedPosition?: boolean;
+    /**
+    * Used to set the opacity for the attachment's icon. A percent value between 0 and 100 is allowed, whereby 0 equals the minimum opacity. The higher the value, the more the content of the PDF document will be covered over.
+    */
+    opacity?: number;
+    /**
+    * Used to define the page on which the annotation will be generated, i.e., the page where the attachment will be stored.
+    */
+    page?: number;
+    point: Point;
+    /**
+    * The text that should be displayed in the pop-up for the annotation.
+    */
+    popupText?: string;
+    /**
+    * If this value is positive, the annotation will be generated with a fixed width corresponding to the value instead of using the dimensions of the specified icon.
+    */
+    width?: number;
+
+    constructor(data: any) {
+        let colorDefault: any = "#4800FF";
+        this.color = typeof data?.color !== "undefined" ? data?.color : colorDefault;
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let iconDefault: any = "paperclip";
+        this.icon = typeof data?.icon !== "undefined" ? data?.icon : iconDefault;
+        let lockedPositionDefault: any = true;
+        this.lockedPosition = typeof data?.lockedPosition !== "undefined" ? data?.lockedPosition : lockedPositionDefault;
+        let opacityDefault: any = 100;
+        this.opacity = typeof data?.opacity !== "undefined" ? data?.opacity : opacityDefault;
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        this.point = Point.fromJson(data.point);
+        let popupTextDefault: any = "";
+        this.popupText = typeof data?.popupText !== "undefined" ? data?.popupText : popupTextDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+    }
+
+    public static getColorDefault(): string {
+        return "#4800FF";
+    }
+
+    public static getColorDescription(): string {
+        return "The annotation colour will change the main colour of the attachment's icon. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.";
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "If this value is positive, the annotation will be generated with a fixed height corresponding to the value instead of using the dimensions of the specified icon.";
+    }
+
+    public static getHeightMin(): number {
+        return 0;
+    }
+
+    public static getIconDefault(): Icons {
+        return "paperclip" as Icons;
+    }
+
+    public static getIconDescription(): string {
+        return "If an attachment is embedded at the page level, this option can be used to specify the icon that should be used to show it:\n\nThe value you use here will define which icon will be used, as well as the basic dimensions for the annotation generated in the PDF. If you use the \"None\" icon type, a predefined icon will not be used. Instead, this option will only use the dimensions specified in \"width\" and \"height\" to generate an annotation with a transparent selection box at the specified position.\n\n*   graph = Diagram\n*   paperclip = Paper clip\n*   pushPin = Thumb tack\n*   tag = Tag\n*   none = Rectangular selection box";
+    }
+
+    public static getLockedPositionDefault(): boolean {
+        return true;
+    }
+
+    public static getLockedPositionDescription(): string {
+        return "If this value is set to \"true\", the person viewing the document will not be allowed to move the icon for the file attached at the page level.";
+    }
+
+    public static getOpacityDefault(): number {
+        return 100;
+    }
+
+    public static getOpacityDescription(): string {
+        return "Used to set the opacity for the attachment's icon. A percent value between 0 and 100 is allowed, whereby 0 equals the minimum opacity. The higher the value, the more the content of the PDF document will be covered over.";
+    }
+
+    public static getOpacityMin(): number {
+        return 0;
+    }
+
+    public static getOpacityMax(): number {
+        return 100;
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "Used to define the page on which the annotation will be generated, i.e., the page where the attachment will be stored.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static getPointDescription(): string {
+        return "";
+    }
+
+    public static getPopupTextDefault(): string {
+        return "";
+    }
+
+    public static getPopupTextDescription(): string {
+        return "The text that should be displayed in the pop-up for the annotation.";
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "If this value is positive, the annotation will be generated with a fixed width corresponding to the value instead of using the dimensions of the specified icon.";
+    }
+
+    public static getWidthMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): FileAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FileAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FileAnnotation> {
+        return ModelStream.decodeArray(source, FileAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'color': this.color,
+            'height': this.height,
+            'icon': this.icon,
+            'lockedPosition': this.lockedPosition,
+            'opacity': this.opacity,
+            'page': this.page,
+            'point': this.point?.toJson(),
+            'popupText': this.popupText,
+            'width': this.width,
+        };
+    }
+
+    public clone(): FileAnnotation {
+        return FileAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "color", typeof data?.color !== "undefined" ? data?.color : "#4800FF") || changed;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "icon", typeof data?.icon !== "undefined" ? data?.icon : "paperclip") || changed;
+        changed = ModelAssignment.assignValue(this, "lockedPosition", typeof data?.lockedPosition !== "undefined" ? data?.lockedPosition : true) || changed;
+        changed = ModelAssignment.assignValue(this, "opacity", typeof data?.opacity !== "undefined" ? data?.opacity : 100) || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        changed = ModelAssignment.assignModel(this, "point", data.point, Point.fromJson, Point) || changed;
+        changed = ModelAssignment.assignValue(this, "popupText", typeof data?.popupText !== "undefined" ? data?.popupText : "") || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.color, other.color)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.icon, other.icon)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.lockedPosition, other.lockedPosition)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.opacity, other.opacity)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.point, other.point)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.popupText, other.popupText)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.color);
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.icon);
+        hash = ModelEquality.hash(hash, this.lockedPosition);
+        hash = ModelEquality.hash(hash, this.opacity);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.point);
+        hash = ModelEquality.hash(hash, this.popupText);
+        hash = ModelEquality.hash(hash, this.width);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FileAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.color) + ",";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.icon) + ",";
+        fingerprint += ModelEquality.fingerprint(this.lockedPosition) + ",";
+        fingerprint += ModelEquality.fingerprint(this.opacity) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.point) + ",";
+        fingerprint += ModelEquality.fingerprint(this.popupText) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
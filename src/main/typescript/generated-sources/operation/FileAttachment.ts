@@ -0,0 +1,170 @@
+import {
+    ModelAssignment,
+    AttachmentFileData,
+    ModelStream,
+    Parameter,
+    FileAnnotation,
+    ModelEquality,
+} from "./../index";
+
+export interface FileAttachmentInterface  {
+
+    annotation?: FileAnnotation;
+    /**
+    * Can be used to set an author for the attachment. If you leave this value blank, the currently active system user will be used.
+    */
+    creator?: string;
+    data: AttachmentFileData;
+    /**
+    * Used to define the name under which the attachment in the document will be created.
+    */
+    fileName: string;
+    /**
+    * Can be used to set an optional MIME data type for the attachment. If you leave this value blank, the \"application/octet-stream\" MIME data type will be used.
+    */
+    mimeType?: string;
+
+}
+export class FileAttachment implements FileAttachmentInterface, Parameter {
+    annotation?: FileAnnotation;
+    /**
+    * Can be used to set an author for the attachment. If you leave this value blank, the currently active system user will be used.
+    */
+    creator?: string;
+    data: AttachmentFileData;
+    /**
+    * Used to define the name under which the attachment in the document will be created.
+    */
+    fileName: string;
+    /**
+    * Can be used to set an optional MIME data type for the attachment. If you leave this value blank, the \"application/octet-stream\" MIME data type will be used.
+    */
+    mimeType?: string;
+
+    constructor(data: any) {
+        this.annotation = FileAnnotation.fromJson(data?.annotation);
+        let creatorDefault: any = "";
+        this.creator = typeof data?.creator !== "undefined" ? data?.creator : creatorDefault;
+        this.data = AttachmentFileData.fromJson(data.data);
+        let fileNameDefault: any = "";
+        this.fileName = typeof data.fileName !== "undefined" ? data.fileName : fileNameDefault;
+        let mimeTypeDefault: any = "";
+        this.mimeType = typeof data?.mimeType !== "undefined" ? data?.mimeType : mimeTypeDefault;
+    }
+
+    public static getAnnotationDescription(): string {
+        return "";
+    }
+
+    public static getCreatorDefault(): string {
+        return "";
+    }
+
+    public static getCreatorDescription(): string {
+        return "Can be used to set an author for the attachment. If you leave this value blank, the currently active system user will be used.";
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static getFileNameDefault(): string {
+        return "";
+    }
+
+    public static getFileNameDescription(): string {
+        return "Used to define the name under which the attachment in the document will be created.";
+    }
+
+    public static getMimeTypeDefault(): string {
+        return "";
+    }
+
+    public static getMimeTypeDescription(): string {
+        return "Can be used to set an optional MIME data type for the attachment. If you leave this value blank, the \"application\/octet-stream\" MIME data type will be used.";
+    }
+
+    public static fromJson(data: any): FileAttachment {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FileAttachment(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FileAttachment> {
+        return ModelStream.decodeArray(source, FileAttachment.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'annotation': this.annotation?.toJson(),
+            'creator': this.creator,
+            'data': this.data?.toJson(),
+            'fileName': this.fileName,
+            'mimeType': this.mimeType,
+        };
+    }
+
+    public clone(): FileAttachment {
+        return FileAttachment.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "annotation", data?.annotation, FileAnnotation.fromJson, FileAnnotation) || changed;
+        changed = ModelAssignment.assignValue(this, "creator", typeof data?.creator !== "undefined" ? data?.creator : "") || changed;
+        changed = ModelAssignment.assignModel(this, "data", data.data, AttachmentFileData.fromJson, AttachmentFileData) || changed;
+        changed = ModelAssignment.assignValue(this, "fileName", typeof data.fileName !== "undefined" ? data.fileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "mimeType", typeof data?.mimeType !== "undefined" ? data?.mimeType : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.annotation, other.annotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.creator, other.creator)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileName, other.fileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mimeType, other.mimeType)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.annotation);
+        hash = ModelEquality.hash(hash, this.creator);
+        hash = ModelEquality.hash(hash, this.data);
+        hash = ModelEquality.hash(hash, this.fileName);
+        hash = ModelEquality.hash(hash, this.mimeType);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FileAttachment(";
+        fingerprint += ModelEquality.fingerprint(this.annotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.creator) + ",";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mimeType) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
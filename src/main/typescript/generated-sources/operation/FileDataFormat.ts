@@ -0,0 +1,7 @@
+export enum FileDataFormat {
+
+    Zip = 'zip',
+    Pdf = 'pdf',
+    Id = 'id'
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum FileDataSource {
+
+    Value = 'value',
+    Uri = 'uri'
+
+}
\ No newline at end of file
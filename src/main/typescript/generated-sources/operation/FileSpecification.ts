@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FileSpecificationInterface  {
+
+    /**
+    * A description of the application that should be opened.
+    */
+    description?: string;
+    /**
+    * The path or URL for the application / document. Use forward slashes as path separators. It is potentially possible to use platform-specific characters, but this is not recommended. If you do end up using platform-specific characters anyway, they must be preceded by a backslash (‘\\\\').
+    */
+    resourceURL?: string;
+    /**
+    * This value should be set to true if the selected document will be subject to changes continuously and the reader application should be forced to continuously reload the document instead of caching it.
+    */
+    volatileFile?: boolean;
+
+}
+export class FileSpecification implements FileSpecificationInterface, Parameter {
+    /**
+    * A description of the application that should be opened.
+    */
+    description?: string;
+    /**
+    * The path or URL for the application / document. Use forward slashes as path separators. It is potentially possible to use platform-specific characters, but this is not recommended. If you do end up using platform-specific characters anyway, they must be preceded by a backslash (‘\\\\').
+    */
+    resourceURL?: string;
+    /**
+    * This value should be set to true if the selected document will be subject to changes continuously and the reader application should be forced to continuously reload the document instead of caching it.
+    */
+    volatileFile?: boolean;
+
+    constructor(data: any) {
+        let descriptionDefault: any = "";
+        this.description = typeof data?.description !== "undefined" ? data?.description : descriptionDefault;
+        let resourceURLDefault: any = "";
+        this.resourceURL = typeof data?.resourceURL !== "undefined" ? data?.resourceURL : resourceURLDefault;
+        let volatileFileDefault: any = false;
+        this.volatileFile = typeof data?.volatileFile !== "undefined" ? data?.volatileFile : volatileFileDefault;
+    }
+
+    public static getDescriptionDefault(): string {
+        return "";
+    }
+
+    public static getDescriptionDescription(): string {
+        return "A description of the application that should be opened.";
+    }
+
+    public static getResourceURLDefault(): string {
+        return "";
+    }
+
+    public static getResourceURLDescription(): string {
+        return "The path or URL for the application \/ document. Use forward slashes as path separators. It is potentially possible to use platform-specific characters, but this is not recommended. If you do end up using platform-specific characters anyway, they must be preceded by a backslash (\u2018\\\\').";
+    }
+
+    public static getVolatileFileDefault(): boolean {
+        return false;
+    }
+
+    public static getVolatileFileDescription(): string {
+        return "This value should be set to true if the selected document will be subject to changes continuously and the reader application should be forced to continuously reload the document instead of caching it.";
+    }
+
+    public static fromJson(data: any): FileSpecification {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FileSpecification(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FileSpecification> {
+        return ModelStream.decodeArray(source, FileSpecification.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'description': this.description,
+            'resourceURL': this.resourceURL,
+            'volatileFile': this.volatileFile,
+        };
+    }
+
+    public clone(): FileSpecification {
+        return FileSpecification.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "description", typeof data?.description !== "undefined" ? data?.description : "") || changed;
+        changed = ModelAssignment.assignValue(this, "resourceURL", typeof data?.resourceURL !== "undefined" ? data?.resourceURL : "") || changed;
+        changed = ModelAssignment.assignValue(this, "volatileFile", typeof data?.volatileFile !== "undefined" ? data?.volatileFile : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.description, other.description)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.resourceURL, other.resourceURL)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.volatileFile, other.volatileFile)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.description);
+        hash = ModelEquality.hash(hash, this.resourceURL);
+        hash = ModelEquality.hash(hash, this.volatileFile);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FileSpecification(";
+        fingerprint += ModelEquality.fingerprint(this.description) + ",";
+        fingerprint += ModelEquality.fingerprint(this.resourceURL) + ",";
+        fingerprint += ModelEquality.fingerprint(this.volatileFile) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
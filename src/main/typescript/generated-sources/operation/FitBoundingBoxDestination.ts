@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    DestinationEvent,
+    FitBoundingBoxDestinationFitBoundingBox,
+    ModelStream,
+    DestinationEventInterface,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FitBoundingBoxDestinationInterface extends DestinationEventInterface {
+
+    fitBoundingBox?: FitBoundingBoxDestinationFitBoundingBox;
+
+}
+export class FitBoundingBoxDestination extends DestinationEvent implements FitBoundingBoxDestinationInterface, Parameter {
+    fitBoundingBox?: FitBoundingBoxDestinationFitBoundingBox;
+
+    constructor(data: any) {
+        super(data);
+
+        this.fitBoundingBox = FitBoundingBoxDestinationFitBoundingBox.fromJson(data?.fitBoundingBox);
+    }
+
+    public static getFitBoundingBoxDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): FitBoundingBoxDestination {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FitBoundingBoxDestination(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FitBoundingBoxDestination> {
+        return ModelStream.decodeArray(source, FitBoundingBoxDestination.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'fitBoundingBox': this.fitBoundingBox?.toJson(),
+        };
+    }
+
+    public clone(): FitBoundingBoxDestination {
+        return FitBoundingBoxDestination.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "fitBoundingBox", data?.fitBoundingBox, FitBoundingBoxDestinationFitBoundingBox.fromJson, FitBoundingBoxDestinationFitBoundingBox) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fitBoundingBox, other.fitBoundingBox)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.fitBoundingBox);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FitBoundingBoxDestination(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.fitBoundingBox) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
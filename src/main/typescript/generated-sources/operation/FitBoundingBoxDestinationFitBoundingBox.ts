@@ -0,0 +1,94 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FitBoundingBoxDestinationFitBoundingBoxInterface  {
+
+    /**
+    * The document page to which the jump will be.
+    */
+    page?: number;
+
+}
+export class FitBoundingBoxDestinationFitBoundingBox implements FitBoundingBoxDestinationFitBoundingBoxInterface, Parameter {
+    /**
+    * The document page to which the jump will be.
+    */
+    page?: number;
+
+    constructor(data: any) {
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "The document page to which the jump will be.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static fromJson(data: any): FitBoundingBoxDestinationFitBoundingBox {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FitBoundingBoxDestinationFitBoundingBox(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FitBoundingBoxDestinationFitBoundingBox> {
+        return ModelStream.decodeArray(source, FitBoundingBoxDestinationFitBoundingBox.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'page': this.page,
+        };
+    }
+
+    public clone(): FitBoundingBoxDestinationFitBoundingBox {
+        return FitBoundingBoxDestinationFitBoundingBox.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.page);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FitBoundingBoxDestinationFitBoundingBox(";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    FitBoundingBoxWidthDestinationFitBoundingBoxWidth,
+    DestinationEvent,
+    ModelStream,
+    DestinationEventInterface,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FitBoundingBoxWidthDestinationInterface extends DestinationEventInterface {
+
+    fitBoundingBoxWidth?: FitBoundingBoxWidthDestinationFitBoundingBoxWidth;
+
+}
+export class FitBoundingBoxWidthDestination extends DestinationEvent implements FitBoundingBoxWidthDestinationInterface, Parameter {
+    fitBoundingBoxWidth?: FitBoundingBoxWidthDestinationFitBoundingBoxWidth;
+
+    constructor(data: any) {
+        super(data);
+
+        this.fitBoundingBoxWidth = FitBoundingBoxWidthDestinationFitBoundingBoxWidth.fromJson(data?.fitBoundingBoxWidth);
+    }
+
+    public static getFitBoundingBoxWidthDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): FitBoundingBoxWidthDestination {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FitBoundingBoxWidthDestination(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FitBoundingBoxWidthDestination> {
+        return ModelStream.decodeArray(source, FitBoundingBoxWidthDestination.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'fitBoundingBoxWidth': this.fitBoundingBoxWidth?.toJson(),
+        };
+    }
+
+    public clone(): FitBoundingBoxWidthDestination {
+        return FitBoundingBoxWidthDestination.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "fitBoundingBoxWidth", data?.fitBoundingBoxWidth, FitBoundingBoxWidthDestinationFitBoundingBoxWidth.fromJson, FitBoundingBoxWidthDestinationFitBoundingBoxWidth) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fitBoundingBoxWidth, other.fitBoundingBoxWidth)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.fitBoundingBoxWidth);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FitBoundingBoxWidthDestination(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.fitBoundingBoxWidth) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    DestinationEvent,
+    ModelStream,
+    DestinationEventInterface,
+    FitHeightDestinationFitHeight,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FitHeightDestinationInterface extends DestinationEventInterface {
+
+    fitHeight?: FitHeightDestinationFitHeight;
+
+}
+export class FitHeightDestination extends DestinationEvent implements FitHeightDestinationInterface, Parameter {
+    fitHeight?: FitHeightDestinationFitHeight;
+
+    constructor(data: any) {
+        super(data);
+
+        this.fitHeight = FitHeightDestinationFitHeight.fromJson(data?.fitHeight);
+    }
+
+    public static getFitHeightDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): FitHeightDestination {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FitHeightDestination(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FitHeightDestination> {
+        return ModelStream.decodeArray(source, FitHeightDestination.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'fitHeight': this.fitHeight?.toJson(),
+        };
+    }
+
+    public clone(): FitHeightDestination {
+        return FitHeightDestination.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "fitHeight", data?.fitHeight, FitHeightDestinationFitHeight.fromJson, FitHeightDestinationFitHeight) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fitHeight, other.fitHeight)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.fitHeight);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FitHeightDestination(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.fitHeight) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
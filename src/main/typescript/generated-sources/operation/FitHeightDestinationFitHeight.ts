@@ -0,0 +1,145 @@
+import {
+    ModelAssignment,
+    Metrics,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FitHeightDestinationFitHeightInterface  {
+
+    /**
+    * The area's offset from the left page margin.
+    */
+    leftOffset?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * The document page to which the jump will be.
+    */
+    page?: number;
+
+}
+export class FitHeightDestinationFitHeight implements FitHeightDestinationFitHeightInterface, Parameter {
+    /**
+    * The area's offset from the left page margin.
+    */
+    leftOffset?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * The document page to which the jump will be.
+    */
+    page?: number;
+
+    constructor(data: any) {
+        let leftOffsetDefault: any = 0;
+        this.leftOffset = typeof data?.leftOffset !== "undefined" ? data?.leftOffset : leftOffsetDefault;
+        let metricsDefault: any = "px";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+    }
+
+    public static getLeftOffsetDefault(): number {
+        return 0;
+    }
+
+    public static getLeftOffsetDescription(): string {
+        return "The area's offset from the left page margin.";
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "px" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "The document page to which the jump will be.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static fromJson(data: any): FitHeightDestinationFitHeight {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FitHeightDestinationFitHeight(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FitHeightDestinationFitHeight> {
+        return ModelStream.decodeArray(source, FitHeightDestinationFitHeight.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'leftOffset': this.leftOffset,
+            'metrics': this.metrics,
+            'page': this.page,
+        };
+    }
+
+    public clone(): FitHeightDestinationFitHeight {
+        return FitHeightDestinationFitHeight.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "leftOffset", typeof data?.leftOffset !== "undefined" ? data?.leftOffset : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "px") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.leftOffset, other.leftOffset)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.leftOffset);
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.page);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FitHeightDestinationFitHeight(";
+        fingerprint += ModelEquality.fingerprint(this.leftOffset) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    DestinationEvent,
+    ModelStream,
+    DestinationEventInterface,
+    FitPageDestinationFitPage,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FitPageDestinationInterface extends DestinationEventInterface {
+
+    fitPage?: FitPageDestinationFitPage;
+
+}
+export class FitPageDestination extends DestinationEvent implements FitPageDestinationInterface, Parameter {
+    fitPage?: FitPageDestinationFitPage;
+
+    constructor(data: any) {
+        super(data);
+
+        this.fitPage = FitPageDestinationFitPage.fromJson(data?.fitPage);
+    }
+
+    public static getFitPageDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): FitPageDestination {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FitPageDestination(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FitPageDestination> {
+        return ModelStream.decodeArray(source, FitPageDestination.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'fitPage': this.fitPage?.toJson(),
+        };
+    }
+
+    public clone(): FitPageDestination {
+        return FitPageDestination.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "fitPage", data?.fitPage, FitPageDestinationFitPage.fromJson, FitPageDestinationFitPage) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fitPage, other.fitPage)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.fitPage);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FitPageDestination(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.fitPage) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    DestinationEvent,
+    ModelStream,
+    DestinationEventInterface,
+    Parameter,
+    ModelEquality,
+    FitRectangleDestinationFitRectangle,
+} from "./../index";
+
+export interface FitRectangleDestinationInterface extends DestinationEventInterface {
+
+    fitRectangle?: FitRectangleDestinationFitRectangle;
+
+}
+export class FitRectangleDestination extends DestinationEvent implements FitRectangleDestinationInterface, Parameter {
+    fitRectangle?: FitRectangleDestinationFitRectangle;
+
+    constructor(data: any) {
+        super(data);
+
+        this.fitRectangle = FitRectangleDestinationFitRectangle.fromJson(data?.fitRectangle);
+    }
+
+    public static getFitRectangleDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): FitRectangleDestination {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FitRectangleDestination(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FitRectangleDestination> {
+        return ModelStream.decodeArray(source, FitRectangleDestination.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'fitRectangle': this.fitRectangle?.toJson(),
+        };
+    }
+
+    public clone(): FitRectangleDestination {
+        return FitRectangleDestination.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "fitRectangle", data?.fitRectangle, FitRectangleDestinationFitRectangle.fromJson, FitRectangleDestinationFitRectangle) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fitRectangle, other.fitRectangle)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.fitRectangle);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FitRectangleDestination(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.fitRectangle) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
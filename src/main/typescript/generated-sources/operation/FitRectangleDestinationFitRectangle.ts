@@ -0,0 +1,220 @@
+import {
+    ModelAssignment,
+    Metrics,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FitRectangleDestinationFitRectangleInterface  {
+
+    /**
+    * The area's offset from the bottom page margin.
+    */
+    bottomOffset?: number;
+    /**
+    * The area's offset from the left page margin.
+    */
+    leftOffset?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * The document page to which the jump will be.
+    */
+    page?: number;
+    /**
+    * The area's offset from the right page margin.
+    */
+    rightOffset?: number;
+    /**
+    * The area's offset from the top page margin.
+    */
+    topOffset?: number;
+
+}
+export class FitRectangleDestinationFitRectangle implements FitRectangleDestinationFitRectangleInterface, Parameter {
+    /**
+    * The area's offset from the bottom page margin.
+    */
+    bottomOffset?: number;
+    /**
+    * The area's offset from the left page margin.
+    */
+    leftOffset?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * The document page to which the jump will be.
+    */
+    page?: number;
+    /**
+    * The area's offset from the right page margin.
+    */
+    rightOffset?: number;
+    /**
+    * The area's offset from the top page margin.
+    */
+    topOffset?: number;
+
+    constructor(data: any) {
+        let bottomOffsetDefault: any = 0;
+        this.bottomOffset = typeof data?.bottomOffset !== "undefined" ? data?.bottomOffset : bottomOffsetDefault;
+        let leftOffsetDefault: any = 0;
+        this.leftOffset = typeof data?.leftOffset !== "undefined" ? data?.leftOffset : leftOffsetDefault;
+        let metricsDefault: any = "px";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        let rightOffsetDefault: any = 0;
+        this.rightOffset = typeof data?.rightOffset !== "undefined" ? data?.rightOffset : rightOffsetDefault;
+        let topOffsetDefault: any = 0;
+        this.topOffset = typeof data?.topOffset !== "undefined" ? data?.topOffset : topOffsetDefault;
+    }
+
+    public static getBottomOffsetDefault(): number {
+        return 0;
+    }
+
+    public static getBottomOffsetDescription(): string {
+        return "The area's offset from the bottom page margin.";
+    }
+
+    public static getLeftOffsetDefault(): number {
+        return 0;
+    }
+
+    public static getLeftOffsetDescription(): string {
+        return "The area's offset from the left page margin.";
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "px" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "The document page to which the jump will be.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static getRightOffsetDefault(): number {
+        return 0;
+    }
+
+    public static getRightOffsetDescription(): string {
+        return "The area's offset from the right page margin.";
+    }
+
+    public static getTopOffsetDefault(): number {
+        return 0;
+    }
+
+    public static getTopOffsetDescription(): string {
+        return "The area's offset from the top page margin.";
+    }
+
+    public static fromJson(data: any): FitRectangleDestinationFitRectangle {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FitRectangleDestinationFitRectangle(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FitRectangleDestinationFitRectangle> {
+        return ModelStream.decodeArray(source, FitRectangleDestinationFitRectangle.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'bottomOffset': this.bottomOffset,
+            'leftOffset': this.leftOffset,
+            'metrics': this.metrics,
+            'page': this.page,
+            'rightOffset': this.rightOffset,
+            'topOffset': this.topOffset,
+        };
+    }
+
+    public clone(): FitRectangleDestinationFitRectangle {
+        return FitRectangleDestinationFitRectangle.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "bottomOffset", typeof data?.bottomOffset !== "undefined" ? data?.bottomOffset : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "leftOffset", typeof data?.leftOffset !== "undefined" ? data?.leftOffset : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "px") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "rightOffset", typeof data?.rightOffset !== "undefined" ? data?.rightOffset : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "topOffset", typeof data?.topOffset !== "undefined" ? data?.topOffset : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bottomOffset, other.bottomOffset)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.leftOffset, other.leftOffset)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rightOffset, other.rightOffset)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.topOffset, other.topOffset)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.bottomOffset);
+        hash = ModelEquality.hash(hash, this.leftOffset);
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.rightOffset);
+        hash = ModelEquality.hash(hash, this.topOffset);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FitRectangleDestinationFitRectangle(";
+        fingerprint += ModelEquality.fingerprint(this.bottomOffset) + ",";
+        fingerprint += ModelEquality.fingerprint(this.leftOffset) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rightOffset) + ",";
+        fingerprint += ModelEquality.fingerprint(this.topOffset) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
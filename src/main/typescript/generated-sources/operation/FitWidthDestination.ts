@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    FitWidthDestinationFitWidth,
+    DestinationEvent,
+    ModelStream,
+    DestinationEventInterface,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FitWidthDestinationInterface extends DestinationEventInterface {
+
+    fitWidth?: FitWidthDestinationFitWidth;
+
+}
+export class FitWidthDestination extends DestinationEvent implements FitWidthDestinationInterface, Parameter {
+    fitWidth?: FitWidthDestinationFitWidth;
+
+    constructor(data: any) {
+        super(data);
+
+        this.fitWidth = FitWidthDestinationFitWidth.fromJson(data?.fitWidth);
+    }
+
+    public static getFitWidthDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): FitWidthDestination {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FitWidthDestination(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FitWidthDestination> {
+        return ModelStream.decodeArray(source, FitWidthDestination.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'fitWidth': this.fitWidth?.toJson(),
+        };
+    }
+
+    public clone(): FitWidthDestination {
+        return FitWidthDestination.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "fitWidth", data?.fitWidth, FitWidthDestinationFitWidth.fromJson, FitWidthDestinationFitWidth) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fitWidth, other.fitWidth)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.fitWidth);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FitWidthDestination(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.fitWidth) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
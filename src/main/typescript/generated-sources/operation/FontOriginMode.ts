@@ -0,0 +1,6 @@
+export enum FontOriginMode {
+
+    Folder = 'folder',
+    System = 'system'
+
+}
\ No newline at end of file
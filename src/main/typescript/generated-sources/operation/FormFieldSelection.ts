@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FormFieldSelectionInterface  {
+
+    /**
+    * The name of the selected form field.
+    */
+    name?: string;
+
+}
+export class FormFieldSelection implements FormFieldSelectionInterface, Parameter {
+    /**
+    * The name of the selected form field.
+    */
+    name?: string;
+
+    constructor(data: any) {
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The name of the selected form field.";
+    }
+
+    public static fromJson(data: any): FormFieldSelection {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FormFieldSelection(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FormFieldSelection> {
+        return ModelStream.decodeArray(source, FormFieldSelection.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'name': this.name,
+        };
+    }
+
+    public clone(): FormFieldSelection {
+        return FormFieldSelection.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.name);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FormFieldSelection(";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    FormsFormat,
+} from "./../index";
+
+export interface FormsExportInterface  {
+
+    /**
+    * Used to specify the file name of the PDF document that should be loaded automatically when the FDF document is opened. This setting is only used if \"format\" is set to \"fdf\".
+    */
+    fdfFileName?: string;
+    /**
+    * Used to set the format for exporting the data in a PDF form:  *   xml = XML *   fdf = FDF *   xfdf = XFDF *   xdp = XDP (only for PDF documents that contain XFA data)  The exported data will be returned with the web service call as per the selected format.  **Tip:** The format of this is described by the http://schema.webpdf.de/1.0/form/data.xsd schema.
+    */
+    format?: FormsFormat;
+
+}
+export class FormsExport implements FormsExportInterface, Parameter {
+    /**
+    * Used to specify the file name of the PDF document that should be loaded automatically when the FDF document is opened. This setting is only used if \"format\" is set to \"fdf\".
+    */
+    fdfFileName?: string;
+    /**
+    * Used to set the format for exporting the data in a PDF form:  *   xml = XML *   fdf = FDF *   xfdf = XFDF *   xdp = XDP (only for PDF documents that contain XFA data)  The exported data will be returned with the web service call as per the selected format.  **Tip:** The format of this is described by the http://schema.webpdf.de/1.0/form/data.xsd schema.
+    */
+    format?: FormsFormat;
+
+    constructor(data: any) {
+        let fdfFileNameDefault: any = "";
+        this.fdfFileName = typeof data?.fdfFileName !== "undefined" ? data?.fdfFileName : fdfFileNameDefault;
+        let formatDefault: any = "xml";
+        this.format = typeof data?.format !== "undefined" ? data?.format : formatDefault;
+    }
+
+    public static getFdfFileNameDefault(): string {
+        return "";
+    }
+
+    public static getFdfFileNameDescription(): string {
+        return "Used to specify the file name of the PDF document that should be loaded automatically when the FDF document is opened. This setting is only used if \"format\" is set to \"fdf\".";
+    }
+
+    public static getFormatDefault(): FormsFormat {
+        return "xml" as FormsFormat;
+    }
+
+    public static getFormatDescription(): string {
+        return "Used to set the format for exporting the data in a PDF form:\n\n*   xml = XML\n*   fdf = FDF\n*   xfdf = XFDF\n*   xdp = XDP (only for PDF documents that contain XFA data)\n\nThe exported data will be returned with the web service call as per the selected format.\n\n**Tip:** The format of this is described by the http:\/\/schema.webpdf.de\/1.0\/form\/data.xsd schema.";
+    }
+
+    public static fromJson(data: any): FormsExport {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FormsExport(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FormsExport> {
+        return ModelStream.decodeArray(source, FormsExport.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'fdfFileName': this.fdfFileName,
+            'format': this.format,
+        };
+    }
+
+    public clone(): FormsExport {
+        return FormsExport.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "fdfFileName", typeof data?.fdfFileName !== "undefined" ? data?.fdfFileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "format", typeof data?.format !== "undefined" ? data?.format : "xml") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fdfFileName, other.fdfFileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.format, other.format)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.fdfFileName);
+        hash = ModelEquality.hash(hash, this.format);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FormsExport(";
+        fingerprint += ModelEquality.fingerprint(this.fdfFileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.format) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface FormsFlattenInterface  {
+
+
+}
+export class FormsFlatten implements FormsFlattenInterface, Parameter {
+
+    constructor(data: any) {
+    }
+
+    public static fromJson(data: any): FormsFlatten {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FormsFlatten(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FormsFlatten> {
+        return ModelStream.decodeArray(source, FormsFlatten.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+        };
+    }
+
+    public clone(): FormsFlatten {
+        return FormsFlatten.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FormsFlatten(";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum FormsFormat {
+
+    Xdp = 'xdp',
+    Xml = 'xml',
+    Fdf = 'fdf',
+    Xfdf = 'xfdf'
+
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+import {
+    ModelAssignment,
+    FormsFileData,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    FormsFormat,
+} from "./../index";
+
+export interface FormsImportInterface  {
+
+    data: FormsFileData;
+    /**
+    * When set to \"true\" this will render the field contents after importing the new form values. (please refer to the documentation of the \"flatten element\").
+    */
+    flatten?: boolean;
+    /**
+    * Used to set the format for exporting the data in a PDF form:  *   xml = XML *   fdf = FDF *   xfdf = XFDF *   xdp = XDP (only for PDF documents that contain XFA data)  The exported data will be returned with the web service call as per the selected format.  **Tip:** The format of this is described by the http://schema.webpdf.de/1.0/form/data.xsd schema.
+    */
+    format?: FormsFormat;
+
+}
+export class FormsImport implements FormsImportInterface, Parameter {
+    data: FormsFileData;
+    /**
+    * When set to \"true\" this will render the field contents after importing the new form values. (please refer to the documentation of the \"flatten element\").
+    */
+    flatten?: boolean;
+    /**
+    * Used to set the format for exporting the data in a PDF form:  *   xml = XML *   fdf = FDF *   xfdf = XFDF *   xdp = XDP (only for PDF documents that contain XFA data)  The exported data will be returned with the web service call as per the selected format.  **Tip:** The format of this is described by the http://schema.webpdf.de/1.0/form/data.xsd schema.
+    */
+    format?: FormsFormat;
+
+    constructor(data: any) {
+        this.data = FormsFileData.fromJson(data.data);
+        let flattenDefault: any = false;
+        this.flatten = typeof data?.flatten !== "undefined" ? data?.flatten : flattenDefault;
+        let formatDefault: any = "xml";
+        this.format = typeof data?.format !== "undefined" ? data?.format : formatDefault;
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static getFlattenDefault(): boolean {
+        return false;
+    }
+
+    public static getFlattenDescription(): string {
+        return "When set to \"true\" this will render the field contents after importing the new form values. (please refer to the documentation of the \"flatten element\").";
+    }
+
+    public static getFormatDefault(): FormsFormat {
+        return "xml" as FormsFormat;
+    }
+
+    public static getFormatDescription(): string {
+        return "Used to set the format for exporting the data in a PDF form:\n\n*   xml = XML\n*   fdf = FDF\n*   xfdf = XFDF\n*   xdp = XDP (only for PDF documents that contain XFA data)\n\nThe exported data will be returned with the web service call as per the selected format.\n\n**Tip:** The format of this is described by the http:\/\/schema.webpdf.de\/1.0\/form\/data.xsd schema.";
+    }
+
+    public static fromJson(data: any): FormsImport {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new FormsImport(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<FormsImport> {
+        return ModelStream.decodeArray(source, FormsImport.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'data': this.data?.toJson(),
+            'flatten': this.flatten,
+            'format': this.format,
+        };
+    }
+
+    public clone(): FormsImport {
+        return FormsImport.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "data", data.data, FormsFileData.fromJson, FormsFileData) || changed;
+        changed = ModelAssignment.assignValue(this, "flatten", typeof data?.flatten !== "undefined" ? data?.flatten : false) || changed;
+        changed = ModelAssignment.assignValue(this, "format", typeof data?.format !== "undefined" ? data?.format : "xml") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.flatten, other.flatten)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.format, other.format)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.data);
+        hash = ModelEquality.hash(hash, this.flatten);
+        hash = ModelEquality.hash(hash, this.format);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "FormsImport(";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        fingerprint += ModelEquality.fingerprint(this.flatten) + ",";
+        fingerprint += ModelEquality.fingerprint(this.format) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
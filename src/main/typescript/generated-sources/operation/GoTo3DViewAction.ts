@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ActionEvent,
+    GoTo3DViewActionGoTo3DView,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+} from "./../index";
+
+export interface GoTo3DViewActionInterface extends ActionEventInterface {
+
+    goTo3DView?: GoTo3DViewActionGoTo3DView;
+
+}
+export class GoTo3DViewAction extends ActionEvent implements GoTo3DViewActionInterface, Parameter {
+    goTo3DView?: GoTo3DViewActionGoTo3DView;
+
+    constructor(data: any) {
+        super(data);
+
+        this.goTo3DView = GoTo3DViewActionGoTo3DView.fromJson(data?.goTo3DView);
+    }
+
+    public static getGoTo3DViewDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): GoTo3DViewAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new GoTo3DViewAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<GoTo3DViewAction> {
+        return ModelStream.decodeArray(source, GoTo3DViewAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'goTo3DView': this.goTo3DView?.toJson(),
+        };
+    }
+
+    public clone(): GoTo3DViewAction {
+        return GoTo3DViewAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "goTo3DView", data?.goTo3DView, GoTo3DViewActionGoTo3DView.fromJson, GoTo3DViewActionGoTo3DView) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.goTo3DView, other.goTo3DView)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.goTo3DView);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "GoTo3DViewAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.goTo3DView) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    RelativeThreeDViewOperation,
+    AnnotationSelection,
+} from "./../index";
+
+export interface GoTo3DViewActionGoTo3DViewInterface  {
+
+    annotation: AnnotationSelection;
+    /**
+    * The index for the 3D annotation view. This value is an alternative to \"name\" and \"relative\" and does not have to be set if either one of these values are specified.
+    */
+    index?: number;
+    /**
+    * The name of the 3D annotation view. This value is an alternative to \"index\" and \"relative\" and does not have to be set if either one of these values are specified.
+    */
+    name?: string;
+    /**
+    * A view of the 3D annotation that has been defined relative to the currently visualized view. This value is an alternative to \"name\" and \"index\" and does not have to be set if either one of these values are specified.  *   First = The first view of the 3D annotation. *   Last = The last view of the 3D annotation. *   Next = The next view of the 3D annotation. *   Previous = The previous view of the 3D annotation. *   Default = The default view of the 3D annotation.
+    */
+    relative?: RelativeThreeDViewOperation;
+
+}
+export class GoTo3DViewActionGoTo3DView implements GoTo3DViewActionGoTo3DViewInterface, Parameter {
+    annotation: AnnotationSelection;
+    /**
+    * The index for the 3D annotation view. This value is an alternative to \"name\" and \"relative\" and does not have to be set if either one of these values are specified.
+    */
+    index?: number;
+    /**
+    * The name of the 3D annotation view. This value is an alternative to \"index\" and \"relative\" and does not have to be set if either one of these values are specified.
+    */
+    name?: string;
+    /**
+    * A view of the 3D annotation that has been defined relative to the currently visualized view. This value is an alternative to \"name\" and \"index\" and does not have to be set if either one of these values are specified.  *   First = The first view of the 3D annotation. *   Last = The last view of the 3D annotation. *   Next = The next view of the 3D annotation. *   Previous = The previous view of the 3D annotation. *   Default = The default view of the 3D annotation.
+    */
+    relative?: RelativeThreeDViewOperation;
+
+    constructor(data: any) {
+        this.annotation = AnnotationSelection.fromJson(data.annotation);
+        let indexDefault: any = 0;
+        this.index = typeof data?.index !== "undefined" ? data?.index : indexDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let relativeDefault: any = "Default";
+        this.relative = typeof data?.relative !== "undefined" ? data?.relative : relativeDefault;
+    }
+
+    public static getAnnotationDescription(): string {
+        return "";
+    }
+
+    public static getIndexDefault(): number {
+        return 0;
+    }
+
+    public static getIndexDescription(): string {
+        return "The index for the 3D annotation view. This value is an alternative to \"name\" and \"relative\" and does not have to be set if either one of these values are specified.";
+    }
+
+    public static getIndexMin(): number {
+        return 0;
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The name of the 3D annotation view. This value is an alternative to \"index\" and \"relative\" and does not have to be set if either one of these values are specified.";
+    }
+
+    public static getRelativeDefault(): RelativeThreeDViewOperation {
+        return "Default" as RelativeThreeDViewOperation;
+    }
+
+    public static getRelativeDescription(): string {
+        return "A view of the 3D annotation that has been defined relative to the currently visualized view. This value is an alternative to \"name\" and \"index\" and does not have to be set if either one of these values are specified.\n\n*   First = The first view of the 3D annotation.\n*   Last = The last view of the 3D annotation.\n*   Next = The next view of the 3D annotation.\n*   Previous = The previous view of the 3D annotation.\n*   Default = The default view of the 3D annotation.";
+    }
+
+    public static fromJson(data: any): GoTo3DViewActionGoTo3DView {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new GoTo3DViewActionGoTo3DView(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<GoTo3DViewActionGoTo3DView> {
+        return ModelStream.decodeArray(source, GoTo3DViewActionGoTo3DView.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'annotation': this.annotation?.toJson(),
+            'index': this.index,
+            'name': this.name,
+            'relative': this.relative,
+        };
+    }
+
+    public clone(): GoTo3DViewActionGoTo3DView {
+        return GoTo3DViewActionGoTo3DView.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "annotation", data.annotation, AnnotationSelection.fromJson, AnnotationSelection) || changed;
+        changed = ModelAssignment.assignValue(this, "index", typeof data?.index !== "undefined" ? data?.index : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "relative", typeof data?.relative !== "undefined" ? data?.relative : "Default") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.annotation, other.annotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.index, other.index)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.relative, other.relative)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.annotation);
+        hash = ModelEquality.hash(hash, this.index);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.relative);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "GoTo3DViewActionGoTo3DView(";
+        fingerprint += ModelEquality.fingerprint(this.annotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.index) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.relative) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    GoToDestinationActionGoTo,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+} from "./../index";
+
+export interface GoToDestinationActionInterface extends ActionEventInterface {
+
+    _goTo?: GoToDestinationActionGoTo;
+
+}
+export class GoToDestinationAction extends ActionEvent implements GoToDestinationActionInterface, Parameter {
+    _goTo?: GoToDestinationActionGoTo;
+
+    constructor(data: any) {
+        super(data);
+
+        this._goTo = GoToDestinationActionGoTo.fromJson(data?.goTo);
+    }
+
+    public static getGoToDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): GoToDestinationAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new GoToDestinationAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<GoToDestinationAction> {
+        return ModelStream.decodeArray(source, GoToDestinationAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'goTo': this._goTo?.toJson(),
+        };
+    }
+
+    public clone(): GoToDestinationAction {
+        return GoToDestinationAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "_goTo", data?.goTo, GoToDestinationActionGoTo.fromJson, GoToDestinationActionGoTo) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this._goTo, other._goTo)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this._goTo);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "GoToDestinationAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this._goTo) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
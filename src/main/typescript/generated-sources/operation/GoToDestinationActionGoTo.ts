@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    DestinationEvent,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface GoToDestinationActionGoToInterface  {
+
+    destination?: DestinationEvent;
+
+}
+export class GoToDestinationActionGoTo implements GoToDestinationActionGoToInterface, Parameter {
+    destination?: DestinationEvent;
+
+    constructor(data: any) {
+        this.destination = DestinationEvent.fromJson(data?.destination);
+    }
+
+    public static getDestinationDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): GoToDestinationActionGoTo {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new GoToDestinationActionGoTo(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<GoToDestinationActionGoTo> {
+        return ModelStream.decodeArray(source, GoToDestinationActionGoTo.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'destination': this.destination?.toJson(),
+        };
+    }
+
+    public clone(): GoToDestinationActionGoTo {
+        return GoToDestinationActionGoTo.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "destination", data?.destination, DestinationEvent.fromJson) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.destination, other.destination)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.destination);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "GoToDestinationActionGoTo(";
+        fingerprint += ModelEquality.fingerprint(this.destination) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
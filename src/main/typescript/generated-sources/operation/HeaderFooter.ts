@@ -0,0 +1,208 @@
+import {
+    ModelAssignment,
+    PagesHeaderFooter,
+    HeaderFooterDate,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    OptionsFont,
+    HeaderFooterPositions,
+    OptionsMargin,
+} from "./../index";
+
+export interface HeaderFooterInterface  {
+
+    date?: HeaderFooterDate;
+    /**
+    * Used to specify the starting page for page number formats.
+    */
+    firstPageNumber?: number;
+    font?: OptionsFont;
+    footer?: HeaderFooterPositions;
+    header?: HeaderFooterPositions;
+    margin?: OptionsMargin;
+    pages?: PagesHeaderFooter;
+    /**
+    * If true, preexisting header and footer definition will be automatically deleted from all pages of the document and replaced with the new one. If false, preexisting header and footer definitions on any page of the document will cause the operation to be aborted.
+    */
+    replaceExisting?: boolean;
+
+}
+export class HeaderFooter implements HeaderFooterInterface, Parameter {
+    date?: HeaderFooterDate;
+    /**
+    * Used to specify the starting page for page number formats.
+    */
+    firstPageNumber?: number;
+    font?: OptionsFont;
+    footer?: HeaderFooterPositions;
+    header?: HeaderFooterPositions;
+    margin?: OptionsMargin;
+    pages?: PagesHeaderFooter;
+    /**
+    * If true, preexisting header and footer definition will be automatically deleted from all pages of the document and replaced with the new one. If false, preexisting header and footer definitions on any page of the document will cause the operation to be aborted.
+    */
+    replaceExisting?: boolean;
+
+    constructor(data: any) {
+        this.date = HeaderFooterDate.fromJson(data?.date);
+        let firstPageNumberDefault: any = 1;
+        this.firstPageNumber = typeof data?.firstPageNumber !== "undefined" ? data?.firstPageNumber : firstPageNumberDefault;
+        this.font = OptionsFont.fromJson(data?.font);
+        this.footer = HeaderFooterPositions.fromJson(data?.footer);
+        this.header = HeaderFooterPositions.fromJson(data?.header);
+        this.margin = OptionsMargin.fromJson(data?.margin);
+        this.pages = PagesHeaderFooter.fromJson(data?.pages);
+        let replaceExistingDefault: any = false;
+        this.replaceExisting = typeof data?.replaceExisting !== "undefined" ? data?.replaceExisting : replaceExistingDefault;
+    }
+
+    public static getDateDescription(): string {
+        return "";
+    }
+
+    public static getFirstPageNumberDefault(): number {
+        return 1;
+    }
+
+    public static getFirstPageNumberDescription(): string {
+        return "Used to specify the starting page for page number formats.";
+    }
+
+    public static getFirstPageNumberMin(): number {
+        return 1;
+    }
+
+    public static getFontDescription(): string {
+        return "";
+    }
+
+    public static getFooterDescription(): string {
+        return "";
+    }
+
+    public static getHeaderDescription(): string {
+        return "";
+    }
+
+    public static getMarginDescription(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "";
+    }
+
+    public static getReplaceExistingDefault(): boolean {
+        return false;
+    }
+
+    public static getReplaceExistingDescription(): string {
+        return "If true, preexisting header and footer definition will be automatically deleted from all pages of the document and replaced with the new one. If false, preexisting header and footer definitions on any page of the document will cause the operation to be aborted.";
+    }
+
+    public static fromJson(data: any): HeaderFooter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HeaderFooter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HeaderFooter> {
+        return ModelStream.decodeArray(source, HeaderFooter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'date': this.date?.toJson(),
+            'firstPageNumber': this.firstPageNumber,
+            'font': this.font?.toJson(),
+            'footer': this.footer?.toJson(),
+            'header': this.header?.toJson(),
+            'margin': this.margin?.toJson(),
+            'pages': this.pages?.toJson(),
+            'replaceExisting': this.replaceExisting,
+        };
+    }
+
+    public clone(): HeaderFooter {
+        return HeaderFooter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "date", data?.date, HeaderFooterDate.fromJson, HeaderFooterDate) || changed;
+        changed = ModelAssignment.assignValue(this, "firstPageNumber", typeof data?.firstPageNumber !== "undefined" ? data?.firstPageNumber : 1) || changed;
+        changed = ModelAssignment.assignModel(this, "font", data?.font, OptionsFont.fromJson, OptionsFont) || changed;
+        changed = ModelAssignment.assignModel(this, "footer", data?.footer, HeaderFooterPositions.fromJson, HeaderFooterPositions) || changed;
+        changed = ModelAssignment.assignModel(this, "header", data?.header, HeaderFooterPositions.fromJson, HeaderFooterPositions) || changed;
+        changed = ModelAssignment.assignModel(this, "margin", data?.margin, OptionsMargin.fromJson, OptionsMargin) || changed;
+        changed = ModelAssignment.assignModel(this, "pages", data?.pages, PagesHeaderFooter.fromJson, PagesHeaderFooter) || changed;
+        changed = ModelAssignment.assignValue(this, "replaceExisting", typeof data?.replaceExisting !== "undefined" ? data?.replaceExisting : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.date, other.date)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.firstPageNumber, other.firstPageNumber)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.font, other.font)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.footer, other.footer)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.header, other.header)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.margin, other.margin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.replaceExisting, other.replaceExisting)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.date);
+        hash = ModelEquality.hash(hash, this.firstPageNumber);
+        hash = ModelEquality.hash(hash, this.font);
+        hash = ModelEquality.hash(hash, this.footer);
+        hash = ModelEquality.hash(hash, this.header);
+        hash = ModelEquality.hash(hash, this.margin);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.replaceExisting);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HeaderFooter(";
+        fingerprint += ModelEquality.fingerprint(this.date) + ",";
+        fingerprint += ModelEquality.fingerprint(this.firstPageNumber) + ",";
+        fingerprint += ModelEquality.fingerprint(this.font) + ",";
+        fingerprint += ModelEquality.fingerprint(this.footer) + ",";
+        fingerprint += ModelEquality.fingerprint(this.header) + ",";
+        fingerprint += ModelEquality.fingerprint(this.margin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.replaceExisting) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
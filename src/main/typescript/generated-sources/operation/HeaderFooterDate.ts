@@ -0,0 +1,156 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface HeaderFooterDateInterface  {
+
+    /**
+    * The day of the month.
+    */
+    day?: number;
+    /**
+    * The selected month.
+    */
+    month?: number;
+    /**
+    * The selected year.
+    */
+    year?: number;
+
+}
+export class HeaderFooterDate implements HeaderFooterDateInterface, Parameter {
+    /**
+    * The day of the month.
+    */
+    day?: number;
+    /**
+    * The selected month.
+    */
+    month?: number;
+    /**
+    * The selected year.
+    */
+    year?: number;
+
+    constructor(data: any) {
+        let dayDefault: any = 0;
+        this.day = typeof data?.day !== "undefined" ? data?.day : dayDefault;
+        let monthDefault: any = 0;
+        this.month = typeof data?.month !== "undefined" ? data?.month : monthDefault;
+        let yearDefault: any = 0;
+        this.year = typeof data?.year !== "undefined" ? data?.year : yearDefault;
+    }
+
+    public static getDayDefault(): number {
+        return 0;
+    }
+
+    public static getDayDescription(): string {
+        return "The day of the month.";
+    }
+
+    public static getDayMin(): number {
+        return 1;
+    }
+
+    public static getDayMax(): number {
+        return 31;
+    }
+
+    public static getMonthDefault(): number {
+        return 0;
+    }
+
+    public static getMonthDescription(): string {
+        return "The selected month.";
+    }
+
+    public static getMonthMin(): number {
+        return 1;
+    }
+
+    public static getMonthMax(): number {
+        return 12;
+    }
+
+    public static getYearDefault(): number {
+        return 0;
+    }
+
+    public static getYearDescription(): string {
+        return "The selected year.";
+    }
+
+    public static fromJson(data: any): HeaderFooterDate {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HeaderFooterDate(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HeaderFooterDate> {
+        return ModelStream.decodeArray(source, HeaderFooterDate.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'day': this.day,
+            'month': this.month,
+            'year': this.year,
+        };
+    }
+
+    public clone(): HeaderFooterDate {
+        return HeaderFooterDate.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "day", typeof data?.day !== "undefined" ? data?.day : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "month", typeof data?.month !== "undefined" ? data?.month : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "year", typeof data?.year !== "undefined" ? data?.year : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.day, other.day)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.month, other.month)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.year, other.year)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.day);
+        hash = ModelEquality.hash(hash, this.month);
+        hash = ModelEquality.hash(hash, this.year);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HeaderFooterDate(";
+        fingerprint += ModelEquality.fingerprint(this.day) + ",";
+        fingerprint += ModelEquality.fingerprint(this.month) + ",";
+        fingerprint += ModelEquality.fingerprint(this.year) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
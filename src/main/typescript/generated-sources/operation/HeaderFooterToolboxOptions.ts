@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    AddHeaderFooter,
+    ModelStream,
+    RemoveHeaderFooter,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface HeaderFooterToolboxOptionsInterface  {
+
+    add?: AddHeaderFooter;
+    remove?: RemoveHeaderFooter;
+
+}
+export class HeaderFooterToolboxOptions implements HeaderFooterToolboxOptionsInterface, Parameter {
+    add?: AddHeaderFooter;
+    remove?: RemoveHeaderFooter;
+
+    constructor(data: any) {
+        this.add = AddHeaderFooter.fromJson(data?.add);
+        this.remove = RemoveHeaderFooter.fromJson(data?.remove);
+    }
+
+    public static getAddDescription(): string {
+        return "";
+    }
+
+    public static getRemoveDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): HeaderFooterToolboxOptions {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HeaderFooterToolboxOptions(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HeaderFooterToolboxOptions> {
+        return ModelStream.decodeArray(source, HeaderFooterToolboxOptions.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'add': this.add?.toJson(),
+            'remove': this.remove?.toJson(),
+        };
+    }
+
+    public clone(): HeaderFooterToolboxOptions {
+        return HeaderFooterToolboxOptions.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "add", data?.add, AddHeaderFooter.fromJson, AddHeaderFooter) || changed;
+        changed = ModelAssignment.assignModel(this, "remove", data?.remove, RemoveHeaderFooter.fromJson, RemoveHeaderFooter) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.add, other.add)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.remove, other.remove)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.add);
+        hash = ModelEquality.hash(hash, this.remove);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HeaderFooterToolboxOptions(";
+        fingerprint += ModelEquality.fingerprint(this.add) + ",";
+        fingerprint += ModelEquality.fingerprint(this.remove) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
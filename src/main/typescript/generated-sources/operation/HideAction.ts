@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+    HideActionHideAnnotation,
+} from "./../index";
+
+export interface HideActionInterface extends ActionEventInterface {
+
+    hideAnnotation?: HideActionHideAnnotation;
+
+}
+export class HideAction extends ActionEvent implements HideActionInterface, Parameter {
+    hideAnnotation?: HideActionHideAnnotation;
+
+    constructor(data: any) {
+        super(data);
+
+        this.hideAnnotation = HideActionHideAnnotation.fromJson(data?.hideAnnotation);
+    }
+
+    public static getHideAnnotationDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): HideAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HideAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HideAction> {
+        return ModelStream.decodeArray(source, HideAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'hideAnnotation': this.hideAnnotation?.toJson(),
+        };
+    }
+
+    public clone(): HideAction {
+        return HideAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "hideAnnotation", data?.hideAnnotation, HideActionHideAnnotation.fromJson, HideActionHideAnnotation) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hideAnnotation, other.hideAnnotation)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.hideAnnotation);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HideAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.hideAnnotation) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    AnnotationSelection,
+} from "./../index";
+
+export interface HideActionHideAnnotationInterface  {
+
+    annotation?: Array<AnnotationSelection>;
+    /**
+    * Used to define whether the selected annotations should be hidden or shown.
+    */
+    hide?: boolean;
+
+}
+export class HideActionHideAnnotation implements HideActionHideAnnotationInterface, Parameter {
+    annotation?: Array<AnnotationSelection>;
+    /**
+    * Used to define whether the selected annotations should be hidden or shown.
+    */
+    hide?: boolean;
+
+    constructor(data: any) {
+        this.annotation = (data?.annotation || []).map(
+            AnnotationSelection.fromJson
+        );
+        let hideDefault: any = true;
+        this.hide = typeof data?.hide !== "undefined" ? data?.hide : hideDefault;
+    }
+
+    public static getAnnotationDefault(): Array<AnnotationSelection> {
+        return [];
+    }
+
+    public static getAnnotationDescription(): string {
+        return "";
+    }
+
+    public static getHideDefault(): boolean {
+        return true;
+    }
+
+    public static getHideDescription(): string {
+        return "Used to define whether the selected annotations should be hidden or shown.";
+    }
+
+    public static fromJson(data: any): HideActionHideAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HideActionHideAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HideActionHideAnnotation> {
+        return ModelStream.decodeArray(source, HideActionHideAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'annotation': this.annotation?.map((data) => data.toJson()),
+            'hide': this.hide,
+        };
+    }
+
+    public clone(): HideActionHideAnnotation {
+        return HideActionHideAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "annotation", data?.annotation, AnnotationSelection.fromJson, AnnotationSelection) || changed;
+        changed = ModelAssignment.assignValue(this, "hide", typeof data?.hide !== "undefined" ? data?.hide : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.annotation, other.annotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hide, other.hide)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.annotation);
+        hash = ModelEquality.hash(hash, this.hide);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HideActionHideAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.annotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hide) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    SvgFormat,
+    ModelEquality,
+} from "./../index";
+
+export interface HtmlTranscribeInterface  {
+
+    /**
+    * This parameter sets the DPI resolution of the document. The larger the value, the larger the X/Y resolution of the document's pages and generated raster graphics. Also, as the DPI resolution increases, so does the byte size of the document.
+    */
+    dpi?: number;
+    /**
+    * Specifies which page(s) to convert. The page number can be either a single page, a range of pages or a list (separated by commas) (e.g. \"1,5-6,9\"). The specification of all pages is done with \"\\*\".
+    */
+    pages?: string;
+    svgFormat?: SvgFormat;
+
+}
+export class HtmlTranscribe implements HtmlTranscribeInterface, Parameter {
+    /**
+    * This parameter sets the DPI resolution of the document. The larger the value, the larger the X/Y resolution of the document's pages and generated raster graphics. Also, as the DPI resolution increases, so does the byte size of the document.
+    */
+    dpi?: number;
+    /**
+    * Specifies which page(s) to convert. The page number can be either a single page, a range of pages or a list (separated by commas) (e.g. \"1,5-6,9\"). The specification of all pages is done with \"\\*\".
+    */
+    pages?: string;
+    svgFormat?: SvgFormat;
+
+    constructor(data: any) {
+        let dpiDefault: any = 72;
+        this.dpi = typeof data?.dpi !== "undefined" ? data?.dpi : dpiDefault;
+        let pagesDefault: any = "1";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        this.svgFormat = SvgFormat.fromJson(data?.svgFormat);
+    }
+
+    public static getDpiDefault(): number {
+        return 72;
+    }
+
+    public static getDpiDescription(): string {
+        return "This parameter sets the DPI resolution of the document. The larger the value, the larger the X\/Y resolution of the document's pages and generated raster graphics. Also, as the DPI resolution increases, so does the byte size of the document.";
+    }
+
+    public static getDpiMin(): number {
+        return 0;
+    }
+
+    public static getDpiMax(): number {
+        return 9600;
+    }
+
+    public static getPagesDefault(): string {
+        return "1";
+    }
+
+    public static getPagesDescription(): string {
+        return "Specifies which page(s) to convert. The page number can be either a single page, a range of pages or a list (separated by commas) (e.g. \"1,5-6,9\"). The specification of all pages is done with \"\\*\".";
+    }
+
+    public static getSvgFormatDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): HtmlTranscribe {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HtmlTranscribe(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HtmlTranscribe> {
+        return ModelStream.decodeArray(source, HtmlTranscribe.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'dpi': this.dpi,
+            'pages': this.pages,
+            'svgFormat': this.svgFormat?.toJson(),
+        };
+    }
+
+    public clone(): HtmlTranscribe {
+        return HtmlTranscribe.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "dpi", typeof data?.dpi !== "undefined" ? data?.dpi : 72) || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "1") || changed;
+        changed = ModelAssignment.assignModel(this, "svgFormat", data?.svgFormat, SvgFormat.fromJson, SvgFormat) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dpi, other.dpi)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.svgFormat, other.svgFormat)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.dpi);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.svgFormat);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HtmlTranscribe(";
+        fingerprint += ModelEquality.fingerprint(this.dpi) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.svgFormat) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface HttpBasicAuthInterface  {
+
+    /**
+    * Password if the URL requests an authentication of the \"Basic Authentication\" type.
+    */
+    password?: string;
+    /**
+    * Username if the URL requests an authentication of the \"Basic Authentication\" type.
+    */
+    userName?: string;
+
+}
+export class HttpBasicAuth implements HttpBasicAuthInterface, Parameter {
+    /**
+    * Password if the URL requests an authentication of the \"Basic Authentication\" type.
+    */
+    password?: string;
+    /**
+    * Username if the URL requests an authentication of the \"Basic Authentication\" type.
+    */
+    userName?: string;
+
+    constructor(data: any) {
+        let passwordDefault: any = "";
+        this.password = typeof data?.password !== "undefined" ? data?.password : passwordDefault;
+        let userNameDefault: any = "";
+        this.userName = typeof data?.userName !== "undefined" ? data?.userName : userNameDefault;
+    }
+
+    public static getPasswordDefault(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "Password if the URL requests an authentication of the \"Basic Authentication\" type.";
+    }
+
+    public static getUserNameDefault(): string {
+        return "";
+    }
+
+    public static getUserNameDescription(): string {
+        return "Username if the URL requests an authentication of the \"Basic Authentication\" type.";
+    }
+
+    public static fromJson(data: any): HttpBasicAuth {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HttpBasicAuth(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HttpBasicAuth> {
+        return ModelStream.decodeArray(source, HttpBasicAuth.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'password': this.password,
+            'userName': this.userName,
+        };
+    }
+
+    public clone(): HttpBasicAuth {
+        return HttpBasicAuth.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "password", typeof data?.password !== "undefined" ? data?.password : "") || changed;
+        changed = ModelAssignment.assignValue(this, "userName", typeof data?.userName !== "undefined" ? data?.userName : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userName, other.userName)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.userName);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HttpBasicAuth(";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userName) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
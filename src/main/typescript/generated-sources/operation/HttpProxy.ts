@@ -0,0 +1,169 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface HttpProxyInterface  {
+
+    /**
+    * The address at which the proxy server can be reached.
+    */
+    address?: string;
+    /**
+    * Password if access to the proxy service requires authentication.
+    */
+    password?: string;
+    /**
+    * The port that should be used to access the proxy server.
+    */
+    port?: number;
+    /**
+    * Username if access to the proxy service requires authentication.
+    */
+    userName?: string;
+
+}
+export class HttpProxy implements HttpProxyInterface, Parameter {
+    /**
+    * The address at which the proxy server can be reached.
+    */
+    address?: string;
+    /**
+    * Password if access to the proxy service requires authentication.
+    */
+    password?: string;
+    /**
+    * The port that should be used to access the proxy server.
+    */
+    port?: number;
+    /**
+    * Username if access to the proxy service requires authentication.
+    */
+    userName?: string;
+
+    constructor(data: any) {
+        let addressDefault: any = "";
+        this.address = typeof data?.address !== "undefined" ? data?.address : addressDefault;
+        let passwordDefault: any = "";
+        this.password = typeof data?.password !== "undefined" ? data?.password : passwordDefault;
+        let portDefault: any = 0;
+        this.port = typeof data?.port !== "undefined" ? data?.port : portDefault;
+        let userNameDefault: any = "";
+        this.userName = typeof data?.userName !== "undefined" ? data?.userName : userNameDefault;
+    }
+
+    public static getAddressDefault(): string {
+        return "";
+    }
+
+    public static getAddressDescription(): string {
+        return "The address at which the proxy server can be reached.";
+    }
+
+    public static getPasswordDefault(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "Password if access to the proxy service requires authentication.";
+    }
+
+    public static getPortDefault(): number {
+        return 0;
+    }
+
+    public static getPortDescription(): string {
+        return "The port that should be used to access the proxy server.";
+    }
+
+    public static getPortMin(): number {
+        return 0;
+    }
+
+    public static getUserNameDefault(): string {
+        return "";
+    }
+
+    public static getUserNameDescription(): string {
+        return "Username if access to the proxy service requires authentication.";
+    }
+
+    public static fromJson(data: any): HttpProxy {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HttpProxy(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HttpProxy> {
+        return ModelStream.decodeArray(source, HttpProxy.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'address': this.address,
+            'password': this.password,
+            'port': this.port,
+            'userName': this.userName,
+        };
+    }
+
+    public clone(): HttpProxy {
+        return HttpProxy.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "address", typeof data?.address !== "undefined" ? data?.address : "") || changed;
+        changed = ModelAssignment.assignValue(this, "password", typeof data?.password !== "undefined" ? data?.password : "") || changed;
+        changed = ModelAssignment.assignValue(this, "port", typeof data?.port !== "undefined" ? data?.port : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "userName", typeof data?.userName !== "undefined" ? data?.userName : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.address, other.address)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.port, other.port)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userName, other.userName)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.address);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.port);
+        hash = ModelEquality.hash(hash, this.userName);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HttpProxy(";
+        fingerprint += ModelEquality.fingerprint(this.address) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.port) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userName) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
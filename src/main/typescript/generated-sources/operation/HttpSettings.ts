@@ -0,0 +1,148 @@
+import {
+    ModelAssignment,
+    HttpSettingsTimeout,
+    ModelStream,
+    Parameter,
+    HttpSettingsSSL,
+    ModelEquality,
+    HttpSettingsHeader,
+} from "./../index";
+
+export interface HttpSettingsInterface  {
+
+    followRedirect?: boolean;
+    headers?: HttpSettingsHeader;
+    ssl?: HttpSettingsSSL;
+    timeout?: HttpSettingsTimeout;
+    userAgent?: string;
+
+}
+export class HttpSettings implements HttpSettingsInterface, Parameter {
+    followRedirect?: boolean;
+    headers?: HttpSettingsHeader;
+    ssl?: HttpSettingsSSL;
+    timeout?: HttpSettingsTimeout;
+    userAgent?: string;
+
+    constructor(data: any) {
+        let followRedirectDefault: any = true;
+        this.followRedirect = typeof data?.followRedirect !== "undefined" ? data?.followRedirect : followRedirectDefault;
+        this.headers = HttpSettingsHeader.fromJson(data?.headers);
+        this.ssl = HttpSettingsSSL.fromJson(data?.ssl);
+        this.timeout = HttpSettingsTimeout.fromJson(data?.timeout);
+        let userAgentDefault: any = "";
+        this.userAgent = typeof data?.userAgent !== "undefined" ? data?.userAgent : userAgentDefault;
+    }
+
+    public static getFollowRedirectDefault(): boolean {
+        return true;
+    }
+
+    public static getFollowRedirectDescription(): string {
+        return "";
+    }
+
+    public static getHeadersDescription(): string {
+        return "";
+    }
+
+    public static getSslDescription(): string {
+        return "";
+    }
+
+    public static getTimeoutDescription(): string {
+        return "";
+    }
+
+    public static getUserAgentDefault(): string {
+        return "";
+    }
+
+    public static getUserAgentDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): HttpSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HttpSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HttpSettings> {
+        return ModelStream.decodeArray(source, HttpSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'followRedirect': this.followRedirect,
+            'headers': this.headers?.toJson(),
+            'ssl': this.ssl?.toJson(),
+            'timeout': this.timeout?.toJson(),
+            'userAgent': this.userAgent,
+        };
+    }
+
+    public clone(): HttpSettings {
+        return HttpSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "followRedirect", typeof data?.followRedirect !== "undefined" ? data?.followRedirect : true) || changed;
+        changed = ModelAssignment.assignModel(this, "headers", data?.headers, HttpSettingsHeader.fromJson, HttpSettingsHeader) || changed;
+        changed = ModelAssignment.assignModel(this, "ssl", data?.ssl, HttpSettingsSSL.fromJson, HttpSettingsSSL) || changed;
+        changed = ModelAssignment.assignModel(this, "timeout", data?.timeout, HttpSettingsTimeout.fromJson, HttpSettingsTimeout) || changed;
+        changed = ModelAssignment.assignValue(this, "userAgent", typeof data?.userAgent !== "undefined" ? data?.userAgent : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.followRedirect, other.followRedirect)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.headers, other.headers)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ssl, other.ssl)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.timeout, other.timeout)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userAgent, other.userAgent)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.followRedirect);
+        hash = ModelEquality.hash(hash, this.headers);
+        hash = ModelEquality.hash(hash, this.ssl);
+        hash = ModelEquality.hash(hash, this.timeout);
+        hash = ModelEquality.hash(hash, this.userAgent);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HttpSettings(";
+        fingerprint += ModelEquality.fingerprint(this.followRedirect) + ",";
+        fingerprint += ModelEquality.fingerprint(this.headers) + ",";
+        fingerprint += ModelEquality.fingerprint(this.ssl) + ",";
+        fingerprint += ModelEquality.fingerprint(this.timeout) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userAgent) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
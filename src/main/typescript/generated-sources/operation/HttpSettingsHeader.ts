@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    HttpSettingsHeaderEntry,
+    ModelEquality,
+} from "./../index";
+
+export interface HttpSettingsHeaderInterface  {
+
+    header?: Array<HttpSettingsHeaderEntry>;
+
+}
+export class HttpSettingsHeader implements HttpSettingsHeaderInterface, Parameter {
+    header?: Array<HttpSettingsHeaderEntry>;
+
+    constructor(data: any) {
+        this.header = (data?.header || []).map(
+            HttpSettingsHeaderEntry.fromJson
+        );
+    }
+
+    public static getHeaderDefault(): Array<HttpSettingsHeaderEntry> {
+        return [];
+    }
+
+    public static getHeaderDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): HttpSettingsHeader {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HttpSettingsHeader(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HttpSettingsHeader> {
+        return ModelStream.decodeArray(source, HttpSettingsHeader.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'header': this.header?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): HttpSettingsHeader {
+        return HttpSettingsHeader.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "header", data?.header, HttpSettingsHeaderEntry.fromJson, HttpSettingsHeaderEntry) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.header, other.header)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.header);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HttpSettingsHeader(";
+        fingerprint += ModelEquality.fingerprint(this.header) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ProtocolsHttpSettingsSSL,
+    CiphersHttpSettingsSSL,
+} from "./../index";
+
+export interface HttpSettingsSSLInterface  {
+
+    ciphers?: CiphersHttpSettingsSSL;
+    protocols?: ProtocolsHttpSettingsSSL;
+
+}
+export class HttpSettingsSSL implements HttpSettingsSSLInterface, Parameter {
+    ciphers?: CiphersHttpSettingsSSL;
+    protocols?: ProtocolsHttpSettingsSSL;
+
+    constructor(data: any) {
+        this.ciphers = CiphersHttpSettingsSSL.fromJson(data?.ciphers);
+        this.protocols = ProtocolsHttpSettingsSSL.fromJson(data?.protocols);
+    }
+
+    public static getCiphersDescription(): string {
+        return "";
+    }
+
+    public static getProtocolsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): HttpSettingsSSL {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HttpSettingsSSL(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HttpSettingsSSL> {
+        return ModelStream.decodeArray(source, HttpSettingsSSL.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'ciphers': this.ciphers?.toJson(),
+            'protocols': this.protocols?.toJson(),
+        };
+    }
+
+    public clone(): HttpSettingsSSL {
+        return HttpSettingsSSL.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "ciphers", data?.ciphers, CiphersHttpSettingsSSL.fromJson, CiphersHttpSettingsSSL) || changed;
+        changed = ModelAssignment.assignModel(this, "protocols", data?.protocols, ProtocolsHttpSettingsSSL.fromJson, ProtocolsHttpSettingsSSL) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ciphers, other.ciphers)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.protocols, other.protocols)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.ciphers);
+        hash = ModelEquality.hash(hash, this.protocols);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HttpSettingsSSL(";
+        fingerprint += ModelEquality.fingerprint(this.ciphers) + ",";
+        fingerprint += ModelEquality.fingerprint(this.protocols) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum HttpSettingsSSLProtocol {
+
+    TLSv13 = 'TLSv1.3',
+    TLSv12 = 'TLSv1.2',
+    TLSv1 = 'TLSv1',
+    TLSv11 = 'TLSv1.1'
+
+}
\ No newline at end of file
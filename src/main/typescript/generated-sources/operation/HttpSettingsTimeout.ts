@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface HttpSettingsTimeoutInterface  {
+
+    /**
+    * Sets the timeout for the connection establishment of the HTTP requests.
+    */
+    connect?: number;
+    /**
+    * Sets the timeout to wait for the arrival of a response to the HTTP request.
+    */
+    response?: number;
+
+}
+export class HttpSettingsTimeout implements HttpSettingsTimeoutInterface, Parameter {
+    /**
+    * Sets the timeout for the connection establishment of the HTTP requests.
+    */
+    connect?: number;
+    /**
+    * Sets the timeout to wait for the arrival of a response to the HTTP request.
+    */
+    response?: number;
+
+    constructor(data: any) {
+        let connectDefault: any = 10000;
+        this.connect = typeof data?.connect !== "undefined" ? data?.connect : connectDefault;
+        let responseDefault: any = 60000;
+        this.response = typeof data?.response !== "undefined" ? data?.response : responseDefault;
+    }
+
+    public static getConnectDefault(): number {
+        return 10000;
+    }
+
+    public static getConnectDescription(): string {
+        return "Sets the timeout for the connection establishment of the HTTP requests.";
+    }
+
+    public static getResponseDefault(): number {
+        return 60000;
+    }
+
+    public static getResponseDescription(): string {
+        return "Sets the timeout to wait for the arrival of a response to the HTTP request.";
+    }
+
+    public static fromJson(data: any): HttpSettingsTimeout {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new HttpSettingsTimeout(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<HttpSettingsTimeout> {
+        return ModelStream.decodeArray(source, HttpSettingsTimeout.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'connect': this.connect,
+            'response': this.response,
+        };
+    }
+
+    public clone(): HttpSettingsTimeout {
+        return HttpSettingsTimeout.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "connect", typeof data?.connect !== "undefined" ? data?.connect : 10000) || changed;
+        changed = ModelAssignment.assignValue(this, "response", typeof data?.response !== "undefined" ? data?.response : 60000) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.connect, other.connect)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.response, other.response)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.connect);
+        hash = ModelEquality.hash(hash, this.response);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "HttpSettingsTimeout(";
+        fingerprint += ModelEquality.fingerprint(this.connect) + ",";
+        fingerprint += ModelEquality.fingerprint(this.response) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+export enum Icons {
+
+    Paperclip = 'paperclip',
+    Graph = 'graph',
+    PushPin = 'pushPin',
+    Tag = 'tag',
+    None = 'none'
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    BackgroundBaseSettings,
+    ModelStream,
+    Parameter,
+    BackgroundFileData,
+    ModelEquality,
+} from "./../index";
+
+export interface ImageBackgroundInterface  {
+
+    image: BackgroundFileData;
+    settings?: BackgroundBaseSettings;
+
+}
+export class ImageBackground implements ImageBackgroundInterface, Parameter {
+    image: BackgroundFileData;
+    settings?: BackgroundBaseSettings;
+
+    constructor(data: any) {
+        this.image = BackgroundFileData.fromJson(data.image);
+        this.settings = BackgroundBaseSettings.fromJson(data?.settings);
+    }
+
+    public static getImageDescription(): string {
+        return "";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ImageBackground {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ImageBackground(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ImageBackground> {
+        return ModelStream.decodeArray(source, ImageBackground.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'image': this.image?.toJson(),
+            'settings': this.settings?.toJson(),
+        };
+    }
+
+    public clone(): ImageBackground {
+        return ImageBackground.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "image", data.image, BackgroundFileData.fromJson, BackgroundFileData) || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, BackgroundBaseSettings.fromJson, BackgroundBaseSettings) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.image, other.image)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.image);
+        hash = ModelEquality.hash(hash, this.settings);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ImageBackground(";
+        fingerprint += ModelEquality.fingerprint(this.image) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,469 @@
+import {
+    ModelAssignment,
+    OptimizationIntensity,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ImageOptimizationInterface  {
+
+    /**
+    * Straight scans of pages can be created with a slight skew. If this value is set to true, an attempt is made to counter-rotate this skew and thus \"deskew\" the page. The results of this manipulation are visible in the resulting document.
+    */
+    deskew?: boolean;
+    /**
+    * If this mode is set, impurities and stains are reduced. These are caused, for example, by dust or dirt on the pane of a scanner. It is recommended to activate this optimization.
+    */
+    despeckle?: boolean;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    edgeAccentuation?: OptimizationIntensity;
+    /**
+    * Allows in combination with the edgeAccentuation mode \"value\" the free choice of a value for this optimization. An integer percentage value indicates the intensity of the edge accentuation. The actual image is overlaid with a corresponding sharpening filter for the edge accentuation - this percentage value specifies how intensively this effect should be emphasized compared to the original image. The predefined values range between 100 (low) and 200 percent (high).
+    */
+    edgeAccentuationValue?: number;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    gammaCorrection?: OptimizationIntensity;
+    /**
+    * Allows in combination with the gammaCorrection mode \"value\" the free choice of a value for this optimization. A comma value greater than 0 specifies the value to be applied to the image as gamma correction. The predefined values range between 1.5 (low) and 2.5 (high).
+    */
+    gammaCorrectionValue?: number;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    increaseContrast?: OptimizationIntensity;
+    /**
+    * Allows in combination with the increaseContrast mode \"value\" the free choice of a value for this optimization. An integer value between -100 and +100 specifies the intensity of the contrast enhancement. The predefined values range between 25 (low) and 75 (high).
+    */
+    increaseContrastValue?: number;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    medianFilter?: OptimizationIntensity;
+    /**
+    * Allows, in combination with the medianFilter mode \"value\", the free choice of a value for this optimization. An integer value greater than 0 specifies the grid size with which the effect is to be applied to the image. The predefined values range between 1 (low) and 3 (high).
+    */
+    medianFilterValue?: number;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    noiseReduction?: OptimizationIntensity;
+    /**
+    * Allows in combination with the noiseReduction mode \"value\" the free choice of a value for this optimization. A decimal value greater than 0 indicates the intensity with which the effect is to be applied to the image. The predefined values range between 1.0 (low) and 3.0 (high).
+    */
+    noiseReductionValue?: number;
+    /**
+    * In black and white images (including black and white scans), color values are often represented by a halftone according to their brightness (dithering / moiré effect). These halftones/hatchings translate a color value into a uniform sequence of black and white areas that visually appear to be a uniform area of the same color/brightness. Such patterns can be very difficult to delineate against actual text that may be in such a \"colored\" area. Setting this value to true will try to reduce such dithering patterns. This mode should only be set if absolutely necessary, as this process can be very lossy.
+    */
+    reduceDithering?: boolean;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    sharpen?: OptimizationIntensity;
+    /**
+    * Allows in combination with the sharpen mode \"value\" the free choice of a value for this optimization. A comma value greater than 0 indicates the intensity with which the effect is to be applied to the image. The predefined values range between 1.0 (low) and 3.0 (high).
+    */
+    sharpenValue?: number;
+
+}
+export class ImageOptimization implements ImageOptimizationInterface, Parameter {
+    /**
+    * Straight scans of pages can be created with a slight skew. If this value is set to true, an attempt is made to counter-rotate this skew and thus \"deskew\" the page. The results of this manipulation are visible in the resulting document.
+    */
+    deskew?: boolean;
+    /**
+    * If this mode is set, impurities and stains are reduced. These are caused, for example, by dust or dirt on the pane of a scanner. It is recommended to activate this optimization.
+    */
+    despeckle?: boolean;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    edgeAccentuation?: OptimizationIntensity;
+    /**
+    * Allows in combination with the edgeAccentuation mode \"value\" the free choice of a value for this optimization. An integer percentage value indicates the intensity of the edge accentuation. The actual image is overlaid with a corresponding sharpening filter for the edge accentuation - this percentage value specifies how intensively this effect should be emphasized compared to the original image. The predefined values range between 100 (low) and 200 percent (high).
+    */
+    edgeAccentuationValue?: number;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    gammaCorrection?: OptimizationIntensity;
+    /**
+    * Allows in combination with the gammaCorrection mode \"value\" the free choice of a value for this optimization. A comma value greater than 0 specifies the value to be applied to the image as gamma correction. The predefined values range between 1.5 (low) and 2.5 (high).
+    */
+    gammaCorrectionValue?: number;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    increaseContrast?: OptimizationIntensity;
+    /**
+    * Allows in combination with the increaseContrast mode \"value\" the free choice of a value for this optimization. An integer value between -100 and +100 specifies the intensity of the contrast enhancement. The predefined values range between 25 (low) and 75 (high).
+    */
+    increaseContrastValue?: number;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    medianFilter?: OptimizationIntensity;
+    /**
+    * Allows, in combination with the medianFilter mode \"value\", the free choice of a value for this optimization. An integer value greater than 0 specifies the grid size with which the effect is to be applied to the image. The predefined values range between 1 (low) and 3 (high).
+    */
+    medianFilterValue?: number;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    noiseReduction?: OptimizationIntensity;
+    /**
+    * Allows in combination with the noiseReduction mode \"value\" the free choice of a value for this optimization. A decimal value greater than 0 indicates the intensity with which the effect is to be applied to the image. The predefined values range between 1.0 (low) and 3.0 (high).
+    */
+    noiseReductionValue?: number;
+    /**
+    * In black and white images (including black and white scans), color values are often represented by a halftone according to their brightness (dithering / moiré effect). These halftones/hatchings translate a color value into a uniform sequence of black and white areas that visually appear to be a uniform area of the same color/brightness. Such patterns can be very difficult to delineate against actual text that may be in such a \"colored\" area. Setting this value to true will try to reduce such dithering patterns. This mode should only be set if absolutely necessary, as this process can be very lossy.
+    */
+    reduceDithering?: boolean;
+    /**
+    * If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.  *   off = Do not apply this optimization *   value = Select your own value *   low = Apply optimization only with low intensity to avoid information loss. *   medium = Perform optimization with medium intensity. *   high = Perform optimization with strong intensity and accept possible information losses.
+    */
+    sharpen?: OptimizationIntensity;
+    /**
+    * Allows in combination with the sharpen mode \"value\" the free choice of a value for this optimization. A comma value greater than 0 indicates the intensity with which the effect is to be applied to the image. The predefined values range between 1.0 (low) and 3.0 (high).
+    */
+    sharpenValue?: number;
+
+    constructor(data: any) {
+        let deskewDefault: any = true;
+        this.deskew = typeof data?.deskew !== "undefined" ? data?.deskew : deskewDefault;
+        let despeckleDefault: any = true;
+        this.despeckle = typeof data?.despeckle !== "undefined" ? data?.despeckle : despeckleDefault;
+        let edgeAccentuationDefault: any = "low";
+        this.edgeAccentuation = typeof data?.edgeAccentuation !== "undefined" ? data?.edgeAccentuation : edgeAccentuationDefault;
+        let edgeAccentuationValueDefault: any = 100;
+        this.edgeAccentuationValue = typeof data?.edgeAccentuationValue !== "undefined" ? data?.edgeAccentuationValue : edgeAccentuationValueDefault;
+        let gammaCorrectionDefault: any = "off";
+        this.gammaCorrection = typeof data?.gammaCorrection !== "undefined" ? data?.gammaCorrection : gammaCorrectionDefault;
+        let gammaCorrectionValueDefault: any = 0.0;
+        this.gammaCorrectionValue = typeof data?.gammaCorrectionValue !== "undefined" ? data?.gammaCorrectionValue : gammaCorrectionValueDefault;
+        let increaseContrastDefault: any = "off";
+        this.increaseContrast = typeof data?.increaseContrast !== "undefined" ? data?.increaseContrast : increaseContrastDefault;
+        let increaseContrastValueDefault: any = 0;
+        this.increaseContrastValue = typeof data?.increaseContrastValue !== "undefined" ? data?.increaseContrastValue : increaseContrastValueDefault;
+        let medianFilterDefault: any = "low";
+        this.medianFilter = typeof data?.medianFilter !== "undefined" ? data?.medianFilter : medianFilterDefault;
+        let medianFilterValueDefault: any = 1;
+        this.medianFilterValue = typeof data?.medianFilterValue !== "undefined" ? data?.medianFilterValue : medianFilterValueDefault;
+        let noiseReductionDefault: any = "low";
+        this.noiseReduction = typeof data?.noiseReduction !== "undefined" ? data?.noiseReduction : noiseReductionDefault;
+        let noiseReductionValueDefault: any = 1.0;
+        this.noiseReductionValue = typeof data?.noiseReductionValue !== "undefined" ? data?.noiseReductionValue : noiseReductionValueDefault;
+        let reduceDitheringDefault: any = false;
+        this.reduceDithering = typeof data?.reduceDithering !== "undefined" ? data?.reduceDithering : reduceDitheringDefault;
+        let sharpenDefault: any = "low";
+        this.sharpen = typeof data?.sharpen !== "undefined" ? data?.sharpen : sharpenDefault;
+        let sharpenValueDefault: any = 1.0;
+        this.sharpenValue = typeof data?.sharpenValue !== "undefined" ? data?.sharpenValue : sharpenValueDefault;
+    }
+
+    public static getDeskewDefault(): boolean {
+        return true;
+    }
+
+    public static getDeskewDescription(): string {
+        return "Straight scans of pages can be created with a slight skew. If this value is set to true, an attempt is made to counter-rotate this skew and thus \"deskew\" the page. The results of this manipulation are visible in the resulting document.";
+    }
+
+    public static getDespeckleDefault(): boolean {
+        return true;
+    }
+
+    public static getDespeckleDescription(): string {
+        return "If this mode is set, impurities and stains are reduced. These are caused, for example, by dust or dirt on the pane of a scanner. It is recommended to activate this optimization.";
+    }
+
+    public static getEdgeAccentuationDefault(): OptimizationIntensity {
+        return "low" as OptimizationIntensity;
+    }
+
+    public static getEdgeAccentuationDescription(): string {
+        return "If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.\n\n*   off = Do not apply this optimization\n*   value = Select your own value\n*   low = Apply optimization only with low intensity to avoid information loss.\n*   medium = Perform optimization with medium intensity.\n*   high = Perform optimization with strong intensity and accept possible information losses.";
+    }
+
+    public static getEdgeAccentuationValueDefault(): number {
+        return 100;
+    }
+
+    public static getEdgeAccentuationValueDescription(): string {
+        return "Allows in combination with the edgeAccentuation mode \"value\" the free choice of a value for this optimization. An integer percentage value indicates the intensity of the edge accentuation. The actual image is overlaid with a corresponding sharpening filter for the edge accentuation - this percentage value specifies how intensively this effect should be emphasized compared to the original image. The predefined values range between 100 (low) and 200 percent (high).";
+    }
+
+    public static getEdgeAccentuationValueMin(): number {
+        return 0;
+    }
+
+    public static getGammaCorrectionDefault(): OptimizationIntensity {
+        return "off" as OptimizationIntensity;
+    }
+
+    public static getGammaCorrectionDescription(): string {
+        return "If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.\n\n*   off = Do not apply this optimization\n*   value = Select your own value\n*   low = Apply optimization only with low intensity to avoid information loss.\n*   medium = Perform optimization with medium intensity.\n*   high = Perform optimization with strong intensity and accept possible information losses.";
+    }
+
+    public static getGammaCorrectionValueDefault(): number {
+        return 0.0;
+    }
+
+    public static getGammaCorrectionValueDescription(): string {
+        return "Allows in combination with the gammaCorrection mode \"value\" the free choice of a value for this optimization. A comma value greater than 0 specifies the value to be applied to the image as gamma correction. The predefined values range between 1.5 (low) and 2.5 (high).";
+    }
+
+    public static getGammaCorrectionValueMin(): number {
+        return 0;
+    }
+
+    public static getIncreaseContrastDefault(): OptimizationIntensity {
+        return "off" as OptimizationIntensity;
+    }
+
+    public static getIncreaseContrastDescription(): string {
+        return "If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.\n\n*   off = Do not apply this optimization\n*   value = Select your own value\n*   low = Apply optimization only with low intensity to avoid information loss.\n*   medium = Perform optimization with medium intensity.\n*   high = Perform optimization with strong intensity and accept possible information losses.";
+    }
+
+    public static getIncreaseContrastValueDefault(): number {
+        return 0;
+    }
+
+    public static getIncreaseContrastValueDescription(): string {
+        return "Allows in combination with the increaseContrast mode \"value\" the free choice of a value for this optimization. An integer value between -100 and +100 specifies the intensity of the contrast enhancement. The predefined values range between 25 (low) and 75 (high).";
+    }
+
+    public static getIncreaseContrastValueMin(): number {
+        return -100;
+    }
+
+    public static getIncreaseContrastValueMax(): number {
+        return 100;
+    }
+
+    public static getMedianFilterDefault(): OptimizationIntensity {
+        return "low" as OptimizationIntensity;
+    }
+
+    public static getMedianFilterDescription(): string {
+        return "If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.\n\n*   off = Do not apply this optimization\n*   value = Select your own value\n*   low = Apply optimization only with low intensity to avoid information loss.\n*   medium = Perform optimization with medium intensity.\n*   high = Perform optimization with strong intensity and accept possible information losses.";
+    }
+
+    public static getMedianFilterValueDefault(): number {
+        return 1;
+    }
+
+    public static getMedianFilterValueDescription(): string {
+        return "Allows, in combination with the medianFilter mode \"value\", the free choice of a value for this optimization. An integer value greater than 0 specifies the grid size with which the effect is to be applied to the image. The predefined values range between 1 (low) and 3 (high).";
+    }
+
+    public static getMedianFilterValueMin(): number {
+        return 0;
+    }
+
+    public static getNoiseReductionDefault(): OptimizationIntensity {
+        return "low" as OptimizationIntensity;
+    }
+
+    public static getNoiseReductionDescription(): string {
+        return "If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.\n\n*   off = Do not apply this optimization\n*   value = Select your own value\n*   low = Apply optimization only with low intensity to avoid information loss.\n*   medium = Perform optimization with medium intensity.\n*   high = Perform optimization with strong intensity and accept possible information losses.";
+    }
+
+    public static getNoiseReductionValueDefault(): number {
+        return 1.0;
+    }
+
+    public static getNoiseReductionValueDescription(): string {
+        return "Allows in combination with the noiseReduction mode \"value\" the free choice of a value for this optimization. A decimal value greater than 0 indicates the intensity with which the effect is to be applied to the image. The predefined values range between 1.0 (low) and 3.0 (high).";
+    }
+
+    public static getNoiseReductionValueMin(): number {
+        return 0;
+    }
+
+    public static getReduceDitheringDefault(): boolean {
+        return false;
+    }
+
+    public static getReduceDitheringDescription(): string {
+        return "In black and white images (including black and white scans), color values are often represented by a halftone according to their brightness (dithering \/ moir\u00E9 effect). These halftones\/hatchings translate a color value into a uniform sequence of black and white areas that visually appear to be a uniform area of the same color\/brightness. Such patterns can be very difficult to delineate against actual text that may be in such a \"colored\" area. Setting this value to true will try to reduce such dithering patterns. This mode should only be set if absolutely necessary, as this process can be very lossy.";
+    }
+
+    public static getSharpenDefault(): OptimizationIntensity {
+        return "low" as OptimizationIntensity;
+    }
+
+    public static getSharpenDescription(): string {
+        return "If this value is set, edge sharpening is applied to the image. This optimization usually leads to significantly better recognition results, but can also lead to information loss.\n\n*   off = Do not apply this optimization\n*   value = Select your own value\n*   low = Apply optimization only with low intensity to avoid information loss.\n*   medium = Perform optimization with medium intensity.\n*   high = Perform optimization with strong intensity and accept possible information losses.";
+    }
+
+    public static getSharpenValueDefault(): number {
+        return 1.0;
+    }
+
+    public static getSharpenValueDescription(): string {
+        return "Allows in combination with the sharpen mode \"value\" the free choice of a value for this optimization. A comma value greater than 0 indicates the intensity with which the effect is to be applied to the image. The predefined values range between 1.0 (low) and 3.0 (high).";
+    }
+
+    public static getSharpenValueMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): ImageOptimization {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ImageOptimization(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ImageOptimization> {
+        return ModelStream.decodeArray(source, ImageOptimization.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'deskew': this.deskew,
+            'despeckle': this.despeckle,
+            'edgeAccentuation': this.edgeAccentuation,
+            'edgeAccentuationValue': this.edgeAccentuationValue,
+            'gammaCorrection': this.gammaCorrection,
+            'gammaCorrectionValue': this.gammaCorrectionValue,
+            'increaseContrast': this.increaseContrast,
+            'increaseContrastValue': this.increaseContrastValue,
+            'medianFilter': this.medianFilter,
+            'medianFilterValue': this.medianFilterValue,
+            'noiseReduction': this.noiseReduction,
+            'noiseReductionValue': this.noiseReductionValue,
+            'reduceDithering': this.reduceDithering,
+            'sharpen': this.sharpen,
+            'sharpenValue': this.sharpenValue,
+        };
+    }
+
+    public clone(): ImageOptimization {
+        return ImageOptimization.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "deskew", typeof data?.deskew !== "undefined" ? data?.deskew : true) || changed;
+        changed = ModelAssignment.assignValue(this, "despeckle", typeof data?.despeckle !== "undefined" ? data?.despeckle : true) || changed;
+        changed = ModelAssignment.assignValue(this, "edgeAccentuation", typeof data?.edgeAccentuation !== "undefined" ? data?.edgeAccentuation : "low") || changed;
+        changed = ModelAssignment.assignValue(this, "edgeAccentuationValue", typeof data?.edgeAccentuationValue !== "undefined" ? data?.edgeAccentuationValue : 100) || changed;
+        changed = ModelAssignment.assignValue(this, "gammaCorrection", typeof data?.gammaCorrection !== "undefined" ? data?.gammaCorrection : "off") || changed;
+        changed = ModelAssignment.assignValue(this, "gammaCorrectionValue", typeof data?.gammaCorrectionValue !== "undefined" ? data?.gammaCorrectionValue : 0.0) || changed;
+        changed = ModelAssignment.assignValue(this, "increaseContrast", typeof data?.increaseContrast !== "undefined" ? data?.increaseContrast : "off") || changed;
+        changed = ModelAssignment.assignValue(this, "increaseContrastValue", typeof data?.increaseContrastValue !== "undefined" ? data?.increaseContrastValue : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "medianFilter", typeof data?.medianFilter !== "undefined" ? data?.medianFilter : "low") || changed;
+        changed = ModelAssignment.assignValue(this, "medianFilterValue", typeof data?.medianFilterValue !== "undefined" ? data?.medianFilterValue : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "noiseReduction", typeof data?.noiseReduction !== "undefined" ? data?.noiseReduction : "low") || changed;
+        changed = ModelAssignment.assignValue(this, "noiseReductionValue", typeof data?.noiseReductionValue !== "undefined" ? data?.noiseReductionValue : 1.0) || changed;
+        changed = ModelAssignment.assignValue(this, "reduceDithering", typeof data?.reduceDithering !== "undefined" ? data?.reduceDithering : false) || changed;
+        changed = ModelAssignment.assignValue(this, "sharpen", typeof data?.sharpen !== "undefined" ? data?.sharpen : "low") || changed;
+        changed = ModelAssignment.assignValue(this, "sharpenValue", typeof data?.sharpenValue !== "undefined" ? data?.sharpenValue : 1.0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.deskew, other.deskew)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.despeckle, other.despeckle)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.edgeAccentuation, other.edgeAccentuation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.edgeAccentuationValue, other.edgeAccentuationValue)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.gammaCorrection, other.gammaCorrection)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.gammaCorrectionValue, other.gammaCorrectionValue)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.increaseContrast, other.increaseContrast)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.increaseContrastValue, other.increaseContrastValue)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.medianFilter, other.medianFilter)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.medianFilterValue, other.medianFilterValue)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.noiseReduction, other.noiseReduction)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.noiseReductionValue, other.noiseReductionValue)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.reduceDithering, other.reduceDithering)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sharpen, other.sharpen)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sharpenValue, other.sharpenValue)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.deskew);
+        hash = ModelEquality.hash(hash, this.despeckle);
+        hash = ModelEquality.hash(hash, this.edgeAccentuation);
+        hash = ModelEquality.hash(hash, this.edgeAccentuationValue);
+        hash = ModelEquality.hash(hash, this.gammaCorrection);
+        hash = ModelEquality.hash(hash, this.gammaCorrectionValue);
+        hash = ModelEquality.hash(hash, this.increaseContrast);
+        hash = ModelEquality.hash(hash, this.increaseContrastValue);
+        hash = ModelEquality.hash(hash, this.medianFilter);
+        hash = ModelEquality.hash(hash, this.medianFilterValue);
+        hash = ModelEquality.hash(hash, this.noiseReduction);
+        hash = ModelEquality.hash(hash, this.noiseReductionValue);
+        hash = ModelEquality.hash(hash, this.reduceDithering);
+        hash = ModelEquality.hash(hash, this.sharpen);
+        hash = ModelEquality.hash(hash, this.sharpenValue);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ImageOptimization(";
+        fingerprint += ModelEquality.fingerprint(this.deskew) + ",";
+        fingerprint += ModelEquality.fingerprint(this.despeckle) + ",";
+        fingerprint += ModelEquality.fingerprint(this.edgeAccentuation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.edgeAccentuationValue) + ",";
+        fingerprint += ModelEquality.fingerprint(this.gammaCorrection) + ",";
+        fingerprint += ModelEquality.fingerprint(this.gammaCorrectionValue) + ",";
+        fingerprint += ModelEquality.fingerprint(this.increaseContrast) + ",";
+        fingerprint += ModelEquality.fingerprint(this.increaseContrastValue) + ",";
+        fingerprint += ModelEquality.fingerprint(this.medianFilter) + ",";
+        fingerprint += ModelEquality.fingerprint(this.medianFilterValue) + ",";
+        fingerprint += ModelEquality.fingerprint(this.noiseReduction) + ",";
+        fingerprint += ModelEquality.fingerprint(this.noiseReductionValue) + ",";
+        fingerprint += ModelEquality.fingerprint(this.reduceDithering) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sharpen) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sharpenValue) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
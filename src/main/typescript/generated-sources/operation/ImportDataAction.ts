@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ImportDataActionImportSchema,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+} from "./../index";
+
+export interface ImportDataActionInterface extends ActionEventInterface {
+
+    importSchema?: ImportDataActionImportSchema;
+
+}
+export class ImportDataAction extends ActionEvent implements ImportDataActionInterface, Parameter {
+    importSchema?: ImportDataActionImportSchema;
+
+    constructor(data: any) {
+        super(data);
+
+        this.importSchema = ImportDataActionImportSchema.fromJson(data?.importSchema);
+    }
+
+    public static getImportSchemaDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ImportDataAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ImportDataAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ImportDataAction> {
+        return ModelStream.decodeArray(source, ImportDataAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'importSchema': this.importSchema?.toJson(),
+        };
+    }
+
+    public clone(): ImportDataAction {
+        return ImportDataAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "importSchema", data?.importSchema, ImportDataActionImportSchema.fromJson, ImportDataActionImportSchema) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.importSchema, other.importSchema)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.importSchema);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ImportDataAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.importSchema) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    FileSpecification,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ImportDataActionImportSchemaInterface  {
+
+    file: FileSpecification;
+
+}
+export class ImportDataActionImportSchema implements ImportDataActionImportSchemaInterface, Parameter {
+    file: FileSpecification;
+
+    constructor(data: any) {
+        this.file = FileSpecification.fromJson(data.file);
+    }
+
+    public static getFileDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ImportDataActionImportSchema {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ImportDataActionImportSchema(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ImportDataActionImportSchema> {
+        return ModelStream.decodeArray(source, ImportDataActionImportSchema.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'file': this.file?.toJson(),
+        };
+    }
+
+    public clone(): ImportDataActionImportSchema {
+        return ImportDataActionImportSchema.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "file", data.file, FileSpecification.fromJson, FileSpecification) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.file, other.file)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.file);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ImportDataActionImportSchema(";
+        fingerprint += ModelEquality.fingerprint(this.file) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
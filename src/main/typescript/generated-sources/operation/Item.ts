@@ -0,0 +1,262 @@
+import {
+    ModelAssignment,
+    AddPosition,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ItemInterface  {
+
+    actions?: Array<ActionEvent>;
+    /**
+    * If this value is set to true, the element's name will be shown in bold.
+    */
+    bold?: boolean;
+    /**
+    * Used to set the colour that will be used to display the element's name. The hereby defined color needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * If this value is set to true, the element will already be expanded when the document is opened.
+    */
+    isOpen?: boolean;
+    /**
+    * If this value is set to true, the element's name will be shown in italics.
+    */
+    italic?: boolean;
+    /**
+    * The name of the new entry in the content structure that should be placed relative to the selected path.
+    */
+    itemName?: string;
+    /**
+    * The element paths are made of the visible names of the entries in the content structure separated with forward slashes (/), starting with an initial slash.
+    */
+    path?: string;
+    /**
+    * Selects the position where the entry should be created. The path passed in \"path\" will be interpreted based on this value.  *   before = An entry will be generated on the same level before the entry that was selected with \"path. *   inplace = The entry selected with \"path\" will be treated as a parent element and will contain the new generated entry. *   after = An entry will be generated on the same level after the entry that was selected with \"path.
+    */
+    pathPosition?: AddPosition;
+
+}
+export class Item implements ItemInterface, Parameter {
+    actions?: Array<ActionEvent>;
+    /**
+    * If this value is set to true, the element's name will be shown in bold.
+    */
+    bold?: boolean;
+    /**
+    * Used to set the colour that will be used to display the element's name. The hereby defined color needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * If this value is set to true, the element will already be expanded when the document is opened.
+    */
+    isOpen?: boolean;
+    /**
+    * If this value is set to true, the element's name will be shown in italics.
+    */
+    italic?: boolean;
+    /**
+    * The name of the new entry in the content structure that should be placed relative to the selected path.
+    */
+    itemName?: string;
+    /**
+    * The element paths are made of the visible names of the entries in the content structure separated with forward slashes (/), starting with an initial slash.
+    */
+    path?: string;
+    /**
+    * Selects the position where the entry should be created. The path passed in \"path\" will be interpreted based on this value.  *   before = An entry will be generated on the same level before the entry that was selected with \"path. *   inplace = The entry selected with \"path\" will be treated as a parent element and will contain the new generated entry. *   after = An entry will be generated on the same level after the entry that was selected with \"path.
+    */
+    pathPosition?: AddPosition;
+
+    constructor(data: any) {
+        this.actions = (data?.actions || []).map(
+            ActionEvent.fromJson
+        );
+        let boldDefault: any = false;
+        this.bold = typeof data?.bold !== "undefined" ? data?.bold : boldDefault;
+        let colorDefault: any = "#000000";
+        this.color = typeof data?.color !== "undefined" ? data?.color : colorDefault;
+        let isOpenDefault: any = false;
+        this.isOpen = typeof data?.isOpen !== "undefined" ? data?.isOpen : isOpenDefault;
+        let italicDefault: any = false;
+        this.italic = typeof data?.italic !== "undefined" ? data?.italic : italicDefault;
+        let itemNameDefault: any = "";
+        this.itemName = typeof data?.itemName !== "undefined" ? data?.itemName : itemNameDefault;
+        let pathDefault: any = "";
+        this.path = typeof data?.path !== "undefined" ? data?.path : pathDefault;
+        let pathPositionDefault: any = "inplace";
+        this.pathPosition = typeof data?.pathPosition !== "undefined" ? data?.pathPosition : pathPositionDefault;
+    }
+
+    public static getActionsDefault(): Array<ActionEvent> {
+        return [];
+    }
+
+    public static getActionsDescription(): string {
+        return "";
+    }
+
+    public static getBoldDefault(): boolean {
+        return false;
+    }
+
+    public static getBoldDescription(): string {
+        return "If this value is set to true, the element's name will be shown in bold.";
+    }
+
+    public static getColorDefault(): string {
+        return "#000000";
+    }
+
+    public static getColorDescription(): string {
+        return "Used to set the colour that will be used to display the element's name. The hereby defined color needs to be specified as a hexadecimal RGB value with a number sign before it.";
+    }
+
+    public static getIsOpenDefault(): boolean {
+        return false;
+    }
+
+    public static getIsOpenDescription(): string {
+        return "If this value is set to true, the element will already be expanded when the document is opened.";
+    }
+
+    public static getItalicDefault(): boolean {
+        return false;
+    }
+
+    public static getItalicDescription(): string {
+        return "If this value is set to true, the element's name will be shown in italics.";
+    }
+
+    public static getItemNameDefault(): string {
+        return "";
+    }
+
+    public static getItemNameDescription(): string {
+        return "The name of the new entry in the content structure that should be placed relative to the selected path.";
+    }
+
+    public static getPathDefault(): string {
+        return "";
+    }
+
+    public static getPathDescription(): string {
+        return "The element paths are made of the visible names of the entries in the content structure separated with forward slashes (\/), starting with an initial slash.";
+    }
+
+    public static getPathPositionDefault(): AddPosition {
+        return "inplace" as AddPosition;
+    }
+
+    public static getPathPositionDescription(): string {
+        return "Selects the position where the entry should be created. The path passed in \"path\" will be interpreted based on this value.\n\n*   before = An entry will be generated on the same level before the entry that was selected with \"path.\n*   inplace = The entry selected with \"path\" will be treated as a parent element and will contain the new generated entry.\n*   after = An entry will be generated on the same level after the entry that was selected with \"path.";
+    }
+
+    public static fromJson(data: any): Item {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Item(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Item> {
+        return ModelStream.decodeArray(source, Item.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'actions': this.actions?.map((data) => data.toJson()),
+            'bold': this.bold,
+            'color': this.color,
+            'isOpen': this.isOpen,
+            'italic': this.italic,
+            'itemName': this.itemName,
+            'path': this.path,
+            'pathPosition': this.pathPosition,
+        };
+    }
+
+    public clone(): Item {
+        return Item.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "actions", data?.actions, ActionEvent.fromJson) || changed;
+        changed = ModelAssignment.assignValue(this, "bold", typeof data?.bold !== "undefined" ? data?.bold : false) || changed;
+        changed = ModelAssignment.assignValue(this, "color", typeof data?.color !== "undefined" ? data?.color : "#000000") || changed;
+        changed = ModelAssignment.assignValue(this, "isOpen", typeof data?.isOpen !== "undefined" ? data?.isOpen : false) || changed;
+        changed = ModelAssignment.assignValue(this, "italic", typeof data?.italic !== "undefined" ? data?.italic : false) || changed;
+        changed = ModelAssignment.assignValue(this, "itemName", typeof data?.itemName !== "undefined" ? data?.itemName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "path", typeof data?.path !== "undefined" ? data?.path : "") || changed;
+        changed = ModelAssignment.assignValue(this, "pathPosition", typeof data?.pathPosition !== "undefined" ? data?.pathPosition : "inplace") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.actions, other.actions)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bold, other.bold)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.color, other.color)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.isOpen, other.isOpen)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.italic, other.italic)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.itemName, other.itemName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.path, other.path)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pathPosition, other.pathPosition)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.actions);
+        hash = ModelEquality.hash(hash, this.bold);
+        hash = ModelEquality.hash(hash, this.color);
+        hash = ModelEquality.hash(hash, this.isOpen);
+        hash = ModelEquality.hash(hash, this.italic);
+        hash = ModelEquality.hash(hash, this.itemName);
+        hash = ModelEquality.hash(hash, this.path);
+        hash = ModelEquality.hash(hash, this.pathPosition);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Item(";
+        fingerprint += ModelEquality.fingerprint(this.actions) + ",";
+        fingerprint += ModelEquality.fingerprint(this.bold) + ",";
+        fingerprint += ModelEquality.fingerprint(this.color) + ",";
+        fingerprint += ModelEquality.fingerprint(this.isOpen) + ",";
+        fingerprint += ModelEquality.fingerprint(this.italic) + ",";
+        fingerprint += ModelEquality.fingerprint(this.itemName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.path) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pathPosition) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ItemReferenceInterface  {
+
+    /**
+    * The element paths are made of the visible names of the entries in the content structure separated with forward slashes (/), starting with an initial slash.
+    */
+    path?: string;
+
+}
+export class ItemReference implements ItemReferenceInterface, Parameter {
+    /**
+    * The element paths are made of the visible names of the entries in the content structure separated with forward slashes (/), starting with an initial slash.
+    */
+    path?: string;
+
+    constructor(data: any) {
+        let pathDefault: any = "";
+        this.path = typeof data?.path !== "undefined" ? data?.path : pathDefault;
+    }
+
+    public static getPathDefault(): string {
+        return "";
+    }
+
+    public static getPathDescription(): string {
+        return "The element paths are made of the visible names of the entries in the content structure separated with forward slashes (\/), starting with an initial slash.";
+    }
+
+    public static fromJson(data: any): ItemReference {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ItemReference(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ItemReference> {
+        return ModelStream.decodeArray(source, ItemReference.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'path': this.path,
+        };
+    }
+
+    public clone(): ItemReference {
+        return ItemReference.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "path", typeof data?.path !== "undefined" ? data?.path : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.path, other.path)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.path);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ItemReference(";
+        fingerprint += ModelEquality.fingerprint(this.path) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+    JavaScriptActionExecuteJavaScript,
+} from "./../index";
+
+export interface JavaScriptActionInterface extends ActionEventInterface {
+
+    executeJavaScript?: JavaScriptActionExecuteJavaScript;
+
+}
+export class JavaScriptAction extends ActionEvent implements JavaScriptActionInterface, Parameter {
+    executeJavaScript?: JavaScriptActionExecuteJavaScript;
+
+    constructor(data: any) {
+        super(data);
+
+        this.executeJavaScript = JavaScriptActionExecuteJavaScript.fromJson(data?.executeJavaScript);
+    }
+
+    public static getExecuteJavaScriptDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): JavaScriptAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new JavaScriptAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<JavaScriptAction> {
+        return ModelStream.decodeArray(source, JavaScriptAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'executeJavaScript': this.executeJavaScript?.toJson(),
+        };
+    }
+
+    public clone(): JavaScriptAction {
+        return JavaScriptAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "executeJavaScript", data?.executeJavaScript, JavaScriptActionExecuteJavaScript.fromJson, JavaScriptActionExecuteJavaScript) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.executeJavaScript, other.executeJavaScript)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.executeJavaScript);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "JavaScriptAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.executeJavaScript) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
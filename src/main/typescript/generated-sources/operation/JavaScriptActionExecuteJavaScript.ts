@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface JavaScriptActionExecuteJavaScriptInterface  {
+
+    /**
+    * A string that contains all the required JavaScript statements. References to libraries and external definitions will be valid as long as they are supported by the PDF standard and the reader application provides the corresponding interfaces.
+    */
+    jsAction?: string;
+
+}
+export class JavaScriptActionExecuteJavaScript implements JavaScriptActionExecuteJavaScriptInterface, Parameter {
+    /**
+    * A string that contains all the required JavaScript statements. References to libraries and external definitions will be valid as long as they are supported by the PDF standard and the reader application provides the corresponding interfaces.
+    */
+    jsAction?: string;
+
+    constructor(data: any) {
+        let jsActionDefault: any = "";
+        this.jsAction = typeof data?.jsAction !== "undefined" ? data?.jsAction : jsActionDefault;
+    }
+
+    public static getJsActionDefault(): string {
+        return "";
+    }
+
+    public static getJsActionDescription(): string {
+        return "A string that contains all the required JavaScript statements. References to libraries and external definitions will be valid as long as they are supported by the PDF standard and the reader application provides the corresponding interfaces.";
+    }
+
+    public static fromJson(data: any): JavaScriptActionExecuteJavaScript {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new JavaScriptActionExecuteJavaScript(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<JavaScriptActionExecuteJavaScript> {
+        return ModelStream.decodeArray(source, JavaScriptActionExecuteJavaScript.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'jsAction': this.jsAction,
+        };
+    }
+
+    public clone(): JavaScriptActionExecuteJavaScript {
+        return JavaScriptActionExecuteJavaScript.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "jsAction", typeof data?.jsAction !== "undefined" ? data?.jsAction : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.jsAction, other.jsAction)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.jsAction);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "JavaScriptActionExecuteJavaScript(";
+        fingerprint += ModelEquality.fingerprint(this.jsAction) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
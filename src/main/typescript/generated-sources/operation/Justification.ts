@@ -0,0 +1,7 @@
+export enum Justification {
+
+    LeftJustified = 'leftJustified',
+    RightJustified = 'rightJustified',
+    Centered = 'centered'
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    CertificateFileData,
+    Parameter,
+    ModelEquality,
+    PrivateKeyFileData,
+} from "./../index";
+
+export interface KeyPairInterface  {
+
+    certificate: CertificateFileData;
+    privateKey: PrivateKeyFileData;
+
+}
+export class KeyPair implements KeyPairInterface, Parameter {
+    certificate: CertificateFileData;
+    privateKey: PrivateKeyFileData;
+
+    constructor(data: any) {
+        this.certificate = CertificateFileData.fromJson(data.certificate);
+        this.privateKey = PrivateKeyFileData.fromJson(data.privateKey);
+    }
+
+    public static getCertificateDescription(): string {
+        return "";
+    }
+
+    public static getPrivateKeyDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): KeyPair {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new KeyPair(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<KeyPair> {
+        return ModelStream.decodeArray(source, KeyPair.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'certificate': this.certificate?.toJson(),
+            'privateKey': this.privateKey?.toJson(),
+        };
+    }
+
+    public clone(): KeyPair {
+        return KeyPair.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "certificate", data.certificate, CertificateFileData.fromJson, CertificateFileData) || changed;
+        changed = ModelAssignment.assignModel(this, "privateKey", data.privateKey, PrivateKeyFileData.fromJson, PrivateKeyFileData) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.certificate, other.certificate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.privateKey, other.privateKey)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.certificate);
+        hash = ModelEquality.hash(hash, this.privateKey);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "KeyPair(";
+        fingerprint += ModelEquality.fingerprint(this.certificate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.privateKey) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
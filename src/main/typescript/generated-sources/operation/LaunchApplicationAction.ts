@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+    LaunchApplicationActionLaunchApplication,
+} from "./../index";
+
+export interface LaunchApplicationActionInterface extends ActionEventInterface {
+
+    launchApplication?: LaunchApplicationActionLaunchApplication;
+
+}
+export class LaunchApplicationAction extends ActionEvent implements LaunchApplicationActionInterface, Parameter {
+    launchApplication?: LaunchApplicationActionLaunchApplication;
+
+    constructor(data: any) {
+        super(data);
+
+        this.launchApplication = LaunchApplicationActionLaunchApplication.fromJson(data?.launchApplication);
+    }
+
+    public static getLaunchApplicationDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): LaunchApplicationAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LaunchApplicationAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LaunchApplicationAction> {
+        return ModelStream.decodeArray(source, LaunchApplicationAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'launchApplication': this.launchApplication?.toJson(),
+        };
+    }
+
+    public clone(): LaunchApplicationAction {
+        return LaunchApplicationAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "launchApplication", data?.launchApplication, LaunchApplicationActionLaunchApplication.fromJson, LaunchApplicationActionLaunchApplication) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.launchApplication, other.launchApplication)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.launchApplication);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LaunchApplicationAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.launchApplication) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
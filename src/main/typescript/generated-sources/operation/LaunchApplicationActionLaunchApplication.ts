@@ -0,0 +1,121 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    FileSpecification,
+    Parameter,
+    ModelEquality,
+    LaunchParameter,
+    OpenMode,
+} from "./../index";
+
+export interface LaunchApplicationActionLaunchApplicationInterface  {
+
+    applicationPath?: FileSpecification;
+    launchParameters?: LaunchParameter;
+    /**
+    * Used to select the window in which the application / document should be opened.  *   userPreference = Uses the variant that is normal in the reader application or that has been configured by the user. *   newWindow = Forces the application or document to be opened in a new window. *   sameWindow = Attempts (if possible) to open the document in the current reader application window.
+    */
+    newWindow?: OpenMode;
+
+}
+export class LaunchApplicationActionLaunchApplication implements LaunchApplicationActionLaunchApplicationInterface, Parameter {
+    applicationPath?: FileSpecification;
+    launchParameters?: LaunchParameter;
+    /**
+    * Used to select the window in which the application / document should be opened.  *   userPreference = Uses the variant that is normal in the reader application or that has been configured by the user. *   newWindow = Forces the application or document to be opened in a new window. *   sameWindow = Attempts (if possible) to open the document in the current reader application window.
+    */
+    newWindow?: OpenMode;
+
+    constructor(data: any) {
+        this.applicationPath = FileSpecification.fromJson(data?.applicationPath);
+        this.launchParameters = LaunchParameter.fromJson(data?.launchParameters);
+        let newWindowDefault: any = "userPreferences";
+        this.newWindow = typeof data?.newWindow !== "undefined" ? data?.newWindow : newWindowDefault;
+    }
+
+    public static getApplicationPathDescription(): string {
+        return "";
+    }
+
+    public static getLaunchParametersDescription(): string {
+        return "";
+    }
+
+    public static getNewWindowDefault(): OpenMode {
+        return "userPreferences" as OpenMode;
+    }
+
+    public static getNewWindowDescription(): string {
+        return "Used to select the window in which the application \/ document should be opened.\n\n*   userPreference = Uses the variant that is normal in the reader application or that has been configured by the user.\n*   newWindow = Forces the application or document to be opened in a new window.\n*   sameWindow = Attempts (if possible) to open the document in the current reader application window.";
+    }
+
+    public static fromJson(data: any): LaunchApplicationActionLaunchApplication {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LaunchApplicationActionLaunchApplication(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LaunchApplicationActionLaunchApplication> {
+        return ModelStream.decodeArray(source, LaunchApplicationActionLaunchApplication.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'applicationPath': this.applicationPath?.toJson(),
+            'launchParameters': this.launchParameters?.toJson(),
+            'newWindow': this.newWindow,
+        };
+    }
+
+    public clone(): LaunchApplicationActionLaunchApplication {
+        return LaunchApplicationActionLaunchApplication.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "applicationPath", data?.applicationPath, FileSpecification.fromJson, FileSpecification) || changed;
+        changed = ModelAssignment.assignModel(this, "launchParameters", data?.launchParameters, LaunchParameter.fromJson, LaunchParameter) || changed;
+        changed = ModelAssignment.assignValue(this, "newWindow", typeof data?.newWindow !== "undefined" ? data?.newWindow : "userPreferences") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.applicationPath, other.applicationPath)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.launchParameters, other.launchParameters)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.newWindow, other.newWindow)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.applicationPath);
+        hash = ModelEquality.hash(hash, this.launchParameters);
+        hash = ModelEquality.hash(hash, this.newWindow);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LaunchApplicationActionLaunchApplication(";
+        fingerprint += ModelEquality.fingerprint(this.applicationPath) + ",";
+        fingerprint += ModelEquality.fingerprint(this.launchParameters) + ",";
+        fingerprint += ModelEquality.fingerprint(this.newWindow) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    WindowsLaunchParameter,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface LaunchParameterInterface  {
+
+    windows?: WindowsLaunchParameter;
+
+}
+export class LaunchParameter implements LaunchParameterInterface, Parameter {
+    windows?: WindowsLaunchParameter;
+
+    constructor(data: any) {
+        this.windows = WindowsLaunchParameter.fromJson(data?.windows);
+    }
+
+    public static getWindowsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): LaunchParameter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LaunchParameter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LaunchParameter> {
+        return ModelStream.decodeArray(source, LaunchParameter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'windows': this.windows?.toJson(),
+        };
+    }
+
+    public clone(): LaunchParameter {
+        return LaunchParameter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "windows", data?.windows, WindowsLaunchParameter.fromJson, WindowsLaunchParameter) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.windows, other.windows)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.windows);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LaunchParameter(";
+        fingerprint += ModelEquality.fingerprint(this.windows) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+import {
+    ModelAssignment,
+    OCGState,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    OCGSelection,
+} from "./../index";
+
+export interface LayerStateSetOCGStateActionInterface  {
+
+    referencedLayer?: Array<OCGSelection>;
+    /**
+    * The status change that should be carried out upon activation.  *   ON = The layer(s) will be shown. *   OFF = The layer(s) will be hidden. *   Toggle = The layer visibility will be switched.
+    */
+    state?: OCGState;
+
+}
+export class LayerStateSetOCGStateAction implements LayerStateSetOCGStateActionInterface, Parameter {
+    referencedLayer?: Array<OCGSelection>;
+    /**
+    * The status change that should be carried out upon activation.  *   ON = The layer(s) will be shown. *   OFF = The layer(s) will be hidden. *   Toggle = The layer visibility will be switched.
+    */
+    state?: OCGState;
+
+    constructor(data: any) {
+        this.referencedLayer = (data?.referencedLayer || []).map(
+            OCGSelection.fromJson
+        );
+        let stateDefault: any = "ON";
+        this.state = typeof data?.state !== "undefined" ? data?.state : stateDefault;
+    }
+
+    public static getReferencedLayerDefault(): Array<OCGSelection> {
+        return [];
+    }
+
+    public static getReferencedLayerDescription(): string {
+        return "";
+    }
+
+    public static getStateDefault(): OCGState {
+        return "ON" as OCGState;
+    }
+
+    public static getStateDescription(): string {
+        return "The status change that should be carried out upon activation.\n\n*   ON = The layer(s) will be shown.\n*   OFF = The layer(s) will be hidden.\n*   Toggle = The layer visibility will be switched.";
+    }
+
+    public static fromJson(data: any): LayerStateSetOCGStateAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LayerStateSetOCGStateAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LayerStateSetOCGStateAction> {
+        return ModelStream.decodeArray(source, LayerStateSetOCGStateAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'referencedLayer': this.referencedLayer?.map((data) => data.toJson()),
+            'state': this.state,
+        };
+    }
+
+    public clone(): LayerStateSetOCGStateAction {
+        return LayerStateSetOCGStateAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "referencedLayer", data?.referencedLayer, OCGSelection.fromJson, OCGSelection) || changed;
+        changed = ModelAssignment.assignValue(this, "state", typeof data?.state !== "undefined" ? data?.state : "ON") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.referencedLayer, other.referencedLayer)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.state, other.state)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.referencedLayer);
+        hash = ModelEquality.hash(hash, this.state);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LayerStateSetOCGStateAction(";
+        fingerprint += ModelEquality.fingerprint(this.referencedLayer) + ",";
+        fingerprint += ModelEquality.fingerprint(this.state) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+export enum Magnification {
+
+    FitActual = 'fitActual',
+    FitWidth = 'fitWidth',
+    FitVisible = 'fitVisible',
+    FitPage = 'fitPage',
+    Zoom = 'zoom',
+    FitHeight = 'fitHeight',
+    None = 'none'
+
+}
\ No newline at end of file
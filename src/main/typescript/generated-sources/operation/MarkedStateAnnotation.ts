@@ -0,0 +1,219 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface MarkedStateAnnotationInterface  {
+
+    /**
+    * Used to specify the author of the annotation.
+    */
+    creator?: string;
+    /**
+    * Marks or unmarks the annotated note.
+    */
+    markedState?: boolean;
+    /**
+    * Used to specify the name of the annotation.
+    */
+    name?: string;
+    /**
+    * Set the number of the page, the annotation shall be placed on.  **Important:** A reply shall always be placed on the same page as it's target annotation. This is mostly providing a hint where to find the selected annotation.
+    */
+    page?: number;
+    /**
+    * Selects the object id of the annotation, that this annotation shall be a reply to. The object id shall be given as a String that may contain either:  *   The numeric object ID itself *   The object ID followed by the generation number, separated by a space
+    */
+    replyTo?: string;
+    /**
+    * Used to specify the subject of the annotation.
+    */
+    subject?: string;
+
+}
+export class MarkedStateAnnotation implements MarkedStateAnnotationInterface, Parameter {
+    /**
+    * Used to specify the author of the annotation.
+    */
+    creator?: string;
+    /**
+    * Marks or unmarks the annotated note.
+    */
+    markedState?: boolean;
+    /**
+    * Used to specify the name of the annotation.
+    */
+    name?: string;
+    /**
+    * Set the number of the page, the annotation shall be placed on.  **Important:** A reply shall always be placed on the same page as it's target annotation. This is mostly providing a hint where to find the selected annotation.
+    */
+    page?: number;
+    /**
+    * Selects the object id of the annotation, that this annotation shall be a reply to. The object id shall be given as a String that may contain either:  *   The numeric object ID itself *   The object ID followed by the generation number, separated by a space
+    */
+    replyTo?: string;
+    /**
+    * Used to specify the subject of the annotation.
+    */
+    subject?: string;
+
+    constructor(data: any) {
+        let creatorDefault: any = "";
+        this.creator = typeof data?.creator !== "undefined" ? data?.creator : creatorDefault;
+        let markedStateDefault: any = true;
+        this.markedState = typeof data?.markedState !== "undefined" ? data?.markedState : markedStateDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        let replyToDefault: any = "";
+        this.replyTo = typeof data?.replyTo !== "undefined" ? data?.replyTo : replyToDefault;
+        let subjectDefault: any = "";
+        this.subject = typeof data?.subject !== "undefined" ? data?.subject : subjectDefault;
+    }
+
+    public static getCreatorDefault(): string {
+        return "";
+    }
+
+    public static getCreatorDescription(): string {
+        return "Used to specify the author of the annotation.";
+    }
+
+    public static getMarkedStateDefault(): boolean {
+        return true;
+    }
+
+    public static getMarkedStateDescription(): string {
+        return "Marks or unmarks the annotated note.";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "Used to specify the name of the annotation.";
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "Set the number of the page, the annotation shall be placed on.\n\n**Important:** A reply shall always be placed on the same page as it's target annotation. This is mostly providing a hint where to find the selected annotation.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static getReplyToDefault(): string {
+        return "";
+    }
+
+    public static getReplyToDescription(): string {
+        return "Selects the object id of the annotation, that this annotation shall be a reply to. The object id shall be given as a String that may contain either:\n\n*   The numeric object ID itself\n*   The object ID followed by the generation number, separated by a space";
+    }
+
+    public static getSubjectDefault(): string {
+        return "";
+    }
+
+    public static getSubjectDescription(): string {
+        return "Used to specify the subject of the annotation.";
+    }
+
+    public static fromJson(data: any): MarkedStateAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MarkedStateAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MarkedStateAnnotation> {
+        return ModelStream.decodeArray(source, MarkedStateAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'creator': this.creator,
+            'markedState': this.markedState,
+            'name': this.name,
+            'page': this.page,
+            'replyTo': this.replyTo,
+            'subject': this.subject,
+        };
+    }
+
+    public clone(): MarkedStateAnnotation {
+        return MarkedStateAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "creator", typeof data?.creator !== "undefined" ? data?.creator : "") || changed;
+        changed = ModelAssignment.assignValue(this, "markedState", typeof data?.markedState !== "undefined" ? data?.markedState : true) || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "replyTo", typeof data?.replyTo !== "undefined" ? data?.replyTo : "") || changed;
+        changed = ModelAssignment.assignValue(this, "subject", typeof data?.subject !== "undefined" ? data?.subject : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.creator, other.creator)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.markedState, other.markedState)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.replyTo, other.replyTo)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.subject, other.subject)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.creator);
+        hash = ModelEquality.hash(hash, this.markedState);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.replyTo);
+        hash = ModelEquality.hash(hash, this.subject);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MarkedStateAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.creator) + ",";
+        fingerprint += ModelEquality.fingerprint(this.markedState) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.replyTo) + ",";
+        fingerprint += ModelEquality.fingerprint(this.subject) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,518 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    MarkupsAnnotation,
+    Parameter,
+    ModelEquality,
+    PositionMarkupAnnotation,
+} from "./../index";
+
+export interface MarkupAnnotationInterface  {
+
+    /**
+    * The annotation color will change the main color of visible annotations. The color needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * This value is used to configure the text content of the annotation, with the way in which it is displayed depending heavily on the specific annotation type (for example, in the case of a text note, this would be the text content of the annotation's popup).
+    */
+    contents?: string;
+    /**
+    * Used to specify the author of the annotation.
+    */
+    creator?: string;
+    /**
+    * If this value is set to true, the annotation will not be shown on the page and will not be printed either.
+    */
+    hidden?: boolean;
+    /**
+    * Used to set the intention of the annotation.  **Important:** The intention of an annotation can directly influence it's behaviour and may serve different purposes for different annotation types. Only set this directly, if you know it is necessary and possible to do so.
+    */
+    intents?: string;
+    /**
+    * If this value is set to true, the annotation will be visible on the page only when printed, and provided it is a PDF standard annotation.
+    */
+    invisible?: boolean;
+    /**
+    * If this value is set to true, the annotation will be locked so that no changes can be made to it.
+    */
+    locked?: boolean;
+    /**
+    * Used to set the type of markup. The following values are available:  *   highlight = Highlights text *   underline = Underlines text with a straight line *   strikeOut = Strikes text through *   squiggly = Underlines text with a squiggly line
+    */
+    markupType?: MarkupsAnnotation;
+    /**
+    * Used to specify the name of the annotation.
+    */
+    name?: string;
+    /**
+    * This percentage value is used to set the annotation's transparency.
+    */
+    opacity?: number;
+    /**
+    * Set the number of the page, the annotation shall be placed on.
+    */
+    page?: number;
+    position?: PositionMarkupAnnotation;
+    /**
+    * If this value is set to true, the annotation will be included when the page is printed out.
+    */
+    printable?: boolean;
+    /**
+    * If this value is set to true, the annotation shall be rotatable according to the displayed page rotation.
+    */
+    rotatable?: boolean;
+    /**
+    * Used to specify the subject of the annotation.
+    */
+    subject?: string;
+    /**
+    * If this value is set to true, the annotation will be shown on the document's page.
+    */
+    viewable?: boolean;
+    /**
+    * If this value is set to true, it will be possible to change the annotation's contents later on.
+    */
+    writable?: boolean;
+    /**
+    * If this value is set to true, the annotation will adjust its own zoom factor as required for the page in order to always be clearly readable / recognizable.
+    */
+    zoomable?: boolean;
+
+}
+export class MarkupAnnotation implements MarkupAnnotationInterface, Parameter {
+    /**
+    * The annotation color will change the main color of visible annotations. The color needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * This value is used to configure the text content of the annotation, with the way in which it is displayed depending heavily on the specific annotation type (for example, in the case of a text note, this would be the text content of the annotation's popup).
+    */
+    contents?: string;
+    /**
+    * Used to specify the author of the annotation.
+    */
+    creator?: string;
+    /**
+    * If this value is set to true, the annotation will not be shown on the page and will not be printed either.
+    */
+    hidden?: boolean;
+    /**
+    * Used to set the intention of the annotation.  **Important:** The intention of an annotation can directly influence it's behaviour and may serve different purposes for different annotation types. Only set this directly, if you know it is necessary and possible to do so.
+    */
+    intents?: string;
+    /**
+    * If this value is set to true, the annotation will be visible on the page only when printed, and provided it is a PDF standard annotation.
+    */
+    invisible?: boolean;
+    /**
+    * If this value is set to true, the annotation will be locked so that no changes can be made to it.
+    */
+    locked?: boolean;
+    /**
+    * Used to set the type of markup. The following values are available:  *   highlight = Highlights text *   underline = Underlines text with a straight line *   strikeOut = Strikes text through *   squiggly = Underlines text with a squiggly line
+    */
+    markupType?: MarkupsAnnotation;
+    /**
+    * Used to specify the name of the annotation.
+    */
+    name?: string;
+    /**
+    * This percentage value is used to set the annotation's transparency.
+    */
+    opacity?: number;
+    /**
+    * Set the number of the page, the annotation shall be placed on.
+    */
+    page?: number;
+    position?: PositionMarkupAnnotation;
+    /**
+    * If this value is set to true, the annotation will be included when the page is printed out.
+    */
+    printable?: boolean;
+    /**
+    * If this value is set to true, the annotation shall be rotatable according to the displayed page rotation.
+    */
+    rotatable?: boolean;
+    /**
+    * Used to specify the subject of the annotation.
+    */
+    subject?: string;
+    /**
+    * If this value is set to true, the annotation will be shown on the document's page.
+    */
+    viewable?: boolean;
+    /**
+    * If this value is set to true, it will be possible to change the annotation's contents later on.
+    */
+    writable?: boolean;
+    /**
+    * If this value is set to true, the annotation will adjust its own zoom factor as required for the page in order to always be clearly readable / recognizable.
+    */
+    zoomable?: boolean;
+
+    constructor(data: any) {
+        let colorDefault: any = "#4800FF";
+        this.color = typeof data?.color !== "undefined" ? data?.color : colorDefault;
+        let contentsDefault: any = "";
+        this.contents = typeof data?.contents !== "undefined" ? data?.contents : contentsDefault;
+        let creatorDefault: any = "";
+        this.creator = typeof data?.creator !== "undefined" ? data?.creator : creatorDefault;
+        let hiddenDefault: any = false;
+        this.hidden = typeof data?.hidden !== "undefined" ? data?.hidden : hiddenDefault;
+        let intentsDefault: any = "";
+        this.intents = typeof data?.intents !== "undefined" ? data?.intents : intentsDefault;
+        let invisibleDefault: any = false;
+        this.invisible = typeof data?.invisible !== "undefined" ? data?.invisible : invisibleDefault;
+        let lockedDefault: any = true;
+        this.locked = typeof data?.locked !== "undefined" ? data?.locked : lockedDefault;
+        let markupTypeDefault: any = "highlight";
+        this.markupType = typeof data?.markupType !== "undefined" ? data?.markupType : markupTypeDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let opacityDefault: any = 100;
+        this.opacity = typeof data?.opacity !== "undefined" ? data?.opacity : opacityDefault;
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        this.position = PositionMarkupAnnotation.fromJson(data?.position);
+        let printableDefault: any = false;
+        this.printable = typeof data?.printable !== "undefined" ? data?.printable : printableDefault;
+        let rotatableDefault: any = true;
+        this.rotatable = typeof data?.rotatable !== "undefined" ? data?.rotatable : rotatableDefault;
+        let subjectDefault: any = "";
+        this.subject = typeof data?.subject !== "undefined" ? data?.subject : subjectDefault;
+        let viewableDefault: any = true;
+        this.viewable = typeof data?.viewable !== "undefined" ? data?.viewable : viewableDefault;
+        let writableDefault: any = true;
+        this.writable = typeof data?.writable !== "undefined" ? data?.writable : writableDefault;
+        let zoomableDefault: any = true;
+        this.zoomable = typeof data?.zoomable !== "undefined" ? data?.zoomable : zoomableDefault;
+    }
+
+    public static getColorDefault(): string {
+        return "#4800FF";
+    }
+
+    public static getColorDescription(): string {
+        return "The annotation color will change the main color of visible annotations. The color needs to be specified as a hexadecimal RGB value with a number sign before it.";
+    }
+
+    public static getContentsDefault(): string {
+        return "";
+    }
+
+    public static getContentsDescription(): string {
+        return "This value is used to configure the text content of the annotation, with the way in which it is displayed depending heavily on the specific annotation type (for example, in the case of a text note, this would be the text content of the annotation's popup).";
+    }
+
+    public static getCreatorDefault(): string {
+        return "";
+    }
+
+    public static getCreatorDescription(): string {
+        return "Used to specify the author of the annotation.";
+    }
+
+    public static getHiddenDefault(): boolean {
+        return false;
+    }
+
+    public static getHiddenDescription(): string {
+        return "If this value is set to true, the annotation will not be shown on the page and will not be printed either.";
+    }
+
+    public static getIntentsDefault(): string {
+        return "";
+    }
+
+    public static getIntentsDescription(): string {
+        return "Used to set the intention of the annotation.\n\n**Important:** The intention of an annotation can directly influence it's behaviour and may serve different purposes for different annotation types. Only set this directly, if you know it is necessary and possible to do so.";
+    }
+
+    public static getInvisibleDefault(): boolean {
+        return false;
+    }
+
+    public static getInvisibleDescription(): string {
+        return "If this value is set to true, the annotation will be visible on the page only when printed, and provided it is a PDF standard annotation.";
+    }
+
+    public static getLockedDefault(): boolean {
+        return true;
+    }
+
+    public static getLockedDescription(): string {
+        return "If this value is set to true, the annotation will be locked so that no changes can be made to it.";
+    }
+
+    public static getMarkupTypeDefault(): MarkupsAnnotation {
+        return "highlight" as MarkupsAnnotation;
+    }
+
+    public static getMarkupTypeDescription(): string {
+        return "Used to set the type of markup. The following values are available:\n\n*   highlight = Highlights text\n*   underline = Underlines text with a straight line\n*   strikeOut = Strikes text through\n*   squiggly = Underlines text with a squiggly line";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "Used to specify the name of the annotation.";
+    }
+
+    public static getOpacityDefault(): number {
+        return 100;
+    }
+
+    public static getOpacityDescription(): string {
+        return "This percentage value is used to set the annotation's transparency.";
+    }
+
+    public static getOpacityMin(): number {
+        return 0;
+    }
+
+    public static getOpacityMax(): number {
+        return 100;
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "Set the number of the page, the annotation shall be placed on.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static getPositionDescription(): string {
+        return "";
+    }
+
+    public static getPrintableDefault(): boolean {
+        return false;
+    }
+
+    public static getPrintableDescription(): string {
+        return "If this value is set to true, the annotation will be included when the page is printed out.";
+    }
+
+    public static getRotatableDefault(): boolean {
+        return true;
+    }
+
+    public static getRotatableDescription(): string {
+        return "If this value is set to true, the annotation shall be rotatable according to the displayed page rotation.";
+    }
+
+    public static getSubjectDefault(): string {
+        return "";
+    }
+
+    public static getSubjectDescription(): string {
+        return "Used to specify the subject of the annotation.";
+    }
+
+    public static getViewableDefault(): boolean {
+        return true;
+    }
+
+    public static getViewableDescription(): string {
+        return "If this value is set to true, the annotation will be shown on the document's page.";
+    }
+
+    public static getWritableDefault(): boolean {
+        return true;
+    }
+
+    public static getWritableDescription(): string {
+        return "If this value is set to true, it will be possible to change the annotation's contents later on.";
+    }
+
+    public static getZoomableDefault(): boolean {
+        return true;
+    }
+
+    public static getZoomableDescription(): string {
+        return "If this value is set to true, the annotation will adjust its own zoom factor as required for the page in order to always be clearly readable \/ recognizable.";
+    }
+
+    public static fromJson(data: any): MarkupAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MarkupAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MarkupAnnotation> {
+        return ModelStream.decodeArray(source, MarkupAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'color': this.color,
+            'contents': this.contents,
+            'creator': this.creator,
+            'hidden': this.hidden,
+            'intents': this.intents,
+            'invisible': this.invisible,
+            'locked': this.locked,
+            'markupType': this.markupType,
+            'name': this.name,
+            'opacity': this.opacity,
+            'page': this.page,
+            'position': this.position?.toJson(),
+            'printable': this.printable,
+            'rotatable': this.rotatable,
+            'subject': this.subject,
+            'viewable': this.viewable,
+            'writable': this.writable,
+            'zoomable': this.zoomable,
+        };
+    }
+
+    public clone(): MarkupAnnotation {
+        return MarkupAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "color", typeof data?.color !== "undefined" ? data?.color : "#4800FF") || changed;
+        changed = ModelAssignment.assignValue(this, "contents", typeof data?.contents !== "undefined" ? data?.contents : "") || changed;
+        changed = ModelAssignment.assignValue(this, "creator", typeof data?.creator !== "undefined" ? data?.creator : "") || changed;
+        changed = ModelAssignment.assignValue(this, "hidden", typeof data?.hidden !== "undefined" ? data?.hidden : false) || changed;
+        changed = ModelAssignment.assignValue(this, "intents", typeof data?.intents !== "undefined" ? data?.intents : "") || changed;
+        changed = ModelAssignment.assignValue(this, "invisible", typeof data?.invisible !== "undefined" ? data?.invisible : false) || changed;
+        changed = ModelAssignment.assignValue(this, "locked", typeof data?.locked !== "undefined" ? data?.locked : true) || changed;
+        changed = ModelAssignment.assignValue(this, "markupType", typeof data?.markupType !== "undefined" ? data?.markupType : "highlight") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "opacity", typeof data?.opacity !== "undefined" ? data?.opacity : 100) || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        changed = ModelAssignment.assignModel(this, "position", data?.position, PositionMarkupAnnotation.fromJson, PositionMarkupAnnotation) || changed;
+        changed = ModelAssignment.assignValue(this, "printable", typeof data?.printable !== "undefined" ? data?.printable : false) || changed;
+        changed = ModelAssignment.assignValue(this, "rotatable", typeof data?.rotatable !== "undefined" ? data?.rotatable : true) || changed;
+        changed = ModelAssignment.assignValue(this, "subject", typeof data?.subject !== "undefined" ? data?.subject : "") || changed;
+        changed = ModelAssignment.assignValue(this, "viewable", typeof data?.viewable !== "undefined" ? data?.viewable : true) || changed;
+        changed = ModelAssignment.assignValue(this, "writable", typeof data?.writable !== "undefined" ? data?.writable : true) || changed;
+        changed = ModelAssignment.assignValue(this, "zoomable", typeof data?.zoomable !== "undefined" ? data?.zoomable : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.color, other.color)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.contents, other.contents)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.creator, other.creator)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hidden, other.hidden)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.intents, other.intents)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.invisible, other.invisible)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.locked, other.locked)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.markupType, other.markupType)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.opacity, other.opacity)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printable, other.printable)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rotatable, other.rotatable)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.subject, other.subject)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.viewable, other.viewable)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.writable, other.writable)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.zoomable, other.zoomable)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.color);
+        hash = ModelEquality.hash(hash, this.contents);
+        hash = ModelEquality.hash(hash, this.creator);
+        hash = ModelEquality.hash(hash, this.hidden);
+        hash = ModelEquality.hash(hash, this.intents);
+        hash = ModelEquality.hash(hash, this.invisible);
+        hash = ModelEquality.hash(hash, this.locked);
+        hash = ModelEquality.hash(hash, this.markupType);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.opacity);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.position);
+        hash = ModelEquality.hash(hash, this.printable);
+        hash = ModelEquality.hash(hash, this.rotatable);
+        hash = ModelEquality.hash(hash, this.subject);
+        hash = ModelEquality.hash(hash, this.viewable);
+        hash = ModelEquality.hash(hash, this.writable);
+        hash = ModelEquality.hash(hash, this.zoomable);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MarkupAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.color) + ",";
+        fingerprint += ModelEquality.fingerprint(this.contents) + ",";
+        fingerprint += ModelEquality.fingerprint(this.creator) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hidden) + ",";
+        fingerprint += ModelEquality.fingerprint(this.intents) + ",";
+        fingerprint += ModelEquality.fingerprint(this.invisible) + ",";
+        fingerprint += ModelEquality.fingerprint(this.locked) + ",";
+        fingerprint += ModelEquality.fingerprint(this.markupType) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.opacity) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printable) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rotatable) + ",";
+        fingerprint += ModelEquality.fingerprint(this.subject) + ",";
+        fingerprint += ModelEquality.fingerprint(this.viewable) + ",";
+        fingerprint += ModelEquality.fingerprint(this.writable) + ",";
+        fingerprint += ModelEquality.fingerprint(this.zoomable) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum MarkupsAnnotation {
+
+    StrikeOut = 'strikeOut',
+    Highlight = 'highlight',
+    Underline = 'underline',
+    Squiggly = 'squiggly'
+
+}
\ No newline at end of file
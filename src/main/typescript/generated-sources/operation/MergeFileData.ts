@@ -0,0 +1,181 @@
+import {
+    ModelAssignment,
+    FileDataFormat,
+    ModelStream,
+    FileDataSource,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface MergeFileDataInterface  {
+
+    /**
+    * Specifies the format how to pass the documents to be used for merging.  *   pdf = A single PDF file *   zip = It is a ZIP file that contains one or more PDF documents. *   id = It is a semicolon separated list of document ID's referencing documents already on the server (REST API only).  **Important:** The \"id\" parameter can be used only with REST API. Each document that has been uploaded to the server via REST API has a unique ID. This ID can be used to reference the document. In the content of the \"data\" element, the list is passed as BASE64 content. Example for two documents:  *   List of documents: 3bde686a47284a2da3bfce62bd6bb8bd;f5c2b314d0c74fd0878d1f4ca310b0ad *   BASE64 encoded: M2JkZTY4NmE0NzI4NGEyZGEzYmZjZTYyYmQ2YmI4YmQ7ZjVjMmIzMTRkMGM3NGZkMDg3OGQxZjRjYTMxMGIwYWQ=
+    */
+    format?: FileDataFormat;
+    /**
+    * Used to define the base path that should be used for outline nodes of the appended document. This parameter can contain a slash separated path and should ideally end with the name of the document (\"A/B/filename\"). If this parameter is not set, all outlines will be appended to the root outline node.
+    */
+    outlineName?: string;
+    /**
+    * Selects the data source for the hereby expressed resource. Possible values are:  *   value = The element's value shall contain the BASE64 encoded data. *   uri = The data shall be located at the given uri.
+    */
+    source?: FileDataSource;
+    /**
+    * The uri the data shall be located at. (This shall only have effect, if the \"source\" is \"uri\".)
+    */
+    uri?: string;
+    value?: string;
+
+}
+export class MergeFileData implements MergeFileDataInterface, Parameter {
+    /**
+    * Specifies the format how to pass the documents to be used for merging.  *   pdf = A single PDF file *   zip = It is a ZIP file that contains one or more PDF documents. *   id = It is a semicolon separated list of document ID's referencing documents already on the server (REST API only).  **Important:** The \"id\" parameter can be used only with REST API. Each document that has been uploaded to the server via REST API has a unique ID. This ID can be used to reference the document. In the content of the \"data\" element, the list is passed as BASE64 content. Example for two documents:  *   List of documents: 3bde686a47284a2da3bfce62bd6bb8bd;f5c2b314d0c74fd0878d1f4ca310b0ad *   BASE64 encoded: M2JkZTY4NmE0NzI4NGEyZGEzYmZjZTYyYmQ2YmI4YmQ7ZjVjMmIzMTRkMGM3NGZkMDg3OGQxZjRjYTMxMGIwYWQ=
+    */
+    format?: FileDataFormat;
+    /**
+    * Used to define the base path that should be used for outline nodes of the appended document. This parameter can contain a slash separated path and should ideally end with the name of the document (\"A/B/filename\"). If this parameter is not set, all outlines will be appended to the root outline node.
+    */
+    outlineName?: string;
+    /**
+    * Selects the data source for the hereby expressed resource. Possible values are:  *   value = The element's value shall contain the BASE64 encoded data. *   uri = The data shall be located at the given uri.
+    */
+    source?: FileDataSource;
+    /**
+    * The uri the data shall be located at. (This shall only have effect, if the \"source\" is \"uri\".)
+    */
+    uri?: string;
+    value?: string;
+
+    constructor(data: any) {
+        let formatDefault: any = "pdf";
+        this.format = typeof data?.format !== "undefined" ? data?.format : formatDefault;
+        let outlineNameDefault: any = "";
+        this.outlineName = typeof data?.outlineName !== "undefined" ? data?.outlineName : outlineNameDefault;
+        let sourceDefault: any = "value";
+        this.source = typeof data?.source !== "undefined" ? data?.source : sourceDefault;
+        let uriDefault: any = "";
+        this.uri = typeof data?.uri !== "undefined" ? data?.uri : uriDefault;
+        this.value = data?.value;
+    }
+
+    public static getFormatDefault(): FileDataFormat {
+        return "pdf" as FileDataFormat;
+    }
+
+    public static getFormatDescription(): string {
+        return "Specifies the format how to pass the documents to be used for merging.\n\n*   pdf = A single PDF file\n*   zip = It is a ZIP file that contains one or more PDF documents.\n*   id = It is a semicolon separated list of document ID's referencing documents already on the server (REST API only).\n\n**Important:** The \"id\" parameter can be used only with REST API. Each document that has been uploaded to the server via REST API has a unique ID. This ID can be used to reference the document. In the content of the \"data\" element, the list is passed as BASE64 content. Example for two documents:\n\n*   List of documents: 3bde686a47284a2da3bfce62bd6bb8bd;f5c2b314d0c74fd0878d1f4ca310b0ad\n*   BASE64 encoded: M2JkZTY4NmE0NzI4NGEyZGEzYmZjZTYyYmQ2YmI4YmQ7ZjVjMmIzMTRkMGM3NGZkMDg3OGQxZjRjYTMxMGIwYWQ=";
+    }
+
+    public static getOutlineNameDefault(): string {
+        return "";
+    }
+
+    public static getOutlineNameDescription(): string {
+        return "Used to define the base path that should be used for outline nodes of the appended document. This parameter can contain a slash separated path and should ideally end with the name of the document (\"A\/B\/filename\"). If this parameter is not set, all outlines will be appended to the root outline node.";
+    }
+
+    public static getSourceDefault(): FileDataSource {
+        return "value" as FileDataSource;
+    }
+
+    public static getSourceDescription(): string {
+        return "Selects the data source for the hereby expressed resource. Possible values are:\n\n*   value = The element's value shall contain the BASE64 encoded data.\n*   uri = The data shall be located at the given uri.";
+    }
+
+    public static getUriDefault(): string {
+        return "";
+    }
+
+    public static getUriDescription(): string {
+        return "The uri the data shall be located at. (This shall only have effect, if the \"source\" is \"uri\".)";
+    }
+
+    public static getValueDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): MergeFileData {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new MergeFileData(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<MergeFileData> {
+        return ModelStream.decodeArray(source, MergeFileData.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'format': this.format,
+            'outlineName': this.outlineName,
+            'source': this.source,
+            'uri': this.uri,
+            'value': this.value,
+        };
+    }
+
+    public clone(): MergeFileData {
+        return MergeFileData.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "format", typeof data?.format !== "undefined" ? data?.format : "pdf") || changed;
+        changed = ModelAssignment.assignValue(this, "outlineName", typeof data?.outlineName !== "undefined" ? data?.outlineName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "source", typeof data?.source !== "undefined" ? data?.source : "value") || changed;
+        changed = ModelAssignment.assignValue(this, "uri", typeof data?.uri !== "undefined" ? data?.uri : "") || changed;
+        changed = ModelAssignment.assignValue(this, "value", data?.value) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.format, other.format)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.outlineName, other.outlineName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.source, other.source)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.uri, other.uri)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.value, other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.format);
+        hash = ModelEquality.hash(hash, this.outlineName);
+        hash = ModelEquality.hash(hash, this.source);
+        hash = ModelEquality.hash(hash, this.uri);
+        hash = ModelEquality.hash(hash, this.value);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "MergeFileData(";
+        fingerprint += ModelEquality.fingerprint(this.format) + ",";
+        fingerprint += ModelEquality.fingerprint(this.outlineName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.source) + ",";
+        fingerprint += ModelEquality.fingerprint(this.uri) + ",";
+        fingerprint += ModelEquality.fingerprint(this.value) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum MergeMode {
+
+    AtTheEnd = 'atTheEnd',
+    BeforePage = 'beforePage',
+    AtTheBeginning = 'atTheBeginning',
+    AfterPage = 'afterPage'
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+export enum Metrics {
+
+    Mm = 'mm',
+    Pc = 'pc',
+    Pt = 'pt',
+    In = 'in',
+    Px = 'px'
+
+}
\ No newline at end of file
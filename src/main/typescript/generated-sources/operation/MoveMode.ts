@@ -0,0 +1,6 @@
+export enum MoveMode {
+
+    BeforePage = 'beforePage',
+    AfterPage = 'afterPage'
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+    NamedActionExecuteNamed,
+} from "./../index";
+
+export interface NamedActionInterface extends ActionEventInterface {
+
+    executeNamed?: NamedActionExecuteNamed;
+
+}
+export class NamedAction extends ActionEvent implements NamedActionInterface, Parameter {
+    executeNamed?: NamedActionExecuteNamed;
+
+    constructor(data: any) {
+        super(data);
+
+        this.executeNamed = NamedActionExecuteNamed.fromJson(data?.executeNamed);
+    }
+
+    public static getExecuteNamedDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): NamedAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new NamedAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<NamedAction> {
+        return ModelStream.decodeArray(source, NamedAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'executeNamed': this.executeNamed?.toJson(),
+        };
+    }
+
+    public clone(): NamedAction {
+        return NamedAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "executeNamed", data?.executeNamed, NamedActionExecuteNamed.fromJson, NamedActionExecuteNamed) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.executeNamed, other.executeNamed)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.executeNamed);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "NamedAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.executeNamed) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
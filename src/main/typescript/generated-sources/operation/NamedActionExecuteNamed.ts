@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface NamedActionExecuteNamedInterface  {
+
+    /**
+    * The name of the action that should be run. The following are standard names that any reader application should know:  *   NextPage = Jumps to the next page *   PrevPage = Jumps to the previous page *   FirstPage = Jump to the first page *   LastPage = Jump to the last page
+    */
+    namedOperation?: string;
+
+}
+export class NamedActionExecuteNamed implements NamedActionExecuteNamedInterface, Parameter {
+    /**
+    * The name of the action that should be run. The following are standard names that any reader application should know:  *   NextPage = Jumps to the next page *   PrevPage = Jumps to the previous page *   FirstPage = Jump to the first page *   LastPage = Jump to the last page
+    */
+    namedOperation?: string;
+
+    constructor(data: any) {
+        let namedOperationDefault: any = "";
+        this.namedOperation = typeof data?.namedOperation !== "undefined" ? data?.namedOperation : namedOperationDefault;
+    }
+
+    public static getNamedOperationDefault(): string {
+        return "";
+    }
+
+    public static getNamedOperationDescription(): string {
+        return "The name of the action that should be run. The following are standard names that any reader application should know:\n\n*   NextPage = Jumps to the next page\n*   PrevPage = Jumps to the previous page\n*   FirstPage = Jump to the first page\n*   LastPage = Jump to the last page";
+    }
+
+    public static fromJson(data: any): NamedActionExecuteNamed {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new NamedActionExecuteNamed(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<NamedActionExecuteNamed> {
+        return ModelStream.decodeArray(source, NamedActionExecuteNamed.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'namedOperation': this.namedOperation,
+        };
+    }
+
+    public clone(): NamedActionExecuteNamed {
+        return NamedActionExecuteNamed.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "namedOperation", typeof data?.namedOperation !== "undefined" ? data?.namedOperation : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.namedOperation, other.namedOperation)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.namedOperation);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "NamedActionExecuteNamed(";
+        fingerprint += ModelEquality.fingerprint(this.namedOperation) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    DestinationEvent,
+    ModelStream,
+    DestinationEventInterface,
+    Parameter,
+    NamedDestinationGoToNamed,
+    ModelEquality,
+} from "./../index";
+
+export interface NamedDestinationInterface extends DestinationEventInterface {
+
+    goToNamed?: NamedDestinationGoToNamed;
+
+}
+export class NamedDestination extends DestinationEvent implements NamedDestinationInterface, Parameter {
+    goToNamed?: NamedDestinationGoToNamed;
+
+    constructor(data: any) {
+        super(data);
+
+        this.goToNamed = NamedDestinationGoToNamed.fromJson(data?.goToNamed);
+    }
+
+    public static getGoToNamedDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): NamedDestination {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new NamedDestination(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<NamedDestination> {
+        return ModelStream.decodeArray(source, NamedDestination.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'goToNamed': this.goToNamed?.toJson(),
+        };
+    }
+
+    public clone(): NamedDestination {
+        return NamedDestination.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "goToNamed", data?.goToNamed, NamedDestinationGoToNamed.fromJson, NamedDestinationGoToNamed) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.goToNamed, other.goToNamed)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.goToNamed);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "NamedDestination(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.goToNamed) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface OCGSelectionInterface  {
+
+    /**
+    * The name of the layer that should be activated.
+    */
+    name?: string;
+
+}
+export class OCGSelection implements OCGSelectionInterface, Parameter {
+    /**
+    * The name of the layer that should be activated.
+    */
+    name?: string;
+
+    constructor(data: any) {
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "The name of the layer that should be activated.";
+    }
+
+    public static fromJson(data: any): OCGSelection {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OCGSelection(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OCGSelection> {
+        return ModelStream.decodeArray(source, OCGSelection.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'name': this.name,
+        };
+    }
+
+    public clone(): OCGSelection {
+        return OCGSelection.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.name);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OCGSelection(";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
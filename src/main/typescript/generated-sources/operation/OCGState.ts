@@ -0,0 +1,7 @@
+export enum OCGState {
+
+    Toggle = 'Toggle',
+    OFF = 'OFF',
+    ON = 'ON'
+
+}
\ No newline at end of file
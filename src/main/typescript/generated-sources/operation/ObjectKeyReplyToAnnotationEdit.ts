@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ObjectKeyReplyToAnnotationEditInterface  {
+
+    /**
+    * The object id shall be given as a String that may contain either:  *   The numeric object ID itself *   The object ID followed by the generation number, separated by a space
+    */
+    id?: string;
+
+}
+export class ObjectKeyReplyToAnnotationEdit implements ObjectKeyReplyToAnnotationEditInterface, Parameter {
+    /**
+    * The object id shall be given as a String that may contain either:  *   The numeric object ID itself *   The object ID followed by the generation number, separated by a space
+    */
+    id?: string;
+
+    constructor(data: any) {
+        let idDefault: any = "";
+        this.id = typeof data?.id !== "undefined" ? data?.id : idDefault;
+    }
+
+    public static getIdDefault(): string {
+        return "";
+    }
+
+    public static getIdDescription(): string {
+        return "The object id shall be given as a String that may contain either:\n\n*   The numeric object ID itself\n*   The object ID followed by the generation number, separated by a space";
+    }
+
+    public static fromJson(data: any): ObjectKeyReplyToAnnotationEdit {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ObjectKeyReplyToAnnotationEdit(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ObjectKeyReplyToAnnotationEdit> {
+        return ModelStream.decodeArray(source, ObjectKeyReplyToAnnotationEdit.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'id': this.id,
+        };
+    }
+
+    public clone(): ObjectKeyReplyToAnnotationEdit {
+        return ObjectKeyReplyToAnnotationEdit.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "id", typeof data?.id !== "undefined" ? data?.id : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.id, other.id)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.id);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ObjectKeyReplyToAnnotationEdit(";
+        fingerprint += ModelEquality.fingerprint(this.id) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
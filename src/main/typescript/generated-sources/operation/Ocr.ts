@@ -0,0 +1,354 @@
+import {
+    ModelAssignment,
+    OcrOutput,
+    OcrPage,
+    ModelStream,
+    OcrLanguage,
+    OcrMode,
+    ImageOptimization,
+    Parameter,
+    Pdfa,
+    ModelEquality,
+} from "./../index";
+
+export interface OcrInterface  {
+
+    /**
+    * If \"true,\" then the DPI resolution of the output file will be checked. Resolutions of less than 200 DPI are rejected in this check because as a rule, they do not produce good results for character recognition.
+    */
+    checkResolution?: boolean;
+    /**
+    * If \"true\", character recognition will fail even in the event of warnings that do not prevent recognition, but that make it very unlikely for a meaningful result to be generated.
+    */
+    failOnWarning?: boolean;
+    /**
+    * If a PDF document contains text content on any page, the web service will refuse to run character recognition again. If, however, a value of \"true\" is passed for this option, all the pages in the document will be considered individually and character recognition will be run on all pages that do not contain text (layers) so that a new layer with text will be generated for them.
+    */
+    forceEachPage?: boolean;
+    /**
+    * Used to set the minimum resolution images will be embedded with in resulting PDF documents. When a value of 0 is set for this parameter, the images shall be embedded using resolutions and dimensions as close as possible to the original source images.
+    */
+    imageDpi?: number;
+    /**
+    * A percentage that sets the compression ratio and influences the quality of JPEG images, that shall be embedded in resulting PDF documents. Higher values will result in less compressed images of higher quality.
+    */
+    jpegQuality?: number;
+    /**
+    * Used to specify the language for the output document (PDF/image). The language must be defined for the character recognition operation (OCR) so that the \"special characters\" of the respective language (e.g. \"üäö\" in German) can be recognized better. At present, the following languages are supported:  *   eng = English *   fra = French *   spa = Spanish *   deu = German *   ita = Italian
+    */
+    language?: OcrLanguage;
+    /**
+    * If \"true\", then, for the recognition of a rotated text, the system will attempt to rotate the page in such a way that the text in the document will not appear to be rotated and will be shown \"upright.\"
+    */
+    normalizePageRotation?: boolean;
+    /**
+    * Specifies the mode used to find structured text on the pages. Depending on which mode is chosen, different requirements are set for the text and different assumptions are made about the text.  *   pageSegments = The text on the page is clearly structured and decomposable into clear paragraphs and layout segments. Overlapping of text elements/lines does not occur. Headings and thus texts with deviating text sizes and font set, could be present. *   column = The text is arranged on the pages in several, more or less uniform columns, next to each other. Font and text size are mostly uniform. *   unfiltered = No assumptions are made about the text, any letters that can be found are recognized as such, regardless of whether they can be assigned to a text column, or line, or even a word. Font size and typeface can vary absolutely and texts are not necessarily arranged in clearly recognizable columns or according to a fixed layout. Texts and lines can overlap. (This mode usually recognizes more text (especially with more complex layouts), but usually also generates the most error detections, since no result is sorted out due to its deviation from the norm.
+    */
+    ocrMode?: OcrMode;
+    optimization?: ImageOptimization;
+    /**
+    * Different output formats can be created during character recognition. Generally, the document is generated as a PDF document, but the output can also be as an ASCII document or an XML document if desired (HOCR).  *   text = Text *   hocr = XML (hOCR) *   pdf = PDF
+    */
+    outputFormat?: OcrOutput;
+    page?: OcrPage;
+    pdfa?: Pdfa;
+
+}
+export class Ocr implements OcrInterface, Parameter {
+    /**
+    * If \"true,\" then the DPI resolution of the output file will be checked. Resolutions of less than 200 DPI are rejected in this check because as a rule, they do not produce good results for character recognition.
+    */
+    checkResolution?: boolean;
+    /**
+    * If \"true\", character recognition will fail even in the event of warnings that do not prevent recognition, but that make it very unlikely for a meaningful result to be generated.
+    */
+    failOnWarning?: boolean;
+    /**
+    * If a PDF document contains text content on any page, the web service will refuse to run character recognition again. If, however, a value of \"true\" is passed for this option, all the pages in the document will be considered individually and character recognition will be run on all pages that do not contain text (layers) so that a new layer with text will be generated for them.
+    */
+    forceEachPage?: boolean;
+    /**
+    * Used to set the minimum resolution images will be embedded with in resulting PDF documents. When a value of 0 is set for this parameter, the images shall be embedded using resolutions and dimensions as close as possible to the original source images.
+    */
+    imageDpi?: number;
+    /**
+    * A percentage that sets the compression ratio and influences the quality of JPEG images, that shall be embedded in resulting PDF documents. Higher values will result in less compressed images of higher quality.
+    */
+    jpegQuality?: number;
+    /**
+    * Used to specify the language for the output document (PDF/image). The language must be defined for the character recognition operation (OCR) so that the \"special characters\" of the respective language (e.g. \"üäö\" in German) can be recognized better. At present, the following languages are supported:  *   eng = English *   fra = French *   spa = Spanish *   deu = German *   ita = Italian
+    */
+    language?: OcrLanguage;
+    /**
+    * If \"true\", then, for the recognition of a rotated text, the system will attempt to rotate the page in such a way that the text in the document will not appear to be rotated and will be shown \"upright.\"
+    */
+    normalizePageRotation?: boolean;
+    /**
+    * Specifies the mode used to find structured text on the pages. Depending on which mode is chosen, different requirements are set for the text and different assumptions are made about the text.  *   pageSegments = The text on the page is clearly structured and decomposable into clear paragraphs and layout segments. Overlapping of text elements/lines does not occur. Headings and thus texts with deviating text sizes and font set, could be present. *   column = The text is arranged on the pages in several, more or less uniform columns, next to each other. Font and text size are mostly uniform. *   unfiltered = No assumptions are made about the text, any letters that can be found are recognized as such, regardless of whether they can be assigned to a text column, or line, or even a word. Font size and typeface can vary absolutely and texts are not necessarily arranged in clearly recognizable columns or according to a fixed layout. Texts and lines can overlap. (This mode usually recognizes more text (especially with more complex layouts), but usually also generates the most error detections, since no result is sorted out due to its deviation from the norm.
+    */
+    ocrMode?: OcrMode;
+    optimization?: ImageOptimization;
+    /**
+    * Different output formats can be created during character recognition. Generally, the document is generated as a PDF document, but the output can also be as an ASCII document or an XML document if desired (HOCR).  *   text = Text *   hocr = XML (hOCR) *   pdf = PDF
+    */
+    outputFormat?: OcrOutput;
+    page?: OcrPage;
+    pdfa?: Pdfa;
+
+    constructor(data: any) {
+        let checkResolutionDefault: any = true;
+        this.checkResolution = typeof data?.checkResolution !== "undefined" ? data?.checkResolution : checkResolutionDefault;
+        let failOnWarningDefault: any = false;
+        this.failOnWarning = typeof data?.failOnWarning !== "undefined" ? data?.failOnWarning : failOnWarningDefault;
+        let forceEachPageDefault: any = false;
+        this.forceEachPage = typeof data?.forceEachPage !== "undefined" ? data?.forceEachPage : forceEachPageDefault;
+        let imageDpiDefault: any = 200;
+        this.imageDpi = typeof data?.imageDpi !== "undefined" ? data?.imageDpi : imageDpiDefault;
+        let jpegQualityDefault: any = 75;
+        this.jpegQuality = typeof data?.jpegQuality !== "undefined" ? data?.jpegQuality : jpegQualityDefault;
+        let languageDefault: any = "eng";
+        this.language = typeof data?.language !== "undefined" ? data?.language : languageDefault;
+        let normalizePageRotationDefault: any = false;
+        this.normalizePageRotation = typeof data?.normalizePageRotation !== "undefined" ? data?.normalizePageRotation : normalizePageRotationDefault;
+        let ocrModeDefault: any = "pageSegments";
+        this.ocrMode = typeof data?.ocrMode !== "undefined" ? data?.ocrMode : ocrModeDefault;
+        this.optimization = ImageOptimization.fromJson(data?.optimization);
+        let outputFormatDefault: any = "pdf";
+        this.outputFormat = typeof data?.outputFormat !== "undefined" ? data?.outputFormat : outputFormatDefault;
+        this.page = OcrPage.fromJson(data?.page);
+        this.pdfa = Pdfa.fromJson(data?.pdfa);
+    }
+
+    public static getCheckResolutionDefault(): boolean {
+        return true;
+    }
+
+    public static getCheckResolutionDescription(): string {
+        return "If \"true,\" then the DPI resolution of the output file will be checked. Resolutions of less than 200 DPI are rejected in this check because as a rule, they do not produce good results for character recognition.";
+    }
+
+    public static getFailOnWarningDefault(): boolean {
+        return false;
+    }
+
+    public static getFailOnWarningDescription(): string {
+        return "If \"true\", character recognition will fail even in the event of warnings that do not prevent recognition, but that make it very unlikely for a meaningful result to be generated.";
+    }
+
+    public static getForceEachPageDefault(): boolean {
+        return false;
+    }
+
+    public static getForceEachPageDescription(): string {
+        return "If a PDF document contains text content on any page, the web service will refuse to run character recognition again. If, however, a value of \"true\" is passed for this option, all the pages in the document will be considered individually and character recognition will be run on all pages that do not contain text (layers) so that a new layer with text will be generated for them.";
+    }
+
+    public static getImageDpiDefault(): number {
+        return 200;
+    }
+
+    public static getImageDpiDescription(): string {
+        return "Used to set the minimum resolution images will be embedded with in resulting PDF documents. When a value of 0 is set for this parameter, the images shall be embedded using resolutions and dimensions as close as possible to the original source images.";
+    }
+
+    public static getImageDpiMin(): number {
+        return 0;
+    }
+
+    public static getImageDpiMax(): number {
+        return 9600;
+    }
+
+    public static getJpegQualityDefault(): number {
+        return 75;
+    }
+
+    public static getJpegQualityDescription(): string {
+        return "A percentage that sets the compression ratio and influences the quality of JPEG images, that shall be embedded in resulting PDF documents. Higher values will result in less compressed images of higher quality.";
+    }
+
+    public static getJpegQualityMin(): number {
+        return 0;
+    }
+
+    public static getJpegQualityMax(): number {
+        return 100;
+    }
+
+    public static getLanguageDefault(): OcrLanguage {
+        return "eng" as OcrLanguage;
+    }
+
+    public static getLanguageDescription(): string {
+        return "Used to specify the language for the output document (PDF\/image). The language must be defined for the character recognition operation (OCR) so that the \"special characters\" of the respective language (e.g. \"\u00FC\u00E4\u00F6\" in German) can be recognized better. At present, the following languages are supported:\n\n*   eng = English\n*   fra = French\n*   spa = Spanish\n*   deu = German\n*   ita = Italian";
+    }
+
+    public static getNormalizePageRotationDefault(): boolean {
+        return false;
+    }
+
+    public static getNormalizePageRotationDescription(): string {
+        return "If \"true\", then, for the recognition of a rotated text, the system will attempt to rotate the page in such a way that the text in the document will not appear to be rotated and will be shown \"upright.\"";
+    }
+
+    public static getOcrModeDefault(): OcrMode {
+        return "pageSegments" as OcrMode;
+    }
+
+    public static getOcrModeDescription(): string {
+        return "Specifies the mode used to find structured text on the pages. Depending on which mode is chosen, different requirements are set for the text and different assumptions are made about the text.\n\n*   pageSegments = The text on the page is clearly structured and decomposable into clear paragraphs and layout segments. Overlapping of text elements\/lines does not occur. Headings and thus texts with deviating text sizes and font set, could be present.\n*   column = The text is arranged on the pages in several, more or less uniform columns, next to each other. Font and text size are mostly uniform.\n*   unfiltered = No assumptions are made about the text, any letters that can be found are recognized as such, regardless of whether they can be assigned to a text column, or line, or even a word. Font size and typeface can vary absolutely and texts are not necessarily arranged in clearly recognizable columns or according to a fixed layout. Texts and lines can overlap. (This mode usually recognizes more text (especially with more complex layouts), but usually also generates the most error detections, since no result is sorted out due to its deviation from the norm.";
+    }
+
+    public static getOptimizationDescription(): string {
+        return "";
+    }
+
+    public static getOutputFormatDefault(): OcrOutput {
+        return "pdf" as OcrOutput;
+    }
+
+    public static getOutputFormatDescription(): string {
+        return "Different output formats can be created during character recognition. Generally, the document is generated as a PDF document, but the output can also be as an ASCII document or an XML document if desired (HOCR).\n\n*   text = Text\n*   hocr = XML (hOCR)\n*   pdf = PDF";
+    }
+
+    public static getPageDescription(): string {
+        return "";
+    }
+
+    public static getPdfaDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Ocr {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Ocr(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Ocr> {
+        return ModelStream.decodeArray(source, Ocr.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'checkResolution': this.checkResolution,
+            'failOnWarning': this.failOnWarning,
+            'forceEachPage': this.forceEachPage,
+            'imageDpi': this.imageDpi,
+            'jpegQuality': this.jpegQuality,
+            'language': this.language,
+            'normalizePageRotation': this.normalizePageRotation,
+            'ocrMode': this.ocrMode,
+            'optimization': this.optimization?.toJson(),
+            'outputFormat': this.outputFormat,
+            'page': this.page?.toJson(),
+            'pdfa': this.pdfa?.toJson(),
+        };
+    }
+
+    public clone(): Ocr {
+        return Ocr.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "checkResolution", typeof data?.checkResolution !== "undefined" ? data?.checkResolution : true) || changed;
+        changed = ModelAssignment.assignValue(this, "failOnWarning", typeof data?.failOnWarning !== "undefined" ? data?.failOnWarning : false) || changed;
+        changed = ModelAssignment.assignValue(this, "forceEachPage", typeof data?.forceEachPage !== "undefined" ? data?.forceEachPage : false) || changed;
+        changed = ModelAssignment.assignValue(this, "imageDpi", typeof data?.imageDpi !== "undefined" ? data?.imageDpi : 200) || changed;
+        changed = ModelAssignment.assignValue(this, "jpegQuality", typeof data?.jpegQuality !== "undefined" ? data?.jpegQuality : 75) || changed;
+        changed = ModelAssignment.assignValue(this, "language", typeof data?.language !== "undefined" ? data?.language : "eng") || changed;
+        changed = ModelAssignment.assignValue(this, "normalizePageRotation", typeof data?.normalizePageRotation !== "undefined" ? data?.normalizePageRotation : false) || changed;
+        changed = ModelAssignment.assignValue(this, "ocrMode", typeof data?.ocrMode !== "undefined" ? data?.ocrMode : "pageSegments") || changed;
+        changed = ModelAssignment.assignModel(this, "optimization", data?.optimization, ImageOptimization.fromJson, ImageOptimization) || changed;
+        changed = ModelAssignment.assignValue(this, "outputFormat", typeof data?.outputFormat !== "undefined" ? data?.outputFormat : "pdf") || changed;
+        changed = ModelAssignment.assignModel(this, "page", data?.page, OcrPage.fromJson, OcrPage) || changed;
+        changed = ModelAssignment.assignModel(this, "pdfa", data?.pdfa, Pdfa.fromJson, Pdfa) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.checkResolution, other.checkResolution)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.failOnWarning, other.failOnWarning)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.forceEachPage, other.forceEachPage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.imageDpi, other.imageDpi)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.jpegQuality, other.jpegQuality)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.language, other.language)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.normalizePageRotation, other.normalizePageRotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ocrMode, other.ocrMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.optimization, other.optimization)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.outputFormat, other.outputFormat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pdfa, other.pdfa)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.checkResolution);
+        hash = ModelEquality.hash(hash, this.failOnWarning);
+        hash = ModelEquality.hash(hash, this.forceEachPage);
+        hash = ModelEquality.hash(hash, this.imageDpi);
+        hash = ModelEquality.hash(hash, this.jpegQuality);
+        hash = ModelEquality.hash(hash, this.language);
+        hash = ModelEquality.hash(hash, this.normalizePageRotation);
+        hash = ModelEquality.hash(hash, this.ocrMode);
+        hash = ModelEquality.hash(hash, this.optimization);
+        hash = ModelEquality.hash(hash, this.outputFormat);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.pdfa);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Ocr(";
+        fingerprint += ModelEquality.fingerprint(this.checkResolution) + ",";
+        fingerprint += ModelEquality.fingerprint(this.failOnWarning) + ",";
+        fingerprint += ModelEquality.fingerprint(this.forceEachPage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.imageDpi) + ",";
+        fingerprint += ModelEquality.fingerprint(this.jpegQuality) + ",";
+        fingerprint += ModelEquality.fingerprint(this.language) + ",";
+        fingerprint += ModelEquality.fingerprint(this.normalizePageRotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.ocrMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.optimization) + ",";
+        fingerprint += ModelEquality.fingerprint(this.outputFormat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pdfa) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
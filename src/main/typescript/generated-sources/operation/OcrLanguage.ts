@@ -0,0 +1,9 @@
+export enum OcrLanguage {
+
+    Fra = 'fra',
+    Deu = 'deu',
+    Spa = 'spa',
+    Ita = 'ita',
+    Eng = 'eng'
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum OcrMode {
+
+    Column = 'column',
+    PageSegments = 'pageSegments',
+    Unfiltered = 'unfiltered'
+
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Billing,
+    Parameter,
+    ModelEquality,
+    PdfPassword,
+    Settings,
+    Ocr,
+} from "./../index";
+
+export interface OcrOperationInterface  {
+
+    billing?: Billing;
+    ocr: Ocr;
+    password?: PdfPassword;
+    settings?: Settings;
+
+}
+export class OcrOperation implements OcrOperationInterface, Parameter {
+    billing?: Billing;
+    ocr: Ocr;
+    password?: PdfPassword;
+    settings?: Settings;
+
+    constructor(data: any) {
+        this.billing = Billing.fromJson(data?.billing);
+        this.ocr = Ocr.fromJson(data.ocr);
+        this.password = PdfPassword.fromJson(data?.password);
+        this.settings = Settings.fromJson(data?.settings);
+    }
+
+    public static getBillingDescription(): string {
+        return "";
+    }
+
+    public static getOcrDescription(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): OcrOperation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OcrOperation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OcrOperation> {
+        return ModelStream.decodeArray(source, OcrOperation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'billing': this.billing?.toJson(),
+            'ocr': this.ocr?.toJson(),
+            'password': this.password?.toJson(),
+            'settings': this.settings?.toJson(),
+        };
+    }
+
+    public clone(): OcrOperation {
+        return OcrOperation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "billing", data?.billing, Billing.fromJson, Billing) || changed;
+        changed = ModelAssignment.assignModel(this, "ocr", data.ocr, Ocr.fromJson, Ocr) || changed;
+        changed = ModelAssignment.assignModel(this, "password", data?.password, PdfPassword.fromJson, PdfPassword) || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, Settings.fromJson, Settings) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.billing, other.billing)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.ocr, other.ocr)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.billing);
+        hash = ModelEquality.hash(hash, this.ocr);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.settings);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OcrOperation(";
+        fingerprint += ModelEquality.fingerprint(this.billing) + ",";
+        fingerprint += ModelEquality.fingerprint(this.ocr) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum OcrOutput {
+
+    Pdf = 'pdf',
+    Hocr = 'hocr',
+    Text = 'text'
+
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface OfficeBridgeInterface  {
+
+
+}
+export class OfficeBridge implements OfficeBridgeInterface, Parameter {
+
+    constructor(data: any) {
+    }
+
+    public static fromJson(data: any): OfficeBridge {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OfficeBridge(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OfficeBridge> {
+        return ModelStream.decodeArray(source, OfficeBridge.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+        };
+    }
+
+    public clone(): OfficeBridge {
+        return OfficeBridge.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OfficeBridge(";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum OpenMode {
+
+    UserPreferences = 'userPreferences',
+    SameWindow = 'sameWindow',
+    NewWindow = 'newWindow'
+
+}
\ No newline at end of file
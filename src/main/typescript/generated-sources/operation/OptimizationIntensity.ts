@@ -0,0 +1,9 @@
+export enum OptimizationIntensity {
+
+    High = 'high',
+    Low = 'low',
+    Medium = 'medium',
+    Value = 'value',
+    Off = 'off'
+
+}
\ No newline at end of file
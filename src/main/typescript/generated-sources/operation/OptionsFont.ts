@@ -0,0 +1,173 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface OptionsFontInterface  {
+
+    /**
+    * Used to set the colour for the text output. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * Used to specify the name of the font that should be used for the text output. If a font is not specified, \"Helvetica\" will be used.
+    */
+    name?: string;
+    /**
+    * Used to set the text size for the text output.
+    */
+    size?: number;
+    /**
+    * If true, the text in the header and footer will be underlined.
+    */
+    underline?: boolean;
+
+}
+export class OptionsFont implements OptionsFontInterface, Parameter {
+    /**
+    * Used to set the colour for the text output. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * Used to specify the name of the font that should be used for the text output. If a font is not specified, \"Helvetica\" will be used.
+    */
+    name?: string;
+    /**
+    * Used to set the text size for the text output.
+    */
+    size?: number;
+    /**
+    * If true, the text in the header and footer will be underlined.
+    */
+    underline?: boolean;
+
+    constructor(data: any) {
+        let colorDefault: any = "#000000";
+        this.color = typeof data?.color !== "undefined" ? data?.color : colorDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let sizeDefault: any = 10;
+        this.size = typeof data?.size !== "undefined" ? data?.size : sizeDefault;
+        let underlineDefault: any = false;
+        this.underline = typeof data?.underline !== "undefined" ? data?.underline : underlineDefault;
+    }
+
+    public static getColorDefault(): string {
+        return "#000000";
+    }
+
+    public static getColorDescription(): string {
+        return "Used to set the colour for the text output. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "Used to specify the name of the font that should be used for the text output. If a font is not specified, \"Helvetica\" will be used.";
+    }
+
+    public static getSizeDefault(): number {
+        return 10;
+    }
+
+    public static getSizeDescription(): string {
+        return "Used to set the text size for the text output.";
+    }
+
+    public static getSizeMin(): number {
+        return 1;
+    }
+
+    public static getSizeMax(): number {
+        return 1296;
+    }
+
+    public static getUnderlineDefault(): boolean {
+        return false;
+    }
+
+    public static getUnderlineDescription(): string {
+        return "If true, the text in the header and footer will be underlined.";
+    }
+
+    public static fromJson(data: any): OptionsFont {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OptionsFont(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OptionsFont> {
+        return ModelStream.decodeArray(source, OptionsFont.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'color': this.color,
+            'name': this.name,
+            'size': this.size,
+            'underline': this.underline,
+        };
+    }
+
+    public clone(): OptionsFont {
+        return OptionsFont.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "color", typeof data?.color !== "undefined" ? data?.color : "#000000") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "size", typeof data?.size !== "undefined" ? data?.size : 10) || changed;
+        changed = ModelAssignment.assignValue(this, "underline", typeof data?.underline !== "undefined" ? data?.underline : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.color, other.color)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.size, other.size)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.underline, other.underline)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.color);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.size);
+        hash = ModelEquality.hash(hash, this.underline);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OptionsFont(";
+        fingerprint += ModelEquality.fingerprint(this.color) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.size) + ",";
+        fingerprint += ModelEquality.fingerprint(this.underline) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+import {
+    ModelAssignment,
+    Metrics,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface OptionsMarginInterface  {
+
+    /**
+    * The offset from the bottom edge of the surrounding element.
+    */
+    bottom?: number;
+    /**
+    * The offset from the left edge of the surrounding element.
+    */
+    left?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * The offset from the right edge of the surrounding element.
+    */
+    right?: number;
+    /**
+    * The offset from the upper edge of the surrounding element.
+    */
+    top?: number;
+
+}
+export class OptionsMargin implements OptionsMarginInterface, Parameter {
+    /**
+    * The offset from the bottom edge of the surrounding element.
+    */
+    bottom?: number;
+    /**
+    * The offset from the left edge of the surrounding element.
+    */
+    left?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * The offset from the right edge of the surrounding element.
+    */
+    right?: number;
+    /**
+    * The offset from the upper edge of the surrounding element.
+    */
+    top?: number;
+
+    constructor(data: any) {
+        let bottomDefault: any = 0;
+        this.bottom = typeof data?.bottom !== "undefined" ? data?.bottom : bottomDefault;
+        let leftDefault: any = 0;
+        this.left = typeof data?.left !== "undefined" ? data?.left : leftDefault;
+        let metricsDefault: any = "mm";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let rightDefault: any = 0;
+        this.right = typeof data?.right !== "undefined" ? data?.right : rightDefault;
+        let topDefault: any = 0;
+        this.top = typeof data?.top !== "undefined" ? data?.top : topDefault;
+    }
+
+    public static getBottomDefault(): number {
+        return 0;
+    }
+
+    public static getBottomDescription(): string {
+        return "The offset from the bottom edge of the surrounding element.";
+    }
+
+    public static getLeftDefault(): number {
+        return 0;
+    }
+
+    public static getLeftDescription(): string {
+        return "The offset from the left edge of the surrounding element.";
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "mm" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getRightDefault(): number {
+        return 0;
+    }
+
+    public static getRightDescription(): string {
+        return "The offset from the right edge of the surrounding element.";
+    }
+
+    public static getTopDefault(): number {
+        return 0;
+    }
+
+    public static getTopDescription(): string {
+        return "The offset from the upper edge of the surrounding element.";
+    }
+
+    public static fromJson(data: any): OptionsMargin {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new OptionsMargin(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<OptionsMargin> {
+        return ModelStream.decodeArray(source, OptionsMargin.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'bottom': this.bottom,
+            'left': this.left,
+            'metrics': this.metrics,
+            'right': this.right,
+            'top': this.top,
+        };
+    }
+
+    public clone(): OptionsMargin {
+        return OptionsMargin.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "bottom", typeof data?.bottom !== "undefined" ? data?.bottom : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "left", typeof data?.left !== "undefined" ? data?.left : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "mm") || changed;
+        changed = ModelAssignment.assignValue(this, "right", typeof data?.right !== "undefined" ? data?.right : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "top", typeof data?.top !== "undefined" ? data?.top : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bottom, other.bottom)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.left, other.left)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.right, other.right)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.top, other.top)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.bottom);
+        hash = ModelEquality.hash(hash, this.left);
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.right);
+        hash = ModelEquality.hash(hash, this.top);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "OptionsMargin(";
+        fingerprint += ModelEquality.fingerprint(this.bottom) + ",";
+        fingerprint += ModelEquality.fingerprint(this.left) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.right) + ",";
+        fingerprint += ModelEquality.fingerprint(this.top) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
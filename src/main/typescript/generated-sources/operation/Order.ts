@@ -0,0 +1,6 @@
+export enum Order {
+
+    Reverse = 'reverse',
+    Preserve = 'preserve'
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum OrientationDetection {
+
+    Value = 'value',
+    Dimensions = 'dimensions'
+
+}
\ No newline at end of file
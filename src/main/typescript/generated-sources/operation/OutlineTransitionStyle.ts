@@ -0,0 +1,16 @@
+export enum OutlineTransitionStyle {
+
+    Uncover = 'uncover',
+    Fly = 'fly',
+    Glitter = 'glitter',
+    Cover = 'cover',
+    Dissolve = 'dissolve',
+    Box = 'box',
+    Push = 'push',
+    Split = 'split',
+    Blinds = 'blinds',
+    Fade = 'fade',
+    None = 'none',
+    Wipe = 'wipe'
+
+}
\ No newline at end of file
@@ -0,0 +1,275 @@
+import {
+    ModelAssignment,
+    Metrics,
+    ModelStream,
+    Coordinates,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PaddedRectangleInterface  {
+
+    /**
+    * The bottom padding value.
+    */
+    bottom?: number;
+    /**
+    * Used to define the coordinate system and, accordingly, the origin for the position arguments.  *   user = User coordinate system (origin at top left) *   pdf = PDF coordinate system (origin at bottom left)
+    */
+    coordinates?: Coordinates;
+    /**
+    * The height dimension.
+    */
+    height?: number;
+    /**
+    * The left padding value.
+    */
+    left?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * The right padding value.
+    */
+    right?: number;
+    /**
+    * The top padding value.
+    */
+    top?: number;
+    /**
+    * The width dimension.
+    */
+    width?: number;
+
+}
+export class PaddedRectangle implements PaddedRectangleInterface, Parameter {
+    /**
+    * The bottom padding value.
+    */
+    bottom?: number;
+    /**
+    * Used to define the coordinate system and, accordingly, the origin for the position arguments.  *   user = User coordinate system (origin at top left) *   pdf = PDF coordinate system (origin at bottom left)
+    */
+    coordinates?: Coordinates;
+    /**
+    * The height dimension.
+    */
+    height?: number;
+    /**
+    * The left padding value.
+    */
+    left?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * The right padding value.
+    */
+    right?: number;
+    /**
+    * The top padding value.
+    */
+    top?: number;
+    /**
+    * The width dimension.
+    */
+    width?: number;
+
+    constructor(data: any) {
+        let bottomDefault: any = 0;
+        this.bottom = typeof data?.bottom !== "undefined" ? data?.bottom : bottomDefault;
+        let coordinatesDefault: any = "user";
+        this.coordinates = typeof data?.coordinates !== "undefined" ? data?.coordinates : coordinatesDefault;
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let leftDefault: any = 0;
+        this.left = typeof data?.left !== "undefined" ? data?.left : leftDefault;
+        let metricsDefault: any = "mm";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let rightDefault: any = 0;
+        this.right = typeof data?.right !== "undefined" ? data?.right : rightDefault;
+        let topDefault: any = 0;
+        this.top = typeof data?.top !== "undefined" ? data?.top : topDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+    }
+
+    public static getBottomDefault(): number {
+        return 0;
+    }
+
+    public static getBottomDescription(): string {
+        return "The bottom padding value.";
+    }
+
+    public static getCoordinatesDefault(): Coordinates {
+        return "user" as Coordinates;
+    }
+
+    public static getCoordinatesDescription(): string {
+        return "Used to define the coordinate system and, accordingly, the origin for the position arguments.\n\n*   user = User coordinate system (origin at top left)\n*   pdf = PDF coordinate system (origin at bottom left)";
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "The height dimension.";
+    }
+
+    public static getHeightMin(): number {
+        return 0;
+    }
+
+    public static getLeftDefault(): number {
+        return 0;
+    }
+
+    public static getLeftDescription(): string {
+        return "The left padding value.";
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "mm" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getRightDefault(): number {
+        return 0;
+    }
+
+    public static getRightDescription(): string {
+        return "The right padding value.";
+    }
+
+    public static getTopDefault(): number {
+        return 0;
+    }
+
+    public static getTopDescription(): string {
+        return "The top padding value.";
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "The width dimension.";
+    }
+
+    public static getWidthMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): PaddedRectangle {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PaddedRectangle(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PaddedRectangle> {
+        return ModelStream.decodeArray(source, PaddedRectangle.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'bottom': this.bottom,
+            'coordinates': this.coordinates,
+            'height': this.height,
+            'left': this.left,
+            'metrics': this.metrics,
+            'right': this.right,
+            'top': this.top,
+            'width': this.width,
+        };
+    }
+
+    public clone(): PaddedRectangle {
+        return PaddedRectangle.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "bottom", typeof data?.bottom !== "undefined" ? data?.bottom : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "coordinates", typeof data?.coordinates !== "undefined" ? data?.coordinates : "user") || changed;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "left", typeof data?.left !== "undefined" ? data?.left : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "mm") || changed;
+        changed = ModelAssignment.assignValue(this, "right", typeof data?.right !== "undefined" ? data?.right : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "top", typeof data?.top !== "undefined" ? data?.top : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bottom, other.bottom)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.coordinates, other.coordinates)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.left, other.left)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.right, other.right)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.top, other.top)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.bottom);
+        hash = ModelEquality.hash(hash, this.coordinates);
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.left);
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.right);
+        hash = ModelEquality.hash(hash, this.top);
+        hash = ModelEquality.hash(hash, this.width);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PaddedRectangle(";
+        fingerprint += ModelEquality.fingerprint(this.bottom) + ",";
+        fingerprint += ModelEquality.fingerprint(this.coordinates) + ",";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.left) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.right) + ",";
+        fingerprint += ModelEquality.fingerprint(this.top) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+export enum PageBox {
+
+    CropBox = 'crop_box',
+    BleedBox = 'bleed_box',
+    TrimBox = 'trim_box',
+    MediaBox = 'media_box',
+    ArtBox = 'art_box'
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum PageGroup {
+
+    All = 'all',
+    Even = 'even',
+    Odd = 'odd'
+
+}
\ No newline at end of file
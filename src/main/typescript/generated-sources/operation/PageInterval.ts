@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PageIntervalInterface  {
+
+    /**
+    * If true, the elements are also placed on even-numbered pages.
+    */
+    even?: boolean;
+    /**
+    * If true, the elements are also placed on pages with odd-numbered pages.
+    */
+    odd?: boolean;
+    /**
+    * Defines the pages of the PDF document to which new elements should be added. Either a single page or a range of pages (e.g., \"1-5\") can be defined. (Can only be used to define a single contiguous interval of consecutive pages.)
+    */
+    pages?: string;
+
+}
+export class PageInterval implements PageIntervalInterface, Parameter {
+    /**
+    * If true, the elements are also placed on even-numbered pages.
+    */
+    even?: boolean;
+    /**
+    * If true, the elements are also placed on pages with odd-numbered pages.
+    */
+    odd?: boolean;
+    /**
+    * Defines the pages of the PDF document to which new elements should be added. Either a single page or a range of pages (e.g., \"1-5\") can be defined. (Can only be used to define a single contiguous interval of consecutive pages.)
+    */
+    pages?: string;
+
+    constructor(data: any) {
+        let evenDefault: any = true;
+        this.even = typeof data?.even !== "undefined" ? data?.even : evenDefault;
+        let oddDefault: any = true;
+        this.odd = typeof data?.odd !== "undefined" ? data?.odd : oddDefault;
+        let pagesDefault: any = "*";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+    }
+
+    public static getEvenDefault(): boolean {
+        return true;
+    }
+
+    public static getEvenDescription(): string {
+        return "If true, the elements are also placed on even-numbered pages.";
+    }
+
+    public static getOddDefault(): boolean {
+        return true;
+    }
+
+    public static getOddDescription(): string {
+        return "If true, the elements are also placed on pages with odd-numbered pages.";
+    }
+
+    public static getPagesDefault(): string {
+        return "*";
+    }
+
+    public static getPagesDescription(): string {
+        return "Defines the pages of the PDF document to which new elements should be added. Either a single page or a range of pages (e.g., \"1-5\") can be defined. (Can only be used to define a single contiguous interval of consecutive pages.)";
+    }
+
+    public static fromJson(data: any): PageInterval {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PageInterval(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PageInterval> {
+        return ModelStream.decodeArray(source, PageInterval.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'even': this.even,
+            'odd': this.odd,
+            'pages': this.pages,
+        };
+    }
+
+    public clone(): PageInterval {
+        return PageInterval.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "even", typeof data?.even !== "undefined" ? data?.even : true) || changed;
+        changed = ModelAssignment.assignValue(this, "odd", typeof data?.odd !== "undefined" ? data?.odd : true) || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "*") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.even, other.even)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.odd, other.odd)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.even);
+        hash = ModelEquality.hash(hash, this.odd);
+        hash = ModelEquality.hash(hash, this.pages);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PageInterval(";
+        fingerprint += ModelEquality.fingerprint(this.even) + ",";
+        fingerprint += ModelEquality.fingerprint(this.odd) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+export enum PageLayout {
+
+    SinglePage = 'singlePage',
+    TwoPagesContinous = 'twoPagesContinous',
+    TwoPagesContinousRight = 'twoPagesContinousRight',
+    SinglePageContinous = 'singlePageContinous',
+    TwoPagesRight = 'twoPagesRight',
+    TwoPages = 'twoPages'
+
+}
\ No newline at end of file
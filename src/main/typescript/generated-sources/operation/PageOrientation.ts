@@ -0,0 +1,7 @@
+export enum PageOrientation {
+
+    Landscape = 'landscape',
+    Portrait = 'portrait',
+    Any = 'any'
+
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    RemovePageTransitions,
+    AddPageTransitions,
+    ModelEquality,
+} from "./../index";
+
+export interface PageTransitionsToolboxOptionsInterface  {
+
+    add?: Array<AddPageTransitions>;
+    remove?: Array<RemovePageTransitions>;
+
+}
+export class PageTransitionsToolboxOptions implements PageTransitionsToolboxOptionsInterface, Parameter {
+    add?: Array<AddPageTransitions>;
+    remove?: Array<RemovePageTransitions>;
+
+    constructor(data: any) {
+        this.add = (data?.add || []).map(
+            AddPageTransitions.fromJson
+        );
+        this.remove = (data?.remove || []).map(
+            RemovePageTransitions.fromJson
+        );
+    }
+
+    public static getAddDefault(): Array<AddPageTransitions> {
+        return [];
+    }
+
+    public static getAddDescription(): string {
+        return "";
+    }
+
+    public static getRemoveDefault(): Array<RemovePageTransitions> {
+        return [];
+    }
+
+    public static getRemoveDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PageTransitionsToolboxOptions {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PageTransitionsToolboxOptions(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PageTransitionsToolboxOptions> {
+        return ModelStream.decodeArray(source, PageTransitionsToolboxOptions.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'add': this.add?.map((data) => data.toJson()),
+            'remove': this.remove?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): PageTransitionsToolboxOptions {
+        return PageTransitionsToolboxOptions.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "add", data?.add, AddPageTransitions.fromJson, AddPageTransitions) || changed;
+        changed = ModelAssignment.assignArray(this, "remove", data?.remove, RemovePageTransitions.fromJson, RemovePageTransitions) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.add, other.add)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.remove, other.remove)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.add);
+        hash = ModelEquality.hash(hash, this.remove);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PageTransitionsToolboxOptions(";
+        fingerprint += ModelEquality.fingerprint(this.add) + ",";
+        fingerprint += ModelEquality.fingerprint(this.remove) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    PageInterval,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PagesHeaderFooterInterface  {
+
+    pageInterval?: PageInterval;
+
+}
+export class PagesHeaderFooter implements PagesHeaderFooterInterface, Parameter {
+    pageInterval?: PageInterval;
+
+    constructor(data: any) {
+        this.pageInterval = PageInterval.fromJson(data?.pageInterval);
+    }
+
+    public static getPageIntervalDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PagesHeaderFooter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PagesHeaderFooter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PagesHeaderFooter> {
+        return ModelStream.decodeArray(source, PagesHeaderFooter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'pageInterval': this.pageInterval?.toJson(),
+        };
+    }
+
+    public clone(): PagesHeaderFooter {
+        return PagesHeaderFooter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "pageInterval", data?.pageInterval, PageInterval.fromJson, PageInterval) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pageInterval, other.pageInterval)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.pageInterval);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PagesHeaderFooter(";
+        fingerprint += ModelEquality.fingerprint(this.pageInterval) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
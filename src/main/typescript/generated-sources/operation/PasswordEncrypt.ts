@@ -0,0 +1,141 @@
+import {
+    ModelAssignment,
+    PdfEncryptionKey,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PasswordEncryptInterface  {
+
+    /**
+    * Sets the encryption level for the document.  *   RC4\\_40 = 40-bit RC4 *   RC4\\_128 = 128-bit RC4 *   AES\\_128 = 128-bit AES *   AES\\_256 = 256-bit AES  **Important:** Please note that the option \"256-bit AES\" only works if the \"Java Cryptography Extension (JCE)\" has been enabled with \"Unlimited Strength\" in the JVM. You can obtain the modified \"Policy Files\" (along with instructions for installation) from the Oracle website: Java Cryptography Extension (JCE) Unlimited Strength Jurisdiction Policy Files 7 Download: http://www.oracle.com/technetwork/java/javase/downloads/jce-7-download-432124.html
+    */
+    encryptionKey?: PdfEncryptionKey;
+    /**
+    * Used to set the password that will be requested if the PDF document is opened for reading.
+    */
+    open?: string;
+    /**
+    * Used to set the password that will be requested if the file is opened for editing (e.g., when removing pages). The password is required to enable the individual access permissions and must not be blank if the access permissions are to be used.  **Important:** Please note that the password and the associated access permissions will only provide protection if an appropriate display program for PDF documents takes these settings into account.
+    */
+    permission?: string;
+
+}
+export class PasswordEncrypt implements PasswordEncryptInterface, Parameter {
+    /**
+    * Sets the encryption level for the document.  *   RC4\\_40 = 40-bit RC4 *   RC4\\_128 = 128-bit RC4 *   AES\\_128 = 128-bit AES *   AES\\_256 = 256-bit AES  **Important:** Please note that the option \"256-bit AES\" only works if the \"Java Cryptography Extension (JCE)\" has been enabled with \"Unlimited Strength\" in the JVM. You can obtain the modified \"Policy Files\" (along with instructions for installation) from the Oracle website: Java Cryptography Extension (JCE) Unlimited Strength Jurisdiction Policy Files 7 Download: http://www.oracle.com/technetwork/java/javase/downloads/jce-7-download-432124.html
+    */
+    encryptionKey?: PdfEncryptionKey;
+    /**
+    * Used to set the password that will be requested if the PDF document is opened for reading.
+    */
+    open?: string;
+    /**
+    * Used to set the password that will be requested if the file is opened for editing (e.g., when removing pages). The password is required to enable the individual access permissions and must not be blank if the access permissions are to be used.  **Important:** Please note that the password and the associated access permissions will only provide protection if an appropriate display program for PDF documents takes these settings into account.
+    */
+    permission?: string;
+
+    constructor(data: any) {
+        let encryptionKeyDefault: any = "RC4_128";
+        this.encryptionKey = typeof data?.encryptionKey !== "undefined" ? data?.encryptionKey : encryptionKeyDefault;
+        let openDefault: any = "";
+        this.open = typeof data?.open !== "undefined" ? data?.open : openDefault;
+        let permissionDefault: any = "";
+        this.permission = typeof data?.permission !== "undefined" ? data?.permission : permissionDefault;
+    }
+
+    public static getEncryptionKeyDefault(): PdfEncryptionKey {
+        return "RC4_128" as PdfEncryptionKey;
+    }
+
+    public static getEncryptionKeyDescription(): string {
+        return "Sets the encryption level for the document.\n\n*   RC4\\_40 = 40-bit RC4\n*   RC4\\_128 = 128-bit RC4\n*   AES\\_128 = 128-bit AES\n*   AES\\_256 = 256-bit AES\n\n**Important:** Please note that the option \"256-bit AES\" only works if the \"Java Cryptography Extension (JCE)\" has been enabled with \"Unlimited Strength\" in the JVM. You can obtain the modified \"Policy Files\" (along with instructions for installation) from the Oracle website: Java Cryptography Extension (JCE) Unlimited Strength Jurisdiction Policy Files 7 Download: http:\/\/www.oracle.com\/technetwork\/java\/javase\/downloads\/jce-7-download-432124.html";
+    }
+
+    public static getOpenDefault(): string {
+        return "";
+    }
+
+    public static getOpenDescription(): string {
+        return "Used to set the password that will be requested if the PDF document is opened for reading.";
+    }
+
+    public static getPermissionDefault(): string {
+        return "";
+    }
+
+    public static getPermissionDescription(): string {
+        return "Used to set the password that will be requested if the file is opened for editing (e.g., when removing pages). The password is required to enable the individual access permissions and must not be blank if the access permissions are to be used.\n\n**Important:** Please note that the password and the associated access permissions will only provide protection if an appropriate display program for PDF documents takes these settings into account.";
+    }
+
+    public static fromJson(data: any): PasswordEncrypt {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PasswordEncrypt(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PasswordEncrypt> {
+        return ModelStream.decodeArray(source, PasswordEncrypt.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'encryptionKey': this.encryptionKey,
+            'open': this.open,
+            'permission': this.permission,
+        };
+    }
+
+    public clone(): PasswordEncrypt {
+        return PasswordEncrypt.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "encryptionKey", typeof data?.encryptionKey !== "undefined" ? data?.encryptionKey : "RC4_128") || changed;
+        changed = ModelAssignment.assignValue(this, "open", typeof data?.open !== "undefined" ? data?.open : "") || changed;
+        changed = ModelAssignment.assignValue(this, "permission", typeof data?.permission !== "undefined" ? data?.permission : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.encryptionKey, other.encryptionKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.open, other.open)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.permission, other.permission)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.encryptionKey);
+        hash = ModelEquality.hash(hash, this.open);
+        hash = ModelEquality.hash(hash, this.permission);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PasswordEncrypt(";
+        fingerprint += ModelEquality.fingerprint(this.encryptionKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.open) + ",";
+        fingerprint += ModelEquality.fingerprint(this.permission) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,439 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Rectangle,
+    Parameter,
+    DataMatrixShape,
+    ModelEquality,
+    Pdf417CompactionMode,
+} from "./../index";
+
+export interface Pdf417BarcodeInterface  {
+
+    /**
+    * Used to specify the character set in which the barcode contents should be stored.
+    */
+    charset?: string;
+    /**
+    * If this value is set to \"true,\" the contents of all generated PDF417 barcodes will be compressed using the encoding selected with the \"compactionMode\" attribute.
+    */
+    compact?: boolean;
+    /**
+    * If PDF417 barcode compression has been enabled with the \"compact\" attribute, the encoding selected here for the compression of generated PDF417 barcodes will be used.  *   auto = Try to determine the best encoding method automatically. *   byte = Select a byte encoding method in which every 5 codewords represent 6 bytes. *   numeric = Select a numeric encoding method in which a group of 15 codewords represents up to 44 decimal numbers. *   text = Select a text encoding method in which each codeword represents up to 2 letters.
+    */
+    compactionMode?: Pdf417CompactionMode;
+    /**
+    * Used to specify the maximum number of codewords allowed in a single PDF417 barcode row.
+    */
+    dataCodewordsMax?: number;
+    /**
+    * Used to specify the minimum number of codewords allowed in a single PDF417 barcode row.
+    */
+    dataCodewordsMin?: number;
+    /**
+    * Used to adjust the error correction level for generated PDF417 codes. The higher the level, the more error-resistant the barcode, ensuring that damaged codes will still be readable. A level of 1 to 8 can be specified.
+    */
+    errorCorrection?: number;
+    /**
+    * Used to specify the width of the empty frame that should be generated around the barcode. This shall use the same metrics as the position - if no position is present, the default (mm) shall be assumed.
+    */
+    margin?: number;
+    /**
+    * The page range for generating barcodes. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")
+    */
+    pages?: string;
+    position?: Rectangle;
+    /**
+    * Used to specify the barcode's rotation in 90-degree increments. When there is a value that falls under a full 90-degree increment, the next higher increment will be automatically selected.
+    */
+    rotation?: number;
+    /**
+    * Can be used to force a specific shape for generated Data Matrix codes.  *   default = Select an appropriate shape. *   rectangle = Force a rectangular shape. *   square = Force a square shape.
+    */
+    shape?: DataMatrixShape;
+    /**
+    * Used to specify the maximum number of code symbols that are allowed to be in a single codeword in the PDF417 barcode.
+    */
+    symbolsPerCodewordMax?: number;
+    /**
+    * Used to specify the minimum number of code symbols that are allowed to be in a single codeword in the PDF417 barcode.
+    */
+    symbolsPerCodewordMin?: number;
+    /**
+    * Contains the value that should be encoded in the barcode. Depending on the selected barcode format, there may be specific criteria for the data structure. For a description, please refer to the chapter \"Barcodes\"
+    */
+    value: string;
+
+}
+export class Pdf417Barcode implements Pdf417BarcodeInterface, Parameter {
+    /**
+    * Used to specify the character set in which the barcode contents should be stored.
+    */
+    charset?: string;
+    /**
+    * If this value is set to \"true,\" the contents of all generated PDF417 barcodes will be compressed using the encoding selected with the \"compactionMode\" attribute.
+    */
+    compact?: boolean;
+    /**
+    * If PDF417 barcode compression has been enabled with the \"compact\" attribute, the encoding selected here for the compression of generated PDF417 barcodes will be used.  *   auto = Try to determine the best encoding method automatically. *   byte = Select a byte encoding method in which every 5 codewords represent 6 bytes. *   numeric = Select a numeric encoding method in which a group of 15 codewords represents up to 44 decimal numbers. *   text = Select a text encoding method in which each codeword represents up to 2 letters.
+    */
+    compactionMode?: Pdf417CompactionMode;
+    /**
+    * Used to specify the maximum number of codewords allowed in a single PDF417 barcode row.
+    */
+    dataCodewordsMax?: number;
+    /**
+    * Used to specify the minimum number of codewords allowed in a single PDF417 barcode row.
+    */
+    dataCodewordsMin?: number;
+    /**
+    * Used to adjust the error correction level for generated PDF417 codes. The higher the level, the more error-resistant the barcode, ensuring that damaged codes will still be readable. A level of 1 to 8 can be specified.
+    */
+    errorCorrection?: number;
+    /**
+    * Used to specify the width of the empty frame that should be generated around the barcode. This shall use the same metrics as the position - if no position is present, the default (mm) shall be assumed.
+    */
+    margin?: number;
+    /**
+    * The page range for generating barcodes. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")
+    */
+    pages?: string;
+    position?: Rectangle;
+    /**
+    * Used to specify the barcode's rotation in 90-degree increments. When there is a value that falls under a full 90-degree increment, the next higher increment will be automatically selected.
+    */
+    rotation?: number;
+    /**
+    * Can be used to force a specific shape for generated Data Matrix codes.  *   default = Select an appropriate shape. *   rectangle = Force a rectangular shape. *   square = Force a square shape.
+    */
+    shape?: DataMatrixShape;
+    /**
+    * Used to specify the maximum number of code symbols that are allowed to be in a single codeword in the PDF417 barcode.
+    */
+    symbolsPerCodewordMax?: number;
+    /**
+    * Used to specify the minimum number of code symbols that are allowed to be in a single codeword in the PDF417 barcode.
+    */
+    symbolsPerCodewordMin?: number;
+    /**
+    * Contains the value that should be encoded in the barcode. Depending on the selected barcode format, there may be specific criteria for the data structure. For a description, please refer to the chapter \"Barcodes\"
+    */
+    value: string;
+
+    constructor(data: any) {
+        let charsetDefault: any = "utf-8";
+        this.charset = typeof data?.charset !== "undefined" ? data?.charset : charsetDefault;
+        let compactDefault: any = false;
+        this.compact = typeof data?.compact !== "undefined" ? data?.compact : compactDefault;
+        let compactionModeDefault: any = "auto";
+        this.compactionMode = typeof data?.compactionMode !== "undefined" ? data?.compactionMode : compactionModeDefault;
+        let dataCodewordsMaxDefault: any = 0;
+        this.dataCodewordsMax = typeof data?.dataCodewordsMax !== "undefined" ? data?.dataCodewordsMax : dataCodewordsMaxDefault;
+        let dataCodewordsMinDefault: any = 0;
+        this.dataCodewordsMin = typeof data?.dataCodewordsMin !== "undefined" ? data?.dataCodewordsMin : dataCodewordsMinDefault;
+        let errorCorrectionDefault: any = 2;
+        this.errorCorrection = typeof data?.errorCorrection !== "undefined" ? data?.errorCorrection : errorCorrectionDefault;
+        let marginDefault: any = 0;
+        this.margin = typeof data?.margin !== "undefined" ? data?.margin : marginDefault;
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        this.position = Rectangle.fromJson(data?.position);
+        let rotationDefault: any = 0;
+        this.rotation = typeof data?.rotation !== "undefined" ? data?.rotation : rotationDefault;
+        let shapeDefault: any = "default";
+        this.shape = typeof data?.shape !== "undefined" ? data?.shape : shapeDefault;
+        let symbolsPerCodewordMaxDefault: any = 0;
+        this.symbolsPerCodewordMax = typeof data?.symbolsPerCodewordMax !== "undefined" ? data?.symbolsPerCodewordMax : symbolsPerCodewordMaxDefault;
+        let symbolsPerCodewordMinDefault: any = 0;
+        this.symbolsPerCodewordMin = typeof data?.symbolsPerCodewordMin !== "undefined" ? data?.symbolsPerCodewordMin : symbolsPerCodewordMinDefault;
+        let valueDefault: any = "";
+        this.value = typeof data.value !== "undefined" ? data.value : valueDefault;
+    }
+
+    public static getCharsetDefault(): string {
+        return "utf-8";
+    }
+
+    public static getCharsetDescription(): string {
+        return "Used to specify the character set in which the barcode contents should be stored.";
+    }
+
+    public static getCompactDefault(): boolean {
+        return false;
+    }
+
+    public static getCompactDescription(): string {
+        return "If this value is set to \"true,\" the contents of all generated PDF417 barcodes will be compressed using the encoding selected with the \"compactionMode\" attribute.";
+    }
+
+    public static getCompactionModeDefault(): Pdf417CompactionMode {
+        return "auto" as Pdf417CompactionMode;
+    }
+
+    public static getCompactionModeDescription(): string {
+        return "If PDF417 barcode compression has been enabled with the \"compact\" attribute, the encoding selected here for the compression of generated PDF417 barcodes will be used.\n\n*   auto = Try to determine the best encoding method automatically.\n*   byte = Select a byte encoding method in which every 5 codewords represent 6 bytes.\n*   numeric = Select a numeric encoding method in which a group of 15 codewords represents up to 44 decimal numbers.\n*   text = Select a text encoding method in which each codeword represents up to 2 letters.";
+    }
+
+    public static getDataCodewordsMaxDefault(): number {
+        return 0;
+    }
+
+    public static getDataCodewordsMaxDescription(): string {
+        return "Used to specify the maximum number of codewords allowed in a single PDF417 barcode row.";
+    }
+
+    public static getDataCodewordsMaxMin(): number {
+        return 1;
+    }
+
+    public static getDataCodewordsMinDefault(): number {
+        return 0;
+    }
+
+    public static getDataCodewordsMinDescription(): string {
+        return "Used to specify the minimum number of codewords allowed in a single PDF417 barcode row.";
+    }
+
+    public static getDataCodewordsMinMin(): number {
+        return 1;
+    }
+
+    public static getErrorCorrectionDefault(): number {
+        return 2;
+    }
+
+    public static getErrorCorrectionDescription(): string {
+        return "Used to adjust the error correction level for generated PDF417 codes. The higher the level, the more error-resistant the barcode, ensuring that damaged codes will still be readable. A level of 1 to 8 can be specified.";
+    }
+
+    public static getErrorCorrectionMin(): number {
+        return 1;
+    }
+
+    public static getErrorCorrectionMax(): number {
+        return 8;
+    }
+
+    public static getMarginDefault(): number {
+        return 0;
+    }
+
+    public static getMarginDescription(): string {
+        return "Used to specify the width of the empty frame that should be generated around the barcode. This shall use the same metrics as the position - if no position is present, the default (mm) shall be assumed.";
+    }
+
+    public static getMarginMin(): number {
+        return 0;
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "The page range for generating barcodes. Individual pages or a range of pages can be defined here. If the text is empty, the entire file will be exported (e.g.: \"1-10\" or \"1,2,5-10\")";
+    }
+
+    public static getPositionDescription(): string {
+        return "";
+    }
+
+    public static getRotationDefault(): number {
+        return 0;
+    }
+
+    public static getRotationDescription(): string {
+        return "Used to specify the barcode's rotation in 90-degree increments. When there is a value that falls under a full 90-degree increment, the next higher increment will be automatically selected.";
+    }
+
+    public static getRotationMin(): number {
+        return 0;
+    }
+
+    public static getShapeDefault(): DataMatrixShape {
+        return "default" as DataMatrixShape;
+    }
+
+    public static getShapeDescription(): string {
+        return "Can be used to force a specific shape for generated Data Matrix codes.\n\n*   default = Select an appropriate shape.\n*   rectangle = Force a rectangular shape.\n*   square = Force a square shape.";
+    }
+
+    public static getSymbolsPerCodewordMaxDefault(): number {
+        return 0;
+    }
+
+    public static getSymbolsPerCodewordMaxDescription(): string {
+        return "Used to specify the maximum number of code symbols that are allowed to be in a single codeword in the PDF417 barcode.";
+    }
+
+    public static getSymbolsPerCodewordMaxMin(): number {
+        return 1;
+    }
+
+    public static getSymbolsPerCodewordMinDefault(): number {
+        return 0;
+    }
+
+    public static getSymbolsPerCodewordMinDescription(): string {
+        return "Used to specify the minimum number of code symbols that are allowed to be in a single codeword in the PDF417 barcode.";
+    }
+
+    public static getSymbolsPerCodewordMinMin(): number {
+        return 1;
+    }
+
+    public static getValueDefault(): string {
+        return "";
+    }
+
+    public static getValueDescription(): string {
+        return "Contains the value that should be encoded in the barcode. Depending on the selected barcode format, there may be specific criteria for the data structure. For a description, please refer to the chapter \"Barcodes\"";
+    }
+
+    public static fromJson(data: any): Pdf417Barcode {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Pdf417Barcode(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Pdf417Barcode> {
+        return ModelStream.decodeArray(source, Pdf417Barcode.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'charset': this.charset,
+            'compact': this.compact,
+            'compactionMode': this.compactionMode,
+            'dataCodewordsMax': this.dataCodewordsMax,
+            'dataCodewordsMin': this.dataCodewordsMin,
+            'errorCorrection': this.errorCorrection,
+            'margin': this.margin,
+            'pages': this.pages,
+            'position': this.position?.toJson(),
+            'rotation': this.rotation,
+            'shape': this.shape,
+            'symbolsPerCodewordMax': this.symbolsPerCodewordMax,
+            'symbolsPerCodewordMin': this.symbolsPerCodewordMin,
+            'value': this.value,
+        };
+    }
+
+    public clone(): Pdf417Barcode {
+        return Pdf417Barcode.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "charset", typeof data?.charset !== "undefined" ? data?.charset : "utf-8") || changed;
+        changed = ModelAssignment.assignValue(this, "compact", typeof data?.compact !== "undefined" ? data?.compact : false) || changed;
+        changed = ModelAssignment.assignValue(this, "compactionMode", typeof data?.compactionMode !== "undefined" ? data?.compactionMode : "auto") || changed;
+        changed = ModelAssignment.assignValue(this, "dataCodewordsMax", typeof data?.dataCodewordsMax !== "undefined" ? data?.dataCodewordsMax : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "dataCodewordsMin", typeof data?.dataCodewordsMin !== "undefined" ? data?.dataCodewordsMin : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "errorCorrection", typeof data?.errorCorrection !== "undefined" ? data?.errorCorrection : 2) || changed;
+        changed = ModelAssignment.assignValue(this, "margin", typeof data?.margin !== "undefined" ? data?.margin : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        changed = ModelAssignment.assignModel(this, "position", data?.position, Rectangle.fromJson, Rectangle) || changed;
+        changed = ModelAssignment.assignValue(this, "rotation", typeof data?.rotation !== "undefined" ? data?.rotation : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "shape", typeof data?.shape !== "undefined" ? data?.shape : "default") || changed;
+        changed = ModelAssignment.assignValue(this, "symbolsPerCodewordMax", typeof data?.symbolsPerCodewordMax !== "undefined" ? data?.symbolsPerCodewordMax : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "symbolsPerCodewordMin", typeof data?.symbolsPerCodewordMin !== "undefined" ? data?.symbolsPerCodewordMin : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "value", typeof data.value !== "undefined" ? data.value : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.charset, other.charset)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compact, other.compact)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compactionMode, other.compactionMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dataCodewordsMax, other.dataCodewordsMax)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dataCodewordsMin, other.dataCodewordsMin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.errorCorrection, other.errorCorrection)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.margin, other.margin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rotation, other.rotation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.shape, other.shape)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.symbolsPerCodewordMax, other.symbolsPerCodewordMax)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.symbolsPerCodewordMin, other.symbolsPerCodewordMin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.value, other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.charset);
+        hash = ModelEquality.hash(hash, this.compact);
+        hash = ModelEquality.hash(hash, this.compactionMode);
+        hash = ModelEquality.hash(hash, this.dataCodewordsMax);
+        hash = ModelEquality.hash(hash, this.dataCodewordsMin);
+        hash = ModelEquality.hash(hash, this.errorCorrection);
+        hash = ModelEquality.hash(hash, this.margin);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.position);
+        hash = ModelEquality.hash(hash, this.rotation);
+        hash = ModelEquality.hash(hash, this.shape);
+        hash = ModelEquality.hash(hash, this.symbolsPerCodewordMax);
+        hash = ModelEquality.hash(hash, this.symbolsPerCodewordMin);
+        hash = ModelEquality.hash(hash, this.value);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Pdf417Barcode(";
+        fingerprint += ModelEquality.fingerprint(this.charset) + ",";
+        fingerprint += ModelEquality.fingerprint(this.compact) + ",";
+        fingerprint += ModelEquality.fingerprint(this.compactionMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.dataCodewordsMax) + ",";
+        fingerprint += ModelEquality.fingerprint(this.dataCodewordsMin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.errorCorrection) + ",";
+        fingerprint += ModelEquality.fingerprint(this.margin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        fingerprint += ModelEquality.fingerprint(this.rotation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.shape) + ",";
+        fingerprint += ModelEquality.fingerprint(this.symbolsPerCodewordMax) + ",";
+        fingerprint += ModelEquality.fingerprint(this.symbolsPerCodewordMin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.value) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
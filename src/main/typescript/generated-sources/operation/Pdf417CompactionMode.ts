@@ -0,0 +1,8 @@
+export enum Pdf417CompactionMode {
+
+    Auto = 'auto',
+    Numeric = 'numeric',
+    Byte = 'byte',
+    Text = 'text'
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum PdfContentEncryption {
+
+    EncryptEverything = 'encryptEverything',
+    ExposeMetadata = 'exposeMetadata'
+
+}
\ No newline at end of file
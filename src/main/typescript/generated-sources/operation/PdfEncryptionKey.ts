@@ -0,0 +1,8 @@
+export enum PdfEncryptionKey {
+
+    RC4128 = 'RC4_128',
+    AES128 = 'AES_128',
+    AES256 = 'AES_256',
+    RC440 = 'RC4_40'
+
+}
\ No newline at end of file
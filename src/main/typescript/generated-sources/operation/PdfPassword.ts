@@ -0,0 +1,130 @@
+import {
+    ModelAssignment,
+    KeyPair,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PdfPasswordInterface  {
+
+    keyPair?: KeyPair;
+    /**
+    * A password that is required to open the document. If the provided PDF document is protected in such a way that a password (user password) is required to read the document, the corresponding password must also be passed. Without this password it is not possible to edit the document with the web service, because it cannot be read.
+    */
+    open?: string;
+    /**
+    * A password that allows \"editing access\" to the document. If the provided PDF document is password protected and the web service operation is to edit the document, then the appropriate password (owner password) must be provided to unlock the document.
+    */
+    permission?: string;
+
+}
+export class PdfPassword implements PdfPasswordInterface, Parameter {
+    keyPair?: KeyPair;
+    /**
+    * A password that is required to open the document. If the provided PDF document is protected in such a way that a password (user password) is required to read the document, the corresponding password must also be passed. Without this password it is not possible to edit the document with the web service, because it cannot be read.
+    */
+    open?: string;
+    /**
+    * A password that allows \"editing access\" to the document. If the provided PDF document is password protected and the web service operation is to edit the document, then the appropriate password (owner password) must be provided to unlock the document.
+    */
+    permission?: string;
+
+    constructor(data: any) {
+        this.keyPair = KeyPair.fromJson(data?.keyPair);
+        let openDefault: any = "";
+        this.open = typeof data?.open !== "undefined" ? data?.open : openDefault;
+        let permissionDefault: any = "";
+        this.permission = typeof data?.permission !== "undefined" ? data?.permission : permissionDefault;
+    }
+
+    public static getKeyPairDescription(): string {
+        return "";
+    }
+
+    public static getOpenDefault(): string {
+        return "";
+    }
+
+    public static getOpenDescription(): string {
+        return "A password that is required to open the document. If the provided PDF document is protected in such a way that a password (user password) is required to read the document, the corresponding password must also be passed. Without this password it is not possible to edit the document with the web service, because it cannot be read.";
+    }
+
+    public static getPermissionDefault(): string {
+        return "";
+    }
+
+    public static getPermissionDescription(): string {
+        return "A password that allows \"editing access\" to the document. If the provided PDF document is password protected and the web service operation is to edit the document, then the appropriate password (owner password) must be provided to unlock the document.";
+    }
+
+    public static fromJson(data: any): PdfPassword {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PdfPassword(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PdfPassword> {
+        return ModelStream.decodeArray(source, PdfPassword.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'keyPair': this.keyPair?.toJson(),
+            'open': this.open,
+            'permission': this.permission,
+        };
+    }
+
+    public clone(): PdfPassword {
+        return PdfPassword.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "keyPair", data?.keyPair, KeyPair.fromJson, KeyPair) || changed;
+        changed = ModelAssignment.assignValue(this, "open", typeof data?.open !== "undefined" ? data?.open : "") || changed;
+        changed = ModelAssignment.assignValue(this, "permission", typeof data?.permission !== "undefined" ? data?.permission : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyPair, other.keyPair)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.open, other.open)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.permission, other.permission)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.keyPair);
+        hash = ModelEquality.hash(hash, this.open);
+        hash = ModelEquality.hash(hash, this.permission);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PdfPassword(";
+        fingerprint += ModelEquality.fingerprint(this.keyPair) + ",";
+        fingerprint += ModelEquality.fingerprint(this.open) + ",";
+        fingerprint += ModelEquality.fingerprint(this.permission) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
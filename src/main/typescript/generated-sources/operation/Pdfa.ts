@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    AnalyzePdfa,
+    Parameter,
+    ConvertPdfa,
+    ModelEquality,
+} from "./../index";
+
+export interface PdfaInterface  {
+
+    analyze?: AnalyzePdfa;
+    convert?: ConvertPdfa;
+
+}
+export class Pdfa implements PdfaInterface, Parameter {
+    analyze?: AnalyzePdfa;
+    convert?: ConvertPdfa;
+
+    constructor(data: any) {
+        this.analyze = AnalyzePdfa.fromJson(data?.analyze);
+        this.convert = ConvertPdfa.fromJson(data?.convert);
+    }
+
+    public static getAnalyzeDescription(): string {
+        return "";
+    }
+
+    public static getConvertDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Pdfa {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Pdfa(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Pdfa> {
+        return ModelStream.decodeArray(source, Pdfa.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'analyze': this.analyze?.toJson(),
+            'convert': this.convert?.toJson(),
+        };
+    }
+
+    public clone(): Pdfa {
+        return Pdfa.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "analyze", data?.analyze, AnalyzePdfa.fromJson, AnalyzePdfa) || changed;
+        changed = ModelAssignment.assignModel(this, "convert", data?.convert, ConvertPdfa.fromJson, ConvertPdfa) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.analyze, other.analyze)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.convert, other.convert)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.analyze);
+        hash = ModelEquality.hash(hash, this.convert);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Pdfa(";
+        fingerprint += ModelEquality.fingerprint(this.analyze) + ",";
+        fingerprint += ModelEquality.fingerprint(this.convert) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum PdfaEditProfile {
+
+    NoEditRestrictions = 'noEditRestrictions',
+    GeneralEditRestrictions = 'generalEditRestrictions',
+    RemovePdfaMetadata = 'removePdfaMetadata'
+
+}
\ No newline at end of file
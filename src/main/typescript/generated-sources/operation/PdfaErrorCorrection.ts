@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PdfaErrorCorrectionInterface  {
+
+    /**
+    * Enables or disables error correction. If the option is set to \"true\" then PDF syntax errors in the PDF document will be corrected during PDF/A conversion.
+    */
+    enabled?: boolean;
+
+}
+export class PdfaErrorCorrection implements PdfaErrorCorrectionInterface, Parameter {
+    /**
+    * Enables or disables error correction. If the option is set to \"true\" then PDF syntax errors in the PDF document will be corrected during PDF/A conversion.
+    */
+    enabled?: boolean;
+
+    constructor(data: any) {
+        let enabledDefault: any = false;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+    }
+
+    public static getEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getEnabledDescription(): string {
+        return "Enables or disables error correction. If the option is set to \"true\" then PDF syntax errors in the PDF document will be corrected during PDF\/A conversion.";
+    }
+
+    public static fromJson(data: any): PdfaErrorCorrection {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PdfaErrorCorrection(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PdfaErrorCorrection> {
+        return ModelStream.decodeArray(source, PdfaErrorCorrection.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'enabled': this.enabled,
+        };
+    }
+
+    public clone(): PdfaErrorCorrection {
+        return PdfaErrorCorrection.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.enabled);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PdfaErrorCorrection(";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
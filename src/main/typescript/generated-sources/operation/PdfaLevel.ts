@@ -0,0 +1,12 @@
+export enum PdfaLevel {
+
+    _3u = '3u',
+    _1b = '1b',
+    _2u = '2u',
+    _3a = '3a',
+    _1a = '1a',
+    _2b = '2b',
+    _2a = '2a',
+    _3b = '3b'
+
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Billing,
+    Parameter,
+    Pdfa,
+    ModelEquality,
+    PdfPassword,
+    Settings,
+} from "./../index";
+
+export interface PdfaOperationInterface  {
+
+    billing?: Billing;
+    password?: PdfPassword;
+    pdfa: Pdfa;
+    settings?: Settings;
+
+}
+export class PdfaOperation implements PdfaOperationInterface, Parameter {
+    billing?: Billing;
+    password?: PdfPassword;
+    pdfa: Pdfa;
+    settings?: Settings;
+
+    constructor(data: any) {
+        this.billing = Billing.fromJson(data?.billing);
+        this.password = PdfPassword.fromJson(data?.password);
+        this.pdfa = Pdfa.fromJson(data.pdfa);
+        this.settings = Settings.fromJson(data?.settings);
+    }
+
+    public static getBillingDescription(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "";
+    }
+
+    public static getPdfaDescription(): string {
+        return "";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PdfaOperation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PdfaOperation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PdfaOperation> {
+        return ModelStream.decodeArray(source, PdfaOperation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'billing': this.billing?.toJson(),
+            'password': this.password?.toJson(),
+            'pdfa': this.pdfa?.toJson(),
+            'settings': this.settings?.toJson(),
+        };
+    }
+
+    public clone(): PdfaOperation {
+        return PdfaOperation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "billing", data?.billing, Billing.fromJson, Billing) || changed;
+        changed = ModelAssignment.assignModel(this, "password", data?.password, PdfPassword.fromJson, PdfPassword) || changed;
+        changed = ModelAssignment.assignModel(this, "pdfa", data.pdfa, Pdfa.fromJson, Pdfa) || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, Settings.fromJson, Settings) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.billing, other.billing)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pdfa, other.pdfa)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.billing);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.pdfa);
+        hash = ModelEquality.hash(hash, this.settings);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PdfaOperation(";
+        fingerprint += ModelEquality.fingerprint(this.billing) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pdfa) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
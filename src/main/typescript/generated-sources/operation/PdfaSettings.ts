@@ -0,0 +1,91 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    PdfaEditProfile,
+} from "./../index";
+
+export interface PdfaSettingsInterface  {
+
+    /**
+    * Defines the profile whose rules web services have to check before they can come to execution. These profiles define a set of rules concerning the validity of PDF/A documents. A web service whose execution for a given PDF/A document would violate the rule set selected here should instead abort with an appropriate error code.  *   generalEditRestrictions = All changes to PDF/A documents are prohibited. *   removePdfaMetadata = All changes to PDF/A documents are allowed, but the PDF/A state of the document is revoked. (By removing the PDF/A metadata.) *   noEditRestrictions = All changes to PDF/A documents are allowed, without touching the PDF/A state of the document. (Risking the invalidation of the document.)
+    */
+    pdfaEditProfile?: PdfaEditProfile;
+
+}
+export class PdfaSettings implements PdfaSettingsInterface, Parameter {
+    /**
+    * Defines the profile whose rules web services have to check before they can come to execution. These profiles define a set of rules concerning the validity of PDF/A documents. A web service whose execution for a given PDF/A document would violate the rule set selected here should instead abort with an appropriate error code.  *   generalEditRestrictions = All changes to PDF/A documents are prohibited. *   removePdfaMetadata = All changes to PDF/A documents are allowed, but the PDF/A state of the document is revoked. (By removing the PDF/A metadata.) *   noEditRestrictions = All changes to PDF/A documents are allowed, without touching the PDF/A state of the document. (Risking the invalidation of the document.)
+    */
+    pdfaEditProfile?: PdfaEditProfile;
+
+    constructor(data: any) {
+        let pdfaEditProfileDefault: any = "removePdfaMetadata";
+        this.pdfaEditProfile = typeof data?.pdfaEditProfile !== "undefined" ? data?.pdfaEditProfile : pdfaEditProfileDefault;
+    }
+
+    public static getPdfaEditProfileDefault(): PdfaEditProfile {
+        return "removePdfaMetadata" as PdfaEditProfile;
+    }
+
+    public static getPdfaEditProfileDescription(): string {
+        return "Defines the profile whose rules web services have to check before they can come to execution. These profiles define a set of rules concerning the validity of PDF\/A documents. A web service whose execution for a given PDF\/A document would violate the rule set selected here should instead abort with an appropriate error code.\n\n*   generalEditRestrictions = All changes to PDF\/A documents are prohibited.\n*   removePdfaMetadata = All changes to PDF\/A documents are allowed, but the PDF\/A state of the document is revoked. (By removing the PDF\/A metadata.)\n*   noEditRestrictions = All changes to PDF\/A documents are allowed, without touching the PDF\/A state of the document. (Risking the invalidation of the document.)";
+    }
+
+    public static fromJson(data: any): PdfaSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PdfaSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PdfaSettings> {
+        return ModelStream.decodeArray(source, PdfaSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'pdfaEditProfile': this.pdfaEditProfile,
+        };
+    }
+
+    public clone(): PdfaSettings {
+        return PdfaSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "pdfaEditProfile", typeof data?.pdfaEditProfile !== "undefined" ? data?.pdfaEditProfile : "removePdfaMetadata") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pdfaEditProfile, other.pdfaEditProfile)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.pdfaEditProfile);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PdfaSettings(";
+        fingerprint += ModelEquality.fingerprint(this.pdfaEditProfile) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum PdfaSuccessReport {
+
+    Zip = 'zip',
+    Linked = 'linked',
+    None = 'none'
+
+}
\ No newline at end of file
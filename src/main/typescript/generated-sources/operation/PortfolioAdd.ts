@@ -0,0 +1,157 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    PortfolioFolder,
+    PortfolioFile,
+} from "./../index";
+
+export interface PortfolioAddInterface  {
+
+    file?: Array<PortfolioFile>;
+    folder?: Array<PortfolioFolder>;
+    /**
+    * Defines the path/folder where the initially shown document is stored in the portfolio.  **Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"/\" separated nested folder names.
+    */
+    initialDocumentPath?: string;
+    /**
+    * Select the name of the initially shown document.  **Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"/\" separated nested folder names.
+    */
+    initialFileName?: string;
+
+}
+export class PortfolioAdd implements PortfolioAddInterface, Parameter {
+    file?: Array<PortfolioFile>;
+    folder?: Array<PortfolioFolder>;
+    /**
+    * Defines the path/folder where the initially shown document is stored in the portfolio.  **Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"/\" separated nested folder names.
+    */
+    initialDocumentPath?: string;
+    /**
+    * Select the name of the initially shown document.  **Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"/\" separated nested folder names.
+    */
+    initialFileName?: string;
+
+    constructor(data: any) {
+        this.file = (data?.file || []).map(
+            PortfolioFile.fromJson
+        );
+        this.folder = (data?.folder || []).map(
+            PortfolioFolder.fromJson
+        );
+        let initialDocumentPathDefault: any = "";
+        this.initialDocumentPath = typeof data?.initialDocumentPath !== "undefined" ? data?.initialDocumentPath : initialDocumentPathDefault;
+        let initialFileNameDefault: any = "";
+        this.initialFileName = typeof data?.initialFileName !== "undefined" ? data?.initialFileName : initialFileNameDefault;
+    }
+
+    public static getFileDefault(): Array<PortfolioFile> {
+        return [];
+    }
+
+    public static getFileDescription(): string {
+        return "";
+    }
+
+    public static getFolderDefault(): Array<PortfolioFolder> {
+        return [];
+    }
+
+    public static getFolderDescription(): string {
+        return "";
+    }
+
+    public static getInitialDocumentPathDefault(): string {
+        return "";
+    }
+
+    public static getInitialDocumentPathDescription(): string {
+        return "Defines the path\/folder where the initially shown document is stored in the portfolio.\n\n**Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"\/\" separated nested folder names.";
+    }
+
+    public static getInitialFileNameDefault(): string {
+        return "";
+    }
+
+    public static getInitialFileNameDescription(): string {
+        return "Select the name of the initially shown document.\n\n**Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"\/\" separated nested folder names.";
+    }
+
+    public static fromJson(data: any): PortfolioAdd {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortfolioAdd(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortfolioAdd> {
+        return ModelStream.decodeArray(source, PortfolioAdd.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'file': this.file?.map((data) => data.toJson()),
+            'folder': this.folder?.map((data) => data.toJson()),
+            'initialDocumentPath': this.initialDocumentPath,
+            'initialFileName': this.initialFileName,
+        };
+    }
+
+    public clone(): PortfolioAdd {
+        return PortfolioAdd.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "file", data?.file, PortfolioFile.fromJson, PortfolioFile) || changed;
+        changed = ModelAssignment.assignArray(this, "folder", data?.folder, PortfolioFolder.fromJson, PortfolioFolder) || changed;
+        changed = ModelAssignment.assignValue(this, "initialDocumentPath", typeof data?.initialDocumentPath !== "undefined" ? data?.initialDocumentPath : "") || changed;
+        changed = ModelAssignment.assignValue(this, "initialFileName", typeof data?.initialFileName !== "undefined" ? data?.initialFileName : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.file, other.file)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.folder, other.folder)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.initialDocumentPath, other.initialDocumentPath)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.initialFileName, other.initialFileName)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.file);
+        hash = ModelEquality.hash(hash, this.folder);
+        hash = ModelEquality.hash(hash, this.initialDocumentPath);
+        hash = ModelEquality.hash(hash, this.initialFileName);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortfolioAdd(";
+        fingerprint += ModelEquality.fingerprint(this.file) + ",";
+        fingerprint += ModelEquality.fingerprint(this.folder) + ",";
+        fingerprint += ModelEquality.fingerprint(this.initialDocumentPath) + ",";
+        fingerprint += ModelEquality.fingerprint(this.initialFileName) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
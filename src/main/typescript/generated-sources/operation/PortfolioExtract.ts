@@ -0,0 +1,111 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    PortfolioSelection,
+    ModelEquality,
+} from "./../index";
+
+export interface PortfolioExtractInterface  {
+
+    selection?: Array<PortfolioSelection>;
+    /**
+    * The returned attachments will be generated as a ZIP file even if selection is used to select only one single file. You can change this behaviour by setting this option to \"false\". In this case, the file will not be zipped, and will instead be returned directly as is. However, this will only work if selection has been used to select one file and one file only.
+    */
+    singleFileAsZip?: boolean;
+
+}
+export class PortfolioExtract implements PortfolioExtractInterface, Parameter {
+    selection?: Array<PortfolioSelection>;
+    /**
+    * The returned attachments will be generated as a ZIP file even if selection is used to select only one single file. You can change this behaviour by setting this option to \"false\". In this case, the file will not be zipped, and will instead be returned directly as is. However, this will only work if selection has been used to select one file and one file only.
+    */
+    singleFileAsZip?: boolean;
+
+    constructor(data: any) {
+        this.selection = (data?.selection || []).map(
+            PortfolioSelection.fromJson
+        );
+        let singleFileAsZipDefault: any = true;
+        this.singleFileAsZip = typeof data?.singleFileAsZip !== "undefined" ? data?.singleFileAsZip : singleFileAsZipDefault;
+    }
+
+    public static getSelectionDefault(): Array<PortfolioSelection> {
+        return [];
+    }
+
+    public static getSelectionDescription(): string {
+        return "";
+    }
+
+    public static getSingleFileAsZipDefault(): boolean {
+        return true;
+    }
+
+    public static getSingleFileAsZipDescription(): string {
+        return "The returned attachments will be generated as a ZIP file even if selection is used to select only one single file. You can change this behaviour by setting this option to \"false\". In this case, the file will not be zipped, and will instead be returned directly as is. However, this will only work if selection has been used to select one file and one file only.";
+    }
+
+    public static fromJson(data: any): PortfolioExtract {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortfolioExtract(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortfolioExtract> {
+        return ModelStream.decodeArray(source, PortfolioExtract.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'selection': this.selection?.map((data) => data.toJson()),
+            'singleFileAsZip': this.singleFileAsZip,
+        };
+    }
+
+    public clone(): PortfolioExtract {
+        return PortfolioExtract.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "selection", data?.selection, PortfolioSelection.fromJson, PortfolioSelection) || changed;
+        changed = ModelAssignment.assignValue(this, "singleFileAsZip", typeof data?.singleFileAsZip !== "undefined" ? data?.singleFileAsZip : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.selection, other.selection)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.singleFileAsZip, other.singleFileAsZip)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.selection);
+        hash = ModelEquality.hash(hash, this.singleFileAsZip);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortfolioExtract(";
+        fingerprint += ModelEquality.fingerprint(this.selection) + ",";
+        fingerprint += ModelEquality.fingerprint(this.singleFileAsZip) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
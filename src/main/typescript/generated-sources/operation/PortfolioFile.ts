@@ -0,0 +1,180 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    PortfolioFileData,
+    ModelEquality,
+} from "./../index";
+
+export interface PortfolioFileInterface  {
+
+    /**
+    * The creator of the portfolio entry.
+    */
+    creator?: string;
+    data: PortfolioFileData;
+    /**
+    * Defines the name under which the document is stored in the portfolio.
+    */
+    fileName?: string;
+    /**
+    * The MIME type of the portfolio entry.
+    */
+    mimeType?: string;
+    /**
+    * Defines the path/folder where the document is stored in the portfolio.  **Important:** A portfolio path is defined by the \"/\" separated nested folder names.
+    */
+    path?: string;
+
+}
+export class PortfolioFile implements PortfolioFileInterface, Parameter {
+    /**
+    * The creator of the portfolio entry.
+    */
+    creator?: string;
+    data: PortfolioFileData;
+    /**
+    * Defines the name under which the document is stored in the portfolio.
+    */
+    fileName?: string;
+    /**
+    * The MIME type of the portfolio entry.
+    */
+    mimeType?: string;
+    /**
+    * Defines the path/folder where the document is stored in the portfolio.  **Important:** A portfolio path is defined by the \"/\" separated nested folder names.
+    */
+    path?: string;
+
+    constructor(data: any) {
+        let creatorDefault: any = "";
+        this.creator = typeof data?.creator !== "undefined" ? data?.creator : creatorDefault;
+        this.data = PortfolioFileData.fromJson(data.data);
+        let fileNameDefault: any = "";
+        this.fileName = typeof data?.fileName !== "undefined" ? data?.fileName : fileNameDefault;
+        let mimeTypeDefault: any = "";
+        this.mimeType = typeof data?.mimeType !== "undefined" ? data?.mimeType : mimeTypeDefault;
+        let pathDefault: any = "";
+        this.path = typeof data?.path !== "undefined" ? data?.path : pathDefault;
+    }
+
+    public static getCreatorDefault(): string {
+        return "";
+    }
+
+    public static getCreatorDescription(): string {
+        return "The creator of the portfolio entry.";
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static getFileNameDefault(): string {
+        return "";
+    }
+
+    public static getFileNameDescription(): string {
+        return "Defines the name under which the document is stored in the portfolio.";
+    }
+
+    public static getMimeTypeDefault(): string {
+        return "";
+    }
+
+    public static getMimeTypeDescription(): string {
+        return "The MIME type of the portfolio entry.";
+    }
+
+    public static getPathDefault(): string {
+        return "";
+    }
+
+    public static getPathDescription(): string {
+        return "Defines the path\/folder where the document is stored in the portfolio.\n\n**Important:** A portfolio path is defined by the \"\/\" separated nested folder names.";
+    }
+
+    public static fromJson(data: any): PortfolioFile {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortfolioFile(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortfolioFile> {
+        return ModelStream.decodeArray(source, PortfolioFile.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'creator': this.creator,
+            'data': this.data?.toJson(),
+            'fileName': this.fileName,
+            'mimeType': this.mimeType,
+            'path': this.path,
+        };
+    }
+
+    public clone(): PortfolioFile {
+        return PortfolioFile.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "creator", typeof data?.creator !== "undefined" ? data?.creator : "") || changed;
+        changed = ModelAssignment.assignModel(this, "data", data.data, PortfolioFileData.fromJson, PortfolioFileData) || changed;
+        changed = ModelAssignment.assignValue(this, "fileName", typeof data?.fileName !== "undefined" ? data?.fileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "mimeType", typeof data?.mimeType !== "undefined" ? data?.mimeType : "") || changed;
+        changed = ModelAssignment.assignValue(this, "path", typeof data?.path !== "undefined" ? data?.path : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.creator, other.creator)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileName, other.fileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mimeType, other.mimeType)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.path, other.path)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.creator);
+        hash = ModelEquality.hash(hash, this.data);
+        hash = ModelEquality.hash(hash, this.fileName);
+        hash = ModelEquality.hash(hash, this.mimeType);
+        hash = ModelEquality.hash(hash, this.path);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortfolioFile(";
+        fingerprint += ModelEquality.fingerprint(this.creator) + ",";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mimeType) + ",";
+        fingerprint += ModelEquality.fingerprint(this.path) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
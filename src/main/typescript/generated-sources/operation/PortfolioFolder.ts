@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PortfolioFolderInterface  {
+
+    /**
+    * Used to define the path/folder where the document will be stored in the portfolio.  **Important:** A portfolio path is defined by the \"/\" separated nested folder names.
+    */
+    path?: string;
+
+}
+export class PortfolioFolder implements PortfolioFolderInterface, Parameter {
+    /**
+    * Used to define the path/folder where the document will be stored in the portfolio.  **Important:** A portfolio path is defined by the \"/\" separated nested folder names.
+    */
+    path?: string;
+
+    constructor(data: any) {
+        let pathDefault: any = "";
+        this.path = typeof data?.path !== "undefined" ? data?.path : pathDefault;
+    }
+
+    public static getPathDefault(): string {
+        return "";
+    }
+
+    public static getPathDescription(): string {
+        return "Used to define the path\/folder where the document will be stored in the portfolio.\n\n**Important:** A portfolio path is defined by the \"\/\" separated nested folder names.";
+    }
+
+    public static fromJson(data: any): PortfolioFolder {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortfolioFolder(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortfolioFolder> {
+        return ModelStream.decodeArray(source, PortfolioFolder.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'path': this.path,
+        };
+    }
+
+    public clone(): PortfolioFolder {
+        return PortfolioFolder.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "path", typeof data?.path !== "undefined" ? data?.path : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.path, other.path)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.path);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortfolioFolder(";
+        fingerprint += ModelEquality.fingerprint(this.path) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    PortfolioSelection,
+    ModelEquality,
+} from "./../index";
+
+export interface PortfolioRemoveInterface  {
+
+    /**
+    * Defines the path/folder where the initially shown document is stored in the portfolio.  **Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"/\" separated nested folder names.
+    */
+    initialDocumentPath?: string;
+    /**
+    * Select the name of the initially shown document.  **Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"/\" separated nested folder names.
+    */
+    initialFileName?: string;
+    selection?: Array<PortfolioSelection>;
+
+}
+export class PortfolioRemove implements PortfolioRemoveInterface, Parameter {
+    /**
+    * Defines the path/folder where the initially shown document is stored in the portfolio.  **Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"/\" separated nested folder names.
+    */
+    initialDocumentPath?: string;
+    /**
+    * Select the name of the initially shown document.  **Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"/\" separated nested folder names.
+    */
+    initialFileName?: string;
+    selection?: Array<PortfolioSelection>;
+
+    constructor(data: any) {
+        let initialDocumentPathDefault: any = "";
+        this.initialDocumentPath = typeof data?.initialDocumentPath !== "undefined" ? data?.initialDocumentPath : initialDocumentPathDefault;
+        let initialFileNameDefault: any = "";
+        this.initialFileName = typeof data?.initialFileName !== "undefined" ? data?.initialFileName : initialFileNameDefault;
+        this.selection = (data?.selection || []).map(
+            PortfolioSelection.fromJson
+        );
+    }
+
+    public static getInitialDocumentPathDefault(): string {
+        return "";
+    }
+
+    public static getInitialDocumentPathDescription(): string {
+        return "Defines the path\/folder where the initially shown document is stored in the portfolio.\n\n**Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"\/\" separated nested folder names.";
+    }
+
+    public static getInitialFileNameDefault(): string {
+        return "";
+    }
+
+    public static getInitialFileNameDescription(): string {
+        return "Select the name of the initially shown document.\n\n**Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths. Which is: A portfolio path is defined by \"\/\" separated nested folder names.";
+    }
+
+    public static getSelectionDefault(): Array<PortfolioSelection> {
+        return [];
+    }
+
+    public static getSelectionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PortfolioRemove {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortfolioRemove(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortfolioRemove> {
+        return ModelStream.decodeArray(source, PortfolioRemove.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'initialDocumentPath': this.initialDocumentPath,
+            'initialFileName': this.initialFileName,
+            'selection': this.selection?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): PortfolioRemove {
+        return PortfolioRemove.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "initialDocumentPath", typeof data?.initialDocumentPath !== "undefined" ? data?.initialDocumentPath : "") || changed;
+        changed = ModelAssignment.assignValue(this, "initialFileName", typeof data?.initialFileName !== "undefined" ? data?.initialFileName : "") || changed;
+        changed = ModelAssignment.assignArray(this, "selection", data?.selection, PortfolioSelection.fromJson, PortfolioSelection) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.initialDocumentPath, other.initialDocumentPath)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.initialFileName, other.initialFileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.selection, other.selection)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.initialDocumentPath);
+        hash = ModelEquality.hash(hash, this.initialFileName);
+        hash = ModelEquality.hash(hash, this.selection);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortfolioRemove(";
+        fingerprint += ModelEquality.fingerprint(this.initialDocumentPath) + ",";
+        fingerprint += ModelEquality.fingerprint(this.initialFileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.selection) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PortfolioSelectionInterface  {
+
+    /**
+    * Filters by file name for the selection. \"\\*.xls\", for example, would result in all XLS documents being selected. Meanwhile, \"xyz.json\" would result in attachments named \"xyz.json\" being selected (for extraction / deletion).  **Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths.
+    */
+    fileName?: string;
+    /**
+    * Filters by path for the selection. \"a/b/\\*\", for example, would result in all a/b subfolders being searched for matching documents. Whether a document will be considered a match will also depend on the \"fileName\" parameter. If the \"fileName\" parameter is not set, this parameter can be used to select the path instead (for extraction / deletion)
+    */
+    path?: string;
+
+}
+export class PortfolioSelection implements PortfolioSelectionInterface, Parameter {
+    /**
+    * Filters by file name for the selection. \"\\*.xls\", for example, would result in all XLS documents being selected. Meanwhile, \"xyz.json\" would result in attachments named \"xyz.json\" being selected (for extraction / deletion).  **Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths.
+    */
+    fileName?: string;
+    /**
+    * Filters by path for the selection. \"a/b/\\*\", for example, would result in all a/b subfolders being searched for matching documents. Whether a document will be considered a match will also depend on the \"fileName\" parameter. If the \"fileName\" parameter is not set, this parameter can be used to select the path instead (for extraction / deletion)
+    */
+    path?: string;
+
+    constructor(data: any) {
+        let fileNameDefault: any = "";
+        this.fileName = typeof data?.fileName !== "undefined" ? data?.fileName : fileNameDefault;
+        let pathDefault: any = "";
+        this.path = typeof data?.path !== "undefined" ? data?.path : pathDefault;
+    }
+
+    public static getFileNameDefault(): string {
+        return "";
+    }
+
+    public static getFileNameDescription(): string {
+        return "Filters by file name for the selection. \"\\*.xls\", for example, would result in all XLS documents being selected. Meanwhile, \"xyz.json\" would result in attachments named \"xyz.json\" being selected (for extraction \/ deletion).\n\n**Important:** The \"path\" and \"fileName\" parameters follow and implement the glob selection patterns for files and paths.";
+    }
+
+    public static getPathDefault(): string {
+        return "";
+    }
+
+    public static getPathDescription(): string {
+        return "Filters by path for the selection. \"a\/b\/\\*\", for example, would result in all a\/b subfolders being searched for matching documents. Whether a document will be considered a match will also depend on the \"fileName\" parameter. If the \"fileName\" parameter is not set, this parameter can be used to select the path instead (for extraction \/ deletion)";
+    }
+
+    public static fromJson(data: any): PortfolioSelection {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortfolioSelection(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortfolioSelection> {
+        return ModelStream.decodeArray(source, PortfolioSelection.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'fileName': this.fileName,
+            'path': this.path,
+        };
+    }
+
+    public clone(): PortfolioSelection {
+        return PortfolioSelection.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "fileName", typeof data?.fileName !== "undefined" ? data?.fileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "path", typeof data?.path !== "undefined" ? data?.path : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileName, other.fileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.path, other.path)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.fileName);
+        hash = ModelEquality.hash(hash, this.path);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortfolioSelection(";
+        fingerprint += ModelEquality.fingerprint(this.fileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.path) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
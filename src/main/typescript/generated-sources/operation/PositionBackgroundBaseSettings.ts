@@ -0,0 +1,175 @@
+import {
+    ModelAssignment,
+    Metrics,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    BackgroundPositionMode,
+} from "./../index";
+
+export interface PositionBackgroundBaseSettingsInterface  {
+
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Uses one of multiple preset positions in order to position the background on the page.  *   custom = Disable the use of a preset position. *   top\\_left = Positions the background in the top left corner. *   top\\_center = Positions the background in the centre on the top margin. *   top\\_right = Positions the background in the top right corner. *   center\\_left = Positions the background at the centre of the page, to the left. *   center\\_center = Positions the background at the centre of the page. *   center\\_right = Positions the background at the centre of the page, to the right. *   bottom\\_left = Positions the background in the bottom left corner. *   bottom\\_center = Positions the background in the centre on the bottom margin. *   bottom\\_right = Positions the background in the bottom right corner.
+    */
+    position?: BackgroundPositionMode;
+    /**
+    * X-axis position of rectangle.
+    */
+    x?: number;
+    /**
+    * Y-axis position of rectangle.
+    */
+    y?: number;
+
+}
+export class PositionBackgroundBaseSettings implements PositionBackgroundBaseSettingsInterface, Parameter {
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Uses one of multiple preset positions in order to position the background on the page.  *   custom = Disable the use of a preset position. *   top\\_left = Positions the background in the top left corner. *   top\\_center = Positions the background in the centre on the top margin. *   top\\_right = Positions the background in the top right corner. *   center\\_left = Positions the background at the centre of the page, to the left. *   center\\_center = Positions the background at the centre of the page. *   center\\_right = Positions the background at the centre of the page, to the right. *   bottom\\_left = Positions the background in the bottom left corner. *   bottom\\_center = Positions the background in the centre on the bottom margin. *   bottom\\_right = Positions the background in the bottom right corner.
+    */
+    position?: BackgroundPositionMode;
+    /**
+    * X-axis position of rectangle.
+    */
+    x?: number;
+    /**
+    * Y-axis position of rectangle.
+    */
+    y?: number;
+
+    constructor(data: any) {
+        let metricsDefault: any = "mm";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let positionDefault: any = "center_center";
+        this.position = typeof data?.position !== "undefined" ? data?.position : positionDefault;
+        let xDefault: any = 0;
+        this.x = typeof data?.x !== "undefined" ? data?.x : xDefault;
+        let yDefault: any = 0;
+        this.y = typeof data?.y !== "undefined" ? data?.y : yDefault;
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "mm" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getPositionDefault(): BackgroundPositionMode {
+        return "center_center" as BackgroundPositionMode;
+    }
+
+    public static getPositionDescription(): string {
+        return "Uses one of multiple preset positions in order to position the background on the page.\n\n*   custom = Disable the use of a preset position.\n*   top\\_left = Positions the background in the top left corner.\n*   top\\_center = Positions the background in the centre on the top margin.\n*   top\\_right = Positions the background in the top right corner.\n*   center\\_left = Positions the background at the centre of the page, to the left.\n*   center\\_center = Positions the background at the centre of the page.\n*   center\\_right = Positions the background at the centre of the page, to the right.\n*   bottom\\_left = Positions the background in the bottom left corner.\n*   bottom\\_center = Positions the background in the centre on the bottom margin.\n*   bottom\\_right = Positions the background in the bottom right corner.";
+    }
+
+    public static getXDefault(): number {
+        return 0;
+    }
+
+    public static getXDescription(): string {
+        return "X-axis position of rectangle.";
+    }
+
+    public static getXMin(): number {
+        return 0;
+    }
+
+    public static getYDefault(): number {
+        return 0;
+    }
+
+    public static getYDescription(): string {
+        return "Y-axis position of rectangle.";
+    }
+
+    public static getYMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): PositionBackgroundBaseSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PositionBackgroundBaseSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PositionBackgroundBaseSettings> {
+        return ModelStream.decodeArray(source, PositionBackgroundBaseSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'metrics': this.metrics,
+            'position': this.position,
+            'x': this.x,
+            'y': this.y,
+        };
+    }
+
+    public clone(): PositionBackgroundBaseSettings {
+        return PositionBackgroundBaseSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "mm") || changed;
+        changed = ModelAssignment.assignValue(this, "position", typeof data?.position !== "undefined" ? data?.position : "center_center") || changed;
+        changed = ModelAssignment.assignValue(this, "x", typeof data?.x !== "undefined" ? data?.x : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "y", typeof data?.y !== "undefined" ? data?.y : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.x, other.x)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.y, other.y)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.position);
+        hash = ModelEquality.hash(hash, this.x);
+        hash = ModelEquality.hash(hash, this.y);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PositionBackgroundBaseSettings(";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        fingerprint += ModelEquality.fingerprint(this.x) + ",";
+        fingerprint += ModelEquality.fingerprint(this.y) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+import {
+    ModelAssignment,
+    Quadrilateral,
+    ModelStream,
+    Rectangle,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PositionRedactAnnotationInterface  {
+
+    pathElement?: Array<Rectangle>;
+    quadrilateral?: Array<Quadrilateral>;
+
+}
+export class PositionRedactAnnotation implements PositionRedactAnnotationInterface, Parameter {
+    pathElement?: Array<Rectangle>;
+    quadrilateral?: Array<Quadrilateral>;
+
+    constructor(data: any) {
+        this.pathElement = (data?.pathElement || []).map(
+            Rectangle.fromJson
+        );
+        this.quadrilateral = (data?.quadrilateral || []).map(
+            Quadrilateral.fromJson
+        );
+    }
+
+    public static getPathElementDefault(): Array<Rectangle> {
+        return [];
+    }
+
+    public static getPathElementDescription(): string {
+        return "";
+    }
+
+    public static getQuadrilateralDefault(): Array<Quadrilateral> {
+        return [];
+    }
+
+    public static getQuadrilateralDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PositionRedactAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PositionRedactAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PositionRedactAnnotation> {
+        return ModelStream.decodeArray(source, PositionRedactAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'pathElement': this.pathElement?.map((data) => data.toJson()),
+            'quadrilateral': this.quadrilateral?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): PositionRedactAnnotation {
+        return PositionRedactAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "pathElement", data?.pathElement, Rectangle.fromJson, Rectangle) || changed;
+        changed = ModelAssignment.assignArray(this, "quadrilateral", data?.quadrilateral, Quadrilateral.fromJson, Quadrilateral) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pathElement, other.pathElement)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.quadrilateral, other.quadrilateral)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.pathElement);
+        hash = ModelEquality.hash(hash, this.quadrilateral);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PositionRedactAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.pathElement) + ",";
+        fingerprint += ModelEquality.fingerprint(this.quadrilateral) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Rectangle,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PositionSimpleShapeAnnotationInterface  {
+
+    rectangle?: Rectangle;
+
+}
+export class PositionSimpleShapeAnnotation implements PositionSimpleShapeAnnotationInterface, Parameter {
+    rectangle?: Rectangle;
+
+    constructor(data: any) {
+        this.rectangle = Rectangle.fromJson(data?.rectangle);
+    }
+
+    public static getRectangleDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PositionSimpleShapeAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PositionSimpleShapeAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PositionSimpleShapeAnnotation> {
+        return ModelStream.decodeArray(source, PositionSimpleShapeAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'rectangle': this.rectangle?.toJson(),
+        };
+    }
+
+    public clone(): PositionSimpleShapeAnnotation {
+        return PositionSimpleShapeAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "rectangle", data?.rectangle, Rectangle.fromJson, Rectangle) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rectangle, other.rectangle)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.rectangle);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PositionSimpleShapeAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.rectangle) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+export enum PrintMode {
+
+    Raster = 'raster',
+    Image = 'image',
+    Default = 'default'
+
+}
\ No newline at end of file
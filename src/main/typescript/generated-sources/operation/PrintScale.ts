@@ -0,0 +1,6 @@
+export enum PrintScale {
+
+    ReaderDefault = 'readerDefault',
+    NoPrintScaling = 'noPrintScaling'
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum PrintTraySelection {
+
+    ReaderDefault = 'readerDefault',
+    ByPDFSize = 'byPDFSize'
+
+}
\ No newline at end of file
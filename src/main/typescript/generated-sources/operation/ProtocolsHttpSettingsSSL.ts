@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    HttpSettingsSSLProtocol,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ProtocolsHttpSettingsSSLInterface  {
+
+    protocol: Array<HttpSettingsSSLProtocol>;
+
+}
+export class ProtocolsHttpSettingsSSL implements ProtocolsHttpSettingsSSLInterface, Parameter {
+    protocol: Array<HttpSettingsSSLProtocol>;
+
+    constructor(data: any) {
+        this.protocol = data.protocol;
+    }
+
+    public static getProtocolDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ProtocolsHttpSettingsSSL {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ProtocolsHttpSettingsSSL(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ProtocolsHttpSettingsSSL> {
+        return ModelStream.decodeArray(source, ProtocolsHttpSettingsSSL.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'protocol': this.protocol,
+        };
+    }
+
+    public clone(): ProtocolsHttpSettingsSSL {
+        return ProtocolsHttpSettingsSSL.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "protocol", data.protocol) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.protocol, other.protocol)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.protocol);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ProtocolsHttpSettingsSSL(";
+        fingerprint += ModelEquality.fingerprint(this.protocol) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum QrCodeErrorCorrection {
+
+    Q = 'q',
+    H = 'h',
+    L = 'l',
+    M = 'm'
+
+}
\ No newline at end of file
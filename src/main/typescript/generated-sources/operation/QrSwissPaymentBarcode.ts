@@ -0,0 +1,213 @@
+import {
+    ModelAssignment,
+    QrSwissPaymentLanguage,
+    ModelStream,
+    Rectangle,
+    Parameter,
+    QrSwissPaymentContent,
+    QrSwissPaymentPdf,
+    ModelEquality,
+    QrSwissPaymentFormat,
+    QrSwissPaymentSeparator,
+} from "./../index";
+
+export interface QrSwissPaymentBarcodeInterface  {
+
+    content: QrSwissPaymentContent;
+    /**
+    * Used to select the resolution of the barcode.
+    */
+    dpi?: number;
+    /**
+    * Used to select the parts, that shall be included in the barcode.  *   codeOnly = Only the barcode itself shall be shown. *   billOnly = The barcode and the payment summary shall be shown. *   billPortraitSheet = The dimensions of the barcode and the payment summary shall be optimized for placement in the lower left corner of a page in DIN-A4 format. *   billExtraSpace = The same as \"billPortraitSheet\", but with extra spacings.
+    */
+    format?: QrSwissPaymentFormat;
+    /**
+    * Selects the language of the barcode's payment summary.  *   de = german *   fr = french *   it = italian *   en = english
+    */
+    language?: QrSwissPaymentLanguage;
+    pdf?: QrSwissPaymentPdf;
+    position?: Rectangle;
+    /**
+    * The border style for separators in between the different parts of the barcode.  *   none = No separator shall be used. *   solidLine = A solid separator line. *   solidLineWithScissors = A solid separator line with a scissor icon. *   dashedLine = A dashed separator line. *   dashedLineWithScissors = A dashed separator line with a scissor icon. *   dottedLine = A dotted separator line. *   dottedLineWithScissors = A dotted separator line with a scissor icon.
+    */
+    separator?: QrSwissPaymentSeparator;
+
+}
+export class QrSwissPaymentBarcode implements QrSwissPaymentBarcodeInterface, Parameter {
+    content: QrSwissPaymentContent;
+    /**
+    * Used to select the resolution of the barcode.
+    */
+    dpi?: number;
+    /**
+    * Used to select the parts, that shall be included in the barcode.  *   codeOnly = Only the barcode itself shall be shown. *   billOnly = The barcode and the payment summary shall be shown. *   billPortraitSheet = The dimensions of the barcode and the payment summary shall be optimized for placement in the lower left corner of a page in DIN-A4 format. *   billExtraSpace = The same as \"billPortraitSheet\", but with extra spacings.
+    */
+    format?: QrSwissPaymentFormat;
+    /**
+    * Selects the language of the barcode's payment summary.  *   de = german *   fr = french *   it = italian *   en = english
+    */
+    language?: QrSwissPaymentLanguage;
+    pdf?: QrSwissPaymentPdf;
+    position?: Rectangle;
+    /**
+    * The border style for separators in between the different parts of the barcode.  *   none = No separator shall be used. *   solidLine = A solid separator line. *   solidLineWithScissors = A solid separator line with a scissor icon. *   dashedLine = A dashed separator line. *   dashedLineWithScissors = A dashed separator line with a scissor icon. *   dottedLine = A dotted separator line. *   dottedLineWithScissors = A dotted separator line with a scissor icon.
+    */
+    separator?: QrSwissPaymentSeparator;
+
+    constructor(data: any) {
+        this.content = QrSwissPaymentContent.fromJson(data.content);
+        let dpiDefault: any = 200;
+        this.dpi = typeof data?.dpi !== "undefined" ? data?.dpi : dpiDefault;
+        let formatDefault: any = "codeOnly";
+        this.format = typeof data?.format !== "undefined" ? data?.format : formatDefault;
+        let languageDefault: any = "de";
+        this.language = typeof data?.language !== "undefined" ? data?.language : languageDefault;
+        this.pdf = QrSwissPaymentPdf.fromJson(data?.pdf);
+        this.position = Rectangle.fromJson(data?.position);
+        let separatorDefault: any = "dashedLineWithScissors";
+        this.separator = typeof data?.separator !== "undefined" ? data?.separator : separatorDefault;
+    }
+
+    public static getContentDescription(): string {
+        return "";
+    }
+
+    public static getDpiDefault(): number {
+        return 200;
+    }
+
+    public static getDpiDescription(): string {
+        return "Used to select the resolution of the barcode.";
+    }
+
+    public static getFormatDefault(): QrSwissPaymentFormat {
+        return "codeOnly" as QrSwissPaymentFormat;
+    }
+
+    public static getFormatDescription(): string {
+        return "Used to select the parts, that shall be included in the barcode.\n\n*   codeOnly = Only the barcode itself shall be shown.\n*   billOnly = The barcode and the payment summary shall be shown.\n*   billPortraitSheet = The dimensions of the barcode and the payment summary shall be optimized for placement in the lower left corner of a page in DIN-A4 format.\n*   billExtraSpace = The same as \"billPortraitSheet\", but with extra spacings.";
+    }
+
+    public static getLanguageDefault(): QrSwissPaymentLanguage {
+        return "de" as QrSwissPaymentLanguage;
+    }
+
+    public static getLanguageDescription(): string {
+        return "Selects the language of the barcode's payment summary.\n\n*   de = german\n*   fr = french\n*   it = italian\n*   en = english";
+    }
+
+    public static getPdfDescription(): string {
+        return "";
+    }
+
+    public static getPositionDescription(): string {
+        return "";
+    }
+
+    public static getSeparatorDefault(): QrSwissPaymentSeparator {
+        return "dashedLineWithScissors" as QrSwissPaymentSeparator;
+    }
+
+    public static getSeparatorDescription(): string {
+        return "The border style for separators in between the different parts of the barcode.\n\n*   none = No separator shall be used.\n*   solidLine = A solid separator line.\n*   solidLineWithScissors = A solid separator line with a scissor icon.\n*   dashedLine = A dashed separator line.\n*   dashedLineWithScissors = A dashed separator line with a scissor icon.\n*   dottedLine = A dotted separator line.\n*   dottedLineWithScissors = A dotted separator line with a scissor icon.";
+    }
+
+    public static fromJson(data: any): QrSwissPaymentBarcode {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new QrSwissPaymentBarcode(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<QrSwissPaymentBarcode> {
+        return ModelStream.decodeArray(source, QrSwissPaymentBarcode.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'content': this.content?.toJson(),
+            'dpi': this.dpi,
+            'format': this.format,
+            'language': this.language,
+            'pdf': this.pdf?.toJson(),
+            'position': this.position?.toJson(),
+            'separator': this.separator,
+        };
+    }
+
+    public clone(): QrSwissPaymentBarcode {
+        return QrSwissPaymentBarcode.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "content", data.content, QrSwissPaymentContent.fromJson, QrSwissPaymentContent) || changed;
+        changed = ModelAssignment.assignValue(this, "dpi", typeof data?.dpi !== "undefined" ? data?.dpi : 200) || changed;
+        changed = ModelAssignment.assignValue(this, "format", typeof data?.format !== "undefined" ? data?.format : "codeOnly") || changed;
+        changed = ModelAssignment.assignValue(this, "language", typeof data?.language !== "undefined" ? data?.language : "de") || changed;
+        changed = ModelAssignment.assignModel(this, "pdf", data?.pdf, QrSwissPaymentPdf.fromJson, QrSwissPaymentPdf) || changed;
+        changed = ModelAssignment.assignModel(this, "position", data?.position, Rectangle.fromJson, Rectangle) || changed;
+        changed = ModelAssignment.assignValue(this, "separator", typeof data?.separator !== "undefined" ? data?.separator : "dashedLineWithScissors") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.content, other.content)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dpi, other.dpi)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.format, other.format)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.language, other.language)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pdf, other.pdf)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.separator, other.separator)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.content);
+        hash = ModelEquality.hash(hash, this.dpi);
+        hash = ModelEquality.hash(hash, this.format);
+        hash = ModelEquality.hash(hash, this.language);
+        hash = ModelEquality.hash(hash, this.pdf);
+        hash = ModelEquality.hash(hash, this.position);
+        hash = ModelEquality.hash(hash, this.separator);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "QrSwissPaymentBarcode(";
+        fingerprint += ModelEquality.fingerprint(this.content) + ",";
+        fingerprint += ModelEquality.fingerprint(this.dpi) + ",";
+        fingerprint += ModelEquality.fingerprint(this.format) + ",";
+        fingerprint += ModelEquality.fingerprint(this.language) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pdf) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        fingerprint += ModelEquality.fingerprint(this.separator) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum QrSwissPaymentContentFormat {
+
+    Plain = 'plain',
+    Json = 'json'
+
+}
\ No newline at end of file
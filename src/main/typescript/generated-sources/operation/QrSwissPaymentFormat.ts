@@ -0,0 +1,8 @@
+export enum QrSwissPaymentFormat {
+
+    CodeOnly = 'codeOnly',
+    BillPortraitSheet = 'billPortraitSheet',
+    BillOnly = 'billOnly',
+    BillExtraSpace = 'billExtraSpace'
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum QrSwissPaymentLanguage {
+
+    De = 'de',
+    En = 'en',
+    It = 'it',
+    Fr = 'fr'
+
+}
\ No newline at end of file
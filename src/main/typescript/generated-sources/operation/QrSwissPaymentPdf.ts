@@ -0,0 +1,116 @@
+import {
+    ModelAssignment,
+    QrSwissPaymentPdfMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface QrSwissPaymentPdfInterface  {
+
+    /**
+    * Selects the page relative position to place the barcode at.  *   insertBefore = Places the barcode on a new, empty page before the selected page. *   appendAtEnd = Places the barcode on a new, empty page at the end of the document. *   addToPage = Place the barcode on the selected page.
+    */
+    mode?: QrSwissPaymentPdfMode;
+    /**
+    * The number of the page, the barcode shall be placed at or relative to. (depending on the selected placement \"mode\".)
+    */
+    page?: number;
+
+}
+export class QrSwissPaymentPdf implements QrSwissPaymentPdfInterface, Parameter {
+    /**
+    * Selects the page relative position to place the barcode at.  *   insertBefore = Places the barcode on a new, empty page before the selected page. *   appendAtEnd = Places the barcode on a new, empty page at the end of the document. *   addToPage = Place the barcode on the selected page.
+    */
+    mode?: QrSwissPaymentPdfMode;
+    /**
+    * The number of the page, the barcode shall be placed at or relative to. (depending on the selected placement \"mode\".)
+    */
+    page?: number;
+
+    constructor(data: any) {
+        let modeDefault: any = "appendAtEnd";
+        this.mode = typeof data?.mode !== "undefined" ? data?.mode : modeDefault;
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+    }
+
+    public static getModeDefault(): QrSwissPaymentPdfMode {
+        return "appendAtEnd" as QrSwissPaymentPdfMode;
+    }
+
+    public static getModeDescription(): string {
+        return "Selects the page relative position to place the barcode at.\n\n*   insertBefore = Places the barcode on a new, empty page before the selected page.\n*   appendAtEnd = Places the barcode on a new, empty page at the end of the document.\n*   addToPage = Place the barcode on the selected page.";
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "The number of the page, the barcode shall be placed at or relative to. (depending on the selected placement \"mode\".)";
+    }
+
+    public static fromJson(data: any): QrSwissPaymentPdf {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new QrSwissPaymentPdf(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<QrSwissPaymentPdf> {
+        return ModelStream.decodeArray(source, QrSwissPaymentPdf.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'mode': this.mode,
+            'page': this.page,
+        };
+    }
+
+    public clone(): QrSwissPaymentPdf {
+        return QrSwissPaymentPdf.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "mode", typeof data?.mode !== "undefined" ? data?.mode : "appendAtEnd") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mode, other.mode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.mode);
+        hash = ModelEquality.hash(hash, this.page);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "QrSwissPaymentPdf(";
+        fingerprint += ModelEquality.fingerprint(this.mode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
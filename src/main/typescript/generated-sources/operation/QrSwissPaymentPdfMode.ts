@@ -0,0 +1,7 @@
+export enum QrSwissPaymentPdfMode {
+
+    AddToPage = 'addToPage',
+    InsertBefore = 'insertBefore',
+    AppendAtEnd = 'appendAtEnd'
+
+}
\ No newline at end of file
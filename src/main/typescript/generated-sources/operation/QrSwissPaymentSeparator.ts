@@ -0,0 +1,11 @@
+export enum QrSwissPaymentSeparator {
+
+    DottedLine = 'dottedLine',
+    DashedLineWithScissors = 'dashedLineWithScissors',
+    SolidLine = 'solidLine',
+    DashedLine = 'dashedLine',
+    DottedLineWithScissors = 'dottedLineWithScissors',
+    None = 'none',
+    SolidLineWithScissors = 'solidLineWithScissors'
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    Point,
+    ModelEquality,
+} from "./../index";
+
+export interface QuadrilateralInterface  {
+
+    point?: Array<Point>;
+
+}
+export class Quadrilateral implements QuadrilateralInterface, Parameter {
+    point?: Array<Point>;
+
+    constructor(data: any) {
+        this.point = (data?.point || []).map(
+            Point.fromJson
+        );
+    }
+
+    public static getPointDefault(): Array<Point> {
+        return [];
+    }
+
+    public static getPointDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Quadrilateral {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Quadrilateral(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Quadrilateral> {
+        return ModelStream.decodeArray(source, Quadrilateral.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'point': this.point?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): Quadrilateral {
+        return Quadrilateral.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "point", data?.point, Point.fromJson, Point) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.point, other.point)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.point);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Quadrilateral(";
+        fingerprint += ModelEquality.fingerprint(this.point) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,280 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    CertificateFileData,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface RecipientInterface  {
+
+    /**
+    * If \"true,\" the document can be rearranged (e.g., pages can be deleted, inserted, and rotated).
+    */
+    canAssemble?: boolean;
+    /**
+    * If \"true,\" content can be extracted (copied) from the document.
+    */
+    canExtractContent?: boolean;
+    /**
+    * If \"true,\" content can be extracted (copied) for accessibility purposes.
+    */
+    canExtractForAccessibility?: boolean;
+    /**
+    * If \"true,\" form fields can be filled out and the document can be signed.
+    */
+    canFillInForm?: boolean;
+    /**
+    * If \"true,\" changes to the document are permitted.
+    */
+    canModify?: boolean;
+    /**
+    * If \"true,\" comments can be added to the document and deleted from the document.
+    */
+    canModifyAnnotations?: boolean;
+    /**
+    * If \"true,\" the document can be printed.
+    */
+    canPrint?: boolean;
+    /**
+    * If \"true,\" the document can be printed at high resolution levels.
+    */
+    canPrintHighRes?: boolean;
+    certificate: CertificateFileData;
+
+}
+export class Recipient implements RecipientInterface, Parameter {
+    /**
+    * If \"true,\" the document can be rearranged (e.g., pages can be deleted, inserted, and rotated).
+    */
+    canAssemble?: boolean;
+    /**
+    * If \"true,\" content can be extracted (copied) from the document.
+    */
+    canExtractContent?: boolean;
+    /**
+    * If \"true,\" content can be extracted (copied) for accessibility purposes.
+    */
+    canExtractForAccessibility?: boolean;
+    /**
+    * If \"true,\" form fields can be filled out and the document can be signed.
+    */
+    canFillInForm?: boolean;
+    /**
+    * If \"true,\" changes to the document are permitted.
+    */
+    canModify?: boolean;
+    /**
+    * If \"true,\" comments can be added to the document and deleted from the document.
+    */
+    canModifyAnnotations?: boolean;
+    /**
+    * If \"true,\" the document can be printed.
+    */
+    canPrint?: boolean;
+    /**
+    * If \"true,\" the document can be printed at high resolution levels.
+    */
+    canPrintHighRes?: boolean;
+    certificate: CertificateFileData;
+
+    constructor(data: any) {
+        let canAssembleDefault: any = false;
+        this.canAssemble = typeof data?.canAssemble !== "undefined" ? data?.canAssemble : canAssembleDefault;
+        let canExtractContentDefault: any = false;
+        this.canExtractContent = typeof data?.canExtractContent !== "undefined" ? data?.canExtractContent : canExtractContentDefault;
+        let canExtractForAccessibilityDefault: any = false;
+        this.canExtractForAccessibility = typeof data?.canExtractForAccessibility !== "undefined" ? data?.canExtractForAccessibility : canExtractForAccessibilityDefault;
+        let canFillInFormDefault: any = false;
+        this.canFillInForm = typeof data?.canFillInForm !== "undefined" ? data?.canFillInForm : canFillInFormDefault;
+        let canModifyDefault: any = false;
+        this.canModify = typeof data?.canModify !== "undefined" ? data?.canModify : canModifyDefault;
+        let canModifyAnnotationsDefault: any = false;
+        this.canModifyAnnotations = typeof data?.canModifyAnnotations !== "undefined" ? data?.canModifyAnnotations : canModifyAnnotationsDefault;
+        let canPrintDefault: any = false;
+        this.canPrint = typeof data?.canPrint !== "undefined" ? data?.canPrint : canPrintDefault;
+        let canPrintHighResDefault: any = false;
+        this.canPrintHighRes = typeof data?.canPrintHighRes !== "undefined" ? data?.canPrintHighRes : canPrintHighResDefault;
+        this.certificate = CertificateFileData.fromJson(data.certificate);
+    }
+
+    public static getCanAssembleDefault(): boolean {
+        return false;
+    }
+
+    public static getCanAssembleDescription(): string {
+        return "If \"true,\" the document can be rearranged (e.g., pages can be deleted, inserted, and rotated).";
+    }
+
+    public static getCanExtractContentDefault(): boolean {
+        return false;
+    }
+
+    public static getCanExtractContentDescription(): string {
+        return "If \"true,\" content can be extracted (copied) from the document.";
+    }
+
+    public static getCanExtractForAccessibilityDefault(): boolean {
+        return false;
+    }
+
+    public static getCanExtractForAccessibilityDescription(): string {
+        return "If \"true,\" content can be extracted (copied) for accessibility purposes.";
+    }
+
+    public static getCanFillInFormDefault(): boolean {
+        return false;
+    }
+
+    public static getCanFillInFormDescription(): string {
+        return "If \"true,\" form fields can be filled out and the document can be signed.";
+    }
+
+    public static getCanModifyDefault(): boolean {
+        return false;
+    }
+
+    public static getCanModifyDescription(): string {
+        return "If \"true,\" changes to the document are permitted.";
+    }
+
+    public static getCanModifyAnnotationsDefault(): boolean {
+        return false;
+    }
+
+    public static getCanModifyAnnotationsDescription(): string {
+        return "If \"true,\" comments can be added to the document and deleted from the document.";
+    }
+
+    public static getCanPrintDefault(): boolean {
+        return false;
+    }
+
+    public static getCanPrintDescription(): string {
+        return "If \"true,\" the document can be printed.";
+    }
+
+    public static getCanPrintHighResDefault(): boolean {
+        return false;
+    }
+
+    public static getCanPrintHighResDescription(): string {
+        return "If \"true,\" the document can be printed at high resolution levels.";
+    }
+
+    public static getCertificateDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Recipient {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Recipient(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Recipient> {
+        return ModelStream.decodeArray(source, Recipient.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'canAssemble': this.canAssemble,
+            'canExtractContent': this.canExtractContent,
+            'canExtractForAccessibility': this.canExtractForAccessibility,
+            'canFillInForm': this.canFillInForm,
+            'canModify': this.canModify,
+            'canModifyAnnotations': this.canModifyAnnotations,
+            'canPrint': this.canPrint,
+            'canPrintHighRes': this.canPrintHighRes,
+            'certificate': this.certificate?.toJson(),
+        };
+    }
+
+    public clone(): Recipient {
+        return Recipient.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "canAssemble", typeof data?.canAssemble !== "undefined" ? data?.canAssemble : false) || changed;
+        changed = ModelAssignment.assignValue(this, "canExtractContent", typeof data?.canExtractContent !== "undefined" ? data?.canExtractContent : false) || changed;
+        changed = ModelAssignment.assignValue(this, "canExtractForAccessibility", typeof data?.canExtractForAccessibility !== "undefined" ? data?.canExtractForAccessibility : false) || changed;
+        changed = ModelAssignment.assignValue(this, "canFillInForm", typeof data?.canFillInForm !== "undefined" ? data?.canFillInForm : false) || changed;
+        changed = ModelAssignment.assignValue(this, "canModify", typeof data?.canModify !== "undefined" ? data?.canModify : false) || changed;
+        changed = ModelAssignment.assignValue(this, "canModifyAnnotations", typeof data?.canModifyAnnotations !== "undefined" ? data?.canModifyAnnotations : false) || changed;
+        changed = ModelAssignment.assignValue(this, "canPrint", typeof data?.canPrint !== "undefined" ? data?.canPrint : false) || changed;
+        changed = ModelAssignment.assignValue(this, "canPrintHighRes", typeof data?.canPrintHighRes !== "undefined" ? data?.canPrintHighRes : false) || changed;
+        changed = ModelAssignment.assignModel(this, "certificate", data.certificate, CertificateFileData.fromJson, CertificateFileData) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canAssemble, other.canAssemble)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canExtractContent, other.canExtractContent)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canExtractForAccessibility, other.canExtractForAccessibility)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canFillInForm, other.canFillInForm)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canModify, other.canModify)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canModifyAnnotations, other.canModifyAnnotations)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canPrint, other.canPrint)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canPrintHighRes, other.canPrintHighRes)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.certificate, other.certificate)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.canAssemble);
+        hash = ModelEquality.hash(hash, this.canExtractContent);
+        hash = ModelEquality.hash(hash, this.canExtractForAccessibility);
+        hash = ModelEquality.hash(hash, this.canFillInForm);
+        hash = ModelEquality.hash(hash, this.canModify);
+        hash = ModelEquality.hash(hash, this.canModifyAnnotations);
+        hash = ModelEquality.hash(hash, this.canPrint);
+        hash = ModelEquality.hash(hash, this.canPrintHighRes);
+        hash = ModelEquality.hash(hash, this.certificate);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Recipient(";
+        fingerprint += ModelEquality.fingerprint(this.canAssemble) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canExtractContent) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canExtractForAccessibility) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canFillInForm) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canModify) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canModifyAnnotations) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canPrint) + ",";
+        fingerprint += ModelEquality.fingerprint(this.canPrintHighRes) + ",";
+        fingerprint += ModelEquality.fingerprint(this.certificate) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
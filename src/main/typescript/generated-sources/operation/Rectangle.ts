@@ -0,0 +1,233 @@
+import {
+    ModelAssignment,
+    Metrics,
+    ModelStream,
+    Coordinates,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface RectangleInterface  {
+
+    /**
+    * Used to define the coordinate system and, accordingly, the origin for the position arguments.  *   user = User coordinate system (origin at top left) *   pdf = PDF coordinate system (origin at bottom left)
+    */
+    coordinates?: Coordinates;
+    /**
+    * Height of the rectangle.
+    */
+    height?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Width of the rectangle.
+    */
+    width?: number;
+    /**
+    * X-axis position.
+    */
+    x?: number;
+    /**
+    * Y-axis position.
+    */
+    y?: number;
+
+}
+export class Rectangle implements RectangleInterface, Parameter {
+    /**
+    * Used to define the coordinate system and, accordingly, the origin for the position arguments.  *   user = User coordinate system (origin at top left) *   pdf = PDF coordinate system (origin at bottom left)
+    */
+    coordinates?: Coordinates;
+    /**
+    * Height of the rectangle.
+    */
+    height?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Width of the rectangle.
+    */
+    width?: number;
+    /**
+    * X-axis position.
+    */
+    x?: number;
+    /**
+    * Y-axis position.
+    */
+    y?: number;
+
+    constructor(data: any) {
+        let coordinatesDefault: any = "user";
+        this.coordinates = typeof data?.coordinates !== "undefined" ? data?.coordinates : coordinatesDefault;
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let metricsDefault: any = "mm";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+        let xDefault: any = 0;
+        this.x = typeof data?.x !== "undefined" ? data?.x : xDefault;
+        let yDefault: any = 0;
+        this.y = typeof data?.y !== "undefined" ? data?.y : yDefault;
+    }
+
+    public static getCoordinatesDefault(): Coordinates {
+        return "user" as Coordinates;
+    }
+
+    public static getCoordinatesDescription(): string {
+        return "Used to define the coordinate system and, accordingly, the origin for the position arguments.\n\n*   user = User coordinate system (origin at top left)\n*   pdf = PDF coordinate system (origin at bottom left)";
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "Height of the rectangle.";
+    }
+
+    public static getHeightMin(): number {
+        return 0;
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "mm" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "Width of the rectangle.";
+    }
+
+    public static getWidthMin(): number {
+        return 0;
+    }
+
+    public static getXDefault(): number {
+        return 0;
+    }
+
+    public static getXDescription(): string {
+        return "X-axis position.";
+    }
+
+    public static getXMin(): number {
+        return 0;
+    }
+
+    public static getYDefault(): number {
+        return 0;
+    }
+
+    public static getYDescription(): string {
+        return "Y-axis position.";
+    }
+
+    public static getYMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): Rectangle {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Rectangle(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Rectangle> {
+        return ModelStream.decodeArray(source, Rectangle.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'coordinates': this.coordinates,
+            'height': this.height,
+            'metrics': this.metrics,
+            'width': this.width,
+            'x': this.x,
+            'y': this.y,
+        };
+    }
+
+    public clone(): Rectangle {
+        return Rectangle.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "coordinates", typeof data?.coordinates !== "undefined" ? data?.coordinates : "user") || changed;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "mm") || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "x", typeof data?.x !== "undefined" ? data?.x : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "y", typeof data?.y !== "undefined" ? data?.y : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.coordinates, other.coordinates)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.x, other.x)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.y, other.y)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.coordinates);
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.width);
+        hash = ModelEquality.hash(hash, this.x);
+        hash = ModelEquality.hash(hash, this.y);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Rectangle(";
+        fingerprint += ModelEquality.fingerprint(this.coordinates) + ",";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        fingerprint += ModelEquality.fingerprint(this.x) + ",";
+        fingerprint += ModelEquality.fingerprint(this.y) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+export enum RelativeThreeDViewOperation {
+
+    Last = 'Last',
+    Next = 'Next',
+    Previous = 'Previous',
+    First = 'First',
+    Default = 'Default'
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    SelectionBackground,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface RemoveBackgroundInterface  {
+
+    backgroundSelection?: SelectionBackground;
+
+}
+export class RemoveBackground implements RemoveBackgroundInterface, Parameter {
+    backgroundSelection?: SelectionBackground;
+
+    constructor(data: any) {
+        this.backgroundSelection = SelectionBackground.fromJson(data?.backgroundSelection);
+    }
+
+    public static getBackgroundSelectionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): RemoveBackground {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new RemoveBackground(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<RemoveBackground> {
+        return ModelStream.decodeArray(source, RemoveBackground.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'backgroundSelection': this.backgroundSelection?.toJson(),
+        };
+    }
+
+    public clone(): RemoveBackground {
+        return RemoveBackground.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "backgroundSelection", data?.backgroundSelection, SelectionBackground.fromJson, SelectionBackground) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.backgroundSelection, other.backgroundSelection)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.backgroundSelection);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "RemoveBackground(";
+        fingerprint += ModelEquality.fingerprint(this.backgroundSelection) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    SelectionBox,
+} from "./../index";
+
+export interface RemoveBoxesInterface  {
+
+    boxesRemove?: SelectionBox;
+
+}
+export class RemoveBoxes implements RemoveBoxesInterface, Parameter {
+    boxesRemove?: SelectionBox;
+
+    constructor(data: any) {
+        this.boxesRemove = SelectionBox.fromJson(data?.boxesRemove);
+    }
+
+    public static getBoxesRemoveDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): RemoveBoxes {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new RemoveBoxes(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<RemoveBoxes> {
+        return ModelStream.decodeArray(source, RemoveBoxes.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'boxesRemove': this.boxesRemove?.toJson(),
+        };
+    }
+
+    public clone(): RemoveBoxes {
+        return RemoveBoxes.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "boxesRemove", data?.boxesRemove, SelectionBox.fromJson, SelectionBox) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.boxesRemove, other.boxesRemove)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.boxesRemove);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "RemoveBoxes(";
+        fingerprint += ModelEquality.fingerprint(this.boxesRemove) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    SelectionHeaderFooter,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface RemoveHeaderFooterInterface  {
+
+    headerFooterSelection?: SelectionHeaderFooter;
+
+}
+export class RemoveHeaderFooter implements RemoveHeaderFooterInterface, Parameter {
+    headerFooterSelection?: SelectionHeaderFooter;
+
+    constructor(data: any) {
+        this.headerFooterSelection = SelectionHeaderFooter.fromJson(data?.headerFooterSelection);
+    }
+
+    public static getHeaderFooterSelectionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): RemoveHeaderFooter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new RemoveHeaderFooter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<RemoveHeaderFooter> {
+        return ModelStream.decodeArray(source, RemoveHeaderFooter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'headerFooterSelection': this.headerFooterSelection?.toJson(),
+        };
+    }
+
+    public clone(): RemoveHeaderFooter {
+        return RemoveHeaderFooter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "headerFooterSelection", data?.headerFooterSelection, SelectionHeaderFooter.fromJson, SelectionHeaderFooter) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.headerFooterSelection, other.headerFooterSelection)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.headerFooterSelection);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "RemoveHeaderFooter(";
+        fingerprint += ModelEquality.fingerprint(this.headerFooterSelection) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
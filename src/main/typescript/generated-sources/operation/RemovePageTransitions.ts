@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    SelectionTransition,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface RemovePageTransitionsInterface  {
+
+    transitionSelection?: SelectionTransition;
+
+}
+export class RemovePageTransitions implements RemovePageTransitionsInterface, Parameter {
+    transitionSelection?: SelectionTransition;
+
+    constructor(data: any) {
+        this.transitionSelection = SelectionTransition.fromJson(data?.transitionSelection);
+    }
+
+    public static getTransitionSelectionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): RemovePageTransitions {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new RemovePageTransitions(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<RemovePageTransitions> {
+        return ModelStream.decodeArray(source, RemovePageTransitions.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'transitionSelection': this.transitionSelection?.toJson(),
+        };
+    }
+
+    public clone(): RemovePageTransitions {
+        return RemovePageTransitions.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "transitionSelection", data?.transitionSelection, SelectionTransition.fromJson, SelectionTransition) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.transitionSelection, other.transitionSelection)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.transitionSelection);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "RemovePageTransitions(";
+        fingerprint += ModelEquality.fingerprint(this.transitionSelection) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    SelectionRemove,
+    ModelEquality,
+} from "./../index";
+
+export interface RemoveToolboxAnnotationInterface  {
+
+    selection: SelectionRemove;
+
+}
+export class RemoveToolboxAnnotation implements RemoveToolboxAnnotationInterface, Parameter {
+    selection: SelectionRemove;
+
+    constructor(data: any) {
+        this.selection = SelectionRemove.fromJson(data.selection);
+    }
+
+    public static getSelectionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): RemoveToolboxAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new RemoveToolboxAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<RemoveToolboxAnnotation> {
+        return ModelStream.decodeArray(source, RemoveToolboxAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'selection': this.selection?.toJson(),
+        };
+    }
+
+    public clone(): RemoveToolboxAnnotation {
+        return RemoveToolboxAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "selection", data.selection, SelectionRemove.fromJson, SelectionRemove) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.selection, other.selection)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.selection);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "RemoveToolboxAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.selection) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    SelectionAttachment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface RemoveToolboxAttachmentInterface  {
+
+    selection?: Array<SelectionAttachment>;
+
+}
+export class RemoveToolboxAttachment implements RemoveToolboxAttachmentInterface, Parameter {
+    selection?: Array<SelectionAttachment>;
+
+    constructor(data: any) {
+        this.selection = (data?.selection || []).map(
+            SelectionAttachment.fromJson
+        );
+    }
+
+    public static getSelectionDefault(): Array<SelectionAttachment> {
+        return [];
+    }
+
+    public static getSelectionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): RemoveToolboxAttachment {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new RemoveToolboxAttachment(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<RemoveToolboxAttachment> {
+        return ModelStream.decodeArray(source, RemoveToolboxAttachment.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'selection': this.selection?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): RemoveToolboxAttachment {
+        return RemoveToolboxAttachment.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "selection", data?.selection, SelectionAttachment.fromJson, SelectionAttachment) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.selection, other.selection)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.selection);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "RemoveToolboxAttachment(";
+        fingerprint += ModelEquality.fingerprint(this.selection) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ItemReference,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface RemoveToolboxOutlineInterface  {
+
+    item?: Array<ItemReference>;
+
+}
+export class RemoveToolboxOutline implements RemoveToolboxOutlineInterface, Parameter {
+    item?: Array<ItemReference>;
+
+    constructor(data: any) {
+        this.item = (data?.item || []).map(
+            ItemReference.fromJson
+        );
+    }
+
+    public static getItemDefault(): Array<ItemReference> {
+        return [];
+    }
+
+    public static getItemDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): RemoveToolboxOutline {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new RemoveToolboxOutline(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<RemoveToolboxOutline> {
+        return ModelStream.decodeArray(source, RemoveToolboxOutline.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'item': this.item?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): RemoveToolboxOutline {
+        return RemoveToolboxOutline.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "item", data?.item, ItemReference.fromJson, ItemReference) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.item, other.item)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.item);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "RemoveToolboxOutline(";
+        fingerprint += ModelEquality.fingerprint(this.item) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+export enum ReplyState {
+
+    Completed = 'completed',
+    Rejected = 'rejected',
+    Cancelled = 'cancelled',
+    None = 'none',
+    Accepted = 'accepted'
+
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ObjectKeyReplyToAnnotationEdit,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ReplyToAnnotationEditInterface  {
+
+    /**
+    * This value is used to set the textual comment/reply to display.
+    */
+    comment?: string;
+    /**
+    * Used to specify the author of the annotation.
+    */
+    creator?: string;
+    /**
+    * Used to specify the name of the annotation.
+    */
+    name?: string;
+    objectKey: ObjectKeyReplyToAnnotationEdit;
+    /**
+    * Selects the page by page number, that shall contain the \"reply to\" annotation.
+    */
+    page?: number;
+    /**
+    * Used to specify the subject of the annotation.
+    */
+    subject?: string;
+
+}
+export class ReplyToAnnotationEdit implements ReplyToAnnotationEditInterface, Parameter {
+    /**
+    * This value is used to set the textual comment/reply to display.
+    */
+    comment?: string;
+    /**
+    * Used to specify the author of the annotation.
+    */
+    creator?: string;
+    /**
+    * Used to specify the name of the annotation.
+    */
+    name?: string;
+    objectKey: ObjectKeyReplyToAnnotationEdit;
+    /**
+    * Selects the page by page number, that shall contain the \"reply to\" annotation.
+    */
+    page?: number;
+    /**
+    * Used to specify the subject of the annotation.
+    */
+    subject?: string;
+
+    constructor(data: any) {
+        let commentDefault: any = "";
+        this.comment = typeof data?.comment !== "undefined" ? data?.comment : commentDefault;
+        let creatorDefault: any = "";
+        this.creator = typeof data?.creator !== "undefined" ? data?.creator : creatorDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        this.objectKey = ObjectKeyReplyToAnnotationEdit.fromJson(data.objectKey);
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        let subjectDefault: any = "";
+        this.subject = typeof data?.subject !== "undefined" ? data?.subject : subjectDefault;
+    }
+
+    public static getCommentDefault(): string {
+        return "";
+    }
+
+    public static getCommentDescription(): string {
+        return "This value is used to set the textual comment\/reply to display.";
+    }
+
+    public static getCreatorDefault(): string {
+        return "";
+    }
+
+    public static getCreatorDescription(): string {
+        return "Used to specify the author of the annotation.";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "Used to specify the name of the annotation.";
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "";
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "Selects the page by page number, that shall contain the \"reply to\" annotation.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static getSubjectDefault(): string {
+        return "";
+    }
+
+    public static getSubjectDescription(): string {
+        return "Used to specify the subject of the annotation.";
+    }
+
+    public static fromJson(data: any): ReplyToAnnotationEdit {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ReplyToAnnotationEdit(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ReplyToAnnotationEdit> {
+        return ModelStream.decodeArray(source, ReplyToAnnotationEdit.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'comment': this.comment,
+            'creator': this.creator,
+            'name': this.name,
+            'objectKey': this.objectKey?.toJson(),
+            'page': this.page,
+            'subject': this.subject,
+        };
+    }
+
+    public clone(): ReplyToAnnotationEdit {
+        return ReplyToAnnotationEdit.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "comment", typeof data?.comment !== "undefined" ? data?.comment : "") || changed;
+        changed = ModelAssignment.assignValue(this, "creator", typeof data?.creator !== "undefined" ? data?.creator : "") || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignModel(this, "objectKey", data.objectKey, ObjectKeyReplyToAnnotationEdit.fromJson, ObjectKeyReplyToAnnotationEdit) || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "subject", typeof data?.subject !== "undefined" ? data?.subject : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.comment, other.comment)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.creator, other.creator)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.subject, other.subject)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.comment);
+        hash = ModelEquality.hash(hash, this.creator);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.subject);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ReplyToAnnotationEdit(";
+        fingerprint += ModelEquality.fingerprint(this.comment) + ",";
+        fingerprint += ModelEquality.fingerprint(this.creator) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.subject) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+    ResetFormActionResetForm,
+} from "./../index";
+
+export interface ResetFormActionInterface extends ActionEventInterface {
+
+    resetForm?: ResetFormActionResetForm;
+
+}
+export class ResetFormAction extends ActionEvent implements ResetFormActionInterface, Parameter {
+    resetForm?: ResetFormActionResetForm;
+
+    constructor(data: any) {
+        super(data);
+
+        this.resetForm = ResetFormActionResetForm.fromJson(data?.resetForm);
+    }
+
+    public static getResetFormDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ResetFormAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ResetFormAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ResetFormAction> {
+        return ModelStream.decodeArray(source, ResetFormAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'resetForm': this.resetForm?.toJson(),
+        };
+    }
+
+    public clone(): ResetFormAction {
+        return ResetFormAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "resetForm", data?.resetForm, ResetFormActionResetForm.fromJson, ResetFormActionResetForm) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.resetForm, other.resetForm)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.resetForm);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ResetFormAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.resetForm) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    FormFieldSelection,
+} from "./../index";
+
+export interface ResetFormActionResetFormInterface  {
+
+    /**
+    * If true, then all form fields except the selected ones should be exported. If false, only the selected ones will be.
+    */
+    exclude?: boolean;
+    field?: Array<FormFieldSelection>;
+
+}
+export class ResetFormActionResetForm implements ResetFormActionResetFormInterface, Parameter {
+    /**
+    * If true, then all form fields except the selected ones should be exported. If false, only the selected ones will be.
+    */
+    exclude?: boolean;
+    field?: Array<FormFieldSelection>;
+
+    constructor(data: any) {
+        let excludeDefault: any = false;
+        this.exclude = typeof data?.exclude !== "undefined" ? data?.exclude : excludeDefault;
+        this.field = (data?.field || []).map(
+            FormFieldSelection.fromJson
+        );
+    }
+
+    public static getExcludeDefault(): boolean {
+        return false;
+    }
+
+    public static getExcludeDescription(): string {
+        return "If true, then all form fields except the selected ones should be exported. If false, only the selected ones will be.";
+    }
+
+    public static getFieldDefault(): Array<FormFieldSelection> {
+        return [];
+    }
+
+    public static getFieldDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ResetFormActionResetForm {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ResetFormActionResetForm(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ResetFormActionResetForm> {
+        return ModelStream.decodeArray(source, ResetFormActionResetForm.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'exclude': this.exclude,
+            'field': this.field?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): ResetFormActionResetForm {
+        return ResetFormActionResetForm.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "exclude", typeof data?.exclude !== "undefined" ? data?.exclude : false) || changed;
+        changed = ModelAssignment.assignArray(this, "field", data?.field, FormFieldSelection.fromJson, FormFieldSelection) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.exclude, other.exclude)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.field, other.field)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.exclude);
+        hash = ModelEquality.hash(hash, this.field);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ResetFormActionResetForm(";
+        fingerprint += ModelEquality.fingerprint(this.exclude) + ",";
+        fingerprint += ModelEquality.fingerprint(this.field) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
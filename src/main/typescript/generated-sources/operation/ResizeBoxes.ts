@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    BoxesResize,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ResizeBoxesInterface  {
+
+    boxesResize?: BoxesResize;
+
+}
+export class ResizeBoxes implements ResizeBoxesInterface, Parameter {
+    boxesResize?: BoxesResize;
+
+    constructor(data: any) {
+        this.boxesResize = BoxesResize.fromJson(data?.boxesResize);
+    }
+
+    public static getBoxesResizeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ResizeBoxes {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ResizeBoxes(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ResizeBoxes> {
+        return ModelStream.decodeArray(source, ResizeBoxes.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'boxesResize': this.boxesResize?.toJson(),
+        };
+    }
+
+    public clone(): ResizeBoxes {
+        return ResizeBoxes.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "boxesResize", data?.boxesResize, BoxesResize.fromJson, BoxesResize) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.boxesResize, other.boxesResize)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.boxesResize);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ResizeBoxes(";
+        fingerprint += ModelEquality.fingerprint(this.boxesResize) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
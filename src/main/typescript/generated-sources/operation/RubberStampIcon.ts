@@ -0,0 +1,19 @@
+export enum RubberStampIcon {
+
+    NotApproved = 'notApproved',
+    Unnamed = 'unnamed',
+    AsIs = 'asIs',
+    Experimental = 'experimental',
+    ForPublicRelease = 'forPublicRelease',
+    Approved = 'approved',
+    Expired = 'expired',
+    Confidential = 'confidential',
+    Departmental = 'departmental',
+    Draft = 'draft',
+    Sold = 'sold',
+    ForComment = 'forComment',
+    TopSecret = 'topSecret',
+    Final = 'final',
+    NotForPublicRelease = 'notForPublicRelease'
+
+}
\ No newline at end of file
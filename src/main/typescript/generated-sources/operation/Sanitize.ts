@@ -0,0 +1,200 @@
+import {
+    SanitizeAnnotations,
+    ModelStream,
+    SanitizeLayers,
+    SanitizePages,
+    SanitizeForms,
+    ModelAssignment,
+    SanitizeMetadata,
+    SanitizeOutlines,
+    SanitizeActions,
+    Parameter,
+    SanitizeAttachments,
+    ModelEquality,
+    SanitizeTags,
+} from "./../index";
+
+export interface SanitizeInterface  {
+
+    actions?: SanitizeActions;
+    annotations?: SanitizeAnnotations;
+    attachments?: SanitizeAttachments;
+    forms?: SanitizeForms;
+    layers?: SanitizeLayers;
+    metadata?: SanitizeMetadata;
+    outlines?: SanitizeOutlines;
+    pages?: SanitizePages;
+    tags?: SanitizeTags;
+
+}
+export class Sanitize implements SanitizeInterface, Parameter {
+    actions?: SanitizeActions;
+    annotations?: SanitizeAnnotations;
+    attachments?: SanitizeAttachments;
+    forms?: SanitizeForms;
+    layers?: SanitizeLayers;
+    metadata?: SanitizeMetadata;
+    outlines?: SanitizeOutlines;
+    pages?: SanitizePages;
+    tags?: SanitizeTags;
+
+    constructor(data: any) {
+        this.actions = SanitizeActions.fromJson(data?.actions);
+        this.annotations = SanitizeAnnotations.fromJson(data?.annotations);
+        this.attachments = SanitizeAttachments.fromJson(data?.attachments);
+        this.forms = SanitizeForms.fromJson(data?.forms);
+        this.layers = SanitizeLayers.fromJson(data?.layers);
+        this.metadata = SanitizeMetadata.fromJson(data?.metadata);
+        this.outlines = SanitizeOutlines.fromJson(data?.outlines);
+        this.pages = SanitizePages.fromJson(data?.pages);
+        this.tags = SanitizeTags.fromJson(data?.tags);
+    }
+
+    public static getActionsDescription(): string {
+        return "";
+    }
+
+    public static getAnnotationsDescription(): string {
+        return "";
+    }
+
+    public static getAttachmentsDescription(): string {
+        return "";
+    }
+
+    public static getFormsDescription(): string {
+        return "";
+    }
+
+    public static getLayersDescription(): string {
+        return "";
+    }
+
+    public static getMetadataDescription(): string {
+        return "";
+    }
+
+    public static getOutlinesDescription(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "";
+    }
+
+    public static getTagsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Sanitize {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Sanitize(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Sanitize> {
+        return ModelStream.decodeArray(source, Sanitize.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'actions': this.actions?.toJson(),
+            'annotations': this.annotations?.toJson(),
+            'attachments': this.attachments?.toJson(),
+            'forms': this.forms?.toJson(),
+            'layers': this.layers?.toJson(),
+            'metadata': this.metadata?.toJson(),
+            'outlines': this.outlines?.toJson(),
+            'pages': this.pages?.toJson(),
+            'tags': this.tags?.toJson(),
+        };
+    }
+
+    public clone(): Sanitize {
+        return Sanitize.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "actions", data?.actions, SanitizeActions.fromJson, SanitizeActions) || changed;
+        changed = ModelAssignment.assignModel(this, "annotations", data?.annotations, SanitizeAnnotations.fromJson, SanitizeAnnotations) || changed;
+        changed = ModelAssignment.assignModel(this, "attachments", data?.attachments, SanitizeAttachments.fromJson, SanitizeAttachments) || changed;
+        changed = ModelAssignment.assignModel(this, "forms", data?.forms, SanitizeForms.fromJson, SanitizeForms) || changed;
+        changed = ModelAssignment.assignModel(this, "layers", data?.layers, SanitizeLayers.fromJson, SanitizeLayers) || changed;
+        changed = ModelAssignment.assignModel(this, "metadata", data?.metadata, SanitizeMetadata.fromJson, SanitizeMetadata) || changed;
+        changed = ModelAssignment.assignModel(this, "outlines", data?.outlines, SanitizeOutlines.fromJson, SanitizeOutlines) || changed;
+        changed = ModelAssignment.assignModel(this, "pages", data?.pages, SanitizePages.fromJson, SanitizePages) || changed;
+        changed = ModelAssignment.assignModel(this, "tags", data?.tags, SanitizeTags.fromJson, SanitizeTags) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.actions, other.actions)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.annotations, other.annotations)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.attachments, other.attachments)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.forms, other.forms)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.layers, other.layers)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metadata, other.metadata)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.outlines, other.outlines)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.tags, other.tags)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.actions);
+        hash = ModelEquality.hash(hash, this.annotations);
+        hash = ModelEquality.hash(hash, this.attachments);
+        hash = ModelEquality.hash(hash, this.forms);
+        hash = ModelEquality.hash(hash, this.layers);
+        hash = ModelEquality.hash(hash, this.metadata);
+        hash = ModelEquality.hash(hash, this.outlines);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.tags);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Sanitize(";
+        fingerprint += ModelEquality.fingerprint(this.actions) + ",";
+        fingerprint += ModelEquality.fingerprint(this.annotations) + ",";
+        fingerprint += ModelEquality.fingerprint(this.attachments) + ",";
+        fingerprint += ModelEquality.fingerprint(this.forms) + ",";
+        fingerprint += ModelEquality.fingerprint(this.layers) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metadata) + ",";
+        fingerprint += ModelEquality.fingerprint(this.outlines) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.tags) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    PaddedRectangle,
+} from "./../index";
+
+export interface ScalePagesToolboxScaleInterface  {
+
+    dimensions?: PaddedRectangle;
+    /**
+    * If margins are created when the page is scaled or if the page content must be positioned relative to a context (for example, the crop box), this value specifies how margins are to be split and how overall page content is to be positioned on the page.  *   left = Contents are to be arranged left-justified. *   center = Content should be centered. *   right = Contents should be arranged right-justified.
+    */
+    horizontalAlignment?: string;
+    /**
+    * Specifies which page(s) should be scaled. The page number can be either a single page, a range of pages or a list (separated by commas) (e.g. \"1.5-6.9\"). The specification of all pages is done with \"\\*\".
+    */
+    pages?: string;
+    /**
+    * Specifies whether the ratio of the page dimensions to each other should be maintained when scaling the page. This may result in deviations from the given target height or width (depending on requirements).
+    */
+    preserveAspectRatio?: boolean;
+    /**
+    * Specifies whether the scaling of the page should also affect the boxes (Mediabox, Cropbox, etc.) of a page. If this is not the case (false), the actual page dimensions, crop boxes, etc. remain as they were originally and only page contents are scaled. The content can become much smaller or larger than the containing page in this way, which can lead to either large blank areas or overflow of the page content.
+    */
+    scaleBoxes?: boolean;
+    /**
+    * If margins are created when the page is scaled or if the page content must be positioned relative to a context (for example, the crop box), this value specifies how margins are to be split and how overall page content is to be positioned on the page.  *   top = Content should be positioned at the top of the page. *   center = Content should be centered. *   bottom = content should be positioned at the bottom.
+    */
+    verticalAlignment?: string;
+
+}
+export class ScalePagesToolboxScale implements ScalePagesToolboxScaleInterface, Parameter {
+    dimensions?: PaddedRectangle;
+    /**
+    * If margins are created when the page is scaled or if the page content must be positioned relative to a context (for example, the crop box), this value specifies how margins are to be split and how overall page content is to be positioned on the page.  *   left = Contents are to be arranged left-justified. *   center = Content should be centered. *   right = Contents should be arranged right-justified.
+    */
+    horizontalAlignment?: string;
+    /**
+    * Specifies which page(s) should be scaled. The page number can be either a single page, a range of pages or a list (separated by commas) (e.g. \"1.5-6.9\"). The specification of all pages is done with \"\\*\".
+    */
+    pages?: string;
+    /**
+    * Specifies whether the ratio of the page dimensions to each other should be maintained when scaling the page. This may result in deviations from the given target height or width (depending on requirements).
+    */
+    preserveAspectRatio?: boolean;
+    /**
+    * Specifies whether the scaling of the page should also affect the boxes (Mediabox, Cropbox, etc.) of a page. If this is not the case (false), the actual page dimensions, crop boxes, etc. remain as they were originally and only page contents are scaled. The content can become much smaller or larger than the containing page in this way, which can lead to either large blank areas or overflow of the page content.
+    */
+    scaleBoxes?: boolean;
+    /**
+    * If margins are created when the page is scaled or if the page content must be positioned relative to a context (for example, the crop box), this value specifies how margins are to be split and how overall page content is to be positioned on the page.  *   top = Content should be positioned at the top of the page. *   center = Content should be centered. *   bottom = content should be positioned at the bottom.
+    */
+    verticalAlignment?: string;
+
+    constructor(data: any) {
+        this.dimensions = PaddedRectangle.fromJson(data?.dimensions);
+        let horizontalAlignmentDefault: any = "left";
+        this.horizontalAlignment = typeof data?.horizontalAlignment !== "undefined" ? data?.horizontalAlignment : horizontalAlignmentDefault;
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        let preserveAspectRatioDefault: any = true;
+        this.preserveAspectRatio = typeof data?.preserveAspectRatio !== "undefined" ? data?.preserveAspectRatio : preserveAspectRatioDefault;
+        let scaleBoxesDefault: any = true;
+        this.scaleBoxes = typeof data?.scaleBoxes !== "undefined" ? data?.scaleBoxes : scaleBoxesDefault;
+        let verticalAlignmentDefault: any = "top";
+        this.verticalAlignment = typeof data?.verticalAlignment !== "undefined" ? data?.verticalAlignment : verticalAlignmentDefault;
+    }
+
+    public static getDimensionsDescription(): string {
+        return "";
+    }
+
+    public static getHorizontalAlignmentDefault(): string {
+        return "left";
+    }
+
+    public static getHorizontalAlignmentDescription(): string {
+        return "If margins are created when the page is scaled or if the page content must be positioned relative to a context (for example, the crop box), this value specifies how margins are to be split and how overall page content is to be positioned on the page.\n\n*   left = Contents are to be arranged left-justified.\n*   center = Content should be centered.\n*   right = Contents should be arranged right-justified.";
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "Specifies which page(s) should be scaled. The page number can be either a single page, a range of pages or a list (separated by commas) (e.g. \"1.5-6.9\"). The specification of all pages is done with \"\\*\".";
+    }
+
+    public static getPreserveAspectRatioDefault(): boolean {
+        return true;
+    }
+
+    public static getPreserveAspectRatioDescription(): string {
+        return "Specifies whether the ratio of the page dimensions to each other should be maintained when scaling the page. This may result in deviations from the given target height or width (depending on requirements).";
+    }
+
+    public static getScaleBoxesDefault(): boolean {
+        return true;
+    }
+
+    public static getScaleBoxesDescription(): string {
+        return "Specifies whether the scaling of the page should also affect the boxes (Mediabox, Cropbox, etc.) of a page. If this is not the case (false), the actual page dimensions, crop boxes, etc. remain as they were originally and only page contents are scaled. The content can become much smaller or larger than the containing page in this way, which can lead to either large blank areas or overflow of the page content.";
+    }
+
+    public static getVerticalAlignmentDefault(): string {
+        return "top";
+    }
+
+    public static getVerticalAlignmentDescription(): string {
+        return "If margins are created when the page is scaled or if the page content must be positioned relative to a context (for example, the crop box), this value specifies how margins are to be split and how overall page content is to be positioned on the page.\n\n*   top = Content should be positioned at the top of the page.\n*   center = Content should be centered.\n*   bottom = content should be positioned at the bottom.";
+    }
+
+    public static fromJson(data: any): ScalePagesToolboxScale {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ScalePagesToolboxScale(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ScalePagesToolboxScale> {
+        return ModelStream.decodeArray(source, ScalePagesToolboxScale.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'dimensions': this.dimensions?.toJson(),
+            'horizontalAlignment': this.horizontalAlignment,
+            'pages': this.pages,
+            'preserveAspectRatio': this.preserveAspectRatio,
+            'scaleBoxes': this.scaleBoxes,
+            'verticalAlignment': this.verticalAlignment,
+        };
+    }
+
+    public clone(): ScalePagesToolboxScale {
+        return ScalePagesToolboxScale.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "dimensions", data?.dimensions, PaddedRectangle.fromJson, PaddedRectangle) || changed;
+        changed = ModelAssignment.assignValue(this, "horizontalAlignment", typeof data?.horizontalAlignment !== "undefined" ? data?.horizontalAlignment : "left") || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        changed = ModelAssignment.assignValue(this, "preserveAspectRatio", typeof data?.preserveAspectRatio !== "undefined" ? data?.preserveAspectRatio : true) || changed;
+        changed = ModelAssignment.assignValue(this, "scaleBoxes", typeof data?.scaleBoxes !== "undefined" ? data?.scaleBoxes : true) || changed;
+        changed = ModelAssignment.assignValue(this, "verticalAlignment", typeof data?.verticalAlignment !== "undefined" ? data?.verticalAlignment : "top") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dimensions, other.dimensions)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.horizontalAlignment, other.horizontalAlignment)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.preserveAspectRatio, other.preserveAspectRatio)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scaleBoxes, other.scaleBoxes)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.verticalAlignment, other.verticalAlignment)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.dimensions);
+        hash = ModelEquality.hash(hash, this.horizontalAlignment);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.preserveAspectRatio);
+        hash = ModelEquality.hash(hash, this.scaleBoxes);
+        hash = ModelEquality.hash(hash, this.verticalAlignment);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ScalePagesToolboxScale(";
+        fingerprint += ModelEquality.fingerprint(this.dimensions) + ",";
+        fingerprint += ModelEquality.fingerprint(this.horizontalAlignment) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.preserveAspectRatio) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scaleBoxes) + ",";
+        fingerprint += ModelEquality.fingerprint(this.verticalAlignment) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ObjectKeySelectionAnnotation,
+    Rectangle,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SelectionAnnotationInterface  {
+
+    objectKey?: ObjectKeySelectionAnnotation;
+    /**
+    * Selects the page by page number, that shall contain the annotation.
+    */
+    page?: number;
+    position?: Rectangle;
+
+}
+export class SelectionAnnotation implements SelectionAnnotationInterface, Parameter {
+    objectKey?: ObjectKeySelectionAnnotation;
+    /**
+    * Selects the page by page number, that shall contain the annotation.
+    */
+    page?: number;
+    position?: Rectangle;
+
+    constructor(data: any) {
+        this.objectKey = ObjectKeySelectionAnnotation.fromJson(data?.objectKey);
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        this.position = Rectangle.fromJson(data?.position);
+    }
+
+    public static getObjectKeyDescription(): string {
+        return "";
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "Selects the page by page number, that shall contain the annotation.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static getPositionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): SelectionAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SelectionAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SelectionAnnotation> {
+        return ModelStream.decodeArray(source, SelectionAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'objectKey': this.objectKey?.toJson(),
+            'page': this.page,
+            'position': this.position?.toJson(),
+        };
+    }
+
+    public clone(): SelectionAnnotation {
+        return SelectionAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "objectKey", data?.objectKey, ObjectKeySelectionAnnotation.fromJson, ObjectKeySelectionAnnotation) || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        changed = ModelAssignment.assignModel(this, "position", data?.position, Rectangle.fromJson, Rectangle) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.objectKey, other.objectKey)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.objectKey);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.position);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SelectionAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.objectKey) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+import {
+    ModelAssignment,
+    Context,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SelectionAttachmentInterface  {
+
+    /**
+    * Level to which the selection applies.  *   all = All levels *   document = Document level only *   page = Page level only
+    */
+    context?: Context;
+    /**
+    * Filters by file name for the selection. \"\\*.xls\", for example, would result in all XLS attachments in the selection area being removed. Meanwhile, \"xyz.json\" would result in attachments named \"xyz.json\" being removed from the selection area.
+    */
+    fileMask?: string;
+    /**
+    * Page range to which the selection applies.
+    */
+    pages?: string;
+
+}
+export class SelectionAttachment implements SelectionAttachmentInterface, Parameter {
+    /**
+    * Level to which the selection applies.  *   all = All levels *   document = Document level only *   page = Page level only
+    */
+    context?: Context;
+    /**
+    * Filters by file name for the selection. \"\\*.xls\", for example, would result in all XLS attachments in the selection area being removed. Meanwhile, \"xyz.json\" would result in attachments named \"xyz.json\" being removed from the selection area.
+    */
+    fileMask?: string;
+    /**
+    * Page range to which the selection applies.
+    */
+    pages?: string;
+
+    constructor(data: any) {
+        let contextDefault: any = "all";
+        this.context = typeof data?.context !== "undefined" ? data?.context : contextDefault;
+        let fileMaskDefault: any = "";
+        this.fileMask = typeof data?.fileMask !== "undefined" ? data?.fileMask : fileMaskDefault;
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+    }
+
+    public static getContextDefault(): Context {
+        return "all" as Context;
+    }
+
+    public static getContextDescription(): string {
+        return "Level to which the selection applies.\n\n*   all = All levels\n*   document = Document level only\n*   page = Page level only";
+    }
+
+    public static getFileMaskDefault(): string {
+        return "";
+    }
+
+    public static getFileMaskDescription(): string {
+        return "Filters by file name for the selection. \"\\*.xls\", for example, would result in all XLS attachments in the selection area being removed. Meanwhile, \"xyz.json\" would result in attachments named \"xyz.json\" being removed from the selection area.";
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "Page range to which the selection applies.";
+    }
+
+    public static fromJson(data: any): SelectionAttachment {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SelectionAttachment(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SelectionAttachment> {
+        return ModelStream.decodeArray(source, SelectionAttachment.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'context': this.context,
+            'fileMask': this.fileMask,
+            'pages': this.pages,
+        };
+    }
+
+    public clone(): SelectionAttachment {
+        return SelectionAttachment.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "context", typeof data?.context !== "undefined" ? data?.context : "all") || changed;
+        changed = ModelAssignment.assignValue(this, "fileMask", typeof data?.fileMask !== "undefined" ? data?.fileMask : "") || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.context, other.context)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileMask, other.fileMask)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.context);
+        hash = ModelEquality.hash(hash, this.fileMask);
+        hash = ModelEquality.hash(hash, this.pages);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SelectionAttachment(";
+        fingerprint += ModelEquality.fingerprint(this.context) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileMask) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
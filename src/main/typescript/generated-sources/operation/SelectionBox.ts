@@ -0,0 +1,116 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    PageBox,
+} from "./../index";
+
+export interface SelectionBoxInterface  {
+
+    /**
+    * Used to select the box that should be scaled.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    box?: PageBox;
+    /**
+    * Used to define the page(s) from which boxes should be removed. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").
+    */
+    pages?: string;
+
+}
+export class SelectionBox implements SelectionBoxInterface, Parameter {
+    /**
+    * Used to select the box that should be scaled.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    box?: PageBox;
+    /**
+    * Used to define the page(s) from which boxes should be removed. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").
+    */
+    pages?: string;
+
+    constructor(data: any) {
+        let boxDefault: any = "crop_box";
+        this.box = typeof data?.box !== "undefined" ? data?.box : boxDefault;
+        let pagesDefault: any = "*";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+    }
+
+    public static getBoxDefault(): PageBox {
+        return "crop_box" as PageBox;
+    }
+
+    public static getBoxDescription(): string {
+        return "Used to select the box that should be scaled.\n\n*   media\\_box = The page's physical dimensions.\n*   crop\\_box = The visible (printable) page area.\n*   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box).\n*   trim\\_box = Trimmed content position on the page (final content dimensions).\n*   art\\_box = Position for special page content (images).";
+    }
+
+    public static getPagesDefault(): string {
+        return "*";
+    }
+
+    public static getPagesDescription(): string {
+        return "Used to define the page(s) from which boxes should be removed. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").";
+    }
+
+    public static fromJson(data: any): SelectionBox {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SelectionBox(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SelectionBox> {
+        return ModelStream.decodeArray(source, SelectionBox.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'box': this.box,
+            'pages': this.pages,
+        };
+    }
+
+    public clone(): SelectionBox {
+        return SelectionBox.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "box", typeof data?.box !== "undefined" ? data?.box : "crop_box") || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "*") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.box, other.box)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.box);
+        hash = ModelEquality.hash(hash, this.pages);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SelectionBox(";
+        fingerprint += ModelEquality.fingerprint(this.box) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
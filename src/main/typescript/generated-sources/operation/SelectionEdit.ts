@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    SelectionAnnotation,
+} from "./../index";
+
+export interface SelectionEditInterface  {
+
+    select?: Array<SelectionAnnotation>;
+
+}
+export class SelectionEdit implements SelectionEditInterface, Parameter {
+    select?: Array<SelectionAnnotation>;
+
+    constructor(data: any) {
+        this.select = (data?.select || []).map(
+            SelectionAnnotation.fromJson
+        );
+    }
+
+    public static getSelectDefault(): Array<SelectionAnnotation> {
+        return [];
+    }
+
+    public static getSelectDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): SelectionEdit {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SelectionEdit(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SelectionEdit> {
+        return ModelStream.decodeArray(source, SelectionEdit.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'select': this.select?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): SelectionEdit {
+        return SelectionEdit.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "select", data?.select, SelectionAnnotation.fromJson, SelectionAnnotation) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.select, other.select)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.select);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SelectionEdit(";
+        fingerprint += ModelEquality.fingerprint(this.select) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
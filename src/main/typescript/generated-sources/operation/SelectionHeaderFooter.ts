@@ -0,0 +1,65 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SelectionHeaderFooterInterface  {
+
+
+}
+export class SelectionHeaderFooter implements SelectionHeaderFooterInterface, Parameter {
+
+    constructor(data: any) {
+    }
+
+    public static fromJson(data: any): SelectionHeaderFooter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SelectionHeaderFooter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SelectionHeaderFooter> {
+        return ModelStream.decodeArray(source, SelectionHeaderFooter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+        };
+    }
+
+    public clone(): SelectionHeaderFooter {
+        return SelectionHeaderFooter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SelectionHeaderFooter(";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
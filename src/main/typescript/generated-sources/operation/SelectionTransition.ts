@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SelectionTransitionInterface  {
+
+    /**
+    * Used to define the page number or page range (e.g., \"1,5-6,9\") from which the transition animations should be removed.
+    */
+    pages?: string;
+
+}
+export class SelectionTransition implements SelectionTransitionInterface, Parameter {
+    /**
+    * Used to define the page number or page range (e.g., \"1,5-6,9\") from which the transition animations should be removed.
+    */
+    pages?: string;
+
+    constructor(data: any) {
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "Used to define the page number or page range (e.g., \"1,5-6,9\") from which the transition animations should be removed.";
+    }
+
+    public static fromJson(data: any): SelectionTransition {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SelectionTransition(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SelectionTransition> {
+        return ModelStream.decodeArray(source, SelectionTransition.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'pages': this.pages,
+        };
+    }
+
+    public clone(): SelectionTransition {
+        return SelectionTransition.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.pages);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SelectionTransition(";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    SetOCGStateActionSetLayerState,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+} from "./../index";
+
+export interface SetOCGStateActionInterface extends ActionEventInterface {
+
+    setLayerState?: SetOCGStateActionSetLayerState;
+
+}
+export class SetOCGStateAction extends ActionEvent implements SetOCGStateActionInterface, Parameter {
+    setLayerState?: SetOCGStateActionSetLayerState;
+
+    constructor(data: any) {
+        super(data);
+
+        this.setLayerState = SetOCGStateActionSetLayerState.fromJson(data?.setLayerState);
+    }
+
+    public static getSetLayerStateDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): SetOCGStateAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SetOCGStateAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SetOCGStateAction> {
+        return ModelStream.decodeArray(source, SetOCGStateAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'setLayerState': this.setLayerState?.toJson(),
+        };
+    }
+
+    public clone(): SetOCGStateAction {
+        return SetOCGStateAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "setLayerState", data?.setLayerState, SetOCGStateActionSetLayerState.fromJson, SetOCGStateActionSetLayerState) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.setLayerState, other.setLayerState)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.setLayerState);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SetOCGStateAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.setLayerState) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
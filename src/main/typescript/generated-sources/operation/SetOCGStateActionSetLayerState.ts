@@ -0,0 +1,111 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    LayerStateSetOCGStateAction,
+} from "./../index";
+
+export interface SetOCGStateActionSetLayerStateInterface  {
+
+    layerState?: Array<LayerStateSetOCGStateAction>;
+    /**
+    * When set to true, connected radio button states shall be preserved.
+    */
+    preserveRadioButtonRelation?: boolean;
+
+}
+export class SetOCGStateActionSetLayerState implements SetOCGStateActionSetLayerStateInterface, Parameter {
+    layerState?: Array<LayerStateSetOCGStateAction>;
+    /**
+    * When set to true, connected radio button states shall be preserved.
+    */
+    preserveRadioButtonRelation?: boolean;
+
+    constructor(data: any) {
+        this.layerState = (data?.layerState || []).map(
+            LayerStateSetOCGStateAction.fromJson
+        );
+        let preserveRadioButtonRelationDefault: any = true;
+        this.preserveRadioButtonRelation = typeof data?.preserveRadioButtonRelation !== "undefined" ? data?.preserveRadioButtonRelation : preserveRadioButtonRelationDefault;
+    }
+
+    public static getLayerStateDefault(): Array<LayerStateSetOCGStateAction> {
+        return [];
+    }
+
+    public static getLayerStateDescription(): string {
+        return "";
+    }
+
+    public static getPreserveRadioButtonRelationDefault(): boolean {
+        return true;
+    }
+
+    public static getPreserveRadioButtonRelationDescription(): string {
+        return "When set to true, connected radio button states shall be preserved.";
+    }
+
+    public static fromJson(data: any): SetOCGStateActionSetLayerState {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SetOCGStateActionSetLayerState(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SetOCGStateActionSetLayerState> {
+        return ModelStream.decodeArray(source, SetOCGStateActionSetLayerState.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'layerState': this.layerState?.map((data) => data.toJson()),
+            'preserveRadioButtonRelation': this.preserveRadioButtonRelation,
+        };
+    }
+
+    public clone(): SetOCGStateActionSetLayerState {
+        return SetOCGStateActionSetLayerState.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "layerState", data?.layerState, LayerStateSetOCGStateAction.fromJson, LayerStateSetOCGStateAction) || changed;
+        changed = ModelAssignment.assignValue(this, "preserveRadioButtonRelation", typeof data?.preserveRadioButtonRelation !== "undefined" ? data?.preserveRadioButtonRelation : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.layerState, other.layerState)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.preserveRadioButtonRelation, other.preserveRadioButtonRelation)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.layerState);
+        hash = ModelEquality.hash(hash, this.preserveRadioButtonRelation);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SetOCGStateActionSetLayerState(";
+        fingerprint += ModelEquality.fingerprint(this.layerState) + ",";
+        fingerprint += ModelEquality.fingerprint(this.preserveRadioButtonRelation) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
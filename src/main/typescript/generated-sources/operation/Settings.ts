@@ -0,0 +1,125 @@
+import {
+    ModelAssignment,
+    CompressSettings,
+    PdfaSettings,
+    ModelStream,
+    HttpSettings,
+    Parameter,
+    ModelEquality,
+    SignatureSettings,
+} from "./../index";
+
+export interface SettingsInterface  {
+
+    compress?: CompressSettings;
+    http?: HttpSettings;
+    pdfa?: PdfaSettings;
+    signature?: SignatureSettings;
+
+}
+export class Settings implements SettingsInterface, Parameter {
+    compress?: CompressSettings;
+    http?: HttpSettings;
+    pdfa?: PdfaSettings;
+    signature?: SignatureSettings;
+
+    constructor(data: any) {
+        this.compress = CompressSettings.fromJson(data?.compress);
+        this.http = HttpSettings.fromJson(data?.http);
+        this.pdfa = PdfaSettings.fromJson(data?.pdfa);
+        this.signature = SignatureSettings.fromJson(data?.signature);
+    }
+
+    public static getCompressDescription(): string {
+        return "";
+    }
+
+    public static getHttpDescription(): string {
+        return "";
+    }
+
+    public static getPdfaDescription(): string {
+        return "";
+    }
+
+    public static getSignatureDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Settings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Settings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Settings> {
+        return ModelStream.decodeArray(source, Settings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'compress': this.compress?.toJson(),
+            'http': this.http?.toJson(),
+            'pdfa': this.pdfa?.toJson(),
+            'signature': this.signature?.toJson(),
+        };
+    }
+
+    public clone(): Settings {
+        return Settings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "compress", data?.compress, CompressSettings.fromJson, CompressSettings) || changed;
+        changed = ModelAssignment.assignModel(this, "http", data?.http, HttpSettings.fromJson, HttpSettings) || changed;
+        changed = ModelAssignment.assignModel(this, "pdfa", data?.pdfa, PdfaSettings.fromJson, PdfaSettings) || changed;
+        changed = ModelAssignment.assignModel(this, "signature", data?.signature, SignatureSettings.fromJson, SignatureSettings) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compress, other.compress)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.http, other.http)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pdfa, other.pdfa)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signature, other.signature)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.compress);
+        hash = ModelEquality.hash(hash, this.http);
+        hash = ModelEquality.hash(hash, this.pdfa);
+        hash = ModelEquality.hash(hash, this.signature);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Settings(";
+        fingerprint += ModelEquality.fingerprint(this.compress) + ",";
+        fingerprint += ModelEquality.fingerprint(this.http) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pdfa) + ",";
+        fingerprint += ModelEquality.fingerprint(this.signature) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
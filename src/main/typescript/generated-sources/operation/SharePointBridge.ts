@@ -0,0 +1,65 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SharePointBridgeInterface  {
+
+
+}
+export class SharePointBridge implements SharePointBridgeInterface, Parameter {
+
+    constructor(data: any) {
+    }
+
+    public static fromJson(data: any): SharePointBridge {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SharePointBridge(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SharePointBridge> {
+        return ModelStream.decodeArray(source, SharePointBridge.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+        };
+    }
+
+    public clone(): SharePointBridge {
+        return SharePointBridge.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SharePointBridge(";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    AddSignature,
+    Parameter,
+    ModelEquality,
+    ClearSignature,
+} from "./../index";
+
+export interface SignatureInterface  {
+
+    add?: AddSignature;
+    clear?: ClearSignature;
+
+}
+export class Signature implements SignatureInterface, Parameter {
+    add?: AddSignature;
+    clear?: ClearSignature;
+
+    constructor(data: any) {
+        this.add = AddSignature.fromJson(data?.add);
+        this.clear = ClearSignature.fromJson(data?.clear);
+    }
+
+    public static getAddDescription(): string {
+        return "";
+    }
+
+    public static getClearDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Signature {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Signature(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Signature> {
+        return ModelStream.decodeArray(source, Signature.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'add': this.add?.toJson(),
+            'clear': this.clear?.toJson(),
+        };
+    }
+
+    public clone(): Signature {
+        return Signature.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "add", data?.add, AddSignature.fromJson, AddSignature) || changed;
+        changed = ModelAssignment.assignModel(this, "clear", data?.clear, ClearSignature.fromJson, ClearSignature) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.add, other.add)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.clear, other.clear)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.add);
+        hash = ModelEquality.hash(hash, this.clear);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Signature(";
+        fingerprint += ModelEquality.fingerprint(this.add) + ",";
+        fingerprint += ModelEquality.fingerprint(this.clear) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
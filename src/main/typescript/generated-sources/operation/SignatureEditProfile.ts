@@ -0,0 +1,7 @@
+export enum SignatureEditProfile {
+
+    NoEditRestrictions = 'noEditRestrictions',
+    GeneralEditRestrictions = 'generalEditRestrictions',
+    AdobeRestrictions = 'adobeRestrictions'
+
+}
\ No newline at end of file
@@ -0,0 +1,340 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SignatureIdentifierInterface  {
+
+    /**
+    * Displays or hides the common name (CN) part of the certificate.
+    */
+    showCommonName?: boolean;
+    /**
+    * Displays or hides the (ISO valid) country code (C) of the country in which the certificate holder is located.
+    */
+    showCountry?: boolean;
+    /**
+    * Displays or hides the signature time.
+    */
+    showDate?: boolean;
+    /**
+    * Displays or hides the location/city (L) where the certificate holder is located.
+    */
+    showLocal?: boolean;
+    /**
+    * Displays or hides the email address (E) at which the certificate holder can be contacted.
+    */
+    showMail?: boolean;
+    /**
+    * Displays or hides the signature `name`. (If `name` has not been set, the common name (CN) part of the certificate is displayed instead.)
+    */
+    showName?: boolean;
+    /**
+    * Displays or hides the certificate holder's organization/company (O).
+    */
+    showOrganisationName?: boolean;
+    /**
+    * Displays or hides the certificate owner's suborganization/department (OU).
+    */
+    showOrganisationUnit?: boolean;
+    /**
+    * Displays or hides the text `Digitally signed by`. Can be overridden by the value of `textSignedBy`.
+    */
+    showSignedBy?: boolean;
+    /**
+    * Displays or hides the state (S) in which the certificate holder is located.
+    */
+    showState?: boolean;
+    /**
+    * Text that is displayed when the `showSignedBy` option is enabled. If not set, then the text `Digitally signed by` is used as default.
+    */
+    textSignedBy?: string;
+
+}
+export class SignatureIdentifier implements SignatureIdentifierInterface, Parameter {
+    /**
+    * Displays or hides the common name (CN) part of the certificate.
+    */
+    showCommonName?: boolean;
+    /**
+    * Displays or hides the (ISO valid) country code (C) of the country in which the certificate holder is located.
+    */
+    showCountry?: boolean;
+    /**
+    * Displays or hides the signature time.
+    */
+    showDate?: boolean;
+    /**
+    * Displays or hides the location/city (L) where the certificate holder is located.
+    */
+    showLocal?: boolean;
+    /**
+    * Displays or hides the email address (E) at which the certificate holder can be contacted.
+    */
+    showMail?: boolean;
+    /**
+    * Displays or hides the signature `name`. (If `name` has not been set, the common name (CN) part of the certificate is displayed instead.)
+    */
+    showName?: boolean;
+    /**
+    * Displays or hides the certificate holder's organization/company (O).
+    */
+    showOrganisationName?: boolean;
+    /**
+    * Displays or hides the certificate owner's suborganization/department (OU).
+    */
+    showOrganisationUnit?: boolean;
+    /**
+    * Displays or hides the text `Digitally signed by`. Can be overridden by the value of `textSignedBy`.
+    */
+    showSignedBy?: boolean;
+    /**
+    * Displays or hides the state (S) in which the certificate holder is located.
+    */
+    showState?: boolean;
+    /**
+    * Text that is displayed when the `showSignedBy` option is enabled. If not set, then the text `Digitally signed by` is used as default.
+    */
+    textSignedBy?: string;
+
+    constructor(data: any) {
+        let showCommonNameDefault: any = true;
+        this.showCommonName = typeof data?.showCommonName !== "undefined" ? data?.showCommonName : showCommonNameDefault;
+        let showCountryDefault: any = true;
+        this.showCountry = typeof data?.showCountry !== "undefined" ? data?.showCountry : showCountryDefault;
+        let showDateDefault: any = true;
+        this.showDate = typeof data?.showDate !== "undefined" ? data?.showDate : showDateDefault;
+        let showLocalDefault: any = true;
+        this.showLocal = typeof data?.showLocal !== "undefined" ? data?.showLocal : showLocalDefault;
+        let showMailDefault: any = true;
+        this.showMail = typeof data?.showMail !== "undefined" ? data?.showMail : showMailDefault;
+        let showNameDefault: any = true;
+        this.showName = typeof data?.showName !== "undefined" ? data?.showName : showNameDefault;
+        let showOrganisationNameDefault: any = true;
+        this.showOrganisationName = typeof data?.showOrganisationName !== "undefined" ? data?.showOrganisationName : showOrganisationNameDefault;
+        let showOrganisationUnitDefault: any = true;
+        this.showOrganisationUnit = typeof data?.showOrganisationUnit !== "undefined" ? data?.showOrganisationUnit : showOrganisationUnitDefault;
+        let showSignedByDefault: any = true;
+        this.showSignedBy = typeof data?.showSignedBy !== "undefined" ? data?.showSignedBy : showSignedByDefault;
+        let showStateDefault: any = true;
+        this.showState = typeof data?.showState !== "undefined" ? data?.showState : showStateDefault;
+        let textSignedByDefault: any = "";
+        this.textSignedBy = typeof data?.textSignedBy !== "undefined" ? data?.textSignedBy : textSignedByDefault;
+    }
+
+    public static getShowCommonNameDefault(): boolean {
+        return true;
+    }
+
+    public static getShowCommonNameDescription(): string {
+        return "Displays or hides the common name (CN) part of the certificate.";
+    }
+
+    public static getShowCountryDefault(): boolean {
+        return true;
+    }
+
+    public static getShowCountryDescription(): string {
+        return "Displays or hides the (ISO valid) country code (C) of the country in which the certificate holder is located.";
+    }
+
+    public static getShowDateDefault(): boolean {
+        return true;
+    }
+
+    public static getShowDateDescription(): string {
+        return "Displays or hides the signature time.";
+    }
+
+    public static getShowLocalDefault(): boolean {
+        return true;
+    }
+
+    public static getShowLocalDescription(): string {
+        return "Displays or hides the location\/city (L) where the certificate holder is located.";
+    }
+
+    public static getShowMailDefault(): boolean {
+        return true;
+    }
+
+    public static getShowMailDescription(): string {
+        return "Displays or hides the email address (E) at which the certificate holder can be contacted.";
+    }
+
+    public static getShowNameDefault(): boolean {
+        return true;
+    }
+
+    public static getShowNameDescription(): string {
+        return "Displays or hides the signature `name`. (If `name` has not been set, the common name (CN) part of the certificate is displayed instead.)";
+    }
+
+    public static getShowOrganisationNameDefault(): boolean {
+        return true;
+    }
+
+    public static getShowOrganisationNameDescription(): string {
+        return "Displays or hides the certificate holder's organization\/company (O).";
+    }
+
+    public static getShowOrganisationUnitDefault(): boolean {
+        return true;
+    }
+
+    public static getShowOrganisationUnitDescription(): string {
+        return "Displays or hides the certificate owner's suborganization\/department (OU).";
+    }
+
+    public static getShowSignedByDefault(): boolean {
+        return true;
+    }
+
+    public static getShowSignedByDescription(): string {
+        return "Displays or hides the text `Digitally signed by`. Can be overridden by the value of `textSignedBy`.";
+    }
+
+    public static getShowStateDefault(): boolean {
+        return true;
+    }
+
+    public static getShowStateDescription(): string {
+        return "Displays or hides the state (S) in which the certificate holder is located.";
+    }
+
+    public static getTextSignedByDefault(): string {
+        return "";
+    }
+
+    public static getTextSignedByDescription(): string {
+        return "Text that is displayed when the `showSignedBy` option is enabled. If not set, then the text `Digitally signed by` is used as default.";
+    }
+
+    public static fromJson(data: any): SignatureIdentifier {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SignatureIdentifier(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SignatureIdentifier> {
+        return ModelStream.decodeArray(source, SignatureIdentifier.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'showCommonName': this.showCommonName,
+            'showCountry': this.showCountry,
+            'showDate': this.showDate,
+            'showLocal': this.showLocal,
+            'showMail': this.showMail,
+            'showName': this.showName,
+            'showOrganisationName': this.showOrganisationName,
+            'showOrganisationUnit': this.showOrganisationUnit,
+            'showSignedBy': this.showSignedBy,
+            'showState': this.showState,
+            'textSignedBy': this.textSignedBy,
+        };
+    }
+
+    public clone(): SignatureIdentifier {
+        return SignatureIdentifier.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "showCommonName", typeof data?.showCommonName !== "undefined" ? data?.showCommonName : true) || changed;
+        changed = ModelAssignment.assignValue(this, "showCountry", typeof data?.showCountry !== "undefined" ? data?.showCountry : true) || changed;
+        changed = ModelAssignment.assignValue(this, "showDate", typeof data?.showDate !== "undefined" ? data?.showDate : true) || changed;
+        changed = ModelAssignment.assignValue(this, "showLocal", typeof data?.showLocal !== "undefined" ? data?.showLocal : true) || changed;
+        changed = ModelAssignment.assignValue(this, "showMail", typeof data?.showMail !== "undefined" ? data?.showMail : true) || changed;
+        changed = ModelAssignment.assignValue(this, "showName", typeof data?.showName !== "undefined" ? data?.showName : true) || changed;
+        changed = ModelAssignment.assignValue(this, "showOrganisationName", typeof data?.showOrganisationName !== "undefined" ? data?.showOrganisationName : true) || changed;
+        changed = ModelAssignment.assignValue(this, "showOrganisationUnit", typeof data?.showOrganisationUnit !== "undefined" ? data?.showOrganisationUnit : true) || changed;
+        changed = ModelAssignment.assignValue(this, "showSignedBy", typeof data?.showSignedBy !== "undefined" ? data?.showSignedBy : true) || changed;
+        changed = ModelAssignment.assignValue(this, "showState", typeof data?.showState !== "undefined" ? data?.showState : true) || changed;
+        changed = ModelAssignment.assignValue(this, "textSignedBy", typeof data?.textSignedBy !== "undefined" ? data?.textSignedBy : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showCommonName, other.showCommonName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showCountry, other.showCountry)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showDate, other.showDate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showLocal, other.showLocal)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showMail, other.showMail)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showName, other.showName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showOrganisationName, other.showOrganisationName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showOrganisationUnit, other.showOrganisationUnit)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showSignedBy, other.showSignedBy)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.showState, other.showState)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.textSignedBy, other.textSignedBy)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.showCommonName);
+        hash = ModelEquality.hash(hash, this.showCountry);
+        hash = ModelEquality.hash(hash, this.showDate);
+        hash = ModelEquality.hash(hash, this.showLocal);
+        hash = ModelEquality.hash(hash, this.showMail);
+        hash = ModelEquality.hash(hash, this.showName);
+        hash = ModelEquality.hash(hash, this.showOrganisationName);
+        hash = ModelEquality.hash(hash, this.showOrganisationUnit);
+        hash = ModelEquality.hash(hash, this.showSignedBy);
+        hash = ModelEquality.hash(hash, this.showState);
+        hash = ModelEquality.hash(hash, this.textSignedBy);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SignatureIdentifier(";
+        fingerprint += ModelEquality.fingerprint(this.showCommonName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showCountry) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showDate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showLocal) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showMail) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showOrganisationName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showOrganisationUnit) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showSignedBy) + ",";
+        fingerprint += ModelEquality.fingerprint(this.showState) + ",";
+        fingerprint += ModelEquality.fingerprint(this.textSignedBy) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+import {
+    ModelAssignment,
+    SignatureImagePosition,
+    ModelStream,
+    Parameter,
+    SignatureFileData,
+    ModelEquality,
+} from "./../index";
+
+export interface SignatureImageInterface  {
+
+    data: SignatureFileData;
+    /**
+    * Opacity of image as a percentage value between 0 and 100.
+    */
+    opacity?: number;
+    /**
+    * Position of image within signature field:  *   center = Centred *   left = Left *   right = Right
+    */
+    position?: SignatureImagePosition;
+
+}
+export class SignatureImage implements SignatureImageInterface, Parameter {
+    data: SignatureFileData;
+    /**
+    * Opacity of image as a percentage value between 0 and 100.
+    */
+    opacity?: number;
+    /**
+    * Position of image within signature field:  *   center = Centred *   left = Left *   right = Right
+    */
+    position?: SignatureImagePosition;
+
+    constructor(data: any) {
+        this.data = SignatureFileData.fromJson(data.data);
+        let opacityDefault: any = 50;
+        this.opacity = typeof data?.opacity !== "undefined" ? data?.opacity : opacityDefault;
+        let positionDefault: any = "center";
+        this.position = typeof data?.position !== "undefined" ? data?.position : positionDefault;
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static getOpacityDefault(): number {
+        return 50;
+    }
+
+    public static getOpacityDescription(): string {
+        return "Opacity of image as a percentage value between 0 and 100.";
+    }
+
+    public static getOpacityMin(): number {
+        return 0;
+    }
+
+    public static getOpacityMax(): number {
+        return 100;
+    }
+
+    public static getPositionDefault(): SignatureImagePosition {
+        return "center" as SignatureImagePosition;
+    }
+
+    public static getPositionDescription(): string {
+        return "Position of image within signature field:\n\n*   center = Centred\n*   left = Left\n*   right = Right";
+    }
+
+    public static fromJson(data: any): SignatureImage {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SignatureImage(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SignatureImage> {
+        return ModelStream.decodeArray(source, SignatureImage.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'data': this.data?.toJson(),
+            'opacity': this.opacity,
+            'position': this.position,
+        };
+    }
+
+    public clone(): SignatureImage {
+        return SignatureImage.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "data", data.data, SignatureFileData.fromJson, SignatureFileData) || changed;
+        changed = ModelAssignment.assignValue(this, "opacity", typeof data?.opacity !== "undefined" ? data?.opacity : 50) || changed;
+        changed = ModelAssignment.assignValue(this, "position", typeof data?.position !== "undefined" ? data?.position : "center") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.opacity, other.opacity)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.data);
+        hash = ModelEquality.hash(hash, this.opacity);
+        hash = ModelEquality.hash(hash, this.position);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SignatureImage(";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        fingerprint += ModelEquality.fingerprint(this.opacity) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
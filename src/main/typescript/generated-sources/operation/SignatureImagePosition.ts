@@ -0,0 +1,7 @@
+export enum SignatureImagePosition {
+
+    Center = 'center',
+    Left = 'left',
+    Right = 'right'
+
+}
\ No newline at end of file
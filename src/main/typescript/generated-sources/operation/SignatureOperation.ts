@@ -0,0 +1,125 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Billing,
+    Signature,
+    Parameter,
+    ModelEquality,
+    PdfPassword,
+    Settings,
+} from "./../index";
+
+export interface SignatureOperationInterface  {
+
+    billing?: Billing;
+    password?: PdfPassword;
+    settings?: Settings;
+    signature: Signature;
+
+}
+export class SignatureOperation implements SignatureOperationInterface, Parameter {
+    billing?: Billing;
+    password?: PdfPassword;
+    settings?: Settings;
+    signature: Signature;
+
+    constructor(data: any) {
+        this.billing = Billing.fromJson(data?.billing);
+        this.password = PdfPassword.fromJson(data?.password);
+        this.settings = Settings.fromJson(data?.settings);
+        this.signature = Signature.fromJson(data.signature);
+    }
+
+    public static getBillingDescription(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static getSignatureDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): SignatureOperation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SignatureOperation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SignatureOperation> {
+        return ModelStream.decodeArray(source, SignatureOperation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'billing': this.billing?.toJson(),
+            'password': this.password?.toJson(),
+            'settings': this.settings?.toJson(),
+            'signature': this.signature?.toJson(),
+        };
+    }
+
+    public clone(): SignatureOperation {
+        return SignatureOperation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "billing", data?.billing, Billing.fromJson, Billing) || changed;
+        changed = ModelAssignment.assignModel(this, "password", data?.password, PdfPassword.fromJson, PdfPassword) || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, Settings.fromJson, Settings) || changed;
+        changed = ModelAssignment.assignModel(this, "signature", data.signature, Signature.fromJson, Signature) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.billing, other.billing)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signature, other.signature)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.billing);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.settings);
+        hash = ModelEquality.hash(hash, this.signature);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SignatureOperation(";
+        fingerprint += ModelEquality.fingerprint(this.billing) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        fingerprint += ModelEquality.fingerprint(this.signature) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
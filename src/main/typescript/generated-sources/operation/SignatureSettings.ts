@@ -0,0 +1,91 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    SignatureEditProfile,
+    ModelEquality,
+} from "./../index";
+
+export interface SignatureSettingsInterface  {
+
+    /**
+    * Defines the profile whose rules web services have to check before they can come to execution. These profiles define a set of rules concerning the validity of signatures. A web service whose execution for a given signed document would violate the ruleset selected here should instead abort with an appropriate error code.  *   adobeRestrictions = Only those changes are allowed that are enabled by the included signatures. This follows the specifications given by Adobe. *   generalEditRestrictions = All changes to signed documents are prohibited, even those that might be allowed according to the included signatures. *   noEditRestrictions = Editing of signed documents is not restricted and all changes are allowed (by doing this, you accept that all signatures could potentially be removed from the document when necessary).
+    */
+    signatureEditProfile?: SignatureEditProfile;
+
+}
+export class SignatureSettings implements SignatureSettingsInterface, Parameter {
+    /**
+    * Defines the profile whose rules web services have to check before they can come to execution. These profiles define a set of rules concerning the validity of signatures. A web service whose execution for a given signed document would violate the ruleset selected here should instead abort with an appropriate error code.  *   adobeRestrictions = Only those changes are allowed that are enabled by the included signatures. This follows the specifications given by Adobe. *   generalEditRestrictions = All changes to signed documents are prohibited, even those that might be allowed according to the included signatures. *   noEditRestrictions = Editing of signed documents is not restricted and all changes are allowed (by doing this, you accept that all signatures could potentially be removed from the document when necessary).
+    */
+    signatureEditProfile?: SignatureEditProfile;
+
+    constructor(data: any) {
+        let signatureEditProfileDefault: any = "adobeRestrictions";
+        this.signatureEditProfile = typeof data?.signatureEditProfile !== "undefined" ? data?.signatureEditProfile : signatureEditProfileDefault;
+    }
+
+    public static getSignatureEditProfileDefault(): SignatureEditProfile {
+        return "adobeRestrictions" as SignatureEditProfile;
+    }
+
+    public static getSignatureEditProfileDescription(): string {
+        return "Defines the profile whose rules web services have to check before they can come to execution. These profiles define a set of rules concerning the validity of signatures. A web service whose execution for a given signed document would violate the ruleset selected here should instead abort with an appropriate error code.\n\n*   adobeRestrictions = Only those changes are allowed that are enabled by the included signatures. This follows the specifications given by Adobe.\n*   generalEditRestrictions = All changes to signed documents are prohibited, even those that might be allowed according to the included signatures.\n*   noEditRestrictions = Editing of signed documents is not restricted and all changes are allowed (by doing this, you accept that all signatures could potentially be removed from the document when necessary).";
+    }
+
+    public static fromJson(data: any): SignatureSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SignatureSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SignatureSettings> {
+        return ModelStream.decodeArray(source, SignatureSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'signatureEditProfile': this.signatureEditProfile,
+        };
+    }
+
+    public clone(): SignatureSettings {
+        return SignatureSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "signatureEditProfile", typeof data?.signatureEditProfile !== "undefined" ? data?.signatureEditProfile : "adobeRestrictions") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signatureEditProfile, other.signatureEditProfile)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.signatureEditProfile);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SignatureSettings(";
+        fingerprint += ModelEquality.fingerprint(this.signatureEditProfile) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    KeyPair,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SignerAddInterface  {
+
+    keyPair: KeyPair;
+
+}
+export class SignerAdd implements SignerAddInterface, Parameter {
+    keyPair: KeyPair;
+
+    constructor(data: any) {
+        this.keyPair = KeyPair.fromJson(data.keyPair);
+    }
+
+    public static getKeyPairDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): SignerAdd {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SignerAdd(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SignerAdd> {
+        return ModelStream.decodeArray(source, SignerAdd.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'keyPair': this.keyPair?.toJson(),
+        };
+    }
+
+    public clone(): SignerAdd {
+        return SignerAdd.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "keyPair", data.keyPair, KeyPair.fromJson, KeyPair) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keyPair, other.keyPair)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.keyPair);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SignerAdd(";
+        fingerprint += ModelEquality.fingerprint(this.keyPair) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SizeOptimizationInterface  {
+
+    /**
+    * Used to specify the number of runs that should be used for optimization. If the target size cannot be reached after the specified number of runs, the operation will be cancelled and an error code will be returned.
+    */
+    maxRetries?: number;
+    /**
+    * Used to define the maximum size of the JPEG file (file size), in bytes, that should be reached. The optimization routine will be successfully completed if the file reaches or falls below the specified file size. Make sure to use a value > 0; otherwise, an error will be thrown.
+    */
+    maxSize?: number;
+    /**
+    * Used to define the increment by which the JPEG quality (jpegQuality) should be reduced every run in order to reach the desired file size. If the values for maxRetries and stepSize result in an illegal JPEG quality value being reached, the operation will be cancelled and an error code will be returned.
+    */
+    stepSize?: number;
+
+}
+export class SizeOptimization implements SizeOptimizationInterface, Parameter {
+    /**
+    * Used to specify the number of runs that should be used for optimization. If the target size cannot be reached after the specified number of runs, the operation will be cancelled and an error code will be returned.
+    */
+    maxRetries?: number;
+    /**
+    * Used to define the maximum size of the JPEG file (file size), in bytes, that should be reached. The optimization routine will be successfully completed if the file reaches or falls below the specified file size. Make sure to use a value > 0; otherwise, an error will be thrown.
+    */
+    maxSize?: number;
+    /**
+    * Used to define the increment by which the JPEG quality (jpegQuality) should be reduced every run in order to reach the desired file size. If the values for maxRetries and stepSize result in an illegal JPEG quality value being reached, the operation will be cancelled and an error code will be returned.
+    */
+    stepSize?: number;
+
+    constructor(data: any) {
+        let maxRetriesDefault: any = 5;
+        this.maxRetries = typeof data?.maxRetries !== "undefined" ? data?.maxRetries : maxRetriesDefault;
+        let maxSizeDefault: any = 100000;
+        this.maxSize = typeof data?.maxSize !== "undefined" ? data?.maxSize : maxSizeDefault;
+        let stepSizeDefault: any = 10;
+        this.stepSize = typeof data?.stepSize !== "undefined" ? data?.stepSize : stepSizeDefault;
+    }
+
+    public static getMaxRetriesDefault(): number {
+        return 5;
+    }
+
+    public static getMaxRetriesDescription(): string {
+        return "Used to specify the number of runs that should be used for optimization. If the target size cannot be reached after the specified number of runs, the operation will be cancelled and an error code will be returned.";
+    }
+
+    public static getMaxSizeDefault(): number {
+        return 100000;
+    }
+
+    public static getMaxSizeDescription(): string {
+        return "Used to define the maximum size of the JPEG file (file size), in bytes, that should be reached. The optimization routine will be successfully completed if the file reaches or falls below the specified file size. Make sure to use a value > 0; otherwise, an error will be thrown.";
+    }
+
+    public static getStepSizeDefault(): number {
+        return 10;
+    }
+
+    public static getStepSizeDescription(): string {
+        return "Used to define the increment by which the JPEG quality (jpegQuality) should be reduced every run in order to reach the desired file size. If the values for maxRetries and stepSize result in an illegal JPEG quality value being reached, the operation will be cancelled and an error code will be returned.";
+    }
+
+    public static fromJson(data: any): SizeOptimization {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SizeOptimization(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SizeOptimization> {
+        return ModelStream.decodeArray(source, SizeOptimization.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'maxRetries': this.maxRetries,
+            'maxSize': this.maxSize,
+            'stepSize': this.stepSize,
+        };
+    }
+
+    public clone(): SizeOptimization {
+        return SizeOptimization.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "maxRetries", typeof data?.maxRetries !== "undefined" ? data?.maxRetries : 5) || changed;
+        changed = ModelAssignment.assignValue(this, "maxSize", typeof data?.maxSize !== "undefined" ? data?.maxSize : 100000) || changed;
+        changed = ModelAssignment.assignValue(this, "stepSize", typeof data?.stepSize !== "undefined" ? data?.stepSize : 10) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxRetries, other.maxRetries)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.maxSize, other.maxSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.stepSize, other.stepSize)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.maxRetries);
+        hash = ModelEquality.hash(hash, this.maxSize);
+        hash = ModelEquality.hash(hash, this.stepSize);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SizeOptimization(";
+        fingerprint += ModelEquality.fingerprint(this.maxRetries) + ",";
+        fingerprint += ModelEquality.fingerprint(this.maxSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.stepSize) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
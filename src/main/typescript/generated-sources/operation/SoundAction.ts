@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+    SoundActionPlaySound,
+} from "./../index";
+
+export interface SoundActionInterface extends ActionEventInterface {
+
+    playSound?: SoundActionPlaySound;
+
+}
+export class SoundAction extends ActionEvent implements SoundActionInterface, Parameter {
+    playSound?: SoundActionPlaySound;
+
+    constructor(data: any) {
+        super(data);
+
+        this.playSound = SoundActionPlaySound.fromJson(data?.playSound);
+    }
+
+    public static getPlaySoundDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): SoundAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SoundAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SoundAction> {
+        return ModelStream.decodeArray(source, SoundAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'playSound': this.playSound?.toJson(),
+        };
+    }
+
+    public clone(): SoundAction {
+        return SoundAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "playSound", data?.playSound, SoundActionPlaySound.fromJson, SoundActionPlaySound) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.playSound, other.playSound)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.playSound);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SoundAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.playSound) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
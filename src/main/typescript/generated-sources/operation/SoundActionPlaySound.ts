@@ -0,0 +1,306 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    AudioEncoding,
+    ModelEquality,
+} from "./../index";
+
+export interface SoundActionPlaySoundInterface  {
+
+    /**
+    * The encoding of the audio file. Possible values are:  *   Raw *   Signed *   muLaw *   ALaw
+    */
+    encoding?: AudioEncoding;
+    /**
+    * If this value is set to true, it will be possible to play the audio track at the same time as other audio tracks. If it is set to false instead, any audio tracks that were already playing will be stopped previously.
+    */
+    mix?: boolean;
+    /**
+    * If this value is set to true, the audio track should be repeated endlessly.
+    */
+    repeat?: boolean;
+    /**
+    * The number of bits per sample per audio channel.
+    */
+    sampleSize?: number;
+    /**
+    * The Sample Rate in Samples per Second.
+    */
+    samplingRate?: number;
+    /**
+    * The audio file that should be played. The file must be encoded as a BASE64 value. The passed file must be completely independent and contain all the information and data required to play it. The AIFF, AIFF-C, RIFF (\\*.wav), snd(\\*.au) audio formats are supported, for example.
+    */
+    sound: string;
+    /**
+    * The number of audio channels.
+    */
+    soundChannels?: number;
+    /**
+    * If this value is set to true, the reader program must guarantee that the audio track will be plated in a completely synchronized manner without any interruptions and, accordingly, suppress any user interaction (except for cancelling the audio) while the audio is playing.
+    */
+    synchronous?: boolean;
+    /**
+    * A floating-point number between 100 and -100 that configures the volume for audio playback (as a percentage).
+    */
+    volume?: number;
+
+}
+export class SoundActionPlaySound implements SoundActionPlaySoundInterface, Parameter {
+    /**
+    * The encoding of the audio file. Possible values are:  *   Raw *   Signed *   muLaw *   ALaw
+    */
+    encoding?: AudioEncoding;
+    /**
+    * If this value is set to true, it will be possible to play the audio track at the same time as other audio tracks. If it is set to false instead, any audio tracks that were already playing will be stopped previously.
+    */
+    mix?: boolean;
+    /**
+    * If this value is set to true, the audio track should be repeated endlessly.
+    */
+    repeat?: boolean;
+    /**
+    * The number of bits per sample per audio channel.
+    */
+    sampleSize?: number;
+    /**
+    * The Sample Rate in Samples per Second.
+    */
+    samplingRate?: number;
+    /**
+    * The audio file that should be played. The file must be encoded as a BASE64 value. The passed file must be completely independent and contain all the information and data required to play it. The AIFF, AIFF-C, RIFF (\\*.wav), snd(\\*.au) audio formats are supported, for example.
+    */
+    sound: string;
+    /**
+    * The number of audio channels.
+    */
+    soundChannels?: number;
+    /**
+    * If this value is set to true, the reader program must guarantee that the audio track will be plated in a completely synchronized manner without any interruptions and, accordingly, suppress any user interaction (except for cancelling the audio) while the audio is playing.
+    */
+    synchronous?: boolean;
+    /**
+    * A floating-point number between 100 and -100 that configures the volume for audio playback (as a percentage).
+    */
+    volume?: number;
+
+    constructor(data: any) {
+        let encodingDefault: any = "Raw";
+        this.encoding = typeof data?.encoding !== "undefined" ? data?.encoding : encodingDefault;
+        let mixDefault: any = false;
+        this.mix = typeof data?.mix !== "undefined" ? data?.mix : mixDefault;
+        let repeatDefault: any = false;
+        this.repeat = typeof data?.repeat !== "undefined" ? data?.repeat : repeatDefault;
+        let sampleSizeDefault: any = 8;
+        this.sampleSize = typeof data?.sampleSize !== "undefined" ? data?.sampleSize : sampleSizeDefault;
+        let samplingRateDefault: any = 8000;
+        this.samplingRate = typeof data?.samplingRate !== "undefined" ? data?.samplingRate : samplingRateDefault;
+        this.sound = data.sound;
+        let soundChannelsDefault: any = 1;
+        this.soundChannels = typeof data?.soundChannels !== "undefined" ? data?.soundChannels : soundChannelsDefault;
+        let synchronousDefault: any = false;
+        this.synchronous = typeof data?.synchronous !== "undefined" ? data?.synchronous : synchronousDefault;
+        let volumeDefault: any = 100;
+        this.volume = typeof data?.volume !== "undefined" ? data?.volume : volumeDefault;
+    }
+
+    public static getEncodingDefault(): AudioEncoding {
+        return "Raw" as AudioEncoding;
+    }
+
+    public static getEncodingDescription(): string {
+        return "The encoding of the audio file. Possible values are:\n\n*   Raw\n*   Signed\n*   muLaw\n*   ALaw";
+    }
+
+    public static getMixDefault(): boolean {
+        return false;
+    }
+
+    public static getMixDescription(): string {
+        return "If this value is set to true, it will be possible to play the audio track at the same time as other audio tracks. If it is set to false instead, any audio tracks that were already playing will be stopped previously.";
+    }
+
+    public static getRepeatDefault(): boolean {
+        return false;
+    }
+
+    public static getRepeatDescription(): string {
+        return "If this value is set to true, the audio track should be repeated endlessly.";
+    }
+
+    public static getSampleSizeDefault(): number {
+        return 8;
+    }
+
+    public static getSampleSizeDescription(): string {
+        return "The number of bits per sample per audio channel.";
+    }
+
+    public static getSampleSizeMin(): number {
+        return 1;
+    }
+
+    public static getSamplingRateDefault(): number {
+        return 8000;
+    }
+
+    public static getSamplingRateDescription(): string {
+        return "The Sample Rate in Samples per Second.";
+    }
+
+    public static getSamplingRateMin(): number {
+        return 1;
+    }
+
+    public static getSoundDescription(): string {
+        return "The audio file that should be played. The file must be encoded as a BASE64 value. The passed file must be completely independent and contain all the information and data required to play it. The AIFF, AIFF-C, RIFF (\\*.wav), snd(\\*.au) audio formats are supported, for example.";
+    }
+
+    public static getSoundChannelsDefault(): number {
+        return 1;
+    }
+
+    public static getSoundChannelsDescription(): string {
+        return "The number of audio channels.";
+    }
+
+    public static getSoundChannelsMin(): number {
+        return 1;
+    }
+
+    public static getSynchronousDefault(): boolean {
+        return false;
+    }
+
+    public static getSynchronousDescription(): string {
+        return "If this value is set to true, the reader program must guarantee that the audio track will be plated in a completely synchronized manner without any interruptions and, accordingly, suppress any user interaction (except for cancelling the audio) while the audio is playing.";
+    }
+
+    public static getVolumeDefault(): number {
+        return 100;
+    }
+
+    public static getVolumeDescription(): string {
+        return "A floating-point number between 100 and -100 that configures the volume for audio playback (as a percentage).";
+    }
+
+    public static getVolumeMin(): number {
+        return -100;
+    }
+
+    public static getVolumeMax(): number {
+        return 100;
+    }
+
+    public static fromJson(data: any): SoundActionPlaySound {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SoundActionPlaySound(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SoundActionPlaySound> {
+        return ModelStream.decodeArray(source, SoundActionPlaySound.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'encoding': this.encoding,
+            'mix': this.mix,
+            'repeat': this.repeat,
+            'sampleSize': this.sampleSize,
+            'samplingRate': this.samplingRate,
+            'sound': this.sound,
+            'soundChannels': this.soundChannels,
+            'synchronous': this.synchronous,
+            'volume': this.volume,
+        };
+    }
+
+    public clone(): SoundActionPlaySound {
+        return SoundActionPlaySound.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "encoding", typeof data?.encoding !== "undefined" ? data?.encoding : "Raw") || changed;
+        changed = ModelAssignment.assignValue(this, "mix", typeof data?.mix !== "undefined" ? data?.mix : false) || changed;
+        changed = ModelAssignment.assignValue(this, "repeat", typeof data?.repeat !== "undefined" ? data?.repeat : false) || changed;
+        changed = ModelAssignment.assignValue(this, "sampleSize", typeof data?.sampleSize !== "undefined" ? data?.sampleSize : 8) || changed;
+        changed = ModelAssignment.assignValue(this, "samplingRate", typeof data?.samplingRate !== "undefined" ? data?.samplingRate : 8000) || changed;
+        changed = ModelAssignment.assignValue(this, "sound", data.sound) || changed;
+        changed = ModelAssignment.assignValue(this, "soundChannels", typeof data?.soundChannels !== "undefined" ? data?.soundChannels : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "synchronous", typeof data?.synchronous !== "undefined" ? data?.synchronous : false) || changed;
+        changed = ModelAssignment.assignValue(this, "volume", typeof data?.volume !== "undefined" ? data?.volume : 100) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.encoding, other.encoding)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mix, other.mix)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.repeat, other.repeat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sampleSize, other.sampleSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.samplingRate, other.samplingRate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sound, other.sound)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.soundChannels, other.soundChannels)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.synchronous, other.synchronous)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.volume, other.volume)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.encoding);
+        hash = ModelEquality.hash(hash, this.mix);
+        hash = ModelEquality.hash(hash, this.repeat);
+        hash = ModelEquality.hash(hash, this.sampleSize);
+        hash = ModelEquality.hash(hash, this.samplingRate);
+        hash = ModelEquality.hash(hash, this.sound);
+        hash = ModelEquality.hash(hash, this.soundChannels);
+        hash = ModelEquality.hash(hash, this.synchronous);
+        hash = ModelEquality.hash(hash, this.volume);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SoundActionPlaySound(";
+        fingerprint += ModelEquality.fingerprint(this.encoding) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mix) + ",";
+        fingerprint += ModelEquality.fingerprint(this.repeat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sampleSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.samplingRate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sound) + ",";
+        fingerprint += ModelEquality.fingerprint(this.soundChannels) + ",";
+        fingerprint += ModelEquality.fingerprint(this.synchronous) + ",";
+        fingerprint += ModelEquality.fingerprint(this.volume) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+export enum SplitMode {
+
+    Each = 'each',
+    Group = 'group',
+    Last = 'last',
+    Single = 'single',
+    Burst = 'burst',
+    List = 'list',
+    First = 'first'
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+    SubmitFormActionSubmitForm,
+} from "./../index";
+
+export interface SubmitFormActionInterface extends ActionEventInterface {
+
+    submitForm?: SubmitFormActionSubmitForm;
+
+}
+export class SubmitFormAction extends ActionEvent implements SubmitFormActionInterface, Parameter {
+    submitForm?: SubmitFormActionSubmitForm;
+
+    constructor(data: any) {
+        super(data);
+
+        this.submitForm = SubmitFormActionSubmitForm.fromJson(data?.submitForm);
+    }
+
+    public static getSubmitFormDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): SubmitFormAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SubmitFormAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SubmitFormAction> {
+        return ModelStream.decodeArray(source, SubmitFormAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'submitForm': this.submitForm?.toJson(),
+        };
+    }
+
+    public clone(): SubmitFormAction {
+        return SubmitFormAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "submitForm", data?.submitForm, SubmitFormActionSubmitForm.fromJson, SubmitFormActionSubmitForm) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.submitForm, other.submitForm)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.submitForm);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SubmitFormAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.submitForm) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
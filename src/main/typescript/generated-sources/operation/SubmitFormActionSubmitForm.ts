@@ -0,0 +1,436 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    FormFieldSelection,
+} from "./../index";
+
+export interface SubmitFormActionSubmitFormInterface  {
+
+    /**
+    * If this value is set to true, all dates and times will be transmitted in a canonical standard format whenever possible.
+    */
+    canonicalFormat?: boolean;
+    /**
+    * This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the PDF file that contains the form should be integrated into the transmitted data.
+    */
+    embedForm?: boolean;
+    /**
+    * If true, then all form fields except the selected ones should be exported. If false, only the selected ones will be.
+    */
+    exclude?: boolean;
+    /**
+    * This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the URL to which the data is being transmitted should be included in the export.
+    */
+    excludeFDFSourceOrTargetFile?: boolean;
+    /**
+    * This value is only relevant if the data should be transmitted in FDF format and \"includeAnnotations\" is set. In this case, this value determines whether the transmitted data should exclusively contain the annotations set by the user filling out the information (true) or whether it should contain all annotations instead (false).
+    */
+    excludeNonUserAnnotations?: boolean;
+    /**
+    * This value is only relevant if \"submitPDF\" and \"xfdf\" are not set. If this value is set to true, the data will be exported as an HTML form; otherwise, it will be exported in fdf (Forms Data Format) format.
+    */
+    exportFormat?: boolean;
+    field?: Array<FormFieldSelection>;
+    /**
+    * This value is only relevant if \"exportFormat\" is set and used. In this case, this value determines whether the names and values will be transmitted with GET (true) or HTTP POST (false) requests.
+    */
+    getMethod?: boolean;
+    /**
+    * This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the set mark-up annotations should be included in the transmitted data.
+    */
+    includeAnnotations?: boolean;
+    /**
+    * This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the transmitted data will reproduce all incremental changes in the form data.
+    */
+    includeAppendSaves?: boolean;
+    /**
+    * If true, form fields that have not yet been filled out / that do not contain a value will be exported as well.
+    */
+    includeNoValueFields?: boolean;
+    /**
+    * This value is only relevant if \"exportFormat\" is set and used. In this case, this value determines whether the position of the mouse click that triggered the export should also be part of the export.
+    */
+    submitCoordinates?: boolean;
+    /**
+    * If this value is set to true, the data will be transmitted as a PDF file.
+    */
+    submitPDF?: boolean;
+    /**
+    * The URL to which the data should be transmitted.
+    */
+    url?: string;
+    /**
+    * This value is only relevant if \"submitPDF\" is not set. In this case, this value determines whether the data should be transmitted in XFDF format.
+    */
+    xfdf?: boolean;
+
+}
+export class SubmitFormActionSubmitForm implements SubmitFormActionSubmitFormInterface, Parameter {
+    /**
+    * If this value is set to true, all dates and times will be transmitted in a canonical standard format whenever possible.
+    */
+    canonicalFormat?: boolean;
+    /**
+    * This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the PDF file that contains the form should be integrated into the transmitted data.
+    */
+    embedForm?: boolean;
+    /**
+    * If true, then all form fields except the selected ones should be exported. If false, only the selected ones will be.
+    */
+    exclude?: boolean;
+    /**
+    * This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the URL to which the data is being transmitted should be included in the export.
+    */
+    excludeFDFSourceOrTargetFile?: boolean;
+    /**
+    * This value is only relevant if the data should be transmitted in FDF format and \"includeAnnotations\" is set. In this case, this value determines whether the transmitted data should exclusively contain the annotations set by the user filling out the information (true) or whether it should contain all annotations instead (false).
+    */
+    excludeNonUserAnnotations?: boolean;
+    /**
+    * This value is only relevant if \"submitPDF\" and \"xfdf\" are not set. If this value is set to true, the data will be exported as an HTML form; otherwise, it will be exported in fdf (Forms Data Format) format.
+    */
+    exportFormat?: boolean;
+    field?: Array<FormFieldSelection>;
+    /**
+    * This value is only relevant if \"exportFormat\" is set and used. In this case, this value determines whether the names and values will be transmitted with GET (true) or HTTP POST (false) requests.
+    */
+    getMethod?: boolean;
+    /**
+    * This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the set mark-up annotations should be included in the transmitted data.
+    */
+    includeAnnotations?: boolean;
+    /**
+    * This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the transmitted data will reproduce all incremental changes in the form data.
+    */
+    includeAppendSaves?: boolean;
+    /**
+    * If true, form fields that have not yet been filled out / that do not contain a value will be exported as well.
+    */
+    includeNoValueFields?: boolean;
+    /**
+    * This value is only relevant if \"exportFormat\" is set and used. In this case, this value determines whether the position of the mouse click that triggered the export should also be part of the export.
+    */
+    submitCoordinates?: boolean;
+    /**
+    * If this value is set to true, the data will be transmitted as a PDF file.
+    */
+    submitPDF?: boolean;
+    /**
+    * The URL to which the data should be transmitted.
+    */
+    url?: string;
+    /**
+    * This value is only relevant if \"submitPDF\" is not set. In this case, this value determines whether the data should be transmitted in XFDF format.
+    */
+    xfdf?: boolean;
+
+    constructor(data: any) {
+        let canonicalFormatDefault: any = false;
+        this.canonicalFormat = typeof data?.canonicalFormat !== "undefined" ? data?.canonicalFormat : canonicalFormatDefault;
+        let embedFormDefault: any = false;
+        this.embedForm = typeof data?.embedForm !== "undefined" ? data?.embedForm : embedFormDefault;
+        let excludeDefault: any = false;
+        this.exclude = typeof data?.exclude !== "undefined" ? data?.exclude : excludeDefault;
+        let excludeFDFSourceOrTargetFileDefault: any = false;
+        this.excludeFDFSourceOrTargetFile = typeof data?.excludeFDFSourceOrTargetFile !== "undefined" ? data?.excludeFDFSourceOrTargetFile : excludeFDFSourceOrTargetFileDefault;
+        let excludeNonUserAnnotationsDefault: any = false;
+        this.excludeNonUserAnnotations = typeof data?.excludeNonUserAnnotations !== "undefined" ? data?.excludeNonUserAnnotations : excludeNonUserAnnotationsDefault;
+        let exportFormatDefault: any = false;
+        this.exportFormat = typeof data?.exportFormat !== "undefined" ? data?.exportFormat : exportFormatDefault;
+        this.field = (data?.field || []).map(
+            FormFieldSelection.fromJson
+        );
+        let getMethodDefault: any = false;
+        this.getMethod = typeof data?.getMethod !== "undefined" ? data?.getMethod : getMethodDefault;
+        let includeAnnotationsDefault: any = false;
+        this.includeAnnotations = typeof data?.includeAnnotations !== "undefined" ? data?.includeAnnotations : includeAnnotationsDefault;
+        let includeAppendSavesDefault: any = false;
+        this.includeAppendSaves = typeof data?.includeAppendSaves !== "undefined" ? data?.includeAppendSaves : includeAppendSavesDefault;
+        let includeNoValueFieldsDefault: any = false;
+        this.includeNoValueFields = typeof data?.includeNoValueFields !== "undefined" ? data?.includeNoValueFields : includeNoValueFieldsDefault;
+        let submitCoordinatesDefault: any = false;
+        this.submitCoordinates = typeof data?.submitCoordinates !== "undefined" ? data?.submitCoordinates : submitCoordinatesDefault;
+        let submitPDFDefault: any = false;
+        this.submitPDF = typeof data?.submitPDF !== "undefined" ? data?.submitPDF : submitPDFDefault;
+        let urlDefault: any = "";
+        this.url = typeof data?.url !== "undefined" ? data?.url : urlDefault;
+        let xfdfDefault: any = false;
+        this.xfdf = typeof data?.xfdf !== "undefined" ? data?.xfdf : xfdfDefault;
+    }
+
+    public static getCanonicalFormatDefault(): boolean {
+        return false;
+    }
+
+    public static getCanonicalFormatDescription(): string {
+        return "If this value is set to true, all dates and times will be transmitted in a canonical standard format whenever possible.";
+    }
+
+    public static getEmbedFormDefault(): boolean {
+        return false;
+    }
+
+    public static getEmbedFormDescription(): string {
+        return "This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the PDF file that contains the form should be integrated into the transmitted data.";
+    }
+
+    public static getExcludeDefault(): boolean {
+        return false;
+    }
+
+    public static getExcludeDescription(): string {
+        return "If true, then all form fields except the selected ones should be exported. If false, only the selected ones will be.";
+    }
+
+    public static getExcludeFDFSourceOrTargetFileDefault(): boolean {
+        return false;
+    }
+
+    public static getExcludeFDFSourceOrTargetFileDescription(): string {
+        return "This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the URL to which the data is being transmitted should be included in the export.";
+    }
+
+    public static getExcludeNonUserAnnotationsDefault(): boolean {
+        return false;
+    }
+
+    public static getExcludeNonUserAnnotationsDescription(): string {
+        return "This value is only relevant if the data should be transmitted in FDF format and \"includeAnnotations\" is set. In this case, this value determines whether the transmitted data should exclusively contain the annotations set by the user filling out the information (true) or whether it should contain all annotations instead (false).";
+    }
+
+    public static getExportFormatDefault(): boolean {
+        return false;
+    }
+
+    public static getExportFormatDescription(): string {
+        return "This value is only relevant if \"submitPDF\" and \"xfdf\" are not set. If this value is set to true, the data will be exported as an HTML form; otherwise, it will be exported in fdf (Forms Data Format) format.";
+    }
+
+    public static getFieldDefault(): Array<FormFieldSelection> {
+        return [];
+    }
+
+    public static getFieldDescription(): string {
+        return "";
+    }
+
+    public static getGetMethodDefault(): boolean {
+        return false;
+    }
+
+    public static getGetMethodDescription(): string {
+        return "This value is only relevant if \"exportFormat\" is set and used. In this case, this value determines whether the names and values will be transmitted with GET (true) or HTTP POST (false) requests.";
+    }
+
+    public static getIncludeAnnotationsDefault(): boolean {
+        return false;
+    }
+
+    public static getIncludeAnnotationsDescription(): string {
+        return "This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the set mark-up annotations should be included in the transmitted data.";
+    }
+
+    public static getIncludeAppendSavesDefault(): boolean {
+        return false;
+    }
+
+    public static getIncludeAppendSavesDescription(): string {
+        return "This value is only relevant if the data should be transmitted in FDF format. In this case, this value determines whether the transmitted data will reproduce all incremental changes in the form data.";
+    }
+
+    public static getIncludeNoValueFieldsDefault(): boolean {
+        return false;
+    }
+
+    public static getIncludeNoValueFieldsDescription(): string {
+        return "If true, form fields that have not yet been filled out \/ that do not contain a value will be exported as well.";
+    }
+
+    public static getSubmitCoordinatesDefault(): boolean {
+        return false;
+    }
+
+    public static getSubmitCoordinatesDescription(): string {
+        return "This value is only relevant if \"exportFormat\" is set and used. In this case, this value determines whether the position of the mouse click that triggered the export should also be part of the export.";
+    }
+
+    public static getSubmitPDFDefault(): boolean {
+        return false;
+    }
+
+    public static getSubmitPDFDescription(): string {
+        return "If this value is set to true, the data will be transmitted as a PDF file.";
+    }
+
+    public static getUrlDefault(): string {
+        return "";
+    }
+
+    public static getUrlDescription(): string {
+        return "The URL to which the data should be transmitted.";
+    }
+
+    public static getXfdfDefault(): boolean {
+        return false;
+    }
+
+    public static getXfdfDescription(): string {
+        return "This value is only relevant if \"submitPDF\" is not set. In this case, this value determines whether the data should be transmitted in XFDF format.";
+    }
+
+    public static fromJson(data: any): SubmitFormActionSubmitForm {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SubmitFormActionSubmitForm(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SubmitFormActionSubmitForm> {
+        return ModelStream.decodeArray(source, SubmitFormActionSubmitForm.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'canonicalFormat': this.canonicalFormat,
+            'embedForm': this.embedForm,
+            'exclude': this.exclude,
+            'excludeFDFSourceOrTargetFile': this.excludeFDFSourceOrTargetFile,
+            'excludeNonUserAnnotations': this.excludeNonUserAnnotations,
+            'exportFormat': this.exportFormat,
+            'field': this.field?.map((data) => data.toJson()),
+            'getMethod': this.getMethod,
+            'includeAnnotations': this.includeAnnotations,
+            'includeAppendSaves': this.includeAppendSaves,
+            'includeNoValueFields': this.includeNoValueFields,
+            'submitCoordinates': this.submitCoordinates,
+            'submitPDF': this.submitPDF,
+            'url': this.url,
+            'xfdf': this.xfdf,
+        };
+    }
+
+    public clone(): SubmitFormActionSubmitForm {
+        return SubmitFormActionSubmitForm.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "canonicalFormat", typeof data?.canonicalFormat !== "undefined" ? data?.canonicalFormat : false) || changed;
+        changed = ModelAssignment.assignValue(this, "embedForm", typeof data?.embedForm !== "undefined" ? data?.embedForm : false) || changed;
+        changed = ModelAssignment.assignValue(this, "exclude", typeof data?.exclude !== "undefined" ? data?.exclude : false) || changed;
+        changed = ModelAssignment.assignValue(this, "excludeFDFSourceOrTargetFile", typeof data?.excludeFDFSourceOrTargetFile !== "undefined" ? data?.excludeFDFSourceOrTargetFile : false) || changed;
+        changed = ModelAssignment.assignValue(this, "excludeNonUserAnnotations", typeof data?.excludeNonUserAnnotations !== "undefined" ? data?.excludeNonUserAnnotations : false) || changed;
+        changed = ModelAssignment.assignValue(this, "exportFormat", typeof data?.exportFormat !== "undefined" ? data?.exportFormat : false) || changed;
+        changed = ModelAssignment.assignArray(this, "field", data?.field, FormFieldSelection.fromJson, FormFieldSelection) || changed;
+        changed = ModelAssignment.assignValue(this, "getMethod", typeof data?.getMethod !== "undefined" ? data?.getMethod : false) || changed;
+        changed = ModelAssignment.assignValue(this, "includeAnnotations", typeof data?.includeAnnotations !== "undefined" ? data?.includeAnnotations : false) || changed;
+        changed = ModelAssignment.assignValue(this, "includeAppendSaves", typeof data?.includeAppendSaves !== "undefined" ? data?.includeAppendSaves : false) || changed;
+        changed = ModelAssignment.assignValue(this, "includeNoValueFields", typeof data?.includeNoValueFields !== "undefined" ? data?.includeNoValueFields : false) || changed;
+        changed = ModelAssignment.assignValue(this, "submitCoordinates", typeof data?.submitCoordinates !== "undefined" ? data?.submitCoordinates : false) || changed;
+        changed = ModelAssignment.assignValue(this, "submitPDF", typeof data?.submitPDF !== "undefined" ? data?.submitPDF : false) || changed;
+        changed = ModelAssignment.assignValue(this, "url", typeof data?.url !== "undefined" ? data?.url : "") || changed;
+        changed = ModelAssignment.assignValue(this, "xfdf", typeof data?.xfdf !== "undefined" ? data?.xfdf : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.canonicalFormat, other.canonicalFormat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.embedForm, other.embedForm)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.exclude, other.exclude)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.excludeFDFSourceOrTargetFile, other.excludeFDFSourceOrTargetFile)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.excludeNonUserAnnotations, other.excludeNonUserAnnotations)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.exportFormat, other.exportFormat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.field, other.field)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.getMethod, other.getMethod)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.includeAnnotations, other.includeAnnotations)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.includeAppendSaves, other.includeAppendSaves)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.includeNoValueFields, other.includeNoValueFields)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.submitCoordinates, other.submitCoordinates)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.submitPDF, other.submitPDF)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.url, other.url)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.xfdf, other.xfdf)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.canonicalFormat);
+        hash = ModelEquality.hash(hash, this.embedForm);
+        hash = ModelEquality.hash(hash, this.exclude);
+        hash = ModelEquality.hash(hash, this.excludeFDFSourceOrTargetFile);
+        hash = ModelEquality.hash(hash, this.excludeNonUserAnnotations);
+        hash = ModelEquality.hash(hash, this.exportFormat);
+        hash = ModelEquality.hash(hash, this.field);
+        hash = ModelEquality.hash(hash, this.getMethod);
+        hash = ModelEquality.hash(hash, this.includeAnnotations);
+        hash = ModelEquality.hash(hash, this.includeAppendSaves);
+        hash = ModelEquality.hash(hash, this.includeNoValueFields);
+        hash = ModelEquality.hash(hash, this.submitCoordinates);
+        hash = ModelEquality.hash(hash, this.submitPDF);
+        hash = ModelEquality.hash(hash, this.url);
+        hash = ModelEquality.hash(hash, this.xfdf);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SubmitFormActionSubmitForm(";
+        fingerprint += ModelEquality.fingerprint(this.canonicalFormat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.embedForm) + ",";
+        fingerprint += ModelEquality.fingerprint(this.exclude) + ",";
+        fingerprint += ModelEquality.fingerprint(this.excludeFDFSourceOrTargetFile) + ",";
+        fingerprint += ModelEquality.fingerprint(this.excludeNonUserAnnotations) + ",";
+        fingerprint += ModelEquality.fingerprint(this.exportFormat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.field) + ",";
+        fingerprint += ModelEquality.fingerprint(this.getMethod) + ",";
+        fingerprint += ModelEquality.fingerprint(this.includeAnnotations) + ",";
+        fingerprint += ModelEquality.fingerprint(this.includeAppendSaves) + ",";
+        fingerprint += ModelEquality.fingerprint(this.includeNoValueFields) + ",";
+        fingerprint += ModelEquality.fingerprint(this.submitCoordinates) + ",";
+        fingerprint += ModelEquality.fingerprint(this.submitPDF) + ",";
+        fingerprint += ModelEquality.fingerprint(this.url) + ",";
+        fingerprint += ModelEquality.fingerprint(this.xfdf) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
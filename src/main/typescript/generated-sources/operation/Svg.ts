@@ -0,0 +1,267 @@
+import {
+    ModelAssignment,
+    Metrics,
+    SvgPathDrawMode,
+    SvgGraphicsStateMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SvgInterface  {
+
+    /**
+    * Selects the number of decimal places for numeric values of the resulting SVG.  **Important:** The number of decimal places directly influences the size of the resulting file. However: Higher values will result in a better SVG quality.
+    */
+    decimalPrecision?: number;
+    /**
+    * This parameter is used to define the image's DPI resolution. The larger the value, the larger the image's x, y resolution. In addition, the larger the DPI resolution, the larger the size of the image file.
+    */
+    dpi?: number;
+    /**
+    * Selects the SVG syntax used for formatting graphics states.  *   verbose = Writes verbose graphics states and groups and always prefers direct path definitions. *   centralize = Writes compact graphics states and groups and centralizes formatting instructions, also utilizes the \"use\" syntax to prepare and reference indirect paths. (May not be readable by some SVG viewers.)
+    */
+    graphicsStateMode?: SvgGraphicsStateMode;
+    /**
+    * Used to limit the maximum height of the exported image. 0 = No restriction
+    */
+    height?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Selects the SVG syntax used for formatting paths.  *   verbose = Writes verbose paths, containing a human readable complete and simple syntax. *   compress = Compresses path draw instructions, by applying the EBNF (Extended Backus Naur Form).
+    */
+    pathDrawMode?: SvgPathDrawMode;
+    /**
+    * Used to limit the maximum width of the exported image. 0 = No restriction
+    */
+    width?: number;
+
+}
+export class Svg implements SvgInterface, Parameter {
+    /**
+    * Selects the number of decimal places for numeric values of the resulting SVG.  **Important:** The number of decimal places directly influences the size of the resulting file. However: Higher values will result in a better SVG quality.
+    */
+    decimalPrecision?: number;
+    /**
+    * This parameter is used to define the image's DPI resolution. The larger the value, the larger the image's x, y resolution. In addition, the larger the DPI resolution, the larger the size of the image file.
+    */
+    dpi?: number;
+    /**
+    * Selects the SVG syntax used for formatting graphics states.  *   verbose = Writes verbose graphics states and groups and always prefers direct path definitions. *   centralize = Writes compact graphics states and groups and centralizes formatting instructions, also utilizes the \"use\" syntax to prepare and reference indirect paths. (May not be readable by some SVG viewers.)
+    */
+    graphicsStateMode?: SvgGraphicsStateMode;
+    /**
+    * Used to limit the maximum height of the exported image. 0 = No restriction
+    */
+    height?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Selects the SVG syntax used for formatting paths.  *   verbose = Writes verbose paths, containing a human readable complete and simple syntax. *   compress = Compresses path draw instructions, by applying the EBNF (Extended Backus Naur Form).
+    */
+    pathDrawMode?: SvgPathDrawMode;
+    /**
+    * Used to limit the maximum width of the exported image. 0 = No restriction
+    */
+    width?: number;
+
+    constructor(data: any) {
+        let decimalPrecisionDefault: any = 2;
+        this.decimalPrecision = typeof data?.decimalPrecision !== "undefined" ? data?.decimalPrecision : decimalPrecisionDefault;
+        let dpiDefault: any = 72;
+        this.dpi = typeof data?.dpi !== "undefined" ? data?.dpi : dpiDefault;
+        let graphicsStateModeDefault: any = "centralize";
+        this.graphicsStateMode = typeof data?.graphicsStateMode !== "undefined" ? data?.graphicsStateMode : graphicsStateModeDefault;
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let metricsDefault: any = "mm";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let pathDrawModeDefault: any = "compact";
+        this.pathDrawMode = typeof data?.pathDrawMode !== "undefined" ? data?.pathDrawMode : pathDrawModeDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+    }
+
+    public static getDecimalPrecisionDefault(): number {
+        return 2;
+    }
+
+    public static getDecimalPrecisionDescription(): string {
+        return "Selects the number of decimal places for numeric values of the resulting SVG.\n\n**Important:** The number of decimal places directly influences the size of the resulting file. However: Higher values will result in a better SVG quality.";
+    }
+
+    public static getDecimalPrecisionMin(): number {
+        return 0;
+    }
+
+    public static getDecimalPrecisionMax(): number {
+        return 10;
+    }
+
+    public static getDpiDefault(): number {
+        return 72;
+    }
+
+    public static getDpiDescription(): string {
+        return "This parameter is used to define the image's DPI resolution. The larger the value, the larger the image's x, y resolution. In addition, the larger the DPI resolution, the larger the size of the image file.";
+    }
+
+    public static getDpiMin(): number {
+        return 0;
+    }
+
+    public static getDpiMax(): number {
+        return 9600;
+    }
+
+    public static getGraphicsStateModeDefault(): SvgGraphicsStateMode {
+        return "centralize" as SvgGraphicsStateMode;
+    }
+
+    public static getGraphicsStateModeDescription(): string {
+        return "Selects the SVG syntax used for formatting graphics states.\n\n*   verbose = Writes verbose graphics states and groups and always prefers direct path definitions.\n*   centralize = Writes compact graphics states and groups and centralizes formatting instructions, also utilizes the \"use\" syntax to prepare and reference indirect paths. (May not be readable by some SVG viewers.)";
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "Used to limit the maximum height of the exported image. 0 = No restriction";
+    }
+
+    public static getHeightMin(): number {
+        return 0;
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "mm" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getPathDrawModeDefault(): SvgPathDrawMode {
+        return "compact" as SvgPathDrawMode;
+    }
+
+    public static getPathDrawModeDescription(): string {
+        return "Selects the SVG syntax used for formatting paths.\n\n*   verbose = Writes verbose paths, containing a human readable complete and simple syntax.\n*   compress = Compresses path draw instructions, by applying the EBNF (Extended Backus Naur Form).";
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "Used to limit the maximum width of the exported image. 0 = No restriction";
+    }
+
+    public static getWidthMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): Svg {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Svg(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Svg> {
+        return ModelStream.decodeArray(source, Svg.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'decimalPrecision': this.decimalPrecision,
+            'dpi': this.dpi,
+            'graphicsStateMode': this.graphicsStateMode,
+            'height': this.height,
+            'metrics': this.metrics,
+            'pathDrawMode': this.pathDrawMode,
+            'width': this.width,
+        };
+    }
+
+    public clone(): Svg {
+        return Svg.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "decimalPrecision", typeof data?.decimalPrecision !== "undefined" ? data?.decimalPrecision : 2) || changed;
+        changed = ModelAssignment.assignValue(this, "dpi", typeof data?.dpi !== "undefined" ? data?.dpi : 72) || changed;
+        changed = ModelAssignment.assignValue(this, "graphicsStateMode", typeof data?.graphicsStateMode !== "undefined" ? data?.graphicsStateMode : "centralize") || changed;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "mm") || changed;
+        changed = ModelAssignment.assignValue(this, "pathDrawMode", typeof data?.pathDrawMode !== "undefined" ? data?.pathDrawMode : "compact") || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.decimalPrecision, other.decimalPrecision)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dpi, other.dpi)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.graphicsStateMode, other.graphicsStateMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pathDrawMode, other.pathDrawMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.decimalPrecision);
+        hash = ModelEquality.hash(hash, this.dpi);
+        hash = ModelEquality.hash(hash, this.graphicsStateMode);
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.pathDrawMode);
+        hash = ModelEquality.hash(hash, this.width);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Svg(";
+        fingerprint += ModelEquality.fingerprint(this.decimalPrecision) + ",";
+        fingerprint += ModelEquality.fingerprint(this.dpi) + ",";
+        fingerprint += ModelEquality.fingerprint(this.graphicsStateMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pathDrawMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+import {
+    ModelAssignment,
+    SvgPathDrawMode,
+    SvgGraphicsStateMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface SvgFormatInterface  {
+
+    /**
+    * Selects the number of decimal places for numeric values of contained SVGs.  **Important:** The number of decimal places directly influences the size of the resulting file. (should SVGs be contained.) However: Higher values will result in a better SVG quality.
+    */
+    decimalPrecision?: number;
+    /**
+    * Selects the SVG syntax used for formatting graphics states.  *   verbose = Writes verbose graphics states and groups and always prefers direct path definitions. *   centralize = Writes compact graphics states and groups and centralizes formatting instructions, also utilizes the \"use\" syntax to prepare and reference indirect paths. (May not be readable by some SVG viewers.)
+    */
+    graphicsStateMode?: SvgGraphicsStateMode;
+    /**
+    * Selects the SVG syntax used for formatting paths.  *   verbose = Writes verbose paths, containing a human readable complete and simple syntax. *   compress = Compresses path draw instructions, by applying the EBNF (Extended Backus Naur Form).
+    */
+    pathDrawMode?: SvgPathDrawMode;
+
+}
+export class SvgFormat implements SvgFormatInterface, Parameter {
+    /**
+    * Selects the number of decimal places for numeric values of contained SVGs.  **Important:** The number of decimal places directly influences the size of the resulting file. (should SVGs be contained.) However: Higher values will result in a better SVG quality.
+    */
+    decimalPrecision?: number;
+    /**
+    * Selects the SVG syntax used for formatting graphics states.  *   verbose = Writes verbose graphics states and groups and always prefers direct path definitions. *   centralize = Writes compact graphics states and groups and centralizes formatting instructions, also utilizes the \"use\" syntax to prepare and reference indirect paths. (May not be readable by some SVG viewers.)
+    */
+    graphicsStateMode?: SvgGraphicsStateMode;
+    /**
+    * Selects the SVG syntax used for formatting paths.  *   verbose = Writes verbose paths, containing a human readable complete and simple syntax. *   compress = Compresses path draw instructions, by applying the EBNF (Extended Backus Naur Form).
+    */
+    pathDrawMode?: SvgPathDrawMode;
+
+    constructor(data: any) {
+        let decimalPrecisionDefault: any = 2;
+        this.decimalPrecision = typeof data?.decimalPrecision !== "undefined" ? data?.decimalPrecision : decimalPrecisionDefault;
+        let graphicsStateModeDefault: any = "centralize";
+        this.graphicsStateMode = typeof data?.graphicsStateMode !== "undefined" ? data?.graphicsStateMode : graphicsStateModeDefault;
+        let pathDrawModeDefault: any = "compact";
+        this.pathDrawMode = typeof data?.pathDrawMode !== "undefined" ? data?.pathDrawMode : pathDrawModeDefault;
+    }
+
+    public static getDecimalPrecisionDefault(): number {
+        return 2;
+    }
+
+    public static getDecimalPrecisionDescription(): string {
+        return "Selects the number of decimal places for numeric values of contained SVGs.\n\n**Important:** The number of decimal places directly influences the size of the resulting file. (should SVGs be contained.) However: Higher values will result in a better SVG quality.";
+    }
+
+    public static getDecimalPrecisionMin(): number {
+        return 0;
+    }
+
+    public static getDecimalPrecisionMax(): number {
+        return 10;
+    }
+
+    public static getGraphicsStateModeDefault(): SvgGraphicsStateMode {
+        return "centralize" as SvgGraphicsStateMode;
+    }
+
+    public static getGraphicsStateModeDescription(): string {
+        return "Selects the SVG syntax used for formatting graphics states.\n\n*   verbose = Writes verbose graphics states and groups and always prefers direct path definitions.\n*   centralize = Writes compact graphics states and groups and centralizes formatting instructions, also utilizes the \"use\" syntax to prepare and reference indirect paths. (May not be readable by some SVG viewers.)";
+    }
+
+    public static getPathDrawModeDefault(): SvgPathDrawMode {
+        return "compact" as SvgPathDrawMode;
+    }
+
+    public static getPathDrawModeDescription(): string {
+        return "Selects the SVG syntax used for formatting paths.\n\n*   verbose = Writes verbose paths, containing a human readable complete and simple syntax.\n*   compress = Compresses path draw instructions, by applying the EBNF (Extended Backus Naur Form).";
+    }
+
+    public static fromJson(data: any): SvgFormat {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SvgFormat(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SvgFormat> {
+        return ModelStream.decodeArray(source, SvgFormat.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'decimalPrecision': this.decimalPrecision,
+            'graphicsStateMode': this.graphicsStateMode,
+            'pathDrawMode': this.pathDrawMode,
+        };
+    }
+
+    public clone(): SvgFormat {
+        return SvgFormat.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "decimalPrecision", typeof data?.decimalPrecision !== "undefined" ? data?.decimalPrecision : 2) || changed;
+        changed = ModelAssignment.assignValue(this, "graphicsStateMode", typeof data?.graphicsStateMode !== "undefined" ? data?.graphicsStateMode : "centralize") || changed;
+        changed = ModelAssignment.assignValue(this, "pathDrawMode", typeof data?.pathDrawMode !== "undefined" ? data?.pathDrawMode : "compact") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.decimalPrecision, other.decimalPrecision)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.graphicsStateMode, other.graphicsStateMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pathDrawMode, other.pathDrawMode)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.decimalPrecision);
+        hash = ModelEquality.hash(hash, this.graphicsStateMode);
+        hash = ModelEquality.hash(hash, this.pathDrawMode);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SvgFormat(";
+        fingerprint += ModelEquality.fingerprint(this.decimalPrecision) + ",";
+        fingerprint += ModelEquality.fingerprint(this.graphicsStateMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pathDrawMode) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
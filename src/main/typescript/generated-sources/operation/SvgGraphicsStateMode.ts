@@ -0,0 +1,6 @@
+export enum SvgGraphicsStateMode {
+
+    Centralize = 'centralize',
+    Verbose = 'verbose'
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum SvgPathDrawMode {
+
+    Verbose = 'verbose',
+    Compact = 'compact'
+
+}
\ No newline at end of file
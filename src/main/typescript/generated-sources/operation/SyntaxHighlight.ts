@@ -0,0 +1,292 @@
+import {
+    ModelAssignment,
+    FontOriginMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    TextWrapMode,
+} from "./../index";
+
+export interface SyntaxHighlightInterface  {
+
+    /**
+    * Can be used to specify the languages to which the syntax highlighted should be limited. You can enter multiple languages by separating them with a comma (\"java,cpp\"). If you do not specify a value, all the languages listed below will be recognized. You can select any of the following languages:  *   abnf = Augmented Backus-Naur form *   accesslog = Apache/Nginx Access Logs *   actionscript = ActionScript *   ada = Ada *   angelscript = AngelScript *   apache = Apache configuration language *   applescript = AppleScript *   arcade = ArcGIS Arcade *   arduino = Arduino *   armasm = ARM Assembly *   asciidoc = AsciiDoc *   aspectj = AspectJ *   autohotkey = AutoHotkey *   autoit = AutoIt *   avrasm = AVR Assembler *   awk = Awk *   axapta = Axapta *   bash = Bash *   basic = Basic *   bnf = Backus-Naur Form *   brainfuck = Brainfuck *   cal = C/AL *   capnproto = Cap'n Proto *   ceylon = Ceylon *   clean = Clean *   clojure-repl = Clojure REPL *   clojure = Clojure *   cmake = CMake *   coffeescript = CoffeeScript *   coq = Coq *   cos = Caché Object Script *   cpp = C++ *   crmsh = crmsh *   crystal = Crystal *   cs = C# *   csp = CSP *   css = CSS *   d = D *   dart = Dart *   delphi = Delphi *   diff = Diff *   django = Django *   dns = DNS Zone file *   dockerfile = Dockerfile *   dos = DOS .bat *   dsconfig = dsconfig *   dts = Device Tree *   dust = Dust *   ebnf = Extended Backus-Naur Form *   elixir = Elixir *   elm = Elm *   erb = Embedded Ruby *   erlang-repl = Erlang REPL *   erlang = Erlang *   excel = Excel *   fix = FIX *   flix = FLIX *   fortran = Fortran *   fsharp = F# *   gams = GAMS *   gauss = GAUSS *   gcode = G-code *   gherkin = Gherkin *   glsl = GLSL *   gml = GML *   go = Go *   golo = Golo *   gradle = Gradle *   groovy = Groovy *   haml = Haml *   arduino = Arduino *   handlebars = Handlebars *   haskell = Haskell *   haxe = Haxe *   hsp = HSP *   htmlbars = HTMLBars *   http = HTTP *   hy = Hy *   inform7 = Inform 7 *   arduino = Ini, TOML *   irpf90 = IRPF90 *   isbl = ISBL *   java = Java *   javascript = Javascript *   jboss-cli = jboss-cli *   json = JSON *   julia-repl = Julia REPL *   julia = Julia *   kotlin = Kotlin *   lasso = Lasso *   ldif = LDIF *   leaf = Leaf *   less = Less *   lisp = Lisp *   livecodeserver = LiveCode *   livescript = LiveScript *   llvm = LLVM IR *   lsl = Linden Scripting Language *   lua = Lua *   makefile = Makefile *   markdown = Markdown *   mathematica = Mathematica *   matlab = Matlab *   maxima = Maxima *   mel = MEL *   mercury = Mercury *   mipsasm = MIPS Assembly *   mizar = Mizar *   mojolicious = Mojolicious *   monkey = Monkey *   moonscript = MoonScript *   n1ql = N1QL *   nginx = Nginx *   nimrod = Nimrod *   nix = Nix *   nsis = NSIS *   objectivec = Objective-C *   ocaml = OCaml *   openscad = OpenSCAD *   oxygene = Oxygene *   parser3 = Parser3 *   perl = Perl *   pf = pf *   pgsql = PostgreSQL *   php = PHP *   plaintext = plaintext *   pony = Pony *   powershell = PowerShell *   processing = Processing *   profile = Python profile *   prolog = Prolog *   properties = Properties *   protobuf = Protocol Buffers *   puppet = Puppet *   purebasic = PureBASIC *   python = Python *   q = Q *   qml = QML *   r = R *   reasonml = ReasonML *   rib = RenderMan RIB *   roboconf = Roboconf *   routeros = Microtik RouterOS Script *   rsl = RenderMan RSL *   ruby = Ruby *   ruleslanguage = Oracle Rules Language *   rust = Rust *   sas = SAS *   scala = Scala *   scheme = Scheme *   scilab = Scilab *   scss = SCSS *   shell = Shell Session *   smali = Smali *   smalltalk = Smalltalk *   sml = SML *   sqf = SQF *   sql = SQL *   stan = Stan *   stata = Stata *   step21 = Step Part 21 *   stylus = Stylus *   subunit = SubUnit *   swift = Swift *   taggerscript = Tagger Script *   tap = Test Anything Protocol *   tcl = Tcl *   tex = TeX *   thrift = Thrift *   tp = TP *   twig = Twig *   typescript = TypeScript *   vala = Vala *   vbnet = VB.NET *   vbscript-html = VBScript in HTML *   vbscript = VBScript *   verilog = Verilog *   vhdl = VHDL *   vim = Vim Script *   x86asm = Intel x86 Assembly *   xl = XL *   xml = XML *   xquery = XQuery *   yaml = YAML *   zephir = Zephir
+    */
+    available?: string;
+    /**
+    * Used to specify the font that should be used for syntax highlighting. If you select \"folder\" for the \"fontOrigin\" parameter, the font here needs to be specified with the filename for the file. Otherwise, use the name of the font you want. If the value is left blank, the \"Fira Code\" font will be used automatically.
+    */
+    fontFamily?: string;
+    /**
+    * Used to specify whether the selected font should be obtained from your operating system or from the \"templates/fonts\" folder (in your webPDF installation path). Possible values:  *   system = It will be possible to select from the fonts available system-wide. *   folder =It will be possible to select from the fonts in \"templates/fonts\".
+    */
+    fontOrigin?: FontOriginMode;
+    /**
+    * Used to set the font size for syntax highlighting to the specified value. You can use any of the following units:  *   px = Pixels *   cm = Centimeters *   mm = Millimeters *   in = Inches *   pt = Points *   pc = Pica
+    */
+    fontSize?: string;
+    /**
+    * Used to select a specific language for highlighting recognition. You can select one of the languages listed for the \"available\" parameter. If you do not set this value, the system will attempt to automatically select an appropriate language from the list of available languages.
+    */
+    language?: string;
+    /**
+    * Used to set the line height. You can use any of the following units:  *   px = Pixels *   cm = Centimeters *   mm = Millimeters *   in = Inches *   pt = Points *   pc = Pica
+    */
+    lineHeight?: string;
+    /**
+    * If this value is set to \"true\", line numbers are added before the code.
+    */
+    lineNumbers?: boolean;
+    /**
+    * The syntax highlighter evaluates the degree of reliability with which it recognizes a language with a value ranging from 0 to 1000 points. This value determines the reliability level starting from which it should highlight syntax for a recognized language. The higher the value, the more closely the content found must match the criteria.
+    */
+    relevance?: number;
+    /**
+    * Can be used to configure the word wrap behaviour during highlighting Possible values:  *   auto = Automatic word wrap if necessary. *   none = Suppress the addition of extra line breaks. *   word = Line breaks allowed only after words. *   all = Line breaks allowed unconditionally.
+    */
+    wordBreak?: TextWrapMode;
+
+}
+export class SyntaxHighlight implements SyntaxHighlightInterface, Parameter {
+    /**
+    * Can be used to specify the languages to which the syntax highlighted should be limited. You can enter multiple languages by separating them with a comma (\"java,cpp\"). If you do not specify a value, all the languages listed below will be recognized. You can select any of the following languages:  *   abnf = Augmented Backus-Naur form *   accesslog = Apache/Nginx Access Logs *   actionscript = ActionScript *   ada = Ada *   angelscript = AngelScript *   apache = Apache configuration language *   applescript = AppleScript *   arcade = ArcGIS Arcade *   arduino = Arduino *   armasm = ARM Assembly *   asciidoc = AsciiDoc *   aspectj = AspectJ *   autohotkey = AutoHotkey *   autoit = AutoIt *   avrasm = AVR Assembler *   awk = Awk *   axapta = Axapta *   bash = Bash *   basic = Basic *   bnf = Backus-Naur Form *   brainfuck = Brainfuck *   cal = C/AL *   capnproto = Cap'n Proto *   ceylon = Ceylon *   clean = Clean *   clojure-repl = Clojure REPL *   clojure = Clojure *   cmake = CMake *   coffeescript = CoffeeScript *   coq = Coq *   cos = Caché Object Script *   cpp = C++ *   crmsh = crmsh *   crystal = Crystal *   cs = C# *   csp = CSP *   css = CSS *   d = D *   dart = Dart *   delphi = Delphi *   diff = Diff *   django = Django *   dns = DNS Zone file *   dockerfile = Dockerfile *   dos = DOS .bat *   dsconfig = dsconfig *   dts = Device Tree *   dust = Dust *   ebnf = Extended Backus-Naur Form *   elixir = Elixir *   elm = Elm *   erb = Embedded Ruby *   erlang-repl = Erlang REPL *   erlang = Erlang *   excel = Excel *   fix = FIX *   flix = FLIX *   fortran = Fortran *   fsharp = F# *   gams = GAMS *   gauss = GAUSS *   gcode = G-code *   gherkin = Gherkin *   glsl = GLSL *   gml = GML *   go = Go *   golo = Golo *   gradle = Gradle *   groovy = Groovy *   haml = Haml *   arduino = Arduino *   handlebars = Handlebars *   haskell = Haskell *   haxe = Haxe *   hsp = HSP *   htmlbars = HTMLBars *   http = HTTP *   hy = Hy *   inform7 = Inform 7 *   arduino = Ini, TOML *   irpf90 = IRPF90 *   isbl = ISBL *   java = Java *   javascript = Javascript *   jboss-cli = jboss-cli *   json = JSON *   julia-repl = Julia REPL *   julia = Julia *   kotlin = Kotlin *   lasso = Lasso *   ldif = LDIF *   leaf = Leaf *   less = Less *   lisp = Lisp *   livecodeserver = LiveCode *   livescript = LiveScript *   llvm = LLVM IR *   lsl = Linden Scripting Language *   lua = Lua *   makefile = Makefile *   markdown = Markdown *   mathematica = Mathematica *   matlab = Matlab *   maxima = Maxima *   mel = MEL *   mercury = Mercury *   mipsasm = MIPS Assembly *   mizar = Mizar *   mojolicious = Mojolicious *   monkey = Monkey *   moonscript = MoonScript *   n1ql = N1QL *   nginx = Nginx *   nimrod = Nimrod *   nix = Nix *   nsis = NSIS *   objectivec = Objective-C *   ocaml = OCaml *   openscad = OpenSCAD *   oxygene = Oxygene *   parser3 = Parser3 *   perl = Perl *   pf = pf *   pgsql = PostgreSQL *   php = PHP *   plaintext = plaintext *   pony = Pony *   powershell = PowerShell *   processing = Processing *   profile = Python profile *   prolog = Prolog *   properties = Properties *   protobuf = Protocol Buffers *   puppet = Puppet *   purebasic = PureBASIC *   python = Python *   q = Q *   qml = QML *   r = R *   reasonml = ReasonML *   rib = RenderMan RIB *   roboconf = Roboconf *   routeros = Microtik RouterOS Script *   rsl = RenderMan RSL *   ruby = Ruby *   ruleslanguage = Oracle Rules Language *   rust = Rust *   sas = SAS *   scala = Scala *   scheme = Scheme *   scilab = Scilab *   scss = SCSS *   shell = Shell Session *   smali = Smali *   smalltalk = Smalltalk *   sml = SML *   sqf = SQF *   sql = SQL *   stan = Stan *   stata = Stata *   step21 = Step Part 21 *   stylus = Stylus *   subunit = SubUnit *   swift = Swift *   taggerscript = Tagger Script *   tap = Test Anything Protocol *   tcl = Tcl *   tex = TeX *   thrift = Thrift *   tp = TP *   twig = Twig *   typescript = TypeScript *   vala = Vala *   vbnet = VB.NET *   vbscript-html = VBScript in HTML *   vbscript = VBScript *   verilog = Verilog *   vhdl = VHDL *   vim = Vim Script *   x86asm = Intel x86 Assembly *   xl = XL *   xml = XML *   xquery = XQuery *   yaml = YAML *   zephir = Zephir
+    */
+    available?: string;
+    /**
+    * Used to specify the font that should be used for syntax highlighting. If you select \"folder\" for the \"fontOrigin\" parameter, the font here needs to be specified with the filename for the file. Otherwise, use the name of the font you want. If the value is left blank, the \"Fira Code\" font will be used automatically.
+    */
+    fontFamily?: string;
+    /**
+    * Used to specify whether the selected font should be obtained from your operating system or from the \"templates/fonts\" folder (in your webPDF installation path). Possible values:  *   system = It will be possible to select from the fonts available system-wide. *   folder =It will be possible to select from the fonts in \"templates/fonts\".
+    */
+    fontOrigin?: FontOriginMode;
+    /**
+    * Used to set the font size for syntax highlighting to the specified value. You can use any of the following units:  *   px = Pixels *   cm = Centimeters *   mm = Millimeters *   in = Inches *   pt = Points *   pc = Pica
+    */
+    fontSize?: string;
+    /**
+    * Used to select a specific language for highlighting recognition. You can select one of the languages listed for the \"available\" parameter. If you do not set this value, the system will attempt to automatically select an appropriate language from the list of available languages.
+    */
+    language?: string;
+    /**
+    * Used to set the line height. You can use any of the following units:  *   px = Pixels *   cm = Centimeters *   mm = Millimeters *   in = Inches *   pt = Points *   pc = Pica
+    */
+    lineHeight?: string;
+    /**
+    * If this value is set to \"true\", line numbers are added before the code.
+    */
+    lineNumbers?: boolean;
+    /**
+    * The syntax highlighter evaluates the degree of reliability with which it recognizes a language with a value ranging from 0 to 1000 points. This value determines the reliability level starting from which it should highlight syntax for a recognized language. The higher the value, the more closely the content found must match the criteria.
+    */
+    relevance?: number;
+    /**
+    * Can be used to configure the word wrap behaviour during highlighting Possible values:  *   auto = Automatic word wrap if necessary. *   none = Suppress the addition of extra line breaks. *   word = Line breaks allowed only after words. *   all = Line breaks allowed unconditionally.
+    */
+    wordBreak?: TextWrapMode;
+
+    constructor(data: any) {
+        let availableDefault: any = "";
+        this.available = typeof data?.available !== "undefined" ? data?.available : availableDefault;
+        let fontFamilyDefault: any = "";
+        this.fontFamily = typeof data?.fontFamily !== "undefined" ? data?.fontFamily : fontFamilyDefault;
+        let fontOriginDefault: any = "system";
+        this.fontOrigin = typeof data?.fontOrigin !== "undefined" ? data?.fontOrigin : fontOriginDefault;
+        let fontSizeDefault: any = "10px";
+        this.fontSize = typeof data?.fontSize !== "undefined" ? data?.fontSize : fontSizeDefault;
+        let languageDefault: any = "";
+        this.language = typeof data?.language !== "undefined" ? data?.language : languageDefault;
+        let lineHeightDefault: any = "12px";
+        this.lineHeight = typeof data?.lineHeight !== "undefined" ? data?.lineHeight : lineHeightDefault;
+        let lineNumbersDefault: any = true;
+        this.lineNumbers = typeof data?.lineNumbers !== "undefined" ? data?.lineNumbers : lineNumbersDefault;
+        let relevanceDefault: any = 90;
+        this.relevance = typeof data?.relevance !== "undefined" ? data?.relevance : relevanceDefault;
+        let wordBreakDefault: any = "auto";
+        this.wordBreak = typeof data?.wordBreak !== "undefined" ? data?.wordBreak : wordBreakDefault;
+    }
+
+    public static getAvailableDefault(): string {
+        return "";
+    }
+
+    public static getAvailableDescription(): string {
+        return "Can be used to specify the languages to which the syntax highlighted should be limited. You can enter multiple languages by separating them with a comma (\"java,cpp\"). If you do not specify a value, all the languages listed below will be recognized. You can select any of the following languages:\n\n*   abnf = Augmented Backus-Naur form\n*   accesslog = Apache\/Nginx Access Logs\n*   actionscript = ActionScript\n*   ada = Ada\n*   angelscript = AngelScript\n*   apache = Apache configuration language\n*   applescript = AppleScript\n*   arcade = ArcGIS Arcade\n*   arduino = Arduino\n*   armasm = ARM Assembly\n*   asciidoc = AsciiDoc\n*   aspectj = AspectJ\n*   autohotkey = AutoHotkey\n*   autoit = AutoIt\n*   avrasm = AVR Assembler\n*   awk = Awk\n*   axapta = Axapta\n*   bash = Bash\n*   basic = Basic\n*   bnf = Backus-Naur Form\n*   brainfuck = Brainfuck\n*   cal = C\/AL\n*   capnproto = Cap'n Proto\n*   ceylon = Ceylon\n*   clean = Clean\n*   clojure-repl = Clojure REPL\n*   clojure = Clojure\n*   cmake = CMake\n*   coffeescript = CoffeeScript\n*   coq = Coq\n*   cos = Cach\u00E9 Object Script\n*   cpp = C++\n*   crmsh = crmsh\n*   crystal = Crystal\n*   cs = C#\n*   csp = CSP\n*   css = CSS\n*   d = D\n*   dart = Dart\n*   delphi = Delphi\n*   diff = Diff\n*   django = Django\n*   dns = DNS Zone file\n*   dockerfile = Dockerfile\n*   dos = DOS .bat\n*   dsconfig = dsconfig\n*   dts = Device Tree\n*   dust = Dust\n*   ebnf = Extended Backus-Naur Form\n*   elixir = Elixir\n*   elm = Elm\n*   erb = Embedded Ruby\n*   erlang-repl = Erlang REPL\n*   erlang = Erlang\n*   excel = Excel\n*   fix = FIX\n*   flix = FLIX\n*   fortran = Fortran\n*   fsharp = F#\n*   gams = GAMS\n*   gauss = GAUSS\n*   gcode = G-code\n*   gherkin = Gherkin\n*   glsl = GLSL\n*   gml = GML\n*   go = Go\n*   golo = Golo\n*   gradle = Gradle\n*   groovy = Groovy\n*   haml = Haml\n*   arduino = Arduino\n*   handlebars = Handlebars\n*   haskell = Haskell\n*   haxe = Haxe\n*   hsp = HSP\n*   htmlbars = HTMLBars\n*   http = HTTP\n*   hy = Hy\n*   inform7 = Inform 7\n*   arduino = Ini, TOML\n*   irpf90 = IRPF90\n*   isbl = ISBL\n*   java = Java\n*   javascript = Javascript\n*   jboss-cli = jboss-cli\n*   json = JSON\n*   julia-repl = Julia REPL\n*   julia = Julia\n*   kotlin = Kotlin\n*   lasso = Lasso\n*   ldif = LDIF\n*   leaf = Leaf\n*   less = Less\n*   lisp = Lisp\n*   livecodeserver = LiveCode\n*   livescript = LiveScript\n*   llvm = LLVM IR\n*   lsl = Linden Scripting Language\n*   lua = Lua\n*   makefile = Makefile\n*   markdown = Markdown\n*   mathematica = Mathematica\n*   matlab = Matlab\n*   maxima = Maxima\n*   mel = MEL\n*   mercury = Mercury\n*   mipsasm = MIPS Assembly\n*   mizar = Mizar\n*   mojolicious = Mojolicious\n*   monkey = Monkey\n*   moonscript = MoonScript\n*   n1ql = N1QL\n*   nginx = Nginx\n*   nimrod = Nimrod\n*   nix = Nix\n*   nsis = NSIS\n*   objectivec = Objective-C\n*   ocaml = OCaml\n*   openscad = OpenSCAD\n*   oxygene = Oxygene\n*   parser3 = Parser3\n*   perl = Perl\n*   pf = pf\n*   pgsql = PostgreSQL\n*   php = PHP\n*   plaintext = plaintext\n*   pony = Pony\n*   powershell = PowerShell\n*   processing = Processing\n*   profile = Python profile\n*   prolog = Prolog\n*   properties = Properties\n*   protobuf = Protocol Buffers\n*   puppet = Puppet\n*   purebasic = PureBASIC\n*   python = Python\n*   q = Q\n*   qml = QML\n*   r = R\n*   reasonml = ReasonML\n*   rib = RenderMan RIB\n*   roboconf = Roboconf\n*   routeros = Microtik RouterOS Script\n*   rsl = RenderMan RSL\n*   ruby = Ruby\n*   ruleslanguage = Oracle Rules Language\n*   rust = Rust\n*   sas = SAS\n*   scala = Scala\n*   scheme = Scheme\n*   scilab = Scilab\n*   scss = SCSS\n*   shell = Shell Session\n*   smali = Smali\n*   smalltalk = Smalltalk\n*   sml = SML\n*   sqf = SQF\n*   sql = SQL\n*   stan = Stan\n*   stata = Stata\n*   step21 = Step Part 21\n*   stylus = Stylus\n*   subunit = SubUnit\n*   swift = Swift\n*   taggerscript = Tagger Script\n*   tap = Test Anything Protocol\n*   tcl = Tcl\n*   tex = TeX\n*   thrift = Thrift\n*   tp = TP\n*   twig = Twig\n*   typescript = TypeScript\n*   vala = Vala\n*   vbnet = VB.NET\n*   vbscript-html = VBScript in HTML\n*   vbscript = VBScript\n*   verilog = Verilog\n*   vhdl = VHDL\n*   vim = Vim Script\n*   x86asm = Intel x86 Assembly\n*   xl = XL\n*   xml = XML\n*   xquery = XQuery\n*   yaml = YAML\n*   zephir = Zephir";
+    }
+
+    public static getFontFamilyDefault(): string {
+        return "";
+    }
+
+    public static getFontFamilyDescription(): string {
+        return "Used to specify the font that should be used for syntax highlighting. If you select \"folder\" for the \"fontOrigin\" parameter, the font here needs to be specified with the filename for the file. Otherwise, use the name of the font you want. If the value is left blank, the \"Fira Code\" font will be used automatically.";
+    }
+
+    public static getFontOriginDefault(): FontOriginMode {
+        return "system" as FontOriginMode;
+    }
+
+    public static getFontOriginDescription(): string {
+        return "Used to specify whether the selected font should be obtained from your operating system or from the \"templates\/fonts\" folder (in your webPDF installation path). Possible values:\n\n*   system = It will be possible to select from the fonts available system-wide.\n*   folder =It will be possible to select from the fonts in \"templates\/fonts\".";
+    }
+
+    public static getFontSizeDefault(): string {
+        return "10px";
+    }
+
+    public static getFontSizeDescription(): string {
+        return "Used to set the font size for syntax highlighting to the specified value. You can use any of the following units:\n\n*   px = Pixels\n*   cm = Centimeters\n*   mm = Millimeters\n*   in = Inches\n*   pt = Points\n*   pc = Pica";
+    }
+
+    public static getLanguageDefault(): string {
+        return "";
+    }
+
+    public static getLanguageDescription(): string {
+        return "Used to select a specific language for highlighting recognition. You can select one of the languages listed for the \"available\" parameter. If you do not set this value, the system will attempt to automatically select an appropriate language from the list of available languages.";
+    }
+
+    public static getLineHeightDefault(): string {
+        return "12px";
+    }
+
+    public static getLineHeightDescription(): string {
+        return "Used to set the line height. You can use any of the following units:\n\n*   px = Pixels\n*   cm = Centimeters\n*   mm = Millimeters\n*   in = Inches\n*   pt = Points\n*   pc = Pica";
+    }
+
+    public static getLineNumbersDefault(): boolean {
+        return true;
+    }
+
+    public static getLineNumbersDescription(): string {
+        return "If this value is set to \"true\", line numbers are added before the code.";
+    }
+
+    public static getRelevanceDefault(): number {
+        return 90;
+    }
+
+    public static getRelevanceDescription(): string {
+        return "The syntax highlighter evaluates the degree of reliability with which it recognizes a language with a value ranging from 0 to 1000 points. This value determines the reliability level starting from which it should highlight syntax for a recognized language. The higher the value, the more closely the content found must match the criteria.";
+    }
+
+    public static getWordBreakDefault(): TextWrapMode {
+        return "auto" as TextWrapMode;
+    }
+
+    public static getWordBreakDescription(): string {
+        return "Can be used to configure the word wrap behaviour during highlighting Possible values:\n\n*   auto = Automatic word wrap if necessary.\n*   none = Suppress the addition of extra line breaks.\n*   word = Line breaks allowed only after words.\n*   all = Line breaks allowed unconditionally.";
+    }
+
+    public static fromJson(data: any): SyntaxHighlight {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new SyntaxHighlight(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<SyntaxHighlight> {
+        return ModelStream.decodeArray(source, SyntaxHighlight.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'available': this.available,
+            'fontFamily': this.fontFamily,
+            'fontOrigin': this.fontOrigin,
+            'fontSize': this.fontSize,
+            'language': this.language,
+            'lineHeight': this.lineHeight,
+            'lineNumbers': this.lineNumbers,
+            'relevance': this.relevance,
+            'wordBreak': this.wordBreak,
+        };
+    }
+
+    public clone(): SyntaxHighlight {
+        return SyntaxHighlight.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "available", typeof data?.available !== "undefined" ? data?.available : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fontFamily", typeof data?.fontFamily !== "undefined" ? data?.fontFamily : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fontOrigin", typeof data?.fontOrigin !== "undefined" ? data?.fontOrigin : "system") || changed;
+        changed = ModelAssignment.assignValue(this, "fontSize", typeof data?.fontSize !== "undefined" ? data?.fontSize : "10px") || changed;
+        changed = ModelAssignment.assignValue(this, "language", typeof data?.language !== "undefined" ? data?.language : "") || changed;
+        changed = ModelAssignment.assignValue(this, "lineHeight", typeof data?.lineHeight !== "undefined" ? data?.lineHeight : "12px") || changed;
+        changed = ModelAssignment.assignValue(this, "lineNumbers", typeof data?.lineNumbers !== "undefined" ? data?.lineNumbers : true) || changed;
+        changed = ModelAssignment.assignValue(this, "relevance", typeof data?.relevance !== "undefined" ? data?.relevance : 90) || changed;
+        changed = ModelAssignment.assignValue(this, "wordBreak", typeof data?.wordBreak !== "undefined" ? data?.wordBreak : "auto") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.available, other.available)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fontFamily, other.fontFamily)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fontOrigin, other.fontOrigin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fontSize, other.fontSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.language, other.language)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.lineHeight, other.lineHeight)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.lineNumbers, other.lineNumbers)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.relevance, other.relevance)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.wordBreak, other.wordBreak)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.available);
+        hash = ModelEquality.hash(hash, this.fontFamily);
+        hash = ModelEquality.hash(hash, this.fontOrigin);
+        hash = ModelEquality.hash(hash, this.fontSize);
+        hash = ModelEquality.hash(hash, this.language);
+        hash = ModelEquality.hash(hash, this.lineHeight);
+        hash = ModelEquality.hash(hash, this.lineNumbers);
+        hash = ModelEquality.hash(hash, this.relevance);
+        hash = ModelEquality.hash(hash, this.wordBreak);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "SyntaxHighlight(";
+        fingerprint += ModelEquality.fingerprint(this.available) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fontFamily) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fontOrigin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fontSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.language) + ",";
+        fingerprint += ModelEquality.fingerprint(this.lineHeight) + ",";
+        fingerprint += ModelEquality.fingerprint(this.lineNumbers) + ",";
+        fingerprint += ModelEquality.fingerprint(this.relevance) + ",";
+        fingerprint += ModelEquality.fingerprint(this.wordBreak) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
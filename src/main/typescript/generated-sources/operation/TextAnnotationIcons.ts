@@ -0,0 +1,22 @@
+export enum TextAnnotationIcons {
+
+    Circle = 'circle',
+    Comment = 'comment',
+    Unnamed = 'unnamed',
+    Help = 'help',
+    Cross = 'cross',
+    Check = 'check',
+    UpLeftArrow = 'upLeftArrow',
+    Checkmark = 'checkmark',
+    Insert = 'insert',
+    NewParagraph = 'newParagraph',
+    Paragraph = 'paragraph',
+    RightPointer = 'rightPointer',
+    CrossHair = 'crossHair',
+    Star = 'star',
+    Note = 'note',
+    UpArrow = 'upArrow',
+    RightArrow = 'rightArrow',
+    Key = 'key'
+
+}
\ No newline at end of file
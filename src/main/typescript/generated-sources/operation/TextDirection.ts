@@ -0,0 +1,6 @@
+export enum TextDirection {
+
+    RightToLeft = 'rightToLeft',
+    LeftToRight = 'leftToRight'
+
+}
\ No newline at end of file
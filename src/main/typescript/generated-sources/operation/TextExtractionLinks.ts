@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface TextExtractionLinksInterface  {
+
+    /**
+    * Advanced mode for extracting links When using this mode, links will not be extracted from annotations, but will instead be extracted directly from the text. This means that links that are not found in standard mode can be found with this advanced mode, provided that they are present in the form of text.
+    */
+    fromText?: boolean;
+    /**
+    * Provides the option of filtering the links being extracted by protocol. If multiple protocols are specified, they need to be separated with commas (e.g., \"http,https,ftp\"). The following values are valid: \"http\",\"https\",\"ftp\", \"telnet\",\"mailto\", \"file\", \"nntp\", and \"notes\".
+    */
+    protocol?: string;
+    /**
+    * When enabled, incomplete URLs from which the protocol information is missing will be extracted as well when extracting links from text. This would apply to the following examples, for instance:  *   \"www.webpdf.de\" - There is no protocol information. If the option is enabled and \"http\" links are searched for, the link will be extracted. *   \"ftp.softvision.de\" - There is no protocol information here either. If the option is enabled and \"ftp\" links are searched for, the link will be extracted.
+    */
+    withoutProtocol?: boolean;
+
+}
+export class TextExtractionLinks implements TextExtractionLinksInterface, Parameter {
+    /**
+    * Advanced mode for extracting links When using this mode, links will not be extracted from annotations, but will instead be extracted directly from the text. This means that links that are not found in standard mode can be found with this advanced mode, provided that they are present in the form of text.
+    */
+    fromText?: boolean;
+    /**
+    * Provides the option of filtering the links being extracted by protocol. If multiple protocols are specified, they need to be separated with commas (e.g., \"http,https,ftp\"). The following values are valid: \"http\",\"https\",\"ftp\", \"telnet\",\"mailto\", \"file\", \"nntp\", and \"notes\".
+    */
+    protocol?: string;
+    /**
+    * When enabled, incomplete URLs from which the protocol information is missing will be extracted as well when extracting links from text. This would apply to the following examples, for instance:  *   \"www.webpdf.de\" - There is no protocol information. If the option is enabled and \"http\" links are searched for, the link will be extracted. *   \"ftp.softvision.de\" - There is no protocol information here either. If the option is enabled and \"ftp\" links are searched for, the link will be extracted.
+    */
+    withoutProtocol?: boolean;
+
+    constructor(data: any) {
+        let fromTextDefault: any = false;
+        this.fromText = typeof data?.fromText !== "undefined" ? data?.fromText : fromTextDefault;
+        let protocolDefault: any = "";
+        this.protocol = typeof data?.protocol !== "undefined" ? data?.protocol : protocolDefault;
+        let withoutProtocolDefault: any = true;
+        this.withoutProtocol = typeof data?.withoutProtocol !== "undefined" ? data?.withoutProtocol : withoutProtocolDefault;
+    }
+
+    public static getFromTextDefault(): boolean {
+        return false;
+    }
+
+    public static getFromTextDescription(): string {
+        return "Advanced mode for extracting links When using this mode, links will not be extracted from annotations, but will instead be extracted directly from the text. This means that links that are not found in standard mode can be found with this advanced mode, provided that they are present in the form of text.";
+    }
+
+    public static getProtocolDefault(): string {
+        return "";
+    }
+
+    public static getProtocolDescription(): string {
+        return "Provides the option of filtering the links being extracted by protocol. If multiple protocols are specified, they need to be separated with commas (e.g., \"http,https,ftp\"). The following values are valid: \"http\",\"https\",\"ftp\", \"telnet\",\"mailto\", \"file\", \"nntp\", and \"notes\".";
+    }
+
+    public static getWithoutProtocolDefault(): boolean {
+        return true;
+    }
+
+    public static getWithoutProtocolDescription(): string {
+        return "When enabled, incomplete URLs from which the protocol information is missing will be extracted as well when extracting links from text. This would apply to the following examples, for instance:\n\n*   \"www.webpdf.de\" - There is no protocol information. If the option is enabled and \"http\" links are searched for, the link will be extracted.\n*   \"ftp.softvision.de\" - There is no protocol information here either. If the option is enabled and \"ftp\" links are searched for, the link will be extracted.";
+    }
+
+    public static fromJson(data: any): TextExtractionLinks {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new TextExtractionLinks(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<TextExtractionLinks> {
+        return ModelStream.decodeArray(source, TextExtractionLinks.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'fromText': this.fromText,
+            'protocol': this.protocol,
+            'withoutProtocol': this.withoutProtocol,
+        };
+    }
+
+    public clone(): TextExtractionLinks {
+        return TextExtractionLinks.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "fromText", typeof data?.fromText !== "undefined" ? data?.fromText : false) || changed;
+        changed = ModelAssignment.assignValue(this, "protocol", typeof data?.protocol !== "undefined" ? data?.protocol : "") || changed;
+        changed = ModelAssignment.assignValue(this, "withoutProtocol", typeof data?.withoutProtocol !== "undefined" ? data?.withoutProtocol : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fromText, other.fromText)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.protocol, other.protocol)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.withoutProtocol, other.withoutProtocol)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.fromText);
+        hash = ModelEquality.hash(hash, this.protocol);
+        hash = ModelEquality.hash(hash, this.withoutProtocol);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "TextExtractionLinks(";
+        fingerprint += ModelEquality.fingerprint(this.fromText) + ",";
+        fingerprint += ModelEquality.fingerprint(this.protocol) + ",";
+        fingerprint += ModelEquality.fingerprint(this.withoutProtocol) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
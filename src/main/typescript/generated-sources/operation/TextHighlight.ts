@@ -0,0 +1,242 @@
+import {
+    ModelAssignment,
+    FontOriginMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    TextWrapMode,
+} from "./../index";
+
+export interface TextHighlightInterface  {
+
+    /**
+    * Sets the font color for the text to the given value. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * Specifies the font to use for the text. If you select \"folder\" for the \"fontOrigin\" parameter, the font here needs to be specified with the filename for the file. Otherwise, use the name of the font you want. If the value is left blank, the \"SourceHanSans\" font will be used automatically.
+    */
+    fontFamily?: string;
+    /**
+    * Used to specify whether the selected font should be obtained from your operating system or from the \"templates/fonts\" folder (in your webPDF installation path). Possible values:  *   system = It will be possible to select from the fonts available system-wide. *   folder =It will be possible to select from the fonts in \"templates/fonts\".
+    */
+    fontOrigin?: FontOriginMode;
+    /**
+    * Used to set the font size for the text to the specified value. You can use any of the following units:  *   px = Pixels *   cm = Centimeters *   mm = Millimeters *   in = Inches *   pt = Points *   pc = Pica
+    */
+    fontSize?: string;
+    /**
+    * Used to set the line height. You can use any of the following units:  *   px = Pixels *   cm = Centimeters *   mm = Millimeters *   in = Inches *   pt = Points *   pc = Pica
+    */
+    lineHeight?: string;
+    /**
+    * If this value is set to \"true\", line numbers are added before the code.
+    */
+    lineNumbers?: boolean;
+    /**
+    * Can be used to configure the word wrap behaviour during highlighting Possible values:  *   auto = Automatic word wrap if necessary. *   none = Suppress the addition of extra line breaks. *   word = Line breaks allowed only after words. *   all = Line breaks allowed unconditionally.
+    */
+    wordBreak?: TextWrapMode;
+
+}
+export class TextHighlight implements TextHighlightInterface, Parameter {
+    /**
+    * Sets the font color for the text to the given value. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * Specifies the font to use for the text. If you select \"folder\" for the \"fontOrigin\" parameter, the font here needs to be specified with the filename for the file. Otherwise, use the name of the font you want. If the value is left blank, the \"SourceHanSans\" font will be used automatically.
+    */
+    fontFamily?: string;
+    /**
+    * Used to specify whether the selected font should be obtained from your operating system or from the \"templates/fonts\" folder (in your webPDF installation path). Possible values:  *   system = It will be possible to select from the fonts available system-wide. *   folder =It will be possible to select from the fonts in \"templates/fonts\".
+    */
+    fontOrigin?: FontOriginMode;
+    /**
+    * Used to set the font size for the text to the specified value. You can use any of the following units:  *   px = Pixels *   cm = Centimeters *   mm = Millimeters *   in = Inches *   pt = Points *   pc = Pica
+    */
+    fontSize?: string;
+    /**
+    * Used to set the line height. You can use any of the following units:  *   px = Pixels *   cm = Centimeters *   mm = Millimeters *   in = Inches *   pt = Points *   pc = Pica
+    */
+    lineHeight?: string;
+    /**
+    * If this value is set to \"true\", line numbers are added before the code.
+    */
+    lineNumbers?: boolean;
+    /**
+    * Can be used to configure the word wrap behaviour during highlighting Possible values:  *   auto = Automatic word wrap if necessary. *   none = Suppress the addition of extra line breaks. *   word = Line breaks allowed only after words. *   all = Line breaks allowed unconditionally.
+    */
+    wordBreak?: TextWrapMode;
+
+    constructor(data: any) {
+        let colorDefault: any = "#000000";
+        this.color = typeof data?.color !== "undefined" ? data?.color : colorDefault;
+        let fontFamilyDefault: any = "";
+        this.fontFamily = typeof data?.fontFamily !== "undefined" ? data?.fontFamily : fontFamilyDefault;
+        let fontOriginDefault: any = "system";
+        this.fontOrigin = typeof data?.fontOrigin !== "undefined" ? data?.fontOrigin : fontOriginDefault;
+        let fontSizeDefault: any = "10px";
+        this.fontSize = typeof data?.fontSize !== "undefined" ? data?.fontSize : fontSizeDefault;
+        let lineHeightDefault: any = "12px";
+        this.lineHeight = typeof data?.lineHeight !== "undefined" ? data?.lineHeight : lineHeightDefault;
+        let lineNumbersDefault: any = false;
+        this.lineNumbers = typeof data?.lineNumbers !== "undefined" ? data?.lineNumbers : lineNumbersDefault;
+        let wordBreakDefault: any = "auto";
+        this.wordBreak = typeof data?.wordBreak !== "undefined" ? data?.wordBreak : wordBreakDefault;
+    }
+
+    public static getColorDefault(): string {
+        return "#000000";
+    }
+
+    public static getColorDescription(): string {
+        return "Sets the font color for the text to the given value. The colour needs to be specified as a hexadecimal RGB value with a number sign before it.";
+    }
+
+    public static getFontFamilyDefault(): string {
+        return "";
+    }
+
+    public static getFontFamilyDescription(): string {
+        return "Specifies the font to use for the text. If you select \"folder\" for the \"fontOrigin\" parameter, the font here needs to be specified with the filename for the file. Otherwise, use the name of the font you want. If the value is left blank, the \"SourceHanSans\" font will be used automatically.";
+    }
+
+    public static getFontOriginDefault(): FontOriginMode {
+        return "system" as FontOriginMode;
+    }
+
+    public static getFontOriginDescription(): string {
+        return "Used to specify whether the selected font should be obtained from your operating system or from the \"templates\/fonts\" folder (in your webPDF installation path). Possible values:\n\n*   system = It will be possible to select from the fonts available system-wide.\n*   folder =It will be possible to select from the fonts in \"templates\/fonts\".";
+    }
+
+    public static getFontSizeDefault(): string {
+        return "10px";
+    }
+
+    public static getFontSizeDescription(): string {
+        return "Used to set the font size for the text to the specified value. You can use any of the following units:\n\n*   px = Pixels\n*   cm = Centimeters\n*   mm = Millimeters\n*   in = Inches\n*   pt = Points\n*   pc = Pica";
+    }
+
+    public static getLineHeightDefault(): string {
+        return "12px";
+    }
+
+    public static getLineHeightDescription(): string {
+        return "Used to set the line height. You can use any of the following units:\n\n*   px = Pixels\n*   cm = Centimeters\n*   mm = Millimeters\n*   in = Inches\n*   pt = Points\n*   pc = Pica";
+    }
+
+    public static getLineNumbersDefault(): boolean {
+        return false;
+    }
+
+    public static getLineNumbersDescription(): string {
+        return "If this value is set to \"true\", line numbers are added before the code.";
+    }
+
+    public static getWordBreakDefault(): TextWrapMode {
+        return "auto" as TextWrapMode;
+    }
+
+    public static getWordBreakDescription(): string {
+        return "Can be used to configure the word wrap behaviour during highlighting Possible values:\n\n*   auto = Automatic word wrap if necessary.\n*   none = Suppress the addition of extra line breaks.\n*   word = Line breaks allowed only after words.\n*   all = Line breaks allowed unconditionally.";
+    }
+
+    public static fromJson(data: any): TextHighlight {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new TextHighlight(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<TextHighlight> {
+        return ModelStream.decodeArray(source, TextHighlight.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'color': this.color,
+            'fontFamily': this.fontFamily,
+            'fontOrigin': this.fontOrigin,
+            'fontSize': this.fontSize,
+            'lineHeight': this.lineHeight,
+            'lineNumbers': this.lineNumbers,
+            'wordBreak': this.wordBreak,
+        };
+    }
+
+    public clone(): TextHighlight {
+        return TextHighlight.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "color", typeof data?.color !== "undefined" ? data?.color : "#000000") || changed;
+        changed = ModelAssignment.assignValue(this, "fontFamily", typeof data?.fontFamily !== "undefined" ? data?.fontFamily : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fontOrigin", typeof data?.fontOrigin !== "undefined" ? data?.fontOrigin : "system") || changed;
+        changed = ModelAssignment.assignValue(this, "fontSize", typeof data?.fontSize !== "undefined" ? data?.fontSize : "10px") || changed;
+        changed = ModelAssignment.assignValue(this, "lineHeight", typeof data?.lineHeight !== "undefined" ? data?.lineHeight : "12px") || changed;
+        changed = ModelAssignment.assignValue(this, "lineNumbers", typeof data?.lineNumbers !== "undefined" ? data?.lineNumbers : false) || changed;
+        changed = ModelAssignment.assignValue(this, "wordBreak", typeof data?.wordBreak !== "undefined" ? data?.wordBreak : "auto") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.color, other.color)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fontFamily, other.fontFamily)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fontOrigin, other.fontOrigin)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fontSize, other.fontSize)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.lineHeight, other.lineHeight)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.lineNumbers, other.lineNumbers)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.wordBreak, other.wordBreak)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.color);
+        hash = ModelEquality.hash(hash, this.fontFamily);
+        hash = ModelEquality.hash(hash, this.fontOrigin);
+        hash = ModelEquality.hash(hash, this.fontSize);
+        hash = ModelEquality.hash(hash, this.lineHeight);
+        hash = ModelEquality.hash(hash, this.lineNumbers);
+        hash = ModelEquality.hash(hash, this.wordBreak);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "TextHighlight(";
+        fingerprint += ModelEquality.fingerprint(this.color) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fontFamily) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fontOrigin) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fontSize) + ",";
+        fingerprint += ModelEquality.fingerprint(this.lineHeight) + ",";
+        fingerprint += ModelEquality.fingerprint(this.lineNumbers) + ",";
+        fingerprint += ModelEquality.fingerprint(this.wordBreak) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+export enum TextWrapMode {
+
+    Auto = 'auto',
+    All = 'all',
+    Word = 'word',
+    None = 'none'
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+    ThreadActionGoToThread,
+} from "./../index";
+
+export interface ThreadActionInterface extends ActionEventInterface {
+
+    goToThread?: ThreadActionGoToThread;
+
+}
+export class ThreadAction extends ActionEvent implements ThreadActionInterface, Parameter {
+    goToThread?: ThreadActionGoToThread;
+
+    constructor(data: any) {
+        super(data);
+
+        this.goToThread = ThreadActionGoToThread.fromJson(data?.goToThread);
+    }
+
+    public static getGoToThreadDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ThreadAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ThreadAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ThreadAction> {
+        return ModelStream.decodeArray(source, ThreadAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'goToThread': this.goToThread?.toJson(),
+        };
+    }
+
+    public clone(): ThreadAction {
+        return ThreadAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "goToThread", data?.goToThread, ThreadActionGoToThread.fromJson, ThreadActionGoToThread) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.goToThread, other.goToThread)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.goToThread);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ThreadAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.goToThread) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
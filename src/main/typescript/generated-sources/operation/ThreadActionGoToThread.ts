@@ -0,0 +1,177 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ThreadActionGoToThreadInterface  {
+
+    /**
+    * The index of the thread section to which the jump should be. This value is optional and does not need to be specified.
+    */
+    beadIndex?: number;
+    /**
+    * The page number of the page where the thread is found.
+    */
+    page?: number;
+    /**
+    * The index of the thread in the document's thread directory to which the jump should be. This value is an alternative to \"threadTitle\" and does not have to be set if the latter has been specified.
+    */
+    threadIndex?: number;
+    /**
+    * The title of the thread to which the jump should be. This value is an alternative to \"threadIndex\" and does not have to be set if the latter has been specified.
+    */
+    threadTitle?: string;
+
+}
+export class ThreadActionGoToThread implements ThreadActionGoToThreadInterface, Parameter {
+    /**
+    * The index of the thread section to which the jump should be. This value is optional and does not need to be specified.
+    */
+    beadIndex?: number;
+    /**
+    * The page number of the page where the thread is found.
+    */
+    page?: number;
+    /**
+    * The index of the thread in the document's thread directory to which the jump should be. This value is an alternative to \"threadTitle\" and does not have to be set if the latter has been specified.
+    */
+    threadIndex?: number;
+    /**
+    * The title of the thread to which the jump should be. This value is an alternative to \"threadIndex\" and does not have to be set if the latter has been specified.
+    */
+    threadTitle?: string;
+
+    constructor(data: any) {
+        let beadIndexDefault: any = 0;
+        this.beadIndex = typeof data?.beadIndex !== "undefined" ? data?.beadIndex : beadIndexDefault;
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        let threadIndexDefault: any = 0;
+        this.threadIndex = typeof data?.threadIndex !== "undefined" ? data?.threadIndex : threadIndexDefault;
+        let threadTitleDefault: any = "";
+        this.threadTitle = typeof data?.threadTitle !== "undefined" ? data?.threadTitle : threadTitleDefault;
+    }
+
+    public static getBeadIndexDefault(): number {
+        return 0;
+    }
+
+    public static getBeadIndexDescription(): string {
+        return "The index of the thread section to which the jump should be. This value is optional and does not need to be specified.";
+    }
+
+    public static getBeadIndexMin(): number {
+        return 0;
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "The page number of the page where the thread is found.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static getThreadIndexDefault(): number {
+        return 0;
+    }
+
+    public static getThreadIndexDescription(): string {
+        return "The index of the thread in the document's thread directory to which the jump should be. This value is an alternative to \"threadTitle\" and does not have to be set if the latter has been specified.";
+    }
+
+    public static getThreadIndexMin(): number {
+        return 0;
+    }
+
+    public static getThreadTitleDefault(): string {
+        return "";
+    }
+
+    public static getThreadTitleDescription(): string {
+        return "The title of the thread to which the jump should be. This value is an alternative to \"threadIndex\" and does not have to be set if the latter has been specified.";
+    }
+
+    public static fromJson(data: any): ThreadActionGoToThread {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ThreadActionGoToThread(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ThreadActionGoToThread> {
+        return ModelStream.decodeArray(source, ThreadActionGoToThread.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'beadIndex': this.beadIndex,
+            'page': this.page,
+            'threadIndex': this.threadIndex,
+            'threadTitle': this.threadTitle,
+        };
+    }
+
+    public clone(): ThreadActionGoToThread {
+        return ThreadActionGoToThread.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "beadIndex", typeof data?.beadIndex !== "undefined" ? data?.beadIndex : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "threadIndex", typeof data?.threadIndex !== "undefined" ? data?.threadIndex : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "threadTitle", typeof data?.threadTitle !== "undefined" ? data?.threadTitle : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.beadIndex, other.beadIndex)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.threadIndex, other.threadIndex)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.threadTitle, other.threadTitle)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.beadIndex);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.threadIndex);
+        hash = ModelEquality.hash(hash, this.threadTitle);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ThreadActionGoToThread(";
+        fingerprint += ModelEquality.fingerprint(this.beadIndex) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.threadIndex) + ",";
+        fingerprint += ModelEquality.fingerprint(this.threadTitle) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,292 @@
+import {
+    ModelAssignment,
+    Metrics,
+    ModelStream,
+    TiffCompression,
+    Parameter,
+    TiffBlackAndWhiteQuality,
+    ModelEquality,
+} from "./../index";
+
+export interface TiffInterface  {
+
+    /**
+    * For \"tif\" exports, this parameter is used to define the quality of black-and-white images if \"group3\" or \"group4\" is used as a compression method. The higher the quality, the more time that will be required in order to render the image:  *   low = Direct conversion (best reserved for \"text only\" content) *   middle = A diffusion filter will be applied to the image before conversion *   high = Greyscale conversion and a diffusion filter will be applied to the image before conversion
+    */
+    blackAndWhiteQuality?: TiffBlackAndWhiteQuality;
+    /**
+    * This parameter is used to specify the compression method when exporting pages as \"tif\" images. The following values are available:  *   none = No compression *   rle = TIFF CCITT Modified Huffman RLE compression *   deflate = TIFF Deflate lossless compression (Zip-in-TIFF). *   group3 = TIFF CCITT Group 3 fax encoding *   group4 = TIFF CCITT Group 4 fax encoding *   jpeg = TIFF JPEG-in-TIFF compression *   lzw = TIFF LZW compression *   packbits = TIFF Byte-oriented run-length encoding \"PackBits\" compression *   zlib = TIFF ZLib compression
+    */
+    compression?: TiffCompression;
+    /**
+    * This parameter is used to define the image's DPI resolution. The larger the value, the larger the image's x, y resolution. In addition, the larger the DPI resolution, the larger the size of the image file.
+    */
+    dpi?: number;
+    /**
+    * Used to limit the maximum height of the exported image. 0 = No restriction
+    */
+    height?: number;
+    /**
+    * When exporting to \"jpg\" format, this parameter can be used to define the image's quality as a percentage. The value must fall between 0 and 100. The larger the value, the better the quality and the lower the compression level.
+    */
+    jpegQuality?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * If \"true,\" a \"multi-page TIFF\" will be created when multiple pages are exported as \"tif\" images. All the pages will be exported to a single file, and a ZIP file with individual images will not be generated.
+    */
+    multipage?: boolean;
+    /**
+    * Used to limit the maximum width of the exported image. 0 = No restriction
+    */
+    width?: number;
+
+}
+export class Tiff implements TiffInterface, Parameter {
+    /**
+    * For \"tif\" exports, this parameter is used to define the quality of black-and-white images if \"group3\" or \"group4\" is used as a compression method. The higher the quality, the more time that will be required in order to render the image:  *   low = Direct conversion (best reserved for \"text only\" content) *   middle = A diffusion filter will be applied to the image before conversion *   high = Greyscale conversion and a diffusion filter will be applied to the image before conversion
+    */
+    blackAndWhiteQuality?: TiffBlackAndWhiteQuality;
+    /**
+    * This parameter is used to specify the compression method when exporting pages as \"tif\" images. The following values are available:  *   none = No compression *   rle = TIFF CCITT Modified Huffman RLE compression *   deflate = TIFF Deflate lossless compression (Zip-in-TIFF). *   group3 = TIFF CCITT Group 3 fax encoding *   group4 = TIFF CCITT Group 4 fax encoding *   jpeg = TIFF JPEG-in-TIFF compression *   lzw = TIFF LZW compression *   packbits = TIFF Byte-oriented run-length encoding \"PackBits\" compression *   zlib = TIFF ZLib compression
+    */
+    compression?: TiffCompression;
+    /**
+    * This parameter is used to define the image's DPI resolution. The larger the value, the larger the image's x, y resolution. In addition, the larger the DPI resolution, the larger the size of the image file.
+    */
+    dpi?: number;
+    /**
+    * Used to limit the maximum height of the exported image. 0 = No restriction
+    */
+    height?: number;
+    /**
+    * When exporting to \"jpg\" format, this parameter can be used to define the image's quality as a percentage. The value must fall between 0 and 100. The larger the value, the better the quality and the lower the compression level.
+    */
+    jpegQuality?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * If \"true,\" a \"multi-page TIFF\" will be created when multiple pages are exported as \"tif\" images. All the pages will be exported to a single file, and a ZIP file with individual images will not be generated.
+    */
+    multipage?: boolean;
+    /**
+    * Used to limit the maximum width of the exported image. 0 = No restriction
+    */
+    width?: number;
+
+    constructor(data: any) {
+        let blackAndWhiteQualityDefault: any = "high";
+        this.blackAndWhiteQuality = typeof data?.blackAndWhiteQuality !== "undefined" ? data?.blackAndWhiteQuality : blackAndWhiteQualityDefault;
+        let compressionDefault: any = "none";
+        this.compression = typeof data?.compression !== "undefined" ? data?.compression : compressionDefault;
+        let dpiDefault: any = 72;
+        this.dpi = typeof data?.dpi !== "undefined" ? data?.dpi : dpiDefault;
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let jpegQualityDefault: any = 80;
+        this.jpegQuality = typeof data?.jpegQuality !== "undefined" ? data?.jpegQuality : jpegQualityDefault;
+        let metricsDefault: any = "mm";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let multipageDefault: any = false;
+        this.multipage = typeof data?.multipage !== "undefined" ? data?.multipage : multipageDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+    }
+
+    public static getBlackAndWhiteQualityDefault(): TiffBlackAndWhiteQuality {
+        return "high" as TiffBlackAndWhiteQuality;
+    }
+
+    public static getBlackAndWhiteQualityDescription(): string {
+        return "For \"tif\" exports, this parameter is used to define the quality of black-and-white images if \"group3\" or \"group4\" is used as a compression method. The higher the quality, the more time that will be required in order to render the image:\n\n*   low = Direct conversion (best reserved for \"text only\" content)\n*   middle = A diffusion filter will be applied to the image before conversion\n*   high = Greyscale conversion and a diffusion filter will be applied to the image before conversion";
+    }
+
+    public static getCompressionDefault(): TiffCompression {
+        return "none" as TiffCompression;
+    }
+
+    public static getCompressionDescription(): string {
+        return "This parameter is used to specify the compression method when exporting pages as \"tif\" images. The following values are available:\n\n*   none = No compression\n*   rle = TIFF CCITT Modified Huffman RLE compression\n*   deflate = TIFF Deflate lossless compression (Zip-in-TIFF).\n*   group3 = TIFF CCITT Group 3 fax encoding\n*   group4 = TIFF CCITT Group 4 fax encoding\n*   jpeg = TIFF JPEG-in-TIFF compression\n*   lzw = TIFF LZW compression\n*   packbits = TIFF Byte-oriented run-length encoding \"PackBits\" compression\n*   zlib = TIFF ZLib compression";
+    }
+
+    public static getDpiDefault(): number {
+        return 72;
+    }
+
+    public static getDpiDescription(): string {
+        return "This parameter is used to define the image's DPI resolution. The larger the value, the larger the image's x, y resolution. In addition, the larger the DPI resolution, the larger the size of the image file.";
+    }
+
+    public static getDpiMin(): number {
+        return 0;
+    }
+
+    public static getDpiMax(): number {
+        return 9600;
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "Used to limit the maximum height of the exported image. 0 = No restriction";
+    }
+
+    public static getHeightMin(): number {
+        return 0;
+    }
+
+    public static getJpegQualityDefault(): number {
+        return 80;
+    }
+
+    public static getJpegQualityDescription(): string {
+        return "When exporting to \"jpg\" format, this parameter can be used to define the image's quality as a percentage. The value must fall between 0 and 100. The larger the value, the better the quality and the lower the compression level.";
+    }
+
+    public static getJpegQualityMin(): number {
+        return 0;
+    }
+
+    public static getJpegQualityMax(): number {
+        return 100;
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "mm" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getMultipageDefault(): boolean {
+        return false;
+    }
+
+    public static getMultipageDescription(): string {
+        return "If \"true,\" a \"multi-page TIFF\" will be created when multiple pages are exported as \"tif\" images. All the pages will be exported to a single file, and a ZIP file with individual images will not be generated.";
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "Used to limit the maximum width of the exported image. 0 = No restriction";
+    }
+
+    public static getWidthMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): Tiff {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Tiff(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Tiff> {
+        return ModelStream.decodeArray(source, Tiff.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'blackAndWhiteQuality': this.blackAndWhiteQuality,
+            'compression': this.compression,
+            'dpi': this.dpi,
+            'height': this.height,
+            'jpegQuality': this.jpegQuality,
+            'metrics': this.metrics,
+            'multipage': this.multipage,
+            'width': this.width,
+        };
+    }
+
+    public clone(): Tiff {
+        return Tiff.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "blackAndWhiteQuality", typeof data?.blackAndWhiteQuality !== "undefined" ? data?.blackAndWhiteQuality : "high") || changed;
+        changed = ModelAssignment.assignValue(this, "compression", typeof data?.compression !== "undefined" ? data?.compression : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "dpi", typeof data?.dpi !== "undefined" ? data?.dpi : 72) || changed;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "jpegQuality", typeof data?.jpegQuality !== "undefined" ? data?.jpegQuality : 80) || changed;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "mm") || changed;
+        changed = ModelAssignment.assignValue(this, "multipage", typeof data?.multipage !== "undefined" ? data?.multipage : false) || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.blackAndWhiteQuality, other.blackAndWhiteQuality)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compression, other.compression)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dpi, other.dpi)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.jpegQuality, other.jpegQuality)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.multipage, other.multipage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.blackAndWhiteQuality);
+        hash = ModelEquality.hash(hash, this.compression);
+        hash = ModelEquality.hash(hash, this.dpi);
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.jpegQuality);
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.multipage);
+        hash = ModelEquality.hash(hash, this.width);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Tiff(";
+        fingerprint += ModelEquality.fingerprint(this.blackAndWhiteQuality) + ",";
+        fingerprint += ModelEquality.fingerprint(this.compression) + ",";
+        fingerprint += ModelEquality.fingerprint(this.dpi) + ",";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.jpegQuality) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.multipage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
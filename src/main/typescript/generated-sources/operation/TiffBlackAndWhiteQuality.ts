@@ -0,0 +1,7 @@
+export enum TiffBlackAndWhiteQuality {
+
+    High = 'high',
+    Low = 'low',
+    Middle = 'middle'
+
+}
\ No newline at end of file
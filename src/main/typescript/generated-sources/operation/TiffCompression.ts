@@ -0,0 +1,13 @@
+export enum TiffCompression {
+
+    Zlib = 'zlib',
+    Packbits = 'packbits',
+    Group3 = 'group3',
+    Group4 = 'group4',
+    Lzw = 'lzw',
+    Rle = 'rle',
+    Deflate = 'deflate',
+    Jpeg = 'jpeg',
+    None = 'none'
+
+}
\ No newline at end of file
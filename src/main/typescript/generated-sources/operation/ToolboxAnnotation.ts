@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    ToolboxAnnotationAnnotation,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxAnnotationInterface extends BaseToolboxInterface {
+
+    annotation?: ToolboxAnnotationAnnotation;
+
+}
+export class ToolboxAnnotation extends BaseToolbox implements ToolboxAnnotationInterface, Parameter {
+    annotation?: ToolboxAnnotationAnnotation;
+
+    constructor(data: any) {
+        super(data);
+
+        this.annotation = ToolboxAnnotationAnnotation.fromJson(data?.annotation);
+    }
+
+    public static getAnnotationDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxAnnotation> {
+        return ModelStream.decodeArray(source, ToolboxAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'annotation': this.annotation?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxAnnotation {
+        return ToolboxAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "annotation", data?.annotation, ToolboxAnnotationAnnotation.fromJson, ToolboxAnnotationAnnotation) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.annotation, other.annotation)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.annotation);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxAnnotation(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.annotation) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
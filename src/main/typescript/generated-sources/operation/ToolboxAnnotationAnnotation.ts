@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    RemoveToolboxAnnotation,
+    ModelStream,
+    AddToolboxAnnotation,
+    Parameter,
+    CommentToolboxAnnotation,
+    EditToolboxAnnotation,
+    ModelEquality,
+    ClearToolboxAnnotation,
+} from "./../index";
+
+export interface ToolboxAnnotationAnnotationInterface  {
+
+    add?: AddToolboxAnnotation;
+    clear?: ClearToolboxAnnotation;
+    comment?: CommentToolboxAnnotation;
+    edit?: EditToolboxAnnotation;
+    remove?: RemoveToolboxAnnotation;
+
+}
+export class ToolboxAnnotationAnnotation implements ToolboxAnnotationAnnotationInterface, Parameter {
+    add?: AddToolboxAnnotation;
+    clear?: ClearToolboxAnnotation;
+    comment?: CommentToolboxAnnotation;
+    edit?: EditToolboxAnnotation;
+    remove?: RemoveToolboxAnnotation;
+
+    constructor(data: any) {
+        this.add = AddToolboxAnnotation.fromJson(data?.add);
+        this.clear = ClearToolboxAnnotation.fromJson(data?.clear);
+        this.comment = CommentToolboxAnnotation.fromJson(data?.comment);
+        this.edit = EditToolboxAnnotation.fromJson(data?.edit);
+        this.remove = RemoveToolboxAnnotation.fromJson(data?.remove);
+    }
+
+    public static getAddDescription(): string {
+        return "";
+    }
+
+    public static getClearDescription(): string {
+        return "";
+    }
+
+    public static getCommentDescription(): string {
+        return "";
+    }
+
+    public static getEditDescription(): string {
+        return "";
+    }
+
+    public static getRemoveDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxAnnotationAnnotation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxAnnotationAnnotation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxAnnotationAnnotation> {
+        return ModelStream.decodeArray(source, ToolboxAnnotationAnnotation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'add': this.add?.toJson(),
+            'clear': this.clear?.toJson(),
+            'comment': this.comment?.toJson(),
+            'edit': this.edit?.toJson(),
+            'remove': this.remove?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxAnnotationAnnotation {
+        return ToolboxAnnotationAnnotation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "add", data?.add, AddToolboxAnnotation.fromJson, AddToolboxAnnotation) || changed;
+        changed = ModelAssignment.assignModel(this, "clear", data?.clear, ClearToolboxAnnotation.fromJson, ClearToolboxAnnotation) || changed;
+        changed = ModelAssignment.assignModel(this, "comment", data?.comment, CommentToolboxAnnotation.fromJson, CommentToolboxAnnotation) || changed;
+        changed = ModelAssignment.assignModel(this, "edit", data?.edit, EditToolboxAnnotation.fromJson, EditToolboxAnnotation) || changed;
+        changed = ModelAssignment.assignModel(this, "remove", data?.remove, RemoveToolboxAnnotation.fromJson, RemoveToolboxAnnotation) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.add, other.add)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.clear, other.clear)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.comment, other.comment)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.edit, other.edit)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.remove, other.remove)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.add);
+        hash = ModelEquality.hash(hash, this.clear);
+        hash = ModelEquality.hash(hash, this.comment);
+        hash = ModelEquality.hash(hash, this.edit);
+        hash = ModelEquality.hash(hash, this.remove);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxAnnotationAnnotation(";
+        fingerprint += ModelEquality.fingerprint(this.add) + ",";
+        fingerprint += ModelEquality.fingerprint(this.clear) + ",";
+        fingerprint += ModelEquality.fingerprint(this.comment) + ",";
+        fingerprint += ModelEquality.fingerprint(this.edit) + ",";
+        fingerprint += ModelEquality.fingerprint(this.remove) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    ToolboxAttachmentAttachment,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxAttachmentInterface extends BaseToolboxInterface {
+
+    attachment?: ToolboxAttachmentAttachment;
+
+}
+export class ToolboxAttachment extends BaseToolbox implements ToolboxAttachmentInterface, Parameter {
+    attachment?: ToolboxAttachmentAttachment;
+
+    constructor(data: any) {
+        super(data);
+
+        this.attachment = ToolboxAttachmentAttachment.fromJson(data?.attachment);
+    }
+
+    public static getAttachmentDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxAttachment {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxAttachment(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxAttachment> {
+        return ModelStream.decodeArray(source, ToolboxAttachment.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'attachment': this.attachment?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxAttachment {
+        return ToolboxAttachment.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "attachment", data?.attachment, ToolboxAttachmentAttachment.fromJson, ToolboxAttachmentAttachment) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.attachment, other.attachment)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.attachment);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxAttachment(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.attachment) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
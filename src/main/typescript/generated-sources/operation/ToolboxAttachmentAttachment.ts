@@ -0,0 +1,110 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    RemoveToolboxAttachment,
+    Parameter,
+    AddToolboxAttachment,
+    ExtractToolboxAttachment,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxAttachmentAttachmentInterface  {
+
+    add?: AddToolboxAttachment;
+    extract?: ExtractToolboxAttachment;
+    remove?: RemoveToolboxAttachment;
+
+}
+export class ToolboxAttachmentAttachment implements ToolboxAttachmentAttachmentInterface, Parameter {
+    add?: AddToolboxAttachment;
+    extract?: ExtractToolboxAttachment;
+    remove?: RemoveToolboxAttachment;
+
+    constructor(data: any) {
+        this.add = AddToolboxAttachment.fromJson(data?.add);
+        this.extract = ExtractToolboxAttachment.fromJson(data?.extract);
+        this.remove = RemoveToolboxAttachment.fromJson(data?.remove);
+    }
+
+    public static getAddDescription(): string {
+        return "";
+    }
+
+    public static getExtractDescription(): string {
+        return "";
+    }
+
+    public static getRemoveDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxAttachmentAttachment {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxAttachmentAttachment(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxAttachmentAttachment> {
+        return ModelStream.decodeArray(source, ToolboxAttachmentAttachment.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'add': this.add?.toJson(),
+            'extract': this.extract?.toJson(),
+            'remove': this.remove?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxAttachmentAttachment {
+        return ToolboxAttachmentAttachment.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "add", data?.add, AddToolboxAttachment.fromJson, AddToolboxAttachment) || changed;
+        changed = ModelAssignment.assignModel(this, "extract", data?.extract, ExtractToolboxAttachment.fromJson, ExtractToolboxAttachment) || changed;
+        changed = ModelAssignment.assignModel(this, "remove", data?.remove, RemoveToolboxAttachment.fromJson, RemoveToolboxAttachment) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.add, other.add)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.extract, other.extract)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.remove, other.remove)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.add);
+        hash = ModelEquality.hash(hash, this.extract);
+        hash = ModelEquality.hash(hash, this.remove);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxAttachmentAttachment(";
+        fingerprint += ModelEquality.fingerprint(this.add) + ",";
+        fingerprint += ModelEquality.fingerprint(this.extract) + ",";
+        fingerprint += ModelEquality.fingerprint(this.remove) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
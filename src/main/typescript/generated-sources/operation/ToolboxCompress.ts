@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ToolboxCompressCompress,
+} from "./../index";
+
+export interface ToolboxCompressInterface extends BaseToolboxInterface {
+
+    compress?: ToolboxCompressCompress;
+
+}
+export class ToolboxCompress extends BaseToolbox implements ToolboxCompressInterface, Parameter {
+    compress?: ToolboxCompressCompress;
+
+    constructor(data: any) {
+        super(data);
+
+        this.compress = ToolboxCompressCompress.fromJson(data?.compress);
+    }
+
+    public static getCompressDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxCompress {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxCompress(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxCompress> {
+        return ModelStream.decodeArray(source, ToolboxCompress.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'compress': this.compress?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxCompress {
+        return ToolboxCompress.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "compress", data?.compress, ToolboxCompressCompress.fromJson, ToolboxCompressCompress) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compress, other.compress)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.compress);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxCompress(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.compress) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    CompressObjects,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxCompressCompressInterface  {
+
+    compressObjects?: CompressObjects;
+
+}
+export class ToolboxCompressCompress implements ToolboxCompressCompressInterface, Parameter {
+    compressObjects?: CompressObjects;
+
+    constructor(data: any) {
+        this.compressObjects = CompressObjects.fromJson(data?.compressObjects);
+    }
+
+    public static getCompressObjectsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxCompressCompress {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxCompressCompress(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxCompressCompress> {
+        return ModelStream.decodeArray(source, ToolboxCompressCompress.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'compressObjects': this.compressObjects?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxCompressCompress {
+        return ToolboxCompressCompress.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "compressObjects", data?.compressObjects, CompressObjects.fromJson, CompressObjects) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compressObjects, other.compressObjects)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.compressObjects);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxCompressCompress(";
+        fingerprint += ModelEquality.fingerprint(this.compressObjects) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ToolboxDeleteDelete,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxDeleteInterface extends BaseToolboxInterface {
+
+    _delete?: ToolboxDeleteDelete;
+
+}
+export class ToolboxDelete extends BaseToolbox implements ToolboxDeleteInterface, Parameter {
+    _delete?: ToolboxDeleteDelete;
+
+    constructor(data: any) {
+        super(data);
+
+        this._delete = ToolboxDeleteDelete.fromJson(data?.delete);
+    }
+
+    public static getDeleteDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxDelete {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxDelete(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxDelete> {
+        return ModelStream.decodeArray(source, ToolboxDelete.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'delete': this._delete?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxDelete {
+        return ToolboxDelete.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "_delete", data?.delete, ToolboxDeleteDelete.fromJson, ToolboxDeleteDelete) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this._delete, other._delete)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this._delete);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxDelete(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this._delete) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxDeleteDeleteInterface  {
+
+    /**
+    * Defines the pages that should be deleted from the PDF document. This can be either an individual page or a page range (e.g., \"1,5-6,9\").
+    */
+    pages: string;
+
+}
+export class ToolboxDeleteDelete implements ToolboxDeleteDeleteInterface, Parameter {
+    /**
+    * Defines the pages that should be deleted from the PDF document. This can be either an individual page or a page range (e.g., \"1,5-6,9\").
+    */
+    pages: string;
+
+    constructor(data: any) {
+        let pagesDefault: any = "";
+        this.pages = typeof data.pages !== "undefined" ? data.pages : pagesDefault;
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "Defines the pages that should be deleted from the PDF document. This can be either an individual page or a page range (e.g., \"1,5-6,9\").";
+    }
+
+    public static fromJson(data: any): ToolboxDeleteDelete {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxDeleteDelete(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxDeleteDelete> {
+        return ModelStream.decodeArray(source, ToolboxDeleteDelete.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'pages': this.pages,
+        };
+    }
+
+    public clone(): ToolboxDeleteDelete {
+        return ToolboxDeleteDelete.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data.pages !== "undefined" ? data.pages : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.pages);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxDeleteDelete(";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
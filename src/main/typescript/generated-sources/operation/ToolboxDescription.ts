@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ToolboxDescriptionDescription,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxDescriptionInterface extends BaseToolboxInterface {
+
+    description?: ToolboxDescriptionDescription;
+
+}
+export class ToolboxDescription extends BaseToolbox implements ToolboxDescriptionInterface, Parameter {
+    description?: ToolboxDescriptionDescription;
+
+    constructor(data: any) {
+        super(data);
+
+        this.description = ToolboxDescriptionDescription.fromJson(data?.description);
+    }
+
+    public static getDescriptionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxDescription {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxDescription(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxDescription> {
+        return ModelStream.decodeArray(source, ToolboxDescription.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'description': this.description?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxDescription {
+        return ToolboxDescription.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "description", data?.description, ToolboxDescriptionDescription.fromJson, ToolboxDescriptionDescription) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.description, other.description)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.description);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxDescription(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.description) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,261 @@
+import {
+    ModelAssignment,
+    DescriptionCustom,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxDescriptionDescriptionInterface  {
+
+    /**
+    * If \"true,\" empty values will be accepted.
+    */
+    allowEmptyValues?: boolean;
+    /**
+    * Used to set the PDF document's Author field. Multiple values should be separated with \";\".
+    */
+    author?: string;
+    /**
+    * Used to set the PDF document's Creator field.
+    */
+    creator?: string;
+    custom?: Array<DescriptionCustom>;
+    /**
+    * Used to set the PDF document's Keywords field. Multiple values should be separated with \";\".
+    */
+    keywords?: string;
+    /**
+    * Used to set the PDF document's Producer field.
+    */
+    producer?: string;
+    /**
+    * Used to set the PDF document's Subject field.
+    */
+    subject?: string;
+    /**
+    * Used to set the PDF document's Title field.
+    */
+    title?: string;
+
+}
+export class ToolboxDescriptionDescription implements ToolboxDescriptionDescriptionInterface, Parameter {
+    /**
+    * If \"true,\" empty values will be accepted.
+    */
+    allowEmptyValues?: boolean;
+    /**
+    * Used to set the PDF document's Author field. Multiple values should be separated with \";\".
+    */
+    author?: string;
+    /**
+    * Used to set the PDF document's Creator field.
+    */
+    creator?: string;
+    custom?: Array<DescriptionCustom>;
+    /**
+    * Used to set the PDF document's Keywords field. Multiple values should be separated with \";\".
+    */
+    keywords?: string;
+    /**
+    * Used to set the PDF document's Producer field.
+    */
+    producer?: string;
+    /**
+    * Used to set the PDF document's Subject field.
+    */
+    subject?: string;
+    /**
+    * Used to set the PDF document's Title field.
+    */
+    title?: string;
+
+    constructor(data: any) {
+        let allowEmptyValuesDefault: any = false;
+        this.allowEmptyValues = typeof data?.allowEmptyValues !== "undefined" ? data?.allowEmptyValues : allowEmptyValuesDefault;
+        let authorDefault: any = "";
+        this.author = typeof data?.author !== "undefined" ? data?.author : authorDefault;
+        let creatorDefault: any = "";
+        this.creator = typeof data?.creator !== "undefined" ? data?.creator : creatorDefault;
+        this.custom = (data?.custom || []).map(
+            DescriptionCustom.fromJson
+        );
+        let keywordsDefault: any = "";
+        this.keywords = typeof data?.keywords !== "undefined" ? data?.keywords : keywordsDefault;
+        let producerDefault: any = "";
+        this.producer = typeof data?.producer !== "undefined" ? data?.producer : producerDefault;
+        let subjectDefault: any = "";
+        this.subject = typeof data?.subject !== "undefined" ? data?.subject : subjectDefault;
+        let titleDefault: any = "";
+        this.title = typeof data?.title !== "undefined" ? data?.title : titleDefault;
+    }
+
+    public static getAllowEmptyValuesDefault(): boolean {
+        return false;
+    }
+
+    public static getAllowEmptyValuesDescription(): string {
+        return "If \"true,\" empty values will be accepted.";
+    }
+
+    public static getAuthorDefault(): string {
+        return "";
+    }
+
+    public static getAuthorDescription(): string {
+        return "Used to set the PDF document's Author field. Multiple values should be separated with \";\".";
+    }
+
+    public static getCreatorDefault(): string {
+        return "";
+    }
+
+    public static getCreatorDescription(): string {
+        return "Used to set the PDF document's Creator field.";
+    }
+
+    public static getCustomDefault(): Array<DescriptionCustom> {
+        return [];
+    }
+
+    public static getCustomDescription(): string {
+        return "";
+    }
+
+    public static getKeywordsDefault(): string {
+        return "";
+    }
+
+    public static getKeywordsDescription(): string {
+        return "Used to set the PDF document's Keywords field. Multiple values should be separated with \";\".";
+    }
+
+    public static getProducerDefault(): string {
+        return "";
+    }
+
+    public static getProducerDescription(): string {
+        return "Used to set the PDF document's Producer field.";
+    }
+
+    public static getSubjectDefault(): string {
+        return "";
+    }
+
+    public static getSubjectDescription(): string {
+        return "Used to set the PDF document's Subject field.";
+    }
+
+    public static getTitleDefault(): string {
+        return "";
+    }
+
+    public static getTitleDescription(): string {
+        return "Used to set the PDF document's Title field.";
+    }
+
+    public static fromJson(data: any): ToolboxDescriptionDescription {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxDescriptionDescription(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxDescriptionDescription> {
+        return ModelStream.decodeArray(source, ToolboxDescriptionDescription.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'allowEmptyValues': this.allowEmptyValues,
+            'author': this.author,
+            'creator': this.creator,
+            'custom': this.custom?.map((data) => data.toJson()),
+            'keywords': this.keywords,
+            'producer': this.producer,
+            'subject': this.subject,
+            'title': this.title,
+        };
+    }
+
+    public clone(): ToolboxDescriptionDescription {
+        return ToolboxDescriptionDescription.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "allowEmptyValues", typeof data?.allowEmptyValues !== "undefined" ? data?.allowEmptyValues : false) || changed;
+        changed = ModelAssignment.assignValue(this, "author", typeof data?.author !== "undefined" ? data?.author : "") || changed;
+        changed = ModelAssignment.assignValue(this, "creator", typeof data?.creator !== "undefined" ? data?.creator : "") || changed;
+        changed = ModelAssignment.assignArray(this, "custom", data?.custom, DescriptionCustom.fromJson, DescriptionCustom) || changed;
+        changed = ModelAssignment.assignValue(this, "keywords", typeof data?.keywords !== "undefined" ? data?.keywords : "") || changed;
+        changed = ModelAssignment.assignValue(this, "producer", typeof data?.producer !== "undefined" ? data?.producer : "") || changed;
+        changed = ModelAssignment.assignValue(this, "subject", typeof data?.subject !== "undefined" ? data?.subject : "") || changed;
+        changed = ModelAssignment.assignValue(this, "title", typeof data?.title !== "undefined" ? data?.title : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.allowEmptyValues, other.allowEmptyValues)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.author, other.author)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.creator, other.creator)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.custom, other.custom)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.keywords, other.keywords)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.producer, other.producer)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.subject, other.subject)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.title, other.title)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.allowEmptyValues);
+        hash = ModelEquality.hash(hash, this.author);
+        hash = ModelEquality.hash(hash, this.creator);
+        hash = ModelEquality.hash(hash, this.custom);
+        hash = ModelEquality.hash(hash, this.keywords);
+        hash = ModelEquality.hash(hash, this.producer);
+        hash = ModelEquality.hash(hash, this.subject);
+        hash = ModelEquality.hash(hash, this.title);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxDescriptionDescription(";
+        fingerprint += ModelEquality.fingerprint(this.allowEmptyValues) + ",";
+        fingerprint += ModelEquality.fingerprint(this.author) + ",";
+        fingerprint += ModelEquality.fingerprint(this.creator) + ",";
+        fingerprint += ModelEquality.fingerprint(this.custom) + ",";
+        fingerprint += ModelEquality.fingerprint(this.keywords) + ",";
+        fingerprint += ModelEquality.fingerprint(this.producer) + ",";
+        fingerprint += ModelEquality.fingerprint(this.subject) + ",";
+        fingerprint += ModelEquality.fingerprint(this.title) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ToolboxExtractionExtraction,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxExtractionInterface extends BaseToolboxInterface {
+
+    extraction?: ToolboxExtractionExtraction;
+
+}
+export class ToolboxExtraction extends BaseToolbox implements ToolboxExtractionInterface, Parameter {
+    extraction?: ToolboxExtractionExtraction;
+
+    constructor(data: any) {
+        super(data);
+
+        this.extraction = ToolboxExtractionExtraction.fromJson(data?.extraction);
+    }
+
+    public static getExtractionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxExtraction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxExtraction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxExtraction> {
+        return ModelStream.decodeArray(source, ToolboxExtraction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'extraction': this.extraction?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxExtraction {
+        return ToolboxExtraction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "extraction", data?.extraction, ToolboxExtractionExtraction.fromJson, ToolboxExtractionExtraction) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.extraction, other.extraction)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.extraction);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxExtraction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.extraction) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+import {
+    ModelAssignment,
+    ExtractionInfo,
+    ExtractionParagraphs,
+    ExtractionImages,
+    ExtractionWords,
+    ModelStream,
+    ExtractionLinks,
+    Parameter,
+    ModelEquality,
+    ExtractionText,
+} from "./../index";
+
+export interface ToolboxExtractionExtractionInterface  {
+
+    images?: ExtractionImages;
+    info?: ExtractionInfo;
+    links?: ExtractionLinks;
+    paragraphs?: ExtractionParagraphs;
+    text?: ExtractionText;
+    words?: ExtractionWords;
+
+}
+export class ToolboxExtractionExtraction implements ToolboxExtractionExtractionInterface, Parameter {
+    images?: ExtractionImages;
+    info?: ExtractionInfo;
+    links?: ExtractionLinks;
+    paragraphs?: ExtractionParagraphs;
+    text?: ExtractionText;
+    words?: ExtractionWords;
+
+    constructor(data: any) {
+        this.images = ExtractionImages.fromJson(data?.images);
+        this.info = ExtractionInfo.fromJson(data?.info);
+        this.links = ExtractionLinks.fromJson(data?.links);
+        this.paragraphs = ExtractionParagraphs.fromJson(data?.paragraphs);
+        this.text = ExtractionText.fromJson(data?.text);
+        this.words = ExtractionWords.fromJson(data?.words);
+    }
+
+    public static getImagesDescription(): string {
+        return "";
+    }
+
+    public static getInfoDescription(): string {
+        return "";
+    }
+
+    public static getLinksDescription(): string {
+        return "";
+    }
+
+    public static getParagraphsDescription(): string {
+        return "";
+    }
+
+    public static getTextDescription(): string {
+        return "";
+    }
+
+    public static getWordsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxExtractionExtraction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxExtractionExtraction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxExtractionExtraction> {
+        return ModelStream.decodeArray(source, ToolboxExtractionExtraction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'images': this.images?.toJson(),
+            'info': this.info?.toJson(),
+            'links': this.links?.toJson(),
+            'paragraphs': this.paragraphs?.toJson(),
+            'text': this.text?.toJson(),
+            'words': this.words?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxExtractionExtraction {
+        return ToolboxExtractionExtraction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "images", data?.images, ExtractionImages.fromJson, ExtractionImages) || changed;
+        changed = ModelAssignment.assignModel(this, "info", data?.info, ExtractionInfo.fromJson, ExtractionInfo) || changed;
+        changed = ModelAssignment.assignModel(this, "links", data?.links, ExtractionLinks.fromJson, ExtractionLinks) || changed;
+        changed = ModelAssignment.assignModel(this, "paragraphs", data?.paragraphs, ExtractionParagraphs.fromJson, ExtractionParagraphs) || changed;
+        changed = ModelAssignment.assignModel(this, "text", data?.text, ExtractionText.fromJson, ExtractionText) || changed;
+        changed = ModelAssignment.assignModel(this, "words", data?.words, ExtractionWords.fromJson, ExtractionWords) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.images, other.images)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.info, other.info)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.links, other.links)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.paragraphs, other.paragraphs)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.text, other.text)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.words, other.words)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.images);
+        hash = ModelEquality.hash(hash, this.info);
+        hash = ModelEquality.hash(hash, this.links);
+        hash = ModelEquality.hash(hash, this.paragraphs);
+        hash = ModelEquality.hash(hash, this.text);
+        hash = ModelEquality.hash(hash, this.words);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxExtractionExtraction(";
+        fingerprint += ModelEquality.fingerprint(this.images) + ",";
+        fingerprint += ModelEquality.fingerprint(this.info) + ",";
+        fingerprint += ModelEquality.fingerprint(this.links) + ",";
+        fingerprint += ModelEquality.fingerprint(this.paragraphs) + ",";
+        fingerprint += ModelEquality.fingerprint(this.text) + ",";
+        fingerprint += ModelEquality.fingerprint(this.words) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
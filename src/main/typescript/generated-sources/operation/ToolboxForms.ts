@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ToolboxFormsForms,
+} from "./../index";
+
+export interface ToolboxFormsInterface extends BaseToolboxInterface {
+
+    forms?: ToolboxFormsForms;
+
+}
+export class ToolboxForms extends BaseToolbox implements ToolboxFormsInterface, Parameter {
+    forms?: ToolboxFormsForms;
+
+    constructor(data: any) {
+        super(data);
+
+        this.forms = ToolboxFormsForms.fromJson(data?.forms);
+    }
+
+    public static getFormsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxForms {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxForms(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxForms> {
+        return ModelStream.decodeArray(source, ToolboxForms.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'forms': this.forms?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxForms {
+        return ToolboxForms.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "forms", data?.forms, ToolboxFormsForms.fromJson, ToolboxFormsForms) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.forms, other.forms)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.forms);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxForms(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.forms) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    FormsExport,
+    Parameter,
+    FormsImport,
+    ModelEquality,
+    FormsFlatten,
+} from "./../index";
+
+export interface ToolboxFormsFormsInterface  {
+
+    _export?: FormsExport;
+    flatten?: FormsFlatten;
+    _import?: FormsImport;
+
+}
+export class ToolboxFormsForms implements ToolboxFormsFormsInterface, Parameter {
+    _export?: FormsExport;
+    flatten?: FormsFlatten;
+    _import?: FormsImport;
+
+    constructor(data: any) {
+        this._export = FormsExport.fromJson(data?.export);
+        this.flatten = FormsFlatten.fromJson(data?.flatten);
+        this._import = FormsImport.fromJson(data?.import);
+    }
+
+    public static getExportDescription(): string {
+        return "";
+    }
+
+    public static getFlattenDescription(): string {
+        return "";
+    }
+
+    public static getImportDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxFormsForms {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxFormsForms(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxFormsForms> {
+        return ModelStream.decodeArray(source, ToolboxFormsForms.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'export': this._export?.toJson(),
+            'flatten': this.flatten?.toJson(),
+            'import': this._import?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxFormsForms {
+        return ToolboxFormsForms.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "_export", data?.export, FormsExport.fromJson, FormsExport) || changed;
+        changed = ModelAssignment.assignModel(this, "flatten", data?.flatten, FormsFlatten.fromJson, FormsFlatten) || changed;
+        changed = ModelAssignment.assignModel(this, "_import", data?.import, FormsImport.fromJson, FormsImport) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this._export, other._export)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.flatten, other.flatten)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this._import, other._import)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this._export);
+        hash = ModelEquality.hash(hash, this.flatten);
+        hash = ModelEquality.hash(hash, this._import);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxFormsForms(";
+        fingerprint += ModelEquality.fingerprint(this._export) + ",";
+        fingerprint += ModelEquality.fingerprint(this.flatten) + ",";
+        fingerprint += ModelEquality.fingerprint(this._import) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
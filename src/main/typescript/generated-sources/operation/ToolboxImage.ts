@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ToolboxImageImage,
+} from "./../index";
+
+export interface ToolboxImageInterface extends BaseToolboxInterface {
+
+    image?: ToolboxImageImage;
+
+}
+export class ToolboxImage extends BaseToolbox implements ToolboxImageInterface, Parameter {
+    image?: ToolboxImageImage;
+
+    constructor(data: any) {
+        super(data);
+
+        this.image = ToolboxImageImage.fromJson(data?.image);
+    }
+
+    public static getImageDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxImage {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxImage(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxImage> {
+        return ModelStream.decodeArray(source, ToolboxImage.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'image': this.image?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxImage {
+        return ToolboxImage.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "image", data?.image, ToolboxImageImage.fromJson, ToolboxImageImage) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.image, other.image)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.image);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxImage(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.image) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
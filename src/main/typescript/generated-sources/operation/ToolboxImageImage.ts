@@ -0,0 +1,205 @@
+import {
+    ModelAssignment,
+    Tiff,
+    Bmp,
+    Gif,
+    Svg,
+    ModelStream,
+    Png,
+    Parameter,
+    Jpeg,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxImageImageInterface  {
+
+    bmp?: Bmp;
+    /**
+    * When exporting multiple pages, this parameter is used to define the file name that will be used for the generated image files in the ZIP file. The file name must include the string \"%d\". This string will be replaced with a consecutive number in the file name.
+    */
+    fileNameTemplate?: string;
+    gif?: Gif;
+    jpeg?: Jpeg;
+    /**
+    * Used to define the page number or page range (e.g., \"1,5-6,9\") that should be converted to an image file format. If only a single page is defined, the image file will be returned directly. If a range of pages is declared, then the call will return a ZIP file containing all the exported pages. The name of the individual image file (when multiple pages are exported) is defined with the \"fileNameTemplate\" attribute. The \"tif\" format is an exception when exporting multiple pages. When using this format, the \"multipage\" attribute can be used to define whether a multipage TIFF will be generated or whether the individual pages will be exported to a ZIP file (as with the other image file formats).
+    */
+    pages?: string;
+    png?: Png;
+    svg?: Svg;
+    tiff?: Tiff;
+
+}
+export class ToolboxImageImage implements ToolboxImageImageInterface, Parameter {
+    bmp?: Bmp;
+    /**
+    * When exporting multiple pages, this parameter is used to define the file name that will be used for the generated image files in the ZIP file. The file name must include the string \"%d\". This string will be replaced with a consecutive number in the file name.
+    */
+    fileNameTemplate?: string;
+    gif?: Gif;
+    jpeg?: Jpeg;
+    /**
+    * Used to define the page number or page range (e.g., \"1,5-6,9\") that should be converted to an image file format. If only a single page is defined, the image file will be returned directly. If a range of pages is declared, then the call will return a ZIP file containing all the exported pages. The name of the individual image file (when multiple pages are exported) is defined with the \"fileNameTemplate\" attribute. The \"tif\" format is an exception when exporting multiple pages. When using this format, the \"multipage\" attribute can be used to define whether a multipage TIFF will be generated or whether the individual pages will be exported to a ZIP file (as with the other image file formats).
+    */
+    pages?: string;
+    png?: Png;
+    svg?: Svg;
+    tiff?: Tiff;
+
+    constructor(data: any) {
+        this.bmp = Bmp.fromJson(data?.bmp);
+        let fileNameTemplateDefault: any = "page[%d]";
+        this.fileNameTemplate = typeof data?.fileNameTemplate !== "undefined" ? data?.fileNameTemplate : fileNameTemplateDefault;
+        this.gif = Gif.fromJson(data?.gif);
+        this.jpeg = Jpeg.fromJson(data?.jpeg);
+        let pagesDefault: any = "1";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        this.png = Png.fromJson(data?.png);
+        this.svg = Svg.fromJson(data?.svg);
+        this.tiff = Tiff.fromJson(data?.tiff);
+    }
+
+    public static getBmpDescription(): string {
+        return "";
+    }
+
+    public static getFileNameTemplateDefault(): string {
+        return "page[%d]";
+    }
+
+    public static getFileNameTemplateDescription(): string {
+        return "When exporting multiple pages, this parameter is used to define the file name that will be used for the generated image files in the ZIP file. The file name must include the string \"%d\". This string will be replaced with a consecutive number in the file name.";
+    }
+
+    public static getGifDescription(): string {
+        return "";
+    }
+
+    public static getJpegDescription(): string {
+        return "";
+    }
+
+    public static getPagesDefault(): string {
+        return "1";
+    }
+
+    public static getPagesDescription(): string {
+        return "Used to define the page number or page range (e.g., \"1,5-6,9\") that should be converted to an image file format. If only a single page is defined, the image file will be returned directly. If a range of pages is declared, then the call will return a ZIP file containing all the exported pages. The name of the individual image file (when multiple pages are exported) is defined with the \"fileNameTemplate\" attribute. The \"tif\" format is an exception when exporting multiple pages. When using this format, the \"multipage\" attribute can be used to define whether a multipage TIFF will be generated or whether the individual pages will be exported to a ZIP file (as with the other image file formats).";
+    }
+
+    public static getPngDescription(): string {
+        return "";
+    }
+
+    public static getSvgDescription(): string {
+        return "";
+    }
+
+    public static getTiffDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxImageImage {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxImageImage(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxImageImage> {
+        return ModelStream.decodeArray(source, ToolboxImageImage.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'bmp': this.bmp?.toJson(),
+            'fileNameTemplate': this.fileNameTemplate,
+            'gif': this.gif?.toJson(),
+            'jpeg': this.jpeg?.toJson(),
+            'pages': this.pages,
+            'png': this.png?.toJson(),
+            'svg': this.svg?.toJson(),
+            'tiff': this.tiff?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxImageImage {
+        return ToolboxImageImage.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "bmp", data?.bmp, Bmp.fromJson, Bmp) || changed;
+        changed = ModelAssignment.assignValue(this, "fileNameTemplate", typeof data?.fileNameTemplate !== "undefined" ? data?.fileNameTemplate : "page[%d]") || changed;
+        changed = ModelAssignment.assignModel(this, "gif", data?.gif, Gif.fromJson, Gif) || changed;
+        changed = ModelAssignment.assignModel(this, "jpeg", data?.jpeg, Jpeg.fromJson, Jpeg) || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "1") || changed;
+        changed = ModelAssignment.assignModel(this, "png", data?.png, Png.fromJson, Png) || changed;
+        changed = ModelAssignment.assignModel(this, "svg", data?.svg, Svg.fromJson, Svg) || changed;
+        changed = ModelAssignment.assignModel(this, "tiff", data?.tiff, Tiff.fromJson, Tiff) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bmp, other.bmp)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileNameTemplate, other.fileNameTemplate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.gif, other.gif)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.jpeg, other.jpeg)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.png, other.png)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.svg, other.svg)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.tiff, other.tiff)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.bmp);
+        hash = ModelEquality.hash(hash, this.fileNameTemplate);
+        hash = ModelEquality.hash(hash, this.gif);
+        hash = ModelEquality.hash(hash, this.jpeg);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.png);
+        hash = ModelEquality.hash(hash, this.svg);
+        hash = ModelEquality.hash(hash, this.tiff);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxImageImage(";
+        fingerprint += ModelEquality.fingerprint(this.bmp) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileNameTemplate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.gif) + ",";
+        fingerprint += ModelEquality.fingerprint(this.jpeg) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.png) + ",";
+        fingerprint += ModelEquality.fingerprint(this.svg) + ",";
+        fingerprint += ModelEquality.fingerprint(this.tiff) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ToolboxMergeMerge,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxMergeInterface extends BaseToolboxInterface {
+
+    merge?: ToolboxMergeMerge;
+
+}
+export class ToolboxMerge extends BaseToolbox implements ToolboxMergeInterface, Parameter {
+    merge?: ToolboxMergeMerge;
+
+    constructor(data: any) {
+        super(data);
+
+        this.merge = ToolboxMergeMerge.fromJson(data?.merge);
+    }
+
+    public static getMergeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxMerge {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxMerge(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxMerge> {
+        return ModelStream.decodeArray(source, ToolboxMerge.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'merge': this.merge?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxMerge {
+        return ToolboxMerge.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "merge", data?.merge, ToolboxMergeMerge.fromJson, ToolboxMergeMerge) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.merge, other.merge)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.merge);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxMerge(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.merge) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,235 @@
+import {
+    ModelAssignment,
+    MergeFileData,
+    MergeMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxMergeMergeInterface  {
+
+    data: MergeFileData;
+    /**
+    * Defines the mode used to merge the PDF documents. The PDF document passed with the \"data\" element will be appended to the current PDF document or inserted at a specific point. The following modes define the position where the documents will be inserted. Instead of a single base document, the \"portfolio\" mode always expects a ZIP archive. The elements in this archive will be added, all with identical permissions, to the resulting portfolio (the data element is not required at all for \"portfolio\").  *   atTheEnd = At the end of the PDF document *   atTheBeginning = At the beginning of the PDF document *   afterPage = After a page (please refer to the \"page\" attribute) in the PDF document *   beforePage = Before a page (please refer to the \"page\" attribute) in the PDF document
+    */
+    mode?: MergeMode;
+    /**
+    * Used to define the base path that should be used for outline nodes of the source document. This parameter can contain a slash separated path and should ideally end with the name of the document (\"A/B/filename\"). If this parameter is not set, all outlines will be appended to the root outline node.
+    */
+    outlineName?: string;
+    /**
+    * Used to define the page number where the PDF document should be inserted.
+    */
+    page?: number;
+    /**
+    * If this parameter is enabled, all entries related to static XFA documents and all connected extended permission settings will be removed from the document. Using this parameter it is possible to merge static XFA documents with other documents, which is normally forbidden by default.  **Important:** Although this parameter allows the merging of static XFA documents, this will not create a valid static XFA document as a result. All structures qualifying a document as a static XFA document will be removed. The resulting document will contain a pure Acroform and will not be recognized as a XFA form by applications for XFA creation/editing. Also, all extended access  *   and write permissions will be removed (That normally can expected to be found in a static XFA document).
+    */
+    removeStaticXFA?: boolean;
+    /**
+    * If you enable this parameter, the source document's metadata will be removed and replaced with default values.
+    */
+    resetMetadata?: boolean;
+    /**
+    * If this parameter is enabled, a ZIP archive  *   containing the documents to merge - will be expected as the webservice's source document. Also - in that case, the \"data\" parameter is not required. The first element in the ZIP archive will be used as a base document to which all following entries will be appended.  **Important:** The usage of this parameter is expected to be used for the \"portfolio\" mode. All the documents in the ZIP archive will be added to the portfolio receiving identical permission settings.
+    */
+    sourceIsZip?: boolean;
+
+}
+export class ToolboxMergeMerge implements ToolboxMergeMergeInterface, Parameter {
+    data: MergeFileData;
+    /**
+    * Defines the mode used to merge the PDF documents. The PDF document passed with the \"data\" element will be appended to the current PDF document or inserted at a specific point. The following modes define the position where the documents will be inserted. Instead of a single base document, the \"portfolio\" mode always expects a ZIP archive. The elements in this archive will be added, all with identical permissions, to the resulting portfolio (the data element is not required at all for \"portfolio\").  *   atTheEnd = At the end of the PDF document *   atTheBeginning = At the beginning of the PDF document *   afterPage = After a page (please refer to the \"page\" attribute) in the PDF document *   beforePage = Before a page (please refer to the \"page\" attribute) in the PDF document
+    */
+    mode?: MergeMode;
+    /**
+    * Used to define the base path that should be used for outline nodes of the source document. This parameter can contain a slash separated path and should ideally end with the name of the document (\"A/B/filename\"). If this parameter is not set, all outlines will be appended to the root outline node.
+    */
+    outlineName?: string;
+    /**
+    * Used to define the page number where the PDF document should be inserted.
+    */
+    page?: number;
+    /**
+    * If this parameter is enabled, all entries related to static XFA documents and all connected extended permission settings will be removed from the document. Using this parameter it is possible to merge static XFA documents with other documents, which is normally forbidden by default.  **Important:** Although this parameter allows the merging of static XFA documents, this will not create a valid static XFA document as a result. All structures qualifying a document as a static XFA document will be removed. The resulting document will contain a pure Acroform and will not be recognized as a XFA form by applications for XFA creation/editing. Also, all extended access  *   and write permissions will be removed (That normally can expected to be found in a static XFA document).
+    */
+    removeStaticXFA?: boolean;
+    /**
+    * If you enable this parameter, the source document's metadata will be removed and replaced with default values.
+    */
+    resetMetadata?: boolean;
+    /**
+    * If this parameter is enabled, a ZIP archive  *   containing the documents to merge - will be expected as the webservice's source document. Also - in that case, the \"data\" parameter is not required. The first element in the ZIP archive will be used as a base document to which all following entries will be appended.  **Important:** The usage of this parameter is expected to be used for the \"portfolio\" mode. All the documents in the ZIP archive will be added to the portfolio receiving identical permission settings.
+    */
+    sourceIsZip?: boolean;
+
+    constructor(data: any) {
+        this.data = MergeFileData.fromJson(data.data);
+        let modeDefault: any = "atTheEnd";
+        this.mode = typeof data?.mode !== "undefined" ? data?.mode : modeDefault;
+        let outlineNameDefault: any = "";
+        this.outlineName = typeof data?.outlineName !== "undefined" ? data?.outlineName : outlineNameDefault;
+        let pageDefault: any = 1;
+        this.page = typeof data?.page !== "undefined" ? data?.page : pageDefault;
+        let removeStaticXFADefault: any = false;
+        this.removeStaticXFA = typeof data?.removeStaticXFA !== "undefined" ? data?.removeStaticXFA : removeStaticXFADefault;
+        let resetMetadataDefault: any = false;
+        this.resetMetadata = typeof data?.resetMetadata !== "undefined" ? data?.resetMetadata : resetMetadataDefault;
+        let sourceIsZipDefault: any = false;
+        this.sourceIsZip = typeof data?.sourceIsZip !== "undefined" ? data?.sourceIsZip : sourceIsZipDefault;
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static getModeDefault(): MergeMode {
+        return "atTheEnd" as MergeMode;
+    }
+
+    public static getModeDescription(): string {
+        return "Defines the mode used to merge the PDF documents. The PDF document passed with the \"data\" element will be appended to the current PDF document or inserted at a specific point. The following modes define the position where the documents will be inserted. Instead of a single base document, the \"portfolio\" mode always expects a ZIP archive. The elements in this archive will be added, all with identical permissions, to the resulting portfolio (the data element is not required at all for \"portfolio\").\n\n*   atTheEnd = At the end of the PDF document\n*   atTheBeginning = At the beginning of the PDF document\n*   afterPage = After a page (please refer to the \"page\" attribute) in the PDF document\n*   beforePage = Before a page (please refer to the \"page\" attribute) in the PDF document";
+    }
+
+    public static getOutlineNameDefault(): string {
+        return "";
+    }
+
+    public static getOutlineNameDescription(): string {
+        return "Used to define the base path that should be used for outline nodes of the source document. This parameter can contain a slash separated path and should ideally end with the name of the document (\"A\/B\/filename\"). If this parameter is not set, all outlines will be appended to the root outline node.";
+    }
+
+    public static getPageDefault(): number {
+        return 1;
+    }
+
+    public static getPageDescription(): string {
+        return "Used to define the page number where the PDF document should be inserted.";
+    }
+
+    public static getPageMin(): number {
+        return 1;
+    }
+
+    public static getRemoveStaticXFADefault(): boolean {
+        return false;
+    }
+
+    public static getRemoveStaticXFADescription(): string {
+        return "If this parameter is enabled, all entries related to static XFA documents and all connected extended permission settings will be removed from the document. Using this parameter it is possible to merge static XFA documents with other documents, which is normally forbidden by default.\n\n**Important:** Although this parameter allows the merging of static XFA documents, this will not create a valid static XFA document as a result. All structures qualifying a document as a static XFA document will be removed. The resulting document will contain a pure Acroform and will not be recognized as a XFA form by applications for XFA creation\/editing. Also, all extended access\n\n*   and write permissions will be removed (That normally can expected to be found in a static XFA document).";
+    }
+
+    public static getResetMetadataDefault(): boolean {
+        return false;
+    }
+
+    public static getResetMetadataDescription(): string {
+        return "If you enable this parameter, the source document's metadata will be removed and replaced with default values.";
+    }
+
+    public static getSourceIsZipDefault(): boolean {
+        return false;
+    }
+
+    public static getSourceIsZipDescription(): string {
+        return "If this parameter is enabled, a ZIP archive\n\n*   containing the documents to merge - will be expected as the webservice's source document. Also - in that case, the \"data\" parameter is not required. The first element in the ZIP archive will be used as a base document to which all following entries will be appended.\n\n**Important:** The usage of this parameter is expected to be used for the \"portfolio\" mode. All the documents in the ZIP archive will be added to the portfolio receiving identical permission settings.";
+    }
+
+    public static fromJson(data: any): ToolboxMergeMerge {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxMergeMerge(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxMergeMerge> {
+        return ModelStream.decodeArray(source, ToolboxMergeMerge.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'data': this.data?.toJson(),
+            'mode': this.mode,
+            'outlineName': this.outlineName,
+            'page': this.page,
+            'removeStaticXFA': this.removeStaticXFA,
+            'resetMetadata': this.resetMetadata,
+            'sourceIsZip': this.sourceIsZip,
+        };
+    }
+
+    public clone(): ToolboxMergeMerge {
+        return ToolboxMergeMerge.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "data", data.data, MergeFileData.fromJson, MergeFileData) || changed;
+        changed = ModelAssignment.assignValue(this, "mode", typeof data?.mode !== "undefined" ? data?.mode : "atTheEnd") || changed;
+        changed = ModelAssignment.assignValue(this, "outlineName", typeof data?.outlineName !== "undefined" ? data?.outlineName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "page", typeof data?.page !== "undefined" ? data?.page : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "removeStaticXFA", typeof data?.removeStaticXFA !== "undefined" ? data?.removeStaticXFA : false) || changed;
+        changed = ModelAssignment.assignValue(this, "resetMetadata", typeof data?.resetMetadata !== "undefined" ? data?.resetMetadata : false) || changed;
+        changed = ModelAssignment.assignValue(this, "sourceIsZip", typeof data?.sourceIsZip !== "undefined" ? data?.sourceIsZip : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mode, other.mode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.outlineName, other.outlineName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.removeStaticXFA, other.removeStaticXFA)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.resetMetadata, other.resetMetadata)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sourceIsZip, other.sourceIsZip)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.data);
+        hash = ModelEquality.hash(hash, this.mode);
+        hash = ModelEquality.hash(hash, this.outlineName);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.removeStaticXFA);
+        hash = ModelEquality.hash(hash, this.resetMetadata);
+        hash = ModelEquality.hash(hash, this.sourceIsZip);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxMergeMerge(";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.outlineName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.removeStaticXFA) + ",";
+        fingerprint += ModelEquality.fingerprint(this.resetMetadata) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sourceIsZip) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
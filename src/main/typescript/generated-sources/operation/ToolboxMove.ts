@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ToolboxMoveMove,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxMoveInterface extends BaseToolboxInterface {
+
+    move?: ToolboxMoveMove;
+
+}
+export class ToolboxMove extends BaseToolbox implements ToolboxMoveInterface, Parameter {
+    move?: ToolboxMoveMove;
+
+    constructor(data: any) {
+        super(data);
+
+        this.move = ToolboxMoveMove.fromJson(data?.move);
+    }
+
+    public static getMoveDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxMove {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxMove(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxMove> {
+        return ModelStream.decodeArray(source, ToolboxMove.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'move': this.move?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxMove {
+        return ToolboxMove.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "move", data?.move, ToolboxMoveMove.fromJson, ToolboxMoveMove) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.move, other.move)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.move);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxMove(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.move) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+import {
+    ModelAssignment,
+    Order,
+    ModelStream,
+    Parameter,
+    MoveMode,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxMoveMoveInterface  {
+
+    /**
+    * Used to specify whether the selected page range should be inserted before or after the selected position in the document.  *   afterPage = After the selected position. *   beforePage = Before the selected position.
+    */
+    mode?: MoveMode;
+    /**
+    * Used to select the order of the selected pages at the new position.  *   preserve = Keeps the original order in which the pages were found in the document. *   reverse = Reverses the original order in which the pages were found in the document.
+    */
+    order?: Order;
+    /**
+    * Used to define which page(s) should be moved. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\").
+    */
+    pages?: string;
+    /**
+    * Used to select the page number after or before which the selected page range should be inserted. This page must not be part of the page range being moved.
+    */
+    targetPosition?: number;
+
+}
+export class ToolboxMoveMove implements ToolboxMoveMoveInterface, Parameter {
+    /**
+    * Used to specify whether the selected page range should be inserted before or after the selected position in the document.  *   afterPage = After the selected position. *   beforePage = Before the selected position.
+    */
+    mode?: MoveMode;
+    /**
+    * Used to select the order of the selected pages at the new position.  *   preserve = Keeps the original order in which the pages were found in the document. *   reverse = Reverses the original order in which the pages were found in the document.
+    */
+    order?: Order;
+    /**
+    * Used to define which page(s) should be moved. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\").
+    */
+    pages?: string;
+    /**
+    * Used to select the page number after or before which the selected page range should be inserted. This page must not be part of the page range being moved.
+    */
+    targetPosition?: number;
+
+    constructor(data: any) {
+        let modeDefault: any = "afterPage";
+        this.mode = typeof data?.mode !== "undefined" ? data?.mode : modeDefault;
+        let orderDefault: any = "preserve";
+        this.order = typeof data?.order !== "undefined" ? data?.order : orderDefault;
+        let pagesDefault: any = "1";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        let targetPositionDefault: any = 1;
+        this.targetPosition = typeof data?.targetPosition !== "undefined" ? data?.targetPosition : targetPositionDefault;
+    }
+
+    public static getModeDefault(): MoveMode {
+        return "afterPage" as MoveMode;
+    }
+
+    public static getModeDescription(): string {
+        return "Used to specify whether the selected page range should be inserted before or after the selected position in the document.\n\n*   afterPage = After the selected position.\n*   beforePage = Before the selected position.";
+    }
+
+    public static getOrderDefault(): Order {
+        return "preserve" as Order;
+    }
+
+    public static getOrderDescription(): string {
+        return "Used to select the order of the selected pages at the new position.\n\n*   preserve = Keeps the original order in which the pages were found in the document.\n*   reverse = Reverses the original order in which the pages were found in the document.";
+    }
+
+    public static getPagesDefault(): string {
+        return "1";
+    }
+
+    public static getPagesDescription(): string {
+        return "Used to define which page(s) should be moved. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\").";
+    }
+
+    public static getTargetPositionDefault(): number {
+        return 1;
+    }
+
+    public static getTargetPositionDescription(): string {
+        return "Used to select the page number after or before which the selected page range should be inserted. This page must not be part of the page range being moved.";
+    }
+
+    public static getTargetPositionMin(): number {
+        return 1;
+    }
+
+    public static fromJson(data: any): ToolboxMoveMove {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxMoveMove(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxMoveMove> {
+        return ModelStream.decodeArray(source, ToolboxMoveMove.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'mode': this.mode,
+            'order': this.order,
+            'pages': this.pages,
+            'targetPosition': this.targetPosition,
+        };
+    }
+
+    public clone(): ToolboxMoveMove {
+        return ToolboxMoveMove.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "mode", typeof data?.mode !== "undefined" ? data?.mode : "afterPage") || changed;
+        changed = ModelAssignment.assignValue(this, "order", typeof data?.order !== "undefined" ? data?.order : "preserve") || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "1") || changed;
+        changed = ModelAssignment.assignValue(this, "targetPosition", typeof data?.targetPosition !== "undefined" ? data?.targetPosition : 1) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mode, other.mode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.order, other.order)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.targetPosition, other.targetPosition)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.mode);
+        hash = ModelEquality.hash(hash, this.order);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.targetPosition);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxMoveMove(";
+        fingerprint += ModelEquality.fingerprint(this.mode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.order) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.targetPosition) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    ModelStream,
+    Billing,
+    Parameter,
+    ModelEquality,
+    PdfPassword,
+    Settings,
+} from "./../index";
+
+export interface ToolboxOperationInterface  {
+
+    billing?: Billing;
+    password?: PdfPassword;
+    settings?: Settings;
+    toolbox?: Array<BaseToolbox>;
+
+}
+export class ToolboxOperation implements ToolboxOperationInterface, Parameter {
+    billing?: Billing;
+    password?: PdfPassword;
+    settings?: Settings;
+    toolbox?: Array<BaseToolbox>;
+
+    constructor(data: any) {
+        this.billing = Billing.fromJson(data?.billing);
+        this.password = PdfPassword.fromJson(data?.password);
+        this.settings = Settings.fromJson(data?.settings);
+        this.toolbox = (data?.toolbox || []).map(
+            BaseToolbox.fromJson
+        );
+    }
+
+    public static getBillingDescription(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static getToolboxDefault(): Array<BaseToolbox> {
+        return [];
+    }
+
+    public static getToolboxDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxOperation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxOperation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxOperation> {
+        return ModelStream.decodeArray(source, ToolboxOperation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'billing': this.billing?.toJson(),
+            'password': this.password?.toJson(),
+            'settings': this.settings?.toJson(),
+            'toolbox': this.toolbox?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): ToolboxOperation {
+        return ToolboxOperation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "billing", data?.billing, Billing.fromJson, Billing) || changed;
+        changed = ModelAssignment.assignModel(this, "password", data?.password, PdfPassword.fromJson, PdfPassword) || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, Settings.fromJson, Settings) || changed;
+        changed = ModelAssignment.assignArray(this, "toolbox", data?.toolbox, BaseToolbox.fromJson) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.billing, other.billing)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.toolbox, other.toolbox)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.billing);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.settings);
+        hash = ModelEquality.hash(hash, this.toolbox);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxOperation(";
+        fingerprint += ModelEquality.fingerprint(this.billing) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        fingerprint += ModelEquality.fingerprint(this.toolbox) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ToolboxOptionsOptions,
+} from "./../index";
+
+export interface ToolboxOptionsInterface extends BaseToolboxInterface {
+
+    options?: ToolboxOptionsOptions;
+
+}
+export class ToolboxOptions extends BaseToolbox implements ToolboxOptionsInterface, Parameter {
+    options?: ToolboxOptionsOptions;
+
+    constructor(data: any) {
+        super(data);
+
+        this.options = ToolboxOptionsOptions.fromJson(data?.options);
+    }
+
+    public static getOptionsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxOptions {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxOptions(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxOptions> {
+        return ModelStream.decodeArray(source, ToolboxOptions.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'options': this.options?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxOptions {
+        return ToolboxOptions.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "options", data?.options, ToolboxOptionsOptions.fromJson, ToolboxOptionsOptions) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.options, other.options)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.options);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxOptions(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.options) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
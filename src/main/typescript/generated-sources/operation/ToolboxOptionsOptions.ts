@@ -0,0 +1,305 @@
+import {
+    ModelAssignment,
+    BackgroundToolboxOptions,
+    ModelStream,
+    PageLayout,
+    InitialView,
+    Parameter,
+    ViewerPreferences,
+    ModelEquality,
+    Magnification,
+    BoxesToolboxOptions,
+    HeaderFooterToolboxOptions,
+    PageTransitionsToolboxOptions,
+} from "./../index";
+
+export interface ToolboxOptionsOptionsInterface  {
+
+    background?: BackgroundToolboxOptions;
+    boxes?: BoxesToolboxOptions;
+    headerFooter?: HeaderFooterToolboxOptions;
+    /**
+    * Defines the page that will be shown when the document is opened.
+    */
+    initialPage?: number;
+    /**
+    * Defines which sub-windows will be opened when the PDF document is opened.  *   none = No special view *   outlines = Opens the \"Bookmarks\" tab *   thumbnails = Opens the \"Thumbnails\" tab *   fullscreen = Opens the document in full screen mode
+    */
+    initialView?: InitialView;
+    /**
+    * Specifies the language (and optionally the country) for the content of the document. The value is encoded as RFC 3066 (Tags for the Identification of Languages) and includes either the language only (e.g. \"de\") or the language and a country identifier (e.g. \"de-DE\").
+    */
+    language?: string;
+    /**
+    * Sets the zoom settings according to a defined mode.  *   none = Uses the application's default view *   fitWidth = Page width *   fitPage = Page dimensions *   fitHeight = Page height *   fitVisible = Page content width *   fitActual = Uses the original page dimensions (100% zoom factor) *   zoom = Sets an explicit magnification value
+    */
+    magnification?: Magnification;
+    /**
+    * Used to set the value for zooming.
+    */
+    magnificationZoom?: number;
+    /**
+    * Sets the page layout when the PDF document is opened.  *   singlePage = Individual pages *   singlePageContinous = Continuous individual pages *   twoPages = double pages starting with odd pages *   twoPagesRight = double pages starting with even pages *   twoPagesContinous = continuous double pages starting with odd pages *   twoPagesContinousRight = continuous double pages starting with even pages
+    */
+    pageLayout?: PageLayout;
+    pageTransitions?: PageTransitionsToolboxOptions;
+    viewerPreferences?: ViewerPreferences;
+
+}
+export class ToolboxOptionsOptions implements ToolboxOptionsOptionsInterface, Parameter {
+    background?: BackgroundToolboxOptions;
+    boxes?: BoxesToolboxOptions;
+    headerFooter?: HeaderFooterToolboxOptions;
+    /**
+    * Defines the page that will be shown when the document is opened.
+    */
+    initialPage?: number;
+    /**
+    * Defines which sub-windows will be opened when the PDF document is opened.  *   none = No special view *   outlines = Opens the \"Bookmarks\" tab *   thumbnails = Opens the \"Thumbnails\" tab *   fullscreen = Opens the document in full screen mode
+    */
+    initialView?: InitialView;
+    /**
+    * Specifies the language (and optionally the country) for the content of the document. The value is encoded as RFC 3066 (Tags for the Identification of Languages) and includes either the language only (e.g. \"de\") or the language and a country identifier (e.g. \"de-DE\").
+    */
+    language?: string;
+    /**
+    * Sets the zoom settings according to a defined mode.  *   none = Uses the application's default view *   fitWidth = Page width *   fitPage = Page dimensions *   fitHeight = Page height *   fitVisible = Page content width *   fitActual = Uses the original page dimensions (100% zoom factor) *   zoom = Sets an explicit magnification value
+    */
+    magnification?: Magnification;
+    /**
+    * Used to set the value for zooming.
+    */
+    magnificationZoom?: number;
+    /**
+    * Sets the page layout when the PDF document is opened.  *   singlePage = Individual pages *   singlePageContinous = Continuous individual pages *   twoPages = double pages starting with odd pages *   twoPagesRight = double pages starting with even pages *   twoPagesContinous = continuous double pages starting with odd pages *   twoPagesContinousRight = continuous double pages starting with even pages
+    */
+    pageLayout?: PageLayout;
+    pageTransitions?: PageTransitionsToolboxOptions;
+    viewerPreferences?: ViewerPreferences;
+
+    constructor(data: any) {
+        this.background = BackgroundToolboxOptions.fromJson(data?.background);
+        this.boxes = BoxesToolboxOptions.fromJson(data?.boxes);
+        this.headerFooter = HeaderFooterToolboxOptions.fromJson(data?.headerFooter);
+        let initialPageDefault: any = 1;
+        this.initialPage = typeof data?.initialPage !== "undefined" ? data?.initialPage : initialPageDefault;
+        let initialViewDefault: any = "none";
+        this.initialView = typeof data?.initialView !== "undefined" ? data?.initialView : initialViewDefault;
+        let languageDefault: any = "";
+        this.language = typeof data?.language !== "undefined" ? data?.language : languageDefault;
+        let magnificationDefault: any = "fitWidth";
+        this.magnification = typeof data?.magnification !== "undefined" ? data?.magnification : magnificationDefault;
+        let magnificationZoomDefault: any = 100;
+        this.magnificationZoom = typeof data?.magnificationZoom !== "undefined" ? data?.magnificationZoom : magnificationZoomDefault;
+        let pageLayoutDefault: any = "singlePage";
+        this.pageLayout = typeof data?.pageLayout !== "undefined" ? data?.pageLayout : pageLayoutDefault;
+        this.pageTransitions = PageTransitionsToolboxOptions.fromJson(data?.pageTransitions);
+        this.viewerPreferences = ViewerPreferences.fromJson(data?.viewerPreferences);
+    }
+
+    public static getBackgroundDescription(): string {
+        return "";
+    }
+
+    public static getBoxesDescription(): string {
+        return "";
+    }
+
+    public static getHeaderFooterDescription(): string {
+        return "";
+    }
+
+    public static getInitialPageDefault(): number {
+        return 1;
+    }
+
+    public static getInitialPageDescription(): string {
+        return "Defines the page that will be shown when the document is opened.";
+    }
+
+    public static getInitialPageMin(): number {
+        return 1;
+    }
+
+    public static getInitialViewDefault(): InitialView {
+        return "none" as InitialView;
+    }
+
+    public static getInitialViewDescription(): string {
+        return "Defines which sub-windows will be opened when the PDF document is opened.\n\n*   none = No special view\n*   outlines = Opens the \"Bookmarks\" tab\n*   thumbnails = Opens the \"Thumbnails\" tab\n*   fullscreen = Opens the document in full screen mode";
+    }
+
+    public static getLanguageDefault(): string {
+        return "";
+    }
+
+    public static getLanguageDescription(): string {
+        return "Specifies the language (and optionally the country) for the content of the document. The value is encoded as RFC 3066 (Tags for the Identification of Languages) and includes either the language only (e.g. \"de\") or the language and a country identifier (e.g. \"de-DE\").";
+    }
+
+    public static getMagnificationDefault(): Magnification {
+        return "fitWidth" as Magnification;
+    }
+
+    public static getMagnificationDescription(): string {
+        return "Sets the zoom settings according to a defined mode.\n\n*   none = Uses the application's default view\n*   fitWidth = Page width\n*   fitPage = Page dimensions\n*   fitHeight = Page height\n*   fitVisible = Page content width\n*   fitActual = Uses the original page dimensions (100% zoom factor)\n*   zoom = Sets an explicit magnification value";
+    }
+
+    public static getMagnificationZoomDefault(): number {
+        return 100;
+    }
+
+    public static getMagnificationZoomDescription(): string {
+        return "Used to set the value for zooming.";
+    }
+
+    public static getMagnificationZoomMin(): number {
+        return 0;
+    }
+
+    public static getMagnificationZoomMax(): number {
+        return 6400;
+    }
+
+    public static getPageLayoutDefault(): PageLayout {
+        return "singlePage" as PageLayout;
+    }
+
+    public static getPageLayoutDescription(): string {
+        return "Sets the page layout when the PDF document is opened.\n\n*   singlePage = Individual pages\n*   singlePageContinous = Continuous individual pages\n*   twoPages = double pages starting with odd pages\n*   twoPagesRight = double pages starting with even pages\n*   twoPagesContinous = continuous double pages starting with odd pages\n*   twoPagesContinousRight = continuous double pages starting with even pages";
+    }
+
+    public static getPageTransitionsDescription(): string {
+        return "";
+    }
+
+    public static getViewerPreferencesDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxOptionsOptions {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxOptionsOptions(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxOptionsOptions> {
+        return ModelStream.decodeArray(source, ToolboxOptionsOptions.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'background': this.background?.toJson(),
+            'boxes': this.boxes?.toJson(),
+            'headerFooter': this.headerFooter?.toJson(),
+            'initialPage': this.initialPage,
+            'initialView': this.initialView,
+            'language': this.language,
+            'magnification': this.magnification,
+            'magnificationZoom': this.magnificationZoom,
+            'pageLayout': this.pageLayout,
+            'pageTransitions': this.pageTransitions?.toJson(),
+            'viewerPreferences': this.viewerPreferences?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxOptionsOptions {
+        return ToolboxOptionsOptions.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "background", data?.background, BackgroundToolboxOptions.fromJson, BackgroundToolboxOptions) || changed;
+        changed = ModelAssignment.assignModel(this, "boxes", data?.boxes, BoxesToolboxOptions.fromJson, BoxesToolboxOptions) || changed;
+        changed = ModelAssignment.assignModel(this, "headerFooter", data?.headerFooter, HeaderFooterToolboxOptions.fromJson, HeaderFooterToolboxOptions) || changed;
+        changed = ModelAssignment.assignValue(this, "initialPage", typeof data?.initialPage !== "undefined" ? data?.initialPage : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "initialView", typeof data?.initialView !== "undefined" ? data?.initialView : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "language", typeof data?.language !== "undefined" ? data?.language : "") || changed;
+        changed = ModelAssignment.assignValue(this, "magnification", typeof data?.magnification !== "undefined" ? data?.magnification : "fitWidth") || changed;
+        changed = ModelAssignment.assignValue(this, "magnificationZoom", typeof data?.magnificationZoom !== "undefined" ? data?.magnificationZoom : 100) || changed;
+        changed = ModelAssignment.assignValue(this, "pageLayout", typeof data?.pageLayout !== "undefined" ? data?.pageLayout : "singlePage") || changed;
+        changed = ModelAssignment.assignModel(this, "pageTransitions", data?.pageTransitions, PageTransitionsToolboxOptions.fromJson, PageTransitionsToolboxOptions) || changed;
+        changed = ModelAssignment.assignModel(this, "viewerPreferences", data?.viewerPreferences, ViewerPreferences.fromJson, ViewerPreferences) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.background, other.background)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.boxes, other.boxes)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.headerFooter, other.headerFooter)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.initialPage, other.initialPage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.initialView, other.initialView)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.language, other.language)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.magnification, other.magnification)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.magnificationZoom, other.magnificationZoom)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pageLayout, other.pageLayout)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pageTransitions, other.pageTransitions)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.viewerPreferences, other.viewerPreferences)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.background);
+        hash = ModelEquality.hash(hash, this.boxes);
+        hash = ModelEquality.hash(hash, this.headerFooter);
+        hash = ModelEquality.hash(hash, this.initialPage);
+        hash = ModelEquality.hash(hash, this.initialView);
+        hash = ModelEquality.hash(hash, this.language);
+        hash = ModelEquality.hash(hash, this.magnification);
+        hash = ModelEquality.hash(hash, this.magnificationZoom);
+        hash = ModelEquality.hash(hash, this.pageLayout);
+        hash = ModelEquality.hash(hash, this.pageTransitions);
+        hash = ModelEquality.hash(hash, this.viewerPreferences);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxOptionsOptions(";
+        fingerprint += ModelEquality.fingerprint(this.background) + ",";
+        fingerprint += ModelEquality.fingerprint(this.boxes) + ",";
+        fingerprint += ModelEquality.fingerprint(this.headerFooter) + ",";
+        fingerprint += ModelEquality.fingerprint(this.initialPage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.initialView) + ",";
+        fingerprint += ModelEquality.fingerprint(this.language) + ",";
+        fingerprint += ModelEquality.fingerprint(this.magnification) + ",";
+        fingerprint += ModelEquality.fingerprint(this.magnificationZoom) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pageLayout) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pageTransitions) + ",";
+        fingerprint += ModelEquality.fingerprint(this.viewerPreferences) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
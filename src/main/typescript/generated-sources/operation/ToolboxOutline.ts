@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ToolboxOutlineOutline,
+} from "./../index";
+
+export interface ToolboxOutlineInterface extends BaseToolboxInterface {
+
+    outline?: ToolboxOutlineOutline;
+
+}
+export class ToolboxOutline extends BaseToolbox implements ToolboxOutlineInterface, Parameter {
+    outline?: ToolboxOutlineOutline;
+
+    constructor(data: any) {
+        super(data);
+
+        this.outline = ToolboxOutlineOutline.fromJson(data?.outline);
+    }
+
+    public static getOutlineDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxOutline {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxOutline(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxOutline> {
+        return ModelStream.decodeArray(source, ToolboxOutline.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'outline': this.outline?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxOutline {
+        return ToolboxOutline.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "outline", data?.outline, ToolboxOutlineOutline.fromJson, ToolboxOutlineOutline) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.outline, other.outline)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.outline);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxOutline(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.outline) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
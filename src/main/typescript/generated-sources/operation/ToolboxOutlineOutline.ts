@@ -0,0 +1,110 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    AddToolboxOutline,
+    Parameter,
+    RemoveToolboxOutline,
+    ModelEquality,
+    Clear,
+} from "./../index";
+
+export interface ToolboxOutlineOutlineInterface  {
+
+    add?: AddToolboxOutline;
+    clear?: Clear;
+    remove?: RemoveToolboxOutline;
+
+}
+export class ToolboxOutlineOutline implements ToolboxOutlineOutlineInterface, Parameter {
+    add?: AddToolboxOutline;
+    clear?: Clear;
+    remove?: RemoveToolboxOutline;
+
+    constructor(data: any) {
+        this.add = AddToolboxOutline.fromJson(data?.add);
+        this.clear = Clear.fromJson(data?.clear);
+        this.remove = RemoveToolboxOutline.fromJson(data?.remove);
+    }
+
+    public static getAddDescription(): string {
+        return "";
+    }
+
+    public static getClearDescription(): string {
+        return "";
+    }
+
+    public static getRemoveDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxOutlineOutline {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxOutlineOutline(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxOutlineOutline> {
+        return ModelStream.decodeArray(source, ToolboxOutlineOutline.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'add': this.add?.toJson(),
+            'clear': this.clear?.toJson(),
+            'remove': this.remove?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxOutlineOutline {
+        return ToolboxOutlineOutline.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "add", data?.add, AddToolboxOutline.fromJson, AddToolboxOutline) || changed;
+        changed = ModelAssignment.assignModel(this, "clear", data?.clear, Clear.fromJson, Clear) || changed;
+        changed = ModelAssignment.assignModel(this, "remove", data?.remove, RemoveToolboxOutline.fromJson, RemoveToolboxOutline) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.add, other.add)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.clear, other.clear)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.remove, other.remove)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.add);
+        hash = ModelEquality.hash(hash, this.clear);
+        hash = ModelEquality.hash(hash, this.remove);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxOutlineOutline(";
+        fingerprint += ModelEquality.fingerprint(this.add) + ",";
+        fingerprint += ModelEquality.fingerprint(this.clear) + ",";
+        fingerprint += ModelEquality.fingerprint(this.remove) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
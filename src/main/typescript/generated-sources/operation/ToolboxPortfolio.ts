@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ToolboxPortfolioPortfolio,
+} from "./../index";
+
+export interface ToolboxPortfolioInterface extends BaseToolboxInterface {
+
+    portfolio?: ToolboxPortfolioPortfolio;
+
+}
+export class ToolboxPortfolio extends BaseToolbox implements ToolboxPortfolioInterface, Parameter {
+    portfolio?: ToolboxPortfolioPortfolio;
+
+    constructor(data: any) {
+        super(data);
+
+        this.portfolio = ToolboxPortfolioPortfolio.fromJson(data?.portfolio);
+    }
+
+    public static getPortfolioDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxPortfolio {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxPortfolio(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxPortfolio> {
+        return ModelStream.decodeArray(source, ToolboxPortfolio.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'portfolio': this.portfolio?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxPortfolio {
+        return ToolboxPortfolio.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "portfolio", data?.portfolio, ToolboxPortfolioPortfolio.fromJson, ToolboxPortfolioPortfolio) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.portfolio, other.portfolio)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.portfolio);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxPortfolio(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.portfolio) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+import {
+    ModelAssignment,
+    PortfolioRemove,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    PortfolioAdd,
+    PortfolioExtract,
+} from "./../index";
+
+export interface ToolboxPortfolioPortfolioInterface  {
+
+    add?: PortfolioAdd;
+    extract?: PortfolioExtract;
+    remove?: PortfolioRemove;
+
+}
+export class ToolboxPortfolioPortfolio implements ToolboxPortfolioPortfolioInterface, Parameter {
+    add?: PortfolioAdd;
+    extract?: PortfolioExtract;
+    remove?: PortfolioRemove;
+
+    constructor(data: any) {
+        this.add = PortfolioAdd.fromJson(data?.add);
+        this.extract = PortfolioExtract.fromJson(data?.extract);
+        this.remove = PortfolioRemove.fromJson(data?.remove);
+    }
+
+    public static getAddDescription(): string {
+        return "";
+    }
+
+    public static getExtractDescription(): string {
+        return "";
+    }
+
+    public static getRemoveDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxPortfolioPortfolio {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxPortfolioPortfolio(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxPortfolioPortfolio> {
+        return ModelStream.decodeArray(source, ToolboxPortfolioPortfolio.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'add': this.add?.toJson(),
+            'extract': this.extract?.toJson(),
+            'remove': this.remove?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxPortfolioPortfolio {
+        return ToolboxPortfolioPortfolio.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "add", data?.add, PortfolioAdd.fromJson, PortfolioAdd) || changed;
+        changed = ModelAssignment.assignModel(this, "extract", data?.extract, PortfolioExtract.fromJson, PortfolioExtract) || changed;
+        changed = ModelAssignment.assignModel(this, "remove", data?.remove, PortfolioRemove.fromJson, PortfolioRemove) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.add, other.add)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.extract, other.extract)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.remove, other.remove)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.add);
+        hash = ModelEquality.hash(hash, this.extract);
+        hash = ModelEquality.hash(hash, this.remove);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxPortfolioPortfolio(";
+        fingerprint += ModelEquality.fingerprint(this.add) + ",";
+        fingerprint += ModelEquality.fingerprint(this.extract) + ",";
+        fingerprint += ModelEquality.fingerprint(this.remove) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ToolboxPrintPrint,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxPrintInterface extends BaseToolboxInterface {
+
+    print?: ToolboxPrintPrint;
+
+}
+export class ToolboxPrint extends BaseToolbox implements ToolboxPrintInterface, Parameter {
+    print?: ToolboxPrintPrint;
+
+    constructor(data: any) {
+        super(data);
+
+        this.print = ToolboxPrintPrint.fromJson(data?.print);
+    }
+
+    public static getPrintDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxPrint {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxPrint(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxPrint> {
+        return ModelStream.decodeArray(source, ToolboxPrint.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'print': this.print?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxPrint {
+        return ToolboxPrint.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "print", data?.print, ToolboxPrintPrint.fromJson, ToolboxPrintPrint) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.print, other.print)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.print);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxPrint(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.print) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,320 @@
+import {
+    ModelAssignment,
+    PrintMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxPrintPrintInterface  {
+
+    /**
+    * If \"true,\" the PDF document's orientation will be automatically adjusted in line with the printer's configured paper orientation.
+    */
+    autoRotate?: boolean;
+    /**
+    * If \"true\", the PDF page will be centered in the middle of the paper.
+    */
+    centerInPage?: boolean;
+    /**
+    * Defines the number of copies that should be printed.
+    */
+    copies?: number;
+    /**
+    * Sets the printer resolution for the \"image\" print mode. If this value is set to 0, the document will be printed, using a resolution suggested by the printer. (High resolutions will lead to better quality results, but will tremendously increase the required time and resources.)
+    */
+    dpi?: number;
+    /**
+    * If \"true,\" any PDF page that is smaller than the paper will be enlarged to fit the paper size.
+    */
+    expandToMargins?: boolean;
+    /**
+    * This attribute is used to define the name of the print job (as shown in the Print Spooler in Windows, for example).
+    */
+    jobName?: string;
+    /**
+    * Select the printing mode, that shall be used.  *   default = The drawing operations are applied to the printout as defined in the PDF document. *   image = Creates an image of a fixed resolution for every page of the document, to guarantee a uniform printing result. *   raster = Every page of the document is rastered before printing. This is a compatibility mode for older printers.
+    */
+    mode?: PrintMode;
+    /**
+    * Defines which page(s) should be printed. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").
+    */
+    pages?: string;
+    /**
+    * This attribute is used to specify the name of the printer that should be used to print the PDF document. If a printer is not declared, then the system's default printer will be used for printing.
+    */
+    printerName?: string;
+    /**
+    * If \"true,\" any PDF page that is larger than the paper will be shrunk to fit the paper size.
+    */
+    shrinkToMargins?: boolean;
+
+}
+export class ToolboxPrintPrint implements ToolboxPrintPrintInterface, Parameter {
+    /**
+    * If \"true,\" the PDF document's orientation will be automatically adjusted in line with the printer's configured paper orientation.
+    */
+    autoRotate?: boolean;
+    /**
+    * If \"true\", the PDF page will be centered in the middle of the paper.
+    */
+    centerInPage?: boolean;
+    /**
+    * Defines the number of copies that should be printed.
+    */
+    copies?: number;
+    /**
+    * Sets the printer resolution for the \"image\" print mode. If this value is set to 0, the document will be printed, using a resolution suggested by the printer. (High resolutions will lead to better quality results, but will tremendously increase the required time and resources.)
+    */
+    dpi?: number;
+    /**
+    * If \"true,\" any PDF page that is smaller than the paper will be enlarged to fit the paper size.
+    */
+    expandToMargins?: boolean;
+    /**
+    * This attribute is used to define the name of the print job (as shown in the Print Spooler in Windows, for example).
+    */
+    jobName?: string;
+    /**
+    * Select the printing mode, that shall be used.  *   default = The drawing operations are applied to the printout as defined in the PDF document. *   image = Creates an image of a fixed resolution for every page of the document, to guarantee a uniform printing result. *   raster = Every page of the document is rastered before printing. This is a compatibility mode for older printers.
+    */
+    mode?: PrintMode;
+    /**
+    * Defines which page(s) should be printed. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").
+    */
+    pages?: string;
+    /**
+    * This attribute is used to specify the name of the printer that should be used to print the PDF document. If a printer is not declared, then the system's default printer will be used for printing.
+    */
+    printerName?: string;
+    /**
+    * If \"true,\" any PDF page that is larger than the paper will be shrunk to fit the paper size.
+    */
+    shrinkToMargins?: boolean;
+
+    constructor(data: any) {
+        let autoRotateDefault: any = true;
+        this.autoRotate = typeof data?.autoRotate !== "undefined" ? data?.autoRotate : autoRotateDefault;
+        let centerInPageDefault: any = false;
+        this.centerInPage = typeof data?.centerInPage !== "undefined" ? data?.centerInPage : centerInPageDefault;
+        let copiesDefault: any = 1;
+        this.copies = typeof data?.copies !== "undefined" ? data?.copies : copiesDefault;
+        let dpiDefault: any = 0;
+        this.dpi = typeof data?.dpi !== "undefined" ? data?.dpi : dpiDefault;
+        let expandToMarginsDefault: any = false;
+        this.expandToMargins = typeof data?.expandToMargins !== "undefined" ? data?.expandToMargins : expandToMarginsDefault;
+        let jobNameDefault: any = "webPDF Print Job";
+        this.jobName = typeof data?.jobName !== "undefined" ? data?.jobName : jobNameDefault;
+        let modeDefault: any = "default";
+        this.mode = typeof data?.mode !== "undefined" ? data?.mode : modeDefault;
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        let printerNameDefault: any = "";
+        this.printerName = typeof data?.printerName !== "undefined" ? data?.printerName : printerNameDefault;
+        let shrinkToMarginsDefault: any = false;
+        this.shrinkToMargins = typeof data?.shrinkToMargins !== "undefined" ? data?.shrinkToMargins : shrinkToMarginsDefault;
+    }
+
+    public static getAutoRotateDefault(): boolean {
+        return true;
+    }
+
+    public static getAutoRotateDescription(): string {
+        return "If \"true,\" the PDF document's orientation will be automatically adjusted in line with the printer's configured paper orientation.";
+    }
+
+    public static getCenterInPageDefault(): boolean {
+        return false;
+    }
+
+    public static getCenterInPageDescription(): string {
+        return "If \"true\", the PDF page will be centered in the middle of the paper.";
+    }
+
+    public static getCopiesDefault(): number {
+        return 1;
+    }
+
+    public static getCopiesDescription(): string {
+        return "Defines the number of copies that should be printed.";
+    }
+
+    public static getCopiesMin(): number {
+        return 1;
+    }
+
+    public static getDpiDefault(): number {
+        return 0;
+    }
+
+    public static getDpiDescription(): string {
+        return "Sets the printer resolution for the \"image\" print mode. If this value is set to 0, the document will be printed, using a resolution suggested by the printer. (High resolutions will lead to better quality results, but will tremendously increase the required time and resources.)";
+    }
+
+    public static getExpandToMarginsDefault(): boolean {
+        return false;
+    }
+
+    public static getExpandToMarginsDescription(): string {
+        return "If \"true,\" any PDF page that is smaller than the paper will be enlarged to fit the paper size.";
+    }
+
+    public static getJobNameDefault(): string {
+        return "webPDF Print Job";
+    }
+
+    public static getJobNameDescription(): string {
+        return "This attribute is used to define the name of the print job (as shown in the Print Spooler in Windows, for example).";
+    }
+
+    public static getModeDefault(): PrintMode {
+        return "default" as PrintMode;
+    }
+
+    public static getModeDescription(): string {
+        return "Select the printing mode, that shall be used.\n\n*   default = The drawing operations are applied to the printout as defined in the PDF document.\n*   image = Creates an image of a fixed resolution for every page of the document, to guarantee a uniform printing result.\n*   raster = Every page of the document is rastered before printing. This is a compatibility mode for older printers.";
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "Defines which page(s) should be printed. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").";
+    }
+
+    public static getPrinterNameDefault(): string {
+        return "";
+    }
+
+    public static getPrinterNameDescription(): string {
+        return "This attribute is used to specify the name of the printer that should be used to print the PDF document. If a printer is not declared, then the system's default printer will be used for printing.";
+    }
+
+    public static getShrinkToMarginsDefault(): boolean {
+        return false;
+    }
+
+    public static getShrinkToMarginsDescription(): string {
+        return "If \"true,\" any PDF page that is larger than the paper will be shrunk to fit the paper size.";
+    }
+
+    public static fromJson(data: any): ToolboxPrintPrint {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxPrintPrint(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxPrintPrint> {
+        return ModelStream.decodeArray(source, ToolboxPrintPrint.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'autoRotate': this.autoRotate,
+            'centerInPage': this.centerInPage,
+            'copies': this.copies,
+            'dpi': this.dpi,
+            'expandToMargins': this.expandToMargins,
+            'jobName': this.jobName,
+            'mode': this.mode,
+            'pages': this.pages,
+            'printerName': this.printerName,
+            'shrinkToMargins': this.shrinkToMargins,
+        };
+    }
+
+    public clone(): ToolboxPrintPrint {
+        return ToolboxPrintPrint.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "autoRotate", typeof data?.autoRotate !== "undefined" ? data?.autoRotate : true) || changed;
+        changed = ModelAssignment.assignValue(this, "centerInPage", typeof data?.centerInPage !== "undefined" ? data?.centerInPage : false) || changed;
+        changed = ModelAssignment.assignValue(this, "copies", typeof data?.copies !== "undefined" ? data?.copies : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "dpi", typeof data?.dpi !== "undefined" ? data?.dpi : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "expandToMargins", typeof data?.expandToMargins !== "undefined" ? data?.expandToMargins : false) || changed;
+        changed = ModelAssignment.assignValue(this, "jobName", typeof data?.jobName !== "undefined" ? data?.jobName : "webPDF Print Job") || changed;
+        changed = ModelAssignment.assignValue(this, "mode", typeof data?.mode !== "undefined" ? data?.mode : "default") || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        changed = ModelAssignment.assignValue(this, "printerName", typeof data?.printerName !== "undefined" ? data?.printerName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "shrinkToMargins", typeof data?.shrinkToMargins !== "undefined" ? data?.shrinkToMargins : false) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.autoRotate, other.autoRotate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.centerInPage, other.centerInPage)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.copies, other.copies)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dpi, other.dpi)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.expandToMargins, other.expandToMargins)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.jobName, other.jobName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mode, other.mode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printerName, other.printerName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.shrinkToMargins, other.shrinkToMargins)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.autoRotate);
+        hash = ModelEquality.hash(hash, this.centerInPage);
+        hash = ModelEquality.hash(hash, this.copies);
+        hash = ModelEquality.hash(hash, this.dpi);
+        hash = ModelEquality.hash(hash, this.expandToMargins);
+        hash = ModelEquality.hash(hash, this.jobName);
+        hash = ModelEquality.hash(hash, this.mode);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.printerName);
+        hash = ModelEquality.hash(hash, this.shrinkToMargins);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxPrintPrint(";
+        fingerprint += ModelEquality.fingerprint(this.autoRotate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.centerInPage) + ",";
+        fingerprint += ModelEquality.fingerprint(this.copies) + ",";
+        fingerprint += ModelEquality.fingerprint(this.dpi) + ",";
+        fingerprint += ModelEquality.fingerprint(this.expandToMargins) + ",";
+        fingerprint += ModelEquality.fingerprint(this.jobName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printerName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.shrinkToMargins) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
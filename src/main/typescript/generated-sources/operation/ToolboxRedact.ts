@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ToolboxRedactRedact,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxRedactInterface extends BaseToolboxInterface {
+
+    redact?: ToolboxRedactRedact;
+
+}
+export class ToolboxRedact extends BaseToolbox implements ToolboxRedactInterface, Parameter {
+    redact?: ToolboxRedactRedact;
+
+    constructor(data: any) {
+        super(data);
+
+        this.redact = ToolboxRedactRedact.fromJson(data?.redact);
+    }
+
+    public static getRedactDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxRedact {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxRedact(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxRedact> {
+        return ModelStream.decodeArray(source, ToolboxRedact.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'redact': this.redact?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxRedact {
+        return ToolboxRedact.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "redact", data?.redact, ToolboxRedactRedact.fromJson, ToolboxRedactRedact) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.redact, other.redact)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.redact);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxRedact(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.redact) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
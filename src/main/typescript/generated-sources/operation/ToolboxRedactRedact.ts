@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    Blacken,
+    ModelStream,
+    Sanitize,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxRedactRedactInterface  {
+
+    blacken?: Blacken;
+    sanitize?: Sanitize;
+
+}
+export class ToolboxRedactRedact implements ToolboxRedactRedactInterface, Parameter {
+    blacken?: Blacken;
+    sanitize?: Sanitize;
+
+    constructor(data: any) {
+        this.blacken = Blacken.fromJson(data?.blacken);
+        this.sanitize = Sanitize.fromJson(data?.sanitize);
+    }
+
+    public static getBlackenDescription(): string {
+        return "";
+    }
+
+    public static getSanitizeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxRedactRedact {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxRedactRedact(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxRedactRedact> {
+        return ModelStream.decodeArray(source, ToolboxRedactRedact.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'blacken': this.blacken?.toJson(),
+            'sanitize': this.sanitize?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxRedactRedact {
+        return ToolboxRedactRedact.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "blacken", data?.blacken, Blacken.fromJson, Blacken) || changed;
+        changed = ModelAssignment.assignModel(this, "sanitize", data?.sanitize, Sanitize.fromJson, Sanitize) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.blacken, other.blacken)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.sanitize, other.sanitize)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.blacken);
+        hash = ModelEquality.hash(hash, this.sanitize);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxRedactRedact(";
+        fingerprint += ModelEquality.fingerprint(this.blacken) + ",";
+        fingerprint += ModelEquality.fingerprint(this.sanitize) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    ToolboxRotateRotate,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxRotateInterface extends BaseToolboxInterface {
+
+    rotate?: ToolboxRotateRotate;
+
+}
+export class ToolboxRotate extends BaseToolbox implements ToolboxRotateInterface, Parameter {
+    rotate?: ToolboxRotateRotate;
+
+    constructor(data: any) {
+        super(data);
+
+        this.rotate = ToolboxRotateRotate.fromJson(data?.rotate);
+    }
+
+    public static getRotateDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxRotate {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxRotate(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxRotate> {
+        return ModelStream.decodeArray(source, ToolboxRotate.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'rotate': this.rotate?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxRotate {
+        return ToolboxRotate.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "rotate", data?.rotate, ToolboxRotateRotate.fromJson, ToolboxRotateRotate) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.rotate, other.rotate)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.rotate);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxRotate(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.rotate) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
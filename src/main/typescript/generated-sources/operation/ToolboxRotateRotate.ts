@@ -0,0 +1,201 @@
+import {
+    ModelAssignment,
+    PageOrientation,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    OrientationDetection,
+    PageGroup,
+} from "./../index";
+
+export interface ToolboxRotateRotateInterface  {
+
+    /**
+    * Used to specify the clockwise rotation in degrees. The rotation is always in 90-degree increments (0, 90, 180, 270, 360). Deviating values will always be rounded down to the next lower increment (e.g.: 32 degrees will become 0 degrees and 101 degrees will become 90 degrees). Once the rotation is completed, the new value will be normalized to a range of 0 to 359 degrees. If the page being rotated has an impermissible value (e.g. 112 degrees), this value will be adjusted before the rotation operation as well (112 degrees will become 90 degrees).
+    */
+    degrees?: number;
+    /**
+    * Selects which criteria to use to determine the orientation (portrait/landscape) of pages (see also \"pageOrientation\"):  *   value = Based solely on the page rotation value entered in the PDF. *   dimensions = Based on the ratio of the page dimensions to each other.
+    */
+    orientationDetectMode?: OrientationDetection;
+    /**
+    * Used to select pages based on their page number within the specified page range:  *   all = All pages *   even = All pages with an even page number *   odd = All pages with an odd page number
+    */
+    pageGroup?: PageGroup;
+    /**
+    * Used to select pages based on their orientation within the specified page range:  *   any = All pages *   portrait = All pages in portrait format *   landscape = All pages in landscape format
+    */
+    pageOrientation?: PageOrientation;
+    /**
+    * Defines which page(s) should be rotated. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").
+    */
+    pages?: string;
+
+}
+export class ToolboxRotateRotate implements ToolboxRotateRotateInterface, Parameter {
+    /**
+    * Used to specify the clockwise rotation in degrees. The rotation is always in 90-degree increments (0, 90, 180, 270, 360). Deviating values will always be rounded down to the next lower increment (e.g.: 32 degrees will become 0 degrees and 101 degrees will become 90 degrees). Once the rotation is completed, the new value will be normalized to a range of 0 to 359 degrees. If the page being rotated has an impermissible value (e.g. 112 degrees), this value will be adjusted before the rotation operation as well (112 degrees will become 90 degrees).
+    */
+    degrees?: number;
+    /**
+    * Selects which criteria to use to determine the orientation (portrait/landscape) of pages (see also \"pageOrientation\"):  *   value = Based solely on the page rotation value entered in the PDF. *   dimensions = Based on the ratio of the page dimensions to each other.
+    */
+    orientationDetectMode?: OrientationDetection;
+    /**
+    * Used to select pages based on their page number within the specified page range:  *   all = All pages *   even = All pages with an even page number *   odd = All pages with an odd page number
+    */
+    pageGroup?: PageGroup;
+    /**
+    * Used to select pages based on their orientation within the specified page range:  *   any = All pages *   portrait = All pages in portrait format *   landscape = All pages in landscape format
+    */
+    pageOrientation?: PageOrientation;
+    /**
+    * Defines which page(s) should be rotated. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").
+    */
+    pages?: string;
+
+    constructor(data: any) {
+        let degreesDefault: any = 90;
+        this.degrees = typeof data?.degrees !== "undefined" ? data?.degrees : degreesDefault;
+        let orientationDetectModeDefault: any = "value";
+        this.orientationDetectMode = typeof data?.orientationDetectMode !== "undefined" ? data?.orientationDetectMode : orientationDetectModeDefault;
+        let pageGroupDefault: any = "all";
+        this.pageGroup = typeof data?.pageGroup !== "undefined" ? data?.pageGroup : pageGroupDefault;
+        let pageOrientationDefault: any = "any";
+        this.pageOrientation = typeof data?.pageOrientation !== "undefined" ? data?.pageOrientation : pageOrientationDefault;
+        let pagesDefault: any = "1";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+    }
+
+    public static getDegreesDefault(): number {
+        return 90;
+    }
+
+    public static getDegreesDescription(): string {
+        return "Used to specify the clockwise rotation in degrees. The rotation is always in 90-degree increments (0, 90, 180, 270, 360). Deviating values will always be rounded down to the next lower increment (e.g.: 32 degrees will become 0 degrees and 101 degrees will become 90 degrees). Once the rotation is completed, the new value will be normalized to a range of 0 to 359 degrees. If the page being rotated has an impermissible value (e.g. 112 degrees), this value will be adjusted before the rotation operation as well (112 degrees will become 90 degrees).";
+    }
+
+    public static getDegreesMin(): number {
+        return 0;
+    }
+
+    public static getDegreesMax(): number {
+        return 360;
+    }
+
+    public static getOrientationDetectModeDefault(): OrientationDetection {
+        return "value" as OrientationDetection;
+    }
+
+    public static getOrientationDetectModeDescription(): string {
+        return "Selects which criteria to use to determine the orientation (portrait\/landscape) of pages (see also \"pageOrientation\"):\n\n*   value = Based solely on the page rotation value entered in the PDF.\n*   dimensions = Based on the ratio of the page dimensions to each other.";
+    }
+
+    public static getPageGroupDefault(): PageGroup {
+        return "all" as PageGroup;
+    }
+
+    public static getPageGroupDescription(): string {
+        return "Used to select pages based on their page number within the specified page range:\n\n*   all = All pages\n*   even = All pages with an even page number\n*   odd = All pages with an odd page number";
+    }
+
+    public static getPageOrientationDefault(): PageOrientation {
+        return "any" as PageOrientation;
+    }
+
+    public static getPageOrientationDescription(): string {
+        return "Used to select pages based on their orientation within the specified page range:\n\n*   any = All pages\n*   portrait = All pages in portrait format\n*   landscape = All pages in landscape format";
+    }
+
+    public static getPagesDefault(): string {
+        return "1";
+    }
+
+    public static getPagesDescription(): string {
+        return "Defines which page(s) should be rotated. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). To specify \"all pages,\" use an asterisk (\"\\*\").";
+    }
+
+    public static fromJson(data: any): ToolboxRotateRotate {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxRotateRotate(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxRotateRotate> {
+        return ModelStream.decodeArray(source, ToolboxRotateRotate.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'degrees': this.degrees,
+            'orientationDetectMode': this.orientationDetectMode,
+            'pageGroup': this.pageGroup,
+            'pageOrientation': this.pageOrientation,
+            'pages': this.pages,
+        };
+    }
+
+    public clone(): ToolboxRotateRotate {
+        return ToolboxRotateRotate.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "degrees", typeof data?.degrees !== "undefined" ? data?.degrees : 90) || changed;
+        changed = ModelAssignment.assignValue(this, "orientationDetectMode", typeof data?.orientationDetectMode !== "undefined" ? data?.orientationDetectMode : "value") || changed;
+        changed = ModelAssignment.assignValue(this, "pageGroup", typeof data?.pageGroup !== "undefined" ? data?.pageGroup : "all") || changed;
+        changed = ModelAssignment.assignValue(this, "pageOrientation", typeof data?.pageOrientation !== "undefined" ? data?.pageOrientation : "any") || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "1") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.degrees, other.degrees)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.orientationDetectMode, other.orientationDetectMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pageGroup, other.pageGroup)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pageOrientation, other.pageOrientation)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.degrees);
+        hash = ModelEquality.hash(hash, this.orientationDetectMode);
+        hash = ModelEquality.hash(hash, this.pageGroup);
+        hash = ModelEquality.hash(hash, this.pageOrientation);
+        hash = ModelEquality.hash(hash, this.pages);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxRotateRotate(";
+        fingerprint += ModelEquality.fingerprint(this.degrees) + ",";
+        fingerprint += ModelEquality.fingerprint(this.orientationDetectMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pageGroup) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pageOrientation) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
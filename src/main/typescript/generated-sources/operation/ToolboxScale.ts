@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ToolboxScaleScale,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxScaleInterface extends BaseToolboxInterface {
+
+    scale?: ToolboxScaleScale;
+
+}
+export class ToolboxScale extends BaseToolbox implements ToolboxScaleInterface, Parameter {
+    scale?: ToolboxScaleScale;
+
+    constructor(data: any) {
+        super(data);
+
+        this.scale = ToolboxScaleScale.fromJson(data?.scale);
+    }
+
+    public static getScaleDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxScale {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxScale(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxScale> {
+        return ModelStream.decodeArray(source, ToolboxScale.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'scale': this.scale?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxScale {
+        return ToolboxScale.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "scale", data?.scale, ToolboxScaleScale.fromJson, ToolboxScaleScale) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scale, other.scale)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.scale);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxScale(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.scale) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
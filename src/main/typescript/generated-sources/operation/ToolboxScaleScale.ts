@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ScalePagesToolboxScale,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxScaleScaleInterface  {
+
+    scalePages?: ScalePagesToolboxScale;
+
+}
+export class ToolboxScaleScale implements ToolboxScaleScaleInterface, Parameter {
+    scalePages?: ScalePagesToolboxScale;
+
+    constructor(data: any) {
+        this.scalePages = ScalePagesToolboxScale.fromJson(data?.scalePages);
+    }
+
+    public static getScalePagesDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxScaleScale {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxScaleScale(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxScaleScale> {
+        return ModelStream.decodeArray(source, ToolboxScaleScale.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'scalePages': this.scalePages?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxScaleScale {
+        return ToolboxScaleScale.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "scalePages", data?.scalePages, ScalePagesToolboxScale.fromJson, ScalePagesToolboxScale) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scalePages, other.scalePages)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.scalePages);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxScaleScale(";
+        fingerprint += ModelEquality.fingerprint(this.scalePages) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
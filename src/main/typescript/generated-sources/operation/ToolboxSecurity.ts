@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    ToolboxSecuritySecurity,
+} from "./../index";
+
+export interface ToolboxSecurityInterface extends BaseToolboxInterface {
+
+    security?: ToolboxSecuritySecurity;
+
+}
+export class ToolboxSecurity extends BaseToolbox implements ToolboxSecurityInterface, Parameter {
+    security?: ToolboxSecuritySecurity;
+
+    constructor(data: any) {
+        super(data);
+
+        this.security = ToolboxSecuritySecurity.fromJson(data?.security);
+    }
+
+    public static getSecurityDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxSecurity {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxSecurity(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxSecurity> {
+        return ModelStream.decodeArray(source, ToolboxSecurity.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'security': this.security?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxSecurity {
+        return ToolboxSecurity.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "security", data?.security, ToolboxSecuritySecurity.fromJson, ToolboxSecuritySecurity) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.security, other.security)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.security);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxSecurity(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.security) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+import {
+    ModelAssignment,
+    Decrypt,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+    Encrypt,
+    EncryptCertificate,
+} from "./../index";
+
+export interface ToolboxSecuritySecurityInterface  {
+
+    decrypt?: Decrypt;
+    encrypt?: Encrypt;
+    encryptCertificate?: EncryptCertificate;
+
+}
+export class ToolboxSecuritySecurity implements ToolboxSecuritySecurityInterface, Parameter {
+    decrypt?: Decrypt;
+    encrypt?: Encrypt;
+    encryptCertificate?: EncryptCertificate;
+
+    constructor(data: any) {
+        this.decrypt = Decrypt.fromJson(data?.decrypt);
+        this.encrypt = Encrypt.fromJson(data?.encrypt);
+        this.encryptCertificate = EncryptCertificate.fromJson(data?.encryptCertificate);
+    }
+
+    public static getDecryptDescription(): string {
+        return "";
+    }
+
+    public static getEncryptDescription(): string {
+        return "";
+    }
+
+    public static getEncryptCertificateDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxSecuritySecurity {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxSecuritySecurity(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxSecuritySecurity> {
+        return ModelStream.decodeArray(source, ToolboxSecuritySecurity.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'decrypt': this.decrypt?.toJson(),
+            'encrypt': this.encrypt?.toJson(),
+            'encryptCertificate': this.encryptCertificate?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxSecuritySecurity {
+        return ToolboxSecuritySecurity.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "decrypt", data?.decrypt, Decrypt.fromJson, Decrypt) || changed;
+        changed = ModelAssignment.assignModel(this, "encrypt", data?.encrypt, Encrypt.fromJson, Encrypt) || changed;
+        changed = ModelAssignment.assignModel(this, "encryptCertificate", data?.encryptCertificate, EncryptCertificate.fromJson, EncryptCertificate) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.decrypt, other.decrypt)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.encrypt, other.encrypt)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.encryptCertificate, other.encryptCertificate)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.decrypt);
+        hash = ModelEquality.hash(hash, this.encrypt);
+        hash = ModelEquality.hash(hash, this.encryptCertificate);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxSecuritySecurity(";
+        fingerprint += ModelEquality.fingerprint(this.decrypt) + ",";
+        fingerprint += ModelEquality.fingerprint(this.encrypt) + ",";
+        fingerprint += ModelEquality.fingerprint(this.encryptCertificate) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ToolboxSplitSplit,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxSplitInterface extends BaseToolboxInterface {
+
+    split?: ToolboxSplitSplit;
+
+}
+export class ToolboxSplit extends BaseToolbox implements ToolboxSplitInterface, Parameter {
+    split?: ToolboxSplitSplit;
+
+    constructor(data: any) {
+        super(data);
+
+        this.split = ToolboxSplitSplit.fromJson(data?.split);
+    }
+
+    public static getSplitDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxSplit {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxSplit(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxSplit> {
+        return ModelStream.decodeArray(source, ToolboxSplit.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'split': this.split?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxSplit {
+        return ToolboxSplit.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "split", data?.split, ToolboxSplitSplit.fromJson, ToolboxSplitSplit) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.split, other.split)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.split);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxSplit(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.split) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+import {
+    ModelAssignment,
+    SplitMode,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxSplitSplitInterface  {
+
+    /**
+    * If the \"split\" operation generates a ZIP document (please refer to \"mode\"), this template can be used to define the file name of the PDF document in the ZIP document. The \"%d\" placeholder must be used in the template in order to define the PDF document page.
+    */
+    fileNameTemplate?: string;
+    /**
+    * Defines the mode used to split the PDF document.  *   last = Last page - Uses \"pages\" to define the last page that will be contained in the new PDF document. *   first = First page - Uses \"pages\" to define the first page that will be contained in the new PDF document. *   list = List of pages - Uses \"pages\" to define a list of pages that should be extracted from the document. A single PDF document will be created on the basis of this list. *   single = Selected pages - Uses the \"pages\" attribute to define a list of pages that should be extracted from the document. And creates a ZIP file with the corresponding pages. *   each = Every nth page - Uses the \"pages\" attribute to define the interval at which pages should be extracted. The \"startPage\" attribute is used to define the page on which the process will start. The result will be a ZIP file. *   group = Group pages - Multiple pages will be added to a single PDF document. The \"pages\" attribute can be used to define how many pages will be saved in a single PDF document. The \"startPage\" attribute is used to define the page on which the process will start. The result will be a ZIP file. *   burst = Ungroup pages - A new PDF document will be generated from each page. The result will be a ZIP file.
+    */
+    mode?: SplitMode;
+    /**
+    * Defines which page(s) should be used for the split operation. The page number can be an individual page, a page range, or a list (separated with commas) (e.g. \"1,5-6,9\"). The \"mode\" attribute defines whether a single page or a range of pages can be used: With \"last\" and \"first,\" an individual page is specified; with \"list,\" a list of pages can be used.
+    */
+    pages?: string;
+    /**
+    * Only mode with \"single\", \"burst\", \"each\", or \"group\". The returned pages will be generated as a ZIP file even if selection is used to select only one single file. You can change this behaviour by setting this option to \"false\". In this case, the page will not be zipped, and will instead be returned directly as is. However, this will only work if selection has been used to select one page and one page only.
+    */
+    singleFileAsZip?: boolean;
+    /**
+    * Used for \"each\" and \"group\" in the \"mode\" attribute.
+    */
+    startPage?: number;
+
+}
+export class ToolboxSplitSplit implements ToolboxSplitSplitInterface, Parameter {
+    /**
+    * If the \"split\" operation generates a ZIP document (please refer to \"mode\"), this template can be used to define the file name of the PDF document in the ZIP document. The \"%d\" placeholder must be used in the template in order to define the PDF document page.
+    */
+    fileNameTemplate?: string;
+    /**
+    * Defines the mode used to split the PDF document.  *   last = Last page - Uses \"pages\" to define the last page that will be contained in the new PDF document. *   first = First page - Uses \"pages\" to define the first page that will be contained in the new PDF document. *   list = List of pages - Uses \"pages\" to define a list of pages that should be extracted from the document. A single PDF document will be created on the basis of this list. *   single = Selected pages - Uses the \"pages\" attribute to define a list of pages that should be extracted from the document. And creates a ZIP file with the corresponding pages. *   each = Every nth page - Uses the \"pages\" attribute to define the interval at which pages should be extracted. The \"startPage\" attribute is used to define the page on which the process will start. The result will be a ZIP file. *   group = Group pages - Multiple pages will be added to a single PDF document. The \"pages\" attribute can be used to define how many pages will be saved in a single PDF document. The \"startPage\" attribute is used to define the page on which the process will start. The result will be a ZIP file. *   burst = Ungroup pages - A new PDF document will be generated from each page. The result will be a ZIP file.
+    */
+    mode?: SplitMode;
+    /**
+    * Defines which page(s) should be used for the split operation. The page number can be an individual page, a page range, or a list (separated with commas) (e.g. \"1,5-6,9\"). The \"mode\" attribute defines whether a single page or a range of pages can be used: With \"last\" and \"first,\" an individual page is specified; with \"list,\" a list of pages can be used.
+    */
+    pages?: string;
+    /**
+    * Only mode with \"single\", \"burst\", \"each\", or \"group\". The returned pages will be generated as a ZIP file even if selection is used to select only one single file. You can change this behaviour by setting this option to \"false\". In this case, the page will not be zipped, and will instead be returned directly as is. However, this will only work if selection has been used to select one page and one page only.
+    */
+    singleFileAsZip?: boolean;
+    /**
+    * Used for \"each\" and \"group\" in the \"mode\" attribute.
+    */
+    startPage?: number;
+
+    constructor(data: any) {
+        let fileNameTemplateDefault: any = "page[%d]";
+        this.fileNameTemplate = typeof data?.fileNameTemplate !== "undefined" ? data?.fileNameTemplate : fileNameTemplateDefault;
+        let modeDefault: any = "last";
+        this.mode = typeof data?.mode !== "undefined" ? data?.mode : modeDefault;
+        let pagesDefault: any = "1";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        let singleFileAsZipDefault: any = true;
+        this.singleFileAsZip = typeof data?.singleFileAsZip !== "undefined" ? data?.singleFileAsZip : singleFileAsZipDefault;
+        let startPageDefault: any = 1;
+        this.startPage = typeof data?.startPage !== "undefined" ? data?.startPage : startPageDefault;
+    }
+
+    public static getFileNameTemplateDefault(): string {
+        return "page[%d]";
+    }
+
+    public static getFileNameTemplateDescription(): string {
+        return "If the \"split\" operation generates a ZIP document (please refer to \"mode\"), this template can be used to define the file name of the PDF document in the ZIP document. The \"%d\" placeholder must be used in the template in order to define the PDF document page.";
+    }
+
+    public static getModeDefault(): SplitMode {
+        return "last" as SplitMode;
+    }
+
+    public static getModeDescription(): string {
+        return "Defines the mode used to split the PDF document.\n\n*   last = Last page - Uses \"pages\" to define the last page that will be contained in the new PDF document.\n*   first = First page - Uses \"pages\" to define the first page that will be contained in the new PDF document.\n*   list = List of pages - Uses \"pages\" to define a list of pages that should be extracted from the document. A single PDF document will be created on the basis of this list.\n*   single = Selected pages - Uses the \"pages\" attribute to define a list of pages that should be extracted from the document. And creates a ZIP file with the corresponding pages.\n*   each = Every nth page - Uses the \"pages\" attribute to define the interval at which pages should be extracted. The \"startPage\" attribute is used to define the page on which the process will start. The result will be a ZIP file.\n*   group = Group pages - Multiple pages will be added to a single PDF document. The \"pages\" attribute can be used to define how many pages will be saved in a single PDF document. The \"startPage\" attribute is used to define the page on which the process will start. The result will be a ZIP file.\n*   burst = Ungroup pages - A new PDF document will be generated from each page. The result will be a ZIP file.";
+    }
+
+    public static getPagesDefault(): string {
+        return "1";
+    }
+
+    public static getPagesDescription(): string {
+        return "Defines which page(s) should be used for the split operation. The page number can be an individual page, a page range, or a list (separated with commas) (e.g. \"1,5-6,9\"). The \"mode\" attribute defines whether a single page or a range of pages can be used: With \"last\" and \"first,\" an individual page is specified; with \"list,\" a list of pages can be used.";
+    }
+
+    public static getSingleFileAsZipDefault(): boolean {
+        return true;
+    }
+
+    public static getSingleFileAsZipDescription(): string {
+        return "Only mode with \"single\", \"burst\", \"each\", or \"group\". The returned pages will be generated as a ZIP file even if selection is used to select only one single file. You can change this behaviour by setting this option to \"false\". In this case, the page will not be zipped, and will instead be returned directly as is. However, this will only work if selection has been used to select one page and one page only.";
+    }
+
+    public static getStartPageDefault(): number {
+        return 1;
+    }
+
+    public static getStartPageDescription(): string {
+        return "Used for \"each\" and \"group\" in the \"mode\" attribute.";
+    }
+
+    public static getStartPageMin(): number {
+        return 1;
+    }
+
+    public static fromJson(data: any): ToolboxSplitSplit {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxSplitSplit(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxSplitSplit> {
+        return ModelStream.decodeArray(source, ToolboxSplitSplit.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'fileNameTemplate': this.fileNameTemplate,
+            'mode': this.mode,
+            'pages': this.pages,
+            'singleFileAsZip': this.singleFileAsZip,
+            'startPage': this.startPage,
+        };
+    }
+
+    public clone(): ToolboxSplitSplit {
+        return ToolboxSplitSplit.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "fileNameTemplate", typeof data?.fileNameTemplate !== "undefined" ? data?.fileNameTemplate : "page[%d]") || changed;
+        changed = ModelAssignment.assignValue(this, "mode", typeof data?.mode !== "undefined" ? data?.mode : "last") || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "1") || changed;
+        changed = ModelAssignment.assignValue(this, "singleFileAsZip", typeof data?.singleFileAsZip !== "undefined" ? data?.singleFileAsZip : true) || changed;
+        changed = ModelAssignment.assignValue(this, "startPage", typeof data?.startPage !== "undefined" ? data?.startPage : 1) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileNameTemplate, other.fileNameTemplate)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.mode, other.mode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.singleFileAsZip, other.singleFileAsZip)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.startPage, other.startPage)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.fileNameTemplate);
+        hash = ModelEquality.hash(hash, this.mode);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.singleFileAsZip);
+        hash = ModelEquality.hash(hash, this.startPage);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxSplitSplit(";
+        fingerprint += ModelEquality.fingerprint(this.fileNameTemplate) + ",";
+        fingerprint += ModelEquality.fingerprint(this.mode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.singleFileAsZip) + ",";
+        fingerprint += ModelEquality.fingerprint(this.startPage) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
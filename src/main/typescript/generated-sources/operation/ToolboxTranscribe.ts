@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ToolboxTranscribeTranscribe,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxTranscribeInterface extends BaseToolboxInterface {
+
+    transcribe?: ToolboxTranscribeTranscribe;
+
+}
+export class ToolboxTranscribe extends BaseToolbox implements ToolboxTranscribeInterface, Parameter {
+    transcribe?: ToolboxTranscribeTranscribe;
+
+    constructor(data: any) {
+        super(data);
+
+        this.transcribe = ToolboxTranscribeTranscribe.fromJson(data?.transcribe);
+    }
+
+    public static getTranscribeDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxTranscribe {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxTranscribe(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxTranscribe> {
+        return ModelStream.decodeArray(source, ToolboxTranscribe.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'transcribe': this.transcribe?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxTranscribe {
+        return ToolboxTranscribe.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "transcribe", data?.transcribe, ToolboxTranscribeTranscribe.fromJson, ToolboxTranscribeTranscribe) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.transcribe, other.transcribe)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.transcribe);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxTranscribe(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.transcribe) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
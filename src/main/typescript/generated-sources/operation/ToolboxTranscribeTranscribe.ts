@@ -0,0 +1,158 @@
+import {
+    ModelAssignment,
+    TranscribeSuccessReport,
+    ModelStream,
+    HtmlTranscribe,
+    TranscribeErrorReport,
+    Parameter,
+    ModelEquality,
+    Failure,
+} from "./../index";
+
+export interface ToolboxTranscribeTranscribeInterface  {
+
+    /**
+    * This parameter determines if and in which form the XML report for a failed conversion is returned.  *   none = XML report is not returned *   message = XML report will be delivered as part of the error message *   file = XML report is saved to file
+    */
+    errorReport?: TranscribeErrorReport;
+    /**
+    * This parameter determines at which error level the conversion should fail, you can use this parameter to automatically reject also results with lower precision as failure  *   warning = Documents for which warnings occur will also cause the conversion to fail. *   missingContent = Documents for which not all content could be converted correctly will also be considered as failures. *   error = Only if a conversion of the document did not lead to any meaningful result document, this is evaluated as failure, even if contents should be missing.
+    */
+    failureLevel?: Failure;
+    html?: HtmlTranscribe;
+    /**
+    * This parameter determines if and in which form the XML report for a successful conversion is returned.  *   none = XML report is not returned *   linked = XML report is appended to the end of the target document. *   zip = target document and XML report are packed together in a ZIP archive.  **Important:** The format of the document created at \"errorReport\" and \"successReport\" is described via the http://schema.webpdf.de/1.0/report/transcribe.xsd schema.
+    */
+    successReport?: TranscribeSuccessReport;
+
+}
+export class ToolboxTranscribeTranscribe implements ToolboxTranscribeTranscribeInterface, Parameter {
+    /**
+    * This parameter determines if and in which form the XML report for a failed conversion is returned.  *   none = XML report is not returned *   message = XML report will be delivered as part of the error message *   file = XML report is saved to file
+    */
+    errorReport?: TranscribeErrorReport;
+    /**
+    * This parameter determines at which error level the conversion should fail, you can use this parameter to automatically reject also results with lower precision as failure  *   warning = Documents for which warnings occur will also cause the conversion to fail. *   missingContent = Documents for which not all content could be converted correctly will also be considered as failures. *   error = Only if a conversion of the document did not lead to any meaningful result document, this is evaluated as failure, even if contents should be missing.
+    */
+    failureLevel?: Failure;
+    html?: HtmlTranscribe;
+    /**
+    * This parameter determines if and in which form the XML report for a successful conversion is returned.  *   none = XML report is not returned *   linked = XML report is appended to the end of the target document. *   zip = target document and XML report are packed together in a ZIP archive.  **Important:** The format of the document created at \"errorReport\" and \"successReport\" is described via the http://schema.webpdf.de/1.0/report/transcribe.xsd schema.
+    */
+    successReport?: TranscribeSuccessReport;
+
+    constructor(data: any) {
+        let errorReportDefault: any = "none";
+        this.errorReport = typeof data?.errorReport !== "undefined" ? data?.errorReport : errorReportDefault;
+        let failureLevelDefault: any = "error";
+        this.failureLevel = typeof data?.failureLevel !== "undefined" ? data?.failureLevel : failureLevelDefault;
+        this.html = HtmlTranscribe.fromJson(data?.html);
+        let successReportDefault: any = "none";
+        this.successReport = typeof data?.successReport !== "undefined" ? data?.successReport : successReportDefault;
+    }
+
+    public static getErrorReportDefault(): TranscribeErrorReport {
+        return "none" as TranscribeErrorReport;
+    }
+
+    public static getErrorReportDescription(): string {
+        return "This parameter determines if and in which form the XML report for a failed conversion is returned.\n\n*   none = XML report is not returned\n*   message = XML report will be delivered as part of the error message\n*   file = XML report is saved to file";
+    }
+
+    public static getFailureLevelDefault(): Failure {
+        return "error" as Failure;
+    }
+
+    public static getFailureLevelDescription(): string {
+        return "This parameter determines at which error level the conversion should fail, you can use this parameter to automatically reject also results with lower precision as failure\n\n*   warning = Documents for which warnings occur will also cause the conversion to fail.\n*   missingContent = Documents for which not all content could be converted correctly will also be considered as failures.\n*   error = Only if a conversion of the document did not lead to any meaningful result document, this is evaluated as failure, even if contents should be missing.";
+    }
+
+    public static getHtmlDescription(): string {
+        return "";
+    }
+
+    public static getSuccessReportDefault(): TranscribeSuccessReport {
+        return "none" as TranscribeSuccessReport;
+    }
+
+    public static getSuccessReportDescription(): string {
+        return "This parameter determines if and in which form the XML report for a successful conversion is returned.\n\n*   none = XML report is not returned\n*   linked = XML report is appended to the end of the target document.\n*   zip = target document and XML report are packed together in a ZIP archive.\n\n**Important:** The format of the document created at \"errorReport\" and \"successReport\" is described via the http:\/\/schema.webpdf.de\/1.0\/report\/transcribe.xsd schema.";
+    }
+
+    public static fromJson(data: any): ToolboxTranscribeTranscribe {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxTranscribeTranscribe(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxTranscribeTranscribe> {
+        return ModelStream.decodeArray(source, ToolboxTranscribeTranscribe.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'errorReport': this.errorReport,
+            'failureLevel': this.failureLevel,
+            'html': this.html?.toJson(),
+            'successReport': this.successReport,
+        };
+    }
+
+    public clone(): ToolboxTranscribeTranscribe {
+        return ToolboxTranscribeTranscribe.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "errorReport", typeof data?.errorReport !== "undefined" ? data?.errorReport : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "failureLevel", typeof data?.failureLevel !== "undefined" ? data?.failureLevel : "error") || changed;
+        changed = ModelAssignment.assignModel(this, "html", data?.html, HtmlTranscribe.fromJson, HtmlTranscribe) || changed;
+        changed = ModelAssignment.assignValue(this, "successReport", typeof data?.successReport !== "undefined" ? data?.successReport : "none") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.errorReport, other.errorReport)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.failureLevel, other.failureLevel)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.html, other.html)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.successReport, other.successReport)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.errorReport);
+        hash = ModelEquality.hash(hash, this.failureLevel);
+        hash = ModelEquality.hash(hash, this.html);
+        hash = ModelEquality.hash(hash, this.successReport);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxTranscribeTranscribe(";
+        fingerprint += ModelEquality.fingerprint(this.errorReport) + ",";
+        fingerprint += ModelEquality.fingerprint(this.failureLevel) + ",";
+        fingerprint += ModelEquality.fingerprint(this.html) + ",";
+        fingerprint += ModelEquality.fingerprint(this.successReport) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    ToolboxWatermarkWatermark,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxWatermarkInterface extends BaseToolboxInterface {
+
+    watermark?: ToolboxWatermarkWatermark;
+
+}
+export class ToolboxWatermark extends BaseToolbox implements ToolboxWatermarkInterface, Parameter {
+    watermark?: ToolboxWatermarkWatermark;
+
+    constructor(data: any) {
+        super(data);
+
+        this.watermark = ToolboxWatermarkWatermark.fromJson(data?.watermark);
+    }
+
+    public static getWatermarkDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxWatermark {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxWatermark(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxWatermark> {
+        return ModelStream.decodeArray(source, ToolboxWatermark.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'watermark': this.watermark?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxWatermark {
+        return ToolboxWatermark.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "watermark", data?.watermark, ToolboxWatermarkWatermark.fromJson, ToolboxWatermarkWatermark) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.watermark, other.watermark)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.watermark);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxWatermark(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.watermark) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
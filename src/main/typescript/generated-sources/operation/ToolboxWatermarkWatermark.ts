@@ -0,0 +1,153 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    WatermarkText,
+    WatermarkImage,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxWatermarkWatermarkInterface  {
+
+    /**
+    * Specifies the rotation angle for the text or image output of the watermark. Values between 0 and 360 are allowed. Rotation is performed clockwise.
+    */
+    angle?: number;
+    image?: WatermarkImage;
+    /**
+    * Specifies on which page(s) the watermark should be created. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.
+    */
+    pages?: string;
+    text?: WatermarkText;
+
+}
+export class ToolboxWatermarkWatermark implements ToolboxWatermarkWatermarkInterface, Parameter {
+    /**
+    * Specifies the rotation angle for the text or image output of the watermark. Values between 0 and 360 are allowed. Rotation is performed clockwise.
+    */
+    angle?: number;
+    image?: WatermarkImage;
+    /**
+    * Specifies on which page(s) the watermark should be created. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.
+    */
+    pages?: string;
+    text?: WatermarkText;
+
+    constructor(data: any) {
+        let angleDefault: any = 45;
+        this.angle = typeof data?.angle !== "undefined" ? data?.angle : angleDefault;
+        this.image = WatermarkImage.fromJson(data?.image);
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        this.text = WatermarkText.fromJson(data?.text);
+    }
+
+    public static getAngleDefault(): number {
+        return 45;
+    }
+
+    public static getAngleDescription(): string {
+        return "Specifies the rotation angle for the text or image output of the watermark. Values between 0 and 360 are allowed. Rotation is performed clockwise.";
+    }
+
+    public static getAngleMin(): number {
+        return 0;
+    }
+
+    public static getAngleMax(): number {
+        return 360;
+    }
+
+    public static getImageDescription(): string {
+        return "";
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "Specifies on which page(s) the watermark should be created. The page number can be an individual page, a page range, or a list (separated with commas) (e.g., \"1,5-6,9\"). A blank value or \"\\*\" selects all pages of the PDF document.";
+    }
+
+    public static getTextDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxWatermarkWatermark {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxWatermarkWatermark(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxWatermarkWatermark> {
+        return ModelStream.decodeArray(source, ToolboxWatermarkWatermark.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'angle': this.angle,
+            'image': this.image?.toJson(),
+            'pages': this.pages,
+            'text': this.text?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxWatermarkWatermark {
+        return ToolboxWatermarkWatermark.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "angle", typeof data?.angle !== "undefined" ? data?.angle : 45) || changed;
+        changed = ModelAssignment.assignModel(this, "image", data?.image, WatermarkImage.fromJson, WatermarkImage) || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        changed = ModelAssignment.assignModel(this, "text", data?.text, WatermarkText.fromJson, WatermarkText) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.angle, other.angle)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.image, other.image)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.text, other.text)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.angle);
+        hash = ModelEquality.hash(hash, this.image);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.text);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxWatermarkWatermark(";
+        fingerprint += ModelEquality.fingerprint(this.angle) + ",";
+        fingerprint += ModelEquality.fingerprint(this.image) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.text) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
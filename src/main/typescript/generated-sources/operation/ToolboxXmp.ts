@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    BaseToolbox,
+    BaseToolboxInterface,
+    ModelStream,
+    Parameter,
+    ToolboxXmpXmp,
+    ModelEquality,
+} from "./../index";
+
+export interface ToolboxXmpInterface extends BaseToolboxInterface {
+
+    xmp?: ToolboxXmpXmp;
+
+}
+export class ToolboxXmp extends BaseToolbox implements ToolboxXmpInterface, Parameter {
+    xmp?: ToolboxXmpXmp;
+
+    constructor(data: any) {
+        super(data);
+
+        this.xmp = ToolboxXmpXmp.fromJson(data?.xmp);
+    }
+
+    public static getXmpDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxXmp {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxXmp(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxXmp> {
+        return ModelStream.decodeArray(source, ToolboxXmp.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'xmp': this.xmp?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxXmp {
+        return ToolboxXmp.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "xmp", data?.xmp, ToolboxXmpXmp.fromJson, ToolboxXmpXmp) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.xmp, other.xmp)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.xmp);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxXmp(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.xmp) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    XmpNamespace,
+    Parameter,
+    XmpDataFormat,
+    ModelEquality,
+    XmpFileData,
+} from "./../index";
+
+export interface ToolboxXmpXmpInterface  {
+
+    data: XmpFileData;
+    /**
+    * Format for the XMP metadata being added. As of this writing, only \"json\" is supported.
+    */
+    dataFormat?: XmpDataFormat;
+    namespace: XmpNamespace;
+
+}
+export class ToolboxXmpXmp implements ToolboxXmpXmpInterface, Parameter {
+    data: XmpFileData;
+    /**
+    * Format for the XMP metadata being added. As of this writing, only \"json\" is supported.
+    */
+    dataFormat?: XmpDataFormat;
+    namespace: XmpNamespace;
+
+    constructor(data: any) {
+        this.data = XmpFileData.fromJson(data.data);
+        let dataFormatDefault: any = "json";
+        this.dataFormat = typeof data?.dataFormat !== "undefined" ? data?.dataFormat : dataFormatDefault;
+        this.namespace = XmpNamespace.fromJson(data.namespace);
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static getDataFormatDefault(): XmpDataFormat {
+        return "json" as XmpDataFormat;
+    }
+
+    public static getDataFormatDescription(): string {
+        return "Format for the XMP metadata being added. As of this writing, only \"json\" is supported.";
+    }
+
+    public static getNamespaceDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ToolboxXmpXmp {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ToolboxXmpXmp(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ToolboxXmpXmp> {
+        return ModelStream.decodeArray(source, ToolboxXmpXmp.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'data': this.data?.toJson(),
+            'dataFormat': this.dataFormat,
+            'namespace': this.namespace?.toJson(),
+        };
+    }
+
+    public clone(): ToolboxXmpXmp {
+        return ToolboxXmpXmp.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "data", data.data, XmpFileData.fromJson, XmpFileData) || changed;
+        changed = ModelAssignment.assignValue(this, "dataFormat", typeof data?.dataFormat !== "undefined" ? data?.dataFormat : "json") || changed;
+        changed = ModelAssignment.assignModel(this, "namespace", data.namespace, XmpNamespace.fromJson, XmpNamespace) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.dataFormat, other.dataFormat)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.namespace, other.namespace)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.data);
+        hash = ModelEquality.hash(hash, this.dataFormat);
+        hash = ModelEquality.hash(hash, this.namespace);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ToolboxXmpXmp(";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        fingerprint += ModelEquality.fingerprint(this.dataFormat) + ",";
+        fingerprint += ModelEquality.fingerprint(this.namespace) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
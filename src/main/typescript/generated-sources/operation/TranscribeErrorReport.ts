@@ -0,0 +1,7 @@
+export enum TranscribeErrorReport {
+
+    Message = 'message',
+    None = 'none',
+    File = 'file'
+
+}
\ No newline at end of file
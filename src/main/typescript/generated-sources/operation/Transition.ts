@@ -0,0 +1,275 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    TransitionStyle,
+    ModelEquality,
+    TransitionDirection,
+} from "./../index";
+
+export interface TransitionInterface  {
+
+    /**
+    * If true, the next page to be automatically shown completely in full screen presentation mode after a specific time.
+    */
+    autoScroll?: boolean;
+    /**
+    * The time it will take for the next page to be automatically shown completely in full screen presentation mode.
+    */
+    autoScrollTime?: number;
+    /**
+    * The direction of the transition animation (provided that it can be applied to the animation).  *   leftToRight = From left to right *   bottomToTop = From bottom to top *   rightToLeft = From right to left *   topToBottom = From top to bottom *   topLeftToBottomRight = From top left to bottom right *   none = Use the default value for the animation
+    */
+    direction?: TransitionDirection;
+    /**
+    * The page transition animation's duration, in seconds. Make sure to avoid excessively high values, as certain reader programs will force the entire animation to be displayed without any option for interrupting it. Moreover, an excessively long animation can result in display and execution errors in the reader program. Values under 10 seconds are recommendable.
+    */
+    duration?: number;
+    /**
+    * Option for the \"fly\" animation style - used to define whether the page background for the page that flies in should be transparent initially.
+    */
+    flyAreaOpaque?: boolean;
+    /**
+    * Option for the \"fly\" animation style - used to define the starting scale for the page that flies in. The page will smoothly be scaled from this starting scale all the way to the size of the page being displayed.
+    */
+    flyScale?: number;
+    /**
+    * Used to define the page number or page range (e.g., \"1,5-6,9\") to which the transition animation should be applied.
+    */
+    pages?: string;
+    /**
+    * The style of transition animation.  *   blinds = Crossfades *   box = Crossfades in a rectangular pattern *   cover = Covers *   dissolve = Dissolves *   fade = Fades *   fly = Page flies in *   glitter = Page dissolves and is replaced *   push = Page is pushed out *   split = Splits page *   uncover = Uncovers page *   wipe = Wipes page *   none = No special effect
+    */
+    style?: TransitionStyle;
+
+}
+export class Transition implements TransitionInterface, Parameter {
+    /**
+    * If true, the next page to be automatically shown completely in full screen presentation mode after a specific time.
+    */
+    autoScroll?: boolean;
+    /**
+    * The time it will take for the next page to be automatically shown completely in full screen presentation mode.
+    */
+    autoScrollTime?: number;
+    /**
+    * The direction of the transition animation (provided that it can be applied to the animation).  *   leftToRight = From left to right *   bottomToTop = From bottom to top *   rightToLeft = From right to left *   topToBottom = From top to bottom *   topLeftToBottomRight = From top left to bottom right *   none = Use the default value for the animation
+    */
+    direction?: TransitionDirection;
+    /**
+    * The page transition animation's duration, in seconds. Make sure to avoid excessively high values, as certain reader programs will force the entire animation to be displayed without any option for interrupting it. Moreover, an excessively long animation can result in display and execution errors in the reader program. Values under 10 seconds are recommendable.
+    */
+    duration?: number;
+    /**
+    * Option for the \"fly\" animation style - used to define whether the page background for the page that flies in should be transparent initially.
+    */
+    flyAreaOpaque?: boolean;
+    /**
+    * Option for the \"fly\" animation style - used to define the starting scale for the page that flies in. The page will smoothly be scaled from this starting scale all the way to the size of the page being displayed.
+    */
+    flyScale?: number;
+    /**
+    * Used to define the page number or page range (e.g., \"1,5-6,9\") to which the transition animation should be applied.
+    */
+    pages?: string;
+    /**
+    * The style of transition animation.  *   blinds = Crossfades *   box = Crossfades in a rectangular pattern *   cover = Covers *   dissolve = Dissolves *   fade = Fades *   fly = Page flies in *   glitter = Page dissolves and is replaced *   push = Page is pushed out *   split = Splits page *   uncover = Uncovers page *   wipe = Wipes page *   none = No special effect
+    */
+    style?: TransitionStyle;
+
+    constructor(data: any) {
+        let autoScrollDefault: any = false;
+        this.autoScroll = typeof data?.autoScroll !== "undefined" ? data?.autoScroll : autoScrollDefault;
+        let autoScrollTimeDefault: any = 0;
+        this.autoScrollTime = typeof data?.autoScrollTime !== "undefined" ? data?.autoScrollTime : autoScrollTimeDefault;
+        let directionDefault: any = "none";
+        this.direction = typeof data?.direction !== "undefined" ? data?.direction : directionDefault;
+        let durationDefault: any = 1;
+        this.duration = typeof data?.duration !== "undefined" ? data?.duration : durationDefault;
+        let flyAreaOpaqueDefault: any = false;
+        this.flyAreaOpaque = typeof data?.flyAreaOpaque !== "undefined" ? data?.flyAreaOpaque : flyAreaOpaqueDefault;
+        let flyScaleDefault: any = 1;
+        this.flyScale = typeof data?.flyScale !== "undefined" ? data?.flyScale : flyScaleDefault;
+        let pagesDefault: any = "";
+        this.pages = typeof data?.pages !== "undefined" ? data?.pages : pagesDefault;
+        let styleDefault: any = "none";
+        this.style = typeof data?.style !== "undefined" ? data?.style : styleDefault;
+    }
+
+    public static getAutoScrollDefault(): boolean {
+        return false;
+    }
+
+    public static getAutoScrollDescription(): string {
+        return "If true, the next page to be automatically shown completely in full screen presentation mode after a specific time.";
+    }
+
+    public static getAutoScrollTimeDefault(): number {
+        return 0;
+    }
+
+    public static getAutoScrollTimeDescription(): string {
+        return "The time it will take for the next page to be automatically shown completely in full screen presentation mode.";
+    }
+
+    public static getAutoScrollTimeMin(): number {
+        return 0;
+    }
+
+    public static getDirectionDefault(): TransitionDirection {
+        return "none" as TransitionDirection;
+    }
+
+    public static getDirectionDescription(): string {
+        return "The direction of the transition animation (provided that it can be applied to the animation).\n\n*   leftToRight = From left to right\n*   bottomToTop = From bottom to top\n*   rightToLeft = From right to left\n*   topToBottom = From top to bottom\n*   topLeftToBottomRight = From top left to bottom right\n*   none = Use the default value for the animation";
+    }
+
+    public static getDurationDefault(): number {
+        return 1;
+    }
+
+    public static getDurationDescription(): string {
+        return "The page transition animation's duration, in seconds. Make sure to avoid excessively high values, as certain reader programs will force the entire animation to be displayed without any option for interrupting it. Moreover, an excessively long animation can result in display and execution errors in the reader program. Values under 10 seconds are recommendable.";
+    }
+
+    public static getDurationMin(): number {
+        return 0;
+    }
+
+    public static getFlyAreaOpaqueDefault(): boolean {
+        return false;
+    }
+
+    public static getFlyAreaOpaqueDescription(): string {
+        return "Option for the \"fly\" animation style - used to define whether the page background for the page that flies in should be transparent initially.";
+    }
+
+    public static getFlyScaleDefault(): number {
+        return 1;
+    }
+
+    public static getFlyScaleDescription(): string {
+        return "Option for the \"fly\" animation style - used to define the starting scale for the page that flies in. The page will smoothly be scaled from this starting scale all the way to the size of the page being displayed.";
+    }
+
+    public static getPagesDefault(): string {
+        return "";
+    }
+
+    public static getPagesDescription(): string {
+        return "Used to define the page number or page range (e.g., \"1,5-6,9\") to which the transition animation should be applied.";
+    }
+
+    public static getStyleDefault(): TransitionStyle {
+        return "none" as TransitionStyle;
+    }
+
+    public static getStyleDescription(): string {
+        return "The style of transition animation.\n\n*   blinds = Crossfades\n*   box = Crossfades in a rectangular pattern\n*   cover = Covers\n*   dissolve = Dissolves\n*   fade = Fades\n*   fly = Page flies in\n*   glitter = Page dissolves and is replaced\n*   push = Page is pushed out\n*   split = Splits page\n*   uncover = Uncovers page\n*   wipe = Wipes page\n*   none = No special effect";
+    }
+
+    public static fromJson(data: any): Transition {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Transition(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Transition> {
+        return ModelStream.decodeArray(source, Transition.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'autoScroll': this.autoScroll,
+            'autoScrollTime': this.autoScrollTime,
+            'direction': this.direction,
+            'duration': this.duration,
+            'flyAreaOpaque': this.flyAreaOpaque,
+            'flyScale': this.flyScale,
+            'pages': this.pages,
+            'style': this.style,
+        };
+    }
+
+    public clone(): Transition {
+        return Transition.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "autoScroll", typeof data?.autoScroll !== "undefined" ? data?.autoScroll : false) || changed;
+        changed = ModelAssignment.assignValue(this, "autoScrollTime", typeof data?.autoScrollTime !== "undefined" ? data?.autoScrollTime : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "direction", typeof data?.direction !== "undefined" ? data?.direction : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "duration", typeof data?.duration !== "undefined" ? data?.duration : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "flyAreaOpaque", typeof data?.flyAreaOpaque !== "undefined" ? data?.flyAreaOpaque : false) || changed;
+        changed = ModelAssignment.assignValue(this, "flyScale", typeof data?.flyScale !== "undefined" ? data?.flyScale : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "pages", typeof data?.pages !== "undefined" ? data?.pages : "") || changed;
+        changed = ModelAssignment.assignValue(this, "style", typeof data?.style !== "undefined" ? data?.style : "none") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.autoScroll, other.autoScroll)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.autoScrollTime, other.autoScrollTime)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.direction, other.direction)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.duration, other.duration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.flyAreaOpaque, other.flyAreaOpaque)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.flyScale, other.flyScale)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.pages, other.pages)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.style, other.style)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.autoScroll);
+        hash = ModelEquality.hash(hash, this.autoScrollTime);
+        hash = ModelEquality.hash(hash, this.direction);
+        hash = ModelEquality.hash(hash, this.duration);
+        hash = ModelEquality.hash(hash, this.flyAreaOpaque);
+        hash = ModelEquality.hash(hash, this.flyScale);
+        hash = ModelEquality.hash(hash, this.pages);
+        hash = ModelEquality.hash(hash, this.style);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Transition(";
+        fingerprint += ModelEquality.fingerprint(this.autoScroll) + ",";
+        fingerprint += ModelEquality.fingerprint(this.autoScrollTime) + ",";
+        fingerprint += ModelEquality.fingerprint(this.direction) + ",";
+        fingerprint += ModelEquality.fingerprint(this.duration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.flyAreaOpaque) + ",";
+        fingerprint += ModelEquality.fingerprint(this.flyScale) + ",";
+        fingerprint += ModelEquality.fingerprint(this.pages) + ",";
+        fingerprint += ModelEquality.fingerprint(this.style) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ActionEvent,
+    TransitionActionSetTransition,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+} from "./../index";
+
+export interface TransitionActionInterface extends ActionEventInterface {
+
+    setTransition?: TransitionActionSetTransition;
+
+}
+export class TransitionAction extends ActionEvent implements TransitionActionInterface, Parameter {
+    setTransition?: TransitionActionSetTransition;
+
+    constructor(data: any) {
+        super(data);
+
+        this.setTransition = TransitionActionSetTransition.fromJson(data?.setTransition);
+    }
+
+    public static getSetTransitionDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): TransitionAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new TransitionAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<TransitionAction> {
+        return ModelStream.decodeArray(source, TransitionAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'setTransition': this.setTransition?.toJson(),
+        };
+    }
+
+    public clone(): TransitionAction {
+        return TransitionAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "setTransition", data?.setTransition, TransitionActionSetTransition.fromJson, TransitionActionSetTransition) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.setTransition, other.setTransition)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.setTransition);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "TransitionAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.setTransition) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
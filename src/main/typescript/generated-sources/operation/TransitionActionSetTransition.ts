@@ -0,0 +1,283 @@
+import {
+    ModelAssignment,
+    OutlineTransitionStyle,
+    OutlineTransitionDirection,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface TransitionActionSetTransitionInterface  {
+
+    /**
+    * The direction of the transition animation (provided that it can be applied to the animation).  *   leftToRight = From left to right *   bottomToTop = From bottom to top *   rightToLeft = From right to left *   topToBottom = From top to bottom *   topLeftToBottomRight = From top left to bottom right *   none = Use the default value for the animation
+    */
+    direction?: OutlineTransitionDirection;
+    /**
+    * The page transition animation's duration, in seconds. Make sure to avoid excessively high values, as certain reader programs will force the entire animation to be displayed without any option for interrupting it. Moreover, an excessively long animation can result in display and execution errors in the reader program. Values under 10 seconds are recommended.
+    */
+    duration?: number;
+    /**
+    * Option for the split and blinds animation styles - used to define the axis along which the effect should happen. true corresponds to the horizontal axis; false to the vertical one.
+    */
+    effectDimensionHorizontal?: boolean;
+    /**
+    * Option for the \"fly\" animation style - used to define whether the page background for the page that flies in should be transparent initially.
+    */
+    flyAreaOpaque?: boolean;
+    /**
+    * Option for the \"fly\" animation style - used to define the starting scale for the page that flies in. The page will smoothly be scaled from this starting scale all the way to the size of the page being displayed (defined as a percentage).
+    */
+    flyScale?: number;
+    /**
+    * Option for the split, box, and fly animation styles - defines whether the animation direction will be from the edges of the page towards the centre (true) or from the centre towards the edges (false).
+    */
+    motionInward?: boolean;
+    /**
+    * Used to set the value for zooming (as a percentage).
+    */
+    scaling?: number;
+    /**
+    * The style of transition animation.  *   blinds = Crossfades *   box = Crossfades in a rectangular pattern *   cover = Covers *   dissolve = Dissolves *   fade = Fades *   fly = Page flies in *   glitter = Page dissolves and is replaced *   push = Page is pushed out *   split = Splits page *   uncover = Uncovers page *   wipe = Wipes page *   none = No special effect
+    */
+    style?: OutlineTransitionStyle;
+
+}
+export class TransitionActionSetTransition implements TransitionActionSetTransitionInterface, Parameter {
+    /**
+    * The direction of the transition animation (provided that it can be applied to the animation).  *   leftToRight = From left to right *   bottomToTop = From bottom to top *   rightToLeft = From right to left *   topToBottom = From top to bottom *   topLeftToBottomRight = From top left to bottom right *   none = Use the default value for the animation
+    */
+    direction?: OutlineTransitionDirection;
+    /**
+    * The page transition animation's duration, in seconds. Make sure to avoid excessively high values, as certain reader programs will force the entire animation to be displayed without any option for interrupting it. Moreover, an excessively long animation can result in display and execution errors in the reader program. Values under 10 seconds are recommended.
+    */
+    duration?: number;
+    /**
+    * Option for the split and blinds animation styles - used to define the axis along which the effect should happen. true corresponds to the horizontal axis; false to the vertical one.
+    */
+    effectDimensionHorizontal?: boolean;
+    /**
+    * Option for the \"fly\" animation style - used to define whether the page background for the page that flies in should be transparent initially.
+    */
+    flyAreaOpaque?: boolean;
+    /**
+    * Option for the \"fly\" animation style - used to define the starting scale for the page that flies in. The page will smoothly be scaled from this starting scale all the way to the size of the page being displayed (defined as a percentage).
+    */
+    flyScale?: number;
+    /**
+    * Option for the split, box, and fly animation styles - defines whether the animation direction will be from the edges of the page towards the centre (true) or from the centre towards the edges (false).
+    */
+    motionInward?: boolean;
+    /**
+    * Used to set the value for zooming (as a percentage).
+    */
+    scaling?: number;
+    /**
+    * The style of transition animation.  *   blinds = Crossfades *   box = Crossfades in a rectangular pattern *   cover = Covers *   dissolve = Dissolves *   fade = Fades *   fly = Page flies in *   glitter = Page dissolves and is replaced *   push = Page is pushed out *   split = Splits page *   uncover = Uncovers page *   wipe = Wipes page *   none = No special effect
+    */
+    style?: OutlineTransitionStyle;
+
+    constructor(data: any) {
+        let directionDefault: any = "leftToRight";
+        this.direction = typeof data?.direction !== "undefined" ? data?.direction : directionDefault;
+        let durationDefault: any = 1;
+        this.duration = typeof data?.duration !== "undefined" ? data?.duration : durationDefault;
+        let effectDimensionHorizontalDefault: any = true;
+        this.effectDimensionHorizontal = typeof data?.effectDimensionHorizontal !== "undefined" ? data?.effectDimensionHorizontal : effectDimensionHorizontalDefault;
+        let flyAreaOpaqueDefault: any = false;
+        this.flyAreaOpaque = typeof data?.flyAreaOpaque !== "undefined" ? data?.flyAreaOpaque : flyAreaOpaqueDefault;
+        let flyScaleDefault: any = 100;
+        this.flyScale = typeof data?.flyScale !== "undefined" ? data?.flyScale : flyScaleDefault;
+        let motionInwardDefault: any = true;
+        this.motionInward = typeof data?.motionInward !== "undefined" ? data?.motionInward : motionInwardDefault;
+        let scalingDefault: any = 100;
+        this.scaling = typeof data?.scaling !== "undefined" ? data?.scaling : scalingDefault;
+        let styleDefault: any = "none";
+        this.style = typeof data?.style !== "undefined" ? data?.style : styleDefault;
+    }
+
+    public static getDirectionDefault(): OutlineTransitionDirection {
+        return "leftToRight" as OutlineTransitionDirection;
+    }
+
+    public static getDirectionDescription(): string {
+        return "The direction of the transition animation (provided that it can be applied to the animation).\n\n*   leftToRight = From left to right\n*   bottomToTop = From bottom to top\n*   rightToLeft = From right to left\n*   topToBottom = From top to bottom\n*   topLeftToBottomRight = From top left to bottom right\n*   none = Use the default value for the animation";
+    }
+
+    public static getDurationDefault(): number {
+        return 1;
+    }
+
+    public static getDurationDescription(): string {
+        return "The page transition animation's duration, in seconds. Make sure to avoid excessively high values, as certain reader programs will force the entire animation to be displayed without any option for interrupting it. Moreover, an excessively long animation can result in display and execution errors in the reader program. Values under 10 seconds are recommended.";
+    }
+
+    public static getDurationMin(): number {
+        return 0;
+    }
+
+    public static getEffectDimensionHorizontalDefault(): boolean {
+        return true;
+    }
+
+    public static getEffectDimensionHorizontalDescription(): string {
+        return "Option for the split and blinds animation styles - used to define the axis along which the effect should happen. true corresponds to the horizontal axis; false to the vertical one.";
+    }
+
+    public static getFlyAreaOpaqueDefault(): boolean {
+        return false;
+    }
+
+    public static getFlyAreaOpaqueDescription(): string {
+        return "Option for the \"fly\" animation style - used to define whether the page background for the page that flies in should be transparent initially.";
+    }
+
+    public static getFlyScaleDefault(): number {
+        return 100;
+    }
+
+    public static getFlyScaleDescription(): string {
+        return "Option for the \"fly\" animation style - used to define the starting scale for the page that flies in. The page will smoothly be scaled from this starting scale all the way to the size of the page being displayed (defined as a percentage).";
+    }
+
+    public static getFlyScaleMin(): number {
+        return 0;
+    }
+
+    public static getFlyScaleMax(): number {
+        return 6400;
+    }
+
+    public static getMotionInwardDefault(): boolean {
+        return true;
+    }
+
+    public static getMotionInwardDescription(): string {
+        return "Option for the split, box, and fly animation styles - defines whether the animation direction will be from the edges of the page towards the centre (true) or from the centre towards the edges (false).";
+    }
+
+    public static getScalingDefault(): number {
+        return 100;
+    }
+
+    public static getScalingDescription(): string {
+        return "Used to set the value for zooming (as a percentage).";
+    }
+
+    public static getScalingMin(): number {
+        return 0;
+    }
+
+    public static getStyleDefault(): OutlineTransitionStyle {
+        return "none" as OutlineTransitionStyle;
+    }
+
+    public static getStyleDescription(): string {
+        return "The style of transition animation.\n\n*   blinds = Crossfades\n*   box = Crossfades in a rectangular pattern\n*   cover = Covers\n*   dissolve = Dissolves\n*   fade = Fades\n*   fly = Page flies in\n*   glitter = Page dissolves and is replaced\n*   push = Page is pushed out\n*   split = Splits page\n*   uncover = Uncovers page\n*   wipe = Wipes page\n*   none = No special effect";
+    }
+
+    public static fromJson(data: any): TransitionActionSetTransition {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new TransitionActionSetTransition(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<TransitionActionSetTransition> {
+        return ModelStream.decodeArray(source, TransitionActionSetTransition.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'direction': this.direction,
+            'duration': this.duration,
+            'effectDimensionHorizontal': this.effectDimensionHorizontal,
+            'flyAreaOpaque': this.flyAreaOpaque,
+            'flyScale': this.flyScale,
+            'motionInward': this.motionInward,
+            'scaling': this.scaling,
+            'style': this.style,
+        };
+    }
+
+    public clone(): TransitionActionSetTransition {
+        return TransitionActionSetTransition.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "direction", typeof data?.direction !== "undefined" ? data?.direction : "leftToRight") || changed;
+        changed = ModelAssignment.assignValue(this, "duration", typeof data?.duration !== "undefined" ? data?.duration : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "effectDimensionHorizontal", typeof data?.effectDimensionHorizontal !== "undefined" ? data?.effectDimensionHorizontal : true) || changed;
+        changed = ModelAssignment.assignValue(this, "flyAreaOpaque", typeof data?.flyAreaOpaque !== "undefined" ? data?.flyAreaOpaque : false) || changed;
+        changed = ModelAssignment.assignValue(this, "flyScale", typeof data?.flyScale !== "undefined" ? data?.flyScale : 100) || changed;
+        changed = ModelAssignment.assignValue(this, "motionInward", typeof data?.motionInward !== "undefined" ? data?.motionInward : true) || changed;
+        changed = ModelAssignment.assignValue(this, "scaling", typeof data?.scaling !== "undefined" ? data?.scaling : 100) || changed;
+        changed = ModelAssignment.assignValue(this, "style", typeof data?.style !== "undefined" ? data?.style : "none") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.direction, other.direction)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.duration, other.duration)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.effectDimensionHorizontal, other.effectDimensionHorizontal)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.flyAreaOpaque, other.flyAreaOpaque)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.flyScale, other.flyScale)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.motionInward, other.motionInward)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scaling, other.scaling)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.style, other.style)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.direction);
+        hash = ModelEquality.hash(hash, this.duration);
+        hash = ModelEquality.hash(hash, this.effectDimensionHorizontal);
+        hash = ModelEquality.hash(hash, this.flyAreaOpaque);
+        hash = ModelEquality.hash(hash, this.flyScale);
+        hash = ModelEquality.hash(hash, this.motionInward);
+        hash = ModelEquality.hash(hash, this.scaling);
+        hash = ModelEquality.hash(hash, this.style);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "TransitionActionSetTransition(";
+        fingerprint += ModelEquality.fingerprint(this.direction) + ",";
+        fingerprint += ModelEquality.fingerprint(this.duration) + ",";
+        fingerprint += ModelEquality.fingerprint(this.effectDimensionHorizontal) + ",";
+        fingerprint += ModelEquality.fingerprint(this.flyAreaOpaque) + ",";
+        fingerprint += ModelEquality.fingerprint(this.flyScale) + ",";
+        fingerprint += ModelEquality.fingerprint(this.motionInward) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scaling) + ",";
+        fingerprint += ModelEquality.fingerprint(this.style) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    URIActionResolveURI,
+    ModelStream,
+    ActionEvent,
+    Parameter,
+    ActionEventInterface,
+    ModelEquality,
+} from "./../index";
+
+export interface URIActionInterface extends ActionEventInterface {
+
+    resolveURI?: URIActionResolveURI;
+
+}
+export class URIAction extends ActionEvent implements URIActionInterface, Parameter {
+    resolveURI?: URIActionResolveURI;
+
+    constructor(data: any) {
+        super(data);
+
+        this.resolveURI = URIActionResolveURI.fromJson(data?.resolveURI);
+    }
+
+    public static getResolveURIDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): URIAction {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new URIAction(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<URIAction> {
+        return ModelStream.decodeArray(source, URIAction.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'resolveURI': this.resolveURI?.toJson(),
+        };
+    }
+
+    public clone(): URIAction {
+        return URIAction.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "resolveURI", data?.resolveURI, URIActionResolveURI.fromJson, URIActionResolveURI) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.resolveURI, other.resolveURI)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.resolveURI);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "URIAction(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.resolveURI) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface URIActionResolveURIInterface  {
+
+    /**
+    * A URI that should be resolved and shown in a suitable program.
+    */
+    uri?: string;
+
+}
+export class URIActionResolveURI implements URIActionResolveURIInterface, Parameter {
+    /**
+    * A URI that should be resolved and shown in a suitable program.
+    */
+    uri?: string;
+
+    constructor(data: any) {
+        let uriDefault: any = "";
+        this.uri = typeof data?.uri !== "undefined" ? data?.uri : uriDefault;
+    }
+
+    public static getUriDefault(): string {
+        return "";
+    }
+
+    public static getUriDescription(): string {
+        return "A URI that should be resolved and shown in a suitable program.";
+    }
+
+    public static fromJson(data: any): URIActionResolveURI {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new URIActionResolveURI(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<URIActionResolveURI> {
+        return ModelStream.decodeArray(source, URIActionResolveURI.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'uri': this.uri,
+        };
+    }
+
+    public clone(): URIActionResolveURI {
+        return URIActionResolveURI.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "uri", typeof data?.uri !== "undefined" ? data?.uri : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.uri, other.uri)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.uri);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "URIActionResolveURI(";
+        fingerprint += ModelEquality.fingerprint(this.uri) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+import {
+    ModelAssignment,
+    HttpProxy,
+    HttpBasicAuth,
+    UrlConverterPage,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface UrlConverterInterface  {
+
+    basicAuth?: HttpBasicAuth;
+    page?: UrlConverterPage;
+    proxy?: HttpProxy;
+    /**
+    * The URL for the resource to be converted.
+    */
+    url?: string;
+
+}
+export class UrlConverter implements UrlConverterInterface, Parameter {
+    basicAuth?: HttpBasicAuth;
+    page?: UrlConverterPage;
+    proxy?: HttpProxy;
+    /**
+    * The URL for the resource to be converted.
+    */
+    url?: string;
+
+    constructor(data: any) {
+        this.basicAuth = HttpBasicAuth.fromJson(data?.basicAuth);
+        this.page = UrlConverterPage.fromJson(data?.page);
+        this.proxy = HttpProxy.fromJson(data?.proxy);
+        let urlDefault: any = "";
+        this.url = typeof data?.url !== "undefined" ? data?.url : urlDefault;
+    }
+
+    public static getBasicAuthDescription(): string {
+        return "";
+    }
+
+    public static getPageDescription(): string {
+        return "";
+    }
+
+    public static getProxyDescription(): string {
+        return "";
+    }
+
+    public static getUrlDefault(): string {
+        return "";
+    }
+
+    public static getUrlDescription(): string {
+        return "The URL for the resource to be converted.";
+    }
+
+    public static fromJson(data: any): UrlConverter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UrlConverter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UrlConverter> {
+        return ModelStream.decodeArray(source, UrlConverter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'basicAuth': this.basicAuth?.toJson(),
+            'page': this.page?.toJson(),
+            'proxy': this.proxy?.toJson(),
+            'url': this.url,
+        };
+    }
+
+    public clone(): UrlConverter {
+        return UrlConverter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "basicAuth", data?.basicAuth, HttpBasicAuth.fromJson, HttpBasicAuth) || changed;
+        changed = ModelAssignment.assignModel(this, "page", data?.page, UrlConverterPage.fromJson, UrlConverterPage) || changed;
+        changed = ModelAssignment.assignModel(this, "proxy", data?.proxy, HttpProxy.fromJson, HttpProxy) || changed;
+        changed = ModelAssignment.assignValue(this, "url", typeof data?.url !== "undefined" ? data?.url : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.basicAuth, other.basicAuth)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.page, other.page)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.proxy, other.proxy)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.url, other.url)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.basicAuth);
+        hash = ModelEquality.hash(hash, this.page);
+        hash = ModelEquality.hash(hash, this.proxy);
+        hash = ModelEquality.hash(hash, this.url);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UrlConverter(";
+        fingerprint += ModelEquality.fingerprint(this.basicAuth) + ",";
+        fingerprint += ModelEquality.fingerprint(this.page) + ",";
+        fingerprint += ModelEquality.fingerprint(this.proxy) + ",";
+        fingerprint += ModelEquality.fingerprint(this.url) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Billing,
+    Parameter,
+    UrlConverter,
+    ModelEquality,
+    PdfPassword,
+    Settings,
+} from "./../index";
+
+export interface UrlConverterOperationInterface  {
+
+    billing?: Billing;
+    password?: PdfPassword;
+    settings?: Settings;
+    urlconverter: UrlConverter;
+
+}
+export class UrlConverterOperation implements UrlConverterOperationInterface, Parameter {
+    billing?: Billing;
+    password?: PdfPassword;
+    settings?: Settings;
+    urlconverter: UrlConverter;
+
+    constructor(data: any) {
+        this.billing = Billing.fromJson(data?.billing);
+        this.password = PdfPassword.fromJson(data?.password);
+        this.settings = Settings.fromJson(data?.settings);
+        this.urlconverter = UrlConverter.fromJson(data.urlconverter);
+    }
+
+    public static getBillingDescription(): string {
+        return "";
+    }
+
+    public static getPasswordDescription(): string {
+        return "";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static getUrlconverterDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): UrlConverterOperation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UrlConverterOperation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UrlConverterOperation> {
+        return ModelStream.decodeArray(source, UrlConverterOperation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'billing': this.billing?.toJson(),
+            'password': this.password?.toJson(),
+            'settings': this.settings?.toJson(),
+            'urlconverter': this.urlconverter?.toJson(),
+        };
+    }
+
+    public clone(): UrlConverterOperation {
+        return UrlConverterOperation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "billing", data?.billing, Billing.fromJson, Billing) || changed;
+        changed = ModelAssignment.assignModel(this, "password", data?.password, PdfPassword.fromJson, PdfPassword) || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, Settings.fromJson, Settings) || changed;
+        changed = ModelAssignment.assignModel(this, "urlconverter", data.urlconverter, UrlConverter.fromJson, UrlConverter) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.billing, other.billing)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.password, other.password)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.urlconverter, other.urlconverter)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.billing);
+        hash = ModelEquality.hash(hash, this.password);
+        hash = ModelEquality.hash(hash, this.settings);
+        hash = ModelEquality.hash(hash, this.urlconverter);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UrlConverterOperation(";
+        fingerprint += ModelEquality.fingerprint(this.billing) + ",";
+        fingerprint += ModelEquality.fingerprint(this.password) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        fingerprint += ModelEquality.fingerprint(this.urlconverter) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,271 @@
+import {
+    ModelAssignment,
+    UrlConverterHeader,
+    Metrics,
+    ModelStream,
+    Parameter,
+    UrlConverterFooter,
+    ModelEquality,
+} from "./../index";
+
+export interface UrlConverterPageInterface  {
+
+    /**
+    * Bottom margin settings.
+    */
+    bottom?: number;
+    footer?: UrlConverterFooter;
+    header?: UrlConverterHeader;
+    /**
+    * Page height.
+    */
+    height?: number;
+    /**
+    * Left margin settings.
+    */
+    left?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Right margin settings.
+    */
+    right?: number;
+    /**
+    * Top margin settings.
+    */
+    top?: number;
+    /**
+    * Page width.
+    */
+    width?: number;
+
+}
+export class UrlConverterPage implements UrlConverterPageInterface, Parameter {
+    /**
+    * Bottom margin settings.
+    */
+    bottom?: number;
+    footer?: UrlConverterFooter;
+    header?: UrlConverterHeader;
+    /**
+    * Page height.
+    */
+    height?: number;
+    /**
+    * Left margin settings.
+    */
+    left?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Right margin settings.
+    */
+    right?: number;
+    /**
+    * Top margin settings.
+    */
+    top?: number;
+    /**
+    * Page width.
+    */
+    width?: number;
+
+    constructor(data: any) {
+        let bottomDefault: any = 20;
+        this.bottom = typeof data?.bottom !== "undefined" ? data?.bottom : bottomDefault;
+        this.footer = UrlConverterFooter.fromJson(data?.footer);
+        this.header = UrlConverterHeader.fromJson(data?.header);
+        let heightDefault: any = 297;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let leftDefault: any = 20;
+        this.left = typeof data?.left !== "undefined" ? data?.left : leftDefault;
+        let metricsDefault: any = "mm";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let rightDefault: any = 20;
+        this.right = typeof data?.right !== "undefined" ? data?.right : rightDefault;
+        let topDefault: any = 20;
+        this.top = typeof data?.top !== "undefined" ? data?.top : topDefault;
+        let widthDefault: any = 210;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+    }
+
+    public static getBottomDefault(): number {
+        return 20;
+    }
+
+    public static getBottomDescription(): string {
+        return "Bottom margin settings.";
+    }
+
+    public static getFooterDescription(): string {
+        return "";
+    }
+
+    public static getHeaderDescription(): string {
+        return "";
+    }
+
+    public static getHeightDefault(): number {
+        return 297;
+    }
+
+    public static getHeightDescription(): string {
+        return "Page height.";
+    }
+
+    public static getLeftDefault(): number {
+        return 20;
+    }
+
+    public static getLeftDescription(): string {
+        return "Left margin settings.";
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "mm" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getRightDefault(): number {
+        return 20;
+    }
+
+    public static getRightDescription(): string {
+        return "Right margin settings.";
+    }
+
+    public static getTopDefault(): number {
+        return 20;
+    }
+
+    public static getTopDescription(): string {
+        return "Top margin settings.";
+    }
+
+    public static getWidthDefault(): number {
+        return 210;
+    }
+
+    public static getWidthDescription(): string {
+        return "Page width.";
+    }
+
+    public static fromJson(data: any): UrlConverterPage {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UrlConverterPage(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UrlConverterPage> {
+        return ModelStream.decodeArray(source, UrlConverterPage.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'bottom': this.bottom,
+            'footer': this.footer?.toJson(),
+            'header': this.header?.toJson(),
+            'height': this.height,
+            'left': this.left,
+            'metrics': this.metrics,
+            'right': this.right,
+            'top': this.top,
+            'width': this.width,
+        };
+    }
+
+    public clone(): UrlConverterPage {
+        return UrlConverterPage.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "bottom", typeof data?.bottom !== "undefined" ? data?.bottom : 20) || changed;
+        changed = ModelAssignment.assignModel(this, "footer", data?.footer, UrlConverterFooter.fromJson, UrlConverterFooter) || changed;
+        changed = ModelAssignment.assignModel(this, "header", data?.header, UrlConverterHeader.fromJson, UrlConverterHeader) || changed;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 297) || changed;
+        changed = ModelAssignment.assignValue(this, "left", typeof data?.left !== "undefined" ? data?.left : 20) || changed;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "mm") || changed;
+        changed = ModelAssignment.assignValue(this, "right", typeof data?.right !== "undefined" ? data?.right : 20) || changed;
+        changed = ModelAssignment.assignValue(this, "top", typeof data?.top !== "undefined" ? data?.top : 20) || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 210) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bottom, other.bottom)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.footer, other.footer)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.header, other.header)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.left, other.left)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.right, other.right)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.top, other.top)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.bottom);
+        hash = ModelEquality.hash(hash, this.footer);
+        hash = ModelEquality.hash(hash, this.header);
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.left);
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.right);
+        hash = ModelEquality.hash(hash, this.top);
+        hash = ModelEquality.hash(hash, this.width);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UrlConverterPage(";
+        fingerprint += ModelEquality.fingerprint(this.bottom) + ",";
+        fingerprint += ModelEquality.fingerprint(this.footer) + ",";
+        fingerprint += ModelEquality.fingerprint(this.header) + ",";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.left) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.right) + ",";
+        fingerprint += ModelEquality.fingerprint(this.top) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
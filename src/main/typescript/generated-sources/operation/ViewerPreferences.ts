@@ -0,0 +1,500 @@
+import {
+    ModelAssignment,
+    NonFullScreenPageMode,
+    PrintTraySelection,
+    TextDirection,
+    ModelStream,
+    Parameter,
+    PrintScale,
+    ModelEquality,
+    Duplex,
+    PageBox,
+} from "./../index";
+
+export interface ViewerPreferencesInterface  {
+
+    /**
+    * If true, the PDF reader window is moved to the center of the screen.
+    */
+    centerWindow?: boolean;
+    /**
+    * If true, the document title of the document is displayed in the title bar of the PDF reader instead of the file name.
+    */
+    displayDocTitle?: boolean;
+    /**
+    * Sets whether and how pages are to be printed on both sides. (This setting is only a dialog default and can be changed by the user at any time).  *   simplex = Print on one side. *   duplexFlipLongEdge = Print on both sides and flip over the longer edge of the page. *   duplexFlipShortEdge = Print on both sides and flip over the shorter side edge. *   none = Use the default settings of the display program.
+    */
+    duplex?: Duplex;
+    /**
+    * If true, the window size of the PDF reader will be tried to fit the first page of the document.
+    */
+    fitWindow?: boolean;
+    /**
+    * If true, the menu bars of the PDF reader are hidden for the display of this document.
+    */
+    hideMenuBar?: boolean;
+    /**
+    * If true, the toolbars of the PDF reader are hidden for the display of this document.
+    */
+    hideToolbar?: boolean;
+    /**
+    * If true, the scrollbars and other navigation features of the PDF reader are hidden for the display of this document.
+    */
+    hideWindowUI?: boolean;
+    /**
+    * Konfiguriert die Anzeige des Dokuments, wenn das Dokument nicht im Vollbildmodus betrachtet wird. Dies konfiguriert in erste Linie welche Navigationsansicht für den Betrachter geöffnet werden soll.  *   none = Weder die Inhaltsübersicht, noch die Miniaturansicht der Seiten sollen angezeigt werden. *   outlines = Die Inhaltsübersicht des Dokuments soll angezeigt werden. *   thumbnails = Die Miniaturansicht der Seiten des Dokuments soll angezeigt werden. *   optionalContents = Die Layer (Optional Content Groups) des Dokuments sollen angezeigt werden.
+    */
+    nonFullScreenPageMode?: NonFullScreenPageMode;
+    /**
+    * Specifies how many copies of the document are to be printed. (This setting is only a dialog default and can be changed by the user at any time).
+    */
+    numCopies?: number;
+    /**
+    * Used to select the box that should be scaled.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    printArea?: PageBox;
+    /**
+    * Used to select the box that should be scaled.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    printClip?: PageBox;
+    /**
+    * Specifies which page(s) to print. For the page number, either a single page, a range of pages or a list (separated by commas) can be specified (e.g. \"1,5-6,9\"). The specification of all pages is done with \"\\*\". (This setting is only a dialog default and can be changed by the user at any time).
+    */
+    printPageRange?: string;
+    /**
+    * Selects the page  *   scaling mode for printouts of the document. (This setting is only a dialog default and can be changed by the user at any time). *   readerDefault = Use the scaling functions provided by the display program. *   noPrintScaling = Do no page scaling and print the pages in original size.
+    */
+    printScaling?: PrintScale;
+    /**
+    * Selects the default setting for how print trays should be selected for printing the pages of the document. (This setting is only a dialog default and can be changed by the user at any time).  *   readerDefault = Use the default settings of the display program. *   byPDFSize = Try to determine the necessary paper size and the used print tray automatically based on the size of the pages of the document.
+    */
+    printTraySelection?: PrintTraySelection;
+    /**
+    * Specifies the text reading direction for the display program's read aloud.  *   leftToRight = From left to right. *   rightToLeft = From right to left. (Including vertical fonts, such as: Chinese, Japanese, Korean, etc.).
+    */
+    textDirection?: TextDirection;
+    /**
+    * Used to select the box that should be scaled.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    viewArea?: PageBox;
+    /**
+    * Used to select the box that should be scaled.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    viewClip?: PageBox;
+
+}
+export class ViewerPreferences implements ViewerPreferencesInterface, Parameter {
+    /**
+    * If true, the PDF reader window is moved to the center of the screen.
+    */
+    centerWindow?: boolean;
+    /**
+    * If true, the document title of the document is displayed in the title bar of the PDF reader instead of the file name.
+    */
+    displayDocTitle?: boolean;
+    /**
+    * Sets whether and how pages are to be printed on both sides. (This setting is only a dialog default and can be changed by the user at any time).  *   simplex = Print on one side. *   duplexFlipLongEdge = Print on both sides and flip over the longer edge of the page. *   duplexFlipShortEdge = Print on both sides and flip over the shorter side edge. *   none = Use the default settings of the display program.
+    */
+    duplex?: Duplex;
+    /**
+    * If true, the window size of the PDF reader will be tried to fit the first page of the document.
+    */
+    fitWindow?: boolean;
+    /**
+    * If true, the menu bars of the PDF reader are hidden for the display of this document.
+    */
+    hideMenuBar?: boolean;
+    /**
+    * If true, the toolbars of the PDF reader are hidden for the display of this document.
+    */
+    hideToolbar?: boolean;
+    /**
+    * If true, the scrollbars and other navigation features of the PDF reader are hidden for the display of this document.
+    */
+    hideWindowUI?: boolean;
+    /**
+    * Konfiguriert die Anzeige des Dokuments, wenn das Dokument nicht im Vollbildmodus betrachtet wird. Dies konfiguriert in erste Linie welche Navigationsansicht für den Betrachter geöffnet werden soll.  *   none = Weder die Inhaltsübersicht, noch die Miniaturansicht der Seiten sollen angezeigt werden. *   outlines = Die Inhaltsübersicht des Dokuments soll angezeigt werden. *   thumbnails = Die Miniaturansicht der Seiten des Dokuments soll angezeigt werden. *   optionalContents = Die Layer (Optional Content Groups) des Dokuments sollen angezeigt werden.
+    */
+    nonFullScreenPageMode?: NonFullScreenPageMode;
+    /**
+    * Specifies how many copies of the document are to be printed. (This setting is only a dialog default and can be changed by the user at any time).
+    */
+    numCopies?: number;
+    /**
+    * Used to select the box that should be scaled.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    printArea?: PageBox;
+    /**
+    * Used to select the box that should be scaled.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    printClip?: PageBox;
+    /**
+    * Specifies which page(s) to print. For the page number, either a single page, a range of pages or a list (separated by commas) can be specified (e.g. \"1,5-6,9\"). The specification of all pages is done with \"\\*\". (This setting is only a dialog default and can be changed by the user at any time).
+    */
+    printPageRange?: string;
+    /**
+    * Selects the page  *   scaling mode for printouts of the document. (This setting is only a dialog default and can be changed by the user at any time). *   readerDefault = Use the scaling functions provided by the display program. *   noPrintScaling = Do no page scaling and print the pages in original size.
+    */
+    printScaling?: PrintScale;
+    /**
+    * Selects the default setting for how print trays should be selected for printing the pages of the document. (This setting is only a dialog default and can be changed by the user at any time).  *   readerDefault = Use the default settings of the display program. *   byPDFSize = Try to determine the necessary paper size and the used print tray automatically based on the size of the pages of the document.
+    */
+    printTraySelection?: PrintTraySelection;
+    /**
+    * Specifies the text reading direction for the display program's read aloud.  *   leftToRight = From left to right. *   rightToLeft = From right to left. (Including vertical fonts, such as: Chinese, Japanese, Korean, etc.).
+    */
+    textDirection?: TextDirection;
+    /**
+    * Used to select the box that should be scaled.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    viewArea?: PageBox;
+    /**
+    * Used to select the box that should be scaled.  *   media\\_box = The page's physical dimensions. *   crop\\_box = The visible (printable) page area. *   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box). *   trim\\_box = Trimmed content position on the page (final content dimensions). *   art\\_box = Position for special page content (images).
+    */
+    viewClip?: PageBox;
+
+    constructor(data: any) {
+        let centerWindowDefault: any = false;
+        this.centerWindow = typeof data?.centerWindow !== "undefined" ? data?.centerWindow : centerWindowDefault;
+        let displayDocTitleDefault: any = false;
+        this.displayDocTitle = typeof data?.displayDocTitle !== "undefined" ? data?.displayDocTitle : displayDocTitleDefault;
+        let duplexDefault: any = "none";
+        this.duplex = typeof data?.duplex !== "undefined" ? data?.duplex : duplexDefault;
+        let fitWindowDefault: any = false;
+        this.fitWindow = typeof data?.fitWindow !== "undefined" ? data?.fitWindow : fitWindowDefault;
+        let hideMenuBarDefault: any = false;
+        this.hideMenuBar = typeof data?.hideMenuBar !== "undefined" ? data?.hideMenuBar : hideMenuBarDefault;
+        let hideToolbarDefault: any = false;
+        this.hideToolbar = typeof data?.hideToolbar !== "undefined" ? data?.hideToolbar : hideToolbarDefault;
+        let hideWindowUIDefault: any = false;
+        this.hideWindowUI = typeof data?.hideWindowUI !== "undefined" ? data?.hideWindowUI : hideWindowUIDefault;
+        let nonFullScreenPageModeDefault: any = "none";
+        this.nonFullScreenPageMode = typeof data?.nonFullScreenPageMode !== "undefined" ? data?.nonFullScreenPageMode : nonFullScreenPageModeDefault;
+        let numCopiesDefault: any = 1;
+        this.numCopies = typeof data?.numCopies !== "undefined" ? data?.numCopies : numCopiesDefault;
+        let printAreaDefault: any = "crop_box";
+        this.printArea = typeof data?.printArea !== "undefined" ? data?.printArea : printAreaDefault;
+        let printClipDefault: any = "crop_box";
+        this.printClip = typeof data?.printClip !== "undefined" ? data?.printClip : printClipDefault;
+        let printPageRangeDefault: any = "";
+        this.printPageRange = typeof data?.printPageRange !== "undefined" ? data?.printPageRange : printPageRangeDefault;
+        let printScalingDefault: any = "readerDefault";
+        this.printScaling = typeof data?.printScaling !== "undefined" ? data?.printScaling : printScalingDefault;
+        let printTraySelectionDefault: any = "readerDefault";
+        this.printTraySelection = typeof data?.printTraySelection !== "undefined" ? data?.printTraySelection : printTraySelectionDefault;
+        let textDirectionDefault: any = "leftToRight";
+        this.textDirection = typeof data?.textDirection !== "undefined" ? data?.textDirection : textDirectionDefault;
+        let viewAreaDefault: any = "crop_box";
+        this.viewArea = typeof data?.viewArea !== "undefined" ? data?.viewArea : viewAreaDefault;
+        let viewClipDefault: any = "crop_box";
+        this.viewClip = typeof data?.viewClip !== "undefined" ? data?.viewClip : viewClipDefault;
+    }
+
+    public static getCenterWindowDefault(): boolean {
+        return false;
+    }
+
+    public static getCenterWindowDescription(): string {
+        return "If true, the PDF reader window is moved to the center of the screen.";
+    }
+
+    public static getDisplayDocTitleDefault(): boolean {
+        return false;
+    }
+
+    public static getDisplayDocTitleDescription(): string {
+        return "If true, the document title of the document is displayed in the title bar of the PDF reader instead of the file name.";
+    }
+
+    public static getDuplexDefault(): Duplex {
+        return "none" as Duplex;
+    }
+
+    public static getDuplexDescription(): string {
+        return "Sets whether and how pages are to be printed on both sides. (This setting is only a dialog default and can be changed by the user at any time).\n\n*   simplex = Print on one side.\n*   duplexFlipLongEdge = Print on both sides and flip over the longer edge of the page.\n*   duplexFlipShortEdge = Print on both sides and flip over the shorter side edge.\n*   none = Use the default settings of the display program.";
+    }
+
+    public static getFitWindowDefault(): boolean {
+        return false;
+    }
+
+    public static getFitWindowDescription(): string {
+        return "If true, the window size of the PDF reader will be tried to fit the first page of the document.";
+    }
+
+    public static getHideMenuBarDefault(): boolean {
+        return false;
+    }
+
+    public static getHideMenuBarDescription(): string {
+        return "If true, the menu bars of the PDF reader are hidden for the display of this document.";
+    }
+
+    public static getHideToolbarDefault(): boolean {
+        return false;
+    }
+
+    public static getHideToolbarDescription(): string {
+        return "If true, the toolbars of the PDF reader are hidden for the display of this document.";
+    }
+
+    public static getHideWindowUIDefault(): boolean {
+        return false;
+    }
+
+    public static getHideWindowUIDescription(): string {
+        return "If true, the scrollbars and other navigation features of the PDF reader are hidden for the display of this document.";
+    }
+
+    public static getNonFullScreenPageModeDefault(): NonFullScreenPageMode {
+        return "none" as NonFullScreenPageMode;
+    }
+
+    public static getNonFullScreenPageModeDescription(): string {
+        return "Konfiguriert die Anzeige des Dokuments, wenn das Dokument nicht im Vollbildmodus betrachtet wird. Dies konfiguriert in erste Linie welche Navigationsansicht f\u00FCr den Betrachter ge\u00F6ffnet werden soll.\n\n*   none = Weder die Inhalts\u00FCbersicht, noch die Miniaturansicht der Seiten sollen angezeigt werden.\n*   outlines = Die Inhalts\u00FCbersicht des Dokuments soll angezeigt werden.\n*   thumbnails = Die Miniaturansicht der Seiten des Dokuments soll angezeigt werden.\n*   optionalContents = Die Layer (Optional Content Groups) des Dokuments sollen angezeigt werden.";
+    }
+
+    public static getNumCopiesDefault(): number {
+        return 1;
+    }
+
+    public static getNumCopiesDescription(): string {
+        return "Specifies how many copies of the document are to be printed. (This setting is only a dialog default and can be changed by the user at any time).";
+    }
+
+    public static getNumCopiesMin(): number {
+        return 1;
+    }
+
+    public static getPrintAreaDefault(): PageBox {
+        return "crop_box" as PageBox;
+    }
+
+    public static getPrintAreaDescription(): string {
+        return "Used to select the box that should be scaled.\n\n*   media\\_box = The page's physical dimensions.\n*   crop\\_box = The visible (printable) page area.\n*   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box).\n*   trim\\_box = Trimmed content position on the page (final content dimensions).\n*   art\\_box = Position for special page content (images).";
+    }
+
+    public static getPrintClipDefault(): PageBox {
+        return "crop_box" as PageBox;
+    }
+
+    public static getPrintClipDescription(): string {
+        return "Used to select the box that should be scaled.\n\n*   media\\_box = The page's physical dimensions.\n*   crop\\_box = The visible (printable) page area.\n*   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box).\n*   trim\\_box = Trimmed content position on the page (final content dimensions).\n*   art\\_box = Position for special page content (images).";
+    }
+
+    public static getPrintPageRangeDefault(): string {
+        return "";
+    }
+
+    public static getPrintPageRangeDescription(): string {
+        return "Specifies which page(s) to print. For the page number, either a single page, a range of pages or a list (separated by commas) can be specified (e.g. \"1,5-6,9\"). The specification of all pages is done with \"\\*\". (This setting is only a dialog default and can be changed by the user at any time).";
+    }
+
+    public static getPrintScalingDefault(): PrintScale {
+        return "readerDefault" as PrintScale;
+    }
+
+    public static getPrintScalingDescription(): string {
+        return "Selects the page\n\n*   scaling mode for printouts of the document. (This setting is only a dialog default and can be changed by the user at any time).\n*   readerDefault = Use the scaling functions provided by the display program.\n*   noPrintScaling = Do no page scaling and print the pages in original size.";
+    }
+
+    public static getPrintTraySelectionDefault(): PrintTraySelection {
+        return "readerDefault" as PrintTraySelection;
+    }
+
+    public static getPrintTraySelectionDescription(): string {
+        return "Selects the default setting for how print trays should be selected for printing the pages of the document. (This setting is only a dialog default and can be changed by the user at any time).\n\n*   readerDefault = Use the default settings of the display program.\n*   byPDFSize = Try to determine the necessary paper size and the used print tray automatically based on the size of the pages of the document.";
+    }
+
+    public static getTextDirectionDefault(): TextDirection {
+        return "leftToRight" as TextDirection;
+    }
+
+    public static getTextDirectionDescription(): string {
+        return "Specifies the text reading direction for the display program's read aloud.\n\n*   leftToRight = From left to right.\n*   rightToLeft = From right to left. (Including vertical fonts, such as: Chinese, Japanese, Korean, etc.).";
+    }
+
+    public static getViewAreaDefault(): PageBox {
+        return "crop_box" as PageBox;
+    }
+
+    public static getViewAreaDescription(): string {
+        return "Used to select the box that should be scaled.\n\n*   media\\_box = The page's physical dimensions.\n*   crop\\_box = The visible (printable) page area.\n*   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box).\n*   trim\\_box = Trimmed content position on the page (final content dimensions).\n*   art\\_box = Position for special page content (images).";
+    }
+
+    public static getViewClipDefault(): PageBox {
+        return "crop_box" as PageBox;
+    }
+
+    public static getViewClipDescription(): string {
+        return "Used to select the box that should be scaled.\n\n*   media\\_box = The page's physical dimensions.\n*   crop\\_box = The visible (printable) page area.\n*   bleed\\_box = Untrimmed content position on the page (content dimensions plus trim box).\n*   trim\\_box = Trimmed content position on the page (final content dimensions).\n*   art\\_box = Position for special page content (images).";
+    }
+
+    public static fromJson(data: any): ViewerPreferences {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ViewerPreferences(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ViewerPreferences> {
+        return ModelStream.decodeArray(source, ViewerPreferences.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'centerWindow': this.centerWindow,
+            'displayDocTitle': this.displayDocTitle,
+            'duplex': this.duplex,
+            'fitWindow': this.fitWindow,
+            'hideMenuBar': this.hideMenuBar,
+            'hideToolbar': this.hideToolbar,
+            'hideWindowUI': this.hideWindowUI,
+            'nonFullScreenPageMode': this.nonFullScreenPageMode,
+            'numCopies': this.numCopies,
+            'printArea': this.printArea,
+            'printClip': this.printClip,
+            'printPageRange': this.printPageRange,
+            'printScaling': this.printScaling,
+            'printTraySelection': this.printTraySelection,
+            'textDirection': this.textDirection,
+            'viewArea': this.viewArea,
+            'viewClip': this.viewClip,
+        };
+    }
+
+    public clone(): ViewerPreferences {
+        return ViewerPreferences.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "centerWindow", typeof data?.centerWindow !== "undefined" ? data?.centerWindow : false) || changed;
+        changed = ModelAssignment.assignValue(this, "displayDocTitle", typeof data?.displayDocTitle !== "undefined" ? data?.displayDocTitle : false) || changed;
+        changed = ModelAssignment.assignValue(this, "duplex", typeof data?.duplex !== "undefined" ? data?.duplex : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "fitWindow", typeof data?.fitWindow !== "undefined" ? data?.fitWindow : false) || changed;
+        changed = ModelAssignment.assignValue(this, "hideMenuBar", typeof data?.hideMenuBar !== "undefined" ? data?.hideMenuBar : false) || changed;
+        changed = ModelAssignment.assignValue(this, "hideToolbar", typeof data?.hideToolbar !== "undefined" ? data?.hideToolbar : false) || changed;
+        changed = ModelAssignment.assignValue(this, "hideWindowUI", typeof data?.hideWindowUI !== "undefined" ? data?.hideWindowUI : false) || changed;
+        changed = ModelAssignment.assignValue(this, "nonFullScreenPageMode", typeof data?.nonFullScreenPageMode !== "undefined" ? data?.nonFullScreenPageMode : "none") || changed;
+        changed = ModelAssignment.assignValue(this, "numCopies", typeof data?.numCopies !== "undefined" ? data?.numCopies : 1) || changed;
+        changed = ModelAssignment.assignValue(this, "printArea", typeof data?.printArea !== "undefined" ? data?.printArea : "crop_box") || changed;
+        changed = ModelAssignment.assignValue(this, "printClip", typeof data?.printClip !== "undefined" ? data?.printClip : "crop_box") || changed;
+        changed = ModelAssignment.assignValue(this, "printPageRange", typeof data?.printPageRange !== "undefined" ? data?.printPageRange : "") || changed;
+        changed = ModelAssignment.assignValue(this, "printScaling", typeof data?.printScaling !== "undefined" ? data?.printScaling : "readerDefault") || changed;
+        changed = ModelAssignment.assignValue(this, "printTraySelection", typeof data?.printTraySelection !== "undefined" ? data?.printTraySelection : "readerDefault") || changed;
+        changed = ModelAssignment.assignValue(this, "textDirection", typeof data?.textDirection !== "undefined" ? data?.textDirection : "leftToRight") || changed;
+        changed = ModelAssignment.assignValue(this, "viewArea", typeof data?.viewArea !== "undefined" ? data?.viewArea : "crop_box") || changed;
+        changed = ModelAssignment.assignValue(this, "viewClip", typeof data?.viewClip !== "undefined" ? data?.viewClip : "crop_box") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.centerWindow, other.centerWindow)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.displayDocTitle, other.displayDocTitle)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.duplex, other.duplex)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fitWindow, other.fitWindow)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hideMenuBar, other.hideMenuBar)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hideToolbar, other.hideToolbar)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.hideWindowUI, other.hideWindowUI)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.nonFullScreenPageMode, other.nonFullScreenPageMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.numCopies, other.numCopies)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printArea, other.printArea)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printClip, other.printClip)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printPageRange, other.printPageRange)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printScaling, other.printScaling)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printTraySelection, other.printTraySelection)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.textDirection, other.textDirection)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.viewArea, other.viewArea)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.viewClip, other.viewClip)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.centerWindow);
+        hash = ModelEquality.hash(hash, this.displayDocTitle);
+        hash = ModelEquality.hash(hash, this.duplex);
+        hash = ModelEquality.hash(hash, this.fitWindow);
+        hash = ModelEquality.hash(hash, this.hideMenuBar);
+        hash = ModelEquality.hash(hash, this.hideToolbar);
+        hash = ModelEquality.hash(hash, this.hideWindowUI);
+        hash = ModelEquality.hash(hash, this.nonFullScreenPageMode);
+        hash = ModelEquality.hash(hash, this.numCopies);
+        hash = ModelEquality.hash(hash, this.printArea);
+        hash = ModelEquality.hash(hash, this.printClip);
+        hash = ModelEquality.hash(hash, this.printPageRange);
+        hash = ModelEquality.hash(hash, this.printScaling);
+        hash = ModelEquality.hash(hash, this.printTraySelection);
+        hash = ModelEquality.hash(hash, this.textDirection);
+        hash = ModelEquality.hash(hash, this.viewArea);
+        hash = ModelEquality.hash(hash, this.viewClip);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ViewerPreferences(";
+        fingerprint += ModelEquality.fingerprint(this.centerWindow) + ",";
+        fingerprint += ModelEquality.fingerprint(this.displayDocTitle) + ",";
+        fingerprint += ModelEquality.fingerprint(this.duplex) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fitWindow) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hideMenuBar) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hideToolbar) + ",";
+        fingerprint += ModelEquality.fingerprint(this.hideWindowUI) + ",";
+        fingerprint += ModelEquality.fingerprint(this.nonFullScreenPageMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.numCopies) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printArea) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printClip) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printPageRange) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printScaling) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printTraySelection) + ",";
+        fingerprint += ModelEquality.fingerprint(this.textDirection) + ",";
+        fingerprint += ModelEquality.fingerprint(this.viewArea) + ",";
+        fingerprint += ModelEquality.fingerprint(this.viewClip) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface VisibilityBackgroundBaseSettingsInterface  {
+
+    /**
+    * If true, the background will be printed when the document is printed.
+    */
+    onPrint?: boolean;
+    /**
+    * If true, the background will be shown when the document is displayed.
+    */
+    onScreen?: boolean;
+
+}
+export class VisibilityBackgroundBaseSettings implements VisibilityBackgroundBaseSettingsInterface, Parameter {
+    /**
+    * If true, the background will be printed when the document is printed.
+    */
+    onPrint?: boolean;
+    /**
+    * If true, the background will be shown when the document is displayed.
+    */
+    onScreen?: boolean;
+
+    constructor(data: any) {
+        let onPrintDefault: any = true;
+        this.onPrint = typeof data?.onPrint !== "undefined" ? data?.onPrint : onPrintDefault;
+        let onScreenDefault: any = true;
+        this.onScreen = typeof data?.onScreen !== "undefined" ? data?.onScreen : onScreenDefault;
+    }
+
+    public static getOnPrintDefault(): boolean {
+        return true;
+    }
+
+    public static getOnPrintDescription(): string {
+        return "If true, the background will be printed when the document is printed.";
+    }
+
+    public static getOnScreenDefault(): boolean {
+        return true;
+    }
+
+    public static getOnScreenDescription(): string {
+        return "If true, the background will be shown when the document is displayed.";
+    }
+
+    public static fromJson(data: any): VisibilityBackgroundBaseSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new VisibilityBackgroundBaseSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<VisibilityBackgroundBaseSettings> {
+        return ModelStream.decodeArray(source, VisibilityBackgroundBaseSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'onPrint': this.onPrint,
+            'onScreen': this.onScreen,
+        };
+    }
+
+    public clone(): VisibilityBackgroundBaseSettings {
+        return VisibilityBackgroundBaseSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "onPrint", typeof data?.onPrint !== "undefined" ? data?.onPrint : true) || changed;
+        changed = ModelAssignment.assignValue(this, "onScreen", typeof data?.onScreen !== "undefined" ? data?.onScreen : true) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.onPrint, other.onPrint)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.onScreen, other.onScreen)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.onPrint);
+        hash = ModelEquality.hash(hash, this.onScreen);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "VisibilityBackgroundBaseSettings(";
+        fingerprint += ModelEquality.fingerprint(this.onPrint) + ",";
+        fingerprint += ModelEquality.fingerprint(this.onScreen) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,256 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface WatermarkFontInterface  {
+
+    /**
+    * Used to increase the text output's weight.
+    */
+    bold?: boolean;
+    /**
+    * Used to set the colour for the watermark. The hereby defined color needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * Used to set the italic font posture for the text output.
+    */
+    italic?: boolean;
+    /**
+    * Used to specify the name of the font that should be used for the text output. If a font is not specified, \"Helvetica\" will be used.
+    */
+    name?: string;
+    /**
+    * Used to set the opacity of the text output as a watermark.
+    */
+    opacity?: number;
+    /**
+    * Uses an outline font for the text output.
+    */
+    outline?: boolean;
+    /**
+    * Used to set the text size for the text output.
+    */
+    size?: number;
+
+}
+export class WatermarkFont implements WatermarkFontInterface, Parameter {
+    /**
+    * Used to increase the text output's weight.
+    */
+    bold?: boolean;
+    /**
+    * Used to set the colour for the watermark. The hereby defined color needs to be specified as a hexadecimal RGB value with a number sign before it.
+    */
+    color?: string;
+    /**
+    * Used to set the italic font posture for the text output.
+    */
+    italic?: boolean;
+    /**
+    * Used to specify the name of the font that should be used for the text output. If a font is not specified, \"Helvetica\" will be used.
+    */
+    name?: string;
+    /**
+    * Used to set the opacity of the text output as a watermark.
+    */
+    opacity?: number;
+    /**
+    * Uses an outline font for the text output.
+    */
+    outline?: boolean;
+    /**
+    * Used to set the text size for the text output.
+    */
+    size?: number;
+
+    constructor(data: any) {
+        let boldDefault: any = false;
+        this.bold = typeof data?.bold !== "undefined" ? data?.bold : boldDefault;
+        let colorDefault: any = "#A0A0A0";
+        this.color = typeof data?.color !== "undefined" ? data?.color : colorDefault;
+        let italicDefault: any = false;
+        this.italic = typeof data?.italic !== "undefined" ? data?.italic : italicDefault;
+        let nameDefault: any = "";
+        this.name = typeof data?.name !== "undefined" ? data?.name : nameDefault;
+        let opacityDefault: any = 100;
+        this.opacity = typeof data?.opacity !== "undefined" ? data?.opacity : opacityDefault;
+        let outlineDefault: any = false;
+        this.outline = typeof data?.outline !== "undefined" ? data?.outline : outlineDefault;
+        let sizeDefault: any = 24;
+        this.size = typeof data?.size !== "undefined" ? data?.size : sizeDefault;
+    }
+
+    public static getBoldDefault(): boolean {
+        return false;
+    }
+
+    public static getBoldDescription(): string {
+        return "Used to increase the text output's weight.";
+    }
+
+    public static getColorDefault(): string {
+        return "#A0A0A0";
+    }
+
+    public static getColorDescription(): string {
+        return "Used to set the colour for the watermark. The hereby defined color needs to be specified as a hexadecimal RGB value with a number sign before it.";
+    }
+
+    public static getItalicDefault(): boolean {
+        return false;
+    }
+
+    public static getItalicDescription(): string {
+        return "Used to set the italic font posture for the text output.";
+    }
+
+    public static getNameDefault(): string {
+        return "";
+    }
+
+    public static getNameDescription(): string {
+        return "Used to specify the name of the font that should be used for the text output. If a font is not specified, \"Helvetica\" will be used.";
+    }
+
+    public static getOpacityDefault(): number {
+        return 100;
+    }
+
+    public static getOpacityDescription(): string {
+        return "Used to set the opacity of the text output as a watermark.";
+    }
+
+    public static getOpacityMin(): number {
+        return 0;
+    }
+
+    public static getOpacityMax(): number {
+        return 100;
+    }
+
+    public static getOutlineDefault(): boolean {
+        return false;
+    }
+
+    public static getOutlineDescription(): string {
+        return "Uses an outline font for the text output.";
+    }
+
+    public static getSizeDefault(): number {
+        return 24;
+    }
+
+    public static getSizeDescription(): string {
+        return "Used to set the text size for the text output.";
+    }
+
+    public static getSizeMin(): number {
+        return 1;
+    }
+
+    public static getSizeMax(): number {
+        return 1296;
+    }
+
+    public static fromJson(data: any): WatermarkFont {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WatermarkFont(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WatermarkFont> {
+        return ModelStream.decodeArray(source, WatermarkFont.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'bold': this.bold,
+            'color': this.color,
+            'italic': this.italic,
+            'name': this.name,
+            'opacity': this.opacity,
+            'outline': this.outline,
+            'size': this.size,
+        };
+    }
+
+    public clone(): WatermarkFont {
+        return WatermarkFont.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "bold", typeof data?.bold !== "undefined" ? data?.bold : false) || changed;
+        changed = ModelAssignment.assignValue(this, "color", typeof data?.color !== "undefined" ? data?.color : "#A0A0A0") || changed;
+        changed = ModelAssignment.assignValue(this, "italic", typeof data?.italic !== "undefined" ? data?.italic : false) || changed;
+        changed = ModelAssignment.assignValue(this, "name", typeof data?.name !== "undefined" ? data?.name : "") || changed;
+        changed = ModelAssignment.assignValue(this, "opacity", typeof data?.opacity !== "undefined" ? data?.opacity : 100) || changed;
+        changed = ModelAssignment.assignValue(this, "outline", typeof data?.outline !== "undefined" ? data?.outline : false) || changed;
+        changed = ModelAssignment.assignValue(this, "size", typeof data?.size !== "undefined" ? data?.size : 24) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.bold, other.bold)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.color, other.color)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.italic, other.italic)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.name, other.name)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.opacity, other.opacity)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.outline, other.outline)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.size, other.size)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.bold);
+        hash = ModelEquality.hash(hash, this.color);
+        hash = ModelEquality.hash(hash, this.italic);
+        hash = ModelEquality.hash(hash, this.name);
+        hash = ModelEquality.hash(hash, this.opacity);
+        hash = ModelEquality.hash(hash, this.outline);
+        hash = ModelEquality.hash(hash, this.size);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WatermarkFont(";
+        fingerprint += ModelEquality.fingerprint(this.bold) + ",";
+        fingerprint += ModelEquality.fingerprint(this.color) + ",";
+        fingerprint += ModelEquality.fingerprint(this.italic) + ",";
+        fingerprint += ModelEquality.fingerprint(this.name) + ",";
+        fingerprint += ModelEquality.fingerprint(this.opacity) + ",";
+        fingerprint += ModelEquality.fingerprint(this.outline) + ",";
+        fingerprint += ModelEquality.fingerprint(this.size) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+import {
+    ModelAssignment,
+    WatermarkFileData,
+    WatermarkPosition,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface WatermarkImageInterface  {
+
+    data: WatermarkFileData;
+    /**
+    * Used to set the image's opacity. A percent value between 0 and 100 is allowed, whereby 0 equals the minimum opacity. The higher the value, the more the content of the PDF document will be covered over.
+    */
+    opacity?: number;
+    position?: WatermarkPosition;
+    /**
+    * Specifies the scaling of the image in percent.
+    */
+    scale?: number;
+
+}
+export class WatermarkImage implements WatermarkImageInterface, Parameter {
+    data: WatermarkFileData;
+    /**
+    * Used to set the image's opacity. A percent value between 0 and 100 is allowed, whereby 0 equals the minimum opacity. The higher the value, the more the content of the PDF document will be covered over.
+    */
+    opacity?: number;
+    position?: WatermarkPosition;
+    /**
+    * Specifies the scaling of the image in percent.
+    */
+    scale?: number;
+
+    constructor(data: any) {
+        this.data = WatermarkFileData.fromJson(data.data);
+        let opacityDefault: any = 25;
+        this.opacity = typeof data?.opacity !== "undefined" ? data?.opacity : opacityDefault;
+        this.position = WatermarkPosition.fromJson(data?.position);
+        let scaleDefault: any = 0;
+        this.scale = typeof data?.scale !== "undefined" ? data?.scale : scaleDefault;
+    }
+
+    public static getDataDescription(): string {
+        return "";
+    }
+
+    public static getOpacityDefault(): number {
+        return 25;
+    }
+
+    public static getOpacityDescription(): string {
+        return "Used to set the image's opacity. A percent value between 0 and 100 is allowed, whereby 0 equals the minimum opacity. The higher the value, the more the content of the PDF document will be covered over.";
+    }
+
+    public static getOpacityMin(): number {
+        return 0;
+    }
+
+    public static getOpacityMax(): number {
+        return 100;
+    }
+
+    public static getPositionDescription(): string {
+        return "";
+    }
+
+    public static getScaleDefault(): number {
+        return 0;
+    }
+
+    public static getScaleDescription(): string {
+        return "Specifies the scaling of the image in percent.";
+    }
+
+    public static getScaleMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): WatermarkImage {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WatermarkImage(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WatermarkImage> {
+        return ModelStream.decodeArray(source, WatermarkImage.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'data': this.data?.toJson(),
+            'opacity': this.opacity,
+            'position': this.position?.toJson(),
+            'scale': this.scale,
+        };
+    }
+
+    public clone(): WatermarkImage {
+        return WatermarkImage.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "data", data.data, WatermarkFileData.fromJson, WatermarkFileData) || changed;
+        changed = ModelAssignment.assignValue(this, "opacity", typeof data?.opacity !== "undefined" ? data?.opacity : 25) || changed;
+        changed = ModelAssignment.assignModel(this, "position", data?.position, WatermarkPosition.fromJson, WatermarkPosition) || changed;
+        changed = ModelAssignment.assignValue(this, "scale", typeof data?.scale !== "undefined" ? data?.scale : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.data, other.data)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.opacity, other.opacity)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.scale, other.scale)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.data);
+        hash = ModelEquality.hash(hash, this.opacity);
+        hash = ModelEquality.hash(hash, this.position);
+        hash = ModelEquality.hash(hash, this.scale);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WatermarkImage(";
+        fingerprint += ModelEquality.fingerprint(this.data) + ",";
+        fingerprint += ModelEquality.fingerprint(this.opacity) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        fingerprint += ModelEquality.fingerprint(this.scale) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,258 @@
+import {
+    ModelAssignment,
+    Metrics,
+    ModelStream,
+    Parameter,
+    WatermarkPositionMode,
+    ModelEquality,
+} from "./../index";
+
+export interface WatermarkPositionInterface  {
+
+    /**
+    * Forces the aspect ratio to be maintained when a watermark is scaled if \"width\" and \"height\" are specified.
+    */
+    aspectRatio?: boolean;
+    /**
+    * Forces the specified height for the watermark if the values are not equal 0. In this case, the watermark will be scaled inside the area, which may result in the image losing quality or being distorted (please refer to \"aspectRatio\" as well)
+    */
+    height?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Uses one of multiple preset positions in order to position the watermark on the page.  *   custom = Disable the use of a preset position. *   top\\_left = Positions the watermark in the upper left corner. *   top\\_center = Positions the watermark in the centre at the top margin. *   top\\_right = Positions the watermark in the top right corner. *   center\\_left = Positions the watermark at the centre of the page, to the left. *   center\\_center = Positions the watermark at the centre of the page. *   center\\_right = Positions the watermark at the centre of the page, to the right. *   bottom\\_left = Positions the watermark in the bottom left corner. *   bottom\\_center = Positions the watermark in the centre at the bottom margin. *   bottom\\_right = Positions the watermark in the bottom right corner.
+    */
+    position?: WatermarkPositionMode;
+    /**
+    * Forces the specified width for the watermark if the values are not equal 0. In this case, the watermark will be scaled inside the area, which may result in the image losing quality or being distorted (please refer to \"aspectRatio\" as well)
+    */
+    width?: number;
+    /**
+    * Used to define the X-axis position (as per metrics), starting from the top left corner of the PDF document, if position is set to \"custom.\". If \"position is set to a different value, these arguments will be interpreted as \"offsets\" from the selected position. This specification applies for both the text and image output.
+    */
+    x?: number;
+    /**
+    * Used to define the Y-axis position (as per metrics), starting from the top left corner of the PDF document, if position is set to \"custom.\". If \"position is set to a different value, these arguments will be interpreted as \"offsets\" from the selected position. This specification applies for both the text and image output.
+    */
+    y?: number;
+
+}
+export class WatermarkPosition implements WatermarkPositionInterface, Parameter {
+    /**
+    * Forces the aspect ratio to be maintained when a watermark is scaled if \"width\" and \"height\" are specified.
+    */
+    aspectRatio?: boolean;
+    /**
+    * Forces the specified height for the watermark if the values are not equal 0. In this case, the watermark will be scaled inside the area, which may result in the image losing quality or being distorted (please refer to \"aspectRatio\" as well)
+    */
+    height?: number;
+    /**
+    * Unit for the X-axis/Y-axis position and signature field height and width arguments:  *   pt = Points(1/72 inch) *   pc = Picas(12 points) *   px = Pixels(1/96 inch) *   mm = Millimeters *   in = Inches
+    */
+    metrics?: Metrics;
+    /**
+    * Uses one of multiple preset positions in order to position the watermark on the page.  *   custom = Disable the use of a preset position. *   top\\_left = Positions the watermark in the upper left corner. *   top\\_center = Positions the watermark in the centre at the top margin. *   top\\_right = Positions the watermark in the top right corner. *   center\\_left = Positions the watermark at the centre of the page, to the left. *   center\\_center = Positions the watermark at the centre of the page. *   center\\_right = Positions the watermark at the centre of the page, to the right. *   bottom\\_left = Positions the watermark in the bottom left corner. *   bottom\\_center = Positions the watermark in the centre at the bottom margin. *   bottom\\_right = Positions the watermark in the bottom right corner.
+    */
+    position?: WatermarkPositionMode;
+    /**
+    * Forces the specified width for the watermark if the values are not equal 0. In this case, the watermark will be scaled inside the area, which may result in the image losing quality or being distorted (please refer to \"aspectRatio\" as well)
+    */
+    width?: number;
+    /**
+    * Used to define the X-axis position (as per metrics), starting from the top left corner of the PDF document, if position is set to \"custom.\". If \"position is set to a different value, these arguments will be interpreted as \"offsets\" from the selected position. This specification applies for both the text and image output.
+    */
+    x?: number;
+    /**
+    * Used to define the Y-axis position (as per metrics), starting from the top left corner of the PDF document, if position is set to \"custom.\". If \"position is set to a different value, these arguments will be interpreted as \"offsets\" from the selected position. This specification applies for both the text and image output.
+    */
+    y?: number;
+
+    constructor(data: any) {
+        let aspectRatioDefault: any = true;
+        this.aspectRatio = typeof data?.aspectRatio !== "undefined" ? data?.aspectRatio : aspectRatioDefault;
+        let heightDefault: any = 0;
+        this.height = typeof data?.height !== "undefined" ? data?.height : heightDefault;
+        let metricsDefault: any = "mm";
+        this.metrics = typeof data?.metrics !== "undefined" ? data?.metrics : metricsDefault;
+        let positionDefault: any = "center_center";
+        this.position = typeof data?.position !== "undefined" ? data?.position : positionDefault;
+        let widthDefault: any = 0;
+        this.width = typeof data?.width !== "undefined" ? data?.width : widthDefault;
+        let xDefault: any = 0;
+        this.x = typeof data?.x !== "undefined" ? data?.x : xDefault;
+        let yDefault: any = 0;
+        this.y = typeof data?.y !== "undefined" ? data?.y : yDefault;
+    }
+
+    public static getAspectRatioDefault(): boolean {
+        return true;
+    }
+
+    public static getAspectRatioDescription(): string {
+        return "Forces the aspect ratio to be maintained when a watermark is scaled if \"width\" and \"height\" are specified.";
+    }
+
+    public static getHeightDefault(): number {
+        return 0;
+    }
+
+    public static getHeightDescription(): string {
+        return "Forces the specified height for the watermark if the values are not equal 0. In this case, the watermark will be scaled inside the area, which may result in the image losing quality or being distorted (please refer to \"aspectRatio\" as well)";
+    }
+
+    public static getHeightMin(): number {
+        return 0;
+    }
+
+    public static getMetricsDefault(): Metrics {
+        return "mm" as Metrics;
+    }
+
+    public static getMetricsDescription(): string {
+        return "Unit for the X-axis\/Y-axis position and signature field height and width arguments:\n\n*   pt = Points(1\/72 inch)\n*   pc = Picas(12 points)\n*   px = Pixels(1\/96 inch)\n*   mm = Millimeters\n*   in = Inches";
+    }
+
+    public static getPositionDefault(): WatermarkPositionMode {
+        return "center_center" as WatermarkPositionMode;
+    }
+
+    public static getPositionDescription(): string {
+        return "Uses one of multiple preset positions in order to position the watermark on the page.\n\n*   custom = Disable the use of a preset position.\n*   top\\_left = Positions the watermark in the upper left corner.\n*   top\\_center = Positions the watermark in the centre at the top margin.\n*   top\\_right = Positions the watermark in the top right corner.\n*   center\\_left = Positions the watermark at the centre of the page, to the left.\n*   center\\_center = Positions the watermark at the centre of the page.\n*   center\\_right = Positions the watermark at the centre of the page, to the right.\n*   bottom\\_left = Positions the watermark in the bottom left corner.\n*   bottom\\_center = Positions the watermark in the centre at the bottom margin.\n*   bottom\\_right = Positions the watermark in the bottom right corner.";
+    }
+
+    public static getWidthDefault(): number {
+        return 0;
+    }
+
+    public static getWidthDescription(): string {
+        return "Forces the specified width for the watermark if the values are not equal 0. In this case, the watermark will be scaled inside the area, which may result in the image losing quality or being distorted (please refer to \"aspectRatio\" as well)";
+    }
+
+    public static getWidthMin(): number {
+        return 0;
+    }
+
+    public static getXDefault(): number {
+        return 0;
+    }
+
+    public static getXDescription(): string {
+        return "Used to define the X-axis position (as per metrics), starting from the top left corner of the PDF document, if position is set to \"custom.\". If \"position is set to a different value, these arguments will be interpreted as \"offsets\" from the selected position. This specification applies for both the text and image output.";
+    }
+
+    public static getXMin(): number {
+        return 0;
+    }
+
+    public static getYDefault(): number {
+        return 0;
+    }
+
+    public static getYDescription(): string {
+        return "Used to define the Y-axis position (as per metrics), starting from the top left corner of the PDF document, if position is set to \"custom.\". If \"position is set to a different value, these arguments will be interpreted as \"offsets\" from the selected position. This specification applies for both the text and image output.";
+    }
+
+    public static getYMin(): number {
+        return 0;
+    }
+
+    public static fromJson(data: any): WatermarkPosition {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WatermarkPosition(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WatermarkPosition> {
+        return ModelStream.decodeArray(source, WatermarkPosition.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'aspectRatio': this.aspectRatio,
+            'height': this.height,
+            'metrics': this.metrics,
+            'position': this.position,
+            'width': this.width,
+            'x': this.x,
+            'y': this.y,
+        };
+    }
+
+    public clone(): WatermarkPosition {
+        return WatermarkPosition.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "aspectRatio", typeof data?.aspectRatio !== "undefined" ? data?.aspectRatio : true) || changed;
+        changed = ModelAssignment.assignValue(this, "height", typeof data?.height !== "undefined" ? data?.height : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "metrics", typeof data?.metrics !== "undefined" ? data?.metrics : "mm") || changed;
+        changed = ModelAssignment.assignValue(this, "position", typeof data?.position !== "undefined" ? data?.position : "center_center") || changed;
+        changed = ModelAssignment.assignValue(this, "width", typeof data?.width !== "undefined" ? data?.width : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "x", typeof data?.x !== "undefined" ? data?.x : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "y", typeof data?.y !== "undefined" ? data?.y : 0) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.aspectRatio, other.aspectRatio)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.height, other.height)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.metrics, other.metrics)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.width, other.width)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.x, other.x)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.y, other.y)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.aspectRatio);
+        hash = ModelEquality.hash(hash, this.height);
+        hash = ModelEquality.hash(hash, this.metrics);
+        hash = ModelEquality.hash(hash, this.position);
+        hash = ModelEquality.hash(hash, this.width);
+        hash = ModelEquality.hash(hash, this.x);
+        hash = ModelEquality.hash(hash, this.y);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WatermarkPosition(";
+        fingerprint += ModelEquality.fingerprint(this.aspectRatio) + ",";
+        fingerprint += ModelEquality.fingerprint(this.height) + ",";
+        fingerprint += ModelEquality.fingerprint(this.metrics) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        fingerprint += ModelEquality.fingerprint(this.width) + ",";
+        fingerprint += ModelEquality.fingerprint(this.x) + ",";
+        fingerprint += ModelEquality.fingerprint(this.y) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+export enum WatermarkPositionMode {
+
+    CenterRight = 'center_right',
+    BottomRight = 'bottom_right',
+    BottomCenter = 'bottom_center',
+    TopCenter = 'top_center',
+    CenterCenter = 'center_center',
+    BottomLeft = 'bottom_left',
+    Custom = 'custom',
+    CenterLeft = 'center_left',
+    TopRight = 'top_right',
+    TopLeft = 'top_left'
+
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+import {
+    ModelAssignment,
+    WatermarkPosition,
+    ModelStream,
+    WatermarkFont,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface WatermarkTextInterface  {
+
+    font?: WatermarkFont;
+    position?: WatermarkPosition;
+    /**
+    * Specifies the text which will be output as a watermark.
+    */
+    text?: string;
+
+}
+export class WatermarkText implements WatermarkTextInterface, Parameter {
+    font?: WatermarkFont;
+    position?: WatermarkPosition;
+    /**
+    * Specifies the text which will be output as a watermark.
+    */
+    text?: string;
+
+    constructor(data: any) {
+        this.font = WatermarkFont.fromJson(data?.font);
+        this.position = WatermarkPosition.fromJson(data?.position);
+        let textDefault: any = "Confidential";
+        this.text = typeof data?.text !== "undefined" ? data?.text : textDefault;
+    }
+
+    public static getFontDescription(): string {
+        return "";
+    }
+
+    public static getPositionDescription(): string {
+        return "";
+    }
+
+    public static getTextDefault(): string {
+        return "Confidential";
+    }
+
+    public static getTextDescription(): string {
+        return "Specifies the text which will be output as a watermark.";
+    }
+
+    public static fromJson(data: any): WatermarkText {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WatermarkText(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WatermarkText> {
+        return ModelStream.decodeArray(source, WatermarkText.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'font': this.font?.toJson(),
+            'position': this.position?.toJson(),
+            'text': this.text,
+        };
+    }
+
+    public clone(): WatermarkText {
+        return WatermarkText.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "font", data?.font, WatermarkFont.fromJson, WatermarkFont) || changed;
+        changed = ModelAssignment.assignModel(this, "position", data?.position, WatermarkPosition.fromJson, WatermarkPosition) || changed;
+        changed = ModelAssignment.assignValue(this, "text", typeof data?.text !== "undefined" ? data?.text : "Confidential") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.font, other.font)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.position, other.position)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.text, other.text)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.font);
+        hash = ModelEquality.hash(hash, this.position);
+        hash = ModelEquality.hash(hash, this.text);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WatermarkText(";
+        fingerprint += ModelEquality.fingerprint(this.font) + ",";
+        fingerprint += ModelEquality.fingerprint(this.position) + ",";
+        fingerprint += ModelEquality.fingerprint(this.text) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+import {
+    ModelAssignment,
+    ApplicationOperation,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface WindowsLaunchParameterInterface  {
+
+    /**
+    * The arguments that should be passed to the application when making a call.
+    */
+    arguments?: string;
+    /**
+    * Used to specify the basic path, using standard DOS syntax, from which navigation will take place.
+    */
+    directory?: string;
+    /**
+    * A Windows filename using the standard Windows path syntax. If there is a backslash in the specified path, it must be escaped by preceding it with another backslash.
+    */
+    fileName?: string;
+    /**
+    * Used to specify the standard operation that should be carried out with the specified document.  *   open = Open the document. *   print = Print the document.
+    */
+    operation?: ApplicationOperation;
+
+}
+export class WindowsLaunchParameter implements WindowsLaunchParameterInterface, Parameter {
+    /**
+    * The arguments that should be passed to the application when making a call.
+    */
+    arguments?: string;
+    /**
+    * Used to specify the basic path, using standard DOS syntax, from which navigation will take place.
+    */
+    directory?: string;
+    /**
+    * A Windows filename using the standard Windows path syntax. If there is a backslash in the specified path, it must be escaped by preceding it with another backslash.
+    */
+    fileName?: string;
+    /**
+    * Used to specify the standard operation that should be carried out with the specified document.  *   open = Open the document. *   print = Print the document.
+    */
+    operation?: ApplicationOperation;
+
+    constructor(data: any) {
+        let argumentsDefault: any = "";
+        this.arguments = typeof data?.arguments !== "undefined" ? data?.arguments : argumentsDefault;
+        let directoryDefault: any = "";
+        this.directory = typeof data?.directory !== "undefined" ? data?.directory : directoryDefault;
+        let fileNameDefault: any = "";
+        this.fileName = typeof data?.fileName !== "undefined" ? data?.fileName : fileNameDefault;
+        let operationDefault: any = "open";
+        this.operation = typeof data?.operation !== "undefined" ? data?.operation : operationDefault;
+    }
+
+    public static getArgumentsDefault(): string {
+        return "";
+    }
+
+    public static getArgumentsDescription(): string {
+        return "The arguments that should be passed to the application when making a call.";
+    }
+
+    public static getDirectoryDefault(): string {
+        return "";
+    }
+
+    public static getDirectoryDescription(): string {
+        return "Used to specify the basic path, using standard DOS syntax, from which navigation will take place.";
+    }
+
+    public static getFileNameDefault(): string {
+        return "";
+    }
+
+    public static getFileNameDescription(): string {
+        return "A Windows filename using the standard Windows path syntax. If there is a backslash in the specified path, it must be escaped by preceding it with another backslash.";
+    }
+
+    public static getOperationDefault(): ApplicationOperation {
+        return "open" as ApplicationOperation;
+    }
+
+    public static getOperationDescription(): string {
+        return "Used to specify the standard operation that should be carried out with the specified document.\n\n*   open = Open the document.\n*   print = Print the document.";
+    }
+
+    public static fromJson(data: any): WindowsLaunchParameter {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new WindowsLaunchParameter(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<WindowsLaunchParameter> {
+        return ModelStream.decodeArray(source, WindowsLaunchParameter.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'arguments': this.arguments,
+            'directory': this.directory,
+            'fileName': this.fileName,
+            'operation': this.operation,
+        };
+    }
+
+    public clone(): WindowsLaunchParameter {
+        return WindowsLaunchParameter.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "arguments", typeof data?.arguments !== "undefined" ? data?.arguments : "") || changed;
+        changed = ModelAssignment.assignValue(this, "directory", typeof data?.directory !== "undefined" ? data?.directory : "") || changed;
+        changed = ModelAssignment.assignValue(this, "fileName", typeof data?.fileName !== "undefined" ? data?.fileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "operation", typeof data?.operation !== "undefined" ? data?.operation : "open") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.arguments, other.arguments)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.directory, other.directory)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fileName, other.fileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.operation, other.operation)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.arguments);
+        hash = ModelEquality.hash(hash, this.directory);
+        hash = ModelEquality.hash(hash, this.fileName);
+        hash = ModelEquality.hash(hash, this.operation);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "WindowsLaunchParameter(";
+        fingerprint += ModelEquality.fingerprint(this.arguments) + ",";
+        fingerprint += ModelEquality.fingerprint(this.directory) + ",";
+        fingerprint += ModelEquality.fingerprint(this.fileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.operation) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
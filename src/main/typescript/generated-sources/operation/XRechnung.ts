@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    XRechnungResources,
+    ModelEquality,
+} from "./../index";
+
+export interface XRechnungInterface  {
+
+    visualization?: XRechnungResources;
+
+}
+export class XRechnung implements XRechnungInterface, Parameter {
+    visualization?: XRechnungResources;
+
+    constructor(data: any) {
+        this.visualization = XRechnungResources.fromJson(data?.visualization);
+    }
+
+    public static getVisualizationDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): XRechnung {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new XRechnung(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<XRechnung> {
+        return ModelStream.decodeArray(source, XRechnung.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'visualization': this.visualization?.toJson(),
+        };
+    }
+
+    public clone(): XRechnung {
+        return XRechnung.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "visualization", data?.visualization, XRechnungResources.fromJson, XRechnungResources) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.visualization, other.visualization)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.visualization);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "XRechnung(";
+        fingerprint += ModelEquality.fingerprint(this.visualization) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum XmpDataFormat {
+
+    Xml = 'xml',
+    Json = 'json'
+
+}
\ No newline at end of file
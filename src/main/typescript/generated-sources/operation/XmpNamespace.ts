@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface XmpNamespaceInterface  {
+
+    /**
+    * Sets the namespace for the XMP data (e.g. \"webPDF XMP Properties\")
+    */
+    namespaceName?: string;
+    /**
+    * Sets the prefix for the XMP data (e.g. \"webpdf\")
+    */
+    namespacePrefix?: string;
+    /**
+    * Sets the URI for the XMP data (e.g. \"http://ns.webpdf.de/webpdf/6.0/\")
+    */
+    namespaceURI?: string;
+
+}
+export class XmpNamespace implements XmpNamespaceInterface, Parameter {
+    /**
+    * Sets the namespace for the XMP data (e.g. \"webPDF XMP Properties\")
+    */
+    namespaceName?: string;
+    /**
+    * Sets the prefix for the XMP data (e.g. \"webpdf\")
+    */
+    namespacePrefix?: string;
+    /**
+    * Sets the URI for the XMP data (e.g. \"http://ns.webpdf.de/webpdf/6.0/\")
+    */
+    namespaceURI?: string;
+
+    constructor(data: any) {
+        let namespaceNameDefault: any = "";
+        this.namespaceName = typeof data?.namespaceName !== "undefined" ? data?.namespaceName : namespaceNameDefault;
+        let namespacePrefixDefault: any = "";
+        this.namespacePrefix = typeof data?.namespacePrefix !== "undefined" ? data?.namespacePrefix : namespacePrefixDefault;
+        let namespaceURIDefault: any = "";
+        this.namespaceURI = typeof data?.namespaceURI !== "undefined" ? data?.namespaceURI : namespaceURIDefault;
+    }
+
+    public static getNamespaceNameDefault(): string {
+        return "";
+    }
+
+    public static getNamespaceNameDescription(): string {
+        return "Sets the namespace for the XMP data (e.g. \"webPDF XMP Properties\")";
+    }
+
+    public static getNamespacePrefixDefault(): string {
+        return "";
+    }
+
+    public static getNamespacePrefixDescription(): string {
+        return "Sets the prefix for the XMP data (e.g. \"webpdf\")";
+    }
+
+    public static getNamespaceURIDefault(): string {
+        return "";
+    }
+
+    public static getNamespaceURIDescription(): string {
+        return "Sets the URI for the XMP data (e.g. \"http:\/\/ns.webpdf.de\/webpdf\/6.0\/\")";
+    }
+
+    public static fromJson(data: any): XmpNamespace {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new XmpNamespace(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<XmpNamespace> {
+        return ModelStream.decodeArray(source, XmpNamespace.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'namespaceName': this.namespaceName,
+            'namespacePrefix': this.namespacePrefix,
+            'namespaceURI': this.namespaceURI,
+        };
+    }
+
+    public clone(): XmpNamespace {
+        return XmpNamespace.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "namespaceName", typeof data?.namespaceName !== "undefined" ? data?.namespaceName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "namespacePrefix", typeof data?.namespacePrefix !== "undefined" ? data?.namespacePrefix : "") || changed;
+        changed = ModelAssignment.assignValue(this, "namespaceURI", typeof data?.namespaceURI !== "undefined" ? data?.namespaceURI : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.namespaceName, other.namespaceName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.namespacePrefix, other.namespacePrefix)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.namespaceURI, other.namespaceURI)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.namespaceName);
+        hash = ModelEquality.hash(hash, this.namespacePrefix);
+        hash = ModelEquality.hash(hash, this.namespaceURI);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "XmpNamespace(";
+        fingerprint += ModelEquality.fingerprint(this.namespaceName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.namespacePrefix) + ",";
+        fingerprint += ModelEquality.fingerprint(this.namespaceURI) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
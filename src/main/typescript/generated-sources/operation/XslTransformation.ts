@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    XslTransformationResources,
+    ModelEquality,
+} from "./../index";
+
+export interface XslTransformationInterface  {
+
+    resources?: XslTransformationResources;
+
+}
+export class XslTransformation implements XslTransformationInterface, Parameter {
+    resources?: XslTransformationResources;
+
+    constructor(data: any) {
+        this.resources = XslTransformationResources.fromJson(data?.resources);
+    }
+
+    public static getResourcesDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): XslTransformation {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new XslTransformation(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<XslTransformation> {
+        return ModelStream.decodeArray(source, XslTransformation.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'resources': this.resources?.toJson(),
+        };
+    }
+
+    public clone(): XslTransformation {
+        return XslTransformation.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "resources", data?.resources, XslTransformationResources.fromJson, XslTransformationResources) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.resources, other.resources)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.resources);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "XslTransformation(";
+        fingerprint += ModelEquality.fingerprint(this.resources) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+export enum XslTransformationFileFormat {
+
+    Xslt = 'xslt',
+    Other = 'other'
+
+}
\ No newline at end of file
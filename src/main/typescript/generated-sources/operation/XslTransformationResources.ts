@@ -0,0 +1,86 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    XslTransformationFile,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface XslTransformationResourcesInterface  {
+
+    file?: Array<XslTransformationFile>;
+
+}
+export class XslTransformationResources implements XslTransformationResourcesInterface, Parameter {
+    file?: Array<XslTransformationFile>;
+
+    constructor(data: any) {
+        this.file = (data?.file || []).map(
+            XslTransformationFile.fromJson
+        );
+    }
+
+    public static getFileDefault(): Array<XslTransformationFile> {
+        return [];
+    }
+
+    public static getFileDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): XslTransformationResources {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new XslTransformationResources(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<XslTransformationResources> {
+        return ModelStream.decodeArray(source, XslTransformationResources.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'file': this.file?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): XslTransformationResources {
+        return XslTransformationResources.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignArray(this, "file", data?.file, XslTransformationFile.fromJson, XslTransformationFile) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.file, other.file)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.file);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "XslTransformationResources(";
+        fingerprint += ModelEquality.fingerprint(this.file) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import {
+    ModelAssignment,
+    DestinationEvent,
+    ModelStream,
+    DestinationEventInterface,
+    Parameter,
+    ZoomDestinationZoomPage,
+    ModelEquality,
+} from "./../index";
+
+export interface ZoomDestinationInterface extends DestinationEventInterface {
+
+    zoomPage?: ZoomDestinationZoomPage;
+
+}
+export class ZoomDestination extends DestinationEvent implements ZoomDestinationInterface, Parameter {
+    zoomPage?: ZoomDestinationZoomPage;
+
+    constructor(data: any) {
+        super(data);
+
+        this.zoomPage = ZoomDestinationZoomPage.fromJson(data?.zoomPage);
+    }
+
+    public static getZoomPageDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): ZoomDestination {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new ZoomDestination(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<ZoomDestination> {
+        return ModelStream.decodeArray(source, ZoomDestination.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            ...(super.toJson()),
+            'zoomPage': this.zoomPage?.toJson(),
+        };
+    }
+
+    public clone(): ZoomDestination {
+        return ZoomDestination.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = super.assignFrom(data);
+        changed = ModelAssignment.assignModel(this, "zoomPage", data?.zoomPage, ZoomDestinationZoomPage.fromJson, ZoomDestinationZoomPage) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor || !super.equals(other)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.zoomPage, other.zoomPage)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = super.hashCode();
+        hash = ModelEquality.hash(hash, this.zoomPage);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "ZoomDestination(" + super.fingerprint();
+        fingerprint += ModelEquality.fingerprint(this.zoomPage) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
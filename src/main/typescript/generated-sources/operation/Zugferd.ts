@@ -0,0 +1,80 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    ZugferdFileData,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface ZugferdInterface  {
+
+    xmlFile: ZugferdFileData;
+
+}
+export class Zugferd implements ZugferdInterface, Parameter {
+    xmlFile: ZugferdFileData;
+
+    constructor(data: any) {
+        this.xmlFile = ZugferdFileData.fromJson(data.xmlFile);
+    }
+
+    public static getXmlFileDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Zugferd {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Zugferd(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Zugferd> {
+        return ModelStream.decodeArray(source, Zugferd.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'xmlFile': this.xmlFile?.toJson(),
+        };
+    }
+
+    public clone(): Zugferd {
+        return Zugferd.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "xmlFile", data.xmlFile, ZugferdFileData.fromJson, ZugferdFileData) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.xmlFile, other.xmlFile)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.xmlFile);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Zugferd(";
+        fingerprint += ModelEquality.fingerprint(this.xmlFile) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+export enum ZugferdVersion {
+
+    V20EN16931 = 'v20EN16931',
+    V23BasicWL = 'v23BasicWL',
+    V21EN16931 = 'v21EN16931',
+    V21BasicWL = 'v21BasicWL',
+    V23Basic = 'v23Basic',
+    V20BasicWL = 'v20BasicWL',
+    V22BasicWL = 'v22BasicWL',
+    V22Basic = 'v22Basic',
+    V23Minimum = 'v23Minimum',
+    V22Minimum = 'v22Minimum',
+    V23XRechnung = 'v23XRechnung',
+    V22EN16931 = 'v22EN16931',
+    V23EN16931 = 'v23EN16931',
+    V10Comfort = 'v10Comfort',
+    V20Basic = 'v20Basic',
+    V23Extended = 'v23Extended',
+    V21Basic = 'v21Basic',
+    V22XRechnung = 'v22XRechnung',
+    V20Minimum = 'v20Minimum',
+    V22Extended = 'v22Extended',
+    V21Minimum = 'v21Minimum',
+    V21Extended = 'v21Extended',
+    V21XRechnung = 'v21XRechnung',
+    V20Extended = 'v20Extended'
+
+}
\ No newline at end of file
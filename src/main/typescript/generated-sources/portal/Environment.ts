@@ -0,0 +1,103 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface EnvironmentInterface  {
+
+    fonts?: Array<string>;
+    printers?: Array<string>;
+
+}
+export class Environment implements EnvironmentInterface, Parameter {
+    fonts?: Array<string>;
+    printers?: Array<string>;
+
+    constructor(data: any) {
+        let fontsDefault: any = [];
+        this.fonts = typeof data?.fonts !== "undefined" ? data?.fonts : fontsDefault;
+        let printersDefault: any = [];
+        this.printers = typeof data?.printers !== "undefined" ? data?.printers : printersDefault;
+    }
+
+    public static getFontsDefault(): Array<string> {
+        return [];
+    }
+
+    public static getFontsDescription(): string {
+        return "";
+    }
+
+    public static getPrintersDefault(): Array<string> {
+        return [];
+    }
+
+    public static getPrintersDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Environment {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Environment(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Environment> {
+        return ModelStream.decodeArray(source, Environment.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'fonts': this.fonts,
+            'printers': this.printers,
+        };
+    }
+
+    public clone(): Environment {
+        return Environment.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "fonts", typeof data?.fonts !== "undefined" ? data?.fonts : []) || changed;
+        changed = ModelAssignment.assignValue(this, "printers", typeof data?.printers !== "undefined" ? data?.printers : []) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.fonts, other.fonts)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.printers, other.printers)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.fonts);
+        hash = ModelEquality.hash(hash, this.printers);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Environment(";
+        fingerprint += ModelEquality.fingerprint(this.fonts) + ",";
+        fingerprint += ModelEquality.fingerprint(this.printers) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,249 @@
+import {
+    LocalAuth,
+    PortalSettings,
+    ModelStream,
+    ClusterMode,
+    Functions,
+    AuthProvider,
+    Webservices,
+    ModelAssignment,
+    PortalUserInterface,
+    News,
+    Parameter,
+    Environment,
+    ModelEquality,
+} from "./../index";
+
+export interface InformationInterface  {
+
+    environment?: Environment;
+    functionsStatus?: Functions;
+    localAuth?: LocalAuth;
+    newsPanel?: News;
+    oauth?: Array<AuthProvider>;
+    serverMode?: ClusterMode;
+    serverStart?: number;
+    serverVersion?: string;
+    settings?: PortalSettings;
+    userInterface?: PortalUserInterface;
+    webserviceStatus?: Webservices;
+
+}
+export class Information implements InformationInterface, Parameter {
+    environment?: Environment;
+    functionsStatus?: Functions;
+    localAuth?: LocalAuth;
+    newsPanel?: News;
+    oauth?: Array<AuthProvider>;
+    serverMode?: ClusterMode;
+    serverStart?: number;
+    serverVersion?: string;
+    settings?: PortalSettings;
+    userInterface?: PortalUserInterface;
+    webserviceStatus?: Webservices;
+
+    constructor(data: any) {
+        this.environment = Environment.fromJson(data?.environment);
+        this.functionsStatus = Functions.fromJson(data?.functionsStatus);
+        this.localAuth = LocalAuth.fromJson(data?.localAuth);
+        this.newsPanel = News.fromJson(data?.newsPanel);
+        this.oauth = (data?.oauth || []).map(
+            AuthProvider.fromJson
+        );
+        let serverModeDefault: any = "single";
+        this.serverMode = typeof data?.serverMode !== "undefined" ? data?.serverMode : serverModeDefault;
+        let serverStartDefault: any = 0;
+        this.serverStart = typeof data?.serverStart !== "undefined" ? data?.serverStart : serverStartDefault;
+        let serverVersionDefault: any = "";
+        this.serverVersion = typeof data?.serverVersion !== "undefined" ? data?.serverVersion : serverVersionDefault;
+        this.settings = PortalSettings.fromJson(data?.settings);
+        this.userInterface = PortalUserInterface.fromJson(data?.userInterface);
+        this.webserviceStatus = Webservices.fromJson(data?.webserviceStatus);
+    }
+
+    public static getEnvironmentDescription(): string {
+        return "";
+    }
+
+    public static getFunctionsStatusDescription(): string {
+        return "";
+    }
+
+    public static getLocalAuthDescription(): string {
+        return "";
+    }
+
+    public static getNewsPanelDescription(): string {
+        return "";
+    }
+
+    public static getOauthDefault(): Array<AuthProvider> {
+        return [];
+    }
+
+    public static getOauthDescription(): string {
+        return "";
+    }
+
+    public static getServerModeDefault(): ClusterMode {
+        return "single" as ClusterMode;
+    }
+
+    public static getServerModeDescription(): string {
+        return "";
+    }
+
+    public static getServerStartDefault(): number {
+        return 0;
+    }
+
+    public static getServerStartDescription(): string {
+        return "";
+    }
+
+    public static getServerVersionDefault(): string {
+        return "";
+    }
+
+    public static getServerVersionDescription(): string {
+        return "";
+    }
+
+    public static getSettingsDescription(): string {
+        return "";
+    }
+
+    public static getUserInterfaceDescription(): string {
+        return "";
+    }
+
+    public static getWebserviceStatusDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): Information {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new Information(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<Information> {
+        return ModelStream.decodeArray(source, Information.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'environment': this.environment?.toJson(),
+            'functionsStatus': this.functionsStatus?.toJson(),
+            'localAuth': this.localAuth?.toJson(),
+            'newsPanel': this.newsPanel?.toJson(),
+            'oauth': this.oauth?.map((data) => data.toJson()),
+            'serverMode': this.serverMode,
+            'serverStart': this.serverStart,
+            'serverVersion': this.serverVersion,
+            'settings': this.settings?.toJson(),
+            'userInterface': this.userInterface?.toJson(),
+            'webserviceStatus': this.webserviceStatus?.toJson(),
+        };
+    }
+
+    public clone(): Information {
+        return Information.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "environment", data?.environment, Environment.fromJson, Environment) || changed;
+        changed = ModelAssignment.assignModel(this, "functionsStatus", data?.functionsStatus, Functions.fromJson, Functions) || changed;
+        changed = ModelAssignment.assignModel(this, "localAuth", data?.localAuth, LocalAuth.fromJson, LocalAuth) || changed;
+        changed = ModelAssignment.assignModel(this, "newsPanel", data?.newsPanel, News.fromJson, News) || changed;
+        changed = ModelAssignment.assignArray(this, "oauth", data?.oauth, AuthProvider.fromJson, AuthProvider) || changed;
+        changed = ModelAssignment.assignValue(this, "serverMode", typeof data?.serverMode !== "undefined" ? data?.serverMode : "single") || changed;
+        changed = ModelAssignment.assignValue(this, "serverStart", typeof data?.serverStart !== "undefined" ? data?.serverStart : 0) || changed;
+        changed = ModelAssignment.assignValue(this, "serverVersion", typeof data?.serverVersion !== "undefined" ? data?.serverVersion : "") || changed;
+        changed = ModelAssignment.assignModel(this, "settings", data?.settings, PortalSettings.fromJson, PortalSettings) || changed;
+        changed = ModelAssignment.assignModel(this, "userInterface", data?.userInterface, PortalUserInterface.fromJson, PortalUserInterface) || changed;
+        changed = ModelAssignment.assignModel(this, "webserviceStatus", data?.webserviceStatus, Webservices.fromJson, Webservices) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.environment, other.environment)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.functionsStatus, other.functionsStatus)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.localAuth, other.localAuth)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.newsPanel, other.newsPanel)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.oauth, other.oauth)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.serverMode, other.serverMode)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.serverStart, other.serverStart)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.serverVersion, other.serverVersion)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.settings, other.settings)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userInterface, other.userInterface)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.webserviceStatus, other.webserviceStatus)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.environment);
+        hash = ModelEquality.hash(hash, this.functionsStatus);
+        hash = ModelEquality.hash(hash, this.localAuth);
+        hash = ModelEquality.hash(hash, this.newsPanel);
+        hash = ModelEquality.hash(hash, this.oauth);
+        hash = ModelEquality.hash(hash, this.serverMode);
+        hash = ModelEquality.hash(hash, this.serverStart);
+        hash = ModelEquality.hash(hash, this.serverVersion);
+        hash = ModelEquality.hash(hash, this.settings);
+        hash = ModelEquality.hash(hash, this.userInterface);
+        hash = ModelEquality.hash(hash, this.webserviceStatus);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "Information(";
+        fingerprint += ModelEquality.fingerprint(this.environment) + ",";
+        fingerprint += ModelEquality.fingerprint(this.functionsStatus) + ",";
+        fingerprint += ModelEquality.fingerprint(this.localAuth) + ",";
+        fingerprint += ModelEquality.fingerprint(this.newsPanel) + ",";
+        fingerprint += ModelEquality.fingerprint(this.oauth) + ",";
+        fingerprint += ModelEquality.fingerprint(this.serverMode) + ",";
+        fingerprint += ModelEquality.fingerprint(this.serverStart) + ",";
+        fingerprint += ModelEquality.fingerprint(this.serverVersion) + ",";
+        fingerprint += ModelEquality.fingerprint(this.settings) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userInterface) + ",";
+        fingerprint += ModelEquality.fingerprint(this.webserviceStatus) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    PortalAuthTimeout,
+    UserStorage,
+    ModelEquality,
+} from "./../index";
+
+export interface LocalAuthInterface  {
+
+    allowAnonymous?: boolean;
+    apiEnabled?: boolean;
+    enabled?: boolean;
+    timeout?: PortalAuthTimeout;
+    userStorage?: UserStorage;
+
+}
+export class LocalAuth implements LocalAuthInterface, Parameter {
+    allowAnonymous?: boolean;
+    apiEnabled?: boolean;
+    enabled?: boolean;
+    timeout?: PortalAuthTimeout;
+    userStorage?: UserStorage;
+
+    constructor(data: any) {
+        let allowAnonymousDefault: any = false;
+        this.allowAnonymous = typeof data?.allowAnonymous !== "undefined" ? data?.allowAnonymous : allowAnonymousDefault;
+        let apiEnabledDefault: any = false;
+        this.apiEnabled = typeof data?.apiEnabled !== "undefined" ? data?.apiEnabled : apiEnabledDefault;
+        let enabledDefault: any = false;
+        this.enabled = typeof data?.enabled !== "undefined" ? data?.enabled : enabledDefault;
+        this.timeout = PortalAuthTimeout.fromJson(data?.timeout);
+        let userStorageDefault: any = "unknown";
+        this.userStorage = typeof data?.userStorage !== "undefined" ? data?.userStorage : userStorageDefault;
+    }
+
+    public static getAllowAnonymousDefault(): boolean {
+        return false;
+    }
+
+    public static getAllowAnonymousDescription(): string {
+        return "";
+    }
+
+    public static getApiEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getApiEnabledDescription(): string {
+        return "";
+    }
+
+    public static getEnabledDefault(): boolean {
+        return false;
+    }
+
+    public static getEnabledDescription(): string {
+        return "";
+    }
+
+    public static getTimeoutDescription(): string {
+        return "";
+    }
+
+    public static getUserStorageDefault(): UserStorage {
+        return "unknown" as UserStorage;
+    }
+
+    public static getUserStorageDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): LocalAuth {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new LocalAuth(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<LocalAuth> {
+        return ModelStream.decodeArray(source, LocalAuth.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'allowAnonymous': this.allowAnonymous,
+            'apiEnabled': this.apiEnabled,
+            'enabled': this.enabled,
+            'timeout': this.timeout?.toJson(),
+            'userStorage': this.userStorage,
+        };
+    }
+
+    public clone(): LocalAuth {
+        return LocalAuth.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "allowAnonymous", typeof data?.allowAnonymous !== "undefined" ? data?.allowAnonymous : false) || changed;
+        changed = ModelAssignment.assignValue(this, "apiEnabled", typeof data?.apiEnabled !== "undefined" ? data?.apiEnabled : false) || changed;
+        changed = ModelAssignment.assignValue(this, "enabled", typeof data?.enabled !== "undefined" ? data?.enabled : false) || changed;
+        changed = ModelAssignment.assignModel(this, "timeout", data?.timeout, PortalAuthTimeout.fromJson, PortalAuthTimeout) || changed;
+        changed = ModelAssignment.assignValue(this, "userStorage", typeof data?.userStorage !== "undefined" ? data?.userStorage : "unknown") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.allowAnonymous, other.allowAnonymous)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.apiEnabled, other.apiEnabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.enabled, other.enabled)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.timeout, other.timeout)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.userStorage, other.userStorage)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.allowAnonymous);
+        hash = ModelEquality.hash(hash, this.apiEnabled);
+        hash = ModelEquality.hash(hash, this.enabled);
+        hash = ModelEquality.hash(hash, this.timeout);
+        hash = ModelEquality.hash(hash, this.userStorage);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "LocalAuth(";
+        fingerprint += ModelEquality.fingerprint(this.allowAnonymous) + ",";
+        fingerprint += ModelEquality.fingerprint(this.apiEnabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.enabled) + ",";
+        fingerprint += ModelEquality.fingerprint(this.timeout) + ",";
+        fingerprint += ModelEquality.fingerprint(this.userStorage) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    NewsPanelEntry,
+    ModelEquality,
+} from "./../index";
+
+export interface NewsInterface  {
+
+    contentRefreshInterval?: number;
+    entry?: Array<NewsPanelEntry>;
+
+}
+export class News implements NewsInterface, Parameter {
+    contentRefreshInterval?: number;
+    entry?: Array<NewsPanelEntry>;
+
+    constructor(data: any) {
+        let contentRefreshIntervalDefault: any = 60;
+        this.contentRefreshInterval = typeof data?.contentRefreshInterval !== "undefined" ? data?.contentRefreshInterval : contentRefreshIntervalDefault;
+        this.entry = (data?.entry || []).map(
+            NewsPanelEntry.fromJson
+        );
+    }
+
+    public static getContentRefreshIntervalDefault(): number {
+        return 60;
+    }
+
+    public static getContentRefreshIntervalDescription(): string {
+        return "";
+    }
+
+    public static getEntryDefault(): Array<NewsPanelEntry> {
+        return [];
+    }
+
+    public static getEntryDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): News {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new News(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<News> {
+        return ModelStream.decodeArray(source, News.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'contentRefreshInterval': this.contentRefreshInterval,
+            'entry': this.entry?.map((data) => data.toJson()),
+        };
+    }
+
+    public clone(): News {
+        return News.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "contentRefreshInterval", typeof data?.contentRefreshInterval !== "undefined" ? data?.contentRefreshInterval : 60) || changed;
+        changed = ModelAssignment.assignArray(this, "entry", data?.entry, NewsPanelEntry.fromJson, NewsPanelEntry) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.contentRefreshInterval, other.contentRefreshInterval)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.entry, other.entry)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.contentRefreshInterval);
+        hash = ModelEquality.hash(hash, this.entry);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "News(";
+        fingerprint += ModelEquality.fingerprint(this.contentRefreshInterval) + ",";
+        fingerprint += ModelEquality.fingerprint(this.entry) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+import {
+    ModelAssignment,
+    CompressPortalSettings,
+    ModelStream,
+    SignaturePortalSettings,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface PortalSettingsInterface  {
+
+    compress?: CompressPortalSettings;
+    signature?: SignaturePortalSettings;
+
+}
+export class PortalSettings implements PortalSettingsInterface, Parameter {
+    compress?: CompressPortalSettings;
+    signature?: SignaturePortalSettings;
+
+    constructor(data: any) {
+        this.compress = CompressPortalSettings.fromJson(data?.compress);
+        this.signature = SignaturePortalSettings.fromJson(data?.signature);
+    }
+
+    public static getCompressDescription(): string {
+        return "";
+    }
+
+    public static getSignatureDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PortalSettings {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortalSettings(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortalSettings> {
+        return ModelStream.decodeArray(source, PortalSettings.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'compress': this.compress?.toJson(),
+            'signature': this.signature?.toJson(),
+        };
+    }
+
+    public clone(): PortalSettings {
+        return PortalSettings.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "compress", data?.compress, CompressPortalSettings.fromJson, CompressPortalSettings) || changed;
+        changed = ModelAssignment.assignModel(this, "signature", data?.signature, SignaturePortalSettings.fromJson, SignaturePortalSettings) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.compress, other.compress)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.signature, other.signature)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.compress);
+        hash = ModelEquality.hash(hash, this.signature);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortalSettings(";
+        fingerprint += ModelEquality.fingerprint(this.compress) + ",";
+        fingerprint += ModelEquality.fingerprint(this.signature) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    PortalUserInterfaceTooltips,
+    ModelEquality,
+    PortalUserInterfaceLimits,
+    UserInterfaceResources,
+} from "./../index";
+
+export interface PortalUserInterfaceInterface  {
+
+    limits?: PortalUserInterfaceLimits;
+    resources?: UserInterfaceResources;
+    tooltips?: PortalUserInterfaceTooltips;
+
+}
+export class PortalUserInterface implements PortalUserInterfaceInterface, Parameter {
+    limits?: PortalUserInterfaceLimits;
+    resources?: UserInterfaceResources;
+    tooltips?: PortalUserInterfaceTooltips;
+
+    constructor(data: any) {
+        this.limits = PortalUserInterfaceLimits.fromJson(data?.limits);
+        this.resources = UserInterfaceResources.fromJson(data?.resources);
+        this.tooltips = PortalUserInterfaceTooltips.fromJson(data?.tooltips);
+    }
+
+    public static getLimitsDescription(): string {
+        return "";
+    }
+
+    public static getResourcesDescription(): string {
+        return "";
+    }
+
+    public static getTooltipsDescription(): string {
+        return "";
+    }
+
+    public static fromJson(data: any): PortalUserInterface {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new PortalUserInterface(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<PortalUserInterface> {
+        return ModelStream.decodeArray(source, PortalUserInterface.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'limits': this.limits?.toJson(),
+            'resources': this.resources?.toJson(),
+            'tooltips': this.tooltips?.toJson(),
+        };
+    }
+
+    public clone(): PortalUserInterface {
+        return PortalUserInterface.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignModel(this, "limits", data?.limits, PortalUserInterfaceLimits.fromJson, PortalUserInterfaceLimits) || changed;
+        changed = ModelAssignment.assignModel(this, "resources", data?.resources, UserInterfaceResources.fromJson, UserInterfaceResources) || changed;
+        changed = ModelAssignment.assignModel(this, "tooltips", data?.tooltips, PortalUserInterfaceTooltips.fromJson, PortalUserInterfaceTooltips) || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.limits, other.limits)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.resources, other.resources)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.tooltips, other.tooltips)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.limits);
+        hash = ModelEquality.hash(hash, this.resources);
+        hash = ModelEquality.hash(hash, this.tooltips);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "PortalUserInterface(";
+        fingerprint += ModelEquality.fingerprint(this.limits) + ",";
+        fingerprint += ModelEquality.fingerprint(this.resources) + ",";
+        fingerprint += ModelEquality.fingerprint(this.tooltips) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+import {
+    ModelAssignment,
+    ModelStream,
+    Parameter,
+    ModelEquality,
+} from "./../index";
+
+export interface UserInterfaceResourcesInterface  {
+
+    /**
+    * The file name used for the background file in the portal. If it is empty, the default background is used, otherwise a custom background was uploaded and saved under the specified name.
+    */
+    backgroundFileName?: string;
+    /**
+    * The file name used for the logo file in the portal. If it is empty, the default logo is used, otherwise a custom logo was uploaded and saved under the specified name.
+    */
+    logoFileName?: string;
+    /**
+    * The file name used for the CSS file to customize the theme in the portal. If it is empty, no customized theme is used, otherwise a custom CSS file was uploaded and saved under the specified name.
+    */
+    themeFileName?: string;
+
+}
+export class UserInterfaceResources implements UserInterfaceResourcesInterface, Parameter {
+    /**
+    * The file name used for the background file in the portal. If it is empty, the default background is used, otherwise a custom background was uploaded and saved under the specified name.
+    */
+    backgroundFileName?: string;
+    /**
+    * The file name used for the logo file in the portal. If it is empty, the default logo is used, otherwise a custom logo was uploaded and saved under the specified name.
+    */
+    logoFileName?: string;
+    /**
+    * The file name used for the CSS file to customize the theme in the portal. If it is empty, no customized theme is used, otherwise a custom CSS file was uploaded and saved under the specified name.
+    */
+    themeFileName?: string;
+
+    constructor(data: any) {
+        let backgroundFileNameDefault: any = "";
+        this.backgroundFileName = typeof data?.backgroundFileName !== "undefined" ? data?.backgroundFileName : backgroundFileNameDefault;
+        let logoFileNameDefault: any = "";
+        this.logoFileName = typeof data?.logoFileName !== "undefined" ? data?.logoFileName : logoFileNameDefault;
+        let themeFileNameDefault: any = "";
+        this.themeFileName = typeof data?.themeFileName !== "undefined" ? data?.themeFileName : themeFileNameDefault;
+    }
+
+    public static getBackgroundFileNameDefault(): string {
+        return "";
+    }
+
+    public static getBackgroundFileNameDescription(): string {
+        return "The file name used for the background file in the portal. If it is empty, the default background is used, otherwise a custom background was uploaded and saved under the specified name.";
+    }
+
+    public static getLogoFileNameDefault(): string {
+        return "";
+    }
+
+    public static getLogoFileNameDescription(): string {
+        return "The file name used for the logo file in the portal. If it is empty, the default logo is used, otherwise a custom logo was uploaded and saved under the specified name.";
+    }
+
+    public static getThemeFileNameDefault(): string {
+        return "";
+    }
+
+    public static getThemeFileNameDescription(): string {
+        return "The file name used for the CSS file to customize the theme in the portal. If it is empty, no customized theme is used, otherwise a custom CSS file was uploaded and saved under the specified name.";
+    }
+
+    public static fromJson(data: any): UserInterfaceResources {
+        if (data === undefined || data === null) {
+            return data;
+        }
+
+        return new UserInterfaceResources(data);
+    }
+
+    public static fromJsonStream(
+        source: AsyncIterable<string | Uint8Array>, path: Array<string> = []
+    ): AsyncGenerator<UserInterfaceResources> {
+        return ModelStream.decodeArray(source, UserInterfaceResources.fromJson, path);
+    }
+
+    public toJson(): any {
+        return {
+            'backgroundFileName': this.backgroundFileName,
+            'logoFileName': this.logoFileName,
+            'themeFileName': this.themeFileName,
+        };
+    }
+
+    public clone(): UserInterfaceResources {
+        return UserInterfaceResources.fromJson(this.toJson());
+    }
+
+    public assignFrom(data: any): boolean {
+        let changed: boolean = false;
+        changed = ModelAssignment.assignValue(this, "backgroundFileName", typeof data?.backgroundFileName !== "undefined" ? data?.backgroundFileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "logoFileName", typeof data?.logoFileName !== "undefined" ? data?.logoFileName : "") || changed;
+        changed = ModelAssignment.assignValue(this, "themeFileName", typeof data?.themeFileName !== "undefined" ? data?.themeFileName : "") || changed;
+        return changed;
+    }
+
+    public equals(other: any): boolean {
+        if (this === other) {
+            return true;
+        }
+        if (other === undefined || other === null || other.constructor !== this.constructor) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.backgroundFileName, other.backgroundFileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.logoFileName, other.logoFileName)) {
+            return false;
+        }
+        if (!ModelEquality.equals(this.themeFileName, other.themeFileName)) {
+            return false;
+        }
+        return true;
+    }
+
+    public hashCode(): number {
+        let hash: number = 1;
+        hash = ModelEquality.hash(hash, this.backgroundFileName);
+        hash = ModelEquality.hash(hash, this.logoFileName);
+        hash = ModelEquality.hash(hash, this.themeFileName);
+        return hash;
+    }
+
+    public fingerprint(): string {
+        let fingerprint: string = "UserInterfaceResources(";
+        fingerprint += ModelEquality.fingerprint(this.backgroundFileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.logoFileName) + ",";
+        fingerprint += ModelEquality.fingerprint(this.themeFileName) + ",";
+        return fingerprint + ")";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+export enum UserStorage {
+
+    Unknown = 'unknown',
+    Internal = 'internal',
+    Database = 'database',
+    Ldap = 'ldap',
+    AzureAd = 'azure_ad'
+
+}
\ No newline at end of file
@@ -1,4 +1,18 @@
-import {Barcode, BaseToolbox, Billing, Converter, Ocr, Parameter, Pdfa, PdfPassword, Settings, Signature, UrlConverter} from "../generated-sources";
+import {
+	Barcode,
+	BaseToolbox,
+	Billing,
+	Converter,
+	ModelAssignment,
+	ModelEquality,
+	Ocr,
+	Parameter,
+	Pdfa,
+	PdfPassword,
+	Settings,
+	Signature,
+	UrlConverter
+} from "../generated-sources";
 
 /**
  * <p>
@@ -29,16 +43,16 @@ export class RestOperationData implements Parameter {
 	 * </p>
 	 */
 	public constructor(data?: any) {
-		this.billing = Billing.fromJson(data.billing);
-		this.password = PdfPassword.fromJson(data.password);
-		this.settings = Settings.fromJson(data.settings);
-		this.barcode = Barcode.fromJson(data.barcode);
-		this.converter = Converter.fromJson(data.converter);
-		this.ocr = Ocr.fromJson(data.ocr);
-		this.pdfa = Pdfa.fromJson(data.pdfa);
-		this.signature = Signature.fromJson(data.signature);
-		this.toolbox = (data.toolbox || []).map(BaseToolbox.fromJson);
-		this.urlconverter = UrlConverter.fromJson(data.urlconverter);
+		this.billing = Billing.fromJson(data?.billing);
+		this.password = PdfPassword.fromJson(data?.password);
+		this.settings = Settings.fromJson(data?.settings);
+		this.barcode = Barcode.fromJson(data?.barcode);
+		this.converter = Converter.fromJson(data?.converter);
+		this.ocr = Ocr.fromJson(data?.ocr);
+		this.pdfa = Pdfa.fromJson(data?.pdfa);
+		this.signature = Signature.fromJson(data?.signature);
+		this.toolbox = (data?.toolbox || []).map(BaseToolbox.fromJson);
+		this.urlconverter = UrlConverter.fromJson(data?.urlconverter);
 	}
 
 	/**
@@ -399,5 +413,97 @@ export class RestOperationData implements Parameter {
 	public clone(): RestOperationData {
 		return RestOperationData.fromJson(this.toJson());
 	}
+
+	/**
+	 * Creates a shallow copy of this {@link RestOperationData}, which shares the contained operations and settings,
+	 * but not the list of {@link BaseToolbox} operations. Unlike {@link #clone}, the operations are not encoded and
+	 * decoded again.
+	 *
+	 * @return The copy of this {@link RestOperationData}.
+	 */
+	public copy(): RestOperationData {
+		let copy: RestOperationData = new RestOperationData();
+		copy.billing = this.billing;
+		copy.password = this.password;
+		copy.settings = this.settings;
+		copy.barcode = this.barcode;
+		copy.converter = this.converter;
+		copy.ocr = this.ocr;
+		copy.pdfa = this.pdfa;
+		copy.signature = this.signature;
+		copy.toolbox = this.toolbox !== undefined ? [...this.toolbox] : undefined;
+		copy.urlconverter = this.urlconverter;
+		return copy;
+	}
+
+	public assignFrom(data: any): boolean {
+		let changed: boolean = ModelAssignment.assignModel(this, "billing", data?.billing, Billing.fromJson, Billing);
+		changed = ModelAssignment.assignModel(
+			this, "password", data?.password, PdfPassword.fromJson, PdfPassword
+		) || changed;
+		changed = ModelAssignment.assignModel(this, "settings", data?.settings, Settings.fromJson, Settings) || changed;
+		changed = ModelAssignment.assignModel(this, "barcode", data?.barcode, Barcode.fromJson, Barcode) || changed;
+		changed = ModelAssignment.assignModel(
+			this, "converter", data?.converter, Converter.fromJson, Converter
+		) || changed;
+		changed = ModelAssignment.assignModel(this, "ocr", data?.ocr, Ocr.fromJson, Ocr) || changed;
+		changed = ModelAssignment.assignModel(this, "pdfa", data?.pdfa, Pdfa.fromJson, Pdfa) || changed;
+		changed = ModelAssignment.assignModel(
+			this, "signature", data?.signature, Signature.fromJson, Signature
+		) || changed;
+		changed = ModelAssignment.assignArray(this, "toolbox", data?.toolbox, BaseToolbox.fromJson) || changed;
+		changed = ModelAssignment.assignModel(
+			this, "urlconverter", data?.urlconverter, UrlConverter.fromJson, UrlConverter
+		) || changed;
+		return changed;
+	}
+
+	public equals(other: any): boolean {
+		if (this === other) {
+			return true;
+		}
+		if (!(other instanceof RestOperationData)) {
+			return false;
+		}
+
+		return ModelEquality.equals(this.billing, other.billing) &&
+			ModelEquality.equals(this.password, other.password) &&
+			ModelEquality.equals(this.settings, other.settings) &&
+			ModelEquality.equals(this.barcode, other.barcode) &&
+			ModelEquality.equals(this.converter, other.converter) &&
+			ModelEquality.equals(this.ocr, other.ocr) &&
+			ModelEquality.equals(this.pdfa, other.pdfa) &&
+			ModelEquality.equals(this.signature, other.signature) &&
+			ModelEquality.equals(this.toolbox, other.toolbox) &&
+			ModelEquality.equals(this.urlconverter, other.urlconverter);
+	}
+
+	public hashCode(): number {
+		let hash: number = 1;
+		hash = ModelEquality.hash(hash, this.billing);
+		hash = ModelEquality.hash(hash, this.password);
+		hash = ModelEquality.hash(hash, this.settings);
+		hash = ModelEquality.hash(hash, this.barcode);
+		hash = ModelEquality.hash(hash, this.converter);
+		hash = ModelEquality.hash(hash, this.ocr);
+		hash = ModelEquality.hash(hash, this.pdfa);
+		hash = ModelEquality.hash(hash, this.signature);
+		hash = ModelEquality.hash(hash, this.toolbox);
+		hash = ModelEquality.hash(hash, this.urlconverter);
+		return hash;
+	}
+
+	/**
+	 * Returns a canonical representation of this {@link RestOperationData}, that is equal for structurally equal
+	 * operations and may be used as a cache key for the operation.
+	 *
+	 * @return The fingerprint of this {@link RestOperationData}.
+	 */
+	public fingerprint(): string {
+		return "RestOperationData(" + [
+			this.billing, this.password, this.settings, this.barcode, this.converter, this.ocr, this.pdfa,
+			this.signature, this.toolbox, this.urlconverter
+		].map(ModelEquality.fingerprint).join(",") + ")";
+	}
 }
 
@@ -0,0 +1,89 @@
+import {BaseToolbox, Billing, PdfPassword, Settings} from "../generated-sources";
+import {RestOperationData} from "./RestOperationData";
+
+/**
+ * <p>
+ * An instance of {@link RestOperationDataBuilder} collects several {@link BaseToolbox} operations (such as
+ * watermark, merge or rotate operations) into a single {@link RestOperationData}, so that all of them are executed
+ * by a single {@link WebServiceTypes#TOOLBOX} call, instead of issuing one call per operation.
+ * </p>
+ * <p>
+ * The operations are executed by the webPDF server in the order they have been added.
+ * </p>
+ */
+export class RestOperationDataBuilder {
+	private readonly toolbox: Array<BaseToolbox> = [];
+	private billing?: Billing;
+	private password?: PdfPassword;
+	private settings?: Settings;
+
+	/**
+	 * Appends the given {@link BaseToolbox} operations to the batch.
+	 *
+	 * @param operations The {@link BaseToolbox} operations to append.
+	 * @return This {@link RestOperationDataBuilder}.
+	 */
+	public addToolbox(...operations: Array<BaseToolbox>): RestOperationDataBuilder {
+		this.toolbox.push(...operations);
+		return this;
+	}
+
+	/**
+	 * Appends the {@link BaseToolbox} operations of the given {@link RestOperationData} to the batch.
+	 *
+	 * @param operationData The {@link RestOperationData} to append the toolbox operations of.
+	 * @return This {@link RestOperationDataBuilder}.
+	 */
+	public addToolboxOf(operationData: RestOperationData): RestOperationDataBuilder {
+		return this.addToolbox(...(operationData.getToolbox() || []));
+	}
+
+	/**
+	 * Sets the {@link Billing} settings for the batch.
+	 *
+	 * @param value The {@link Billing} settings for the batch.
+	 * @return This {@link RestOperationDataBuilder}.
+	 */
+	public setBilling(value: Billing | undefined): RestOperationDataBuilder {
+		this.billing = value;
+		return this;
+	}
+
+	/**
+	 * Sets the {@link PdfPassword} settings for the batch.
+	 *
+	 * @param value The {@link PdfPassword} settings for the batch.
+	 * @return This {@link RestOperationDataBuilder}.
+	 */
+	public setPassword(value: PdfPassword | undefined): RestOperationDataBuilder {
+		this.password = value;
+		return this;
+	}
+
+	/**
+	 * Sets the {@link Settings} for the batch.
+	 *
+	 * @param value The {@link Settings} for the batch.
+	 * @return This {@link RestOperationDataBuilder}.
+	 */
+	public setSettings(value: Settings | undefined): RestOperationDataBuilder {
+		this.settings = value;
+		return this;
+	}
+
+	/**
+	 * Creates the {@link RestOperationData} containing all collected {@link BaseToolbox} operations. The operations
+	 * are not copied, {@link WebServiceFactory#createByParameters} copies the resulting {@link RestOperationData}
+	 * without decoding the operations again, so that the created webservice shares them.
+	 *
+	 * @return The resulting {@link RestOperationData}.
+	 */
+	public build(): RestOperationData {
+		let operationData: RestOperationData = new RestOperationData();
+		operationData.setBilling(this.billing);
+		operationData.setPassword(this.password);
+		operationData.setSettings(this.settings);
+		operationData.setToolbox([...this.toolbox]);
+		return operationData;
+	}
+}
@@ -1 +1,2 @@
-export * from "./RestOperationData";
\ No newline at end of file
+export * from "./RestOperationData";
+export * from "./RestOperationDataBuilder";
@@ -1,6 +1,7 @@
 import {WebServiceProtocol} from "../../webservice";
 import {AxiosProxyConfig} from "axios";
 import {Agent} from "https";
+import {ClientResultException, WsclientErrors} from "../../exception";
 
 /**
  * <p>
@@ -23,6 +24,10 @@ export class SessionContext {
     private _tlsContext?: Agent;
     private _proxy?: AxiosProxyConfig;
     private _skewTime: number;
+    private _synchronizationConcurrency: number;
+    private _responseCacheActive: boolean;
+    private _responseCacheTtl?: number;
+    private _skipUnchangedConfigurationWrites: boolean;
 
     /**
      * <p>
@@ -46,6 +51,9 @@ export class SessionContext {
         this._webServiceProtocol = webServiceProtocol;
         this._url = url;
         this._skewTime = 0;
+        this._synchronizationConcurrency = 4;
+        this._responseCacheActive = true;
+        this._skipUnchangedConfigurationWrites = false;
     }
 
     /**
@@ -144,4 +152,119 @@ export class SessionContext {
         return this._skewTime;
     }
 
+    /**
+     * <p>
+     * Sets the maximum number of documents, that shall be synchronized in parallel by the {@link DocumentManager}s
+     * of {@link Session}s.<br>
+     * Synchronizing all documents of a {@link Session} requests the state of each document from the server. Higher
+     * values shorten the synchronization of many documents, at the cost of more concurrent requests to the server.
+     * A value of 1 synchronizes the documents one after another. (Default: 4)
+     * </p>
+     *
+     * @param synchronizationConcurrency The maximum number of documents, that shall be synchronized in parallel.
+     * @throws ResultException Shall be thrown, if the given value is less than 1 or not a number.
+     */
+    public setSynchronizationConcurrency(synchronizationConcurrency: number): void {
+        if (!(synchronizationConcurrency >= 1)) {
+            throw new ClientResultException(WsclientErrors.INVALID_SESSION_CONTEXT);
+        }
+        this._synchronizationConcurrency = Math.floor(synchronizationConcurrency);
+    }
+
+    /**
+     * <p>
+     * Returns the maximum number of documents, that shall be synchronized in parallel by the {@link DocumentManager}s
+     * of {@link Session}s.<br>
+     * Synchronizing all documents of a {@link Session} requests the state of each document from the server. Higher
+     * values shorten the synchronization of many documents, at the cost of more concurrent requests to the server.
+     * </p>
+     *
+     * @return The maximum number of documents, that shall be synchronized in parallel.
+     */
+    public getSynchronizationConcurrency(): number {
+        return this._synchronizationConcurrency;
+    }
+
+    /**
+     * <p>
+     * Sets whether the administration and status reads of {@link Session}s shall keep their responses in a
+     * {@link HttpResponseCache}. (Default: true)<br>
+     * Reads via a "fetch" method always ask the server, but an unchanged resource is neither transferred, nor decoded
+     * again, should the server support entity tags. Reads via a "get" method may reuse a response for it´s time to
+     * live.
+     * </p>
+     *
+     * @param responseCacheActive True, if responses shall be cached.
+     */
+    public setResponseCacheActive(responseCacheActive: boolean): void {
+        this._responseCacheActive = responseCacheActive;
+    }
+
+    /**
+     * Returns whether the administration and status reads of {@link Session}s shall keep their responses in a
+     * {@link HttpResponseCache}.
+     *
+     * @return True, if responses shall be cached.
+     */
+    public isResponseCacheActive(): boolean {
+        return this._responseCacheActive;
+    }
+
+    /**
+     * <p>
+     * Sets the time to live (in milliseconds) of the responses kept by the {@link HttpResponseCache} of
+     * {@link Session}s, overriding the time to live of all {@link CacheableResource}s.<br>
+     * A time to live of 0 lets every read revalidate the cached response with the server. Undefined restores the time
+     * to live of each {@link CacheableResource}. (Default: undefined)
+     * </p>
+     *
+     * @param responseCacheTtl The time to live in milliseconds or undefined.
+     * @throws ResultException Shall be thrown, if the time to live is negative or not a number.
+     */
+    public setResponseCacheTtl(responseCacheTtl: number | undefined): void {
+        if (typeof responseCacheTtl !== "undefined" && !(responseCacheTtl >= 0)) {
+            throw new ClientResultException(WsclientErrors.INVALID_SESSION_CONTEXT);
+        }
+        this._responseCacheTtl = responseCacheTtl;
+    }
+
+    /**
+     * Returns the time to live (in milliseconds) of the responses kept by the {@link HttpResponseCache} of
+     * {@link Session}s, or undefined, if the time to live of each {@link CacheableResource} shall be used.
+     *
+     * @return The time to live in milliseconds or undefined.
+     */
+    public getResponseCacheTtl(): number | undefined {
+        return this._responseCacheTtl;
+    }
+
+    /**
+     * <p>
+     * Sets whether the {@link AdministrationManager}s of {@link Session}s shall skip configuration updates, that do not
+     * change the configuration read from or last written to the server. (Default: false)<br>
+     * The configuration is compared with the state known to the {@link AdministrationManager}, for the time to live
+     * of {@link CacheableResources#readConfiguration} (or the time to live set via {@link #setResponseCacheTtl}).
+     * </p>
+     * <p>
+     * <b>Be aware:</b> Changes made by other clients within that time are not detected. Skipping a write may therefore
+     * lose an update, should another client have changed the configuration in the meantime. Only enable this, if the
+     * configuration is not administrated concurrently.
+     * </p>
+     *
+     * @param skipUnchangedConfigurationWrites True, if unchanged configuration updates shall be skipped.
+     */
+    public setSkipUnchangedConfigurationWrites(skipUnchangedConfigurationWrites: boolean): void {
+        this._skipUnchangedConfigurationWrites = skipUnchangedConfigurationWrites;
+    }
+
+    /**
+     * Returns whether the {@link AdministrationManager}s of {@link Session}s shall skip configuration updates, that do
+     * not change the configuration read from or last written to the server.
+     *
+     * @return True, if unchanged configuration updates shall be skipped.
+     */
+    public isSkipUnchangedConfigurationWrites(): boolean {
+        return this._skipUnchangedConfigurationWrites;
+    }
+
 }
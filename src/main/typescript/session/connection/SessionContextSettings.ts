@@ -21,6 +21,10 @@ export class SessionContextSettings {
     private readonly tlsContext?: Agent;
     private readonly proxy?: AxiosProxyConfig;
     private readonly skewTime: number;
+    private readonly synchronizationConcurrency: number;
+    private readonly responseCacheActive: boolean;
+    private readonly responseCacheTtl?: number;
+    private readonly skipUnchangedConfigurationWrites: boolean;
 
     /**
      * Creates a new {@link SessionContextSettings} from the provided {@link SessionContext}.
@@ -37,6 +41,10 @@ export class SessionContextSettings {
         this.tlsContext = contextConfiguration.getTlsContext();
         this.proxy = contextConfiguration.getProxy();
         this.skewTime = contextConfiguration.getSkewTime();
+        this.synchronizationConcurrency = contextConfiguration.getSynchronizationConcurrency();
+        this.responseCacheActive = contextConfiguration.isResponseCacheActive();
+        this.responseCacheTtl = contextConfiguration.getResponseCacheTtl();
+        this.skipUnchangedConfigurationWrites = contextConfiguration.isSkipUnchangedConfigurationWrites();
     }
 
     /**
@@ -95,4 +103,48 @@ export class SessionContextSettings {
     public getSkewTime(): number {
         return this.skewTime;
     }
+
+    /**
+     * <p>
+     * Returns the maximum number of documents, that shall be synchronized in parallel by the {@link DocumentManager}s
+     * of {@link Session}s.<br>
+     * Synchronizing all documents of a {@link Session} requests the state of each document from the server. Higher
+     * values shorten the synchronization of many documents, at the cost of more concurrent requests to the server.
+     * </p>
+     *
+     * @return The maximum number of documents, that shall be synchronized in parallel.
+     */
+    public getSynchronizationConcurrency(): number {
+        return this.synchronizationConcurrency;
+    }
+
+    /**
+     * Returns whether the administration and status reads of {@link Session}s shall keep their responses in a
+     * {@link HttpResponseCache}.
+     *
+     * @return True, if responses shall be cached.
+     */
+    public isResponseCacheActive(): boolean {
+        return this.responseCacheActive;
+    }
+
+    /**
+     * Returns the time to live (in milliseconds) of the responses kept by the {@link HttpResponseCache} of
+     * {@link Session}s, or undefined, if the time to live of each {@link CacheableResource} shall be used.
+     *
+     * @return The time to live in milliseconds or undefined.
+     */
+    public getResponseCacheTtl(): number | undefined {
+        return this.responseCacheTtl;
+    }
+
+    /**
+     * Returns whether the {@link AdministrationManager}s of {@link Session}s shall skip configuration updates, that do
+     * not change the configuration read from or last written to the server.
+     *
+     * @return True, if unchanged configuration updates shall be skipped.
+     */
+    public isSkipUnchangedConfigurationWrites(): boolean {
+        return this.skipUnchangedConfigurationWrites;
+    }
 }
@@ -0,0 +1,197 @@
+import {AxiosResponse} from "axios";
+import {CacheableResource} from "../../../generated-sources";
+import {HttpRestRequest} from "./HttpRestRequest";
+import {HttpHeaders} from "./HttpHeader";
+import HttpStatusCode from "./httpStatusCode";
+
+interface HttpResponseCacheEntry {
+	resource: CacheableResource;
+	payload: string;
+	entityTag?: string;
+	expires: number;
+}
+
+interface HttpResponseCacheRequest {
+	generation: number;
+	payload: Promise<string>;
+}
+
+/**
+ * <p>
+ * An instance of {@link HttpResponseCache} keeps the responses of {@link CacheableResource}s, so that reads of an
+ * unchanged resource do not have to transfer it again:
+ * </p>
+ * <ul>
+ * <li>{@link HttpResponseCache#fetch} always asks the server. Should the server have provided an entity tag, the
+ * request is sent with "If-None-Match" and an unchanged resource is answered by the cached response.</li>
+ * <li>{@link HttpResponseCache#get} reuses a cached response for the time to live of the {@link CacheableResource}
+ * (or the time to live configured for the cache) and only asks the server, once it expired.</li>
+ * </ul>
+ * <p>
+ * The cache is bounded and discards the least recently used entries first. All entries of a
+ * {@link CacheableResource} are discarded, when one of the operations invalidating it is issued.
+ * </p>
+ * <p>
+ * The cache keeps the response payloads, not the decoded values. Every call decodes a value of its own, that may be
+ * modified freely by the caller, without affecting later reads.
+ * </p>
+ */
+export class HttpResponseCache {
+	private readonly entries: Map<string, HttpResponseCacheEntry> = new Map();
+	private readonly pending: Map<string, HttpResponseCacheRequest> = new Map();
+	private readonly active: boolean;
+	private readonly ttl?: number;
+	private readonly maxEntries: number;
+	private generation: number = 0;
+
+	/**
+	 * Creates a {@link HttpResponseCache} holding up to the given number of responses.
+	 *
+	 * @param options The optional settings of the cache:
+	 *                active: Whether responses shall be cached at all. (Default: true)
+	 *                ttl: The time to live of cached responses in milliseconds, overriding the time to live of the
+	 *                {@link CacheableResource}s.
+	 *                maxEntries: The maximum number of cached responses. (Default: 64)
+	 */
+	public constructor(options?: {
+		active?: boolean,
+		ttl?: number,
+		maxEntries?: number
+	}) {
+		this.active = options?.active ?? true;
+		this.ttl = options?.ttl;
+		this.maxEntries = options?.maxEntries ?? 64;
+	}
+
+	/**
+	 * Returns true, if this {@link HttpResponseCache} keeps responses.
+	 *
+	 * @return true, if this {@link HttpResponseCache} keeps responses.
+	 */
+	public isActive(): boolean {
+		return this.active;
+	}
+
+	/**
+	 * Executes the given {@link HttpRestRequest} for the given {@link CacheableResource}. Should a response with an
+	 * entity tag be cached, the request is sent as a conditional request and an unchanged resource is decoded from the
+	 * cached response. Concurrent requests for the same resource url are executed only once.
+	 *
+	 * @param resource The {@link CacheableResource} requested.
+	 * @param request  The prepared {@link HttpRestRequest} to execute.
+	 * @param decode   Decodes the response data to the returned value.
+	 * @return The value decoded from the current state of the resource.
+	 * @throws ResultException Shall be thrown, if the request failed.
+	 */
+	public async fetch<T>(resource: CacheableResource, request: HttpRestRequest, decode: (data: any) => T): Promise<T> {
+		return await this.read(resource, request, decode, false);
+	}
+
+	/**
+	 * Decodes the cached response of the given {@link CacheableResource}, as long as it´s time to live has not
+	 * expired. Otherwise the given {@link HttpRestRequest} is executed, just as {@link HttpResponseCache#fetch} does.
+	 *
+	 * @param resource The {@link CacheableResource} requested.
+	 * @param request  The prepared {@link HttpRestRequest} to execute.
+	 * @param decode   Decodes the response data to the returned value.
+	 * @return The value decoded from the cached or the current state of the resource.
+	 * @throws ResultException Shall be thrown, if the request failed.
+	 */
+	public async get<T>(resource: CacheableResource, request: HttpRestRequest, decode: (data: any) => T): Promise<T> {
+		return await this.read(resource, request, decode, true);
+	}
+
+	/**
+	 * Discards all cached responses of {@link CacheableResource}s, that are invalidated by the given operation.
+	 *
+	 * @param operationId The ID of the issued operation.
+	 */
+	public invalidate(operationId: string): void {
+		this.generation++;
+		for (let [key, entry] of this.entries) {
+			if (entry.resource.invalidatedBy.includes(operationId)) {
+				this.entries.delete(key);
+			}
+		}
+	}
+
+	/**
+	 * Discards all cached responses.
+	 */
+	public clear(): void {
+		this.generation++;
+		this.entries.clear();
+	}
+
+	private async read<T>(
+		resource: CacheableResource, request: HttpRestRequest, decode: (data: any) => T, reuse: boolean
+	): Promise<T> {
+		if (!this.active) {
+			return decode(await request.executeRequest());
+		}
+
+		let key: string = resource.operationId + " " + request.getURL();
+		let entry: HttpResponseCacheEntry | undefined = this.entries.get(key);
+		if (reuse && typeof entry !== "undefined" && entry.expires > Date.now()) {
+			// refresh the position of the entry in the iteration order
+			this.entries.delete(key);
+			this.entries.set(key, entry);
+			return decode(JSON.parse(entry.payload));
+		}
+
+		// a request, that has been started before an invalidation, might not reflect it
+		let pending: HttpResponseCacheRequest | undefined = this.pending.get(key);
+		if (typeof pending !== "undefined" && pending.generation === this.generation) {
+			return decode(JSON.parse(await pending.payload));
+		}
+
+		let current: HttpResponseCacheRequest = {
+			generation: this.generation,
+			payload: this.revalidate(key, resource, request, entry)
+		};
+		this.pending.set(key, current);
+		try {
+			return decode(JSON.parse(await current.payload));
+		} finally {
+			if (this.pending.get(key) === current) {
+				this.pending.delete(key);
+			}
+		}
+	}
+
+	private async revalidate(
+		key: string, resource: CacheableResource, request: HttpRestRequest, entry?: HttpResponseCacheEntry
+	): Promise<string> {
+		let generation: number = this.generation;
+		if (typeof entry?.entityTag !== "undefined") {
+			request.setIfNoneMatch(entry.entityTag);
+		}
+
+		let response: AxiosResponse = await request.execute();
+		let payload: string;
+		let entityTag: string | undefined;
+		if (response.status === HttpStatusCode.NOT_MODIFIED && typeof entry !== "undefined") {
+			payload = entry.payload;
+			entityTag = entry.entityTag;
+		} else {
+			payload = JSON.stringify(response.data ?? null);
+			entityTag = response.headers[HttpHeaders.ETAG.toLowerCase()];
+		}
+
+		// an invalidation, that occurred while the request was running, might not be reflected by the response
+		if (generation === this.generation) {
+			this.entries.delete(key);
+			this.entries.set(key, {
+				resource: resource,
+				payload: payload,
+				entityTag: entityTag,
+				expires: Date.now() + (typeof this.ttl !== "undefined" ? this.ttl : resource.ttl)
+			});
+			if (this.entries.size > this.maxEntries) {
+				this.entries.delete(this.entries.keys().next().value);
+			}
+		}
+
+		return payload;
+	}
+}
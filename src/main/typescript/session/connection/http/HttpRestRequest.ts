@@ -78,6 +78,32 @@ export class HttpRestRequest {
 		return this;
 	}
 
+	/**
+	 * Turns this {@link HttpRestRequest} into a conditional request, that shall only transfer the resource, if it´s
+	 * entity tag differs from the given one. Otherwise the server answers with {@link HttpStatusCode#NOT_MODIFIED},
+	 * which shall then be accepted as a valid response.
+	 *
+	 * @param entityTag The entity tag of the locally known state of the resource.
+	 * @return The {@link HttpRestRequest} instance itself.
+	 */
+	public setIfNoneMatch(entityTag: string): HttpRestRequest {
+		this.setAdditionalHeader(HttpHeaders.IF_NONE_MATCH, entityTag);
+		this.requestConfig.validateStatus = (status: number) =>
+			(status >= HttpStatusCode.OK && status < HttpStatusCode.MULTIPLE_CHOICES) ||
+			status === HttpStatusCode.NOT_MODIFIED;
+
+		return this;
+	}
+
+	/**
+	 * Returns the resource url this {@link HttpRestRequest} has been prepared for.
+	 *
+	 * @return The resource url or undefined, if the request has not been built yet.
+	 */
+	public getURL(): string | undefined {
+		return this.requestConfig.url;
+	}
+
 	/**
 	 * Prepare the {@link HttpRestRequest} to execute the selected {@link HttpMethod} on the given resource path
 	 * ({@link URL}) and providing the given httpEntity as it´s data transfer object (parameters).
@@ -211,6 +237,12 @@ export class HttpRestRequest {
 			return;
 		}
 
+		// a conditional request found the resource to be unchanged
+		if (code === HttpStatusCode.NOT_MODIFIED &&
+			typeof this.requestConfig.headers?.[HttpHeaders.IF_NONE_MATCH] !== "undefined") {
+			return;
+		}
+
 		// get the response
 		let data: any = httpResponse.data;
 		if (typeof data === "undefined") {
@@ -256,6 +288,53 @@ export class HttpRestRequest {
 		return response.data;
 	}
 
+	/**
+	 * <p>
+	 * Executes {@link HttpRestRequest} and shall provide the response´s data as a stream of chunks, that may be decoded
+	 * incrementally, i.e. via the "fromJsonStream" methods of the generated models.
+	 * </p>
+	 * <p>
+	 * <b>Be Aware:</b> Streamed responses are only supported by the Node.js HTTP adapter.
+	 * </p>
+	 *
+	 * @return The chunks of the response´s data.
+	 * @throws ResultException Shall be thrown, should the {@link AxiosResponse} represent a failure state.
+	 */
+	public async executeStream(): Promise<AsyncIterable<string | Uint8Array>> {
+		this.requestConfig.responseType = "stream";
+		let response: AxiosResponse = await this.execute();
+
+		return response.data;
+	}
+
+	/**
+	 * Reads a streamed error response completely, so that it can be checked via {@link #checkResponse}.
+	 */
+	private static async readStream(httpResponse: AxiosResponse): Promise<any> {
+		let data: any = httpResponse.data;
+		if (typeof data?.[Symbol.asyncIterator] !== "function") {
+			return data;
+		}
+
+		let decoder: TextDecoder = new TextDecoder();
+		let text: string = "";
+		for await (let chunk of data as AsyncIterable<string | Uint8Array>) {
+			text += typeof chunk === "string" ? chunk : decoder.decode(chunk, {stream: true});
+		}
+		text += decoder.decode();
+
+		let contentType = httpResponse.headers[HttpHeaders.CONTENT_TYPE.toLowerCase()];
+		if (DataFormats.JSON.matches(contentType)) {
+			try {
+				return JSON.parse(text);
+			} catch (e) {
+				return text;
+			}
+		}
+
+		return text;
+	}
+
 	/**
 	 * <p>
 	 * Executes {@link HttpRestRequest}.
@@ -281,6 +360,9 @@ export class HttpRestRequest {
 			let error: AxiosError = e;
 
 			if (typeof error.response !== "undefined") {
+				if (this.requestConfig.responseType === "stream") {
+					error.response.data = await HttpRestRequest.readStream(error.response);
+				}
 				await this.checkResponse(error.response);
 			}
 
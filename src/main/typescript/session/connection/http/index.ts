@@ -2,3 +2,4 @@ export * from "./HttpHeader";
 export * from "./HttpMethod";
 export * from "./HttpRestRequest";
 export * from "./httpStatusCode";
+export * from "./HttpResponseCache";
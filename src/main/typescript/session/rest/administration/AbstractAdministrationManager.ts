@@ -7,6 +7,7 @@ import {
 	ApplicationCheckMode,
 	ApplicationConfiguration,
 	ApplicationConfigurationInterface,
+	CacheableResources,
 	ClusterCheck,
 	ClusterConfiguration,
 	ClusterConfigurationInterface,
@@ -14,17 +15,18 @@ import {
 	ConfigurationMode,
 	ConfigurationResult,
 	ConfigurationType,
-	ConnectorKeyStore,
 	DataSourceServerState,
 	ExecutableApplicationCheckInterface,
 	ExecutableName,
 	FileDataStore,
 	FileGroupDataStore,
 	GlobalKeyStore,
+	InvalidatingOperations,
 	LogCheck,
 	LogConfiguration,
 	LogConfigurationInterface,
 	LogFileConfiguration,
+	ModelEquality,
 	Parameter,
 	ProviderCheck,
 	ProviderConfiguration,
@@ -48,10 +50,15 @@ import {
 } from "../../../generated-sources";
 import {DataFormats} from "../../DataFormat";
 import {ClientResultException, WsclientErrors} from "../../../exception";
-import {AdministrationManager} from "./AdministrationManager";
-import {HttpHeaders, HttpMethod, HttpRestRequest} from "../../connection";
+import {AdministrationManager, ConnectorKeyStores} from "./AdministrationManager";
+import {HttpHeaders, HttpMethod, HttpResponseCache, HttpRestRequest} from "../../connection";
 import {AxiosProgressEvent, AxiosResponse} from "axios";
 
+interface ServerConfigurationState {
+	fingerprint: string;
+	expires: number;
+}
+
 /**
  * An instance of {@link AdministrationManager} allows to administrate the webPDF server.
  *
@@ -60,6 +67,7 @@ import {AxiosProgressEvent, AxiosResponse} from "axios";
 export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends RestDocument>
 	implements AdministrationManager<T_REST_DOCUMENT> {
 	private readonly session: RestSession<T_REST_DOCUMENT>;
+	private readonly responseCache: HttpResponseCache;
 	private applicationConfiguration?: Application;
 	private serverConfiguration?: Server;
 	private userConfiguration?: Users;
@@ -67,8 +75,11 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 	private clusterConfiguration?: ClusterSettings;
 	private providerConfiguration?: ProviderSettings;
 	private globalKeyStore?: GlobalKeyStore;
-	private connectorKeyStore?: { [key: string]: ConnectorKeyStore; };
+	private connectorKeyStore?: ConnectorKeyStores;
 	private trustStoreKeyStore?: TrustStoreKeyStore;
+	private readonly serverStates: Map<ConfigurationType, ServerConfigurationState> = new Map();
+	private readonly skipUnchangedWrites: boolean;
+	private readonly serverStateTtl: number;
 
 	/**
 	 * Initializes a {@link AdministrationManager} for the given {@link RestSession}.
@@ -77,6 +88,13 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 	 */
 	public constructor(session: RestSession<T_REST_DOCUMENT>) {
 		this.session = session;
+		this.responseCache = new HttpResponseCache({
+			active: session.getSessionContext().isResponseCacheActive(),
+			ttl: session.getSessionContext().getResponseCacheTtl()
+		});
+		this.skipUnchangedWrites = session.getSessionContext().isSkipUnchangedConfigurationWrites();
+		this.serverStateTtl = session.getSessionContext().getResponseCacheTtl() ??
+			CacheableResources.readConfiguration.ttl;
 	}
 
 	/**
@@ -88,6 +106,26 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		return this.session;
 	}
 
+	/**
+	 * <p>
+	 * Returns the {@link HttpResponseCache} keeping the responses of cacheable administration and status reads.
+	 * </p>
+	 * <p>
+	 * The "fetch" methods always ask the server and only profit from the cache, should the server support entity tags.
+	 * The "get" methods of the status reads reuse a response for the time to live of their {@link CacheableResource}.
+	 * Responses are discarded, when the matching write is issued via this {@link AdministrationManager}.
+	 * </p>
+	 * <p>
+	 * The cache may be disabled or configured via {@link SessionContext#setResponseCacheActive} and
+	 * {@link SessionContext#setResponseCacheTtl}.
+	 * </p>
+	 *
+	 * @return The {@link HttpResponseCache} used by this {@link AdministrationManager}.
+	 */
+	public getResponseCache(): HttpResponseCache {
+		return this.responseCache;
+	}
+
 	/**
 	 * Validates if the current user has access rights and throws {@link ClientResultException} otherwise
 	 *
@@ -168,7 +206,23 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.GET, this.session.getURL("admin/server/status"));
 
-		return ServerStatus.fromJson(await request.executeRequest());
+		return await this.responseCache.fetch(CacheableResources.readServerStatus, request, ServerStatus.fromJson);
+	}
+
+	/**
+	 * Provides the cached status information about the server, the JVM and the Web services, or fetches it via
+	 * {@link AdministrationManager#fetchServerStatus}, once the time to live of the cached status expired.
+	 *
+	 * @return {@link ServerStatus} The status information about the server.
+	 * @throws ResultException Shall be thrown, if the request failed.
+	 */
+	public async getServerStatus(): Promise<ServerStatus> {
+		await this.validateUser();
+
+		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
+			.buildRequest(HttpMethod.GET, this.session.getURL("admin/server/status"));
+
+		return await this.responseCache.get(CacheableResources.readServerStatus, request, ServerStatus.fromJson);
 	}
 
 	/**
@@ -225,7 +279,7 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.GET, this.session.getURL("admin/server/restart"));
 
-		await request.executeRequest();
+		await this.executeWrite(InvalidatingOperations.restartServer, request);
 	}
 
 	/**
@@ -240,8 +294,14 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.GET, this.session.getURL("admin/configuration/application"));
 
-		let applicationConfiguration: ApplicationConfiguration = ApplicationConfiguration.fromJson(
-			await request.executeRequest()
+		let applicationConfiguration: ApplicationConfiguration = await this.responseCache.fetch(
+			CacheableResources.readConfiguration, request, (data: any) => {
+				let configuration: ApplicationConfiguration = ApplicationConfiguration.fromJson(data);
+				this.recordServerState(
+					ConfigurationType.Application, [configuration.configuration, configuration.globalKeyStore]
+				);
+				return configuration;
+			}
 		);
 
 		this.applicationConfiguration = applicationConfiguration.configuration;
@@ -298,16 +358,9 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 			globalKeyStore: await this.getGlobalKeyStore()
 		} as ApplicationConfigurationInterface)
 
-		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
-			.buildRequest(
-				HttpMethod.POST,
-				this.session.getURL("admin/configuration/"),
-				this.prepareHttpEntity(applicationConfiguration),
-				DataFormats.JSON.getMimeType()
-			);
-
-		let configurationResult: ConfigurationResult = ConfigurationResult.fromJson(
-			await request.executeRequest()
+		let configurationResult: ConfigurationResult = await this.writeConfiguration(
+			ConfigurationType.Application, applicationConfiguration,
+			[applicationConfiguration.configuration, applicationConfiguration.globalKeyStore], checks
 		);
 
 		if (configurationResult.error?.code === 0) {
@@ -365,8 +418,14 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.GET, this.session.getURL("admin/configuration/server"));
 
-		let serverConfiguration: ServerConfiguration = ServerConfiguration.fromJson(
-			await request.executeRequest()
+		let serverConfiguration: ServerConfiguration = await this.responseCache.fetch(
+			CacheableResources.readConfiguration, request, (data: any) => {
+				let configuration: ServerConfiguration = ServerConfiguration.fromJson(data);
+				this.recordServerState(ConfigurationType.Server, [
+					configuration.configuration, configuration.trustStoreKeyStore, configuration.connectorKeyStore
+				]);
+				return configuration;
+			}
 		);
 
 		this.serverConfiguration = serverConfiguration.configuration;
@@ -425,16 +484,11 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 			connectorKeyStore: await this.getConnectorKeyStore()
 		} as ServerConfigurationInterface)
 
-		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
-			.buildRequest(
-				HttpMethod.POST,
-				this.session.getURL("admin/configuration/"),
-				this.prepareHttpEntity(serverConfiguration),
-				DataFormats.JSON.getMimeType()
-			);
-
-		let configurationResult: ConfigurationResult = ConfigurationResult.fromJson(
-			await request.executeRequest()
+		let configurationResult: ConfigurationResult = await this.writeConfiguration(
+			ConfigurationType.Server, serverConfiguration, [
+				serverConfiguration.configuration, serverConfiguration.trustStoreKeyStore,
+				serverConfiguration.connectorKeyStore
+			], checks
 		);
 
 		if (configurationResult.error?.code === 0) {
@@ -493,9 +547,13 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.GET, this.session.getURL("admin/configuration/user"));
 
-		this.userConfiguration = UserConfiguration.fromJson(
-			await request.executeRequest()
-		).configuration;
+		this.userConfiguration = (await this.responseCache.fetch(
+			CacheableResources.readConfiguration, request, (data: any) => {
+				let configuration: UserConfiguration = UserConfiguration.fromJson(data);
+				this.recordServerState(ConfigurationType.User, [configuration.configuration]);
+				return configuration;
+			}
+		)).configuration;
 
 		return this.userConfiguration;
 	}
@@ -546,16 +604,8 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 			configurationType: ConfigurationType.User
 		} as UserConfigurationInterface)
 
-		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
-			.buildRequest(
-				HttpMethod.POST,
-				this.session.getURL("admin/configuration/"),
-				this.prepareHttpEntity(userConfiguration),
-				DataFormats.JSON.getMimeType()
-			);
-
-		let configurationResult: ConfigurationResult = ConfigurationResult.fromJson(
-			await request.executeRequest()
+		let configurationResult: ConfigurationResult = await this.writeConfiguration(
+			ConfigurationType.User, userConfiguration, [userConfiguration.configuration], checks
 		);
 
 		if (configurationResult.error?.code === 0) {
@@ -612,9 +662,13 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.GET, this.session.getURL("admin/configuration/log"));
 
-		this.logConfiguration = LogConfiguration.fromJson(
-			await request.executeRequest()
-		).configuration
+		this.logConfiguration = (await this.responseCache.fetch(
+			CacheableResources.readConfiguration, request, (data: any) => {
+				let configuration: LogConfiguration = LogConfiguration.fromJson(data);
+				this.recordServerState(ConfigurationType.Log, [configuration.configuration]);
+				return configuration;
+			}
+		)).configuration
 
 		return this.logConfiguration;
 	}
@@ -666,16 +720,8 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 			configurationType: ConfigurationType.Log
 		} as LogConfigurationInterface)
 
-		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
-			.buildRequest(
-				HttpMethod.POST,
-				this.session.getURL("admin/configuration/"),
-				this.prepareHttpEntity(logConfiguration),
-				DataFormats.JSON.getMimeType()
-			);
-
-		let configurationResult: ConfigurationResult = ConfigurationResult.fromJson(
-			await request.executeRequest()
+		let configurationResult: ConfigurationResult = await this.writeConfiguration(
+			ConfigurationType.Log, logConfiguration, [logConfiguration.configuration], checks
 		);
 
 		if (configurationResult.error?.code === 0) {
@@ -811,12 +857,12 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 	}
 
 	/**
-	 * Gets the {@link { [key: string]: ConnectorKeyStore; }} from the server updating the cached keystore.
+	 * Gets the {@link ConnectorKeyStores} from the server updating the cached keystore.
 	 *
-	 * @return {@link { [key: string]: ConnectorKeyStore; }} the requested keystore
+	 * @return {@link ConnectorKeyStores} the requested keystore
 	 * @throws ResultException Shall be thrown, if the request failed.
 	 */
-	public async fetchConnectorKeyStore(): Promise<{ [key: string]: ConnectorKeyStore; }> {
+	public async fetchConnectorKeyStore(): Promise<ConnectorKeyStores> {
 		await this.validateUser();
 
 		await this.fetchServerConfiguration();
@@ -825,13 +871,13 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 	}
 
 	/**
-	 * Gets the cached {@link { [key: string]: ConnectorKeyStore; }} of the server or fetches via
+	 * Gets the cached {@link ConnectorKeyStores} of the server or fetches via
 	 * {@link AdministrationManager#fetchConnectorKeyStore} if cache is empty
 	 *
-	 * @return {@link { [key: string]: ConnectorKeyStore; }} the requested keystore
+	 * @return {@link ConnectorKeyStores} the requested keystore
 	 * @throws ResultException Shall be thrown, if the request failed.
 	 */
-	public async getConnectorKeyStore(): Promise<{ [key: string]: ConnectorKeyStore; }> {
+	public async getConnectorKeyStore(): Promise<ConnectorKeyStores> {
 		await this.validateUser();
 
 		if (typeof this.connectorKeyStore === "undefined") {
@@ -843,15 +889,15 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 
 	/**
 	 * <p>
-	 * Sets the {@link { [key: string]: ConnectorKeyStore; }} of the server.
+	 * Sets the {@link ConnectorKeyStores} of the server.
 	 * </p>
 	 * <p>
 	 * <b>Be Aware:</b> This needs to be updated via {@link updateServerConfiguration} to take effekt on the server.
 	 * </p>
 	 *
-	 * @param keystore the {@link { [key: string]: ConnectorKeyStore; }} to set
+	 * @param keystore the {@link ConnectorKeyStores} to set
 	 */
-	public setConnectorKeyStore(keystore: { [key: string]: ConnectorKeyStore; }): void {
+	public setConnectorKeyStore(keystore: ConnectorKeyStores): void {
 		this.connectorKeyStore = keystore;
 	}
 
@@ -915,7 +961,7 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.GET, this.session.getURL("admin/datastore/" + group, searchParams));
 
-		return FileDataStore.fromJson(await request.executeRequest())
+		return await this.responseCache.fetch(CacheableResources.readDataStoreFile, request, FileDataStore.fromJson)
 	}
 
 	/**
@@ -936,7 +982,7 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 				DataFormats.JSON.getMimeType()
 			);
 
-		await request.executeRequest();
+		await this.executeWrite(InvalidatingOperations.updateDataStoreFile, request);
 	}
 
 	/**
@@ -959,7 +1005,7 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.DELETE, this.session.getURL("admin/datastore/" + group, searchParams));
 
-		await request.executeRequest();
+		await this.executeWrite(InvalidatingOperations.deleteDataStoreFile, request);
 	}
 
 	/**
@@ -1000,7 +1046,7 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 				this.session.getURL("admin/statistic/" + [dataSource, aggregation].join("/"), searchParams)
 			)
 
-		return Statistic.fromJson(await request.executeRequest());
+		return await this.responseCache.fetch(CacheableResources.readServerStatistic, request, Statistic.fromJson);
 	}
 
 	/**
@@ -1015,7 +1061,23 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.GET, this.session.getURL("admin/session/table"));
 
-		return SessionTable.fromJson(await request.executeRequest());
+		return await this.responseCache.fetch(CacheableResources.readSessionTable, request, SessionTable.fromJson);
+	}
+
+	/**
+	 * Returns the cached session table of the server, or fetches it via
+	 * {@link AdministrationManager#fetchSessionTable}, once the time to live of the cached table expired.
+	 *
+	 * @return The requested {@link SessionTable}.
+	 * @throws ResultException Shall be thrown, if the request failed.
+	 */
+	public async getSessionTable(): Promise<SessionTable> {
+		await this.validateUser();
+
+		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
+			.buildRequest(HttpMethod.GET, this.session.getURL("admin/session/table"));
+
+		return await this.responseCache.get(CacheableResources.readSessionTable, request, SessionTable.fromJson);
 	}
 
 	/**
@@ -1031,7 +1093,95 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.POST, this.session.getURL("admin/session/" + sessionId + "/close"));
 
-		await request.executeRequest();
+		await this.executeWrite(InvalidatingOperations.closeSession, request);
+	}
+
+	/**
+	 * Executes a request, that modifies the server state and discards all cached responses invalidated by it.
+	 *
+	 * @param operationId The ID of the executed operation (see {@link InvalidatingOperations}).
+	 * @param request     The prepared {@link HttpRestRequest} to execute.
+	 * @return The resulting data transfer object.
+	 * @throws ResultException Shall be thrown, if the request failed.
+	 */
+	private async executeWrite(operationId: string, request: HttpRestRequest): Promise<any> {
+		try {
+			return await request.executeRequest();
+		} finally {
+			this.responseCache.invalidate(operationId);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Writes the given configuration entity. Should {@link SessionContext#setSkipUnchangedConfigurationWrites} be
+	 * enabled, the write is skipped, if no checks have been requested and the written state equals the state, that has
+	 * been read from or written to the server within the time to live of {@link CacheableResources#readConfiguration}.
+	 * A skipped write results in a successful {@link ConfigurationResult}.
+	 * </p>
+	 * <p>
+	 * The state is compared by the fingerprints of the configuration and the keystores of the decoded entity, as the
+	 * cached configurations may have been modified in place by the caller.
+	 * </p>
+	 *
+	 * @param type          The {@link ConfigurationType} of the written configuration.
+	 * @param configuration The configuration entity to write.
+	 * @param state         The configuration and the keystores of the configuration entity.
+	 * @param checks        The optional checks, the server shall validate the configuration with.
+	 * @return The resulting {@link ConfigurationResult}.
+	 * @throws ResultException Shall be thrown, if the request failed.
+	 */
+	private async writeConfiguration(
+		type: ConfigurationType, configuration: Parameter, state: Array<any>, checks?: Array<any>
+	): Promise<ConfigurationResult> {
+		let fingerprint: string | undefined = this.skipUnchangedWrites ? ModelEquality.fingerprint(state) : undefined;
+		let serverState: ServerConfigurationState | undefined = this.serverStates.get(type);
+		if ((typeof checks === "undefined" || checks.length === 0) && typeof serverState !== "undefined" &&
+			serverState.expires > Date.now() && serverState.fingerprint === fingerprint) {
+			return ConfigurationResult.fromJson({
+				error: {code: 0},
+				operation: ConfigurationMode.Write
+			});
+		}
+
+		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
+			.buildRequest(
+				HttpMethod.POST,
+				this.session.getURL("admin/configuration/"),
+				this.prepareHttpEntity(configuration),
+				DataFormats.JSON.getMimeType()
+			);
+
+		// the server state is unknown, unless the write succeeded
+		this.serverStates.delete(type);
+		let configurationResult: ConfigurationResult = ConfigurationResult.fromJson(
+			await this.executeWrite(InvalidatingOperations.updateConfiguration, request)
+		);
+		if (typeof fingerprint !== "undefined" && configurationResult.error?.code === 0) {
+			this.serverStates.set(type, {
+				fingerprint: fingerprint,
+				expires: Date.now() + this.serverStateTtl
+			});
+		}
+
+		return configurationResult;
+	}
+
+	/**
+	 * Records the configuration and the keystores of a configuration, that has been read from the server, should
+	 * unchanged configuration writes be skipped.
+	 *
+	 * @param type  The {@link ConfigurationType} of the read configuration.
+	 * @param state The configuration and the keystores of the read configuration entity.
+	 */
+	private recordServerState(type: ConfigurationType, state: Array<any>): void {
+		if (!this.skipUnchangedWrites) {
+			return;
+		}
+		this.serverStates.set(type, {
+			fingerprint: ModelEquality.fingerprint(state),
+			expires: Date.now() + this.serverStateTtl
+		});
 	}
 
 	/**
@@ -1063,8 +1213,12 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.GET, this.session.getURL("admin/configuration/cluster"));
 
-		let clusterConfiguration: ClusterConfiguration = ClusterConfiguration.fromJson(
-			await request.executeRequest()
+		let clusterConfiguration: ClusterConfiguration = await this.responseCache.fetch(
+			CacheableResources.readConfiguration, request, (data: any) => {
+				let configuration: ClusterConfiguration = ClusterConfiguration.fromJson(data);
+				this.recordServerState(ConfigurationType.Cluster, [configuration.configuration]);
+				return configuration;
+			}
 		);
 
 		this.clusterConfiguration = clusterConfiguration.configuration;
@@ -1118,16 +1272,8 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 			configurationType: ConfigurationType.Cluster
 		} as ClusterConfigurationInterface)
 
-		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
-			.buildRequest(
-				HttpMethod.POST,
-				this.session.getURL("admin/configuration/"),
-				this.prepareHttpEntity(clusterConfiguration),
-				DataFormats.JSON.getMimeType()
-			);
-
-		let configurationResult: ConfigurationResult = ConfigurationResult.fromJson(
-			await request.executeRequest()
+		let configurationResult: ConfigurationResult = await this.writeConfiguration(
+			ConfigurationType.Cluster, clusterConfiguration, [clusterConfiguration.configuration], checks
 		);
 
 		if (configurationResult.error?.code === 0) {
@@ -1183,8 +1329,12 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.GET, this.session.getURL("admin/configuration/provider"));
 
-		let providerConfiguration: ProviderConfiguration = ProviderConfiguration.fromJson(
-			await request.executeRequest()
+		let providerConfiguration: ProviderConfiguration = await this.responseCache.fetch(
+			CacheableResources.readConfiguration, request, (data: any) => {
+				let configuration: ProviderConfiguration = ProviderConfiguration.fromJson(data);
+				this.recordServerState(ConfigurationType.Provider, [configuration.configuration]);
+				return configuration;
+			}
 		);
 
 		this.providerConfiguration = providerConfiguration.configuration;
@@ -1238,16 +1388,8 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 			configurationType: ConfigurationType.Provider
 		} as ProviderConfigurationInterface)
 
-		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
-			.buildRequest(
-				HttpMethod.POST,
-				this.session.getURL("admin/configuration/"),
-				this.prepareHttpEntity(providerConfiguration),
-				DataFormats.JSON.getMimeType()
-			);
-
-		let configurationResult: ConfigurationResult = ConfigurationResult.fromJson(
-			await request.executeRequest()
+		let configurationResult: ConfigurationResult = await this.writeConfiguration(
+			ConfigurationType.Provider, providerConfiguration, [providerConfiguration.configuration], checks
 		);
 
 		if (configurationResult.error?.code === 0) {
@@ -1303,6 +1445,22 @@ export abstract class AbstractAdministrationManager<T_REST_DOCUMENT extends Rest
 		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
 			.buildRequest(HttpMethod.GET, this.session.getURL("admin/cluster/status"));
 
-		return ClusterStatus.fromJson(await request.executeRequest());
+		return await this.responseCache.fetch(CacheableResources.readClusterStatus, request, ClusterStatus.fromJson);
+	}
+
+	/**
+	 * Returns the cached cluster status of the server, or fetches it via
+	 * {@link AdministrationManager#fetchClusterStatus}, once the time to live of the cached status expired.
+	 *
+	 * @return The requested {@link ClusterStatus}.
+	 * @throws ResultException Shall be thrown, if the request failed.
+	 */
+	public async getClusterStatus(): Promise<ClusterStatus> {
+		await this.validateUser();
+
+		let request: HttpRestRequest = await HttpRestRequest.createRequest(this.session)
+			.buildRequest(HttpMethod.GET, this.session.getURL("admin/cluster/status"));
+
+		return await this.responseCache.get(CacheableResources.readClusterStatus, request, ClusterStatus.fromJson);
 	}
 }
@@ -1,7 +1,7 @@
 import {RestSession} from "../RestSession";
 import {RestDocument} from "../documents";
 import {AxiosProgressEvent} from "axios";
-import {HttpRestRequest} from "../../connection";
+import {HttpResponseCache, HttpRestRequest} from "../../connection";
 import {
 	AggregationServerState,
 	Application,
@@ -10,7 +10,6 @@ import {
 	ClusterSettings,
 	ClusterStatus,
 	ConfigurationResult,
-	ConnectorKeyStore,
 	DataSourceServerState,
 	ExecutableName,
 	FileDataStore,
@@ -22,6 +21,7 @@ import {
 	ProviderSettings,
 	Server,
 	ServerCheck,
+	ServerConfigurationInterface,
 	ServerStatus,
 	SessionTable,
 	Statistic,
@@ -33,7 +33,21 @@ import {
 } from "../../../generated-sources";
 
 /**
+ * The {@link ConnectorKeyStore}s of the {@link Server} configuration, mapped by their keystore file names.
+ */
+export type ConnectorKeyStores = NonNullable<ServerConfigurationInterface["connectorKeyStore"]>;
+
+/**
+ * <p>
  * A class implementing {@link AdministrationManager} administrates and monitors the webPDF server configurations.
+ * </p>
+ * <p>
+ * Should {@link SessionContext#setSkipUnchangedConfigurationWrites} be enabled, updating a configuration (including
+ * its keystores) without checks is skipped and results in a successful {@link ConfigurationResult}, if it equals the
+ * configuration, that has been fetched from or written to the server within the time to live of
+ * {@link CacheableResources#readConfiguration}. Changes made by other clients in the meantime are not detected and
+ * may therefore be lost, the option is disabled by default.
+ * </p>
  *
  * @param <T_REST_DOCUMENT> The {@link RestDocument} used by the currently active {@link RestSession}.
  */
@@ -45,6 +59,24 @@ export interface AdministrationManager<T_REST_DOCUMENT extends RestDocument> {
 	 */
 	getSession(): RestSession<T_REST_DOCUMENT>
 
+	/**
+	 * <p>
+	 * Returns the {@link HttpResponseCache} keeping the responses of cacheable administration and status reads.
+	 * </p>
+	 * <p>
+	 * The "fetch" methods always ask the server and only profit from the cache, should the server support entity tags.
+	 * The "get" methods of the status reads reuse a response for the time to live of their {@link CacheableResource}.
+	 * Responses are discarded, when the matching write is issued via this {@link AdministrationManager}.
+	 * </p>
+	 * <p>
+	 * The cache may be disabled or configured via {@link SessionContext#setResponseCacheActive} and
+	 * {@link SessionContext#setResponseCacheTtl}.
+	 * </p>
+	 *
+	 * @return The {@link HttpResponseCache} used by this {@link AdministrationManager}.
+	 */
+	getResponseCache(): HttpResponseCache;
+
 	/**
 	 * Returns the byte size of the current log or a specific log file of the server. If the date query parameter
 	 * is specified, an explicitly selected log will be read.
@@ -74,6 +106,15 @@ export interface AdministrationManager<T_REST_DOCUMENT extends RestDocument> {
 	 */
 	fetchServerStatus(): Promise<ServerStatus>;
 
+	/**
+	 * Provides the cached status information about the server, the JVM and the Web services, or fetches it via
+	 * {@link AdministrationManager#fetchServerStatus}, once the time to live of the cached status expired.
+	 *
+	 * @return {@link ServerStatus} The status information about the server.
+	 * @throws ResultException Shall be thrown, if the request failed.
+	 */
+	getServerStatus(): Promise<ServerStatus>;
+
 	/**
 	 * Collects a set of support information, that may simplify finding the cause and solution of issues.
 	 *
@@ -376,33 +417,33 @@ export interface AdministrationManager<T_REST_DOCUMENT extends RestDocument> {
 	setTrustStoreKeyStore(keystore: TrustStoreKeyStore): void;
 
 	/**
-	 * Gets the {@link { [key: string]: ConnectorKeyStore; }} from the server updating the cached keystore.
+	 * Gets the {@link ConnectorKeyStores} from the server updating the cached keystore.
 	 *
-	 * @return {@link { [key: string]: ConnectorKeyStore; }} the requested keystore
+	 * @return {@link ConnectorKeyStores} the requested keystore
 	 * @throws ResultException Shall be thrown, if the request failed.
 	 */
-	fetchConnectorKeyStore(): Promise<{ [key: string]: ConnectorKeyStore; }>;
+	fetchConnectorKeyStore(): Promise<ConnectorKeyStores>;
 
 	/**
-	 * Gets the cached {@link { [key: string]: ConnectorKeyStore; }} of the server or fetches via
+	 * Gets the cached {@link ConnectorKeyStores} of the server or fetches via
 	 * {@link AdministrationManager#fetchConnectorKeyStore} if cache is empty
 	 *
-	 * @return {@link { [key: string]: ConnectorKeyStore; }} the requested keystore
+	 * @return {@link ConnectorKeyStores} the requested keystore
 	 * @throws ResultException Shall be thrown, if the request failed.
 	 */
-	getConnectorKeyStore(): Promise<{ [key: string]: ConnectorKeyStore; }>;
+	getConnectorKeyStore(): Promise<ConnectorKeyStores>;
 
 	/**
 	 * <p>
-	 * Sets the {@link { [key: string]: ConnectorKeyStore; }} of the server.
+	 * Sets the {@link ConnectorKeyStores} of the server.
 	 * </p>
 	 * <p>
 	 * <b>Be Aware:</b> This needs to be updated via {@link updateServerConfiguration} to take effekt on the server.
 	 * </p>
 	 *
-	 * @param keystore the {@link { [key: string]: ConnectorKeyStore; }} to set
+	 * @param keystore the {@link ConnectorKeyStores} to set
 	 */
-	setConnectorKeyStore(keystore: { [key: string]: ConnectorKeyStore; }): void
+	setConnectorKeyStore(keystore: ConnectorKeyStores): void
 
 	/**
 	 * This is a shortcut function to validate {@link Application} configuration executables
@@ -480,6 +521,15 @@ export interface AdministrationManager<T_REST_DOCUMENT extends RestDocument> {
 	 */
 	fetchSessionTable(): Promise<SessionTable>;
 
+	/**
+	 * Returns the cached session table of the server, or fetches it via
+	 * {@link AdministrationManager#fetchSessionTable}, once the time to live of the cached table expired.
+	 *
+	 * @return The requested {@link SessionTable}.
+	 * @throws ResultException Shall be thrown, if the request failed.
+	 */
+	getSessionTable(): Promise<SessionTable>;
+
 	/**
 	 * Closes the session with the specified ID, by activating the session expiration. After the call, any access
 	 * to the session results in an error.
@@ -603,4 +653,13 @@ export interface AdministrationManager<T_REST_DOCUMENT extends RestDocument> {
 	 * @throws ResultException Shall be thrown, if the request failed.
 	 */
 	fetchClusterStatus(): Promise<ClusterStatus>;
+
+	/**
+	 * Returns the cached cluster status of the server, or fetches it via
+	 * {@link AdministrationManager#fetchClusterStatus}, once the time to live of the cached status expired.
+	 *
+	 * @return The requested {@link ClusterStatus}.
+	 * @throws ResultException Shall be thrown, if the request failed.
+	 */
+	getClusterStatus(): Promise<ClusterStatus>;
 }
\ No newline at end of file
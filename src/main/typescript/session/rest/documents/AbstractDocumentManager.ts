@@ -89,17 +89,17 @@ export abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
 			documentFileList = fileList;
 		}
 
+		let documentFileMap: Map<string, DocumentFile> = new Map<string, DocumentFile>();
 		for (let documentFile of documentFileList) {
-			await this.synchronizeDocument(documentFile);
+			documentFileMap.set(documentFile.documentId, documentFile);
 		}
 
-		let currentDocumentFileList: Array<T_REST_DOCUMENT> = this.getDocuments();
-		for (let documentFile of currentDocumentFileList) {
-			if (documentFileList.find((compare: DocumentFile) => compare.documentId === documentFile.getDocumentId())) {
-				continue;
-			}
+		await this.synchronizeDocuments(Array.from(documentFileMap.values()));
 
-			this.documentMap.delete(documentFile.getDocumentId());
+		for (let documentId of Array.from(this.documentMap.keys())) {
+			if (!documentFileMap.has(documentId as string)) {
+				this.documentMap.delete(documentId);
+			}
 		}
 
 		return this.getDocuments();
@@ -355,6 +355,46 @@ export abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
 		return restDocument;
 	}
 
+	/**
+	 * Synchronizes the given {@link DocumentFile}s with the webPDF server. At most
+	 * {@link SessionContextSettings#getSynchronizationConcurrency} documents are synchronized in parallel, each worker
+	 * continuing with the next pending {@link DocumentFile}, as soon as it has finished the previous one.
+	 *
+	 * @param documentFileList The {@link DocumentFile}s to synchronize.
+	 * @throws ResultException Shall be thrown, should the synchronization of a document fail.
+	 */
+	private async synchronizeDocuments(documentFileList: Array<DocumentFile>): Promise<void> {
+		let concurrency: number = Math.min(
+			this.session.getSessionContext().getSynchronizationConcurrency(), documentFileList.length
+		);
+		let nextIndex: number = 0;
+		let failed: boolean = false;
+
+		let worker = async (): Promise<void> => {
+			while (!failed && nextIndex < documentFileList.length) {
+				let documentFile: DocumentFile = documentFileList[nextIndex++];
+				try {
+					await this.synchronizeDocument(documentFile);
+				} catch (ex: any) {
+					failed = true;
+					throw ex;
+				}
+			}
+		};
+
+		let workers: Array<Promise<void>> = [];
+		for (let index: number = 0; index < concurrency; index++) {
+			workers.push(worker());
+		}
+
+		// wait for all running requests, before reporting the first failure
+		for (let result of await Promise.allSettled(workers)) {
+			if (result.status === "rejected") {
+				throw result.reason;
+			}
+		}
+	}
+
 	/**
 	 * Synchronize the state of the given {@link DocumentFile} with the webPDF server.
 	 *
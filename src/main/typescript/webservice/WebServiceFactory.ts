@@ -79,7 +79,9 @@ export class WebServiceFactory {
 	 * Detects the {@link WebServiceType} by loading the operation data from the
 	 * given {@link Parameter}.<br>
 	 * The {@link Parameter} shall contain a {@link DataFormat#JSON} data transfer object defined in the given
-	 * {@link Session} object translatable to the required operation data.
+	 * {@link Session} object translatable to the required operation data. A {@link RestOperationData} (e.g. created by
+	 * a {@link RestOperationDataBuilder}) is copied, so that later changes to it do not affect the created
+	 * {@link WebService}.
 	 * </p>
 	 *
 	 * @template T_DOCUMENT
@@ -101,8 +103,10 @@ export class WebServiceFactory {
 					throw new ClientResultException(WsclientErrors.INVALID_WEBSERVICE_SESSION);
 				}
 
-				// convert the data into a operation object
-				let restOperationData: RestOperationData = RestOperationData.fromJson(parameter);
+				// convert the data into a operation object, or copy the operation object built by the caller (sharing
+				// its already decoded operations)
+				let restOperationData: RestOperationData = parameter instanceof RestOperationData ?
+					parameter.copy() : RestOperationData.fromJson(parameter);
 
 				return WebServiceFactory.createRestInstance(
 					session as RestSession<RestDocument>, this.determineWebServiceType(restOperationData),
@@ -389,6 +389,99 @@ suite("RestAdministrationIntegrationTest", function () {
 		await session.close();
 	});
 
+	it('testResponseCache', async function () {
+		if (!TestConfig.instance.getIntegrationTestConfig().isIntegrationTestsActive()) {
+			this.skip();
+			return;
+		}
+
+		let session: RestSession<RestDocument> = await SessionFactory.createInstance(
+			new SessionContext(WebServiceProtocol.REST, testServer.getServer(ServerType.LOCAL)),
+			new UserAuthProvider(testServer.getLocalAdminName(), testServer.getLocalAdminPassword())
+		);
+
+		let serverStatus: ServerStatus = await session.getAdministrationManager().getServerStatus();
+		let cachedServerStatus: ServerStatus = await session.getAdministrationManager().getServerStatus();
+		expect(cachedServerStatus, "Each read should have decoded an instance of its own.").to.not.equal(serverStatus);
+		expect(cachedServerStatus.equals(serverStatus),
+			"The cached server status should have been returned.").to.be.true;
+
+		let logConfig: LogFileConfiguration = await session.getAdministrationManager().fetchLogConfiguration();
+		let debugMode: LogConfigurationMode | undefined = logConfig.debugMode;
+		logConfig.debugMode = debugMode === LogConfigurationMode.Debug ? LogConfigurationMode.None : LogConfigurationMode.Debug;
+		let fetchedLogConfig: LogFileConfiguration = await session.getAdministrationManager().fetchLogConfiguration();
+		expect(fetchedLogConfig, "Each read should have decoded an instance of its own.").to.not.equal(logConfig);
+		expect(fetchedLogConfig.debugMode,
+			"A local modification should not have been returned as the server state.").to.equal(debugMode);
+
+		await session.getAdministrationManager().updateLogConfiguration(logConfig);
+		expect((await session.getAdministrationManager().fetchLogConfiguration()).debugMode,
+			"The log configuration should have been fetched again after the update.").to.equal(logConfig.debugMode);
+
+		// reset debug mode
+		logConfig.debugMode = debugMode;
+		await session.getAdministrationManager().updateLogConfiguration(logConfig);
+		expect((await session.getAdministrationManager().fetchLogConfiguration()).debugMode,
+			"The log configuration should have been reset.").to.equal(debugMode);
+
+		await session.close();
+	});
+
+	it('testSkipUnchangedConfigurationWrites', async function () {
+		if (!TestConfig.instance.getIntegrationTestConfig().isIntegrationTestsActive()) {
+			this.skip();
+			return;
+		}
+
+		let sessionContext: SessionContext =
+			new SessionContext(WebServiceProtocol.REST, testServer.getServer(ServerType.LOCAL));
+		expect(sessionContext.isSkipUnchangedConfigurationWrites(),
+			"Unchanged writes should not be skipped by default.").to.be.false;
+		let session: RestSession<RestDocument> = await SessionFactory.createInstance(
+			sessionContext,
+			new UserAuthProvider(testServer.getLocalAdminName(), testServer.getLocalAdminPassword())
+		);
+		let skippingContext: SessionContext =
+			new SessionContext(WebServiceProtocol.REST, testServer.getServer(ServerType.LOCAL));
+		skippingContext.setSkipUnchangedConfigurationWrites(true);
+		let skippingSession: RestSession<RestDocument> = await SessionFactory.createInstance(
+			skippingContext,
+			new UserAuthProvider(testServer.getLocalAdminName(), testServer.getLocalAdminPassword())
+		);
+		let otherSession: RestSession<RestDocument> = await SessionFactory.createInstance(
+			new SessionContext(WebServiceProtocol.REST, testServer.getServer(ServerType.LOCAL)),
+			new UserAuthProvider(testServer.getLocalAdminName(), testServer.getLocalAdminPassword())
+		);
+
+		let logConfig: LogFileConfiguration = await session.getAdministrationManager().fetchLogConfiguration();
+		let skippingLogConfig: LogFileConfiguration =
+			await skippingSession.getAdministrationManager().fetchLogConfiguration();
+		let debugMode: LogConfigurationMode | undefined = logConfig.debugMode;
+		let otherLogConfig: LogFileConfiguration = await otherSession.getAdministrationManager().fetchLogConfiguration();
+		otherLogConfig.debugMode = debugMode === LogConfigurationMode.Debug ? LogConfigurationMode.None : LogConfigurationMode.Debug;
+		await otherSession.getAdministrationManager().updateLogConfiguration(otherLogConfig);
+
+		try {
+			// the change of the other client is known to the server only, the unchanged configuration is skipped
+			let configurationResult: ConfigurationResult =
+				await skippingSession.getAdministrationManager().updateLogConfiguration(skippingLogConfig);
+			expect(configurationResult.error?.code, "The skipped write should have succeeded.").to.equal(0);
+			expect((await otherSession.getAdministrationManager().fetchLogConfiguration()).debugMode,
+				"The unchanged log configuration should not have been written.").to.equal(otherLogConfig.debugMode);
+
+			// by default, the unchanged configuration is written and replaces the change of the other client
+			await session.getAdministrationManager().updateLogConfiguration(logConfig);
+			expect((await otherSession.getAdministrationManager().fetchLogConfiguration()).debugMode,
+				"The unchanged log configuration should have been written.").to.equal(debugMode);
+		} finally {
+			otherLogConfig.debugMode = debugMode;
+			await otherSession.getAdministrationManager().updateLogConfiguration(otherLogConfig);
+			await session.close();
+			await skippingSession.close();
+			await otherSession.close();
+		}
+	});
+
 	it('testStreamLog', async function () {
 		if (!TestConfig.instance.getIntegrationTestConfig().isIntegrationTestsActive()) {
 			this.skip();
@@ -0,0 +1,118 @@
+import {expect} from "chai";
+import {
+	ClientResultException,
+	RestSession,
+	RestWebServiceDocument,
+	RestWebServiceDocumentManager,
+	SessionContext,
+	SessionContextSettings,
+	WebServiceProtocol
+} from "../../../main/typescript";
+import {DocumentFile} from "../../../main/typescript/generated-sources";
+import {it, suite} from "mocha";
+
+/**
+ * Replaces the server requests of {@link DocumentManager#synchronizeDocument} by a short delay, recording how many
+ * documents are synchronized in parallel.
+ */
+class StubDocumentManager extends RestWebServiceDocumentManager {
+	public running: number = 0;
+	public maxRunning: number = 0;
+	public started: Array<string> = [];
+	public failing?: string;
+
+	public constructor(concurrency: number) {
+		let sessionContext: SessionContext = new SessionContext(WebServiceProtocol.REST, new URL("https://localhost"));
+		sessionContext.setSynchronizationConcurrency(concurrency);
+		let settings: SessionContextSettings = new SessionContextSettings(sessionContext);
+		super({getSessionContext: () => settings} as any as RestSession<RestWebServiceDocument>);
+	}
+
+	public async synchronizeDocument(documentFile: DocumentFile): Promise<RestWebServiceDocument> {
+		this.started.push(documentFile.documentId);
+		this.running++;
+		this.maxRunning = Math.max(this.maxRunning, this.running);
+		try {
+			await new Promise((resolve) => setTimeout(resolve, 5));
+			if (documentFile.documentId === this.failing) {
+				throw new Error("Synchronizing " + documentFile.documentId + " failed.");
+			}
+			if (!this.containsDocument(documentFile.documentId)) {
+				this.documentMap.set(documentFile.documentId, this.createDocument(documentFile));
+			}
+			return this.getDocument(documentFile.documentId);
+		} finally {
+			this.running--;
+		}
+	}
+}
+
+function documentFiles(count: number): Array<DocumentFile> {
+	let documentFiles: Array<DocumentFile> = [];
+	for (let i = 0; i < count; i++) {
+		documentFiles.push(DocumentFile.fromJson({documentId: String(i), fileName: i + ".pdf"}));
+	}
+	return documentFiles;
+}
+
+suite("DocumentSynchronizationTest", function () {
+	it('testConcurrencyLimit', async function () {
+		let documentManager: StubDocumentManager = new StubDocumentManager(3);
+		let documents: Array<RestWebServiceDocument> = await documentManager.synchronize(documentFiles(10));
+
+		expect(documentManager.maxRunning, "At most 3 documents should have been synchronized in parallel.")
+			.to.equal(3);
+		expect(documentManager.started, "The documents should have been started in order.")
+			.to.deep.equal(["0", "1", "2", "3", "4", "5", "6", "7", "8", "9"]);
+		expect(documents.length, "All documents should have been synchronized.").to.equal(10);
+
+		documentManager = new StubDocumentManager(1);
+		await documentManager.synchronize(documentFiles(4));
+		expect(documentManager.maxRunning, "The documents should have been synchronized one after another.")
+			.to.equal(1);
+	});
+
+	it('testFailFast', async function () {
+		let documentManager: StubDocumentManager = new StubDocumentManager(2);
+		documentManager.failing = "3";
+
+		let error: any;
+		try {
+			await documentManager.synchronize(documentFiles(20));
+		} catch (ex: any) {
+			error = ex;
+		}
+		expect(error?.message, "The failure should have been reported.").to.equal("Synchronizing 3 failed.");
+		expect(documentManager.running, "The running synchronizations should have been awaited.").to.equal(0);
+		expect(documentManager.started.length, "No synchronization should have been started after the failure.")
+			.to.be.lessThan(6);
+	});
+
+	it('testStaleDocumentsRemoved', async function () {
+		let documentManager: StubDocumentManager = new StubDocumentManager(4);
+		let files: Array<DocumentFile> = documentFiles(6);
+		await documentManager.synchronize(files);
+		let kept: RestWebServiceDocument = documentManager.getDocument("4");
+
+		let documents: Array<RestWebServiceDocument> = await documentManager.synchronize([files[1], files[4]]);
+		expect(documents.map((document) => document.getDocumentId()),
+			"Documents missing from the list should have been removed.").to.deep.equal(["1", "4"]);
+		expect(documentManager.getDocument("4"), "A listed document should have been kept.").to.equal(kept);
+
+		expect(await documentManager.synchronize([]), "All documents should have been removed.")
+			.to.deep.equal([]);
+	});
+
+	it('testInvalidConcurrency', async function () {
+		let sessionContext: SessionContext = new SessionContext(WebServiceProtocol.REST, new URL("https://localhost"));
+		for (let concurrency of [NaN, 0, -1, 0.5]) {
+			expect(() => sessionContext.setSynchronizationConcurrency(concurrency),
+				"The concurrency " + concurrency + " should have been rejected.").to.throw(ClientResultException);
+		}
+		expect(sessionContext.getSynchronizationConcurrency(), "The default should have been kept.").to.equal(4);
+
+		sessionContext.setSynchronizationConcurrency(2.5);
+		expect(sessionContext.getSynchronizationConcurrency(), "The concurrency should have been rounded down.")
+			.to.equal(2);
+	});
+});
@@ -0,0 +1,170 @@
+import {expect} from "chai";
+import {ClientResultException, HttpResponseCache, HttpRestRequest, SessionContext, WebServiceProtocol} from "../../../main/typescript";
+import {CacheableResource} from "../../../main/typescript/generated-sources";
+import {it, suite} from "mocha";
+
+/**
+ * Answers the requests of the {@link HttpResponseCache} in place of a webPDF server. The state of the resource is
+ * identified by an entity tag, that changes with every modification.
+ */
+class StubServer {
+	public state: any = {name: "initial", values: [1, 2, 3]};
+	public entityTag: string = "\"1\"";
+	public requests: Array<string | undefined> = [];
+
+	public modify(name: string): void {
+		this.state = {...this.state, name: name};
+		this.entityTag = "\"" + (Number(this.entityTag.replace(/"/g, "")) + 1) + "\"";
+	}
+
+	public request(url: string = "https://localhost/admin/server/status"): HttpRestRequest {
+		let server: StubServer = this;
+		let ifNoneMatch: string | undefined;
+		let request: any = {
+			getURL: () => url,
+			setIfNoneMatch: (entityTag: string) => {
+				ifNoneMatch = entityTag;
+				return request;
+			},
+			execute: async () => {
+				server.requests.push(ifNoneMatch);
+				// let concurrent reads meet while the request is running
+				await new Promise((resolve) => setTimeout(resolve, 5));
+				if (ifNoneMatch === server.entityTag) {
+					return {status: 304, data: "", headers: {}};
+				}
+				return {status: 200, data: JSON.parse(JSON.stringify(server.state)), headers: {etag: server.entityTag}};
+			},
+			executeRequest: async () => (await request.execute()).data
+		};
+		return request as HttpRestRequest;
+	}
+}
+
+const resource: CacheableResource = {
+	operationId: "readServerStatus",
+	path: "/admin/server/status",
+	ttl: 60000,
+	invalidatedBy: ["restartServer"]
+};
+
+suite("HttpResponseCacheTest", function () {
+	it('testFetchRevalidates', async function () {
+		let server: StubServer = new StubServer();
+		let cache: HttpResponseCache = new HttpResponseCache();
+
+		let first: any = await cache.fetch(resource, server.request(), (data: any) => data);
+		let second: any = await cache.fetch(resource, server.request(), (data: any) => data);
+		expect(server.requests, "Every fetch should have asked the server.")
+			.to.deep.equal([undefined, "\"1\""]);
+		expect(second, "The unchanged resource should have been decoded from the cached response.")
+			.to.deep.equal(first);
+
+		server.modify("modified");
+		let third: any = await cache.fetch(resource, server.request(), (data: any) => data);
+		expect(third.name, "The modified resource should have been transferred.").to.equal("modified");
+	});
+
+	it('testDecodedValuesAreNotShared', async function () {
+		let server: StubServer = new StubServer();
+		let cache: HttpResponseCache = new HttpResponseCache();
+
+		let first: any = await cache.get(resource, server.request(), (data: any) => data);
+		first.name = "changed locally";
+		first.values.push(4);
+
+		let second: any = await cache.get(resource, server.request(), (data: any) => data);
+		expect(second, "Each read should have decoded a value of its own.").to.not.equal(first);
+		expect(second, "A local modification should not have been returned as the server state.")
+			.to.deep.equal({name: "initial", values: [1, 2, 3]});
+
+		let revalidated: any = await cache.fetch(resource, server.request(), (data: any) => data);
+		expect(revalidated, "A local modification should not have been returned after a revalidation.")
+			.to.deep.equal({name: "initial", values: [1, 2, 3]});
+	});
+
+	it('testGetReusesWithinTimeToLive', async function () {
+		let server: StubServer = new StubServer();
+		let cache: HttpResponseCache = new HttpResponseCache();
+
+		await cache.get(resource, server.request(), (data: any) => data);
+		server.modify("modified");
+		let cached: any = await cache.get(resource, server.request(), (data: any) => data);
+		expect(server.requests.length, "The second read should have been answered by the cache.").to.equal(1);
+		expect(cached.name, "The cached state should have been returned.").to.equal("initial");
+
+		let expiring: HttpResponseCache = new HttpResponseCache({ttl: 0});
+		await expiring.get(resource, server.request(), (data: any) => data);
+		await expiring.get(resource, server.request(), (data: any) => data);
+		expect(server.requests.slice(1), "An expired response should have been revalidated.")
+			.to.deep.equal([undefined, "\"2\""]);
+	});
+
+	it('testInvalidate', async function () {
+		let server: StubServer = new StubServer();
+		let cache: HttpResponseCache = new HttpResponseCache();
+
+		await cache.get(resource, server.request(), (data: any) => data);
+		server.modify("modified");
+		cache.invalidate("updateConfiguration");
+		expect((await cache.get(resource, server.request(), (data: any) => data)).name,
+			"An unrelated operation should not have discarded the response.").to.equal("initial");
+
+		cache.invalidate("restartServer");
+		expect((await cache.get(resource, server.request(), (data: any) => data)).name,
+			"The invalidated response should have been discarded.").to.equal("modified");
+		expect(server.requests, "The discarded response should not have been revalidated.")
+			.to.deep.equal([undefined, undefined]);
+	});
+
+	it('testConcurrentReads', async function () {
+		let server: StubServer = new StubServer();
+		let cache: HttpResponseCache = new HttpResponseCache();
+
+		let values: Array<any> = await Promise.all([
+			cache.fetch(resource, server.request(), (data: any) => data),
+			cache.fetch(resource, server.request(), (data: any) => data)
+		]);
+		expect(server.requests.length, "Concurrent reads should have been executed once.").to.equal(1);
+		expect(values[0], "Each read should have decoded a value of its own.").to.not.equal(values[1]);
+
+		// a read started after an invalidation must not join a request, that might not reflect it
+		let pending: Promise<any> = cache.fetch(resource, server.request(), (data: any) => data);
+		cache.invalidate("restartServer");
+		await Promise.all([pending, cache.fetch(resource, server.request(), (data: any) => data)]);
+		expect(server.requests.length, "The read after the invalidation should have been executed.").to.equal(3);
+	});
+
+	it('testLeastRecentlyUsed', async function () {
+		let server: StubServer = new StubServer();
+		let cache: HttpResponseCache = new HttpResponseCache({maxEntries: 1});
+
+		await cache.get(resource, server.request("https://localhost/a"), (data: any) => data);
+		await cache.get(resource, server.request("https://localhost/b"), (data: any) => data);
+		await cache.get(resource, server.request("https://localhost/a"), (data: any) => data);
+		expect(server.requests.length, "The least recently used response should have been discarded.").to.equal(3);
+	});
+
+	it('testInactive', async function () {
+		let server: StubServer = new StubServer();
+		let cache: HttpResponseCache = new HttpResponseCache({active: false});
+
+		await cache.get(resource, server.request(), (data: any) => data);
+		await cache.get(resource, server.request(), (data: any) => data);
+		expect(server.requests, "An inactive cache should neither reuse, nor revalidate responses.")
+			.to.deep.equal([undefined, undefined]);
+	});
+
+	it('testSessionContextSettings', async function () {
+		let sessionContext: SessionContext = new SessionContext(WebServiceProtocol.REST, new URL("https://localhost"));
+		expect(sessionContext.isResponseCacheActive(), "The cache should be active by default.").to.be.true;
+		expect(sessionContext.getResponseCacheTtl(), "The resource TTLs should be used by default.").to.be.undefined;
+
+		sessionContext.setResponseCacheTtl(0);
+		expect(sessionContext.getResponseCacheTtl()).to.equal(0);
+		expect(() => sessionContext.setResponseCacheTtl(-1), "A negative TTL should have been rejected.")
+			.to.throw(ClientResultException);
+		expect(() => sessionContext.setResponseCacheTtl(NaN), "NaN should have been rejected.")
+			.to.throw(ClientResultException);
+	});
+});
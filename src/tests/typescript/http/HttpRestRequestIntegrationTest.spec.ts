@@ -49,6 +49,38 @@ suite("HttpRestRequestIntegrationTest", function () {
 		await session.close();
 	});
 
+	it('testStreamedDocumentList', async function () {
+		if (!TestConfig.instance.getIntegrationTestConfig().isIntegrationTestsActive()) {
+			this.skip();
+			return;
+		}
+
+		let session: RestSession<RestDocument> = await SessionFactory.createInstance(
+			new SessionContext(WebServiceProtocol.REST, testServer.getServer(ServerType.LOCAL)),
+			new UserAuthProvider(testServer.getLocalUserName(), testServer.getLocalUserPassword())
+		);
+
+		let sourceFilename: string = "test.pdf";
+		let formData: FormData = new wsclientConfiguration.FormData();
+		formData.append('filedata', testResources.getResource(sourceFilename), sourceFilename);
+		let httpRestRequest: HttpRestRequest = HttpRestRequest.createRequest(session);
+		await httpRestRequest.buildRequest(HttpMethod.POST, session.getURL("documents/"), formData);
+		let uploaded: DocumentFile = new DocumentFile(await httpRestRequest.executeRequest());
+
+		httpRestRequest = HttpRestRequest.createRequest(session);
+		await httpRestRequest.buildRequest(HttpMethod.GET, session.getURL("documents/list"));
+		let documents: Array<DocumentFile> = [];
+		for await (let document of DocumentFile.fromJsonStream(await httpRestRequest.executeStream())) {
+			documents.push(document);
+		}
+
+		expect(documents, "The streamed document list should contain the uploaded document.").to.have.lengthOf(1);
+		expect(documents[0] instanceof DocumentFile, "The streamed document should have been decoded.").to.be.true;
+		expect(documents[0].documentId, "The streamed document ID is incorrect.").to.equal(uploaded.documentId);
+
+		await session.close();
+	});
+
 	it('testWithInvalidCredentials', async function () {
 		if (!TestConfig.instance.getIntegrationTestConfig().isIntegrationTestsActive()) {
 			this.skip();
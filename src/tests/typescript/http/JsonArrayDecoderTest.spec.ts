@@ -0,0 +1,89 @@
+import {expect} from "chai";
+import {JsonArrayDecoder, ModelStream} from "../../../main/typescript/generated-sources";
+import {it, suite} from "mocha";
+
+/**
+ * Decodes the given chunks and returns all elements completed by them, followed by the end of the document.
+ */
+function decode(chunks: Array<string | Uint8Array>, path: Array<string> = []): Array<any> {
+	let decoder: JsonArrayDecoder<any> = new JsonArrayDecoder((data: any) => data, path);
+	let elements: Array<any> = [];
+	for (let chunk of chunks) {
+		elements.push(...decoder.write(chunk));
+	}
+	elements.push(...decoder.end());
+	return elements;
+}
+
+/**
+ * Decodes the given document split at every possible position and expects the elements to match the given ones.
+ */
+function expectAllSplits(document: string, expected: Array<any>, path: Array<string> = []): void {
+	for (let i = 0; i <= document.length; i++) {
+		expect(decode([document.substring(0, i), document.substring(i)], path),
+			"The document split at " + i + " has been decoded incorrectly.").to.deep.equal(expected);
+	}
+}
+
+suite("JsonArrayDecoderTest", function () {
+	it('testChunkBoundariesInStrings', async function () {
+		expectAllSplits("[\"first\", \"second, with [brackets] and {braces}\", \"\"]",
+			["first", "second, with [brackets] and {braces}", ""]);
+		expectAllSplits("[{\"name\": \"a:b,c\"}, {\"name\": \"}]\"}]", [{name: "a:b,c"}, {name: "}]"}]);
+	});
+
+	it('testChunkBoundariesInKeys', async function () {
+		expectAllSplits("{\"total\": 2, \"documents\": [{\"documentId\": \"1\"}, {\"documentId\": \"2\"}]}",
+			[{documentId: "1"}, {documentId: "2"}], ["documents"]);
+	});
+
+	it('testChunkBoundariesInNumbers', async function () {
+		expectAllSplits("[12345, -0.5e-3, 7 , true, null, false]", [12345, -0.5e-3, 7, true, null, false]);
+		expect(decode(["[1", "2", "3]"]), "A number split into three chunks has been decoded incorrectly.")
+			.to.deep.equal([123]);
+	});
+
+	it('testEscapedQuotes', async function () {
+		expectAllSplits("[\"say \\\"hello\\\"\", \"back\\\\slash\", {\"quote\\\"key\": \"\\\"\"}]",
+			["say \"hello\"", "back\\slash", {"quote\"key": "\""}]);
+		expectAllSplits("{\"a\\\"b\": [1, 2]}", [1, 2], ["a\"b"]);
+	});
+
+	it('testNestedPaths', async function () {
+		let document: string = "{\"meta\": {\"documents\": [\"nested\"], \"items\": [0]}, " +
+			"\"result\": {\"skipped\": [[1], {\"items\": [2]}], \"items\": [[3, 4], {\"value\": [5]}, 6]}}";
+		expectAllSplits(document, [[3, 4], {value: [5]}, 6], ["result", "items"]);
+		expect(decode([document], ["meta", "documents"]), "The nested array has not been selected.")
+			.to.deep.equal(["nested"]);
+		expect(decode([document], ["documents"]), "An array below the path should not have been selected.")
+			.to.deep.equal([]);
+		expect(decode([document], ["result"]), "An object should not have been decoded as array.")
+			.to.deep.equal([]);
+	});
+
+	it('testUtf8Chunks', async function () {
+		let bytes: Uint8Array = new TextEncoder().encode("[\"ä€😀\"]");
+		for (let i = 0; i <= bytes.length; i++) {
+			expect(decode([bytes.subarray(0, i), bytes.subarray(i)]),
+				"The bytes split at " + i + " have been decoded incorrectly.").to.deep.equal(["ä€😀"]);
+		}
+	});
+
+	it('testTruncatedDocument', async function () {
+		for (let document of ["[1, 2", "[{\"a\": 1}", "[\"open", "{\"documents\": [1]", "[[1, 2]"]) {
+			expect(() => decode([document], document.startsWith("{") ? ["documents"] : []),
+				"The truncated document \"" + document + "\" should have been rejected.").to.throw(Error);
+		}
+		expect(() => decode(["[{\"a\": 1", "}, {\"b\": tru]"]), "A malformed element should have been rejected.")
+			.to.throw(SyntaxError);
+	});
+
+	it('testDecodeArray', async function () {
+		let elements: Array<any> = [];
+		for await (let element of ModelStream.decodeArray(["{\"list\": [{\"x\"", ": 1}, {\"x\": 2}]}"],
+			(data: any) => data.x, ["list"])) {
+			elements.push(element);
+		}
+		expect(elements, "The decoded elements should have been yielded in order.").to.deep.equal([1, 2]);
+	});
+});
@@ -0,0 +1,58 @@
+import {expect} from "chai";
+import {RestOperationData} from "../../../main/typescript";
+import {BaseToolbox, Billing, Pdfa} from "../../../main/typescript/generated-sources";
+import {it, suite} from "mocha";
+
+const operation: any = {
+	billing: {userName: "user", customerCode: "customer"},
+	pdfa: {convert: {level: "2b", imageQuality: 80}},
+	toolbox: [{rotate: {degrees: 180, pages: "1-2"}}]
+};
+
+suite("RestOperationDataTest", function () {
+	it('testAssignUnchanged', async function () {
+		let operationData: RestOperationData = RestOperationData.fromJson(operation);
+		let billing: Billing | undefined = operationData.getBilling();
+		let pdfa: Pdfa | undefined = operationData.getPdfa();
+		let toolbox: Array<BaseToolbox> | undefined = operationData.getToolbox();
+
+		expect(operationData.assignFrom(JSON.parse(JSON.stringify(operation))),
+			"Assigning the same data should not have changed the operation.").to.be.false;
+		expect(operationData.getBilling(), "The billing instance should have been reused.").to.equal(billing);
+		expect(operationData.getPdfa(), "The PDF/A instance should have been reused.").to.equal(pdfa);
+		expect(operationData.getToolbox(), "The unchanged toolbox array should have been kept.").to.equal(toolbox);
+	});
+
+	it('testAssignChanged', async function () {
+		let operationData: RestOperationData = RestOperationData.fromJson(operation);
+		let billing: Billing | undefined = operationData.getBilling();
+		let pdfa: Pdfa | undefined = operationData.getPdfa();
+		let toolbox: Array<BaseToolbox> | undefined = operationData.getToolbox();
+
+		let changed: any = JSON.parse(JSON.stringify(operation));
+		changed.billing.userName = "other";
+		changed.pdfa.convert.imageQuality = 90;
+		expect(operationData.assignFrom(changed), "The modified data should have changed the operation.").to.be.true;
+		expect(operationData.getBilling(), "The billing instance should have been updated in place.").to.equal(billing);
+		expect(operationData.getBilling()?.userName).to.equal("other");
+		expect(operationData.getPdfa(), "The PDF/A instance should have been updated in place.").to.equal(pdfa);
+		expect(operationData.getPdfa()?.convert?.imageQuality).to.equal(90);
+		expect(operationData.getToolbox(), "The unchanged toolbox array should have been kept.").to.equal(toolbox);
+
+		changed.toolbox[0].rotate.degrees = 90;
+		expect(operationData.assignFrom(changed), "The modified toolbox should have changed the operation.").to.be.true;
+		expect(operationData.getToolbox(), "The modified toolbox array should have been replaced.").to.not.equal(toolbox);
+		expect(operationData.toJson(), "The operation should reflect the assigned data.")
+			.to.deep.equal(RestOperationData.fromJson(changed).toJson());
+	});
+
+	it('testAssignUndefined', async function () {
+		let operationData: RestOperationData = RestOperationData.fromJson(operation);
+
+		expect(operationData.assignFrom(undefined), "Assigning no data should have reset the operation.").to.be.true;
+		expect(operationData.isSetBilling(), "The billing should have been removed.").to.be.false;
+		expect(operationData.getToolbox(), "The toolbox should have been emptied.").to.deep.equal([]);
+		expect(operationData.assignFrom(undefined), "Assigning no data again should not have changed anything.")
+			.to.be.false;
+	});
+});
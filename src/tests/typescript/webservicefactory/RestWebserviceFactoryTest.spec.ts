@@ -6,6 +6,8 @@ import {
 	OcrWebService,
 	PdfaWebService,
 	RestDocument,
+	RestOperationData,
+	RestOperationDataBuilder,
 	RestSession,
 	RestWebService,
 	SessionContext,
@@ -208,6 +210,36 @@ suite("RestWebserviceFactoryTest", function () {
 		expect(watermarkOptions.watermark!.text!.text, "Value of text attribute is unexpected.").is.equal("testText");
 	});
 
+	it('testFactoryToolboxFromBatch', async function () {
+		if (!TestConfig.instance.getIntegrationTestConfig().isIntegrationTestsActive()) {
+			this.skip();
+			return;
+		}
+
+		let configFile: object = JSON.parse(testResources.getResource("toolbox.json", "utf8").toString());
+		let operationData: RestOperationData = new RestOperationDataBuilder()
+			.addToolbox(ToolboxDelete.fromJson({delete: {pages: "1"}}))
+			.addToolboxOf(RestOperationData.fromJson(configFile))
+			.build();
+
+		let session: RestSession<RestDocument> = await SessionFactory.createInstance(
+			new SessionContext(WebServiceProtocol.REST, testServer.getServer(ServerType.LOCAL))
+		);
+		let webService: ToolboxWebService<RestDocument> = WebServiceFactory.createByParameters(session, operationData);
+		expect(webService, "webservice should have been instantiated.").to.be.instanceOf(ToolboxWebService);
+		expect(webService.getOperationParameters().length, "Number of batched operations is incorrect.").to.equal(4);
+		expect(webService.getOperationParameters()[0], "Operations should keep their order.").to.be.instanceOf(ToolboxDelete);
+		expect(webService.getOperationParameters()[2], "Operations should keep their order.").to.be.instanceOf(ToolboxRotate);
+		expect(webService.getOperationParameters()[3], "Operations should keep their order.").to.be.instanceOf(ToolboxWatermark);
+
+		expect(webService.getOperationParameters()[0], "The operations should not have been decoded again.")
+			.to.equal(operationData.getToolbox()![0]);
+
+		operationData.getToolbox()!.splice(0);
+		expect(webService.getOperationParameters().length,
+			"Changing the operation data should not have affected the webservice.").to.equal(4);
+	});
+
 	it('testFactoryUrlConverterFromFile', async function () {
 		if (!TestConfig.instance.getIntegrationTestConfig().isIntegrationTestsActive()) {
 			this.skip();